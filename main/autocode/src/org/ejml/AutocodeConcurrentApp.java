@@ -351,16 +351,20 @@ public class AutocodeConcurrentApp {
 	public static void main( String[] args ) throws IOException {
 
 		String[] directories = new String[]{
+				"main/ejml-ddense/src/org/ejml/dense/fixed",
 				"main/ejml-ddense/src/org/ejml/dense/row/mult",
 				"main/ejml-ddense/src/org/ejml/dense/row/misc",
 				"main/ejml-ddense/src/org/ejml/dense/row/decomposition/bidiagonal",
 				"main/ejml-ddense/src/org/ejml/dense/row/decomposition/hessenberg",
 				"main/ejml-ddense/src/org/ejml/dense/row/decomposition/qr",
 				"main/ejml-ddense/src/org/ejml/dense/block/",
+				"main/ejml-ddense/src/org/ejml/dense/block/decomposition/bidiagonal",
 				"main/ejml-ddense/src/org/ejml/dense/block/decomposition/chol",
+				"main/ejml-ddense/src/org/ejml/dense/block/decomposition/lu",
 				"main/ejml-ddense/src/org/ejml/dense/block/decomposition/qr",
 				"main/ejml-ddense/src/org/ejml/dense/block/decomposition/hessenberg",
 				"main/ejml-ddense/src/org/ejml/dense/block/linsol/chol",
+				"main/ejml-ddense/src/org/ejml/dense/block/linsol/lu",
 				"main/ejml-ddense/src/org/ejml/dense/block/linsol/qr",
 		};
 
@@ -32,7 +32,7 @@ public class GenerateKotlinCode32 extends GenerateCode32{
     public GenerateKotlinCode32() {
         super("kt",new ConvertFile32From64(Language.KOTLIN,false));
 
-        String[] sufficeRoot = new String[]{"DRM","DMA","DRB","SCC","STL","DF2","DF3","DF4","DF5","DF6","TRIPLET"};
+        String[] sufficeRoot = new String[]{"DRM","DMA","DRB","SCC","SCR","STL","DF2","DF3","DF4","DF5","DF6","DF7","DF8","DF9","DRD","TRIPLET"};
 
         suffices64.add("_DDRB_to_DDRM");
         suffices64.add("_F64");
@@ -55,6 +55,8 @@ public class GenerateKotlinCode32 extends GenerateCode32{
         prefix32.add("FScalar");
         prefix64.add("DMatrix");
         prefix32.add("FMatrix");
+        prefix64.add("DVectorSparse");
+        prefix32.add("FVectorSparse");
         prefix64.add("ZMatrix");
         prefix32.add("CMatrix");
         prefix64.add("DEigen");
@@ -88,6 +90,7 @@ public class GenerateKotlinCode32 extends GenerateCode32{
         converter.replacePattern("DConvert", "FConvert");
         converter.replacePattern("DGrowArray", "FGrowArray");
         converter.replacePattern("DMatrix", "FMatrix");
+        converter.replacePattern("DVectorSparse", "FVectorSparse");
         converter.replacePattern("DSubmatrix", "FSubmatrix");
         converter.replacePattern("DEigen", "FEigen");
         converter.replacePattern("ZComplex", "CComplex");
@@ -31,7 +31,7 @@ public class GenerateMatrixFixedN extends CodeGeneratorBase{
 
     @Override
     public void generate() throws FileNotFoundException {
-        for( int dimension = 2; dimension <= 6; dimension++ ){
+        for( int dimension = 2; dimension <= 9; dimension++ ){
             print(dimension);
         }
     }
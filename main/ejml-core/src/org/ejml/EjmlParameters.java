@@ -50,6 +50,12 @@ public class EjmlParameters {
     public static int BLOCK_WIDTH = 60;
     public static int BLOCK_WIDTH_CHOL = 20;
 
+    /**
+     * Width of the square tiles which are copied from a {@link org.ejml.data.DMatrixDirect} onto the heap
+     * and processed there. Larger than BLOCK_WIDTH to amortize the cost of the copy.
+     */
+    public static int BLOCK_WIDTH_DIRECT = 256;
+
     public static int TRANSPOSE_SWITCH = 375;
 
     /**
@@ -59,6 +65,21 @@ public class EjmlParameters {
     public static int MULT_TRANAB_COLUMN_SWITCH = 40;
     public static int MULT_INNER_SWITCH = 100;
 
+    /**
+     * Matrix multiplication switches to the packed algorithm when the number of rows in A, columns in A, and
+     * columns in B are all at least this large.
+     */
+    public static int MULT_PACKED_SWITCH = 200;
+
+    /**
+     * Size of the blocks which A and B are packed into by the packed matrix multiplication. A block of A is
+     * BLOCK_M by BLOCK_K and a block of B is BLOCK_K by BLOCK_N. BLOCK_M and BLOCK_N are rounded up to
+     * the size of the inner kernel.
+     */
+    public static int MULT_PACKED_BLOCK_M = 96;
+    public static int MULT_PACKED_BLOCK_K = 256;
+    public static int MULT_PACKED_BLOCK_N = 1024;
+
     public static int CMULT_COLUMN_SWITCH = 7;
     public static int CMULT_TRANAB_COLUMN_SWITCH = 20;
     
@@ -76,6 +97,34 @@ public class EjmlParameters {
 
     public static int SWITCH_BLOCK64_QR = 1500;
 
+    /**
+     * At which point should it switch to the block LU decomposition with partial pivoting.
+     */
+    public static int SWITCH_BLOCK64_LU = 1000;
+
+    /**
+     * At which point should the concurrent code switch to the blocked row-major LU decomposition, which updates
+     * the trailing matrix in parallel. For smaller matrices the threading overhead is larger than the savings.
+     */
+    public static int SWITCH_BLOCK_LU = 200;
+
+    /**
+     * At which point should it switch to the block bidiagonal decomposition. Used by SVD.
+     */
+    public static int SWITCH_BLOCK64_BIDIAGONAL = 2000;
+
+    /**
+     * At which point should it switch to the divide and conquer algorithm when computing the eigenvectors
+     * of a symmetric matrix.
+     */
+    public static int SWITCH_EIG_DIVIDE_CONQUER = 400;
+
+    /**
+     * At which point should it switch to the divide and conquer algorithm when computing the singular vectors.
+     * Compared against the smaller of the number of rows and columns.
+     */
+    public static int SWITCH_SVD_DIVIDE_CONQUER = 1000;
+
     public enum MemoryUsage
     {
         /**
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+/**
+ * Specifies how the elements of a batch of small fixed sized matrices are arranged inside a single array.
+ *
+ * @author Peter Abeles
+ */
+public enum BatchLayout {
+    /**
+     * Array of structures. Each matrix is stored in row-major order and matrices are stored one after another.
+     * Element 'e' of matrix 'k' is at index k*L + e, where L is the number of elements in a matrix.
+     */
+    AOS,
+    /**
+     * Structure of arrays. The matrices are interleaved, the same element of every matrix is stored in a
+     * contiguous block. Element 'e' of matrix 'k' is at index e*size + k, where size is the number of matrices.
+     * Useful when exchanging data with code which expects this layout. Operations which process one matrix at a
+     * time will typically be faster with {@link #AOS}.
+     */
+    SOA
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Storage for a batch of small matrices which all have the same shape. All the matrices are stored inside a single
+ * array, avoiding the per object overhead and pointer chasing of an array of {@link DMatrixFixed}. How elements are
+ * arranged is specified by {@link BatchLayout}. Independent of the layout, element 'e' of matrix 'k' is found at
+ * index {@link #getOffset(int) getOffset(k)} + e*{@link #getStride()}, where 'e' is the row-major index of the element
+ * inside the matrix.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DMatrixBatch {
+    /** Number of rows in each matrix */
+    public int numRows;
+    /** Number of columns in each matrix */
+    public int numCols;
+    /** Number of matrices in the batch */
+    public int size;
+    /** How the matrices are stored in the array */
+    public BatchLayout layout;
+    /** Storage for all the matrices */
+    public double[] data;
+
+    public DMatrixBatch( int numRows, int numCols, int size, BatchLayout layout ) {
+        UtilEjml.assertTrue(numRows >= 0 && numCols >= 0 && size >= 0, "Negative dimensions are not allowed");
+        this.numRows = numRows;
+        this.numCols = numCols;
+        this.size = size;
+        this.layout = layout;
+        this.data = new double[numRows*numCols*size];
+    }
+
+    public DMatrixBatch( int numRows, int numCols, int size ) {
+        this(numRows, numCols, size, BatchLayout.AOS);
+    }
+
+    public DMatrixBatch( DMatrixBatch original ) {
+        this(original.numRows, original.numCols, original.size, original.layout);
+        System.arraycopy(original.data, 0, data, 0, getNumElements());
+    }
+
+    /**
+     * Changes the shape of the matrices and the number of matrices in the batch. The internal array is only
+     * grown if needed and previous values are not preserved. The layout is not changed.
+     */
+    public void reshape( int numRows, int numCols, int size ) {
+        UtilEjml.assertTrue(numRows >= 0 && numCols >= 0 && size >= 0, "Negative dimensions are not allowed");
+        int length = numRows*numCols*size;
+        if (data.length < length)
+            data = new double[length];
+        this.numRows = numRows;
+        this.numCols = numCols;
+        this.size = size;
+    }
+
+    /**
+     * Index of the first element of the specified matrix in the data array
+     *
+     * @param matrix Index of the matrix in the batch
+     */
+    public int getOffset( int matrix ) {
+        return layout == BatchLayout.AOS ? matrix*numRows*numCols : matrix;
+    }
+
+    /**
+     * Distance between two consecutive elements of the same matrix in the data array
+     */
+    public int getStride() {
+        return layout == BatchLayout.AOS ? 1 : size;
+    }
+
+    public double get( int matrix, int row, int col ) {
+        checkBounds(matrix, row, col);
+        return data[getOffset(matrix) + (row*numCols + col)*getStride()];
+    }
+
+    public void set( int matrix, int row, int col, double value ) {
+        checkBounds(matrix, row, col);
+        data[getOffset(matrix) + (row*numCols + col)*getStride()] = value;
+    }
+
+    /**
+     * Copies a matrix into the batch
+     *
+     * @param matrix Index of the matrix in the batch which is to be written to
+     * @param src (Input) Matrix with the same shape as the batch. Not modified.
+     */
+    public void set( int matrix, DMatrix src ) {
+        checkShape(src);
+        int offset = getOffset(matrix);
+        int stride = getStride();
+        for (int row = 0, index = offset; row < numRows; row++) {
+            for (int col = 0; col < numCols; col++, index += stride) {
+                data[index] = src.unsafe_get(row, col);
+            }
+        }
+    }
+
+    /**
+     * Copies a matrix out of the batch
+     *
+     * @param matrix Index of the matrix in the batch which is to be read
+     * @param dst (Output) Matrix with the same shape as the batch. Modified.
+     */
+    public void get( int matrix, DMatrix dst ) {
+        checkShape(dst);
+        int offset = getOffset(matrix);
+        int stride = getStride();
+        for (int row = 0, index = offset; row < numRows; row++) {
+            for (int col = 0; col < numCols; col++, index += stride) {
+                dst.unsafe_set(row, col, data[index]);
+            }
+        }
+    }
+
+    /**
+     * Copies the matrices in 'src' into this batch, converting between layouts if needed. This batch is reshaped to
+     * match 'src' but its layout is not changed.
+     */
+    public void setTo( DMatrixBatch src ) {
+        reshape(src.numRows, src.numCols, src.size);
+        if (layout == src.layout) {
+            System.arraycopy(src.data, 0, data, 0, getNumElements());
+            return;
+        }
+        int N = numRows*numCols;
+        int strideSrc = src.getStride();
+        int strideDst = getStride();
+        for (int k = 0; k < size; k++) {
+            int indexSrc = src.getOffset(k);
+            int indexDst = getOffset(k);
+            for (int e = 0; e < N; e++, indexSrc += strideSrc, indexDst += strideDst) {
+                data[indexDst] = src.data[indexSrc];
+            }
+        }
+    }
+
+    /**
+     * Sets every element in every matrix to zero
+     */
+    public void zero() {
+        Arrays.fill(data, 0, getNumElements(), 0.0);
+    }
+
+    /**
+     * Total number of elements across all the matrices
+     */
+    public int getNumElements() {
+        return numRows*numCols*size;
+    }
+
+    private void checkShape( DMatrix m ) {
+        if (m.getNumRows() != numRows || m.getNumCols() != numCols)
+            throw new MatrixDimensionException("Expected a " + numRows + "x" + numCols + " matrix. Found " +
+                    m.getNumRows() + "x" + m.getNumCols());
+    }
+
+    private void checkBounds( int matrix, int row, int col ) {
+        if (matrix < 0 || matrix >= size || row < 0 || row >= numRows || col < 0 || col >= numCols)
+            throw new IllegalArgumentException("Out of bounds. matrix=" + matrix + " row=" + row + " col=" + col);
+    }
+}
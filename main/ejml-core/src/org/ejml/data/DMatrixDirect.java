@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.data;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.ops.MatrixIO;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+/**
+ * <p>
+ * Dense row-major matrix which stores its elements outside of the Java heap in direct buffers. Element (row,col) is
+ * at index row*numCols + col, just like {@link DMatrixRMaj}, but indexes are 64-bit. This allows for matrices with more
+ * than 2<sup>31</sup> elements and avoids placing multi-gigabyte arrays on the heap. A single buffer can't hold more
+ * than 2<sup>31</sup> elements so the elements are split across several buffers, which are referred to as chunks.
+ * Every chunk, except for the last one, has exactly 2<sup>chunkBits</sup> elements.
+ * </p>
+ *
+ * <p>
+ * Buffers can be wrapped, e.g. memory mapped files, so that data can be shared with native code without copying it.
+ * Memory from buffers allocated by this class is released once the matrix is garbage collected.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DMatrixDirect implements ReshapeMatrix, DMatrix {
+    /**
+     * Number of bits in an index that are used inside a chunk when buffers are allocated by this class.
+     * 2<sup>27</sup> doubles is 1 GB. This is also the largest chunk which can be allocated.
+     */
+    public static final int DEFAULT_CHUNK_BITS = 27;
+
+    /** Number of rows in the matrix */
+    public int numRows;
+    /** Number of columns in the matrix */
+    public int numCols;
+
+    /** Storage for the matrix. Elements are in row-major order and split across the buffers. */
+    public transient DoubleBuffer[] buffers;
+
+    /** Number of bits in an index which refer to an element inside a chunk */
+    protected int chunkBits;
+    /** Number of elements which can be stored in the buffers */
+    protected long capacity;
+
+    /**
+     * Creates a new matrix and allocates direct buffers for it
+     */
+    public DMatrixDirect( int numRows, int numCols ) {
+        this(numRows, numCols, DEFAULT_CHUNK_BITS);
+    }
+
+    /**
+     * Creates a new matrix and allocates direct buffers for it
+     *
+     * @param chunkBits Each chunk will have 2<sup>chunkBits</sup> elements. 1 to {@link #DEFAULT_CHUNK_BITS}, inclusive.
+     */
+    public DMatrixDirect( int numRows, int numCols, int chunkBits ) {
+        UtilEjml.assertTrue(numRows >= 0 && numCols >= 0, "Negative dimensions are not allowed");
+        UtilEjml.assertTrue(chunkBits >= 1 && chunkBits <= DEFAULT_CHUNK_BITS,
+                "chunkBits must be from 1 to " + DEFAULT_CHUNK_BITS);
+        this.numRows = numRows;
+        this.numCols = numCols;
+        this.chunkBits = chunkBits;
+        allocate((long)numRows*numCols);
+    }
+
+    /**
+     * Creates a matrix which uses the provided buffers as its storage. If there is more than one buffer then every
+     * buffer but the last must have the same capacity, which must be a power of two.
+     *
+     * @param buffers Storage for the matrix. Not copied. Their positions and limits are ignored.
+     */
+    public DMatrixDirect( int numRows, int numCols, DoubleBuffer... buffers ) {
+        UtilEjml.assertTrue(numRows >= 0 && numCols >= 0, "Negative dimensions are not allowed");
+        UtilEjml.assertTrue(buffers.length > 0, "At least one buffer is required");
+        if (buffers.length == 1) {
+            chunkBits = 31;
+        } else {
+            int length = buffers[0].capacity();
+            UtilEjml.assertTrue(Integer.bitCount(length) == 1, "Chunk capacity must be a power of two");
+            chunkBits = Integer.numberOfTrailingZeros(length);
+            for (int i = 1; i < buffers.length - 1; i++) {
+                UtilEjml.assertTrue(buffers[i].capacity() == length, "All chunks but the last must have the same capacity");
+            }
+        }
+        this.buffers = buffers.clone();
+        this.capacity = ((long)(buffers.length - 1) << chunkBits) + buffers[buffers.length - 1].capacity();
+        if ((long)numRows*numCols > capacity)
+            throw new IllegalArgumentException("Buffers are too small. capacity=" + capacity);
+        this.numRows = numRows;
+        this.numCols = numCols;
+    }
+
+    public DMatrixDirect( DMatrixDirect original ) {
+        this(original.numRows, original.numCols, original.allocatedChunkBits());
+        setTo(original);
+    }
+
+    /**
+     * Changes the shape of the matrix. New buffers are only allocated if the current ones are too small, in which
+     * case values are not saved and wrapped buffers are no longer used.
+     */
+    @Override
+    public void reshape( int numRows, int numCols ) {
+        UtilEjml.assertTrue(numRows >= 0 && numCols >= 0, "Negative dimensions are not allowed");
+        long length = (long)numRows*numCols;
+        if (length > capacity)
+            allocate(length);
+        this.numRows = numRows;
+        this.numCols = numCols;
+    }
+
+    private void allocate( long length ) {
+        chunkBits = allocatedChunkBits();
+        long chunkLength = 1L << chunkBits;
+        int numChunks = Math.max(1, (int)((length + chunkLength - 1) >>> chunkBits));
+        buffers = new DoubleBuffer[numChunks];
+        for (int i = 0; i < numChunks; i++) {
+            long n = Math.min(chunkLength, length - ((long)i << chunkBits));
+            buffers[i] = ByteBuffer.allocateDirect((int)(n*Double.BYTES)).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        }
+        capacity = length;
+    }
+
+    /**
+     * Chunk size used when new buffers are allocated. Wrapped buffers can have chunks which are too large to allocate,
+     * in which case the default is used.
+     */
+    private int allocatedChunkBits() {
+        return chunkBits > DEFAULT_CHUNK_BITS ? DEFAULT_CHUNK_BITS : chunkBits;
+    }
+
+    /**
+     * Returns the index of the element in the row-major ordering
+     */
+    public long getIndex( int row, int col ) {
+        return (long)row*numCols + col;
+    }
+
+    /**
+     * Returns the element at the specified row-major index. No bounds checks are done against the shape.
+     */
+    public double get( long index ) {
+        return buffers[(int)(index >>> chunkBits)].get((int)(index & ((1L << chunkBits) - 1)));
+    }
+
+    /**
+     * Sets the element at the specified row-major index. No bounds checks are done against the shape.
+     */
+    public void set( long index, double value ) {
+        buffers[(int)(index >>> chunkBits)].put((int)(index & ((1L << chunkBits) - 1)), value);
+    }
+
+    @Override
+    public double get( int row, int col ) {
+        if (row < 0 || row >= numRows || col < 0 || col >= numCols)
+            throw new IllegalArgumentException("Specified element is out of bounds: (" + row + " , " + col + ")");
+        return get(getIndex(row, col));
+    }
+
+    @Override
+    public double unsafe_get( int row, int col ) {
+        return get(getIndex(row, col));
+    }
+
+    @Override
+    public void set( int row, int col, double val ) {
+        if (row < 0 || row >= numRows || col < 0 || col >= numCols)
+            throw new IllegalArgumentException("Specified element is out of bounds: (" + row + " , " + col + ")");
+        set(getIndex(row, col), val);
+    }
+
+    @Override
+    public void unsafe_set( int row, int col, double val ) {
+        set(getIndex(row, col), val);
+    }
+
+    /**
+     * Copies a sequence of elements into an array.
+     *
+     * @param index Row-major index of the first element
+     * @param dst (Output) Array the elements are copied into
+     * @param offset First element in 'dst' which is written to
+     * @param length Number of elements copied
+     */
+    public void getElements( long index, double[] dst, int offset, int length ) {
+        checkRange(index, length);
+        while (length > 0) {
+            int chunkIndex = (int)(index & ((1L << chunkBits) - 1));
+            DoubleBuffer chunk = buffers[(int)(index >>> chunkBits)].duplicate();
+            int n = Math.min(length, chunk.capacity() - chunkIndex);
+            chunk.position(chunkIndex);
+            chunk.get(dst, offset, n);
+            index += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    /**
+     * Copies a sequence of elements from an array into the matrix.
+     *
+     * @param index Row-major index of the first element
+     * @param src (Input) Array the elements are copied from
+     * @param offset First element in 'src' which is read
+     * @param length Number of elements copied
+     */
+    public void setElements( long index, double[] src, int offset, int length ) {
+        checkRange(index, length);
+        while (length > 0) {
+            int chunkIndex = (int)(index & ((1L << chunkBits) - 1));
+            DoubleBuffer chunk = buffers[(int)(index >>> chunkBits)].duplicate();
+            int n = Math.min(length, chunk.capacity() - chunkIndex);
+            chunk.position(chunkIndex);
+            chunk.put(src, offset, n);
+            index += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    private void checkRange( long index, int length ) {
+        if (index < 0 || length < 0 || index + length > getNumElementsLong())
+            throw new IllegalArgumentException("Out of bounds. index=" + index + " length=" + length);
+    }
+
+    /**
+     * Sets every element in the matrix to the specified value
+     */
+    public void fill( double value ) {
+        long remaining = getNumElementsLong();
+        for (int i = 0; remaining > 0; i++) {
+            DoubleBuffer chunk = buffers[i];
+            int n = (int)Math.min(chunk.capacity(), remaining);
+            for (int j = 0; j < n; j++) {
+                chunk.put(j, value);
+            }
+            remaining -= n;
+        }
+    }
+
+    @Override
+    public void zero() {
+        fill(0.0);
+    }
+
+    /**
+     * Copies 'src' into this matrix after reshaping it to have the same shape
+     */
+    public void setTo( DMatrixDirect src ) {
+        reshape(src.numRows, src.numCols);
+        double[] row = new double[numCols];
+        for (int i = 0; i < numRows; i++) {
+            long index = getIndex(i, 0);
+            src.getElements(index, row, 0, numCols);
+            setElements(index, row, 0, numCols);
+        }
+    }
+
+    @Override
+    public void set( Matrix original ) {
+        if (original instanceof DMatrixDirect) {
+            setTo((DMatrixDirect)original);
+            return;
+        }
+        DMatrix m = (DMatrix)original;
+        reshape(m.getNumRows(), m.getNumCols());
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numCols; j++) {
+                unsafe_set(i, j, m.get(i, j));
+            }
+        }
+    }
+
+    /**
+     * Number of elements in the matrix. If there are more than 2<sup>31</sup>-1 elements then an exception is thrown
+     * and {@link #getNumElementsLong()} should be used instead.
+     */
+    @Override
+    public int getNumElements() {
+        long length = getNumElementsLong();
+        if (length > Integer.MAX_VALUE)
+            throw new MatrixDimensionException("Too many elements for an int. Use getNumElementsLong()");
+        return (int)length;
+    }
+
+    /**
+     * Number of elements in the matrix
+     */
+    public long getNumElementsLong() {
+        return (long)numRows*numCols;
+    }
+
+    public int getChunkBits() {
+        return chunkBits;
+    }
+
+    @Override
+    public int getNumRows() {
+        return numRows;
+    }
+
+    @Override
+    public int getNumCols() {
+        return numCols;
+    }
+
+    @Override
+    public DMatrixDirect copy() {
+        return new DMatrixDirect(this);
+    }
+
+    @Override
+    public DMatrixDirect createLike() {
+        return new DMatrixDirect(numRows, numCols, allocatedChunkBits());
+    }
+
+    @Override
+    public DMatrixDirect create( int numRows, int numCols ) {
+        return new DMatrixDirect(numRows, numCols, allocatedChunkBits());
+    }
+
+    @Override
+    public void print() {
+        MatrixIO.printFancy(System.out, this, MatrixIO.DEFAULT_LENGTH);
+    }
+
+    @Override
+    public void print( String format ) {
+        MatrixIO.print(System.out, this, format);
+    }
+
+    @Override
+    public MatrixType getType() {
+        return MatrixType.UNSPECIFIED;
+    }
+
+    private void writeObject( ObjectOutputStream out ) throws IOException {
+        out.defaultWriteObject();
+        long length = getNumElementsLong();
+        for (long i = 0; i < length; i++) {
+            out.writeDouble(get(i));
+        }
+    }
+
+    private void readObject( ObjectInputStream in ) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        long length = getNumElementsLong();
+        allocate(length);
+        for (long i = 0; i < length; i++) {
+            set(i, in.readDouble());
+        }
+    }
+}
@@ -19,7 +19,9 @@
 package org.ejml.data;
 
 import org.ejml.ops.MatrixIO;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -29,6 +31,10 @@ import java.util.Iterator;
  * is an O(1) operation but reading a specific element is O(N) operation, making it impractical for operations like
  * matrix multiplications.
  *
+ * <p>If elements need to be looked up while the matrix is being constructed, e.g. to check for duplicates, then
+ * a hash index can be turned on with {@link #setHashIndex(boolean)}. This makes {@link #get(int, int)},
+ * {@link #set(int, int, double)} and {@link #isAssigned(int, int)} O(1) at the cost of extra memory.</p>
+ *
  * @author Peter Abeles
  */
 public class DMatrixSparseTriplet implements DMatrixSparse {
@@ -55,6 +61,16 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
      */
     public int numCols;
 
+    /**
+     * Open addressing hash table that maps (row,col) to the element's index. -1 indicates an empty slot. Null
+     * if the hash index is turned off.
+     */
+    private @Nullable int[] hashTable;
+    /**
+     * Number of elements, starting from the first, which have been added to the hash table
+     */
+    private int hashLength;
+
     public DMatrixSparseTriplet() {
     }
 
@@ -72,12 +88,14 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
 
     public DMatrixSparseTriplet( DMatrixSparseTriplet orig ) {
         set(orig);
+        setHashIndex(orig.isHashIndex());
     }
 
     public void reset() {
         nz_length = 0;
         numRows = 0;
         numCols = 0;
+        clearHashIndex();
     }
 
     @Override
@@ -85,6 +103,7 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
         this.numRows = numRows;
         this.numCols = numCols;
         this.nz_length = 0;
+        clearHashIndex();
     }
 
     @Override
@@ -100,7 +119,8 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
      *
      * One potential problem with using this function instead of {@link #set(int, int, double)} is that it does
      * not check to see if a (row,col) has already been assigned a value. If a (row,col) is defined multiple times
-     * how this is handled is not defined.
+     * how this is handled is not defined. If the hash index is turned on then lookups will return the first
+     * instance.
      *
      * @param row Row the element belongs in
      * @param col Column the element belongs in
@@ -116,6 +136,8 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
         nz_rowcol.data[nz_length*2] = row;
         nz_rowcol.data[nz_length*2 + 1] = col;
         nz_length += 1;
+        if (hashTable != null)
+            updateHashIndex();
     }
 
     /**
@@ -139,11 +161,14 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
         nz_rowcol.data[nz_length*2] = row;
         nz_rowcol.data[nz_length*2 + 1] = col;
         nz_length += 1;
+        if (hashTable != null)
+            updateHashIndex();
     }
 
     /**
      * Sets the element's value at (row,col). It first checks to see if the element already has a value and if it
-     * does that value is changed. As a result this operation is O(N), where N is the number of elements in the matrix.
+     * does that value is changed. As a result this operation is O(N), where N is the number of elements in the matrix,
+     * or O(1) if the hash index is turned on.
      *
      * @param row Matrix element's row index.
      * @param col Matrix element's column index.
@@ -182,7 +207,7 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
 
     /**
      * Searches the list to see if the element at (row,col) has been assigned. The worst case runtime for this
-     * operation is O(N), where N is the number of elements in the matrix.
+     * operation is O(N), where N is the number of elements in the matrix, or O(1) if the hash index is turned on.
      *
      * @param row Matrix element's row index.
      * @param col Matrix element's column index.
@@ -198,7 +223,7 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
 
     /**
      * Searches the list to see if the element at (row,col) has been assigned. The worst case runtime for this
-     * operation is O(N), where N is the number of elements in the matrix.
+     * operation is O(N), where N is the number of elements in the matrix, or O(1) if the hash index is turned on.
      *
      * @param row Matrix element's row index.
      * @param col Matrix element's column index.
@@ -231,7 +256,15 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
             return nz_value.data[index];
     }
 
+    /**
+     * Returns the index of the element at (row,col) or -1 if it has not been assigned
+     */
     public int nz_index( int row, int col ) {
+        if (hashTable != null) {
+            updateHashIndex();
+            return hashLookup(hashTable, row, col);
+        }
+
         int end = nz_length*2;
         for (int i = 0; i < end; i += 2) {
             int r = nz_rowcol.data[i];
@@ -242,6 +275,94 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
         return -1;
     }
 
+    /**
+     * Turns the hash index on or off. When on, a hash table which maps (row,col) to the index of the element
+     * is maintained as elements are added. Elements which are added to the end of the arrays directly are
+     * indexed the next time a lookup is performed, but if existing elements are modified directly then the
+     * index needs to be rebuilt by turning it off and on again.
+     *
+     * @param enabled true to turn the hash index on
+     */
+    public void setHashIndex( boolean enabled ) {
+        if (!enabled) {
+            hashTable = null;
+        } else if (hashTable == null) {
+            hashTable = new int[0];
+            rebuildHashIndex();
+        }
+    }
+
+    /**
+     * Returns true if the hash index is turned on
+     */
+    public boolean isHashIndex() {
+        return hashTable != null;
+    }
+
+    private void clearHashIndex() {
+        if (hashTable != null) {
+            Arrays.fill(hashTable, -1);
+            hashLength = 0;
+        }
+    }
+
+    private void rebuildHashIndex() {
+        // Keep the load factor at or below 1/2 so that probe sequences are short
+        int length = Integer.highestOneBit(Math.max(8, nz_length*2) - 1) << 1;
+        if (hashTable == null || hashTable.length != length)
+            hashTable = new int[length];
+        clearHashIndex();
+        updateHashIndex();
+    }
+
+    /**
+     * Adds elements to the hash table which have been added since the last time it was updated
+     */
+    private void updateHashIndex() {
+        int[] table = hashTable;
+        if (nz_length < hashLength || nz_length*2 > table.length) {
+            rebuildHashIndex();
+            return;
+        }
+
+        int mask = table.length - 1;
+        for (; hashLength < nz_length; hashLength++) {
+            int row = nz_rowcol.data[hashLength*2];
+            int col = nz_rowcol.data[hashLength*2 + 1];
+            int slot = hash(row, col) & mask;
+            while (true) {
+                int index = table[slot];
+                if (index == -1) {
+                    table[slot] = hashLength;
+                    break;
+                }
+                // If it's a duplicate, keep the first instance. Same as the linear search
+                if (nz_rowcol.data[index*2] == row && nz_rowcol.data[index*2 + 1] == col)
+                    break;
+                slot = (slot + 1) & mask;
+            }
+        }
+    }
+
+    private int hashLookup( int[] table, int row, int col ) {
+        int mask = table.length - 1;
+        int slot = hash(row, col) & mask;
+        while (true) {
+            int index = table[slot];
+            if (index == -1)
+                return -1;
+            if (nz_rowcol.data[index*2] == row && nz_rowcol.data[index*2 + 1] == col)
+                return index;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static int hash( int row, int col ) {
+        // Mixes the bits so that neighboring coordinates are spread across the table
+        long h = ((long)row << 32 | (col & 0xFFFFFFFFL))*0x9E3779B97F4A7C15L;
+        return (int)(h ^ (h >>> 32));
+    }
+
     public int getLength() {
         return nz_length;
     }
@@ -274,10 +395,13 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
     @Override
     public void set( Matrix original ) {
         DMatrixSparseTriplet orig = (DMatrixSparseTriplet)original;
-        reshape(orig.numRows, orig.numCols);
-        this.nz_rowcol.set(orig.nz_rowcol);
-        this.nz_value.set(orig.nz_value);
+        // The length of the grow arrays isn't updated when elements are added, so copy nz_length elements
+        reshape(orig.numRows, orig.numCols, orig.nz_length);
+        System.arraycopy(orig.nz_rowcol.data, 0, this.nz_rowcol.data, 0, orig.nz_length*2);
+        System.arraycopy(orig.nz_value.data, 0, this.nz_value.data, 0, orig.nz_length);
         this.nz_length = orig.nz_length;
+        if (hashTable != null)
+            rebuildHashIndex();
     }
 
     @Override
@@ -308,6 +432,9 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
                 nz_rowcol.data[i] = nz_rowcol.data[i + 2];
                 nz_rowcol.data[i + 1] = nz_rowcol.data[i + 3];
             }
+            // indexes of all the elements after it have changed
+            if (hashTable != null)
+                rebuildHashIndex();
         }
     }
 
@@ -319,6 +446,7 @@ public class DMatrixSparseTriplet implements DMatrixSparse {
     @Override
     public void zero() {
         nz_length = 0;
+        clearHashIndex();
     }
 
     @Override
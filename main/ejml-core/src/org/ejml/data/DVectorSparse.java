@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+import org.ejml.UtilEjml;
+import org.ejml.ops.MatrixIO;
+import org.ejml.ops.SortCoupledArray_F64;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * <p>Sparse vector. Only non-zero elements are stored.</p>
+ *
+ * <p>
+ * Format:<br>
+ * The index of the i-th non-zero element is stored in nz_indices[i] and its value in nz_values[i], for i = 0
+ * to nz_length-1. If the indices are sorted in ascending order is specified by {@link #indicesSorted}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DVectorSparse implements Serializable {
+    /**
+     * Storage for non-zero values.  Only valid up to length-1.
+     */
+    public double[] nz_values = UtilEjml.ZERO_LENGTH_F64;
+    /**
+     * Specifies which index in the vector a non-zero value corresponds to.
+     */
+    public int[] nz_indices = UtilEjml.ZERO_LENGTH_I32;
+    /**
+     * Number of non-zero values in the vector
+     */
+    public int nz_length;
+    /**
+     * Number of elements in the vector, including elements which are not stored
+     */
+    public int size;
+    /**
+     * Flag that's used to indicate if the indices are sorted or not.
+     */
+    public boolean indicesSorted = false;
+
+    /**
+     * Constructor with a default arrayLength of zero.
+     *
+     * @param size Number of elements in the vector
+     */
+    public DVectorSparse( int size ) {
+        this(size, 0);
+    }
+
+    /**
+     * Specifies shape and number of non-zero elements that can be stored.
+     *
+     * @param size Number of elements in the vector
+     * @param arrayLength Initial maximum number of non-zero elements that can be in the vector
+     */
+    public DVectorSparse( int size, int arrayLength ) {
+        if (size < 0 || arrayLength < 0)
+            throw new IllegalArgumentException("Size and array length must be not be negative");
+        this.size = size;
+        growMaxLength(arrayLength, false);
+    }
+
+    public DVectorSparse( DVectorSparse original ) {
+        this(original.size, original.nz_length);
+        setTo(original);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getNonZeroLength() {
+        return nz_length;
+    }
+
+    public DVectorSparse copy() {
+        return new DVectorSparse(this);
+    }
+
+    public void setTo( DVectorSparse original ) {
+        this.size = original.size;
+        this.nz_length = original.nz_length;
+        this.indicesSorted = original.indicesSorted;
+        growMaxLength(nz_length, false);
+        System.arraycopy(original.nz_values, 0, nz_values, 0, nz_length);
+        System.arraycopy(original.nz_indices, 0, nz_indices, 0, nz_length);
+    }
+
+    /**
+     * Changes the size of the vector and removes all the non-zero elements
+     *
+     * @param size Number of elements in the vector
+     * @param arrayLength Desired maximum number of non-zero elements
+     */
+    public void reshape( int size, int arrayLength ) {
+        // it's empty and technically sorted, but see DMatrixSparseCSC.reshape() for why it's marked as unsorted
+        this.indicesSorted = false;
+        this.size = size;
+        this.nz_length = 0;
+        growMaxLength(arrayLength, false);
+    }
+
+    public void reshape( int size ) {
+        reshape(size, 0);
+    }
+
+    /**
+     * Removes all non-zero elements. The size is not changed.
+     */
+    public void zero() {
+        nz_length = 0;
+        indicesSorted = false;
+    }
+
+    /**
+     * Increases the maximum size of the data array so that it can store sparse data up to 'length'.  The class
+     * parameter nz_length is not modified by this function call.
+     *
+     * @param arrayLength Desired maximum length of sparse data
+     * @param preserveValue If true the old values will be copied into the new arrays.  If false that step will be skipped.
+     */
+    public void growMaxLength( int arrayLength, boolean preserveValue ) {
+        if (arrayLength < 0)
+            throw new IllegalArgumentException("Negative array length. Overflow?");
+
+        if (arrayLength > this.nz_values.length) {
+            double[] data = new double[arrayLength];
+            int[] indices = new int[arrayLength];
+
+            if (preserveValue) {
+                System.arraycopy(this.nz_values, 0, data, 0, this.nz_length);
+                System.arraycopy(this.nz_indices, 0, indices, 0, this.nz_length);
+            }
+
+            this.nz_values = data;
+            this.nz_indices = indices;
+        }
+    }
+
+    /**
+     * Returns the location of the element in the nz arrays if it exists. If not then -1 is returned.
+     *
+     * @param index index of the element in the vector
+     * @return nz_indices index or -1 if the element does not exist
+     */
+    public int nz_index( int index ) {
+        if (indicesSorted) {
+            int found = Arrays.binarySearch(nz_indices, 0, nz_length, index);
+            return found >= 0 ? found : -1;
+        } else {
+            for (int i = 0; i < nz_length; i++) {
+                if (nz_indices[i] == index)
+                    return i;
+            }
+            return -1;
+        }
+    }
+
+    public boolean isAssigned( int index ) {
+        return nz_index(index) >= 0;
+    }
+
+    public double get( int index ) {
+        return get(index, 0);
+    }
+
+    /**
+     * Returns the value of the element at 'index' or 'fallBackValue' if the element isn't assigned
+     */
+    public double get( int index, double fallBackValue ) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("Outside of vector bounds");
+
+        int i = nz_index(index);
+        return i >= 0 ? nz_values[i] : fallBackValue;
+    }
+
+    /**
+     * Assigns a value to the element. If the indices are sorted then they will remain sorted.
+     */
+    public void set( int index, double value ) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("Outside of vector bounds");
+
+        int i = nz_index(index);
+        if (i >= 0) {
+            nz_values[i] = value;
+            return;
+        }
+
+        if (nz_length >= nz_values.length)
+            growMaxLength(nz_length*2 + 1, true);
+
+        // determine the location the new element should be inserted at to keep it sorted if it was already sorted
+        int insert = nz_length;
+        if (indicesSorted) {
+            while (insert > 0 && nz_indices[insert - 1] > index) {
+                nz_indices[insert] = nz_indices[insert - 1];
+                nz_values[insert] = nz_values[insert - 1];
+                insert--;
+            }
+        }
+        nz_indices[insert] = index;
+        nz_values[insert] = value;
+        nz_length++;
+    }
+
+    /**
+     * Adds an element to the end of the list without checking to see if it already exists. The sorted flag
+     * is not modified, so it's the caller's responsibility to make sure it's still correct.
+     */
+    public void append( int index, double value ) {
+        if (nz_length >= nz_values.length)
+            growMaxLength(nz_length*2 + 1, true);
+        nz_indices[nz_length] = index;
+        nz_values[nz_length] = value;
+        nz_length++;
+    }
+
+    /**
+     * Removes the element from the non-zero list if it exists
+     */
+    public void remove( int index ) {
+        int i = nz_index(index);
+        if (i < 0)
+            return;
+
+        nz_length--;
+        System.arraycopy(nz_indices, i + 1, nz_indices, i, nz_length - i);
+        System.arraycopy(nz_values, i + 1, nz_values, i, nz_length - i);
+    }
+
+    /**
+     * Sorts the indices in ascending order.
+     *
+     * @param sorter (Optional) Used to sort the indices.  If null a new instance will be declared internally.
+     */
+    public void sortIndices( @Nullable SortCoupledArray_F64 sorter ) {
+        if (sorter == null)
+            sorter = new SortCoupledArray_F64();
+
+        sorter.quick(new int[]{0, nz_length}, 2, nz_indices, nz_values);
+        indicesSorted = true;
+    }
+
+    /**
+     * Copies the vector into a dense array. Elements which are not assigned are set to 'fill'
+     *
+     * @param output Storage for the dense vector. Must be at least size long.
+     * @param fill Value of elements which are not assigned
+     */
+    public void toDense( double[] output, double fill ) {
+        if (output.length < size)
+            throw new IllegalArgumentException("Output array is too small");
+        Arrays.fill(output, 0, size, fill);
+        for (int i = 0; i < nz_length; i++) {
+            output[nz_indices[i]] = nz_values[i];
+        }
+    }
+
+    public void print() {
+        print(MatrixIO.DEFAULT_FLOAT_FORMAT);
+    }
+
+    public void print( String format ) {
+        System.out.println("Type = sparse vector , size = " + size + " , nz_length = " + nz_length);
+        for (int i = 0; i < nz_length; i++) {
+            System.out.printf("%d " + format + "\n", nz_indices[i], nz_values[i]);
+        }
+    }
+}
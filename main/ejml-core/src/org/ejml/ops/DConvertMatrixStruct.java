@@ -229,6 +229,251 @@ public class DConvertMatrixStruct {
         return output;
     }
 
+    /**
+     * Converts {@link DMatrix7x7} into {@link DMatrixRMaj}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DMatrixRMaj convert(DMatrix7x7 input , @Nullable DMatrixRMaj output ) {
+        if( output == null)
+            output = new DMatrixRMaj(7,7);
+
+        output.reshape(input.getNumRows(),input.getNumCols());
+
+        output.data[0] = input.a11;
+        output.data[1] = input.a12;
+        output.data[2] = input.a13;
+        output.data[3] = input.a14;
+        output.data[4] = input.a15;
+        output.data[5] = input.a16;
+        output.data[6] = input.a17;
+        output.data[7] = input.a21;
+        output.data[8] = input.a22;
+        output.data[9] = input.a23;
+        output.data[10] = input.a24;
+        output.data[11] = input.a25;
+        output.data[12] = input.a26;
+        output.data[13] = input.a27;
+        output.data[14] = input.a31;
+        output.data[15] = input.a32;
+        output.data[16] = input.a33;
+        output.data[17] = input.a34;
+        output.data[18] = input.a35;
+        output.data[19] = input.a36;
+        output.data[20] = input.a37;
+        output.data[21] = input.a41;
+        output.data[22] = input.a42;
+        output.data[23] = input.a43;
+        output.data[24] = input.a44;
+        output.data[25] = input.a45;
+        output.data[26] = input.a46;
+        output.data[27] = input.a47;
+        output.data[28] = input.a51;
+        output.data[29] = input.a52;
+        output.data[30] = input.a53;
+        output.data[31] = input.a54;
+        output.data[32] = input.a55;
+        output.data[33] = input.a56;
+        output.data[34] = input.a57;
+        output.data[35] = input.a61;
+        output.data[36] = input.a62;
+        output.data[37] = input.a63;
+        output.data[38] = input.a64;
+        output.data[39] = input.a65;
+        output.data[40] = input.a66;
+        output.data[41] = input.a67;
+        output.data[42] = input.a71;
+        output.data[43] = input.a72;
+        output.data[44] = input.a73;
+        output.data[45] = input.a74;
+        output.data[46] = input.a75;
+        output.data[47] = input.a76;
+        output.data[48] = input.a77;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DMatrix8x8} into {@link DMatrixRMaj}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DMatrixRMaj convert(DMatrix8x8 input , @Nullable DMatrixRMaj output ) {
+        if( output == null)
+            output = new DMatrixRMaj(8,8);
+
+        output.reshape(input.getNumRows(),input.getNumCols());
+
+        output.data[0] = input.a11;
+        output.data[1] = input.a12;
+        output.data[2] = input.a13;
+        output.data[3] = input.a14;
+        output.data[4] = input.a15;
+        output.data[5] = input.a16;
+        output.data[6] = input.a17;
+        output.data[7] = input.a18;
+        output.data[8] = input.a21;
+        output.data[9] = input.a22;
+        output.data[10] = input.a23;
+        output.data[11] = input.a24;
+        output.data[12] = input.a25;
+        output.data[13] = input.a26;
+        output.data[14] = input.a27;
+        output.data[15] = input.a28;
+        output.data[16] = input.a31;
+        output.data[17] = input.a32;
+        output.data[18] = input.a33;
+        output.data[19] = input.a34;
+        output.data[20] = input.a35;
+        output.data[21] = input.a36;
+        output.data[22] = input.a37;
+        output.data[23] = input.a38;
+        output.data[24] = input.a41;
+        output.data[25] = input.a42;
+        output.data[26] = input.a43;
+        output.data[27] = input.a44;
+        output.data[28] = input.a45;
+        output.data[29] = input.a46;
+        output.data[30] = input.a47;
+        output.data[31] = input.a48;
+        output.data[32] = input.a51;
+        output.data[33] = input.a52;
+        output.data[34] = input.a53;
+        output.data[35] = input.a54;
+        output.data[36] = input.a55;
+        output.data[37] = input.a56;
+        output.data[38] = input.a57;
+        output.data[39] = input.a58;
+        output.data[40] = input.a61;
+        output.data[41] = input.a62;
+        output.data[42] = input.a63;
+        output.data[43] = input.a64;
+        output.data[44] = input.a65;
+        output.data[45] = input.a66;
+        output.data[46] = input.a67;
+        output.data[47] = input.a68;
+        output.data[48] = input.a71;
+        output.data[49] = input.a72;
+        output.data[50] = input.a73;
+        output.data[51] = input.a74;
+        output.data[52] = input.a75;
+        output.data[53] = input.a76;
+        output.data[54] = input.a77;
+        output.data[55] = input.a78;
+        output.data[56] = input.a81;
+        output.data[57] = input.a82;
+        output.data[58] = input.a83;
+        output.data[59] = input.a84;
+        output.data[60] = input.a85;
+        output.data[61] = input.a86;
+        output.data[62] = input.a87;
+        output.data[63] = input.a88;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DMatrix9x9} into {@link DMatrixRMaj}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DMatrixRMaj convert(DMatrix9x9 input , @Nullable DMatrixRMaj output ) {
+        if( output == null)
+            output = new DMatrixRMaj(9,9);
+
+        output.reshape(input.getNumRows(),input.getNumCols());
+
+        output.data[0] = input.a11;
+        output.data[1] = input.a12;
+        output.data[2] = input.a13;
+        output.data[3] = input.a14;
+        output.data[4] = input.a15;
+        output.data[5] = input.a16;
+        output.data[6] = input.a17;
+        output.data[7] = input.a18;
+        output.data[8] = input.a19;
+        output.data[9] = input.a21;
+        output.data[10] = input.a22;
+        output.data[11] = input.a23;
+        output.data[12] = input.a24;
+        output.data[13] = input.a25;
+        output.data[14] = input.a26;
+        output.data[15] = input.a27;
+        output.data[16] = input.a28;
+        output.data[17] = input.a29;
+        output.data[18] = input.a31;
+        output.data[19] = input.a32;
+        output.data[20] = input.a33;
+        output.data[21] = input.a34;
+        output.data[22] = input.a35;
+        output.data[23] = input.a36;
+        output.data[24] = input.a37;
+        output.data[25] = input.a38;
+        output.data[26] = input.a39;
+        output.data[27] = input.a41;
+        output.data[28] = input.a42;
+        output.data[29] = input.a43;
+        output.data[30] = input.a44;
+        output.data[31] = input.a45;
+        output.data[32] = input.a46;
+        output.data[33] = input.a47;
+        output.data[34] = input.a48;
+        output.data[35] = input.a49;
+        output.data[36] = input.a51;
+        output.data[37] = input.a52;
+        output.data[38] = input.a53;
+        output.data[39] = input.a54;
+        output.data[40] = input.a55;
+        output.data[41] = input.a56;
+        output.data[42] = input.a57;
+        output.data[43] = input.a58;
+        output.data[44] = input.a59;
+        output.data[45] = input.a61;
+        output.data[46] = input.a62;
+        output.data[47] = input.a63;
+        output.data[48] = input.a64;
+        output.data[49] = input.a65;
+        output.data[50] = input.a66;
+        output.data[51] = input.a67;
+        output.data[52] = input.a68;
+        output.data[53] = input.a69;
+        output.data[54] = input.a71;
+        output.data[55] = input.a72;
+        output.data[56] = input.a73;
+        output.data[57] = input.a74;
+        output.data[58] = input.a75;
+        output.data[59] = input.a76;
+        output.data[60] = input.a77;
+        output.data[61] = input.a78;
+        output.data[62] = input.a79;
+        output.data[63] = input.a81;
+        output.data[64] = input.a82;
+        output.data[65] = input.a83;
+        output.data[66] = input.a84;
+        output.data[67] = input.a85;
+        output.data[68] = input.a86;
+        output.data[69] = input.a87;
+        output.data[70] = input.a88;
+        output.data[71] = input.a89;
+        output.data[72] = input.a91;
+        output.data[73] = input.a92;
+        output.data[74] = input.a93;
+        output.data[75] = input.a94;
+        output.data[76] = input.a95;
+        output.data[77] = input.a96;
+        output.data[78] = input.a97;
+        output.data[79] = input.a98;
+        output.data[80] = input.a99;
+
+        return output;
+    }
+
     /**
      * Converts {@link DMatrixRMaj} into {@link DMatrix2x2}
      *
@@ -419,6 +664,260 @@ public class DConvertMatrixStruct {
         return output;
     }
 
+    /**
+     * Converts {@link DMatrixRMaj} into {@link DMatrix7x7}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DMatrix7x7 convert(DMatrixRMaj input , @Nullable DMatrix7x7 output ) {
+        if( output == null)
+            output = new DMatrix7x7();
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.a11 = input.data[0];
+        output.a12 = input.data[1];
+        output.a13 = input.data[2];
+        output.a14 = input.data[3];
+        output.a15 = input.data[4];
+        output.a16 = input.data[5];
+        output.a17 = input.data[6];
+        output.a21 = input.data[7];
+        output.a22 = input.data[8];
+        output.a23 = input.data[9];
+        output.a24 = input.data[10];
+        output.a25 = input.data[11];
+        output.a26 = input.data[12];
+        output.a27 = input.data[13];
+        output.a31 = input.data[14];
+        output.a32 = input.data[15];
+        output.a33 = input.data[16];
+        output.a34 = input.data[17];
+        output.a35 = input.data[18];
+        output.a36 = input.data[19];
+        output.a37 = input.data[20];
+        output.a41 = input.data[21];
+        output.a42 = input.data[22];
+        output.a43 = input.data[23];
+        output.a44 = input.data[24];
+        output.a45 = input.data[25];
+        output.a46 = input.data[26];
+        output.a47 = input.data[27];
+        output.a51 = input.data[28];
+        output.a52 = input.data[29];
+        output.a53 = input.data[30];
+        output.a54 = input.data[31];
+        output.a55 = input.data[32];
+        output.a56 = input.data[33];
+        output.a57 = input.data[34];
+        output.a61 = input.data[35];
+        output.a62 = input.data[36];
+        output.a63 = input.data[37];
+        output.a64 = input.data[38];
+        output.a65 = input.data[39];
+        output.a66 = input.data[40];
+        output.a67 = input.data[41];
+        output.a71 = input.data[42];
+        output.a72 = input.data[43];
+        output.a73 = input.data[44];
+        output.a74 = input.data[45];
+        output.a75 = input.data[46];
+        output.a76 = input.data[47];
+        output.a77 = input.data[48];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DMatrixRMaj} into {@link DMatrix8x8}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DMatrix8x8 convert(DMatrixRMaj input , @Nullable DMatrix8x8 output ) {
+        if( output == null)
+            output = new DMatrix8x8();
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.a11 = input.data[0];
+        output.a12 = input.data[1];
+        output.a13 = input.data[2];
+        output.a14 = input.data[3];
+        output.a15 = input.data[4];
+        output.a16 = input.data[5];
+        output.a17 = input.data[6];
+        output.a18 = input.data[7];
+        output.a21 = input.data[8];
+        output.a22 = input.data[9];
+        output.a23 = input.data[10];
+        output.a24 = input.data[11];
+        output.a25 = input.data[12];
+        output.a26 = input.data[13];
+        output.a27 = input.data[14];
+        output.a28 = input.data[15];
+        output.a31 = input.data[16];
+        output.a32 = input.data[17];
+        output.a33 = input.data[18];
+        output.a34 = input.data[19];
+        output.a35 = input.data[20];
+        output.a36 = input.data[21];
+        output.a37 = input.data[22];
+        output.a38 = input.data[23];
+        output.a41 = input.data[24];
+        output.a42 = input.data[25];
+        output.a43 = input.data[26];
+        output.a44 = input.data[27];
+        output.a45 = input.data[28];
+        output.a46 = input.data[29];
+        output.a47 = input.data[30];
+        output.a48 = input.data[31];
+        output.a51 = input.data[32];
+        output.a52 = input.data[33];
+        output.a53 = input.data[34];
+        output.a54 = input.data[35];
+        output.a55 = input.data[36];
+        output.a56 = input.data[37];
+        output.a57 = input.data[38];
+        output.a58 = input.data[39];
+        output.a61 = input.data[40];
+        output.a62 = input.data[41];
+        output.a63 = input.data[42];
+        output.a64 = input.data[43];
+        output.a65 = input.data[44];
+        output.a66 = input.data[45];
+        output.a67 = input.data[46];
+        output.a68 = input.data[47];
+        output.a71 = input.data[48];
+        output.a72 = input.data[49];
+        output.a73 = input.data[50];
+        output.a74 = input.data[51];
+        output.a75 = input.data[52];
+        output.a76 = input.data[53];
+        output.a77 = input.data[54];
+        output.a78 = input.data[55];
+        output.a81 = input.data[56];
+        output.a82 = input.data[57];
+        output.a83 = input.data[58];
+        output.a84 = input.data[59];
+        output.a85 = input.data[60];
+        output.a86 = input.data[61];
+        output.a87 = input.data[62];
+        output.a88 = input.data[63];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DMatrixRMaj} into {@link DMatrix9x9}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DMatrix9x9 convert(DMatrixRMaj input , @Nullable DMatrix9x9 output ) {
+        if( output == null)
+            output = new DMatrix9x9();
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.a11 = input.data[0];
+        output.a12 = input.data[1];
+        output.a13 = input.data[2];
+        output.a14 = input.data[3];
+        output.a15 = input.data[4];
+        output.a16 = input.data[5];
+        output.a17 = input.data[6];
+        output.a18 = input.data[7];
+        output.a19 = input.data[8];
+        output.a21 = input.data[9];
+        output.a22 = input.data[10];
+        output.a23 = input.data[11];
+        output.a24 = input.data[12];
+        output.a25 = input.data[13];
+        output.a26 = input.data[14];
+        output.a27 = input.data[15];
+        output.a28 = input.data[16];
+        output.a29 = input.data[17];
+        output.a31 = input.data[18];
+        output.a32 = input.data[19];
+        output.a33 = input.data[20];
+        output.a34 = input.data[21];
+        output.a35 = input.data[22];
+        output.a36 = input.data[23];
+        output.a37 = input.data[24];
+        output.a38 = input.data[25];
+        output.a39 = input.data[26];
+        output.a41 = input.data[27];
+        output.a42 = input.data[28];
+        output.a43 = input.data[29];
+        output.a44 = input.data[30];
+        output.a45 = input.data[31];
+        output.a46 = input.data[32];
+        output.a47 = input.data[33];
+        output.a48 = input.data[34];
+        output.a49 = input.data[35];
+        output.a51 = input.data[36];
+        output.a52 = input.data[37];
+        output.a53 = input.data[38];
+        output.a54 = input.data[39];
+        output.a55 = input.data[40];
+        output.a56 = input.data[41];
+        output.a57 = input.data[42];
+        output.a58 = input.data[43];
+        output.a59 = input.data[44];
+        output.a61 = input.data[45];
+        output.a62 = input.data[46];
+        output.a63 = input.data[47];
+        output.a64 = input.data[48];
+        output.a65 = input.data[49];
+        output.a66 = input.data[50];
+        output.a67 = input.data[51];
+        output.a68 = input.data[52];
+        output.a69 = input.data[53];
+        output.a71 = input.data[54];
+        output.a72 = input.data[55];
+        output.a73 = input.data[56];
+        output.a74 = input.data[57];
+        output.a75 = input.data[58];
+        output.a76 = input.data[59];
+        output.a77 = input.data[60];
+        output.a78 = input.data[61];
+        output.a79 = input.data[62];
+        output.a81 = input.data[63];
+        output.a82 = input.data[64];
+        output.a83 = input.data[65];
+        output.a84 = input.data[66];
+        output.a85 = input.data[67];
+        output.a86 = input.data[68];
+        output.a87 = input.data[69];
+        output.a88 = input.data[70];
+        output.a89 = input.data[71];
+        output.a91 = input.data[72];
+        output.a92 = input.data[73];
+        output.a93 = input.data[74];
+        output.a94 = input.data[75];
+        output.a95 = input.data[76];
+        output.a96 = input.data[77];
+        output.a97 = input.data[78];
+        output.a98 = input.data[79];
+        output.a99 = input.data[80];
+
+        return output;
+    }
+
     /**
      * Converts {@link DMatrix2} into {@link DMatrixRMaj}.
      *
@@ -544,6 +1043,93 @@ public class DConvertMatrixStruct {
         return output;
     }
 
+    /**
+     * Converts {@link DMatrix7} into {@link DMatrixRMaj}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DMatrixRMaj convert(DMatrix7 input , @Nullable DMatrixRMaj output ) {
+        if( output == null)
+            output = new DMatrixRMaj(7,1);
+
+        if( output.getNumRows() != 1 && output.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(output.getNumRows(),output.getNumCols());
+        if( length != 7 )
+            throw new IllegalArgumentException("Length of input vector is not 7.  It is "+length);
+
+        output.data[0] = input.a1;
+        output.data[1] = input.a2;
+        output.data[2] = input.a3;
+        output.data[3] = input.a4;
+        output.data[4] = input.a5;
+        output.data[5] = input.a6;
+        output.data[6] = input.a7;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DMatrix8} into {@link DMatrixRMaj}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DMatrixRMaj convert(DMatrix8 input , @Nullable DMatrixRMaj output ) {
+        if( output == null)
+            output = new DMatrixRMaj(8,1);
+
+        if( output.getNumRows() != 1 && output.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(output.getNumRows(),output.getNumCols());
+        if( length != 8 )
+            throw new IllegalArgumentException("Length of input vector is not 8.  It is "+length);
+
+        output.data[0] = input.a1;
+        output.data[1] = input.a2;
+        output.data[2] = input.a3;
+        output.data[3] = input.a4;
+        output.data[4] = input.a5;
+        output.data[5] = input.a6;
+        output.data[6] = input.a7;
+        output.data[7] = input.a8;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DMatrix9} into {@link DMatrixRMaj}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DMatrixRMaj convert(DMatrix9 input , @Nullable DMatrixRMaj output ) {
+        if( output == null)
+            output = new DMatrixRMaj(9,1);
+
+        if( output.getNumRows() != 1 && output.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(output.getNumRows(),output.getNumCols());
+        if( length != 9 )
+            throw new IllegalArgumentException("Length of input vector is not 9.  It is "+length);
+
+        output.data[0] = input.a1;
+        output.data[1] = input.a2;
+        output.data[2] = input.a3;
+        output.data[3] = input.a4;
+        output.data[4] = input.a5;
+        output.data[5] = input.a6;
+        output.data[6] = input.a7;
+        output.data[7] = input.a8;
+        output.data[8] = input.a9;
+
+        return output;
+    }
+
     /**
      * Converts {@link DMatrixRMaj} into {@link DMatrix2}
      *
@@ -669,6 +1255,93 @@ public class DConvertMatrixStruct {
         return output;
     }
 
+    /**
+     * Converts {@link DMatrixRMaj} into {@link DMatrix7}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DMatrix7 convert(DMatrixRMaj input , @Nullable DMatrix7 output ) {
+        if( output == null)
+            output = new DMatrix7();
+
+        if( input.getNumRows() != 1 && input.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(input.getNumRows(),input.getNumCols());
+        if( length != 7 )
+            throw new IllegalArgumentException("Length of input vector is not 7.  It is "+length);
+
+        output.a1 = input.data[0];
+        output.a2 = input.data[1];
+        output.a3 = input.data[2];
+        output.a4 = input.data[3];
+        output.a5 = input.data[4];
+        output.a6 = input.data[5];
+        output.a7 = input.data[6];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DMatrixRMaj} into {@link DMatrix8}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DMatrix8 convert(DMatrixRMaj input , @Nullable DMatrix8 output ) {
+        if( output == null)
+            output = new DMatrix8();
+
+        if( input.getNumRows() != 1 && input.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(input.getNumRows(),input.getNumCols());
+        if( length != 8 )
+            throw new IllegalArgumentException("Length of input vector is not 8.  It is "+length);
+
+        output.a1 = input.data[0];
+        output.a2 = input.data[1];
+        output.a3 = input.data[2];
+        output.a4 = input.data[3];
+        output.a5 = input.data[4];
+        output.a6 = input.data[5];
+        output.a7 = input.data[6];
+        output.a8 = input.data[7];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DMatrixRMaj} into {@link DMatrix9}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DMatrix9 convert(DMatrixRMaj input , @Nullable DMatrix9 output ) {
+        if( output == null)
+            output = new DMatrix9();
+
+        if( input.getNumRows() != 1 && input.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(input.getNumRows(),input.getNumCols());
+        if( length != 9 )
+            throw new IllegalArgumentException("Length of input vector is not 9.  It is "+length);
+
+        output.a1 = input.data[0];
+        output.a2 = input.data[1];
+        output.a3 = input.data[2];
+        output.a4 = input.data[3];
+        output.a5 = input.data[4];
+        output.a6 = input.data[5];
+        output.a7 = input.data[6];
+        output.a8 = input.data[7];
+        output.a9 = input.data[8];
+
+        return output;
+    }
+
     /**
      * Converts {@link DMatrixRMaj} into {@link DMatrixRBlock}
      *
@@ -907,4 +1580,198 @@ public class DConvertMatrixStruct {
 
         return dst;
     }
+
+    public static DMatrixRMaj convert(DMatrixSparseCSR src , @Nullable DMatrixRMaj dst ) {
+        if( dst == null )
+            dst = new DMatrixRMaj(src.numRows, src.numCols);
+        else {
+            dst.reshape(src.numRows, src.numCols);
+            dst.zero();
+        }
+
+        for (int row = 0; row < src.numRows; row++) {
+            int idx0 = src.row_idx[row];
+            int idx1 = src.row_idx[row+1];
+            int indexDst = row*src.numCols;
+
+            for (int i = idx0; i < idx1; i++) {
+                dst.data[indexDst + src.nz_cols[i]] = src.nz_values[i];
+            }
+        }
+
+        return dst;
+    }
+
+    /**
+     * Converts DMatrixRMaj into a DMatrixSparseCSR
+     *
+     * @param src Original matrix that is to be converted.
+     * @param dst Storage for the converted matrix.  If null a new instance will be returned.
+     * @param tol Elements with an absolute value less than or equal to this are not saved
+     * @return The converted matrix
+     */
+    public static DMatrixSparseCSR convert(DMatrixRMaj src , @Nullable DMatrixSparseCSR dst , double tol ) {
+        int nonzero = 0;
+        int N = src.numRows*src.numCols;
+        for (int i = 0; i < N; i++) {
+            if( Math.abs(src.data[i]) > tol )
+                nonzero++;
+        }
+
+        dst = UtilEjml.reshapeOrDeclare(dst,src.numRows, src.numCols, nonzero);
+        dst.nz_length = 0;
+
+        dst.row_idx[0] = 0;
+        int index = 0;
+        for (int row = 0; row < src.numRows; row++) {
+            for (int col = 0; col < src.numCols; col++, index++) {
+                double value = src.data[index];
+                if( Math.abs(value) <= tol )
+                    continue;
+
+                dst.nz_cols[dst.nz_length] = col;
+                dst.nz_values[dst.nz_length] = value;
+                dst.nz_length += 1;
+            }
+            dst.row_idx[row+1] = dst.nz_length;
+        }
+        dst.indicesSorted = true;
+
+        return dst;
+    }
+
+    /**
+     * Converts DMatrixSparseCSC into DMatrixSparseCSR. Column indexes in the output are sorted.
+     *
+     * @param src Original matrix which is to be copied.  Not modified.
+     * @param dst Destination. If null a new instance is declared.  Modified.
+     * @param gw (Optional) Workspace. Can be null.
+     * @return The converted matrix
+     */
+    public static DMatrixSparseCSR convert(DMatrixSparseCSC src , @Nullable DMatrixSparseCSR dst ,
+                                           @Nullable IGrowArray gw ) {
+        dst = UtilEjml.reshapeOrDeclare(dst,src.numRows,src.numCols,src.nz_length);
+
+        int[] hist = UtilEjml.adjustClear(gw,src.numRows);
+        for (int i = 0; i < src.nz_length; i++) {
+            hist[src.nz_rows[i]]++;
+        }
+        dst.histogramToStructure(hist);
+        System.arraycopy(dst.row_idx,0,hist,0,dst.numRows);
+
+        // traversing the columns in order ensures the column indexes in each row are sorted
+        for (int col = 0; col < src.numCols; col++) {
+            int idx0 = src.col_idx[col];
+            int idx1 = src.col_idx[col+1];
+            for (int i = idx0; i < idx1; i++) {
+                int index = hist[src.nz_rows[i]]++;
+                dst.nz_cols[index] = col;
+                dst.nz_values[index] = src.nz_values[i];
+            }
+        }
+        dst.indicesSorted = true;
+
+        return dst;
+    }
+
+    public static DMatrixSparseCSR convert(DMatrixSparseCSC src , @Nullable DMatrixSparseCSR dst ) {
+        return convert(src,dst,null);
+    }
+
+    /**
+     * Converts DMatrixSparseCSR into DMatrixSparseCSC. Row indexes in the output are sorted.
+     *
+     * @param src Original matrix which is to be copied.  Not modified.
+     * @param dst Destination. If null a new instance is declared.  Modified.
+     * @param gw (Optional) Workspace. Can be null.
+     * @return The converted matrix
+     */
+    public static DMatrixSparseCSC convert(DMatrixSparseCSR src , @Nullable DMatrixSparseCSC dst ,
+                                           @Nullable IGrowArray gw ) {
+        dst = UtilEjml.reshapeOrDeclare(dst,src.numRows,src.numCols,src.nz_length);
+
+        int[] hist = UtilEjml.adjustClear(gw,src.numCols);
+        for (int i = 0; i < src.nz_length; i++) {
+            hist[src.nz_cols[i]]++;
+        }
+        dst.histogramToStructure(hist);
+        System.arraycopy(dst.col_idx,0,hist,0,dst.numCols);
+
+        for (int row = 0; row < src.numRows; row++) {
+            int idx0 = src.row_idx[row];
+            int idx1 = src.row_idx[row+1];
+            for (int i = idx0; i < idx1; i++) {
+                int index = hist[src.nz_cols[i]]++;
+                dst.nz_rows[index] = row;
+                dst.nz_values[index] = src.nz_values[i];
+            }
+        }
+        dst.indicesSorted = true;
+
+        return dst;
+    }
+
+    public static DMatrixSparseCSC convert(DMatrixSparseCSR src , @Nullable DMatrixSparseCSC dst ) {
+        return convert(src,dst,null);
+    }
+
+    /**
+     * Converts DMatrixSparseTriplet into a DMatrixSparseCSR. Duplicate elements in triplet will result in an
+     * illegal matrix in output having duplicate elements.
+     *
+     * @param src Original matrix which is to be copied.  Not modified.
+     * @param dst Destination. Will be a copy.  Modified.
+     * @param histStorage Workspace. Can be null.
+     */
+    public static DMatrixSparseCSR convert(DMatrixSparseTriplet src , @Nullable DMatrixSparseCSR dst ,
+                                           @Nullable IGrowArray histStorage) {
+        dst = UtilEjml.reshapeOrDeclare(dst,src.numRows,src.numCols,src.nz_length);
+
+        int[] hist = UtilEjml.adjustClear(histStorage,src.numRows);
+
+        // compute the number of elements in each row
+        for (int i = 0; i < src.nz_length; i++) {
+            hist[src.nz_rowcol.data[i*2]]++;
+        }
+
+        // define row_idx
+        dst.histogramToStructure(hist);
+        System.arraycopy(dst.row_idx,0,hist,0,dst.numRows);
+
+        // now write the column indexes and the values
+        for (int i = 0; i < src.nz_length; i++) {
+            int row = src.nz_rowcol.data[i*2];
+            int col = src.nz_rowcol.data[i*2+1];
+            double value = src.nz_value.data[i];
+
+            int index = hist[row]++;
+            dst.nz_cols[index] = col;
+            dst.nz_values[index] = value;
+        }
+        dst.indicesSorted = false;
+
+        return dst;
+    }
+
+    public static DMatrixSparseCSR convert(DMatrixSparseTriplet src , @Nullable DMatrixSparseCSR dst ) {
+        return convert(src,dst,null);
+    }
+
+    public static DMatrixSparseTriplet convert(DMatrixSparseCSR src , @Nullable DMatrixSparseTriplet dst ) {
+        if( dst == null )
+            dst = new DMatrixSparseTriplet(src.numRows, src.numCols, src.nz_length);
+        else
+            dst.reshape( src.numRows , src.numCols );
+
+        for (int row = 0; row < src.numRows; row++) {
+            int i0 = src.row_idx[row];
+            int i1 = src.row_idx[row+1];
+
+            for (int i = i0; i < i1; i++) {
+                dst.addItem(row,src.nz_cols[i], src.nz_values[i]);
+            }
+        }
+
+        return dst;
+    }
 }
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.ops;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * Parses numbers from an ASCII text file which is memory mapped one window at a time. Numbers are parsed directly
+ * from the bytes without creating a String, unless a floating point number can't be converted exactly by the
+ * fast path, in which case {@link Double#parseDouble(String)} is used. Spaces, tabs, commas, and carriage returns
+ * separate words on a line.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MappedTextScanner implements Closeable {
+    // Number of bytes mapped at once
+    private static final int WINDOW_BYTES = 1 << 26;
+
+    // Powers of 10 which can be exactly represented by a double
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    // Powers of 10 which can be exactly represented by a float
+    private static final float[] POW10_F = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private final FileChannel channel;
+    private final long size;
+
+    // the mapped part of the file
+    private MappedByteBuffer window;
+    private long windowStart;
+    private int windowLength;
+
+    // location of the next byte to be read
+    private long position;
+
+    // start and end of the most recent word
+    private long wordStart, wordEnd;
+
+    // storage for a word which is parsed the slow way
+    private byte[] work = new byte[32];
+
+    public MappedTextScanner( String fileName ) throws IOException {
+        channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+        size = channel.size();
+        mapWindow(0);
+    }
+
+    private void mapWindow( long start ) throws IOException {
+        windowStart = start;
+        windowLength = (int)Math.min(WINDOW_BYTES, size - start);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, windowLength);
+    }
+
+    /**
+     * Returns the byte at the specified location in the file or -1 if it's past the end of the file
+     */
+    private int byteAt( long location ) throws IOException {
+        long offset = location - windowStart;
+        if (offset < 0 || offset >= windowLength) {
+            if (location >= size)
+                return -1;
+            mapWindow(location);
+            offset = 0;
+        }
+        return window.get((int)offset);
+    }
+
+    /**
+     * Returns the next byte without consuming it or -1 if the end of the file has been reached
+     */
+    public int peek() throws IOException {
+        return byteAt(position);
+    }
+
+    /**
+     * Returns the next byte or -1 if the end of the file has been reached
+     */
+    public int read() throws IOException {
+        int c = byteAt(position);
+        if (c != -1)
+            position++;
+        return c;
+    }
+
+    /**
+     * Skips over separators on the current line
+     */
+    public void skipSeparators() throws IOException {
+        while (isSeparator(byteAt(position))) {
+            position++;
+        }
+    }
+
+    /**
+     * Skips over separators and line breaks
+     */
+    public void skipWhitespace() throws IOException {
+        int c = byteAt(position);
+        while (isSeparator(c) || c == '\n') {
+            c = byteAt(++position);
+        }
+    }
+
+    /**
+     * Moves to the start of the next line
+     */
+    public void nextLine() throws IOException {
+        int c = byteAt(position);
+        while (c != -1) {
+            position++;
+            if (c == '\n')
+                break;
+            c = byteAt(position);
+        }
+    }
+
+    /**
+     * True if there are only separators left on the current line
+     */
+    public boolean isEndOfLine() throws IOException {
+        skipSeparators();
+        int c = byteAt(position);
+        return c == '\n' || c == -1;
+    }
+
+    /**
+     * True if the end of the file has been reached
+     */
+    public boolean isEndOfFile() throws IOException {
+        return byteAt(position) == -1;
+    }
+
+    /**
+     * Returns the next word on the current line, or null if there are no more words on the line
+     */
+    public String nextWord() throws IOException {
+        if (isEndOfLine())
+            return null;
+        markWord();
+        return new String(wordBytes(), 0, (int)(wordEnd - wordStart), StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the remainder of the current line and moves to the next line
+     */
+    public String readLine() throws IOException {
+        long start = position;
+        nextLine();
+        long end = position;
+        while (end > start && (byteAt(end - 1) == '\n' || byteAt(end - 1) == '\r')) {
+            end--;
+        }
+        wordStart = start;
+        wordEnd = end;
+        return new String(wordBytes(), 0, (int)(end - start), StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Parses the next word on the current line as an integer
+     */
+    public int parseInt() throws IOException {
+        long value = parseLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+            throw new IOException("Integer is out of range at byte " + wordStart);
+        return (int)value;
+    }
+
+    /**
+     * Parses the next word on the current line as a long
+     */
+    public long parseLong() throws IOException {
+        skipSeparators();
+        wordStart = position;
+        int c = byteAt(position);
+        boolean negative = c == '-';
+        if (negative || c == '+')
+            c = byteAt(++position);
+
+        long value = 0;
+        int digits = 0;
+        while (c >= '0' && c <= '9') {
+            value = value*10 + (c - '0');
+            digits++;
+            c = byteAt(++position);
+        }
+        if (digits == 0 || digits > 18 || !isEndOfWord(c))
+            throw new IOException("Expected an integer at byte " + wordStart);
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses the next word on the current line as a double
+     */
+    public double parseDouble() throws IOException {
+        skipSeparators();
+        markWord();
+
+        // Decompose the number into an integer mantissa and a power of 10 then see if it can be
+        // converted exactly. See "How to read floating point numbers accurately" by Clinger
+        long location = wordStart;
+        int c = byteAt(location);
+        boolean negative = c == '-';
+        if (negative || c == '+')
+            c = byteAt(++location);
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        while (c >= '0' && c <= '9') {
+            hasDigits = true;
+            if (mantissa != 0 || c != '0')
+                digits++;
+            mantissa = mantissa*10 + (c - '0');
+            c = byteAt(++location);
+        }
+        if (c == '.') {
+            c = byteAt(++location);
+            while (c >= '0' && c <= '9') {
+                hasDigits = true;
+                if (mantissa != 0 || c != '0')
+                    digits++;
+                mantissa = mantissa*10 + (c - '0');
+                exponent--;
+                c = byteAt(++location);
+            }
+        }
+        if (hasDigits && (c == 'e' || c == 'E')) {
+            c = byteAt(++location);
+            boolean negativeExp = c == '-';
+            if (negativeExp || c == '+')
+                c = byteAt(++location);
+            int e = 0;
+            boolean hasExpDigits = false;
+            while (c >= '0' && c <= '9' && e < 10000) {
+                hasExpDigits = true;
+                e = e*10 + (c - '0');
+                c = byteAt(++location);
+            }
+            if (!hasExpDigits)
+                hasDigits = false;
+            exponent += negativeExp ? -e : e;
+        }
+
+        if (hasDigits && location == wordEnd && digits <= 15) {
+            double value = mantissa;
+            if (exponent == 0 || mantissa == 0) {
+                return negative ? -value : value;
+            } else if (exponent > 0 && exponent <= 22) {
+                value *= POW10[exponent];
+                return negative ? -value : value;
+            } else if (exponent < 0 && exponent >= -22) {
+                value /= POW10[-exponent];
+                return negative ? -value : value;
+            }
+        }
+
+        try {
+            return Double.parseDouble(new String(wordBytes(), 0, (int)(wordEnd - wordStart), StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            throw new IOException("Expected a floating point number at byte " + wordStart);
+        }
+    }
+
+    /**
+     * Parses the next word on the current line as a float
+     */
+    public float parseFloat() throws IOException {
+        skipSeparators();
+        markWord();
+
+        long location = wordStart;
+        int c = byteAt(location);
+        boolean negative = c == '-';
+        if (negative || c == '+')
+            c = byteAt(++location);
+
+        // fast path for plain decimal numbers with up to 7 significant digits
+        int mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        while (c >= '0' && c <= '9' && digits <= 7) {
+            hasDigits = true;
+            if (mantissa != 0 || c != '0')
+                digits++;
+            mantissa = mantissa*10 + (c - '0');
+            c = byteAt(++location);
+        }
+        if (c == '.') {
+            c = byteAt(++location);
+            while (c >= '0' && c <= '9' && digits <= 7) {
+                hasDigits = true;
+                if (mantissa != 0 || c != '0')
+                    digits++;
+                mantissa = mantissa*10 + (c - '0');
+                exponent--;
+                c = byteAt(++location);
+            }
+        }
+
+        if (hasDigits && location == wordEnd && digits <= 7 && exponent >= -10) {
+            float value = mantissa;
+            if (exponent != 0)
+                value /= POW10_F[-exponent];
+            return negative ? -value : value;
+        }
+
+        try {
+            return Float.parseFloat(new String(wordBytes(), 0, (int)(wordEnd - wordStart), StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            throw new IOException("Expected a floating point number at byte " + wordStart);
+        }
+    }
+
+    /**
+     * Finds the end of the word which starts at the current position and moves past it
+     */
+    private void markWord() throws IOException {
+        wordStart = position;
+        while (!isEndOfWord(byteAt(position))) {
+            position++;
+        }
+        wordEnd = position;
+    }
+
+    /**
+     * Copies the bytes in the word into the work array
+     */
+    private byte[] wordBytes() throws IOException {
+        int length = (int)(wordEnd - wordStart);
+        if (work.length < length)
+            work = new byte[length];
+        for (int i = 0; i < length; i++) {
+            work[i] = (byte)byteAt(wordStart + i);
+        }
+        return work;
+    }
+
+    private static boolean isSeparator( int c ) {
+        return c == ' ' || c == '\t' || c == ',' || c == '\r';
+    }
+
+    private static boolean isEndOfWord( int c ) {
+        return c == -1 || c == '\n' || isSeparator(c);
+    }
+
+    /**
+     * Location of the next byte to be read
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Moves to the specified location in the file
+     */
+    public void setPosition( long position ) {
+        this.position = position;
+    }
+
+    /**
+     * Number of bytes in the file
+     */
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
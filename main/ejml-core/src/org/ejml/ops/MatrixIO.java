@@ -148,6 +148,7 @@ public class MatrixIO {
      *
      * @param reader Input reader
      * @return Matrix in triplet format
+     * @see ReadMatrixMarket for reading large files directly into compressed sparse column format
      */
     public static DMatrixSparseTriplet loadMatrixMarketD( Reader reader )
     {
@@ -269,7 +270,8 @@ public class MatrixIO {
     }
 
     /**
-     * Saves a matrix to disk using Java binary serialization.
+     * Saves a matrix to disk using Java binary serialization. See {@link MatrixIOBinary} for a faster
+     * format which can be memory mapped.
      *
      * @param A The matrix being saved.
      * @param fileName Name of the file its being saved at.
@@ -398,6 +400,7 @@ public class MatrixIO {
      *
      * @param fileName The file being loaded.
      * @return DMatrix
+     * @see ReadMatrixCsvMapped for reading large files
      */
     public static <T extends DMatrix>T loadCSV(String fileName , boolean doublePrecision )
         throws IOException
@@ -582,6 +585,14 @@ public class MatrixIO {
                 print(out,(FMatrixSparseCSC)mat,format);
                 break;
 
+            case DSCR:
+                print(out,(DMatrix)mat,format);
+                break;
+
+            case FSCR:
+                print(out,(FMatrix)mat,format);
+                break;
+
             case FTRIPLET:
                 print(out,(FMatrixSparseTriplet)mat,format);
                 break;
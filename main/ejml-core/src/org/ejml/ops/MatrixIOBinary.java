@@ -0,0 +1,499 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.ops;
+
+import org.ejml.data.*;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * Reads and writes matrices in a simple binary format using memory mapped files. Unlike
+ * {@link MatrixIO#saveBin(DMatrix, String)}, which uses Java serialization, the arrays are copied directly to and
+ * from the file and a file can be mapped without reading it, see {@link #mapDirect(String, boolean)} and
+ * {@link #readColumns(String, int, int, DMatrixSparseCSC)}.
+ * </p>
+ *
+ * <p>
+ * All values are little-endian. The file starts with a {@link #HEADER_SIZE} byte header:
+ * </p>
+ * <pre>
+ * offset  type   description
+ *  0      int32  MAGIC, the bytes "EJML"
+ *  4      int32  VERSION of the format
+ *  8      int32  matrix type, e.g. TYPE_DDRM
+ * 12      int32  number of rows
+ * 16      int32  number of columns
+ * 20      int32  block length for block matrices. For sparse matrices, 1 if row indices are sorted.
+ * 24      int64  number of elements which are saved. numRows*numCols for dense and nz_length for sparse
+ * </pre>
+ *
+ * <p>
+ * Dense matrices, {@link DMatrixRMaj} and {@link DMatrixRBlock}, then have all their elements in the same order
+ * as their 'data' array. Compressed sparse column matrices have col_idx (numCols+1 int32), then nz_rows
+ * (nz_length int32), then nz_values starting at the next offset which is a multiple of 8.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MatrixIOBinary {
+    /** The first four bytes of every file, "EJML" */
+    public static final int MAGIC = 0x4C4D4A45;
+    /** Version of the file format */
+    public static final int VERSION = 1;
+    /** Number of bytes in the header. Data starts at this offset. */
+    public static final int HEADER_SIZE = 32;
+
+    public static final int TYPE_DDRM = 1;
+    public static final int TYPE_FDRM = 2;
+    public static final int TYPE_DDRB = 3;
+    public static final int TYPE_FDRB = 4;
+    public static final int TYPE_DSCC = 5;
+    public static final int TYPE_FSCC = 6;
+
+    // Largest region which is mapped at once. Mapped regions are limited to 2^31-1 bytes.
+    private static final int MAX_MAP_BYTES = 1 << 30;
+
+    /**
+     * Description of a matrix which is read from the file's header
+     */
+    public static class Header {
+        /** Type of matrix, e.g. TYPE_DDRM */
+        public int type;
+        public int numRows;
+        public int numCols;
+        /** Block length for block matrices. For sparse matrices, 1 if row indices are sorted. */
+        public int extra;
+        /** Number of elements which are saved */
+        public long length;
+
+        /** Number of bytes in each element */
+        public int elementBytes() {
+            return type == TYPE_FDRM || type == TYPE_FDRB || type == TYPE_FSCC ? Float.BYTES : Double.BYTES;
+        }
+
+        /** Offset of nz_rows in a sparse matrix */
+        public long offsetRows() {
+            return HEADER_SIZE + (long)Integer.BYTES*(numCols + 1);
+        }
+
+        /** Offset of the first element */
+        public long offsetValues() {
+            if (type != TYPE_DSCC && type != TYPE_FSCC)
+                return HEADER_SIZE;
+            long offset = offsetRows() + (long)Integer.BYTES*length;
+            return (offset + 7) & ~7L;
+        }
+    }
+
+    public static void save( DMatrixRMaj A, String fileName ) throws IOException {
+        try (FileChannel channel = create(fileName)) {
+            writeHeader(channel, TYPE_DDRM, A.numRows, A.numCols, 0, A.getNumElements());
+            putDoubles(channel, HEADER_SIZE, A.data, A.getNumElements());
+        }
+    }
+
+    public static void save( FMatrixRMaj A, String fileName ) throws IOException {
+        try (FileChannel channel = create(fileName)) {
+            writeHeader(channel, TYPE_FDRM, A.numRows, A.numCols, 0, A.getNumElements());
+            putFloats(channel, HEADER_SIZE, A.data, A.getNumElements());
+        }
+    }
+
+    public static void save( DMatrixRBlock A, String fileName ) throws IOException {
+        try (FileChannel channel = create(fileName)) {
+            writeHeader(channel, TYPE_DDRB, A.numRows, A.numCols, A.blockLength, A.getNumElements());
+            putDoubles(channel, HEADER_SIZE, A.data, A.getNumElements());
+        }
+    }
+
+    public static void save( FMatrixRBlock A, String fileName ) throws IOException {
+        try (FileChannel channel = create(fileName)) {
+            writeHeader(channel, TYPE_FDRB, A.numRows, A.numCols, A.blockLength, A.getNumElements());
+            putFloats(channel, HEADER_SIZE, A.data, A.getNumElements());
+        }
+    }
+
+    public static void save( DMatrixSparseCSC A, String fileName ) throws IOException {
+        try (FileChannel channel = create(fileName)) {
+            Header header = writeHeader(channel, TYPE_DSCC, A.numRows, A.numCols, A.indicesSorted ? 1 : 0, A.nz_length);
+            putInts(channel, HEADER_SIZE, A.col_idx, A.numCols + 1);
+            putInts(channel, header.offsetRows(), A.nz_rows, A.nz_length);
+            putDoubles(channel, header.offsetValues(), A.nz_values, A.nz_length);
+        }
+    }
+
+    public static void save( FMatrixSparseCSC A, String fileName ) throws IOException {
+        try (FileChannel channel = create(fileName)) {
+            Header header = writeHeader(channel, TYPE_FSCC, A.numRows, A.numCols, A.indicesSorted ? 1 : 0, A.nz_length);
+            putInts(channel, HEADER_SIZE, A.col_idx, A.numCols + 1);
+            putInts(channel, header.offsetRows(), A.nz_rows, A.nz_length);
+            putFloats(channel, header.offsetValues(), A.nz_values, A.nz_length);
+        }
+    }
+
+    /**
+     * Saves an off-heap matrix in the same format as {@link DMatrixRMaj}. It's copied one chunk at a time
+     * and can have more than 2<sup>31</sup> elements.
+     */
+    public static void save( DMatrixDirect A, String fileName ) throws IOException {
+        try (FileChannel channel = create(fileName)) {
+            long length = A.getNumElementsLong();
+            writeHeader(channel, TYPE_DDRM, A.numRows, A.numCols, 0, length);
+
+            long position = HEADER_SIZE;
+            for (int i = 0; length > 0; i++) {
+                DoubleBuffer chunk = A.buffers[i].duplicate();
+                chunk.clear();
+                chunk.limit((int)Math.min(chunk.capacity(), length));
+                while (chunk.hasRemaining()) {
+                    int n = Math.min(chunk.remaining(), MAX_MAP_BYTES/Double.BYTES);
+                    DoubleBuffer src = chunk.slice();
+                    src.limit(n);
+                    map(channel, FileChannel.MapMode.READ_WRITE, position, (long)n*Double.BYTES).asDoubleBuffer().put(src);
+                    chunk.position(chunk.position() + n);
+                    position += (long)n*Double.BYTES;
+                    length -= n;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the header of a file without reading the matrix
+     */
+    public static Header readHeader( String fileName ) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            return readHeader(channel);
+        }
+    }
+
+    /**
+     * Loads a matrix which was saved using one of the save functions. The type of the returned matrix is
+     * specified by the file's header. Matrices with more than 2<sup>31</sup>-1 elements should be opened using
+     * {@link #mapDirect(String, boolean)}.
+     *
+     * @param fileName The file being loaded.
+     * @return The matrix
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Matrix> T load( String fileName ) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            Header header = readHeader(channel);
+            if (header.type != TYPE_DSCC && header.type != TYPE_FSCC && header.length > Integer.MAX_VALUE)
+                throw new IOException("Too many elements for an array. Use mapDirect() instead");
+            int length = (int)header.length;
+
+            switch (header.type) {
+                case TYPE_DDRM: {
+                    DMatrixRMaj A = new DMatrixRMaj(header.numRows, header.numCols);
+                    getDoubles(channel, HEADER_SIZE, A.data, length);
+                    return (T)A;
+                }
+                case TYPE_FDRM: {
+                    FMatrixRMaj A = new FMatrixRMaj(header.numRows, header.numCols);
+                    getFloats(channel, HEADER_SIZE, A.data, length);
+                    return (T)A;
+                }
+                case TYPE_DDRB: {
+                    DMatrixRBlock A = new DMatrixRBlock(header.numRows, header.numCols, header.extra);
+                    getDoubles(channel, HEADER_SIZE, A.data, length);
+                    return (T)A;
+                }
+                case TYPE_FDRB: {
+                    FMatrixRBlock A = new FMatrixRBlock(header.numRows, header.numCols, header.extra);
+                    getFloats(channel, HEADER_SIZE, A.data, length);
+                    return (T)A;
+                }
+                case TYPE_DSCC:
+                    return (T)readColumns(channel, header, 0, header.numCols, null);
+                case TYPE_FSCC:
+                    return (T)readColumnsF(channel, header, 0, header.numCols, null);
+                default:
+                    throw new IOException("Unknown matrix type " + header.type);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Maps a file containing a {@link DMatrixRMaj} into memory without reading it. Elements are only read from
+     * the disk when they are accessed, so a small part of a very large matrix can be processed efficiently.
+     * </p>
+     *
+     * <p>
+     * If writable then changes to the matrix are written to the file. Otherwise attempting to modify it will
+     * throw a {@link java.nio.ReadOnlyBufferException}. The matrix must not be reshaped to a larger size.
+     * </p>
+     *
+     * @param fileName The file being mapped.
+     * @param writable If the matrix can be modified.
+     * @return Matrix which uses the file as its storage
+     */
+    public static DMatrixDirect mapDirect( String fileName, boolean writable ) throws IOException {
+        try (FileChannel channel = open(fileName, writable)) {
+            Header header = readHeader(channel);
+            checkType(header, TYPE_DDRM);
+
+            ByteBuffer[] chunks = mapChunks(channel, header, writable);
+            DoubleBuffer[] buffers = new DoubleBuffer[chunks.length];
+            for (int i = 0; i < chunks.length; i++) {
+                buffers[i] = chunks[i].asDoubleBuffer();
+            }
+            return new DMatrixDirect(header.numRows, header.numCols, buffers);
+        }
+    }
+
+    /**
+     * Same as {@link #mapDirect(String, boolean)} but for {@link FMatrixRMaj}
+     */
+    public static FMatrixDirect mapDirectF( String fileName, boolean writable ) throws IOException {
+        try (FileChannel channel = open(fileName, writable)) {
+            Header header = readHeader(channel);
+            checkType(header, TYPE_FDRM);
+
+            ByteBuffer[] chunks = mapChunks(channel, header, writable);
+            FloatBuffer[] buffers = new FloatBuffer[chunks.length];
+            for (int i = 0; i < chunks.length; i++) {
+                buffers[i] = chunks[i].asFloatBuffer();
+            }
+            return new FMatrixDirect(header.numRows, header.numCols, buffers);
+        }
+    }
+
+    /**
+     * Reads in only the columns [col0, col1) of a {@link DMatrixSparseCSC} which has been saved to the file.
+     *
+     * @param fileName The file being read.
+     * @param col0 First column which is read.
+     * @param col1 Last column which is read. Exclusive.
+     * @param output (Output) Storage for the columns. If null a new matrix is declared.
+     * @return Matrix with col1-col0 columns.
+     */
+    public static DMatrixSparseCSC readColumns( String fileName, int col0, int col1,
+                                                @Nullable DMatrixSparseCSC output ) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            Header header = readHeader(channel);
+            checkType(header, TYPE_DSCC);
+            return readColumns(channel, header, col0, col1, output);
+        }
+    }
+
+    /**
+     * Same as {@link #readColumns(String, int, int, DMatrixSparseCSC)} but for {@link FMatrixSparseCSC}
+     */
+    public static FMatrixSparseCSC readColumnsF( String fileName, int col0, int col1,
+                                                 @Nullable FMatrixSparseCSC output ) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            Header header = readHeader(channel);
+            checkType(header, TYPE_FSCC);
+            return readColumnsF(channel, header, col0, col1, output);
+        }
+    }
+
+    private static DMatrixSparseCSC readColumns( FileChannel channel, Header header, int col0, int col1,
+                                                 @Nullable DMatrixSparseCSC output ) throws IOException {
+        int[] col_idx = readColumnIndexes(channel, header, col0, col1);
+        int offset = col_idx[0];
+        int nz_length = col_idx[col1 - col0] - offset;
+
+        if (output == null)
+            output = new DMatrixSparseCSC(header.numRows, col1 - col0, nz_length);
+        else
+            output.reshape(header.numRows, col1 - col0, nz_length);
+
+        for (int i = 0; i <= col1 - col0; i++) {
+            output.col_idx[i] = col_idx[i] - offset;
+        }
+        getInts(channel, header.offsetRows() + (long)Integer.BYTES*offset, output.nz_rows, nz_length);
+        getDoubles(channel, header.offsetValues() + (long)Double.BYTES*offset, output.nz_values, nz_length);
+        output.nz_length = nz_length;
+        output.indicesSorted = header.extra == 1;
+        return output;
+    }
+
+    private static FMatrixSparseCSC readColumnsF( FileChannel channel, Header header, int col0, int col1,
+                                                  @Nullable FMatrixSparseCSC output ) throws IOException {
+        int[] col_idx = readColumnIndexes(channel, header, col0, col1);
+        int offset = col_idx[0];
+        int nz_length = col_idx[col1 - col0] - offset;
+
+        if (output == null)
+            output = new FMatrixSparseCSC(header.numRows, col1 - col0, nz_length);
+        else
+            output.reshape(header.numRows, col1 - col0, nz_length);
+
+        for (int i = 0; i <= col1 - col0; i++) {
+            output.col_idx[i] = col_idx[i] - offset;
+        }
+        getInts(channel, header.offsetRows() + (long)Integer.BYTES*offset, output.nz_rows, nz_length);
+        getFloats(channel, header.offsetValues() + (long)Float.BYTES*offset, output.nz_values, nz_length);
+        output.nz_length = nz_length;
+        output.indicesSorted = header.extra == 1;
+        return output;
+    }
+
+    private static int[] readColumnIndexes( FileChannel channel, Header header, int col0, int col1 ) throws IOException {
+        if (col0 < 0 || col1 < col0 || col1 > header.numCols)
+            throw new IllegalArgumentException("Invalid column range. col0=" + col0 + " col1=" + col1);
+        int[] col_idx = new int[col1 - col0 + 1];
+        getInts(channel, HEADER_SIZE + (long)Integer.BYTES*col0, col_idx, col_idx.length);
+        return col_idx;
+    }
+
+    /**
+     * Maps the elements of a dense matrix in chunks which can be used by DMatrixDirect or FMatrixDirect
+     */
+    private static ByteBuffer[] mapChunks( FileChannel channel, Header header, boolean writable ) throws IOException {
+        FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        long chunkLength = 1L << DMatrixDirect.DEFAULT_CHUNK_BITS;
+        int numChunks = (int)Math.max(1, (header.length + chunkLength - 1)/chunkLength);
+
+        ByteBuffer[] chunks = new ByteBuffer[numChunks];
+        for (int i = 0; i < numChunks; i++) {
+            long n = Math.min(chunkLength, header.length - i*chunkLength);
+            long position = HEADER_SIZE + i*chunkLength*header.elementBytes();
+            chunks[i] = map(channel, mode, position, n*header.elementBytes());
+        }
+        return chunks;
+    }
+
+    private static void checkType( Header header, int expected ) {
+        if (header.type != expected)
+            throw new IllegalArgumentException("Unexpected matrix type. Found " + header.type + " expected " + expected);
+    }
+
+    private static FileChannel create( String fileName ) throws IOException {
+        return FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static FileChannel open( String fileName, boolean writable ) throws IOException {
+        if (writable)
+            return FileChannel.open(Paths.get(fileName), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+    }
+
+    private static Header writeHeader( FileChannel channel, int type, int numRows, int numCols, int extra, long length )
+            throws IOException {
+        Header header = new Header();
+        header.type = type;
+        header.numRows = numRows;
+        header.numCols = numCols;
+        header.extra = extra;
+        header.length = length;
+
+        ByteBuffer buffer = map(channel, FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(type);
+        buffer.putInt(numRows);
+        buffer.putInt(numCols);
+        buffer.putInt(extra);
+        buffer.putLong(length);
+        return header;
+    }
+
+    private static Header readHeader( FileChannel channel ) throws IOException {
+        if (channel.size() < HEADER_SIZE)
+            throw new IOException("File is too small to contain a header");
+        ByteBuffer buffer = map(channel, FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (buffer.getInt() != MAGIC)
+            throw new IOException("Not an EJML binary matrix file");
+        int version = buffer.getInt();
+        if (version > VERSION)
+            throw new IOException("Unsupported version " + version);
+
+        Header header = new Header();
+        header.type = buffer.getInt();
+        header.numRows = buffer.getInt();
+        header.numCols = buffer.getInt();
+        header.extra = buffer.getInt();
+        header.length = buffer.getLong();
+        return header;
+    }
+
+    private static ByteBuffer map( FileChannel channel, FileChannel.MapMode mode, long position, long size )
+            throws IOException {
+        return channel.map(mode, position, size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void putDoubles( FileChannel channel, long position, double[] src, int length ) throws IOException {
+        final int step = MAX_MAP_BYTES/Double.BYTES;
+        for (int offset = 0; offset < length; offset += step) {
+            int n = Math.min(step, length - offset);
+            long start = position + (long)Double.BYTES*offset;
+            map(channel, FileChannel.MapMode.READ_WRITE, start, (long)n*Double.BYTES).asDoubleBuffer().put(src, offset, n);
+        }
+    }
+
+    private static void getDoubles( FileChannel channel, long position, double[] dst, int length ) throws IOException {
+        final int step = MAX_MAP_BYTES/Double.BYTES;
+        for (int offset = 0; offset < length; offset += step) {
+            int n = Math.min(step, length - offset);
+            long start = position + (long)Double.BYTES*offset;
+            map(channel, FileChannel.MapMode.READ_ONLY, start, (long)n*Double.BYTES).asDoubleBuffer().get(dst, offset, n);
+        }
+    }
+
+    private static void putFloats( FileChannel channel, long position, float[] src, int length ) throws IOException {
+        final int step = MAX_MAP_BYTES/Float.BYTES;
+        for (int offset = 0; offset < length; offset += step) {
+            int n = Math.min(step, length - offset);
+            long start = position + (long)Float.BYTES*offset;
+            map(channel, FileChannel.MapMode.READ_WRITE, start, (long)n*Float.BYTES).asFloatBuffer().put(src, offset, n);
+        }
+    }
+
+    private static void getFloats( FileChannel channel, long position, float[] dst, int length ) throws IOException {
+        final int step = MAX_MAP_BYTES/Float.BYTES;
+        for (int offset = 0; offset < length; offset += step) {
+            int n = Math.min(step, length - offset);
+            long start = position + (long)Float.BYTES*offset;
+            map(channel, FileChannel.MapMode.READ_ONLY, start, (long)n*Float.BYTES).asFloatBuffer().get(dst, offset, n);
+        }
+    }
+
+    private static void putInts( FileChannel channel, long position, int[] src, int length ) throws IOException {
+        final int step = MAX_MAP_BYTES/Integer.BYTES;
+        for (int offset = 0; offset < length; offset += step) {
+            int n = Math.min(step, length - offset);
+            long start = position + (long)Integer.BYTES*offset;
+            map(channel, FileChannel.MapMode.READ_WRITE, start, (long)n*Integer.BYTES).asIntBuffer().put(src, offset, n);
+        }
+    }
+
+    private static void getInts( FileChannel channel, long position, int[] dst, int length ) throws IOException {
+        final int step = MAX_MAP_BYTES/Integer.BYTES;
+        for (int offset = 0; offset < length; offset += step) {
+            int n = Math.min(step, length - offset);
+            long start = position + (long)Integer.BYTES*offset;
+            map(channel, FileChannel.MapMode.READ_ONLY, start, (long)n*Integer.BYTES).asIntBuffer().get(dst, offset, n);
+        }
+    }
+}
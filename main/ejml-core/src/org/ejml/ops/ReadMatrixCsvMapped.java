@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.ops;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.FMatrixRMaj;
+import org.ejml.data.FMatrixSparseCSC;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * Reads matrices in the same CSV format as {@link ReadMatrixCsv} using a memory mapped file. Numbers are parsed
+ * directly from the file's bytes instead of being split into words first. Sparse matrices are read directly into
+ * compressed sparse column format, using the same two passes as {@link ReadMatrixMarket}.
+ * </p>
+ *
+ * <p>
+ * Dense matrices start with the line "numRows numCols real" and sparse matrices with "numRows numCols nz real".
+ * Sparse elements are then saved one per line as "row col value" and are zero indexed. Complex matrices are not
+ * supported.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ReadMatrixCsvMapped {
+
+    public static DMatrixRMaj loadDDRM( String fileName ) throws IOException {
+        try (MappedTextScanner scanner = new MappedTextScanner(fileName)) {
+            int[] shape = readDenseHeader(scanner);
+            DMatrixRMaj A = new DMatrixRMaj(shape[0], shape[1]);
+            int N = A.getNumElements();
+            for (int i = 0; i < N; i++) {
+                scanner.skipWhitespace();
+                A.data[i] = scanner.parseDouble();
+            }
+            return A;
+        }
+    }
+
+    public static FMatrixRMaj loadFDRM( String fileName ) throws IOException {
+        try (MappedTextScanner scanner = new MappedTextScanner(fileName)) {
+            int[] shape = readDenseHeader(scanner);
+            FMatrixRMaj A = new FMatrixRMaj(shape[0], shape[1]);
+            int N = A.getNumElements();
+            for (int i = 0; i < N; i++) {
+                scanner.skipWhitespace();
+                A.data[i] = scanner.parseFloat();
+            }
+            return A;
+        }
+    }
+
+    public static DMatrixSparseCSC loadDSCC( String fileName ) throws IOException {
+        try (MappedTextScanner scanner = new MappedTextScanner(fileName)) {
+            ReadMatrixMarket.Header header = readSparseHeader(scanner);
+            DMatrixSparseCSC A = new DMatrixSparseCSC(header.numRows, header.numCols, 0);
+            ReadMatrixMarket.readEntries(scanner, header, A.col_idx);
+            int nz_length = A.col_idx[header.numCols];
+            A.growMaxLength(nz_length, false);
+            A.indicesSorted = ReadMatrixMarket.fillEntries(scanner, header, A.col_idx, A.nz_rows, A.nz_values, null);
+            A.nz_length = nz_length;
+            return A;
+        }
+    }
+
+    public static FMatrixSparseCSC loadFSCC( String fileName ) throws IOException {
+        try (MappedTextScanner scanner = new MappedTextScanner(fileName)) {
+            ReadMatrixMarket.Header header = readSparseHeader(scanner);
+            FMatrixSparseCSC A = new FMatrixSparseCSC(header.numRows, header.numCols, 0);
+            ReadMatrixMarket.readEntries(scanner, header, A.col_idx);
+            int nz_length = A.col_idx[header.numCols];
+            A.growMaxLength(nz_length, false);
+            A.indicesSorted = ReadMatrixMarket.fillEntries(scanner, header, A.col_idx, A.nz_rows, null, A.nz_values);
+            A.nz_length = nz_length;
+            return A;
+        }
+    }
+
+    private static int[] readDenseHeader( MappedTextScanner scanner ) throws IOException {
+        scanner.skipWhitespace();
+        int numRows = scanner.parseInt();
+        int numCols = scanner.parseInt();
+        checkReal(scanner.nextWord());
+        if (!scanner.isEndOfLine())
+            throw new IOException("Expected a dense matrix");
+        if (numRows < 0 || numCols < 0)
+            throw new IOException("Invalid number of rows and/or columns: " + numRows + " " + numCols);
+        scanner.nextLine();
+        return new int[]{numRows, numCols};
+    }
+
+    private static ReadMatrixMarket.Header readSparseHeader( MappedTextScanner scanner ) throws IOException {
+        scanner.skipWhitespace();
+        ReadMatrixMarket.Header header = new ReadMatrixMarket.Header();
+        header.numRows = scanner.parseInt();
+        header.numCols = scanner.parseInt();
+        header.numEntries = scanner.parseLong();
+        checkReal(scanner.nextWord());
+        if (header.numRows < 0 || header.numCols < 0)
+            throw new IOException("Invalid number of rows and/or columns: " + header.numRows + " " + header.numCols);
+        header.indexBase = 0;
+        scanner.nextLine();
+        header.start = scanner.getPosition();
+        return header;
+    }
+
+    private static void checkReal( String word ) throws IOException {
+        if (word == null || !word.equalsIgnoreCase("real"))
+            throw new IOException("Only real matrices are supported");
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.ops;
+
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.FMatrixSparseCSC;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * <p>
+ * Reads a sparse matrix in Matrix Market coordinate format directly into compressed sparse column format.
+ * The file is memory mapped and read twice. In the first pass only the column indexes are parsed and the
+ * number of elements in each column is counted. In the second pass the elements are written directly into
+ * their final location, so no triplet matrix is created and the peak memory is the size of the output.
+ * </p>
+ *
+ * <p>
+ * The banner, e.g. "%%MatrixMarket matrix coordinate real symmetric", specifies the field and symmetry.
+ * Fields real, double, integer, and pattern are supported. Pattern matrices have a value of 1 for each
+ * element. For symmetric and skew-symmetric matrices only the lower triangle is saved in the file and it's
+ * mirrored into the upper triangle. If there's no banner then it's assumed to be real and general, which is
+ * the same format as {@link MatrixIO#saveMatrixMarketD}.
+ * </p>
+ *
+ * <p>
+ * https://math.nist.gov/MatrixMarket/formats.html
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ReadMatrixMarket {
+
+    public enum Field {
+        REAL,
+        INTEGER,
+        PATTERN
+    }
+
+    public enum Symmetry {
+        GENERAL,
+        SYMMETRIC,
+        SKEW_SYMMETRIC
+    }
+
+    /**
+     * Reads a Matrix Market file into a {@link DMatrixSparseCSC}
+     */
+    public static DMatrixSparseCSC loadDSCC( String fileName ) throws IOException {
+        try (MappedTextScanner scanner = new MappedTextScanner(fileName)) {
+            Header header = readHeader(scanner);
+            DMatrixSparseCSC A = new DMatrixSparseCSC(header.numRows, header.numCols, 0);
+            readEntries(scanner, header, A.col_idx);
+            int nz_length = A.col_idx[header.numCols];
+            A.growMaxLength(nz_length, false);
+            A.indicesSorted = fillEntries(scanner, header, A.col_idx, A.nz_rows, A.nz_values, null);
+            A.nz_length = nz_length;
+            return A;
+        }
+    }
+
+    /**
+     * Reads a Matrix Market file into a {@link FMatrixSparseCSC}
+     */
+    public static FMatrixSparseCSC loadFSCC( String fileName ) throws IOException {
+        try (MappedTextScanner scanner = new MappedTextScanner(fileName)) {
+            Header header = readHeader(scanner);
+            FMatrixSparseCSC A = new FMatrixSparseCSC(header.numRows, header.numCols, 0);
+            readEntries(scanner, header, A.col_idx);
+            int nz_length = A.col_idx[header.numCols];
+            A.growMaxLength(nz_length, false);
+            A.indicesSorted = fillEntries(scanner, header, A.col_idx, A.nz_rows, null, A.nz_values);
+            A.nz_length = nz_length;
+            return A;
+        }
+    }
+
+    /**
+     * Description of the file which is read from its banner and size line
+     */
+    static class Header {
+        int numRows, numCols;
+        // number of lines with an entry
+        long numEntries;
+        Field field = Field.REAL;
+        Symmetry symmetry = Symmetry.GENERAL;
+        // value of the first row and column index
+        int indexBase = 1;
+        // location of the first entry in the file
+        long start;
+    }
+
+    /**
+     * Reads the banner, comments, and the size line. The scanner is left at the first entry
+     */
+    static Header readHeader( MappedTextScanner scanner ) throws IOException {
+        Header header = new Header();
+
+        if (scanner.peek() == '%') {
+            String banner = scanner.readLine();
+            if (banner.startsWith("%%")) {
+                parseBanner(banner, header);
+            }
+        }
+        skipComments(scanner);
+        if (scanner.isEndOfFile())
+            throw new IOException("Missing the size line");
+
+        header.numRows = scanner.parseInt();
+        header.numCols = scanner.parseInt();
+        header.numEntries = scanner.parseLong();
+        if (header.numRows < 0 || header.numCols < 0 || header.numEntries < 0)
+            throw new IOException("Invalid size line");
+        if (header.symmetry != Symmetry.GENERAL && header.numRows != header.numCols)
+            throw new IOException("Symmetric and skew-symmetric matrices must be square");
+        scanner.nextLine();
+        header.start = scanner.getPosition();
+        return header;
+    }
+
+    private static void parseBanner( String banner, Header header ) throws IOException {
+        String[] words = banner.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        if (words.length != 5 || !words[0].equals("%%matrixmarket"))
+            throw new IOException("Unexpected banner: " + banner);
+        if (!words[1].equals("matrix") || !words[2].equals("coordinate"))
+            throw new IOException("Only sparse coordinate matrices are supported: " + banner);
+
+        switch (words[3]) {
+            case "real":
+            case "double":
+                header.field = Field.REAL;
+                break;
+            case "integer":
+                header.field = Field.INTEGER;
+                break;
+            case "pattern":
+                header.field = Field.PATTERN;
+                break;
+            default:
+                throw new IOException("Unsupported field: " + words[3]);
+        }
+
+        switch (words[4]) {
+            case "general":
+                header.symmetry = Symmetry.GENERAL;
+                break;
+            case "symmetric":
+                header.symmetry = Symmetry.SYMMETRIC;
+                break;
+            case "skew-symmetric":
+                header.symmetry = Symmetry.SKEW_SYMMETRIC;
+                break;
+            default:
+                throw new IOException("Unsupported symmetry: " + words[4]);
+        }
+    }
+
+    private static void skipComments( MappedTextScanner scanner ) throws IOException {
+        while (!scanner.isEndOfFile() && (scanner.peek() == '%' || scanner.isEndOfLine())) {
+            scanner.nextLine();
+        }
+    }
+
+    /**
+     * First pass. Counts the number of elements in each column and converts the counts into col_idx
+     *
+     * @param col_idx (Output) Start of each column. Must have numCols+1 elements.
+     */
+    static void readEntries( MappedTextScanner scanner, Header header, int[] col_idx ) throws IOException {
+        scanner.setPosition(header.start);
+        boolean mirror = header.symmetry != Symmetry.GENERAL;
+
+        long found = 0;
+        while (true) {
+            skipComments(scanner);
+            if (scanner.isEndOfFile())
+                break;
+            int row = scanner.parseInt() - header.indexBase;
+            int col = scanner.parseInt() - header.indexBase;
+            checkBounds(header, row, col);
+            col_idx[col + 1]++;
+            if (mirror && row != col)
+                col_idx[row + 1]++;
+            found++;
+            scanner.nextLine();
+        }
+        if (found != header.numEntries)
+            throw new IOException("Expected " + header.numEntries + " entries but found " + found);
+
+        long total = 0;
+        for (int i = 1; i <= header.numCols; i++) {
+            total += col_idx[i];
+            if (total > Integer.MAX_VALUE)
+                throw new IOException("Too many non-zero elements for an array");
+            col_idx[i] = (int)total;
+        }
+    }
+
+    /**
+     * Second pass. Writes each element into its column. Only one of the two value arrays should be non-null.
+     *
+     * @return true if the row indexes in every column are sorted
+     */
+    static boolean fillEntries( MappedTextScanner scanner, Header header, int[] col_idx, int[] nz_rows,
+                                @Nullable double[] values64, @Nullable float[] values32 ) throws IOException {
+        scanner.setPosition(header.start);
+        boolean mirror = header.symmetry != Symmetry.GENERAL;
+        double mirrorSign = header.symmetry == Symmetry.SKEW_SYMMETRIC ? -1 : 1;
+
+        // next free location in each column
+        int[] cursor = new int[header.numCols];
+        System.arraycopy(col_idx, 0, cursor, 0, header.numCols);
+        boolean sorted = true;
+
+        while (true) {
+            skipComments(scanner);
+            if (scanner.isEndOfFile())
+                break;
+            int row = scanner.parseInt() - header.indexBase;
+            int col = scanner.parseInt() - header.indexBase;
+            checkBounds(header, row, col);
+
+            double value64 = 1;
+            float value32 = 1;
+            if (header.field == Field.INTEGER) {
+                long value = scanner.parseLong();
+                value64 = value;
+                value32 = value;
+            } else if (header.field == Field.REAL) {
+                if (values64 != null)
+                    value64 = scanner.parseDouble();
+                else
+                    value32 = scanner.parseFloat();
+            }
+
+            int index = cursor[col]++;
+            sorted &= index == col_idx[col] || nz_rows[index - 1] < row;
+            nz_rows[index] = row;
+            if (values64 != null)
+                values64[index] = value64;
+            else if (values32 != null)
+                values32[index] = value32;
+
+            if (mirror && row != col) {
+                index = cursor[row]++;
+                sorted &= index == col_idx[row] || nz_rows[index - 1] < col;
+                nz_rows[index] = col;
+                if (values64 != null)
+                    values64[index] = mirrorSign*value64;
+                else if (values32 != null)
+                    values32[index] = (float)mirrorSign*value32;
+            }
+            scanner.nextLine();
+        }
+        return sorted;
+    }
+
+    private static void checkBounds( Header header, int row, int col ) throws IOException {
+        if (row < 0 || row >= header.numRows || col < 0 || col >= header.numCols)
+            throw new IOException("Element out of bounds. row=" + row + " col=" + col);
+        if (header.symmetry != Symmetry.GENERAL && row < col)
+            throw new IOException("Symmetric matrices should only contain the lower triangle. row=" + row + " col=" + col);
+        if (header.symmetry == Symmetry.SKEW_SYMMETRIC && row == col)
+            throw new IOException("Skew-symmetric matrices can't have elements on the diagonal");
+    }
+}
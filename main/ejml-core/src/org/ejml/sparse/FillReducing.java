@@ -28,6 +28,15 @@ public enum FillReducing {
      * No fill reduction permutation will be applied
      */
     NONE,
+    /**
+     * Approximate Minimum Degree ordering of A+A<sup>T</sup>. The matrix must be square. Intended for Cholesky.
+     */
+    AMD,
+    /**
+     * Column Approximate Minimum Degree ordering. Only the columns are permuted and the ordering is computed from
+     * A<sup>T</sup>A with dense rows removed. Intended for LU and QR.
+     */
+    COLAMD,
     /**
      * TESTING ONLY. Completely random permutation
      */
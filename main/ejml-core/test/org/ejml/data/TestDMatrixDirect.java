@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.data;
+
+import org.ejml.UtilEjml;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.DoubleBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDMatrixDirect {
+
+    Random rand = new Random(234);
+
+    @Test
+    public void testGeneric() {
+        GenericTestsDMatrix g = new GenericTestsDMatrix() {
+            @Override
+            protected DMatrix createMatrix( int numRows, int numCols ) {
+                return new DMatrixDirect(numRows, numCols, 3);
+            }
+        };
+
+        g.allTests();
+    }
+
+    /**
+     * Elements should be split across several chunks
+     */
+    @Test
+    public void chunks() {
+        DMatrixDirect A = new DMatrixDirect(5, 7, 3);
+        assertEquals(3, A.getChunkBits());
+        assertEquals(5, A.buffers.length);
+        assertEquals(8, A.buffers[0].capacity());
+        assertEquals(3, A.buffers[4].capacity());
+
+        for (int i = 0; i < 35; i++) {
+            A.set(i, i);
+        }
+        for (int row = 0; row < 5; row++) {
+            for (int col = 0; col < 7; col++) {
+                assertEquals(row*7 + col, A.get(row, col));
+            }
+        }
+        assertEquals(17, A.buffers[2].get(1));
+    }
+
+    /**
+     * Bulk operations which cross several chunk boundaries
+     */
+    @Test
+    public void getElements_setElements() {
+        DMatrixDirect A = new DMatrixDirect(6, 5, 2);
+
+        double[] src = new double[20];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = rand.nextDouble();
+        }
+        A.setElements(3, src, 2, 15);
+        for (int i = 0; i < 15; i++) {
+            assertEquals(src[2 + i], A.get(3 + i));
+        }
+
+        double[] dst = new double[20];
+        A.getElements(3, dst, 5, 15);
+        for (int i = 0; i < 15; i++) {
+            assertEquals(src[2 + i], dst[5 + i]);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> A.getElements(20, dst, 0, 11));
+        assertThrows(IllegalArgumentException.class, () -> A.setElements(-1, src, 0, 2));
+    }
+
+    @Test
+    public void wrap() {
+        DoubleBuffer a = DoubleBuffer.allocate(4);
+        DoubleBuffer b = DoubleBuffer.allocate(4);
+        DoubleBuffer c = DoubleBuffer.allocate(2);
+
+        DMatrixDirect A = new DMatrixDirect(2, 5, a, b, c);
+        assertEquals(2, A.getChunkBits());
+        A.set(1, 1, 2.5);
+        assertEquals(2.5, b.get(2));
+
+        // Single buffer with an arbitrary size
+        A = new DMatrixDirect(2, 3, DoubleBuffer.allocate(7));
+        A.set(1, 2, 3.0);
+        assertEquals(3.0, A.buffers[0].get(5));
+
+        // Not a power of two
+        assertThrows(IllegalArgumentException.class, () ->
+                new DMatrixDirect(2, 5, DoubleBuffer.allocate(3), DoubleBuffer.allocate(7)));
+        // Too small
+        assertThrows(IllegalArgumentException.class, () ->
+                new DMatrixDirect(3, 5, DoubleBuffer.allocate(4), DoubleBuffer.allocate(4)));
+    }
+
+    @Test
+    public void reshape() {
+        DMatrixDirect A = new DMatrixDirect(4, 4, 3);
+        DoubleBuffer[] original = A.buffers;
+
+        // it's big enough, no new buffers
+        A.reshape(2, 8);
+        assertSame(original, A.buffers);
+        assertEquals(2, A.numRows);
+        assertEquals(8, A.numCols);
+
+        A.reshape(5, 5);
+        assertNotSame(original, A.buffers);
+        assertEquals(25, A.getNumElements());
+        A.set(4, 4, 1.0);
+        assertEquals(1.0, A.get(24));
+    }
+
+    /**
+     * Wrapped buffers can't be reallocated with the same chunk size, if it's too large
+     */
+    @Test
+    public void reshape_copy_wrapped() {
+        DMatrixDirect A = new DMatrixDirect(2, 2, DoubleBuffer.allocate(4));
+        A.set(1, 1, 2.0);
+
+        A.reshape(3, 3);
+        assertEquals(DMatrixDirect.DEFAULT_CHUNK_BITS, A.getChunkBits());
+        assertEquals(9, A.buffers[0].capacity());
+        A.set(2, 2, 1.5);
+        assertEquals(1.5, A.get(2, 2));
+
+        DMatrixDirect B = new DMatrixDirect(2, 3, DoubleBuffer.allocate(6));
+        B.set(1, 2, 3.0);
+        DMatrixDirect C = B.copy();
+        assertEquals(DMatrixDirect.DEFAULT_CHUNK_BITS, C.getChunkBits());
+        assertIdentical(B, C);
+        assertEquals(DMatrixDirect.DEFAULT_CHUNK_BITS, B.createLike().getChunkBits());
+        assertEquals(DMatrixDirect.DEFAULT_CHUNK_BITS, B.create(4, 4).getChunkBits());
+
+        // chunks this large can't be allocated
+        assertThrows(IllegalArgumentException.class, () -> new DMatrixDirect(2, 2, DMatrixDirect.DEFAULT_CHUNK_BITS + 1));
+    }
+
+    @Test
+    public void copy_set() {
+        DMatrixDirect A = random(4, 6, 3);
+
+        DMatrixDirect B = A.copy();
+        assertNotSame(A.buffers[0], B.buffers[0]);
+        assertIdentical(A, B);
+
+        DMatrixDirect C = new DMatrixDirect(1, 1);
+        C.set((Matrix)A);
+        assertIdentical(A, C);
+
+        DMatrixRMaj D = new DMatrixRMaj(4, 6);
+        for (int i = 0; i < D.data.length; i++) {
+            D.data[i] = rand.nextDouble();
+        }
+        C.set(D);
+        assertEquals(4, C.numRows);
+        assertEquals(6, C.numCols);
+        for (int i = 0; i < D.data.length; i++) {
+            assertEquals(D.data[i], C.get(i));
+        }
+    }
+
+    @Test
+    public void fill_zero() {
+        DMatrixDirect A = random(3, 5, 2);
+        A.fill(2.0);
+        for (int i = 0; i < 15; i++) {
+            assertEquals(2.0, A.get(i));
+        }
+        A.zero();
+        for (int i = 0; i < 15; i++) {
+            assertEquals(0.0, A.get(i));
+        }
+    }
+
+    @Test
+    public void createLike() {
+        DMatrixDirect A = new DMatrixDirect(3, 4, 5);
+        DMatrixDirect B = A.createLike();
+        assertEquals(3, B.numRows);
+        assertEquals(4, B.numCols);
+        assertEquals(5, B.getChunkBits());
+
+        B = A.create(7, 2);
+        assertEquals(7, B.numRows);
+        assertEquals(2, B.numCols);
+        assertEquals(5, B.getChunkBits());
+    }
+
+    @Test
+    public void serialize() throws Exception {
+        DMatrixDirect A = random(4, 3, 2);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(A);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            DMatrixDirect found = (DMatrixDirect)in.readObject();
+            assertEquals(2, found.getChunkBits());
+            assertIdentical(A, found);
+        }
+    }
+
+    private DMatrixDirect random( int numRows, int numCols, int chunkBits ) {
+        DMatrixDirect A = new DMatrixDirect(numRows, numCols, chunkBits);
+        for (long i = 0; i < A.getNumElementsLong(); i++) {
+            A.set(i, rand.nextDouble());
+        }
+        return A;
+    }
+
+    private static void assertIdentical( DMatrixDirect A, DMatrixDirect B ) {
+        assertEquals(A.numRows, B.numRows);
+        assertEquals(A.numCols, B.numCols);
+        for (long i = 0; i < A.getNumElementsLong(); i++) {
+            assertEquals(A.get(i), B.get(i), UtilEjml.TEST_F64);
+        }
+    }
+}
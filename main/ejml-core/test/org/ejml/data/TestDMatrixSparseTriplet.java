@@ -21,8 +21,9 @@ package org.ejml.data;
 import org.ejml.UtilEjml;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Peter Abeles
@@ -78,6 +79,80 @@ public class TestDMatrixSparseTriplet extends GenericTestsDMatrixSparse {
         check(m, m.nz_index(1, 2), 1, 2, 5);
     }
 
+    /**
+     * Compare lookups with the hash index against the linear search while elements are added and removed
+     */
+    @Test
+    void hashIndex() {
+        Random rand = new Random(234);
+        DMatrixSparseTriplet expected = new DMatrixSparseTriplet(20, 30, 5);
+        DMatrixSparseTriplet found = new DMatrixSparseTriplet(20, 30, 5);
+        found.setHashIndex(true);
+        assertTrue(found.isHashIndex());
+
+        for (int trial = 0; trial < 500; trial++) {
+            int row = rand.nextInt(20);
+            int col = rand.nextInt(30);
+            double value = rand.nextDouble();
+            switch (rand.nextInt(4)) {
+                case 0:
+                    expected.addItem(row, col, value);
+                    found.addItem(row, col, value);
+                    break;
+                case 1:
+                    expected.set(row, col, value);
+                    found.set(row, col, value);
+                    break;
+                case 2:
+                    expected.remove(row, col);
+                    found.remove(row, col);
+                    break;
+                default:
+                    expected.addItemCheck(row, col, value);
+                    found.addItemCheck(row, col, value);
+            }
+            assertEquals(expected.nz_length, found.nz_length);
+            for (int i = 0; i < 10; i++) {
+                row = rand.nextInt(20);
+                col = rand.nextInt(30);
+                assertEquals(expected.nz_index(row, col), found.nz_index(row, col));
+                assertEquals(expected.get(row, col), found.get(row, col));
+            }
+        }
+
+        // the index should be carried over in a copy
+        DMatrixSparseTriplet copy = found.copy();
+        assertTrue(copy.isHashIndex());
+        assertEquals(expected.get(3, 4), copy.get(3, 4));
+
+        found.zero();
+        assertEquals(-1, found.nz_index(3, 4));
+        found.addItem(3, 4, 2.0);
+        assertEquals(2.0, found.get(3, 4));
+
+        found.setHashIndex(false);
+        assertFalse(found.isHashIndex());
+        assertEquals(2.0, found.get(3, 4));
+    }
+
+    /**
+     * Elements which are written directly to the arrays should be indexed on the next lookup
+     */
+    @Test
+    void hashIndex_directWrite() {
+        DMatrixSparseTriplet m = new DMatrixSparseTriplet(5, 5, 10);
+        m.setHashIndex(true);
+        m.addItem(1, 2, 3);
+        m.nz_rowcol.data[2] = 4;
+        m.nz_rowcol.data[3] = 0;
+        m.nz_value.data[1] = 7;
+        m.nz_length = 2;
+
+        assertEquals(7, m.get(4, 0));
+        assertEquals(3, m.get(1, 2));
+        assertFalse(m.isAssigned(0, 4));
+    }
+
     @Override
     public DMatrixSparse createSparse( int numRows, int numCols ) {
         return new DMatrixSparseTriplet(numRows, numCols, 10);
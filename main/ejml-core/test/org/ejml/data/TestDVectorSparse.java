@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDVectorSparse {
+    Random rand = new Random(234);
+
+    @Test
+    void set_get() {
+        DVectorSparse v = new DVectorSparse(10);
+
+        v.set(4, 2.0);
+        v.set(1, 3.0);
+        v.set(4, 5.0);
+
+        assertEquals(2, v.nz_length);
+        assertEquals(5.0, v.get(4));
+        assertEquals(3.0, v.get(1));
+        assertEquals(0.0, v.get(2));
+        assertEquals(-1.0, v.get(2, -1.0));
+        assertTrue(v.isAssigned(1));
+        assertFalse(v.isAssigned(2));
+
+        assertThrows(IllegalArgumentException.class, () -> v.set(10, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> v.get(-1));
+    }
+
+    /**
+     * If already sorted then set() should keep it sorted
+     */
+    @Test
+    void set_sorted() {
+        DVectorSparse v = new DVectorSparse(20);
+        v.indicesSorted = true;
+
+        for (int i = 0; i < 30; i++) {
+            v.set(rand.nextInt(20), rand.nextDouble());
+            checkSorted(v);
+        }
+    }
+
+    @Test
+    void remove() {
+        DVectorSparse v = new DVectorSparse(10);
+        v.set(1, 1.0);
+        v.set(5, 2.0);
+        v.set(3, 3.0);
+
+        v.remove(5);
+        assertEquals(2, v.nz_length);
+        assertFalse(v.isAssigned(5));
+        assertEquals(1.0, v.get(1));
+        assertEquals(3.0, v.get(3));
+
+        // removing an element which isn't there does nothing
+        v.remove(7);
+        assertEquals(2, v.nz_length);
+    }
+
+    @Test
+    void sortIndices() {
+        DVectorSparse v = new DVectorSparse(50);
+        for (int i = 0; i < 20; i++) {
+            v.set(rand.nextInt(50), rand.nextDouble());
+        }
+        DVectorSparse original = v.copy();
+
+        v.sortIndices(null);
+        assertTrue(v.indicesSorted);
+        checkSorted(v);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(original.get(i), v.get(i));
+        }
+    }
+
+    @Test
+    void copy_setTo() {
+        DVectorSparse v = new DVectorSparse(10);
+        v.set(2, 1.0);
+        v.set(7, 2.0);
+
+        DVectorSparse c = v.copy();
+        assertEquals(v.size, c.size);
+        assertEquals(v.nz_length, c.nz_length);
+        assertEquals(2.0, c.get(7));
+
+        // should be a deep copy
+        c.set(2, 5.0);
+        assertEquals(1.0, v.get(2));
+    }
+
+    @Test
+    void reshape() {
+        DVectorSparse v = new DVectorSparse(10, 2);
+        v.set(2, 1.0);
+        v.reshape(20, 5);
+        assertEquals(20, v.size);
+        assertEquals(0, v.nz_length);
+        assertTrue(v.nz_values.length >= 5);
+        assertEquals(v.nz_values.length, v.nz_indices.length);
+    }
+
+    @Test
+    void toDense() {
+        DVectorSparse v = new DVectorSparse(5);
+        v.set(1, 2.0);
+        v.set(3, 4.0);
+
+        double[] found = new double[6];
+        v.toDense(found, -1);
+        double[] expected = new double[]{-1, 2, -1, 4, -1, 0};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], found[i]);
+        }
+    }
+
+    private static void checkSorted( DVectorSparse v ) {
+        for (int i = 1; i < v.nz_length; i++) {
+            assertTrue(v.nz_indices[i - 1] < v.nz_indices[i]);
+        }
+    }
+}
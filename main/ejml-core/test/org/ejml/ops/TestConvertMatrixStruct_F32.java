@@ -88,7 +88,7 @@ public class TestConvertMatrixStruct_F32 {
             numFound++;
         }
 
-        assertEquals(5+5,numFound);
+        assertEquals(8+8,numFound);
     }
 
     @Test
@@ -126,7 +126,7 @@ public class TestConvertMatrixStruct_F32 {
             numFound++;
         }
 
-        assertEquals(5+5,numFound);
+        assertEquals(8+8,numFound);
     }
 
     @Test
@@ -27,6 +27,7 @@ import org.ejml.dense.row.RandomMatrices_DDRM;
 import org.ejml.sparse.csc.CommonOps_DSCC;
 import org.ejml.sparse.csc.MatrixFeatures_DSCC;
 import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csr.CommonOps_DSCR;
 import org.ejml.sparse.triplet.MatrixFeatures_DSTL;
 import org.ejml.sparse.triplet.RandomMatrices_DSTL;
 import org.jetbrains.annotations.Nullable;
@@ -92,7 +93,7 @@ public class TestDConvertMatrixStruct {
             numFound++;
         }
 
-        assertEquals(5+5,numFound);
+        assertEquals(8+8,numFound);
     }
 
     @Test
@@ -130,7 +131,7 @@ public class TestDConvertMatrixStruct {
             numFound++;
         }
 
-        assertEquals(5+5,numFound);
+        assertEquals(8+8,numFound);
     }
 
     @Test
@@ -346,4 +347,56 @@ public class TestDConvertMatrixStruct {
         assertTrue(MatrixFeatures_DSTL.isEquals(a,c, UtilEjml.TEST_F64));
     }
 
+    @Test
+    public void SMatrixCSR_DMatrixRow() {
+        DMatrixSparseCSR a = DConvertMatrixStruct.convert(RandomMatrices_DSTL.uniform(5,6,10,-1,1,rand),(DMatrixSparseCSR)null);
+
+        DMatrixRMaj b = DConvertMatrixStruct.convert(a,(DMatrixRMaj)null);
+        assertEquals(a.numRows, b.numRows);
+        assertEquals(a.numCols, b.numCols);
+        assertEquals(a.nz_length, MatrixFeatures_DDRM.countNonZero(b));
+        EjmlUnitTests.assertEquals(a, b);
+
+        // now try it the other direction
+        DMatrixSparseCSR c = DConvertMatrixStruct.convert(b,new DMatrixSparseCSR(1,1,1), UtilEjml.EPS);
+        assertTrue(CommonOps_DSCR.checkStructure(c));
+        assertTrue(CommonOps_DSCR.checkIndicesSorted(c));
+        EjmlUnitTests.assertEquals(c, b);
+    }
+
+    @Test
+    public void SMatrixCC_SMatrixCSR() {
+        DMatrixSparseCSC a = RandomMatrices_DSCC.rectangle(5,6,10,-1,1,rand);
+
+        DMatrixSparseCSR b = DConvertMatrixStruct.convert(a,new DMatrixSparseCSR(1,1,1));
+        assertEquals(a.nz_length, b.nz_length);
+        assertTrue(CommonOps_DSCR.checkStructure(b));
+        assertTrue(b.indicesSorted);
+        EjmlUnitTests.assertEquals(a, b);
+
+        // now try it the other direction
+        DMatrixSparseCSC c = DConvertMatrixStruct.convert(b,(DMatrixSparseCSC)null);
+        assertTrue(CommonOps_DSCC.checkStructure(c));
+        assertTrue(c.indicesSorted);
+        assertTrue(MatrixFeatures_DSCC.isEqualsSort(a,c, UtilEjml.TEST_F64));
+    }
+
+    @Test
+    public void SMatrixTriplet_SMatrixCSR() {
+        DMatrixSparseTriplet a = RandomMatrices_DSTL.uniform(5,6,10,-1,1,rand);
+
+        DMatrixSparseCSR b = DConvertMatrixStruct.convert(a,(DMatrixSparseCSR)null);
+        assertEquals(a.nz_length, b.nz_length);
+        assertTrue(CommonOps_DSCR.checkStructure(b));
+        for (int i = 0; i < a.nz_length; i++) {
+            int row = a.nz_rowcol.data[i*2];
+            int col = a.nz_rowcol.data[i*2+1];
+
+            assertEquals(a.nz_value.data[i], b.get(row, col), UtilEjml.TEST_F64);
+        }
+
+        // now try it the other direction
+        DMatrixSparseTriplet c = DConvertMatrixStruct.convert(b,(DMatrixSparseTriplet)null);
+        assertTrue(MatrixFeatures_DSTL.isEquals(a,c, UtilEjml.TEST_F64));
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.ops;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMappedTextScanner {
+
+    File file = new File("temp.txt");
+
+    @AfterEach
+    public void deleteFile() {
+        file.delete();
+    }
+
+    @Test
+    public void parseInt_parseLong() throws IOException {
+        write("12 -5,+7\t1234567890123 1234567890123\n  42 abc 1.5");
+        try (MappedTextScanner scanner = new MappedTextScanner(file.getPath())) {
+            assertEquals(12, scanner.parseInt());
+            assertEquals(-5, scanner.parseInt());
+            assertEquals(7, scanner.parseInt());
+            assertThrows(IOException.class, scanner::parseInt);
+            assertEquals(1234567890123L, scanner.parseLong());
+            assertTrue(scanner.isEndOfLine());
+            scanner.nextLine();
+            assertEquals(42, scanner.parseInt());
+            assertThrows(IOException.class, scanner::parseInt);
+            assertThrows(IOException.class, scanner::parseInt);
+        }
+    }
+
+    /**
+     * Compare against Double.parseDouble for numbers which go through the fast and slow paths
+     */
+    @Test
+    public void parseDouble() throws IOException {
+        String[] words = {"0", "-0", "1", "-1.5", "+2.25", "3.", ".5", "1e10", "1.234E-5", "-6.02214076e23",
+                "0.1", "0.3", "123456789012345", "1234567890123456789", "1.7976931348623157E308", "4.9e-324",
+                "2.2250738585072014E-308", "9007199254740993", "0.000000000000000000000000001", "1e-22", "1e22",
+                "1e23", "NaN", "Infinity", "-Infinity", "00012.5000"};
+        StringBuilder text = new StringBuilder();
+        for (String w : words) {
+            text.append(w).append(' ');
+        }
+        write(text.toString());
+
+        try (MappedTextScanner scanner = new MappedTextScanner(file.getPath())) {
+            for (String w : words) {
+                double expected = Double.parseDouble(w);
+                double found = scanner.parseDouble();
+                assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(found), w);
+            }
+        }
+    }
+
+    @Test
+    public void parseDouble_random() throws IOException {
+        Random rand = new Random(234);
+        double[] values = new double[2000];
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (rand.nextDouble() - 0.5)*Math.pow(10, rand.nextInt(40) - 20);
+            String format = i%3 == 0 ? "%.6e" : i%3 == 1 ? "%.17g" : "%s";
+            text.append(String.format(format, values[i])).append('\n');
+        }
+        write(text.toString());
+
+        try (MappedTextScanner scanner = new MappedTextScanner(file.getPath())) {
+            for (String w : text.toString().split("\n")) {
+                assertEquals(Double.parseDouble(w), scanner.parseDouble(), 0.0, w);
+                scanner.nextLine();
+            }
+            assertTrue(scanner.isEndOfFile());
+        }
+    }
+
+    @Test
+    public void parseFloat() throws IOException {
+        String[] words = {"0", "-1.5", "0.1", "3.14159", "16777217", "1.23456789", "1e-3", "-2.5E+7", "0.0000000001",
+                "1234567.8"};
+        write(String.join(",", words));
+        try (MappedTextScanner scanner = new MappedTextScanner(file.getPath())) {
+            for (String w : words) {
+                assertEquals(Float.parseFloat(w), scanner.parseFloat(), 0.0f, w);
+            }
+        }
+    }
+
+    @Test
+    public void parseDouble_invalid() throws IOException {
+        write("1.2.3 - e5");
+        try (MappedTextScanner scanner = new MappedTextScanner(file.getPath())) {
+            assertThrows(IOException.class, scanner::parseDouble);
+            assertThrows(IOException.class, scanner::parseDouble);
+            assertThrows(IOException.class, scanner::parseDouble);
+        }
+    }
+
+    @Test
+    public void words_lines() throws IOException {
+        write("%%Banner  line \r\nfoo bar\n\nlast");
+        try (MappedTextScanner scanner = new MappedTextScanner(file.getPath())) {
+            assertEquals('%', scanner.peek());
+            assertEquals("%%Banner  line ", scanner.readLine());
+            assertEquals("foo", scanner.nextWord());
+            assertEquals("bar", scanner.nextWord());
+            assertNull(scanner.nextWord());
+            scanner.nextLine();
+            assertTrue(scanner.isEndOfLine());
+            scanner.skipWhitespace();
+            long position = scanner.getPosition();
+            assertEquals("last", scanner.nextWord());
+            assertTrue(scanner.isEndOfFile());
+            scanner.setPosition(position);
+            assertEquals('l', scanner.read());
+        }
+    }
+
+    private void write( String text ) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(text.getBytes(US_ASCII));
+        }
+    }
+}
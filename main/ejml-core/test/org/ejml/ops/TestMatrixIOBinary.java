@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.ops;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.*;
+import org.ejml.dense.block.MatrixOps_DDRB;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.MatrixFeatures_FDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.RandomMatrices_FDRM;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.MatrixFeatures_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMatrixIOBinary {
+
+    Random rand = new Random(234);
+
+    File file = new File("temp.ejml");
+
+    @AfterEach
+    public void deleteFile() {
+        file.delete();
+    }
+
+    @Test
+    public void DDRM() throws IOException {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(10, 7, rand);
+        MatrixIOBinary.save(A, file.getPath());
+
+        MatrixIOBinary.Header header = MatrixIOBinary.readHeader(file.getPath());
+        assertEquals(MatrixIOBinary.TYPE_DDRM, header.type);
+        assertEquals(10, header.numRows);
+        assertEquals(7, header.numCols);
+        assertEquals(70, header.length);
+        assertEquals(MatrixIOBinary.HEADER_SIZE + 70*8, file.length());
+
+        DMatrixRMaj found = MatrixIOBinary.load(file.getPath());
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, found, 0.0));
+    }
+
+    @Test
+    public void FDRM() throws IOException {
+        FMatrixRMaj A = RandomMatrices_FDRM.rectangle(4, 9, rand);
+        MatrixIOBinary.save(A, file.getPath());
+        assertEquals(MatrixIOBinary.HEADER_SIZE + 36*4, file.length());
+
+        FMatrixRMaj found = MatrixIOBinary.load(file.getPath());
+        assertTrue(MatrixFeatures_FDRM.isIdentical(A, found, 0.0f));
+    }
+
+    @Test
+    public void DDRB() throws IOException {
+        DMatrixRBlock A = MatrixOps_DDRB.createRandom(11, 8, -1, 1, rand, 3);
+        MatrixIOBinary.save(A, file.getPath());
+
+        DMatrixRBlock found = MatrixIOBinary.load(file.getPath());
+        assertEquals(3, found.blockLength);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, found, 0.0));
+    }
+
+    @Test
+    public void DSCC() throws IOException {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(20, 15, 60, rand);
+        MatrixIOBinary.save(A, file.getPath());
+
+        MatrixIOBinary.Header header = MatrixIOBinary.readHeader(file.getPath());
+        assertEquals(MatrixIOBinary.TYPE_DSCC, header.type);
+        assertEquals(60, header.length);
+        assertEquals(0, header.offsetValues()%8);
+
+        DMatrixSparseCSC found = MatrixIOBinary.load(file.getPath());
+        assertEquals(A.indicesSorted, found.indicesSorted);
+        assertTrue(MatrixFeatures_DSCC.isEquals(A, found, 0.0));
+    }
+
+    /**
+     * Read in a range of columns without loading the other columns
+     */
+    @Test
+    public void readColumns() throws IOException {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(20, 15, 60, rand);
+        A.sortIndices(null);
+        MatrixIOBinary.save(A, file.getPath());
+
+        DMatrixSparseCSC expected = new DMatrixSparseCSC(20, 6);
+        CommonOps_DSCC.extract(A, 0, 20, 4, 10, expected, 0, 0);
+
+        DMatrixSparseCSC found = MatrixIOBinary.readColumns(file.getPath(), 4, 10, null);
+        assertEquals(20, found.numRows);
+        assertEquals(6, found.numCols);
+        assertTrue(MatrixFeatures_DSCC.isEqualsSort(expected, found, 0.0));
+
+        // empty range
+        found = MatrixIOBinary.readColumns(file.getPath(), 3, 3, found);
+        assertEquals(0, found.numCols);
+        assertEquals(0, found.nz_length);
+
+        assertThrows(IllegalArgumentException.class, () -> MatrixIOBinary.readColumns(file.getPath(), 4, 16, null));
+    }
+
+    @Test
+    public void mapDirect() throws IOException {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(10, 7, rand);
+        MatrixIOBinary.save(A, file.getPath());
+
+        DMatrixDirect found = MatrixIOBinary.mapDirect(file.getPath(), false);
+        assertEquals(10, found.numRows);
+        assertEquals(7, found.numCols);
+        assertTrue(MatrixFeatures_D.isIdentical(A, found, 0.0));
+        assertThrows(ReadOnlyBufferException.class, () -> found.set(2, 3, 1.0));
+
+        // Changes should be saved to the file
+        DMatrixDirect writable = MatrixIOBinary.mapDirect(file.getPath(), true);
+        writable.set(2, 3, 1.5);
+        DMatrixRMaj loaded = MatrixIOBinary.load(file.getPath());
+        assertEquals(1.5, loaded.get(2, 3));
+
+        // wrong type
+        MatrixIOBinary.save(RandomMatrices_FDRM.rectangle(4, 9, rand), file.getPath());
+        assertThrows(IllegalArgumentException.class, () -> MatrixIOBinary.mapDirect(file.getPath(), false));
+        FMatrixDirect foundF = MatrixIOBinary.mapDirectF(file.getPath(), false);
+        assertEquals(36, foundF.getNumElements());
+    }
+
+    @Test
+    public void saveDirect() throws IOException {
+        DMatrixDirect A = new DMatrixDirect(5, 9, 3);
+        for (long i = 0; i < A.getNumElementsLong(); i++) {
+            A.set(i, rand.nextDouble());
+        }
+        MatrixIOBinary.save(A, file.getPath());
+
+        DMatrixRMaj found = MatrixIOBinary.load(file.getPath());
+        assertTrue(MatrixFeatures_D.isIdentical(found, A, 0.0));
+    }
+
+    @Test
+    public void notMatrixFile() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.write(new byte[MatrixIOBinary.HEADER_SIZE + 8]);
+        }
+        assertThrows(IOException.class, () -> MatrixIOBinary.load(file.getPath()));
+    }
+
+    /**
+     * Make sure it's saved in little endian
+     */
+    @Test
+    public void littleEndian() throws IOException {
+        DMatrixRMaj A = new DMatrixRMaj(1, 1);
+        A.data[0] = UtilEjml.EPS;
+        MatrixIOBinary.save(A, file.getPath());
+
+        byte[] bytes = new byte[MatrixIOBinary.HEADER_SIZE + 8];
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.readFully(bytes);
+        }
+        assertEquals('E', bytes[0]);
+        assertEquals('J', bytes[1]);
+        assertEquals('M', bytes[2]);
+        assertEquals('L', bytes[3]);
+        long bits = 0;
+        for (int i = 7; i >= 0; i--) {
+            bits = (bits << 8) | (bytes[MatrixIOBinary.HEADER_SIZE + i] & 0xFF);
+        }
+        assertEquals(UtilEjml.EPS, Double.longBitsToDouble(bits));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.ops;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.*;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.sparse.csc.MatrixFeatures_DSCC;
+import org.ejml.sparse.triplet.RandomMatrices_DSTL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestReadMatrixCsvMapped {
+
+    Random rand = new Random(234);
+
+    File file = new File("temp.csv");
+
+    @AfterEach
+    public void deleteFile() {
+        file.delete();
+    }
+
+    @Test
+    public void dense() throws IOException {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(8, 5, rand);
+        MatrixIO.saveDenseCSV(A, file.getPath());
+
+        DMatrixRMaj expected = MatrixIO.loadCSV(file.getPath(), true);
+        DMatrixRMaj found = ReadMatrixCsvMapped.loadDDRM(file.getPath());
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, found, 0.0));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, 0.0));
+
+        FMatrixRMaj foundF = ReadMatrixCsvMapped.loadFDRM(file.getPath());
+        for (int i = 0; i < A.getNumElements(); i++) {
+            assertEquals((float)A.data[i], foundF.data[i], UtilEjml.TEST_F32);
+        }
+
+        // wrong type of matrix
+        assertThrows(IOException.class, () -> ReadMatrixCsvMapped.loadDSCC(file.getPath()));
+    }
+
+    @Test
+    public void sparse() throws IOException {
+        DMatrixSparseTriplet A = RandomMatrices_DSTL.uniform(20, 15, 40, -1, 1, rand);
+        MatrixIO.saveSparseCSV(A, file.getPath());
+
+        DMatrixSparseCSC expected = DConvertMatrixStruct.convert(A, (DMatrixSparseCSC)null);
+        DMatrixSparseCSC found = ReadMatrixCsvMapped.loadDSCC(file.getPath());
+        assertTrue(MatrixFeatures_DSCC.isEqualsSort(expected, found, 0.0));
+
+        FMatrixSparseCSC foundF = ReadMatrixCsvMapped.loadFSCC(file.getPath());
+        assertEquals(found.nz_length, foundF.nz_length);
+
+        assertThrows(IOException.class, () -> ReadMatrixCsvMapped.loadDDRM(file.getPath()));
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.ops;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
+import org.ejml.data.FMatrixSparseCSC;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.MatrixFeatures_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestReadMatrixMarket {
+
+    Random rand = new Random(234);
+
+    File file = new File("temp.mtx");
+
+    @AfterEach
+    public void deleteFile() {
+        file.delete();
+    }
+
+    /**
+     * Files written by MatrixIO don't have a banner
+     */
+    @Test
+    public void compareToMatrixIO() throws IOException {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(30, 20, 100, rand);
+        try (Writer writer = new FileWriter(file)) {
+            MatrixIO.saveMatrixMarketD(A, "%.17g", writer);
+        }
+
+        DMatrixSparseCSC found = ReadMatrixMarket.loadDSCC(file.getPath());
+        assertTrue(found.indicesSorted);
+        assertTrue(CommonOps_DSCC.checkStructure(found));
+
+        DMatrixSparseTriplet triplet;
+        try (Reader reader = new FileReader(file)) {
+            triplet = MatrixIO.loadMatrixMarketD(reader);
+        }
+        DMatrixSparseCSC expected = DConvertMatrixStruct.convert(triplet, (DMatrixSparseCSC)null);
+        assertTrue(MatrixFeatures_DSCC.isEqualsSort(expected, found, 0.0));
+
+        FMatrixSparseCSC foundF = ReadMatrixMarket.loadFSCC(file.getPath());
+        assertEquals(found.nz_length, foundF.nz_length);
+        for (int i = 0; i < found.nz_length; i++) {
+            assertEquals(found.nz_rows[i], foundF.nz_rows[i]);
+            assertEquals((float)found.nz_values[i], foundF.nz_values[i], UtilEjml.TEST_F32);
+        }
+    }
+
+    @Test
+    public void general() throws IOException {
+        write("%%MatrixMarket matrix coordinate real general\n" +
+                "% a comment\n" +
+                "%\n" +
+                "3 4 4\n" +
+                "1 1 1.5\n" +
+                "3 1 -2\n" +
+                "2 4 3.25e2\n" +
+                "1 2 7\n");
+
+        DMatrixSparseCSC found = ReadMatrixMarket.loadDSCC(file.getPath());
+        DMatrixRMaj expected = new DMatrixRMaj(new double[][]{{1.5, 7, 0, 0}, {0, 0, 0, 325}, {-2, 0, 0, 0}});
+        assertDense(expected, found);
+        assertTrue(found.indicesSorted);
+    }
+
+    @Test
+    public void symmetric() throws IOException {
+        write("%%MatrixMarket matrix coordinate real symmetric\n" +
+                "3 3 4\n" +
+                "1 1 1\n" +
+                "3 1 2\n" +
+                "2 2 3\n" +
+                "3 2 4\n");
+
+        DMatrixSparseCSC found = ReadMatrixMarket.loadDSCC(file.getPath());
+        assertEquals(6, found.nz_length);
+        assertDense(new DMatrixRMaj(new double[][]{{1, 0, 2}, {0, 3, 4}, {2, 4, 0}}), found);
+        assertTrue(CommonOps_DSCC.checkStructure(found));
+    }
+
+    @Test
+    public void skewSymmetric() throws IOException {
+        write("%%MatrixMarket matrix coordinate real skew-symmetric\n" +
+                "3 3 2\n" +
+                "2 1 1.5\n" +
+                "3 2 -2\n");
+
+        DMatrixSparseCSC found = ReadMatrixMarket.loadDSCC(file.getPath());
+        assertDense(new DMatrixRMaj(new double[][]{{0, -1.5, 0}, {1.5, 0, 2}, {0, -2, 0}}), found);
+    }
+
+    @Test
+    public void pattern() throws IOException {
+        write("%%MatrixMarket matrix coordinate pattern symmetric\n" +
+                "2 2 2\n" +
+                "1 1\n" +
+                "2 1\n");
+
+        DMatrixSparseCSC found = ReadMatrixMarket.loadDSCC(file.getPath());
+        assertDense(new DMatrixRMaj(new double[][]{{1, 1}, {1, 0}}), found);
+    }
+
+    @Test
+    public void integer() throws IOException {
+        write("%%MatrixMarket matrix coordinate integer general\n" +
+                "2 3 2\n" +
+                "1 3 -12\n" +
+                "2 1 9007199254740993\n");
+
+        DMatrixSparseCSC found = ReadMatrixMarket.loadDSCC(file.getPath());
+        assertEquals(-12, found.get(0, 2));
+        assertEquals(9007199254740993.0, found.get(1, 0));
+
+        FMatrixSparseCSC foundF = ReadMatrixMarket.loadFSCC(file.getPath());
+        assertEquals(-12f, foundF.get(0, 2));
+    }
+
+    /**
+     * Unsorted input should be detected
+     */
+    @Test
+    public void unsorted() throws IOException {
+        write("3 3 3\n" +
+                "3 1 1\n" +
+                "1 1 2\n" +
+                "2 2 3\n");
+
+        DMatrixSparseCSC found = ReadMatrixMarket.loadDSCC(file.getPath());
+        assertFalse(found.indicesSorted);
+        assertDense(new DMatrixRMaj(new double[][]{{2, 0, 0}, {0, 3, 0}, {1, 0, 0}}), found);
+    }
+
+    @Test
+    public void invalid() throws IOException {
+        write("%%MatrixMarket matrix array real general\n2 2\n1\n2\n3\n4\n");
+        assertThrows(IOException.class, () -> ReadMatrixMarket.loadDSCC(file.getPath()));
+
+        write("%%MatrixMarket matrix coordinate complex general\n1 1 1\n1 1 1 2\n");
+        assertThrows(IOException.class, () -> ReadMatrixMarket.loadDSCC(file.getPath()));
+
+        // wrong number of entries
+        write("2 2 3\n1 1 1\n2 2 1\n");
+        assertThrows(IOException.class, () -> ReadMatrixMarket.loadDSCC(file.getPath()));
+
+        // out of bounds
+        write("2 2 1\n3 1 1\n");
+        assertThrows(IOException.class, () -> ReadMatrixMarket.loadDSCC(file.getPath()));
+
+        // upper triangle in a symmetric matrix
+        write("%%MatrixMarket matrix coordinate real symmetric\n2 2 1\n1 2 1\n");
+        assertThrows(IOException.class, () -> ReadMatrixMarket.loadDSCC(file.getPath()));
+
+        // symmetric matrices must be square
+        write("%%MatrixMarket matrix coordinate real symmetric\n3 2 1\n3 1 1\n");
+        assertThrows(IOException.class, () -> ReadMatrixMarket.loadDSCC(file.getPath()));
+        write("%%MatrixMarket matrix coordinate real skew-symmetric\n2 3 1\n2 1 1\n");
+        assertThrows(IOException.class, () -> ReadMatrixMarket.loadDSCC(file.getPath()));
+    }
+
+    private static void assertDense( DMatrixRMaj expected, DMatrixSparseCSC found ) {
+        assertEquals(expected.numRows, found.numRows);
+        assertEquals(expected.numCols, found.numCols);
+        for (int row = 0; row < expected.numRows; row++) {
+            for (int col = 0; col < expected.numCols; col++) {
+                assertEquals(expected.get(row, col), found.get(row, col), UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    private void write( String text ) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(text.getBytes(US_ASCII));
+        }
+    }
+}
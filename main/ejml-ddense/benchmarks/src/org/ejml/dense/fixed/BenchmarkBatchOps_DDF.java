@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.data.*;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the batch operations against calling CommonOps_DDF on an array of fixed sized matrices
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkBatchOps_DDF {
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"AOS", "SOA"})
+    public BatchLayout layout;
+
+    DMatrix3x3[] A3, B3, C3;
+    DMatrix6x6[] A6, B6, C6;
+
+    DMatrixBatch batchA3, batchB3, batchC3;
+    DMatrixBatch batchA6, batchB6, batchC6;
+
+    @Setup
+    public void setup() {
+        Random rand = new Random(234);
+
+        A3 = new DMatrix3x3[size];
+        B3 = new DMatrix3x3[size];
+        C3 = new DMatrix3x3[size];
+        A6 = new DMatrix6x6[size];
+        B6 = new DMatrix6x6[size];
+        C6 = new DMatrix6x6[size];
+
+        batchA3 = new DMatrixBatch(3, 3, size, layout);
+        batchB3 = new DMatrixBatch(3, 3, size, layout);
+        batchC3 = new DMatrixBatch(3, 3, size, layout);
+        batchA6 = new DMatrixBatch(6, 6, size, layout);
+        batchB6 = new DMatrixBatch(6, 6, size, layout);
+        batchC6 = new DMatrixBatch(6, 6, size, layout);
+
+        for (int k = 0; k < size; k++) {
+            A3[k] = new DMatrix3x3();
+            B3[k] = new DMatrix3x3();
+            C3[k] = new DMatrix3x3();
+            A6[k] = new DMatrix6x6();
+            B6[k] = new DMatrix6x6();
+            C6[k] = new DMatrix6x6();
+
+            DMatrixRMaj a3 = RandomMatrices_DDRM.symmetricPosDef(3, rand);
+            DMatrixRMaj b3 = RandomMatrices_DDRM.rectangle(3, 3, -1, 1, rand);
+            DMatrixRMaj a6 = RandomMatrices_DDRM.symmetricPosDef(6, rand);
+            DMatrixRMaj b6 = RandomMatrices_DDRM.rectangle(6, 6, -1, 1, rand);
+
+            batchA3.set(k, a3);
+            batchB3.set(k, b3);
+            batchA6.set(k, a6);
+            batchB6.set(k, b6);
+            batchA3.get(k, A3[k]);
+            batchB3.get(k, B3[k]);
+            batchA6.get(k, A6[k]);
+            batchB6.get(k, B6[k]);
+        }
+    }
+
+    @Benchmark public void mult3_fixed() {
+        for (int k = 0; k < size; k++) CommonOps_DDF3.mult(A3[k], B3[k], C3[k]);
+    }
+
+    @Benchmark public void mult3_batch() { BatchOps_DDF3.mult(batchA3, batchB3, batchC3); }
+
+    @Benchmark public void mult3_batch_MT() { BatchOps_MT_DDF3.mult(batchA3, batchB3, batchC3); }
+
+    @Benchmark public void invert3_fixed() {
+        for (int k = 0; k < size; k++) CommonOps_DDF3.invert(A3[k], C3[k]);
+    }
+
+    @Benchmark public void invert3_batch() { BatchOps_DDF3.invert(batchA3, batchC3); }
+
+    @Benchmark public void invert3_batch_MT() { BatchOps_MT_DDF3.invert(batchA3, batchC3); }
+
+    @Benchmark public void cholL3_fixed() {
+        for (int k = 0; k < size; k++) {
+            CommonOps_DDF3.scale(1.0, A3[k], C3[k]);
+            CommonOps_DDF3.cholL(C3[k]);
+        }
+    }
+
+    @Benchmark public void cholL3_batch() {
+        batchC3.setTo(batchA3);
+        BatchOps_DDF3.cholL(batchC3);
+    }
+
+    @Benchmark public void mult6_fixed() {
+        for (int k = 0; k < size; k++) CommonOps_DDF6.mult(A6[k], B6[k], C6[k]);
+    }
+
+    @Benchmark public void mult6_batch() { BatchOps_DDF6.mult(batchA6, batchB6, batchC6); }
+
+    @Benchmark public void mult6_batch_MT() { BatchOps_MT_DDF6.mult(batchA6, batchB6, batchC6); }
+
+    @Benchmark public void cholL6_fixed() {
+        for (int k = 0; k < size; k++) {
+            CommonOps_DDF6.scale(1.0, A6[k], C6[k]);
+            CommonOps_DDF6.cholL(C6[k]);
+        }
+    }
+
+    @Benchmark public void cholL6_batch() {
+        batchC6.setTo(batchA6);
+        BatchOps_DDF6.cholL(batchC6);
+    }
+
+    public static void main( String[] args ) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BenchmarkBatchOps_DDF.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -20,6 +20,7 @@ package org.ejml.dense.row.decomposition.eig;
 
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.decomposition.eig.symm.SymmetricDivideConquer_MT_DDRM;
 import org.ejml.dense.row.decomposition.eig.watched.WatchedDoubleStepQREigen_DDRM;
 import org.ejml.dense.row.decomposition.hessenberg.HessenbergSimilarDecomposition_MT_DDRM;
 import org.ejml.dense.row.decomposition.hessenberg.TridiagonalDecompositionHouseholder_MT_DDRM;
@@ -49,11 +50,14 @@ public class BenchmarkDecompositionEvd_MT_DDRM {
     public DMatrixRMaj S, A;
 
     SymmetricQRAlgorithmDecomposition_DDRM eigenSym;
+    SymmetricDivideConquerDecomposition_DDRM eigenDivide;
     WatchedDoubleStepQRDecomposition_DDRM eigen;
 
     @Setup
     public void setup() {
         eigenSym = new SymmetricQRAlgorithmDecomposition_DDRM(new TridiagonalDecompositionHouseholder_MT_DDRM(), vectors);
+        eigenDivide = new SymmetricDivideConquerDecomposition_DDRM(new TridiagonalDecompositionHouseholder_MT_DDRM(),
+                new SymmetricDivideConquer_MT_DDRM(), vectors);
         eigen = new WatchedDoubleStepQRDecomposition_DDRM(new HessenbergSimilarDecomposition_MT_DDRM(),
                 new WatchedDoubleStepQREigen_DDRM(), vectors);
 
@@ -68,6 +72,12 @@ public class BenchmarkDecompositionEvd_MT_DDRM {
         eigenSym.decompose(A);
     }
 
+    @Benchmark
+    public void symmetricDivide() {
+        DMatrixRMaj A = eigenDivide.inputModified() ? S.copy() : S;
+        eigenDivide.decompose(A);
+    }
+
     @Benchmark
     public void general() {
         DMatrixRMaj A = eigen.inputModified() ? S.copy() : S;
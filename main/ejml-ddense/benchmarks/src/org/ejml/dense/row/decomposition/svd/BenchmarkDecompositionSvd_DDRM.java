@@ -43,6 +43,8 @@ public class BenchmarkDecompositionSvd_DDRM {
     public DMatrixRMaj A, U, V;
 
     SvdImplicitQrDecompose_DDRM svd = new SvdImplicitQrDecompose_DDRM(true, true, true, true);
+    SvdDivideConquerDecompose_DDRM divide = new SvdDivideConquerDecompose_DDRM(true, true, true, true);
+    SvdRandomized_DDRM randomized = new SvdRandomized_DDRM(20, 10, 2, new Random(234));
 
     @Setup
     public void setup() {
@@ -65,6 +67,25 @@ public class BenchmarkDecompositionSvd_DDRM {
         svd.decompose(A.copy());
     }
 
+    @Benchmark
+    public void divide_uv() {
+        divide.decompose(A.copy());
+        divide.getU(U, false);
+        divide.getV(V, true);
+    }
+
+    @Benchmark
+    public void divide() {
+        divide.decompose(A.copy());
+    }
+
+    @Benchmark
+    public void randomized_uv() {
+        randomized.decompose(A);
+        randomized.getU(U, false);
+        randomized.getV(V, true);
+    }
+
     public static void main( String[] args ) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(BenchmarkDecompositionSvd_DDRM.class.getSimpleName())
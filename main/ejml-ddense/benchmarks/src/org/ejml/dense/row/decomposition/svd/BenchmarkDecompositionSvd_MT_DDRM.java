@@ -43,6 +43,7 @@ public class BenchmarkDecompositionSvd_MT_DDRM {
     public DMatrixRMaj A, U, V;
 
     SvdImplicitQrDecompose_MT_DDRM svd = new SvdImplicitQrDecompose_MT_DDRM(true, true, true, true);
+    SvdDivideConquerDecompose_MT_DDRM divide = new SvdDivideConquerDecompose_MT_DDRM(true, true, true, true);
 
     @Setup
     public void setup() {
@@ -65,6 +66,18 @@ public class BenchmarkDecompositionSvd_MT_DDRM {
         svd.decompose(A.copy());
     }
 
+    @Benchmark
+    public void divide_uv() {
+        divide.decompose(A.copy());
+        divide.getU(U, false);
+        divide.getV(V, true);
+    }
+
+    @Benchmark
+    public void divide() {
+        divide.decompose(A.copy());
+    }
+
     public static void main( String[] args ) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(BenchmarkDecompositionSvd_MT_DDRM.class.getSimpleName())
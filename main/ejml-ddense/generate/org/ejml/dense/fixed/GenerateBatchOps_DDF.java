@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.dense.row.misc.GenerateDeterminantFromMinor;
+import org.ejml.dense.row.misc.GenerateUnrolledInverseFromMinor_DDRM;
+
+import java.io.FileNotFoundException;
+
+/**
+ * Automatic code generator for BatchOps. Each operation is split into a loop over the batch and an unrolled
+ * kernel which processes a single matrix. The kernels use the same formulas as {@link GenerateCommonOps_DDF}.
+ * The loops are marked up so that a concurrent version can be created by AutocodeConcurrentApp.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateBatchOps_DDF extends GenerateFixed {
+
+    public GenerateBatchOps_DDF() {
+        super("BatchOps_DDF");
+    }
+
+    @Override
+    public void generate() throws FileNotFoundException {
+        for (int dimension = 2; dimension <= MAX_DIMENSION; dimension++) {
+            printPreable(dimension);
+
+            transpose(dimension);
+            for (int i = 0; i < 3; i++) {
+                mult(dimension, i == 1, i == 2);
+            }
+            if (dimension <= UtilEjml.maxInverseSize) {
+                invert(dimension);
+                solve(dimension);
+                det(dimension);
+            }
+            cholL(dimension);
+            checkInput();
+            isCountable();
+            transpose_kernel(dimension);
+            for (int i = 0; i < 3; i++) {
+                mult_kernel(dimension, i == 1, i == 2);
+            }
+            if (dimension <= UtilEjml.maxInverseSize) {
+                invert_kernel(dimension);
+                solve_kernel(dimension);
+                det_kernel(dimension);
+            }
+            cholL_kernel(dimension);
+
+            out.println("}\n");
+        }
+    }
+
+    public void printPreable( int dimen ) throws FileNotFoundException {
+
+        setClassNames(dimen);
+
+        out.print(
+                "import org.ejml.MatrixDimensionException;\n" +
+                        "import org.ejml.UtilEjml;\n" +
+                        "import org.ejml.data.DMatrixBatch;\n" +
+                        "import org.jetbrains.annotations.Nullable;\n" +
+                        "//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;\n" +
+                        "\n" +
+                        "/**\n" +
+                        " * <p>Operations on a batch of " + dimen + " x " + dimen + " matrices or " + dimen + " element vectors " +
+                        "stored in a {@link DMatrixBatch}. The result is the same\n" +
+                        " * as calling the equivalent function in {@link CommonOps_DDF" + dimen + "} on each matrix.</p>\n" +
+                        standardClassDocClosing("Peter Abeles") +
+                        "public class " + className + " {\n");
+    }
+
+    private void transpose( int dimen ) {
+        out.print("    /**\n" +
+                "     * Transposes every matrix in 'input' and stores the results in 'output'.\n" +
+                "     *\n" +
+                "     * @param input (Input) Batch of matrices. Not modified.\n" +
+                "     * @param output (Output) Batch of transposed matrices. Can be the same instance as input. Modified.\n" +
+                "     */\n" +
+                "    public static void transpose( DMatrixBatch input, DMatrixBatch output ) {\n" +
+                "        checkInput(input, " + dimen + ", " + dimen + ");\n" +
+                "        output.reshape(" + dimen + ", " + dimen + ", input.size);\n" +
+                "\n" +
+                "        final double[] a = input.data, b = output.data;\n" +
+                "        final int sa = input.getStride(), sb = output.getStride();\n");
+        printLoop("input", "transpose(a, input.getOffset(k), sa, b, output.getOffset(k), sb);");
+        out.print("    }\n\n");
+    }
+
+    private void mult( int dimen, boolean transA, boolean transB ) {
+        String name = transA ? "multTransA" : transB ? "multTransB" : "mult";
+        String op = transA ? "a<sup>T</sup> * b" : transB ? "a * b<sup>T</sup>" : "a * b";
+
+        out.print("    /**\n" +
+                "     * <p>Performs the following operation on every matrix in the batch:<br>\n" +
+                "     * <br>\n" +
+                "     * c = " + op + " <br>\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a (Input) The left matrices in the multiplication operation. Not modified.\n" +
+                "     * @param b (Input) The right matrices in the multiplication operation. Not modified.\n" +
+                "     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.\n" +
+                "     */\n" +
+                "    public static void " + name + "( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {\n" +
+                "        checkInput(a, " + dimen + ", " + dimen + ");\n" +
+                "        checkInput(b, " + dimen + ", " + dimen + ");\n" +
+                "        UtilEjml.assertShape(a.size, b.size, \"Batches must have the same number of matrices\");\n" +
+                "        c.reshape(" + dimen + ", " + dimen + ", a.size);\n" +
+                "\n" +
+                "        final double[] da = a.data, db = b.data, dc = c.data;\n" +
+                "        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();\n");
+        printLoop("a", name + "(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);");
+        out.print("    }\n\n");
+    }
+
+    private void invert( int dimen ) {
+        out.print("    /**\n" +
+                "     * Inverts every matrix in 'a' using minor matrices and stores the results in 'inv'. Scaling is\n" +
+                "     * applied to improve stability against overflow and underflow.\n" +
+                "     *\n" +
+                "     * WARNING: Potentially less stable than using LU decomposition.\n" +
+                "     *\n" +
+                "     * @param a (Input) Batch of matrices. Not modified.\n" +
+                "     * @param inv (Output) Batch of inverted matrices. Can be the same instance as 'a'. Modified.\n" +
+                "     * @return true if every matrix was inverted or false if any of them failed. Not reliable.\n" +
+                "     */\n" +
+                "    public static boolean invert( DMatrixBatch a, DMatrixBatch inv ) {\n" +
+                "        checkInput(a, " + dimen + ", " + dimen + ");\n" +
+                "        inv.reshape(" + dimen + ", " + dimen + ", a.size);\n" +
+                "\n" +
+                "        final double[] da = a.data, di = inv.data;\n" +
+                "        final int sa = a.getStride(), si = inv.getStride();\n");
+        printLoop("a", "invert(da, a.getOffset(k), sa, di, inv.getOffset(k), si);");
+        out.print("\n" +
+                "        return isCountable(inv, 0);\n" +
+                "    }\n\n");
+    }
+
+    private void solve( int dimen ) {
+        out.print("    /**\n" +
+                "     * Solves the linear system a*x = b for every matrix and vector in the batch, using the same\n" +
+                "     * minor matrices approach as {@link #invert}.\n" +
+                "     *\n" +
+                "     * WARNING: Potentially less stable than using LU decomposition.\n" +
+                "     *\n" +
+                "     * @param a (Input) Batch of matrices. Not modified.\n" +
+                "     * @param b (Input) Batch of " + dimen + " x 1 vectors. Not modified.\n" +
+                "     * @param x (Output) Batch of " + dimen + " x 1 solutions. Can be the same instance as 'b'. Modified.\n" +
+                "     * @return true if every system was solved or false if any of them failed. Not reliable.\n" +
+                "     */\n" +
+                "    public static boolean solve( DMatrixBatch a, DMatrixBatch b, DMatrixBatch x ) {\n" +
+                "        checkInput(a, " + dimen + ", " + dimen + ");\n" +
+                "        checkInput(b, " + dimen + ", 1);\n" +
+                "        UtilEjml.assertShape(a.size, b.size, \"Batches must have the same number of matrices\");\n" +
+                "        x.reshape(" + dimen + ", 1, a.size);\n" +
+                "\n" +
+                "        final double[] da = a.data, db = b.data, dx = x.data;\n" +
+                "        final int sa = a.getStride(), sb = b.getStride(), sx = x.getStride();\n");
+        printLoop("a", "solve(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dx, x.getOffset(k), sx);");
+        out.print("\n" +
+                "        return isCountable(x, 0);\n" +
+                "    }\n\n");
+    }
+
+    private void det( int dimen ) {
+        out.print("    /**\n" +
+                "     * Computes the determinant of every matrix in the batch using minor matrices.<br>\n" +
+                "     * WARNING: Potentially less stable than using LU decomposition.\n" +
+                "     *\n" +
+                "     * @param a (Input) Batch of matrices. Not modified.\n" +
+                "     * @param output (Output) Storage for the determinants. If null or too small a new array is created.\n" +
+                "     * @return Array containing the determinant of each matrix\n" +
+                "     */\n" +
+                "    public static double[] det( DMatrixBatch a, @Nullable double[] output ) {\n" +
+                "        checkInput(a, " + dimen + ", " + dimen + ");\n" +
+                "        final double[] out = output == null || output.length < a.size ? new double[a.size] : output;\n" +
+                "\n" +
+                "        final double[] da = a.data;\n" +
+                "        final int sa = a.getStride();\n");
+        printLoop("a", "out[k] = det(da, a.getOffset(k), sa);");
+        out.print("\n" +
+                "        return out;\n" +
+                "    }\n\n");
+    }
+
+    private void cholL( int dimen ) {
+        out.print("    /**\n" +
+                "     * Performs a lower Cholesky decomposition on every matrix in the batch and stores the results in 'a'.\n" +
+                "     *\n" +
+                "     * @param a (Input) Batch of SPD matrices. (Output) lower cholesky.\n" +
+                "     * @return true if every decomposition was successful or false if any of them failed. Not always reliable.\n" +
+                "     */\n" +
+                "    public static boolean cholL( DMatrixBatch a ) {\n" +
+                "        checkInput(a, " + dimen + ", " + dimen + ");\n" +
+                "\n" +
+                "        final double[] da = a.data;\n" +
+                "        final int sa = a.getStride();\n");
+        printLoop("a", "cholL(da, a.getOffset(k), sa);");
+        out.print("\n" +
+                "        return isCountable(a, " + (dimen*dimen - 1) + ");\n" +
+                "    }\n\n");
+    }
+
+    private void checkInput() {
+        out.print("    private static void checkInput( DMatrixBatch m, int numRows, int numCols ) {\n" +
+                "        if (m.numRows != numRows || m.numCols != numCols)\n" +
+                "            throw new MatrixDimensionException(\"Expected a batch of \" + numRows + \"x\" + numCols +\n" +
+                "                    \" matrices. Found \" + m.numRows + \"x\" + m.numCols);\n" +
+                "    }\n\n");
+    }
+
+    private void isCountable() {
+        out.print("    /**\n" +
+                "     * Returns false if the specified element of any matrix is NaN or infinite\n" +
+                "     */\n" +
+                "    private static boolean isCountable( DMatrixBatch m, int element ) {\n" +
+                "        final int stride = m.getStride();\n" +
+                "        for (int k = 0; k < m.size; k++) {\n" +
+                "            if (UtilEjml.isUncountable(m.data[m.getOffset(k) + element*stride]))\n" +
+                "                return false;\n" +
+                "        }\n" +
+                "        return true;\n" +
+                "    }\n\n");
+    }
+
+    private void printLoop( String batch, String body ) {
+        out.print("\n" +
+                "        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, " + batch + ".size, k -> {\n" +
+                "        for (int k = 0; k < " + batch + ".size; k++) {\n" +
+                "            " + body + "\n" +
+                "        }\n" +
+                "        //CONCURRENT_ABOVE });\n");
+    }
+
+    private void transpose_kernel( int dimen ) {
+        out.print("    private static void transpose( double[] a, int ia, int sa, double[] b, int ib, int sb ) {\n");
+        printLoad("a", "a", "ia", "sa", dimen, dimen);
+        for (int y = 1; y <= dimen; y++) {
+            for (int x = 1; x <= dimen; x++) {
+                out.print("        " + element("b", "ib", "sb", (y - 1)*dimen + x - 1) + " = a" + x + "" + y + ";\n");
+            }
+        }
+        out.print("    }\n\n");
+    }
+
+    private void mult_kernel( int dimen, boolean transA, boolean transB ) {
+        String name = transA ? "multTransA" : transB ? "multTransB" : "mult";
+
+        String header = "    private static void " + name + "( ";
+        out.print(header + "double[] a, int ia, int sa, double[] b, int ib, int sb,\n" +
+                " ".repeat(header.length()) + "double[] c, int ic, int sc ) {\n");
+        printLoad("a", "a", "ia", "sa", dimen, dimen);
+        printLoad("b", "b", "ib", "sb", dimen, dimen);
+        for (int y = 1; y <= dimen; y++) {
+            for (int x = 1; x <= dimen; x++) {
+                out.print("        " + element("c", "ic", "sc", (y - 1)*dimen + x - 1) + " = ");
+                for (int k = 1; k <= dimen; k++) {
+                    String left = transA ? "a" + k + "" + y : "a" + y + "" + k;
+                    String right = transB ? "b" + x + "" + k : "b" + k + "" + x;
+                    out.print(left + "*" + right);
+                    if (k < dimen)
+                        out.print(" + ");
+                    else
+                        out.print(";\n");
+                }
+            }
+        }
+        out.print("    }\n\n");
+    }
+
+    private void printScaledInput( int dimen ) {
+        printLoad("a", "a", "ia", "sa", dimen, dimen);
+        out.print("\n        double scale = Math.abs(a11);\n");
+        for (int y = 1; y <= dimen; y++) {
+            for (int x = 1; x <= dimen; x++) {
+                if (y == 1 && x == 1)
+                    continue;
+                out.print("        scale = Math.max(scale, Math.abs(a" + y + "" + x + "));\n");
+            }
+        }
+        out.print("        scale = 1.0/scale;\n\n");
+        for (int y = 1; y <= dimen; y++) {
+            out.print("       ");
+            for (int x = 1; x <= dimen; x++) {
+                out.print(" a" + y + "" + x + " *= scale;");
+            }
+            out.println();
+        }
+        out.println();
+
+        int[] matrix = new int[dimen*dimen];
+        for (int i = 0; i < matrix.length; i++) {
+            matrix[i] = i;
+        }
+        GenerateUnrolledInverseFromMinor_DDRM.printMinors(matrix, dimen, out);
+        out.println();
+    }
+
+    private void invert_kernel( int dimen ) {
+        out.print("    private static void invert( double[] a, int ia, int sa, double[] inv, int ii, int si ) {\n");
+        printScaledInput(dimen);
+        for (int y = 1; y <= dimen; y++) {
+            for (int x = 1; x <= dimen; x++) {
+                out.print("        " + element("inv", "ii", "si", (y - 1)*dimen + x - 1) + " = m" + x + "" + y + "/det;\n");
+            }
+        }
+        out.print("    }\n\n");
+    }
+
+    private void solve_kernel( int dimen ) {
+        out.print("    private static void solve( double[] a, int ia, int sa, double[] b, int ib, int sb,\n" +
+                "                               double[] x, int ix, int sx ) {\n");
+        printLoad("b", "b", "ib", "sb", dimen, 1);
+        printScaledInput(dimen);
+        for (int y = 1; y <= dimen; y++) {
+            out.print("        " + element("x", "ix", "sx", y - 1) + " = (");
+            for (int k = 1; k <= dimen; k++) {
+                out.print("m" + k + "" + y + "*b" + k + "1");
+                if (k < dimen)
+                    out.print(" + ");
+            }
+            out.print(")/det;\n");
+        }
+        out.print("    }\n\n");
+    }
+
+    private void det_kernel( int dimen ) {
+        out.print("    private static double det( double[] mat, int index, int stride ) {\n");
+        if (dimen == 2) {
+            out.print("        return mat[index]*mat[index + 3*stride] - mat[index + stride]*mat[index + 2*stride];\n");
+        } else if (dimen == 3) {
+            printLoad("a", "mat", "index", "stride", dimen, dimen);
+            out.print(
+                    "        double a = a11*(a22*a33 - a23*a32);\n" +
+                            "        double b = a12*(a21*a33 - a23*a31);\n" +
+                            "        double c = a13*(a21*a32 - a31*a22);\n" +
+                            "\n" +
+                            "        return a-b+c;\n");
+        } else {
+            GenerateDeterminantFromMinor helper = new GenerateDeterminantFromMinor(out) {
+                @Override
+                protected String getInputValue( int element ) {
+                    return element("mat", "index", "stride", element);
+                }
+            };
+            helper.printFunctionInner(dimen);
+            out.print("\n        return ret;\n");
+        }
+        out.print("    }\n\n");
+    }
+
+    private void cholL_kernel( int N ) {
+        out.print("    private static void cholL( double[] a, int ia, int sa ) {\n");
+        for (int i = 1; i <= N; i++) {
+            out.print("        double");
+            for (int j = 1; j <= i; j++) {
+                out.print(" a" + i + "" + j + " = " + element("a", "ia", "sa", (i - 1)*N + j - 1) + (j < i ? "," : ";"));
+            }
+            out.println();
+        }
+        out.println();
+
+        for (int i = 1; i <= N; i++) {
+            for (int j = 1; j <= i; j++) {
+                if (i == j) {
+                    out.print("        a" + i + "" + i + " = Math.sqrt(a" + i + "" + i);
+                    for (int k = 1; k < j; k++) {
+                        out.print("-a" + i + "" + k + "*a" + i + "" + k);
+                    }
+                    out.println(");");
+                } else {
+                    out.print("        a" + i + "" + j + " = (a" + i + "" + j);
+                    for (int k = 1; k < j; k++) {
+                        out.print("-a" + i + "" + k + "*a" + j + "" + k);
+                    }
+                    out.println(")/a" + j + "" + j + ";");
+                }
+            }
+        }
+        out.println();
+
+        for (int i = 1; i <= N; i++) {
+            for (int j = 1; j <= N; j++) {
+                String value = j > i ? "0" : "a" + i + "" + j;
+                out.print("        " + element("a", "ia", "sa", (i - 1)*N + j - 1) + " = " + value + ";\n");
+            }
+        }
+        out.print("    }\n\n");
+    }
+
+    /**
+     * Declares local variables for every element in a matrix. e.g. a11 = a[ia], a12 = a[ia + sa]
+     */
+    private void printLoad( String prefix, String array, String index, String stride, int rows, int cols ) {
+        for (int y = 1; y <= rows; y++) {
+            out.print("        double");
+            for (int x = 1; x <= cols; x++) {
+                out.print(" " + prefix + y + "" + x + " = " + element(array, index, stride, (y - 1)*cols + x - 1));
+                out.print(x < cols ? "," : ";");
+            }
+            out.println();
+        }
+    }
+
+    private static String element( String array, String index, String stride, int element ) {
+        if (element == 0)
+            return array + "[" + index + "]";
+        else if (element == 1)
+            return array + "[" + index + " + " + stride + "]";
+        else
+            return array + "[" + index + " + " + element + "*" + stride + "]";
+    }
+
+    public static void main( String[] args ) throws FileNotFoundException {
+        GenerateBatchOps_DDF app = new GenerateBatchOps_DDF();
+
+        app.generate();
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import java.io.FileNotFoundException;
+
+/**
+ * Automatic code generator for CholeskyOps. All loops are unrolled and intermediate values are stored in local
+ * variables so that no memory is allocated.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateCholeskyOps_DDF extends GenerateFixed {
+
+    public GenerateCholeskyOps_DDF() {
+        super("CholeskyOps_DDF");
+    }
+
+    @Override
+    public void generate() throws FileNotFoundException {
+        for (int dimension = 2; dimension <= MAX_DIMENSION; dimension++) {
+            printPreable(dimension);
+
+            decompose(dimension);
+            solve(dimension);
+            invert(dimension);
+            det(dimension);
+
+            out.println("}\n");
+        }
+    }
+
+    public void printPreable( int dimen ) throws FileNotFoundException {
+
+        setClassNames(dimen);
+
+        out.print(
+                "import org.ejml.UtilEjml;\n" +
+                        "import org.ejml.data." + nameVector + ";\n" +
+                        "import org.ejml.data." + nameMatrix + ";\n" +
+                        "\n" +
+                        "/**\n" +
+                        " * <p>Cholesky decomposition and related operations for fixed sized " + dimen + " x " + dimen + " symmetric\n" +
+                        " * positive definite matrices. A = L*L<sup>T</sup> where L is lower triangular. Only the lower triangle\n" +
+                        " * of the input matrix is read.</p>\n" +
+                        standardClassDocClosing("Peter Abeles") +
+                        "public class " + className + " {\n");
+    }
+
+    private void decompose( int N ) {
+        out.print("    /**\n" +
+                "     * Computes the lower Cholesky decomposition of 'A'.\n" +
+                "     *\n" +
+                "     * @param A (Input) SPD Matrix. Only the lower triangle is read. Not modified.\n" +
+                "     * @param L (Output) Lower triangular matrix. Can be the same instance as A.\n" +
+                "     * @return true if it was successful or false if it failed. Not always reliable.\n" +
+                "     */\n" +
+                "    public static boolean decompose( " + nameMatrix + " A, " + nameMatrix + " L ) {\n");
+
+        for (int i = 1; i <= N; i++) {
+            for (int j = 1; j <= i; j++) {
+                if (i == j) {
+                    out.print("        double " + l(i, i) + " = Math.sqrt(A." + el(i, i));
+                    for (int k = 1; k < j; k++) {
+                        out.print(" - " + l(i, k) + "*" + l(i, k));
+                    }
+                    out.println(");");
+                } else if (j == 1) {
+                    out.println("        double " + l(i, j) + " = A." + el(i, j) + "/" + l(j, j) + ";");
+                } else {
+                    out.print("        double " + l(i, j) + " = (A." + el(i, j));
+                    for (int k = 1; k < j; k++) {
+                        out.print(" - " + l(i, k) + "*" + l(j, k));
+                    }
+                    out.println(")/" + l(j, j) + ";");
+                }
+            }
+        }
+        out.println();
+        for (int i = 1; i <= N; i++) {
+            out.print("       ");
+            for (int j = 1; j <= N; j++) {
+                out.print(" L." + el(i, j) + " = " + (j <= i ? l(i, j) : "0") + ";");
+            }
+            out.println();
+        }
+        out.println();
+        out.println("        return !UtilEjml.isUncountable(" + l(N, N) + ");");
+        out.print("    }\n\n");
+    }
+
+    private void solve( int N ) {
+        out.print("    /**\n" +
+                "     * Solves for 'x' in the linear system A*x = b using the decomposition L*L<sup>T</sup> of A.\n" +
+                "     *\n" +
+                "     * @param L (Input) Lower Cholesky decomposition of A. Not modified.\n" +
+                "     * @param b (Input) Vector. Not modified.\n" +
+                "     * @param x (Output) Solution. Can be the same instance as b.\n" +
+                "     */\n" +
+                "    public static void solve( " + nameMatrix + " L, " + nameVector + " b, " + nameVector + " x ) {\n" +
+                "        // solve L*y = b\n");
+
+        for (int i = 1; i <= N; i++) {
+            if (i == 1) {
+                out.println("        double y1 = b.a1/L.a11;");
+                continue;
+            }
+            out.print("        double y" + i + " = (b.a" + i);
+            for (int k = 1; k < i; k++) {
+                out.print(" - L." + el(i, k) + "*y" + k);
+            }
+            out.println(")/L." + el(i, i) + ";");
+        }
+        out.println();
+        out.println("        // solve L'*x = y");
+        for (int i = N; i >= 1; i--) {
+            if (i == N) {
+                out.println("        double x" + N + " = y" + N + "/L." + el(N, N) + ";");
+                continue;
+            }
+            out.print("        double x" + i + " = (y" + i);
+            for (int k = i + 1; k <= N; k++) {
+                out.print(" - L." + el(k, i) + "*x" + k);
+            }
+            out.println(")/L." + el(i, i) + ";");
+        }
+        out.println();
+        out.print("       ");
+        for (int i = 1; i <= N; i++) {
+            out.print(" x.a" + i + " = x" + i + ";");
+        }
+        out.println();
+        out.print("    }\n\n");
+    }
+
+    private void invert( int N ) {
+        out.print("    /**\n" +
+                "     * Computes the inverse of A from its Cholesky decomposition, inv(A) = inv(L)<sup>T</sup>*inv(L).\n" +
+                "     *\n" +
+                "     * @param L (Input) Lower Cholesky decomposition of A. Not modified.\n" +
+                "     * @param inv (Output) Inverse of A. Can be the same instance as L.\n" +
+                "     */\n" +
+                "    public static void invert( " + nameMatrix + " L, " + nameMatrix + " inv ) {\n" +
+                "        // T = inv(L), which is lower triangular\n");
+
+        for (int j = 1; j <= N; j++) {
+            for (int i = j; i <= N; i++) {
+                if (i == j) {
+                    out.println("        double " + t(i, i) + " = 1.0/L." + el(i, i) + ";");
+                } else {
+                    out.print("        double " + t(i, j) + " = -(");
+                    for (int k = j; k < i; k++) {
+                        if (k != j)
+                            out.print(" + ");
+                        out.print("L." + el(i, k) + "*" + t(k, j));
+                    }
+                    out.println(")/L." + el(i, i) + ";");
+                }
+            }
+        }
+        out.println();
+        out.println("        // inv(A) = T'*T");
+        for (int i = 1; i <= N; i++) {
+            for (int j = i; j <= N; j++) {
+                out.print("        inv." + el(i, j) + " = ");
+                for (int k = j; k <= N; k++) {
+                    if (k != j)
+                        out.print(" + ");
+                    out.print(t(k, i) + "*" + t(k, j));
+                }
+                out.println(";");
+            }
+        }
+        for (int i = 2; i <= N; i++) {
+            out.print("       ");
+            for (int j = 1; j < i; j++) {
+                out.print(" inv." + el(i, j) + " = inv." + el(j, i) + ";");
+            }
+            out.println();
+        }
+        out.print("    }\n\n");
+    }
+
+    private void det( int N ) {
+        out.print("    /**\n" +
+                "     * Computes the determinant of A from its Cholesky decomposition.\n" +
+                "     *\n" +
+                "     * @param L (Input) Lower Cholesky decomposition of A. Not modified.\n" +
+                "     * @return The determinant of A.\n" +
+                "     */\n" +
+                "    public static double det( " + nameMatrix + " L ) {\n" +
+                "        double prod = ");
+        for (int i = 1; i <= N; i++) {
+            if (i != 1)
+                out.print("*");
+            out.print("L." + el(i, i));
+        }
+        out.println(";");
+        out.println("        return prod*prod;");
+        out.print("    }\n\n");
+    }
+
+    private static String el( int row, int col ) {
+        return "a" + row + "" + col;
+    }
+
+    private static String l( int row, int col ) {
+        return "l" + row + "" + col;
+    }
+
+    private static String t( int row, int col ) {
+        return "t" + row + "" + col;
+    }
+
+    public static void main( String[] args ) throws FileNotFoundException {
+        GenerateCholeskyOps_DDF app = new GenerateCholeskyOps_DDF();
+
+        app.generate();
+    }
+}
@@ -37,7 +37,7 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
 
     @Override
     public void generate() throws FileNotFoundException {
-        for (int dimension = 2; dimension <= 6; dimension++) {
+        for (int dimension = 2; dimension <= MAX_DIMENSION; dimension++) {
             printPreable(dimension);
 
             add(dimension);
@@ -373,10 +373,11 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
                         "        UtilEjml.checkSameInstance(b,c);\n");
 
         for (int y = 1; y <= dimen; y++) {
+            printRowCache(dimen, y, false);
             for (int x = 1; x <= dimen; x++) {
                 out.print("        c.a" + y + "" + x + " " + plus + "= ");
                 for (int k = 1; k <= dimen; k++) {
-                    out.print("a.a" + y + "" + k + "*b.a" + k + "" + x);
+                    out.print(left(dimen, y, k, k) + "*b.a" + k + "" + x);
                     if (k < dimen)
                         out.print(" + ");
                     else
@@ -410,10 +411,11 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
                 "        UtilEjml.checkSameInstance(b,c);\n");
 
         for (int y = 1; y <= dimen; y++) {
+            printRowCache(dimen, y, false);
             for (int x = 1; x <= dimen; x++) {
                 out.print("        c.a" + y + "" + x + " " + plus + "= alpha*(");
                 for (int k = 1; k <= dimen; k++) {
-                    out.print("a.a" + y + "" + k + "*b.a" + k + "" + x);
+                    out.print(left(dimen, y, k, k) + "*b.a" + k + "" + x);
                     if (k < dimen)
                         out.print(" + ");
                     else
@@ -444,10 +446,11 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
         out.print("        UtilEjml.checkSameInstance(a,c);\n" +
                 "        UtilEjml.checkSameInstance(b,c);\n");
         for (int y = 1; y <= dimen; y++) {
+            printRowCache(dimen, y, true);
             for (int x = 1; x <= dimen; x++) {
                 out.print("        c.a" + y + "" + x + " " + plus + "= ");
                 for (int k = 1; k <= dimen; k++) {
-                    out.print("a.a" + k + "" + y + "*b.a" + k + "" + x);
+                    out.print(left(dimen, k, y, k) + "*b.a" + k + "" + x);
                     if (k < dimen)
                         out.print(" + ");
                     else
@@ -479,10 +482,11 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
         out.print("        UtilEjml.checkSameInstance(a,c);\n" +
                 "        UtilEjml.checkSameInstance(b,c);\n");
         for (int y = 1; y <= dimen; y++) {
+            printRowCache(dimen, y, true);
             for (int x = 1; x <= dimen; x++) {
                 out.print("        c.a" + y + "" + x + " " + plus + "= alpha*(");
                 for (int k = 1; k <= dimen; k++) {
-                    out.print("a.a" + k + "" + y + "*b.a" + k + "" + x);
+                    out.print(left(dimen, k, y, k) + "*b.a" + k + "" + x);
                     if (k < dimen)
                         out.print(" + ");
                     else
@@ -513,10 +517,11 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
         out.print("        UtilEjml.checkSameInstance(a,c);\n" +
                 "        UtilEjml.checkSameInstance(b,c);\n");
         for (int y = 1; y <= dimen; y++) {
+            printRowCache(dimen, y, true);
             for (int x = 1; x <= dimen; x++) {
                 out.print("        c.a" + y + "" + x + " " + plus + "= ");
                 for (int k = 1; k <= dimen; k++) {
-                    out.print("a.a" + k + "" + y + "*b.a" + x + "" + k);
+                    out.print(left(dimen, k, y, k) + "*b.a" + x + "" + k);
                     if (k < dimen)
                         out.print(" + ");
                     else
@@ -548,10 +553,11 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
         out.print("        UtilEjml.checkSameInstance(a,c);\n" +
                 "        UtilEjml.checkSameInstance(b,c);\n");
         for (int y = 1; y <= dimen; y++) {
+            printRowCache(dimen, y, true);
             for (int x = 1; x <= dimen; x++) {
                 out.print("        c.a" + y + "" + x + " " + plus + "= alpha*(");
                 for (int k = 1; k <= dimen; k++) {
-                    out.print("a.a" + k + "" + y + "*b.a" + x + "" + k);
+                    out.print(left(dimen, k, y, k) + "*b.a" + x + "" + k);
                     if (k < dimen)
                         out.print(" + ");
                     else
@@ -582,10 +588,11 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
         out.print("        UtilEjml.checkSameInstance(a,c);\n" +
                 "        UtilEjml.checkSameInstance(b,c);\n");
         for (int y = 1; y <= dimen; y++) {
+            printRowCache(dimen, y, false);
             for (int x = 1; x <= dimen; x++) {
                 out.print("        c.a" + y + "" + x + " " + plus + "= ");
                 for (int k = 1; k <= dimen; k++) {
-                    out.print("a.a" + y + "" + k + "*b.a" + x + "" + k);
+                    out.print(left(dimen, y, k, k) + "*b.a" + x + "" + k);
                     if (k < dimen)
                         out.print(" + ");
                     else
@@ -617,10 +624,11 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
         out.print("        UtilEjml.checkSameInstance(a,c);\n" +
                 "        UtilEjml.checkSameInstance(b,c);\n");
         for (int y = 1; y <= dimen; y++) {
+            printRowCache(dimen, y, false);
             for (int x = 1; x <= dimen; x++) {
                 out.print("        c.a" + y + "" + x + " " + plus + "= alpha*(");
                 for (int k = 1; k <= dimen; k++) {
-                    out.print("a.a" + y + "" + k + "*b.a" + x + "" + k);
+                    out.print(left(dimen, y, k, k) + "*b.a" + x + "" + k);
                     if (k < dimen)
                         out.print(" + ");
                     else
@@ -631,6 +639,32 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
         out.print("    }\n\n");
     }
 
+    /**
+     * HotSpot will not compile methods with more than 8000 bytes of byte code and the largest matrix multiplications
+     * go over that limit. Copying the row of the left matrix into local variables shrinks the byte code.
+     */
+    private static boolean isRowCached( int dimen ) {
+        return dimen >= 9;
+    }
+
+    private void printRowCache( int dimen, int y, boolean transA ) {
+        if (!isRowCached(dimen))
+            return;
+        out.print("       ");
+        for (int k = 1; k <= dimen; k++) {
+            String src = transA ? "a.a" + k + "" + y : "a.a" + y + "" + k;
+            out.print(" " + (y == 1 ? "double " : "") + "r" + k + " = " + src + ";");
+        }
+        out.println();
+    }
+
+    /**
+     * Returns the name of element (row,col) in the left matrix, which is variable 'k' in the row cache.
+     */
+    private static String left( int dimen, int row, int col, int k ) {
+        return isRowCached(dimen) ? "r" + k : "a.a" + row + "" + col;
+    }
+
     private void mult_m_v_v( int dimen ) {
         out.print("    /**\n" +
                 "     * <p>Performs matrix to vector multiplication:<br>\n" +
@@ -26,6 +26,9 @@ import java.io.FileNotFoundException;
  * @author Peter Abeles
  */
 public abstract class GenerateFixed extends CodeGeneratorBase {
+    /** Largest fixed sized matrix which code is generated for */
+    public static final int MAX_DIMENSION = 9;
+
     protected String classPreamble;
 
     protected String nameMatrix;
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import java.io.FileNotFoundException;
+
+/**
+ * Automatic code generator for LUOps. The matrix is copied into local variables, partial pivoting is done by
+ * swapping the local variables, and the result is written back at the end. No memory is allocated.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateLUOps_DDF extends GenerateFixed {
+
+    public GenerateLUOps_DDF() {
+        super("LUOps_DDF");
+    }
+
+    @Override
+    public void generate() throws FileNotFoundException {
+        for (int dimension = 2; dimension <= MAX_DIMENSION; dimension++) {
+            printPreable(dimension);
+
+            decompose(dimension);
+            solve(dimension);
+            det(dimension);
+
+            out.println("}\n");
+        }
+    }
+
+    public void printPreable( int dimen ) throws FileNotFoundException {
+
+        setClassNames(dimen);
+
+        out.print(
+                "import org.ejml.UtilEjml;\n" +
+                        "import org.ejml.data." + nameVector + ";\n" +
+                        "import org.ejml.data." + nameMatrix + ";\n" +
+                        "\n" +
+                        "/**\n" +
+                        " * <p>LU decomposition with partial pivoting and related operations for fixed sized " + dimen + " x " + dimen + " matrices.\n" +
+                        " * P*A = L*U where L is unit lower triangular and U is upper triangular. Both are stored in a single matrix\n" +
+                        " * with the unit diagonal of L being implicit.</p>\n" +
+                        " *\n" +
+                        " * <p>The pivots are encoded the same way as LAPACK, at step k row k was swapped with row pivot[k]. Indexes\n" +
+                        " * start at zero.</p>\n" +
+                        standardClassDocClosing("Peter Abeles") +
+                        "public class " + className + " {\n");
+    }
+
+    private void decompose( int N ) {
+        out.print("    /**\n" +
+                "     * Computes the LU decomposition of 'A' using partial pivoting.\n" +
+                "     *\n" +
+                "     * @param A (Input) Matrix. Not modified.\n" +
+                "     * @param LU (Output) L and U stored in a single matrix. Can be the same instance as A.\n" +
+                "     * @param pivot (Output) Row swapped at each step. Must have at least " + N + " elements.\n" +
+                "     * @return true if it was successful or false if the matrix is singular. Not always reliable.\n" +
+                "     */\n" +
+                "    public static boolean decompose( " + nameMatrix + " A, " + nameMatrix + " LU, int[] pivot ) {\n");
+
+        int split = splitStep(N);
+        printSteps(N, "A", 1, split);
+        if (split == N - 1) {
+            out.print("    }\n\n");
+            return;
+        }
+        out.print("        return decomposeTail(LU, pivot);\n" +
+                "    }\n\n");
+
+        out.print("    /**\n" +
+                "     * Second half of {@link #decompose}. Split into two functions to keep the byte code small enough\n" +
+                "     * for the JIT to compile it.\n" +
+                "     */\n" +
+                "    private static boolean decomposeTail( " + nameMatrix + " LU, int[] pivot ) {\n");
+        printSteps(N, "LU", split + 1, N - 1);
+        out.print("    }\n\n");
+    }
+
+    /**
+     * HotSpot will not compile methods with more than 8000 bytes of byte code. The row swaps grow with N<sup>3</sup>
+     * so the largest decompositions are split into two methods with the matrix passed through LU.
+     *
+     * @return The last step which is done in the public function.
+     */
+    private static int splitStep( int N ) {
+        return N >= 9 ? N/2 : N - 1;
+    }
+
+    /**
+     * Prints the code which loads the matrix into local variables, performs elimination steps first to last,
+     * writes the results into LU, and returns.
+     */
+    private void printSteps( int N, String input, int first, int last ) {
+        for (int i = 1; i <= N; i++) {
+            out.print("        double ");
+            for (int j = 1; j <= N; j++) {
+                out.print(el(i, j) + " = " + input + "." + el(i, j) + (j < N ? ", " : ";\n"));
+            }
+        }
+        out.println();
+        out.println("        double max, t;");
+        out.println("        int p;");
+
+        for (int k = first; k <= last; k++) {
+            out.println();
+            out.println("        // select the pivot in column " + k);
+            out.println("        p = " + (k - 1) + ";");
+            out.println("        max = Math.abs(" + el(k, k) + ");");
+            for (int i = k + 1; i <= N; i++) {
+                out.println("        t = Math.abs(" + el(i, k) + "); if (t > max) { max = t; p = " + (i - 1) + "; }");
+            }
+            out.println("        pivot[" + (k - 1) + "] = p;");
+            out.println("        switch (p) {");
+            for (int i = k + 1; i <= N; i++) {
+                out.print("            case " + (i - 1) + ":");
+                for (int j = 1; j <= N; j++) {
+                    out.print("\n                t = " + el(k, j) + "; " + el(k, j) + " = " + el(i, j) + "; " + el(i, j) + " = t;");
+                }
+                out.println("\n                break;");
+            }
+            out.println("        }");
+            out.println();
+            out.println("        // eliminate below the pivot");
+            for (int i = k + 1; i <= N; i++) {
+                out.println("        " + el(i, k) + " /= " + el(k, k) + ";");
+            }
+            for (int i = k + 1; i <= N; i++) {
+                out.print("       ");
+                for (int j = k + 1; j <= N; j++) {
+                    out.print(" " + el(i, j) + " -= " + el(i, k) + "*" + el(k, j) + ";");
+                }
+                out.println();
+            }
+        }
+        if (last == N - 1)
+            out.println("        pivot[" + (N - 1) + "] = " + (N - 1) + ";");
+        out.println();
+        for (int i = 1; i <= N; i++) {
+            out.print("       ");
+            for (int j = 1; j <= N; j++) {
+                out.print(" LU." + el(i, j) + " = " + el(i, j) + ";");
+            }
+            out.println();
+        }
+        if (last != N - 1)
+            return;
+        out.println();
+        out.print("        return ");
+        for (int i = 1; i <= N; i++) {
+            out.print(el(i, i) + " != 0.0 && ");
+        }
+        out.println("!UtilEjml.isUncountable(" + el(N, N) + ");");
+    }
+
+    private void solve( int N ) {
+        out.print("    /**\n" +
+                "     * Solves for 'x' in the linear system A*x = b using the LU decomposition of A.\n" +
+                "     *\n" +
+                "     * @param LU (Input) LU decomposition of A. Not modified.\n" +
+                "     * @param pivot (Input) Pivots from the decomposition. Not modified.\n" +
+                "     * @param b (Input) Vector. Not modified.\n" +
+                "     * @param x (Output) Solution. Can be the same instance as b.\n" +
+                "     */\n" +
+                "    public static void solve( " + nameMatrix + " LU, int[] pivot, " + nameVector + " b, " + nameVector + " x ) {\n");
+
+        out.print("        double ");
+        for (int i = 1; i <= N; i++) {
+            out.print("b" + i + " = b.a" + i + (i < N ? ", " : ";\n"));
+        }
+        out.println("        double t;");
+        out.println();
+        out.println("        // apply the row swaps");
+        for (int k = 1; k < N; k++) {
+            out.println("        switch (pivot[" + (k - 1) + "]) {");
+            for (int i = k + 1; i <= N; i++) {
+                out.println("            case " + (i - 1) + ": t = b" + k + "; b" + k + " = b" + i + "; b" + i + " = t; break;");
+            }
+            out.println("        }");
+        }
+        out.println();
+        out.println("        // solve L*y = P*b");
+        for (int i = 2; i <= N; i++) {
+            out.print("        b" + i + " -= ");
+            for (int k = 1; k < i; k++) {
+                if (k != 1)
+                    out.print(" + ");
+                out.print("LU." + el(i, k) + "*b" + k);
+            }
+            out.println(";");
+        }
+        out.println();
+        out.println("        // solve U*x = y");
+        for (int i = N; i >= 1; i--) {
+            if (i == N) {
+                out.println("        b" + N + " /= LU." + el(N, N) + ";");
+                continue;
+            }
+            out.print("        b" + i + " = (b" + i);
+            for (int k = i + 1; k <= N; k++) {
+                out.print(" - LU." + el(i, k) + "*b" + k);
+            }
+            out.println(")/LU." + el(i, i) + ";");
+        }
+        out.println();
+        out.print("       ");
+        for (int i = 1; i <= N; i++) {
+            out.print(" x.a" + i + " = b" + i + ";");
+        }
+        out.println();
+        out.print("    }\n\n");
+    }
+
+    private void det( int N ) {
+        out.print("    /**\n" +
+                "     * Computes the determinant of A from its LU decomposition.\n" +
+                "     *\n" +
+                "     * @param LU (Input) LU decomposition of A. Not modified.\n" +
+                "     * @param pivot (Input) Pivots from the decomposition. Not modified.\n" +
+                "     * @return The determinant of A.\n" +
+                "     */\n" +
+                "    public static double det( " + nameMatrix + " LU, int[] pivot ) {\n" +
+                "        double ret = ");
+        for (int i = 1; i <= N; i++) {
+            if (i != 1)
+                out.print("*");
+            out.print("LU." + el(i, i));
+        }
+        out.println(";");
+        for (int k = 0; k < N - 1; k++) {
+            out.println("        if (pivot[" + k + "] != " + k + ") ret = -ret;");
+        }
+        out.println("        return ret;");
+        out.print("    }\n\n");
+    }
+
+    private static String el( int row, int col ) {
+        return "a" + row + "" + col;
+    }
+
+    public static void main( String[] args ) throws FileNotFoundException {
+        GenerateLUOps_DDF app = new GenerateLUOps_DDF();
+
+        app.generate();
+    }
+}
@@ -33,7 +33,7 @@ public class GenerateNormOps_DDF extends GenerateFixed {
 
     @Override
     public void generate() throws FileNotFoundException {
-        for( int dimension = 2; dimension <= 6; dimension++ ){
+        for( int dimension = 2; dimension <= MAX_DIMENSION; dimension++ ){
             printPreable(dimension);
 
             normalizeF(dimension);
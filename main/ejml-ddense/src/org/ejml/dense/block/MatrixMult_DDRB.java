@@ -319,4 +319,47 @@ public class MatrixMult_DDRB {
         }
         //CONCURRENT_ABOVE });
     }
+
+    /**
+     * <p>
+     * Performs a matrix multiplication with a transpose on {@link DMatrixRBlock} submatrices.<br>
+     * <br>
+     * c = c - a * b <sup>T</sup> <br>
+     * <br>
+     * </p>
+     *
+     * <p>
+     * It is assumed that all submatrices start at the beginning of a block and end at the end of a block.
+     * </p>
+     *
+     * @param blockLength Length of the blocks in the submatrix.
+     * @param A A submatrix.  Not modified.
+     * @param B A submatrix.  Not modified.
+     * @param C Result of the operation.  Modified,
+     */
+    public static void multMinusTransB( int blockLength,
+                                        DSubmatrixD1 A, DSubmatrixD1 B,
+                                        DSubmatrixD1 C ) {
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(A.row0,A.row1,blockLength,i->{
+        for (int i = A.row0; i < A.row1; i += blockLength) {
+            int heightA = Math.min(blockLength, A.row1 - i);
+
+            for (int j = B.row0; j < B.row1; j += blockLength) {
+                int widthC = Math.min(blockLength, B.row1 - j);
+
+                int indexC = (i - A.row0 + C.row0)*C.original.numCols + (j - B.row0 + C.col0)*heightA;
+
+                for (int k = A.col0; k < A.col1; k += blockLength) {
+                    int widthA = Math.min(blockLength, A.col1 - k);
+
+                    int indexA = i*A.original.numCols + k*heightA;
+                    int indexB = j*B.original.numCols + (k - A.col0 + B.col0)*widthC;
+
+                    blockMultMinusTransB(A.original.data, B.original.data, C.original.data,
+                            indexA, indexB, indexC, heightA, widthA, widthC);
+                }
+            }
+        }
+        //CONCURRENT_ABOVE });
+    }
 }
@@ -0,0 +1,633 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.block.decomposition.bidiagonal;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRBlock;
+import org.ejml.data.DSubmatrixD1;
+import org.ejml.dense.block.MatrixMult_DDRB;
+import org.ejml.dense.block.MatrixOps_DDRB;
+import org.ejml.dense.block.decomposition.qr.BlockHouseHolder_DDRB;
+import org.ejml.dense.row.decomposition.qr.QrHelperFunctions_DDRM;
+import org.ejml.interfaces.decomposition.BidiagonalDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+import pabeles.concurrency.GrowArray;
+
+import java.util.Arrays;
+
+//CONCURRENT_INLINE import org.ejml.dense.block.*;
+//CONCURRENT_INLINE import org.ejml.dense.block.decomposition.qr.BlockHouseHolder_MT_DDRB;
+//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;
+
+//CONCURRENT_MACRO MatrixMult_DDRB MatrixMult_MT_DDRB
+//CONCURRENT_MACRO BlockHouseHolder_DDRB BlockHouseHolder_MT_DDRB
+
+/**
+ * <p>
+ * Bidiagonal decomposition for {@link DMatrixRBlock} using householder reflectors. The matrix is processed one
+ * block column and block row at a time. Inside a block the reflectors are computed one at a time, but instead of
+ * applying them to the entire matrix the update is accumulated into the matrices X and Y. After all the
+ * reflectors in a block have been computed the remainder of the matrix is updated using two matrix
+ * multiplications:<br>
+ * <br>
+ * A = A - U*Y<sup>T</sup> - X*V<sup>T</sup><br>
+ * <br>
+ * where U and V contain the reflectors which have just been computed. This moves most of the work into
+ * matrix multiplications instead of rank-1 updates.
+ * </p>
+ *
+ * <p>
+ * The input matrix is modified and used to store the decomposition. The same storage format as
+ * {@link org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecompositionRow_DDRM} is used. Reflectors for
+ * U are stored in the lower triangle columns and reflectors for V in the upper triangle rows, to the right of the
+ * super diagonal. The first element of each reflector is implicitly assumed to be one.
+ * </p>
+ *
+ * <p>
+ * Based upon the blocked bidiagonal reduction in "LAPACK Users' Guide" 3rd Ed. 1999, which is described in
+ * "Block reduction of matrices to condensed forms for eigenvalue computations" by J. J. Dongarra,
+ * S. J. Hammarling, and D. C. Sorensen, 1989.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public class BidiagonalDecompositionHouseholder_DDRB
+        implements BidiagonalDecomposition_F64<DMatrixRBlock> {
+
+    // the input matrix which is overwritten with the decomposition.
+    protected DMatrixRBlock A;
+    protected int blockLength;
+
+    // shape of the matrix and the smaller of the two
+    protected int m, n, min;
+
+    // the first element in the orthogonal vectors
+    protected double[] gammasU = new double[0];
+    protected double[] gammasV = new double[0];
+
+    // Reflectors and updates for the block which is being processed. The number of columns in each matrix
+    // is the block length, which makes their internal format identical to a row major matrix.
+    protected final DMatrixRBlock panelU = new DMatrixRBlock(1, 1);
+    protected final DMatrixRBlock panelV = new DMatrixRBlock(1, 1);
+    protected final DMatrixRBlock panelX = new DMatrixRBlock(1, 1);
+    protected final DMatrixRBlock panelY = new DMatrixRBlock(1, 1);
+    // transposed V and Y
+    protected final DMatrixRBlock panelVt = new DMatrixRBlock(1, 1);
+    protected final DMatrixRBlock panelYt = new DMatrixRBlock(1, 1);
+
+    // the reflector being computed and the vector it's multiplied against
+    protected double[] u = new double[0];
+    protected double[] v = new double[0];
+    protected double[] x = new double[0];
+    protected double[] y = new double[0];
+    // inner products against reflectors inside the block
+    protected double[] t0 = new double[0];
+    protected double[] t1 = new double[0];
+
+    // The submatrices which are being manipulated in each iteration
+    private final DSubmatrixD1 subA = new DSubmatrixD1();
+    private final DSubmatrixD1 subU = new DSubmatrixD1(panelU);
+    private final DSubmatrixD1 subX = new DSubmatrixD1(panelX);
+    private final DSubmatrixD1 subVt = new DSubmatrixD1(panelVt);
+    private final DSubmatrixD1 subYt = new DSubmatrixD1(panelYt);
+
+    // used to compute U and V
+    private final DMatrixRBlock dataW = new DMatrixRBlock(1, 1);
+    private final DMatrixRBlock dataWTA = new DMatrixRBlock(1, 1);
+    private final DMatrixRBlock dataT = new DMatrixRBlock(1, 1);
+    private final GrowArray<DGrowArray> workspace = new GrowArray<>(DGrowArray::new);
+
+    @Override
+    public boolean decompose( DMatrixRBlock orig ) {
+        setup(orig);
+
+        for (int p = 0; p < min; p += blockLength) {
+            int end = Math.min(p + blockLength, min);
+
+            Arrays.fill(panelU.data, 0, panelU.getNumElements(), 0);
+            Arrays.fill(panelV.data, 0, panelV.getNumElements(), 0);
+            Arrays.fill(panelX.data, 0, panelX.getNumElements(), 0);
+            Arrays.fill(panelY.data, 0, panelY.getNumElements(), 0);
+
+            for (int k = p; k < end; k++) {
+                computeU(p, k);
+                computeV(p, k);
+            }
+
+            // A = A - U*Y^T - X*V^T
+            if (end < m && end < n) {
+                // transpose Y and V so that the faster multiplication without a transpose can be used
+                MatrixOps_DDRB.transpose(panelY, panelYt);
+                MatrixOps_DDRB.transpose(panelV, panelVt);
+
+                subA.original = A;
+                subA.row0 = subA.col0 = end;
+                subA.row1 = m;
+                subA.col1 = n;
+                subU.row0 = subX.row0 = end;
+                subU.row1 = subX.row1 = m;
+                subVt.col0 = subYt.col0 = end;
+                subVt.col1 = subYt.col1 = n;
+
+                MatrixMult_DDRB.multMinus(blockLength, subU, subYt, subA);
+                MatrixMult_DDRB.multMinus(blockLength, subX, subVt, subA);
+            }
+        }
+
+        return true;
+    }
+
+    private void setup( DMatrixRBlock orig ) {
+        A = orig;
+        blockLength = orig.blockLength;
+        m = orig.numRows;
+        n = orig.numCols;
+        min = Math.min(m, n);
+
+        panelU.reshape(m, blockLength, blockLength, false);
+        panelX.reshape(m, blockLength, blockLength, false);
+        panelV.reshape(n, blockLength, blockLength, false);
+        panelY.reshape(n, blockLength, blockLength, false);
+        panelVt.reshape(blockLength, n, blockLength, false);
+        panelYt.reshape(blockLength, n, blockLength, false);
+        subU.col1 = subX.col1 = blockLength;
+        subVt.row1 = subYt.row1 = blockLength;
+
+        int max = Math.max(m, n);
+        if (u.length < max) {
+            u = new double[max];
+            v = new double[max];
+            x = new double[max];
+            y = new double[max];
+        }
+        if (gammasU.length < m)
+            gammasU = new double[m];
+        if (gammasV.length < n)
+            gammasV = new double[n];
+        if (t0.length < blockLength) {
+            t0 = new double[blockLength];
+            t1 = new double[blockLength];
+        }
+    }
+
+    /**
+     * Computes the reflector for column 'k' and how it modifies the rows in the remainder of the matrix.
+     *
+     * @param p The first column in the block
+     * @param k The column being processed
+     */
+    protected void computeU( int p, int k ) {
+        final int r = blockLength;
+        final int c = k - p;
+        final double[] dataA = A.data;
+        final double[] dataU = panelU.data;
+        final double[] dataV = panelV.data;
+        final double[] dataX = panelX.data;
+        final double[] dataY = panelY.data;
+
+        // copy the column and apply the previous reflectors in this block to it
+        double max = 0;
+        for (int i = k; i < m; i++) {
+            double val = dataA[A.getIndex(i, k)];
+            for (int l = 0; l < c; l++) {
+                val -= dataU[i*r + l]*dataY[k*r + l] + dataX[i*r + l]*dataV[k*r + l];
+            }
+            u[i] = val;
+            max = Math.max(max, Math.abs(val));
+        }
+
+        double gamma = 0;
+        if (max > 0) {
+            double tau = QrHelperFunctions_DDRM.computeTauAndDivide(k, m, u, max);
+            double nu = u[k] + tau;
+            QrHelperFunctions_DDRM.divideElements(k + 1, m, u, nu);
+            gamma = nu/tau;
+            u[k] = -tau*max;
+        }
+        gammasU[k] = gamma;
+
+        // save the reflector and the diagonal element
+        for (int i = k; i < m; i++) {
+            dataA[A.getIndex(i, k)] = u[i];
+        }
+        u[k] = 1.0;
+        for (int i = k; i < m; i++) {
+            dataU[i*r + c] = u[i];
+        }
+
+        if (gamma == 0 || k + 1 >= n)
+            return;
+
+        // y = A^T*u - Y*U^T*u - V*X^T*u
+        multTransA_u(k, k + 1);
+
+        for (int l = 0; l < c; l++) {
+            double sumU = 0, sumX = 0;
+            for (int i = k; i < m; i++) {
+                sumU += dataU[i*r + l]*u[i];
+                sumX += dataX[i*r + l]*u[i];
+            }
+            t0[l] = sumU;
+            t1[l] = sumX;
+        }
+
+        for (int j = k + 1; j < n; j++) {
+            double val = y[j];
+            for (int l = 0; l < c; l++) {
+                val -= dataY[j*r + l]*t0[l] + dataV[j*r + l]*t1[l];
+            }
+            dataY[j*r + c] = gamma*val;
+        }
+    }
+
+    /**
+     * Computes the reflector for row 'k' and how it modifies the columns in the remainder of the matrix.
+     *
+     * @param p The first column in the block
+     * @param k The row being processed
+     */
+    protected void computeV( int p, int k ) {
+        if (k + 1 >= n) {
+            gammasV[k] = 0;
+            return;
+        }
+
+        final int r = blockLength;
+        final int c = k - p;
+        final double[] dataA = A.data;
+        final double[] dataU = panelU.data;
+        final double[] dataV = panelV.data;
+        final double[] dataX = panelX.data;
+        final double[] dataY = panelY.data;
+
+        // copy the row and apply the reflectors in this block to it
+        double max = 0;
+        for (int j = k + 1; j < n; j++) {
+            double val = dataA[A.getIndex(k, j)];
+            for (int l = 0; l <= c; l++) {
+                val -= dataY[j*r + l]*dataU[k*r + l];
+            }
+            for (int l = 0; l < c; l++) {
+                val -= dataV[j*r + l]*dataX[k*r + l];
+            }
+            v[j] = val;
+            max = Math.max(max, Math.abs(val));
+        }
+
+        double gamma = 0;
+        if (max > 0) {
+            double tau = QrHelperFunctions_DDRM.computeTauAndDivide(k + 1, n, v, max);
+            double nu = v[k + 1] + tau;
+            QrHelperFunctions_DDRM.divideElements(k + 2, n, v, nu);
+            gamma = nu/tau;
+            v[k + 1] = -tau*max;
+        }
+        gammasV[k] = gamma;
+
+        // save the reflector and the super diagonal element
+        for (int j = k + 1; j < n; j++) {
+            dataA[A.getIndex(k, j)] = v[j];
+        }
+        v[k + 1] = 1.0;
+        for (int j = k + 1; j < n; j++) {
+            dataV[j*r + c] = v[j];
+        }
+
+        if (gamma == 0 || k + 1 >= m)
+            return;
+
+        // x = A*v - U*Y^T*v - X*V^T*v
+        multA_v(k + 1, k + 1);
+
+        for (int l = 0; l <= c; l++) {
+            double sumY = 0, sumV = 0;
+            for (int j = k + 1; j < n; j++) {
+                sumY += dataY[j*r + l]*v[j];
+                sumV += dataV[j*r + l]*v[j];
+            }
+            t0[l] = sumY;
+            t1[l] = sumV;
+        }
+
+        for (int i = k + 1; i < m; i++) {
+            double val = x[i];
+            for (int l = 0; l <= c; l++) {
+                val -= dataU[i*r + l]*t0[l];
+            }
+            for (int l = 0; l < c; l++) {
+                val -= dataX[i*r + l]*t1[l];
+            }
+            dataX[i*r + c] = gamma*val;
+        }
+    }
+
+    /**
+     * Computes y = A(row0:m,col0:n)<sup>T</sup>*u using the matrix as it was at the start of the block.
+     */
+    protected void multTransA_u( final int row0, final int col0 ) {
+        final double[] dataA = A.data;
+        final int start = col0 - col0%blockLength;
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(start, n, blockLength, bc -> {
+        for (int bc = start; bc < n; bc += blockLength) {
+            int width = Math.min(blockLength, n - bc);
+            int j0 = Math.max(bc, col0);
+            int j1 = bc + width;
+
+            for (int j = j0; j < j1; j++) {
+                y[j] = 0;
+            }
+
+            for (int br = row0 - row0%blockLength; br < m; br += blockLength) {
+                int height = Math.min(blockLength, m - br);
+                int indexBlock = br*n + height*bc - bc;
+
+                int i = Math.max(br, row0);
+                int i1 = br + height;
+
+                // two rows at a time to reduce the number of times y is read and written
+                for (; i < i1 - 1; i += 2) {
+                    double u0 = u[i];
+                    double u1 = u[i + 1];
+                    int index0 = indexBlock + (i - br)*width;
+                    int index1 = index0 + width;
+                    for (int j = j0; j < j1; j++) {
+                        y[j] += dataA[index0 + j]*u0 + dataA[index1 + j]*u1;
+                    }
+                }
+                if (i < i1) {
+                    double u0 = u[i];
+                    int index0 = indexBlock + (i - br)*width;
+                    for (int j = j0; j < j1; j++) {
+                        y[j] += dataA[index0 + j]*u0;
+                    }
+                }
+            }
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * Computes x = A(row0:m,col0:n)*v using the matrix as it was at the start of the block.
+     */
+    protected void multA_v( final int row0, final int col0 ) {
+        final double[] dataA = A.data;
+        final int start = row0 - row0%blockLength;
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(start, m, blockLength, br -> {
+        for (int br = start; br < m; br += blockLength) {
+            int height = Math.min(blockLength, m - br);
+            int i0 = Math.max(br, row0);
+            int i1 = br + height;
+
+            for (int i = i0; i < i1; i++) {
+                x[i] = 0;
+            }
+
+            for (int bc = col0 - col0%blockLength; bc < n; bc += blockLength) {
+                int width = Math.min(blockLength, n - bc);
+                int indexBlock = br*n + height*bc - bc;
+                int j0 = Math.max(bc, col0);
+                int j1 = bc + width;
+
+                int i = i0;
+
+                // two rows at a time so that each element in v is read once for both rows
+                for (; i < i1 - 1; i += 2) {
+                    int index0 = indexBlock + (i - br)*width;
+                    int index1 = index0 + width;
+                    double sum0 = 0, sum1 = 0;
+                    for (int j = j0; j < j1; j++) {
+                        double vj = v[j];
+                        sum0 += dataA[index0 + j]*vj;
+                        sum1 += dataA[index1 + j]*vj;
+                    }
+                    x[i] += sum0;
+                    x[i + 1] += sum1;
+                }
+                if (i < i1) {
+                    int index0 = indexBlock + (i - br)*width;
+                    double sum0 = 0;
+                    for (int j = j0; j < j1; j++) {
+                        sum0 += dataA[index0 + j]*v[j];
+                    }
+                    x[i] += sum0;
+                }
+            }
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    @Override
+    public void getDiagonal( double[] diag, double[] off ) {
+        for (int i = 0; i < min; i++) {
+            diag[i] = A.get(i, i);
+        }
+        for (int i = 1; i < min; i++) {
+            off[i - 1] = A.get(i - 1, i);
+        }
+    }
+
+    /**
+     * Returns the bidiagonal matrix.
+     *
+     * @param B If not null the results are stored here, if null a new matrix is created.
+     * @return The bidiagonal matrix.
+     */
+    @Override
+    public DMatrixRBlock getB( @Nullable DMatrixRBlock B, boolean compact ) {
+        int w = n > m ? min + 1 : min;
+
+        if (compact)
+            B = reshape(B, min, w);
+        else
+            B = reshape(B, m, n);
+        B.zero();
+
+        for (int i = 0; i < min; i++) {
+            B.set(i, i, A.get(i, i));
+            if (i + 1 < min || n > m)
+                B.set(i, i + 1, A.get(i, i + 1));
+        }
+
+        return B;
+    }
+
+    /**
+     * Returns the orthogonal U matrix.
+     *
+     * @param U If not null then the results will be stored here. Otherwise a new matrix will be created.
+     * @return The extracted U matrix.
+     */
+    @Override
+    public DMatrixRBlock getU( @Nullable DMatrixRBlock U, boolean transpose, boolean compact ) {
+        int numCols = compact ? min : m;
+
+        DMatrixRBlock Q = transpose ? new DMatrixRBlock(m, numCols, blockLength) : reshape(U, m, numCols);
+        MatrixOps_DDRB.setIdentity(Q);
+
+        if (n > m) {
+            // the reflectors need to be inside a matrix with the same number of columns for applyReflectors()
+            dataT.blockLength = blockLength;
+            dataT.reshape(m, m, false);
+            dataT.zero();
+            for (int i = 1; i < m; i++) {
+                for (int j = 0; j < i; j++) {
+                    dataT.set(i, j, A.get(i, j));
+                }
+            }
+            applyReflectors(dataT, gammasU, min, Q);
+        } else {
+            applyReflectors(A, gammasU, min, Q);
+        }
+
+        if (transpose) {
+            U = reshape(U, numCols, m);
+            MatrixOps_DDRB.transpose(Q, U);
+            return U;
+        }
+        return Q;
+    }
+
+    /**
+     * Returns the orthogonal V matrix.
+     *
+     * @param V If not null then the results will be stored here. Otherwise a new matrix will be created.
+     * @return The extracted V matrix.
+     */
+    @Override
+    public DMatrixRBlock getV( @Nullable DMatrixRBlock V, boolean transpose, boolean compact ) {
+        int numCols = compact ? (n > m ? min + 1 : min) : n;
+
+        DMatrixRBlock Q = transpose ? new DMatrixRBlock(n, numCols, blockLength) : reshape(V, n, numCols);
+        MatrixOps_DDRB.setIdentity(Q);
+
+        // The reflectors are stored in rows and start one column to the right of the diagonal. Copy them
+        // into the columns of T so that they can be applied in the same way as the reflectors in U
+        int count = Math.min(min, n - 1);
+        if (count > 0) {
+            dataT.blockLength = blockLength;
+            dataT.reshape(n - 1, count, false);
+            dataT.zero();
+            for (int k = 0; k < count; k++) {
+                for (int j = k + 1; j < n; j++) {
+                    dataT.set(j - 1, k, A.get(k, j));
+                }
+            }
+
+            DMatrixRBlock QT = new DMatrixRBlock(n - 1, numCols - 1, blockLength);
+            MatrixOps_DDRB.setIdentity(QT);
+            applyReflectors(dataT, gammasV, count, QT);
+
+            for (int i = 1; i < n; i++) {
+                for (int j = 1; j < numCols; j++) {
+                    Q.set(i, j, QT.get(i - 1, j - 1));
+                }
+            }
+        }
+
+        if (transpose) {
+            V = reshape(V, numCols, n);
+            MatrixOps_DDRB.transpose(Q, V);
+            return V;
+        }
+        return Q;
+    }
+
+    /**
+     * Multiplies B by the reflectors stored in the lower triangle columns of 'reflectors', B = H<sub>0</sub>*...
+     * *H<sub>count-1</sub>*B. B is assumed to be an identity matrix and its zeros are taken advantage of.
+     * 'reflectors' must have at most 'count' columns or the last block column won't be aligned.
+     */
+    private void applyReflectors( DMatrixRBlock reflectors, double[] gammas, int count, DMatrixRBlock B ) {
+        if (count == 0)
+            return;
+
+        dataW.blockLength = blockLength;
+        dataWTA.blockLength = blockLength;
+        dataW.reshape(reflectors.numRows, Math.min(blockLength, count), false);
+
+        DSubmatrixD1 Y = new DSubmatrixD1(reflectors);
+        DSubmatrixD1 W = new DSubmatrixD1(dataW);
+        DSubmatrixD1 WTA = new DSubmatrixD1(dataWTA);
+        DSubmatrixD1 subB = new DSubmatrixD1(B);
+
+        Y.row1 = W.row1 = reflectors.numRows;
+
+        int start = count - count%blockLength;
+        if (start == count)
+            start -= blockLength;
+
+        for (int i = start; i >= 0; i -= blockLength) {
+            Y.col0 = i;
+            Y.col1 = Math.min(i + blockLength, count);
+            Y.row0 = i;
+            subB.col0 = i;
+            subB.row0 = i;
+
+            W.col1 = Y.col1 - Y.col0;
+            W.row0 = Y.row0;
+            WTA.row1 = Y.col1 - Y.col0;
+            WTA.col1 = subB.col1 - subB.col0;
+            WTA.original.reshape(WTA.row1, WTA.col1, false);
+
+            // Compute W matrix from reflectors stored in Y
+            BlockHouseHolder_DDRB.computeW_Column(blockLength, Y, W, workspace, gammas, Y.col0);
+
+            // Apply the reflectors to B
+            BlockHouseHolder_DDRB.multTransA_vecCol(blockLength, Y, subB, WTA);
+            MatrixMult_DDRB.multPlus(blockLength, W, WTA, subB);
+        }
+    }
+
+    private DMatrixRBlock reshape( @Nullable DMatrixRBlock A, int numRows, int numCols ) {
+        if (A == null)
+            return new DMatrixRBlock(numRows, numCols, blockLength);
+        A.reshape(numRows, numCols, blockLength, false);
+        return A;
+    }
+
+    /**
+     * The matrix which has been overwritten by the decomposition.
+     */
+    public DMatrixRBlock getUBV() {
+        return A;
+    }
+
+    /**
+     * Returns gammas from the householder operations for the U matrix.
+     */
+    public double[] getGammasU() {
+        return gammasU;
+    }
+
+    /**
+     * Returns gammas from the householder operations for the V matrix.
+     */
+    public double[] getGammasV() {
+        return gammasV;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return true;
+    }
+}
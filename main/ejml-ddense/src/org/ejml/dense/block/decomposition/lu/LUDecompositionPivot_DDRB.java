@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.block.decomposition.lu;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.Complex_F64;
+import org.ejml.data.DMatrixRBlock;
+import org.ejml.data.DSubmatrixD1;
+import org.ejml.data.IGrowArray;
+import org.ejml.dense.block.MatrixMult_DDRB;
+import org.ejml.dense.row.SpecializedOps_DDRM;
+import org.ejml.interfaces.decomposition.LUDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.dense.block.InnerMultiplication_DDRB.blockMultMinus;
+
+//CONCURRENT_INLINE import org.ejml.dense.block.*;
+//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;
+
+//CONCURRENT_MACRO MatrixMult_DDRB MatrixMult_MT_DDRB
+
+/**
+ * <p>
+ * LU decomposition with partial pivoting for {@link DMatrixRBlock}. The matrix is processed one block column
+ * at a time. First the panel, which is the block column on and below the diagonal, is decomposed using partial
+ * pivoting. The row swaps are then applied to the other block columns, the block row to the right of the
+ * diagonal is solved for, U<sub>12</sub> = L<sub>11</sub><sup>-1</sup>A<sub>12</sub>, and the trailing matrix
+ * is updated, A<sub>22</sub> = A<sub>22</sub> - L<sub>21</sub>U<sub>12</sub>.
+ * </p>
+ *
+ * <p>
+ * The input matrix is modified and used to store the decomposition. L is stored in the lower triangle and
+ * has ones along its diagonal, which are not saved. U is stored in the upper triangle. Rows are swapped in the
+ * same way as {@link org.ejml.dense.row.decomposition.lu.LUDecompositionAlt_DDRM}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public class LUDecompositionPivot_DDRB implements LUDecomposition_F64<DMatrixRBlock> {
+
+    // the input matrix which is overwritten with the decomposition.
+    protected DMatrixRBlock LU;
+    protected int blockLength;
+
+    // the shape of the matrix
+    protected int m, n;
+
+    // row which was swapped with each row
+    protected int[] indx = new int[0];
+    // the original row of each row in the decomposition
+    protected int[] pivot = new int[0];
+
+    // used by determinant
+    protected double pivsign;
+
+    Complex_F64 det = new Complex_F64();
+
+    // submatrices used to describe the blocks being processed
+    protected DSubmatrixD1 subL11 = new DSubmatrixD1();
+    protected DSubmatrixD1 subL21 = new DSubmatrixD1();
+    protected DSubmatrixD1 subU12 = new DSubmatrixD1();
+    protected DSubmatrixD1 subA22 = new DSubmatrixD1();
+
+    @Override
+    public boolean decompose( DMatrixRBlock A ) {
+        LU = A;
+        blockLength = A.blockLength;
+        m = A.numRows;
+        n = A.numCols;
+
+        int maxLength = Math.max(m, n);
+        if (indx.length < maxLength) {
+            indx = new int[maxLength];
+            pivot = new int[maxLength];
+        }
+        for (int i = 0; i < m; i++) {
+            pivot[i] = i;
+        }
+        pivsign = 1;
+
+        final int minLength = Math.min(m, n);
+
+        for (int j0 = 0; j0 < minLength; j0 += blockLength) {
+            int j1 = Math.min(j0 + blockLength, minLength);
+            // the last column in this block column
+            int end = Math.min(j0 + blockLength, n);
+
+            decomposePanel(j0, j1);
+
+            // apply the row swaps to the block columns on either side of the panel
+            swapRows(LU, indx, j0, j1, 0, j0);
+
+            if (end < n) {
+                swapRows(LU, indx, j0, j1, end, n);
+
+                setSubmatrix(subL11, j0, j1, j0, j1);
+                setSubmatrix(subU12, j0, j1, end, n);
+                solveUnitLower(blockLength, subL11, subU12);
+
+                if (j1 < m) {
+                    setSubmatrix(subL21, j1, m, j0, end);
+                    setSubmatrix(subA22, j1, m, end, n);
+                    MatrixMult_DDRB.multMinus(blockLength, subL21, subU12, subA22);
+                }
+            }
+        }
+
+        // Columns which are past the last row aren't pivoted
+        for (int j = minLength; j < n; j++) {
+            indx[j] = j;
+        }
+
+        return true;
+    }
+
+    private void setSubmatrix( DSubmatrixD1 sub, int row0, int row1, int col0, int col1 ) {
+        sub.original = LU;
+        sub.row0 = row0;
+        sub.row1 = row1;
+        sub.col0 = col0;
+        sub.col1 = col1;
+    }
+
+    /**
+     * Decomposes columns [j0,j1) in all the rows below j0 using partial pivoting. Only the rows inside the
+     * block column which starts at j0 are swapped.
+     */
+    protected void decomposePanel( int j0, int j1 ) {
+        final double[] dataLU = LU.data;
+        final int width = Math.min(blockLength, n - j0);
+
+        for (int j = j0; j < j1; j++) {
+            int c = j - j0;
+
+            // Find pivot and exchange if necessary.
+            int p = j;
+            double max = Math.abs(dataLU[LU.getIndex(j, j0) + c]);
+            for (int i = j + 1; i < m; i++) {
+                double v = Math.abs(dataLU[LU.getIndex(i, j0) + c]);
+                if (v > max) {
+                    p = i;
+                    max = v;
+                }
+            }
+
+            int indexJ = LU.getIndex(j, j0);
+            if (p != j) {
+                int indexP = LU.getIndex(p, j0);
+                for (int k = 0; k < width; k++) {
+                    double t = dataLU[indexP + k];
+                    dataLU[indexP + k] = dataLU[indexJ + k];
+                    dataLU[indexJ + k] = t;
+                }
+                int k = pivot[p];
+                pivot[p] = pivot[j];
+                pivot[j] = k;
+                pivsign = -pivsign;
+            }
+            indx[j] = p;
+
+            // Compute multipliers and update the remainder of the panel
+            double lujj = dataLU[indexJ + c];
+            for (int i = j + 1; i < m; i++) {
+                int indexI = LU.getIndex(i, j0);
+                if (lujj != 0)
+                    dataLU[indexI + c] /= lujj;
+                double lij = dataLU[indexI + c];
+                if (lij == 0)
+                    continue;
+                for (int k = c + 1; k < width; k++) {
+                    dataLU[indexI + k] -= lij*dataLU[indexJ + k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Swaps rows inside of the block columns [col0,col1). Row 'j' is swapped with row indx[j] for each j in
+     * [row0,row1), in that order.
+     *
+     * @param A Matrix whose rows are swapped. Modified.
+     * @param indx Which row each row is swapped with.
+     * @param row0 First row which is swapped.
+     * @param row1 Last row which is swapped. Exclusive.
+     * @param col0 First column. Must be block aligned.
+     * @param col1 Last column. Exclusive.
+     */
+    public static void swapRows( DMatrixRBlock A, int[] indx, int row0, int row1, int col0, int col1 ) {
+        final double[] data = A.data;
+        final int blockLength = A.blockLength;
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(col0, col1, blockLength, col -> {
+        for (int col = col0; col < col1; col += blockLength) {
+            int width = Math.min(blockLength, col1 - col);
+
+            for (int j = row0; j < row1; j++) {
+                int p = indx[j];
+                if (p == j)
+                    continue;
+                int indexJ = A.getIndex(j, col);
+                int indexP = A.getIndex(p, col);
+                for (int k = 0; k < width; k++) {
+                    double t = data[indexP + k];
+                    data[indexP + k] = data[indexJ + k];
+                    data[indexJ + k] = t;
+                }
+            }
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>
+     * Solves for X in L*X = B using forward substitution, where L is lower triangular with ones along
+     * its diagonal. The diagonal and upper triangle of L are not read. The solution is written into B.
+     * </p>
+     *
+     * <p>
+     * It is assumed that all submatrices start at the beginning of a block and end at the end of a block.
+     * </p>
+     *
+     * @param blockLength Size of the blocks in the submatrix.
+     * @param L Square lower triangular submatrix. Not modified.
+     * @param B A submatrix with the same rows as L. Modified.
+     */
+    public static void solveUnitLower( final int blockLength, final DSubmatrixD1 L, final DSubmatrixD1 B ) {
+        final double[] dataL = L.original.data;
+        final double[] dataB = B.original.data;
+        final int numRowsL = L.row1 - L.row0;
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(B.col0, B.col1, blockLength, col -> {
+        for (int col = B.col0; col < B.col1; col += blockLength) {
+            int widthB = Math.min(blockLength, B.col1 - col);
+
+            for (int i = 0; i < numRowsL; i += blockLength) {
+                int heightI = Math.min(blockLength, numRowsL - i);
+                int indexB_i = (B.row0 + i)*B.original.numCols + col*heightI;
+
+                // B(i) = B(i) - L(i,k)*X(k)
+                for (int k = 0; k < i; k += blockLength) {
+                    int indexL = (L.row0 + i)*L.original.numCols + (L.col0 + k)*heightI;
+                    int indexB_k = (B.row0 + k)*B.original.numCols + col*blockLength;
+
+                    blockMultMinus(dataL, dataB, dataB, indexL, indexB_k, indexB_i, heightI, blockLength, widthB);
+                }
+
+                // forward substitution inside the diagonal block
+                int widthL = Math.min(blockLength, L.original.numCols - L.col0 - i);
+                int indexL = (L.row0 + i)*L.original.numCols + (L.col0 + i)*heightI;
+
+                for (int row = 1; row < heightI; row++) {
+                    int indexRow = indexB_i + row*widthB;
+                    for (int k = 0; k < row; k++) {
+                        double l = dataL[indexL + row*widthL + k];
+                        if (l == 0)
+                            continue;
+                        int indexK = indexB_i + k*widthB;
+                        for (int x = 0; x < widthB; x++) {
+                            dataB[indexRow + x] -= l*dataB[indexK + x];
+                        }
+                    }
+                }
+            }
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+
+    /**
+     * Writes the lower triangular matrix into the specified matrix. It will be m by min(m,n).
+     *
+     * @param lower Where the lower triangular matrix is written to. If null a new matrix is declared.
+     */
+    @Override
+    public DMatrixRBlock getLower( @Nullable DMatrixRBlock lower ) {
+        int numCols = Math.min(m, n);
+        lower = reshape(lower, m, numCols);
+
+        for (int i = 0; i < m; i++) {
+            if (i < numCols)
+                lower.set(i, i, 1.0);
+            int end = Math.min(i, numCols);
+            for (int j = 0; j < end; j++) {
+                lower.set(i, j, LU.get(i, j));
+            }
+        }
+        return lower;
+    }
+
+    /**
+     * Writes the upper triangular matrix into the specified matrix. It will be min(m,n) by n.
+     *
+     * @param upper Where the upper triangular matrix is written to. If null a new matrix is declared.
+     */
+    @Override
+    public DMatrixRBlock getUpper( @Nullable DMatrixRBlock upper ) {
+        int numRows = Math.min(m, n);
+        upper = reshape(upper, numRows, n);
+
+        for (int i = 0; i < numRows; i++) {
+            for (int j = i; j < n; j++) {
+                upper.set(i, j, LU.get(i, j));
+            }
+        }
+        return upper;
+    }
+
+    @Override
+    public DMatrixRBlock getRowPivot( @Nullable DMatrixRBlock pivot ) {
+        pivot = reshape(pivot, m, m);
+        for (int i = 0; i < m; i++) {
+            pivot.set(i, this.pivot[i], 1);
+        }
+        return pivot;
+    }
+
+    @Override
+    public int[] getRowPivotV( @Nullable IGrowArray pivot ) {
+        return UtilEjml.pivotVector(this.pivot, m, pivot);
+    }
+
+    private DMatrixRBlock reshape( @Nullable DMatrixRBlock A, int numRows, int numCols ) {
+        if (A == null) {
+            return new DMatrixRBlock(numRows, numCols, blockLength);
+        }
+        A.reshape(numRows, numCols, blockLength, false);
+        A.zero();
+        return A;
+    }
+
+    /**
+     * Determines if the decomposed matrix is singular. This function can return
+     * false and the matrix be almost singular, which is still bad.
+     *
+     * @return true if singular false otherwise.
+     */
+    @Override
+    public boolean isSingular() {
+        int minLength = Math.min(m, n);
+        for (int i = 0; i < minLength; i++) {
+            if (Math.abs(LU.get(i, i)) < UtilEjml.EPS)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Computes the determinant from the LU decomposition.
+     *
+     * @return The matrix's determinant.
+     */
+    @Override
+    public Complex_F64 computeDeterminant() {
+        if (m != n)
+            throw new IllegalArgumentException("Must be a square matrix.");
+
+        double ret = pivsign;
+        for (int i = 0; i < n; i++) {
+            ret *= LU.get(i, i);
+        }
+
+        det.real = ret;
+        det.imaginary = 0;
+
+        return det;
+    }
+
+    public /**/double quality() {
+        return SpecializedOps_DDRM.qualityTriangular(LU);
+    }
+
+    /**
+     * Returns the matrix which contains the decomposition.
+     */
+    public DMatrixRBlock getLU() {
+        return LU;
+    }
+
+    /**
+     * Row which was swapped with each row. Row j was swapped with row indx[j], starting from the first row.
+     */
+    public int[] getIndx() {
+        return indx;
+    }
+
+    public int[] getPivot() {
+        return pivot;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return true;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.block.linsol.lu;
+
+import org.ejml.data.DMatrixRBlock;
+import org.ejml.data.DSubmatrixD1;
+import org.ejml.dense.block.MatrixOps_DDRB;
+import org.ejml.dense.block.TriangularSolver_DDRB;
+import org.ejml.dense.block.decomposition.lu.LUDecompositionPivot_DDRB;
+import org.ejml.dense.row.SpecializedOps_DDRM;
+import org.ejml.interfaces.decomposition.LUDecomposition_F64;
+import org.ejml.interfaces.linsol.LinearSolverDense;
+import org.jetbrains.annotations.Nullable;
+
+//CONCURRENT_INLINE import org.ejml.dense.block.TriangularSolver_MT_DDRB;
+//CONCURRENT_INLINE import org.ejml.dense.block.decomposition.lu.LUDecompositionPivot_MT_DDRB;
+
+//CONCURRENT_MACRO TriangularSolver_DDRB TriangularSolver_MT_DDRB
+//CONCURRENT_MACRO LUDecompositionPivot_DDRB LUDecompositionPivot_MT_DDRB
+
+/**
+ * <p>
+ * A solver for {@link LUDecompositionPivot_DDRB}. Systems are solved for using the standard LU
+ * decomposition method, sketched below.
+ * </p>
+ *
+ * <p>
+ * P*A = L*U<br>
+ * A*x = b<br>
+ * L*U*x = P*b <br>
+ * L*y = P*b<br>
+ * x = U<sup>-1</sup>y<br>
+ * <br>
+ * Where A is the n by n matrix being decomposed. P is a pivot matrix. L is lower triangular with ones along
+ * its diagonal. U is upper triangular.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public class LuPivotSolver_DDRB implements LinearSolverDense<DMatrixRBlock> {
+
+    // LU decomposition algorithm
+    protected LUDecompositionPivot_DDRB decomposer = new LUDecompositionPivot_DDRB();
+
+    // the input matrix which has been decomposed
+    protected DMatrixRBlock LU;
+
+    /**
+     * Computes the LU decomposition of A and store the results in A.
+     *
+     * @param A The A matrix in the linear equation. Modified. Reference saved.
+     * @return true if the decomposition was successful.
+     */
+    @Override
+    public boolean setA( DMatrixRBlock A ) {
+        if (!decomposer.decompose(A))
+            return false;
+
+        this.LU = decomposer.getLU();
+
+        return true;
+    }
+
+    /**
+     * Computes the quality using diagonal elements the triangular U matrix in the LU decomposition.
+     *
+     * @return Solutions quality.
+     */
+    @Override
+    public /**/double quality() {
+        return SpecializedOps_DDRM.qualityTriangular(LU);
+    }
+
+    /**
+     * If X == null then the solution is written into B. Otherwise the solution is copied
+     * from B into X.
+     */
+    @Override
+    public void solve( DMatrixRBlock B, @Nullable DMatrixRBlock X ) {
+        if (LU.numRows != LU.numCols)
+            throw new IllegalArgumentException("Can only solve square systems");
+        if (B.blockLength != LU.blockLength)
+            throw new IllegalArgumentException("Unexpected blocklength in B.");
+        if (B.numRows != LU.numRows)
+            throw new IllegalArgumentException("Row of B and A do not match");
+
+        solveInPlace(B);
+
+        if (X != null) {
+            X.reshape(LU.numCols, B.numCols, LU.blockLength, false);
+            MatrixOps_DDRB.extractAligned(B, X);
+        }
+    }
+
+    /**
+     * Invert by solving for against an identity matrix.
+     *
+     * @param A_inv Where the inverted matrix saved. Modified.
+     */
+    @Override
+    public void invert( DMatrixRBlock A_inv ) {
+        if (LU.numRows != LU.numCols)
+            throw new IllegalArgumentException("Can only invert square matrices");
+        if (A_inv.numRows != LU.numRows || A_inv.numCols != LU.numCols)
+            throw new IllegalArgumentException("Unexpected number or rows and/or columns");
+        if (A_inv.blockLength != LU.blockLength)
+            throw new IllegalArgumentException("Unexpected blocklength in A_inv.");
+
+        MatrixOps_DDRB.setIdentity(A_inv);
+        solveInPlace(A_inv);
+    }
+
+    private void solveInPlace( DMatrixRBlock B ) {
+        int N = LU.numRows;
+
+        // Y = P*B
+        LUDecompositionPivot_DDRB.swapRows(B, decomposer.getIndx(), 0, N, 0, B.numCols);
+
+        // Y = L^-1 * Y
+        DSubmatrixD1 T = new DSubmatrixD1(LU, 0, N, 0, N);
+        DSubmatrixD1 Y = new DSubmatrixD1(B);
+        LUDecompositionPivot_DDRB.solveUnitLower(LU.blockLength, T, Y);
+
+        // X = U^-1 * Y
+        TriangularSolver_DDRB.solve(LU.blockLength, true, T, Y, false);
+    }
+
+    @Override
+    public boolean modifiesA() {
+        return decomposer.inputModified();
+    }
+
+    @Override
+    public boolean modifiesB() {
+        return true;
+    }
+
+    @Override
+    public LUDecomposition_F64<DMatrixRBlock> getDecomposition() {
+        return decomposer;
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.direct;
+
+import org.ejml.EjmlParameters;
+import org.ejml.LinearSolverSafe;
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixDirect;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.direct.linsol.LinearSolverChol_DDRD;
+import org.ejml.dense.direct.linsol.LinearSolverLu_DDRD;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.interfaces.linsol.LinearSolverDense;
+
+/**
+ * <p>
+ * Common matrix operations for {@link DMatrixDirect}. Element-wise operations stream through the matrices in
+ * sequences of elements. Operations which have a two-dimensional access pattern copy square tiles, which are
+ * {@link EjmlParameters#BLOCK_WIDTH_DIRECT} wide, onto the heap and process them using the {@link DMatrixRMaj}
+ * functions. This way the full matrix is never on the heap and indexes into it can exceed 2<sup>31</sup>.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CommonOps_DDRD {
+    // number of elements which are streamed through at once by element-wise operations
+    private static final int STREAM_LENGTH = 4096;
+
+    /**
+     * Copies a submatrix of 'src' into 'dst', which is reshaped to match.
+     *
+     * @param src Matrix which is copied from. Not modified.
+     * @param srcY0 Start row.
+     * @param srcY1 Stop row+1.
+     * @param srcX0 Start column.
+     * @param srcX1 Stop column+1.
+     * @param dst Storage for the submatrix. Modified.
+     */
+    public static void extract( DMatrixDirect src, int srcY0, int srcY1, int srcX0, int srcX1, DMatrixRMaj dst ) {
+        if (srcY1 < srcY0 || srcY0 < 0 || srcY1 > src.numRows)
+            throw new MatrixDimensionException("srcY1 < srcY0 || srcY0 < 0 || srcY1 > src.numRows");
+        if (srcX1 < srcX0 || srcX0 < 0 || srcX1 > src.numCols)
+            throw new MatrixDimensionException("srcX1 < srcX0 || srcX0 < 0 || srcX1 > src.numCols");
+
+        int w = srcX1 - srcX0;
+        dst.reshape(srcY1 - srcY0, w);
+        for (int y = srcY0; y < srcY1; y++) {
+            src.getElements(src.getIndex(y, srcX0), dst.data, (y - srcY0)*w, w);
+        }
+    }
+
+    /**
+     * Copies all of 'src' into the submatrix of 'dst' which starts at (dstY0, dstX0).
+     *
+     * @param src Matrix which is copied. Not modified.
+     * @param dst Matrix which is written into. Modified.
+     * @param dstY0 Start row in dst.
+     * @param dstX0 Start column in dst.
+     */
+    public static void insert( DMatrixRMaj src, DMatrixDirect dst, int dstY0, int dstX0 ) {
+        if (dstY0 < 0 || dstY0 + src.numRows > dst.numRows || dstX0 < 0 || dstX0 + src.numCols > dst.numCols)
+            throw new MatrixDimensionException("src does not fit inside of dst. " + UtilEjml.stringShapes(src, dst));
+
+        int w = src.numCols;
+        for (int y = 0; y < src.numRows; y++) {
+            dst.setElements(dst.getIndex(dstY0 + y, dstX0), src.data, y*w, w);
+        }
+    }
+
+    /**
+     * Copies a {@link DMatrixRMaj} into a {@link DMatrixDirect}, which is reshaped to match.
+     */
+    public static void convert( DMatrixRMaj src, DMatrixDirect dst ) {
+        dst.reshape(src.numRows, src.numCols);
+        insert(src, dst, 0, 0);
+    }
+
+    /**
+     * Copies a {@link DMatrixDirect} into a {@link DMatrixRMaj}, which is reshaped to match. The source
+     * can't have more than 2<sup>31</sup>-1 elements.
+     */
+    public static void convert( DMatrixDirect src, DMatrixRMaj dst ) {
+        extract(src, 0, src.numRows, 0, src.numCols, dst);
+    }
+
+    /**
+     * Sets the matrix to be an identity matrix. It does not need to be square.
+     */
+    public static void setIdentity( DMatrixDirect A ) {
+        A.zero();
+        int N = Math.min(A.numRows, A.numCols);
+        for (int i = 0; i < N; i++) {
+            A.set(A.getIndex(i, i), 1.0);
+        }
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void add( DMatrixDirect a, DMatrixDirect b, DMatrixDirect c ) {
+        add(1.0, a, 1.0, b, c);
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void subtract( DMatrixDirect a, DMatrixDirect b, DMatrixDirect c ) {
+        add(1.0, a, -1.0, b, c);
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * a + &beta; * b <br>
+     * </p>
+     *
+     * @param alpha scaling factor for a.
+     * @param a A Matrix. Not modified.
+     * @param beta scaling factor for b.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void add( double alpha, DMatrixDirect a, double beta, DMatrixDirect b, DMatrixDirect c ) {
+        UtilEjml.checkSameShape(a, b, true);
+        c.reshape(a.numRows, a.numCols);
+
+        double[] tmpA = new double[STREAM_LENGTH];
+        double[] tmpB = new double[STREAM_LENGTH];
+
+        long length = a.getNumElementsLong();
+        for (long index = 0; index < length; index += STREAM_LENGTH) {
+            int n = (int)Math.min(STREAM_LENGTH, length - index);
+            a.getElements(index, tmpA, 0, n);
+            b.getElements(index, tmpB, 0, n);
+            for (int i = 0; i < n; i++) {
+                tmpA[i] = alpha*tmpA[i] + beta*tmpB[i];
+            }
+            c.setElements(index, tmpA, 0, n);
+        }
+    }
+
+    /**
+     * <p>Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled. Modified.
+     */
+    public static void scale( double alpha, DMatrixDirect a ) {
+        scale(alpha, a, a);
+    }
+
+    /**
+     * <p>Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Can be the same instance as a. Modified.
+     */
+    public static void scale( double alpha, DMatrixDirect a, DMatrixDirect b ) {
+        b.reshape(a.numRows, a.numCols);
+
+        double[] tmp = new double[STREAM_LENGTH];
+
+        long length = a.getNumElementsLong();
+        for (long index = 0; index < length; index += STREAM_LENGTH) {
+            int n = (int)Math.min(STREAM_LENGTH, length - index);
+            a.getElements(index, tmp, 0, n);
+            for (int i = 0; i < n; i++) {
+                tmp[i] *= alpha;
+            }
+            b.setElements(index, tmp, 0, n);
+        }
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * </p>
+     *
+     * @param a The original matrix. Not modified.
+     * @param b Where the transpose is stored. Can't be the same instance as a. Modified.
+     */
+    public static void transpose( DMatrixDirect a, DMatrixDirect b ) {
+        UtilEjml.assertTrue(a != b, "'a' and 'b' can't be the same instance");
+        b.reshape(a.numCols, a.numRows);
+
+        final int T = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        DMatrixRMaj tile = new DMatrixRMaj(1, 1);
+        DMatrixRMaj tileTran = new DMatrixRMaj(1, 1);
+
+        for (int y0 = 0; y0 < a.numRows; y0 += T) {
+            int y1 = Math.min(y0 + T, a.numRows);
+            for (int x0 = 0; x0 < a.numCols; x0 += T) {
+                int x1 = Math.min(x0 + T, a.numCols);
+                extract(a, y0, y1, x0, x1, tile);
+                CommonOps_DDRM.transpose(tile, tileTran);
+                insert(tileTran, b, x0, y0);
+            }
+        }
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Can't be the same instance as a or b. Modified.
+     */
+    public static void mult( DMatrixDirect a, DMatrixDirect b, DMatrixDirect c ) {
+        UtilEjml.assertTrue(a != c && b != c, "'c' can't be the same instance as 'a' or 'b'");
+        if (a.numCols != b.numRows)
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        c.reshape(a.numRows, b.numCols);
+
+        final int T = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        DMatrixRMaj tileA = new DMatrixRMaj(1, 1);
+        DMatrixRMaj tileB = new DMatrixRMaj(1, 1);
+        DMatrixRMaj tileC = new DMatrixRMaj(1, 1);
+
+        for (int y0 = 0; y0 < a.numRows; y0 += T) {
+            int y1 = Math.min(y0 + T, a.numRows);
+            for (int x0 = 0; x0 < b.numCols; x0 += T) {
+                int x1 = Math.min(x0 + T, b.numCols);
+                tileC.reshape(y1 - y0, x1 - x0);
+                tileC.zero();
+                for (int k0 = 0; k0 < a.numCols; k0 += T) {
+                    int k1 = Math.min(k0 + T, a.numCols);
+                    extract(a, y0, y1, k0, k1, tileA);
+                    extract(b, k0, k1, x0, x1, tileB);
+                    CommonOps_DDRM.multAdd(tileA, tileB, tileC);
+                }
+                insert(tileC, c, y0, x0);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Solves for x in the following equation:<br>
+     * <br>
+     * a * x = b
+     * </p>
+     *
+     * <p>
+     * The square matrix 'a' is decomposed using a blocked LU decomposition. A copy of 'a' is made since the
+     * decomposition is done in place, which will temporarily double the memory used. Use
+     * {@link LinearSolverLu_DDRD} directly to avoid the copy.
+     * </p>
+     *
+     * @param a A square matrix. Not modified.
+     * @param b A matrix that is n by k. Not modified.
+     * @param x A matrix that is n by k. Modified.
+     * @return true if it could solve the system false if it could not.
+     */
+    public static boolean solve( DMatrixDirect a, DMatrixDirect b, DMatrixDirect x ) {
+        if (a.numRows != a.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+        LinearSolverDense<DMatrixDirect> solver = new LinearSolverSafe<>(new LinearSolverLu_DDRD());
+
+        if (!solver.setA(a))
+            return false;
+
+        solver.solve(b, x);
+        return true;
+    }
+
+    /**
+     * <p>
+     * Linear solver for systems which are symmetric positive definite.<br>
+     * a * x = b
+     * </p>
+     *
+     * <p>
+     * Uses a blocked Cholesky decomposition. A copy of 'a' is made, see {@link #solve}.
+     * </p>
+     *
+     * @param a A matrix that is n by n and SPD. Not modified.
+     * @param b A matrix that is n by k. Not modified.
+     * @param x A matrix that is n by k. Modified.
+     * @return true if it could solve the system false if it could not.
+     */
+    public static boolean solveSPD( DMatrixDirect a, DMatrixDirect b, DMatrixDirect x ) {
+        if (a.numRows != a.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+        LinearSolverDense<DMatrixDirect> solver = new LinearSolverSafe<>(new LinearSolverChol_DDRD());
+
+        if (!solver.setA(a))
+            return false;
+
+        solver.solve(b, x);
+        return true;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.direct;
+
+import org.ejml.EjmlParameters;
+import org.ejml.data.DMatrixDirect;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+
+/**
+ * <p>
+ * Triangular solvers where the triangular matrix is a {@link DMatrixDirect} and the right hand side is a heap
+ * matrix with the same number of rows. The triangular matrix is read one tile at a time and only the
+ * triangle which is used is read, so it can share storage with a different triangular matrix.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class TriangularSolver_DDRD {
+
+    /**
+     * Solves L*X = B for X, where L is the lower triangle of the top N by N submatrix of 'L'.
+     *
+     * @param L Lower triangular matrix. Not modified.
+     * @param unit If true then the diagonal of L is assumed to be all ones and is not read.
+     * @param B (Input) Right hand side, N by k. (Output) The solution X. Modified.
+     */
+    public static void solveLower( DMatrixDirect L, boolean unit, DMatrixRMaj B ) {
+        final int T = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        final int N = B.numRows;
+        DMatrixRMaj tileL = new DMatrixRMaj(1, 1);
+        DMatrixRMaj tileB = new DMatrixRMaj(1, 1);
+        DMatrixRMaj tileX = new DMatrixRMaj(1, 1);
+
+        for (int i0 = 0; i0 < N; i0 += T) {
+            int i1 = Math.min(i0 + T, N);
+            CommonOps_DDRM.extract(B, i0, i1, 0, B.numCols, tileB);
+
+            // B(i) = B(i) - L(i,k)*X(k)
+            for (int k0 = 0; k0 < i0; k0 += T) {
+                int k1 = Math.min(k0 + T, N);
+                CommonOps_DDRD.extract(L, i0, i1, k0, k1, tileL);
+                CommonOps_DDRM.extract(B, k0, k1, 0, B.numCols, tileX);
+                CommonOps_DDRM.multAdd(-1, tileL, tileX, tileB);
+            }
+
+            CommonOps_DDRD.extract(L, i0, i1, i0, i1, tileL);
+            forwardSubstitution(tileL, unit, tileB);
+            CommonOps_DDRM.insert(tileB, B, i0, 0);
+        }
+    }
+
+    /**
+     * Solves U*X = B for X, where U is the upper triangle of the top N by N submatrix of 'U'.
+     *
+     * @param U Upper triangular matrix. Not modified.
+     * @param B (Input) Right hand side, N by k. (Output) The solution X. Modified.
+     */
+    public static void solveUpper( DMatrixDirect U, DMatrixRMaj B ) {
+        solveUpper(U, false, B);
+    }
+
+    /**
+     * Solves L<sup>T</sup>*X = B for X, where L is the lower triangle of the top N by N submatrix of 'L'.
+     *
+     * @param L Lower triangular matrix. Not modified.
+     * @param B (Input) Right hand side, N by k. (Output) The solution X. Modified.
+     */
+    public static void solveTranLower( DMatrixDirect L, DMatrixRMaj B ) {
+        solveUpper(L, true, B);
+    }
+
+    /**
+     * Backwards substitution. If 'transposed' is true then the upper triangular matrix is the transpose of
+     * the lower triangle in 'A'.
+     */
+    private static void solveUpper( DMatrixDirect A, boolean transposed, DMatrixRMaj B ) {
+        final int T = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        final int N = B.numRows;
+        DMatrixRMaj tileU = new DMatrixRMaj(1, 1);
+        DMatrixRMaj tileB = new DMatrixRMaj(1, 1);
+        DMatrixRMaj tileX = new DMatrixRMaj(1, 1);
+
+        int lastTile = N == 0 ? 0 : ((N - 1)/T)*T;
+        for (int i0 = lastTile; i0 >= 0; i0 -= T) {
+            int i1 = Math.min(i0 + T, N);
+            CommonOps_DDRM.extract(B, i0, i1, 0, B.numCols, tileB);
+
+            // B(i) = B(i) - U(i,k)*X(k)
+            for (int k0 = i1; k0 < N; k0 += T) {
+                int k1 = Math.min(k0 + T, N);
+                CommonOps_DDRM.extract(B, k0, k1, 0, B.numCols, tileX);
+                if (transposed) {
+                    CommonOps_DDRD.extract(A, k0, k1, i0, i1, tileU);
+                    CommonOps_DDRM.multAddTransA(-1, tileU, tileX, tileB);
+                } else {
+                    CommonOps_DDRD.extract(A, i0, i1, k0, k1, tileU);
+                    CommonOps_DDRM.multAdd(-1, tileU, tileX, tileB);
+                }
+            }
+
+            CommonOps_DDRD.extract(A, i0, i1, i0, i1, tileU);
+            if (transposed)
+                CommonOps_DDRM.transpose(tileU);
+            backSubstitution(tileU, tileB);
+            CommonOps_DDRM.insert(tileB, B, i0, 0);
+        }
+    }
+
+    /**
+     * Solves L*X = B in place, where L is a square lower triangular matrix.
+     */
+    static void forwardSubstitution( DMatrixRMaj L, boolean unit, DMatrixRMaj B ) {
+        final int N = L.numRows;
+        final int w = B.numCols;
+        for (int row = 0; row < N; row++) {
+            int indexRow = row*w;
+            for (int k = 0; k < row; k++) {
+                double l = L.data[row*N + k];
+                if (l == 0)
+                    continue;
+                int indexK = k*w;
+                for (int x = 0; x < w; x++) {
+                    B.data[indexRow + x] -= l*B.data[indexK + x];
+                }
+            }
+            if (!unit) {
+                double d = L.data[row*N + row];
+                for (int x = 0; x < w; x++) {
+                    B.data[indexRow + x] /= d;
+                }
+            }
+        }
+    }
+
+    /**
+     * Solves U*X = B in place, where U is a square upper triangular matrix.
+     */
+    static void backSubstitution( DMatrixRMaj U, DMatrixRMaj B ) {
+        final int N = U.numRows;
+        final int w = B.numCols;
+        for (int row = N - 1; row >= 0; row--) {
+            int indexRow = row*w;
+            for (int k = row + 1; k < N; k++) {
+                double u = U.data[row*N + k];
+                if (u == 0)
+                    continue;
+                int indexK = k*w;
+                for (int x = 0; x < w; x++) {
+                    B.data[indexRow + x] -= u*B.data[indexK + x];
+                }
+            }
+            double d = U.data[row*N + row];
+            for (int x = 0; x < w; x++) {
+                B.data[indexRow + x] /= d;
+            }
+        }
+    }
+}
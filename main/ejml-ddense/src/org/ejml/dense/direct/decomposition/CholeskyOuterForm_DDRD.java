@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.direct.decomposition;
+
+import org.ejml.EjmlParameters;
+import org.ejml.data.Complex_F64;
+import org.ejml.data.DMatrixDirect;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.direct.CommonOps_DDRD;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionInner_DDRM;
+import org.ejml.interfaces.decomposition.CholeskyDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Lower triangular block Cholesky decomposition for {@link DMatrixDirect} using outer product form, like
+ * {@link org.ejml.dense.block.decomposition.chol.CholeskyOuterForm_DDRB}. For each block column the diagonal
+ * block is decomposed on the heap, then L<sub>21</sub> = A<sub>21</sub>L<sub>11</sub><sup>-T</sup> is
+ * computed on the heap and the lower triangle of the trailing matrix is updated one tile at a time,
+ * A<sub>22</sub> = A<sub>22</sub> - L<sub>21</sub>L<sub>21</sub><sup>T</sup>.
+ * </p>
+ *
+ * <p>
+ * The original matrix is modified and used to store the decomposition. Only its lower triangle is read.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public class CholeskyOuterForm_DDRD implements CholeskyDecomposition_F64<DMatrixDirect> {
+
+    // The decomposed matrix.
+    private DMatrixDirect T;
+
+    // decomposes the diagonal blocks
+    private final CholeskyDecompositionInner_DDRM inner = new CholeskyDecompositionInner_DDRM(true);
+
+    // work space on the heap
+    private final DMatrixRMaj tileL11 = new DMatrixRMaj(1, 1);
+    private final DMatrixRMaj panel = new DMatrixRMaj(1, 1);
+    private final DMatrixRMaj tileA = new DMatrixRMaj(1, 1);
+    private final DMatrixRMaj tileY = new DMatrixRMaj(1, 1);
+    private final DMatrixRMaj tileX = new DMatrixRMaj(1, 1);
+
+    // storage for the determinant
+    private final Complex_F64 det = new Complex_F64();
+
+    /**
+     * Decomposes the provided matrix and stores the result in the same matrix.
+     *
+     * @param A Matrix that is to be decomposed.  Modified.
+     * @return If it succeeded or not.
+     */
+    @Override
+    public boolean decompose( DMatrixDirect A ) {
+        if (A.numCols != A.numRows)
+            throw new IllegalArgumentException("A must be square");
+
+        this.T = A;
+        final int N = A.numRows;
+        final int W = EjmlParameters.BLOCK_WIDTH_DIRECT;
+
+        for (int j0 = 0; j0 < N; j0 += W) {
+            int j1 = Math.min(j0 + W, N);
+
+            // L11 = chol(A11)
+            CommonOps_DDRD.extract(A, j0, j1, j0, j1, tileL11);
+            copyLowerToUpper(tileL11);
+            if (!inner.decompose(tileL11))
+                return false;
+            CommonOps_DDRD.insert(tileL11, A, j0, j0);
+
+            if (j1 == N)
+                break;
+
+            // L21 = A21*inv(L11')
+            CommonOps_DDRD.extract(A, j1, N, j0, j1, panel);
+            solveTranL(tileL11, panel);
+            CommonOps_DDRD.insert(panel, A, j1, j0);
+
+            // A22 = A22 - L21*L21'. Only tiles which touch the lower triangle are updated.
+            for (int y0 = j1; y0 < N; y0 += W) {
+                int y1 = Math.min(y0 + W, N);
+                CommonOps_DDRM.extract(panel, y0 - j1, y1 - j1, 0, j1 - j0, tileY);
+                for (int x0 = j1; x0 <= y0; x0 += W) {
+                    int x1 = Math.min(x0 + W, N);
+                    CommonOps_DDRM.extract(panel, x0 - j1, x1 - j1, 0, j1 - j0, tileX);
+                    CommonOps_DDRD.extract(A, y0, y1, x0, x1, tileA);
+                    CommonOps_DDRM.multAddTransB(-1, tileY, tileX, tileA);
+                    CommonOps_DDRD.insert(tileA, A, y0, x0);
+                }
+            }
+        }
+
+        zeroUpperTriangle(A);
+
+        return true;
+    }
+
+    /**
+     * Solves X*L' = B in place, where L is lower triangular.
+     */
+    private static void solveTranL( DMatrixRMaj L, DMatrixRMaj B ) {
+        final int N = L.numRows;
+        for (int i = 0; i < B.numRows; i++) {
+            int indexB = i*N;
+            for (int k = 0; k < N; k++) {
+                double sum = B.data[indexB + k];
+                for (int t = 0; t < k; t++) {
+                    sum -= L.data[k*N + t]*B.data[indexB + t];
+                }
+                B.data[indexB + k] = sum/L.data[k*N + k];
+            }
+        }
+    }
+
+    /**
+     * The inner decomposition reads the upper triangle, so it's filled in using the lower triangle
+     */
+    private static void copyLowerToUpper( DMatrixRMaj A ) {
+        final int N = A.numRows;
+        for (int i = 0; i < N; i++) {
+            for (int j = i + 1; j < N; j++) {
+                A.data[i*N + j] = A.data[j*N + i];
+            }
+        }
+    }
+
+    private static void zeroUpperTriangle( DMatrixDirect A ) {
+        double[] zeros = new double[Math.max(0, A.numCols - 1)];
+        for (int i = 0; i < A.numRows - 1; i++) {
+            A.setElements(A.getIndex(i, i + 1), zeros, 0, A.numCols - i - 1);
+        }
+    }
+
+    @Override
+    public boolean isLower() {
+        return true;
+    }
+
+    @Override
+    public DMatrixDirect getT( @Nullable DMatrixDirect T ) {
+        if (T == null)
+            return this.T;
+        T.set(this.T);
+
+        return T;
+    }
+
+    @Override
+    public Complex_F64 computeDeterminant() {
+        double prod = 1.0;
+        for (int i = 0; i < T.numCols; i++) {
+            prod *= T.unsafe_get(i, i);
+        }
+
+        det.real = prod*prod;
+        det.imaginary = 0;
+
+        return det;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return true;
+    }
+}
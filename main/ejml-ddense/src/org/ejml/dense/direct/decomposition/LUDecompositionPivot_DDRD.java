@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.direct.decomposition;
+
+import org.ejml.EjmlParameters;
+import org.ejml.UtilEjml;
+import org.ejml.data.Complex_F64;
+import org.ejml.data.DMatrixDirect;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.IGrowArray;
+import org.ejml.dense.direct.CommonOps_DDRD;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.interfaces.decomposition.LUDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * LU decomposition with partial pivoting for {@link DMatrixDirect}. The algorithm is the same blocked right
+ * looking algorithm as {@link org.ejml.dense.block.decomposition.lu.LUDecompositionPivot_DDRB}, with
+ * {@link EjmlParameters#BLOCK_WIDTH_DIRECT} wide block columns. The panel, which is the block column on and
+ * below the diagonal, is copied onto the heap and decomposed there using partial pivoting. The row swaps are
+ * then applied to the other columns, U<sub>12</sub> = L<sub>11</sub><sup>-1</sup>A<sub>12</sub> is solved for,
+ * and the trailing matrix is updated, A<sub>22</sub> = A<sub>22</sub> - L<sub>21</sub>U<sub>12</sub>, one tile
+ * at a time.
+ * </p>
+ *
+ * <p>
+ * The input matrix is modified and used to store the decomposition. L is stored in the lower triangle and
+ * has ones along its diagonal, which are not saved. U is stored in the upper triangle. The panel has
+ * numRows*BLOCK_WIDTH_DIRECT elements, which must be less than 2<sup>31</sup>.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public class LUDecompositionPivot_DDRD implements LUDecomposition_F64<DMatrixDirect> {
+
+    // the input matrix which is overwritten with the decomposition.
+    protected DMatrixDirect LU;
+
+    // the shape of the matrix
+    protected int m, n;
+
+    // row which was swapped with each row
+    protected int[] indx = new int[0];
+    // the original row of each row in the decomposition
+    protected int[] pivot = new int[0];
+
+    // used by determinant
+    protected double pivsign;
+
+    Complex_F64 det = new Complex_F64();
+
+    // work space on the heap
+    protected DMatrixRMaj panel = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj tileL11 = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj tileL21 = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj tileU = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj tileA = new DMatrixRMaj(1, 1);
+
+    @Override
+    public boolean decompose( DMatrixDirect A ) {
+        LU = A;
+        m = A.numRows;
+        n = A.numCols;
+        final int T = EjmlParameters.BLOCK_WIDTH_DIRECT;
+
+        int maxLength = Math.max(m, n);
+        if (indx.length < maxLength) {
+            indx = new int[maxLength];
+            pivot = new int[maxLength];
+        }
+        for (int i = 0; i < m; i++) {
+            pivot[i] = i;
+        }
+        pivsign = 1;
+
+        final int minLength = Math.min(m, n);
+
+        for (int j0 = 0; j0 < minLength; j0 += T) {
+            int j1 = Math.min(j0 + T, minLength);
+            // the last column in this block column
+            int end = Math.min(j0 + T, n);
+
+            CommonOps_DDRD.extract(LU, j0, m, j0, end, panel);
+            decomposePanel(j0, j1);
+            CommonOps_DDRD.insert(panel, LU, j0, j0);
+
+            // apply the row swaps to the columns on either side of the panel
+            swapRows(LU, indx, j0, j1, 0, j0);
+
+            if (end < n) {
+                swapRows(LU, indx, j0, j1, end, n);
+
+                CommonOps_DDRM.extract(panel, 0, j1 - j0, 0, j1 - j0, tileL11);
+                for (int x0 = end; x0 < n; x0 += T) {
+                    int x1 = Math.min(x0 + T, n);
+
+                    // U12 = inv(L11)*A12
+                    CommonOps_DDRD.extract(LU, j0, j1, x0, x1, tileU);
+                    solveUnitLower(tileL11, tileU);
+                    CommonOps_DDRD.insert(tileU, LU, j0, x0);
+
+                    // A22 = A22 - L21*U12
+                    for (int y0 = j1; y0 < m; y0 += T) {
+                        int y1 = Math.min(y0 + T, m);
+                        CommonOps_DDRD.extract(LU, y0, y1, x0, x1, tileA);
+                        CommonOps_DDRM.extract(panel, y0 - j0, y1 - j0, 0, j1 - j0, tileL21);
+                        CommonOps_DDRM.multAdd(-1, tileL21, tileU, tileA);
+                        CommonOps_DDRD.insert(tileA, LU, y0, x0);
+                    }
+                }
+            }
+        }
+
+        // Columns which are past the last row aren't pivoted
+        for (int j = minLength; j < n; j++) {
+            indx[j] = j;
+        }
+
+        return true;
+    }
+
+    /**
+     * Decomposes columns [j0,j1) of the panel, which starts at row and column j0, using partial pivoting.
+     */
+    protected void decomposePanel( int j0, int j1 ) {
+        final double[] data = panel.data;
+        final int height = panel.numRows;
+        final int width = panel.numCols;
+
+        for (int c = 0; c < j1 - j0; c++) {
+            // Find pivot and exchange if necessary.
+            int p = c;
+            double max = Math.abs(data[c*width + c]);
+            for (int i = c + 1; i < height; i++) {
+                double v = Math.abs(data[i*width + c]);
+                if (v > max) {
+                    p = i;
+                    max = v;
+                }
+            }
+
+            int indexJ = c*width;
+            if (p != c) {
+                int indexP = p*width;
+                for (int k = 0; k < width; k++) {
+                    double t = data[indexP + k];
+                    data[indexP + k] = data[indexJ + k];
+                    data[indexJ + k] = t;
+                }
+                int k = pivot[j0 + p];
+                pivot[j0 + p] = pivot[j0 + c];
+                pivot[j0 + c] = k;
+                pivsign = -pivsign;
+            }
+            indx[j0 + c] = j0 + p;
+
+            // Compute multipliers and update the remainder of the panel
+            double lujj = data[indexJ + c];
+            for (int i = c + 1; i < height; i++) {
+                int indexI = i*width;
+                if (lujj != 0)
+                    data[indexI + c] /= lujj;
+                double lij = data[indexI + c];
+                if (lij == 0)
+                    continue;
+                for (int k = c + 1; k < width; k++) {
+                    data[indexI + k] -= lij*data[indexJ + k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Solves L*X = B in place, where L is square with ones along its diagonal. Only the strictly lower triangle
+     * of L is read.
+     */
+    private static void solveUnitLower( DMatrixRMaj L, DMatrixRMaj B ) {
+        final int N = L.numRows;
+        final int w = B.numCols;
+        for (int row = 1; row < N; row++) {
+            int indexRow = row*w;
+            for (int k = 0; k < row; k++) {
+                double l = L.data[row*N + k];
+                if (l == 0)
+                    continue;
+                int indexK = k*w;
+                for (int x = 0; x < w; x++) {
+                    B.data[indexRow + x] -= l*B.data[indexK + x];
+                }
+            }
+        }
+    }
+
+    /**
+     * Swaps rows inside of the columns [col0,col1). Row 'j' is swapped with row indx[j] for each j in
+     * [row0,row1), in that order.
+     *
+     * @param A Matrix whose rows are swapped. Modified.
+     * @param indx Which row each row is swapped with.
+     * @param row0 First row which is swapped.
+     * @param row1 Last row which is swapped. Exclusive.
+     * @param col0 First column.
+     * @param col1 Last column. Exclusive.
+     */
+    public static void swapRows( DMatrixDirect A, int[] indx, int row0, int row1, int col0, int col1 ) {
+        if (col0 >= col1)
+            return;
+        final int T = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        double[] rowJ = new double[Math.min(T, col1 - col0)];
+        double[] rowP = new double[rowJ.length];
+
+        for (int col = col0; col < col1; col += T) {
+            int width = Math.min(T, col1 - col);
+            for (int j = row0; j < row1; j++) {
+                int p = indx[j];
+                if (p == j)
+                    continue;
+                long indexJ = A.getIndex(j, col);
+                long indexP = A.getIndex(p, col);
+                A.getElements(indexJ, rowJ, 0, width);
+                A.getElements(indexP, rowP, 0, width);
+                A.setElements(indexJ, rowP, 0, width);
+                A.setElements(indexP, rowJ, 0, width);
+            }
+        }
+    }
+
+    /**
+     * Writes the lower triangular matrix into the specified matrix. It will be m by min(m,n).
+     *
+     * @param lower Where the lower triangular matrix is written to. If null a new matrix is declared.
+     */
+    @Override
+    public DMatrixDirect getLower( @Nullable DMatrixDirect lower ) {
+        int numCols = Math.min(m, n);
+        lower = reshape(lower, m, numCols);
+
+        for (int i = 0; i < m; i++) {
+            if (i < numCols)
+                lower.unsafe_set(i, i, 1.0);
+            int end = Math.min(i, numCols);
+            for (int j = 0; j < end; j++) {
+                lower.unsafe_set(i, j, LU.unsafe_get(i, j));
+            }
+        }
+        return lower;
+    }
+
+    /**
+     * Writes the upper triangular matrix into the specified matrix. It will be min(m,n) by n.
+     *
+     * @param upper Where the upper triangular matrix is written to. If null a new matrix is declared.
+     */
+    @Override
+    public DMatrixDirect getUpper( @Nullable DMatrixDirect upper ) {
+        int numRows = Math.min(m, n);
+        upper = reshape(upper, numRows, n);
+
+        for (int i = 0; i < numRows; i++) {
+            for (int j = i; j < n; j++) {
+                upper.unsafe_set(i, j, LU.unsafe_get(i, j));
+            }
+        }
+        return upper;
+    }
+
+    @Override
+    public DMatrixDirect getRowPivot( @Nullable DMatrixDirect pivot ) {
+        pivot = reshape(pivot, m, m);
+        for (int i = 0; i < m; i++) {
+            pivot.unsafe_set(i, this.pivot[i], 1);
+        }
+        return pivot;
+    }
+
+    @Override
+    public int[] getRowPivotV( @Nullable IGrowArray pivot ) {
+        return UtilEjml.pivotVector(this.pivot, m, pivot);
+    }
+
+    private DMatrixDirect reshape( @Nullable DMatrixDirect A, int numRows, int numCols ) {
+        if (A == null) {
+            return new DMatrixDirect(numRows, numCols);
+        }
+        A.reshape(numRows, numCols);
+        A.zero();
+        return A;
+    }
+
+    /**
+     * Determines if the decomposed matrix is singular. This function can return
+     * false and the matrix be almost singular, which is still bad.
+     *
+     * @return true if singular false otherwise.
+     */
+    @Override
+    public boolean isSingular() {
+        int minLength = Math.min(m, n);
+        for (int i = 0; i < minLength; i++) {
+            if (Math.abs(LU.unsafe_get(i, i)) < UtilEjml.EPS)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Computes the determinant from the LU decomposition.
+     *
+     * @return The matrix's determinant.
+     */
+    @Override
+    public Complex_F64 computeDeterminant() {
+        if (m != n)
+            throw new IllegalArgumentException("Must be a square matrix.");
+
+        double ret = pivsign;
+        for (int i = 0; i < n; i++) {
+            ret *= LU.unsafe_get(i, i);
+        }
+
+        det.real = ret;
+        det.imaginary = 0;
+
+        return det;
+    }
+
+    /**
+     * Computes the quality using the diagonal elements of U, the same way as
+     * {@link org.ejml.dense.row.SpecializedOps_DDRM#qualityTriangular}.
+     */
+    public /**/double quality() {
+        int N = Math.min(m, n);
+
+        double max = 0;
+        for (int i = 0; i < N; i++) {
+            max = Math.max(max, Math.abs(LU.unsafe_get(i, i)));
+        }
+        if (max == 0.0)
+            return 0.0;
+
+        double quality = 1.0;
+        for (int i = 0; i < N; i++) {
+            quality *= LU.unsafe_get(i, i)/max;
+        }
+
+        return Math.abs(quality);
+    }
+
+    /**
+     * Returns the matrix which contains the decomposition.
+     */
+    public DMatrixDirect getLU() {
+        return LU;
+    }
+
+    /**
+     * Row which was swapped with each row. Row j was swapped with row indx[j], starting from the first row.
+     */
+    public int[] getIndx() {
+        return indx;
+    }
+
+    /**
+     * The original row of each row in the decomposition.
+     */
+    public int[] getPivot() {
+        return pivot;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return true;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.direct.linsol;
+
+import org.ejml.EjmlParameters;
+import org.ejml.data.DMatrixDirect;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.direct.CommonOps_DDRD;
+import org.ejml.dense.direct.TriangularSolver_DDRD;
+import org.ejml.dense.direct.decomposition.CholeskyOuterForm_DDRD;
+import org.ejml.interfaces.decomposition.CholeskyDecomposition_F64;
+import org.ejml.interfaces.linsol.LinearSolverDense;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Linear solver for symmetric positive definite matrices using {@link CholeskyOuterForm_DDRD}.
+ * </p>
+ *
+ * <p>
+ * A = L*L<sup>T</sup><br>
+ * A*x = b<br>
+ * L*y = b<br>
+ * x = L<sup>-T</sup>y<br>
+ * </p>
+ *
+ * <p>
+ * B is processed {@link EjmlParameters#BLOCK_WIDTH_DIRECT} columns at a time. Each set of columns is copied
+ * onto the heap and solved for against tiles of the decomposition.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public class LinearSolverChol_DDRD implements LinearSolverDense<DMatrixDirect> {
+
+    // Cholesky decomposition algorithm
+    protected CholeskyOuterForm_DDRD decomposer = new CholeskyOuterForm_DDRD();
+
+    // the lower triangular matrix
+    protected DMatrixDirect L;
+
+    // columns of B which are being solved for
+    protected DMatrixRMaj work = new DMatrixRMaj(1, 1);
+
+    /**
+     * Decomposes A and stores the results in A.
+     *
+     * @param A The A matrix in the linear equation. Modified. Reference saved.
+     * @return true if the decomposition was successful.
+     */
+    @Override
+    public boolean setA( DMatrixDirect A ) {
+        if (!decomposer.decompose(A))
+            return false;
+
+        this.L = decomposer.getT(null);
+
+        return true;
+    }
+
+    /**
+     * Computes the quality using diagonal elements the triangular matrix.
+     */
+    @Override
+    public /**/double quality() {
+        int N = L.numRows;
+
+        double max = 0;
+        for (int i = 0; i < N; i++) {
+            max = Math.max(max, Math.abs(L.unsafe_get(i, i)));
+        }
+        if (max == 0.0)
+            return 0.0;
+
+        double quality = 1.0;
+        for (int i = 0; i < N; i++) {
+            quality *= L.unsafe_get(i, i)/max;
+        }
+
+        return Math.abs(quality);
+    }
+
+    /**
+     * Solves for X one set of columns at a time. B and X can be the same instance.
+     */
+    @Override
+    public void solve( DMatrixDirect B, @Nullable DMatrixDirect X ) {
+        if (B.numRows != L.numRows)
+            throw new IllegalArgumentException("Row of B and A do not match");
+        if (X == null)
+            X = B;
+        X.reshape(L.numCols, B.numCols);
+
+        final int T = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        for (int x0 = 0; x0 < B.numCols; x0 += T) {
+            int x1 = Math.min(x0 + T, B.numCols);
+            CommonOps_DDRD.extract(B, 0, B.numRows, x0, x1, work);
+            solveWork();
+            CommonOps_DDRD.insert(work, X, 0, x0);
+        }
+    }
+
+    /**
+     * Invert by solving for against an identity matrix.
+     *
+     * @param A_inv Where the inverted matrix saved. Modified.
+     */
+    @Override
+    public void invert( DMatrixDirect A_inv ) {
+        final int N = L.numRows;
+        A_inv.reshape(N, N);
+
+        final int T = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        for (int x0 = 0; x0 < N; x0 += T) {
+            int x1 = Math.min(x0 + T, N);
+            work.reshape(N, x1 - x0);
+            work.zero();
+            for (int i = x0; i < x1; i++) {
+                work.unsafe_set(i, i - x0, 1.0);
+            }
+            solveWork();
+            CommonOps_DDRD.insert(work, A_inv, 0, x0);
+        }
+    }
+
+    private void solveWork() {
+        // X = L^-T * L^-1 * B
+        TriangularSolver_DDRD.solveLower(L, false, work);
+        TriangularSolver_DDRD.solveTranLower(L, work);
+    }
+
+    @Override
+    public boolean modifiesA() {
+        return decomposer.inputModified();
+    }
+
+    @Override
+    public boolean modifiesB() {
+        return false;
+    }
+
+    @Override
+    public CholeskyDecomposition_F64<DMatrixDirect> getDecomposition() {
+        return decomposer;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.direct.linsol;
+
+import org.ejml.EjmlParameters;
+import org.ejml.data.DMatrixDirect;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.direct.CommonOps_DDRD;
+import org.ejml.dense.direct.TriangularSolver_DDRD;
+import org.ejml.dense.direct.decomposition.LUDecompositionPivot_DDRD;
+import org.ejml.interfaces.decomposition.LUDecomposition_F64;
+import org.ejml.interfaces.linsol.LinearSolverDense;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * A solver for {@link LUDecompositionPivot_DDRD}. Systems are solved for using the standard LU
+ * decomposition method, sketched below.
+ * </p>
+ *
+ * <p>
+ * P*A = L*U<br>
+ * A*x = b<br>
+ * L*U*x = P*b <br>
+ * L*y = P*b<br>
+ * x = U<sup>-1</sup>y<br>
+ * </p>
+ *
+ * <p>
+ * B is processed {@link EjmlParameters#BLOCK_WIDTH_DIRECT} columns at a time. Each set of columns is copied
+ * onto the heap and solved for against tiles of the decomposition.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public class LinearSolverLu_DDRD implements LinearSolverDense<DMatrixDirect> {
+
+    // LU decomposition algorithm
+    protected LUDecompositionPivot_DDRD decomposer = new LUDecompositionPivot_DDRD();
+
+    // the input matrix which has been decomposed
+    protected DMatrixDirect LU;
+
+    // columns of B which are being solved for
+    protected DMatrixRMaj work = new DMatrixRMaj(1, 1);
+
+    /**
+     * Computes the LU decomposition of A and store the results in A.
+     *
+     * @param A The A matrix in the linear equation. Modified. Reference saved.
+     * @return true if the decomposition was successful.
+     */
+    @Override
+    public boolean setA( DMatrixDirect A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Can only solve square systems");
+        if (!decomposer.decompose(A))
+            return false;
+
+        this.LU = decomposer.getLU();
+
+        return true;
+    }
+
+    @Override
+    public /**/double quality() {
+        return decomposer.quality();
+    }
+
+    /**
+     * Solves for X one set of columns at a time. B and X can be the same instance.
+     */
+    @Override
+    public void solve( DMatrixDirect B, @Nullable DMatrixDirect X ) {
+        if (B.numRows != LU.numRows)
+            throw new IllegalArgumentException("Row of B and A do not match");
+        if (X == null)
+            X = B;
+        X.reshape(LU.numCols, B.numCols);
+
+        final int T = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        for (int x0 = 0; x0 < B.numCols; x0 += T) {
+            int x1 = Math.min(x0 + T, B.numCols);
+            CommonOps_DDRD.extract(B, 0, B.numRows, x0, x1, work);
+            solveWork();
+            CommonOps_DDRD.insert(work, X, 0, x0);
+        }
+    }
+
+    /**
+     * Invert by solving for against an identity matrix.
+     *
+     * @param A_inv Where the inverted matrix saved. Modified.
+     */
+    @Override
+    public void invert( DMatrixDirect A_inv ) {
+        final int N = LU.numRows;
+        A_inv.reshape(N, N);
+
+        final int T = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        for (int x0 = 0; x0 < N; x0 += T) {
+            int x1 = Math.min(x0 + T, N);
+            work.reshape(N, x1 - x0);
+            work.zero();
+            for (int i = x0; i < x1; i++) {
+                work.unsafe_set(i, i - x0, 1.0);
+            }
+            solveWork();
+            CommonOps_DDRD.insert(work, A_inv, 0, x0);
+        }
+    }
+
+    private void solveWork() {
+        // Y = P*B
+        int[] indx = decomposer.getIndx();
+        final int w = work.numCols;
+        for (int j = 0; j < LU.numRows; j++) {
+            int p = indx[j];
+            if (p == j)
+                continue;
+            for (int k = 0; k < w; k++) {
+                double t = work.data[j*w + k];
+                work.data[j*w + k] = work.data[p*w + k];
+                work.data[p*w + k] = t;
+            }
+        }
+
+        // X = U^-1 * L^-1 * Y
+        TriangularSolver_DDRD.solveLower(LU, true, work);
+        TriangularSolver_DDRD.solveUpper(LU, work);
+    }
+
+    @Override
+    public boolean modifiesA() {
+        return decomposer.inputModified();
+    }
+
+    @Override
+    public boolean modifiesB() {
+        return false;
+    }
+
+    @Override
+    public LUDecomposition_F64<DMatrixDirect> getDecomposition() {
+        return decomposer;
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixBatch;
+import org.jetbrains.annotations.Nullable;
+//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>Operations on a batch of 2 x 2 matrices or 2 element vectors stored in a {@link DMatrixBatch}. The result is the same
+ * as calling the equivalent function in {@link CommonOps_DDF2} on each matrix.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateBatchOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateBatchOps_DDF")
+public class BatchOps_DDF2 {
+    /**
+     * Transposes every matrix in 'input' and stores the results in 'output'.
+     *
+     * @param input (Input) Batch of matrices. Not modified.
+     * @param output (Output) Batch of transposed matrices. Can be the same instance as input. Modified.
+     */
+    public static void transpose( DMatrixBatch input, DMatrixBatch output ) {
+        checkInput(input, 2, 2);
+        output.reshape(2, 2, input.size);
+
+        final double[] a = input.data, b = output.data;
+        final int sa = input.getStride(), sb = output.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, input.size, k -> {
+        for (int k = 0; k < input.size; k++) {
+            transpose(a, input.getOffset(k), sa, b, output.getOffset(k), sb);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a * b <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void mult( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 2, 2);
+        checkInput(b, 2, 2);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(2, 2, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            mult(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void multTransA( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 2, 2);
+        checkInput(b, 2, 2);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(2, 2, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            multTransA(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void multTransB( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 2, 2);
+        checkInput(b, 2, 2);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(2, 2, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            multTransB(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * Inverts every matrix in 'a' using minor matrices and stores the results in 'inv'. Scaling is
+     * applied to improve stability against overflow and underflow.
+     *
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a (Input) Batch of matrices. Not modified.
+     * @param inv (Output) Batch of inverted matrices. Can be the same instance as 'a'. Modified.
+     * @return true if every matrix was inverted or false if any of them failed. Not reliable.
+     */
+    public static boolean invert( DMatrixBatch a, DMatrixBatch inv ) {
+        checkInput(a, 2, 2);
+        inv.reshape(2, 2, a.size);
+
+        final double[] da = a.data, di = inv.data;
+        final int sa = a.getStride(), si = inv.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            invert(da, a.getOffset(k), sa, di, inv.getOffset(k), si);
+        }
+        //CONCURRENT_ABOVE });
+
+        return isCountable(inv, 0);
+    }
+
+    /**
+     * Solves the linear system a*x = b for every matrix and vector in the batch, using the same
+     * minor matrices approach as {@link #invert}.
+     *
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a (Input) Batch of matrices. Not modified.
+     * @param b (Input) Batch of 2 x 1 vectors. Not modified.
+     * @param x (Output) Batch of 2 x 1 solutions. Can be the same instance as 'b'. Modified.
+     * @return true if every system was solved or false if any of them failed. Not reliable.
+     */
+    public static boolean solve( DMatrixBatch a, DMatrixBatch b, DMatrixBatch x ) {
+        checkInput(a, 2, 2);
+        checkInput(b, 2, 1);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        x.reshape(2, 1, a.size);
+
+        final double[] da = a.data, db = b.data, dx = x.data;
+        final int sa = a.getStride(), sb = b.getStride(), sx = x.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            solve(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dx, x.getOffset(k), sx);
+        }
+        //CONCURRENT_ABOVE });
+
+        return isCountable(x, 0);
+    }
+
+    /**
+     * Computes the determinant of every matrix in the batch using minor matrices.<br>
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a (Input) Batch of matrices. Not modified.
+     * @param output (Output) Storage for the determinants. If null or too small a new array is created.
+     * @return Array containing the determinant of each matrix
+     */
+    public static double[] det( DMatrixBatch a, @Nullable double[] output ) {
+        checkInput(a, 2, 2);
+        final double[] out = output == null || output.length < a.size ? new double[a.size] : output;
+
+        final double[] da = a.data;
+        final int sa = a.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            out[k] = det(da, a.getOffset(k), sa);
+        }
+        //CONCURRENT_ABOVE });
+
+        return out;
+    }
+
+    /**
+     * Performs a lower Cholesky decomposition on every matrix in the batch and stores the results in 'a'.
+     *
+     * @param a (Input) Batch of SPD matrices. (Output) lower cholesky.
+     * @return true if every decomposition was successful or false if any of them failed. Not always reliable.
+     */
+    public static boolean cholL( DMatrixBatch a ) {
+        checkInput(a, 2, 2);
+
+        final double[] da = a.data;
+        final int sa = a.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            cholL(da, a.getOffset(k), sa);
+        }
+        //CONCURRENT_ABOVE });
+
+        return isCountable(a, 3);
+    }
+
+    private static void checkInput( DMatrixBatch m, int numRows, int numCols ) {
+        if (m.numRows != numRows || m.numCols != numCols)
+            throw new MatrixDimensionException("Expected a batch of " + numRows + "x" + numCols +
+                    " matrices. Found " + m.numRows + "x" + m.numCols);
+    }
+
+    /**
+     * Returns false if the specified element of any matrix is NaN or infinite
+     */
+    private static boolean isCountable( DMatrixBatch m, int element ) {
+        final int stride = m.getStride();
+        for (int k = 0; k < m.size; k++) {
+            if (UtilEjml.isUncountable(m.data[m.getOffset(k) + element*stride]))
+                return false;
+        }
+        return true;
+    }
+
+    private static void transpose( double[] a, int ia, int sa, double[] b, int ib, int sb ) {
+        double a11 = a[ia], a12 = a[ia + sa];
+        double a21 = a[ia + 2*sa], a22 = a[ia + 3*sa];
+        b[ib] = a11;
+        b[ib + sb] = a21;
+        b[ib + 2*sb] = a12;
+        b[ib + 3*sb] = a22;
+    }
+
+    private static void mult( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                              double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa];
+        double a21 = a[ia + 2*sa], a22 = a[ia + 3*sa];
+        double b11 = b[ib], b12 = b[ib + sb];
+        double b21 = b[ib + 2*sb], b22 = b[ib + 3*sb];
+        c[ic] = a11*b11 + a12*b21;
+        c[ic + sc] = a11*b12 + a12*b22;
+        c[ic + 2*sc] = a21*b11 + a22*b21;
+        c[ic + 3*sc] = a21*b12 + a22*b22;
+    }
+
+    private static void multTransA( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                                    double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa];
+        double a21 = a[ia + 2*sa], a22 = a[ia + 3*sa];
+        double b11 = b[ib], b12 = b[ib + sb];
+        double b21 = b[ib + 2*sb], b22 = b[ib + 3*sb];
+        c[ic] = a11*b11 + a21*b21;
+        c[ic + sc] = a11*b12 + a21*b22;
+        c[ic + 2*sc] = a12*b11 + a22*b21;
+        c[ic + 3*sc] = a12*b12 + a22*b22;
+    }
+
+    private static void multTransB( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                                    double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa];
+        double a21 = a[ia + 2*sa], a22 = a[ia + 3*sa];
+        double b11 = b[ib], b12 = b[ib + sb];
+        double b21 = b[ib + 2*sb], b22 = b[ib + 3*sb];
+        c[ic] = a11*b11 + a12*b12;
+        c[ic + sc] = a11*b21 + a12*b22;
+        c[ic + 2*sc] = a21*b11 + a22*b12;
+        c[ic + 3*sc] = a21*b21 + a22*b22;
+    }
+
+    private static void invert( double[] a, int ia, int sa, double[] inv, int ii, int si ) {
+        double a11 = a[ia], a12 = a[ia + sa];
+        double a21 = a[ia + 2*sa], a22 = a[ia + 3*sa];
+
+        double scale = Math.abs(a11);
+        scale = Math.max(scale, Math.abs(a12));
+        scale = Math.max(scale, Math.abs(a21));
+        scale = Math.max(scale, Math.abs(a22));
+        scale = 1.0/scale;
+
+        a11 *= scale; a12 *= scale;
+        a21 *= scale; a22 *= scale;
+
+        double m11 = a22;
+        double m12 = -( a21);
+        double m21 = -( a12);
+        double m22 = a11;
+
+        double det = (a11*m11 + a12*m12)/scale;
+
+        inv[ii] = m11/det;
+        inv[ii + si] = m21/det;
+        inv[ii + 2*si] = m12/det;
+        inv[ii + 3*si] = m22/det;
+    }
+
+    private static void solve( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                               double[] x, int ix, int sx ) {
+        double b11 = b[ib];
+        double b21 = b[ib + sb];
+        double a11 = a[ia], a12 = a[ia + sa];
+        double a21 = a[ia + 2*sa], a22 = a[ia + 3*sa];
+
+        double scale = Math.abs(a11);
+        scale = Math.max(scale, Math.abs(a12));
+        scale = Math.max(scale, Math.abs(a21));
+        scale = Math.max(scale, Math.abs(a22));
+        scale = 1.0/scale;
+
+        a11 *= scale; a12 *= scale;
+        a21 *= scale; a22 *= scale;
+
+        double m11 = a22;
+        double m12 = -( a21);
+        double m21 = -( a12);
+        double m22 = a11;
+
+        double det = (a11*m11 + a12*m12)/scale;
+
+        x[ix] = (m11*b11 + m21*b21)/det;
+        x[ix + sx] = (m12*b11 + m22*b21)/det;
+    }
+
+    private static double det( double[] mat, int index, int stride ) {
+        return mat[index]*mat[index + 3*stride] - mat[index + stride]*mat[index + 2*stride];
+    }
+
+    private static void cholL( double[] a, int ia, int sa ) {
+        double a11 = a[ia];
+        double a21 = a[ia + 2*sa], a22 = a[ia + 3*sa];
+
+        a11 = Math.sqrt(a11);
+        a21 = (a21)/a11;
+        a22 = Math.sqrt(a22-a21*a21);
+
+        a[ia] = a11;
+        a[ia + sa] = 0;
+        a[ia + 2*sa] = a21;
+        a[ia + 3*sa] = a22;
+    }
+
+}
+
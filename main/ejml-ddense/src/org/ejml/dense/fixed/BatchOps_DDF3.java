@@ -0,0 +1,446 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixBatch;
+import org.jetbrains.annotations.Nullable;
+//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>Operations on a batch of 3 x 3 matrices or 3 element vectors stored in a {@link DMatrixBatch}. The result is the same
+ * as calling the equivalent function in {@link CommonOps_DDF3} on each matrix.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateBatchOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateBatchOps_DDF")
+public class BatchOps_DDF3 {
+    /**
+     * Transposes every matrix in 'input' and stores the results in 'output'.
+     *
+     * @param input (Input) Batch of matrices. Not modified.
+     * @param output (Output) Batch of transposed matrices. Can be the same instance as input. Modified.
+     */
+    public static void transpose( DMatrixBatch input, DMatrixBatch output ) {
+        checkInput(input, 3, 3);
+        output.reshape(3, 3, input.size);
+
+        final double[] a = input.data, b = output.data;
+        final int sa = input.getStride(), sb = output.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, input.size, k -> {
+        for (int k = 0; k < input.size; k++) {
+            transpose(a, input.getOffset(k), sa, b, output.getOffset(k), sb);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a * b <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void mult( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 3, 3);
+        checkInput(b, 3, 3);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(3, 3, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            mult(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void multTransA( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 3, 3);
+        checkInput(b, 3, 3);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(3, 3, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            multTransA(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void multTransB( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 3, 3);
+        checkInput(b, 3, 3);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(3, 3, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            multTransB(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * Inverts every matrix in 'a' using minor matrices and stores the results in 'inv'. Scaling is
+     * applied to improve stability against overflow and underflow.
+     *
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a (Input) Batch of matrices. Not modified.
+     * @param inv (Output) Batch of inverted matrices. Can be the same instance as 'a'. Modified.
+     * @return true if every matrix was inverted or false if any of them failed. Not reliable.
+     */
+    public static boolean invert( DMatrixBatch a, DMatrixBatch inv ) {
+        checkInput(a, 3, 3);
+        inv.reshape(3, 3, a.size);
+
+        final double[] da = a.data, di = inv.data;
+        final int sa = a.getStride(), si = inv.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            invert(da, a.getOffset(k), sa, di, inv.getOffset(k), si);
+        }
+        //CONCURRENT_ABOVE });
+
+        return isCountable(inv, 0);
+    }
+
+    /**
+     * Solves the linear system a*x = b for every matrix and vector in the batch, using the same
+     * minor matrices approach as {@link #invert}.
+     *
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a (Input) Batch of matrices. Not modified.
+     * @param b (Input) Batch of 3 x 1 vectors. Not modified.
+     * @param x (Output) Batch of 3 x 1 solutions. Can be the same instance as 'b'. Modified.
+     * @return true if every system was solved or false if any of them failed. Not reliable.
+     */
+    public static boolean solve( DMatrixBatch a, DMatrixBatch b, DMatrixBatch x ) {
+        checkInput(a, 3, 3);
+        checkInput(b, 3, 1);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        x.reshape(3, 1, a.size);
+
+        final double[] da = a.data, db = b.data, dx = x.data;
+        final int sa = a.getStride(), sb = b.getStride(), sx = x.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            solve(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dx, x.getOffset(k), sx);
+        }
+        //CONCURRENT_ABOVE });
+
+        return isCountable(x, 0);
+    }
+
+    /**
+     * Computes the determinant of every matrix in the batch using minor matrices.<br>
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a (Input) Batch of matrices. Not modified.
+     * @param output (Output) Storage for the determinants. If null or too small a new array is created.
+     * @return Array containing the determinant of each matrix
+     */
+    public static double[] det( DMatrixBatch a, @Nullable double[] output ) {
+        checkInput(a, 3, 3);
+        final double[] out = output == null || output.length < a.size ? new double[a.size] : output;
+
+        final double[] da = a.data;
+        final int sa = a.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            out[k] = det(da, a.getOffset(k), sa);
+        }
+        //CONCURRENT_ABOVE });
+
+        return out;
+    }
+
+    /**
+     * Performs a lower Cholesky decomposition on every matrix in the batch and stores the results in 'a'.
+     *
+     * @param a (Input) Batch of SPD matrices. (Output) lower cholesky.
+     * @return true if every decomposition was successful or false if any of them failed. Not always reliable.
+     */
+    public static boolean cholL( DMatrixBatch a ) {
+        checkInput(a, 3, 3);
+
+        final double[] da = a.data;
+        final int sa = a.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            cholL(da, a.getOffset(k), sa);
+        }
+        //CONCURRENT_ABOVE });
+
+        return isCountable(a, 8);
+    }
+
+    private static void checkInput( DMatrixBatch m, int numRows, int numCols ) {
+        if (m.numRows != numRows || m.numCols != numCols)
+            throw new MatrixDimensionException("Expected a batch of " + numRows + "x" + numCols +
+                    " matrices. Found " + m.numRows + "x" + m.numCols);
+    }
+
+    /**
+     * Returns false if the specified element of any matrix is NaN or infinite
+     */
+    private static boolean isCountable( DMatrixBatch m, int element ) {
+        final int stride = m.getStride();
+        for (int k = 0; k < m.size; k++) {
+            if (UtilEjml.isUncountable(m.data[m.getOffset(k) + element*stride]))
+                return false;
+        }
+        return true;
+    }
+
+    private static void transpose( double[] a, int ia, int sa, double[] b, int ib, int sb ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa];
+        double a21 = a[ia + 3*sa], a22 = a[ia + 4*sa], a23 = a[ia + 5*sa];
+        double a31 = a[ia + 6*sa], a32 = a[ia + 7*sa], a33 = a[ia + 8*sa];
+        b[ib] = a11;
+        b[ib + sb] = a21;
+        b[ib + 2*sb] = a31;
+        b[ib + 3*sb] = a12;
+        b[ib + 4*sb] = a22;
+        b[ib + 5*sb] = a32;
+        b[ib + 6*sb] = a13;
+        b[ib + 7*sb] = a23;
+        b[ib + 8*sb] = a33;
+    }
+
+    private static void mult( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                              double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa];
+        double a21 = a[ia + 3*sa], a22 = a[ia + 4*sa], a23 = a[ia + 5*sa];
+        double a31 = a[ia + 6*sa], a32 = a[ia + 7*sa], a33 = a[ia + 8*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb];
+        double b21 = b[ib + 3*sb], b22 = b[ib + 4*sb], b23 = b[ib + 5*sb];
+        double b31 = b[ib + 6*sb], b32 = b[ib + 7*sb], b33 = b[ib + 8*sb];
+        c[ic] = a11*b11 + a12*b21 + a13*b31;
+        c[ic + sc] = a11*b12 + a12*b22 + a13*b32;
+        c[ic + 2*sc] = a11*b13 + a12*b23 + a13*b33;
+        c[ic + 3*sc] = a21*b11 + a22*b21 + a23*b31;
+        c[ic + 4*sc] = a21*b12 + a22*b22 + a23*b32;
+        c[ic + 5*sc] = a21*b13 + a22*b23 + a23*b33;
+        c[ic + 6*sc] = a31*b11 + a32*b21 + a33*b31;
+        c[ic + 7*sc] = a31*b12 + a32*b22 + a33*b32;
+        c[ic + 8*sc] = a31*b13 + a32*b23 + a33*b33;
+    }
+
+    private static void multTransA( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                                    double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa];
+        double a21 = a[ia + 3*sa], a22 = a[ia + 4*sa], a23 = a[ia + 5*sa];
+        double a31 = a[ia + 6*sa], a32 = a[ia + 7*sa], a33 = a[ia + 8*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb];
+        double b21 = b[ib + 3*sb], b22 = b[ib + 4*sb], b23 = b[ib + 5*sb];
+        double b31 = b[ib + 6*sb], b32 = b[ib + 7*sb], b33 = b[ib + 8*sb];
+        c[ic] = a11*b11 + a21*b21 + a31*b31;
+        c[ic + sc] = a11*b12 + a21*b22 + a31*b32;
+        c[ic + 2*sc] = a11*b13 + a21*b23 + a31*b33;
+        c[ic + 3*sc] = a12*b11 + a22*b21 + a32*b31;
+        c[ic + 4*sc] = a12*b12 + a22*b22 + a32*b32;
+        c[ic + 5*sc] = a12*b13 + a22*b23 + a32*b33;
+        c[ic + 6*sc] = a13*b11 + a23*b21 + a33*b31;
+        c[ic + 7*sc] = a13*b12 + a23*b22 + a33*b32;
+        c[ic + 8*sc] = a13*b13 + a23*b23 + a33*b33;
+    }
+
+    private static void multTransB( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                                    double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa];
+        double a21 = a[ia + 3*sa], a22 = a[ia + 4*sa], a23 = a[ia + 5*sa];
+        double a31 = a[ia + 6*sa], a32 = a[ia + 7*sa], a33 = a[ia + 8*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb];
+        double b21 = b[ib + 3*sb], b22 = b[ib + 4*sb], b23 = b[ib + 5*sb];
+        double b31 = b[ib + 6*sb], b32 = b[ib + 7*sb], b33 = b[ib + 8*sb];
+        c[ic] = a11*b11 + a12*b12 + a13*b13;
+        c[ic + sc] = a11*b21 + a12*b22 + a13*b23;
+        c[ic + 2*sc] = a11*b31 + a12*b32 + a13*b33;
+        c[ic + 3*sc] = a21*b11 + a22*b12 + a23*b13;
+        c[ic + 4*sc] = a21*b21 + a22*b22 + a23*b23;
+        c[ic + 5*sc] = a21*b31 + a22*b32 + a23*b33;
+        c[ic + 6*sc] = a31*b11 + a32*b12 + a33*b13;
+        c[ic + 7*sc] = a31*b21 + a32*b22 + a33*b23;
+        c[ic + 8*sc] = a31*b31 + a32*b32 + a33*b33;
+    }
+
+    private static void invert( double[] a, int ia, int sa, double[] inv, int ii, int si ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa];
+        double a21 = a[ia + 3*sa], a22 = a[ia + 4*sa], a23 = a[ia + 5*sa];
+        double a31 = a[ia + 6*sa], a32 = a[ia + 7*sa], a33 = a[ia + 8*sa];
+
+        double scale = Math.abs(a11);
+        scale = Math.max(scale, Math.abs(a12));
+        scale = Math.max(scale, Math.abs(a13));
+        scale = Math.max(scale, Math.abs(a21));
+        scale = Math.max(scale, Math.abs(a22));
+        scale = Math.max(scale, Math.abs(a23));
+        scale = Math.max(scale, Math.abs(a31));
+        scale = Math.max(scale, Math.abs(a32));
+        scale = Math.max(scale, Math.abs(a33));
+        scale = 1.0/scale;
+
+        a11 *= scale; a12 *= scale; a13 *= scale;
+        a21 *= scale; a22 *= scale; a23 *= scale;
+        a31 *= scale; a32 *= scale; a33 *= scale;
+
+        double m11 = a22*a33 - a23*a32;
+        double m12 = -( a21*a33 - a23*a31);
+        double m13 = a21*a32 - a22*a31;
+        double m21 = -( a12*a33 - a13*a32);
+        double m22 = a11*a33 - a13*a31;
+        double m23 = -( a11*a32 - a12*a31);
+        double m31 = a12*a23 - a13*a22;
+        double m32 = -( a11*a23 - a13*a21);
+        double m33 = a11*a22 - a12*a21;
+
+        double det = (a11*m11 + a12*m12 + a13*m13)/scale;
+
+        inv[ii] = m11/det;
+        inv[ii + si] = m21/det;
+        inv[ii + 2*si] = m31/det;
+        inv[ii + 3*si] = m12/det;
+        inv[ii + 4*si] = m22/det;
+        inv[ii + 5*si] = m32/det;
+        inv[ii + 6*si] = m13/det;
+        inv[ii + 7*si] = m23/det;
+        inv[ii + 8*si] = m33/det;
+    }
+
+    private static void solve( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                               double[] x, int ix, int sx ) {
+        double b11 = b[ib];
+        double b21 = b[ib + sb];
+        double b31 = b[ib + 2*sb];
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa];
+        double a21 = a[ia + 3*sa], a22 = a[ia + 4*sa], a23 = a[ia + 5*sa];
+        double a31 = a[ia + 6*sa], a32 = a[ia + 7*sa], a33 = a[ia + 8*sa];
+
+        double scale = Math.abs(a11);
+        scale = Math.max(scale, Math.abs(a12));
+        scale = Math.max(scale, Math.abs(a13));
+        scale = Math.max(scale, Math.abs(a21));
+        scale = Math.max(scale, Math.abs(a22));
+        scale = Math.max(scale, Math.abs(a23));
+        scale = Math.max(scale, Math.abs(a31));
+        scale = Math.max(scale, Math.abs(a32));
+        scale = Math.max(scale, Math.abs(a33));
+        scale = 1.0/scale;
+
+        a11 *= scale; a12 *= scale; a13 *= scale;
+        a21 *= scale; a22 *= scale; a23 *= scale;
+        a31 *= scale; a32 *= scale; a33 *= scale;
+
+        double m11 = a22*a33 - a23*a32;
+        double m12 = -( a21*a33 - a23*a31);
+        double m13 = a21*a32 - a22*a31;
+        double m21 = -( a12*a33 - a13*a32);
+        double m22 = a11*a33 - a13*a31;
+        double m23 = -( a11*a32 - a12*a31);
+        double m31 = a12*a23 - a13*a22;
+        double m32 = -( a11*a23 - a13*a21);
+        double m33 = a11*a22 - a12*a21;
+
+        double det = (a11*m11 + a12*m12 + a13*m13)/scale;
+
+        x[ix] = (m11*b11 + m21*b21 + m31*b31)/det;
+        x[ix + sx] = (m12*b11 + m22*b21 + m32*b31)/det;
+        x[ix + 2*sx] = (m13*b11 + m23*b21 + m33*b31)/det;
+    }
+
+    private static double det( double[] mat, int index, int stride ) {
+        double a11 = mat[index], a12 = mat[index + stride], a13 = mat[index + 2*stride];
+        double a21 = mat[index + 3*stride], a22 = mat[index + 4*stride], a23 = mat[index + 5*stride];
+        double a31 = mat[index + 6*stride], a32 = mat[index + 7*stride], a33 = mat[index + 8*stride];
+        double a = a11*(a22*a33 - a23*a32);
+        double b = a12*(a21*a33 - a23*a31);
+        double c = a13*(a21*a32 - a31*a22);
+
+        return a-b+c;
+    }
+
+    private static void cholL( double[] a, int ia, int sa ) {
+        double a11 = a[ia];
+        double a21 = a[ia + 3*sa], a22 = a[ia + 4*sa];
+        double a31 = a[ia + 6*sa], a32 = a[ia + 7*sa], a33 = a[ia + 8*sa];
+
+        a11 = Math.sqrt(a11);
+        a21 = (a21)/a11;
+        a22 = Math.sqrt(a22-a21*a21);
+        a31 = (a31)/a11;
+        a32 = (a32-a31*a21)/a22;
+        a33 = Math.sqrt(a33-a31*a31-a32*a32);
+
+        a[ia] = a11;
+        a[ia + sa] = 0;
+        a[ia + 2*sa] = 0;
+        a[ia + 3*sa] = a21;
+        a[ia + 4*sa] = a22;
+        a[ia + 5*sa] = 0;
+        a[ia + 6*sa] = a31;
+        a[ia + 7*sa] = a32;
+        a[ia + 8*sa] = a33;
+    }
+
+}
+
@@ -0,0 +1,676 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixBatch;
+import org.jetbrains.annotations.Nullable;
+//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>Operations on a batch of 5 x 5 matrices or 5 element vectors stored in a {@link DMatrixBatch}. The result is the same
+ * as calling the equivalent function in {@link CommonOps_DDF5} on each matrix.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateBatchOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateBatchOps_DDF")
+public class BatchOps_DDF5 {
+    /**
+     * Transposes every matrix in 'input' and stores the results in 'output'.
+     *
+     * @param input (Input) Batch of matrices. Not modified.
+     * @param output (Output) Batch of transposed matrices. Can be the same instance as input. Modified.
+     */
+    public static void transpose( DMatrixBatch input, DMatrixBatch output ) {
+        checkInput(input, 5, 5);
+        output.reshape(5, 5, input.size);
+
+        final double[] a = input.data, b = output.data;
+        final int sa = input.getStride(), sb = output.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, input.size, k -> {
+        for (int k = 0; k < input.size; k++) {
+            transpose(a, input.getOffset(k), sa, b, output.getOffset(k), sb);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a * b <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void mult( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 5, 5);
+        checkInput(b, 5, 5);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(5, 5, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            mult(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void multTransA( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 5, 5);
+        checkInput(b, 5, 5);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(5, 5, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            multTransA(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void multTransB( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 5, 5);
+        checkInput(b, 5, 5);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(5, 5, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            multTransB(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * Inverts every matrix in 'a' using minor matrices and stores the results in 'inv'. Scaling is
+     * applied to improve stability against overflow and underflow.
+     *
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a (Input) Batch of matrices. Not modified.
+     * @param inv (Output) Batch of inverted matrices. Can be the same instance as 'a'. Modified.
+     * @return true if every matrix was inverted or false if any of them failed. Not reliable.
+     */
+    public static boolean invert( DMatrixBatch a, DMatrixBatch inv ) {
+        checkInput(a, 5, 5);
+        inv.reshape(5, 5, a.size);
+
+        final double[] da = a.data, di = inv.data;
+        final int sa = a.getStride(), si = inv.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            invert(da, a.getOffset(k), sa, di, inv.getOffset(k), si);
+        }
+        //CONCURRENT_ABOVE });
+
+        return isCountable(inv, 0);
+    }
+
+    /**
+     * Solves the linear system a*x = b for every matrix and vector in the batch, using the same
+     * minor matrices approach as {@link #invert}.
+     *
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a (Input) Batch of matrices. Not modified.
+     * @param b (Input) Batch of 5 x 1 vectors. Not modified.
+     * @param x (Output) Batch of 5 x 1 solutions. Can be the same instance as 'b'. Modified.
+     * @return true if every system was solved or false if any of them failed. Not reliable.
+     */
+    public static boolean solve( DMatrixBatch a, DMatrixBatch b, DMatrixBatch x ) {
+        checkInput(a, 5, 5);
+        checkInput(b, 5, 1);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        x.reshape(5, 1, a.size);
+
+        final double[] da = a.data, db = b.data, dx = x.data;
+        final int sa = a.getStride(), sb = b.getStride(), sx = x.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            solve(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dx, x.getOffset(k), sx);
+        }
+        //CONCURRENT_ABOVE });
+
+        return isCountable(x, 0);
+    }
+
+    /**
+     * Computes the determinant of every matrix in the batch using minor matrices.<br>
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a (Input) Batch of matrices. Not modified.
+     * @param output (Output) Storage for the determinants. If null or too small a new array is created.
+     * @return Array containing the determinant of each matrix
+     */
+    public static double[] det( DMatrixBatch a, @Nullable double[] output ) {
+        checkInput(a, 5, 5);
+        final double[] out = output == null || output.length < a.size ? new double[a.size] : output;
+
+        final double[] da = a.data;
+        final int sa = a.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            out[k] = det(da, a.getOffset(k), sa);
+        }
+        //CONCURRENT_ABOVE });
+
+        return out;
+    }
+
+    /**
+     * Performs a lower Cholesky decomposition on every matrix in the batch and stores the results in 'a'.
+     *
+     * @param a (Input) Batch of SPD matrices. (Output) lower cholesky.
+     * @return true if every decomposition was successful or false if any of them failed. Not always reliable.
+     */
+    public static boolean cholL( DMatrixBatch a ) {
+        checkInput(a, 5, 5);
+
+        final double[] da = a.data;
+        final int sa = a.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            cholL(da, a.getOffset(k), sa);
+        }
+        //CONCURRENT_ABOVE });
+
+        return isCountable(a, 24);
+    }
+
+    private static void checkInput( DMatrixBatch m, int numRows, int numCols ) {
+        if (m.numRows != numRows || m.numCols != numCols)
+            throw new MatrixDimensionException("Expected a batch of " + numRows + "x" + numCols +
+                    " matrices. Found " + m.numRows + "x" + m.numCols);
+    }
+
+    /**
+     * Returns false if the specified element of any matrix is NaN or infinite
+     */
+    private static boolean isCountable( DMatrixBatch m, int element ) {
+        final int stride = m.getStride();
+        for (int k = 0; k < m.size; k++) {
+            if (UtilEjml.isUncountable(m.data[m.getOffset(k) + element*stride]))
+                return false;
+        }
+        return true;
+    }
+
+    private static void transpose( double[] a, int ia, int sa, double[] b, int ib, int sb ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa];
+        double a21 = a[ia + 5*sa], a22 = a[ia + 6*sa], a23 = a[ia + 7*sa], a24 = a[ia + 8*sa], a25 = a[ia + 9*sa];
+        double a31 = a[ia + 10*sa], a32 = a[ia + 11*sa], a33 = a[ia + 12*sa], a34 = a[ia + 13*sa], a35 = a[ia + 14*sa];
+        double a41 = a[ia + 15*sa], a42 = a[ia + 16*sa], a43 = a[ia + 17*sa], a44 = a[ia + 18*sa], a45 = a[ia + 19*sa];
+        double a51 = a[ia + 20*sa], a52 = a[ia + 21*sa], a53 = a[ia + 22*sa], a54 = a[ia + 23*sa], a55 = a[ia + 24*sa];
+        b[ib] = a11;
+        b[ib + sb] = a21;
+        b[ib + 2*sb] = a31;
+        b[ib + 3*sb] = a41;
+        b[ib + 4*sb] = a51;
+        b[ib + 5*sb] = a12;
+        b[ib + 6*sb] = a22;
+        b[ib + 7*sb] = a32;
+        b[ib + 8*sb] = a42;
+        b[ib + 9*sb] = a52;
+        b[ib + 10*sb] = a13;
+        b[ib + 11*sb] = a23;
+        b[ib + 12*sb] = a33;
+        b[ib + 13*sb] = a43;
+        b[ib + 14*sb] = a53;
+        b[ib + 15*sb] = a14;
+        b[ib + 16*sb] = a24;
+        b[ib + 17*sb] = a34;
+        b[ib + 18*sb] = a44;
+        b[ib + 19*sb] = a54;
+        b[ib + 20*sb] = a15;
+        b[ib + 21*sb] = a25;
+        b[ib + 22*sb] = a35;
+        b[ib + 23*sb] = a45;
+        b[ib + 24*sb] = a55;
+    }
+
+    private static void mult( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                              double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa];
+        double a21 = a[ia + 5*sa], a22 = a[ia + 6*sa], a23 = a[ia + 7*sa], a24 = a[ia + 8*sa], a25 = a[ia + 9*sa];
+        double a31 = a[ia + 10*sa], a32 = a[ia + 11*sa], a33 = a[ia + 12*sa], a34 = a[ia + 13*sa], a35 = a[ia + 14*sa];
+        double a41 = a[ia + 15*sa], a42 = a[ia + 16*sa], a43 = a[ia + 17*sa], a44 = a[ia + 18*sa], a45 = a[ia + 19*sa];
+        double a51 = a[ia + 20*sa], a52 = a[ia + 21*sa], a53 = a[ia + 22*sa], a54 = a[ia + 23*sa], a55 = a[ia + 24*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb], b14 = b[ib + 3*sb], b15 = b[ib + 4*sb];
+        double b21 = b[ib + 5*sb], b22 = b[ib + 6*sb], b23 = b[ib + 7*sb], b24 = b[ib + 8*sb], b25 = b[ib + 9*sb];
+        double b31 = b[ib + 10*sb], b32 = b[ib + 11*sb], b33 = b[ib + 12*sb], b34 = b[ib + 13*sb], b35 = b[ib + 14*sb];
+        double b41 = b[ib + 15*sb], b42 = b[ib + 16*sb], b43 = b[ib + 17*sb], b44 = b[ib + 18*sb], b45 = b[ib + 19*sb];
+        double b51 = b[ib + 20*sb], b52 = b[ib + 21*sb], b53 = b[ib + 22*sb], b54 = b[ib + 23*sb], b55 = b[ib + 24*sb];
+        c[ic] = a11*b11 + a12*b21 + a13*b31 + a14*b41 + a15*b51;
+        c[ic + sc] = a11*b12 + a12*b22 + a13*b32 + a14*b42 + a15*b52;
+        c[ic + 2*sc] = a11*b13 + a12*b23 + a13*b33 + a14*b43 + a15*b53;
+        c[ic + 3*sc] = a11*b14 + a12*b24 + a13*b34 + a14*b44 + a15*b54;
+        c[ic + 4*sc] = a11*b15 + a12*b25 + a13*b35 + a14*b45 + a15*b55;
+        c[ic + 5*sc] = a21*b11 + a22*b21 + a23*b31 + a24*b41 + a25*b51;
+        c[ic + 6*sc] = a21*b12 + a22*b22 + a23*b32 + a24*b42 + a25*b52;
+        c[ic + 7*sc] = a21*b13 + a22*b23 + a23*b33 + a24*b43 + a25*b53;
+        c[ic + 8*sc] = a21*b14 + a22*b24 + a23*b34 + a24*b44 + a25*b54;
+        c[ic + 9*sc] = a21*b15 + a22*b25 + a23*b35 + a24*b45 + a25*b55;
+        c[ic + 10*sc] = a31*b11 + a32*b21 + a33*b31 + a34*b41 + a35*b51;
+        c[ic + 11*sc] = a31*b12 + a32*b22 + a33*b32 + a34*b42 + a35*b52;
+        c[ic + 12*sc] = a31*b13 + a32*b23 + a33*b33 + a34*b43 + a35*b53;
+        c[ic + 13*sc] = a31*b14 + a32*b24 + a33*b34 + a34*b44 + a35*b54;
+        c[ic + 14*sc] = a31*b15 + a32*b25 + a33*b35 + a34*b45 + a35*b55;
+        c[ic + 15*sc] = a41*b11 + a42*b21 + a43*b31 + a44*b41 + a45*b51;
+        c[ic + 16*sc] = a41*b12 + a42*b22 + a43*b32 + a44*b42 + a45*b52;
+        c[ic + 17*sc] = a41*b13 + a42*b23 + a43*b33 + a44*b43 + a45*b53;
+        c[ic + 18*sc] = a41*b14 + a42*b24 + a43*b34 + a44*b44 + a45*b54;
+        c[ic + 19*sc] = a41*b15 + a42*b25 + a43*b35 + a44*b45 + a45*b55;
+        c[ic + 20*sc] = a51*b11 + a52*b21 + a53*b31 + a54*b41 + a55*b51;
+        c[ic + 21*sc] = a51*b12 + a52*b22 + a53*b32 + a54*b42 + a55*b52;
+        c[ic + 22*sc] = a51*b13 + a52*b23 + a53*b33 + a54*b43 + a55*b53;
+        c[ic + 23*sc] = a51*b14 + a52*b24 + a53*b34 + a54*b44 + a55*b54;
+        c[ic + 24*sc] = a51*b15 + a52*b25 + a53*b35 + a54*b45 + a55*b55;
+    }
+
+    private static void multTransA( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                                    double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa];
+        double a21 = a[ia + 5*sa], a22 = a[ia + 6*sa], a23 = a[ia + 7*sa], a24 = a[ia + 8*sa], a25 = a[ia + 9*sa];
+        double a31 = a[ia + 10*sa], a32 = a[ia + 11*sa], a33 = a[ia + 12*sa], a34 = a[ia + 13*sa], a35 = a[ia + 14*sa];
+        double a41 = a[ia + 15*sa], a42 = a[ia + 16*sa], a43 = a[ia + 17*sa], a44 = a[ia + 18*sa], a45 = a[ia + 19*sa];
+        double a51 = a[ia + 20*sa], a52 = a[ia + 21*sa], a53 = a[ia + 22*sa], a54 = a[ia + 23*sa], a55 = a[ia + 24*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb], b14 = b[ib + 3*sb], b15 = b[ib + 4*sb];
+        double b21 = b[ib + 5*sb], b22 = b[ib + 6*sb], b23 = b[ib + 7*sb], b24 = b[ib + 8*sb], b25 = b[ib + 9*sb];
+        double b31 = b[ib + 10*sb], b32 = b[ib + 11*sb], b33 = b[ib + 12*sb], b34 = b[ib + 13*sb], b35 = b[ib + 14*sb];
+        double b41 = b[ib + 15*sb], b42 = b[ib + 16*sb], b43 = b[ib + 17*sb], b44 = b[ib + 18*sb], b45 = b[ib + 19*sb];
+        double b51 = b[ib + 20*sb], b52 = b[ib + 21*sb], b53 = b[ib + 22*sb], b54 = b[ib + 23*sb], b55 = b[ib + 24*sb];
+        c[ic] = a11*b11 + a21*b21 + a31*b31 + a41*b41 + a51*b51;
+        c[ic + sc] = a11*b12 + a21*b22 + a31*b32 + a41*b42 + a51*b52;
+        c[ic + 2*sc] = a11*b13 + a21*b23 + a31*b33 + a41*b43 + a51*b53;
+        c[ic + 3*sc] = a11*b14 + a21*b24 + a31*b34 + a41*b44 + a51*b54;
+        c[ic + 4*sc] = a11*b15 + a21*b25 + a31*b35 + a41*b45 + a51*b55;
+        c[ic + 5*sc] = a12*b11 + a22*b21 + a32*b31 + a42*b41 + a52*b51;
+        c[ic + 6*sc] = a12*b12 + a22*b22 + a32*b32 + a42*b42 + a52*b52;
+        c[ic + 7*sc] = a12*b13 + a22*b23 + a32*b33 + a42*b43 + a52*b53;
+        c[ic + 8*sc] = a12*b14 + a22*b24 + a32*b34 + a42*b44 + a52*b54;
+        c[ic + 9*sc] = a12*b15 + a22*b25 + a32*b35 + a42*b45 + a52*b55;
+        c[ic + 10*sc] = a13*b11 + a23*b21 + a33*b31 + a43*b41 + a53*b51;
+        c[ic + 11*sc] = a13*b12 + a23*b22 + a33*b32 + a43*b42 + a53*b52;
+        c[ic + 12*sc] = a13*b13 + a23*b23 + a33*b33 + a43*b43 + a53*b53;
+        c[ic + 13*sc] = a13*b14 + a23*b24 + a33*b34 + a43*b44 + a53*b54;
+        c[ic + 14*sc] = a13*b15 + a23*b25 + a33*b35 + a43*b45 + a53*b55;
+        c[ic + 15*sc] = a14*b11 + a24*b21 + a34*b31 + a44*b41 + a54*b51;
+        c[ic + 16*sc] = a14*b12 + a24*b22 + a34*b32 + a44*b42 + a54*b52;
+        c[ic + 17*sc] = a14*b13 + a24*b23 + a34*b33 + a44*b43 + a54*b53;
+        c[ic + 18*sc] = a14*b14 + a24*b24 + a34*b34 + a44*b44 + a54*b54;
+        c[ic + 19*sc] = a14*b15 + a24*b25 + a34*b35 + a44*b45 + a54*b55;
+        c[ic + 20*sc] = a15*b11 + a25*b21 + a35*b31 + a45*b41 + a55*b51;
+        c[ic + 21*sc] = a15*b12 + a25*b22 + a35*b32 + a45*b42 + a55*b52;
+        c[ic + 22*sc] = a15*b13 + a25*b23 + a35*b33 + a45*b43 + a55*b53;
+        c[ic + 23*sc] = a15*b14 + a25*b24 + a35*b34 + a45*b44 + a55*b54;
+        c[ic + 24*sc] = a15*b15 + a25*b25 + a35*b35 + a45*b45 + a55*b55;
+    }
+
+    private static void multTransB( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                                    double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa];
+        double a21 = a[ia + 5*sa], a22 = a[ia + 6*sa], a23 = a[ia + 7*sa], a24 = a[ia + 8*sa], a25 = a[ia + 9*sa];
+        double a31 = a[ia + 10*sa], a32 = a[ia + 11*sa], a33 = a[ia + 12*sa], a34 = a[ia + 13*sa], a35 = a[ia + 14*sa];
+        double a41 = a[ia + 15*sa], a42 = a[ia + 16*sa], a43 = a[ia + 17*sa], a44 = a[ia + 18*sa], a45 = a[ia + 19*sa];
+        double a51 = a[ia + 20*sa], a52 = a[ia + 21*sa], a53 = a[ia + 22*sa], a54 = a[ia + 23*sa], a55 = a[ia + 24*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb], b14 = b[ib + 3*sb], b15 = b[ib + 4*sb];
+        double b21 = b[ib + 5*sb], b22 = b[ib + 6*sb], b23 = b[ib + 7*sb], b24 = b[ib + 8*sb], b25 = b[ib + 9*sb];
+        double b31 = b[ib + 10*sb], b32 = b[ib + 11*sb], b33 = b[ib + 12*sb], b34 = b[ib + 13*sb], b35 = b[ib + 14*sb];
+        double b41 = b[ib + 15*sb], b42 = b[ib + 16*sb], b43 = b[ib + 17*sb], b44 = b[ib + 18*sb], b45 = b[ib + 19*sb];
+        double b51 = b[ib + 20*sb], b52 = b[ib + 21*sb], b53 = b[ib + 22*sb], b54 = b[ib + 23*sb], b55 = b[ib + 24*sb];
+        c[ic] = a11*b11 + a12*b12 + a13*b13 + a14*b14 + a15*b15;
+        c[ic + sc] = a11*b21 + a12*b22 + a13*b23 + a14*b24 + a15*b25;
+        c[ic + 2*sc] = a11*b31 + a12*b32 + a13*b33 + a14*b34 + a15*b35;
+        c[ic + 3*sc] = a11*b41 + a12*b42 + a13*b43 + a14*b44 + a15*b45;
+        c[ic + 4*sc] = a11*b51 + a12*b52 + a13*b53 + a14*b54 + a15*b55;
+        c[ic + 5*sc] = a21*b11 + a22*b12 + a23*b13 + a24*b14 + a25*b15;
+        c[ic + 6*sc] = a21*b21 + a22*b22 + a23*b23 + a24*b24 + a25*b25;
+        c[ic + 7*sc] = a21*b31 + a22*b32 + a23*b33 + a24*b34 + a25*b35;
+        c[ic + 8*sc] = a21*b41 + a22*b42 + a23*b43 + a24*b44 + a25*b45;
+        c[ic + 9*sc] = a21*b51 + a22*b52 + a23*b53 + a24*b54 + a25*b55;
+        c[ic + 10*sc] = a31*b11 + a32*b12 + a33*b13 + a34*b14 + a35*b15;
+        c[ic + 11*sc] = a31*b21 + a32*b22 + a33*b23 + a34*b24 + a35*b25;
+        c[ic + 12*sc] = a31*b31 + a32*b32 + a33*b33 + a34*b34 + a35*b35;
+        c[ic + 13*sc] = a31*b41 + a32*b42 + a33*b43 + a34*b44 + a35*b45;
+        c[ic + 14*sc] = a31*b51 + a32*b52 + a33*b53 + a34*b54 + a35*b55;
+        c[ic + 15*sc] = a41*b11 + a42*b12 + a43*b13 + a44*b14 + a45*b15;
+        c[ic + 16*sc] = a41*b21 + a42*b22 + a43*b23 + a44*b24 + a45*b25;
+        c[ic + 17*sc] = a41*b31 + a42*b32 + a43*b33 + a44*b34 + a45*b35;
+        c[ic + 18*sc] = a41*b41 + a42*b42 + a43*b43 + a44*b44 + a45*b45;
+        c[ic + 19*sc] = a41*b51 + a42*b52 + a43*b53 + a44*b54 + a45*b55;
+        c[ic + 20*sc] = a51*b11 + a52*b12 + a53*b13 + a54*b14 + a55*b15;
+        c[ic + 21*sc] = a51*b21 + a52*b22 + a53*b23 + a54*b24 + a55*b25;
+        c[ic + 22*sc] = a51*b31 + a52*b32 + a53*b33 + a54*b34 + a55*b35;
+        c[ic + 23*sc] = a51*b41 + a52*b42 + a53*b43 + a54*b44 + a55*b45;
+        c[ic + 24*sc] = a51*b51 + a52*b52 + a53*b53 + a54*b54 + a55*b55;
+    }
+
+    private static void invert( double[] a, int ia, int sa, double[] inv, int ii, int si ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa];
+        double a21 = a[ia + 5*sa], a22 = a[ia + 6*sa], a23 = a[ia + 7*sa], a24 = a[ia + 8*sa], a25 = a[ia + 9*sa];
+        double a31 = a[ia + 10*sa], a32 = a[ia + 11*sa], a33 = a[ia + 12*sa], a34 = a[ia + 13*sa], a35 = a[ia + 14*sa];
+        double a41 = a[ia + 15*sa], a42 = a[ia + 16*sa], a43 = a[ia + 17*sa], a44 = a[ia + 18*sa], a45 = a[ia + 19*sa];
+        double a51 = a[ia + 20*sa], a52 = a[ia + 21*sa], a53 = a[ia + 22*sa], a54 = a[ia + 23*sa], a55 = a[ia + 24*sa];
+
+        double scale = Math.abs(a11);
+        scale = Math.max(scale, Math.abs(a12));
+        scale = Math.max(scale, Math.abs(a13));
+        scale = Math.max(scale, Math.abs(a14));
+        scale = Math.max(scale, Math.abs(a15));
+        scale = Math.max(scale, Math.abs(a21));
+        scale = Math.max(scale, Math.abs(a22));
+        scale = Math.max(scale, Math.abs(a23));
+        scale = Math.max(scale, Math.abs(a24));
+        scale = Math.max(scale, Math.abs(a25));
+        scale = Math.max(scale, Math.abs(a31));
+        scale = Math.max(scale, Math.abs(a32));
+        scale = Math.max(scale, Math.abs(a33));
+        scale = Math.max(scale, Math.abs(a34));
+        scale = Math.max(scale, Math.abs(a35));
+        scale = Math.max(scale, Math.abs(a41));
+        scale = Math.max(scale, Math.abs(a42));
+        scale = Math.max(scale, Math.abs(a43));
+        scale = Math.max(scale, Math.abs(a44));
+        scale = Math.max(scale, Math.abs(a45));
+        scale = Math.max(scale, Math.abs(a51));
+        scale = Math.max(scale, Math.abs(a52));
+        scale = Math.max(scale, Math.abs(a53));
+        scale = Math.max(scale, Math.abs(a54));
+        scale = Math.max(scale, Math.abs(a55));
+        scale = 1.0/scale;
+
+        a11 *= scale; a12 *= scale; a13 *= scale; a14 *= scale; a15 *= scale;
+        a21 *= scale; a22 *= scale; a23 *= scale; a24 *= scale; a25 *= scale;
+        a31 *= scale; a32 *= scale; a33 *= scale; a34 *= scale; a35 *= scale;
+        a41 *= scale; a42 *= scale; a43 *= scale; a44 *= scale; a45 *= scale;
+        a51 *= scale; a52 *= scale; a53 *= scale; a54 *= scale; a55 *= scale;
+
+        double m11 =  + a22*( + a33*(a44*a55 - a45*a54) - a34*(a43*a55 - a45*a53) + a35*(a43*a54 - a44*a53)) - a23*( + a32*(a44*a55 - a45*a54) - a34*(a42*a55 - a45*a52) + a35*(a42*a54 - a44*a52)) + a24*( + a32*(a43*a55 - a45*a53) - a33*(a42*a55 - a45*a52) + a35*(a42*a53 - a43*a52)) - a25*( + a32*(a43*a54 - a44*a53) - a33*(a42*a54 - a44*a52) + a34*(a42*a53 - a43*a52));
+        double m12 = -(  + a21*( + a33*(a44*a55 - a45*a54) - a34*(a43*a55 - a45*a53) + a35*(a43*a54 - a44*a53)) - a23*( + a31*(a44*a55 - a45*a54) - a34*(a41*a55 - a45*a51) + a35*(a41*a54 - a44*a51)) + a24*( + a31*(a43*a55 - a45*a53) - a33*(a41*a55 - a45*a51) + a35*(a41*a53 - a43*a51)) - a25*( + a31*(a43*a54 - a44*a53) - a33*(a41*a54 - a44*a51) + a34*(a41*a53 - a43*a51)));
+        double m13 =  + a21*( + a32*(a44*a55 - a45*a54) - a34*(a42*a55 - a45*a52) + a35*(a42*a54 - a44*a52)) - a22*( + a31*(a44*a55 - a45*a54) - a34*(a41*a55 - a45*a51) + a35*(a41*a54 - a44*a51)) + a24*( + a31*(a42*a55 - a45*a52) - a32*(a41*a55 - a45*a51) + a35*(a41*a52 - a42*a51)) - a25*( + a31*(a42*a54 - a44*a52) - a32*(a41*a54 - a44*a51) + a34*(a41*a52 - a42*a51));
+        double m14 = -(  + a21*( + a32*(a43*a55 - a45*a53) - a33*(a42*a55 - a45*a52) + a35*(a42*a53 - a43*a52)) - a22*( + a31*(a43*a55 - a45*a53) - a33*(a41*a55 - a45*a51) + a35*(a41*a53 - a43*a51)) + a23*( + a31*(a42*a55 - a45*a52) - a32*(a41*a55 - a45*a51) + a35*(a41*a52 - a42*a51)) - a25*( + a31*(a42*a53 - a43*a52) - a32*(a41*a53 - a43*a51) + a33*(a41*a52 - a42*a51)));
+        double m15 =  + a21*( + a32*(a43*a54 - a44*a53) - a33*(a42*a54 - a44*a52) + a34*(a42*a53 - a43*a52)) - a22*( + a31*(a43*a54 - a44*a53) - a33*(a41*a54 - a44*a51) + a34*(a41*a53 - a43*a51)) + a23*( + a31*(a42*a54 - a44*a52) - a32*(a41*a54 - a44*a51) + a34*(a41*a52 - a42*a51)) - a24*( + a31*(a42*a53 - a43*a52) - a32*(a41*a53 - a43*a51) + a33*(a41*a52 - a42*a51));
+        double m21 = -(  + a12*( + a33*(a44*a55 - a45*a54) - a34*(a43*a55 - a45*a53) + a35*(a43*a54 - a44*a53)) - a13*( + a32*(a44*a55 - a45*a54) - a34*(a42*a55 - a45*a52) + a35*(a42*a54 - a44*a52)) + a14*( + a32*(a43*a55 - a45*a53) - a33*(a42*a55 - a45*a52) + a35*(a42*a53 - a43*a52)) - a15*( + a32*(a43*a54 - a44*a53) - a33*(a42*a54 - a44*a52) + a34*(a42*a53 - a43*a52)));
+        double m22 =  + a11*( + a33*(a44*a55 - a45*a54) - a34*(a43*a55 - a45*a53) + a35*(a43*a54 - a44*a53)) - a13*( + a31*(a44*a55 - a45*a54) - a34*(a41*a55 - a45*a51) + a35*(a41*a54 - a44*a51)) + a14*( + a31*(a43*a55 - a45*a53) - a33*(a41*a55 - a45*a51) + a35*(a41*a53 - a43*a51)) - a15*( + a31*(a43*a54 - a44*a53) - a33*(a41*a54 - a44*a51) + a34*(a41*a53 - a43*a51));
+        double m23 = -(  + a11*( + a32*(a44*a55 - a45*a54) - a34*(a42*a55 - a45*a52) + a35*(a42*a54 - a44*a52)) - a12*( + a31*(a44*a55 - a45*a54) - a34*(a41*a55 - a45*a51) + a35*(a41*a54 - a44*a51)) + a14*( + a31*(a42*a55 - a45*a52) - a32*(a41*a55 - a45*a51) + a35*(a41*a52 - a42*a51)) - a15*( + a31*(a42*a54 - a44*a52) - a32*(a41*a54 - a44*a51) + a34*(a41*a52 - a42*a51)));
+        double m24 =  + a11*( + a32*(a43*a55 - a45*a53) - a33*(a42*a55 - a45*a52) + a35*(a42*a53 - a43*a52)) - a12*( + a31*(a43*a55 - a45*a53) - a33*(a41*a55 - a45*a51) + a35*(a41*a53 - a43*a51)) + a13*( + a31*(a42*a55 - a45*a52) - a32*(a41*a55 - a45*a51) + a35*(a41*a52 - a42*a51)) - a15*( + a31*(a42*a53 - a43*a52) - a32*(a41*a53 - a43*a51) + a33*(a41*a52 - a42*a51));
+        double m25 = -(  + a11*( + a32*(a43*a54 - a44*a53) - a33*(a42*a54 - a44*a52) + a34*(a42*a53 - a43*a52)) - a12*( + a31*(a43*a54 - a44*a53) - a33*(a41*a54 - a44*a51) + a34*(a41*a53 - a43*a51)) + a13*( + a31*(a42*a54 - a44*a52) - a32*(a41*a54 - a44*a51) + a34*(a41*a52 - a42*a51)) - a14*( + a31*(a42*a53 - a43*a52) - a32*(a41*a53 - a43*a51) + a33*(a41*a52 - a42*a51)));
+        double m31 =  + a12*( + a23*(a44*a55 - a45*a54) - a24*(a43*a55 - a45*a53) + a25*(a43*a54 - a44*a53)) - a13*( + a22*(a44*a55 - a45*a54) - a24*(a42*a55 - a45*a52) + a25*(a42*a54 - a44*a52)) + a14*( + a22*(a43*a55 - a45*a53) - a23*(a42*a55 - a45*a52) + a25*(a42*a53 - a43*a52)) - a15*( + a22*(a43*a54 - a44*a53) - a23*(a42*a54 - a44*a52) + a24*(a42*a53 - a43*a52));
+        double m32 = -(  + a11*( + a23*(a44*a55 - a45*a54) - a24*(a43*a55 - a45*a53) + a25*(a43*a54 - a44*a53)) - a13*( + a21*(a44*a55 - a45*a54) - a24*(a41*a55 - a45*a51) + a25*(a41*a54 - a44*a51)) + a14*( + a21*(a43*a55 - a45*a53) - a23*(a41*a55 - a45*a51) + a25*(a41*a53 - a43*a51)) - a15*( + a21*(a43*a54 - a44*a53) - a23*(a41*a54 - a44*a51) + a24*(a41*a53 - a43*a51)));
+        double m33 =  + a11*( + a22*(a44*a55 - a45*a54) - a24*(a42*a55 - a45*a52) + a25*(a42*a54 - a44*a52)) - a12*( + a21*(a44*a55 - a45*a54) - a24*(a41*a55 - a45*a51) + a25*(a41*a54 - a44*a51)) + a14*( + a21*(a42*a55 - a45*a52) - a22*(a41*a55 - a45*a51) + a25*(a41*a52 - a42*a51)) - a15*( + a21*(a42*a54 - a44*a52) - a22*(a41*a54 - a44*a51) + a24*(a41*a52 - a42*a51));
+        double m34 = -(  + a11*( + a22*(a43*a55 - a45*a53) - a23*(a42*a55 - a45*a52) + a25*(a42*a53 - a43*a52)) - a12*( + a21*(a43*a55 - a45*a53) - a23*(a41*a55 - a45*a51) + a25*(a41*a53 - a43*a51)) + a13*( + a21*(a42*a55 - a45*a52) - a22*(a41*a55 - a45*a51) + a25*(a41*a52 - a42*a51)) - a15*( + a21*(a42*a53 - a43*a52) - a22*(a41*a53 - a43*a51) + a23*(a41*a52 - a42*a51)));
+        double m35 =  + a11*( + a22*(a43*a54 - a44*a53) - a23*(a42*a54 - a44*a52) + a24*(a42*a53 - a43*a52)) - a12*( + a21*(a43*a54 - a44*a53) - a23*(a41*a54 - a44*a51) + a24*(a41*a53 - a43*a51)) + a13*( + a21*(a42*a54 - a44*a52) - a22*(a41*a54 - a44*a51) + a24*(a41*a52 - a42*a51)) - a14*( + a21*(a42*a53 - a43*a52) - a22*(a41*a53 - a43*a51) + a23*(a41*a52 - a42*a51));
+        double m41 = -(  + a12*( + a23*(a34*a55 - a35*a54) - a24*(a33*a55 - a35*a53) + a25*(a33*a54 - a34*a53)) - a13*( + a22*(a34*a55 - a35*a54) - a24*(a32*a55 - a35*a52) + a25*(a32*a54 - a34*a52)) + a14*( + a22*(a33*a55 - a35*a53) - a23*(a32*a55 - a35*a52) + a25*(a32*a53 - a33*a52)) - a15*( + a22*(a33*a54 - a34*a53) - a23*(a32*a54 - a34*a52) + a24*(a32*a53 - a33*a52)));
+        double m42 =  + a11*( + a23*(a34*a55 - a35*a54) - a24*(a33*a55 - a35*a53) + a25*(a33*a54 - a34*a53)) - a13*( + a21*(a34*a55 - a35*a54) - a24*(a31*a55 - a35*a51) + a25*(a31*a54 - a34*a51)) + a14*( + a21*(a33*a55 - a35*a53) - a23*(a31*a55 - a35*a51) + a25*(a31*a53 - a33*a51)) - a15*( + a21*(a33*a54 - a34*a53) - a23*(a31*a54 - a34*a51) + a24*(a31*a53 - a33*a51));
+        double m43 = -(  + a11*( + a22*(a34*a55 - a35*a54) - a24*(a32*a55 - a35*a52) + a25*(a32*a54 - a34*a52)) - a12*( + a21*(a34*a55 - a35*a54) - a24*(a31*a55 - a35*a51) + a25*(a31*a54 - a34*a51)) + a14*( + a21*(a32*a55 - a35*a52) - a22*(a31*a55 - a35*a51) + a25*(a31*a52 - a32*a51)) - a15*( + a21*(a32*a54 - a34*a52) - a22*(a31*a54 - a34*a51) + a24*(a31*a52 - a32*a51)));
+        double m44 =  + a11*( + a22*(a33*a55 - a35*a53) - a23*(a32*a55 - a35*a52) + a25*(a32*a53 - a33*a52)) - a12*( + a21*(a33*a55 - a35*a53) - a23*(a31*a55 - a35*a51) + a25*(a31*a53 - a33*a51)) + a13*( + a21*(a32*a55 - a35*a52) - a22*(a31*a55 - a35*a51) + a25*(a31*a52 - a32*a51)) - a15*( + a21*(a32*a53 - a33*a52) - a22*(a31*a53 - a33*a51) + a23*(a31*a52 - a32*a51));
+        double m45 = -(  + a11*( + a22*(a33*a54 - a34*a53) - a23*(a32*a54 - a34*a52) + a24*(a32*a53 - a33*a52)) - a12*( + a21*(a33*a54 - a34*a53) - a23*(a31*a54 - a34*a51) + a24*(a31*a53 - a33*a51)) + a13*( + a21*(a32*a54 - a34*a52) - a22*(a31*a54 - a34*a51) + a24*(a31*a52 - a32*a51)) - a14*( + a21*(a32*a53 - a33*a52) - a22*(a31*a53 - a33*a51) + a23*(a31*a52 - a32*a51)));
+        double m51 =  + a12*( + a23*(a34*a45 - a35*a44) - a24*(a33*a45 - a35*a43) + a25*(a33*a44 - a34*a43)) - a13*( + a22*(a34*a45 - a35*a44) - a24*(a32*a45 - a35*a42) + a25*(a32*a44 - a34*a42)) + a14*( + a22*(a33*a45 - a35*a43) - a23*(a32*a45 - a35*a42) + a25*(a32*a43 - a33*a42)) - a15*( + a22*(a33*a44 - a34*a43) - a23*(a32*a44 - a34*a42) + a24*(a32*a43 - a33*a42));
+        double m52 = -(  + a11*( + a23*(a34*a45 - a35*a44) - a24*(a33*a45 - a35*a43) + a25*(a33*a44 - a34*a43)) - a13*( + a21*(a34*a45 - a35*a44) - a24*(a31*a45 - a35*a41) + a25*(a31*a44 - a34*a41)) + a14*( + a21*(a33*a45 - a35*a43) - a23*(a31*a45 - a35*a41) + a25*(a31*a43 - a33*a41)) - a15*( + a21*(a33*a44 - a34*a43) - a23*(a31*a44 - a34*a41) + a24*(a31*a43 - a33*a41)));
+        double m53 =  + a11*( + a22*(a34*a45 - a35*a44) - a24*(a32*a45 - a35*a42) + a25*(a32*a44 - a34*a42)) - a12*( + a21*(a34*a45 - a35*a44) - a24*(a31*a45 - a35*a41) + a25*(a31*a44 - a34*a41)) + a14*( + a21*(a32*a45 - a35*a42) - a22*(a31*a45 - a35*a41) + a25*(a31*a42 - a32*a41)) - a15*( + a21*(a32*a44 - a34*a42) - a22*(a31*a44 - a34*a41) + a24*(a31*a42 - a32*a41));
+        double m54 = -(  + a11*( + a22*(a33*a45 - a35*a43) - a23*(a32*a45 - a35*a42) + a25*(a32*a43 - a33*a42)) - a12*( + a21*(a33*a45 - a35*a43) - a23*(a31*a45 - a35*a41) + a25*(a31*a43 - a33*a41)) + a13*( + a21*(a32*a45 - a35*a42) - a22*(a31*a45 - a35*a41) + a25*(a31*a42 - a32*a41)) - a15*( + a21*(a32*a43 - a33*a42) - a22*(a31*a43 - a33*a41) + a23*(a31*a42 - a32*a41)));
+        double m55 =  + a11*( + a22*(a33*a44 - a34*a43) - a23*(a32*a44 - a34*a42) + a24*(a32*a43 - a33*a42)) - a12*( + a21*(a33*a44 - a34*a43) - a23*(a31*a44 - a34*a41) + a24*(a31*a43 - a33*a41)) + a13*( + a21*(a32*a44 - a34*a42) - a22*(a31*a44 - a34*a41) + a24*(a31*a42 - a32*a41)) - a14*( + a21*(a32*a43 - a33*a42) - a22*(a31*a43 - a33*a41) + a23*(a31*a42 - a32*a41));
+
+        double det = (a11*m11 + a12*m12 + a13*m13 + a14*m14 + a15*m15)/scale;
+
+        inv[ii] = m11/det;
+        inv[ii + si] = m21/det;
+        inv[ii + 2*si] = m31/det;
+        inv[ii + 3*si] = m41/det;
+        inv[ii + 4*si] = m51/det;
+        inv[ii + 5*si] = m12/det;
+        inv[ii + 6*si] = m22/det;
+        inv[ii + 7*si] = m32/det;
+        inv[ii + 8*si] = m42/det;
+        inv[ii + 9*si] = m52/det;
+        inv[ii + 10*si] = m13/det;
+        inv[ii + 11*si] = m23/det;
+        inv[ii + 12*si] = m33/det;
+        inv[ii + 13*si] = m43/det;
+        inv[ii + 14*si] = m53/det;
+        inv[ii + 15*si] = m14/det;
+        inv[ii + 16*si] = m24/det;
+        inv[ii + 17*si] = m34/det;
+        inv[ii + 18*si] = m44/det;
+        inv[ii + 19*si] = m54/det;
+        inv[ii + 20*si] = m15/det;
+        inv[ii + 21*si] = m25/det;
+        inv[ii + 22*si] = m35/det;
+        inv[ii + 23*si] = m45/det;
+        inv[ii + 24*si] = m55/det;
+    }
+
+    private static void solve( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                               double[] x, int ix, int sx ) {
+        double b11 = b[ib];
+        double b21 = b[ib + sb];
+        double b31 = b[ib + 2*sb];
+        double b41 = b[ib + 3*sb];
+        double b51 = b[ib + 4*sb];
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa];
+        double a21 = a[ia + 5*sa], a22 = a[ia + 6*sa], a23 = a[ia + 7*sa], a24 = a[ia + 8*sa], a25 = a[ia + 9*sa];
+        double a31 = a[ia + 10*sa], a32 = a[ia + 11*sa], a33 = a[ia + 12*sa], a34 = a[ia + 13*sa], a35 = a[ia + 14*sa];
+        double a41 = a[ia + 15*sa], a42 = a[ia + 16*sa], a43 = a[ia + 17*sa], a44 = a[ia + 18*sa], a45 = a[ia + 19*sa];
+        double a51 = a[ia + 20*sa], a52 = a[ia + 21*sa], a53 = a[ia + 22*sa], a54 = a[ia + 23*sa], a55 = a[ia + 24*sa];
+
+        double scale = Math.abs(a11);
+        scale = Math.max(scale, Math.abs(a12));
+        scale = Math.max(scale, Math.abs(a13));
+        scale = Math.max(scale, Math.abs(a14));
+        scale = Math.max(scale, Math.abs(a15));
+        scale = Math.max(scale, Math.abs(a21));
+        scale = Math.max(scale, Math.abs(a22));
+        scale = Math.max(scale, Math.abs(a23));
+        scale = Math.max(scale, Math.abs(a24));
+        scale = Math.max(scale, Math.abs(a25));
+        scale = Math.max(scale, Math.abs(a31));
+        scale = Math.max(scale, Math.abs(a32));
+        scale = Math.max(scale, Math.abs(a33));
+        scale = Math.max(scale, Math.abs(a34));
+        scale = Math.max(scale, Math.abs(a35));
+        scale = Math.max(scale, Math.abs(a41));
+        scale = Math.max(scale, Math.abs(a42));
+        scale = Math.max(scale, Math.abs(a43));
+        scale = Math.max(scale, Math.abs(a44));
+        scale = Math.max(scale, Math.abs(a45));
+        scale = Math.max(scale, Math.abs(a51));
+        scale = Math.max(scale, Math.abs(a52));
+        scale = Math.max(scale, Math.abs(a53));
+        scale = Math.max(scale, Math.abs(a54));
+        scale = Math.max(scale, Math.abs(a55));
+        scale = 1.0/scale;
+
+        a11 *= scale; a12 *= scale; a13 *= scale; a14 *= scale; a15 *= scale;
+        a21 *= scale; a22 *= scale; a23 *= scale; a24 *= scale; a25 *= scale;
+        a31 *= scale; a32 *= scale; a33 *= scale; a34 *= scale; a35 *= scale;
+        a41 *= scale; a42 *= scale; a43 *= scale; a44 *= scale; a45 *= scale;
+        a51 *= scale; a52 *= scale; a53 *= scale; a54 *= scale; a55 *= scale;
+
+        double m11 =  + a22*( + a33*(a44*a55 - a45*a54) - a34*(a43*a55 - a45*a53) + a35*(a43*a54 - a44*a53)) - a23*( + a32*(a44*a55 - a45*a54) - a34*(a42*a55 - a45*a52) + a35*(a42*a54 - a44*a52)) + a24*( + a32*(a43*a55 - a45*a53) - a33*(a42*a55 - a45*a52) + a35*(a42*a53 - a43*a52)) - a25*( + a32*(a43*a54 - a44*a53) - a33*(a42*a54 - a44*a52) + a34*(a42*a53 - a43*a52));
+        double m12 = -(  + a21*( + a33*(a44*a55 - a45*a54) - a34*(a43*a55 - a45*a53) + a35*(a43*a54 - a44*a53)) - a23*( + a31*(a44*a55 - a45*a54) - a34*(a41*a55 - a45*a51) + a35*(a41*a54 - a44*a51)) + a24*( + a31*(a43*a55 - a45*a53) - a33*(a41*a55 - a45*a51) + a35*(a41*a53 - a43*a51)) - a25*( + a31*(a43*a54 - a44*a53) - a33*(a41*a54 - a44*a51) + a34*(a41*a53 - a43*a51)));
+        double m13 =  + a21*( + a32*(a44*a55 - a45*a54) - a34*(a42*a55 - a45*a52) + a35*(a42*a54 - a44*a52)) - a22*( + a31*(a44*a55 - a45*a54) - a34*(a41*a55 - a45*a51) + a35*(a41*a54 - a44*a51)) + a24*( + a31*(a42*a55 - a45*a52) - a32*(a41*a55 - a45*a51) + a35*(a41*a52 - a42*a51)) - a25*( + a31*(a42*a54 - a44*a52) - a32*(a41*a54 - a44*a51) + a34*(a41*a52 - a42*a51));
+        double m14 = -(  + a21*( + a32*(a43*a55 - a45*a53) - a33*(a42*a55 - a45*a52) + a35*(a42*a53 - a43*a52)) - a22*( + a31*(a43*a55 - a45*a53) - a33*(a41*a55 - a45*a51) + a35*(a41*a53 - a43*a51)) + a23*( + a31*(a42*a55 - a45*a52) - a32*(a41*a55 - a45*a51) + a35*(a41*a52 - a42*a51)) - a25*( + a31*(a42*a53 - a43*a52) - a32*(a41*a53 - a43*a51) + a33*(a41*a52 - a42*a51)));
+        double m15 =  + a21*( + a32*(a43*a54 - a44*a53) - a33*(a42*a54 - a44*a52) + a34*(a42*a53 - a43*a52)) - a22*( + a31*(a43*a54 - a44*a53) - a33*(a41*a54 - a44*a51) + a34*(a41*a53 - a43*a51)) + a23*( + a31*(a42*a54 - a44*a52) - a32*(a41*a54 - a44*a51) + a34*(a41*a52 - a42*a51)) - a24*( + a31*(a42*a53 - a43*a52) - a32*(a41*a53 - a43*a51) + a33*(a41*a52 - a42*a51));
+        double m21 = -(  + a12*( + a33*(a44*a55 - a45*a54) - a34*(a43*a55 - a45*a53) + a35*(a43*a54 - a44*a53)) - a13*( + a32*(a44*a55 - a45*a54) - a34*(a42*a55 - a45*a52) + a35*(a42*a54 - a44*a52)) + a14*( + a32*(a43*a55 - a45*a53) - a33*(a42*a55 - a45*a52) + a35*(a42*a53 - a43*a52)) - a15*( + a32*(a43*a54 - a44*a53) - a33*(a42*a54 - a44*a52) + a34*(a42*a53 - a43*a52)));
+        double m22 =  + a11*( + a33*(a44*a55 - a45*a54) - a34*(a43*a55 - a45*a53) + a35*(a43*a54 - a44*a53)) - a13*( + a31*(a44*a55 - a45*a54) - a34*(a41*a55 - a45*a51) + a35*(a41*a54 - a44*a51)) + a14*( + a31*(a43*a55 - a45*a53) - a33*(a41*a55 - a45*a51) + a35*(a41*a53 - a43*a51)) - a15*( + a31*(a43*a54 - a44*a53) - a33*(a41*a54 - a44*a51) + a34*(a41*a53 - a43*a51));
+        double m23 = -(  + a11*( + a32*(a44*a55 - a45*a54) - a34*(a42*a55 - a45*a52) + a35*(a42*a54 - a44*a52)) - a12*( + a31*(a44*a55 - a45*a54) - a34*(a41*a55 - a45*a51) + a35*(a41*a54 - a44*a51)) + a14*( + a31*(a42*a55 - a45*a52) - a32*(a41*a55 - a45*a51) + a35*(a41*a52 - a42*a51)) - a15*( + a31*(a42*a54 - a44*a52) - a32*(a41*a54 - a44*a51) + a34*(a41*a52 - a42*a51)));
+        double m24 =  + a11*( + a32*(a43*a55 - a45*a53) - a33*(a42*a55 - a45*a52) + a35*(a42*a53 - a43*a52)) - a12*( + a31*(a43*a55 - a45*a53) - a33*(a41*a55 - a45*a51) + a35*(a41*a53 - a43*a51)) + a13*( + a31*(a42*a55 - a45*a52) - a32*(a41*a55 - a45*a51) + a35*(a41*a52 - a42*a51)) - a15*( + a31*(a42*a53 - a43*a52) - a32*(a41*a53 - a43*a51) + a33*(a41*a52 - a42*a51));
+        double m25 = -(  + a11*( + a32*(a43*a54 - a44*a53) - a33*(a42*a54 - a44*a52) + a34*(a42*a53 - a43*a52)) - a12*( + a31*(a43*a54 - a44*a53) - a33*(a41*a54 - a44*a51) + a34*(a41*a53 - a43*a51)) + a13*( + a31*(a42*a54 - a44*a52) - a32*(a41*a54 - a44*a51) + a34*(a41*a52 - a42*a51)) - a14*( + a31*(a42*a53 - a43*a52) - a32*(a41*a53 - a43*a51) + a33*(a41*a52 - a42*a51)));
+        double m31 =  + a12*( + a23*(a44*a55 - a45*a54) - a24*(a43*a55 - a45*a53) + a25*(a43*a54 - a44*a53)) - a13*( + a22*(a44*a55 - a45*a54) - a24*(a42*a55 - a45*a52) + a25*(a42*a54 - a44*a52)) + a14*( + a22*(a43*a55 - a45*a53) - a23*(a42*a55 - a45*a52) + a25*(a42*a53 - a43*a52)) - a15*( + a22*(a43*a54 - a44*a53) - a23*(a42*a54 - a44*a52) + a24*(a42*a53 - a43*a52));
+        double m32 = -(  + a11*( + a23*(a44*a55 - a45*a54) - a24*(a43*a55 - a45*a53) + a25*(a43*a54 - a44*a53)) - a13*( + a21*(a44*a55 - a45*a54) - a24*(a41*a55 - a45*a51) + a25*(a41*a54 - a44*a51)) + a14*( + a21*(a43*a55 - a45*a53) - a23*(a41*a55 - a45*a51) + a25*(a41*a53 - a43*a51)) - a15*( + a21*(a43*a54 - a44*a53) - a23*(a41*a54 - a44*a51) + a24*(a41*a53 - a43*a51)));
+        double m33 =  + a11*( + a22*(a44*a55 - a45*a54) - a24*(a42*a55 - a45*a52) + a25*(a42*a54 - a44*a52)) - a12*( + a21*(a44*a55 - a45*a54) - a24*(a41*a55 - a45*a51) + a25*(a41*a54 - a44*a51)) + a14*( + a21*(a42*a55 - a45*a52) - a22*(a41*a55 - a45*a51) + a25*(a41*a52 - a42*a51)) - a15*( + a21*(a42*a54 - a44*a52) - a22*(a41*a54 - a44*a51) + a24*(a41*a52 - a42*a51));
+        double m34 = -(  + a11*( + a22*(a43*a55 - a45*a53) - a23*(a42*a55 - a45*a52) + a25*(a42*a53 - a43*a52)) - a12*( + a21*(a43*a55 - a45*a53) - a23*(a41*a55 - a45*a51) + a25*(a41*a53 - a43*a51)) + a13*( + a21*(a42*a55 - a45*a52) - a22*(a41*a55 - a45*a51) + a25*(a41*a52 - a42*a51)) - a15*( + a21*(a42*a53 - a43*a52) - a22*(a41*a53 - a43*a51) + a23*(a41*a52 - a42*a51)));
+        double m35 =  + a11*( + a22*(a43*a54 - a44*a53) - a23*(a42*a54 - a44*a52) + a24*(a42*a53 - a43*a52)) - a12*( + a21*(a43*a54 - a44*a53) - a23*(a41*a54 - a44*a51) + a24*(a41*a53 - a43*a51)) + a13*( + a21*(a42*a54 - a44*a52) - a22*(a41*a54 - a44*a51) + a24*(a41*a52 - a42*a51)) - a14*( + a21*(a42*a53 - a43*a52) - a22*(a41*a53 - a43*a51) + a23*(a41*a52 - a42*a51));
+        double m41 = -(  + a12*( + a23*(a34*a55 - a35*a54) - a24*(a33*a55 - a35*a53) + a25*(a33*a54 - a34*a53)) - a13*( + a22*(a34*a55 - a35*a54) - a24*(a32*a55 - a35*a52) + a25*(a32*a54 - a34*a52)) + a14*( + a22*(a33*a55 - a35*a53) - a23*(a32*a55 - a35*a52) + a25*(a32*a53 - a33*a52)) - a15*( + a22*(a33*a54 - a34*a53) - a23*(a32*a54 - a34*a52) + a24*(a32*a53 - a33*a52)));
+        double m42 =  + a11*( + a23*(a34*a55 - a35*a54) - a24*(a33*a55 - a35*a53) + a25*(a33*a54 - a34*a53)) - a13*( + a21*(a34*a55 - a35*a54) - a24*(a31*a55 - a35*a51) + a25*(a31*a54 - a34*a51)) + a14*( + a21*(a33*a55 - a35*a53) - a23*(a31*a55 - a35*a51) + a25*(a31*a53 - a33*a51)) - a15*( + a21*(a33*a54 - a34*a53) - a23*(a31*a54 - a34*a51) + a24*(a31*a53 - a33*a51));
+        double m43 = -(  + a11*( + a22*(a34*a55 - a35*a54) - a24*(a32*a55 - a35*a52) + a25*(a32*a54 - a34*a52)) - a12*( + a21*(a34*a55 - a35*a54) - a24*(a31*a55 - a35*a51) + a25*(a31*a54 - a34*a51)) + a14*( + a21*(a32*a55 - a35*a52) - a22*(a31*a55 - a35*a51) + a25*(a31*a52 - a32*a51)) - a15*( + a21*(a32*a54 - a34*a52) - a22*(a31*a54 - a34*a51) + a24*(a31*a52 - a32*a51)));
+        double m44 =  + a11*( + a22*(a33*a55 - a35*a53) - a23*(a32*a55 - a35*a52) + a25*(a32*a53 - a33*a52)) - a12*( + a21*(a33*a55 - a35*a53) - a23*(a31*a55 - a35*a51) + a25*(a31*a53 - a33*a51)) + a13*( + a21*(a32*a55 - a35*a52) - a22*(a31*a55 - a35*a51) + a25*(a31*a52 - a32*a51)) - a15*( + a21*(a32*a53 - a33*a52) - a22*(a31*a53 - a33*a51) + a23*(a31*a52 - a32*a51));
+        double m45 = -(  + a11*( + a22*(a33*a54 - a34*a53) - a23*(a32*a54 - a34*a52) + a24*(a32*a53 - a33*a52)) - a12*( + a21*(a33*a54 - a34*a53) - a23*(a31*a54 - a34*a51) + a24*(a31*a53 - a33*a51)) + a13*( + a21*(a32*a54 - a34*a52) - a22*(a31*a54 - a34*a51) + a24*(a31*a52 - a32*a51)) - a14*( + a21*(a32*a53 - a33*a52) - a22*(a31*a53 - a33*a51) + a23*(a31*a52 - a32*a51)));
+        double m51 =  + a12*( + a23*(a34*a45 - a35*a44) - a24*(a33*a45 - a35*a43) + a25*(a33*a44 - a34*a43)) - a13*( + a22*(a34*a45 - a35*a44) - a24*(a32*a45 - a35*a42) + a25*(a32*a44 - a34*a42)) + a14*( + a22*(a33*a45 - a35*a43) - a23*(a32*a45 - a35*a42) + a25*(a32*a43 - a33*a42)) - a15*( + a22*(a33*a44 - a34*a43) - a23*(a32*a44 - a34*a42) + a24*(a32*a43 - a33*a42));
+        double m52 = -(  + a11*( + a23*(a34*a45 - a35*a44) - a24*(a33*a45 - a35*a43) + a25*(a33*a44 - a34*a43)) - a13*( + a21*(a34*a45 - a35*a44) - a24*(a31*a45 - a35*a41) + a25*(a31*a44 - a34*a41)) + a14*( + a21*(a33*a45 - a35*a43) - a23*(a31*a45 - a35*a41) + a25*(a31*a43 - a33*a41)) - a15*( + a21*(a33*a44 - a34*a43) - a23*(a31*a44 - a34*a41) + a24*(a31*a43 - a33*a41)));
+        double m53 =  + a11*( + a22*(a34*a45 - a35*a44) - a24*(a32*a45 - a35*a42) + a25*(a32*a44 - a34*a42)) - a12*( + a21*(a34*a45 - a35*a44) - a24*(a31*a45 - a35*a41) + a25*(a31*a44 - a34*a41)) + a14*( + a21*(a32*a45 - a35*a42) - a22*(a31*a45 - a35*a41) + a25*(a31*a42 - a32*a41)) - a15*( + a21*(a32*a44 - a34*a42) - a22*(a31*a44 - a34*a41) + a24*(a31*a42 - a32*a41));
+        double m54 = -(  + a11*( + a22*(a33*a45 - a35*a43) - a23*(a32*a45 - a35*a42) + a25*(a32*a43 - a33*a42)) - a12*( + a21*(a33*a45 - a35*a43) - a23*(a31*a45 - a35*a41) + a25*(a31*a43 - a33*a41)) + a13*( + a21*(a32*a45 - a35*a42) - a22*(a31*a45 - a35*a41) + a25*(a31*a42 - a32*a41)) - a15*( + a21*(a32*a43 - a33*a42) - a22*(a31*a43 - a33*a41) + a23*(a31*a42 - a32*a41)));
+        double m55 =  + a11*( + a22*(a33*a44 - a34*a43) - a23*(a32*a44 - a34*a42) + a24*(a32*a43 - a33*a42)) - a12*( + a21*(a33*a44 - a34*a43) - a23*(a31*a44 - a34*a41) + a24*(a31*a43 - a33*a41)) + a13*( + a21*(a32*a44 - a34*a42) - a22*(a31*a44 - a34*a41) + a24*(a31*a42 - a32*a41)) - a14*( + a21*(a32*a43 - a33*a42) - a22*(a31*a43 - a33*a41) + a23*(a31*a42 - a32*a41));
+
+        double det = (a11*m11 + a12*m12 + a13*m13 + a14*m14 + a15*m15)/scale;
+
+        x[ix] = (m11*b11 + m21*b21 + m31*b31 + m41*b41 + m51*b51)/det;
+        x[ix + sx] = (m12*b11 + m22*b21 + m32*b31 + m42*b41 + m52*b51)/det;
+        x[ix + 2*sx] = (m13*b11 + m23*b21 + m33*b31 + m43*b41 + m53*b51)/det;
+        x[ix + 3*sx] = (m14*b11 + m24*b21 + m34*b31 + m44*b41 + m54*b51)/det;
+        x[ix + 4*sx] = (m15*b11 + m25*b21 + m35*b31 + m45*b41 + m55*b51)/det;
+    }
+
+    private static double det( double[] mat, int index, int stride ) {
+        double  a11 = mat[index + 6*stride];
+        double  a12 = mat[index + 7*stride];
+        double  a13 = mat[index + 8*stride];
+        double  a14 = mat[index + 9*stride];
+        double  a21 = mat[index + 11*stride];
+        double  a22 = mat[index + 12*stride];
+        double  a23 = mat[index + 13*stride];
+        double  a24 = mat[index + 14*stride];
+        double  a31 = mat[index + 16*stride];
+        double  a32 = mat[index + 17*stride];
+        double  a33 = mat[index + 18*stride];
+        double  a34 = mat[index + 19*stride];
+        double  a41 = mat[index + 21*stride];
+        double  a42 = mat[index + 22*stride];
+        double  a43 = mat[index + 23*stride];
+        double  a44 = mat[index + 24*stride];
+
+        double ret = 0;
+        ret += mat[index] * ( + a11*( + a22*(a33*a44 - a34*a43) - a23*(a32*a44 - a34*a42) + a24*(a32*a43 - a33*a42)) - a12*( + a21*(a33*a44 - a34*a43) - a23*(a31*a44 - a34*a41) + a24*(a31*a43 - a33*a41)) + a13*( + a21*(a32*a44 - a34*a42) - a22*(a31*a44 - a34*a41) + a24*(a31*a42 - a32*a41)) - a14*( + a21*(a32*a43 - a33*a42) - a22*(a31*a43 - a33*a41) + a23*(a31*a42 - a32*a41)));
+        a11 = mat[index + 5*stride];
+        a21 = mat[index + 10*stride];
+        a31 = mat[index + 15*stride];
+        a41 = mat[index + 20*stride];
+        ret -= mat[index + stride] * ( + a11*( + a22*(a33*a44 - a34*a43) - a23*(a32*a44 - a34*a42) + a24*(a32*a43 - a33*a42)) - a12*( + a21*(a33*a44 - a34*a43) - a23*(a31*a44 - a34*a41) + a24*(a31*a43 - a33*a41)) + a13*( + a21*(a32*a44 - a34*a42) - a22*(a31*a44 - a34*a41) + a24*(a31*a42 - a32*a41)) - a14*( + a21*(a32*a43 - a33*a42) - a22*(a31*a43 - a33*a41) + a23*(a31*a42 - a32*a41)));
+        a12 = mat[index + 6*stride];
+        a22 = mat[index + 11*stride];
+        a32 = mat[index + 16*stride];
+        a42 = mat[index + 21*stride];
+        ret += mat[index + 2*stride] * ( + a11*( + a22*(a33*a44 - a34*a43) - a23*(a32*a44 - a34*a42) + a24*(a32*a43 - a33*a42)) - a12*( + a21*(a33*a44 - a34*a43) - a23*(a31*a44 - a34*a41) + a24*(a31*a43 - a33*a41)) + a13*( + a21*(a32*a44 - a34*a42) - a22*(a31*a44 - a34*a41) + a24*(a31*a42 - a32*a41)) - a14*( + a21*(a32*a43 - a33*a42) - a22*(a31*a43 - a33*a41) + a23*(a31*a42 - a32*a41)));
+        a13 = mat[index + 7*stride];
+        a23 = mat[index + 12*stride];
+        a33 = mat[index + 17*stride];
+        a43 = mat[index + 22*stride];
+        ret -= mat[index + 3*stride] * ( + a11*( + a22*(a33*a44 - a34*a43) - a23*(a32*a44 - a34*a42) + a24*(a32*a43 - a33*a42)) - a12*( + a21*(a33*a44 - a34*a43) - a23*(a31*a44 - a34*a41) + a24*(a31*a43 - a33*a41)) + a13*( + a21*(a32*a44 - a34*a42) - a22*(a31*a44 - a34*a41) + a24*(a31*a42 - a32*a41)) - a14*( + a21*(a32*a43 - a33*a42) - a22*(a31*a43 - a33*a41) + a23*(a31*a42 - a32*a41)));
+        a14 = mat[index + 8*stride];
+        a24 = mat[index + 13*stride];
+        a34 = mat[index + 18*stride];
+        a44 = mat[index + 23*stride];
+        ret += mat[index + 4*stride] * ( + a11*( + a22*(a33*a44 - a34*a43) - a23*(a32*a44 - a34*a42) + a24*(a32*a43 - a33*a42)) - a12*( + a21*(a33*a44 - a34*a43) - a23*(a31*a44 - a34*a41) + a24*(a31*a43 - a33*a41)) + a13*( + a21*(a32*a44 - a34*a42) - a22*(a31*a44 - a34*a41) + a24*(a31*a42 - a32*a41)) - a14*( + a21*(a32*a43 - a33*a42) - a22*(a31*a43 - a33*a41) + a23*(a31*a42 - a32*a41)));
+
+        return ret;
+    }
+
+    private static void cholL( double[] a, int ia, int sa ) {
+        double a11 = a[ia];
+        double a21 = a[ia + 5*sa], a22 = a[ia + 6*sa];
+        double a31 = a[ia + 10*sa], a32 = a[ia + 11*sa], a33 = a[ia + 12*sa];
+        double a41 = a[ia + 15*sa], a42 = a[ia + 16*sa], a43 = a[ia + 17*sa], a44 = a[ia + 18*sa];
+        double a51 = a[ia + 20*sa], a52 = a[ia + 21*sa], a53 = a[ia + 22*sa], a54 = a[ia + 23*sa], a55 = a[ia + 24*sa];
+
+        a11 = Math.sqrt(a11);
+        a21 = (a21)/a11;
+        a22 = Math.sqrt(a22-a21*a21);
+        a31 = (a31)/a11;
+        a32 = (a32-a31*a21)/a22;
+        a33 = Math.sqrt(a33-a31*a31-a32*a32);
+        a41 = (a41)/a11;
+        a42 = (a42-a41*a21)/a22;
+        a43 = (a43-a41*a31-a42*a32)/a33;
+        a44 = Math.sqrt(a44-a41*a41-a42*a42-a43*a43);
+        a51 = (a51)/a11;
+        a52 = (a52-a51*a21)/a22;
+        a53 = (a53-a51*a31-a52*a32)/a33;
+        a54 = (a54-a51*a41-a52*a42-a53*a43)/a44;
+        a55 = Math.sqrt(a55-a51*a51-a52*a52-a53*a53-a54*a54);
+
+        a[ia] = a11;
+        a[ia + sa] = 0;
+        a[ia + 2*sa] = 0;
+        a[ia + 3*sa] = 0;
+        a[ia + 4*sa] = 0;
+        a[ia + 5*sa] = a21;
+        a[ia + 6*sa] = a22;
+        a[ia + 7*sa] = 0;
+        a[ia + 8*sa] = 0;
+        a[ia + 9*sa] = 0;
+        a[ia + 10*sa] = a31;
+        a[ia + 11*sa] = a32;
+        a[ia + 12*sa] = a33;
+        a[ia + 13*sa] = 0;
+        a[ia + 14*sa] = 0;
+        a[ia + 15*sa] = a41;
+        a[ia + 16*sa] = a42;
+        a[ia + 17*sa] = a43;
+        a[ia + 18*sa] = a44;
+        a[ia + 19*sa] = 0;
+        a[ia + 20*sa] = a51;
+        a[ia + 21*sa] = a52;
+        a[ia + 22*sa] = a53;
+        a[ia + 23*sa] = a54;
+        a[ia + 24*sa] = a55;
+    }
+
+}
+
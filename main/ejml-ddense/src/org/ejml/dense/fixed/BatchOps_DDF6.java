@@ -0,0 +1,446 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixBatch;
+import org.jetbrains.annotations.Nullable;
+//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>Operations on a batch of 6 x 6 matrices or 6 element vectors stored in a {@link DMatrixBatch}. The result is the same
+ * as calling the equivalent function in {@link CommonOps_DDF6} on each matrix.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateBatchOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateBatchOps_DDF")
+public class BatchOps_DDF6 {
+    /**
+     * Transposes every matrix in 'input' and stores the results in 'output'.
+     *
+     * @param input (Input) Batch of matrices. Not modified.
+     * @param output (Output) Batch of transposed matrices. Can be the same instance as input. Modified.
+     */
+    public static void transpose( DMatrixBatch input, DMatrixBatch output ) {
+        checkInput(input, 6, 6);
+        output.reshape(6, 6, input.size);
+
+        final double[] a = input.data, b = output.data;
+        final int sa = input.getStride(), sb = output.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, input.size, k -> {
+        for (int k = 0; k < input.size; k++) {
+            transpose(a, input.getOffset(k), sa, b, output.getOffset(k), sb);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a * b <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void mult( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 6, 6);
+        checkInput(b, 6, 6);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(6, 6, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            mult(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void multTransA( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 6, 6);
+        checkInput(b, 6, 6);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(6, 6, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            multTransA(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void multTransB( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 6, 6);
+        checkInput(b, 6, 6);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(6, 6, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            multTransB(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * Performs a lower Cholesky decomposition on every matrix in the batch and stores the results in 'a'.
+     *
+     * @param a (Input) Batch of SPD matrices. (Output) lower cholesky.
+     * @return true if every decomposition was successful or false if any of them failed. Not always reliable.
+     */
+    public static boolean cholL( DMatrixBatch a ) {
+        checkInput(a, 6, 6);
+
+        final double[] da = a.data;
+        final int sa = a.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            cholL(da, a.getOffset(k), sa);
+        }
+        //CONCURRENT_ABOVE });
+
+        return isCountable(a, 35);
+    }
+
+    private static void checkInput( DMatrixBatch m, int numRows, int numCols ) {
+        if (m.numRows != numRows || m.numCols != numCols)
+            throw new MatrixDimensionException("Expected a batch of " + numRows + "x" + numCols +
+                    " matrices. Found " + m.numRows + "x" + m.numCols);
+    }
+
+    /**
+     * Returns false if the specified element of any matrix is NaN or infinite
+     */
+    private static boolean isCountable( DMatrixBatch m, int element ) {
+        final int stride = m.getStride();
+        for (int k = 0; k < m.size; k++) {
+            if (UtilEjml.isUncountable(m.data[m.getOffset(k) + element*stride]))
+                return false;
+        }
+        return true;
+    }
+
+    private static void transpose( double[] a, int ia, int sa, double[] b, int ib, int sb ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa], a16 = a[ia + 5*sa];
+        double a21 = a[ia + 6*sa], a22 = a[ia + 7*sa], a23 = a[ia + 8*sa], a24 = a[ia + 9*sa], a25 = a[ia + 10*sa], a26 = a[ia + 11*sa];
+        double a31 = a[ia + 12*sa], a32 = a[ia + 13*sa], a33 = a[ia + 14*sa], a34 = a[ia + 15*sa], a35 = a[ia + 16*sa], a36 = a[ia + 17*sa];
+        double a41 = a[ia + 18*sa], a42 = a[ia + 19*sa], a43 = a[ia + 20*sa], a44 = a[ia + 21*sa], a45 = a[ia + 22*sa], a46 = a[ia + 23*sa];
+        double a51 = a[ia + 24*sa], a52 = a[ia + 25*sa], a53 = a[ia + 26*sa], a54 = a[ia + 27*sa], a55 = a[ia + 28*sa], a56 = a[ia + 29*sa];
+        double a61 = a[ia + 30*sa], a62 = a[ia + 31*sa], a63 = a[ia + 32*sa], a64 = a[ia + 33*sa], a65 = a[ia + 34*sa], a66 = a[ia + 35*sa];
+        b[ib] = a11;
+        b[ib + sb] = a21;
+        b[ib + 2*sb] = a31;
+        b[ib + 3*sb] = a41;
+        b[ib + 4*sb] = a51;
+        b[ib + 5*sb] = a61;
+        b[ib + 6*sb] = a12;
+        b[ib + 7*sb] = a22;
+        b[ib + 8*sb] = a32;
+        b[ib + 9*sb] = a42;
+        b[ib + 10*sb] = a52;
+        b[ib + 11*sb] = a62;
+        b[ib + 12*sb] = a13;
+        b[ib + 13*sb] = a23;
+        b[ib + 14*sb] = a33;
+        b[ib + 15*sb] = a43;
+        b[ib + 16*sb] = a53;
+        b[ib + 17*sb] = a63;
+        b[ib + 18*sb] = a14;
+        b[ib + 19*sb] = a24;
+        b[ib + 20*sb] = a34;
+        b[ib + 21*sb] = a44;
+        b[ib + 22*sb] = a54;
+        b[ib + 23*sb] = a64;
+        b[ib + 24*sb] = a15;
+        b[ib + 25*sb] = a25;
+        b[ib + 26*sb] = a35;
+        b[ib + 27*sb] = a45;
+        b[ib + 28*sb] = a55;
+        b[ib + 29*sb] = a65;
+        b[ib + 30*sb] = a16;
+        b[ib + 31*sb] = a26;
+        b[ib + 32*sb] = a36;
+        b[ib + 33*sb] = a46;
+        b[ib + 34*sb] = a56;
+        b[ib + 35*sb] = a66;
+    }
+
+    private static void mult( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                              double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa], a16 = a[ia + 5*sa];
+        double a21 = a[ia + 6*sa], a22 = a[ia + 7*sa], a23 = a[ia + 8*sa], a24 = a[ia + 9*sa], a25 = a[ia + 10*sa], a26 = a[ia + 11*sa];
+        double a31 = a[ia + 12*sa], a32 = a[ia + 13*sa], a33 = a[ia + 14*sa], a34 = a[ia + 15*sa], a35 = a[ia + 16*sa], a36 = a[ia + 17*sa];
+        double a41 = a[ia + 18*sa], a42 = a[ia + 19*sa], a43 = a[ia + 20*sa], a44 = a[ia + 21*sa], a45 = a[ia + 22*sa], a46 = a[ia + 23*sa];
+        double a51 = a[ia + 24*sa], a52 = a[ia + 25*sa], a53 = a[ia + 26*sa], a54 = a[ia + 27*sa], a55 = a[ia + 28*sa], a56 = a[ia + 29*sa];
+        double a61 = a[ia + 30*sa], a62 = a[ia + 31*sa], a63 = a[ia + 32*sa], a64 = a[ia + 33*sa], a65 = a[ia + 34*sa], a66 = a[ia + 35*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb], b14 = b[ib + 3*sb], b15 = b[ib + 4*sb], b16 = b[ib + 5*sb];
+        double b21 = b[ib + 6*sb], b22 = b[ib + 7*sb], b23 = b[ib + 8*sb], b24 = b[ib + 9*sb], b25 = b[ib + 10*sb], b26 = b[ib + 11*sb];
+        double b31 = b[ib + 12*sb], b32 = b[ib + 13*sb], b33 = b[ib + 14*sb], b34 = b[ib + 15*sb], b35 = b[ib + 16*sb], b36 = b[ib + 17*sb];
+        double b41 = b[ib + 18*sb], b42 = b[ib + 19*sb], b43 = b[ib + 20*sb], b44 = b[ib + 21*sb], b45 = b[ib + 22*sb], b46 = b[ib + 23*sb];
+        double b51 = b[ib + 24*sb], b52 = b[ib + 25*sb], b53 = b[ib + 26*sb], b54 = b[ib + 27*sb], b55 = b[ib + 28*sb], b56 = b[ib + 29*sb];
+        double b61 = b[ib + 30*sb], b62 = b[ib + 31*sb], b63 = b[ib + 32*sb], b64 = b[ib + 33*sb], b65 = b[ib + 34*sb], b66 = b[ib + 35*sb];
+        c[ic] = a11*b11 + a12*b21 + a13*b31 + a14*b41 + a15*b51 + a16*b61;
+        c[ic + sc] = a11*b12 + a12*b22 + a13*b32 + a14*b42 + a15*b52 + a16*b62;
+        c[ic + 2*sc] = a11*b13 + a12*b23 + a13*b33 + a14*b43 + a15*b53 + a16*b63;
+        c[ic + 3*sc] = a11*b14 + a12*b24 + a13*b34 + a14*b44 + a15*b54 + a16*b64;
+        c[ic + 4*sc] = a11*b15 + a12*b25 + a13*b35 + a14*b45 + a15*b55 + a16*b65;
+        c[ic + 5*sc] = a11*b16 + a12*b26 + a13*b36 + a14*b46 + a15*b56 + a16*b66;
+        c[ic + 6*sc] = a21*b11 + a22*b21 + a23*b31 + a24*b41 + a25*b51 + a26*b61;
+        c[ic + 7*sc] = a21*b12 + a22*b22 + a23*b32 + a24*b42 + a25*b52 + a26*b62;
+        c[ic + 8*sc] = a21*b13 + a22*b23 + a23*b33 + a24*b43 + a25*b53 + a26*b63;
+        c[ic + 9*sc] = a21*b14 + a22*b24 + a23*b34 + a24*b44 + a25*b54 + a26*b64;
+        c[ic + 10*sc] = a21*b15 + a22*b25 + a23*b35 + a24*b45 + a25*b55 + a26*b65;
+        c[ic + 11*sc] = a21*b16 + a22*b26 + a23*b36 + a24*b46 + a25*b56 + a26*b66;
+        c[ic + 12*sc] = a31*b11 + a32*b21 + a33*b31 + a34*b41 + a35*b51 + a36*b61;
+        c[ic + 13*sc] = a31*b12 + a32*b22 + a33*b32 + a34*b42 + a35*b52 + a36*b62;
+        c[ic + 14*sc] = a31*b13 + a32*b23 + a33*b33 + a34*b43 + a35*b53 + a36*b63;
+        c[ic + 15*sc] = a31*b14 + a32*b24 + a33*b34 + a34*b44 + a35*b54 + a36*b64;
+        c[ic + 16*sc] = a31*b15 + a32*b25 + a33*b35 + a34*b45 + a35*b55 + a36*b65;
+        c[ic + 17*sc] = a31*b16 + a32*b26 + a33*b36 + a34*b46 + a35*b56 + a36*b66;
+        c[ic + 18*sc] = a41*b11 + a42*b21 + a43*b31 + a44*b41 + a45*b51 + a46*b61;
+        c[ic + 19*sc] = a41*b12 + a42*b22 + a43*b32 + a44*b42 + a45*b52 + a46*b62;
+        c[ic + 20*sc] = a41*b13 + a42*b23 + a43*b33 + a44*b43 + a45*b53 + a46*b63;
+        c[ic + 21*sc] = a41*b14 + a42*b24 + a43*b34 + a44*b44 + a45*b54 + a46*b64;
+        c[ic + 22*sc] = a41*b15 + a42*b25 + a43*b35 + a44*b45 + a45*b55 + a46*b65;
+        c[ic + 23*sc] = a41*b16 + a42*b26 + a43*b36 + a44*b46 + a45*b56 + a46*b66;
+        c[ic + 24*sc] = a51*b11 + a52*b21 + a53*b31 + a54*b41 + a55*b51 + a56*b61;
+        c[ic + 25*sc] = a51*b12 + a52*b22 + a53*b32 + a54*b42 + a55*b52 + a56*b62;
+        c[ic + 26*sc] = a51*b13 + a52*b23 + a53*b33 + a54*b43 + a55*b53 + a56*b63;
+        c[ic + 27*sc] = a51*b14 + a52*b24 + a53*b34 + a54*b44 + a55*b54 + a56*b64;
+        c[ic + 28*sc] = a51*b15 + a52*b25 + a53*b35 + a54*b45 + a55*b55 + a56*b65;
+        c[ic + 29*sc] = a51*b16 + a52*b26 + a53*b36 + a54*b46 + a55*b56 + a56*b66;
+        c[ic + 30*sc] = a61*b11 + a62*b21 + a63*b31 + a64*b41 + a65*b51 + a66*b61;
+        c[ic + 31*sc] = a61*b12 + a62*b22 + a63*b32 + a64*b42 + a65*b52 + a66*b62;
+        c[ic + 32*sc] = a61*b13 + a62*b23 + a63*b33 + a64*b43 + a65*b53 + a66*b63;
+        c[ic + 33*sc] = a61*b14 + a62*b24 + a63*b34 + a64*b44 + a65*b54 + a66*b64;
+        c[ic + 34*sc] = a61*b15 + a62*b25 + a63*b35 + a64*b45 + a65*b55 + a66*b65;
+        c[ic + 35*sc] = a61*b16 + a62*b26 + a63*b36 + a64*b46 + a65*b56 + a66*b66;
+    }
+
+    private static void multTransA( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                                    double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa], a16 = a[ia + 5*sa];
+        double a21 = a[ia + 6*sa], a22 = a[ia + 7*sa], a23 = a[ia + 8*sa], a24 = a[ia + 9*sa], a25 = a[ia + 10*sa], a26 = a[ia + 11*sa];
+        double a31 = a[ia + 12*sa], a32 = a[ia + 13*sa], a33 = a[ia + 14*sa], a34 = a[ia + 15*sa], a35 = a[ia + 16*sa], a36 = a[ia + 17*sa];
+        double a41 = a[ia + 18*sa], a42 = a[ia + 19*sa], a43 = a[ia + 20*sa], a44 = a[ia + 21*sa], a45 = a[ia + 22*sa], a46 = a[ia + 23*sa];
+        double a51 = a[ia + 24*sa], a52 = a[ia + 25*sa], a53 = a[ia + 26*sa], a54 = a[ia + 27*sa], a55 = a[ia + 28*sa], a56 = a[ia + 29*sa];
+        double a61 = a[ia + 30*sa], a62 = a[ia + 31*sa], a63 = a[ia + 32*sa], a64 = a[ia + 33*sa], a65 = a[ia + 34*sa], a66 = a[ia + 35*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb], b14 = b[ib + 3*sb], b15 = b[ib + 4*sb], b16 = b[ib + 5*sb];
+        double b21 = b[ib + 6*sb], b22 = b[ib + 7*sb], b23 = b[ib + 8*sb], b24 = b[ib + 9*sb], b25 = b[ib + 10*sb], b26 = b[ib + 11*sb];
+        double b31 = b[ib + 12*sb], b32 = b[ib + 13*sb], b33 = b[ib + 14*sb], b34 = b[ib + 15*sb], b35 = b[ib + 16*sb], b36 = b[ib + 17*sb];
+        double b41 = b[ib + 18*sb], b42 = b[ib + 19*sb], b43 = b[ib + 20*sb], b44 = b[ib + 21*sb], b45 = b[ib + 22*sb], b46 = b[ib + 23*sb];
+        double b51 = b[ib + 24*sb], b52 = b[ib + 25*sb], b53 = b[ib + 26*sb], b54 = b[ib + 27*sb], b55 = b[ib + 28*sb], b56 = b[ib + 29*sb];
+        double b61 = b[ib + 30*sb], b62 = b[ib + 31*sb], b63 = b[ib + 32*sb], b64 = b[ib + 33*sb], b65 = b[ib + 34*sb], b66 = b[ib + 35*sb];
+        c[ic] = a11*b11 + a21*b21 + a31*b31 + a41*b41 + a51*b51 + a61*b61;
+        c[ic + sc] = a11*b12 + a21*b22 + a31*b32 + a41*b42 + a51*b52 + a61*b62;
+        c[ic + 2*sc] = a11*b13 + a21*b23 + a31*b33 + a41*b43 + a51*b53 + a61*b63;
+        c[ic + 3*sc] = a11*b14 + a21*b24 + a31*b34 + a41*b44 + a51*b54 + a61*b64;
+        c[ic + 4*sc] = a11*b15 + a21*b25 + a31*b35 + a41*b45 + a51*b55 + a61*b65;
+        c[ic + 5*sc] = a11*b16 + a21*b26 + a31*b36 + a41*b46 + a51*b56 + a61*b66;
+        c[ic + 6*sc] = a12*b11 + a22*b21 + a32*b31 + a42*b41 + a52*b51 + a62*b61;
+        c[ic + 7*sc] = a12*b12 + a22*b22 + a32*b32 + a42*b42 + a52*b52 + a62*b62;
+        c[ic + 8*sc] = a12*b13 + a22*b23 + a32*b33 + a42*b43 + a52*b53 + a62*b63;
+        c[ic + 9*sc] = a12*b14 + a22*b24 + a32*b34 + a42*b44 + a52*b54 + a62*b64;
+        c[ic + 10*sc] = a12*b15 + a22*b25 + a32*b35 + a42*b45 + a52*b55 + a62*b65;
+        c[ic + 11*sc] = a12*b16 + a22*b26 + a32*b36 + a42*b46 + a52*b56 + a62*b66;
+        c[ic + 12*sc] = a13*b11 + a23*b21 + a33*b31 + a43*b41 + a53*b51 + a63*b61;
+        c[ic + 13*sc] = a13*b12 + a23*b22 + a33*b32 + a43*b42 + a53*b52 + a63*b62;
+        c[ic + 14*sc] = a13*b13 + a23*b23 + a33*b33 + a43*b43 + a53*b53 + a63*b63;
+        c[ic + 15*sc] = a13*b14 + a23*b24 + a33*b34 + a43*b44 + a53*b54 + a63*b64;
+        c[ic + 16*sc] = a13*b15 + a23*b25 + a33*b35 + a43*b45 + a53*b55 + a63*b65;
+        c[ic + 17*sc] = a13*b16 + a23*b26 + a33*b36 + a43*b46 + a53*b56 + a63*b66;
+        c[ic + 18*sc] = a14*b11 + a24*b21 + a34*b31 + a44*b41 + a54*b51 + a64*b61;
+        c[ic + 19*sc] = a14*b12 + a24*b22 + a34*b32 + a44*b42 + a54*b52 + a64*b62;
+        c[ic + 20*sc] = a14*b13 + a24*b23 + a34*b33 + a44*b43 + a54*b53 + a64*b63;
+        c[ic + 21*sc] = a14*b14 + a24*b24 + a34*b34 + a44*b44 + a54*b54 + a64*b64;
+        c[ic + 22*sc] = a14*b15 + a24*b25 + a34*b35 + a44*b45 + a54*b55 + a64*b65;
+        c[ic + 23*sc] = a14*b16 + a24*b26 + a34*b36 + a44*b46 + a54*b56 + a64*b66;
+        c[ic + 24*sc] = a15*b11 + a25*b21 + a35*b31 + a45*b41 + a55*b51 + a65*b61;
+        c[ic + 25*sc] = a15*b12 + a25*b22 + a35*b32 + a45*b42 + a55*b52 + a65*b62;
+        c[ic + 26*sc] = a15*b13 + a25*b23 + a35*b33 + a45*b43 + a55*b53 + a65*b63;
+        c[ic + 27*sc] = a15*b14 + a25*b24 + a35*b34 + a45*b44 + a55*b54 + a65*b64;
+        c[ic + 28*sc] = a15*b15 + a25*b25 + a35*b35 + a45*b45 + a55*b55 + a65*b65;
+        c[ic + 29*sc] = a15*b16 + a25*b26 + a35*b36 + a45*b46 + a55*b56 + a65*b66;
+        c[ic + 30*sc] = a16*b11 + a26*b21 + a36*b31 + a46*b41 + a56*b51 + a66*b61;
+        c[ic + 31*sc] = a16*b12 + a26*b22 + a36*b32 + a46*b42 + a56*b52 + a66*b62;
+        c[ic + 32*sc] = a16*b13 + a26*b23 + a36*b33 + a46*b43 + a56*b53 + a66*b63;
+        c[ic + 33*sc] = a16*b14 + a26*b24 + a36*b34 + a46*b44 + a56*b54 + a66*b64;
+        c[ic + 34*sc] = a16*b15 + a26*b25 + a36*b35 + a46*b45 + a56*b55 + a66*b65;
+        c[ic + 35*sc] = a16*b16 + a26*b26 + a36*b36 + a46*b46 + a56*b56 + a66*b66;
+    }
+
+    private static void multTransB( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                                    double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa], a16 = a[ia + 5*sa];
+        double a21 = a[ia + 6*sa], a22 = a[ia + 7*sa], a23 = a[ia + 8*sa], a24 = a[ia + 9*sa], a25 = a[ia + 10*sa], a26 = a[ia + 11*sa];
+        double a31 = a[ia + 12*sa], a32 = a[ia + 13*sa], a33 = a[ia + 14*sa], a34 = a[ia + 15*sa], a35 = a[ia + 16*sa], a36 = a[ia + 17*sa];
+        double a41 = a[ia + 18*sa], a42 = a[ia + 19*sa], a43 = a[ia + 20*sa], a44 = a[ia + 21*sa], a45 = a[ia + 22*sa], a46 = a[ia + 23*sa];
+        double a51 = a[ia + 24*sa], a52 = a[ia + 25*sa], a53 = a[ia + 26*sa], a54 = a[ia + 27*sa], a55 = a[ia + 28*sa], a56 = a[ia + 29*sa];
+        double a61 = a[ia + 30*sa], a62 = a[ia + 31*sa], a63 = a[ia + 32*sa], a64 = a[ia + 33*sa], a65 = a[ia + 34*sa], a66 = a[ia + 35*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb], b14 = b[ib + 3*sb], b15 = b[ib + 4*sb], b16 = b[ib + 5*sb];
+        double b21 = b[ib + 6*sb], b22 = b[ib + 7*sb], b23 = b[ib + 8*sb], b24 = b[ib + 9*sb], b25 = b[ib + 10*sb], b26 = b[ib + 11*sb];
+        double b31 = b[ib + 12*sb], b32 = b[ib + 13*sb], b33 = b[ib + 14*sb], b34 = b[ib + 15*sb], b35 = b[ib + 16*sb], b36 = b[ib + 17*sb];
+        double b41 = b[ib + 18*sb], b42 = b[ib + 19*sb], b43 = b[ib + 20*sb], b44 = b[ib + 21*sb], b45 = b[ib + 22*sb], b46 = b[ib + 23*sb];
+        double b51 = b[ib + 24*sb], b52 = b[ib + 25*sb], b53 = b[ib + 26*sb], b54 = b[ib + 27*sb], b55 = b[ib + 28*sb], b56 = b[ib + 29*sb];
+        double b61 = b[ib + 30*sb], b62 = b[ib + 31*sb], b63 = b[ib + 32*sb], b64 = b[ib + 33*sb], b65 = b[ib + 34*sb], b66 = b[ib + 35*sb];
+        c[ic] = a11*b11 + a12*b12 + a13*b13 + a14*b14 + a15*b15 + a16*b16;
+        c[ic + sc] = a11*b21 + a12*b22 + a13*b23 + a14*b24 + a15*b25 + a16*b26;
+        c[ic + 2*sc] = a11*b31 + a12*b32 + a13*b33 + a14*b34 + a15*b35 + a16*b36;
+        c[ic + 3*sc] = a11*b41 + a12*b42 + a13*b43 + a14*b44 + a15*b45 + a16*b46;
+        c[ic + 4*sc] = a11*b51 + a12*b52 + a13*b53 + a14*b54 + a15*b55 + a16*b56;
+        c[ic + 5*sc] = a11*b61 + a12*b62 + a13*b63 + a14*b64 + a15*b65 + a16*b66;
+        c[ic + 6*sc] = a21*b11 + a22*b12 + a23*b13 + a24*b14 + a25*b15 + a26*b16;
+        c[ic + 7*sc] = a21*b21 + a22*b22 + a23*b23 + a24*b24 + a25*b25 + a26*b26;
+        c[ic + 8*sc] = a21*b31 + a22*b32 + a23*b33 + a24*b34 + a25*b35 + a26*b36;
+        c[ic + 9*sc] = a21*b41 + a22*b42 + a23*b43 + a24*b44 + a25*b45 + a26*b46;
+        c[ic + 10*sc] = a21*b51 + a22*b52 + a23*b53 + a24*b54 + a25*b55 + a26*b56;
+        c[ic + 11*sc] = a21*b61 + a22*b62 + a23*b63 + a24*b64 + a25*b65 + a26*b66;
+        c[ic + 12*sc] = a31*b11 + a32*b12 + a33*b13 + a34*b14 + a35*b15 + a36*b16;
+        c[ic + 13*sc] = a31*b21 + a32*b22 + a33*b23 + a34*b24 + a35*b25 + a36*b26;
+        c[ic + 14*sc] = a31*b31 + a32*b32 + a33*b33 + a34*b34 + a35*b35 + a36*b36;
+        c[ic + 15*sc] = a31*b41 + a32*b42 + a33*b43 + a34*b44 + a35*b45 + a36*b46;
+        c[ic + 16*sc] = a31*b51 + a32*b52 + a33*b53 + a34*b54 + a35*b55 + a36*b56;
+        c[ic + 17*sc] = a31*b61 + a32*b62 + a33*b63 + a34*b64 + a35*b65 + a36*b66;
+        c[ic + 18*sc] = a41*b11 + a42*b12 + a43*b13 + a44*b14 + a45*b15 + a46*b16;
+        c[ic + 19*sc] = a41*b21 + a42*b22 + a43*b23 + a44*b24 + a45*b25 + a46*b26;
+        c[ic + 20*sc] = a41*b31 + a42*b32 + a43*b33 + a44*b34 + a45*b35 + a46*b36;
+        c[ic + 21*sc] = a41*b41 + a42*b42 + a43*b43 + a44*b44 + a45*b45 + a46*b46;
+        c[ic + 22*sc] = a41*b51 + a42*b52 + a43*b53 + a44*b54 + a45*b55 + a46*b56;
+        c[ic + 23*sc] = a41*b61 + a42*b62 + a43*b63 + a44*b64 + a45*b65 + a46*b66;
+        c[ic + 24*sc] = a51*b11 + a52*b12 + a53*b13 + a54*b14 + a55*b15 + a56*b16;
+        c[ic + 25*sc] = a51*b21 + a52*b22 + a53*b23 + a54*b24 + a55*b25 + a56*b26;
+        c[ic + 26*sc] = a51*b31 + a52*b32 + a53*b33 + a54*b34 + a55*b35 + a56*b36;
+        c[ic + 27*sc] = a51*b41 + a52*b42 + a53*b43 + a54*b44 + a55*b45 + a56*b46;
+        c[ic + 28*sc] = a51*b51 + a52*b52 + a53*b53 + a54*b54 + a55*b55 + a56*b56;
+        c[ic + 29*sc] = a51*b61 + a52*b62 + a53*b63 + a54*b64 + a55*b65 + a56*b66;
+        c[ic + 30*sc] = a61*b11 + a62*b12 + a63*b13 + a64*b14 + a65*b15 + a66*b16;
+        c[ic + 31*sc] = a61*b21 + a62*b22 + a63*b23 + a64*b24 + a65*b25 + a66*b26;
+        c[ic + 32*sc] = a61*b31 + a62*b32 + a63*b33 + a64*b34 + a65*b35 + a66*b36;
+        c[ic + 33*sc] = a61*b41 + a62*b42 + a63*b43 + a64*b44 + a65*b45 + a66*b46;
+        c[ic + 34*sc] = a61*b51 + a62*b52 + a63*b53 + a64*b54 + a65*b55 + a66*b56;
+        c[ic + 35*sc] = a61*b61 + a62*b62 + a63*b63 + a64*b64 + a65*b65 + a66*b66;
+    }
+
+    private static void cholL( double[] a, int ia, int sa ) {
+        double a11 = a[ia];
+        double a21 = a[ia + 6*sa], a22 = a[ia + 7*sa];
+        double a31 = a[ia + 12*sa], a32 = a[ia + 13*sa], a33 = a[ia + 14*sa];
+        double a41 = a[ia + 18*sa], a42 = a[ia + 19*sa], a43 = a[ia + 20*sa], a44 = a[ia + 21*sa];
+        double a51 = a[ia + 24*sa], a52 = a[ia + 25*sa], a53 = a[ia + 26*sa], a54 = a[ia + 27*sa], a55 = a[ia + 28*sa];
+        double a61 = a[ia + 30*sa], a62 = a[ia + 31*sa], a63 = a[ia + 32*sa], a64 = a[ia + 33*sa], a65 = a[ia + 34*sa], a66 = a[ia + 35*sa];
+
+        a11 = Math.sqrt(a11);
+        a21 = (a21)/a11;
+        a22 = Math.sqrt(a22-a21*a21);
+        a31 = (a31)/a11;
+        a32 = (a32-a31*a21)/a22;
+        a33 = Math.sqrt(a33-a31*a31-a32*a32);
+        a41 = (a41)/a11;
+        a42 = (a42-a41*a21)/a22;
+        a43 = (a43-a41*a31-a42*a32)/a33;
+        a44 = Math.sqrt(a44-a41*a41-a42*a42-a43*a43);
+        a51 = (a51)/a11;
+        a52 = (a52-a51*a21)/a22;
+        a53 = (a53-a51*a31-a52*a32)/a33;
+        a54 = (a54-a51*a41-a52*a42-a53*a43)/a44;
+        a55 = Math.sqrt(a55-a51*a51-a52*a52-a53*a53-a54*a54);
+        a61 = (a61)/a11;
+        a62 = (a62-a61*a21)/a22;
+        a63 = (a63-a61*a31-a62*a32)/a33;
+        a64 = (a64-a61*a41-a62*a42-a63*a43)/a44;
+        a65 = (a65-a61*a51-a62*a52-a63*a53-a64*a54)/a55;
+        a66 = Math.sqrt(a66-a61*a61-a62*a62-a63*a63-a64*a64-a65*a65);
+
+        a[ia] = a11;
+        a[ia + sa] = 0;
+        a[ia + 2*sa] = 0;
+        a[ia + 3*sa] = 0;
+        a[ia + 4*sa] = 0;
+        a[ia + 5*sa] = 0;
+        a[ia + 6*sa] = a21;
+        a[ia + 7*sa] = a22;
+        a[ia + 8*sa] = 0;
+        a[ia + 9*sa] = 0;
+        a[ia + 10*sa] = 0;
+        a[ia + 11*sa] = 0;
+        a[ia + 12*sa] = a31;
+        a[ia + 13*sa] = a32;
+        a[ia + 14*sa] = a33;
+        a[ia + 15*sa] = 0;
+        a[ia + 16*sa] = 0;
+        a[ia + 17*sa] = 0;
+        a[ia + 18*sa] = a41;
+        a[ia + 19*sa] = a42;
+        a[ia + 20*sa] = a43;
+        a[ia + 21*sa] = a44;
+        a[ia + 22*sa] = 0;
+        a[ia + 23*sa] = 0;
+        a[ia + 24*sa] = a51;
+        a[ia + 25*sa] = a52;
+        a[ia + 26*sa] = a53;
+        a[ia + 27*sa] = a54;
+        a[ia + 28*sa] = a55;
+        a[ia + 29*sa] = 0;
+        a[ia + 30*sa] = a61;
+        a[ia + 31*sa] = a62;
+        a[ia + 32*sa] = a63;
+        a[ia + 33*sa] = a64;
+        a[ia + 34*sa] = a65;
+        a[ia + 35*sa] = a66;
+    }
+
+}
+
@@ -0,0 +1,526 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixBatch;
+import org.jetbrains.annotations.Nullable;
+//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>Operations on a batch of 7 x 7 matrices or 7 element vectors stored in a {@link DMatrixBatch}. The result is the same
+ * as calling the equivalent function in {@link CommonOps_DDF7} on each matrix.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateBatchOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateBatchOps_DDF")
+public class BatchOps_DDF7 {
+    /**
+     * Transposes every matrix in 'input' and stores the results in 'output'.
+     *
+     * @param input (Input) Batch of matrices. Not modified.
+     * @param output (Output) Batch of transposed matrices. Can be the same instance as input. Modified.
+     */
+    public static void transpose( DMatrixBatch input, DMatrixBatch output ) {
+        checkInput(input, 7, 7);
+        output.reshape(7, 7, input.size);
+
+        final double[] a = input.data, b = output.data;
+        final int sa = input.getStride(), sb = output.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, input.size, k -> {
+        for (int k = 0; k < input.size; k++) {
+            transpose(a, input.getOffset(k), sa, b, output.getOffset(k), sb);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a * b <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void mult( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 7, 7);
+        checkInput(b, 7, 7);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(7, 7, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            mult(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void multTransA( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 7, 7);
+        checkInput(b, 7, 7);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(7, 7, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            multTransA(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void multTransB( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 7, 7);
+        checkInput(b, 7, 7);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(7, 7, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            multTransB(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * Performs a lower Cholesky decomposition on every matrix in the batch and stores the results in 'a'.
+     *
+     * @param a (Input) Batch of SPD matrices. (Output) lower cholesky.
+     * @return true if every decomposition was successful or false if any of them failed. Not always reliable.
+     */
+    public static boolean cholL( DMatrixBatch a ) {
+        checkInput(a, 7, 7);
+
+        final double[] da = a.data;
+        final int sa = a.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            cholL(da, a.getOffset(k), sa);
+        }
+        //CONCURRENT_ABOVE });
+
+        return isCountable(a, 48);
+    }
+
+    private static void checkInput( DMatrixBatch m, int numRows, int numCols ) {
+        if (m.numRows != numRows || m.numCols != numCols)
+            throw new MatrixDimensionException("Expected a batch of " + numRows + "x" + numCols +
+                    " matrices. Found " + m.numRows + "x" + m.numCols);
+    }
+
+    /**
+     * Returns false if the specified element of any matrix is NaN or infinite
+     */
+    private static boolean isCountable( DMatrixBatch m, int element ) {
+        final int stride = m.getStride();
+        for (int k = 0; k < m.size; k++) {
+            if (UtilEjml.isUncountable(m.data[m.getOffset(k) + element*stride]))
+                return false;
+        }
+        return true;
+    }
+
+    private static void transpose( double[] a, int ia, int sa, double[] b, int ib, int sb ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa], a16 = a[ia + 5*sa], a17 = a[ia + 6*sa];
+        double a21 = a[ia + 7*sa], a22 = a[ia + 8*sa], a23 = a[ia + 9*sa], a24 = a[ia + 10*sa], a25 = a[ia + 11*sa], a26 = a[ia + 12*sa], a27 = a[ia + 13*sa];
+        double a31 = a[ia + 14*sa], a32 = a[ia + 15*sa], a33 = a[ia + 16*sa], a34 = a[ia + 17*sa], a35 = a[ia + 18*sa], a36 = a[ia + 19*sa], a37 = a[ia + 20*sa];
+        double a41 = a[ia + 21*sa], a42 = a[ia + 22*sa], a43 = a[ia + 23*sa], a44 = a[ia + 24*sa], a45 = a[ia + 25*sa], a46 = a[ia + 26*sa], a47 = a[ia + 27*sa];
+        double a51 = a[ia + 28*sa], a52 = a[ia + 29*sa], a53 = a[ia + 30*sa], a54 = a[ia + 31*sa], a55 = a[ia + 32*sa], a56 = a[ia + 33*sa], a57 = a[ia + 34*sa];
+        double a61 = a[ia + 35*sa], a62 = a[ia + 36*sa], a63 = a[ia + 37*sa], a64 = a[ia + 38*sa], a65 = a[ia + 39*sa], a66 = a[ia + 40*sa], a67 = a[ia + 41*sa];
+        double a71 = a[ia + 42*sa], a72 = a[ia + 43*sa], a73 = a[ia + 44*sa], a74 = a[ia + 45*sa], a75 = a[ia + 46*sa], a76 = a[ia + 47*sa], a77 = a[ia + 48*sa];
+        b[ib] = a11;
+        b[ib + sb] = a21;
+        b[ib + 2*sb] = a31;
+        b[ib + 3*sb] = a41;
+        b[ib + 4*sb] = a51;
+        b[ib + 5*sb] = a61;
+        b[ib + 6*sb] = a71;
+        b[ib + 7*sb] = a12;
+        b[ib + 8*sb] = a22;
+        b[ib + 9*sb] = a32;
+        b[ib + 10*sb] = a42;
+        b[ib + 11*sb] = a52;
+        b[ib + 12*sb] = a62;
+        b[ib + 13*sb] = a72;
+        b[ib + 14*sb] = a13;
+        b[ib + 15*sb] = a23;
+        b[ib + 16*sb] = a33;
+        b[ib + 17*sb] = a43;
+        b[ib + 18*sb] = a53;
+        b[ib + 19*sb] = a63;
+        b[ib + 20*sb] = a73;
+        b[ib + 21*sb] = a14;
+        b[ib + 22*sb] = a24;
+        b[ib + 23*sb] = a34;
+        b[ib + 24*sb] = a44;
+        b[ib + 25*sb] = a54;
+        b[ib + 26*sb] = a64;
+        b[ib + 27*sb] = a74;
+        b[ib + 28*sb] = a15;
+        b[ib + 29*sb] = a25;
+        b[ib + 30*sb] = a35;
+        b[ib + 31*sb] = a45;
+        b[ib + 32*sb] = a55;
+        b[ib + 33*sb] = a65;
+        b[ib + 34*sb] = a75;
+        b[ib + 35*sb] = a16;
+        b[ib + 36*sb] = a26;
+        b[ib + 37*sb] = a36;
+        b[ib + 38*sb] = a46;
+        b[ib + 39*sb] = a56;
+        b[ib + 40*sb] = a66;
+        b[ib + 41*sb] = a76;
+        b[ib + 42*sb] = a17;
+        b[ib + 43*sb] = a27;
+        b[ib + 44*sb] = a37;
+        b[ib + 45*sb] = a47;
+        b[ib + 46*sb] = a57;
+        b[ib + 47*sb] = a67;
+        b[ib + 48*sb] = a77;
+    }
+
+    private static void mult( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                              double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa], a16 = a[ia + 5*sa], a17 = a[ia + 6*sa];
+        double a21 = a[ia + 7*sa], a22 = a[ia + 8*sa], a23 = a[ia + 9*sa], a24 = a[ia + 10*sa], a25 = a[ia + 11*sa], a26 = a[ia + 12*sa], a27 = a[ia + 13*sa];
+        double a31 = a[ia + 14*sa], a32 = a[ia + 15*sa], a33 = a[ia + 16*sa], a34 = a[ia + 17*sa], a35 = a[ia + 18*sa], a36 = a[ia + 19*sa], a37 = a[ia + 20*sa];
+        double a41 = a[ia + 21*sa], a42 = a[ia + 22*sa], a43 = a[ia + 23*sa], a44 = a[ia + 24*sa], a45 = a[ia + 25*sa], a46 = a[ia + 26*sa], a47 = a[ia + 27*sa];
+        double a51 = a[ia + 28*sa], a52 = a[ia + 29*sa], a53 = a[ia + 30*sa], a54 = a[ia + 31*sa], a55 = a[ia + 32*sa], a56 = a[ia + 33*sa], a57 = a[ia + 34*sa];
+        double a61 = a[ia + 35*sa], a62 = a[ia + 36*sa], a63 = a[ia + 37*sa], a64 = a[ia + 38*sa], a65 = a[ia + 39*sa], a66 = a[ia + 40*sa], a67 = a[ia + 41*sa];
+        double a71 = a[ia + 42*sa], a72 = a[ia + 43*sa], a73 = a[ia + 44*sa], a74 = a[ia + 45*sa], a75 = a[ia + 46*sa], a76 = a[ia + 47*sa], a77 = a[ia + 48*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb], b14 = b[ib + 3*sb], b15 = b[ib + 4*sb], b16 = b[ib + 5*sb], b17 = b[ib + 6*sb];
+        double b21 = b[ib + 7*sb], b22 = b[ib + 8*sb], b23 = b[ib + 9*sb], b24 = b[ib + 10*sb], b25 = b[ib + 11*sb], b26 = b[ib + 12*sb], b27 = b[ib + 13*sb];
+        double b31 = b[ib + 14*sb], b32 = b[ib + 15*sb], b33 = b[ib + 16*sb], b34 = b[ib + 17*sb], b35 = b[ib + 18*sb], b36 = b[ib + 19*sb], b37 = b[ib + 20*sb];
+        double b41 = b[ib + 21*sb], b42 = b[ib + 22*sb], b43 = b[ib + 23*sb], b44 = b[ib + 24*sb], b45 = b[ib + 25*sb], b46 = b[ib + 26*sb], b47 = b[ib + 27*sb];
+        double b51 = b[ib + 28*sb], b52 = b[ib + 29*sb], b53 = b[ib + 30*sb], b54 = b[ib + 31*sb], b55 = b[ib + 32*sb], b56 = b[ib + 33*sb], b57 = b[ib + 34*sb];
+        double b61 = b[ib + 35*sb], b62 = b[ib + 36*sb], b63 = b[ib + 37*sb], b64 = b[ib + 38*sb], b65 = b[ib + 39*sb], b66 = b[ib + 40*sb], b67 = b[ib + 41*sb];
+        double b71 = b[ib + 42*sb], b72 = b[ib + 43*sb], b73 = b[ib + 44*sb], b74 = b[ib + 45*sb], b75 = b[ib + 46*sb], b76 = b[ib + 47*sb], b77 = b[ib + 48*sb];
+        c[ic] = a11*b11 + a12*b21 + a13*b31 + a14*b41 + a15*b51 + a16*b61 + a17*b71;
+        c[ic + sc] = a11*b12 + a12*b22 + a13*b32 + a14*b42 + a15*b52 + a16*b62 + a17*b72;
+        c[ic + 2*sc] = a11*b13 + a12*b23 + a13*b33 + a14*b43 + a15*b53 + a16*b63 + a17*b73;
+        c[ic + 3*sc] = a11*b14 + a12*b24 + a13*b34 + a14*b44 + a15*b54 + a16*b64 + a17*b74;
+        c[ic + 4*sc] = a11*b15 + a12*b25 + a13*b35 + a14*b45 + a15*b55 + a16*b65 + a17*b75;
+        c[ic + 5*sc] = a11*b16 + a12*b26 + a13*b36 + a14*b46 + a15*b56 + a16*b66 + a17*b76;
+        c[ic + 6*sc] = a11*b17 + a12*b27 + a13*b37 + a14*b47 + a15*b57 + a16*b67 + a17*b77;
+        c[ic + 7*sc] = a21*b11 + a22*b21 + a23*b31 + a24*b41 + a25*b51 + a26*b61 + a27*b71;
+        c[ic + 8*sc] = a21*b12 + a22*b22 + a23*b32 + a24*b42 + a25*b52 + a26*b62 + a27*b72;
+        c[ic + 9*sc] = a21*b13 + a22*b23 + a23*b33 + a24*b43 + a25*b53 + a26*b63 + a27*b73;
+        c[ic + 10*sc] = a21*b14 + a22*b24 + a23*b34 + a24*b44 + a25*b54 + a26*b64 + a27*b74;
+        c[ic + 11*sc] = a21*b15 + a22*b25 + a23*b35 + a24*b45 + a25*b55 + a26*b65 + a27*b75;
+        c[ic + 12*sc] = a21*b16 + a22*b26 + a23*b36 + a24*b46 + a25*b56 + a26*b66 + a27*b76;
+        c[ic + 13*sc] = a21*b17 + a22*b27 + a23*b37 + a24*b47 + a25*b57 + a26*b67 + a27*b77;
+        c[ic + 14*sc] = a31*b11 + a32*b21 + a33*b31 + a34*b41 + a35*b51 + a36*b61 + a37*b71;
+        c[ic + 15*sc] = a31*b12 + a32*b22 + a33*b32 + a34*b42 + a35*b52 + a36*b62 + a37*b72;
+        c[ic + 16*sc] = a31*b13 + a32*b23 + a33*b33 + a34*b43 + a35*b53 + a36*b63 + a37*b73;
+        c[ic + 17*sc] = a31*b14 + a32*b24 + a33*b34 + a34*b44 + a35*b54 + a36*b64 + a37*b74;
+        c[ic + 18*sc] = a31*b15 + a32*b25 + a33*b35 + a34*b45 + a35*b55 + a36*b65 + a37*b75;
+        c[ic + 19*sc] = a31*b16 + a32*b26 + a33*b36 + a34*b46 + a35*b56 + a36*b66 + a37*b76;
+        c[ic + 20*sc] = a31*b17 + a32*b27 + a33*b37 + a34*b47 + a35*b57 + a36*b67 + a37*b77;
+        c[ic + 21*sc] = a41*b11 + a42*b21 + a43*b31 + a44*b41 + a45*b51 + a46*b61 + a47*b71;
+        c[ic + 22*sc] = a41*b12 + a42*b22 + a43*b32 + a44*b42 + a45*b52 + a46*b62 + a47*b72;
+        c[ic + 23*sc] = a41*b13 + a42*b23 + a43*b33 + a44*b43 + a45*b53 + a46*b63 + a47*b73;
+        c[ic + 24*sc] = a41*b14 + a42*b24 + a43*b34 + a44*b44 + a45*b54 + a46*b64 + a47*b74;
+        c[ic + 25*sc] = a41*b15 + a42*b25 + a43*b35 + a44*b45 + a45*b55 + a46*b65 + a47*b75;
+        c[ic + 26*sc] = a41*b16 + a42*b26 + a43*b36 + a44*b46 + a45*b56 + a46*b66 + a47*b76;
+        c[ic + 27*sc] = a41*b17 + a42*b27 + a43*b37 + a44*b47 + a45*b57 + a46*b67 + a47*b77;
+        c[ic + 28*sc] = a51*b11 + a52*b21 + a53*b31 + a54*b41 + a55*b51 + a56*b61 + a57*b71;
+        c[ic + 29*sc] = a51*b12 + a52*b22 + a53*b32 + a54*b42 + a55*b52 + a56*b62 + a57*b72;
+        c[ic + 30*sc] = a51*b13 + a52*b23 + a53*b33 + a54*b43 + a55*b53 + a56*b63 + a57*b73;
+        c[ic + 31*sc] = a51*b14 + a52*b24 + a53*b34 + a54*b44 + a55*b54 + a56*b64 + a57*b74;
+        c[ic + 32*sc] = a51*b15 + a52*b25 + a53*b35 + a54*b45 + a55*b55 + a56*b65 + a57*b75;
+        c[ic + 33*sc] = a51*b16 + a52*b26 + a53*b36 + a54*b46 + a55*b56 + a56*b66 + a57*b76;
+        c[ic + 34*sc] = a51*b17 + a52*b27 + a53*b37 + a54*b47 + a55*b57 + a56*b67 + a57*b77;
+        c[ic + 35*sc] = a61*b11 + a62*b21 + a63*b31 + a64*b41 + a65*b51 + a66*b61 + a67*b71;
+        c[ic + 36*sc] = a61*b12 + a62*b22 + a63*b32 + a64*b42 + a65*b52 + a66*b62 + a67*b72;
+        c[ic + 37*sc] = a61*b13 + a62*b23 + a63*b33 + a64*b43 + a65*b53 + a66*b63 + a67*b73;
+        c[ic + 38*sc] = a61*b14 + a62*b24 + a63*b34 + a64*b44 + a65*b54 + a66*b64 + a67*b74;
+        c[ic + 39*sc] = a61*b15 + a62*b25 + a63*b35 + a64*b45 + a65*b55 + a66*b65 + a67*b75;
+        c[ic + 40*sc] = a61*b16 + a62*b26 + a63*b36 + a64*b46 + a65*b56 + a66*b66 + a67*b76;
+        c[ic + 41*sc] = a61*b17 + a62*b27 + a63*b37 + a64*b47 + a65*b57 + a66*b67 + a67*b77;
+        c[ic + 42*sc] = a71*b11 + a72*b21 + a73*b31 + a74*b41 + a75*b51 + a76*b61 + a77*b71;
+        c[ic + 43*sc] = a71*b12 + a72*b22 + a73*b32 + a74*b42 + a75*b52 + a76*b62 + a77*b72;
+        c[ic + 44*sc] = a71*b13 + a72*b23 + a73*b33 + a74*b43 + a75*b53 + a76*b63 + a77*b73;
+        c[ic + 45*sc] = a71*b14 + a72*b24 + a73*b34 + a74*b44 + a75*b54 + a76*b64 + a77*b74;
+        c[ic + 46*sc] = a71*b15 + a72*b25 + a73*b35 + a74*b45 + a75*b55 + a76*b65 + a77*b75;
+        c[ic + 47*sc] = a71*b16 + a72*b26 + a73*b36 + a74*b46 + a75*b56 + a76*b66 + a77*b76;
+        c[ic + 48*sc] = a71*b17 + a72*b27 + a73*b37 + a74*b47 + a75*b57 + a76*b67 + a77*b77;
+    }
+
+    private static void multTransA( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                                    double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa], a16 = a[ia + 5*sa], a17 = a[ia + 6*sa];
+        double a21 = a[ia + 7*sa], a22 = a[ia + 8*sa], a23 = a[ia + 9*sa], a24 = a[ia + 10*sa], a25 = a[ia + 11*sa], a26 = a[ia + 12*sa], a27 = a[ia + 13*sa];
+        double a31 = a[ia + 14*sa], a32 = a[ia + 15*sa], a33 = a[ia + 16*sa], a34 = a[ia + 17*sa], a35 = a[ia + 18*sa], a36 = a[ia + 19*sa], a37 = a[ia + 20*sa];
+        double a41 = a[ia + 21*sa], a42 = a[ia + 22*sa], a43 = a[ia + 23*sa], a44 = a[ia + 24*sa], a45 = a[ia + 25*sa], a46 = a[ia + 26*sa], a47 = a[ia + 27*sa];
+        double a51 = a[ia + 28*sa], a52 = a[ia + 29*sa], a53 = a[ia + 30*sa], a54 = a[ia + 31*sa], a55 = a[ia + 32*sa], a56 = a[ia + 33*sa], a57 = a[ia + 34*sa];
+        double a61 = a[ia + 35*sa], a62 = a[ia + 36*sa], a63 = a[ia + 37*sa], a64 = a[ia + 38*sa], a65 = a[ia + 39*sa], a66 = a[ia + 40*sa], a67 = a[ia + 41*sa];
+        double a71 = a[ia + 42*sa], a72 = a[ia + 43*sa], a73 = a[ia + 44*sa], a74 = a[ia + 45*sa], a75 = a[ia + 46*sa], a76 = a[ia + 47*sa], a77 = a[ia + 48*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb], b14 = b[ib + 3*sb], b15 = b[ib + 4*sb], b16 = b[ib + 5*sb], b17 = b[ib + 6*sb];
+        double b21 = b[ib + 7*sb], b22 = b[ib + 8*sb], b23 = b[ib + 9*sb], b24 = b[ib + 10*sb], b25 = b[ib + 11*sb], b26 = b[ib + 12*sb], b27 = b[ib + 13*sb];
+        double b31 = b[ib + 14*sb], b32 = b[ib + 15*sb], b33 = b[ib + 16*sb], b34 = b[ib + 17*sb], b35 = b[ib + 18*sb], b36 = b[ib + 19*sb], b37 = b[ib + 20*sb];
+        double b41 = b[ib + 21*sb], b42 = b[ib + 22*sb], b43 = b[ib + 23*sb], b44 = b[ib + 24*sb], b45 = b[ib + 25*sb], b46 = b[ib + 26*sb], b47 = b[ib + 27*sb];
+        double b51 = b[ib + 28*sb], b52 = b[ib + 29*sb], b53 = b[ib + 30*sb], b54 = b[ib + 31*sb], b55 = b[ib + 32*sb], b56 = b[ib + 33*sb], b57 = b[ib + 34*sb];
+        double b61 = b[ib + 35*sb], b62 = b[ib + 36*sb], b63 = b[ib + 37*sb], b64 = b[ib + 38*sb], b65 = b[ib + 39*sb], b66 = b[ib + 40*sb], b67 = b[ib + 41*sb];
+        double b71 = b[ib + 42*sb], b72 = b[ib + 43*sb], b73 = b[ib + 44*sb], b74 = b[ib + 45*sb], b75 = b[ib + 46*sb], b76 = b[ib + 47*sb], b77 = b[ib + 48*sb];
+        c[ic] = a11*b11 + a21*b21 + a31*b31 + a41*b41 + a51*b51 + a61*b61 + a71*b71;
+        c[ic + sc] = a11*b12 + a21*b22 + a31*b32 + a41*b42 + a51*b52 + a61*b62 + a71*b72;
+        c[ic + 2*sc] = a11*b13 + a21*b23 + a31*b33 + a41*b43 + a51*b53 + a61*b63 + a71*b73;
+        c[ic + 3*sc] = a11*b14 + a21*b24 + a31*b34 + a41*b44 + a51*b54 + a61*b64 + a71*b74;
+        c[ic + 4*sc] = a11*b15 + a21*b25 + a31*b35 + a41*b45 + a51*b55 + a61*b65 + a71*b75;
+        c[ic + 5*sc] = a11*b16 + a21*b26 + a31*b36 + a41*b46 + a51*b56 + a61*b66 + a71*b76;
+        c[ic + 6*sc] = a11*b17 + a21*b27 + a31*b37 + a41*b47 + a51*b57 + a61*b67 + a71*b77;
+        c[ic + 7*sc] = a12*b11 + a22*b21 + a32*b31 + a42*b41 + a52*b51 + a62*b61 + a72*b71;
+        c[ic + 8*sc] = a12*b12 + a22*b22 + a32*b32 + a42*b42 + a52*b52 + a62*b62 + a72*b72;
+        c[ic + 9*sc] = a12*b13 + a22*b23 + a32*b33 + a42*b43 + a52*b53 + a62*b63 + a72*b73;
+        c[ic + 10*sc] = a12*b14 + a22*b24 + a32*b34 + a42*b44 + a52*b54 + a62*b64 + a72*b74;
+        c[ic + 11*sc] = a12*b15 + a22*b25 + a32*b35 + a42*b45 + a52*b55 + a62*b65 + a72*b75;
+        c[ic + 12*sc] = a12*b16 + a22*b26 + a32*b36 + a42*b46 + a52*b56 + a62*b66 + a72*b76;
+        c[ic + 13*sc] = a12*b17 + a22*b27 + a32*b37 + a42*b47 + a52*b57 + a62*b67 + a72*b77;
+        c[ic + 14*sc] = a13*b11 + a23*b21 + a33*b31 + a43*b41 + a53*b51 + a63*b61 + a73*b71;
+        c[ic + 15*sc] = a13*b12 + a23*b22 + a33*b32 + a43*b42 + a53*b52 + a63*b62 + a73*b72;
+        c[ic + 16*sc] = a13*b13 + a23*b23 + a33*b33 + a43*b43 + a53*b53 + a63*b63 + a73*b73;
+        c[ic + 17*sc] = a13*b14 + a23*b24 + a33*b34 + a43*b44 + a53*b54 + a63*b64 + a73*b74;
+        c[ic + 18*sc] = a13*b15 + a23*b25 + a33*b35 + a43*b45 + a53*b55 + a63*b65 + a73*b75;
+        c[ic + 19*sc] = a13*b16 + a23*b26 + a33*b36 + a43*b46 + a53*b56 + a63*b66 + a73*b76;
+        c[ic + 20*sc] = a13*b17 + a23*b27 + a33*b37 + a43*b47 + a53*b57 + a63*b67 + a73*b77;
+        c[ic + 21*sc] = a14*b11 + a24*b21 + a34*b31 + a44*b41 + a54*b51 + a64*b61 + a74*b71;
+        c[ic + 22*sc] = a14*b12 + a24*b22 + a34*b32 + a44*b42 + a54*b52 + a64*b62 + a74*b72;
+        c[ic + 23*sc] = a14*b13 + a24*b23 + a34*b33 + a44*b43 + a54*b53 + a64*b63 + a74*b73;
+        c[ic + 24*sc] = a14*b14 + a24*b24 + a34*b34 + a44*b44 + a54*b54 + a64*b64 + a74*b74;
+        c[ic + 25*sc] = a14*b15 + a24*b25 + a34*b35 + a44*b45 + a54*b55 + a64*b65 + a74*b75;
+        c[ic + 26*sc] = a14*b16 + a24*b26 + a34*b36 + a44*b46 + a54*b56 + a64*b66 + a74*b76;
+        c[ic + 27*sc] = a14*b17 + a24*b27 + a34*b37 + a44*b47 + a54*b57 + a64*b67 + a74*b77;
+        c[ic + 28*sc] = a15*b11 + a25*b21 + a35*b31 + a45*b41 + a55*b51 + a65*b61 + a75*b71;
+        c[ic + 29*sc] = a15*b12 + a25*b22 + a35*b32 + a45*b42 + a55*b52 + a65*b62 + a75*b72;
+        c[ic + 30*sc] = a15*b13 + a25*b23 + a35*b33 + a45*b43 + a55*b53 + a65*b63 + a75*b73;
+        c[ic + 31*sc] = a15*b14 + a25*b24 + a35*b34 + a45*b44 + a55*b54 + a65*b64 + a75*b74;
+        c[ic + 32*sc] = a15*b15 + a25*b25 + a35*b35 + a45*b45 + a55*b55 + a65*b65 + a75*b75;
+        c[ic + 33*sc] = a15*b16 + a25*b26 + a35*b36 + a45*b46 + a55*b56 + a65*b66 + a75*b76;
+        c[ic + 34*sc] = a15*b17 + a25*b27 + a35*b37 + a45*b47 + a55*b57 + a65*b67 + a75*b77;
+        c[ic + 35*sc] = a16*b11 + a26*b21 + a36*b31 + a46*b41 + a56*b51 + a66*b61 + a76*b71;
+        c[ic + 36*sc] = a16*b12 + a26*b22 + a36*b32 + a46*b42 + a56*b52 + a66*b62 + a76*b72;
+        c[ic + 37*sc] = a16*b13 + a26*b23 + a36*b33 + a46*b43 + a56*b53 + a66*b63 + a76*b73;
+        c[ic + 38*sc] = a16*b14 + a26*b24 + a36*b34 + a46*b44 + a56*b54 + a66*b64 + a76*b74;
+        c[ic + 39*sc] = a16*b15 + a26*b25 + a36*b35 + a46*b45 + a56*b55 + a66*b65 + a76*b75;
+        c[ic + 40*sc] = a16*b16 + a26*b26 + a36*b36 + a46*b46 + a56*b56 + a66*b66 + a76*b76;
+        c[ic + 41*sc] = a16*b17 + a26*b27 + a36*b37 + a46*b47 + a56*b57 + a66*b67 + a76*b77;
+        c[ic + 42*sc] = a17*b11 + a27*b21 + a37*b31 + a47*b41 + a57*b51 + a67*b61 + a77*b71;
+        c[ic + 43*sc] = a17*b12 + a27*b22 + a37*b32 + a47*b42 + a57*b52 + a67*b62 + a77*b72;
+        c[ic + 44*sc] = a17*b13 + a27*b23 + a37*b33 + a47*b43 + a57*b53 + a67*b63 + a77*b73;
+        c[ic + 45*sc] = a17*b14 + a27*b24 + a37*b34 + a47*b44 + a57*b54 + a67*b64 + a77*b74;
+        c[ic + 46*sc] = a17*b15 + a27*b25 + a37*b35 + a47*b45 + a57*b55 + a67*b65 + a77*b75;
+        c[ic + 47*sc] = a17*b16 + a27*b26 + a37*b36 + a47*b46 + a57*b56 + a67*b66 + a77*b76;
+        c[ic + 48*sc] = a17*b17 + a27*b27 + a37*b37 + a47*b47 + a57*b57 + a67*b67 + a77*b77;
+    }
+
+    private static void multTransB( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                                    double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa], a16 = a[ia + 5*sa], a17 = a[ia + 6*sa];
+        double a21 = a[ia + 7*sa], a22 = a[ia + 8*sa], a23 = a[ia + 9*sa], a24 = a[ia + 10*sa], a25 = a[ia + 11*sa], a26 = a[ia + 12*sa], a27 = a[ia + 13*sa];
+        double a31 = a[ia + 14*sa], a32 = a[ia + 15*sa], a33 = a[ia + 16*sa], a34 = a[ia + 17*sa], a35 = a[ia + 18*sa], a36 = a[ia + 19*sa], a37 = a[ia + 20*sa];
+        double a41 = a[ia + 21*sa], a42 = a[ia + 22*sa], a43 = a[ia + 23*sa], a44 = a[ia + 24*sa], a45 = a[ia + 25*sa], a46 = a[ia + 26*sa], a47 = a[ia + 27*sa];
+        double a51 = a[ia + 28*sa], a52 = a[ia + 29*sa], a53 = a[ia + 30*sa], a54 = a[ia + 31*sa], a55 = a[ia + 32*sa], a56 = a[ia + 33*sa], a57 = a[ia + 34*sa];
+        double a61 = a[ia + 35*sa], a62 = a[ia + 36*sa], a63 = a[ia + 37*sa], a64 = a[ia + 38*sa], a65 = a[ia + 39*sa], a66 = a[ia + 40*sa], a67 = a[ia + 41*sa];
+        double a71 = a[ia + 42*sa], a72 = a[ia + 43*sa], a73 = a[ia + 44*sa], a74 = a[ia + 45*sa], a75 = a[ia + 46*sa], a76 = a[ia + 47*sa], a77 = a[ia + 48*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb], b14 = b[ib + 3*sb], b15 = b[ib + 4*sb], b16 = b[ib + 5*sb], b17 = b[ib + 6*sb];
+        double b21 = b[ib + 7*sb], b22 = b[ib + 8*sb], b23 = b[ib + 9*sb], b24 = b[ib + 10*sb], b25 = b[ib + 11*sb], b26 = b[ib + 12*sb], b27 = b[ib + 13*sb];
+        double b31 = b[ib + 14*sb], b32 = b[ib + 15*sb], b33 = b[ib + 16*sb], b34 = b[ib + 17*sb], b35 = b[ib + 18*sb], b36 = b[ib + 19*sb], b37 = b[ib + 20*sb];
+        double b41 = b[ib + 21*sb], b42 = b[ib + 22*sb], b43 = b[ib + 23*sb], b44 = b[ib + 24*sb], b45 = b[ib + 25*sb], b46 = b[ib + 26*sb], b47 = b[ib + 27*sb];
+        double b51 = b[ib + 28*sb], b52 = b[ib + 29*sb], b53 = b[ib + 30*sb], b54 = b[ib + 31*sb], b55 = b[ib + 32*sb], b56 = b[ib + 33*sb], b57 = b[ib + 34*sb];
+        double b61 = b[ib + 35*sb], b62 = b[ib + 36*sb], b63 = b[ib + 37*sb], b64 = b[ib + 38*sb], b65 = b[ib + 39*sb], b66 = b[ib + 40*sb], b67 = b[ib + 41*sb];
+        double b71 = b[ib + 42*sb], b72 = b[ib + 43*sb], b73 = b[ib + 44*sb], b74 = b[ib + 45*sb], b75 = b[ib + 46*sb], b76 = b[ib + 47*sb], b77 = b[ib + 48*sb];
+        c[ic] = a11*b11 + a12*b12 + a13*b13 + a14*b14 + a15*b15 + a16*b16 + a17*b17;
+        c[ic + sc] = a11*b21 + a12*b22 + a13*b23 + a14*b24 + a15*b25 + a16*b26 + a17*b27;
+        c[ic + 2*sc] = a11*b31 + a12*b32 + a13*b33 + a14*b34 + a15*b35 + a16*b36 + a17*b37;
+        c[ic + 3*sc] = a11*b41 + a12*b42 + a13*b43 + a14*b44 + a15*b45 + a16*b46 + a17*b47;
+        c[ic + 4*sc] = a11*b51 + a12*b52 + a13*b53 + a14*b54 + a15*b55 + a16*b56 + a17*b57;
+        c[ic + 5*sc] = a11*b61 + a12*b62 + a13*b63 + a14*b64 + a15*b65 + a16*b66 + a17*b67;
+        c[ic + 6*sc] = a11*b71 + a12*b72 + a13*b73 + a14*b74 + a15*b75 + a16*b76 + a17*b77;
+        c[ic + 7*sc] = a21*b11 + a22*b12 + a23*b13 + a24*b14 + a25*b15 + a26*b16 + a27*b17;
+        c[ic + 8*sc] = a21*b21 + a22*b22 + a23*b23 + a24*b24 + a25*b25 + a26*b26 + a27*b27;
+        c[ic + 9*sc] = a21*b31 + a22*b32 + a23*b33 + a24*b34 + a25*b35 + a26*b36 + a27*b37;
+        c[ic + 10*sc] = a21*b41 + a22*b42 + a23*b43 + a24*b44 + a25*b45 + a26*b46 + a27*b47;
+        c[ic + 11*sc] = a21*b51 + a22*b52 + a23*b53 + a24*b54 + a25*b55 + a26*b56 + a27*b57;
+        c[ic + 12*sc] = a21*b61 + a22*b62 + a23*b63 + a24*b64 + a25*b65 + a26*b66 + a27*b67;
+        c[ic + 13*sc] = a21*b71 + a22*b72 + a23*b73 + a24*b74 + a25*b75 + a26*b76 + a27*b77;
+        c[ic + 14*sc] = a31*b11 + a32*b12 + a33*b13 + a34*b14 + a35*b15 + a36*b16 + a37*b17;
+        c[ic + 15*sc] = a31*b21 + a32*b22 + a33*b23 + a34*b24 + a35*b25 + a36*b26 + a37*b27;
+        c[ic + 16*sc] = a31*b31 + a32*b32 + a33*b33 + a34*b34 + a35*b35 + a36*b36 + a37*b37;
+        c[ic + 17*sc] = a31*b41 + a32*b42 + a33*b43 + a34*b44 + a35*b45 + a36*b46 + a37*b47;
+        c[ic + 18*sc] = a31*b51 + a32*b52 + a33*b53 + a34*b54 + a35*b55 + a36*b56 + a37*b57;
+        c[ic + 19*sc] = a31*b61 + a32*b62 + a33*b63 + a34*b64 + a35*b65 + a36*b66 + a37*b67;
+        c[ic + 20*sc] = a31*b71 + a32*b72 + a33*b73 + a34*b74 + a35*b75 + a36*b76 + a37*b77;
+        c[ic + 21*sc] = a41*b11 + a42*b12 + a43*b13 + a44*b14 + a45*b15 + a46*b16 + a47*b17;
+        c[ic + 22*sc] = a41*b21 + a42*b22 + a43*b23 + a44*b24 + a45*b25 + a46*b26 + a47*b27;
+        c[ic + 23*sc] = a41*b31 + a42*b32 + a43*b33 + a44*b34 + a45*b35 + a46*b36 + a47*b37;
+        c[ic + 24*sc] = a41*b41 + a42*b42 + a43*b43 + a44*b44 + a45*b45 + a46*b46 + a47*b47;
+        c[ic + 25*sc] = a41*b51 + a42*b52 + a43*b53 + a44*b54 + a45*b55 + a46*b56 + a47*b57;
+        c[ic + 26*sc] = a41*b61 + a42*b62 + a43*b63 + a44*b64 + a45*b65 + a46*b66 + a47*b67;
+        c[ic + 27*sc] = a41*b71 + a42*b72 + a43*b73 + a44*b74 + a45*b75 + a46*b76 + a47*b77;
+        c[ic + 28*sc] = a51*b11 + a52*b12 + a53*b13 + a54*b14 + a55*b15 + a56*b16 + a57*b17;
+        c[ic + 29*sc] = a51*b21 + a52*b22 + a53*b23 + a54*b24 + a55*b25 + a56*b26 + a57*b27;
+        c[ic + 30*sc] = a51*b31 + a52*b32 + a53*b33 + a54*b34 + a55*b35 + a56*b36 + a57*b37;
+        c[ic + 31*sc] = a51*b41 + a52*b42 + a53*b43 + a54*b44 + a55*b45 + a56*b46 + a57*b47;
+        c[ic + 32*sc] = a51*b51 + a52*b52 + a53*b53 + a54*b54 + a55*b55 + a56*b56 + a57*b57;
+        c[ic + 33*sc] = a51*b61 + a52*b62 + a53*b63 + a54*b64 + a55*b65 + a56*b66 + a57*b67;
+        c[ic + 34*sc] = a51*b71 + a52*b72 + a53*b73 + a54*b74 + a55*b75 + a56*b76 + a57*b77;
+        c[ic + 35*sc] = a61*b11 + a62*b12 + a63*b13 + a64*b14 + a65*b15 + a66*b16 + a67*b17;
+        c[ic + 36*sc] = a61*b21 + a62*b22 + a63*b23 + a64*b24 + a65*b25 + a66*b26 + a67*b27;
+        c[ic + 37*sc] = a61*b31 + a62*b32 + a63*b33 + a64*b34 + a65*b35 + a66*b36 + a67*b37;
+        c[ic + 38*sc] = a61*b41 + a62*b42 + a63*b43 + a64*b44 + a65*b45 + a66*b46 + a67*b47;
+        c[ic + 39*sc] = a61*b51 + a62*b52 + a63*b53 + a64*b54 + a65*b55 + a66*b56 + a67*b57;
+        c[ic + 40*sc] = a61*b61 + a62*b62 + a63*b63 + a64*b64 + a65*b65 + a66*b66 + a67*b67;
+        c[ic + 41*sc] = a61*b71 + a62*b72 + a63*b73 + a64*b74 + a65*b75 + a66*b76 + a67*b77;
+        c[ic + 42*sc] = a71*b11 + a72*b12 + a73*b13 + a74*b14 + a75*b15 + a76*b16 + a77*b17;
+        c[ic + 43*sc] = a71*b21 + a72*b22 + a73*b23 + a74*b24 + a75*b25 + a76*b26 + a77*b27;
+        c[ic + 44*sc] = a71*b31 + a72*b32 + a73*b33 + a74*b34 + a75*b35 + a76*b36 + a77*b37;
+        c[ic + 45*sc] = a71*b41 + a72*b42 + a73*b43 + a74*b44 + a75*b45 + a76*b46 + a77*b47;
+        c[ic + 46*sc] = a71*b51 + a72*b52 + a73*b53 + a74*b54 + a75*b55 + a76*b56 + a77*b57;
+        c[ic + 47*sc] = a71*b61 + a72*b62 + a73*b63 + a74*b64 + a75*b65 + a76*b66 + a77*b67;
+        c[ic + 48*sc] = a71*b71 + a72*b72 + a73*b73 + a74*b74 + a75*b75 + a76*b76 + a77*b77;
+    }
+
+    private static void cholL( double[] a, int ia, int sa ) {
+        double a11 = a[ia];
+        double a21 = a[ia + 7*sa], a22 = a[ia + 8*sa];
+        double a31 = a[ia + 14*sa], a32 = a[ia + 15*sa], a33 = a[ia + 16*sa];
+        double a41 = a[ia + 21*sa], a42 = a[ia + 22*sa], a43 = a[ia + 23*sa], a44 = a[ia + 24*sa];
+        double a51 = a[ia + 28*sa], a52 = a[ia + 29*sa], a53 = a[ia + 30*sa], a54 = a[ia + 31*sa], a55 = a[ia + 32*sa];
+        double a61 = a[ia + 35*sa], a62 = a[ia + 36*sa], a63 = a[ia + 37*sa], a64 = a[ia + 38*sa], a65 = a[ia + 39*sa], a66 = a[ia + 40*sa];
+        double a71 = a[ia + 42*sa], a72 = a[ia + 43*sa], a73 = a[ia + 44*sa], a74 = a[ia + 45*sa], a75 = a[ia + 46*sa], a76 = a[ia + 47*sa], a77 = a[ia + 48*sa];
+
+        a11 = Math.sqrt(a11);
+        a21 = (a21)/a11;
+        a22 = Math.sqrt(a22-a21*a21);
+        a31 = (a31)/a11;
+        a32 = (a32-a31*a21)/a22;
+        a33 = Math.sqrt(a33-a31*a31-a32*a32);
+        a41 = (a41)/a11;
+        a42 = (a42-a41*a21)/a22;
+        a43 = (a43-a41*a31-a42*a32)/a33;
+        a44 = Math.sqrt(a44-a41*a41-a42*a42-a43*a43);
+        a51 = (a51)/a11;
+        a52 = (a52-a51*a21)/a22;
+        a53 = (a53-a51*a31-a52*a32)/a33;
+        a54 = (a54-a51*a41-a52*a42-a53*a43)/a44;
+        a55 = Math.sqrt(a55-a51*a51-a52*a52-a53*a53-a54*a54);
+        a61 = (a61)/a11;
+        a62 = (a62-a61*a21)/a22;
+        a63 = (a63-a61*a31-a62*a32)/a33;
+        a64 = (a64-a61*a41-a62*a42-a63*a43)/a44;
+        a65 = (a65-a61*a51-a62*a52-a63*a53-a64*a54)/a55;
+        a66 = Math.sqrt(a66-a61*a61-a62*a62-a63*a63-a64*a64-a65*a65);
+        a71 = (a71)/a11;
+        a72 = (a72-a71*a21)/a22;
+        a73 = (a73-a71*a31-a72*a32)/a33;
+        a74 = (a74-a71*a41-a72*a42-a73*a43)/a44;
+        a75 = (a75-a71*a51-a72*a52-a73*a53-a74*a54)/a55;
+        a76 = (a76-a71*a61-a72*a62-a73*a63-a74*a64-a75*a65)/a66;
+        a77 = Math.sqrt(a77-a71*a71-a72*a72-a73*a73-a74*a74-a75*a75-a76*a76);
+
+        a[ia] = a11;
+        a[ia + sa] = 0;
+        a[ia + 2*sa] = 0;
+        a[ia + 3*sa] = 0;
+        a[ia + 4*sa] = 0;
+        a[ia + 5*sa] = 0;
+        a[ia + 6*sa] = 0;
+        a[ia + 7*sa] = a21;
+        a[ia + 8*sa] = a22;
+        a[ia + 9*sa] = 0;
+        a[ia + 10*sa] = 0;
+        a[ia + 11*sa] = 0;
+        a[ia + 12*sa] = 0;
+        a[ia + 13*sa] = 0;
+        a[ia + 14*sa] = a31;
+        a[ia + 15*sa] = a32;
+        a[ia + 16*sa] = a33;
+        a[ia + 17*sa] = 0;
+        a[ia + 18*sa] = 0;
+        a[ia + 19*sa] = 0;
+        a[ia + 20*sa] = 0;
+        a[ia + 21*sa] = a41;
+        a[ia + 22*sa] = a42;
+        a[ia + 23*sa] = a43;
+        a[ia + 24*sa] = a44;
+        a[ia + 25*sa] = 0;
+        a[ia + 26*sa] = 0;
+        a[ia + 27*sa] = 0;
+        a[ia + 28*sa] = a51;
+        a[ia + 29*sa] = a52;
+        a[ia + 30*sa] = a53;
+        a[ia + 31*sa] = a54;
+        a[ia + 32*sa] = a55;
+        a[ia + 33*sa] = 0;
+        a[ia + 34*sa] = 0;
+        a[ia + 35*sa] = a61;
+        a[ia + 36*sa] = a62;
+        a[ia + 37*sa] = a63;
+        a[ia + 38*sa] = a64;
+        a[ia + 39*sa] = a65;
+        a[ia + 40*sa] = a66;
+        a[ia + 41*sa] = 0;
+        a[ia + 42*sa] = a71;
+        a[ia + 43*sa] = a72;
+        a[ia + 44*sa] = a73;
+        a[ia + 45*sa] = a74;
+        a[ia + 46*sa] = a75;
+        a[ia + 47*sa] = a76;
+        a[ia + 48*sa] = a77;
+    }
+
+}
+
@@ -0,0 +1,617 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixBatch;
+import org.jetbrains.annotations.Nullable;
+//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>Operations on a batch of 8 x 8 matrices or 8 element vectors stored in a {@link DMatrixBatch}. The result is the same
+ * as calling the equivalent function in {@link CommonOps_DDF8} on each matrix.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateBatchOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateBatchOps_DDF")
+public class BatchOps_DDF8 {
+    /**
+     * Transposes every matrix in 'input' and stores the results in 'output'.
+     *
+     * @param input (Input) Batch of matrices. Not modified.
+     * @param output (Output) Batch of transposed matrices. Can be the same instance as input. Modified.
+     */
+    public static void transpose( DMatrixBatch input, DMatrixBatch output ) {
+        checkInput(input, 8, 8);
+        output.reshape(8, 8, input.size);
+
+        final double[] a = input.data, b = output.data;
+        final int sa = input.getStride(), sb = output.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, input.size, k -> {
+        for (int k = 0; k < input.size; k++) {
+            transpose(a, input.getOffset(k), sa, b, output.getOffset(k), sb);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a * b <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void mult( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 8, 8);
+        checkInput(b, 8, 8);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(8, 8, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            mult(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void multTransA( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 8, 8);
+        checkInput(b, 8, 8);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(8, 8, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            multTransA(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * <p>Performs the following operation on every matrix in the batch:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * </p>
+     *
+     * @param a (Input) The left matrices in the multiplication operation. Not modified.
+     * @param b (Input) The right matrices in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Can be the same instance as a or b. Modified.
+     */
+    public static void multTransB( DMatrixBatch a, DMatrixBatch b, DMatrixBatch c ) {
+        checkInput(a, 8, 8);
+        checkInput(b, 8, 8);
+        UtilEjml.assertShape(a.size, b.size, "Batches must have the same number of matrices");
+        c.reshape(8, 8, a.size);
+
+        final double[] da = a.data, db = b.data, dc = c.data;
+        final int sa = a.getStride(), sb = b.getStride(), sc = c.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            multTransB(da, a.getOffset(k), sa, db, b.getOffset(k), sb, dc, c.getOffset(k), sc);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * Performs a lower Cholesky decomposition on every matrix in the batch and stores the results in 'a'.
+     *
+     * @param a (Input) Batch of SPD matrices. (Output) lower cholesky.
+     * @return true if every decomposition was successful or false if any of them failed. Not always reliable.
+     */
+    public static boolean cholL( DMatrixBatch a ) {
+        checkInput(a, 8, 8);
+
+        final double[] da = a.data;
+        final int sa = a.getStride();
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, a.size, k -> {
+        for (int k = 0; k < a.size; k++) {
+            cholL(da, a.getOffset(k), sa);
+        }
+        //CONCURRENT_ABOVE });
+
+        return isCountable(a, 63);
+    }
+
+    private static void checkInput( DMatrixBatch m, int numRows, int numCols ) {
+        if (m.numRows != numRows || m.numCols != numCols)
+            throw new MatrixDimensionException("Expected a batch of " + numRows + "x" + numCols +
+                    " matrices. Found " + m.numRows + "x" + m.numCols);
+    }
+
+    /**
+     * Returns false if the specified element of any matrix is NaN or infinite
+     */
+    private static boolean isCountable( DMatrixBatch m, int element ) {
+        final int stride = m.getStride();
+        for (int k = 0; k < m.size; k++) {
+            if (UtilEjml.isUncountable(m.data[m.getOffset(k) + element*stride]))
+                return false;
+        }
+        return true;
+    }
+
+    private static void transpose( double[] a, int ia, int sa, double[] b, int ib, int sb ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa], a16 = a[ia + 5*sa], a17 = a[ia + 6*sa], a18 = a[ia + 7*sa];
+        double a21 = a[ia + 8*sa], a22 = a[ia + 9*sa], a23 = a[ia + 10*sa], a24 = a[ia + 11*sa], a25 = a[ia + 12*sa], a26 = a[ia + 13*sa], a27 = a[ia + 14*sa], a28 = a[ia + 15*sa];
+        double a31 = a[ia + 16*sa], a32 = a[ia + 17*sa], a33 = a[ia + 18*sa], a34 = a[ia + 19*sa], a35 = a[ia + 20*sa], a36 = a[ia + 21*sa], a37 = a[ia + 22*sa], a38 = a[ia + 23*sa];
+        double a41 = a[ia + 24*sa], a42 = a[ia + 25*sa], a43 = a[ia + 26*sa], a44 = a[ia + 27*sa], a45 = a[ia + 28*sa], a46 = a[ia + 29*sa], a47 = a[ia + 30*sa], a48 = a[ia + 31*sa];
+        double a51 = a[ia + 32*sa], a52 = a[ia + 33*sa], a53 = a[ia + 34*sa], a54 = a[ia + 35*sa], a55 = a[ia + 36*sa], a56 = a[ia + 37*sa], a57 = a[ia + 38*sa], a58 = a[ia + 39*sa];
+        double a61 = a[ia + 40*sa], a62 = a[ia + 41*sa], a63 = a[ia + 42*sa], a64 = a[ia + 43*sa], a65 = a[ia + 44*sa], a66 = a[ia + 45*sa], a67 = a[ia + 46*sa], a68 = a[ia + 47*sa];
+        double a71 = a[ia + 48*sa], a72 = a[ia + 49*sa], a73 = a[ia + 50*sa], a74 = a[ia + 51*sa], a75 = a[ia + 52*sa], a76 = a[ia + 53*sa], a77 = a[ia + 54*sa], a78 = a[ia + 55*sa];
+        double a81 = a[ia + 56*sa], a82 = a[ia + 57*sa], a83 = a[ia + 58*sa], a84 = a[ia + 59*sa], a85 = a[ia + 60*sa], a86 = a[ia + 61*sa], a87 = a[ia + 62*sa], a88 = a[ia + 63*sa];
+        b[ib] = a11;
+        b[ib + sb] = a21;
+        b[ib + 2*sb] = a31;
+        b[ib + 3*sb] = a41;
+        b[ib + 4*sb] = a51;
+        b[ib + 5*sb] = a61;
+        b[ib + 6*sb] = a71;
+        b[ib + 7*sb] = a81;
+        b[ib + 8*sb] = a12;
+        b[ib + 9*sb] = a22;
+        b[ib + 10*sb] = a32;
+        b[ib + 11*sb] = a42;
+        b[ib + 12*sb] = a52;
+        b[ib + 13*sb] = a62;
+        b[ib + 14*sb] = a72;
+        b[ib + 15*sb] = a82;
+        b[ib + 16*sb] = a13;
+        b[ib + 17*sb] = a23;
+        b[ib + 18*sb] = a33;
+        b[ib + 19*sb] = a43;
+        b[ib + 20*sb] = a53;
+        b[ib + 21*sb] = a63;
+        b[ib + 22*sb] = a73;
+        b[ib + 23*sb] = a83;
+        b[ib + 24*sb] = a14;
+        b[ib + 25*sb] = a24;
+        b[ib + 26*sb] = a34;
+        b[ib + 27*sb] = a44;
+        b[ib + 28*sb] = a54;
+        b[ib + 29*sb] = a64;
+        b[ib + 30*sb] = a74;
+        b[ib + 31*sb] = a84;
+        b[ib + 32*sb] = a15;
+        b[ib + 33*sb] = a25;
+        b[ib + 34*sb] = a35;
+        b[ib + 35*sb] = a45;
+        b[ib + 36*sb] = a55;
+        b[ib + 37*sb] = a65;
+        b[ib + 38*sb] = a75;
+        b[ib + 39*sb] = a85;
+        b[ib + 40*sb] = a16;
+        b[ib + 41*sb] = a26;
+        b[ib + 42*sb] = a36;
+        b[ib + 43*sb] = a46;
+        b[ib + 44*sb] = a56;
+        b[ib + 45*sb] = a66;
+        b[ib + 46*sb] = a76;
+        b[ib + 47*sb] = a86;
+        b[ib + 48*sb] = a17;
+        b[ib + 49*sb] = a27;
+        b[ib + 50*sb] = a37;
+        b[ib + 51*sb] = a47;
+        b[ib + 52*sb] = a57;
+        b[ib + 53*sb] = a67;
+        b[ib + 54*sb] = a77;
+        b[ib + 55*sb] = a87;
+        b[ib + 56*sb] = a18;
+        b[ib + 57*sb] = a28;
+        b[ib + 58*sb] = a38;
+        b[ib + 59*sb] = a48;
+        b[ib + 60*sb] = a58;
+        b[ib + 61*sb] = a68;
+        b[ib + 62*sb] = a78;
+        b[ib + 63*sb] = a88;
+    }
+
+    private static void mult( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                              double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa], a16 = a[ia + 5*sa], a17 = a[ia + 6*sa], a18 = a[ia + 7*sa];
+        double a21 = a[ia + 8*sa], a22 = a[ia + 9*sa], a23 = a[ia + 10*sa], a24 = a[ia + 11*sa], a25 = a[ia + 12*sa], a26 = a[ia + 13*sa], a27 = a[ia + 14*sa], a28 = a[ia + 15*sa];
+        double a31 = a[ia + 16*sa], a32 = a[ia + 17*sa], a33 = a[ia + 18*sa], a34 = a[ia + 19*sa], a35 = a[ia + 20*sa], a36 = a[ia + 21*sa], a37 = a[ia + 22*sa], a38 = a[ia + 23*sa];
+        double a41 = a[ia + 24*sa], a42 = a[ia + 25*sa], a43 = a[ia + 26*sa], a44 = a[ia + 27*sa], a45 = a[ia + 28*sa], a46 = a[ia + 29*sa], a47 = a[ia + 30*sa], a48 = a[ia + 31*sa];
+        double a51 = a[ia + 32*sa], a52 = a[ia + 33*sa], a53 = a[ia + 34*sa], a54 = a[ia + 35*sa], a55 = a[ia + 36*sa], a56 = a[ia + 37*sa], a57 = a[ia + 38*sa], a58 = a[ia + 39*sa];
+        double a61 = a[ia + 40*sa], a62 = a[ia + 41*sa], a63 = a[ia + 42*sa], a64 = a[ia + 43*sa], a65 = a[ia + 44*sa], a66 = a[ia + 45*sa], a67 = a[ia + 46*sa], a68 = a[ia + 47*sa];
+        double a71 = a[ia + 48*sa], a72 = a[ia + 49*sa], a73 = a[ia + 50*sa], a74 = a[ia + 51*sa], a75 = a[ia + 52*sa], a76 = a[ia + 53*sa], a77 = a[ia + 54*sa], a78 = a[ia + 55*sa];
+        double a81 = a[ia + 56*sa], a82 = a[ia + 57*sa], a83 = a[ia + 58*sa], a84 = a[ia + 59*sa], a85 = a[ia + 60*sa], a86 = a[ia + 61*sa], a87 = a[ia + 62*sa], a88 = a[ia + 63*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb], b14 = b[ib + 3*sb], b15 = b[ib + 4*sb], b16 = b[ib + 5*sb], b17 = b[ib + 6*sb], b18 = b[ib + 7*sb];
+        double b21 = b[ib + 8*sb], b22 = b[ib + 9*sb], b23 = b[ib + 10*sb], b24 = b[ib + 11*sb], b25 = b[ib + 12*sb], b26 = b[ib + 13*sb], b27 = b[ib + 14*sb], b28 = b[ib + 15*sb];
+        double b31 = b[ib + 16*sb], b32 = b[ib + 17*sb], b33 = b[ib + 18*sb], b34 = b[ib + 19*sb], b35 = b[ib + 20*sb], b36 = b[ib + 21*sb], b37 = b[ib + 22*sb], b38 = b[ib + 23*sb];
+        double b41 = b[ib + 24*sb], b42 = b[ib + 25*sb], b43 = b[ib + 26*sb], b44 = b[ib + 27*sb], b45 = b[ib + 28*sb], b46 = b[ib + 29*sb], b47 = b[ib + 30*sb], b48 = b[ib + 31*sb];
+        double b51 = b[ib + 32*sb], b52 = b[ib + 33*sb], b53 = b[ib + 34*sb], b54 = b[ib + 35*sb], b55 = b[ib + 36*sb], b56 = b[ib + 37*sb], b57 = b[ib + 38*sb], b58 = b[ib + 39*sb];
+        double b61 = b[ib + 40*sb], b62 = b[ib + 41*sb], b63 = b[ib + 42*sb], b64 = b[ib + 43*sb], b65 = b[ib + 44*sb], b66 = b[ib + 45*sb], b67 = b[ib + 46*sb], b68 = b[ib + 47*sb];
+        double b71 = b[ib + 48*sb], b72 = b[ib + 49*sb], b73 = b[ib + 50*sb], b74 = b[ib + 51*sb], b75 = b[ib + 52*sb], b76 = b[ib + 53*sb], b77 = b[ib + 54*sb], b78 = b[ib + 55*sb];
+        double b81 = b[ib + 56*sb], b82 = b[ib + 57*sb], b83 = b[ib + 58*sb], b84 = b[ib + 59*sb], b85 = b[ib + 60*sb], b86 = b[ib + 61*sb], b87 = b[ib + 62*sb], b88 = b[ib + 63*sb];
+        c[ic] = a11*b11 + a12*b21 + a13*b31 + a14*b41 + a15*b51 + a16*b61 + a17*b71 + a18*b81;
+        c[ic + sc] = a11*b12 + a12*b22 + a13*b32 + a14*b42 + a15*b52 + a16*b62 + a17*b72 + a18*b82;
+        c[ic + 2*sc] = a11*b13 + a12*b23 + a13*b33 + a14*b43 + a15*b53 + a16*b63 + a17*b73 + a18*b83;
+        c[ic + 3*sc] = a11*b14 + a12*b24 + a13*b34 + a14*b44 + a15*b54 + a16*b64 + a17*b74 + a18*b84;
+        c[ic + 4*sc] = a11*b15 + a12*b25 + a13*b35 + a14*b45 + a15*b55 + a16*b65 + a17*b75 + a18*b85;
+        c[ic + 5*sc] = a11*b16 + a12*b26 + a13*b36 + a14*b46 + a15*b56 + a16*b66 + a17*b76 + a18*b86;
+        c[ic + 6*sc] = a11*b17 + a12*b27 + a13*b37 + a14*b47 + a15*b57 + a16*b67 + a17*b77 + a18*b87;
+        c[ic + 7*sc] = a11*b18 + a12*b28 + a13*b38 + a14*b48 + a15*b58 + a16*b68 + a17*b78 + a18*b88;
+        c[ic + 8*sc] = a21*b11 + a22*b21 + a23*b31 + a24*b41 + a25*b51 + a26*b61 + a27*b71 + a28*b81;
+        c[ic + 9*sc] = a21*b12 + a22*b22 + a23*b32 + a24*b42 + a25*b52 + a26*b62 + a27*b72 + a28*b82;
+        c[ic + 10*sc] = a21*b13 + a22*b23 + a23*b33 + a24*b43 + a25*b53 + a26*b63 + a27*b73 + a28*b83;
+        c[ic + 11*sc] = a21*b14 + a22*b24 + a23*b34 + a24*b44 + a25*b54 + a26*b64 + a27*b74 + a28*b84;
+        c[ic + 12*sc] = a21*b15 + a22*b25 + a23*b35 + a24*b45 + a25*b55 + a26*b65 + a27*b75 + a28*b85;
+        c[ic + 13*sc] = a21*b16 + a22*b26 + a23*b36 + a24*b46 + a25*b56 + a26*b66 + a27*b76 + a28*b86;
+        c[ic + 14*sc] = a21*b17 + a22*b27 + a23*b37 + a24*b47 + a25*b57 + a26*b67 + a27*b77 + a28*b87;
+        c[ic + 15*sc] = a21*b18 + a22*b28 + a23*b38 + a24*b48 + a25*b58 + a26*b68 + a27*b78 + a28*b88;
+        c[ic + 16*sc] = a31*b11 + a32*b21 + a33*b31 + a34*b41 + a35*b51 + a36*b61 + a37*b71 + a38*b81;
+        c[ic + 17*sc] = a31*b12 + a32*b22 + a33*b32 + a34*b42 + a35*b52 + a36*b62 + a37*b72 + a38*b82;
+        c[ic + 18*sc] = a31*b13 + a32*b23 + a33*b33 + a34*b43 + a35*b53 + a36*b63 + a37*b73 + a38*b83;
+        c[ic + 19*sc] = a31*b14 + a32*b24 + a33*b34 + a34*b44 + a35*b54 + a36*b64 + a37*b74 + a38*b84;
+        c[ic + 20*sc] = a31*b15 + a32*b25 + a33*b35 + a34*b45 + a35*b55 + a36*b65 + a37*b75 + a38*b85;
+        c[ic + 21*sc] = a31*b16 + a32*b26 + a33*b36 + a34*b46 + a35*b56 + a36*b66 + a37*b76 + a38*b86;
+        c[ic + 22*sc] = a31*b17 + a32*b27 + a33*b37 + a34*b47 + a35*b57 + a36*b67 + a37*b77 + a38*b87;
+        c[ic + 23*sc] = a31*b18 + a32*b28 + a33*b38 + a34*b48 + a35*b58 + a36*b68 + a37*b78 + a38*b88;
+        c[ic + 24*sc] = a41*b11 + a42*b21 + a43*b31 + a44*b41 + a45*b51 + a46*b61 + a47*b71 + a48*b81;
+        c[ic + 25*sc] = a41*b12 + a42*b22 + a43*b32 + a44*b42 + a45*b52 + a46*b62 + a47*b72 + a48*b82;
+        c[ic + 26*sc] = a41*b13 + a42*b23 + a43*b33 + a44*b43 + a45*b53 + a46*b63 + a47*b73 + a48*b83;
+        c[ic + 27*sc] = a41*b14 + a42*b24 + a43*b34 + a44*b44 + a45*b54 + a46*b64 + a47*b74 + a48*b84;
+        c[ic + 28*sc] = a41*b15 + a42*b25 + a43*b35 + a44*b45 + a45*b55 + a46*b65 + a47*b75 + a48*b85;
+        c[ic + 29*sc] = a41*b16 + a42*b26 + a43*b36 + a44*b46 + a45*b56 + a46*b66 + a47*b76 + a48*b86;
+        c[ic + 30*sc] = a41*b17 + a42*b27 + a43*b37 + a44*b47 + a45*b57 + a46*b67 + a47*b77 + a48*b87;
+        c[ic + 31*sc] = a41*b18 + a42*b28 + a43*b38 + a44*b48 + a45*b58 + a46*b68 + a47*b78 + a48*b88;
+        c[ic + 32*sc] = a51*b11 + a52*b21 + a53*b31 + a54*b41 + a55*b51 + a56*b61 + a57*b71 + a58*b81;
+        c[ic + 33*sc] = a51*b12 + a52*b22 + a53*b32 + a54*b42 + a55*b52 + a56*b62 + a57*b72 + a58*b82;
+        c[ic + 34*sc] = a51*b13 + a52*b23 + a53*b33 + a54*b43 + a55*b53 + a56*b63 + a57*b73 + a58*b83;
+        c[ic + 35*sc] = a51*b14 + a52*b24 + a53*b34 + a54*b44 + a55*b54 + a56*b64 + a57*b74 + a58*b84;
+        c[ic + 36*sc] = a51*b15 + a52*b25 + a53*b35 + a54*b45 + a55*b55 + a56*b65 + a57*b75 + a58*b85;
+        c[ic + 37*sc] = a51*b16 + a52*b26 + a53*b36 + a54*b46 + a55*b56 + a56*b66 + a57*b76 + a58*b86;
+        c[ic + 38*sc] = a51*b17 + a52*b27 + a53*b37 + a54*b47 + a55*b57 + a56*b67 + a57*b77 + a58*b87;
+        c[ic + 39*sc] = a51*b18 + a52*b28 + a53*b38 + a54*b48 + a55*b58 + a56*b68 + a57*b78 + a58*b88;
+        c[ic + 40*sc] = a61*b11 + a62*b21 + a63*b31 + a64*b41 + a65*b51 + a66*b61 + a67*b71 + a68*b81;
+        c[ic + 41*sc] = a61*b12 + a62*b22 + a63*b32 + a64*b42 + a65*b52 + a66*b62 + a67*b72 + a68*b82;
+        c[ic + 42*sc] = a61*b13 + a62*b23 + a63*b33 + a64*b43 + a65*b53 + a66*b63 + a67*b73 + a68*b83;
+        c[ic + 43*sc] = a61*b14 + a62*b24 + a63*b34 + a64*b44 + a65*b54 + a66*b64 + a67*b74 + a68*b84;
+        c[ic + 44*sc] = a61*b15 + a62*b25 + a63*b35 + a64*b45 + a65*b55 + a66*b65 + a67*b75 + a68*b85;
+        c[ic + 45*sc] = a61*b16 + a62*b26 + a63*b36 + a64*b46 + a65*b56 + a66*b66 + a67*b76 + a68*b86;
+        c[ic + 46*sc] = a61*b17 + a62*b27 + a63*b37 + a64*b47 + a65*b57 + a66*b67 + a67*b77 + a68*b87;
+        c[ic + 47*sc] = a61*b18 + a62*b28 + a63*b38 + a64*b48 + a65*b58 + a66*b68 + a67*b78 + a68*b88;
+        c[ic + 48*sc] = a71*b11 + a72*b21 + a73*b31 + a74*b41 + a75*b51 + a76*b61 + a77*b71 + a78*b81;
+        c[ic + 49*sc] = a71*b12 + a72*b22 + a73*b32 + a74*b42 + a75*b52 + a76*b62 + a77*b72 + a78*b82;
+        c[ic + 50*sc] = a71*b13 + a72*b23 + a73*b33 + a74*b43 + a75*b53 + a76*b63 + a77*b73 + a78*b83;
+        c[ic + 51*sc] = a71*b14 + a72*b24 + a73*b34 + a74*b44 + a75*b54 + a76*b64 + a77*b74 + a78*b84;
+        c[ic + 52*sc] = a71*b15 + a72*b25 + a73*b35 + a74*b45 + a75*b55 + a76*b65 + a77*b75 + a78*b85;
+        c[ic + 53*sc] = a71*b16 + a72*b26 + a73*b36 + a74*b46 + a75*b56 + a76*b66 + a77*b76 + a78*b86;
+        c[ic + 54*sc] = a71*b17 + a72*b27 + a73*b37 + a74*b47 + a75*b57 + a76*b67 + a77*b77 + a78*b87;
+        c[ic + 55*sc] = a71*b18 + a72*b28 + a73*b38 + a74*b48 + a75*b58 + a76*b68 + a77*b78 + a78*b88;
+        c[ic + 56*sc] = a81*b11 + a82*b21 + a83*b31 + a84*b41 + a85*b51 + a86*b61 + a87*b71 + a88*b81;
+        c[ic + 57*sc] = a81*b12 + a82*b22 + a83*b32 + a84*b42 + a85*b52 + a86*b62 + a87*b72 + a88*b82;
+        c[ic + 58*sc] = a81*b13 + a82*b23 + a83*b33 + a84*b43 + a85*b53 + a86*b63 + a87*b73 + a88*b83;
+        c[ic + 59*sc] = a81*b14 + a82*b24 + a83*b34 + a84*b44 + a85*b54 + a86*b64 + a87*b74 + a88*b84;
+        c[ic + 60*sc] = a81*b15 + a82*b25 + a83*b35 + a84*b45 + a85*b55 + a86*b65 + a87*b75 + a88*b85;
+        c[ic + 61*sc] = a81*b16 + a82*b26 + a83*b36 + a84*b46 + a85*b56 + a86*b66 + a87*b76 + a88*b86;
+        c[ic + 62*sc] = a81*b17 + a82*b27 + a83*b37 + a84*b47 + a85*b57 + a86*b67 + a87*b77 + a88*b87;
+        c[ic + 63*sc] = a81*b18 + a82*b28 + a83*b38 + a84*b48 + a85*b58 + a86*b68 + a87*b78 + a88*b88;
+    }
+
+    private static void multTransA( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                                    double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa], a16 = a[ia + 5*sa], a17 = a[ia + 6*sa], a18 = a[ia + 7*sa];
+        double a21 = a[ia + 8*sa], a22 = a[ia + 9*sa], a23 = a[ia + 10*sa], a24 = a[ia + 11*sa], a25 = a[ia + 12*sa], a26 = a[ia + 13*sa], a27 = a[ia + 14*sa], a28 = a[ia + 15*sa];
+        double a31 = a[ia + 16*sa], a32 = a[ia + 17*sa], a33 = a[ia + 18*sa], a34 = a[ia + 19*sa], a35 = a[ia + 20*sa], a36 = a[ia + 21*sa], a37 = a[ia + 22*sa], a38 = a[ia + 23*sa];
+        double a41 = a[ia + 24*sa], a42 = a[ia + 25*sa], a43 = a[ia + 26*sa], a44 = a[ia + 27*sa], a45 = a[ia + 28*sa], a46 = a[ia + 29*sa], a47 = a[ia + 30*sa], a48 = a[ia + 31*sa];
+        double a51 = a[ia + 32*sa], a52 = a[ia + 33*sa], a53 = a[ia + 34*sa], a54 = a[ia + 35*sa], a55 = a[ia + 36*sa], a56 = a[ia + 37*sa], a57 = a[ia + 38*sa], a58 = a[ia + 39*sa];
+        double a61 = a[ia + 40*sa], a62 = a[ia + 41*sa], a63 = a[ia + 42*sa], a64 = a[ia + 43*sa], a65 = a[ia + 44*sa], a66 = a[ia + 45*sa], a67 = a[ia + 46*sa], a68 = a[ia + 47*sa];
+        double a71 = a[ia + 48*sa], a72 = a[ia + 49*sa], a73 = a[ia + 50*sa], a74 = a[ia + 51*sa], a75 = a[ia + 52*sa], a76 = a[ia + 53*sa], a77 = a[ia + 54*sa], a78 = a[ia + 55*sa];
+        double a81 = a[ia + 56*sa], a82 = a[ia + 57*sa], a83 = a[ia + 58*sa], a84 = a[ia + 59*sa], a85 = a[ia + 60*sa], a86 = a[ia + 61*sa], a87 = a[ia + 62*sa], a88 = a[ia + 63*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb], b14 = b[ib + 3*sb], b15 = b[ib + 4*sb], b16 = b[ib + 5*sb], b17 = b[ib + 6*sb], b18 = b[ib + 7*sb];
+        double b21 = b[ib + 8*sb], b22 = b[ib + 9*sb], b23 = b[ib + 10*sb], b24 = b[ib + 11*sb], b25 = b[ib + 12*sb], b26 = b[ib + 13*sb], b27 = b[ib + 14*sb], b28 = b[ib + 15*sb];
+        double b31 = b[ib + 16*sb], b32 = b[ib + 17*sb], b33 = b[ib + 18*sb], b34 = b[ib + 19*sb], b35 = b[ib + 20*sb], b36 = b[ib + 21*sb], b37 = b[ib + 22*sb], b38 = b[ib + 23*sb];
+        double b41 = b[ib + 24*sb], b42 = b[ib + 25*sb], b43 = b[ib + 26*sb], b44 = b[ib + 27*sb], b45 = b[ib + 28*sb], b46 = b[ib + 29*sb], b47 = b[ib + 30*sb], b48 = b[ib + 31*sb];
+        double b51 = b[ib + 32*sb], b52 = b[ib + 33*sb], b53 = b[ib + 34*sb], b54 = b[ib + 35*sb], b55 = b[ib + 36*sb], b56 = b[ib + 37*sb], b57 = b[ib + 38*sb], b58 = b[ib + 39*sb];
+        double b61 = b[ib + 40*sb], b62 = b[ib + 41*sb], b63 = b[ib + 42*sb], b64 = b[ib + 43*sb], b65 = b[ib + 44*sb], b66 = b[ib + 45*sb], b67 = b[ib + 46*sb], b68 = b[ib + 47*sb];
+        double b71 = b[ib + 48*sb], b72 = b[ib + 49*sb], b73 = b[ib + 50*sb], b74 = b[ib + 51*sb], b75 = b[ib + 52*sb], b76 = b[ib + 53*sb], b77 = b[ib + 54*sb], b78 = b[ib + 55*sb];
+        double b81 = b[ib + 56*sb], b82 = b[ib + 57*sb], b83 = b[ib + 58*sb], b84 = b[ib + 59*sb], b85 = b[ib + 60*sb], b86 = b[ib + 61*sb], b87 = b[ib + 62*sb], b88 = b[ib + 63*sb];
+        c[ic] = a11*b11 + a21*b21 + a31*b31 + a41*b41 + a51*b51 + a61*b61 + a71*b71 + a81*b81;
+        c[ic + sc] = a11*b12 + a21*b22 + a31*b32 + a41*b42 + a51*b52 + a61*b62 + a71*b72 + a81*b82;
+        c[ic + 2*sc] = a11*b13 + a21*b23 + a31*b33 + a41*b43 + a51*b53 + a61*b63 + a71*b73 + a81*b83;
+        c[ic + 3*sc] = a11*b14 + a21*b24 + a31*b34 + a41*b44 + a51*b54 + a61*b64 + a71*b74 + a81*b84;
+        c[ic + 4*sc] = a11*b15 + a21*b25 + a31*b35 + a41*b45 + a51*b55 + a61*b65 + a71*b75 + a81*b85;
+        c[ic + 5*sc] = a11*b16 + a21*b26 + a31*b36 + a41*b46 + a51*b56 + a61*b66 + a71*b76 + a81*b86;
+        c[ic + 6*sc] = a11*b17 + a21*b27 + a31*b37 + a41*b47 + a51*b57 + a61*b67 + a71*b77 + a81*b87;
+        c[ic + 7*sc] = a11*b18 + a21*b28 + a31*b38 + a41*b48 + a51*b58 + a61*b68 + a71*b78 + a81*b88;
+        c[ic + 8*sc] = a12*b11 + a22*b21 + a32*b31 + a42*b41 + a52*b51 + a62*b61 + a72*b71 + a82*b81;
+        c[ic + 9*sc] = a12*b12 + a22*b22 + a32*b32 + a42*b42 + a52*b52 + a62*b62 + a72*b72 + a82*b82;
+        c[ic + 10*sc] = a12*b13 + a22*b23 + a32*b33 + a42*b43 + a52*b53 + a62*b63 + a72*b73 + a82*b83;
+        c[ic + 11*sc] = a12*b14 + a22*b24 + a32*b34 + a42*b44 + a52*b54 + a62*b64 + a72*b74 + a82*b84;
+        c[ic + 12*sc] = a12*b15 + a22*b25 + a32*b35 + a42*b45 + a52*b55 + a62*b65 + a72*b75 + a82*b85;
+        c[ic + 13*sc] = a12*b16 + a22*b26 + a32*b36 + a42*b46 + a52*b56 + a62*b66 + a72*b76 + a82*b86;
+        c[ic + 14*sc] = a12*b17 + a22*b27 + a32*b37 + a42*b47 + a52*b57 + a62*b67 + a72*b77 + a82*b87;
+        c[ic + 15*sc] = a12*b18 + a22*b28 + a32*b38 + a42*b48 + a52*b58 + a62*b68 + a72*b78 + a82*b88;
+        c[ic + 16*sc] = a13*b11 + a23*b21 + a33*b31 + a43*b41 + a53*b51 + a63*b61 + a73*b71 + a83*b81;
+        c[ic + 17*sc] = a13*b12 + a23*b22 + a33*b32 + a43*b42 + a53*b52 + a63*b62 + a73*b72 + a83*b82;
+        c[ic + 18*sc] = a13*b13 + a23*b23 + a33*b33 + a43*b43 + a53*b53 + a63*b63 + a73*b73 + a83*b83;
+        c[ic + 19*sc] = a13*b14 + a23*b24 + a33*b34 + a43*b44 + a53*b54 + a63*b64 + a73*b74 + a83*b84;
+        c[ic + 20*sc] = a13*b15 + a23*b25 + a33*b35 + a43*b45 + a53*b55 + a63*b65 + a73*b75 + a83*b85;
+        c[ic + 21*sc] = a13*b16 + a23*b26 + a33*b36 + a43*b46 + a53*b56 + a63*b66 + a73*b76 + a83*b86;
+        c[ic + 22*sc] = a13*b17 + a23*b27 + a33*b37 + a43*b47 + a53*b57 + a63*b67 + a73*b77 + a83*b87;
+        c[ic + 23*sc] = a13*b18 + a23*b28 + a33*b38 + a43*b48 + a53*b58 + a63*b68 + a73*b78 + a83*b88;
+        c[ic + 24*sc] = a14*b11 + a24*b21 + a34*b31 + a44*b41 + a54*b51 + a64*b61 + a74*b71 + a84*b81;
+        c[ic + 25*sc] = a14*b12 + a24*b22 + a34*b32 + a44*b42 + a54*b52 + a64*b62 + a74*b72 + a84*b82;
+        c[ic + 26*sc] = a14*b13 + a24*b23 + a34*b33 + a44*b43 + a54*b53 + a64*b63 + a74*b73 + a84*b83;
+        c[ic + 27*sc] = a14*b14 + a24*b24 + a34*b34 + a44*b44 + a54*b54 + a64*b64 + a74*b74 + a84*b84;
+        c[ic + 28*sc] = a14*b15 + a24*b25 + a34*b35 + a44*b45 + a54*b55 + a64*b65 + a74*b75 + a84*b85;
+        c[ic + 29*sc] = a14*b16 + a24*b26 + a34*b36 + a44*b46 + a54*b56 + a64*b66 + a74*b76 + a84*b86;
+        c[ic + 30*sc] = a14*b17 + a24*b27 + a34*b37 + a44*b47 + a54*b57 + a64*b67 + a74*b77 + a84*b87;
+        c[ic + 31*sc] = a14*b18 + a24*b28 + a34*b38 + a44*b48 + a54*b58 + a64*b68 + a74*b78 + a84*b88;
+        c[ic + 32*sc] = a15*b11 + a25*b21 + a35*b31 + a45*b41 + a55*b51 + a65*b61 + a75*b71 + a85*b81;
+        c[ic + 33*sc] = a15*b12 + a25*b22 + a35*b32 + a45*b42 + a55*b52 + a65*b62 + a75*b72 + a85*b82;
+        c[ic + 34*sc] = a15*b13 + a25*b23 + a35*b33 + a45*b43 + a55*b53 + a65*b63 + a75*b73 + a85*b83;
+        c[ic + 35*sc] = a15*b14 + a25*b24 + a35*b34 + a45*b44 + a55*b54 + a65*b64 + a75*b74 + a85*b84;
+        c[ic + 36*sc] = a15*b15 + a25*b25 + a35*b35 + a45*b45 + a55*b55 + a65*b65 + a75*b75 + a85*b85;
+        c[ic + 37*sc] = a15*b16 + a25*b26 + a35*b36 + a45*b46 + a55*b56 + a65*b66 + a75*b76 + a85*b86;
+        c[ic + 38*sc] = a15*b17 + a25*b27 + a35*b37 + a45*b47 + a55*b57 + a65*b67 + a75*b77 + a85*b87;
+        c[ic + 39*sc] = a15*b18 + a25*b28 + a35*b38 + a45*b48 + a55*b58 + a65*b68 + a75*b78 + a85*b88;
+        c[ic + 40*sc] = a16*b11 + a26*b21 + a36*b31 + a46*b41 + a56*b51 + a66*b61 + a76*b71 + a86*b81;
+        c[ic + 41*sc] = a16*b12 + a26*b22 + a36*b32 + a46*b42 + a56*b52 + a66*b62 + a76*b72 + a86*b82;
+        c[ic + 42*sc] = a16*b13 + a26*b23 + a36*b33 + a46*b43 + a56*b53 + a66*b63 + a76*b73 + a86*b83;
+        c[ic + 43*sc] = a16*b14 + a26*b24 + a36*b34 + a46*b44 + a56*b54 + a66*b64 + a76*b74 + a86*b84;
+        c[ic + 44*sc] = a16*b15 + a26*b25 + a36*b35 + a46*b45 + a56*b55 + a66*b65 + a76*b75 + a86*b85;
+        c[ic + 45*sc] = a16*b16 + a26*b26 + a36*b36 + a46*b46 + a56*b56 + a66*b66 + a76*b76 + a86*b86;
+        c[ic + 46*sc] = a16*b17 + a26*b27 + a36*b37 + a46*b47 + a56*b57 + a66*b67 + a76*b77 + a86*b87;
+        c[ic + 47*sc] = a16*b18 + a26*b28 + a36*b38 + a46*b48 + a56*b58 + a66*b68 + a76*b78 + a86*b88;
+        c[ic + 48*sc] = a17*b11 + a27*b21 + a37*b31 + a47*b41 + a57*b51 + a67*b61 + a77*b71 + a87*b81;
+        c[ic + 49*sc] = a17*b12 + a27*b22 + a37*b32 + a47*b42 + a57*b52 + a67*b62 + a77*b72 + a87*b82;
+        c[ic + 50*sc] = a17*b13 + a27*b23 + a37*b33 + a47*b43 + a57*b53 + a67*b63 + a77*b73 + a87*b83;
+        c[ic + 51*sc] = a17*b14 + a27*b24 + a37*b34 + a47*b44 + a57*b54 + a67*b64 + a77*b74 + a87*b84;
+        c[ic + 52*sc] = a17*b15 + a27*b25 + a37*b35 + a47*b45 + a57*b55 + a67*b65 + a77*b75 + a87*b85;
+        c[ic + 53*sc] = a17*b16 + a27*b26 + a37*b36 + a47*b46 + a57*b56 + a67*b66 + a77*b76 + a87*b86;
+        c[ic + 54*sc] = a17*b17 + a27*b27 + a37*b37 + a47*b47 + a57*b57 + a67*b67 + a77*b77 + a87*b87;
+        c[ic + 55*sc] = a17*b18 + a27*b28 + a37*b38 + a47*b48 + a57*b58 + a67*b68 + a77*b78 + a87*b88;
+        c[ic + 56*sc] = a18*b11 + a28*b21 + a38*b31 + a48*b41 + a58*b51 + a68*b61 + a78*b71 + a88*b81;
+        c[ic + 57*sc] = a18*b12 + a28*b22 + a38*b32 + a48*b42 + a58*b52 + a68*b62 + a78*b72 + a88*b82;
+        c[ic + 58*sc] = a18*b13 + a28*b23 + a38*b33 + a48*b43 + a58*b53 + a68*b63 + a78*b73 + a88*b83;
+        c[ic + 59*sc] = a18*b14 + a28*b24 + a38*b34 + a48*b44 + a58*b54 + a68*b64 + a78*b74 + a88*b84;
+        c[ic + 60*sc] = a18*b15 + a28*b25 + a38*b35 + a48*b45 + a58*b55 + a68*b65 + a78*b75 + a88*b85;
+        c[ic + 61*sc] = a18*b16 + a28*b26 + a38*b36 + a48*b46 + a58*b56 + a68*b66 + a78*b76 + a88*b86;
+        c[ic + 62*sc] = a18*b17 + a28*b27 + a38*b37 + a48*b47 + a58*b57 + a68*b67 + a78*b77 + a88*b87;
+        c[ic + 63*sc] = a18*b18 + a28*b28 + a38*b38 + a48*b48 + a58*b58 + a68*b68 + a78*b78 + a88*b88;
+    }
+
+    private static void multTransB( double[] a, int ia, int sa, double[] b, int ib, int sb,
+                                    double[] c, int ic, int sc ) {
+        double a11 = a[ia], a12 = a[ia + sa], a13 = a[ia + 2*sa], a14 = a[ia + 3*sa], a15 = a[ia + 4*sa], a16 = a[ia + 5*sa], a17 = a[ia + 6*sa], a18 = a[ia + 7*sa];
+        double a21 = a[ia + 8*sa], a22 = a[ia + 9*sa], a23 = a[ia + 10*sa], a24 = a[ia + 11*sa], a25 = a[ia + 12*sa], a26 = a[ia + 13*sa], a27 = a[ia + 14*sa], a28 = a[ia + 15*sa];
+        double a31 = a[ia + 16*sa], a32 = a[ia + 17*sa], a33 = a[ia + 18*sa], a34 = a[ia + 19*sa], a35 = a[ia + 20*sa], a36 = a[ia + 21*sa], a37 = a[ia + 22*sa], a38 = a[ia + 23*sa];
+        double a41 = a[ia + 24*sa], a42 = a[ia + 25*sa], a43 = a[ia + 26*sa], a44 = a[ia + 27*sa], a45 = a[ia + 28*sa], a46 = a[ia + 29*sa], a47 = a[ia + 30*sa], a48 = a[ia + 31*sa];
+        double a51 = a[ia + 32*sa], a52 = a[ia + 33*sa], a53 = a[ia + 34*sa], a54 = a[ia + 35*sa], a55 = a[ia + 36*sa], a56 = a[ia + 37*sa], a57 = a[ia + 38*sa], a58 = a[ia + 39*sa];
+        double a61 = a[ia + 40*sa], a62 = a[ia + 41*sa], a63 = a[ia + 42*sa], a64 = a[ia + 43*sa], a65 = a[ia + 44*sa], a66 = a[ia + 45*sa], a67 = a[ia + 46*sa], a68 = a[ia + 47*sa];
+        double a71 = a[ia + 48*sa], a72 = a[ia + 49*sa], a73 = a[ia + 50*sa], a74 = a[ia + 51*sa], a75 = a[ia + 52*sa], a76 = a[ia + 53*sa], a77 = a[ia + 54*sa], a78 = a[ia + 55*sa];
+        double a81 = a[ia + 56*sa], a82 = a[ia + 57*sa], a83 = a[ia + 58*sa], a84 = a[ia + 59*sa], a85 = a[ia + 60*sa], a86 = a[ia + 61*sa], a87 = a[ia + 62*sa], a88 = a[ia + 63*sa];
+        double b11 = b[ib], b12 = b[ib + sb], b13 = b[ib + 2*sb], b14 = b[ib + 3*sb], b15 = b[ib + 4*sb], b16 = b[ib + 5*sb], b17 = b[ib + 6*sb], b18 = b[ib + 7*sb];
+        double b21 = b[ib + 8*sb], b22 = b[ib + 9*sb], b23 = b[ib + 10*sb], b24 = b[ib + 11*sb], b25 = b[ib + 12*sb], b26 = b[ib + 13*sb], b27 = b[ib + 14*sb], b28 = b[ib + 15*sb];
+        double b31 = b[ib + 16*sb], b32 = b[ib + 17*sb], b33 = b[ib + 18*sb], b34 = b[ib + 19*sb], b35 = b[ib + 20*sb], b36 = b[ib + 21*sb], b37 = b[ib + 22*sb], b38 = b[ib + 23*sb];
+        double b41 = b[ib + 24*sb], b42 = b[ib + 25*sb], b43 = b[ib + 26*sb], b44 = b[ib + 27*sb], b45 = b[ib + 28*sb], b46 = b[ib + 29*sb], b47 = b[ib + 30*sb], b48 = b[ib + 31*sb];
+        double b51 = b[ib + 32*sb], b52 = b[ib + 33*sb], b53 = b[ib + 34*sb], b54 = b[ib + 35*sb], b55 = b[ib + 36*sb], b56 = b[ib + 37*sb], b57 = b[ib + 38*sb], b58 = b[ib + 39*sb];
+        double b61 = b[ib + 40*sb], b62 = b[ib + 41*sb], b63 = b[ib + 42*sb], b64 = b[ib + 43*sb], b65 = b[ib + 44*sb], b66 = b[ib + 45*sb], b67 = b[ib + 46*sb], b68 = b[ib + 47*sb];
+        double b71 = b[ib + 48*sb], b72 = b[ib + 49*sb], b73 = b[ib + 50*sb], b74 = b[ib + 51*sb], b75 = b[ib + 52*sb], b76 = b[ib + 53*sb], b77 = b[ib + 54*sb], b78 = b[ib + 55*sb];
+        double b81 = b[ib + 56*sb], b82 = b[ib + 57*sb], b83 = b[ib + 58*sb], b84 = b[ib + 59*sb], b85 = b[ib + 60*sb], b86 = b[ib + 61*sb], b87 = b[ib + 62*sb], b88 = b[ib + 63*sb];
+        c[ic] = a11*b11 + a12*b12 + a13*b13 + a14*b14 + a15*b15 + a16*b16 + a17*b17 + a18*b18;
+        c[ic + sc] = a11*b21 + a12*b22 + a13*b23 + a14*b24 + a15*b25 + a16*b26 + a17*b27 + a18*b28;
+        c[ic + 2*sc] = a11*b31 + a12*b32 + a13*b33 + a14*b34 + a15*b35 + a16*b36 + a17*b37 + a18*b38;
+        c[ic + 3*sc] = a11*b41 + a12*b42 + a13*b43 + a14*b44 + a15*b45 + a16*b46 + a17*b47 + a18*b48;
+        c[ic + 4*sc] = a11*b51 + a12*b52 + a13*b53 + a14*b54 + a15*b55 + a16*b56 + a17*b57 + a18*b58;
+        c[ic + 5*sc] = a11*b61 + a12*b62 + a13*b63 + a14*b64 + a15*b65 + a16*b66 + a17*b67 + a18*b68;
+        c[ic + 6*sc] = a11*b71 + a12*b72 + a13*b73 + a14*b74 + a15*b75 + a16*b76 + a17*b77 + a18*b78;
+        c[ic + 7*sc] = a11*b81 + a12*b82 + a13*b83 + a14*b84 + a15*b85 + a16*b86 + a17*b87 + a18*b88;
+        c[ic + 8*sc] = a21*b11 + a22*b12 + a23*b13 + a24*b14 + a25*b15 + a26*b16 + a27*b17 + a28*b18;
+        c[ic + 9*sc] = a21*b21 + a22*b22 + a23*b23 + a24*b24 + a25*b25 + a26*b26 + a27*b27 + a28*b28;
+        c[ic + 10*sc] = a21*b31 + a22*b32 + a23*b33 + a24*b34 + a25*b35 + a26*b36 + a27*b37 + a28*b38;
+        c[ic + 11*sc] = a21*b41 + a22*b42 + a23*b43 + a24*b44 + a25*b45 + a26*b46 + a27*b47 + a28*b48;
+        c[ic + 12*sc] = a21*b51 + a22*b52 + a23*b53 + a24*b54 + a25*b55 + a26*b56 + a27*b57 + a28*b58;
+        c[ic + 13*sc] = a21*b61 + a22*b62 + a23*b63 + a24*b64 + a25*b65 + a26*b66 + a27*b67 + a28*b68;
+        c[ic + 14*sc] = a21*b71 + a22*b72 + a23*b73 + a24*b74 + a25*b75 + a26*b76 + a27*b77 + a28*b78;
+        c[ic + 15*sc] = a21*b81 + a22*b82 + a23*b83 + a24*b84 + a25*b85 + a26*b86 + a27*b87 + a28*b88;
+        c[ic + 16*sc] = a31*b11 + a32*b12 + a33*b13 + a34*b14 + a35*b15 + a36*b16 + a37*b17 + a38*b18;
+        c[ic + 17*sc] = a31*b21 + a32*b22 + a33*b23 + a34*b24 + a35*b25 + a36*b26 + a37*b27 + a38*b28;
+        c[ic + 18*sc] = a31*b31 + a32*b32 + a33*b33 + a34*b34 + a35*b35 + a36*b36 + a37*b37 + a38*b38;
+        c[ic + 19*sc] = a31*b41 + a32*b42 + a33*b43 + a34*b44 + a35*b45 + a36*b46 + a37*b47 + a38*b48;
+        c[ic + 20*sc] = a31*b51 + a32*b52 + a33*b53 + a34*b54 + a35*b55 + a36*b56 + a37*b57 + a38*b58;
+        c[ic + 21*sc] = a31*b61 + a32*b62 + a33*b63 + a34*b64 + a35*b65 + a36*b66 + a37*b67 + a38*b68;
+        c[ic + 22*sc] = a31*b71 + a32*b72 + a33*b73 + a34*b74 + a35*b75 + a36*b76 + a37*b77 + a38*b78;
+        c[ic + 23*sc] = a31*b81 + a32*b82 + a33*b83 + a34*b84 + a35*b85 + a36*b86 + a37*b87 + a38*b88;
+        c[ic + 24*sc] = a41*b11 + a42*b12 + a43*b13 + a44*b14 + a45*b15 + a46*b16 + a47*b17 + a48*b18;
+        c[ic + 25*sc] = a41*b21 + a42*b22 + a43*b23 + a44*b24 + a45*b25 + a46*b26 + a47*b27 + a48*b28;
+        c[ic + 26*sc] = a41*b31 + a42*b32 + a43*b33 + a44*b34 + a45*b35 + a46*b36 + a47*b37 + a48*b38;
+        c[ic + 27*sc] = a41*b41 + a42*b42 + a43*b43 + a44*b44 + a45*b45 + a46*b46 + a47*b47 + a48*b48;
+        c[ic + 28*sc] = a41*b51 + a42*b52 + a43*b53 + a44*b54 + a45*b55 + a46*b56 + a47*b57 + a48*b58;
+        c[ic + 29*sc] = a41*b61 + a42*b62 + a43*b63 + a44*b64 + a45*b65 + a46*b66 + a47*b67 + a48*b68;
+        c[ic + 30*sc] = a41*b71 + a42*b72 + a43*b73 + a44*b74 + a45*b75 + a46*b76 + a47*b77 + a48*b78;
+        c[ic + 31*sc] = a41*b81 + a42*b82 + a43*b83 + a44*b84 + a45*b85 + a46*b86 + a47*b87 + a48*b88;
+        c[ic + 32*sc] = a51*b11 + a52*b12 + a53*b13 + a54*b14 + a55*b15 + a56*b16 + a57*b17 + a58*b18;
+        c[ic + 33*sc] = a51*b21 + a52*b22 + a53*b23 + a54*b24 + a55*b25 + a56*b26 + a57*b27 + a58*b28;
+        c[ic + 34*sc] = a51*b31 + a52*b32 + a53*b33 + a54*b34 + a55*b35 + a56*b36 + a57*b37 + a58*b38;
+        c[ic + 35*sc] = a51*b41 + a52*b42 + a53*b43 + a54*b44 + a55*b45 + a56*b46 + a57*b47 + a58*b48;
+        c[ic + 36*sc] = a51*b51 + a52*b52 + a53*b53 + a54*b54 + a55*b55 + a56*b56 + a57*b57 + a58*b58;
+        c[ic + 37*sc] = a51*b61 + a52*b62 + a53*b63 + a54*b64 + a55*b65 + a56*b66 + a57*b67 + a58*b68;
+        c[ic + 38*sc] = a51*b71 + a52*b72 + a53*b73 + a54*b74 + a55*b75 + a56*b76 + a57*b77 + a58*b78;
+        c[ic + 39*sc] = a51*b81 + a52*b82 + a53*b83 + a54*b84 + a55*b85 + a56*b86 + a57*b87 + a58*b88;
+        c[ic + 40*sc] = a61*b11 + a62*b12 + a63*b13 + a64*b14 + a65*b15 + a66*b16 + a67*b17 + a68*b18;
+        c[ic + 41*sc] = a61*b21 + a62*b22 + a63*b23 + a64*b24 + a65*b25 + a66*b26 + a67*b27 + a68*b28;
+        c[ic + 42*sc] = a61*b31 + a62*b32 + a63*b33 + a64*b34 + a65*b35 + a66*b36 + a67*b37 + a68*b38;
+        c[ic + 43*sc] = a61*b41 + a62*b42 + a63*b43 + a64*b44 + a65*b45 + a66*b46 + a67*b47 + a68*b48;
+        c[ic + 44*sc] = a61*b51 + a62*b52 + a63*b53 + a64*b54 + a65*b55 + a66*b56 + a67*b57 + a68*b58;
+        c[ic + 45*sc] = a61*b61 + a62*b62 + a63*b63 + a64*b64 + a65*b65 + a66*b66 + a67*b67 + a68*b68;
+        c[ic + 46*sc] = a61*b71 + a62*b72 + a63*b73 + a64*b74 + a65*b75 + a66*b76 + a67*b77 + a68*b78;
+        c[ic + 47*sc] = a61*b81 + a62*b82 + a63*b83 + a64*b84 + a65*b85 + a66*b86 + a67*b87 + a68*b88;
+        c[ic + 48*sc] = a71*b11 + a72*b12 + a73*b13 + a74*b14 + a75*b15 + a76*b16 + a77*b17 + a78*b18;
+        c[ic + 49*sc] = a71*b21 + a72*b22 + a73*b23 + a74*b24 + a75*b25 + a76*b26 + a77*b27 + a78*b28;
+        c[ic + 50*sc] = a71*b31 + a72*b32 + a73*b33 + a74*b34 + a75*b35 + a76*b36 + a77*b37 + a78*b38;
+        c[ic + 51*sc] = a71*b41 + a72*b42 + a73*b43 + a74*b44 + a75*b45 + a76*b46 + a77*b47 + a78*b48;
+        c[ic + 52*sc] = a71*b51 + a72*b52 + a73*b53 + a74*b54 + a75*b55 + a76*b56 + a77*b57 + a78*b58;
+        c[ic + 53*sc] = a71*b61 + a72*b62 + a73*b63 + a74*b64 + a75*b65 + a76*b66 + a77*b67 + a78*b68;
+        c[ic + 54*sc] = a71*b71 + a72*b72 + a73*b73 + a74*b74 + a75*b75 + a76*b76 + a77*b77 + a78*b78;
+        c[ic + 55*sc] = a71*b81 + a72*b82 + a73*b83 + a74*b84 + a75*b85 + a76*b86 + a77*b87 + a78*b88;
+        c[ic + 56*sc] = a81*b11 + a82*b12 + a83*b13 + a84*b14 + a85*b15 + a86*b16 + a87*b17 + a88*b18;
+        c[ic + 57*sc] = a81*b21 + a82*b22 + a83*b23 + a84*b24 + a85*b25 + a86*b26 + a87*b27 + a88*b28;
+        c[ic + 58*sc] = a81*b31 + a82*b32 + a83*b33 + a84*b34 + a85*b35 + a86*b36 + a87*b37 + a88*b38;
+        c[ic + 59*sc] = a81*b41 + a82*b42 + a83*b43 + a84*b44 + a85*b45 + a86*b46 + a87*b47 + a88*b48;
+        c[ic + 60*sc] = a81*b51 + a82*b52 + a83*b53 + a84*b54 + a85*b55 + a86*b56 + a87*b57 + a88*b58;
+        c[ic + 61*sc] = a81*b61 + a82*b62 + a83*b63 + a84*b64 + a85*b65 + a86*b66 + a87*b67 + a88*b68;
+        c[ic + 62*sc] = a81*b71 + a82*b72 + a83*b73 + a84*b74 + a85*b75 + a86*b76 + a87*b77 + a88*b78;
+        c[ic + 63*sc] = a81*b81 + a82*b82 + a83*b83 + a84*b84 + a85*b85 + a86*b86 + a87*b87 + a88*b88;
+    }
+
+    private static void cholL( double[] a, int ia, int sa ) {
+        double a11 = a[ia];
+        double a21 = a[ia + 8*sa], a22 = a[ia + 9*sa];
+        double a31 = a[ia + 16*sa], a32 = a[ia + 17*sa], a33 = a[ia + 18*sa];
+        double a41 = a[ia + 24*sa], a42 = a[ia + 25*sa], a43 = a[ia + 26*sa], a44 = a[ia + 27*sa];
+        double a51 = a[ia + 32*sa], a52 = a[ia + 33*sa], a53 = a[ia + 34*sa], a54 = a[ia + 35*sa], a55 = a[ia + 36*sa];
+        double a61 = a[ia + 40*sa], a62 = a[ia + 41*sa], a63 = a[ia + 42*sa], a64 = a[ia + 43*sa], a65 = a[ia + 44*sa], a66 = a[ia + 45*sa];
+        double a71 = a[ia + 48*sa], a72 = a[ia + 49*sa], a73 = a[ia + 50*sa], a74 = a[ia + 51*sa], a75 = a[ia + 52*sa], a76 = a[ia + 53*sa], a77 = a[ia + 54*sa];
+        double a81 = a[ia + 56*sa], a82 = a[ia + 57*sa], a83 = a[ia + 58*sa], a84 = a[ia + 59*sa], a85 = a[ia + 60*sa], a86 = a[ia + 61*sa], a87 = a[ia + 62*sa], a88 = a[ia + 63*sa];
+
+        a11 = Math.sqrt(a11);
+        a21 = (a21)/a11;
+        a22 = Math.sqrt(a22-a21*a21);
+        a31 = (a31)/a11;
+        a32 = (a32-a31*a21)/a22;
+        a33 = Math.sqrt(a33-a31*a31-a32*a32);
+        a41 = (a41)/a11;
+        a42 = (a42-a41*a21)/a22;
+        a43 = (a43-a41*a31-a42*a32)/a33;
+        a44 = Math.sqrt(a44-a41*a41-a42*a42-a43*a43);
+        a51 = (a51)/a11;
+        a52 = (a52-a51*a21)/a22;
+        a53 = (a53-a51*a31-a52*a32)/a33;
+        a54 = (a54-a51*a41-a52*a42-a53*a43)/a44;
+        a55 = Math.sqrt(a55-a51*a51-a52*a52-a53*a53-a54*a54);
+        a61 = (a61)/a11;
+        a62 = (a62-a61*a21)/a22;
+        a63 = (a63-a61*a31-a62*a32)/a33;
+        a64 = (a64-a61*a41-a62*a42-a63*a43)/a44;
+        a65 = (a65-a61*a51-a62*a52-a63*a53-a64*a54)/a55;
+        a66 = Math.sqrt(a66-a61*a61-a62*a62-a63*a63-a64*a64-a65*a65);
+        a71 = (a71)/a11;
+        a72 = (a72-a71*a21)/a22;
+        a73 = (a73-a71*a31-a72*a32)/a33;
+        a74 = (a74-a71*a41-a72*a42-a73*a43)/a44;
+        a75 = (a75-a71*a51-a72*a52-a73*a53-a74*a54)/a55;
+        a76 = (a76-a71*a61-a72*a62-a73*a63-a74*a64-a75*a65)/a66;
+        a77 = Math.sqrt(a77-a71*a71-a72*a72-a73*a73-a74*a74-a75*a75-a76*a76);
+        a81 = (a81)/a11;
+        a82 = (a82-a81*a21)/a22;
+        a83 = (a83-a81*a31-a82*a32)/a33;
+        a84 = (a84-a81*a41-a82*a42-a83*a43)/a44;
+        a85 = (a85-a81*a51-a82*a52-a83*a53-a84*a54)/a55;
+        a86 = (a86-a81*a61-a82*a62-a83*a63-a84*a64-a85*a65)/a66;
+        a87 = (a87-a81*a71-a82*a72-a83*a73-a84*a74-a85*a75-a86*a76)/a77;
+        a88 = Math.sqrt(a88-a81*a81-a82*a82-a83*a83-a84*a84-a85*a85-a86*a86-a87*a87);
+
+        a[ia] = a11;
+        a[ia + sa] = 0;
+        a[ia + 2*sa] = 0;
+        a[ia + 3*sa] = 0;
+        a[ia + 4*sa] = 0;
+        a[ia + 5*sa] = 0;
+        a[ia + 6*sa] = 0;
+        a[ia + 7*sa] = 0;
+        a[ia + 8*sa] = a21;
+        a[ia + 9*sa] = a22;
+        a[ia + 10*sa] = 0;
+        a[ia + 11*sa] = 0;
+        a[ia + 12*sa] = 0;
+        a[ia + 13*sa] = 0;
+        a[ia + 14*sa] = 0;
+        a[ia + 15*sa] = 0;
+        a[ia + 16*sa] = a31;
+        a[ia + 17*sa] = a32;
+        a[ia + 18*sa] = a33;
+        a[ia + 19*sa] = 0;
+        a[ia + 20*sa] = 0;
+        a[ia + 21*sa] = 0;
+        a[ia + 22*sa] = 0;
+        a[ia + 23*sa] = 0;
+        a[ia + 24*sa] = a41;
+        a[ia + 25*sa] = a42;
+        a[ia + 26*sa] = a43;
+        a[ia + 27*sa] = a44;
+        a[ia + 28*sa] = 0;
+        a[ia + 29*sa] = 0;
+        a[ia + 30*sa] = 0;
+        a[ia + 31*sa] = 0;
+        a[ia + 32*sa] = a51;
+        a[ia + 33*sa] = a52;
+        a[ia + 34*sa] = a53;
+        a[ia + 35*sa] = a54;
+        a[ia + 36*sa] = a55;
+        a[ia + 37*sa] = 0;
+        a[ia + 38*sa] = 0;
+        a[ia + 39*sa] = 0;
+        a[ia + 40*sa] = a61;
+        a[ia + 41*sa] = a62;
+        a[ia + 42*sa] = a63;
+        a[ia + 43*sa] = a64;
+        a[ia + 44*sa] = a65;
+        a[ia + 45*sa] = a66;
+        a[ia + 46*sa] = 0;
+        a[ia + 47*sa] = 0;
+        a[ia + 48*sa] = a71;
+        a[ia + 49*sa] = a72;
+        a[ia + 50*sa] = a73;
+        a[ia + 51*sa] = a74;
+        a[ia + 52*sa] = a75;
+        a[ia + 53*sa] = a76;
+        a[ia + 54*sa] = a77;
+        a[ia + 55*sa] = 0;
+        a[ia + 56*sa] = a81;
+        a[ia + 57*sa] = a82;
+        a[ia + 58*sa] = a83;
+        a[ia + 59*sa] = a84;
+        a[ia + 60*sa] = a85;
+        a[ia + 61*sa] = a86;
+        a[ia + 62*sa] = a87;
+        a[ia + 63*sa] = a88;
+    }
+
+}
+
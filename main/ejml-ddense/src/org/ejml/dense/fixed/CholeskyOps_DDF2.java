@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix2;
+import org.ejml.data.DMatrix2x2;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>Cholesky decomposition and related operations for fixed sized 2 x 2 symmetric
+ * positive definite matrices. A = L*L<sup>T</sup> where L is lower triangular. Only the lower triangle
+ * of the input matrix is read.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateCholeskyOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateCholeskyOps_DDF")
+public class CholeskyOps_DDF2 {
+    /**
+     * Computes the lower Cholesky decomposition of 'A'.
+     *
+     * @param A (Input) SPD Matrix. Only the lower triangle is read. Not modified.
+     * @param L (Output) Lower triangular matrix. Can be the same instance as A.
+     * @return true if it was successful or false if it failed. Not always reliable.
+     */
+    public static boolean decompose( DMatrix2x2 A, DMatrix2x2 L ) {
+        double l11 = Math.sqrt(A.a11);
+        double l21 = A.a21/l11;
+        double l22 = Math.sqrt(A.a22 - l21*l21);
+
+        L.a11 = l11; L.a12 = 0;
+        L.a21 = l21; L.a22 = l22;
+
+        return !UtilEjml.isUncountable(l22);
+    }
+
+    /**
+     * Solves for 'x' in the linear system A*x = b using the decomposition L*L<sup>T</sup> of A.
+     *
+     * @param L (Input) Lower Cholesky decomposition of A. Not modified.
+     * @param b (Input) Vector. Not modified.
+     * @param x (Output) Solution. Can be the same instance as b.
+     */
+    public static void solve( DMatrix2x2 L, DMatrix2 b, DMatrix2 x ) {
+        // solve L*y = b
+        double y1 = b.a1/L.a11;
+        double y2 = (b.a2 - L.a21*y1)/L.a22;
+
+        // solve L'*x = y
+        double x2 = y2/L.a22;
+        double x1 = (y1 - L.a21*x2)/L.a11;
+
+        x.a1 = x1; x.a2 = x2;
+    }
+
+    /**
+     * Computes the inverse of A from its Cholesky decomposition, inv(A) = inv(L)<sup>T</sup>*inv(L).
+     *
+     * @param L (Input) Lower Cholesky decomposition of A. Not modified.
+     * @param inv (Output) Inverse of A. Can be the same instance as L.
+     */
+    public static void invert( DMatrix2x2 L, DMatrix2x2 inv ) {
+        // T = inv(L), which is lower triangular
+        double t11 = 1.0/L.a11;
+        double t21 = -(L.a21*t11)/L.a22;
+        double t22 = 1.0/L.a22;
+
+        // inv(A) = T'*T
+        inv.a11 = t11*t11 + t21*t21;
+        inv.a12 = t21*t22;
+        inv.a22 = t22*t22;
+        inv.a21 = inv.a12;
+    }
+
+    /**
+     * Computes the determinant of A from its Cholesky decomposition.
+     *
+     * @param L (Input) Lower Cholesky decomposition of A. Not modified.
+     * @return The determinant of A.
+     */
+    public static double det( DMatrix2x2 L ) {
+        double prod = L.a11*L.a22;
+        return prod*prod;
+    }
+
+}
+
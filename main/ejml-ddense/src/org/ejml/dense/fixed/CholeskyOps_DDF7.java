@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix7;
+import org.ejml.data.DMatrix7x7;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>Cholesky decomposition and related operations for fixed sized 7 x 7 symmetric
+ * positive definite matrices. A = L*L<sup>T</sup> where L is lower triangular. Only the lower triangle
+ * of the input matrix is read.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateCholeskyOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateCholeskyOps_DDF")
+public class CholeskyOps_DDF7 {
+    /**
+     * Computes the lower Cholesky decomposition of 'A'.
+     *
+     * @param A (Input) SPD Matrix. Only the lower triangle is read. Not modified.
+     * @param L (Output) Lower triangular matrix. Can be the same instance as A.
+     * @return true if it was successful or false if it failed. Not always reliable.
+     */
+    public static boolean decompose( DMatrix7x7 A, DMatrix7x7 L ) {
+        double l11 = Math.sqrt(A.a11);
+        double l21 = A.a21/l11;
+        double l22 = Math.sqrt(A.a22 - l21*l21);
+        double l31 = A.a31/l11;
+        double l32 = (A.a32 - l31*l21)/l22;
+        double l33 = Math.sqrt(A.a33 - l31*l31 - l32*l32);
+        double l41 = A.a41/l11;
+        double l42 = (A.a42 - l41*l21)/l22;
+        double l43 = (A.a43 - l41*l31 - l42*l32)/l33;
+        double l44 = Math.sqrt(A.a44 - l41*l41 - l42*l42 - l43*l43);
+        double l51 = A.a51/l11;
+        double l52 = (A.a52 - l51*l21)/l22;
+        double l53 = (A.a53 - l51*l31 - l52*l32)/l33;
+        double l54 = (A.a54 - l51*l41 - l52*l42 - l53*l43)/l44;
+        double l55 = Math.sqrt(A.a55 - l51*l51 - l52*l52 - l53*l53 - l54*l54);
+        double l61 = A.a61/l11;
+        double l62 = (A.a62 - l61*l21)/l22;
+        double l63 = (A.a63 - l61*l31 - l62*l32)/l33;
+        double l64 = (A.a64 - l61*l41 - l62*l42 - l63*l43)/l44;
+        double l65 = (A.a65 - l61*l51 - l62*l52 - l63*l53 - l64*l54)/l55;
+        double l66 = Math.sqrt(A.a66 - l61*l61 - l62*l62 - l63*l63 - l64*l64 - l65*l65);
+        double l71 = A.a71/l11;
+        double l72 = (A.a72 - l71*l21)/l22;
+        double l73 = (A.a73 - l71*l31 - l72*l32)/l33;
+        double l74 = (A.a74 - l71*l41 - l72*l42 - l73*l43)/l44;
+        double l75 = (A.a75 - l71*l51 - l72*l52 - l73*l53 - l74*l54)/l55;
+        double l76 = (A.a76 - l71*l61 - l72*l62 - l73*l63 - l74*l64 - l75*l65)/l66;
+        double l77 = Math.sqrt(A.a77 - l71*l71 - l72*l72 - l73*l73 - l74*l74 - l75*l75 - l76*l76);
+
+        L.a11 = l11; L.a12 = 0; L.a13 = 0; L.a14 = 0; L.a15 = 0; L.a16 = 0; L.a17 = 0;
+        L.a21 = l21; L.a22 = l22; L.a23 = 0; L.a24 = 0; L.a25 = 0; L.a26 = 0; L.a27 = 0;
+        L.a31 = l31; L.a32 = l32; L.a33 = l33; L.a34 = 0; L.a35 = 0; L.a36 = 0; L.a37 = 0;
+        L.a41 = l41; L.a42 = l42; L.a43 = l43; L.a44 = l44; L.a45 = 0; L.a46 = 0; L.a47 = 0;
+        L.a51 = l51; L.a52 = l52; L.a53 = l53; L.a54 = l54; L.a55 = l55; L.a56 = 0; L.a57 = 0;
+        L.a61 = l61; L.a62 = l62; L.a63 = l63; L.a64 = l64; L.a65 = l65; L.a66 = l66; L.a67 = 0;
+        L.a71 = l71; L.a72 = l72; L.a73 = l73; L.a74 = l74; L.a75 = l75; L.a76 = l76; L.a77 = l77;
+
+        return !UtilEjml.isUncountable(l77);
+    }
+
+    /**
+     * Solves for 'x' in the linear system A*x = b using the decomposition L*L<sup>T</sup> of A.
+     *
+     * @param L (Input) Lower Cholesky decomposition of A. Not modified.
+     * @param b (Input) Vector. Not modified.
+     * @param x (Output) Solution. Can be the same instance as b.
+     */
+    public static void solve( DMatrix7x7 L, DMatrix7 b, DMatrix7 x ) {
+        // solve L*y = b
+        double y1 = b.a1/L.a11;
+        double y2 = (b.a2 - L.a21*y1)/L.a22;
+        double y3 = (b.a3 - L.a31*y1 - L.a32*y2)/L.a33;
+        double y4 = (b.a4 - L.a41*y1 - L.a42*y2 - L.a43*y3)/L.a44;
+        double y5 = (b.a5 - L.a51*y1 - L.a52*y2 - L.a53*y3 - L.a54*y4)/L.a55;
+        double y6 = (b.a6 - L.a61*y1 - L.a62*y2 - L.a63*y3 - L.a64*y4 - L.a65*y5)/L.a66;
+        double y7 = (b.a7 - L.a71*y1 - L.a72*y2 - L.a73*y3 - L.a74*y4 - L.a75*y5 - L.a76*y6)/L.a77;
+
+        // solve L'*x = y
+        double x7 = y7/L.a77;
+        double x6 = (y6 - L.a76*x7)/L.a66;
+        double x5 = (y5 - L.a65*x6 - L.a75*x7)/L.a55;
+        double x4 = (y4 - L.a54*x5 - L.a64*x6 - L.a74*x7)/L.a44;
+        double x3 = (y3 - L.a43*x4 - L.a53*x5 - L.a63*x6 - L.a73*x7)/L.a33;
+        double x2 = (y2 - L.a32*x3 - L.a42*x4 - L.a52*x5 - L.a62*x6 - L.a72*x7)/L.a22;
+        double x1 = (y1 - L.a21*x2 - L.a31*x3 - L.a41*x4 - L.a51*x5 - L.a61*x6 - L.a71*x7)/L.a11;
+
+        x.a1 = x1; x.a2 = x2; x.a3 = x3; x.a4 = x4; x.a5 = x5; x.a6 = x6; x.a7 = x7;
+    }
+
+    /**
+     * Computes the inverse of A from its Cholesky decomposition, inv(A) = inv(L)<sup>T</sup>*inv(L).
+     *
+     * @param L (Input) Lower Cholesky decomposition of A. Not modified.
+     * @param inv (Output) Inverse of A. Can be the same instance as L.
+     */
+    public static void invert( DMatrix7x7 L, DMatrix7x7 inv ) {
+        // T = inv(L), which is lower triangular
+        double t11 = 1.0/L.a11;
+        double t21 = -(L.a21*t11)/L.a22;
+        double t31 = -(L.a31*t11 + L.a32*t21)/L.a33;
+        double t41 = -(L.a41*t11 + L.a42*t21 + L.a43*t31)/L.a44;
+        double t51 = -(L.a51*t11 + L.a52*t21 + L.a53*t31 + L.a54*t41)/L.a55;
+        double t61 = -(L.a61*t11 + L.a62*t21 + L.a63*t31 + L.a64*t41 + L.a65*t51)/L.a66;
+        double t71 = -(L.a71*t11 + L.a72*t21 + L.a73*t31 + L.a74*t41 + L.a75*t51 + L.a76*t61)/L.a77;
+        double t22 = 1.0/L.a22;
+        double t32 = -(L.a32*t22)/L.a33;
+        double t42 = -(L.a42*t22 + L.a43*t32)/L.a44;
+        double t52 = -(L.a52*t22 + L.a53*t32 + L.a54*t42)/L.a55;
+        double t62 = -(L.a62*t22 + L.a63*t32 + L.a64*t42 + L.a65*t52)/L.a66;
+        double t72 = -(L.a72*t22 + L.a73*t32 + L.a74*t42 + L.a75*t52 + L.a76*t62)/L.a77;
+        double t33 = 1.0/L.a33;
+        double t43 = -(L.a43*t33)/L.a44;
+        double t53 = -(L.a53*t33 + L.a54*t43)/L.a55;
+        double t63 = -(L.a63*t33 + L.a64*t43 + L.a65*t53)/L.a66;
+        double t73 = -(L.a73*t33 + L.a74*t43 + L.a75*t53 + L.a76*t63)/L.a77;
+        double t44 = 1.0/L.a44;
+        double t54 = -(L.a54*t44)/L.a55;
+        double t64 = -(L.a64*t44 + L.a65*t54)/L.a66;
+        double t74 = -(L.a74*t44 + L.a75*t54 + L.a76*t64)/L.a77;
+        double t55 = 1.0/L.a55;
+        double t65 = -(L.a65*t55)/L.a66;
+        double t75 = -(L.a75*t55 + L.a76*t65)/L.a77;
+        double t66 = 1.0/L.a66;
+        double t76 = -(L.a76*t66)/L.a77;
+        double t77 = 1.0/L.a77;
+
+        // inv(A) = T'*T
+        inv.a11 = t11*t11 + t21*t21 + t31*t31 + t41*t41 + t51*t51 + t61*t61 + t71*t71;
+        inv.a12 = t21*t22 + t31*t32 + t41*t42 + t51*t52 + t61*t62 + t71*t72;
+        inv.a13 = t31*t33 + t41*t43 + t51*t53 + t61*t63 + t71*t73;
+        inv.a14 = t41*t44 + t51*t54 + t61*t64 + t71*t74;
+        inv.a15 = t51*t55 + t61*t65 + t71*t75;
+        inv.a16 = t61*t66 + t71*t76;
+        inv.a17 = t71*t77;
+        inv.a22 = t22*t22 + t32*t32 + t42*t42 + t52*t52 + t62*t62 + t72*t72;
+        inv.a23 = t32*t33 + t42*t43 + t52*t53 + t62*t63 + t72*t73;
+        inv.a24 = t42*t44 + t52*t54 + t62*t64 + t72*t74;
+        inv.a25 = t52*t55 + t62*t65 + t72*t75;
+        inv.a26 = t62*t66 + t72*t76;
+        inv.a27 = t72*t77;
+        inv.a33 = t33*t33 + t43*t43 + t53*t53 + t63*t63 + t73*t73;
+        inv.a34 = t43*t44 + t53*t54 + t63*t64 + t73*t74;
+        inv.a35 = t53*t55 + t63*t65 + t73*t75;
+        inv.a36 = t63*t66 + t73*t76;
+        inv.a37 = t73*t77;
+        inv.a44 = t44*t44 + t54*t54 + t64*t64 + t74*t74;
+        inv.a45 = t54*t55 + t64*t65 + t74*t75;
+        inv.a46 = t64*t66 + t74*t76;
+        inv.a47 = t74*t77;
+        inv.a55 = t55*t55 + t65*t65 + t75*t75;
+        inv.a56 = t65*t66 + t75*t76;
+        inv.a57 = t75*t77;
+        inv.a66 = t66*t66 + t76*t76;
+        inv.a67 = t76*t77;
+        inv.a77 = t77*t77;
+        inv.a21 = inv.a12;
+        inv.a31 = inv.a13; inv.a32 = inv.a23;
+        inv.a41 = inv.a14; inv.a42 = inv.a24; inv.a43 = inv.a34;
+        inv.a51 = inv.a15; inv.a52 = inv.a25; inv.a53 = inv.a35; inv.a54 = inv.a45;
+        inv.a61 = inv.a16; inv.a62 = inv.a26; inv.a63 = inv.a36; inv.a64 = inv.a46; inv.a65 = inv.a56;
+        inv.a71 = inv.a17; inv.a72 = inv.a27; inv.a73 = inv.a37; inv.a74 = inv.a47; inv.a75 = inv.a57; inv.a76 = inv.a67;
+    }
+
+    /**
+     * Computes the determinant of A from its Cholesky decomposition.
+     *
+     * @param L (Input) Lower Cholesky decomposition of A. Not modified.
+     * @return The determinant of A.
+     */
+    public static double det( DMatrix7x7 L ) {
+        double prod = L.a11*L.a22*L.a33*L.a44*L.a55*L.a66*L.a77;
+        return prod*prod;
+    }
+
+}
+
@@ -0,0 +1,3233 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix8;
+import org.ejml.data.DMatrix8x8;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>Common matrix operations for fixed sized matrices which are 8 x 8 or 8 element vectors.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateCommonOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateCommonOps_DDF")
+public class CommonOps_DDF8 {
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a13 = a.a13 + b.a13;
+        c.a14 = a.a14 + b.a14;
+        c.a15 = a.a15 + b.a15;
+        c.a16 = a.a16 + b.a16;
+        c.a17 = a.a17 + b.a17;
+        c.a18 = a.a18 + b.a18;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a23 = a.a23 + b.a23;
+        c.a24 = a.a24 + b.a24;
+        c.a25 = a.a25 + b.a25;
+        c.a26 = a.a26 + b.a26;
+        c.a27 = a.a27 + b.a27;
+        c.a28 = a.a28 + b.a28;
+        c.a31 = a.a31 + b.a31;
+        c.a32 = a.a32 + b.a32;
+        c.a33 = a.a33 + b.a33;
+        c.a34 = a.a34 + b.a34;
+        c.a35 = a.a35 + b.a35;
+        c.a36 = a.a36 + b.a36;
+        c.a37 = a.a37 + b.a37;
+        c.a38 = a.a38 + b.a38;
+        c.a41 = a.a41 + b.a41;
+        c.a42 = a.a42 + b.a42;
+        c.a43 = a.a43 + b.a43;
+        c.a44 = a.a44 + b.a44;
+        c.a45 = a.a45 + b.a45;
+        c.a46 = a.a46 + b.a46;
+        c.a47 = a.a47 + b.a47;
+        c.a48 = a.a48 + b.a48;
+        c.a51 = a.a51 + b.a51;
+        c.a52 = a.a52 + b.a52;
+        c.a53 = a.a53 + b.a53;
+        c.a54 = a.a54 + b.a54;
+        c.a55 = a.a55 + b.a55;
+        c.a56 = a.a56 + b.a56;
+        c.a57 = a.a57 + b.a57;
+        c.a58 = a.a58 + b.a58;
+        c.a61 = a.a61 + b.a61;
+        c.a62 = a.a62 + b.a62;
+        c.a63 = a.a63 + b.a63;
+        c.a64 = a.a64 + b.a64;
+        c.a65 = a.a65 + b.a65;
+        c.a66 = a.a66 + b.a66;
+        c.a67 = a.a67 + b.a67;
+        c.a68 = a.a68 + b.a68;
+        c.a71 = a.a71 + b.a71;
+        c.a72 = a.a72 + b.a72;
+        c.a73 = a.a73 + b.a73;
+        c.a74 = a.a74 + b.a74;
+        c.a75 = a.a75 + b.a75;
+        c.a76 = a.a76 + b.a76;
+        c.a77 = a.a77 + b.a77;
+        c.a78 = a.a78 + b.a78;
+        c.a81 = a.a81 + b.a81;
+        c.a82 = a.a82 + b.a82;
+        c.a83 = a.a83 + b.a83;
+        c.a84 = a.a84 + b.a84;
+        c.a85 = a.a85 + b.a85;
+        c.a86 = a.a86 + b.a86;
+        c.a87 = a.a87 + b.a87;
+        c.a88 = a.a88 + b.a88;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>i</sub> = a<sub>i</sub> + b<sub>i</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Vector C can be the same instance as Vector A and/or B.
+     * </p>
+     *
+     * @param a A Vector. Not modified.
+     * @param b A Vector. Not modified.
+     * @param c A Vector where the results are stored. Modified.
+     */
+    public static void add( DMatrix8 a , DMatrix8 b , DMatrix8 c ) {
+        c.a1 = a.a1 + b.a1;
+        c.a2 = a.a2 + b.a2;
+        c.a3 = a.a3 + b.a3;
+        c.a4 = a.a4 + b.a4;
+        c.a5 = a.a5 + b.a5;
+        c.a6 = a.a6 + b.a6;
+        c.a7 = a.a7 + b.a7;
+        c.a8 = a.a8 + b.a8;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a + b <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * @param a A Matrix. Modified.
+     * @param b A Matrix. Not modified.
+     */
+    public static void addEquals( DMatrix8x8 a , DMatrix8x8 b ) {
+        a.a11 += b.a11;
+        a.a12 += b.a12;
+        a.a13 += b.a13;
+        a.a14 += b.a14;
+        a.a15 += b.a15;
+        a.a16 += b.a16;
+        a.a17 += b.a17;
+        a.a18 += b.a18;
+        a.a21 += b.a21;
+        a.a22 += b.a22;
+        a.a23 += b.a23;
+        a.a24 += b.a24;
+        a.a25 += b.a25;
+        a.a26 += b.a26;
+        a.a27 += b.a27;
+        a.a28 += b.a28;
+        a.a31 += b.a31;
+        a.a32 += b.a32;
+        a.a33 += b.a33;
+        a.a34 += b.a34;
+        a.a35 += b.a35;
+        a.a36 += b.a36;
+        a.a37 += b.a37;
+        a.a38 += b.a38;
+        a.a41 += b.a41;
+        a.a42 += b.a42;
+        a.a43 += b.a43;
+        a.a44 += b.a44;
+        a.a45 += b.a45;
+        a.a46 += b.a46;
+        a.a47 += b.a47;
+        a.a48 += b.a48;
+        a.a51 += b.a51;
+        a.a52 += b.a52;
+        a.a53 += b.a53;
+        a.a54 += b.a54;
+        a.a55 += b.a55;
+        a.a56 += b.a56;
+        a.a57 += b.a57;
+        a.a58 += b.a58;
+        a.a61 += b.a61;
+        a.a62 += b.a62;
+        a.a63 += b.a63;
+        a.a64 += b.a64;
+        a.a65 += b.a65;
+        a.a66 += b.a66;
+        a.a67 += b.a67;
+        a.a68 += b.a68;
+        a.a71 += b.a71;
+        a.a72 += b.a72;
+        a.a73 += b.a73;
+        a.a74 += b.a74;
+        a.a75 += b.a75;
+        a.a76 += b.a76;
+        a.a77 += b.a77;
+        a.a78 += b.a78;
+        a.a81 += b.a81;
+        a.a82 += b.a82;
+        a.a83 += b.a83;
+        a.a84 += b.a84;
+        a.a85 += b.a85;
+        a.a86 += b.a86;
+        a.a87 += b.a87;
+        a.a88 += b.a88;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a + b <br>
+     * a<sub>i</sub> = a<sub>i</sub> + b<sub>i</sub> <br>
+     * </p>
+     *
+     * @param a A Vector. Modified.
+     * @param b A Vector. Not modified.
+     */
+    public static void addEquals( DMatrix8 a , DMatrix8 b ) {
+        a.a1 += b.a1;
+        a.a2 += b.a2;
+        a.a3 += b.a3;
+        a.a4 += b.a4;
+        a.a5 += b.a5;
+        a.a6 += b.a6;
+        a.a7 += b.a7;
+        a.a8 += b.a8;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void subtract( DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c ) {
+        c.a11 = a.a11 - b.a11;
+        c.a12 = a.a12 - b.a12;
+        c.a13 = a.a13 - b.a13;
+        c.a14 = a.a14 - b.a14;
+        c.a15 = a.a15 - b.a15;
+        c.a16 = a.a16 - b.a16;
+        c.a17 = a.a17 - b.a17;
+        c.a18 = a.a18 - b.a18;
+        c.a21 = a.a21 - b.a21;
+        c.a22 = a.a22 - b.a22;
+        c.a23 = a.a23 - b.a23;
+        c.a24 = a.a24 - b.a24;
+        c.a25 = a.a25 - b.a25;
+        c.a26 = a.a26 - b.a26;
+        c.a27 = a.a27 - b.a27;
+        c.a28 = a.a28 - b.a28;
+        c.a31 = a.a31 - b.a31;
+        c.a32 = a.a32 - b.a32;
+        c.a33 = a.a33 - b.a33;
+        c.a34 = a.a34 - b.a34;
+        c.a35 = a.a35 - b.a35;
+        c.a36 = a.a36 - b.a36;
+        c.a37 = a.a37 - b.a37;
+        c.a38 = a.a38 - b.a38;
+        c.a41 = a.a41 - b.a41;
+        c.a42 = a.a42 - b.a42;
+        c.a43 = a.a43 - b.a43;
+        c.a44 = a.a44 - b.a44;
+        c.a45 = a.a45 - b.a45;
+        c.a46 = a.a46 - b.a46;
+        c.a47 = a.a47 - b.a47;
+        c.a48 = a.a48 - b.a48;
+        c.a51 = a.a51 - b.a51;
+        c.a52 = a.a52 - b.a52;
+        c.a53 = a.a53 - b.a53;
+        c.a54 = a.a54 - b.a54;
+        c.a55 = a.a55 - b.a55;
+        c.a56 = a.a56 - b.a56;
+        c.a57 = a.a57 - b.a57;
+        c.a58 = a.a58 - b.a58;
+        c.a61 = a.a61 - b.a61;
+        c.a62 = a.a62 - b.a62;
+        c.a63 = a.a63 - b.a63;
+        c.a64 = a.a64 - b.a64;
+        c.a65 = a.a65 - b.a65;
+        c.a66 = a.a66 - b.a66;
+        c.a67 = a.a67 - b.a67;
+        c.a68 = a.a68 - b.a68;
+        c.a71 = a.a71 - b.a71;
+        c.a72 = a.a72 - b.a72;
+        c.a73 = a.a73 - b.a73;
+        c.a74 = a.a74 - b.a74;
+        c.a75 = a.a75 - b.a75;
+        c.a76 = a.a76 - b.a76;
+        c.a77 = a.a77 - b.a77;
+        c.a78 = a.a78 - b.a78;
+        c.a81 = a.a81 - b.a81;
+        c.a82 = a.a82 - b.a82;
+        c.a83 = a.a83 - b.a83;
+        c.a84 = a.a84 - b.a84;
+        c.a85 = a.a85 - b.a85;
+        c.a86 = a.a86 - b.a86;
+        c.a87 = a.a87 - b.a87;
+        c.a88 = a.a88 - b.a88;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * c<sub>i</sub> = a<sub>i</sub> - b<sub>i</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Vector C can be the same instance as Vector A and/or B.
+     * </p>
+     *
+     * @param a A Vector. Not modified.
+     * @param b A Vector. Not modified.
+     * @param c A Vector where the results are stored. Modified.
+     */
+    public static void subtract( DMatrix8 a , DMatrix8 b , DMatrix8 c ) {
+        c.a1 = a.a1 - b.a1;
+        c.a2 = a.a2 - b.a2;
+        c.a3 = a.a3 - b.a3;
+        c.a4 = a.a4 - b.a4;
+        c.a5 = a.a5 - b.a5;
+        c.a6 = a.a6 - b.a6;
+        c.a7 = a.a7 - b.a7;
+        c.a8 = a.a8 - b.a8;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a - b <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>
+     * </p>
+     *
+     * @param a A Matrix. Modified.
+     * @param b A Matrix. Not modified.
+     */
+    public static void subtractEquals( DMatrix8x8 a , DMatrix8x8 b ) {
+        a.a11 -= b.a11;
+        a.a12 -= b.a12;
+        a.a13 -= b.a13;
+        a.a14 -= b.a14;
+        a.a15 -= b.a15;
+        a.a16 -= b.a16;
+        a.a17 -= b.a17;
+        a.a18 -= b.a18;
+        a.a21 -= b.a21;
+        a.a22 -= b.a22;
+        a.a23 -= b.a23;
+        a.a24 -= b.a24;
+        a.a25 -= b.a25;
+        a.a26 -= b.a26;
+        a.a27 -= b.a27;
+        a.a28 -= b.a28;
+        a.a31 -= b.a31;
+        a.a32 -= b.a32;
+        a.a33 -= b.a33;
+        a.a34 -= b.a34;
+        a.a35 -= b.a35;
+        a.a36 -= b.a36;
+        a.a37 -= b.a37;
+        a.a38 -= b.a38;
+        a.a41 -= b.a41;
+        a.a42 -= b.a42;
+        a.a43 -= b.a43;
+        a.a44 -= b.a44;
+        a.a45 -= b.a45;
+        a.a46 -= b.a46;
+        a.a47 -= b.a47;
+        a.a48 -= b.a48;
+        a.a51 -= b.a51;
+        a.a52 -= b.a52;
+        a.a53 -= b.a53;
+        a.a54 -= b.a54;
+        a.a55 -= b.a55;
+        a.a56 -= b.a56;
+        a.a57 -= b.a57;
+        a.a58 -= b.a58;
+        a.a61 -= b.a61;
+        a.a62 -= b.a62;
+        a.a63 -= b.a63;
+        a.a64 -= b.a64;
+        a.a65 -= b.a65;
+        a.a66 -= b.a66;
+        a.a67 -= b.a67;
+        a.a68 -= b.a68;
+        a.a71 -= b.a71;
+        a.a72 -= b.a72;
+        a.a73 -= b.a73;
+        a.a74 -= b.a74;
+        a.a75 -= b.a75;
+        a.a76 -= b.a76;
+        a.a77 -= b.a77;
+        a.a78 -= b.a78;
+        a.a81 -= b.a81;
+        a.a82 -= b.a82;
+        a.a83 -= b.a83;
+        a.a84 -= b.a84;
+        a.a85 -= b.a85;
+        a.a86 -= b.a86;
+        a.a87 -= b.a87;
+        a.a88 -= b.a88;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a - b <br>
+     * a<sub>i</sub> = a<sub>i</sub> - b<sub>i</sub> <br>
+     * </p>
+     *
+     * @param a A Vector. Modified.
+     * @param b A Vector. Not modified.
+     */
+    public static void subtractEquals( DMatrix8 a , DMatrix8 b ) {
+        a.a1 -= b.a1;
+        a.a2 -= b.a2;
+        a.a3 -= b.a3;
+        a.a4 -= b.a4;
+        a.a5 -= b.a5;
+        a.a6 -= b.a6;
+        a.a7 -= b.a7;
+        a.a8 -= b.a8;
+    }
+
+    /**
+     * Performs an in-place transpose. This algorithm is only efficient for square
+     * matrices.
+     *
+     * @param m The matrix that is to be transposed. Modified.
+     */
+    public static void transpose( DMatrix8x8 m ) {
+        double tmp;
+        tmp = m.a12; m.a12 = m.a21; m.a21 = tmp;
+        tmp = m.a13; m.a13 = m.a31; m.a31 = tmp;
+        tmp = m.a14; m.a14 = m.a41; m.a41 = tmp;
+        tmp = m.a15; m.a15 = m.a51; m.a51 = tmp;
+        tmp = m.a16; m.a16 = m.a61; m.a61 = tmp;
+        tmp = m.a17; m.a17 = m.a71; m.a71 = tmp;
+        tmp = m.a18; m.a18 = m.a81; m.a81 = tmp;
+        tmp = m.a23; m.a23 = m.a32; m.a32 = tmp;
+        tmp = m.a24; m.a24 = m.a42; m.a42 = tmp;
+        tmp = m.a25; m.a25 = m.a52; m.a52 = tmp;
+        tmp = m.a26; m.a26 = m.a62; m.a62 = tmp;
+        tmp = m.a27; m.a27 = m.a72; m.a72 = tmp;
+        tmp = m.a28; m.a28 = m.a82; m.a82 = tmp;
+        tmp = m.a34; m.a34 = m.a43; m.a43 = tmp;
+        tmp = m.a35; m.a35 = m.a53; m.a53 = tmp;
+        tmp = m.a36; m.a36 = m.a63; m.a63 = tmp;
+        tmp = m.a37; m.a37 = m.a73; m.a73 = tmp;
+        tmp = m.a38; m.a38 = m.a83; m.a83 = tmp;
+        tmp = m.a45; m.a45 = m.a54; m.a54 = tmp;
+        tmp = m.a46; m.a46 = m.a64; m.a64 = tmp;
+        tmp = m.a47; m.a47 = m.a74; m.a74 = tmp;
+        tmp = m.a48; m.a48 = m.a84; m.a84 = tmp;
+        tmp = m.a56; m.a56 = m.a65; m.a65 = tmp;
+        tmp = m.a57; m.a57 = m.a75; m.a75 = tmp;
+        tmp = m.a58; m.a58 = m.a85; m.a85 = tmp;
+        tmp = m.a67; m.a67 = m.a76; m.a76 = tmp;
+        tmp = m.a68; m.a68 = m.a86; m.a86 = tmp;
+        tmp = m.a78; m.a78 = m.a87; m.a87 = tmp;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix. Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static DMatrix8x8 transpose( DMatrix8x8 input , DMatrix8x8 output ) {
+        if( input == null )
+            input = new DMatrix8x8();
+
+        UtilEjml.checkSameInstance(input,output);
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a13 = input.a31;
+        output.a14 = input.a41;
+        output.a15 = input.a51;
+        output.a16 = input.a61;
+        output.a17 = input.a71;
+        output.a18 = input.a81;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a23 = input.a32;
+        output.a24 = input.a42;
+        output.a25 = input.a52;
+        output.a26 = input.a62;
+        output.a27 = input.a72;
+        output.a28 = input.a82;
+        output.a31 = input.a13;
+        output.a32 = input.a23;
+        output.a33 = input.a33;
+        output.a34 = input.a43;
+        output.a35 = input.a53;
+        output.a36 = input.a63;
+        output.a37 = input.a73;
+        output.a38 = input.a83;
+        output.a41 = input.a14;
+        output.a42 = input.a24;
+        output.a43 = input.a34;
+        output.a44 = input.a44;
+        output.a45 = input.a54;
+        output.a46 = input.a64;
+        output.a47 = input.a74;
+        output.a48 = input.a84;
+        output.a51 = input.a15;
+        output.a52 = input.a25;
+        output.a53 = input.a35;
+        output.a54 = input.a45;
+        output.a55 = input.a55;
+        output.a56 = input.a65;
+        output.a57 = input.a75;
+        output.a58 = input.a85;
+        output.a61 = input.a16;
+        output.a62 = input.a26;
+        output.a63 = input.a36;
+        output.a64 = input.a46;
+        output.a65 = input.a56;
+        output.a66 = input.a66;
+        output.a67 = input.a76;
+        output.a68 = input.a86;
+        output.a71 = input.a17;
+        output.a72 = input.a27;
+        output.a73 = input.a37;
+        output.a74 = input.a47;
+        output.a75 = input.a57;
+        output.a76 = input.a67;
+        output.a77 = input.a77;
+        output.a78 = input.a87;
+        output.a81 = input.a18;
+        output.a82 = input.a28;
+        output.a83 = input.a38;
+        output.a84 = input.a48;
+        output.a85 = input.a58;
+        output.a86 = input.a68;
+        output.a87 = input.a78;
+        output.a88 = input.a88;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61 + a.a17*b.a71 + a.a18*b.a81;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62 + a.a17*b.a72 + a.a18*b.a82;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43 + a.a15*b.a53 + a.a16*b.a63 + a.a17*b.a73 + a.a18*b.a83;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34 + a.a14*b.a44 + a.a15*b.a54 + a.a16*b.a64 + a.a17*b.a74 + a.a18*b.a84;
+        c.a15 = a.a11*b.a15 + a.a12*b.a25 + a.a13*b.a35 + a.a14*b.a45 + a.a15*b.a55 + a.a16*b.a65 + a.a17*b.a75 + a.a18*b.a85;
+        c.a16 = a.a11*b.a16 + a.a12*b.a26 + a.a13*b.a36 + a.a14*b.a46 + a.a15*b.a56 + a.a16*b.a66 + a.a17*b.a76 + a.a18*b.a86;
+        c.a17 = a.a11*b.a17 + a.a12*b.a27 + a.a13*b.a37 + a.a14*b.a47 + a.a15*b.a57 + a.a16*b.a67 + a.a17*b.a77 + a.a18*b.a87;
+        c.a18 = a.a11*b.a18 + a.a12*b.a28 + a.a13*b.a38 + a.a14*b.a48 + a.a15*b.a58 + a.a16*b.a68 + a.a17*b.a78 + a.a18*b.a88;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61 + a.a27*b.a71 + a.a28*b.a81;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62 + a.a27*b.a72 + a.a28*b.a82;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43 + a.a25*b.a53 + a.a26*b.a63 + a.a27*b.a73 + a.a28*b.a83;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34 + a.a24*b.a44 + a.a25*b.a54 + a.a26*b.a64 + a.a27*b.a74 + a.a28*b.a84;
+        c.a25 = a.a21*b.a15 + a.a22*b.a25 + a.a23*b.a35 + a.a24*b.a45 + a.a25*b.a55 + a.a26*b.a65 + a.a27*b.a75 + a.a28*b.a85;
+        c.a26 = a.a21*b.a16 + a.a22*b.a26 + a.a23*b.a36 + a.a24*b.a46 + a.a25*b.a56 + a.a26*b.a66 + a.a27*b.a76 + a.a28*b.a86;
+        c.a27 = a.a21*b.a17 + a.a22*b.a27 + a.a23*b.a37 + a.a24*b.a47 + a.a25*b.a57 + a.a26*b.a67 + a.a27*b.a77 + a.a28*b.a87;
+        c.a28 = a.a21*b.a18 + a.a22*b.a28 + a.a23*b.a38 + a.a24*b.a48 + a.a25*b.a58 + a.a26*b.a68 + a.a27*b.a78 + a.a28*b.a88;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41 + a.a35*b.a51 + a.a36*b.a61 + a.a37*b.a71 + a.a38*b.a81;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42 + a.a35*b.a52 + a.a36*b.a62 + a.a37*b.a72 + a.a38*b.a82;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43 + a.a35*b.a53 + a.a36*b.a63 + a.a37*b.a73 + a.a38*b.a83;
+        c.a34 = a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34 + a.a34*b.a44 + a.a35*b.a54 + a.a36*b.a64 + a.a37*b.a74 + a.a38*b.a84;
+        c.a35 = a.a31*b.a15 + a.a32*b.a25 + a.a33*b.a35 + a.a34*b.a45 + a.a35*b.a55 + a.a36*b.a65 + a.a37*b.a75 + a.a38*b.a85;
+        c.a36 = a.a31*b.a16 + a.a32*b.a26 + a.a33*b.a36 + a.a34*b.a46 + a.a35*b.a56 + a.a36*b.a66 + a.a37*b.a76 + a.a38*b.a86;
+        c.a37 = a.a31*b.a17 + a.a32*b.a27 + a.a33*b.a37 + a.a34*b.a47 + a.a35*b.a57 + a.a36*b.a67 + a.a37*b.a77 + a.a38*b.a87;
+        c.a38 = a.a31*b.a18 + a.a32*b.a28 + a.a33*b.a38 + a.a34*b.a48 + a.a35*b.a58 + a.a36*b.a68 + a.a37*b.a78 + a.a38*b.a88;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31 + a.a44*b.a41 + a.a45*b.a51 + a.a46*b.a61 + a.a47*b.a71 + a.a48*b.a81;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32 + a.a44*b.a42 + a.a45*b.a52 + a.a46*b.a62 + a.a47*b.a72 + a.a48*b.a82;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33 + a.a44*b.a43 + a.a45*b.a53 + a.a46*b.a63 + a.a47*b.a73 + a.a48*b.a83;
+        c.a44 = a.a41*b.a14 + a.a42*b.a24 + a.a43*b.a34 + a.a44*b.a44 + a.a45*b.a54 + a.a46*b.a64 + a.a47*b.a74 + a.a48*b.a84;
+        c.a45 = a.a41*b.a15 + a.a42*b.a25 + a.a43*b.a35 + a.a44*b.a45 + a.a45*b.a55 + a.a46*b.a65 + a.a47*b.a75 + a.a48*b.a85;
+        c.a46 = a.a41*b.a16 + a.a42*b.a26 + a.a43*b.a36 + a.a44*b.a46 + a.a45*b.a56 + a.a46*b.a66 + a.a47*b.a76 + a.a48*b.a86;
+        c.a47 = a.a41*b.a17 + a.a42*b.a27 + a.a43*b.a37 + a.a44*b.a47 + a.a45*b.a57 + a.a46*b.a67 + a.a47*b.a77 + a.a48*b.a87;
+        c.a48 = a.a41*b.a18 + a.a42*b.a28 + a.a43*b.a38 + a.a44*b.a48 + a.a45*b.a58 + a.a46*b.a68 + a.a47*b.a78 + a.a48*b.a88;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31 + a.a54*b.a41 + a.a55*b.a51 + a.a56*b.a61 + a.a57*b.a71 + a.a58*b.a81;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32 + a.a54*b.a42 + a.a55*b.a52 + a.a56*b.a62 + a.a57*b.a72 + a.a58*b.a82;
+        c.a53 = a.a51*b.a13 + a.a52*b.a23 + a.a53*b.a33 + a.a54*b.a43 + a.a55*b.a53 + a.a56*b.a63 + a.a57*b.a73 + a.a58*b.a83;
+        c.a54 = a.a51*b.a14 + a.a52*b.a24 + a.a53*b.a34 + a.a54*b.a44 + a.a55*b.a54 + a.a56*b.a64 + a.a57*b.a74 + a.a58*b.a84;
+        c.a55 = a.a51*b.a15 + a.a52*b.a25 + a.a53*b.a35 + a.a54*b.a45 + a.a55*b.a55 + a.a56*b.a65 + a.a57*b.a75 + a.a58*b.a85;
+        c.a56 = a.a51*b.a16 + a.a52*b.a26 + a.a53*b.a36 + a.a54*b.a46 + a.a55*b.a56 + a.a56*b.a66 + a.a57*b.a76 + a.a58*b.a86;
+        c.a57 = a.a51*b.a17 + a.a52*b.a27 + a.a53*b.a37 + a.a54*b.a47 + a.a55*b.a57 + a.a56*b.a67 + a.a57*b.a77 + a.a58*b.a87;
+        c.a58 = a.a51*b.a18 + a.a52*b.a28 + a.a53*b.a38 + a.a54*b.a48 + a.a55*b.a58 + a.a56*b.a68 + a.a57*b.a78 + a.a58*b.a88;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31 + a.a64*b.a41 + a.a65*b.a51 + a.a66*b.a61 + a.a67*b.a71 + a.a68*b.a81;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32 + a.a64*b.a42 + a.a65*b.a52 + a.a66*b.a62 + a.a67*b.a72 + a.a68*b.a82;
+        c.a63 = a.a61*b.a13 + a.a62*b.a23 + a.a63*b.a33 + a.a64*b.a43 + a.a65*b.a53 + a.a66*b.a63 + a.a67*b.a73 + a.a68*b.a83;
+        c.a64 = a.a61*b.a14 + a.a62*b.a24 + a.a63*b.a34 + a.a64*b.a44 + a.a65*b.a54 + a.a66*b.a64 + a.a67*b.a74 + a.a68*b.a84;
+        c.a65 = a.a61*b.a15 + a.a62*b.a25 + a.a63*b.a35 + a.a64*b.a45 + a.a65*b.a55 + a.a66*b.a65 + a.a67*b.a75 + a.a68*b.a85;
+        c.a66 = a.a61*b.a16 + a.a62*b.a26 + a.a63*b.a36 + a.a64*b.a46 + a.a65*b.a56 + a.a66*b.a66 + a.a67*b.a76 + a.a68*b.a86;
+        c.a67 = a.a61*b.a17 + a.a62*b.a27 + a.a63*b.a37 + a.a64*b.a47 + a.a65*b.a57 + a.a66*b.a67 + a.a67*b.a77 + a.a68*b.a87;
+        c.a68 = a.a61*b.a18 + a.a62*b.a28 + a.a63*b.a38 + a.a64*b.a48 + a.a65*b.a58 + a.a66*b.a68 + a.a67*b.a78 + a.a68*b.a88;
+        c.a71 = a.a71*b.a11 + a.a72*b.a21 + a.a73*b.a31 + a.a74*b.a41 + a.a75*b.a51 + a.a76*b.a61 + a.a77*b.a71 + a.a78*b.a81;
+        c.a72 = a.a71*b.a12 + a.a72*b.a22 + a.a73*b.a32 + a.a74*b.a42 + a.a75*b.a52 + a.a76*b.a62 + a.a77*b.a72 + a.a78*b.a82;
+        c.a73 = a.a71*b.a13 + a.a72*b.a23 + a.a73*b.a33 + a.a74*b.a43 + a.a75*b.a53 + a.a76*b.a63 + a.a77*b.a73 + a.a78*b.a83;
+        c.a74 = a.a71*b.a14 + a.a72*b.a24 + a.a73*b.a34 + a.a74*b.a44 + a.a75*b.a54 + a.a76*b.a64 + a.a77*b.a74 + a.a78*b.a84;
+        c.a75 = a.a71*b.a15 + a.a72*b.a25 + a.a73*b.a35 + a.a74*b.a45 + a.a75*b.a55 + a.a76*b.a65 + a.a77*b.a75 + a.a78*b.a85;
+        c.a76 = a.a71*b.a16 + a.a72*b.a26 + a.a73*b.a36 + a.a74*b.a46 + a.a75*b.a56 + a.a76*b.a66 + a.a77*b.a76 + a.a78*b.a86;
+        c.a77 = a.a71*b.a17 + a.a72*b.a27 + a.a73*b.a37 + a.a74*b.a47 + a.a75*b.a57 + a.a76*b.a67 + a.a77*b.a77 + a.a78*b.a87;
+        c.a78 = a.a71*b.a18 + a.a72*b.a28 + a.a73*b.a38 + a.a74*b.a48 + a.a75*b.a58 + a.a76*b.a68 + a.a77*b.a78 + a.a78*b.a88;
+        c.a81 = a.a81*b.a11 + a.a82*b.a21 + a.a83*b.a31 + a.a84*b.a41 + a.a85*b.a51 + a.a86*b.a61 + a.a87*b.a71 + a.a88*b.a81;
+        c.a82 = a.a81*b.a12 + a.a82*b.a22 + a.a83*b.a32 + a.a84*b.a42 + a.a85*b.a52 + a.a86*b.a62 + a.a87*b.a72 + a.a88*b.a82;
+        c.a83 = a.a81*b.a13 + a.a82*b.a23 + a.a83*b.a33 + a.a84*b.a43 + a.a85*b.a53 + a.a86*b.a63 + a.a87*b.a73 + a.a88*b.a83;
+        c.a84 = a.a81*b.a14 + a.a82*b.a24 + a.a83*b.a34 + a.a84*b.a44 + a.a85*b.a54 + a.a86*b.a64 + a.a87*b.a74 + a.a88*b.a84;
+        c.a85 = a.a81*b.a15 + a.a82*b.a25 + a.a83*b.a35 + a.a84*b.a45 + a.a85*b.a55 + a.a86*b.a65 + a.a87*b.a75 + a.a88*b.a85;
+        c.a86 = a.a81*b.a16 + a.a82*b.a26 + a.a83*b.a36 + a.a84*b.a46 + a.a85*b.a56 + a.a86*b.a66 + a.a87*b.a76 + a.a88*b.a86;
+        c.a87 = a.a81*b.a17 + a.a82*b.a27 + a.a83*b.a37 + a.a84*b.a47 + a.a85*b.a57 + a.a86*b.a67 + a.a87*b.a77 + a.a88*b.a87;
+        c.a88 = a.a81*b.a18 + a.a82*b.a28 + a.a83*b.a38 + a.a84*b.a48 + a.a85*b.a58 + a.a86*b.a68 + a.a87*b.a78 + a.a88*b.a88;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &alpha; &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( double alpha , DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = alpha*(a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61 + a.a17*b.a71 + a.a18*b.a81);
+        c.a12 = alpha*(a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62 + a.a17*b.a72 + a.a18*b.a82);
+        c.a13 = alpha*(a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43 + a.a15*b.a53 + a.a16*b.a63 + a.a17*b.a73 + a.a18*b.a83);
+        c.a14 = alpha*(a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34 + a.a14*b.a44 + a.a15*b.a54 + a.a16*b.a64 + a.a17*b.a74 + a.a18*b.a84);
+        c.a15 = alpha*(a.a11*b.a15 + a.a12*b.a25 + a.a13*b.a35 + a.a14*b.a45 + a.a15*b.a55 + a.a16*b.a65 + a.a17*b.a75 + a.a18*b.a85);
+        c.a16 = alpha*(a.a11*b.a16 + a.a12*b.a26 + a.a13*b.a36 + a.a14*b.a46 + a.a15*b.a56 + a.a16*b.a66 + a.a17*b.a76 + a.a18*b.a86);
+        c.a17 = alpha*(a.a11*b.a17 + a.a12*b.a27 + a.a13*b.a37 + a.a14*b.a47 + a.a15*b.a57 + a.a16*b.a67 + a.a17*b.a77 + a.a18*b.a87);
+        c.a18 = alpha*(a.a11*b.a18 + a.a12*b.a28 + a.a13*b.a38 + a.a14*b.a48 + a.a15*b.a58 + a.a16*b.a68 + a.a17*b.a78 + a.a18*b.a88);
+        c.a21 = alpha*(a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61 + a.a27*b.a71 + a.a28*b.a81);
+        c.a22 = alpha*(a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62 + a.a27*b.a72 + a.a28*b.a82);
+        c.a23 = alpha*(a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43 + a.a25*b.a53 + a.a26*b.a63 + a.a27*b.a73 + a.a28*b.a83);
+        c.a24 = alpha*(a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34 + a.a24*b.a44 + a.a25*b.a54 + a.a26*b.a64 + a.a27*b.a74 + a.a28*b.a84);
+        c.a25 = alpha*(a.a21*b.a15 + a.a22*b.a25 + a.a23*b.a35 + a.a24*b.a45 + a.a25*b.a55 + a.a26*b.a65 + a.a27*b.a75 + a.a28*b.a85);
+        c.a26 = alpha*(a.a21*b.a16 + a.a22*b.a26 + a.a23*b.a36 + a.a24*b.a46 + a.a25*b.a56 + a.a26*b.a66 + a.a27*b.a76 + a.a28*b.a86);
+        c.a27 = alpha*(a.a21*b.a17 + a.a22*b.a27 + a.a23*b.a37 + a.a24*b.a47 + a.a25*b.a57 + a.a26*b.a67 + a.a27*b.a77 + a.a28*b.a87);
+        c.a28 = alpha*(a.a21*b.a18 + a.a22*b.a28 + a.a23*b.a38 + a.a24*b.a48 + a.a25*b.a58 + a.a26*b.a68 + a.a27*b.a78 + a.a28*b.a88);
+        c.a31 = alpha*(a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41 + a.a35*b.a51 + a.a36*b.a61 + a.a37*b.a71 + a.a38*b.a81);
+        c.a32 = alpha*(a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42 + a.a35*b.a52 + a.a36*b.a62 + a.a37*b.a72 + a.a38*b.a82);
+        c.a33 = alpha*(a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43 + a.a35*b.a53 + a.a36*b.a63 + a.a37*b.a73 + a.a38*b.a83);
+        c.a34 = alpha*(a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34 + a.a34*b.a44 + a.a35*b.a54 + a.a36*b.a64 + a.a37*b.a74 + a.a38*b.a84);
+        c.a35 = alpha*(a.a31*b.a15 + a.a32*b.a25 + a.a33*b.a35 + a.a34*b.a45 + a.a35*b.a55 + a.a36*b.a65 + a.a37*b.a75 + a.a38*b.a85);
+        c.a36 = alpha*(a.a31*b.a16 + a.a32*b.a26 + a.a33*b.a36 + a.a34*b.a46 + a.a35*b.a56 + a.a36*b.a66 + a.a37*b.a76 + a.a38*b.a86);
+        c.a37 = alpha*(a.a31*b.a17 + a.a32*b.a27 + a.a33*b.a37 + a.a34*b.a47 + a.a35*b.a57 + a.a36*b.a67 + a.a37*b.a77 + a.a38*b.a87);
+        c.a38 = alpha*(a.a31*b.a18 + a.a32*b.a28 + a.a33*b.a38 + a.a34*b.a48 + a.a35*b.a58 + a.a36*b.a68 + a.a37*b.a78 + a.a38*b.a88);
+        c.a41 = alpha*(a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31 + a.a44*b.a41 + a.a45*b.a51 + a.a46*b.a61 + a.a47*b.a71 + a.a48*b.a81);
+        c.a42 = alpha*(a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32 + a.a44*b.a42 + a.a45*b.a52 + a.a46*b.a62 + a.a47*b.a72 + a.a48*b.a82);
+        c.a43 = alpha*(a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33 + a.a44*b.a43 + a.a45*b.a53 + a.a46*b.a63 + a.a47*b.a73 + a.a48*b.a83);
+        c.a44 = alpha*(a.a41*b.a14 + a.a42*b.a24 + a.a43*b.a34 + a.a44*b.a44 + a.a45*b.a54 + a.a46*b.a64 + a.a47*b.a74 + a.a48*b.a84);
+        c.a45 = alpha*(a.a41*b.a15 + a.a42*b.a25 + a.a43*b.a35 + a.a44*b.a45 + a.a45*b.a55 + a.a46*b.a65 + a.a47*b.a75 + a.a48*b.a85);
+        c.a46 = alpha*(a.a41*b.a16 + a.a42*b.a26 + a.a43*b.a36 + a.a44*b.a46 + a.a45*b.a56 + a.a46*b.a66 + a.a47*b.a76 + a.a48*b.a86);
+        c.a47 = alpha*(a.a41*b.a17 + a.a42*b.a27 + a.a43*b.a37 + a.a44*b.a47 + a.a45*b.a57 + a.a46*b.a67 + a.a47*b.a77 + a.a48*b.a87);
+        c.a48 = alpha*(a.a41*b.a18 + a.a42*b.a28 + a.a43*b.a38 + a.a44*b.a48 + a.a45*b.a58 + a.a46*b.a68 + a.a47*b.a78 + a.a48*b.a88);
+        c.a51 = alpha*(a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31 + a.a54*b.a41 + a.a55*b.a51 + a.a56*b.a61 + a.a57*b.a71 + a.a58*b.a81);
+        c.a52 = alpha*(a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32 + a.a54*b.a42 + a.a55*b.a52 + a.a56*b.a62 + a.a57*b.a72 + a.a58*b.a82);
+        c.a53 = alpha*(a.a51*b.a13 + a.a52*b.a23 + a.a53*b.a33 + a.a54*b.a43 + a.a55*b.a53 + a.a56*b.a63 + a.a57*b.a73 + a.a58*b.a83);
+        c.a54 = alpha*(a.a51*b.a14 + a.a52*b.a24 + a.a53*b.a34 + a.a54*b.a44 + a.a55*b.a54 + a.a56*b.a64 + a.a57*b.a74 + a.a58*b.a84);
+        c.a55 = alpha*(a.a51*b.a15 + a.a52*b.a25 + a.a53*b.a35 + a.a54*b.a45 + a.a55*b.a55 + a.a56*b.a65 + a.a57*b.a75 + a.a58*b.a85);
+        c.a56 = alpha*(a.a51*b.a16 + a.a52*b.a26 + a.a53*b.a36 + a.a54*b.a46 + a.a55*b.a56 + a.a56*b.a66 + a.a57*b.a76 + a.a58*b.a86);
+        c.a57 = alpha*(a.a51*b.a17 + a.a52*b.a27 + a.a53*b.a37 + a.a54*b.a47 + a.a55*b.a57 + a.a56*b.a67 + a.a57*b.a77 + a.a58*b.a87);
+        c.a58 = alpha*(a.a51*b.a18 + a.a52*b.a28 + a.a53*b.a38 + a.a54*b.a48 + a.a55*b.a58 + a.a56*b.a68 + a.a57*b.a78 + a.a58*b.a88);
+        c.a61 = alpha*(a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31 + a.a64*b.a41 + a.a65*b.a51 + a.a66*b.a61 + a.a67*b.a71 + a.a68*b.a81);
+        c.a62 = alpha*(a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32 + a.a64*b.a42 + a.a65*b.a52 + a.a66*b.a62 + a.a67*b.a72 + a.a68*b.a82);
+        c.a63 = alpha*(a.a61*b.a13 + a.a62*b.a23 + a.a63*b.a33 + a.a64*b.a43 + a.a65*b.a53 + a.a66*b.a63 + a.a67*b.a73 + a.a68*b.a83);
+        c.a64 = alpha*(a.a61*b.a14 + a.a62*b.a24 + a.a63*b.a34 + a.a64*b.a44 + a.a65*b.a54 + a.a66*b.a64 + a.a67*b.a74 + a.a68*b.a84);
+        c.a65 = alpha*(a.a61*b.a15 + a.a62*b.a25 + a.a63*b.a35 + a.a64*b.a45 + a.a65*b.a55 + a.a66*b.a65 + a.a67*b.a75 + a.a68*b.a85);
+        c.a66 = alpha*(a.a61*b.a16 + a.a62*b.a26 + a.a63*b.a36 + a.a64*b.a46 + a.a65*b.a56 + a.a66*b.a66 + a.a67*b.a76 + a.a68*b.a86);
+        c.a67 = alpha*(a.a61*b.a17 + a.a62*b.a27 + a.a63*b.a37 + a.a64*b.a47 + a.a65*b.a57 + a.a66*b.a67 + a.a67*b.a77 + a.a68*b.a87);
+        c.a68 = alpha*(a.a61*b.a18 + a.a62*b.a28 + a.a63*b.a38 + a.a64*b.a48 + a.a65*b.a58 + a.a66*b.a68 + a.a67*b.a78 + a.a68*b.a88);
+        c.a71 = alpha*(a.a71*b.a11 + a.a72*b.a21 + a.a73*b.a31 + a.a74*b.a41 + a.a75*b.a51 + a.a76*b.a61 + a.a77*b.a71 + a.a78*b.a81);
+        c.a72 = alpha*(a.a71*b.a12 + a.a72*b.a22 + a.a73*b.a32 + a.a74*b.a42 + a.a75*b.a52 + a.a76*b.a62 + a.a77*b.a72 + a.a78*b.a82);
+        c.a73 = alpha*(a.a71*b.a13 + a.a72*b.a23 + a.a73*b.a33 + a.a74*b.a43 + a.a75*b.a53 + a.a76*b.a63 + a.a77*b.a73 + a.a78*b.a83);
+        c.a74 = alpha*(a.a71*b.a14 + a.a72*b.a24 + a.a73*b.a34 + a.a74*b.a44 + a.a75*b.a54 + a.a76*b.a64 + a.a77*b.a74 + a.a78*b.a84);
+        c.a75 = alpha*(a.a71*b.a15 + a.a72*b.a25 + a.a73*b.a35 + a.a74*b.a45 + a.a75*b.a55 + a.a76*b.a65 + a.a77*b.a75 + a.a78*b.a85);
+        c.a76 = alpha*(a.a71*b.a16 + a.a72*b.a26 + a.a73*b.a36 + a.a74*b.a46 + a.a75*b.a56 + a.a76*b.a66 + a.a77*b.a76 + a.a78*b.a86);
+        c.a77 = alpha*(a.a71*b.a17 + a.a72*b.a27 + a.a73*b.a37 + a.a74*b.a47 + a.a75*b.a57 + a.a76*b.a67 + a.a77*b.a77 + a.a78*b.a87);
+        c.a78 = alpha*(a.a71*b.a18 + a.a72*b.a28 + a.a73*b.a38 + a.a74*b.a48 + a.a75*b.a58 + a.a76*b.a68 + a.a77*b.a78 + a.a78*b.a88);
+        c.a81 = alpha*(a.a81*b.a11 + a.a82*b.a21 + a.a83*b.a31 + a.a84*b.a41 + a.a85*b.a51 + a.a86*b.a61 + a.a87*b.a71 + a.a88*b.a81);
+        c.a82 = alpha*(a.a81*b.a12 + a.a82*b.a22 + a.a83*b.a32 + a.a84*b.a42 + a.a85*b.a52 + a.a86*b.a62 + a.a87*b.a72 + a.a88*b.a82);
+        c.a83 = alpha*(a.a81*b.a13 + a.a82*b.a23 + a.a83*b.a33 + a.a84*b.a43 + a.a85*b.a53 + a.a86*b.a63 + a.a87*b.a73 + a.a88*b.a83);
+        c.a84 = alpha*(a.a81*b.a14 + a.a82*b.a24 + a.a83*b.a34 + a.a84*b.a44 + a.a85*b.a54 + a.a86*b.a64 + a.a87*b.a74 + a.a88*b.a84);
+        c.a85 = alpha*(a.a81*b.a15 + a.a82*b.a25 + a.a83*b.a35 + a.a84*b.a45 + a.a85*b.a55 + a.a86*b.a65 + a.a87*b.a75 + a.a88*b.a85);
+        c.a86 = alpha*(a.a81*b.a16 + a.a82*b.a26 + a.a83*b.a36 + a.a84*b.a46 + a.a85*b.a56 + a.a86*b.a66 + a.a87*b.a76 + a.a88*b.a86);
+        c.a87 = alpha*(a.a81*b.a17 + a.a82*b.a27 + a.a83*b.a37 + a.a84*b.a47 + a.a85*b.a57 + a.a86*b.a67 + a.a87*b.a77 + a.a88*b.a87);
+        c.a88 = alpha*(a.a81*b.a18 + a.a82*b.a28 + a.a83*b.a38 + a.a84*b.a48 + a.a85*b.a58 + a.a86*b.a68 + a.a87*b.a78 + a.a88*b.a88);
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61 + a.a71*b.a71 + a.a81*b.a81;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62 + a.a71*b.a72 + a.a81*b.a82;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63 + a.a71*b.a73 + a.a81*b.a83;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34 + a.a41*b.a44 + a.a51*b.a54 + a.a61*b.a64 + a.a71*b.a74 + a.a81*b.a84;
+        c.a15 = a.a11*b.a15 + a.a21*b.a25 + a.a31*b.a35 + a.a41*b.a45 + a.a51*b.a55 + a.a61*b.a65 + a.a71*b.a75 + a.a81*b.a85;
+        c.a16 = a.a11*b.a16 + a.a21*b.a26 + a.a31*b.a36 + a.a41*b.a46 + a.a51*b.a56 + a.a61*b.a66 + a.a71*b.a76 + a.a81*b.a86;
+        c.a17 = a.a11*b.a17 + a.a21*b.a27 + a.a31*b.a37 + a.a41*b.a47 + a.a51*b.a57 + a.a61*b.a67 + a.a71*b.a77 + a.a81*b.a87;
+        c.a18 = a.a11*b.a18 + a.a21*b.a28 + a.a31*b.a38 + a.a41*b.a48 + a.a51*b.a58 + a.a61*b.a68 + a.a71*b.a78 + a.a81*b.a88;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61 + a.a72*b.a71 + a.a82*b.a81;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62 + a.a72*b.a72 + a.a82*b.a82;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63 + a.a72*b.a73 + a.a82*b.a83;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34 + a.a42*b.a44 + a.a52*b.a54 + a.a62*b.a64 + a.a72*b.a74 + a.a82*b.a84;
+        c.a25 = a.a12*b.a15 + a.a22*b.a25 + a.a32*b.a35 + a.a42*b.a45 + a.a52*b.a55 + a.a62*b.a65 + a.a72*b.a75 + a.a82*b.a85;
+        c.a26 = a.a12*b.a16 + a.a22*b.a26 + a.a32*b.a36 + a.a42*b.a46 + a.a52*b.a56 + a.a62*b.a66 + a.a72*b.a76 + a.a82*b.a86;
+        c.a27 = a.a12*b.a17 + a.a22*b.a27 + a.a32*b.a37 + a.a42*b.a47 + a.a52*b.a57 + a.a62*b.a67 + a.a72*b.a77 + a.a82*b.a87;
+        c.a28 = a.a12*b.a18 + a.a22*b.a28 + a.a32*b.a38 + a.a42*b.a48 + a.a52*b.a58 + a.a62*b.a68 + a.a72*b.a78 + a.a82*b.a88;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61 + a.a73*b.a71 + a.a83*b.a81;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62 + a.a73*b.a72 + a.a83*b.a82;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43 + a.a53*b.a53 + a.a63*b.a63 + a.a73*b.a73 + a.a83*b.a83;
+        c.a34 = a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34 + a.a43*b.a44 + a.a53*b.a54 + a.a63*b.a64 + a.a73*b.a74 + a.a83*b.a84;
+        c.a35 = a.a13*b.a15 + a.a23*b.a25 + a.a33*b.a35 + a.a43*b.a45 + a.a53*b.a55 + a.a63*b.a65 + a.a73*b.a75 + a.a83*b.a85;
+        c.a36 = a.a13*b.a16 + a.a23*b.a26 + a.a33*b.a36 + a.a43*b.a46 + a.a53*b.a56 + a.a63*b.a66 + a.a73*b.a76 + a.a83*b.a86;
+        c.a37 = a.a13*b.a17 + a.a23*b.a27 + a.a33*b.a37 + a.a43*b.a47 + a.a53*b.a57 + a.a63*b.a67 + a.a73*b.a77 + a.a83*b.a87;
+        c.a38 = a.a13*b.a18 + a.a23*b.a28 + a.a33*b.a38 + a.a43*b.a48 + a.a53*b.a58 + a.a63*b.a68 + a.a73*b.a78 + a.a83*b.a88;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31 + a.a44*b.a41 + a.a54*b.a51 + a.a64*b.a61 + a.a74*b.a71 + a.a84*b.a81;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32 + a.a44*b.a42 + a.a54*b.a52 + a.a64*b.a62 + a.a74*b.a72 + a.a84*b.a82;
+        c.a43 = a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33 + a.a44*b.a43 + a.a54*b.a53 + a.a64*b.a63 + a.a74*b.a73 + a.a84*b.a83;
+        c.a44 = a.a14*b.a14 + a.a24*b.a24 + a.a34*b.a34 + a.a44*b.a44 + a.a54*b.a54 + a.a64*b.a64 + a.a74*b.a74 + a.a84*b.a84;
+        c.a45 = a.a14*b.a15 + a.a24*b.a25 + a.a34*b.a35 + a.a44*b.a45 + a.a54*b.a55 + a.a64*b.a65 + a.a74*b.a75 + a.a84*b.a85;
+        c.a46 = a.a14*b.a16 + a.a24*b.a26 + a.a34*b.a36 + a.a44*b.a46 + a.a54*b.a56 + a.a64*b.a66 + a.a74*b.a76 + a.a84*b.a86;
+        c.a47 = a.a14*b.a17 + a.a24*b.a27 + a.a34*b.a37 + a.a44*b.a47 + a.a54*b.a57 + a.a64*b.a67 + a.a74*b.a77 + a.a84*b.a87;
+        c.a48 = a.a14*b.a18 + a.a24*b.a28 + a.a34*b.a38 + a.a44*b.a48 + a.a54*b.a58 + a.a64*b.a68 + a.a74*b.a78 + a.a84*b.a88;
+        c.a51 = a.a15*b.a11 + a.a25*b.a21 + a.a35*b.a31 + a.a45*b.a41 + a.a55*b.a51 + a.a65*b.a61 + a.a75*b.a71 + a.a85*b.a81;
+        c.a52 = a.a15*b.a12 + a.a25*b.a22 + a.a35*b.a32 + a.a45*b.a42 + a.a55*b.a52 + a.a65*b.a62 + a.a75*b.a72 + a.a85*b.a82;
+        c.a53 = a.a15*b.a13 + a.a25*b.a23 + a.a35*b.a33 + a.a45*b.a43 + a.a55*b.a53 + a.a65*b.a63 + a.a75*b.a73 + a.a85*b.a83;
+        c.a54 = a.a15*b.a14 + a.a25*b.a24 + a.a35*b.a34 + a.a45*b.a44 + a.a55*b.a54 + a.a65*b.a64 + a.a75*b.a74 + a.a85*b.a84;
+        c.a55 = a.a15*b.a15 + a.a25*b.a25 + a.a35*b.a35 + a.a45*b.a45 + a.a55*b.a55 + a.a65*b.a65 + a.a75*b.a75 + a.a85*b.a85;
+        c.a56 = a.a15*b.a16 + a.a25*b.a26 + a.a35*b.a36 + a.a45*b.a46 + a.a55*b.a56 + a.a65*b.a66 + a.a75*b.a76 + a.a85*b.a86;
+        c.a57 = a.a15*b.a17 + a.a25*b.a27 + a.a35*b.a37 + a.a45*b.a47 + a.a55*b.a57 + a.a65*b.a67 + a.a75*b.a77 + a.a85*b.a87;
+        c.a58 = a.a15*b.a18 + a.a25*b.a28 + a.a35*b.a38 + a.a45*b.a48 + a.a55*b.a58 + a.a65*b.a68 + a.a75*b.a78 + a.a85*b.a88;
+        c.a61 = a.a16*b.a11 + a.a26*b.a21 + a.a36*b.a31 + a.a46*b.a41 + a.a56*b.a51 + a.a66*b.a61 + a.a76*b.a71 + a.a86*b.a81;
+        c.a62 = a.a16*b.a12 + a.a26*b.a22 + a.a36*b.a32 + a.a46*b.a42 + a.a56*b.a52 + a.a66*b.a62 + a.a76*b.a72 + a.a86*b.a82;
+        c.a63 = a.a16*b.a13 + a.a26*b.a23 + a.a36*b.a33 + a.a46*b.a43 + a.a56*b.a53 + a.a66*b.a63 + a.a76*b.a73 + a.a86*b.a83;
+        c.a64 = a.a16*b.a14 + a.a26*b.a24 + a.a36*b.a34 + a.a46*b.a44 + a.a56*b.a54 + a.a66*b.a64 + a.a76*b.a74 + a.a86*b.a84;
+        c.a65 = a.a16*b.a15 + a.a26*b.a25 + a.a36*b.a35 + a.a46*b.a45 + a.a56*b.a55 + a.a66*b.a65 + a.a76*b.a75 + a.a86*b.a85;
+        c.a66 = a.a16*b.a16 + a.a26*b.a26 + a.a36*b.a36 + a.a46*b.a46 + a.a56*b.a56 + a.a66*b.a66 + a.a76*b.a76 + a.a86*b.a86;
+        c.a67 = a.a16*b.a17 + a.a26*b.a27 + a.a36*b.a37 + a.a46*b.a47 + a.a56*b.a57 + a.a66*b.a67 + a.a76*b.a77 + a.a86*b.a87;
+        c.a68 = a.a16*b.a18 + a.a26*b.a28 + a.a36*b.a38 + a.a46*b.a48 + a.a56*b.a58 + a.a66*b.a68 + a.a76*b.a78 + a.a86*b.a88;
+        c.a71 = a.a17*b.a11 + a.a27*b.a21 + a.a37*b.a31 + a.a47*b.a41 + a.a57*b.a51 + a.a67*b.a61 + a.a77*b.a71 + a.a87*b.a81;
+        c.a72 = a.a17*b.a12 + a.a27*b.a22 + a.a37*b.a32 + a.a47*b.a42 + a.a57*b.a52 + a.a67*b.a62 + a.a77*b.a72 + a.a87*b.a82;
+        c.a73 = a.a17*b.a13 + a.a27*b.a23 + a.a37*b.a33 + a.a47*b.a43 + a.a57*b.a53 + a.a67*b.a63 + a.a77*b.a73 + a.a87*b.a83;
+        c.a74 = a.a17*b.a14 + a.a27*b.a24 + a.a37*b.a34 + a.a47*b.a44 + a.a57*b.a54 + a.a67*b.a64 + a.a77*b.a74 + a.a87*b.a84;
+        c.a75 = a.a17*b.a15 + a.a27*b.a25 + a.a37*b.a35 + a.a47*b.a45 + a.a57*b.a55 + a.a67*b.a65 + a.a77*b.a75 + a.a87*b.a85;
+        c.a76 = a.a17*b.a16 + a.a27*b.a26 + a.a37*b.a36 + a.a47*b.a46 + a.a57*b.a56 + a.a67*b.a66 + a.a77*b.a76 + a.a87*b.a86;
+        c.a77 = a.a17*b.a17 + a.a27*b.a27 + a.a37*b.a37 + a.a47*b.a47 + a.a57*b.a57 + a.a67*b.a67 + a.a77*b.a77 + a.a87*b.a87;
+        c.a78 = a.a17*b.a18 + a.a27*b.a28 + a.a37*b.a38 + a.a47*b.a48 + a.a57*b.a58 + a.a67*b.a68 + a.a77*b.a78 + a.a87*b.a88;
+        c.a81 = a.a18*b.a11 + a.a28*b.a21 + a.a38*b.a31 + a.a48*b.a41 + a.a58*b.a51 + a.a68*b.a61 + a.a78*b.a71 + a.a88*b.a81;
+        c.a82 = a.a18*b.a12 + a.a28*b.a22 + a.a38*b.a32 + a.a48*b.a42 + a.a58*b.a52 + a.a68*b.a62 + a.a78*b.a72 + a.a88*b.a82;
+        c.a83 = a.a18*b.a13 + a.a28*b.a23 + a.a38*b.a33 + a.a48*b.a43 + a.a58*b.a53 + a.a68*b.a63 + a.a78*b.a73 + a.a88*b.a83;
+        c.a84 = a.a18*b.a14 + a.a28*b.a24 + a.a38*b.a34 + a.a48*b.a44 + a.a58*b.a54 + a.a68*b.a64 + a.a78*b.a74 + a.a88*b.a84;
+        c.a85 = a.a18*b.a15 + a.a28*b.a25 + a.a38*b.a35 + a.a48*b.a45 + a.a58*b.a55 + a.a68*b.a65 + a.a78*b.a75 + a.a88*b.a85;
+        c.a86 = a.a18*b.a16 + a.a28*b.a26 + a.a38*b.a36 + a.a48*b.a46 + a.a58*b.a56 + a.a68*b.a66 + a.a78*b.a76 + a.a88*b.a86;
+        c.a87 = a.a18*b.a17 + a.a28*b.a27 + a.a38*b.a37 + a.a48*b.a47 + a.a58*b.a57 + a.a68*b.a67 + a.a78*b.a77 + a.a88*b.a87;
+        c.a88 = a.a18*b.a18 + a.a28*b.a28 + a.a38*b.a38 + a.a48*b.a48 + a.a58*b.a58 + a.a68*b.a68 + a.a78*b.a78 + a.a88*b.a88;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &alpha; * &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( double alpha , DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = alpha*(a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61 + a.a71*b.a71 + a.a81*b.a81);
+        c.a12 = alpha*(a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62 + a.a71*b.a72 + a.a81*b.a82);
+        c.a13 = alpha*(a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63 + a.a71*b.a73 + a.a81*b.a83);
+        c.a14 = alpha*(a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34 + a.a41*b.a44 + a.a51*b.a54 + a.a61*b.a64 + a.a71*b.a74 + a.a81*b.a84);
+        c.a15 = alpha*(a.a11*b.a15 + a.a21*b.a25 + a.a31*b.a35 + a.a41*b.a45 + a.a51*b.a55 + a.a61*b.a65 + a.a71*b.a75 + a.a81*b.a85);
+        c.a16 = alpha*(a.a11*b.a16 + a.a21*b.a26 + a.a31*b.a36 + a.a41*b.a46 + a.a51*b.a56 + a.a61*b.a66 + a.a71*b.a76 + a.a81*b.a86);
+        c.a17 = alpha*(a.a11*b.a17 + a.a21*b.a27 + a.a31*b.a37 + a.a41*b.a47 + a.a51*b.a57 + a.a61*b.a67 + a.a71*b.a77 + a.a81*b.a87);
+        c.a18 = alpha*(a.a11*b.a18 + a.a21*b.a28 + a.a31*b.a38 + a.a41*b.a48 + a.a51*b.a58 + a.a61*b.a68 + a.a71*b.a78 + a.a81*b.a88);
+        c.a21 = alpha*(a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61 + a.a72*b.a71 + a.a82*b.a81);
+        c.a22 = alpha*(a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62 + a.a72*b.a72 + a.a82*b.a82);
+        c.a23 = alpha*(a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63 + a.a72*b.a73 + a.a82*b.a83);
+        c.a24 = alpha*(a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34 + a.a42*b.a44 + a.a52*b.a54 + a.a62*b.a64 + a.a72*b.a74 + a.a82*b.a84);
+        c.a25 = alpha*(a.a12*b.a15 + a.a22*b.a25 + a.a32*b.a35 + a.a42*b.a45 + a.a52*b.a55 + a.a62*b.a65 + a.a72*b.a75 + a.a82*b.a85);
+        c.a26 = alpha*(a.a12*b.a16 + a.a22*b.a26 + a.a32*b.a36 + a.a42*b.a46 + a.a52*b.a56 + a.a62*b.a66 + a.a72*b.a76 + a.a82*b.a86);
+        c.a27 = alpha*(a.a12*b.a17 + a.a22*b.a27 + a.a32*b.a37 + a.a42*b.a47 + a.a52*b.a57 + a.a62*b.a67 + a.a72*b.a77 + a.a82*b.a87);
+        c.a28 = alpha*(a.a12*b.a18 + a.a22*b.a28 + a.a32*b.a38 + a.a42*b.a48 + a.a52*b.a58 + a.a62*b.a68 + a.a72*b.a78 + a.a82*b.a88);
+        c.a31 = alpha*(a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61 + a.a73*b.a71 + a.a83*b.a81);
+        c.a32 = alpha*(a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62 + a.a73*b.a72 + a.a83*b.a82);
+        c.a33 = alpha*(a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43 + a.a53*b.a53 + a.a63*b.a63 + a.a73*b.a73 + a.a83*b.a83);
+        c.a34 = alpha*(a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34 + a.a43*b.a44 + a.a53*b.a54 + a.a63*b.a64 + a.a73*b.a74 + a.a83*b.a84);
+        c.a35 = alpha*(a.a13*b.a15 + a.a23*b.a25 + a.a33*b.a35 + a.a43*b.a45 + a.a53*b.a55 + a.a63*b.a65 + a.a73*b.a75 + a.a83*b.a85);
+        c.a36 = alpha*(a.a13*b.a16 + a.a23*b.a26 + a.a33*b.a36 + a.a43*b.a46 + a.a53*b.a56 + a.a63*b.a66 + a.a73*b.a76 + a.a83*b.a86);
+        c.a37 = alpha*(a.a13*b.a17 + a.a23*b.a27 + a.a33*b.a37 + a.a43*b.a47 + a.a53*b.a57 + a.a63*b.a67 + a.a73*b.a77 + a.a83*b.a87);
+        c.a38 = alpha*(a.a13*b.a18 + a.a23*b.a28 + a.a33*b.a38 + a.a43*b.a48 + a.a53*b.a58 + a.a63*b.a68 + a.a73*b.a78 + a.a83*b.a88);
+        c.a41 = alpha*(a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31 + a.a44*b.a41 + a.a54*b.a51 + a.a64*b.a61 + a.a74*b.a71 + a.a84*b.a81);
+        c.a42 = alpha*(a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32 + a.a44*b.a42 + a.a54*b.a52 + a.a64*b.a62 + a.a74*b.a72 + a.a84*b.a82);
+        c.a43 = alpha*(a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33 + a.a44*b.a43 + a.a54*b.a53 + a.a64*b.a63 + a.a74*b.a73 + a.a84*b.a83);
+        c.a44 = alpha*(a.a14*b.a14 + a.a24*b.a24 + a.a34*b.a34 + a.a44*b.a44 + a.a54*b.a54 + a.a64*b.a64 + a.a74*b.a74 + a.a84*b.a84);
+        c.a45 = alpha*(a.a14*b.a15 + a.a24*b.a25 + a.a34*b.a35 + a.a44*b.a45 + a.a54*b.a55 + a.a64*b.a65 + a.a74*b.a75 + a.a84*b.a85);
+        c.a46 = alpha*(a.a14*b.a16 + a.a24*b.a26 + a.a34*b.a36 + a.a44*b.a46 + a.a54*b.a56 + a.a64*b.a66 + a.a74*b.a76 + a.a84*b.a86);
+        c.a47 = alpha*(a.a14*b.a17 + a.a24*b.a27 + a.a34*b.a37 + a.a44*b.a47 + a.a54*b.a57 + a.a64*b.a67 + a.a74*b.a77 + a.a84*b.a87);
+        c.a48 = alpha*(a.a14*b.a18 + a.a24*b.a28 + a.a34*b.a38 + a.a44*b.a48 + a.a54*b.a58 + a.a64*b.a68 + a.a74*b.a78 + a.a84*b.a88);
+        c.a51 = alpha*(a.a15*b.a11 + a.a25*b.a21 + a.a35*b.a31 + a.a45*b.a41 + a.a55*b.a51 + a.a65*b.a61 + a.a75*b.a71 + a.a85*b.a81);
+        c.a52 = alpha*(a.a15*b.a12 + a.a25*b.a22 + a.a35*b.a32 + a.a45*b.a42 + a.a55*b.a52 + a.a65*b.a62 + a.a75*b.a72 + a.a85*b.a82);
+        c.a53 = alpha*(a.a15*b.a13 + a.a25*b.a23 + a.a35*b.a33 + a.a45*b.a43 + a.a55*b.a53 + a.a65*b.a63 + a.a75*b.a73 + a.a85*b.a83);
+        c.a54 = alpha*(a.a15*b.a14 + a.a25*b.a24 + a.a35*b.a34 + a.a45*b.a44 + a.a55*b.a54 + a.a65*b.a64 + a.a75*b.a74 + a.a85*b.a84);
+        c.a55 = alpha*(a.a15*b.a15 + a.a25*b.a25 + a.a35*b.a35 + a.a45*b.a45 + a.a55*b.a55 + a.a65*b.a65 + a.a75*b.a75 + a.a85*b.a85);
+        c.a56 = alpha*(a.a15*b.a16 + a.a25*b.a26 + a.a35*b.a36 + a.a45*b.a46 + a.a55*b.a56 + a.a65*b.a66 + a.a75*b.a76 + a.a85*b.a86);
+        c.a57 = alpha*(a.a15*b.a17 + a.a25*b.a27 + a.a35*b.a37 + a.a45*b.a47 + a.a55*b.a57 + a.a65*b.a67 + a.a75*b.a77 + a.a85*b.a87);
+        c.a58 = alpha*(a.a15*b.a18 + a.a25*b.a28 + a.a35*b.a38 + a.a45*b.a48 + a.a55*b.a58 + a.a65*b.a68 + a.a75*b.a78 + a.a85*b.a88);
+        c.a61 = alpha*(a.a16*b.a11 + a.a26*b.a21 + a.a36*b.a31 + a.a46*b.a41 + a.a56*b.a51 + a.a66*b.a61 + a.a76*b.a71 + a.a86*b.a81);
+        c.a62 = alpha*(a.a16*b.a12 + a.a26*b.a22 + a.a36*b.a32 + a.a46*b.a42 + a.a56*b.a52 + a.a66*b.a62 + a.a76*b.a72 + a.a86*b.a82);
+        c.a63 = alpha*(a.a16*b.a13 + a.a26*b.a23 + a.a36*b.a33 + a.a46*b.a43 + a.a56*b.a53 + a.a66*b.a63 + a.a76*b.a73 + a.a86*b.a83);
+        c.a64 = alpha*(a.a16*b.a14 + a.a26*b.a24 + a.a36*b.a34 + a.a46*b.a44 + a.a56*b.a54 + a.a66*b.a64 + a.a76*b.a74 + a.a86*b.a84);
+        c.a65 = alpha*(a.a16*b.a15 + a.a26*b.a25 + a.a36*b.a35 + a.a46*b.a45 + a.a56*b.a55 + a.a66*b.a65 + a.a76*b.a75 + a.a86*b.a85);
+        c.a66 = alpha*(a.a16*b.a16 + a.a26*b.a26 + a.a36*b.a36 + a.a46*b.a46 + a.a56*b.a56 + a.a66*b.a66 + a.a76*b.a76 + a.a86*b.a86);
+        c.a67 = alpha*(a.a16*b.a17 + a.a26*b.a27 + a.a36*b.a37 + a.a46*b.a47 + a.a56*b.a57 + a.a66*b.a67 + a.a76*b.a77 + a.a86*b.a87);
+        c.a68 = alpha*(a.a16*b.a18 + a.a26*b.a28 + a.a36*b.a38 + a.a46*b.a48 + a.a56*b.a58 + a.a66*b.a68 + a.a76*b.a78 + a.a86*b.a88);
+        c.a71 = alpha*(a.a17*b.a11 + a.a27*b.a21 + a.a37*b.a31 + a.a47*b.a41 + a.a57*b.a51 + a.a67*b.a61 + a.a77*b.a71 + a.a87*b.a81);
+        c.a72 = alpha*(a.a17*b.a12 + a.a27*b.a22 + a.a37*b.a32 + a.a47*b.a42 + a.a57*b.a52 + a.a67*b.a62 + a.a77*b.a72 + a.a87*b.a82);
+        c.a73 = alpha*(a.a17*b.a13 + a.a27*b.a23 + a.a37*b.a33 + a.a47*b.a43 + a.a57*b.a53 + a.a67*b.a63 + a.a77*b.a73 + a.a87*b.a83);
+        c.a74 = alpha*(a.a17*b.a14 + a.a27*b.a24 + a.a37*b.a34 + a.a47*b.a44 + a.a57*b.a54 + a.a67*b.a64 + a.a77*b.a74 + a.a87*b.a84);
+        c.a75 = alpha*(a.a17*b.a15 + a.a27*b.a25 + a.a37*b.a35 + a.a47*b.a45 + a.a57*b.a55 + a.a67*b.a65 + a.a77*b.a75 + a.a87*b.a85);
+        c.a76 = alpha*(a.a17*b.a16 + a.a27*b.a26 + a.a37*b.a36 + a.a47*b.a46 + a.a57*b.a56 + a.a67*b.a66 + a.a77*b.a76 + a.a87*b.a86);
+        c.a77 = alpha*(a.a17*b.a17 + a.a27*b.a27 + a.a37*b.a37 + a.a47*b.a47 + a.a57*b.a57 + a.a67*b.a67 + a.a77*b.a77 + a.a87*b.a87);
+        c.a78 = alpha*(a.a17*b.a18 + a.a27*b.a28 + a.a37*b.a38 + a.a47*b.a48 + a.a57*b.a58 + a.a67*b.a68 + a.a77*b.a78 + a.a87*b.a88);
+        c.a81 = alpha*(a.a18*b.a11 + a.a28*b.a21 + a.a38*b.a31 + a.a48*b.a41 + a.a58*b.a51 + a.a68*b.a61 + a.a78*b.a71 + a.a88*b.a81);
+        c.a82 = alpha*(a.a18*b.a12 + a.a28*b.a22 + a.a38*b.a32 + a.a48*b.a42 + a.a58*b.a52 + a.a68*b.a62 + a.a78*b.a72 + a.a88*b.a82);
+        c.a83 = alpha*(a.a18*b.a13 + a.a28*b.a23 + a.a38*b.a33 + a.a48*b.a43 + a.a58*b.a53 + a.a68*b.a63 + a.a78*b.a73 + a.a88*b.a83);
+        c.a84 = alpha*(a.a18*b.a14 + a.a28*b.a24 + a.a38*b.a34 + a.a48*b.a44 + a.a58*b.a54 + a.a68*b.a64 + a.a78*b.a74 + a.a88*b.a84);
+        c.a85 = alpha*(a.a18*b.a15 + a.a28*b.a25 + a.a38*b.a35 + a.a48*b.a45 + a.a58*b.a55 + a.a68*b.a65 + a.a78*b.a75 + a.a88*b.a85);
+        c.a86 = alpha*(a.a18*b.a16 + a.a28*b.a26 + a.a38*b.a36 + a.a48*b.a46 + a.a58*b.a56 + a.a68*b.a66 + a.a78*b.a76 + a.a88*b.a86);
+        c.a87 = alpha*(a.a18*b.a17 + a.a28*b.a27 + a.a38*b.a37 + a.a48*b.a47 + a.a58*b.a57 + a.a68*b.a67 + a.a78*b.a77 + a.a88*b.a87);
+        c.a88 = alpha*(a.a18*b.a18 + a.a28*b.a28 + a.a38*b.a38 + a.a48*b.a48 + a.a58*b.a58 + a.a68*b.a68 + a.a78*b.a78 + a.a88*b.a88);
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransAB( DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a21*b.a12 + a.a31*b.a13 + a.a41*b.a14 + a.a51*b.a15 + a.a61*b.a16 + a.a71*b.a17 + a.a81*b.a18;
+        c.a12 = a.a11*b.a21 + a.a21*b.a22 + a.a31*b.a23 + a.a41*b.a24 + a.a51*b.a25 + a.a61*b.a26 + a.a71*b.a27 + a.a81*b.a28;
+        c.a13 = a.a11*b.a31 + a.a21*b.a32 + a.a31*b.a33 + a.a41*b.a34 + a.a51*b.a35 + a.a61*b.a36 + a.a71*b.a37 + a.a81*b.a38;
+        c.a14 = a.a11*b.a41 + a.a21*b.a42 + a.a31*b.a43 + a.a41*b.a44 + a.a51*b.a45 + a.a61*b.a46 + a.a71*b.a47 + a.a81*b.a48;
+        c.a15 = a.a11*b.a51 + a.a21*b.a52 + a.a31*b.a53 + a.a41*b.a54 + a.a51*b.a55 + a.a61*b.a56 + a.a71*b.a57 + a.a81*b.a58;
+        c.a16 = a.a11*b.a61 + a.a21*b.a62 + a.a31*b.a63 + a.a41*b.a64 + a.a51*b.a65 + a.a61*b.a66 + a.a71*b.a67 + a.a81*b.a68;
+        c.a17 = a.a11*b.a71 + a.a21*b.a72 + a.a31*b.a73 + a.a41*b.a74 + a.a51*b.a75 + a.a61*b.a76 + a.a71*b.a77 + a.a81*b.a78;
+        c.a18 = a.a11*b.a81 + a.a21*b.a82 + a.a31*b.a83 + a.a41*b.a84 + a.a51*b.a85 + a.a61*b.a86 + a.a71*b.a87 + a.a81*b.a88;
+        c.a21 = a.a12*b.a11 + a.a22*b.a12 + a.a32*b.a13 + a.a42*b.a14 + a.a52*b.a15 + a.a62*b.a16 + a.a72*b.a17 + a.a82*b.a18;
+        c.a22 = a.a12*b.a21 + a.a22*b.a22 + a.a32*b.a23 + a.a42*b.a24 + a.a52*b.a25 + a.a62*b.a26 + a.a72*b.a27 + a.a82*b.a28;
+        c.a23 = a.a12*b.a31 + a.a22*b.a32 + a.a32*b.a33 + a.a42*b.a34 + a.a52*b.a35 + a.a62*b.a36 + a.a72*b.a37 + a.a82*b.a38;
+        c.a24 = a.a12*b.a41 + a.a22*b.a42 + a.a32*b.a43 + a.a42*b.a44 + a.a52*b.a45 + a.a62*b.a46 + a.a72*b.a47 + a.a82*b.a48;
+        c.a25 = a.a12*b.a51 + a.a22*b.a52 + a.a32*b.a53 + a.a42*b.a54 + a.a52*b.a55 + a.a62*b.a56 + a.a72*b.a57 + a.a82*b.a58;
+        c.a26 = a.a12*b.a61 + a.a22*b.a62 + a.a32*b.a63 + a.a42*b.a64 + a.a52*b.a65 + a.a62*b.a66 + a.a72*b.a67 + a.a82*b.a68;
+        c.a27 = a.a12*b.a71 + a.a22*b.a72 + a.a32*b.a73 + a.a42*b.a74 + a.a52*b.a75 + a.a62*b.a76 + a.a72*b.a77 + a.a82*b.a78;
+        c.a28 = a.a12*b.a81 + a.a22*b.a82 + a.a32*b.a83 + a.a42*b.a84 + a.a52*b.a85 + a.a62*b.a86 + a.a72*b.a87 + a.a82*b.a88;
+        c.a31 = a.a13*b.a11 + a.a23*b.a12 + a.a33*b.a13 + a.a43*b.a14 + a.a53*b.a15 + a.a63*b.a16 + a.a73*b.a17 + a.a83*b.a18;
+        c.a32 = a.a13*b.a21 + a.a23*b.a22 + a.a33*b.a23 + a.a43*b.a24 + a.a53*b.a25 + a.a63*b.a26 + a.a73*b.a27 + a.a83*b.a28;
+        c.a33 = a.a13*b.a31 + a.a23*b.a32 + a.a33*b.a33 + a.a43*b.a34 + a.a53*b.a35 + a.a63*b.a36 + a.a73*b.a37 + a.a83*b.a38;
+        c.a34 = a.a13*b.a41 + a.a23*b.a42 + a.a33*b.a43 + a.a43*b.a44 + a.a53*b.a45 + a.a63*b.a46 + a.a73*b.a47 + a.a83*b.a48;
+        c.a35 = a.a13*b.a51 + a.a23*b.a52 + a.a33*b.a53 + a.a43*b.a54 + a.a53*b.a55 + a.a63*b.a56 + a.a73*b.a57 + a.a83*b.a58;
+        c.a36 = a.a13*b.a61 + a.a23*b.a62 + a.a33*b.a63 + a.a43*b.a64 + a.a53*b.a65 + a.a63*b.a66 + a.a73*b.a67 + a.a83*b.a68;
+        c.a37 = a.a13*b.a71 + a.a23*b.a72 + a.a33*b.a73 + a.a43*b.a74 + a.a53*b.a75 + a.a63*b.a76 + a.a73*b.a77 + a.a83*b.a78;
+        c.a38 = a.a13*b.a81 + a.a23*b.a82 + a.a33*b.a83 + a.a43*b.a84 + a.a53*b.a85 + a.a63*b.a86 + a.a73*b.a87 + a.a83*b.a88;
+        c.a41 = a.a14*b.a11 + a.a24*b.a12 + a.a34*b.a13 + a.a44*b.a14 + a.a54*b.a15 + a.a64*b.a16 + a.a74*b.a17 + a.a84*b.a18;
+        c.a42 = a.a14*b.a21 + a.a24*b.a22 + a.a34*b.a23 + a.a44*b.a24 + a.a54*b.a25 + a.a64*b.a26 + a.a74*b.a27 + a.a84*b.a28;
+        c.a43 = a.a14*b.a31 + a.a24*b.a32 + a.a34*b.a33 + a.a44*b.a34 + a.a54*b.a35 + a.a64*b.a36 + a.a74*b.a37 + a.a84*b.a38;
+        c.a44 = a.a14*b.a41 + a.a24*b.a42 + a.a34*b.a43 + a.a44*b.a44 + a.a54*b.a45 + a.a64*b.a46 + a.a74*b.a47 + a.a84*b.a48;
+        c.a45 = a.a14*b.a51 + a.a24*b.a52 + a.a34*b.a53 + a.a44*b.a54 + a.a54*b.a55 + a.a64*b.a56 + a.a74*b.a57 + a.a84*b.a58;
+        c.a46 = a.a14*b.a61 + a.a24*b.a62 + a.a34*b.a63 + a.a44*b.a64 + a.a54*b.a65 + a.a64*b.a66 + a.a74*b.a67 + a.a84*b.a68;
+        c.a47 = a.a14*b.a71 + a.a24*b.a72 + a.a34*b.a73 + a.a44*b.a74 + a.a54*b.a75 + a.a64*b.a76 + a.a74*b.a77 + a.a84*b.a78;
+        c.a48 = a.a14*b.a81 + a.a24*b.a82 + a.a34*b.a83 + a.a44*b.a84 + a.a54*b.a85 + a.a64*b.a86 + a.a74*b.a87 + a.a84*b.a88;
+        c.a51 = a.a15*b.a11 + a.a25*b.a12 + a.a35*b.a13 + a.a45*b.a14 + a.a55*b.a15 + a.a65*b.a16 + a.a75*b.a17 + a.a85*b.a18;
+        c.a52 = a.a15*b.a21 + a.a25*b.a22 + a.a35*b.a23 + a.a45*b.a24 + a.a55*b.a25 + a.a65*b.a26 + a.a75*b.a27 + a.a85*b.a28;
+        c.a53 = a.a15*b.a31 + a.a25*b.a32 + a.a35*b.a33 + a.a45*b.a34 + a.a55*b.a35 + a.a65*b.a36 + a.a75*b.a37 + a.a85*b.a38;
+        c.a54 = a.a15*b.a41 + a.a25*b.a42 + a.a35*b.a43 + a.a45*b.a44 + a.a55*b.a45 + a.a65*b.a46 + a.a75*b.a47 + a.a85*b.a48;
+        c.a55 = a.a15*b.a51 + a.a25*b.a52 + a.a35*b.a53 + a.a45*b.a54 + a.a55*b.a55 + a.a65*b.a56 + a.a75*b.a57 + a.a85*b.a58;
+        c.a56 = a.a15*b.a61 + a.a25*b.a62 + a.a35*b.a63 + a.a45*b.a64 + a.a55*b.a65 + a.a65*b.a66 + a.a75*b.a67 + a.a85*b.a68;
+        c.a57 = a.a15*b.a71 + a.a25*b.a72 + a.a35*b.a73 + a.a45*b.a74 + a.a55*b.a75 + a.a65*b.a76 + a.a75*b.a77 + a.a85*b.a78;
+        c.a58 = a.a15*b.a81 + a.a25*b.a82 + a.a35*b.a83 + a.a45*b.a84 + a.a55*b.a85 + a.a65*b.a86 + a.a75*b.a87 + a.a85*b.a88;
+        c.a61 = a.a16*b.a11 + a.a26*b.a12 + a.a36*b.a13 + a.a46*b.a14 + a.a56*b.a15 + a.a66*b.a16 + a.a76*b.a17 + a.a86*b.a18;
+        c.a62 = a.a16*b.a21 + a.a26*b.a22 + a.a36*b.a23 + a.a46*b.a24 + a.a56*b.a25 + a.a66*b.a26 + a.a76*b.a27 + a.a86*b.a28;
+        c.a63 = a.a16*b.a31 + a.a26*b.a32 + a.a36*b.a33 + a.a46*b.a34 + a.a56*b.a35 + a.a66*b.a36 + a.a76*b.a37 + a.a86*b.a38;
+        c.a64 = a.a16*b.a41 + a.a26*b.a42 + a.a36*b.a43 + a.a46*b.a44 + a.a56*b.a45 + a.a66*b.a46 + a.a76*b.a47 + a.a86*b.a48;
+        c.a65 = a.a16*b.a51 + a.a26*b.a52 + a.a36*b.a53 + a.a46*b.a54 + a.a56*b.a55 + a.a66*b.a56 + a.a76*b.a57 + a.a86*b.a58;
+        c.a66 = a.a16*b.a61 + a.a26*b.a62 + a.a36*b.a63 + a.a46*b.a64 + a.a56*b.a65 + a.a66*b.a66 + a.a76*b.a67 + a.a86*b.a68;
+        c.a67 = a.a16*b.a71 + a.a26*b.a72 + a.a36*b.a73 + a.a46*b.a74 + a.a56*b.a75 + a.a66*b.a76 + a.a76*b.a77 + a.a86*b.a78;
+        c.a68 = a.a16*b.a81 + a.a26*b.a82 + a.a36*b.a83 + a.a46*b.a84 + a.a56*b.a85 + a.a66*b.a86 + a.a76*b.a87 + a.a86*b.a88;
+        c.a71 = a.a17*b.a11 + a.a27*b.a12 + a.a37*b.a13 + a.a47*b.a14 + a.a57*b.a15 + a.a67*b.a16 + a.a77*b.a17 + a.a87*b.a18;
+        c.a72 = a.a17*b.a21 + a.a27*b.a22 + a.a37*b.a23 + a.a47*b.a24 + a.a57*b.a25 + a.a67*b.a26 + a.a77*b.a27 + a.a87*b.a28;
+        c.a73 = a.a17*b.a31 + a.a27*b.a32 + a.a37*b.a33 + a.a47*b.a34 + a.a57*b.a35 + a.a67*b.a36 + a.a77*b.a37 + a.a87*b.a38;
+        c.a74 = a.a17*b.a41 + a.a27*b.a42 + a.a37*b.a43 + a.a47*b.a44 + a.a57*b.a45 + a.a67*b.a46 + a.a77*b.a47 + a.a87*b.a48;
+        c.a75 = a.a17*b.a51 + a.a27*b.a52 + a.a37*b.a53 + a.a47*b.a54 + a.a57*b.a55 + a.a67*b.a56 + a.a77*b.a57 + a.a87*b.a58;
+        c.a76 = a.a17*b.a61 + a.a27*b.a62 + a.a37*b.a63 + a.a47*b.a64 + a.a57*b.a65 + a.a67*b.a66 + a.a77*b.a67 + a.a87*b.a68;
+        c.a77 = a.a17*b.a71 + a.a27*b.a72 + a.a37*b.a73 + a.a47*b.a74 + a.a57*b.a75 + a.a67*b.a76 + a.a77*b.a77 + a.a87*b.a78;
+        c.a78 = a.a17*b.a81 + a.a27*b.a82 + a.a37*b.a83 + a.a47*b.a84 + a.a57*b.a85 + a.a67*b.a86 + a.a77*b.a87 + a.a87*b.a88;
+        c.a81 = a.a18*b.a11 + a.a28*b.a12 + a.a38*b.a13 + a.a48*b.a14 + a.a58*b.a15 + a.a68*b.a16 + a.a78*b.a17 + a.a88*b.a18;
+        c.a82 = a.a18*b.a21 + a.a28*b.a22 + a.a38*b.a23 + a.a48*b.a24 + a.a58*b.a25 + a.a68*b.a26 + a.a78*b.a27 + a.a88*b.a28;
+        c.a83 = a.a18*b.a31 + a.a28*b.a32 + a.a38*b.a33 + a.a48*b.a34 + a.a58*b.a35 + a.a68*b.a36 + a.a78*b.a37 + a.a88*b.a38;
+        c.a84 = a.a18*b.a41 + a.a28*b.a42 + a.a38*b.a43 + a.a48*b.a44 + a.a58*b.a45 + a.a68*b.a46 + a.a78*b.a47 + a.a88*b.a48;
+        c.a85 = a.a18*b.a51 + a.a28*b.a52 + a.a38*b.a53 + a.a48*b.a54 + a.a58*b.a55 + a.a68*b.a56 + a.a78*b.a57 + a.a88*b.a58;
+        c.a86 = a.a18*b.a61 + a.a28*b.a62 + a.a38*b.a63 + a.a48*b.a64 + a.a58*b.a65 + a.a68*b.a66 + a.a78*b.a67 + a.a88*b.a68;
+        c.a87 = a.a18*b.a71 + a.a28*b.a72 + a.a38*b.a73 + a.a48*b.a74 + a.a58*b.a75 + a.a68*b.a76 + a.a78*b.a77 + a.a88*b.a78;
+        c.a88 = a.a18*b.a81 + a.a28*b.a82 + a.a38*b.a83 + a.a48*b.a84 + a.a58*b.a85 + a.a68*b.a86 + a.a78*b.a87 + a.a88*b.a88;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = &alpha;*a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = &alpha;*&sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransAB( double alpha , DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = alpha*(a.a11*b.a11 + a.a21*b.a12 + a.a31*b.a13 + a.a41*b.a14 + a.a51*b.a15 + a.a61*b.a16 + a.a71*b.a17 + a.a81*b.a18);
+        c.a12 = alpha*(a.a11*b.a21 + a.a21*b.a22 + a.a31*b.a23 + a.a41*b.a24 + a.a51*b.a25 + a.a61*b.a26 + a.a71*b.a27 + a.a81*b.a28);
+        c.a13 = alpha*(a.a11*b.a31 + a.a21*b.a32 + a.a31*b.a33 + a.a41*b.a34 + a.a51*b.a35 + a.a61*b.a36 + a.a71*b.a37 + a.a81*b.a38);
+        c.a14 = alpha*(a.a11*b.a41 + a.a21*b.a42 + a.a31*b.a43 + a.a41*b.a44 + a.a51*b.a45 + a.a61*b.a46 + a.a71*b.a47 + a.a81*b.a48);
+        c.a15 = alpha*(a.a11*b.a51 + a.a21*b.a52 + a.a31*b.a53 + a.a41*b.a54 + a.a51*b.a55 + a.a61*b.a56 + a.a71*b.a57 + a.a81*b.a58);
+        c.a16 = alpha*(a.a11*b.a61 + a.a21*b.a62 + a.a31*b.a63 + a.a41*b.a64 + a.a51*b.a65 + a.a61*b.a66 + a.a71*b.a67 + a.a81*b.a68);
+        c.a17 = alpha*(a.a11*b.a71 + a.a21*b.a72 + a.a31*b.a73 + a.a41*b.a74 + a.a51*b.a75 + a.a61*b.a76 + a.a71*b.a77 + a.a81*b.a78);
+        c.a18 = alpha*(a.a11*b.a81 + a.a21*b.a82 + a.a31*b.a83 + a.a41*b.a84 + a.a51*b.a85 + a.a61*b.a86 + a.a71*b.a87 + a.a81*b.a88);
+        c.a21 = alpha*(a.a12*b.a11 + a.a22*b.a12 + a.a32*b.a13 + a.a42*b.a14 + a.a52*b.a15 + a.a62*b.a16 + a.a72*b.a17 + a.a82*b.a18);
+        c.a22 = alpha*(a.a12*b.a21 + a.a22*b.a22 + a.a32*b.a23 + a.a42*b.a24 + a.a52*b.a25 + a.a62*b.a26 + a.a72*b.a27 + a.a82*b.a28);
+        c.a23 = alpha*(a.a12*b.a31 + a.a22*b.a32 + a.a32*b.a33 + a.a42*b.a34 + a.a52*b.a35 + a.a62*b.a36 + a.a72*b.a37 + a.a82*b.a38);
+        c.a24 = alpha*(a.a12*b.a41 + a.a22*b.a42 + a.a32*b.a43 + a.a42*b.a44 + a.a52*b.a45 + a.a62*b.a46 + a.a72*b.a47 + a.a82*b.a48);
+        c.a25 = alpha*(a.a12*b.a51 + a.a22*b.a52 + a.a32*b.a53 + a.a42*b.a54 + a.a52*b.a55 + a.a62*b.a56 + a.a72*b.a57 + a.a82*b.a58);
+        c.a26 = alpha*(a.a12*b.a61 + a.a22*b.a62 + a.a32*b.a63 + a.a42*b.a64 + a.a52*b.a65 + a.a62*b.a66 + a.a72*b.a67 + a.a82*b.a68);
+        c.a27 = alpha*(a.a12*b.a71 + a.a22*b.a72 + a.a32*b.a73 + a.a42*b.a74 + a.a52*b.a75 + a.a62*b.a76 + a.a72*b.a77 + a.a82*b.a78);
+        c.a28 = alpha*(a.a12*b.a81 + a.a22*b.a82 + a.a32*b.a83 + a.a42*b.a84 + a.a52*b.a85 + a.a62*b.a86 + a.a72*b.a87 + a.a82*b.a88);
+        c.a31 = alpha*(a.a13*b.a11 + a.a23*b.a12 + a.a33*b.a13 + a.a43*b.a14 + a.a53*b.a15 + a.a63*b.a16 + a.a73*b.a17 + a.a83*b.a18);
+        c.a32 = alpha*(a.a13*b.a21 + a.a23*b.a22 + a.a33*b.a23 + a.a43*b.a24 + a.a53*b.a25 + a.a63*b.a26 + a.a73*b.a27 + a.a83*b.a28);
+        c.a33 = alpha*(a.a13*b.a31 + a.a23*b.a32 + a.a33*b.a33 + a.a43*b.a34 + a.a53*b.a35 + a.a63*b.a36 + a.a73*b.a37 + a.a83*b.a38);
+        c.a34 = alpha*(a.a13*b.a41 + a.a23*b.a42 + a.a33*b.a43 + a.a43*b.a44 + a.a53*b.a45 + a.a63*b.a46 + a.a73*b.a47 + a.a83*b.a48);
+        c.a35 = alpha*(a.a13*b.a51 + a.a23*b.a52 + a.a33*b.a53 + a.a43*b.a54 + a.a53*b.a55 + a.a63*b.a56 + a.a73*b.a57 + a.a83*b.a58);
+        c.a36 = alpha*(a.a13*b.a61 + a.a23*b.a62 + a.a33*b.a63 + a.a43*b.a64 + a.a53*b.a65 + a.a63*b.a66 + a.a73*b.a67 + a.a83*b.a68);
+        c.a37 = alpha*(a.a13*b.a71 + a.a23*b.a72 + a.a33*b.a73 + a.a43*b.a74 + a.a53*b.a75 + a.a63*b.a76 + a.a73*b.a77 + a.a83*b.a78);
+        c.a38 = alpha*(a.a13*b.a81 + a.a23*b.a82 + a.a33*b.a83 + a.a43*b.a84 + a.a53*b.a85 + a.a63*b.a86 + a.a73*b.a87 + a.a83*b.a88);
+        c.a41 = alpha*(a.a14*b.a11 + a.a24*b.a12 + a.a34*b.a13 + a.a44*b.a14 + a.a54*b.a15 + a.a64*b.a16 + a.a74*b.a17 + a.a84*b.a18);
+        c.a42 = alpha*(a.a14*b.a21 + a.a24*b.a22 + a.a34*b.a23 + a.a44*b.a24 + a.a54*b.a25 + a.a64*b.a26 + a.a74*b.a27 + a.a84*b.a28);
+        c.a43 = alpha*(a.a14*b.a31 + a.a24*b.a32 + a.a34*b.a33 + a.a44*b.a34 + a.a54*b.a35 + a.a64*b.a36 + a.a74*b.a37 + a.a84*b.a38);
+        c.a44 = alpha*(a.a14*b.a41 + a.a24*b.a42 + a.a34*b.a43 + a.a44*b.a44 + a.a54*b.a45 + a.a64*b.a46 + a.a74*b.a47 + a.a84*b.a48);
+        c.a45 = alpha*(a.a14*b.a51 + a.a24*b.a52 + a.a34*b.a53 + a.a44*b.a54 + a.a54*b.a55 + a.a64*b.a56 + a.a74*b.a57 + a.a84*b.a58);
+        c.a46 = alpha*(a.a14*b.a61 + a.a24*b.a62 + a.a34*b.a63 + a.a44*b.a64 + a.a54*b.a65 + a.a64*b.a66 + a.a74*b.a67 + a.a84*b.a68);
+        c.a47 = alpha*(a.a14*b.a71 + a.a24*b.a72 + a.a34*b.a73 + a.a44*b.a74 + a.a54*b.a75 + a.a64*b.a76 + a.a74*b.a77 + a.a84*b.a78);
+        c.a48 = alpha*(a.a14*b.a81 + a.a24*b.a82 + a.a34*b.a83 + a.a44*b.a84 + a.a54*b.a85 + a.a64*b.a86 + a.a74*b.a87 + a.a84*b.a88);
+        c.a51 = alpha*(a.a15*b.a11 + a.a25*b.a12 + a.a35*b.a13 + a.a45*b.a14 + a.a55*b.a15 + a.a65*b.a16 + a.a75*b.a17 + a.a85*b.a18);
+        c.a52 = alpha*(a.a15*b.a21 + a.a25*b.a22 + a.a35*b.a23 + a.a45*b.a24 + a.a55*b.a25 + a.a65*b.a26 + a.a75*b.a27 + a.a85*b.a28);
+        c.a53 = alpha*(a.a15*b.a31 + a.a25*b.a32 + a.a35*b.a33 + a.a45*b.a34 + a.a55*b.a35 + a.a65*b.a36 + a.a75*b.a37 + a.a85*b.a38);
+        c.a54 = alpha*(a.a15*b.a41 + a.a25*b.a42 + a.a35*b.a43 + a.a45*b.a44 + a.a55*b.a45 + a.a65*b.a46 + a.a75*b.a47 + a.a85*b.a48);
+        c.a55 = alpha*(a.a15*b.a51 + a.a25*b.a52 + a.a35*b.a53 + a.a45*b.a54 + a.a55*b.a55 + a.a65*b.a56 + a.a75*b.a57 + a.a85*b.a58);
+        c.a56 = alpha*(a.a15*b.a61 + a.a25*b.a62 + a.a35*b.a63 + a.a45*b.a64 + a.a55*b.a65 + a.a65*b.a66 + a.a75*b.a67 + a.a85*b.a68);
+        c.a57 = alpha*(a.a15*b.a71 + a.a25*b.a72 + a.a35*b.a73 + a.a45*b.a74 + a.a55*b.a75 + a.a65*b.a76 + a.a75*b.a77 + a.a85*b.a78);
+        c.a58 = alpha*(a.a15*b.a81 + a.a25*b.a82 + a.a35*b.a83 + a.a45*b.a84 + a.a55*b.a85 + a.a65*b.a86 + a.a75*b.a87 + a.a85*b.a88);
+        c.a61 = alpha*(a.a16*b.a11 + a.a26*b.a12 + a.a36*b.a13 + a.a46*b.a14 + a.a56*b.a15 + a.a66*b.a16 + a.a76*b.a17 + a.a86*b.a18);
+        c.a62 = alpha*(a.a16*b.a21 + a.a26*b.a22 + a.a36*b.a23 + a.a46*b.a24 + a.a56*b.a25 + a.a66*b.a26 + a.a76*b.a27 + a.a86*b.a28);
+        c.a63 = alpha*(a.a16*b.a31 + a.a26*b.a32 + a.a36*b.a33 + a.a46*b.a34 + a.a56*b.a35 + a.a66*b.a36 + a.a76*b.a37 + a.a86*b.a38);
+        c.a64 = alpha*(a.a16*b.a41 + a.a26*b.a42 + a.a36*b.a43 + a.a46*b.a44 + a.a56*b.a45 + a.a66*b.a46 + a.a76*b.a47 + a.a86*b.a48);
+        c.a65 = alpha*(a.a16*b.a51 + a.a26*b.a52 + a.a36*b.a53 + a.a46*b.a54 + a.a56*b.a55 + a.a66*b.a56 + a.a76*b.a57 + a.a86*b.a58);
+        c.a66 = alpha*(a.a16*b.a61 + a.a26*b.a62 + a.a36*b.a63 + a.a46*b.a64 + a.a56*b.a65 + a.a66*b.a66 + a.a76*b.a67 + a.a86*b.a68);
+        c.a67 = alpha*(a.a16*b.a71 + a.a26*b.a72 + a.a36*b.a73 + a.a46*b.a74 + a.a56*b.a75 + a.a66*b.a76 + a.a76*b.a77 + a.a86*b.a78);
+        c.a68 = alpha*(a.a16*b.a81 + a.a26*b.a82 + a.a36*b.a83 + a.a46*b.a84 + a.a56*b.a85 + a.a66*b.a86 + a.a76*b.a87 + a.a86*b.a88);
+        c.a71 = alpha*(a.a17*b.a11 + a.a27*b.a12 + a.a37*b.a13 + a.a47*b.a14 + a.a57*b.a15 + a.a67*b.a16 + a.a77*b.a17 + a.a87*b.a18);
+        c.a72 = alpha*(a.a17*b.a21 + a.a27*b.a22 + a.a37*b.a23 + a.a47*b.a24 + a.a57*b.a25 + a.a67*b.a26 + a.a77*b.a27 + a.a87*b.a28);
+        c.a73 = alpha*(a.a17*b.a31 + a.a27*b.a32 + a.a37*b.a33 + a.a47*b.a34 + a.a57*b.a35 + a.a67*b.a36 + a.a77*b.a37 + a.a87*b.a38);
+        c.a74 = alpha*(a.a17*b.a41 + a.a27*b.a42 + a.a37*b.a43 + a.a47*b.a44 + a.a57*b.a45 + a.a67*b.a46 + a.a77*b.a47 + a.a87*b.a48);
+        c.a75 = alpha*(a.a17*b.a51 + a.a27*b.a52 + a.a37*b.a53 + a.a47*b.a54 + a.a57*b.a55 + a.a67*b.a56 + a.a77*b.a57 + a.a87*b.a58);
+        c.a76 = alpha*(a.a17*b.a61 + a.a27*b.a62 + a.a37*b.a63 + a.a47*b.a64 + a.a57*b.a65 + a.a67*b.a66 + a.a77*b.a67 + a.a87*b.a68);
+        c.a77 = alpha*(a.a17*b.a71 + a.a27*b.a72 + a.a37*b.a73 + a.a47*b.a74 + a.a57*b.a75 + a.a67*b.a76 + a.a77*b.a77 + a.a87*b.a78);
+        c.a78 = alpha*(a.a17*b.a81 + a.a27*b.a82 + a.a37*b.a83 + a.a47*b.a84 + a.a57*b.a85 + a.a67*b.a86 + a.a77*b.a87 + a.a87*b.a88);
+        c.a81 = alpha*(a.a18*b.a11 + a.a28*b.a12 + a.a38*b.a13 + a.a48*b.a14 + a.a58*b.a15 + a.a68*b.a16 + a.a78*b.a17 + a.a88*b.a18);
+        c.a82 = alpha*(a.a18*b.a21 + a.a28*b.a22 + a.a38*b.a23 + a.a48*b.a24 + a.a58*b.a25 + a.a68*b.a26 + a.a78*b.a27 + a.a88*b.a28);
+        c.a83 = alpha*(a.a18*b.a31 + a.a28*b.a32 + a.a38*b.a33 + a.a48*b.a34 + a.a58*b.a35 + a.a68*b.a36 + a.a78*b.a37 + a.a88*b.a38);
+        c.a84 = alpha*(a.a18*b.a41 + a.a28*b.a42 + a.a38*b.a43 + a.a48*b.a44 + a.a58*b.a45 + a.a68*b.a46 + a.a78*b.a47 + a.a88*b.a48);
+        c.a85 = alpha*(a.a18*b.a51 + a.a28*b.a52 + a.a38*b.a53 + a.a48*b.a54 + a.a58*b.a55 + a.a68*b.a56 + a.a78*b.a57 + a.a88*b.a58);
+        c.a86 = alpha*(a.a18*b.a61 + a.a28*b.a62 + a.a38*b.a63 + a.a48*b.a64 + a.a58*b.a65 + a.a68*b.a66 + a.a78*b.a67 + a.a88*b.a68);
+        c.a87 = alpha*(a.a18*b.a71 + a.a28*b.a72 + a.a38*b.a73 + a.a48*b.a74 + a.a58*b.a75 + a.a68*b.a76 + a.a78*b.a77 + a.a88*b.a78);
+        c.a88 = alpha*(a.a18*b.a81 + a.a28*b.a82 + a.a38*b.a83 + a.a48*b.a84 + a.a58*b.a85 + a.a68*b.a86 + a.a78*b.a87 + a.a88*b.a88);
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16 + a.a17*b.a17 + a.a18*b.a18;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26 + a.a17*b.a27 + a.a18*b.a28;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34 + a.a15*b.a35 + a.a16*b.a36 + a.a17*b.a37 + a.a18*b.a38;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43 + a.a14*b.a44 + a.a15*b.a45 + a.a16*b.a46 + a.a17*b.a47 + a.a18*b.a48;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53 + a.a14*b.a54 + a.a15*b.a55 + a.a16*b.a56 + a.a17*b.a57 + a.a18*b.a58;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63 + a.a14*b.a64 + a.a15*b.a65 + a.a16*b.a66 + a.a17*b.a67 + a.a18*b.a68;
+        c.a17 = a.a11*b.a71 + a.a12*b.a72 + a.a13*b.a73 + a.a14*b.a74 + a.a15*b.a75 + a.a16*b.a76 + a.a17*b.a77 + a.a18*b.a78;
+        c.a18 = a.a11*b.a81 + a.a12*b.a82 + a.a13*b.a83 + a.a14*b.a84 + a.a15*b.a85 + a.a16*b.a86 + a.a17*b.a87 + a.a18*b.a88;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16 + a.a27*b.a17 + a.a28*b.a18;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26 + a.a27*b.a27 + a.a28*b.a28;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34 + a.a25*b.a35 + a.a26*b.a36 + a.a27*b.a37 + a.a28*b.a38;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43 + a.a24*b.a44 + a.a25*b.a45 + a.a26*b.a46 + a.a27*b.a47 + a.a28*b.a48;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53 + a.a24*b.a54 + a.a25*b.a55 + a.a26*b.a56 + a.a27*b.a57 + a.a28*b.a58;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63 + a.a24*b.a64 + a.a25*b.a65 + a.a26*b.a66 + a.a27*b.a67 + a.a28*b.a68;
+        c.a27 = a.a21*b.a71 + a.a22*b.a72 + a.a23*b.a73 + a.a24*b.a74 + a.a25*b.a75 + a.a26*b.a76 + a.a27*b.a77 + a.a28*b.a78;
+        c.a28 = a.a21*b.a81 + a.a22*b.a82 + a.a23*b.a83 + a.a24*b.a84 + a.a25*b.a85 + a.a26*b.a86 + a.a27*b.a87 + a.a28*b.a88;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14 + a.a35*b.a15 + a.a36*b.a16 + a.a37*b.a17 + a.a38*b.a18;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24 + a.a35*b.a25 + a.a36*b.a26 + a.a37*b.a27 + a.a38*b.a28;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33 + a.a34*b.a34 + a.a35*b.a35 + a.a36*b.a36 + a.a37*b.a37 + a.a38*b.a38;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43 + a.a34*b.a44 + a.a35*b.a45 + a.a36*b.a46 + a.a37*b.a47 + a.a38*b.a48;
+        c.a35 = a.a31*b.a51 + a.a32*b.a52 + a.a33*b.a53 + a.a34*b.a54 + a.a35*b.a55 + a.a36*b.a56 + a.a37*b.a57 + a.a38*b.a58;
+        c.a36 = a.a31*b.a61 + a.a32*b.a62 + a.a33*b.a63 + a.a34*b.a64 + a.a35*b.a65 + a.a36*b.a66 + a.a37*b.a67 + a.a38*b.a68;
+        c.a37 = a.a31*b.a71 + a.a32*b.a72 + a.a33*b.a73 + a.a34*b.a74 + a.a35*b.a75 + a.a36*b.a76 + a.a37*b.a77 + a.a38*b.a78;
+        c.a38 = a.a31*b.a81 + a.a32*b.a82 + a.a33*b.a83 + a.a34*b.a84 + a.a35*b.a85 + a.a36*b.a86 + a.a37*b.a87 + a.a38*b.a88;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13 + a.a44*b.a14 + a.a45*b.a15 + a.a46*b.a16 + a.a47*b.a17 + a.a48*b.a18;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23 + a.a44*b.a24 + a.a45*b.a25 + a.a46*b.a26 + a.a47*b.a27 + a.a48*b.a28;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33 + a.a44*b.a34 + a.a45*b.a35 + a.a46*b.a36 + a.a47*b.a37 + a.a48*b.a38;
+        c.a44 = a.a41*b.a41 + a.a42*b.a42 + a.a43*b.a43 + a.a44*b.a44 + a.a45*b.a45 + a.a46*b.a46 + a.a47*b.a47 + a.a48*b.a48;
+        c.a45 = a.a41*b.a51 + a.a42*b.a52 + a.a43*b.a53 + a.a44*b.a54 + a.a45*b.a55 + a.a46*b.a56 + a.a47*b.a57 + a.a48*b.a58;
+        c.a46 = a.a41*b.a61 + a.a42*b.a62 + a.a43*b.a63 + a.a44*b.a64 + a.a45*b.a65 + a.a46*b.a66 + a.a47*b.a67 + a.a48*b.a68;
+        c.a47 = a.a41*b.a71 + a.a42*b.a72 + a.a43*b.a73 + a.a44*b.a74 + a.a45*b.a75 + a.a46*b.a76 + a.a47*b.a77 + a.a48*b.a78;
+        c.a48 = a.a41*b.a81 + a.a42*b.a82 + a.a43*b.a83 + a.a44*b.a84 + a.a45*b.a85 + a.a46*b.a86 + a.a47*b.a87 + a.a48*b.a88;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13 + a.a54*b.a14 + a.a55*b.a15 + a.a56*b.a16 + a.a57*b.a17 + a.a58*b.a18;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23 + a.a54*b.a24 + a.a55*b.a25 + a.a56*b.a26 + a.a57*b.a27 + a.a58*b.a28;
+        c.a53 = a.a51*b.a31 + a.a52*b.a32 + a.a53*b.a33 + a.a54*b.a34 + a.a55*b.a35 + a.a56*b.a36 + a.a57*b.a37 + a.a58*b.a38;
+        c.a54 = a.a51*b.a41 + a.a52*b.a42 + a.a53*b.a43 + a.a54*b.a44 + a.a55*b.a45 + a.a56*b.a46 + a.a57*b.a47 + a.a58*b.a48;
+        c.a55 = a.a51*b.a51 + a.a52*b.a52 + a.a53*b.a53 + a.a54*b.a54 + a.a55*b.a55 + a.a56*b.a56 + a.a57*b.a57 + a.a58*b.a58;
+        c.a56 = a.a51*b.a61 + a.a52*b.a62 + a.a53*b.a63 + a.a54*b.a64 + a.a55*b.a65 + a.a56*b.a66 + a.a57*b.a67 + a.a58*b.a68;
+        c.a57 = a.a51*b.a71 + a.a52*b.a72 + a.a53*b.a73 + a.a54*b.a74 + a.a55*b.a75 + a.a56*b.a76 + a.a57*b.a77 + a.a58*b.a78;
+        c.a58 = a.a51*b.a81 + a.a52*b.a82 + a.a53*b.a83 + a.a54*b.a84 + a.a55*b.a85 + a.a56*b.a86 + a.a57*b.a87 + a.a58*b.a88;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13 + a.a64*b.a14 + a.a65*b.a15 + a.a66*b.a16 + a.a67*b.a17 + a.a68*b.a18;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23 + a.a64*b.a24 + a.a65*b.a25 + a.a66*b.a26 + a.a67*b.a27 + a.a68*b.a28;
+        c.a63 = a.a61*b.a31 + a.a62*b.a32 + a.a63*b.a33 + a.a64*b.a34 + a.a65*b.a35 + a.a66*b.a36 + a.a67*b.a37 + a.a68*b.a38;
+        c.a64 = a.a61*b.a41 + a.a62*b.a42 + a.a63*b.a43 + a.a64*b.a44 + a.a65*b.a45 + a.a66*b.a46 + a.a67*b.a47 + a.a68*b.a48;
+        c.a65 = a.a61*b.a51 + a.a62*b.a52 + a.a63*b.a53 + a.a64*b.a54 + a.a65*b.a55 + a.a66*b.a56 + a.a67*b.a57 + a.a68*b.a58;
+        c.a66 = a.a61*b.a61 + a.a62*b.a62 + a.a63*b.a63 + a.a64*b.a64 + a.a65*b.a65 + a.a66*b.a66 + a.a67*b.a67 + a.a68*b.a68;
+        c.a67 = a.a61*b.a71 + a.a62*b.a72 + a.a63*b.a73 + a.a64*b.a74 + a.a65*b.a75 + a.a66*b.a76 + a.a67*b.a77 + a.a68*b.a78;
+        c.a68 = a.a61*b.a81 + a.a62*b.a82 + a.a63*b.a83 + a.a64*b.a84 + a.a65*b.a85 + a.a66*b.a86 + a.a67*b.a87 + a.a68*b.a88;
+        c.a71 = a.a71*b.a11 + a.a72*b.a12 + a.a73*b.a13 + a.a74*b.a14 + a.a75*b.a15 + a.a76*b.a16 + a.a77*b.a17 + a.a78*b.a18;
+        c.a72 = a.a71*b.a21 + a.a72*b.a22 + a.a73*b.a23 + a.a74*b.a24 + a.a75*b.a25 + a.a76*b.a26 + a.a77*b.a27 + a.a78*b.a28;
+        c.a73 = a.a71*b.a31 + a.a72*b.a32 + a.a73*b.a33 + a.a74*b.a34 + a.a75*b.a35 + a.a76*b.a36 + a.a77*b.a37 + a.a78*b.a38;
+        c.a74 = a.a71*b.a41 + a.a72*b.a42 + a.a73*b.a43 + a.a74*b.a44 + a.a75*b.a45 + a.a76*b.a46 + a.a77*b.a47 + a.a78*b.a48;
+        c.a75 = a.a71*b.a51 + a.a72*b.a52 + a.a73*b.a53 + a.a74*b.a54 + a.a75*b.a55 + a.a76*b.a56 + a.a77*b.a57 + a.a78*b.a58;
+        c.a76 = a.a71*b.a61 + a.a72*b.a62 + a.a73*b.a63 + a.a74*b.a64 + a.a75*b.a65 + a.a76*b.a66 + a.a77*b.a67 + a.a78*b.a68;
+        c.a77 = a.a71*b.a71 + a.a72*b.a72 + a.a73*b.a73 + a.a74*b.a74 + a.a75*b.a75 + a.a76*b.a76 + a.a77*b.a77 + a.a78*b.a78;
+        c.a78 = a.a71*b.a81 + a.a72*b.a82 + a.a73*b.a83 + a.a74*b.a84 + a.a75*b.a85 + a.a76*b.a86 + a.a77*b.a87 + a.a78*b.a88;
+        c.a81 = a.a81*b.a11 + a.a82*b.a12 + a.a83*b.a13 + a.a84*b.a14 + a.a85*b.a15 + a.a86*b.a16 + a.a87*b.a17 + a.a88*b.a18;
+        c.a82 = a.a81*b.a21 + a.a82*b.a22 + a.a83*b.a23 + a.a84*b.a24 + a.a85*b.a25 + a.a86*b.a26 + a.a87*b.a27 + a.a88*b.a28;
+        c.a83 = a.a81*b.a31 + a.a82*b.a32 + a.a83*b.a33 + a.a84*b.a34 + a.a85*b.a35 + a.a86*b.a36 + a.a87*b.a37 + a.a88*b.a38;
+        c.a84 = a.a81*b.a41 + a.a82*b.a42 + a.a83*b.a43 + a.a84*b.a44 + a.a85*b.a45 + a.a86*b.a46 + a.a87*b.a47 + a.a88*b.a48;
+        c.a85 = a.a81*b.a51 + a.a82*b.a52 + a.a83*b.a53 + a.a84*b.a54 + a.a85*b.a55 + a.a86*b.a56 + a.a87*b.a57 + a.a88*b.a58;
+        c.a86 = a.a81*b.a61 + a.a82*b.a62 + a.a83*b.a63 + a.a84*b.a64 + a.a85*b.a65 + a.a86*b.a66 + a.a87*b.a67 + a.a88*b.a68;
+        c.a87 = a.a81*b.a71 + a.a82*b.a72 + a.a83*b.a73 + a.a84*b.a74 + a.a85*b.a75 + a.a86*b.a76 + a.a87*b.a77 + a.a88*b.a78;
+        c.a88 = a.a81*b.a81 + a.a82*b.a82 + a.a83*b.a83 + a.a84*b.a84 + a.a85*b.a85 + a.a86*b.a86 + a.a87*b.a87 + a.a88*b.a88;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = &alpha;*&sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( double alpha , DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = alpha*(a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16 + a.a17*b.a17 + a.a18*b.a18);
+        c.a12 = alpha*(a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26 + a.a17*b.a27 + a.a18*b.a28);
+        c.a13 = alpha*(a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34 + a.a15*b.a35 + a.a16*b.a36 + a.a17*b.a37 + a.a18*b.a38);
+        c.a14 = alpha*(a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43 + a.a14*b.a44 + a.a15*b.a45 + a.a16*b.a46 + a.a17*b.a47 + a.a18*b.a48);
+        c.a15 = alpha*(a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53 + a.a14*b.a54 + a.a15*b.a55 + a.a16*b.a56 + a.a17*b.a57 + a.a18*b.a58);
+        c.a16 = alpha*(a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63 + a.a14*b.a64 + a.a15*b.a65 + a.a16*b.a66 + a.a17*b.a67 + a.a18*b.a68);
+        c.a17 = alpha*(a.a11*b.a71 + a.a12*b.a72 + a.a13*b.a73 + a.a14*b.a74 + a.a15*b.a75 + a.a16*b.a76 + a.a17*b.a77 + a.a18*b.a78);
+        c.a18 = alpha*(a.a11*b.a81 + a.a12*b.a82 + a.a13*b.a83 + a.a14*b.a84 + a.a15*b.a85 + a.a16*b.a86 + a.a17*b.a87 + a.a18*b.a88);
+        c.a21 = alpha*(a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16 + a.a27*b.a17 + a.a28*b.a18);
+        c.a22 = alpha*(a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26 + a.a27*b.a27 + a.a28*b.a28);
+        c.a23 = alpha*(a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34 + a.a25*b.a35 + a.a26*b.a36 + a.a27*b.a37 + a.a28*b.a38);
+        c.a24 = alpha*(a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43 + a.a24*b.a44 + a.a25*b.a45 + a.a26*b.a46 + a.a27*b.a47 + a.a28*b.a48);
+        c.a25 = alpha*(a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53 + a.a24*b.a54 + a.a25*b.a55 + a.a26*b.a56 + a.a27*b.a57 + a.a28*b.a58);
+        c.a26 = alpha*(a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63 + a.a24*b.a64 + a.a25*b.a65 + a.a26*b.a66 + a.a27*b.a67 + a.a28*b.a68);
+        c.a27 = alpha*(a.a21*b.a71 + a.a22*b.a72 + a.a23*b.a73 + a.a24*b.a74 + a.a25*b.a75 + a.a26*b.a76 + a.a27*b.a77 + a.a28*b.a78);
+        c.a28 = alpha*(a.a21*b.a81 + a.a22*b.a82 + a.a23*b.a83 + a.a24*b.a84 + a.a25*b.a85 + a.a26*b.a86 + a.a27*b.a87 + a.a28*b.a88);
+        c.a31 = alpha*(a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14 + a.a35*b.a15 + a.a36*b.a16 + a.a37*b.a17 + a.a38*b.a18);
+        c.a32 = alpha*(a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24 + a.a35*b.a25 + a.a36*b.a26 + a.a37*b.a27 + a.a38*b.a28);
+        c.a33 = alpha*(a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33 + a.a34*b.a34 + a.a35*b.a35 + a.a36*b.a36 + a.a37*b.a37 + a.a38*b.a38);
+        c.a34 = alpha*(a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43 + a.a34*b.a44 + a.a35*b.a45 + a.a36*b.a46 + a.a37*b.a47 + a.a38*b.a48);
+        c.a35 = alpha*(a.a31*b.a51 + a.a32*b.a52 + a.a33*b.a53 + a.a34*b.a54 + a.a35*b.a55 + a.a36*b.a56 + a.a37*b.a57 + a.a38*b.a58);
+        c.a36 = alpha*(a.a31*b.a61 + a.a32*b.a62 + a.a33*b.a63 + a.a34*b.a64 + a.a35*b.a65 + a.a36*b.a66 + a.a37*b.a67 + a.a38*b.a68);
+        c.a37 = alpha*(a.a31*b.a71 + a.a32*b.a72 + a.a33*b.a73 + a.a34*b.a74 + a.a35*b.a75 + a.a36*b.a76 + a.a37*b.a77 + a.a38*b.a78);
+        c.a38 = alpha*(a.a31*b.a81 + a.a32*b.a82 + a.a33*b.a83 + a.a34*b.a84 + a.a35*b.a85 + a.a36*b.a86 + a.a37*b.a87 + a.a38*b.a88);
+        c.a41 = alpha*(a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13 + a.a44*b.a14 + a.a45*b.a15 + a.a46*b.a16 + a.a47*b.a17 + a.a48*b.a18);
+        c.a42 = alpha*(a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23 + a.a44*b.a24 + a.a45*b.a25 + a.a46*b.a26 + a.a47*b.a27 + a.a48*b.a28);
+        c.a43 = alpha*(a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33 + a.a44*b.a34 + a.a45*b.a35 + a.a46*b.a36 + a.a47*b.a37 + a.a48*b.a38);
+        c.a44 = alpha*(a.a41*b.a41 + a.a42*b.a42 + a.a43*b.a43 + a.a44*b.a44 + a.a45*b.a45 + a.a46*b.a46 + a.a47*b.a47 + a.a48*b.a48);
+        c.a45 = alpha*(a.a41*b.a51 + a.a42*b.a52 + a.a43*b.a53 + a.a44*b.a54 + a.a45*b.a55 + a.a46*b.a56 + a.a47*b.a57 + a.a48*b.a58);
+        c.a46 = alpha*(a.a41*b.a61 + a.a42*b.a62 + a.a43*b.a63 + a.a44*b.a64 + a.a45*b.a65 + a.a46*b.a66 + a.a47*b.a67 + a.a48*b.a68);
+        c.a47 = alpha*(a.a41*b.a71 + a.a42*b.a72 + a.a43*b.a73 + a.a44*b.a74 + a.a45*b.a75 + a.a46*b.a76 + a.a47*b.a77 + a.a48*b.a78);
+        c.a48 = alpha*(a.a41*b.a81 + a.a42*b.a82 + a.a43*b.a83 + a.a44*b.a84 + a.a45*b.a85 + a.a46*b.a86 + a.a47*b.a87 + a.a48*b.a88);
+        c.a51 = alpha*(a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13 + a.a54*b.a14 + a.a55*b.a15 + a.a56*b.a16 + a.a57*b.a17 + a.a58*b.a18);
+        c.a52 = alpha*(a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23 + a.a54*b.a24 + a.a55*b.a25 + a.a56*b.a26 + a.a57*b.a27 + a.a58*b.a28);
+        c.a53 = alpha*(a.a51*b.a31 + a.a52*b.a32 + a.a53*b.a33 + a.a54*b.a34 + a.a55*b.a35 + a.a56*b.a36 + a.a57*b.a37 + a.a58*b.a38);
+        c.a54 = alpha*(a.a51*b.a41 + a.a52*b.a42 + a.a53*b.a43 + a.a54*b.a44 + a.a55*b.a45 + a.a56*b.a46 + a.a57*b.a47 + a.a58*b.a48);
+        c.a55 = alpha*(a.a51*b.a51 + a.a52*b.a52 + a.a53*b.a53 + a.a54*b.a54 + a.a55*b.a55 + a.a56*b.a56 + a.a57*b.a57 + a.a58*b.a58);
+        c.a56 = alpha*(a.a51*b.a61 + a.a52*b.a62 + a.a53*b.a63 + a.a54*b.a64 + a.a55*b.a65 + a.a56*b.a66 + a.a57*b.a67 + a.a58*b.a68);
+        c.a57 = alpha*(a.a51*b.a71 + a.a52*b.a72 + a.a53*b.a73 + a.a54*b.a74 + a.a55*b.a75 + a.a56*b.a76 + a.a57*b.a77 + a.a58*b.a78);
+        c.a58 = alpha*(a.a51*b.a81 + a.a52*b.a82 + a.a53*b.a83 + a.a54*b.a84 + a.a55*b.a85 + a.a56*b.a86 + a.a57*b.a87 + a.a58*b.a88);
+        c.a61 = alpha*(a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13 + a.a64*b.a14 + a.a65*b.a15 + a.a66*b.a16 + a.a67*b.a17 + a.a68*b.a18);
+        c.a62 = alpha*(a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23 + a.a64*b.a24 + a.a65*b.a25 + a.a66*b.a26 + a.a67*b.a27 + a.a68*b.a28);
+        c.a63 = alpha*(a.a61*b.a31 + a.a62*b.a32 + a.a63*b.a33 + a.a64*b.a34 + a.a65*b.a35 + a.a66*b.a36 + a.a67*b.a37 + a.a68*b.a38);
+        c.a64 = alpha*(a.a61*b.a41 + a.a62*b.a42 + a.a63*b.a43 + a.a64*b.a44 + a.a65*b.a45 + a.a66*b.a46 + a.a67*b.a47 + a.a68*b.a48);
+        c.a65 = alpha*(a.a61*b.a51 + a.a62*b.a52 + a.a63*b.a53 + a.a64*b.a54 + a.a65*b.a55 + a.a66*b.a56 + a.a67*b.a57 + a.a68*b.a58);
+        c.a66 = alpha*(a.a61*b.a61 + a.a62*b.a62 + a.a63*b.a63 + a.a64*b.a64 + a.a65*b.a65 + a.a66*b.a66 + a.a67*b.a67 + a.a68*b.a68);
+        c.a67 = alpha*(a.a61*b.a71 + a.a62*b.a72 + a.a63*b.a73 + a.a64*b.a74 + a.a65*b.a75 + a.a66*b.a76 + a.a67*b.a77 + a.a68*b.a78);
+        c.a68 = alpha*(a.a61*b.a81 + a.a62*b.a82 + a.a63*b.a83 + a.a64*b.a84 + a.a65*b.a85 + a.a66*b.a86 + a.a67*b.a87 + a.a68*b.a88);
+        c.a71 = alpha*(a.a71*b.a11 + a.a72*b.a12 + a.a73*b.a13 + a.a74*b.a14 + a.a75*b.a15 + a.a76*b.a16 + a.a77*b.a17 + a.a78*b.a18);
+        c.a72 = alpha*(a.a71*b.a21 + a.a72*b.a22 + a.a73*b.a23 + a.a74*b.a24 + a.a75*b.a25 + a.a76*b.a26 + a.a77*b.a27 + a.a78*b.a28);
+        c.a73 = alpha*(a.a71*b.a31 + a.a72*b.a32 + a.a73*b.a33 + a.a74*b.a34 + a.a75*b.a35 + a.a76*b.a36 + a.a77*b.a37 + a.a78*b.a38);
+        c.a74 = alpha*(a.a71*b.a41 + a.a72*b.a42 + a.a73*b.a43 + a.a74*b.a44 + a.a75*b.a45 + a.a76*b.a46 + a.a77*b.a47 + a.a78*b.a48);
+        c.a75 = alpha*(a.a71*b.a51 + a.a72*b.a52 + a.a73*b.a53 + a.a74*b.a54 + a.a75*b.a55 + a.a76*b.a56 + a.a77*b.a57 + a.a78*b.a58);
+        c.a76 = alpha*(a.a71*b.a61 + a.a72*b.a62 + a.a73*b.a63 + a.a74*b.a64 + a.a75*b.a65 + a.a76*b.a66 + a.a77*b.a67 + a.a78*b.a68);
+        c.a77 = alpha*(a.a71*b.a71 + a.a72*b.a72 + a.a73*b.a73 + a.a74*b.a74 + a.a75*b.a75 + a.a76*b.a76 + a.a77*b.a77 + a.a78*b.a78);
+        c.a78 = alpha*(a.a71*b.a81 + a.a72*b.a82 + a.a73*b.a83 + a.a74*b.a84 + a.a75*b.a85 + a.a76*b.a86 + a.a77*b.a87 + a.a78*b.a88);
+        c.a81 = alpha*(a.a81*b.a11 + a.a82*b.a12 + a.a83*b.a13 + a.a84*b.a14 + a.a85*b.a15 + a.a86*b.a16 + a.a87*b.a17 + a.a88*b.a18);
+        c.a82 = alpha*(a.a81*b.a21 + a.a82*b.a22 + a.a83*b.a23 + a.a84*b.a24 + a.a85*b.a25 + a.a86*b.a26 + a.a87*b.a27 + a.a88*b.a28);
+        c.a83 = alpha*(a.a81*b.a31 + a.a82*b.a32 + a.a83*b.a33 + a.a84*b.a34 + a.a85*b.a35 + a.a86*b.a36 + a.a87*b.a37 + a.a88*b.a38);
+        c.a84 = alpha*(a.a81*b.a41 + a.a82*b.a42 + a.a83*b.a43 + a.a84*b.a44 + a.a85*b.a45 + a.a86*b.a46 + a.a87*b.a47 + a.a88*b.a48);
+        c.a85 = alpha*(a.a81*b.a51 + a.a82*b.a52 + a.a83*b.a53 + a.a84*b.a54 + a.a85*b.a55 + a.a86*b.a56 + a.a87*b.a57 + a.a88*b.a58);
+        c.a86 = alpha*(a.a81*b.a61 + a.a82*b.a62 + a.a83*b.a63 + a.a84*b.a64 + a.a85*b.a65 + a.a86*b.a66 + a.a87*b.a67 + a.a88*b.a68);
+        c.a87 = alpha*(a.a81*b.a71 + a.a82*b.a72 + a.a83*b.a73 + a.a84*b.a74 + a.a85*b.a75 + a.a86*b.a76 + a.a87*b.a77 + a.a88*b.a78);
+        c.a88 = alpha*(a.a81*b.a81 + a.a82*b.a82 + a.a83*b.a83 + a.a84*b.a84 + a.a85*b.a85 + a.a86*b.a86 + a.a87*b.a87 + a.a88*b.a88);
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c += a * b <br>
+     * <br>
+     * c<sub>ij</sub> += &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAdd( DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 += a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61 + a.a17*b.a71 + a.a18*b.a81;
+        c.a12 += a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62 + a.a17*b.a72 + a.a18*b.a82;
+        c.a13 += a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43 + a.a15*b.a53 + a.a16*b.a63 + a.a17*b.a73 + a.a18*b.a83;
+        c.a14 += a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34 + a.a14*b.a44 + a.a15*b.a54 + a.a16*b.a64 + a.a17*b.a74 + a.a18*b.a84;
+        c.a15 += a.a11*b.a15 + a.a12*b.a25 + a.a13*b.a35 + a.a14*b.a45 + a.a15*b.a55 + a.a16*b.a65 + a.a17*b.a75 + a.a18*b.a85;
+        c.a16 += a.a11*b.a16 + a.a12*b.a26 + a.a13*b.a36 + a.a14*b.a46 + a.a15*b.a56 + a.a16*b.a66 + a.a17*b.a76 + a.a18*b.a86;
+        c.a17 += a.a11*b.a17 + a.a12*b.a27 + a.a13*b.a37 + a.a14*b.a47 + a.a15*b.a57 + a.a16*b.a67 + a.a17*b.a77 + a.a18*b.a87;
+        c.a18 += a.a11*b.a18 + a.a12*b.a28 + a.a13*b.a38 + a.a14*b.a48 + a.a15*b.a58 + a.a16*b.a68 + a.a17*b.a78 + a.a18*b.a88;
+        c.a21 += a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61 + a.a27*b.a71 + a.a28*b.a81;
+        c.a22 += a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62 + a.a27*b.a72 + a.a28*b.a82;
+        c.a23 += a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43 + a.a25*b.a53 + a.a26*b.a63 + a.a27*b.a73 + a.a28*b.a83;
+        c.a24 += a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34 + a.a24*b.a44 + a.a25*b.a54 + a.a26*b.a64 + a.a27*b.a74 + a.a28*b.a84;
+        c.a25 += a.a21*b.a15 + a.a22*b.a25 + a.a23*b.a35 + a.a24*b.a45 + a.a25*b.a55 + a.a26*b.a65 + a.a27*b.a75 + a.a28*b.a85;
+        c.a26 += a.a21*b.a16 + a.a22*b.a26 + a.a23*b.a36 + a.a24*b.a46 + a.a25*b.a56 + a.a26*b.a66 + a.a27*b.a76 + a.a28*b.a86;
+        c.a27 += a.a21*b.a17 + a.a22*b.a27 + a.a23*b.a37 + a.a24*b.a47 + a.a25*b.a57 + a.a26*b.a67 + a.a27*b.a77 + a.a28*b.a87;
+        c.a28 += a.a21*b.a18 + a.a22*b.a28 + a.a23*b.a38 + a.a24*b.a48 + a.a25*b.a58 + a.a26*b.a68 + a.a27*b.a78 + a.a28*b.a88;
+        c.a31 += a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41 + a.a35*b.a51 + a.a36*b.a61 + a.a37*b.a71 + a.a38*b.a81;
+        c.a32 += a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42 + a.a35*b.a52 + a.a36*b.a62 + a.a37*b.a72 + a.a38*b.a82;
+        c.a33 += a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43 + a.a35*b.a53 + a.a36*b.a63 + a.a37*b.a73 + a.a38*b.a83;
+        c.a34 += a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34 + a.a34*b.a44 + a.a35*b.a54 + a.a36*b.a64 + a.a37*b.a74 + a.a38*b.a84;
+        c.a35 += a.a31*b.a15 + a.a32*b.a25 + a.a33*b.a35 + a.a34*b.a45 + a.a35*b.a55 + a.a36*b.a65 + a.a37*b.a75 + a.a38*b.a85;
+        c.a36 += a.a31*b.a16 + a.a32*b.a26 + a.a33*b.a36 + a.a34*b.a46 + a.a35*b.a56 + a.a36*b.a66 + a.a37*b.a76 + a.a38*b.a86;
+        c.a37 += a.a31*b.a17 + a.a32*b.a27 + a.a33*b.a37 + a.a34*b.a47 + a.a35*b.a57 + a.a36*b.a67 + a.a37*b.a77 + a.a38*b.a87;
+        c.a38 += a.a31*b.a18 + a.a32*b.a28 + a.a33*b.a38 + a.a34*b.a48 + a.a35*b.a58 + a.a36*b.a68 + a.a37*b.a78 + a.a38*b.a88;
+        c.a41 += a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31 + a.a44*b.a41 + a.a45*b.a51 + a.a46*b.a61 + a.a47*b.a71 + a.a48*b.a81;
+        c.a42 += a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32 + a.a44*b.a42 + a.a45*b.a52 + a.a46*b.a62 + a.a47*b.a72 + a.a48*b.a82;
+        c.a43 += a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33 + a.a44*b.a43 + a.a45*b.a53 + a.a46*b.a63 + a.a47*b.a73 + a.a48*b.a83;
+        c.a44 += a.a41*b.a14 + a.a42*b.a24 + a.a43*b.a34 + a.a44*b.a44 + a.a45*b.a54 + a.a46*b.a64 + a.a47*b.a74 + a.a48*b.a84;
+        c.a45 += a.a41*b.a15 + a.a42*b.a25 + a.a43*b.a35 + a.a44*b.a45 + a.a45*b.a55 + a.a46*b.a65 + a.a47*b.a75 + a.a48*b.a85;
+        c.a46 += a.a41*b.a16 + a.a42*b.a26 + a.a43*b.a36 + a.a44*b.a46 + a.a45*b.a56 + a.a46*b.a66 + a.a47*b.a76 + a.a48*b.a86;
+        c.a47 += a.a41*b.a17 + a.a42*b.a27 + a.a43*b.a37 + a.a44*b.a47 + a.a45*b.a57 + a.a46*b.a67 + a.a47*b.a77 + a.a48*b.a87;
+        c.a48 += a.a41*b.a18 + a.a42*b.a28 + a.a43*b.a38 + a.a44*b.a48 + a.a45*b.a58 + a.a46*b.a68 + a.a47*b.a78 + a.a48*b.a88;
+        c.a51 += a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31 + a.a54*b.a41 + a.a55*b.a51 + a.a56*b.a61 + a.a57*b.a71 + a.a58*b.a81;
+        c.a52 += a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32 + a.a54*b.a42 + a.a55*b.a52 + a.a56*b.a62 + a.a57*b.a72 + a.a58*b.a82;
+        c.a53 += a.a51*b.a13 + a.a52*b.a23 + a.a53*b.a33 + a.a54*b.a43 + a.a55*b.a53 + a.a56*b.a63 + a.a57*b.a73 + a.a58*b.a83;
+        c.a54 += a.a51*b.a14 + a.a52*b.a24 + a.a53*b.a34 + a.a54*b.a44 + a.a55*b.a54 + a.a56*b.a64 + a.a57*b.a74 + a.a58*b.a84;
+        c.a55 += a.a51*b.a15 + a.a52*b.a25 + a.a53*b.a35 + a.a54*b.a45 + a.a55*b.a55 + a.a56*b.a65 + a.a57*b.a75 + a.a58*b.a85;
+        c.a56 += a.a51*b.a16 + a.a52*b.a26 + a.a53*b.a36 + a.a54*b.a46 + a.a55*b.a56 + a.a56*b.a66 + a.a57*b.a76 + a.a58*b.a86;
+        c.a57 += a.a51*b.a17 + a.a52*b.a27 + a.a53*b.a37 + a.a54*b.a47 + a.a55*b.a57 + a.a56*b.a67 + a.a57*b.a77 + a.a58*b.a87;
+        c.a58 += a.a51*b.a18 + a.a52*b.a28 + a.a53*b.a38 + a.a54*b.a48 + a.a55*b.a58 + a.a56*b.a68 + a.a57*b.a78 + a.a58*b.a88;
+        c.a61 += a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31 + a.a64*b.a41 + a.a65*b.a51 + a.a66*b.a61 + a.a67*b.a71 + a.a68*b.a81;
+        c.a62 += a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32 + a.a64*b.a42 + a.a65*b.a52 + a.a66*b.a62 + a.a67*b.a72 + a.a68*b.a82;
+        c.a63 += a.a61*b.a13 + a.a62*b.a23 + a.a63*b.a33 + a.a64*b.a43 + a.a65*b.a53 + a.a66*b.a63 + a.a67*b.a73 + a.a68*b.a83;
+        c.a64 += a.a61*b.a14 + a.a62*b.a24 + a.a63*b.a34 + a.a64*b.a44 + a.a65*b.a54 + a.a66*b.a64 + a.a67*b.a74 + a.a68*b.a84;
+        c.a65 += a.a61*b.a15 + a.a62*b.a25 + a.a63*b.a35 + a.a64*b.a45 + a.a65*b.a55 + a.a66*b.a65 + a.a67*b.a75 + a.a68*b.a85;
+        c.a66 += a.a61*b.a16 + a.a62*b.a26 + a.a63*b.a36 + a.a64*b.a46 + a.a65*b.a56 + a.a66*b.a66 + a.a67*b.a76 + a.a68*b.a86;
+        c.a67 += a.a61*b.a17 + a.a62*b.a27 + a.a63*b.a37 + a.a64*b.a47 + a.a65*b.a57 + a.a66*b.a67 + a.a67*b.a77 + a.a68*b.a87;
+        c.a68 += a.a61*b.a18 + a.a62*b.a28 + a.a63*b.a38 + a.a64*b.a48 + a.a65*b.a58 + a.a66*b.a68 + a.a67*b.a78 + a.a68*b.a88;
+        c.a71 += a.a71*b.a11 + a.a72*b.a21 + a.a73*b.a31 + a.a74*b.a41 + a.a75*b.a51 + a.a76*b.a61 + a.a77*b.a71 + a.a78*b.a81;
+        c.a72 += a.a71*b.a12 + a.a72*b.a22 + a.a73*b.a32 + a.a74*b.a42 + a.a75*b.a52 + a.a76*b.a62 + a.a77*b.a72 + a.a78*b.a82;
+        c.a73 += a.a71*b.a13 + a.a72*b.a23 + a.a73*b.a33 + a.a74*b.a43 + a.a75*b.a53 + a.a76*b.a63 + a.a77*b.a73 + a.a78*b.a83;
+        c.a74 += a.a71*b.a14 + a.a72*b.a24 + a.a73*b.a34 + a.a74*b.a44 + a.a75*b.a54 + a.a76*b.a64 + a.a77*b.a74 + a.a78*b.a84;
+        c.a75 += a.a71*b.a15 + a.a72*b.a25 + a.a73*b.a35 + a.a74*b.a45 + a.a75*b.a55 + a.a76*b.a65 + a.a77*b.a75 + a.a78*b.a85;
+        c.a76 += a.a71*b.a16 + a.a72*b.a26 + a.a73*b.a36 + a.a74*b.a46 + a.a75*b.a56 + a.a76*b.a66 + a.a77*b.a76 + a.a78*b.a86;
+        c.a77 += a.a71*b.a17 + a.a72*b.a27 + a.a73*b.a37 + a.a74*b.a47 + a.a75*b.a57 + a.a76*b.a67 + a.a77*b.a77 + a.a78*b.a87;
+        c.a78 += a.a71*b.a18 + a.a72*b.a28 + a.a73*b.a38 + a.a74*b.a48 + a.a75*b.a58 + a.a76*b.a68 + a.a77*b.a78 + a.a78*b.a88;
+        c.a81 += a.a81*b.a11 + a.a82*b.a21 + a.a83*b.a31 + a.a84*b.a41 + a.a85*b.a51 + a.a86*b.a61 + a.a87*b.a71 + a.a88*b.a81;
+        c.a82 += a.a81*b.a12 + a.a82*b.a22 + a.a83*b.a32 + a.a84*b.a42 + a.a85*b.a52 + a.a86*b.a62 + a.a87*b.a72 + a.a88*b.a82;
+        c.a83 += a.a81*b.a13 + a.a82*b.a23 + a.a83*b.a33 + a.a84*b.a43 + a.a85*b.a53 + a.a86*b.a63 + a.a87*b.a73 + a.a88*b.a83;
+        c.a84 += a.a81*b.a14 + a.a82*b.a24 + a.a83*b.a34 + a.a84*b.a44 + a.a85*b.a54 + a.a86*b.a64 + a.a87*b.a74 + a.a88*b.a84;
+        c.a85 += a.a81*b.a15 + a.a82*b.a25 + a.a83*b.a35 + a.a84*b.a45 + a.a85*b.a55 + a.a86*b.a65 + a.a87*b.a75 + a.a88*b.a85;
+        c.a86 += a.a81*b.a16 + a.a82*b.a26 + a.a83*b.a36 + a.a84*b.a46 + a.a85*b.a56 + a.a86*b.a66 + a.a87*b.a76 + a.a88*b.a86;
+        c.a87 += a.a81*b.a17 + a.a82*b.a27 + a.a83*b.a37 + a.a84*b.a47 + a.a85*b.a57 + a.a86*b.a67 + a.a87*b.a77 + a.a88*b.a87;
+        c.a88 += a.a81*b.a18 + a.a82*b.a28 + a.a83*b.a38 + a.a84*b.a48 + a.a85*b.a58 + a.a86*b.a68 + a.a87*b.a78 + a.a88*b.a88;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c += &alpha; * a * b <br>
+     * <br>
+     * c<sub>ij</sub> += &alpha; &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAdd( double alpha , DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 += alpha*(a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61 + a.a17*b.a71 + a.a18*b.a81);
+        c.a12 += alpha*(a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62 + a.a17*b.a72 + a.a18*b.a82);
+        c.a13 += alpha*(a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43 + a.a15*b.a53 + a.a16*b.a63 + a.a17*b.a73 + a.a18*b.a83);
+        c.a14 += alpha*(a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34 + a.a14*b.a44 + a.a15*b.a54 + a.a16*b.a64 + a.a17*b.a74 + a.a18*b.a84);
+        c.a15 += alpha*(a.a11*b.a15 + a.a12*b.a25 + a.a13*b.a35 + a.a14*b.a45 + a.a15*b.a55 + a.a16*b.a65 + a.a17*b.a75 + a.a18*b.a85);
+        c.a16 += alpha*(a.a11*b.a16 + a.a12*b.a26 + a.a13*b.a36 + a.a14*b.a46 + a.a15*b.a56 + a.a16*b.a66 + a.a17*b.a76 + a.a18*b.a86);
+        c.a17 += alpha*(a.a11*b.a17 + a.a12*b.a27 + a.a13*b.a37 + a.a14*b.a47 + a.a15*b.a57 + a.a16*b.a67 + a.a17*b.a77 + a.a18*b.a87);
+        c.a18 += alpha*(a.a11*b.a18 + a.a12*b.a28 + a.a13*b.a38 + a.a14*b.a48 + a.a15*b.a58 + a.a16*b.a68 + a.a17*b.a78 + a.a18*b.a88);
+        c.a21 += alpha*(a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61 + a.a27*b.a71 + a.a28*b.a81);
+        c.a22 += alpha*(a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62 + a.a27*b.a72 + a.a28*b.a82);
+        c.a23 += alpha*(a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43 + a.a25*b.a53 + a.a26*b.a63 + a.a27*b.a73 + a.a28*b.a83);
+        c.a24 += alpha*(a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34 + a.a24*b.a44 + a.a25*b.a54 + a.a26*b.a64 + a.a27*b.a74 + a.a28*b.a84);
+        c.a25 += alpha*(a.a21*b.a15 + a.a22*b.a25 + a.a23*b.a35 + a.a24*b.a45 + a.a25*b.a55 + a.a26*b.a65 + a.a27*b.a75 + a.a28*b.a85);
+        c.a26 += alpha*(a.a21*b.a16 + a.a22*b.a26 + a.a23*b.a36 + a.a24*b.a46 + a.a25*b.a56 + a.a26*b.a66 + a.a27*b.a76 + a.a28*b.a86);
+        c.a27 += alpha*(a.a21*b.a17 + a.a22*b.a27 + a.a23*b.a37 + a.a24*b.a47 + a.a25*b.a57 + a.a26*b.a67 + a.a27*b.a77 + a.a28*b.a87);
+        c.a28 += alpha*(a.a21*b.a18 + a.a22*b.a28 + a.a23*b.a38 + a.a24*b.a48 + a.a25*b.a58 + a.a26*b.a68 + a.a27*b.a78 + a.a28*b.a88);
+        c.a31 += alpha*(a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41 + a.a35*b.a51 + a.a36*b.a61 + a.a37*b.a71 + a.a38*b.a81);
+        c.a32 += alpha*(a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42 + a.a35*b.a52 + a.a36*b.a62 + a.a37*b.a72 + a.a38*b.a82);
+        c.a33 += alpha*(a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43 + a.a35*b.a53 + a.a36*b.a63 + a.a37*b.a73 + a.a38*b.a83);
+        c.a34 += alpha*(a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34 + a.a34*b.a44 + a.a35*b.a54 + a.a36*b.a64 + a.a37*b.a74 + a.a38*b.a84);
+        c.a35 += alpha*(a.a31*b.a15 + a.a32*b.a25 + a.a33*b.a35 + a.a34*b.a45 + a.a35*b.a55 + a.a36*b.a65 + a.a37*b.a75 + a.a38*b.a85);
+        c.a36 += alpha*(a.a31*b.a16 + a.a32*b.a26 + a.a33*b.a36 + a.a34*b.a46 + a.a35*b.a56 + a.a36*b.a66 + a.a37*b.a76 + a.a38*b.a86);
+        c.a37 += alpha*(a.a31*b.a17 + a.a32*b.a27 + a.a33*b.a37 + a.a34*b.a47 + a.a35*b.a57 + a.a36*b.a67 + a.a37*b.a77 + a.a38*b.a87);
+        c.a38 += alpha*(a.a31*b.a18 + a.a32*b.a28 + a.a33*b.a38 + a.a34*b.a48 + a.a35*b.a58 + a.a36*b.a68 + a.a37*b.a78 + a.a38*b.a88);
+        c.a41 += alpha*(a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31 + a.a44*b.a41 + a.a45*b.a51 + a.a46*b.a61 + a.a47*b.a71 + a.a48*b.a81);
+        c.a42 += alpha*(a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32 + a.a44*b.a42 + a.a45*b.a52 + a.a46*b.a62 + a.a47*b.a72 + a.a48*b.a82);
+        c.a43 += alpha*(a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33 + a.a44*b.a43 + a.a45*b.a53 + a.a46*b.a63 + a.a47*b.a73 + a.a48*b.a83);
+        c.a44 += alpha*(a.a41*b.a14 + a.a42*b.a24 + a.a43*b.a34 + a.a44*b.a44 + a.a45*b.a54 + a.a46*b.a64 + a.a47*b.a74 + a.a48*b.a84);
+        c.a45 += alpha*(a.a41*b.a15 + a.a42*b.a25 + a.a43*b.a35 + a.a44*b.a45 + a.a45*b.a55 + a.a46*b.a65 + a.a47*b.a75 + a.a48*b.a85);
+        c.a46 += alpha*(a.a41*b.a16 + a.a42*b.a26 + a.a43*b.a36 + a.a44*b.a46 + a.a45*b.a56 + a.a46*b.a66 + a.a47*b.a76 + a.a48*b.a86);
+        c.a47 += alpha*(a.a41*b.a17 + a.a42*b.a27 + a.a43*b.a37 + a.a44*b.a47 + a.a45*b.a57 + a.a46*b.a67 + a.a47*b.a77 + a.a48*b.a87);
+        c.a48 += alpha*(a.a41*b.a18 + a.a42*b.a28 + a.a43*b.a38 + a.a44*b.a48 + a.a45*b.a58 + a.a46*b.a68 + a.a47*b.a78 + a.a48*b.a88);
+        c.a51 += alpha*(a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31 + a.a54*b.a41 + a.a55*b.a51 + a.a56*b.a61 + a.a57*b.a71 + a.a58*b.a81);
+        c.a52 += alpha*(a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32 + a.a54*b.a42 + a.a55*b.a52 + a.a56*b.a62 + a.a57*b.a72 + a.a58*b.a82);
+        c.a53 += alpha*(a.a51*b.a13 + a.a52*b.a23 + a.a53*b.a33 + a.a54*b.a43 + a.a55*b.a53 + a.a56*b.a63 + a.a57*b.a73 + a.a58*b.a83);
+        c.a54 += alpha*(a.a51*b.a14 + a.a52*b.a24 + a.a53*b.a34 + a.a54*b.a44 + a.a55*b.a54 + a.a56*b.a64 + a.a57*b.a74 + a.a58*b.a84);
+        c.a55 += alpha*(a.a51*b.a15 + a.a52*b.a25 + a.a53*b.a35 + a.a54*b.a45 + a.a55*b.a55 + a.a56*b.a65 + a.a57*b.a75 + a.a58*b.a85);
+        c.a56 += alpha*(a.a51*b.a16 + a.a52*b.a26 + a.a53*b.a36 + a.a54*b.a46 + a.a55*b.a56 + a.a56*b.a66 + a.a57*b.a76 + a.a58*b.a86);
+        c.a57 += alpha*(a.a51*b.a17 + a.a52*b.a27 + a.a53*b.a37 + a.a54*b.a47 + a.a55*b.a57 + a.a56*b.a67 + a.a57*b.a77 + a.a58*b.a87);
+        c.a58 += alpha*(a.a51*b.a18 + a.a52*b.a28 + a.a53*b.a38 + a.a54*b.a48 + a.a55*b.a58 + a.a56*b.a68 + a.a57*b.a78 + a.a58*b.a88);
+        c.a61 += alpha*(a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31 + a.a64*b.a41 + a.a65*b.a51 + a.a66*b.a61 + a.a67*b.a71 + a.a68*b.a81);
+        c.a62 += alpha*(a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32 + a.a64*b.a42 + a.a65*b.a52 + a.a66*b.a62 + a.a67*b.a72 + a.a68*b.a82);
+        c.a63 += alpha*(a.a61*b.a13 + a.a62*b.a23 + a.a63*b.a33 + a.a64*b.a43 + a.a65*b.a53 + a.a66*b.a63 + a.a67*b.a73 + a.a68*b.a83);
+        c.a64 += alpha*(a.a61*b.a14 + a.a62*b.a24 + a.a63*b.a34 + a.a64*b.a44 + a.a65*b.a54 + a.a66*b.a64 + a.a67*b.a74 + a.a68*b.a84);
+        c.a65 += alpha*(a.a61*b.a15 + a.a62*b.a25 + a.a63*b.a35 + a.a64*b.a45 + a.a65*b.a55 + a.a66*b.a65 + a.a67*b.a75 + a.a68*b.a85);
+        c.a66 += alpha*(a.a61*b.a16 + a.a62*b.a26 + a.a63*b.a36 + a.a64*b.a46 + a.a65*b.a56 + a.a66*b.a66 + a.a67*b.a76 + a.a68*b.a86);
+        c.a67 += alpha*(a.a61*b.a17 + a.a62*b.a27 + a.a63*b.a37 + a.a64*b.a47 + a.a65*b.a57 + a.a66*b.a67 + a.a67*b.a77 + a.a68*b.a87);
+        c.a68 += alpha*(a.a61*b.a18 + a.a62*b.a28 + a.a63*b.a38 + a.a64*b.a48 + a.a65*b.a58 + a.a66*b.a68 + a.a67*b.a78 + a.a68*b.a88);
+        c.a71 += alpha*(a.a71*b.a11 + a.a72*b.a21 + a.a73*b.a31 + a.a74*b.a41 + a.a75*b.a51 + a.a76*b.a61 + a.a77*b.a71 + a.a78*b.a81);
+        c.a72 += alpha*(a.a71*b.a12 + a.a72*b.a22 + a.a73*b.a32 + a.a74*b.a42 + a.a75*b.a52 + a.a76*b.a62 + a.a77*b.a72 + a.a78*b.a82);
+        c.a73 += alpha*(a.a71*b.a13 + a.a72*b.a23 + a.a73*b.a33 + a.a74*b.a43 + a.a75*b.a53 + a.a76*b.a63 + a.a77*b.a73 + a.a78*b.a83);
+        c.a74 += alpha*(a.a71*b.a14 + a.a72*b.a24 + a.a73*b.a34 + a.a74*b.a44 + a.a75*b.a54 + a.a76*b.a64 + a.a77*b.a74 + a.a78*b.a84);
+        c.a75 += alpha*(a.a71*b.a15 + a.a72*b.a25 + a.a73*b.a35 + a.a74*b.a45 + a.a75*b.a55 + a.a76*b.a65 + a.a77*b.a75 + a.a78*b.a85);
+        c.a76 += alpha*(a.a71*b.a16 + a.a72*b.a26 + a.a73*b.a36 + a.a74*b.a46 + a.a75*b.a56 + a.a76*b.a66 + a.a77*b.a76 + a.a78*b.a86);
+        c.a77 += alpha*(a.a71*b.a17 + a.a72*b.a27 + a.a73*b.a37 + a.a74*b.a47 + a.a75*b.a57 + a.a76*b.a67 + a.a77*b.a77 + a.a78*b.a87);
+        c.a78 += alpha*(a.a71*b.a18 + a.a72*b.a28 + a.a73*b.a38 + a.a74*b.a48 + a.a75*b.a58 + a.a76*b.a68 + a.a77*b.a78 + a.a78*b.a88);
+        c.a81 += alpha*(a.a81*b.a11 + a.a82*b.a21 + a.a83*b.a31 + a.a84*b.a41 + a.a85*b.a51 + a.a86*b.a61 + a.a87*b.a71 + a.a88*b.a81);
+        c.a82 += alpha*(a.a81*b.a12 + a.a82*b.a22 + a.a83*b.a32 + a.a84*b.a42 + a.a85*b.a52 + a.a86*b.a62 + a.a87*b.a72 + a.a88*b.a82);
+        c.a83 += alpha*(a.a81*b.a13 + a.a82*b.a23 + a.a83*b.a33 + a.a84*b.a43 + a.a85*b.a53 + a.a86*b.a63 + a.a87*b.a73 + a.a88*b.a83);
+        c.a84 += alpha*(a.a81*b.a14 + a.a82*b.a24 + a.a83*b.a34 + a.a84*b.a44 + a.a85*b.a54 + a.a86*b.a64 + a.a87*b.a74 + a.a88*b.a84);
+        c.a85 += alpha*(a.a81*b.a15 + a.a82*b.a25 + a.a83*b.a35 + a.a84*b.a45 + a.a85*b.a55 + a.a86*b.a65 + a.a87*b.a75 + a.a88*b.a85);
+        c.a86 += alpha*(a.a81*b.a16 + a.a82*b.a26 + a.a83*b.a36 + a.a84*b.a46 + a.a85*b.a56 + a.a86*b.a66 + a.a87*b.a76 + a.a88*b.a86);
+        c.a87 += alpha*(a.a81*b.a17 + a.a82*b.a27 + a.a83*b.a37 + a.a84*b.a47 + a.a85*b.a57 + a.a86*b.a67 + a.a87*b.a77 + a.a88*b.a87);
+        c.a88 += alpha*(a.a81*b.a18 + a.a82*b.a28 + a.a83*b.a38 + a.a84*b.a48 + a.a85*b.a58 + a.a86*b.a68 + a.a87*b.a78 + a.a88*b.a88);
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c += a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> += &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransA( DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 += a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61 + a.a71*b.a71 + a.a81*b.a81;
+        c.a12 += a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62 + a.a71*b.a72 + a.a81*b.a82;
+        c.a13 += a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63 + a.a71*b.a73 + a.a81*b.a83;
+        c.a14 += a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34 + a.a41*b.a44 + a.a51*b.a54 + a.a61*b.a64 + a.a71*b.a74 + a.a81*b.a84;
+        c.a15 += a.a11*b.a15 + a.a21*b.a25 + a.a31*b.a35 + a.a41*b.a45 + a.a51*b.a55 + a.a61*b.a65 + a.a71*b.a75 + a.a81*b.a85;
+        c.a16 += a.a11*b.a16 + a.a21*b.a26 + a.a31*b.a36 + a.a41*b.a46 + a.a51*b.a56 + a.a61*b.a66 + a.a71*b.a76 + a.a81*b.a86;
+        c.a17 += a.a11*b.a17 + a.a21*b.a27 + a.a31*b.a37 + a.a41*b.a47 + a.a51*b.a57 + a.a61*b.a67 + a.a71*b.a77 + a.a81*b.a87;
+        c.a18 += a.a11*b.a18 + a.a21*b.a28 + a.a31*b.a38 + a.a41*b.a48 + a.a51*b.a58 + a.a61*b.a68 + a.a71*b.a78 + a.a81*b.a88;
+        c.a21 += a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61 + a.a72*b.a71 + a.a82*b.a81;
+        c.a22 += a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62 + a.a72*b.a72 + a.a82*b.a82;
+        c.a23 += a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63 + a.a72*b.a73 + a.a82*b.a83;
+        c.a24 += a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34 + a.a42*b.a44 + a.a52*b.a54 + a.a62*b.a64 + a.a72*b.a74 + a.a82*b.a84;
+        c.a25 += a.a12*b.a15 + a.a22*b.a25 + a.a32*b.a35 + a.a42*b.a45 + a.a52*b.a55 + a.a62*b.a65 + a.a72*b.a75 + a.a82*b.a85;
+        c.a26 += a.a12*b.a16 + a.a22*b.a26 + a.a32*b.a36 + a.a42*b.a46 + a.a52*b.a56 + a.a62*b.a66 + a.a72*b.a76 + a.a82*b.a86;
+        c.a27 += a.a12*b.a17 + a.a22*b.a27 + a.a32*b.a37 + a.a42*b.a47 + a.a52*b.a57 + a.a62*b.a67 + a.a72*b.a77 + a.a82*b.a87;
+        c.a28 += a.a12*b.a18 + a.a22*b.a28 + a.a32*b.a38 + a.a42*b.a48 + a.a52*b.a58 + a.a62*b.a68 + a.a72*b.a78 + a.a82*b.a88;
+        c.a31 += a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61 + a.a73*b.a71 + a.a83*b.a81;
+        c.a32 += a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62 + a.a73*b.a72 + a.a83*b.a82;
+        c.a33 += a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43 + a.a53*b.a53 + a.a63*b.a63 + a.a73*b.a73 + a.a83*b.a83;
+        c.a34 += a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34 + a.a43*b.a44 + a.a53*b.a54 + a.a63*b.a64 + a.a73*b.a74 + a.a83*b.a84;
+        c.a35 += a.a13*b.a15 + a.a23*b.a25 + a.a33*b.a35 + a.a43*b.a45 + a.a53*b.a55 + a.a63*b.a65 + a.a73*b.a75 + a.a83*b.a85;
+        c.a36 += a.a13*b.a16 + a.a23*b.a26 + a.a33*b.a36 + a.a43*b.a46 + a.a53*b.a56 + a.a63*b.a66 + a.a73*b.a76 + a.a83*b.a86;
+        c.a37 += a.a13*b.a17 + a.a23*b.a27 + a.a33*b.a37 + a.a43*b.a47 + a.a53*b.a57 + a.a63*b.a67 + a.a73*b.a77 + a.a83*b.a87;
+        c.a38 += a.a13*b.a18 + a.a23*b.a28 + a.a33*b.a38 + a.a43*b.a48 + a.a53*b.a58 + a.a63*b.a68 + a.a73*b.a78 + a.a83*b.a88;
+        c.a41 += a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31 + a.a44*b.a41 + a.a54*b.a51 + a.a64*b.a61 + a.a74*b.a71 + a.a84*b.a81;
+        c.a42 += a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32 + a.a44*b.a42 + a.a54*b.a52 + a.a64*b.a62 + a.a74*b.a72 + a.a84*b.a82;
+        c.a43 += a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33 + a.a44*b.a43 + a.a54*b.a53 + a.a64*b.a63 + a.a74*b.a73 + a.a84*b.a83;
+        c.a44 += a.a14*b.a14 + a.a24*b.a24 + a.a34*b.a34 + a.a44*b.a44 + a.a54*b.a54 + a.a64*b.a64 + a.a74*b.a74 + a.a84*b.a84;
+        c.a45 += a.a14*b.a15 + a.a24*b.a25 + a.a34*b.a35 + a.a44*b.a45 + a.a54*b.a55 + a.a64*b.a65 + a.a74*b.a75 + a.a84*b.a85;
+        c.a46 += a.a14*b.a16 + a.a24*b.a26 + a.a34*b.a36 + a.a44*b.a46 + a.a54*b.a56 + a.a64*b.a66 + a.a74*b.a76 + a.a84*b.a86;
+        c.a47 += a.a14*b.a17 + a.a24*b.a27 + a.a34*b.a37 + a.a44*b.a47 + a.a54*b.a57 + a.a64*b.a67 + a.a74*b.a77 + a.a84*b.a87;
+        c.a48 += a.a14*b.a18 + a.a24*b.a28 + a.a34*b.a38 + a.a44*b.a48 + a.a54*b.a58 + a.a64*b.a68 + a.a74*b.a78 + a.a84*b.a88;
+        c.a51 += a.a15*b.a11 + a.a25*b.a21 + a.a35*b.a31 + a.a45*b.a41 + a.a55*b.a51 + a.a65*b.a61 + a.a75*b.a71 + a.a85*b.a81;
+        c.a52 += a.a15*b.a12 + a.a25*b.a22 + a.a35*b.a32 + a.a45*b.a42 + a.a55*b.a52 + a.a65*b.a62 + a.a75*b.a72 + a.a85*b.a82;
+        c.a53 += a.a15*b.a13 + a.a25*b.a23 + a.a35*b.a33 + a.a45*b.a43 + a.a55*b.a53 + a.a65*b.a63 + a.a75*b.a73 + a.a85*b.a83;
+        c.a54 += a.a15*b.a14 + a.a25*b.a24 + a.a35*b.a34 + a.a45*b.a44 + a.a55*b.a54 + a.a65*b.a64 + a.a75*b.a74 + a.a85*b.a84;
+        c.a55 += a.a15*b.a15 + a.a25*b.a25 + a.a35*b.a35 + a.a45*b.a45 + a.a55*b.a55 + a.a65*b.a65 + a.a75*b.a75 + a.a85*b.a85;
+        c.a56 += a.a15*b.a16 + a.a25*b.a26 + a.a35*b.a36 + a.a45*b.a46 + a.a55*b.a56 + a.a65*b.a66 + a.a75*b.a76 + a.a85*b.a86;
+        c.a57 += a.a15*b.a17 + a.a25*b.a27 + a.a35*b.a37 + a.a45*b.a47 + a.a55*b.a57 + a.a65*b.a67 + a.a75*b.a77 + a.a85*b.a87;
+        c.a58 += a.a15*b.a18 + a.a25*b.a28 + a.a35*b.a38 + a.a45*b.a48 + a.a55*b.a58 + a.a65*b.a68 + a.a75*b.a78 + a.a85*b.a88;
+        c.a61 += a.a16*b.a11 + a.a26*b.a21 + a.a36*b.a31 + a.a46*b.a41 + a.a56*b.a51 + a.a66*b.a61 + a.a76*b.a71 + a.a86*b.a81;
+        c.a62 += a.a16*b.a12 + a.a26*b.a22 + a.a36*b.a32 + a.a46*b.a42 + a.a56*b.a52 + a.a66*b.a62 + a.a76*b.a72 + a.a86*b.a82;
+        c.a63 += a.a16*b.a13 + a.a26*b.a23 + a.a36*b.a33 + a.a46*b.a43 + a.a56*b.a53 + a.a66*b.a63 + a.a76*b.a73 + a.a86*b.a83;
+        c.a64 += a.a16*b.a14 + a.a26*b.a24 + a.a36*b.a34 + a.a46*b.a44 + a.a56*b.a54 + a.a66*b.a64 + a.a76*b.a74 + a.a86*b.a84;
+        c.a65 += a.a16*b.a15 + a.a26*b.a25 + a.a36*b.a35 + a.a46*b.a45 + a.a56*b.a55 + a.a66*b.a65 + a.a76*b.a75 + a.a86*b.a85;
+        c.a66 += a.a16*b.a16 + a.a26*b.a26 + a.a36*b.a36 + a.a46*b.a46 + a.a56*b.a56 + a.a66*b.a66 + a.a76*b.a76 + a.a86*b.a86;
+        c.a67 += a.a16*b.a17 + a.a26*b.a27 + a.a36*b.a37 + a.a46*b.a47 + a.a56*b.a57 + a.a66*b.a67 + a.a76*b.a77 + a.a86*b.a87;
+        c.a68 += a.a16*b.a18 + a.a26*b.a28 + a.a36*b.a38 + a.a46*b.a48 + a.a56*b.a58 + a.a66*b.a68 + a.a76*b.a78 + a.a86*b.a88;
+        c.a71 += a.a17*b.a11 + a.a27*b.a21 + a.a37*b.a31 + a.a47*b.a41 + a.a57*b.a51 + a.a67*b.a61 + a.a77*b.a71 + a.a87*b.a81;
+        c.a72 += a.a17*b.a12 + a.a27*b.a22 + a.a37*b.a32 + a.a47*b.a42 + a.a57*b.a52 + a.a67*b.a62 + a.a77*b.a72 + a.a87*b.a82;
+        c.a73 += a.a17*b.a13 + a.a27*b.a23 + a.a37*b.a33 + a.a47*b.a43 + a.a57*b.a53 + a.a67*b.a63 + a.a77*b.a73 + a.a87*b.a83;
+        c.a74 += a.a17*b.a14 + a.a27*b.a24 + a.a37*b.a34 + a.a47*b.a44 + a.a57*b.a54 + a.a67*b.a64 + a.a77*b.a74 + a.a87*b.a84;
+        c.a75 += a.a17*b.a15 + a.a27*b.a25 + a.a37*b.a35 + a.a47*b.a45 + a.a57*b.a55 + a.a67*b.a65 + a.a77*b.a75 + a.a87*b.a85;
+        c.a76 += a.a17*b.a16 + a.a27*b.a26 + a.a37*b.a36 + a.a47*b.a46 + a.a57*b.a56 + a.a67*b.a66 + a.a77*b.a76 + a.a87*b.a86;
+        c.a77 += a.a17*b.a17 + a.a27*b.a27 + a.a37*b.a37 + a.a47*b.a47 + a.a57*b.a57 + a.a67*b.a67 + a.a77*b.a77 + a.a87*b.a87;
+        c.a78 += a.a17*b.a18 + a.a27*b.a28 + a.a37*b.a38 + a.a47*b.a48 + a.a57*b.a58 + a.a67*b.a68 + a.a77*b.a78 + a.a87*b.a88;
+        c.a81 += a.a18*b.a11 + a.a28*b.a21 + a.a38*b.a31 + a.a48*b.a41 + a.a58*b.a51 + a.a68*b.a61 + a.a78*b.a71 + a.a88*b.a81;
+        c.a82 += a.a18*b.a12 + a.a28*b.a22 + a.a38*b.a32 + a.a48*b.a42 + a.a58*b.a52 + a.a68*b.a62 + a.a78*b.a72 + a.a88*b.a82;
+        c.a83 += a.a18*b.a13 + a.a28*b.a23 + a.a38*b.a33 + a.a48*b.a43 + a.a58*b.a53 + a.a68*b.a63 + a.a78*b.a73 + a.a88*b.a83;
+        c.a84 += a.a18*b.a14 + a.a28*b.a24 + a.a38*b.a34 + a.a48*b.a44 + a.a58*b.a54 + a.a68*b.a64 + a.a78*b.a74 + a.a88*b.a84;
+        c.a85 += a.a18*b.a15 + a.a28*b.a25 + a.a38*b.a35 + a.a48*b.a45 + a.a58*b.a55 + a.a68*b.a65 + a.a78*b.a75 + a.a88*b.a85;
+        c.a86 += a.a18*b.a16 + a.a28*b.a26 + a.a38*b.a36 + a.a48*b.a46 + a.a58*b.a56 + a.a68*b.a66 + a.a78*b.a76 + a.a88*b.a86;
+        c.a87 += a.a18*b.a17 + a.a28*b.a27 + a.a38*b.a37 + a.a48*b.a47 + a.a58*b.a57 + a.a68*b.a67 + a.a78*b.a77 + a.a88*b.a87;
+        c.a88 += a.a18*b.a18 + a.a28*b.a28 + a.a38*b.a38 + a.a48*b.a48 + a.a58*b.a58 + a.a68*b.a68 + a.a78*b.a78 + a.a88*b.a88;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c += &alpha; * a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> += &alpha; * &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransA( double alpha , DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 += alpha*(a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61 + a.a71*b.a71 + a.a81*b.a81);
+        c.a12 += alpha*(a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62 + a.a71*b.a72 + a.a81*b.a82);
+        c.a13 += alpha*(a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63 + a.a71*b.a73 + a.a81*b.a83);
+        c.a14 += alpha*(a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34 + a.a41*b.a44 + a.a51*b.a54 + a.a61*b.a64 + a.a71*b.a74 + a.a81*b.a84);
+        c.a15 += alpha*(a.a11*b.a15 + a.a21*b.a25 + a.a31*b.a35 + a.a41*b.a45 + a.a51*b.a55 + a.a61*b.a65 + a.a71*b.a75 + a.a81*b.a85);
+        c.a16 += alpha*(a.a11*b.a16 + a.a21*b.a26 + a.a31*b.a36 + a.a41*b.a46 + a.a51*b.a56 + a.a61*b.a66 + a.a71*b.a76 + a.a81*b.a86);
+        c.a17 += alpha*(a.a11*b.a17 + a.a21*b.a27 + a.a31*b.a37 + a.a41*b.a47 + a.a51*b.a57 + a.a61*b.a67 + a.a71*b.a77 + a.a81*b.a87);
+        c.a18 += alpha*(a.a11*b.a18 + a.a21*b.a28 + a.a31*b.a38 + a.a41*b.a48 + a.a51*b.a58 + a.a61*b.a68 + a.a71*b.a78 + a.a81*b.a88);
+        c.a21 += alpha*(a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61 + a.a72*b.a71 + a.a82*b.a81);
+        c.a22 += alpha*(a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62 + a.a72*b.a72 + a.a82*b.a82);
+        c.a23 += alpha*(a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63 + a.a72*b.a73 + a.a82*b.a83);
+        c.a24 += alpha*(a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34 + a.a42*b.a44 + a.a52*b.a54 + a.a62*b.a64 + a.a72*b.a74 + a.a82*b.a84);
+        c.a25 += alpha*(a.a12*b.a15 + a.a22*b.a25 + a.a32*b.a35 + a.a42*b.a45 + a.a52*b.a55 + a.a62*b.a65 + a.a72*b.a75 + a.a82*b.a85);
+        c.a26 += alpha*(a.a12*b.a16 + a.a22*b.a26 + a.a32*b.a36 + a.a42*b.a46 + a.a52*b.a56 + a.a62*b.a66 + a.a72*b.a76 + a.a82*b.a86);
+        c.a27 += alpha*(a.a12*b.a17 + a.a22*b.a27 + a.a32*b.a37 + a.a42*b.a47 + a.a52*b.a57 + a.a62*b.a67 + a.a72*b.a77 + a.a82*b.a87);
+        c.a28 += alpha*(a.a12*b.a18 + a.a22*b.a28 + a.a32*b.a38 + a.a42*b.a48 + a.a52*b.a58 + a.a62*b.a68 + a.a72*b.a78 + a.a82*b.a88);
+        c.a31 += alpha*(a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61 + a.a73*b.a71 + a.a83*b.a81);
+        c.a32 += alpha*(a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62 + a.a73*b.a72 + a.a83*b.a82);
+        c.a33 += alpha*(a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43 + a.a53*b.a53 + a.a63*b.a63 + a.a73*b.a73 + a.a83*b.a83);
+        c.a34 += alpha*(a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34 + a.a43*b.a44 + a.a53*b.a54 + a.a63*b.a64 + a.a73*b.a74 + a.a83*b.a84);
+        c.a35 += alpha*(a.a13*b.a15 + a.a23*b.a25 + a.a33*b.a35 + a.a43*b.a45 + a.a53*b.a55 + a.a63*b.a65 + a.a73*b.a75 + a.a83*b.a85);
+        c.a36 += alpha*(a.a13*b.a16 + a.a23*b.a26 + a.a33*b.a36 + a.a43*b.a46 + a.a53*b.a56 + a.a63*b.a66 + a.a73*b.a76 + a.a83*b.a86);
+        c.a37 += alpha*(a.a13*b.a17 + a.a23*b.a27 + a.a33*b.a37 + a.a43*b.a47 + a.a53*b.a57 + a.a63*b.a67 + a.a73*b.a77 + a.a83*b.a87);
+        c.a38 += alpha*(a.a13*b.a18 + a.a23*b.a28 + a.a33*b.a38 + a.a43*b.a48 + a.a53*b.a58 + a.a63*b.a68 + a.a73*b.a78 + a.a83*b.a88);
+        c.a41 += alpha*(a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31 + a.a44*b.a41 + a.a54*b.a51 + a.a64*b.a61 + a.a74*b.a71 + a.a84*b.a81);
+        c.a42 += alpha*(a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32 + a.a44*b.a42 + a.a54*b.a52 + a.a64*b.a62 + a.a74*b.a72 + a.a84*b.a82);
+        c.a43 += alpha*(a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33 + a.a44*b.a43 + a.a54*b.a53 + a.a64*b.a63 + a.a74*b.a73 + a.a84*b.a83);
+        c.a44 += alpha*(a.a14*b.a14 + a.a24*b.a24 + a.a34*b.a34 + a.a44*b.a44 + a.a54*b.a54 + a.a64*b.a64 + a.a74*b.a74 + a.a84*b.a84);
+        c.a45 += alpha*(a.a14*b.a15 + a.a24*b.a25 + a.a34*b.a35 + a.a44*b.a45 + a.a54*b.a55 + a.a64*b.a65 + a.a74*b.a75 + a.a84*b.a85);
+        c.a46 += alpha*(a.a14*b.a16 + a.a24*b.a26 + a.a34*b.a36 + a.a44*b.a46 + a.a54*b.a56 + a.a64*b.a66 + a.a74*b.a76 + a.a84*b.a86);
+        c.a47 += alpha*(a.a14*b.a17 + a.a24*b.a27 + a.a34*b.a37 + a.a44*b.a47 + a.a54*b.a57 + a.a64*b.a67 + a.a74*b.a77 + a.a84*b.a87);
+        c.a48 += alpha*(a.a14*b.a18 + a.a24*b.a28 + a.a34*b.a38 + a.a44*b.a48 + a.a54*b.a58 + a.a64*b.a68 + a.a74*b.a78 + a.a84*b.a88);
+        c.a51 += alpha*(a.a15*b.a11 + a.a25*b.a21 + a.a35*b.a31 + a.a45*b.a41 + a.a55*b.a51 + a.a65*b.a61 + a.a75*b.a71 + a.a85*b.a81);
+        c.a52 += alpha*(a.a15*b.a12 + a.a25*b.a22 + a.a35*b.a32 + a.a45*b.a42 + a.a55*b.a52 + a.a65*b.a62 + a.a75*b.a72 + a.a85*b.a82);
+        c.a53 += alpha*(a.a15*b.a13 + a.a25*b.a23 + a.a35*b.a33 + a.a45*b.a43 + a.a55*b.a53 + a.a65*b.a63 + a.a75*b.a73 + a.a85*b.a83);
+        c.a54 += alpha*(a.a15*b.a14 + a.a25*b.a24 + a.a35*b.a34 + a.a45*b.a44 + a.a55*b.a54 + a.a65*b.a64 + a.a75*b.a74 + a.a85*b.a84);
+        c.a55 += alpha*(a.a15*b.a15 + a.a25*b.a25 + a.a35*b.a35 + a.a45*b.a45 + a.a55*b.a55 + a.a65*b.a65 + a.a75*b.a75 + a.a85*b.a85);
+        c.a56 += alpha*(a.a15*b.a16 + a.a25*b.a26 + a.a35*b.a36 + a.a45*b.a46 + a.a55*b.a56 + a.a65*b.a66 + a.a75*b.a76 + a.a85*b.a86);
+        c.a57 += alpha*(a.a15*b.a17 + a.a25*b.a27 + a.a35*b.a37 + a.a45*b.a47 + a.a55*b.a57 + a.a65*b.a67 + a.a75*b.a77 + a.a85*b.a87);
+        c.a58 += alpha*(a.a15*b.a18 + a.a25*b.a28 + a.a35*b.a38 + a.a45*b.a48 + a.a55*b.a58 + a.a65*b.a68 + a.a75*b.a78 + a.a85*b.a88);
+        c.a61 += alpha*(a.a16*b.a11 + a.a26*b.a21 + a.a36*b.a31 + a.a46*b.a41 + a.a56*b.a51 + a.a66*b.a61 + a.a76*b.a71 + a.a86*b.a81);
+        c.a62 += alpha*(a.a16*b.a12 + a.a26*b.a22 + a.a36*b.a32 + a.a46*b.a42 + a.a56*b.a52 + a.a66*b.a62 + a.a76*b.a72 + a.a86*b.a82);
+        c.a63 += alpha*(a.a16*b.a13 + a.a26*b.a23 + a.a36*b.a33 + a.a46*b.a43 + a.a56*b.a53 + a.a66*b.a63 + a.a76*b.a73 + a.a86*b.a83);
+        c.a64 += alpha*(a.a16*b.a14 + a.a26*b.a24 + a.a36*b.a34 + a.a46*b.a44 + a.a56*b.a54 + a.a66*b.a64 + a.a76*b.a74 + a.a86*b.a84);
+        c.a65 += alpha*(a.a16*b.a15 + a.a26*b.a25 + a.a36*b.a35 + a.a46*b.a45 + a.a56*b.a55 + a.a66*b.a65 + a.a76*b.a75 + a.a86*b.a85);
+        c.a66 += alpha*(a.a16*b.a16 + a.a26*b.a26 + a.a36*b.a36 + a.a46*b.a46 + a.a56*b.a56 + a.a66*b.a66 + a.a76*b.a76 + a.a86*b.a86);
+        c.a67 += alpha*(a.a16*b.a17 + a.a26*b.a27 + a.a36*b.a37 + a.a46*b.a47 + a.a56*b.a57 + a.a66*b.a67 + a.a76*b.a77 + a.a86*b.a87);
+        c.a68 += alpha*(a.a16*b.a18 + a.a26*b.a28 + a.a36*b.a38 + a.a46*b.a48 + a.a56*b.a58 + a.a66*b.a68 + a.a76*b.a78 + a.a86*b.a88);
+        c.a71 += alpha*(a.a17*b.a11 + a.a27*b.a21 + a.a37*b.a31 + a.a47*b.a41 + a.a57*b.a51 + a.a67*b.a61 + a.a77*b.a71 + a.a87*b.a81);
+        c.a72 += alpha*(a.a17*b.a12 + a.a27*b.a22 + a.a37*b.a32 + a.a47*b.a42 + a.a57*b.a52 + a.a67*b.a62 + a.a77*b.a72 + a.a87*b.a82);
+        c.a73 += alpha*(a.a17*b.a13 + a.a27*b.a23 + a.a37*b.a33 + a.a47*b.a43 + a.a57*b.a53 + a.a67*b.a63 + a.a77*b.a73 + a.a87*b.a83);
+        c.a74 += alpha*(a.a17*b.a14 + a.a27*b.a24 + a.a37*b.a34 + a.a47*b.a44 + a.a57*b.a54 + a.a67*b.a64 + a.a77*b.a74 + a.a87*b.a84);
+        c.a75 += alpha*(a.a17*b.a15 + a.a27*b.a25 + a.a37*b.a35 + a.a47*b.a45 + a.a57*b.a55 + a.a67*b.a65 + a.a77*b.a75 + a.a87*b.a85);
+        c.a76 += alpha*(a.a17*b.a16 + a.a27*b.a26 + a.a37*b.a36 + a.a47*b.a46 + a.a57*b.a56 + a.a67*b.a66 + a.a77*b.a76 + a.a87*b.a86);
+        c.a77 += alpha*(a.a17*b.a17 + a.a27*b.a27 + a.a37*b.a37 + a.a47*b.a47 + a.a57*b.a57 + a.a67*b.a67 + a.a77*b.a77 + a.a87*b.a87);
+        c.a78 += alpha*(a.a17*b.a18 + a.a27*b.a28 + a.a37*b.a38 + a.a47*b.a48 + a.a57*b.a58 + a.a67*b.a68 + a.a77*b.a78 + a.a87*b.a88);
+        c.a81 += alpha*(a.a18*b.a11 + a.a28*b.a21 + a.a38*b.a31 + a.a48*b.a41 + a.a58*b.a51 + a.a68*b.a61 + a.a78*b.a71 + a.a88*b.a81);
+        c.a82 += alpha*(a.a18*b.a12 + a.a28*b.a22 + a.a38*b.a32 + a.a48*b.a42 + a.a58*b.a52 + a.a68*b.a62 + a.a78*b.a72 + a.a88*b.a82);
+        c.a83 += alpha*(a.a18*b.a13 + a.a28*b.a23 + a.a38*b.a33 + a.a48*b.a43 + a.a58*b.a53 + a.a68*b.a63 + a.a78*b.a73 + a.a88*b.a83);
+        c.a84 += alpha*(a.a18*b.a14 + a.a28*b.a24 + a.a38*b.a34 + a.a48*b.a44 + a.a58*b.a54 + a.a68*b.a64 + a.a78*b.a74 + a.a88*b.a84);
+        c.a85 += alpha*(a.a18*b.a15 + a.a28*b.a25 + a.a38*b.a35 + a.a48*b.a45 + a.a58*b.a55 + a.a68*b.a65 + a.a78*b.a75 + a.a88*b.a85);
+        c.a86 += alpha*(a.a18*b.a16 + a.a28*b.a26 + a.a38*b.a36 + a.a48*b.a46 + a.a58*b.a56 + a.a68*b.a66 + a.a78*b.a76 + a.a88*b.a86);
+        c.a87 += alpha*(a.a18*b.a17 + a.a28*b.a27 + a.a38*b.a37 + a.a48*b.a47 + a.a58*b.a57 + a.a68*b.a67 + a.a78*b.a77 + a.a88*b.a87);
+        c.a88 += alpha*(a.a18*b.a18 + a.a28*b.a28 + a.a38*b.a38 + a.a48*b.a48 + a.a58*b.a58 + a.a68*b.a68 + a.a78*b.a78 + a.a88*b.a88);
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c += a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> += &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransAB( DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 += a.a11*b.a11 + a.a21*b.a12 + a.a31*b.a13 + a.a41*b.a14 + a.a51*b.a15 + a.a61*b.a16 + a.a71*b.a17 + a.a81*b.a18;
+        c.a12 += a.a11*b.a21 + a.a21*b.a22 + a.a31*b.a23 + a.a41*b.a24 + a.a51*b.a25 + a.a61*b.a26 + a.a71*b.a27 + a.a81*b.a28;
+        c.a13 += a.a11*b.a31 + a.a21*b.a32 + a.a31*b.a33 + a.a41*b.a34 + a.a51*b.a35 + a.a61*b.a36 + a.a71*b.a37 + a.a81*b.a38;
+        c.a14 += a.a11*b.a41 + a.a21*b.a42 + a.a31*b.a43 + a.a41*b.a44 + a.a51*b.a45 + a.a61*b.a46 + a.a71*b.a47 + a.a81*b.a48;
+        c.a15 += a.a11*b.a51 + a.a21*b.a52 + a.a31*b.a53 + a.a41*b.a54 + a.a51*b.a55 + a.a61*b.a56 + a.a71*b.a57 + a.a81*b.a58;
+        c.a16 += a.a11*b.a61 + a.a21*b.a62 + a.a31*b.a63 + a.a41*b.a64 + a.a51*b.a65 + a.a61*b.a66 + a.a71*b.a67 + a.a81*b.a68;
+        c.a17 += a.a11*b.a71 + a.a21*b.a72 + a.a31*b.a73 + a.a41*b.a74 + a.a51*b.a75 + a.a61*b.a76 + a.a71*b.a77 + a.a81*b.a78;
+        c.a18 += a.a11*b.a81 + a.a21*b.a82 + a.a31*b.a83 + a.a41*b.a84 + a.a51*b.a85 + a.a61*b.a86 + a.a71*b.a87 + a.a81*b.a88;
+        c.a21 += a.a12*b.a11 + a.a22*b.a12 + a.a32*b.a13 + a.a42*b.a14 + a.a52*b.a15 + a.a62*b.a16 + a.a72*b.a17 + a.a82*b.a18;
+        c.a22 += a.a12*b.a21 + a.a22*b.a22 + a.a32*b.a23 + a.a42*b.a24 + a.a52*b.a25 + a.a62*b.a26 + a.a72*b.a27 + a.a82*b.a28;
+        c.a23 += a.a12*b.a31 + a.a22*b.a32 + a.a32*b.a33 + a.a42*b.a34 + a.a52*b.a35 + a.a62*b.a36 + a.a72*b.a37 + a.a82*b.a38;
+        c.a24 += a.a12*b.a41 + a.a22*b.a42 + a.a32*b.a43 + a.a42*b.a44 + a.a52*b.a45 + a.a62*b.a46 + a.a72*b.a47 + a.a82*b.a48;
+        c.a25 += a.a12*b.a51 + a.a22*b.a52 + a.a32*b.a53 + a.a42*b.a54 + a.a52*b.a55 + a.a62*b.a56 + a.a72*b.a57 + a.a82*b.a58;
+        c.a26 += a.a12*b.a61 + a.a22*b.a62 + a.a32*b.a63 + a.a42*b.a64 + a.a52*b.a65 + a.a62*b.a66 + a.a72*b.a67 + a.a82*b.a68;
+        c.a27 += a.a12*b.a71 + a.a22*b.a72 + a.a32*b.a73 + a.a42*b.a74 + a.a52*b.a75 + a.a62*b.a76 + a.a72*b.a77 + a.a82*b.a78;
+        c.a28 += a.a12*b.a81 + a.a22*b.a82 + a.a32*b.a83 + a.a42*b.a84 + a.a52*b.a85 + a.a62*b.a86 + a.a72*b.a87 + a.a82*b.a88;
+        c.a31 += a.a13*b.a11 + a.a23*b.a12 + a.a33*b.a13 + a.a43*b.a14 + a.a53*b.a15 + a.a63*b.a16 + a.a73*b.a17 + a.a83*b.a18;
+        c.a32 += a.a13*b.a21 + a.a23*b.a22 + a.a33*b.a23 + a.a43*b.a24 + a.a53*b.a25 + a.a63*b.a26 + a.a73*b.a27 + a.a83*b.a28;
+        c.a33 += a.a13*b.a31 + a.a23*b.a32 + a.a33*b.a33 + a.a43*b.a34 + a.a53*b.a35 + a.a63*b.a36 + a.a73*b.a37 + a.a83*b.a38;
+        c.a34 += a.a13*b.a41 + a.a23*b.a42 + a.a33*b.a43 + a.a43*b.a44 + a.a53*b.a45 + a.a63*b.a46 + a.a73*b.a47 + a.a83*b.a48;
+        c.a35 += a.a13*b.a51 + a.a23*b.a52 + a.a33*b.a53 + a.a43*b.a54 + a.a53*b.a55 + a.a63*b.a56 + a.a73*b.a57 + a.a83*b.a58;
+        c.a36 += a.a13*b.a61 + a.a23*b.a62 + a.a33*b.a63 + a.a43*b.a64 + a.a53*b.a65 + a.a63*b.a66 + a.a73*b.a67 + a.a83*b.a68;
+        c.a37 += a.a13*b.a71 + a.a23*b.a72 + a.a33*b.a73 + a.a43*b.a74 + a.a53*b.a75 + a.a63*b.a76 + a.a73*b.a77 + a.a83*b.a78;
+        c.a38 += a.a13*b.a81 + a.a23*b.a82 + a.a33*b.a83 + a.a43*b.a84 + a.a53*b.a85 + a.a63*b.a86 + a.a73*b.a87 + a.a83*b.a88;
+        c.a41 += a.a14*b.a11 + a.a24*b.a12 + a.a34*b.a13 + a.a44*b.a14 + a.a54*b.a15 + a.a64*b.a16 + a.a74*b.a17 + a.a84*b.a18;
+        c.a42 += a.a14*b.a21 + a.a24*b.a22 + a.a34*b.a23 + a.a44*b.a24 + a.a54*b.a25 + a.a64*b.a26 + a.a74*b.a27 + a.a84*b.a28;
+        c.a43 += a.a14*b.a31 + a.a24*b.a32 + a.a34*b.a33 + a.a44*b.a34 + a.a54*b.a35 + a.a64*b.a36 + a.a74*b.a37 + a.a84*b.a38;
+        c.a44 += a.a14*b.a41 + a.a24*b.a42 + a.a34*b.a43 + a.a44*b.a44 + a.a54*b.a45 + a.a64*b.a46 + a.a74*b.a47 + a.a84*b.a48;
+        c.a45 += a.a14*b.a51 + a.a24*b.a52 + a.a34*b.a53 + a.a44*b.a54 + a.a54*b.a55 + a.a64*b.a56 + a.a74*b.a57 + a.a84*b.a58;
+        c.a46 += a.a14*b.a61 + a.a24*b.a62 + a.a34*b.a63 + a.a44*b.a64 + a.a54*b.a65 + a.a64*b.a66 + a.a74*b.a67 + a.a84*b.a68;
+        c.a47 += a.a14*b.a71 + a.a24*b.a72 + a.a34*b.a73 + a.a44*b.a74 + a.a54*b.a75 + a.a64*b.a76 + a.a74*b.a77 + a.a84*b.a78;
+        c.a48 += a.a14*b.a81 + a.a24*b.a82 + a.a34*b.a83 + a.a44*b.a84 + a.a54*b.a85 + a.a64*b.a86 + a.a74*b.a87 + a.a84*b.a88;
+        c.a51 += a.a15*b.a11 + a.a25*b.a12 + a.a35*b.a13 + a.a45*b.a14 + a.a55*b.a15 + a.a65*b.a16 + a.a75*b.a17 + a.a85*b.a18;
+        c.a52 += a.a15*b.a21 + a.a25*b.a22 + a.a35*b.a23 + a.a45*b.a24 + a.a55*b.a25 + a.a65*b.a26 + a.a75*b.a27 + a.a85*b.a28;
+        c.a53 += a.a15*b.a31 + a.a25*b.a32 + a.a35*b.a33 + a.a45*b.a34 + a.a55*b.a35 + a.a65*b.a36 + a.a75*b.a37 + a.a85*b.a38;
+        c.a54 += a.a15*b.a41 + a.a25*b.a42 + a.a35*b.a43 + a.a45*b.a44 + a.a55*b.a45 + a.a65*b.a46 + a.a75*b.a47 + a.a85*b.a48;
+        c.a55 += a.a15*b.a51 + a.a25*b.a52 + a.a35*b.a53 + a.a45*b.a54 + a.a55*b.a55 + a.a65*b.a56 + a.a75*b.a57 + a.a85*b.a58;
+        c.a56 += a.a15*b.a61 + a.a25*b.a62 + a.a35*b.a63 + a.a45*b.a64 + a.a55*b.a65 + a.a65*b.a66 + a.a75*b.a67 + a.a85*b.a68;
+        c.a57 += a.a15*b.a71 + a.a25*b.a72 + a.a35*b.a73 + a.a45*b.a74 + a.a55*b.a75 + a.a65*b.a76 + a.a75*b.a77 + a.a85*b.a78;
+        c.a58 += a.a15*b.a81 + a.a25*b.a82 + a.a35*b.a83 + a.a45*b.a84 + a.a55*b.a85 + a.a65*b.a86 + a.a75*b.a87 + a.a85*b.a88;
+        c.a61 += a.a16*b.a11 + a.a26*b.a12 + a.a36*b.a13 + a.a46*b.a14 + a.a56*b.a15 + a.a66*b.a16 + a.a76*b.a17 + a.a86*b.a18;
+        c.a62 += a.a16*b.a21 + a.a26*b.a22 + a.a36*b.a23 + a.a46*b.a24 + a.a56*b.a25 + a.a66*b.a26 + a.a76*b.a27 + a.a86*b.a28;
+        c.a63 += a.a16*b.a31 + a.a26*b.a32 + a.a36*b.a33 + a.a46*b.a34 + a.a56*b.a35 + a.a66*b.a36 + a.a76*b.a37 + a.a86*b.a38;
+        c.a64 += a.a16*b.a41 + a.a26*b.a42 + a.a36*b.a43 + a.a46*b.a44 + a.a56*b.a45 + a.a66*b.a46 + a.a76*b.a47 + a.a86*b.a48;
+        c.a65 += a.a16*b.a51 + a.a26*b.a52 + a.a36*b.a53 + a.a46*b.a54 + a.a56*b.a55 + a.a66*b.a56 + a.a76*b.a57 + a.a86*b.a58;
+        c.a66 += a.a16*b.a61 + a.a26*b.a62 + a.a36*b.a63 + a.a46*b.a64 + a.a56*b.a65 + a.a66*b.a66 + a.a76*b.a67 + a.a86*b.a68;
+        c.a67 += a.a16*b.a71 + a.a26*b.a72 + a.a36*b.a73 + a.a46*b.a74 + a.a56*b.a75 + a.a66*b.a76 + a.a76*b.a77 + a.a86*b.a78;
+        c.a68 += a.a16*b.a81 + a.a26*b.a82 + a.a36*b.a83 + a.a46*b.a84 + a.a56*b.a85 + a.a66*b.a86 + a.a76*b.a87 + a.a86*b.a88;
+        c.a71 += a.a17*b.a11 + a.a27*b.a12 + a.a37*b.a13 + a.a47*b.a14 + a.a57*b.a15 + a.a67*b.a16 + a.a77*b.a17 + a.a87*b.a18;
+        c.a72 += a.a17*b.a21 + a.a27*b.a22 + a.a37*b.a23 + a.a47*b.a24 + a.a57*b.a25 + a.a67*b.a26 + a.a77*b.a27 + a.a87*b.a28;
+        c.a73 += a.a17*b.a31 + a.a27*b.a32 + a.a37*b.a33 + a.a47*b.a34 + a.a57*b.a35 + a.a67*b.a36 + a.a77*b.a37 + a.a87*b.a38;
+        c.a74 += a.a17*b.a41 + a.a27*b.a42 + a.a37*b.a43 + a.a47*b.a44 + a.a57*b.a45 + a.a67*b.a46 + a.a77*b.a47 + a.a87*b.a48;
+        c.a75 += a.a17*b.a51 + a.a27*b.a52 + a.a37*b.a53 + a.a47*b.a54 + a.a57*b.a55 + a.a67*b.a56 + a.a77*b.a57 + a.a87*b.a58;
+        c.a76 += a.a17*b.a61 + a.a27*b.a62 + a.a37*b.a63 + a.a47*b.a64 + a.a57*b.a65 + a.a67*b.a66 + a.a77*b.a67 + a.a87*b.a68;
+        c.a77 += a.a17*b.a71 + a.a27*b.a72 + a.a37*b.a73 + a.a47*b.a74 + a.a57*b.a75 + a.a67*b.a76 + a.a77*b.a77 + a.a87*b.a78;
+        c.a78 += a.a17*b.a81 + a.a27*b.a82 + a.a37*b.a83 + a.a47*b.a84 + a.a57*b.a85 + a.a67*b.a86 + a.a77*b.a87 + a.a87*b.a88;
+        c.a81 += a.a18*b.a11 + a.a28*b.a12 + a.a38*b.a13 + a.a48*b.a14 + a.a58*b.a15 + a.a68*b.a16 + a.a78*b.a17 + a.a88*b.a18;
+        c.a82 += a.a18*b.a21 + a.a28*b.a22 + a.a38*b.a23 + a.a48*b.a24 + a.a58*b.a25 + a.a68*b.a26 + a.a78*b.a27 + a.a88*b.a28;
+        c.a83 += a.a18*b.a31 + a.a28*b.a32 + a.a38*b.a33 + a.a48*b.a34 + a.a58*b.a35 + a.a68*b.a36 + a.a78*b.a37 + a.a88*b.a38;
+        c.a84 += a.a18*b.a41 + a.a28*b.a42 + a.a38*b.a43 + a.a48*b.a44 + a.a58*b.a45 + a.a68*b.a46 + a.a78*b.a47 + a.a88*b.a48;
+        c.a85 += a.a18*b.a51 + a.a28*b.a52 + a.a38*b.a53 + a.a48*b.a54 + a.a58*b.a55 + a.a68*b.a56 + a.a78*b.a57 + a.a88*b.a58;
+        c.a86 += a.a18*b.a61 + a.a28*b.a62 + a.a38*b.a63 + a.a48*b.a64 + a.a58*b.a65 + a.a68*b.a66 + a.a78*b.a67 + a.a88*b.a68;
+        c.a87 += a.a18*b.a71 + a.a28*b.a72 + a.a38*b.a73 + a.a48*b.a74 + a.a58*b.a75 + a.a68*b.a76 + a.a78*b.a77 + a.a88*b.a78;
+        c.a88 += a.a18*b.a81 + a.a28*b.a82 + a.a38*b.a83 + a.a48*b.a84 + a.a58*b.a85 + a.a68*b.a86 + a.a78*b.a87 + a.a88*b.a88;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c += &alpha;*a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> += &alpha;*&sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransAB( double alpha , DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 += alpha*(a.a11*b.a11 + a.a21*b.a12 + a.a31*b.a13 + a.a41*b.a14 + a.a51*b.a15 + a.a61*b.a16 + a.a71*b.a17 + a.a81*b.a18);
+        c.a12 += alpha*(a.a11*b.a21 + a.a21*b.a22 + a.a31*b.a23 + a.a41*b.a24 + a.a51*b.a25 + a.a61*b.a26 + a.a71*b.a27 + a.a81*b.a28);
+        c.a13 += alpha*(a.a11*b.a31 + a.a21*b.a32 + a.a31*b.a33 + a.a41*b.a34 + a.a51*b.a35 + a.a61*b.a36 + a.a71*b.a37 + a.a81*b.a38);
+        c.a14 += alpha*(a.a11*b.a41 + a.a21*b.a42 + a.a31*b.a43 + a.a41*b.a44 + a.a51*b.a45 + a.a61*b.a46 + a.a71*b.a47 + a.a81*b.a48);
+        c.a15 += alpha*(a.a11*b.a51 + a.a21*b.a52 + a.a31*b.a53 + a.a41*b.a54 + a.a51*b.a55 + a.a61*b.a56 + a.a71*b.a57 + a.a81*b.a58);
+        c.a16 += alpha*(a.a11*b.a61 + a.a21*b.a62 + a.a31*b.a63 + a.a41*b.a64 + a.a51*b.a65 + a.a61*b.a66 + a.a71*b.a67 + a.a81*b.a68);
+        c.a17 += alpha*(a.a11*b.a71 + a.a21*b.a72 + a.a31*b.a73 + a.a41*b.a74 + a.a51*b.a75 + a.a61*b.a76 + a.a71*b.a77 + a.a81*b.a78);
+        c.a18 += alpha*(a.a11*b.a81 + a.a21*b.a82 + a.a31*b.a83 + a.a41*b.a84 + a.a51*b.a85 + a.a61*b.a86 + a.a71*b.a87 + a.a81*b.a88);
+        c.a21 += alpha*(a.a12*b.a11 + a.a22*b.a12 + a.a32*b.a13 + a.a42*b.a14 + a.a52*b.a15 + a.a62*b.a16 + a.a72*b.a17 + a.a82*b.a18);
+        c.a22 += alpha*(a.a12*b.a21 + a.a22*b.a22 + a.a32*b.a23 + a.a42*b.a24 + a.a52*b.a25 + a.a62*b.a26 + a.a72*b.a27 + a.a82*b.a28);
+        c.a23 += alpha*(a.a12*b.a31 + a.a22*b.a32 + a.a32*b.a33 + a.a42*b.a34 + a.a52*b.a35 + a.a62*b.a36 + a.a72*b.a37 + a.a82*b.a38);
+        c.a24 += alpha*(a.a12*b.a41 + a.a22*b.a42 + a.a32*b.a43 + a.a42*b.a44 + a.a52*b.a45 + a.a62*b.a46 + a.a72*b.a47 + a.a82*b.a48);
+        c.a25 += alpha*(a.a12*b.a51 + a.a22*b.a52 + a.a32*b.a53 + a.a42*b.a54 + a.a52*b.a55 + a.a62*b.a56 + a.a72*b.a57 + a.a82*b.a58);
+        c.a26 += alpha*(a.a12*b.a61 + a.a22*b.a62 + a.a32*b.a63 + a.a42*b.a64 + a.a52*b.a65 + a.a62*b.a66 + a.a72*b.a67 + a.a82*b.a68);
+        c.a27 += alpha*(a.a12*b.a71 + a.a22*b.a72 + a.a32*b.a73 + a.a42*b.a74 + a.a52*b.a75 + a.a62*b.a76 + a.a72*b.a77 + a.a82*b.a78);
+        c.a28 += alpha*(a.a12*b.a81 + a.a22*b.a82 + a.a32*b.a83 + a.a42*b.a84 + a.a52*b.a85 + a.a62*b.a86 + a.a72*b.a87 + a.a82*b.a88);
+        c.a31 += alpha*(a.a13*b.a11 + a.a23*b.a12 + a.a33*b.a13 + a.a43*b.a14 + a.a53*b.a15 + a.a63*b.a16 + a.a73*b.a17 + a.a83*b.a18);
+        c.a32 += alpha*(a.a13*b.a21 + a.a23*b.a22 + a.a33*b.a23 + a.a43*b.a24 + a.a53*b.a25 + a.a63*b.a26 + a.a73*b.a27 + a.a83*b.a28);
+        c.a33 += alpha*(a.a13*b.a31 + a.a23*b.a32 + a.a33*b.a33 + a.a43*b.a34 + a.a53*b.a35 + a.a63*b.a36 + a.a73*b.a37 + a.a83*b.a38);
+        c.a34 += alpha*(a.a13*b.a41 + a.a23*b.a42 + a.a33*b.a43 + a.a43*b.a44 + a.a53*b.a45 + a.a63*b.a46 + a.a73*b.a47 + a.a83*b.a48);
+        c.a35 += alpha*(a.a13*b.a51 + a.a23*b.a52 + a.a33*b.a53 + a.a43*b.a54 + a.a53*b.a55 + a.a63*b.a56 + a.a73*b.a57 + a.a83*b.a58);
+        c.a36 += alpha*(a.a13*b.a61 + a.a23*b.a62 + a.a33*b.a63 + a.a43*b.a64 + a.a53*b.a65 + a.a63*b.a66 + a.a73*b.a67 + a.a83*b.a68);
+        c.a37 += alpha*(a.a13*b.a71 + a.a23*b.a72 + a.a33*b.a73 + a.a43*b.a74 + a.a53*b.a75 + a.a63*b.a76 + a.a73*b.a77 + a.a83*b.a78);
+        c.a38 += alpha*(a.a13*b.a81 + a.a23*b.a82 + a.a33*b.a83 + a.a43*b.a84 + a.a53*b.a85 + a.a63*b.a86 + a.a73*b.a87 + a.a83*b.a88);
+        c.a41 += alpha*(a.a14*b.a11 + a.a24*b.a12 + a.a34*b.a13 + a.a44*b.a14 + a.a54*b.a15 + a.a64*b.a16 + a.a74*b.a17 + a.a84*b.a18);
+        c.a42 += alpha*(a.a14*b.a21 + a.a24*b.a22 + a.a34*b.a23 + a.a44*b.a24 + a.a54*b.a25 + a.a64*b.a26 + a.a74*b.a27 + a.a84*b.a28);
+        c.a43 += alpha*(a.a14*b.a31 + a.a24*b.a32 + a.a34*b.a33 + a.a44*b.a34 + a.a54*b.a35 + a.a64*b.a36 + a.a74*b.a37 + a.a84*b.a38);
+        c.a44 += alpha*(a.a14*b.a41 + a.a24*b.a42 + a.a34*b.a43 + a.a44*b.a44 + a.a54*b.a45 + a.a64*b.a46 + a.a74*b.a47 + a.a84*b.a48);
+        c.a45 += alpha*(a.a14*b.a51 + a.a24*b.a52 + a.a34*b.a53 + a.a44*b.a54 + a.a54*b.a55 + a.a64*b.a56 + a.a74*b.a57 + a.a84*b.a58);
+        c.a46 += alpha*(a.a14*b.a61 + a.a24*b.a62 + a.a34*b.a63 + a.a44*b.a64 + a.a54*b.a65 + a.a64*b.a66 + a.a74*b.a67 + a.a84*b.a68);
+        c.a47 += alpha*(a.a14*b.a71 + a.a24*b.a72 + a.a34*b.a73 + a.a44*b.a74 + a.a54*b.a75 + a.a64*b.a76 + a.a74*b.a77 + a.a84*b.a78);
+        c.a48 += alpha*(a.a14*b.a81 + a.a24*b.a82 + a.a34*b.a83 + a.a44*b.a84 + a.a54*b.a85 + a.a64*b.a86 + a.a74*b.a87 + a.a84*b.a88);
+        c.a51 += alpha*(a.a15*b.a11 + a.a25*b.a12 + a.a35*b.a13 + a.a45*b.a14 + a.a55*b.a15 + a.a65*b.a16 + a.a75*b.a17 + a.a85*b.a18);
+        c.a52 += alpha*(a.a15*b.a21 + a.a25*b.a22 + a.a35*b.a23 + a.a45*b.a24 + a.a55*b.a25 + a.a65*b.a26 + a.a75*b.a27 + a.a85*b.a28);
+        c.a53 += alpha*(a.a15*b.a31 + a.a25*b.a32 + a.a35*b.a33 + a.a45*b.a34 + a.a55*b.a35 + a.a65*b.a36 + a.a75*b.a37 + a.a85*b.a38);
+        c.a54 += alpha*(a.a15*b.a41 + a.a25*b.a42 + a.a35*b.a43 + a.a45*b.a44 + a.a55*b.a45 + a.a65*b.a46 + a.a75*b.a47 + a.a85*b.a48);
+        c.a55 += alpha*(a.a15*b.a51 + a.a25*b.a52 + a.a35*b.a53 + a.a45*b.a54 + a.a55*b.a55 + a.a65*b.a56 + a.a75*b.a57 + a.a85*b.a58);
+        c.a56 += alpha*(a.a15*b.a61 + a.a25*b.a62 + a.a35*b.a63 + a.a45*b.a64 + a.a55*b.a65 + a.a65*b.a66 + a.a75*b.a67 + a.a85*b.a68);
+        c.a57 += alpha*(a.a15*b.a71 + a.a25*b.a72 + a.a35*b.a73 + a.a45*b.a74 + a.a55*b.a75 + a.a65*b.a76 + a.a75*b.a77 + a.a85*b.a78);
+        c.a58 += alpha*(a.a15*b.a81 + a.a25*b.a82 + a.a35*b.a83 + a.a45*b.a84 + a.a55*b.a85 + a.a65*b.a86 + a.a75*b.a87 + a.a85*b.a88);
+        c.a61 += alpha*(a.a16*b.a11 + a.a26*b.a12 + a.a36*b.a13 + a.a46*b.a14 + a.a56*b.a15 + a.a66*b.a16 + a.a76*b.a17 + a.a86*b.a18);
+        c.a62 += alpha*(a.a16*b.a21 + a.a26*b.a22 + a.a36*b.a23 + a.a46*b.a24 + a.a56*b.a25 + a.a66*b.a26 + a.a76*b.a27 + a.a86*b.a28);
+        c.a63 += alpha*(a.a16*b.a31 + a.a26*b.a32 + a.a36*b.a33 + a.a46*b.a34 + a.a56*b.a35 + a.a66*b.a36 + a.a76*b.a37 + a.a86*b.a38);
+        c.a64 += alpha*(a.a16*b.a41 + a.a26*b.a42 + a.a36*b.a43 + a.a46*b.a44 + a.a56*b.a45 + a.a66*b.a46 + a.a76*b.a47 + a.a86*b.a48);
+        c.a65 += alpha*(a.a16*b.a51 + a.a26*b.a52 + a.a36*b.a53 + a.a46*b.a54 + a.a56*b.a55 + a.a66*b.a56 + a.a76*b.a57 + a.a86*b.a58);
+        c.a66 += alpha*(a.a16*b.a61 + a.a26*b.a62 + a.a36*b.a63 + a.a46*b.a64 + a.a56*b.a65 + a.a66*b.a66 + a.a76*b.a67 + a.a86*b.a68);
+        c.a67 += alpha*(a.a16*b.a71 + a.a26*b.a72 + a.a36*b.a73 + a.a46*b.a74 + a.a56*b.a75 + a.a66*b.a76 + a.a76*b.a77 + a.a86*b.a78);
+        c.a68 += alpha*(a.a16*b.a81 + a.a26*b.a82 + a.a36*b.a83 + a.a46*b.a84 + a.a56*b.a85 + a.a66*b.a86 + a.a76*b.a87 + a.a86*b.a88);
+        c.a71 += alpha*(a.a17*b.a11 + a.a27*b.a12 + a.a37*b.a13 + a.a47*b.a14 + a.a57*b.a15 + a.a67*b.a16 + a.a77*b.a17 + a.a87*b.a18);
+        c.a72 += alpha*(a.a17*b.a21 + a.a27*b.a22 + a.a37*b.a23 + a.a47*b.a24 + a.a57*b.a25 + a.a67*b.a26 + a.a77*b.a27 + a.a87*b.a28);
+        c.a73 += alpha*(a.a17*b.a31 + a.a27*b.a32 + a.a37*b.a33 + a.a47*b.a34 + a.a57*b.a35 + a.a67*b.a36 + a.a77*b.a37 + a.a87*b.a38);
+        c.a74 += alpha*(a.a17*b.a41 + a.a27*b.a42 + a.a37*b.a43 + a.a47*b.a44 + a.a57*b.a45 + a.a67*b.a46 + a.a77*b.a47 + a.a87*b.a48);
+        c.a75 += alpha*(a.a17*b.a51 + a.a27*b.a52 + a.a37*b.a53 + a.a47*b.a54 + a.a57*b.a55 + a.a67*b.a56 + a.a77*b.a57 + a.a87*b.a58);
+        c.a76 += alpha*(a.a17*b.a61 + a.a27*b.a62 + a.a37*b.a63 + a.a47*b.a64 + a.a57*b.a65 + a.a67*b.a66 + a.a77*b.a67 + a.a87*b.a68);
+        c.a77 += alpha*(a.a17*b.a71 + a.a27*b.a72 + a.a37*b.a73 + a.a47*b.a74 + a.a57*b.a75 + a.a67*b.a76 + a.a77*b.a77 + a.a87*b.a78);
+        c.a78 += alpha*(a.a17*b.a81 + a.a27*b.a82 + a.a37*b.a83 + a.a47*b.a84 + a.a57*b.a85 + a.a67*b.a86 + a.a77*b.a87 + a.a87*b.a88);
+        c.a81 += alpha*(a.a18*b.a11 + a.a28*b.a12 + a.a38*b.a13 + a.a48*b.a14 + a.a58*b.a15 + a.a68*b.a16 + a.a78*b.a17 + a.a88*b.a18);
+        c.a82 += alpha*(a.a18*b.a21 + a.a28*b.a22 + a.a38*b.a23 + a.a48*b.a24 + a.a58*b.a25 + a.a68*b.a26 + a.a78*b.a27 + a.a88*b.a28);
+        c.a83 += alpha*(a.a18*b.a31 + a.a28*b.a32 + a.a38*b.a33 + a.a48*b.a34 + a.a58*b.a35 + a.a68*b.a36 + a.a78*b.a37 + a.a88*b.a38);
+        c.a84 += alpha*(a.a18*b.a41 + a.a28*b.a42 + a.a38*b.a43 + a.a48*b.a44 + a.a58*b.a45 + a.a68*b.a46 + a.a78*b.a47 + a.a88*b.a48);
+        c.a85 += alpha*(a.a18*b.a51 + a.a28*b.a52 + a.a38*b.a53 + a.a48*b.a54 + a.a58*b.a55 + a.a68*b.a56 + a.a78*b.a57 + a.a88*b.a58);
+        c.a86 += alpha*(a.a18*b.a61 + a.a28*b.a62 + a.a38*b.a63 + a.a48*b.a64 + a.a58*b.a65 + a.a68*b.a66 + a.a78*b.a67 + a.a88*b.a68);
+        c.a87 += alpha*(a.a18*b.a71 + a.a28*b.a72 + a.a38*b.a73 + a.a48*b.a74 + a.a58*b.a75 + a.a68*b.a76 + a.a78*b.a77 + a.a88*b.a78);
+        c.a88 += alpha*(a.a18*b.a81 + a.a28*b.a82 + a.a38*b.a83 + a.a48*b.a84 + a.a58*b.a85 + a.a68*b.a86 + a.a78*b.a87 + a.a88*b.a88);
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c += a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> += &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransB( DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 += a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16 + a.a17*b.a17 + a.a18*b.a18;
+        c.a12 += a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26 + a.a17*b.a27 + a.a18*b.a28;
+        c.a13 += a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34 + a.a15*b.a35 + a.a16*b.a36 + a.a17*b.a37 + a.a18*b.a38;
+        c.a14 += a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43 + a.a14*b.a44 + a.a15*b.a45 + a.a16*b.a46 + a.a17*b.a47 + a.a18*b.a48;
+        c.a15 += a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53 + a.a14*b.a54 + a.a15*b.a55 + a.a16*b.a56 + a.a17*b.a57 + a.a18*b.a58;
+        c.a16 += a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63 + a.a14*b.a64 + a.a15*b.a65 + a.a16*b.a66 + a.a17*b.a67 + a.a18*b.a68;
+        c.a17 += a.a11*b.a71 + a.a12*b.a72 + a.a13*b.a73 + a.a14*b.a74 + a.a15*b.a75 + a.a16*b.a76 + a.a17*b.a77 + a.a18*b.a78;
+        c.a18 += a.a11*b.a81 + a.a12*b.a82 + a.a13*b.a83 + a.a14*b.a84 + a.a15*b.a85 + a.a16*b.a86 + a.a17*b.a87 + a.a18*b.a88;
+        c.a21 += a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16 + a.a27*b.a17 + a.a28*b.a18;
+        c.a22 += a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26 + a.a27*b.a27 + a.a28*b.a28;
+        c.a23 += a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34 + a.a25*b.a35 + a.a26*b.a36 + a.a27*b.a37 + a.a28*b.a38;
+        c.a24 += a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43 + a.a24*b.a44 + a.a25*b.a45 + a.a26*b.a46 + a.a27*b.a47 + a.a28*b.a48;
+        c.a25 += a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53 + a.a24*b.a54 + a.a25*b.a55 + a.a26*b.a56 + a.a27*b.a57 + a.a28*b.a58;
+        c.a26 += a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63 + a.a24*b.a64 + a.a25*b.a65 + a.a26*b.a66 + a.a27*b.a67 + a.a28*b.a68;
+        c.a27 += a.a21*b.a71 + a.a22*b.a72 + a.a23*b.a73 + a.a24*b.a74 + a.a25*b.a75 + a.a26*b.a76 + a.a27*b.a77 + a.a28*b.a78;
+        c.a28 += a.a21*b.a81 + a.a22*b.a82 + a.a23*b.a83 + a.a24*b.a84 + a.a25*b.a85 + a.a26*b.a86 + a.a27*b.a87 + a.a28*b.a88;
+        c.a31 += a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14 + a.a35*b.a15 + a.a36*b.a16 + a.a37*b.a17 + a.a38*b.a18;
+        c.a32 += a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24 + a.a35*b.a25 + a.a36*b.a26 + a.a37*b.a27 + a.a38*b.a28;
+        c.a33 += a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33 + a.a34*b.a34 + a.a35*b.a35 + a.a36*b.a36 + a.a37*b.a37 + a.a38*b.a38;
+        c.a34 += a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43 + a.a34*b.a44 + a.a35*b.a45 + a.a36*b.a46 + a.a37*b.a47 + a.a38*b.a48;
+        c.a35 += a.a31*b.a51 + a.a32*b.a52 + a.a33*b.a53 + a.a34*b.a54 + a.a35*b.a55 + a.a36*b.a56 + a.a37*b.a57 + a.a38*b.a58;
+        c.a36 += a.a31*b.a61 + a.a32*b.a62 + a.a33*b.a63 + a.a34*b.a64 + a.a35*b.a65 + a.a36*b.a66 + a.a37*b.a67 + a.a38*b.a68;
+        c.a37 += a.a31*b.a71 + a.a32*b.a72 + a.a33*b.a73 + a.a34*b.a74 + a.a35*b.a75 + a.a36*b.a76 + a.a37*b.a77 + a.a38*b.a78;
+        c.a38 += a.a31*b.a81 + a.a32*b.a82 + a.a33*b.a83 + a.a34*b.a84 + a.a35*b.a85 + a.a36*b.a86 + a.a37*b.a87 + a.a38*b.a88;
+        c.a41 += a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13 + a.a44*b.a14 + a.a45*b.a15 + a.a46*b.a16 + a.a47*b.a17 + a.a48*b.a18;
+        c.a42 += a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23 + a.a44*b.a24 + a.a45*b.a25 + a.a46*b.a26 + a.a47*b.a27 + a.a48*b.a28;
+        c.a43 += a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33 + a.a44*b.a34 + a.a45*b.a35 + a.a46*b.a36 + a.a47*b.a37 + a.a48*b.a38;
+        c.a44 += a.a41*b.a41 + a.a42*b.a42 + a.a43*b.a43 + a.a44*b.a44 + a.a45*b.a45 + a.a46*b.a46 + a.a47*b.a47 + a.a48*b.a48;
+        c.a45 += a.a41*b.a51 + a.a42*b.a52 + a.a43*b.a53 + a.a44*b.a54 + a.a45*b.a55 + a.a46*b.a56 + a.a47*b.a57 + a.a48*b.a58;
+        c.a46 += a.a41*b.a61 + a.a42*b.a62 + a.a43*b.a63 + a.a44*b.a64 + a.a45*b.a65 + a.a46*b.a66 + a.a47*b.a67 + a.a48*b.a68;
+        c.a47 += a.a41*b.a71 + a.a42*b.a72 + a.a43*b.a73 + a.a44*b.a74 + a.a45*b.a75 + a.a46*b.a76 + a.a47*b.a77 + a.a48*b.a78;
+        c.a48 += a.a41*b.a81 + a.a42*b.a82 + a.a43*b.a83 + a.a44*b.a84 + a.a45*b.a85 + a.a46*b.a86 + a.a47*b.a87 + a.a48*b.a88;
+        c.a51 += a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13 + a.a54*b.a14 + a.a55*b.a15 + a.a56*b.a16 + a.a57*b.a17 + a.a58*b.a18;
+        c.a52 += a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23 + a.a54*b.a24 + a.a55*b.a25 + a.a56*b.a26 + a.a57*b.a27 + a.a58*b.a28;
+        c.a53 += a.a51*b.a31 + a.a52*b.a32 + a.a53*b.a33 + a.a54*b.a34 + a.a55*b.a35 + a.a56*b.a36 + a.a57*b.a37 + a.a58*b.a38;
+        c.a54 += a.a51*b.a41 + a.a52*b.a42 + a.a53*b.a43 + a.a54*b.a44 + a.a55*b.a45 + a.a56*b.a46 + a.a57*b.a47 + a.a58*b.a48;
+        c.a55 += a.a51*b.a51 + a.a52*b.a52 + a.a53*b.a53 + a.a54*b.a54 + a.a55*b.a55 + a.a56*b.a56 + a.a57*b.a57 + a.a58*b.a58;
+        c.a56 += a.a51*b.a61 + a.a52*b.a62 + a.a53*b.a63 + a.a54*b.a64 + a.a55*b.a65 + a.a56*b.a66 + a.a57*b.a67 + a.a58*b.a68;
+        c.a57 += a.a51*b.a71 + a.a52*b.a72 + a.a53*b.a73 + a.a54*b.a74 + a.a55*b.a75 + a.a56*b.a76 + a.a57*b.a77 + a.a58*b.a78;
+        c.a58 += a.a51*b.a81 + a.a52*b.a82 + a.a53*b.a83 + a.a54*b.a84 + a.a55*b.a85 + a.a56*b.a86 + a.a57*b.a87 + a.a58*b.a88;
+        c.a61 += a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13 + a.a64*b.a14 + a.a65*b.a15 + a.a66*b.a16 + a.a67*b.a17 + a.a68*b.a18;
+        c.a62 += a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23 + a.a64*b.a24 + a.a65*b.a25 + a.a66*b.a26 + a.a67*b.a27 + a.a68*b.a28;
+        c.a63 += a.a61*b.a31 + a.a62*b.a32 + a.a63*b.a33 + a.a64*b.a34 + a.a65*b.a35 + a.a66*b.a36 + a.a67*b.a37 + a.a68*b.a38;
+        c.a64 += a.a61*b.a41 + a.a62*b.a42 + a.a63*b.a43 + a.a64*b.a44 + a.a65*b.a45 + a.a66*b.a46 + a.a67*b.a47 + a.a68*b.a48;
+        c.a65 += a.a61*b.a51 + a.a62*b.a52 + a.a63*b.a53 + a.a64*b.a54 + a.a65*b.a55 + a.a66*b.a56 + a.a67*b.a57 + a.a68*b.a58;
+        c.a66 += a.a61*b.a61 + a.a62*b.a62 + a.a63*b.a63 + a.a64*b.a64 + a.a65*b.a65 + a.a66*b.a66 + a.a67*b.a67 + a.a68*b.a68;
+        c.a67 += a.a61*b.a71 + a.a62*b.a72 + a.a63*b.a73 + a.a64*b.a74 + a.a65*b.a75 + a.a66*b.a76 + a.a67*b.a77 + a.a68*b.a78;
+        c.a68 += a.a61*b.a81 + a.a62*b.a82 + a.a63*b.a83 + a.a64*b.a84 + a.a65*b.a85 + a.a66*b.a86 + a.a67*b.a87 + a.a68*b.a88;
+        c.a71 += a.a71*b.a11 + a.a72*b.a12 + a.a73*b.a13 + a.a74*b.a14 + a.a75*b.a15 + a.a76*b.a16 + a.a77*b.a17 + a.a78*b.a18;
+        c.a72 += a.a71*b.a21 + a.a72*b.a22 + a.a73*b.a23 + a.a74*b.a24 + a.a75*b.a25 + a.a76*b.a26 + a.a77*b.a27 + a.a78*b.a28;
+        c.a73 += a.a71*b.a31 + a.a72*b.a32 + a.a73*b.a33 + a.a74*b.a34 + a.a75*b.a35 + a.a76*b.a36 + a.a77*b.a37 + a.a78*b.a38;
+        c.a74 += a.a71*b.a41 + a.a72*b.a42 + a.a73*b.a43 + a.a74*b.a44 + a.a75*b.a45 + a.a76*b.a46 + a.a77*b.a47 + a.a78*b.a48;
+        c.a75 += a.a71*b.a51 + a.a72*b.a52 + a.a73*b.a53 + a.a74*b.a54 + a.a75*b.a55 + a.a76*b.a56 + a.a77*b.a57 + a.a78*b.a58;
+        c.a76 += a.a71*b.a61 + a.a72*b.a62 + a.a73*b.a63 + a.a74*b.a64 + a.a75*b.a65 + a.a76*b.a66 + a.a77*b.a67 + a.a78*b.a68;
+        c.a77 += a.a71*b.a71 + a.a72*b.a72 + a.a73*b.a73 + a.a74*b.a74 + a.a75*b.a75 + a.a76*b.a76 + a.a77*b.a77 + a.a78*b.a78;
+        c.a78 += a.a71*b.a81 + a.a72*b.a82 + a.a73*b.a83 + a.a74*b.a84 + a.a75*b.a85 + a.a76*b.a86 + a.a77*b.a87 + a.a78*b.a88;
+        c.a81 += a.a81*b.a11 + a.a82*b.a12 + a.a83*b.a13 + a.a84*b.a14 + a.a85*b.a15 + a.a86*b.a16 + a.a87*b.a17 + a.a88*b.a18;
+        c.a82 += a.a81*b.a21 + a.a82*b.a22 + a.a83*b.a23 + a.a84*b.a24 + a.a85*b.a25 + a.a86*b.a26 + a.a87*b.a27 + a.a88*b.a28;
+        c.a83 += a.a81*b.a31 + a.a82*b.a32 + a.a83*b.a33 + a.a84*b.a34 + a.a85*b.a35 + a.a86*b.a36 + a.a87*b.a37 + a.a88*b.a38;
+        c.a84 += a.a81*b.a41 + a.a82*b.a42 + a.a83*b.a43 + a.a84*b.a44 + a.a85*b.a45 + a.a86*b.a46 + a.a87*b.a47 + a.a88*b.a48;
+        c.a85 += a.a81*b.a51 + a.a82*b.a52 + a.a83*b.a53 + a.a84*b.a54 + a.a85*b.a55 + a.a86*b.a56 + a.a87*b.a57 + a.a88*b.a58;
+        c.a86 += a.a81*b.a61 + a.a82*b.a62 + a.a83*b.a63 + a.a84*b.a64 + a.a85*b.a65 + a.a86*b.a66 + a.a87*b.a67 + a.a88*b.a68;
+        c.a87 += a.a81*b.a71 + a.a82*b.a72 + a.a83*b.a73 + a.a84*b.a74 + a.a85*b.a75 + a.a86*b.a76 + a.a87*b.a77 + a.a88*b.a78;
+        c.a88 += a.a81*b.a81 + a.a82*b.a82 + a.a83*b.a83 + a.a84*b.a84 + a.a85*b.a85 + a.a86*b.a86 + a.a87*b.a87 + a.a88*b.a88;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c += &alpha; * a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> += &alpha;*&sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransB( double alpha , DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 += alpha*(a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16 + a.a17*b.a17 + a.a18*b.a18);
+        c.a12 += alpha*(a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26 + a.a17*b.a27 + a.a18*b.a28);
+        c.a13 += alpha*(a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34 + a.a15*b.a35 + a.a16*b.a36 + a.a17*b.a37 + a.a18*b.a38);
+        c.a14 += alpha*(a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43 + a.a14*b.a44 + a.a15*b.a45 + a.a16*b.a46 + a.a17*b.a47 + a.a18*b.a48);
+        c.a15 += alpha*(a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53 + a.a14*b.a54 + a.a15*b.a55 + a.a16*b.a56 + a.a17*b.a57 + a.a18*b.a58);
+        c.a16 += alpha*(a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63 + a.a14*b.a64 + a.a15*b.a65 + a.a16*b.a66 + a.a17*b.a67 + a.a18*b.a68);
+        c.a17 += alpha*(a.a11*b.a71 + a.a12*b.a72 + a.a13*b.a73 + a.a14*b.a74 + a.a15*b.a75 + a.a16*b.a76 + a.a17*b.a77 + a.a18*b.a78);
+        c.a18 += alpha*(a.a11*b.a81 + a.a12*b.a82 + a.a13*b.a83 + a.a14*b.a84 + a.a15*b.a85 + a.a16*b.a86 + a.a17*b.a87 + a.a18*b.a88);
+        c.a21 += alpha*(a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16 + a.a27*b.a17 + a.a28*b.a18);
+        c.a22 += alpha*(a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26 + a.a27*b.a27 + a.a28*b.a28);
+        c.a23 += alpha*(a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34 + a.a25*b.a35 + a.a26*b.a36 + a.a27*b.a37 + a.a28*b.a38);
+        c.a24 += alpha*(a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43 + a.a24*b.a44 + a.a25*b.a45 + a.a26*b.a46 + a.a27*b.a47 + a.a28*b.a48);
+        c.a25 += alpha*(a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53 + a.a24*b.a54 + a.a25*b.a55 + a.a26*b.a56 + a.a27*b.a57 + a.a28*b.a58);
+        c.a26 += alpha*(a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63 + a.a24*b.a64 + a.a25*b.a65 + a.a26*b.a66 + a.a27*b.a67 + a.a28*b.a68);
+        c.a27 += alpha*(a.a21*b.a71 + a.a22*b.a72 + a.a23*b.a73 + a.a24*b.a74 + a.a25*b.a75 + a.a26*b.a76 + a.a27*b.a77 + a.a28*b.a78);
+        c.a28 += alpha*(a.a21*b.a81 + a.a22*b.a82 + a.a23*b.a83 + a.a24*b.a84 + a.a25*b.a85 + a.a26*b.a86 + a.a27*b.a87 + a.a28*b.a88);
+        c.a31 += alpha*(a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14 + a.a35*b.a15 + a.a36*b.a16 + a.a37*b.a17 + a.a38*b.a18);
+        c.a32 += alpha*(a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24 + a.a35*b.a25 + a.a36*b.a26 + a.a37*b.a27 + a.a38*b.a28);
+        c.a33 += alpha*(a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33 + a.a34*b.a34 + a.a35*b.a35 + a.a36*b.a36 + a.a37*b.a37 + a.a38*b.a38);
+        c.a34 += alpha*(a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43 + a.a34*b.a44 + a.a35*b.a45 + a.a36*b.a46 + a.a37*b.a47 + a.a38*b.a48);
+        c.a35 += alpha*(a.a31*b.a51 + a.a32*b.a52 + a.a33*b.a53 + a.a34*b.a54 + a.a35*b.a55 + a.a36*b.a56 + a.a37*b.a57 + a.a38*b.a58);
+        c.a36 += alpha*(a.a31*b.a61 + a.a32*b.a62 + a.a33*b.a63 + a.a34*b.a64 + a.a35*b.a65 + a.a36*b.a66 + a.a37*b.a67 + a.a38*b.a68);
+        c.a37 += alpha*(a.a31*b.a71 + a.a32*b.a72 + a.a33*b.a73 + a.a34*b.a74 + a.a35*b.a75 + a.a36*b.a76 + a.a37*b.a77 + a.a38*b.a78);
+        c.a38 += alpha*(a.a31*b.a81 + a.a32*b.a82 + a.a33*b.a83 + a.a34*b.a84 + a.a35*b.a85 + a.a36*b.a86 + a.a37*b.a87 + a.a38*b.a88);
+        c.a41 += alpha*(a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13 + a.a44*b.a14 + a.a45*b.a15 + a.a46*b.a16 + a.a47*b.a17 + a.a48*b.a18);
+        c.a42 += alpha*(a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23 + a.a44*b.a24 + a.a45*b.a25 + a.a46*b.a26 + a.a47*b.a27 + a.a48*b.a28);
+        c.a43 += alpha*(a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33 + a.a44*b.a34 + a.a45*b.a35 + a.a46*b.a36 + a.a47*b.a37 + a.a48*b.a38);
+        c.a44 += alpha*(a.a41*b.a41 + a.a42*b.a42 + a.a43*b.a43 + a.a44*b.a44 + a.a45*b.a45 + a.a46*b.a46 + a.a47*b.a47 + a.a48*b.a48);
+        c.a45 += alpha*(a.a41*b.a51 + a.a42*b.a52 + a.a43*b.a53 + a.a44*b.a54 + a.a45*b.a55 + a.a46*b.a56 + a.a47*b.a57 + a.a48*b.a58);
+        c.a46 += alpha*(a.a41*b.a61 + a.a42*b.a62 + a.a43*b.a63 + a.a44*b.a64 + a.a45*b.a65 + a.a46*b.a66 + a.a47*b.a67 + a.a48*b.a68);
+        c.a47 += alpha*(a.a41*b.a71 + a.a42*b.a72 + a.a43*b.a73 + a.a44*b.a74 + a.a45*b.a75 + a.a46*b.a76 + a.a47*b.a77 + a.a48*b.a78);
+        c.a48 += alpha*(a.a41*b.a81 + a.a42*b.a82 + a.a43*b.a83 + a.a44*b.a84 + a.a45*b.a85 + a.a46*b.a86 + a.a47*b.a87 + a.a48*b.a88);
+        c.a51 += alpha*(a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13 + a.a54*b.a14 + a.a55*b.a15 + a.a56*b.a16 + a.a57*b.a17 + a.a58*b.a18);
+        c.a52 += alpha*(a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23 + a.a54*b.a24 + a.a55*b.a25 + a.a56*b.a26 + a.a57*b.a27 + a.a58*b.a28);
+        c.a53 += alpha*(a.a51*b.a31 + a.a52*b.a32 + a.a53*b.a33 + a.a54*b.a34 + a.a55*b.a35 + a.a56*b.a36 + a.a57*b.a37 + a.a58*b.a38);
+        c.a54 += alpha*(a.a51*b.a41 + a.a52*b.a42 + a.a53*b.a43 + a.a54*b.a44 + a.a55*b.a45 + a.a56*b.a46 + a.a57*b.a47 + a.a58*b.a48);
+        c.a55 += alpha*(a.a51*b.a51 + a.a52*b.a52 + a.a53*b.a53 + a.a54*b.a54 + a.a55*b.a55 + a.a56*b.a56 + a.a57*b.a57 + a.a58*b.a58);
+        c.a56 += alpha*(a.a51*b.a61 + a.a52*b.a62 + a.a53*b.a63 + a.a54*b.a64 + a.a55*b.a65 + a.a56*b.a66 + a.a57*b.a67 + a.a58*b.a68);
+        c.a57 += alpha*(a.a51*b.a71 + a.a52*b.a72 + a.a53*b.a73 + a.a54*b.a74 + a.a55*b.a75 + a.a56*b.a76 + a.a57*b.a77 + a.a58*b.a78);
+        c.a58 += alpha*(a.a51*b.a81 + a.a52*b.a82 + a.a53*b.a83 + a.a54*b.a84 + a.a55*b.a85 + a.a56*b.a86 + a.a57*b.a87 + a.a58*b.a88);
+        c.a61 += alpha*(a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13 + a.a64*b.a14 + a.a65*b.a15 + a.a66*b.a16 + a.a67*b.a17 + a.a68*b.a18);
+        c.a62 += alpha*(a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23 + a.a64*b.a24 + a.a65*b.a25 + a.a66*b.a26 + a.a67*b.a27 + a.a68*b.a28);
+        c.a63 += alpha*(a.a61*b.a31 + a.a62*b.a32 + a.a63*b.a33 + a.a64*b.a34 + a.a65*b.a35 + a.a66*b.a36 + a.a67*b.a37 + a.a68*b.a38);
+        c.a64 += alpha*(a.a61*b.a41 + a.a62*b.a42 + a.a63*b.a43 + a.a64*b.a44 + a.a65*b.a45 + a.a66*b.a46 + a.a67*b.a47 + a.a68*b.a48);
+        c.a65 += alpha*(a.a61*b.a51 + a.a62*b.a52 + a.a63*b.a53 + a.a64*b.a54 + a.a65*b.a55 + a.a66*b.a56 + a.a67*b.a57 + a.a68*b.a58);
+        c.a66 += alpha*(a.a61*b.a61 + a.a62*b.a62 + a.a63*b.a63 + a.a64*b.a64 + a.a65*b.a65 + a.a66*b.a66 + a.a67*b.a67 + a.a68*b.a68);
+        c.a67 += alpha*(a.a61*b.a71 + a.a62*b.a72 + a.a63*b.a73 + a.a64*b.a74 + a.a65*b.a75 + a.a66*b.a76 + a.a67*b.a77 + a.a68*b.a78);
+        c.a68 += alpha*(a.a61*b.a81 + a.a62*b.a82 + a.a63*b.a83 + a.a64*b.a84 + a.a65*b.a85 + a.a66*b.a86 + a.a67*b.a87 + a.a68*b.a88);
+        c.a71 += alpha*(a.a71*b.a11 + a.a72*b.a12 + a.a73*b.a13 + a.a74*b.a14 + a.a75*b.a15 + a.a76*b.a16 + a.a77*b.a17 + a.a78*b.a18);
+        c.a72 += alpha*(a.a71*b.a21 + a.a72*b.a22 + a.a73*b.a23 + a.a74*b.a24 + a.a75*b.a25 + a.a76*b.a26 + a.a77*b.a27 + a.a78*b.a28);
+        c.a73 += alpha*(a.a71*b.a31 + a.a72*b.a32 + a.a73*b.a33 + a.a74*b.a34 + a.a75*b.a35 + a.a76*b.a36 + a.a77*b.a37 + a.a78*b.a38);
+        c.a74 += alpha*(a.a71*b.a41 + a.a72*b.a42 + a.a73*b.a43 + a.a74*b.a44 + a.a75*b.a45 + a.a76*b.a46 + a.a77*b.a47 + a.a78*b.a48);
+        c.a75 += alpha*(a.a71*b.a51 + a.a72*b.a52 + a.a73*b.a53 + a.a74*b.a54 + a.a75*b.a55 + a.a76*b.a56 + a.a77*b.a57 + a.a78*b.a58);
+        c.a76 += alpha*(a.a71*b.a61 + a.a72*b.a62 + a.a73*b.a63 + a.a74*b.a64 + a.a75*b.a65 + a.a76*b.a66 + a.a77*b.a67 + a.a78*b.a68);
+        c.a77 += alpha*(a.a71*b.a71 + a.a72*b.a72 + a.a73*b.a73 + a.a74*b.a74 + a.a75*b.a75 + a.a76*b.a76 + a.a77*b.a77 + a.a78*b.a78);
+        c.a78 += alpha*(a.a71*b.a81 + a.a72*b.a82 + a.a73*b.a83 + a.a74*b.a84 + a.a75*b.a85 + a.a76*b.a86 + a.a77*b.a87 + a.a78*b.a88);
+        c.a81 += alpha*(a.a81*b.a11 + a.a82*b.a12 + a.a83*b.a13 + a.a84*b.a14 + a.a85*b.a15 + a.a86*b.a16 + a.a87*b.a17 + a.a88*b.a18);
+        c.a82 += alpha*(a.a81*b.a21 + a.a82*b.a22 + a.a83*b.a23 + a.a84*b.a24 + a.a85*b.a25 + a.a86*b.a26 + a.a87*b.a27 + a.a88*b.a28);
+        c.a83 += alpha*(a.a81*b.a31 + a.a82*b.a32 + a.a83*b.a33 + a.a84*b.a34 + a.a85*b.a35 + a.a86*b.a36 + a.a87*b.a37 + a.a88*b.a38);
+        c.a84 += alpha*(a.a81*b.a41 + a.a82*b.a42 + a.a83*b.a43 + a.a84*b.a44 + a.a85*b.a45 + a.a86*b.a46 + a.a87*b.a47 + a.a88*b.a48);
+        c.a85 += alpha*(a.a81*b.a51 + a.a82*b.a52 + a.a83*b.a53 + a.a84*b.a54 + a.a85*b.a55 + a.a86*b.a56 + a.a87*b.a57 + a.a88*b.a58);
+        c.a86 += alpha*(a.a81*b.a61 + a.a82*b.a62 + a.a83*b.a63 + a.a84*b.a64 + a.a85*b.a65 + a.a86*b.a66 + a.a87*b.a67 + a.a88*b.a68);
+        c.a87 += alpha*(a.a81*b.a71 + a.a82*b.a72 + a.a83*b.a73 + a.a84*b.a74 + a.a85*b.a75 + a.a86*b.a76 + a.a87*b.a77 + a.a88*b.a78);
+        c.a88 += alpha*(a.a81*b.a81 + a.a82*b.a82 + a.a83*b.a83 + a.a84*b.a84 + a.a85*b.a85 + a.a86*b.a86 + a.a87*b.a87 + a.a88*b.a88);
+    }
+
+    /**
+     * C = &alpha;A + &beta;u*v<sup>T</sup>
+     * 
+     * @param alpha scale factor applied to A
+     * @param A matrix
+     * @param beta scale factor applies to outer product
+     * @param u vector
+     * @param v vector
+     * @param C Storage for solution. Can be same instance as A.
+     */
+    public static void multAddOuter( double alpha , DMatrix8x8 A , double beta , DMatrix8 u , DMatrix8 v , DMatrix8x8 C ) {
+        C.a11 = alpha*A.a11 + beta*u.a1*v.a1;
+        C.a12 = alpha*A.a12 + beta*u.a1*v.a2;
+        C.a13 = alpha*A.a13 + beta*u.a1*v.a3;
+        C.a14 = alpha*A.a14 + beta*u.a1*v.a4;
+        C.a15 = alpha*A.a15 + beta*u.a1*v.a5;
+        C.a16 = alpha*A.a16 + beta*u.a1*v.a6;
+        C.a17 = alpha*A.a17 + beta*u.a1*v.a7;
+        C.a18 = alpha*A.a18 + beta*u.a1*v.a8;
+        C.a21 = alpha*A.a21 + beta*u.a2*v.a1;
+        C.a22 = alpha*A.a22 + beta*u.a2*v.a2;
+        C.a23 = alpha*A.a23 + beta*u.a2*v.a3;
+        C.a24 = alpha*A.a24 + beta*u.a2*v.a4;
+        C.a25 = alpha*A.a25 + beta*u.a2*v.a5;
+        C.a26 = alpha*A.a26 + beta*u.a2*v.a6;
+        C.a27 = alpha*A.a27 + beta*u.a2*v.a7;
+        C.a28 = alpha*A.a28 + beta*u.a2*v.a8;
+        C.a31 = alpha*A.a31 + beta*u.a3*v.a1;
+        C.a32 = alpha*A.a32 + beta*u.a3*v.a2;
+        C.a33 = alpha*A.a33 + beta*u.a3*v.a3;
+        C.a34 = alpha*A.a34 + beta*u.a3*v.a4;
+        C.a35 = alpha*A.a35 + beta*u.a3*v.a5;
+        C.a36 = alpha*A.a36 + beta*u.a3*v.a6;
+        C.a37 = alpha*A.a37 + beta*u.a3*v.a7;
+        C.a38 = alpha*A.a38 + beta*u.a3*v.a8;
+        C.a41 = alpha*A.a41 + beta*u.a4*v.a1;
+        C.a42 = alpha*A.a42 + beta*u.a4*v.a2;
+        C.a43 = alpha*A.a43 + beta*u.a4*v.a3;
+        C.a44 = alpha*A.a44 + beta*u.a4*v.a4;
+        C.a45 = alpha*A.a45 + beta*u.a4*v.a5;
+        C.a46 = alpha*A.a46 + beta*u.a4*v.a6;
+        C.a47 = alpha*A.a47 + beta*u.a4*v.a7;
+        C.a48 = alpha*A.a48 + beta*u.a4*v.a8;
+        C.a51 = alpha*A.a51 + beta*u.a5*v.a1;
+        C.a52 = alpha*A.a52 + beta*u.a5*v.a2;
+        C.a53 = alpha*A.a53 + beta*u.a5*v.a3;
+        C.a54 = alpha*A.a54 + beta*u.a5*v.a4;
+        C.a55 = alpha*A.a55 + beta*u.a5*v.a5;
+        C.a56 = alpha*A.a56 + beta*u.a5*v.a6;
+        C.a57 = alpha*A.a57 + beta*u.a5*v.a7;
+        C.a58 = alpha*A.a58 + beta*u.a5*v.a8;
+        C.a61 = alpha*A.a61 + beta*u.a6*v.a1;
+        C.a62 = alpha*A.a62 + beta*u.a6*v.a2;
+        C.a63 = alpha*A.a63 + beta*u.a6*v.a3;
+        C.a64 = alpha*A.a64 + beta*u.a6*v.a4;
+        C.a65 = alpha*A.a65 + beta*u.a6*v.a5;
+        C.a66 = alpha*A.a66 + beta*u.a6*v.a6;
+        C.a67 = alpha*A.a67 + beta*u.a6*v.a7;
+        C.a68 = alpha*A.a68 + beta*u.a6*v.a8;
+        C.a71 = alpha*A.a71 + beta*u.a7*v.a1;
+        C.a72 = alpha*A.a72 + beta*u.a7*v.a2;
+        C.a73 = alpha*A.a73 + beta*u.a7*v.a3;
+        C.a74 = alpha*A.a74 + beta*u.a7*v.a4;
+        C.a75 = alpha*A.a75 + beta*u.a7*v.a5;
+        C.a76 = alpha*A.a76 + beta*u.a7*v.a6;
+        C.a77 = alpha*A.a77 + beta*u.a7*v.a7;
+        C.a78 = alpha*A.a78 + beta*u.a7*v.a8;
+        C.a81 = alpha*A.a81 + beta*u.a8*v.a1;
+        C.a82 = alpha*A.a82 + beta*u.a8*v.a2;
+        C.a83 = alpha*A.a83 + beta*u.a8*v.a3;
+        C.a84 = alpha*A.a84 + beta*u.a8*v.a4;
+        C.a85 = alpha*A.a85 + beta*u.a8*v.a5;
+        C.a86 = alpha*A.a86 + beta*u.a8*v.a6;
+        C.a87 = alpha*A.a87 + beta*u.a8*v.a7;
+        C.a88 = alpha*A.a88 + beta*u.a8*v.a8;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix8x8 a , DMatrix8 b , DMatrix8 c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2 + a.a13*b.a3 + a.a14*b.a4 + a.a15*b.a5 + a.a16*b.a6 + a.a17*b.a7 + a.a18*b.a8;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2 + a.a23*b.a3 + a.a24*b.a4 + a.a25*b.a5 + a.a26*b.a6 + a.a27*b.a7 + a.a28*b.a8;
+        c.a3 = a.a31*b.a1 + a.a32*b.a2 + a.a33*b.a3 + a.a34*b.a4 + a.a35*b.a5 + a.a36*b.a6 + a.a37*b.a7 + a.a38*b.a8;
+        c.a4 = a.a41*b.a1 + a.a42*b.a2 + a.a43*b.a3 + a.a44*b.a4 + a.a45*b.a5 + a.a46*b.a6 + a.a47*b.a7 + a.a48*b.a8;
+        c.a5 = a.a51*b.a1 + a.a52*b.a2 + a.a53*b.a3 + a.a54*b.a4 + a.a55*b.a5 + a.a56*b.a6 + a.a57*b.a7 + a.a58*b.a8;
+        c.a6 = a.a61*b.a1 + a.a62*b.a2 + a.a63*b.a3 + a.a64*b.a4 + a.a65*b.a5 + a.a66*b.a6 + a.a67*b.a7 + a.a68*b.a8;
+        c.a7 = a.a71*b.a1 + a.a72*b.a2 + a.a73*b.a3 + a.a74*b.a4 + a.a75*b.a5 + a.a76*b.a6 + a.a77*b.a7 + a.a78*b.a8;
+        c.a8 = a.a81*b.a1 + a.a82*b.a2 + a.a83*b.a3 + a.a84*b.a4 + a.a85*b.a5 + a.a86*b.a6 + a.a87*b.a7 + a.a88*b.a8;
+    }
+
+    /**
+     * <p>Performs vector to matrix multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>j</sub> = &sum;<sub>k=1:n</sub> { b<sub>k</sub> * a<sub>kj</sub> }
+     * </p>
+     *
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix8 a , DMatrix8x8 b , DMatrix8 c) {
+        c.a1 = a.a1*b.a11 + a.a2*b.a21 + a.a3*b.a31 + a.a4*b.a41 + a.a5*b.a51 + a.a6*b.a61 + a.a7*b.a71 + a.a8*b.a81;
+        c.a2 = a.a1*b.a12 + a.a2*b.a22 + a.a3*b.a32 + a.a4*b.a42 + a.a5*b.a52 + a.a6*b.a62 + a.a7*b.a72 + a.a8*b.a82;
+        c.a3 = a.a1*b.a13 + a.a2*b.a23 + a.a3*b.a33 + a.a4*b.a43 + a.a5*b.a53 + a.a6*b.a63 + a.a7*b.a73 + a.a8*b.a83;
+        c.a4 = a.a1*b.a14 + a.a2*b.a24 + a.a3*b.a34 + a.a4*b.a44 + a.a5*b.a54 + a.a6*b.a64 + a.a7*b.a74 + a.a8*b.a84;
+        c.a5 = a.a1*b.a15 + a.a2*b.a25 + a.a3*b.a35 + a.a4*b.a45 + a.a5*b.a55 + a.a6*b.a65 + a.a7*b.a75 + a.a8*b.a85;
+        c.a6 = a.a1*b.a16 + a.a2*b.a26 + a.a3*b.a36 + a.a4*b.a46 + a.a5*b.a56 + a.a6*b.a66 + a.a7*b.a76 + a.a8*b.a86;
+        c.a7 = a.a1*b.a17 + a.a2*b.a27 + a.a3*b.a37 + a.a4*b.a47 + a.a5*b.a57 + a.a6*b.a67 + a.a7*b.a77 + a.a8*b.a87;
+        c.a8 = a.a1*b.a18 + a.a2*b.a28 + a.a3*b.a38 + a.a4*b.a48 + a.a5*b.a58 + a.a6*b.a68 + a.a7*b.a78 + a.a8*b.a88;
+    }
+
+    /**
+     * <p>Performs the vector dot product:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c &ge; &sum;<sub>k=1:n</sub> { b<sub>k</sub> * a<sub>k</sub> }
+     * </p>
+     *
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @return The dot product
+     */
+    public static double dot( DMatrix8 a , DMatrix8 b ) {
+        return a.a1*b.a1 + a.a2*b.a2 + a.a3*b.a3 + a.a4*b.a4 + a.a5*b.a5 + a.a6*b.a6 + a.a7*b.a7 + a.a8*b.a8;
+    }
+
+    /**
+     * Sets all the diagonal elements equal to one and everything else equal to zero.
+     * If this is a square matrix then it will be an identity matrix.
+     *
+     * @param a A matrix.
+     */
+    public static void setIdentity( DMatrix8x8 a ) {
+        a.a11 = 1; a.a21 = 0; a.a31 = 0; a.a41 = 0; a.a51 = 0; a.a61 = 0; a.a71 = 0; a.a81 = 0;
+        a.a12 = 0; a.a22 = 1; a.a32 = 0; a.a42 = 0; a.a52 = 0; a.a62 = 0; a.a72 = 0; a.a82 = 0;
+        a.a13 = 0; a.a23 = 0; a.a33 = 1; a.a43 = 0; a.a53 = 0; a.a63 = 0; a.a73 = 0; a.a83 = 0;
+        a.a14 = 0; a.a24 = 0; a.a34 = 0; a.a44 = 1; a.a54 = 0; a.a64 = 0; a.a74 = 0; a.a84 = 0;
+        a.a15 = 0; a.a25 = 0; a.a35 = 0; a.a45 = 0; a.a55 = 1; a.a65 = 0; a.a75 = 0; a.a85 = 0;
+        a.a16 = 0; a.a26 = 0; a.a36 = 0; a.a46 = 0; a.a56 = 0; a.a66 = 1; a.a76 = 0; a.a86 = 0;
+        a.a17 = 0; a.a27 = 0; a.a37 = 0; a.a47 = 0; a.a57 = 0; a.a67 = 0; a.a77 = 1; a.a87 = 0;
+        a.a18 = 0; a.a28 = 0; a.a38 = 0; a.a48 = 0; a.a58 = 0; a.a68 = 0; a.a78 = 0; a.a88 = 1;
+    }
+
+    /**
+     * Performs a lower Cholesky decomposition of matrix 'A' and stores result in A.
+     *
+     * @param A (Input) SPD Matrix. (Output) lower cholesky.
+     * @return true if it was successful or false if it failed. Not always reliable.
+     */
+    public static boolean cholL( DMatrix8x8 A ) {
+
+        A.a11 = Math.sqrt(A.a11);
+        A.a12 = 0;
+        A.a13 = 0;
+        A.a14 = 0;
+        A.a15 = 0;
+        A.a16 = 0;
+        A.a17 = 0;
+        A.a18 = 0;
+        A.a21 = (A.a21)/A.a11;
+        A.a22 = Math.sqrt(A.a22-A.a21*A.a21);
+        A.a23 = 0;
+        A.a24 = 0;
+        A.a25 = 0;
+        A.a26 = 0;
+        A.a27 = 0;
+        A.a28 = 0;
+        A.a31 = (A.a31)/A.a11;
+        A.a32 = (A.a32-A.a31*A.a21)/A.a22;
+        A.a33 = Math.sqrt(A.a33-A.a31*A.a31-A.a32*A.a32);
+        A.a34 = 0;
+        A.a35 = 0;
+        A.a36 = 0;
+        A.a37 = 0;
+        A.a38 = 0;
+        A.a41 = (A.a41)/A.a11;
+        A.a42 = (A.a42-A.a41*A.a21)/A.a22;
+        A.a43 = (A.a43-A.a41*A.a31-A.a42*A.a32)/A.a33;
+        A.a44 = Math.sqrt(A.a44-A.a41*A.a41-A.a42*A.a42-A.a43*A.a43);
+        A.a45 = 0;
+        A.a46 = 0;
+        A.a47 = 0;
+        A.a48 = 0;
+        A.a51 = (A.a51)/A.a11;
+        A.a52 = (A.a52-A.a51*A.a21)/A.a22;
+        A.a53 = (A.a53-A.a51*A.a31-A.a52*A.a32)/A.a33;
+        A.a54 = (A.a54-A.a51*A.a41-A.a52*A.a42-A.a53*A.a43)/A.a44;
+        A.a55 = Math.sqrt(A.a55-A.a51*A.a51-A.a52*A.a52-A.a53*A.a53-A.a54*A.a54);
+        A.a56 = 0;
+        A.a57 = 0;
+        A.a58 = 0;
+        A.a61 = (A.a61)/A.a11;
+        A.a62 = (A.a62-A.a61*A.a21)/A.a22;
+        A.a63 = (A.a63-A.a61*A.a31-A.a62*A.a32)/A.a33;
+        A.a64 = (A.a64-A.a61*A.a41-A.a62*A.a42-A.a63*A.a43)/A.a44;
+        A.a65 = (A.a65-A.a61*A.a51-A.a62*A.a52-A.a63*A.a53-A.a64*A.a54)/A.a55;
+        A.a66 = Math.sqrt(A.a66-A.a61*A.a61-A.a62*A.a62-A.a63*A.a63-A.a64*A.a64-A.a65*A.a65);
+        A.a67 = 0;
+        A.a68 = 0;
+        A.a71 = (A.a71)/A.a11;
+        A.a72 = (A.a72-A.a71*A.a21)/A.a22;
+        A.a73 = (A.a73-A.a71*A.a31-A.a72*A.a32)/A.a33;
+        A.a74 = (A.a74-A.a71*A.a41-A.a72*A.a42-A.a73*A.a43)/A.a44;
+        A.a75 = (A.a75-A.a71*A.a51-A.a72*A.a52-A.a73*A.a53-A.a74*A.a54)/A.a55;
+        A.a76 = (A.a76-A.a71*A.a61-A.a72*A.a62-A.a73*A.a63-A.a74*A.a64-A.a75*A.a65)/A.a66;
+        A.a77 = Math.sqrt(A.a77-A.a71*A.a71-A.a72*A.a72-A.a73*A.a73-A.a74*A.a74-A.a75*A.a75-A.a76*A.a76);
+        A.a78 = 0;
+        A.a81 = (A.a81)/A.a11;
+        A.a82 = (A.a82-A.a81*A.a21)/A.a22;
+        A.a83 = (A.a83-A.a81*A.a31-A.a82*A.a32)/A.a33;
+        A.a84 = (A.a84-A.a81*A.a41-A.a82*A.a42-A.a83*A.a43)/A.a44;
+        A.a85 = (A.a85-A.a81*A.a51-A.a82*A.a52-A.a83*A.a53-A.a84*A.a54)/A.a55;
+        A.a86 = (A.a86-A.a81*A.a61-A.a82*A.a62-A.a83*A.a63-A.a84*A.a64-A.a85*A.a65)/A.a66;
+        A.a87 = (A.a87-A.a81*A.a71-A.a82*A.a72-A.a83*A.a73-A.a84*A.a74-A.a85*A.a75-A.a86*A.a76)/A.a77;
+        A.a88 = Math.sqrt(A.a88-A.a81*A.a81-A.a82*A.a82-A.a83*A.a83-A.a84*A.a84-A.a85*A.a85-A.a86*A.a86-A.a87*A.a87);
+        return !UtilEjml.isUncountable(A.a88);
+    }
+
+    /**
+     * Performs an upper Cholesky decomposition of matrix 'A' and stores result in A.
+     *
+     * @param A (Input) SPD Matrix. (Output) upper cholesky.
+     * @return true if it was successful or false if it failed. Not always reliable.
+     */
+    public static boolean cholU( DMatrix8x8 A ) {
+
+        A.a11 = Math.sqrt(A.a11);
+        A.a21 = 0;
+        A.a31 = 0;
+        A.a41 = 0;
+        A.a51 = 0;
+        A.a61 = 0;
+        A.a71 = 0;
+        A.a81 = 0;
+        A.a12 = (A.a12)/A.a11;
+        A.a22 = Math.sqrt(A.a22-A.a12*A.a12);
+        A.a32 = 0;
+        A.a42 = 0;
+        A.a52 = 0;
+        A.a62 = 0;
+        A.a72 = 0;
+        A.a82 = 0;
+        A.a13 = (A.a13)/A.a11;
+        A.a23 = (A.a23-A.a12*A.a13)/A.a22;
+        A.a33 = Math.sqrt(A.a33-A.a13*A.a13-A.a23*A.a23);
+        A.a43 = 0;
+        A.a53 = 0;
+        A.a63 = 0;
+        A.a73 = 0;
+        A.a83 = 0;
+        A.a14 = (A.a14)/A.a11;
+        A.a24 = (A.a24-A.a12*A.a14)/A.a22;
+        A.a34 = (A.a34-A.a13*A.a14-A.a23*A.a24)/A.a33;
+        A.a44 = Math.sqrt(A.a44-A.a14*A.a14-A.a24*A.a24-A.a34*A.a34);
+        A.a54 = 0;
+        A.a64 = 0;
+        A.a74 = 0;
+        A.a84 = 0;
+        A.a15 = (A.a15)/A.a11;
+        A.a25 = (A.a25-A.a12*A.a15)/A.a22;
+        A.a35 = (A.a35-A.a13*A.a15-A.a23*A.a25)/A.a33;
+        A.a45 = (A.a45-A.a14*A.a15-A.a24*A.a25-A.a34*A.a35)/A.a44;
+        A.a55 = Math.sqrt(A.a55-A.a15*A.a15-A.a25*A.a25-A.a35*A.a35-A.a45*A.a45);
+        A.a65 = 0;
+        A.a75 = 0;
+        A.a85 = 0;
+        A.a16 = (A.a16)/A.a11;
+        A.a26 = (A.a26-A.a12*A.a16)/A.a22;
+        A.a36 = (A.a36-A.a13*A.a16-A.a23*A.a26)/A.a33;
+        A.a46 = (A.a46-A.a14*A.a16-A.a24*A.a26-A.a34*A.a36)/A.a44;
+        A.a56 = (A.a56-A.a15*A.a16-A.a25*A.a26-A.a35*A.a36-A.a45*A.a46)/A.a55;
+        A.a66 = Math.sqrt(A.a66-A.a16*A.a16-A.a26*A.a26-A.a36*A.a36-A.a46*A.a46-A.a56*A.a56);
+        A.a76 = 0;
+        A.a86 = 0;
+        A.a17 = (A.a17)/A.a11;
+        A.a27 = (A.a27-A.a12*A.a17)/A.a22;
+        A.a37 = (A.a37-A.a13*A.a17-A.a23*A.a27)/A.a33;
+        A.a47 = (A.a47-A.a14*A.a17-A.a24*A.a27-A.a34*A.a37)/A.a44;
+        A.a57 = (A.a57-A.a15*A.a17-A.a25*A.a27-A.a35*A.a37-A.a45*A.a47)/A.a55;
+        A.a67 = (A.a67-A.a16*A.a17-A.a26*A.a27-A.a36*A.a37-A.a46*A.a47-A.a56*A.a57)/A.a66;
+        A.a77 = Math.sqrt(A.a77-A.a17*A.a17-A.a27*A.a27-A.a37*A.a37-A.a47*A.a47-A.a57*A.a57-A.a67*A.a67);
+        A.a87 = 0;
+        A.a18 = (A.a18)/A.a11;
+        A.a28 = (A.a28-A.a12*A.a18)/A.a22;
+        A.a38 = (A.a38-A.a13*A.a18-A.a23*A.a28)/A.a33;
+        A.a48 = (A.a48-A.a14*A.a18-A.a24*A.a28-A.a34*A.a38)/A.a44;
+        A.a58 = (A.a58-A.a15*A.a18-A.a25*A.a28-A.a35*A.a38-A.a45*A.a48)/A.a55;
+        A.a68 = (A.a68-A.a16*A.a18-A.a26*A.a28-A.a36*A.a38-A.a46*A.a48-A.a56*A.a58)/A.a66;
+        A.a78 = (A.a78-A.a17*A.a18-A.a27*A.a28-A.a37*A.a38-A.a47*A.a48-A.a57*A.a58-A.a67*A.a68)/A.a77;
+        A.a88 = Math.sqrt(A.a88-A.a18*A.a18-A.a28*A.a28-A.a38*A.a38-A.a48*A.a48-A.a58*A.a58-A.a68*A.a68-A.a78*A.a78);
+        return !UtilEjml.isUncountable(A.a88);
+    }
+
+    /**
+     * <p>
+     * This computes the trace of the matrix:<br>
+     * <br>
+     * trace = &sum;<sub>i=1:n</sub> { a<sub>ii</sub> }
+     * </p>
+     * <p>
+     * The trace is only defined for square matrices.
+     * </p>
+     *
+     * @param a A square matrix. Not modified.
+     */
+    public static double trace( DMatrix8x8 a ) {
+        return a.a11 + a.a22 + a.a33 + a.a44 + a.a55 + a.a66 + a.a77 + a.a88;
+    }
+
+    /**
+     * <p>
+     * Extracts all diagonal elements from 'input' and places them inside the 'out' vector. Elements
+     * are in sequential order.
+     * </p>
+     *
+     *
+     * @param input Matrix. Not modified.
+     * @param out Vector containing diagonal elements. Modified.
+     */
+    public static void diag( DMatrix8x8 input , DMatrix8 out ) {
+        out.a1 = input.a11;
+        out.a2 = input.a22;
+        out.a3 = input.a33;
+        out.a4 = input.a44;
+        out.a5 = input.a55;
+        out.a6 = input.a66;
+        out.a7 = input.a77;
+        out.a8 = input.a88;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the largest value.<br>
+     * <br>
+     * Max{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMax( DMatrix8x8 a ) {
+        double max = a.a11;
+        if( a.a12 > max ) max = a.a12;
+        if( a.a13 > max ) max = a.a13;
+        if( a.a14 > max ) max = a.a14;
+        if( a.a15 > max ) max = a.a15;
+        if( a.a16 > max ) max = a.a16;
+        if( a.a17 > max ) max = a.a17;
+        if( a.a18 > max ) max = a.a18;
+        if( a.a21 > max ) max = a.a21;
+        if( a.a22 > max ) max = a.a22;
+        if( a.a23 > max ) max = a.a23;
+        if( a.a24 > max ) max = a.a24;
+        if( a.a25 > max ) max = a.a25;
+        if( a.a26 > max ) max = a.a26;
+        if( a.a27 > max ) max = a.a27;
+        if( a.a28 > max ) max = a.a28;
+        if( a.a31 > max ) max = a.a31;
+        if( a.a32 > max ) max = a.a32;
+        if( a.a33 > max ) max = a.a33;
+        if( a.a34 > max ) max = a.a34;
+        if( a.a35 > max ) max = a.a35;
+        if( a.a36 > max ) max = a.a36;
+        if( a.a37 > max ) max = a.a37;
+        if( a.a38 > max ) max = a.a38;
+        if( a.a41 > max ) max = a.a41;
+        if( a.a42 > max ) max = a.a42;
+        if( a.a43 > max ) max = a.a43;
+        if( a.a44 > max ) max = a.a44;
+        if( a.a45 > max ) max = a.a45;
+        if( a.a46 > max ) max = a.a46;
+        if( a.a47 > max ) max = a.a47;
+        if( a.a48 > max ) max = a.a48;
+        if( a.a51 > max ) max = a.a51;
+        if( a.a52 > max ) max = a.a52;
+        if( a.a53 > max ) max = a.a53;
+        if( a.a54 > max ) max = a.a54;
+        if( a.a55 > max ) max = a.a55;
+        if( a.a56 > max ) max = a.a56;
+        if( a.a57 > max ) max = a.a57;
+        if( a.a58 > max ) max = a.a58;
+        if( a.a61 > max ) max = a.a61;
+        if( a.a62 > max ) max = a.a62;
+        if( a.a63 > max ) max = a.a63;
+        if( a.a64 > max ) max = a.a64;
+        if( a.a65 > max ) max = a.a65;
+        if( a.a66 > max ) max = a.a66;
+        if( a.a67 > max ) max = a.a67;
+        if( a.a68 > max ) max = a.a68;
+        if( a.a71 > max ) max = a.a71;
+        if( a.a72 > max ) max = a.a72;
+        if( a.a73 > max ) max = a.a73;
+        if( a.a74 > max ) max = a.a74;
+        if( a.a75 > max ) max = a.a75;
+        if( a.a76 > max ) max = a.a76;
+        if( a.a77 > max ) max = a.a77;
+        if( a.a78 > max ) max = a.a78;
+        if( a.a81 > max ) max = a.a81;
+        if( a.a82 > max ) max = a.a82;
+        if( a.a83 > max ) max = a.a83;
+        if( a.a84 > max ) max = a.a84;
+        if( a.a85 > max ) max = a.a85;
+        if( a.a86 > max ) max = a.a86;
+        if( a.a87 > max ) max = a.a87;
+        if( a.a88 > max ) max = a.a88;
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the vector that has the largest value.<br>
+     * <br>
+     * Max{ a<sub>i</sub> } for all i<br>
+     * </p>
+     *
+     * @param a A vector. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMax( DMatrix8 a ) {
+        double max = a.a1;
+        if( a.a2 > max ) max = a.a2;
+        if( a.a3 > max ) max = a.a3;
+        if( a.a4 > max ) max = a.a4;
+        if( a.a5 > max ) max = a.a5;
+        if( a.a6 > max ) max = a.a6;
+        if( a.a7 > max ) max = a.a7;
+        if( a.a8 > max ) max = a.a8;
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the largest absolute value.<br>
+     * <br>
+     * Max{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max abs element value of the matrix.
+     */
+    public static double elementMaxAbs( DMatrix8x8 a ) {
+        double max = Math.abs(a.a11);
+        double tmp = Math.abs(a.a12); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a13); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a14); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a15); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a16); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a17); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a18); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a21); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a22); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a23); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a24); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a25); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a26); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a27); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a28); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a31); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a32); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a33); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a34); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a35); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a36); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a37); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a38); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a41); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a42); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a43); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a44); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a45); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a46); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a47); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a48); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a51); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a52); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a53); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a54); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a55); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a56); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a57); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a58); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a61); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a62); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a63); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a64); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a65); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a66); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a67); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a68); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a71); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a72); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a73); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a74); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a75); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a76); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a77); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a78); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a81); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a82); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a83); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a84); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a85); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a86); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a87); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a88); if( tmp > max ) max = tmp;
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the vector that has the largest absolute value.<br>
+     * <br>
+     * Max{ |a<sub>i</sub>| } for all i<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max abs element value of the vector.
+     */
+    public static double elementMaxAbs( DMatrix8 a ) {
+        double max = Math.abs(a.a1);
+        double tmp = Math.abs(a.a2); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a2); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a3); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a4); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a5); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a6); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a7); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a8); if( tmp > max ) max = tmp;
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the minimum value.<br>
+     * <br>
+     * Min{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The value of element in the matrix with the minimum value.
+     */
+    public static double elementMin( DMatrix8x8 a ) {
+        double min = a.a11;
+        if( a.a12 < min ) min = a.a12;
+        if( a.a13 < min ) min = a.a13;
+        if( a.a14 < min ) min = a.a14;
+        if( a.a15 < min ) min = a.a15;
+        if( a.a16 < min ) min = a.a16;
+        if( a.a17 < min ) min = a.a17;
+        if( a.a18 < min ) min = a.a18;
+        if( a.a21 < min ) min = a.a21;
+        if( a.a22 < min ) min = a.a22;
+        if( a.a23 < min ) min = a.a23;
+        if( a.a24 < min ) min = a.a24;
+        if( a.a25 < min ) min = a.a25;
+        if( a.a26 < min ) min = a.a26;
+        if( a.a27 < min ) min = a.a27;
+        if( a.a28 < min ) min = a.a28;
+        if( a.a31 < min ) min = a.a31;
+        if( a.a32 < min ) min = a.a32;
+        if( a.a33 < min ) min = a.a33;
+        if( a.a34 < min ) min = a.a34;
+        if( a.a35 < min ) min = a.a35;
+        if( a.a36 < min ) min = a.a36;
+        if( a.a37 < min ) min = a.a37;
+        if( a.a38 < min ) min = a.a38;
+        if( a.a41 < min ) min = a.a41;
+        if( a.a42 < min ) min = a.a42;
+        if( a.a43 < min ) min = a.a43;
+        if( a.a44 < min ) min = a.a44;
+        if( a.a45 < min ) min = a.a45;
+        if( a.a46 < min ) min = a.a46;
+        if( a.a47 < min ) min = a.a47;
+        if( a.a48 < min ) min = a.a48;
+        if( a.a51 < min ) min = a.a51;
+        if( a.a52 < min ) min = a.a52;
+        if( a.a53 < min ) min = a.a53;
+        if( a.a54 < min ) min = a.a54;
+        if( a.a55 < min ) min = a.a55;
+        if( a.a56 < min ) min = a.a56;
+        if( a.a57 < min ) min = a.a57;
+        if( a.a58 < min ) min = a.a58;
+        if( a.a61 < min ) min = a.a61;
+        if( a.a62 < min ) min = a.a62;
+        if( a.a63 < min ) min = a.a63;
+        if( a.a64 < min ) min = a.a64;
+        if( a.a65 < min ) min = a.a65;
+        if( a.a66 < min ) min = a.a66;
+        if( a.a67 < min ) min = a.a67;
+        if( a.a68 < min ) min = a.a68;
+        if( a.a71 < min ) min = a.a71;
+        if( a.a72 < min ) min = a.a72;
+        if( a.a73 < min ) min = a.a73;
+        if( a.a74 < min ) min = a.a74;
+        if( a.a75 < min ) min = a.a75;
+        if( a.a76 < min ) min = a.a76;
+        if( a.a77 < min ) min = a.a77;
+        if( a.a78 < min ) min = a.a78;
+        if( a.a81 < min ) min = a.a81;
+        if( a.a82 < min ) min = a.a82;
+        if( a.a83 < min ) min = a.a83;
+        if( a.a84 < min ) min = a.a84;
+        if( a.a85 < min ) min = a.a85;
+        if( a.a86 < min ) min = a.a86;
+        if( a.a87 < min ) min = a.a87;
+        if( a.a88 < min ) min = a.a88;
+
+        return min;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the vector that has the minimum value.<br>
+     * <br>
+     * Min{ a<sub>i</sub> } for all<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The value of element in the vector with the minimum value.
+     */
+    public static double elementMin( DMatrix8 a ) {
+        double min = a.a1;
+        if( a.a2 < min ) min = a.a2;
+        if( a.a3 < min ) min = a.a3;
+        if( a.a4 < min ) min = a.a4;
+        if( a.a5 < min ) min = a.a5;
+        if( a.a6 < min ) min = a.a6;
+        if( a.a7 < min ) min = a.a7;
+        if( a.a8 < min ) min = a.a8;
+
+        return min;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the smallest absolute value.<br>
+     * <br>
+     * Min{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMinAbs( DMatrix8x8 a ) {
+        double min = Math.abs(a.a11);
+        double tmp = Math.abs(a.a12); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a13); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a14); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a15); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a16); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a17); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a18); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a21); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a22); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a23); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a24); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a25); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a26); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a27); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a28); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a31); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a32); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a33); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a34); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a35); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a36); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a37); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a38); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a41); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a42); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a43); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a44); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a45); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a46); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a47); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a48); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a51); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a52); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a53); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a54); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a55); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a56); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a57); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a58); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a61); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a62); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a63); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a64); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a65); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a66); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a67); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a68); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a71); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a72); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a73); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a74); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a75); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a76); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a77); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a78); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a81); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a82); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a83); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a84); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a85); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a86); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a87); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a88); if( tmp < min ) min = tmp;
+
+        return min;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the vector that has the smallest absolute value.<br>
+     * <br>
+     * Min{ |a<sub>i</sub>| } for all i<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the vector.
+     */
+    public static double elementMinAbs( DMatrix8 a ) {
+        double min = Math.abs(a.a1);
+        double tmp = Math.abs(a.a1); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a2); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a3); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a4); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a5); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a6); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a7); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a8); if( tmp < min ) min = tmp;
+
+        return min;
+    }
+
+    /**
+     * <p>Performs an element by element multiplication operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     */
+    public static void elementMult( DMatrix8x8 a , DMatrix8x8 b) {
+        a.a11 *= b.a11; a.a12 *= b.a12; a.a13 *= b.a13; a.a14 *= b.a14; a.a15 *= b.a15; a.a16 *= b.a16; a.a17 *= b.a17; a.a18 *= b.a18;
+        a.a21 *= b.a21; a.a22 *= b.a22; a.a23 *= b.a23; a.a24 *= b.a24; a.a25 *= b.a25; a.a26 *= b.a26; a.a27 *= b.a27; a.a28 *= b.a28;
+        a.a31 *= b.a31; a.a32 *= b.a32; a.a33 *= b.a33; a.a34 *= b.a34; a.a35 *= b.a35; a.a36 *= b.a36; a.a37 *= b.a37; a.a38 *= b.a38;
+        a.a41 *= b.a41; a.a42 *= b.a42; a.a43 *= b.a43; a.a44 *= b.a44; a.a45 *= b.a45; a.a46 *= b.a46; a.a47 *= b.a47; a.a48 *= b.a48;
+        a.a51 *= b.a51; a.a52 *= b.a52; a.a53 *= b.a53; a.a54 *= b.a54; a.a55 *= b.a55; a.a56 *= b.a56; a.a57 *= b.a57; a.a58 *= b.a58;
+        a.a61 *= b.a61; a.a62 *= b.a62; a.a63 *= b.a63; a.a64 *= b.a64; a.a65 *= b.a65; a.a66 *= b.a66; a.a67 *= b.a67; a.a68 *= b.a68;
+        a.a71 *= b.a71; a.a72 *= b.a72; a.a73 *= b.a73; a.a74 *= b.a74; a.a75 *= b.a75; a.a76 *= b.a76; a.a77 *= b.a77; a.a78 *= b.a78;
+        a.a81 *= b.a81; a.a82 *= b.a82; a.a83 *= b.a83; a.a84 *= b.a84; a.a85 *= b.a85; a.a86 *= b.a86; a.a87 *= b.a87; a.a88 *= b.a88;
+    }
+
+    /**
+     * <p>Performs an element by element multiplication operation:<br>
+     * <br>
+     * a<sub>i</sub> = a<sub>i</sub> * b<sub>i</sub> <br>
+     * </p>
+     * @param a The left vector in the multiplication operation. Modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     */
+    public static void elementMult( DMatrix8 a , DMatrix8 b) {
+        a.a1 *= b.a1;
+        a.a2 *= b.a2;
+        a.a3 *= b.a3;
+        a.a4 *= b.a4;
+        a.a5 *= b.a5;
+        a.a6 *= b.a6;
+        a.a7 *= b.a7;
+        a.a8 *= b.a8;
+    }
+
+    /**
+     * <p>Performs an element by element multiplication operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementMult( DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c ) {
+        c.a11 = a.a11*b.a11; c.a12 = a.a12*b.a12; c.a13 = a.a13*b.a13; c.a14 = a.a14*b.a14; c.a15 = a.a15*b.a15; c.a16 = a.a16*b.a16; c.a17 = a.a17*b.a17; c.a18 = a.a18*b.a18;
+        c.a21 = a.a21*b.a21; c.a22 = a.a22*b.a22; c.a23 = a.a23*b.a23; c.a24 = a.a24*b.a24; c.a25 = a.a25*b.a25; c.a26 = a.a26*b.a26; c.a27 = a.a27*b.a27; c.a28 = a.a28*b.a28;
+        c.a31 = a.a31*b.a31; c.a32 = a.a32*b.a32; c.a33 = a.a33*b.a33; c.a34 = a.a34*b.a34; c.a35 = a.a35*b.a35; c.a36 = a.a36*b.a36; c.a37 = a.a37*b.a37; c.a38 = a.a38*b.a38;
+        c.a41 = a.a41*b.a41; c.a42 = a.a42*b.a42; c.a43 = a.a43*b.a43; c.a44 = a.a44*b.a44; c.a45 = a.a45*b.a45; c.a46 = a.a46*b.a46; c.a47 = a.a47*b.a47; c.a48 = a.a48*b.a48;
+        c.a51 = a.a51*b.a51; c.a52 = a.a52*b.a52; c.a53 = a.a53*b.a53; c.a54 = a.a54*b.a54; c.a55 = a.a55*b.a55; c.a56 = a.a56*b.a56; c.a57 = a.a57*b.a57; c.a58 = a.a58*b.a58;
+        c.a61 = a.a61*b.a61; c.a62 = a.a62*b.a62; c.a63 = a.a63*b.a63; c.a64 = a.a64*b.a64; c.a65 = a.a65*b.a65; c.a66 = a.a66*b.a66; c.a67 = a.a67*b.a67; c.a68 = a.a68*b.a68;
+        c.a71 = a.a71*b.a71; c.a72 = a.a72*b.a72; c.a73 = a.a73*b.a73; c.a74 = a.a74*b.a74; c.a75 = a.a75*b.a75; c.a76 = a.a76*b.a76; c.a77 = a.a77*b.a77; c.a78 = a.a78*b.a78;
+        c.a81 = a.a81*b.a81; c.a82 = a.a82*b.a82; c.a83 = a.a83*b.a83; c.a84 = a.a84*b.a84; c.a85 = a.a85*b.a85; c.a86 = a.a86*b.a86; c.a87 = a.a87*b.a87; c.a88 = a.a88*b.a88;
+    }
+
+    /**
+     * <p>Performs an element by element multiplication operation:<br>
+     * <br>
+     * c<sub>i</sub> = a<sub>i</sub> * b<sub>j</sub> <br>
+     * </p>
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementMult( DMatrix8 a , DMatrix8 b , DMatrix8 c ) {
+        c.a1 = a.a1*b.a1;
+        c.a2 = a.a2*b.a2;
+        c.a3 = a.a3*b.a3;
+        c.a4 = a.a4*b.a4;
+        c.a5 = a.a5*b.a5;
+        c.a6 = a.a6*b.a6;
+        c.a7 = a.a7*b.a7;
+        c.a8 = a.a8*b.a8;
+    }
+
+    /**
+     * <p>Performs an element by element division operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Modified.
+     * @param b The right matrix in the division operation. Not modified.
+     */
+    public static void elementDiv( DMatrix8x8 a , DMatrix8x8 b) {
+        a.a11 /= b.a11; a.a12 /= b.a12; a.a13 /= b.a13; a.a14 /= b.a14; a.a15 /= b.a15; a.a16 /= b.a16; a.a17 /= b.a17; a.a18 /= b.a18;
+        a.a21 /= b.a21; a.a22 /= b.a22; a.a23 /= b.a23; a.a24 /= b.a24; a.a25 /= b.a25; a.a26 /= b.a26; a.a27 /= b.a27; a.a28 /= b.a28;
+        a.a31 /= b.a31; a.a32 /= b.a32; a.a33 /= b.a33; a.a34 /= b.a34; a.a35 /= b.a35; a.a36 /= b.a36; a.a37 /= b.a37; a.a38 /= b.a38;
+        a.a41 /= b.a41; a.a42 /= b.a42; a.a43 /= b.a43; a.a44 /= b.a44; a.a45 /= b.a45; a.a46 /= b.a46; a.a47 /= b.a47; a.a48 /= b.a48;
+        a.a51 /= b.a51; a.a52 /= b.a52; a.a53 /= b.a53; a.a54 /= b.a54; a.a55 /= b.a55; a.a56 /= b.a56; a.a57 /= b.a57; a.a58 /= b.a58;
+        a.a61 /= b.a61; a.a62 /= b.a62; a.a63 /= b.a63; a.a64 /= b.a64; a.a65 /= b.a65; a.a66 /= b.a66; a.a67 /= b.a67; a.a68 /= b.a68;
+        a.a71 /= b.a71; a.a72 /= b.a72; a.a73 /= b.a73; a.a74 /= b.a74; a.a75 /= b.a75; a.a76 /= b.a76; a.a77 /= b.a77; a.a78 /= b.a78;
+        a.a81 /= b.a81; a.a82 /= b.a82; a.a83 /= b.a83; a.a84 /= b.a84; a.a85 /= b.a85; a.a86 /= b.a86; a.a87 /= b.a87; a.a88 /= b.a88;
+    }
+
+    /**
+     * <p>Performs an element by element division operation:<br>
+     * <br>
+     * a<sub>i</sub> = a<sub>i</sub> / b<sub>i</sub> <br>
+     * </p>
+     * @param a The left vector in the division operation. Modified.
+     * @param b The right vector in the division operation. Not modified.
+     */
+    public static void elementDiv( DMatrix8 a , DMatrix8 b) {
+        a.a1 /= b.a1;
+        a.a2 /= b.a2;
+        a.a3 /= b.a3;
+        a.a4 /= b.a4;
+        a.a5 /= b.a5;
+        a.a6 /= b.a6;
+        a.a7 /= b.a7;
+        a.a8 /= b.a8;
+    }
+
+    /**
+     * <p>Performs an element by element division operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Not modified.
+     * @param b The right matrix in the division operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementDiv( DMatrix8x8 a , DMatrix8x8 b , DMatrix8x8 c ) {
+        c.a11 = a.a11/b.a11; c.a12 = a.a12/b.a12; c.a13 = a.a13/b.a13; c.a14 = a.a14/b.a14; c.a15 = a.a15/b.a15; c.a16 = a.a16/b.a16; c.a17 = a.a17/b.a17; c.a18 = a.a18/b.a18;
+        c.a21 = a.a21/b.a21; c.a22 = a.a22/b.a22; c.a23 = a.a23/b.a23; c.a24 = a.a24/b.a24; c.a25 = a.a25/b.a25; c.a26 = a.a26/b.a26; c.a27 = a.a27/b.a27; c.a28 = a.a28/b.a28;
+        c.a31 = a.a31/b.a31; c.a32 = a.a32/b.a32; c.a33 = a.a33/b.a33; c.a34 = a.a34/b.a34; c.a35 = a.a35/b.a35; c.a36 = a.a36/b.a36; c.a37 = a.a37/b.a37; c.a38 = a.a38/b.a38;
+        c.a41 = a.a41/b.a41; c.a42 = a.a42/b.a42; c.a43 = a.a43/b.a43; c.a44 = a.a44/b.a44; c.a45 = a.a45/b.a45; c.a46 = a.a46/b.a46; c.a47 = a.a47/b.a47; c.a48 = a.a48/b.a48;
+        c.a51 = a.a51/b.a51; c.a52 = a.a52/b.a52; c.a53 = a.a53/b.a53; c.a54 = a.a54/b.a54; c.a55 = a.a55/b.a55; c.a56 = a.a56/b.a56; c.a57 = a.a57/b.a57; c.a58 = a.a58/b.a58;
+        c.a61 = a.a61/b.a61; c.a62 = a.a62/b.a62; c.a63 = a.a63/b.a63; c.a64 = a.a64/b.a64; c.a65 = a.a65/b.a65; c.a66 = a.a66/b.a66; c.a67 = a.a67/b.a67; c.a68 = a.a68/b.a68;
+        c.a71 = a.a71/b.a71; c.a72 = a.a72/b.a72; c.a73 = a.a73/b.a73; c.a74 = a.a74/b.a74; c.a75 = a.a75/b.a75; c.a76 = a.a76/b.a76; c.a77 = a.a77/b.a77; c.a78 = a.a78/b.a78;
+        c.a81 = a.a81/b.a81; c.a82 = a.a82/b.a82; c.a83 = a.a83/b.a83; c.a84 = a.a84/b.a84; c.a85 = a.a85/b.a85; c.a86 = a.a86/b.a86; c.a87 = a.a87/b.a87; c.a88 = a.a88/b.a88;
+    }
+
+    /**
+     * <p>Performs an element by element division operation:<br>
+     * <br>
+     * c<sub>i</sub> = a<sub>i</sub> / b<sub>i</sub> <br>
+     * </p>
+     * @param a The left vector in the division operation. Not modified.
+     * @param b The right vector in the division operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementDiv( DMatrix8 a , DMatrix8 b , DMatrix8 c ) {
+        c.a1 = a.a1/b.a1;
+        c.a2 = a.a2/b.a2;
+        c.a3 = a.a3/b.a3;
+        c.a4 = a.a4/b.a4;
+        c.a5 = a.a5/b.a5;
+        c.a6 = a.a6/b.a6;
+        c.a7 = a.a7/b.a7;
+        c.a8 = a.a8/b.a8;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled. Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , DMatrix8x8 a ) {
+        a.a11 *= alpha; a.a12 *= alpha; a.a13 *= alpha; a.a14 *= alpha; a.a15 *= alpha; a.a16 *= alpha; a.a17 *= alpha; a.a18 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha; a.a23 *= alpha; a.a24 *= alpha; a.a25 *= alpha; a.a26 *= alpha; a.a27 *= alpha; a.a28 *= alpha;
+        a.a31 *= alpha; a.a32 *= alpha; a.a33 *= alpha; a.a34 *= alpha; a.a35 *= alpha; a.a36 *= alpha; a.a37 *= alpha; a.a38 *= alpha;
+        a.a41 *= alpha; a.a42 *= alpha; a.a43 *= alpha; a.a44 *= alpha; a.a45 *= alpha; a.a46 *= alpha; a.a47 *= alpha; a.a48 *= alpha;
+        a.a51 *= alpha; a.a52 *= alpha; a.a53 *= alpha; a.a54 *= alpha; a.a55 *= alpha; a.a56 *= alpha; a.a57 *= alpha; a.a58 *= alpha;
+        a.a61 *= alpha; a.a62 *= alpha; a.a63 *= alpha; a.a64 *= alpha; a.a65 *= alpha; a.a66 *= alpha; a.a67 *= alpha; a.a68 *= alpha;
+        a.a71 *= alpha; a.a72 *= alpha; a.a73 *= alpha; a.a74 *= alpha; a.a75 *= alpha; a.a76 *= alpha; a.a77 *= alpha; a.a78 *= alpha;
+        a.a81 *= alpha; a.a82 *= alpha; a.a83 *= alpha; a.a84 *= alpha; a.a85 *= alpha; a.a86 *= alpha; a.a87 *= alpha; a.a88 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The vector that is to be scaled. Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , DMatrix8 a ) {
+        a.a1 *= alpha;
+        a.a2 *= alpha;
+        a.a3 *= alpha;
+        a.a4 *= alpha;
+        a.a5 *= alpha;
+        a.a6 *= alpha;
+        a.a7 *= alpha;
+        a.a8 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , DMatrix8x8 a , DMatrix8x8 b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha; b.a13 = a.a13*alpha; b.a14 = a.a14*alpha; b.a15 = a.a15*alpha; b.a16 = a.a16*alpha; b.a17 = a.a17*alpha; b.a18 = a.a18*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha; b.a23 = a.a23*alpha; b.a24 = a.a24*alpha; b.a25 = a.a25*alpha; b.a26 = a.a26*alpha; b.a27 = a.a27*alpha; b.a28 = a.a28*alpha;
+        b.a31 = a.a31*alpha; b.a32 = a.a32*alpha; b.a33 = a.a33*alpha; b.a34 = a.a34*alpha; b.a35 = a.a35*alpha; b.a36 = a.a36*alpha; b.a37 = a.a37*alpha; b.a38 = a.a38*alpha;
+        b.a41 = a.a41*alpha; b.a42 = a.a42*alpha; b.a43 = a.a43*alpha; b.a44 = a.a44*alpha; b.a45 = a.a45*alpha; b.a46 = a.a46*alpha; b.a47 = a.a47*alpha; b.a48 = a.a48*alpha;
+        b.a51 = a.a51*alpha; b.a52 = a.a52*alpha; b.a53 = a.a53*alpha; b.a54 = a.a54*alpha; b.a55 = a.a55*alpha; b.a56 = a.a56*alpha; b.a57 = a.a57*alpha; b.a58 = a.a58*alpha;
+        b.a61 = a.a61*alpha; b.a62 = a.a62*alpha; b.a63 = a.a63*alpha; b.a64 = a.a64*alpha; b.a65 = a.a65*alpha; b.a66 = a.a66*alpha; b.a67 = a.a67*alpha; b.a68 = a.a68*alpha;
+        b.a71 = a.a71*alpha; b.a72 = a.a72*alpha; b.a73 = a.a73*alpha; b.a74 = a.a74*alpha; b.a75 = a.a75*alpha; b.a76 = a.a76*alpha; b.a77 = a.a77*alpha; b.a78 = a.a78*alpha;
+        b.a81 = a.a81*alpha; b.a82 = a.a82*alpha; b.a83 = a.a83*alpha; b.a84 = a.a84*alpha; b.a85 = a.a85*alpha; b.a86 = a.a86*alpha; b.a87 = a.a87*alpha; b.a88 = a.a88*alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>i</sub> = &alpha;*a<sub>i</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The vector that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , DMatrix8 a , DMatrix8 b ) {
+        b.a1 = a.a1*alpha;
+        b.a2 = a.a2*alpha;
+        b.a3 = a.a3*alpha;
+        b.a4 = a.a4*alpha;
+        b.a5 = a.a5*alpha;
+        b.a6 = a.a6*alpha;
+        b.a7 = a.a7*alpha;
+        b.a8 = a.a8*alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar division. Scalar denominator.<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub>/&alpha;
+     * </p>
+     *
+     * @param a The matrix whose elements are to be divided. Modified.
+     * @param alpha the amount each element is divided by.
+     */
+    public static void divide( DMatrix8x8 a , double alpha ) {
+        a.a11 /= alpha; a.a12 /= alpha; a.a13 /= alpha; a.a14 /= alpha; a.a15 /= alpha; a.a16 /= alpha; a.a17 /= alpha; a.a18 /= alpha;
+        a.a21 /= alpha; a.a22 /= alpha; a.a23 /= alpha; a.a24 /= alpha; a.a25 /= alpha; a.a26 /= alpha; a.a27 /= alpha; a.a28 /= alpha;
+        a.a31 /= alpha; a.a32 /= alpha; a.a33 /= alpha; a.a34 /= alpha; a.a35 /= alpha; a.a36 /= alpha; a.a37 /= alpha; a.a38 /= alpha;
+        a.a41 /= alpha; a.a42 /= alpha; a.a43 /= alpha; a.a44 /= alpha; a.a45 /= alpha; a.a46 /= alpha; a.a47 /= alpha; a.a48 /= alpha;
+        a.a51 /= alpha; a.a52 /= alpha; a.a53 /= alpha; a.a54 /= alpha; a.a55 /= alpha; a.a56 /= alpha; a.a57 /= alpha; a.a58 /= alpha;
+        a.a61 /= alpha; a.a62 /= alpha; a.a63 /= alpha; a.a64 /= alpha; a.a65 /= alpha; a.a66 /= alpha; a.a67 /= alpha; a.a68 /= alpha;
+        a.a71 /= alpha; a.a72 /= alpha; a.a73 /= alpha; a.a74 /= alpha; a.a75 /= alpha; a.a76 /= alpha; a.a77 /= alpha; a.a78 /= alpha;
+        a.a81 /= alpha; a.a82 /= alpha; a.a83 /= alpha; a.a84 /= alpha; a.a85 /= alpha; a.a86 /= alpha; a.a87 /= alpha; a.a88 /= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar division. Scalar denominator.<br>
+     * <br>
+     * a<sub>i</sub> = a<sub>i</sub>/&alpha;
+     * </p>
+     *
+     * @param a The vector whose elements are to be divided. Modified.
+     * @param alpha the amount each element is divided by.
+     */
+    public static void divide( DMatrix8 a , double alpha ) {
+        a.a1 /= alpha;
+        a.a2 /= alpha;
+        a.a3 /= alpha;
+        a.a4 /= alpha;
+        a.a5 /= alpha;
+        a.a6 /= alpha;
+        a.a7 /= alpha;
+        a.a8 /= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar division. Scalar denominator.<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ij</sub> /&alpha;
+     * </p>
+     *
+     * @param alpha the amount each element is divided by.
+     * @param a The matrix whose elements are to be divided. Not modified.
+     * @param b Where the results are stored. Modified.
+     */
+    public static void divide( DMatrix8x8 a , double alpha , DMatrix8x8 b ) {
+        b.a11 = a.a11/alpha; b.a12 = a.a12/alpha; b.a13 = a.a13/alpha; b.a14 = a.a14/alpha; b.a15 = a.a15/alpha; b.a16 = a.a16/alpha; b.a17 = a.a17/alpha; b.a18 = a.a18/alpha;
+        b.a21 = a.a21/alpha; b.a22 = a.a22/alpha; b.a23 = a.a23/alpha; b.a24 = a.a24/alpha; b.a25 = a.a25/alpha; b.a26 = a.a26/alpha; b.a27 = a.a27/alpha; b.a28 = a.a28/alpha;
+        b.a31 = a.a31/alpha; b.a32 = a.a32/alpha; b.a33 = a.a33/alpha; b.a34 = a.a34/alpha; b.a35 = a.a35/alpha; b.a36 = a.a36/alpha; b.a37 = a.a37/alpha; b.a38 = a.a38/alpha;
+        b.a41 = a.a41/alpha; b.a42 = a.a42/alpha; b.a43 = a.a43/alpha; b.a44 = a.a44/alpha; b.a45 = a.a45/alpha; b.a46 = a.a46/alpha; b.a47 = a.a47/alpha; b.a48 = a.a48/alpha;
+        b.a51 = a.a51/alpha; b.a52 = a.a52/alpha; b.a53 = a.a53/alpha; b.a54 = a.a54/alpha; b.a55 = a.a55/alpha; b.a56 = a.a56/alpha; b.a57 = a.a57/alpha; b.a58 = a.a58/alpha;
+        b.a61 = a.a61/alpha; b.a62 = a.a62/alpha; b.a63 = a.a63/alpha; b.a64 = a.a64/alpha; b.a65 = a.a65/alpha; b.a66 = a.a66/alpha; b.a67 = a.a67/alpha; b.a68 = a.a68/alpha;
+        b.a71 = a.a71/alpha; b.a72 = a.a72/alpha; b.a73 = a.a73/alpha; b.a74 = a.a74/alpha; b.a75 = a.a75/alpha; b.a76 = a.a76/alpha; b.a77 = a.a77/alpha; b.a78 = a.a78/alpha;
+        b.a81 = a.a81/alpha; b.a82 = a.a82/alpha; b.a83 = a.a83/alpha; b.a84 = a.a84/alpha; b.a85 = a.a85/alpha; b.a86 = a.a86/alpha; b.a87 = a.a87/alpha; b.a88 = a.a88/alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar division. Scalar denominator.<br>
+     * <br>
+     * b<sub>i</sub> = a<sub>i</sub> /&alpha;
+     * </p>
+     *
+     * @param alpha the amount each element is divided by.
+     * @param a The vector whose elements are to be divided. Not modified.
+     * @param b Where the results are stored. Modified.
+     */
+    public static void divide( DMatrix8 a , double alpha , DMatrix8 b ) {
+        b.a1 = a.a1/alpha;
+        b.a2 = a.a2/alpha;
+        b.a3 = a.a3/alpha;
+        b.a4 = a.a4/alpha;
+        b.a5 = a.a5/alpha;
+        b.a6 = a.a6/alpha;
+        b.a7 = a.a7/alpha;
+        b.a8 = a.a8/alpha;
+    }
+
+    /**
+     * <p>
+     * Changes the sign of every element in the matrix.<br>
+     * <br>
+     * a<sub>ij</sub> = -a<sub>ij</sub>
+     * </p>
+     *
+     * @param a A matrix. Modified.
+     */
+    public static void changeSign( DMatrix8x8 a )
+    {
+        a.a11 = -a.a11; a.a12 = -a.a12; a.a13 = -a.a13; a.a14 = -a.a14; a.a15 = -a.a15; a.a16 = -a.a16; a.a17 = -a.a17; a.a18 = -a.a18;
+        a.a21 = -a.a21; a.a22 = -a.a22; a.a23 = -a.a23; a.a24 = -a.a24; a.a25 = -a.a25; a.a26 = -a.a26; a.a27 = -a.a27; a.a28 = -a.a28;
+        a.a31 = -a.a31; a.a32 = -a.a32; a.a33 = -a.a33; a.a34 = -a.a34; a.a35 = -a.a35; a.a36 = -a.a36; a.a37 = -a.a37; a.a38 = -a.a38;
+        a.a41 = -a.a41; a.a42 = -a.a42; a.a43 = -a.a43; a.a44 = -a.a44; a.a45 = -a.a45; a.a46 = -a.a46; a.a47 = -a.a47; a.a48 = -a.a48;
+        a.a51 = -a.a51; a.a52 = -a.a52; a.a53 = -a.a53; a.a54 = -a.a54; a.a55 = -a.a55; a.a56 = -a.a56; a.a57 = -a.a57; a.a58 = -a.a58;
+        a.a61 = -a.a61; a.a62 = -a.a62; a.a63 = -a.a63; a.a64 = -a.a64; a.a65 = -a.a65; a.a66 = -a.a66; a.a67 = -a.a67; a.a68 = -a.a68;
+        a.a71 = -a.a71; a.a72 = -a.a72; a.a73 = -a.a73; a.a74 = -a.a74; a.a75 = -a.a75; a.a76 = -a.a76; a.a77 = -a.a77; a.a78 = -a.a78;
+        a.a81 = -a.a81; a.a82 = -a.a82; a.a83 = -a.a83; a.a84 = -a.a84; a.a85 = -a.a85; a.a86 = -a.a86; a.a87 = -a.a87; a.a88 = -a.a88;
+    }
+
+    /**
+     * <p>
+     * Changes the sign of every element in the vector.<br>
+     * <br>
+     * a<sub>i</sub> = -a<sub>i</sub>
+     * </p>
+     *
+     * @param a A vector. Modified.
+     */
+    public static void changeSign( DMatrix8 a )
+    {
+        a.a1 = -a.a1;
+        a.a2 = -a.a2;
+        a.a3 = -a.a3;
+        a.a4 = -a.a4;
+        a.a5 = -a.a5;
+        a.a6 = -a.a6;
+        a.a7 = -a.a7;
+        a.a8 = -a.a8;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( DMatrix8x8 a , double v  ) {
+        a.a11 = v; a.a12 = v; a.a13 = v; a.a14 = v; a.a15 = v; a.a16 = v; a.a17 = v; a.a18 = v;
+        a.a21 = v; a.a22 = v; a.a23 = v; a.a24 = v; a.a25 = v; a.a26 = v; a.a27 = v; a.a28 = v;
+        a.a31 = v; a.a32 = v; a.a33 = v; a.a34 = v; a.a35 = v; a.a36 = v; a.a37 = v; a.a38 = v;
+        a.a41 = v; a.a42 = v; a.a43 = v; a.a44 = v; a.a45 = v; a.a46 = v; a.a47 = v; a.a48 = v;
+        a.a51 = v; a.a52 = v; a.a53 = v; a.a54 = v; a.a55 = v; a.a56 = v; a.a57 = v; a.a58 = v;
+        a.a61 = v; a.a62 = v; a.a63 = v; a.a64 = v; a.a65 = v; a.a66 = v; a.a67 = v; a.a68 = v;
+        a.a71 = v; a.a72 = v; a.a73 = v; a.a74 = v; a.a75 = v; a.a76 = v; a.a77 = v; a.a78 = v;
+        a.a81 = v; a.a82 = v; a.a83 = v; a.a84 = v; a.a85 = v; a.a86 = v; a.a87 = v; a.a88 = v;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the vector to the specified value.<br>
+     * <br>
+     * a<sub>i</sub> = value
+     * <p>
+     *
+     * @param a A vector whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( DMatrix8 a , double v  ) {
+        a.a1 = v;
+        a.a2 = v;
+        a.a3 = v;
+        a.a4 = v;
+        a.a5 = v;
+        a.a6 = v;
+        a.a7 = v;
+        a.a8 = v;
+    }
+
+    /**
+     * Extracts the row from the matrix a.
+     * @param a Input matrix
+     * @param row Which row is to be extracted
+     * @param out output. Storage for the extracted row. If null then a new vector will be returned.
+     * @return The extracted row.
+     */
+    public static DMatrix8 extractRow( DMatrix8x8 a , int row , DMatrix8 out ) {
+        if( out == null) out = new DMatrix8();
+        switch( row ) {
+            case 0:
+                out.a1 = a.a11;
+                out.a2 = a.a12;
+                out.a3 = a.a13;
+                out.a4 = a.a14;
+                out.a5 = a.a15;
+                out.a6 = a.a16;
+                out.a7 = a.a17;
+                out.a8 = a.a18;
+            break;
+            case 1:
+                out.a1 = a.a21;
+                out.a2 = a.a22;
+                out.a3 = a.a23;
+                out.a4 = a.a24;
+                out.a5 = a.a25;
+                out.a6 = a.a26;
+                out.a7 = a.a27;
+                out.a8 = a.a28;
+            break;
+            case 2:
+                out.a1 = a.a31;
+                out.a2 = a.a32;
+                out.a3 = a.a33;
+                out.a4 = a.a34;
+                out.a5 = a.a35;
+                out.a6 = a.a36;
+                out.a7 = a.a37;
+                out.a8 = a.a38;
+            break;
+            case 3:
+                out.a1 = a.a41;
+                out.a2 = a.a42;
+                out.a3 = a.a43;
+                out.a4 = a.a44;
+                out.a5 = a.a45;
+                out.a6 = a.a46;
+                out.a7 = a.a47;
+                out.a8 = a.a48;
+            break;
+            case 4:
+                out.a1 = a.a51;
+                out.a2 = a.a52;
+                out.a3 = a.a53;
+                out.a4 = a.a54;
+                out.a5 = a.a55;
+                out.a6 = a.a56;
+                out.a7 = a.a57;
+                out.a8 = a.a58;
+            break;
+            case 5:
+                out.a1 = a.a61;
+                out.a2 = a.a62;
+                out.a3 = a.a63;
+                out.a4 = a.a64;
+                out.a5 = a.a65;
+                out.a6 = a.a66;
+                out.a7 = a.a67;
+                out.a8 = a.a68;
+            break;
+            case 6:
+                out.a1 = a.a71;
+                out.a2 = a.a72;
+                out.a3 = a.a73;
+                out.a4 = a.a74;
+                out.a5 = a.a75;
+                out.a6 = a.a76;
+                out.a7 = a.a77;
+                out.a8 = a.a78;
+            break;
+            case 7:
+                out.a1 = a.a81;
+                out.a2 = a.a82;
+                out.a3 = a.a83;
+                out.a4 = a.a84;
+                out.a5 = a.a85;
+                out.a6 = a.a86;
+                out.a7 = a.a87;
+                out.a8 = a.a88;
+            break;
+            default:
+                throw new IllegalArgumentException("Out of bounds row. row = "+row);
+        }
+        return out;
+    }
+
+    /**
+     * Extracts the column from the matrix a.
+     * @param a Input matrix
+     * @param column Which column is to be extracted
+     * @param out output. Storage for the extracted column. If null then a new vector will be returned.
+     * @return The extracted column.
+     */
+    public static DMatrix8 extractColumn( DMatrix8x8 a , int column , DMatrix8 out ) {
+        if( out == null) out = new DMatrix8();
+        switch( column ) {
+            case 0:
+                out.a1 = a.a11;
+                out.a2 = a.a21;
+                out.a3 = a.a31;
+                out.a4 = a.a41;
+                out.a5 = a.a51;
+                out.a6 = a.a61;
+                out.a7 = a.a71;
+                out.a8 = a.a81;
+            break;
+            case 1:
+                out.a1 = a.a12;
+                out.a2 = a.a22;
+                out.a3 = a.a32;
+                out.a4 = a.a42;
+                out.a5 = a.a52;
+                out.a6 = a.a62;
+                out.a7 = a.a72;
+                out.a8 = a.a82;
+            break;
+            case 2:
+                out.a1 = a.a13;
+                out.a2 = a.a23;
+                out.a3 = a.a33;
+                out.a4 = a.a43;
+                out.a5 = a.a53;
+                out.a6 = a.a63;
+                out.a7 = a.a73;
+                out.a8 = a.a83;
+            break;
+            case 3:
+                out.a1 = a.a14;
+                out.a2 = a.a24;
+                out.a3 = a.a34;
+                out.a4 = a.a44;
+                out.a5 = a.a54;
+                out.a6 = a.a64;
+                out.a7 = a.a74;
+                out.a8 = a.a84;
+            break;
+            case 4:
+                out.a1 = a.a15;
+                out.a2 = a.a25;
+                out.a3 = a.a35;
+                out.a4 = a.a45;
+                out.a5 = a.a55;
+                out.a6 = a.a65;
+                out.a7 = a.a75;
+                out.a8 = a.a85;
+            break;
+            case 5:
+                out.a1 = a.a16;
+                out.a2 = a.a26;
+                out.a3 = a.a36;
+                out.a4 = a.a46;
+                out.a5 = a.a56;
+                out.a6 = a.a66;
+                out.a7 = a.a76;
+                out.a8 = a.a86;
+            break;
+            case 6:
+                out.a1 = a.a17;
+                out.a2 = a.a27;
+                out.a3 = a.a37;
+                out.a4 = a.a47;
+                out.a5 = a.a57;
+                out.a6 = a.a67;
+                out.a7 = a.a77;
+                out.a8 = a.a87;
+            break;
+            case 7:
+                out.a1 = a.a18;
+                out.a2 = a.a28;
+                out.a3 = a.a38;
+                out.a4 = a.a48;
+                out.a5 = a.a58;
+                out.a6 = a.a68;
+                out.a7 = a.a78;
+                out.a8 = a.a88;
+            break;
+            default:
+                throw new IllegalArgumentException("Out of bounds column. column = "+column);
+        }
+        return out;
+    }
+
+}
+
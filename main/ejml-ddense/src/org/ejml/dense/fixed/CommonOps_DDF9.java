@@ -0,0 +1,3931 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix9;
+import org.ejml.data.DMatrix9x9;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>Common matrix operations for fixed sized matrices which are 9 x 9 or 9 element vectors.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateCommonOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateCommonOps_DDF")
+public class CommonOps_DDF9 {
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a13 = a.a13 + b.a13;
+        c.a14 = a.a14 + b.a14;
+        c.a15 = a.a15 + b.a15;
+        c.a16 = a.a16 + b.a16;
+        c.a17 = a.a17 + b.a17;
+        c.a18 = a.a18 + b.a18;
+        c.a19 = a.a19 + b.a19;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a23 = a.a23 + b.a23;
+        c.a24 = a.a24 + b.a24;
+        c.a25 = a.a25 + b.a25;
+        c.a26 = a.a26 + b.a26;
+        c.a27 = a.a27 + b.a27;
+        c.a28 = a.a28 + b.a28;
+        c.a29 = a.a29 + b.a29;
+        c.a31 = a.a31 + b.a31;
+        c.a32 = a.a32 + b.a32;
+        c.a33 = a.a33 + b.a33;
+        c.a34 = a.a34 + b.a34;
+        c.a35 = a.a35 + b.a35;
+        c.a36 = a.a36 + b.a36;
+        c.a37 = a.a37 + b.a37;
+        c.a38 = a.a38 + b.a38;
+        c.a39 = a.a39 + b.a39;
+        c.a41 = a.a41 + b.a41;
+        c.a42 = a.a42 + b.a42;
+        c.a43 = a.a43 + b.a43;
+        c.a44 = a.a44 + b.a44;
+        c.a45 = a.a45 + b.a45;
+        c.a46 = a.a46 + b.a46;
+        c.a47 = a.a47 + b.a47;
+        c.a48 = a.a48 + b.a48;
+        c.a49 = a.a49 + b.a49;
+        c.a51 = a.a51 + b.a51;
+        c.a52 = a.a52 + b.a52;
+        c.a53 = a.a53 + b.a53;
+        c.a54 = a.a54 + b.a54;
+        c.a55 = a.a55 + b.a55;
+        c.a56 = a.a56 + b.a56;
+        c.a57 = a.a57 + b.a57;
+        c.a58 = a.a58 + b.a58;
+        c.a59 = a.a59 + b.a59;
+        c.a61 = a.a61 + b.a61;
+        c.a62 = a.a62 + b.a62;
+        c.a63 = a.a63 + b.a63;
+        c.a64 = a.a64 + b.a64;
+        c.a65 = a.a65 + b.a65;
+        c.a66 = a.a66 + b.a66;
+        c.a67 = a.a67 + b.a67;
+        c.a68 = a.a68 + b.a68;
+        c.a69 = a.a69 + b.a69;
+        c.a71 = a.a71 + b.a71;
+        c.a72 = a.a72 + b.a72;
+        c.a73 = a.a73 + b.a73;
+        c.a74 = a.a74 + b.a74;
+        c.a75 = a.a75 + b.a75;
+        c.a76 = a.a76 + b.a76;
+        c.a77 = a.a77 + b.a77;
+        c.a78 = a.a78 + b.a78;
+        c.a79 = a.a79 + b.a79;
+        c.a81 = a.a81 + b.a81;
+        c.a82 = a.a82 + b.a82;
+        c.a83 = a.a83 + b.a83;
+        c.a84 = a.a84 + b.a84;
+        c.a85 = a.a85 + b.a85;
+        c.a86 = a.a86 + b.a86;
+        c.a87 = a.a87 + b.a87;
+        c.a88 = a.a88 + b.a88;
+        c.a89 = a.a89 + b.a89;
+        c.a91 = a.a91 + b.a91;
+        c.a92 = a.a92 + b.a92;
+        c.a93 = a.a93 + b.a93;
+        c.a94 = a.a94 + b.a94;
+        c.a95 = a.a95 + b.a95;
+        c.a96 = a.a96 + b.a96;
+        c.a97 = a.a97 + b.a97;
+        c.a98 = a.a98 + b.a98;
+        c.a99 = a.a99 + b.a99;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>i</sub> = a<sub>i</sub> + b<sub>i</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Vector C can be the same instance as Vector A and/or B.
+     * </p>
+     *
+     * @param a A Vector. Not modified.
+     * @param b A Vector. Not modified.
+     * @param c A Vector where the results are stored. Modified.
+     */
+    public static void add( DMatrix9 a , DMatrix9 b , DMatrix9 c ) {
+        c.a1 = a.a1 + b.a1;
+        c.a2 = a.a2 + b.a2;
+        c.a3 = a.a3 + b.a3;
+        c.a4 = a.a4 + b.a4;
+        c.a5 = a.a5 + b.a5;
+        c.a6 = a.a6 + b.a6;
+        c.a7 = a.a7 + b.a7;
+        c.a8 = a.a8 + b.a8;
+        c.a9 = a.a9 + b.a9;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a + b <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * @param a A Matrix. Modified.
+     * @param b A Matrix. Not modified.
+     */
+    public static void addEquals( DMatrix9x9 a , DMatrix9x9 b ) {
+        a.a11 += b.a11;
+        a.a12 += b.a12;
+        a.a13 += b.a13;
+        a.a14 += b.a14;
+        a.a15 += b.a15;
+        a.a16 += b.a16;
+        a.a17 += b.a17;
+        a.a18 += b.a18;
+        a.a19 += b.a19;
+        a.a21 += b.a21;
+        a.a22 += b.a22;
+        a.a23 += b.a23;
+        a.a24 += b.a24;
+        a.a25 += b.a25;
+        a.a26 += b.a26;
+        a.a27 += b.a27;
+        a.a28 += b.a28;
+        a.a29 += b.a29;
+        a.a31 += b.a31;
+        a.a32 += b.a32;
+        a.a33 += b.a33;
+        a.a34 += b.a34;
+        a.a35 += b.a35;
+        a.a36 += b.a36;
+        a.a37 += b.a37;
+        a.a38 += b.a38;
+        a.a39 += b.a39;
+        a.a41 += b.a41;
+        a.a42 += b.a42;
+        a.a43 += b.a43;
+        a.a44 += b.a44;
+        a.a45 += b.a45;
+        a.a46 += b.a46;
+        a.a47 += b.a47;
+        a.a48 += b.a48;
+        a.a49 += b.a49;
+        a.a51 += b.a51;
+        a.a52 += b.a52;
+        a.a53 += b.a53;
+        a.a54 += b.a54;
+        a.a55 += b.a55;
+        a.a56 += b.a56;
+        a.a57 += b.a57;
+        a.a58 += b.a58;
+        a.a59 += b.a59;
+        a.a61 += b.a61;
+        a.a62 += b.a62;
+        a.a63 += b.a63;
+        a.a64 += b.a64;
+        a.a65 += b.a65;
+        a.a66 += b.a66;
+        a.a67 += b.a67;
+        a.a68 += b.a68;
+        a.a69 += b.a69;
+        a.a71 += b.a71;
+        a.a72 += b.a72;
+        a.a73 += b.a73;
+        a.a74 += b.a74;
+        a.a75 += b.a75;
+        a.a76 += b.a76;
+        a.a77 += b.a77;
+        a.a78 += b.a78;
+        a.a79 += b.a79;
+        a.a81 += b.a81;
+        a.a82 += b.a82;
+        a.a83 += b.a83;
+        a.a84 += b.a84;
+        a.a85 += b.a85;
+        a.a86 += b.a86;
+        a.a87 += b.a87;
+        a.a88 += b.a88;
+        a.a89 += b.a89;
+        a.a91 += b.a91;
+        a.a92 += b.a92;
+        a.a93 += b.a93;
+        a.a94 += b.a94;
+        a.a95 += b.a95;
+        a.a96 += b.a96;
+        a.a97 += b.a97;
+        a.a98 += b.a98;
+        a.a99 += b.a99;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a + b <br>
+     * a<sub>i</sub> = a<sub>i</sub> + b<sub>i</sub> <br>
+     * </p>
+     *
+     * @param a A Vector. Modified.
+     * @param b A Vector. Not modified.
+     */
+    public static void addEquals( DMatrix9 a , DMatrix9 b ) {
+        a.a1 += b.a1;
+        a.a2 += b.a2;
+        a.a3 += b.a3;
+        a.a4 += b.a4;
+        a.a5 += b.a5;
+        a.a6 += b.a6;
+        a.a7 += b.a7;
+        a.a8 += b.a8;
+        a.a9 += b.a9;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void subtract( DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c ) {
+        c.a11 = a.a11 - b.a11;
+        c.a12 = a.a12 - b.a12;
+        c.a13 = a.a13 - b.a13;
+        c.a14 = a.a14 - b.a14;
+        c.a15 = a.a15 - b.a15;
+        c.a16 = a.a16 - b.a16;
+        c.a17 = a.a17 - b.a17;
+        c.a18 = a.a18 - b.a18;
+        c.a19 = a.a19 - b.a19;
+        c.a21 = a.a21 - b.a21;
+        c.a22 = a.a22 - b.a22;
+        c.a23 = a.a23 - b.a23;
+        c.a24 = a.a24 - b.a24;
+        c.a25 = a.a25 - b.a25;
+        c.a26 = a.a26 - b.a26;
+        c.a27 = a.a27 - b.a27;
+        c.a28 = a.a28 - b.a28;
+        c.a29 = a.a29 - b.a29;
+        c.a31 = a.a31 - b.a31;
+        c.a32 = a.a32 - b.a32;
+        c.a33 = a.a33 - b.a33;
+        c.a34 = a.a34 - b.a34;
+        c.a35 = a.a35 - b.a35;
+        c.a36 = a.a36 - b.a36;
+        c.a37 = a.a37 - b.a37;
+        c.a38 = a.a38 - b.a38;
+        c.a39 = a.a39 - b.a39;
+        c.a41 = a.a41 - b.a41;
+        c.a42 = a.a42 - b.a42;
+        c.a43 = a.a43 - b.a43;
+        c.a44 = a.a44 - b.a44;
+        c.a45 = a.a45 - b.a45;
+        c.a46 = a.a46 - b.a46;
+        c.a47 = a.a47 - b.a47;
+        c.a48 = a.a48 - b.a48;
+        c.a49 = a.a49 - b.a49;
+        c.a51 = a.a51 - b.a51;
+        c.a52 = a.a52 - b.a52;
+        c.a53 = a.a53 - b.a53;
+        c.a54 = a.a54 - b.a54;
+        c.a55 = a.a55 - b.a55;
+        c.a56 = a.a56 - b.a56;
+        c.a57 = a.a57 - b.a57;
+        c.a58 = a.a58 - b.a58;
+        c.a59 = a.a59 - b.a59;
+        c.a61 = a.a61 - b.a61;
+        c.a62 = a.a62 - b.a62;
+        c.a63 = a.a63 - b.a63;
+        c.a64 = a.a64 - b.a64;
+        c.a65 = a.a65 - b.a65;
+        c.a66 = a.a66 - b.a66;
+        c.a67 = a.a67 - b.a67;
+        c.a68 = a.a68 - b.a68;
+        c.a69 = a.a69 - b.a69;
+        c.a71 = a.a71 - b.a71;
+        c.a72 = a.a72 - b.a72;
+        c.a73 = a.a73 - b.a73;
+        c.a74 = a.a74 - b.a74;
+        c.a75 = a.a75 - b.a75;
+        c.a76 = a.a76 - b.a76;
+        c.a77 = a.a77 - b.a77;
+        c.a78 = a.a78 - b.a78;
+        c.a79 = a.a79 - b.a79;
+        c.a81 = a.a81 - b.a81;
+        c.a82 = a.a82 - b.a82;
+        c.a83 = a.a83 - b.a83;
+        c.a84 = a.a84 - b.a84;
+        c.a85 = a.a85 - b.a85;
+        c.a86 = a.a86 - b.a86;
+        c.a87 = a.a87 - b.a87;
+        c.a88 = a.a88 - b.a88;
+        c.a89 = a.a89 - b.a89;
+        c.a91 = a.a91 - b.a91;
+        c.a92 = a.a92 - b.a92;
+        c.a93 = a.a93 - b.a93;
+        c.a94 = a.a94 - b.a94;
+        c.a95 = a.a95 - b.a95;
+        c.a96 = a.a96 - b.a96;
+        c.a97 = a.a97 - b.a97;
+        c.a98 = a.a98 - b.a98;
+        c.a99 = a.a99 - b.a99;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * c<sub>i</sub> = a<sub>i</sub> - b<sub>i</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Vector C can be the same instance as Vector A and/or B.
+     * </p>
+     *
+     * @param a A Vector. Not modified.
+     * @param b A Vector. Not modified.
+     * @param c A Vector where the results are stored. Modified.
+     */
+    public static void subtract( DMatrix9 a , DMatrix9 b , DMatrix9 c ) {
+        c.a1 = a.a1 - b.a1;
+        c.a2 = a.a2 - b.a2;
+        c.a3 = a.a3 - b.a3;
+        c.a4 = a.a4 - b.a4;
+        c.a5 = a.a5 - b.a5;
+        c.a6 = a.a6 - b.a6;
+        c.a7 = a.a7 - b.a7;
+        c.a8 = a.a8 - b.a8;
+        c.a9 = a.a9 - b.a9;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a - b <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>
+     * </p>
+     *
+     * @param a A Matrix. Modified.
+     * @param b A Matrix. Not modified.
+     */
+    public static void subtractEquals( DMatrix9x9 a , DMatrix9x9 b ) {
+        a.a11 -= b.a11;
+        a.a12 -= b.a12;
+        a.a13 -= b.a13;
+        a.a14 -= b.a14;
+        a.a15 -= b.a15;
+        a.a16 -= b.a16;
+        a.a17 -= b.a17;
+        a.a18 -= b.a18;
+        a.a19 -= b.a19;
+        a.a21 -= b.a21;
+        a.a22 -= b.a22;
+        a.a23 -= b.a23;
+        a.a24 -= b.a24;
+        a.a25 -= b.a25;
+        a.a26 -= b.a26;
+        a.a27 -= b.a27;
+        a.a28 -= b.a28;
+        a.a29 -= b.a29;
+        a.a31 -= b.a31;
+        a.a32 -= b.a32;
+        a.a33 -= b.a33;
+        a.a34 -= b.a34;
+        a.a35 -= b.a35;
+        a.a36 -= b.a36;
+        a.a37 -= b.a37;
+        a.a38 -= b.a38;
+        a.a39 -= b.a39;
+        a.a41 -= b.a41;
+        a.a42 -= b.a42;
+        a.a43 -= b.a43;
+        a.a44 -= b.a44;
+        a.a45 -= b.a45;
+        a.a46 -= b.a46;
+        a.a47 -= b.a47;
+        a.a48 -= b.a48;
+        a.a49 -= b.a49;
+        a.a51 -= b.a51;
+        a.a52 -= b.a52;
+        a.a53 -= b.a53;
+        a.a54 -= b.a54;
+        a.a55 -= b.a55;
+        a.a56 -= b.a56;
+        a.a57 -= b.a57;
+        a.a58 -= b.a58;
+        a.a59 -= b.a59;
+        a.a61 -= b.a61;
+        a.a62 -= b.a62;
+        a.a63 -= b.a63;
+        a.a64 -= b.a64;
+        a.a65 -= b.a65;
+        a.a66 -= b.a66;
+        a.a67 -= b.a67;
+        a.a68 -= b.a68;
+        a.a69 -= b.a69;
+        a.a71 -= b.a71;
+        a.a72 -= b.a72;
+        a.a73 -= b.a73;
+        a.a74 -= b.a74;
+        a.a75 -= b.a75;
+        a.a76 -= b.a76;
+        a.a77 -= b.a77;
+        a.a78 -= b.a78;
+        a.a79 -= b.a79;
+        a.a81 -= b.a81;
+        a.a82 -= b.a82;
+        a.a83 -= b.a83;
+        a.a84 -= b.a84;
+        a.a85 -= b.a85;
+        a.a86 -= b.a86;
+        a.a87 -= b.a87;
+        a.a88 -= b.a88;
+        a.a89 -= b.a89;
+        a.a91 -= b.a91;
+        a.a92 -= b.a92;
+        a.a93 -= b.a93;
+        a.a94 -= b.a94;
+        a.a95 -= b.a95;
+        a.a96 -= b.a96;
+        a.a97 -= b.a97;
+        a.a98 -= b.a98;
+        a.a99 -= b.a99;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a - b <br>
+     * a<sub>i</sub> = a<sub>i</sub> - b<sub>i</sub> <br>
+     * </p>
+     *
+     * @param a A Vector. Modified.
+     * @param b A Vector. Not modified.
+     */
+    public static void subtractEquals( DMatrix9 a , DMatrix9 b ) {
+        a.a1 -= b.a1;
+        a.a2 -= b.a2;
+        a.a3 -= b.a3;
+        a.a4 -= b.a4;
+        a.a5 -= b.a5;
+        a.a6 -= b.a6;
+        a.a7 -= b.a7;
+        a.a8 -= b.a8;
+        a.a9 -= b.a9;
+    }
+
+    /**
+     * Performs an in-place transpose. This algorithm is only efficient for square
+     * matrices.
+     *
+     * @param m The matrix that is to be transposed. Modified.
+     */
+    public static void transpose( DMatrix9x9 m ) {
+        double tmp;
+        tmp = m.a12; m.a12 = m.a21; m.a21 = tmp;
+        tmp = m.a13; m.a13 = m.a31; m.a31 = tmp;
+        tmp = m.a14; m.a14 = m.a41; m.a41 = tmp;
+        tmp = m.a15; m.a15 = m.a51; m.a51 = tmp;
+        tmp = m.a16; m.a16 = m.a61; m.a61 = tmp;
+        tmp = m.a17; m.a17 = m.a71; m.a71 = tmp;
+        tmp = m.a18; m.a18 = m.a81; m.a81 = tmp;
+        tmp = m.a19; m.a19 = m.a91; m.a91 = tmp;
+        tmp = m.a23; m.a23 = m.a32; m.a32 = tmp;
+        tmp = m.a24; m.a24 = m.a42; m.a42 = tmp;
+        tmp = m.a25; m.a25 = m.a52; m.a52 = tmp;
+        tmp = m.a26; m.a26 = m.a62; m.a62 = tmp;
+        tmp = m.a27; m.a27 = m.a72; m.a72 = tmp;
+        tmp = m.a28; m.a28 = m.a82; m.a82 = tmp;
+        tmp = m.a29; m.a29 = m.a92; m.a92 = tmp;
+        tmp = m.a34; m.a34 = m.a43; m.a43 = tmp;
+        tmp = m.a35; m.a35 = m.a53; m.a53 = tmp;
+        tmp = m.a36; m.a36 = m.a63; m.a63 = tmp;
+        tmp = m.a37; m.a37 = m.a73; m.a73 = tmp;
+        tmp = m.a38; m.a38 = m.a83; m.a83 = tmp;
+        tmp = m.a39; m.a39 = m.a93; m.a93 = tmp;
+        tmp = m.a45; m.a45 = m.a54; m.a54 = tmp;
+        tmp = m.a46; m.a46 = m.a64; m.a64 = tmp;
+        tmp = m.a47; m.a47 = m.a74; m.a74 = tmp;
+        tmp = m.a48; m.a48 = m.a84; m.a84 = tmp;
+        tmp = m.a49; m.a49 = m.a94; m.a94 = tmp;
+        tmp = m.a56; m.a56 = m.a65; m.a65 = tmp;
+        tmp = m.a57; m.a57 = m.a75; m.a75 = tmp;
+        tmp = m.a58; m.a58 = m.a85; m.a85 = tmp;
+        tmp = m.a59; m.a59 = m.a95; m.a95 = tmp;
+        tmp = m.a67; m.a67 = m.a76; m.a76 = tmp;
+        tmp = m.a68; m.a68 = m.a86; m.a86 = tmp;
+        tmp = m.a69; m.a69 = m.a96; m.a96 = tmp;
+        tmp = m.a78; m.a78 = m.a87; m.a87 = tmp;
+        tmp = m.a79; m.a79 = m.a97; m.a97 = tmp;
+        tmp = m.a89; m.a89 = m.a98; m.a98 = tmp;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix. Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static DMatrix9x9 transpose( DMatrix9x9 input , DMatrix9x9 output ) {
+        if( input == null )
+            input = new DMatrix9x9();
+
+        UtilEjml.checkSameInstance(input,output);
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a13 = input.a31;
+        output.a14 = input.a41;
+        output.a15 = input.a51;
+        output.a16 = input.a61;
+        output.a17 = input.a71;
+        output.a18 = input.a81;
+        output.a19 = input.a91;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a23 = input.a32;
+        output.a24 = input.a42;
+        output.a25 = input.a52;
+        output.a26 = input.a62;
+        output.a27 = input.a72;
+        output.a28 = input.a82;
+        output.a29 = input.a92;
+        output.a31 = input.a13;
+        output.a32 = input.a23;
+        output.a33 = input.a33;
+        output.a34 = input.a43;
+        output.a35 = input.a53;
+        output.a36 = input.a63;
+        output.a37 = input.a73;
+        output.a38 = input.a83;
+        output.a39 = input.a93;
+        output.a41 = input.a14;
+        output.a42 = input.a24;
+        output.a43 = input.a34;
+        output.a44 = input.a44;
+        output.a45 = input.a54;
+        output.a46 = input.a64;
+        output.a47 = input.a74;
+        output.a48 = input.a84;
+        output.a49 = input.a94;
+        output.a51 = input.a15;
+        output.a52 = input.a25;
+        output.a53 = input.a35;
+        output.a54 = input.a45;
+        output.a55 = input.a55;
+        output.a56 = input.a65;
+        output.a57 = input.a75;
+        output.a58 = input.a85;
+        output.a59 = input.a95;
+        output.a61 = input.a16;
+        output.a62 = input.a26;
+        output.a63 = input.a36;
+        output.a64 = input.a46;
+        output.a65 = input.a56;
+        output.a66 = input.a66;
+        output.a67 = input.a76;
+        output.a68 = input.a86;
+        output.a69 = input.a96;
+        output.a71 = input.a17;
+        output.a72 = input.a27;
+        output.a73 = input.a37;
+        output.a74 = input.a47;
+        output.a75 = input.a57;
+        output.a76 = input.a67;
+        output.a77 = input.a77;
+        output.a78 = input.a87;
+        output.a79 = input.a97;
+        output.a81 = input.a18;
+        output.a82 = input.a28;
+        output.a83 = input.a38;
+        output.a84 = input.a48;
+        output.a85 = input.a58;
+        output.a86 = input.a68;
+        output.a87 = input.a78;
+        output.a88 = input.a88;
+        output.a89 = input.a98;
+        output.a91 = input.a19;
+        output.a92 = input.a29;
+        output.a93 = input.a39;
+        output.a94 = input.a49;
+        output.a95 = input.a59;
+        output.a96 = input.a69;
+        output.a97 = input.a79;
+        output.a98 = input.a89;
+        output.a99 = input.a99;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a12; double r3 = a.a13; double r4 = a.a14; double r5 = a.a15; double r6 = a.a16; double r7 = a.a17; double r8 = a.a18; double r9 = a.a19;
+        c.a11 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a12 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a13 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a14 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a15 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a16 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a17 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a18 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a19 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a21; r2 = a.a22; r3 = a.a23; r4 = a.a24; r5 = a.a25; r6 = a.a26; r7 = a.a27; r8 = a.a28; r9 = a.a29;
+        c.a21 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a22 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a23 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a24 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a25 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a26 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a27 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a28 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a29 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a31; r2 = a.a32; r3 = a.a33; r4 = a.a34; r5 = a.a35; r6 = a.a36; r7 = a.a37; r8 = a.a38; r9 = a.a39;
+        c.a31 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a32 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a33 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a34 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a35 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a36 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a37 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a38 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a39 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a41; r2 = a.a42; r3 = a.a43; r4 = a.a44; r5 = a.a45; r6 = a.a46; r7 = a.a47; r8 = a.a48; r9 = a.a49;
+        c.a41 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a42 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a43 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a44 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a45 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a46 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a47 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a48 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a49 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a51; r2 = a.a52; r3 = a.a53; r4 = a.a54; r5 = a.a55; r6 = a.a56; r7 = a.a57; r8 = a.a58; r9 = a.a59;
+        c.a51 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a52 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a53 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a54 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a55 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a56 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a57 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a58 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a59 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a61; r2 = a.a62; r3 = a.a63; r4 = a.a64; r5 = a.a65; r6 = a.a66; r7 = a.a67; r8 = a.a68; r9 = a.a69;
+        c.a61 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a62 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a63 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a64 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a65 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a66 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a67 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a68 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a69 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a71; r2 = a.a72; r3 = a.a73; r4 = a.a74; r5 = a.a75; r6 = a.a76; r7 = a.a77; r8 = a.a78; r9 = a.a79;
+        c.a71 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a72 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a73 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a74 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a75 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a76 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a77 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a78 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a79 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a81; r2 = a.a82; r3 = a.a83; r4 = a.a84; r5 = a.a85; r6 = a.a86; r7 = a.a87; r8 = a.a88; r9 = a.a89;
+        c.a81 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a82 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a83 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a84 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a85 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a86 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a87 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a88 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a89 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a91; r2 = a.a92; r3 = a.a93; r4 = a.a94; r5 = a.a95; r6 = a.a96; r7 = a.a97; r8 = a.a98; r9 = a.a99;
+        c.a91 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a92 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a93 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a94 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a95 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a96 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a97 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a98 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a99 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &alpha; &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( double alpha , DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a12; double r3 = a.a13; double r4 = a.a14; double r5 = a.a15; double r6 = a.a16; double r7 = a.a17; double r8 = a.a18; double r9 = a.a19;
+        c.a11 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a12 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a13 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a14 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a15 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a16 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a17 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a18 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a19 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a21; r2 = a.a22; r3 = a.a23; r4 = a.a24; r5 = a.a25; r6 = a.a26; r7 = a.a27; r8 = a.a28; r9 = a.a29;
+        c.a21 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a22 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a23 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a24 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a25 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a26 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a27 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a28 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a29 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a31; r2 = a.a32; r3 = a.a33; r4 = a.a34; r5 = a.a35; r6 = a.a36; r7 = a.a37; r8 = a.a38; r9 = a.a39;
+        c.a31 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a32 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a33 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a34 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a35 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a36 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a37 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a38 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a39 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a41; r2 = a.a42; r3 = a.a43; r4 = a.a44; r5 = a.a45; r6 = a.a46; r7 = a.a47; r8 = a.a48; r9 = a.a49;
+        c.a41 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a42 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a43 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a44 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a45 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a46 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a47 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a48 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a49 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a51; r2 = a.a52; r3 = a.a53; r4 = a.a54; r5 = a.a55; r6 = a.a56; r7 = a.a57; r8 = a.a58; r9 = a.a59;
+        c.a51 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a52 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a53 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a54 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a55 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a56 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a57 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a58 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a59 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a61; r2 = a.a62; r3 = a.a63; r4 = a.a64; r5 = a.a65; r6 = a.a66; r7 = a.a67; r8 = a.a68; r9 = a.a69;
+        c.a61 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a62 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a63 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a64 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a65 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a66 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a67 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a68 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a69 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a71; r2 = a.a72; r3 = a.a73; r4 = a.a74; r5 = a.a75; r6 = a.a76; r7 = a.a77; r8 = a.a78; r9 = a.a79;
+        c.a71 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a72 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a73 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a74 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a75 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a76 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a77 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a78 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a79 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a81; r2 = a.a82; r3 = a.a83; r4 = a.a84; r5 = a.a85; r6 = a.a86; r7 = a.a87; r8 = a.a88; r9 = a.a89;
+        c.a81 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a82 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a83 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a84 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a85 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a86 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a87 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a88 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a89 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a91; r2 = a.a92; r3 = a.a93; r4 = a.a94; r5 = a.a95; r6 = a.a96; r7 = a.a97; r8 = a.a98; r9 = a.a99;
+        c.a91 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a92 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a93 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a94 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a95 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a96 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a97 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a98 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a99 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a21; double r3 = a.a31; double r4 = a.a41; double r5 = a.a51; double r6 = a.a61; double r7 = a.a71; double r8 = a.a81; double r9 = a.a91;
+        c.a11 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a12 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a13 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a14 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a15 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a16 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a17 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a18 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a19 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a12; r2 = a.a22; r3 = a.a32; r4 = a.a42; r5 = a.a52; r6 = a.a62; r7 = a.a72; r8 = a.a82; r9 = a.a92;
+        c.a21 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a22 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a23 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a24 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a25 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a26 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a27 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a28 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a29 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a13; r2 = a.a23; r3 = a.a33; r4 = a.a43; r5 = a.a53; r6 = a.a63; r7 = a.a73; r8 = a.a83; r9 = a.a93;
+        c.a31 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a32 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a33 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a34 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a35 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a36 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a37 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a38 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a39 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a14; r2 = a.a24; r3 = a.a34; r4 = a.a44; r5 = a.a54; r6 = a.a64; r7 = a.a74; r8 = a.a84; r9 = a.a94;
+        c.a41 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a42 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a43 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a44 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a45 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a46 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a47 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a48 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a49 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a15; r2 = a.a25; r3 = a.a35; r4 = a.a45; r5 = a.a55; r6 = a.a65; r7 = a.a75; r8 = a.a85; r9 = a.a95;
+        c.a51 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a52 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a53 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a54 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a55 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a56 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a57 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a58 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a59 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a16; r2 = a.a26; r3 = a.a36; r4 = a.a46; r5 = a.a56; r6 = a.a66; r7 = a.a76; r8 = a.a86; r9 = a.a96;
+        c.a61 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a62 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a63 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a64 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a65 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a66 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a67 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a68 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a69 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a17; r2 = a.a27; r3 = a.a37; r4 = a.a47; r5 = a.a57; r6 = a.a67; r7 = a.a77; r8 = a.a87; r9 = a.a97;
+        c.a71 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a72 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a73 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a74 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a75 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a76 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a77 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a78 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a79 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a18; r2 = a.a28; r3 = a.a38; r4 = a.a48; r5 = a.a58; r6 = a.a68; r7 = a.a78; r8 = a.a88; r9 = a.a98;
+        c.a81 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a82 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a83 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a84 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a85 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a86 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a87 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a88 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a89 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a19; r2 = a.a29; r3 = a.a39; r4 = a.a49; r5 = a.a59; r6 = a.a69; r7 = a.a79; r8 = a.a89; r9 = a.a99;
+        c.a91 = r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a92 = r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a93 = r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a94 = r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a95 = r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a96 = r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a97 = r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a98 = r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a99 = r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &alpha; * &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( double alpha , DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a21; double r3 = a.a31; double r4 = a.a41; double r5 = a.a51; double r6 = a.a61; double r7 = a.a71; double r8 = a.a81; double r9 = a.a91;
+        c.a11 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a12 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a13 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a14 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a15 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a16 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a17 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a18 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a19 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a12; r2 = a.a22; r3 = a.a32; r4 = a.a42; r5 = a.a52; r6 = a.a62; r7 = a.a72; r8 = a.a82; r9 = a.a92;
+        c.a21 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a22 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a23 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a24 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a25 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a26 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a27 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a28 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a29 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a13; r2 = a.a23; r3 = a.a33; r4 = a.a43; r5 = a.a53; r6 = a.a63; r7 = a.a73; r8 = a.a83; r9 = a.a93;
+        c.a31 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a32 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a33 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a34 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a35 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a36 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a37 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a38 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a39 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a14; r2 = a.a24; r3 = a.a34; r4 = a.a44; r5 = a.a54; r6 = a.a64; r7 = a.a74; r8 = a.a84; r9 = a.a94;
+        c.a41 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a42 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a43 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a44 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a45 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a46 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a47 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a48 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a49 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a15; r2 = a.a25; r3 = a.a35; r4 = a.a45; r5 = a.a55; r6 = a.a65; r7 = a.a75; r8 = a.a85; r9 = a.a95;
+        c.a51 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a52 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a53 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a54 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a55 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a56 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a57 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a58 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a59 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a16; r2 = a.a26; r3 = a.a36; r4 = a.a46; r5 = a.a56; r6 = a.a66; r7 = a.a76; r8 = a.a86; r9 = a.a96;
+        c.a61 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a62 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a63 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a64 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a65 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a66 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a67 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a68 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a69 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a17; r2 = a.a27; r3 = a.a37; r4 = a.a47; r5 = a.a57; r6 = a.a67; r7 = a.a77; r8 = a.a87; r9 = a.a97;
+        c.a71 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a72 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a73 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a74 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a75 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a76 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a77 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a78 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a79 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a18; r2 = a.a28; r3 = a.a38; r4 = a.a48; r5 = a.a58; r6 = a.a68; r7 = a.a78; r8 = a.a88; r9 = a.a98;
+        c.a81 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a82 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a83 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a84 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a85 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a86 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a87 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a88 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a89 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a19; r2 = a.a29; r3 = a.a39; r4 = a.a49; r5 = a.a59; r6 = a.a69; r7 = a.a79; r8 = a.a89; r9 = a.a99;
+        c.a91 = alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a92 = alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a93 = alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a94 = alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a95 = alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a96 = alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a97 = alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a98 = alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a99 = alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransAB( DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a21; double r3 = a.a31; double r4 = a.a41; double r5 = a.a51; double r6 = a.a61; double r7 = a.a71; double r8 = a.a81; double r9 = a.a91;
+        c.a11 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a12 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a13 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a14 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a15 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a16 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a17 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a18 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a19 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a12; r2 = a.a22; r3 = a.a32; r4 = a.a42; r5 = a.a52; r6 = a.a62; r7 = a.a72; r8 = a.a82; r9 = a.a92;
+        c.a21 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a22 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a23 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a24 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a25 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a26 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a27 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a28 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a29 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a13; r2 = a.a23; r3 = a.a33; r4 = a.a43; r5 = a.a53; r6 = a.a63; r7 = a.a73; r8 = a.a83; r9 = a.a93;
+        c.a31 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a32 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a33 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a34 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a35 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a36 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a37 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a38 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a39 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a14; r2 = a.a24; r3 = a.a34; r4 = a.a44; r5 = a.a54; r6 = a.a64; r7 = a.a74; r8 = a.a84; r9 = a.a94;
+        c.a41 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a42 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a43 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a44 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a45 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a46 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a47 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a48 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a49 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a15; r2 = a.a25; r3 = a.a35; r4 = a.a45; r5 = a.a55; r6 = a.a65; r7 = a.a75; r8 = a.a85; r9 = a.a95;
+        c.a51 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a52 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a53 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a54 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a55 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a56 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a57 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a58 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a59 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a16; r2 = a.a26; r3 = a.a36; r4 = a.a46; r5 = a.a56; r6 = a.a66; r7 = a.a76; r8 = a.a86; r9 = a.a96;
+        c.a61 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a62 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a63 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a64 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a65 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a66 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a67 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a68 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a69 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a17; r2 = a.a27; r3 = a.a37; r4 = a.a47; r5 = a.a57; r6 = a.a67; r7 = a.a77; r8 = a.a87; r9 = a.a97;
+        c.a71 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a72 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a73 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a74 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a75 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a76 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a77 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a78 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a79 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a18; r2 = a.a28; r3 = a.a38; r4 = a.a48; r5 = a.a58; r6 = a.a68; r7 = a.a78; r8 = a.a88; r9 = a.a98;
+        c.a81 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a82 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a83 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a84 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a85 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a86 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a87 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a88 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a89 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a19; r2 = a.a29; r3 = a.a39; r4 = a.a49; r5 = a.a59; r6 = a.a69; r7 = a.a79; r8 = a.a89; r9 = a.a99;
+        c.a91 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a92 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a93 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a94 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a95 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a96 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a97 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a98 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a99 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = &alpha;*a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = &alpha;*&sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransAB( double alpha , DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a21; double r3 = a.a31; double r4 = a.a41; double r5 = a.a51; double r6 = a.a61; double r7 = a.a71; double r8 = a.a81; double r9 = a.a91;
+        c.a11 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a12 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a13 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a14 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a15 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a16 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a17 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a18 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a19 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a12; r2 = a.a22; r3 = a.a32; r4 = a.a42; r5 = a.a52; r6 = a.a62; r7 = a.a72; r8 = a.a82; r9 = a.a92;
+        c.a21 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a22 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a23 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a24 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a25 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a26 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a27 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a28 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a29 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a13; r2 = a.a23; r3 = a.a33; r4 = a.a43; r5 = a.a53; r6 = a.a63; r7 = a.a73; r8 = a.a83; r9 = a.a93;
+        c.a31 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a32 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a33 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a34 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a35 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a36 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a37 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a38 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a39 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a14; r2 = a.a24; r3 = a.a34; r4 = a.a44; r5 = a.a54; r6 = a.a64; r7 = a.a74; r8 = a.a84; r9 = a.a94;
+        c.a41 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a42 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a43 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a44 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a45 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a46 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a47 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a48 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a49 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a15; r2 = a.a25; r3 = a.a35; r4 = a.a45; r5 = a.a55; r6 = a.a65; r7 = a.a75; r8 = a.a85; r9 = a.a95;
+        c.a51 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a52 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a53 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a54 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a55 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a56 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a57 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a58 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a59 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a16; r2 = a.a26; r3 = a.a36; r4 = a.a46; r5 = a.a56; r6 = a.a66; r7 = a.a76; r8 = a.a86; r9 = a.a96;
+        c.a61 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a62 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a63 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a64 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a65 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a66 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a67 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a68 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a69 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a17; r2 = a.a27; r3 = a.a37; r4 = a.a47; r5 = a.a57; r6 = a.a67; r7 = a.a77; r8 = a.a87; r9 = a.a97;
+        c.a71 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a72 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a73 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a74 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a75 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a76 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a77 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a78 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a79 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a18; r2 = a.a28; r3 = a.a38; r4 = a.a48; r5 = a.a58; r6 = a.a68; r7 = a.a78; r8 = a.a88; r9 = a.a98;
+        c.a81 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a82 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a83 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a84 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a85 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a86 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a87 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a88 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a89 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a19; r2 = a.a29; r3 = a.a39; r4 = a.a49; r5 = a.a59; r6 = a.a69; r7 = a.a79; r8 = a.a89; r9 = a.a99;
+        c.a91 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a92 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a93 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a94 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a95 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a96 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a97 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a98 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a99 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a12; double r3 = a.a13; double r4 = a.a14; double r5 = a.a15; double r6 = a.a16; double r7 = a.a17; double r8 = a.a18; double r9 = a.a19;
+        c.a11 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a12 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a13 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a14 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a15 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a16 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a17 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a18 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a19 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a21; r2 = a.a22; r3 = a.a23; r4 = a.a24; r5 = a.a25; r6 = a.a26; r7 = a.a27; r8 = a.a28; r9 = a.a29;
+        c.a21 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a22 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a23 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a24 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a25 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a26 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a27 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a28 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a29 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a31; r2 = a.a32; r3 = a.a33; r4 = a.a34; r5 = a.a35; r6 = a.a36; r7 = a.a37; r8 = a.a38; r9 = a.a39;
+        c.a31 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a32 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a33 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a34 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a35 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a36 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a37 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a38 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a39 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a41; r2 = a.a42; r3 = a.a43; r4 = a.a44; r5 = a.a45; r6 = a.a46; r7 = a.a47; r8 = a.a48; r9 = a.a49;
+        c.a41 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a42 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a43 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a44 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a45 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a46 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a47 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a48 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a49 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a51; r2 = a.a52; r3 = a.a53; r4 = a.a54; r5 = a.a55; r6 = a.a56; r7 = a.a57; r8 = a.a58; r9 = a.a59;
+        c.a51 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a52 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a53 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a54 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a55 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a56 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a57 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a58 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a59 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a61; r2 = a.a62; r3 = a.a63; r4 = a.a64; r5 = a.a65; r6 = a.a66; r7 = a.a67; r8 = a.a68; r9 = a.a69;
+        c.a61 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a62 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a63 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a64 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a65 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a66 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a67 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a68 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a69 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a71; r2 = a.a72; r3 = a.a73; r4 = a.a74; r5 = a.a75; r6 = a.a76; r7 = a.a77; r8 = a.a78; r9 = a.a79;
+        c.a71 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a72 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a73 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a74 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a75 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a76 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a77 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a78 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a79 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a81; r2 = a.a82; r3 = a.a83; r4 = a.a84; r5 = a.a85; r6 = a.a86; r7 = a.a87; r8 = a.a88; r9 = a.a89;
+        c.a81 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a82 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a83 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a84 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a85 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a86 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a87 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a88 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a89 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a91; r2 = a.a92; r3 = a.a93; r4 = a.a94; r5 = a.a95; r6 = a.a96; r7 = a.a97; r8 = a.a98; r9 = a.a99;
+        c.a91 = r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a92 = r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a93 = r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a94 = r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a95 = r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a96 = r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a97 = r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a98 = r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a99 = r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = &alpha;*&sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( double alpha , DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a12; double r3 = a.a13; double r4 = a.a14; double r5 = a.a15; double r6 = a.a16; double r7 = a.a17; double r8 = a.a18; double r9 = a.a19;
+        c.a11 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a12 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a13 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a14 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a15 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a16 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a17 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a18 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a19 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a21; r2 = a.a22; r3 = a.a23; r4 = a.a24; r5 = a.a25; r6 = a.a26; r7 = a.a27; r8 = a.a28; r9 = a.a29;
+        c.a21 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a22 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a23 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a24 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a25 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a26 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a27 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a28 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a29 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a31; r2 = a.a32; r3 = a.a33; r4 = a.a34; r5 = a.a35; r6 = a.a36; r7 = a.a37; r8 = a.a38; r9 = a.a39;
+        c.a31 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a32 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a33 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a34 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a35 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a36 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a37 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a38 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a39 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a41; r2 = a.a42; r3 = a.a43; r4 = a.a44; r5 = a.a45; r6 = a.a46; r7 = a.a47; r8 = a.a48; r9 = a.a49;
+        c.a41 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a42 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a43 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a44 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a45 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a46 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a47 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a48 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a49 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a51; r2 = a.a52; r3 = a.a53; r4 = a.a54; r5 = a.a55; r6 = a.a56; r7 = a.a57; r8 = a.a58; r9 = a.a59;
+        c.a51 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a52 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a53 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a54 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a55 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a56 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a57 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a58 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a59 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a61; r2 = a.a62; r3 = a.a63; r4 = a.a64; r5 = a.a65; r6 = a.a66; r7 = a.a67; r8 = a.a68; r9 = a.a69;
+        c.a61 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a62 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a63 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a64 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a65 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a66 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a67 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a68 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a69 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a71; r2 = a.a72; r3 = a.a73; r4 = a.a74; r5 = a.a75; r6 = a.a76; r7 = a.a77; r8 = a.a78; r9 = a.a79;
+        c.a71 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a72 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a73 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a74 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a75 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a76 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a77 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a78 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a79 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a81; r2 = a.a82; r3 = a.a83; r4 = a.a84; r5 = a.a85; r6 = a.a86; r7 = a.a87; r8 = a.a88; r9 = a.a89;
+        c.a81 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a82 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a83 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a84 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a85 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a86 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a87 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a88 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a89 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a91; r2 = a.a92; r3 = a.a93; r4 = a.a94; r5 = a.a95; r6 = a.a96; r7 = a.a97; r8 = a.a98; r9 = a.a99;
+        c.a91 = alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a92 = alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a93 = alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a94 = alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a95 = alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a96 = alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a97 = alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a98 = alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a99 = alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c += a * b <br>
+     * <br>
+     * c<sub>ij</sub> += &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAdd( DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a12; double r3 = a.a13; double r4 = a.a14; double r5 = a.a15; double r6 = a.a16; double r7 = a.a17; double r8 = a.a18; double r9 = a.a19;
+        c.a11 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a12 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a13 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a14 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a15 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a16 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a17 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a18 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a19 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a21; r2 = a.a22; r3 = a.a23; r4 = a.a24; r5 = a.a25; r6 = a.a26; r7 = a.a27; r8 = a.a28; r9 = a.a29;
+        c.a21 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a22 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a23 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a24 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a25 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a26 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a27 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a28 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a29 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a31; r2 = a.a32; r3 = a.a33; r4 = a.a34; r5 = a.a35; r6 = a.a36; r7 = a.a37; r8 = a.a38; r9 = a.a39;
+        c.a31 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a32 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a33 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a34 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a35 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a36 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a37 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a38 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a39 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a41; r2 = a.a42; r3 = a.a43; r4 = a.a44; r5 = a.a45; r6 = a.a46; r7 = a.a47; r8 = a.a48; r9 = a.a49;
+        c.a41 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a42 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a43 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a44 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a45 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a46 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a47 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a48 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a49 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a51; r2 = a.a52; r3 = a.a53; r4 = a.a54; r5 = a.a55; r6 = a.a56; r7 = a.a57; r8 = a.a58; r9 = a.a59;
+        c.a51 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a52 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a53 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a54 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a55 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a56 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a57 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a58 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a59 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a61; r2 = a.a62; r3 = a.a63; r4 = a.a64; r5 = a.a65; r6 = a.a66; r7 = a.a67; r8 = a.a68; r9 = a.a69;
+        c.a61 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a62 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a63 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a64 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a65 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a66 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a67 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a68 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a69 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a71; r2 = a.a72; r3 = a.a73; r4 = a.a74; r5 = a.a75; r6 = a.a76; r7 = a.a77; r8 = a.a78; r9 = a.a79;
+        c.a71 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a72 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a73 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a74 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a75 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a76 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a77 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a78 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a79 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a81; r2 = a.a82; r3 = a.a83; r4 = a.a84; r5 = a.a85; r6 = a.a86; r7 = a.a87; r8 = a.a88; r9 = a.a89;
+        c.a81 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a82 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a83 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a84 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a85 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a86 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a87 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a88 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a89 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a91; r2 = a.a92; r3 = a.a93; r4 = a.a94; r5 = a.a95; r6 = a.a96; r7 = a.a97; r8 = a.a98; r9 = a.a99;
+        c.a91 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a92 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a93 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a94 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a95 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a96 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a97 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a98 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a99 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c += &alpha; * a * b <br>
+     * <br>
+     * c<sub>ij</sub> += &alpha; &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAdd( double alpha , DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a12; double r3 = a.a13; double r4 = a.a14; double r5 = a.a15; double r6 = a.a16; double r7 = a.a17; double r8 = a.a18; double r9 = a.a19;
+        c.a11 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a12 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a13 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a14 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a15 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a16 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a17 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a18 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a19 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a21; r2 = a.a22; r3 = a.a23; r4 = a.a24; r5 = a.a25; r6 = a.a26; r7 = a.a27; r8 = a.a28; r9 = a.a29;
+        c.a21 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a22 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a23 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a24 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a25 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a26 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a27 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a28 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a29 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a31; r2 = a.a32; r3 = a.a33; r4 = a.a34; r5 = a.a35; r6 = a.a36; r7 = a.a37; r8 = a.a38; r9 = a.a39;
+        c.a31 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a32 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a33 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a34 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a35 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a36 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a37 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a38 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a39 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a41; r2 = a.a42; r3 = a.a43; r4 = a.a44; r5 = a.a45; r6 = a.a46; r7 = a.a47; r8 = a.a48; r9 = a.a49;
+        c.a41 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a42 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a43 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a44 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a45 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a46 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a47 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a48 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a49 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a51; r2 = a.a52; r3 = a.a53; r4 = a.a54; r5 = a.a55; r6 = a.a56; r7 = a.a57; r8 = a.a58; r9 = a.a59;
+        c.a51 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a52 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a53 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a54 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a55 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a56 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a57 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a58 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a59 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a61; r2 = a.a62; r3 = a.a63; r4 = a.a64; r5 = a.a65; r6 = a.a66; r7 = a.a67; r8 = a.a68; r9 = a.a69;
+        c.a61 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a62 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a63 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a64 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a65 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a66 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a67 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a68 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a69 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a71; r2 = a.a72; r3 = a.a73; r4 = a.a74; r5 = a.a75; r6 = a.a76; r7 = a.a77; r8 = a.a78; r9 = a.a79;
+        c.a71 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a72 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a73 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a74 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a75 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a76 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a77 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a78 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a79 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a81; r2 = a.a82; r3 = a.a83; r4 = a.a84; r5 = a.a85; r6 = a.a86; r7 = a.a87; r8 = a.a88; r9 = a.a89;
+        c.a81 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a82 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a83 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a84 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a85 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a86 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a87 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a88 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a89 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a91; r2 = a.a92; r3 = a.a93; r4 = a.a94; r5 = a.a95; r6 = a.a96; r7 = a.a97; r8 = a.a98; r9 = a.a99;
+        c.a91 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a92 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a93 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a94 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a95 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a96 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a97 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a98 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a99 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c += a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> += &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransA( DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a21; double r3 = a.a31; double r4 = a.a41; double r5 = a.a51; double r6 = a.a61; double r7 = a.a71; double r8 = a.a81; double r9 = a.a91;
+        c.a11 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a12 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a13 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a14 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a15 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a16 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a17 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a18 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a19 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a12; r2 = a.a22; r3 = a.a32; r4 = a.a42; r5 = a.a52; r6 = a.a62; r7 = a.a72; r8 = a.a82; r9 = a.a92;
+        c.a21 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a22 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a23 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a24 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a25 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a26 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a27 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a28 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a29 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a13; r2 = a.a23; r3 = a.a33; r4 = a.a43; r5 = a.a53; r6 = a.a63; r7 = a.a73; r8 = a.a83; r9 = a.a93;
+        c.a31 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a32 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a33 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a34 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a35 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a36 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a37 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a38 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a39 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a14; r2 = a.a24; r3 = a.a34; r4 = a.a44; r5 = a.a54; r6 = a.a64; r7 = a.a74; r8 = a.a84; r9 = a.a94;
+        c.a41 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a42 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a43 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a44 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a45 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a46 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a47 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a48 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a49 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a15; r2 = a.a25; r3 = a.a35; r4 = a.a45; r5 = a.a55; r6 = a.a65; r7 = a.a75; r8 = a.a85; r9 = a.a95;
+        c.a51 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a52 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a53 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a54 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a55 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a56 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a57 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a58 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a59 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a16; r2 = a.a26; r3 = a.a36; r4 = a.a46; r5 = a.a56; r6 = a.a66; r7 = a.a76; r8 = a.a86; r9 = a.a96;
+        c.a61 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a62 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a63 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a64 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a65 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a66 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a67 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a68 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a69 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a17; r2 = a.a27; r3 = a.a37; r4 = a.a47; r5 = a.a57; r6 = a.a67; r7 = a.a77; r8 = a.a87; r9 = a.a97;
+        c.a71 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a72 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a73 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a74 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a75 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a76 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a77 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a78 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a79 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a18; r2 = a.a28; r3 = a.a38; r4 = a.a48; r5 = a.a58; r6 = a.a68; r7 = a.a78; r8 = a.a88; r9 = a.a98;
+        c.a81 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a82 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a83 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a84 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a85 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a86 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a87 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a88 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a89 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+        r1 = a.a19; r2 = a.a29; r3 = a.a39; r4 = a.a49; r5 = a.a59; r6 = a.a69; r7 = a.a79; r8 = a.a89; r9 = a.a99;
+        c.a91 += r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91;
+        c.a92 += r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92;
+        c.a93 += r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93;
+        c.a94 += r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94;
+        c.a95 += r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95;
+        c.a96 += r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96;
+        c.a97 += r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97;
+        c.a98 += r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98;
+        c.a99 += r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c += &alpha; * a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> += &alpha; * &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransA( double alpha , DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a21; double r3 = a.a31; double r4 = a.a41; double r5 = a.a51; double r6 = a.a61; double r7 = a.a71; double r8 = a.a81; double r9 = a.a91;
+        c.a11 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a12 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a13 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a14 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a15 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a16 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a17 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a18 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a19 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a12; r2 = a.a22; r3 = a.a32; r4 = a.a42; r5 = a.a52; r6 = a.a62; r7 = a.a72; r8 = a.a82; r9 = a.a92;
+        c.a21 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a22 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a23 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a24 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a25 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a26 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a27 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a28 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a29 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a13; r2 = a.a23; r3 = a.a33; r4 = a.a43; r5 = a.a53; r6 = a.a63; r7 = a.a73; r8 = a.a83; r9 = a.a93;
+        c.a31 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a32 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a33 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a34 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a35 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a36 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a37 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a38 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a39 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a14; r2 = a.a24; r3 = a.a34; r4 = a.a44; r5 = a.a54; r6 = a.a64; r7 = a.a74; r8 = a.a84; r9 = a.a94;
+        c.a41 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a42 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a43 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a44 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a45 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a46 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a47 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a48 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a49 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a15; r2 = a.a25; r3 = a.a35; r4 = a.a45; r5 = a.a55; r6 = a.a65; r7 = a.a75; r8 = a.a85; r9 = a.a95;
+        c.a51 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a52 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a53 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a54 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a55 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a56 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a57 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a58 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a59 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a16; r2 = a.a26; r3 = a.a36; r4 = a.a46; r5 = a.a56; r6 = a.a66; r7 = a.a76; r8 = a.a86; r9 = a.a96;
+        c.a61 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a62 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a63 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a64 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a65 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a66 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a67 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a68 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a69 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a17; r2 = a.a27; r3 = a.a37; r4 = a.a47; r5 = a.a57; r6 = a.a67; r7 = a.a77; r8 = a.a87; r9 = a.a97;
+        c.a71 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a72 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a73 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a74 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a75 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a76 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a77 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a78 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a79 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a18; r2 = a.a28; r3 = a.a38; r4 = a.a48; r5 = a.a58; r6 = a.a68; r7 = a.a78; r8 = a.a88; r9 = a.a98;
+        c.a81 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a82 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a83 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a84 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a85 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a86 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a87 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a88 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a89 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+        r1 = a.a19; r2 = a.a29; r3 = a.a39; r4 = a.a49; r5 = a.a59; r6 = a.a69; r7 = a.a79; r8 = a.a89; r9 = a.a99;
+        c.a91 += alpha*(r1*b.a11 + r2*b.a21 + r3*b.a31 + r4*b.a41 + r5*b.a51 + r6*b.a61 + r7*b.a71 + r8*b.a81 + r9*b.a91);
+        c.a92 += alpha*(r1*b.a12 + r2*b.a22 + r3*b.a32 + r4*b.a42 + r5*b.a52 + r6*b.a62 + r7*b.a72 + r8*b.a82 + r9*b.a92);
+        c.a93 += alpha*(r1*b.a13 + r2*b.a23 + r3*b.a33 + r4*b.a43 + r5*b.a53 + r6*b.a63 + r7*b.a73 + r8*b.a83 + r9*b.a93);
+        c.a94 += alpha*(r1*b.a14 + r2*b.a24 + r3*b.a34 + r4*b.a44 + r5*b.a54 + r6*b.a64 + r7*b.a74 + r8*b.a84 + r9*b.a94);
+        c.a95 += alpha*(r1*b.a15 + r2*b.a25 + r3*b.a35 + r4*b.a45 + r5*b.a55 + r6*b.a65 + r7*b.a75 + r8*b.a85 + r9*b.a95);
+        c.a96 += alpha*(r1*b.a16 + r2*b.a26 + r3*b.a36 + r4*b.a46 + r5*b.a56 + r6*b.a66 + r7*b.a76 + r8*b.a86 + r9*b.a96);
+        c.a97 += alpha*(r1*b.a17 + r2*b.a27 + r3*b.a37 + r4*b.a47 + r5*b.a57 + r6*b.a67 + r7*b.a77 + r8*b.a87 + r9*b.a97);
+        c.a98 += alpha*(r1*b.a18 + r2*b.a28 + r3*b.a38 + r4*b.a48 + r5*b.a58 + r6*b.a68 + r7*b.a78 + r8*b.a88 + r9*b.a98);
+        c.a99 += alpha*(r1*b.a19 + r2*b.a29 + r3*b.a39 + r4*b.a49 + r5*b.a59 + r6*b.a69 + r7*b.a79 + r8*b.a89 + r9*b.a99);
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c += a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> += &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransAB( DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a21; double r3 = a.a31; double r4 = a.a41; double r5 = a.a51; double r6 = a.a61; double r7 = a.a71; double r8 = a.a81; double r9 = a.a91;
+        c.a11 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a12 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a13 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a14 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a15 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a16 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a17 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a18 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a19 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a12; r2 = a.a22; r3 = a.a32; r4 = a.a42; r5 = a.a52; r6 = a.a62; r7 = a.a72; r8 = a.a82; r9 = a.a92;
+        c.a21 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a22 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a23 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a24 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a25 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a26 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a27 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a28 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a29 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a13; r2 = a.a23; r3 = a.a33; r4 = a.a43; r5 = a.a53; r6 = a.a63; r7 = a.a73; r8 = a.a83; r9 = a.a93;
+        c.a31 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a32 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a33 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a34 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a35 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a36 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a37 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a38 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a39 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a14; r2 = a.a24; r3 = a.a34; r4 = a.a44; r5 = a.a54; r6 = a.a64; r7 = a.a74; r8 = a.a84; r9 = a.a94;
+        c.a41 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a42 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a43 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a44 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a45 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a46 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a47 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a48 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a49 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a15; r2 = a.a25; r3 = a.a35; r4 = a.a45; r5 = a.a55; r6 = a.a65; r7 = a.a75; r8 = a.a85; r9 = a.a95;
+        c.a51 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a52 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a53 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a54 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a55 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a56 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a57 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a58 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a59 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a16; r2 = a.a26; r3 = a.a36; r4 = a.a46; r5 = a.a56; r6 = a.a66; r7 = a.a76; r8 = a.a86; r9 = a.a96;
+        c.a61 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a62 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a63 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a64 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a65 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a66 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a67 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a68 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a69 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a17; r2 = a.a27; r3 = a.a37; r4 = a.a47; r5 = a.a57; r6 = a.a67; r7 = a.a77; r8 = a.a87; r9 = a.a97;
+        c.a71 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a72 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a73 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a74 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a75 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a76 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a77 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a78 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a79 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a18; r2 = a.a28; r3 = a.a38; r4 = a.a48; r5 = a.a58; r6 = a.a68; r7 = a.a78; r8 = a.a88; r9 = a.a98;
+        c.a81 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a82 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a83 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a84 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a85 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a86 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a87 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a88 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a89 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a19; r2 = a.a29; r3 = a.a39; r4 = a.a49; r5 = a.a59; r6 = a.a69; r7 = a.a79; r8 = a.a89; r9 = a.a99;
+        c.a91 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a92 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a93 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a94 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a95 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a96 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a97 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a98 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a99 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c += &alpha;*a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> += &alpha;*&sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransAB( double alpha , DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a21; double r3 = a.a31; double r4 = a.a41; double r5 = a.a51; double r6 = a.a61; double r7 = a.a71; double r8 = a.a81; double r9 = a.a91;
+        c.a11 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a12 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a13 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a14 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a15 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a16 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a17 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a18 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a19 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a12; r2 = a.a22; r3 = a.a32; r4 = a.a42; r5 = a.a52; r6 = a.a62; r7 = a.a72; r8 = a.a82; r9 = a.a92;
+        c.a21 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a22 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a23 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a24 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a25 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a26 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a27 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a28 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a29 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a13; r2 = a.a23; r3 = a.a33; r4 = a.a43; r5 = a.a53; r6 = a.a63; r7 = a.a73; r8 = a.a83; r9 = a.a93;
+        c.a31 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a32 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a33 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a34 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a35 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a36 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a37 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a38 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a39 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a14; r2 = a.a24; r3 = a.a34; r4 = a.a44; r5 = a.a54; r6 = a.a64; r7 = a.a74; r8 = a.a84; r9 = a.a94;
+        c.a41 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a42 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a43 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a44 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a45 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a46 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a47 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a48 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a49 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a15; r2 = a.a25; r3 = a.a35; r4 = a.a45; r5 = a.a55; r6 = a.a65; r7 = a.a75; r8 = a.a85; r9 = a.a95;
+        c.a51 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a52 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a53 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a54 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a55 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a56 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a57 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a58 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a59 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a16; r2 = a.a26; r3 = a.a36; r4 = a.a46; r5 = a.a56; r6 = a.a66; r7 = a.a76; r8 = a.a86; r9 = a.a96;
+        c.a61 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a62 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a63 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a64 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a65 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a66 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a67 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a68 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a69 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a17; r2 = a.a27; r3 = a.a37; r4 = a.a47; r5 = a.a57; r6 = a.a67; r7 = a.a77; r8 = a.a87; r9 = a.a97;
+        c.a71 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a72 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a73 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a74 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a75 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a76 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a77 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a78 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a79 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a18; r2 = a.a28; r3 = a.a38; r4 = a.a48; r5 = a.a58; r6 = a.a68; r7 = a.a78; r8 = a.a88; r9 = a.a98;
+        c.a81 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a82 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a83 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a84 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a85 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a86 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a87 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a88 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a89 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a19; r2 = a.a29; r3 = a.a39; r4 = a.a49; r5 = a.a59; r6 = a.a69; r7 = a.a79; r8 = a.a89; r9 = a.a99;
+        c.a91 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a92 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a93 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a94 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a95 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a96 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a97 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a98 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a99 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c += a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> += &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransB( DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a12; double r3 = a.a13; double r4 = a.a14; double r5 = a.a15; double r6 = a.a16; double r7 = a.a17; double r8 = a.a18; double r9 = a.a19;
+        c.a11 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a12 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a13 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a14 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a15 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a16 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a17 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a18 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a19 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a21; r2 = a.a22; r3 = a.a23; r4 = a.a24; r5 = a.a25; r6 = a.a26; r7 = a.a27; r8 = a.a28; r9 = a.a29;
+        c.a21 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a22 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a23 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a24 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a25 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a26 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a27 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a28 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a29 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a31; r2 = a.a32; r3 = a.a33; r4 = a.a34; r5 = a.a35; r6 = a.a36; r7 = a.a37; r8 = a.a38; r9 = a.a39;
+        c.a31 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a32 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a33 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a34 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a35 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a36 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a37 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a38 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a39 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a41; r2 = a.a42; r3 = a.a43; r4 = a.a44; r5 = a.a45; r6 = a.a46; r7 = a.a47; r8 = a.a48; r9 = a.a49;
+        c.a41 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a42 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a43 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a44 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a45 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a46 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a47 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a48 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a49 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a51; r2 = a.a52; r3 = a.a53; r4 = a.a54; r5 = a.a55; r6 = a.a56; r7 = a.a57; r8 = a.a58; r9 = a.a59;
+        c.a51 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a52 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a53 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a54 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a55 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a56 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a57 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a58 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a59 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a61; r2 = a.a62; r3 = a.a63; r4 = a.a64; r5 = a.a65; r6 = a.a66; r7 = a.a67; r8 = a.a68; r9 = a.a69;
+        c.a61 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a62 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a63 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a64 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a65 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a66 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a67 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a68 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a69 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a71; r2 = a.a72; r3 = a.a73; r4 = a.a74; r5 = a.a75; r6 = a.a76; r7 = a.a77; r8 = a.a78; r9 = a.a79;
+        c.a71 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a72 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a73 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a74 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a75 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a76 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a77 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a78 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a79 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a81; r2 = a.a82; r3 = a.a83; r4 = a.a84; r5 = a.a85; r6 = a.a86; r7 = a.a87; r8 = a.a88; r9 = a.a89;
+        c.a81 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a82 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a83 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a84 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a85 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a86 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a87 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a88 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a89 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+        r1 = a.a91; r2 = a.a92; r3 = a.a93; r4 = a.a94; r5 = a.a95; r6 = a.a96; r7 = a.a97; r8 = a.a98; r9 = a.a99;
+        c.a91 += r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19;
+        c.a92 += r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29;
+        c.a93 += r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39;
+        c.a94 += r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49;
+        c.a95 += r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59;
+        c.a96 += r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69;
+        c.a97 += r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79;
+        c.a98 += r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89;
+        c.a99 += r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c += &alpha; * a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> += &alpha;*&sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransB( double alpha , DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c) {
+        UtilEjml.checkSameInstance(a,c);
+        UtilEjml.checkSameInstance(b,c);
+        double r1 = a.a11; double r2 = a.a12; double r3 = a.a13; double r4 = a.a14; double r5 = a.a15; double r6 = a.a16; double r7 = a.a17; double r8 = a.a18; double r9 = a.a19;
+        c.a11 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a12 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a13 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a14 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a15 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a16 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a17 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a18 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a19 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a21; r2 = a.a22; r3 = a.a23; r4 = a.a24; r5 = a.a25; r6 = a.a26; r7 = a.a27; r8 = a.a28; r9 = a.a29;
+        c.a21 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a22 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a23 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a24 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a25 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a26 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a27 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a28 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a29 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a31; r2 = a.a32; r3 = a.a33; r4 = a.a34; r5 = a.a35; r6 = a.a36; r7 = a.a37; r8 = a.a38; r9 = a.a39;
+        c.a31 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a32 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a33 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a34 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a35 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a36 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a37 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a38 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a39 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a41; r2 = a.a42; r3 = a.a43; r4 = a.a44; r5 = a.a45; r6 = a.a46; r7 = a.a47; r8 = a.a48; r9 = a.a49;
+        c.a41 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a42 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a43 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a44 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a45 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a46 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a47 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a48 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a49 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a51; r2 = a.a52; r3 = a.a53; r4 = a.a54; r5 = a.a55; r6 = a.a56; r7 = a.a57; r8 = a.a58; r9 = a.a59;
+        c.a51 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a52 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a53 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a54 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a55 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a56 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a57 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a58 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a59 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a61; r2 = a.a62; r3 = a.a63; r4 = a.a64; r5 = a.a65; r6 = a.a66; r7 = a.a67; r8 = a.a68; r9 = a.a69;
+        c.a61 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a62 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a63 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a64 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a65 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a66 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a67 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a68 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a69 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a71; r2 = a.a72; r3 = a.a73; r4 = a.a74; r5 = a.a75; r6 = a.a76; r7 = a.a77; r8 = a.a78; r9 = a.a79;
+        c.a71 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a72 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a73 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a74 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a75 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a76 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a77 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a78 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a79 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a81; r2 = a.a82; r3 = a.a83; r4 = a.a84; r5 = a.a85; r6 = a.a86; r7 = a.a87; r8 = a.a88; r9 = a.a89;
+        c.a81 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a82 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a83 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a84 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a85 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a86 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a87 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a88 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a89 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+        r1 = a.a91; r2 = a.a92; r3 = a.a93; r4 = a.a94; r5 = a.a95; r6 = a.a96; r7 = a.a97; r8 = a.a98; r9 = a.a99;
+        c.a91 += alpha*(r1*b.a11 + r2*b.a12 + r3*b.a13 + r4*b.a14 + r5*b.a15 + r6*b.a16 + r7*b.a17 + r8*b.a18 + r9*b.a19);
+        c.a92 += alpha*(r1*b.a21 + r2*b.a22 + r3*b.a23 + r4*b.a24 + r5*b.a25 + r6*b.a26 + r7*b.a27 + r8*b.a28 + r9*b.a29);
+        c.a93 += alpha*(r1*b.a31 + r2*b.a32 + r3*b.a33 + r4*b.a34 + r5*b.a35 + r6*b.a36 + r7*b.a37 + r8*b.a38 + r9*b.a39);
+        c.a94 += alpha*(r1*b.a41 + r2*b.a42 + r3*b.a43 + r4*b.a44 + r5*b.a45 + r6*b.a46 + r7*b.a47 + r8*b.a48 + r9*b.a49);
+        c.a95 += alpha*(r1*b.a51 + r2*b.a52 + r3*b.a53 + r4*b.a54 + r5*b.a55 + r6*b.a56 + r7*b.a57 + r8*b.a58 + r9*b.a59);
+        c.a96 += alpha*(r1*b.a61 + r2*b.a62 + r3*b.a63 + r4*b.a64 + r5*b.a65 + r6*b.a66 + r7*b.a67 + r8*b.a68 + r9*b.a69);
+        c.a97 += alpha*(r1*b.a71 + r2*b.a72 + r3*b.a73 + r4*b.a74 + r5*b.a75 + r6*b.a76 + r7*b.a77 + r8*b.a78 + r9*b.a79);
+        c.a98 += alpha*(r1*b.a81 + r2*b.a82 + r3*b.a83 + r4*b.a84 + r5*b.a85 + r6*b.a86 + r7*b.a87 + r8*b.a88 + r9*b.a89);
+        c.a99 += alpha*(r1*b.a91 + r2*b.a92 + r3*b.a93 + r4*b.a94 + r5*b.a95 + r6*b.a96 + r7*b.a97 + r8*b.a98 + r9*b.a99);
+    }
+
+    /**
+     * C = &alpha;A + &beta;u*v<sup>T</sup>
+     * 
+     * @param alpha scale factor applied to A
+     * @param A matrix
+     * @param beta scale factor applies to outer product
+     * @param u vector
+     * @param v vector
+     * @param C Storage for solution. Can be same instance as A.
+     */
+    public static void multAddOuter( double alpha , DMatrix9x9 A , double beta , DMatrix9 u , DMatrix9 v , DMatrix9x9 C ) {
+        C.a11 = alpha*A.a11 + beta*u.a1*v.a1;
+        C.a12 = alpha*A.a12 + beta*u.a1*v.a2;
+        C.a13 = alpha*A.a13 + beta*u.a1*v.a3;
+        C.a14 = alpha*A.a14 + beta*u.a1*v.a4;
+        C.a15 = alpha*A.a15 + beta*u.a1*v.a5;
+        C.a16 = alpha*A.a16 + beta*u.a1*v.a6;
+        C.a17 = alpha*A.a17 + beta*u.a1*v.a7;
+        C.a18 = alpha*A.a18 + beta*u.a1*v.a8;
+        C.a19 = alpha*A.a19 + beta*u.a1*v.a9;
+        C.a21 = alpha*A.a21 + beta*u.a2*v.a1;
+        C.a22 = alpha*A.a22 + beta*u.a2*v.a2;
+        C.a23 = alpha*A.a23 + beta*u.a2*v.a3;
+        C.a24 = alpha*A.a24 + beta*u.a2*v.a4;
+        C.a25 = alpha*A.a25 + beta*u.a2*v.a5;
+        C.a26 = alpha*A.a26 + beta*u.a2*v.a6;
+        C.a27 = alpha*A.a27 + beta*u.a2*v.a7;
+        C.a28 = alpha*A.a28 + beta*u.a2*v.a8;
+        C.a29 = alpha*A.a29 + beta*u.a2*v.a9;
+        C.a31 = alpha*A.a31 + beta*u.a3*v.a1;
+        C.a32 = alpha*A.a32 + beta*u.a3*v.a2;
+        C.a33 = alpha*A.a33 + beta*u.a3*v.a3;
+        C.a34 = alpha*A.a34 + beta*u.a3*v.a4;
+        C.a35 = alpha*A.a35 + beta*u.a3*v.a5;
+        C.a36 = alpha*A.a36 + beta*u.a3*v.a6;
+        C.a37 = alpha*A.a37 + beta*u.a3*v.a7;
+        C.a38 = alpha*A.a38 + beta*u.a3*v.a8;
+        C.a39 = alpha*A.a39 + beta*u.a3*v.a9;
+        C.a41 = alpha*A.a41 + beta*u.a4*v.a1;
+        C.a42 = alpha*A.a42 + beta*u.a4*v.a2;
+        C.a43 = alpha*A.a43 + beta*u.a4*v.a3;
+        C.a44 = alpha*A.a44 + beta*u.a4*v.a4;
+        C.a45 = alpha*A.a45 + beta*u.a4*v.a5;
+        C.a46 = alpha*A.a46 + beta*u.a4*v.a6;
+        C.a47 = alpha*A.a47 + beta*u.a4*v.a7;
+        C.a48 = alpha*A.a48 + beta*u.a4*v.a8;
+        C.a49 = alpha*A.a49 + beta*u.a4*v.a9;
+        C.a51 = alpha*A.a51 + beta*u.a5*v.a1;
+        C.a52 = alpha*A.a52 + beta*u.a5*v.a2;
+        C.a53 = alpha*A.a53 + beta*u.a5*v.a3;
+        C.a54 = alpha*A.a54 + beta*u.a5*v.a4;
+        C.a55 = alpha*A.a55 + beta*u.a5*v.a5;
+        C.a56 = alpha*A.a56 + beta*u.a5*v.a6;
+        C.a57 = alpha*A.a57 + beta*u.a5*v.a7;
+        C.a58 = alpha*A.a58 + beta*u.a5*v.a8;
+        C.a59 = alpha*A.a59 + beta*u.a5*v.a9;
+        C.a61 = alpha*A.a61 + beta*u.a6*v.a1;
+        C.a62 = alpha*A.a62 + beta*u.a6*v.a2;
+        C.a63 = alpha*A.a63 + beta*u.a6*v.a3;
+        C.a64 = alpha*A.a64 + beta*u.a6*v.a4;
+        C.a65 = alpha*A.a65 + beta*u.a6*v.a5;
+        C.a66 = alpha*A.a66 + beta*u.a6*v.a6;
+        C.a67 = alpha*A.a67 + beta*u.a6*v.a7;
+        C.a68 = alpha*A.a68 + beta*u.a6*v.a8;
+        C.a69 = alpha*A.a69 + beta*u.a6*v.a9;
+        C.a71 = alpha*A.a71 + beta*u.a7*v.a1;
+        C.a72 = alpha*A.a72 + beta*u.a7*v.a2;
+        C.a73 = alpha*A.a73 + beta*u.a7*v.a3;
+        C.a74 = alpha*A.a74 + beta*u.a7*v.a4;
+        C.a75 = alpha*A.a75 + beta*u.a7*v.a5;
+        C.a76 = alpha*A.a76 + beta*u.a7*v.a6;
+        C.a77 = alpha*A.a77 + beta*u.a7*v.a7;
+        C.a78 = alpha*A.a78 + beta*u.a7*v.a8;
+        C.a79 = alpha*A.a79 + beta*u.a7*v.a9;
+        C.a81 = alpha*A.a81 + beta*u.a8*v.a1;
+        C.a82 = alpha*A.a82 + beta*u.a8*v.a2;
+        C.a83 = alpha*A.a83 + beta*u.a8*v.a3;
+        C.a84 = alpha*A.a84 + beta*u.a8*v.a4;
+        C.a85 = alpha*A.a85 + beta*u.a8*v.a5;
+        C.a86 = alpha*A.a86 + beta*u.a8*v.a6;
+        C.a87 = alpha*A.a87 + beta*u.a8*v.a7;
+        C.a88 = alpha*A.a88 + beta*u.a8*v.a8;
+        C.a89 = alpha*A.a89 + beta*u.a8*v.a9;
+        C.a91 = alpha*A.a91 + beta*u.a9*v.a1;
+        C.a92 = alpha*A.a92 + beta*u.a9*v.a2;
+        C.a93 = alpha*A.a93 + beta*u.a9*v.a3;
+        C.a94 = alpha*A.a94 + beta*u.a9*v.a4;
+        C.a95 = alpha*A.a95 + beta*u.a9*v.a5;
+        C.a96 = alpha*A.a96 + beta*u.a9*v.a6;
+        C.a97 = alpha*A.a97 + beta*u.a9*v.a7;
+        C.a98 = alpha*A.a98 + beta*u.a9*v.a8;
+        C.a99 = alpha*A.a99 + beta*u.a9*v.a9;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix9x9 a , DMatrix9 b , DMatrix9 c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2 + a.a13*b.a3 + a.a14*b.a4 + a.a15*b.a5 + a.a16*b.a6 + a.a17*b.a7 + a.a18*b.a8 + a.a19*b.a9;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2 + a.a23*b.a3 + a.a24*b.a4 + a.a25*b.a5 + a.a26*b.a6 + a.a27*b.a7 + a.a28*b.a8 + a.a29*b.a9;
+        c.a3 = a.a31*b.a1 + a.a32*b.a2 + a.a33*b.a3 + a.a34*b.a4 + a.a35*b.a5 + a.a36*b.a6 + a.a37*b.a7 + a.a38*b.a8 + a.a39*b.a9;
+        c.a4 = a.a41*b.a1 + a.a42*b.a2 + a.a43*b.a3 + a.a44*b.a4 + a.a45*b.a5 + a.a46*b.a6 + a.a47*b.a7 + a.a48*b.a8 + a.a49*b.a9;
+        c.a5 = a.a51*b.a1 + a.a52*b.a2 + a.a53*b.a3 + a.a54*b.a4 + a.a55*b.a5 + a.a56*b.a6 + a.a57*b.a7 + a.a58*b.a8 + a.a59*b.a9;
+        c.a6 = a.a61*b.a1 + a.a62*b.a2 + a.a63*b.a3 + a.a64*b.a4 + a.a65*b.a5 + a.a66*b.a6 + a.a67*b.a7 + a.a68*b.a8 + a.a69*b.a9;
+        c.a7 = a.a71*b.a1 + a.a72*b.a2 + a.a73*b.a3 + a.a74*b.a4 + a.a75*b.a5 + a.a76*b.a6 + a.a77*b.a7 + a.a78*b.a8 + a.a79*b.a9;
+        c.a8 = a.a81*b.a1 + a.a82*b.a2 + a.a83*b.a3 + a.a84*b.a4 + a.a85*b.a5 + a.a86*b.a6 + a.a87*b.a7 + a.a88*b.a8 + a.a89*b.a9;
+        c.a9 = a.a91*b.a1 + a.a92*b.a2 + a.a93*b.a3 + a.a94*b.a4 + a.a95*b.a5 + a.a96*b.a6 + a.a97*b.a7 + a.a98*b.a8 + a.a99*b.a9;
+    }
+
+    /**
+     * <p>Performs vector to matrix multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>j</sub> = &sum;<sub>k=1:n</sub> { b<sub>k</sub> * a<sub>kj</sub> }
+     * </p>
+     *
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix9 a , DMatrix9x9 b , DMatrix9 c) {
+        c.a1 = a.a1*b.a11 + a.a2*b.a21 + a.a3*b.a31 + a.a4*b.a41 + a.a5*b.a51 + a.a6*b.a61 + a.a7*b.a71 + a.a8*b.a81 + a.a9*b.a91;
+        c.a2 = a.a1*b.a12 + a.a2*b.a22 + a.a3*b.a32 + a.a4*b.a42 + a.a5*b.a52 + a.a6*b.a62 + a.a7*b.a72 + a.a8*b.a82 + a.a9*b.a92;
+        c.a3 = a.a1*b.a13 + a.a2*b.a23 + a.a3*b.a33 + a.a4*b.a43 + a.a5*b.a53 + a.a6*b.a63 + a.a7*b.a73 + a.a8*b.a83 + a.a9*b.a93;
+        c.a4 = a.a1*b.a14 + a.a2*b.a24 + a.a3*b.a34 + a.a4*b.a44 + a.a5*b.a54 + a.a6*b.a64 + a.a7*b.a74 + a.a8*b.a84 + a.a9*b.a94;
+        c.a5 = a.a1*b.a15 + a.a2*b.a25 + a.a3*b.a35 + a.a4*b.a45 + a.a5*b.a55 + a.a6*b.a65 + a.a7*b.a75 + a.a8*b.a85 + a.a9*b.a95;
+        c.a6 = a.a1*b.a16 + a.a2*b.a26 + a.a3*b.a36 + a.a4*b.a46 + a.a5*b.a56 + a.a6*b.a66 + a.a7*b.a76 + a.a8*b.a86 + a.a9*b.a96;
+        c.a7 = a.a1*b.a17 + a.a2*b.a27 + a.a3*b.a37 + a.a4*b.a47 + a.a5*b.a57 + a.a6*b.a67 + a.a7*b.a77 + a.a8*b.a87 + a.a9*b.a97;
+        c.a8 = a.a1*b.a18 + a.a2*b.a28 + a.a3*b.a38 + a.a4*b.a48 + a.a5*b.a58 + a.a6*b.a68 + a.a7*b.a78 + a.a8*b.a88 + a.a9*b.a98;
+        c.a9 = a.a1*b.a19 + a.a2*b.a29 + a.a3*b.a39 + a.a4*b.a49 + a.a5*b.a59 + a.a6*b.a69 + a.a7*b.a79 + a.a8*b.a89 + a.a9*b.a99;
+    }
+
+    /**
+     * <p>Performs the vector dot product:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c &ge; &sum;<sub>k=1:n</sub> { b<sub>k</sub> * a<sub>k</sub> }
+     * </p>
+     *
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @return The dot product
+     */
+    public static double dot( DMatrix9 a , DMatrix9 b ) {
+        return a.a1*b.a1 + a.a2*b.a2 + a.a3*b.a3 + a.a4*b.a4 + a.a5*b.a5 + a.a6*b.a6 + a.a7*b.a7 + a.a8*b.a8 + a.a9*b.a9;
+    }
+
+    /**
+     * Sets all the diagonal elements equal to one and everything else equal to zero.
+     * If this is a square matrix then it will be an identity matrix.
+     *
+     * @param a A matrix.
+     */
+    public static void setIdentity( DMatrix9x9 a ) {
+        a.a11 = 1; a.a21 = 0; a.a31 = 0; a.a41 = 0; a.a51 = 0; a.a61 = 0; a.a71 = 0; a.a81 = 0; a.a91 = 0;
+        a.a12 = 0; a.a22 = 1; a.a32 = 0; a.a42 = 0; a.a52 = 0; a.a62 = 0; a.a72 = 0; a.a82 = 0; a.a92 = 0;
+        a.a13 = 0; a.a23 = 0; a.a33 = 1; a.a43 = 0; a.a53 = 0; a.a63 = 0; a.a73 = 0; a.a83 = 0; a.a93 = 0;
+        a.a14 = 0; a.a24 = 0; a.a34 = 0; a.a44 = 1; a.a54 = 0; a.a64 = 0; a.a74 = 0; a.a84 = 0; a.a94 = 0;
+        a.a15 = 0; a.a25 = 0; a.a35 = 0; a.a45 = 0; a.a55 = 1; a.a65 = 0; a.a75 = 0; a.a85 = 0; a.a95 = 0;
+        a.a16 = 0; a.a26 = 0; a.a36 = 0; a.a46 = 0; a.a56 = 0; a.a66 = 1; a.a76 = 0; a.a86 = 0; a.a96 = 0;
+        a.a17 = 0; a.a27 = 0; a.a37 = 0; a.a47 = 0; a.a57 = 0; a.a67 = 0; a.a77 = 1; a.a87 = 0; a.a97 = 0;
+        a.a18 = 0; a.a28 = 0; a.a38 = 0; a.a48 = 0; a.a58 = 0; a.a68 = 0; a.a78 = 0; a.a88 = 1; a.a98 = 0;
+        a.a19 = 0; a.a29 = 0; a.a39 = 0; a.a49 = 0; a.a59 = 0; a.a69 = 0; a.a79 = 0; a.a89 = 0; a.a99 = 1;
+    }
+
+    /**
+     * Performs a lower Cholesky decomposition of matrix 'A' and stores result in A.
+     *
+     * @param A (Input) SPD Matrix. (Output) lower cholesky.
+     * @return true if it was successful or false if it failed. Not always reliable.
+     */
+    public static boolean cholL( DMatrix9x9 A ) {
+
+        A.a11 = Math.sqrt(A.a11);
+        A.a12 = 0;
+        A.a13 = 0;
+        A.a14 = 0;
+        A.a15 = 0;
+        A.a16 = 0;
+        A.a17 = 0;
+        A.a18 = 0;
+        A.a19 = 0;
+        A.a21 = (A.a21)/A.a11;
+        A.a22 = Math.sqrt(A.a22-A.a21*A.a21);
+        A.a23 = 0;
+        A.a24 = 0;
+        A.a25 = 0;
+        A.a26 = 0;
+        A.a27 = 0;
+        A.a28 = 0;
+        A.a29 = 0;
+        A.a31 = (A.a31)/A.a11;
+        A.a32 = (A.a32-A.a31*A.a21)/A.a22;
+        A.a33 = Math.sqrt(A.a33-A.a31*A.a31-A.a32*A.a32);
+        A.a34 = 0;
+        A.a35 = 0;
+        A.a36 = 0;
+        A.a37 = 0;
+        A.a38 = 0;
+        A.a39 = 0;
+        A.a41 = (A.a41)/A.a11;
+        A.a42 = (A.a42-A.a41*A.a21)/A.a22;
+        A.a43 = (A.a43-A.a41*A.a31-A.a42*A.a32)/A.a33;
+        A.a44 = Math.sqrt(A.a44-A.a41*A.a41-A.a42*A.a42-A.a43*A.a43);
+        A.a45 = 0;
+        A.a46 = 0;
+        A.a47 = 0;
+        A.a48 = 0;
+        A.a49 = 0;
+        A.a51 = (A.a51)/A.a11;
+        A.a52 = (A.a52-A.a51*A.a21)/A.a22;
+        A.a53 = (A.a53-A.a51*A.a31-A.a52*A.a32)/A.a33;
+        A.a54 = (A.a54-A.a51*A.a41-A.a52*A.a42-A.a53*A.a43)/A.a44;
+        A.a55 = Math.sqrt(A.a55-A.a51*A.a51-A.a52*A.a52-A.a53*A.a53-A.a54*A.a54);
+        A.a56 = 0;
+        A.a57 = 0;
+        A.a58 = 0;
+        A.a59 = 0;
+        A.a61 = (A.a61)/A.a11;
+        A.a62 = (A.a62-A.a61*A.a21)/A.a22;
+        A.a63 = (A.a63-A.a61*A.a31-A.a62*A.a32)/A.a33;
+        A.a64 = (A.a64-A.a61*A.a41-A.a62*A.a42-A.a63*A.a43)/A.a44;
+        A.a65 = (A.a65-A.a61*A.a51-A.a62*A.a52-A.a63*A.a53-A.a64*A.a54)/A.a55;
+        A.a66 = Math.sqrt(A.a66-A.a61*A.a61-A.a62*A.a62-A.a63*A.a63-A.a64*A.a64-A.a65*A.a65);
+        A.a67 = 0;
+        A.a68 = 0;
+        A.a69 = 0;
+        A.a71 = (A.a71)/A.a11;
+        A.a72 = (A.a72-A.a71*A.a21)/A.a22;
+        A.a73 = (A.a73-A.a71*A.a31-A.a72*A.a32)/A.a33;
+        A.a74 = (A.a74-A.a71*A.a41-A.a72*A.a42-A.a73*A.a43)/A.a44;
+        A.a75 = (A.a75-A.a71*A.a51-A.a72*A.a52-A.a73*A.a53-A.a74*A.a54)/A.a55;
+        A.a76 = (A.a76-A.a71*A.a61-A.a72*A.a62-A.a73*A.a63-A.a74*A.a64-A.a75*A.a65)/A.a66;
+        A.a77 = Math.sqrt(A.a77-A.a71*A.a71-A.a72*A.a72-A.a73*A.a73-A.a74*A.a74-A.a75*A.a75-A.a76*A.a76);
+        A.a78 = 0;
+        A.a79 = 0;
+        A.a81 = (A.a81)/A.a11;
+        A.a82 = (A.a82-A.a81*A.a21)/A.a22;
+        A.a83 = (A.a83-A.a81*A.a31-A.a82*A.a32)/A.a33;
+        A.a84 = (A.a84-A.a81*A.a41-A.a82*A.a42-A.a83*A.a43)/A.a44;
+        A.a85 = (A.a85-A.a81*A.a51-A.a82*A.a52-A.a83*A.a53-A.a84*A.a54)/A.a55;
+        A.a86 = (A.a86-A.a81*A.a61-A.a82*A.a62-A.a83*A.a63-A.a84*A.a64-A.a85*A.a65)/A.a66;
+        A.a87 = (A.a87-A.a81*A.a71-A.a82*A.a72-A.a83*A.a73-A.a84*A.a74-A.a85*A.a75-A.a86*A.a76)/A.a77;
+        A.a88 = Math.sqrt(A.a88-A.a81*A.a81-A.a82*A.a82-A.a83*A.a83-A.a84*A.a84-A.a85*A.a85-A.a86*A.a86-A.a87*A.a87);
+        A.a89 = 0;
+        A.a91 = (A.a91)/A.a11;
+        A.a92 = (A.a92-A.a91*A.a21)/A.a22;
+        A.a93 = (A.a93-A.a91*A.a31-A.a92*A.a32)/A.a33;
+        A.a94 = (A.a94-A.a91*A.a41-A.a92*A.a42-A.a93*A.a43)/A.a44;
+        A.a95 = (A.a95-A.a91*A.a51-A.a92*A.a52-A.a93*A.a53-A.a94*A.a54)/A.a55;
+        A.a96 = (A.a96-A.a91*A.a61-A.a92*A.a62-A.a93*A.a63-A.a94*A.a64-A.a95*A.a65)/A.a66;
+        A.a97 = (A.a97-A.a91*A.a71-A.a92*A.a72-A.a93*A.a73-A.a94*A.a74-A.a95*A.a75-A.a96*A.a76)/A.a77;
+        A.a98 = (A.a98-A.a91*A.a81-A.a92*A.a82-A.a93*A.a83-A.a94*A.a84-A.a95*A.a85-A.a96*A.a86-A.a97*A.a87)/A.a88;
+        A.a99 = Math.sqrt(A.a99-A.a91*A.a91-A.a92*A.a92-A.a93*A.a93-A.a94*A.a94-A.a95*A.a95-A.a96*A.a96-A.a97*A.a97-A.a98*A.a98);
+        return !UtilEjml.isUncountable(A.a99);
+    }
+
+    /**
+     * Performs an upper Cholesky decomposition of matrix 'A' and stores result in A.
+     *
+     * @param A (Input) SPD Matrix. (Output) upper cholesky.
+     * @return true if it was successful or false if it failed. Not always reliable.
+     */
+    public static boolean cholU( DMatrix9x9 A ) {
+
+        A.a11 = Math.sqrt(A.a11);
+        A.a21 = 0;
+        A.a31 = 0;
+        A.a41 = 0;
+        A.a51 = 0;
+        A.a61 = 0;
+        A.a71 = 0;
+        A.a81 = 0;
+        A.a91 = 0;
+        A.a12 = (A.a12)/A.a11;
+        A.a22 = Math.sqrt(A.a22-A.a12*A.a12);
+        A.a32 = 0;
+        A.a42 = 0;
+        A.a52 = 0;
+        A.a62 = 0;
+        A.a72 = 0;
+        A.a82 = 0;
+        A.a92 = 0;
+        A.a13 = (A.a13)/A.a11;
+        A.a23 = (A.a23-A.a12*A.a13)/A.a22;
+        A.a33 = Math.sqrt(A.a33-A.a13*A.a13-A.a23*A.a23);
+        A.a43 = 0;
+        A.a53 = 0;
+        A.a63 = 0;
+        A.a73 = 0;
+        A.a83 = 0;
+        A.a93 = 0;
+        A.a14 = (A.a14)/A.a11;
+        A.a24 = (A.a24-A.a12*A.a14)/A.a22;
+        A.a34 = (A.a34-A.a13*A.a14-A.a23*A.a24)/A.a33;
+        A.a44 = Math.sqrt(A.a44-A.a14*A.a14-A.a24*A.a24-A.a34*A.a34);
+        A.a54 = 0;
+        A.a64 = 0;
+        A.a74 = 0;
+        A.a84 = 0;
+        A.a94 = 0;
+        A.a15 = (A.a15)/A.a11;
+        A.a25 = (A.a25-A.a12*A.a15)/A.a22;
+        A.a35 = (A.a35-A.a13*A.a15-A.a23*A.a25)/A.a33;
+        A.a45 = (A.a45-A.a14*A.a15-A.a24*A.a25-A.a34*A.a35)/A.a44;
+        A.a55 = Math.sqrt(A.a55-A.a15*A.a15-A.a25*A.a25-A.a35*A.a35-A.a45*A.a45);
+        A.a65 = 0;
+        A.a75 = 0;
+        A.a85 = 0;
+        A.a95 = 0;
+        A.a16 = (A.a16)/A.a11;
+        A.a26 = (A.a26-A.a12*A.a16)/A.a22;
+        A.a36 = (A.a36-A.a13*A.a16-A.a23*A.a26)/A.a33;
+        A.a46 = (A.a46-A.a14*A.a16-A.a24*A.a26-A.a34*A.a36)/A.a44;
+        A.a56 = (A.a56-A.a15*A.a16-A.a25*A.a26-A.a35*A.a36-A.a45*A.a46)/A.a55;
+        A.a66 = Math.sqrt(A.a66-A.a16*A.a16-A.a26*A.a26-A.a36*A.a36-A.a46*A.a46-A.a56*A.a56);
+        A.a76 = 0;
+        A.a86 = 0;
+        A.a96 = 0;
+        A.a17 = (A.a17)/A.a11;
+        A.a27 = (A.a27-A.a12*A.a17)/A.a22;
+        A.a37 = (A.a37-A.a13*A.a17-A.a23*A.a27)/A.a33;
+        A.a47 = (A.a47-A.a14*A.a17-A.a24*A.a27-A.a34*A.a37)/A.a44;
+        A.a57 = (A.a57-A.a15*A.a17-A.a25*A.a27-A.a35*A.a37-A.a45*A.a47)/A.a55;
+        A.a67 = (A.a67-A.a16*A.a17-A.a26*A.a27-A.a36*A.a37-A.a46*A.a47-A.a56*A.a57)/A.a66;
+        A.a77 = Math.sqrt(A.a77-A.a17*A.a17-A.a27*A.a27-A.a37*A.a37-A.a47*A.a47-A.a57*A.a57-A.a67*A.a67);
+        A.a87 = 0;
+        A.a97 = 0;
+        A.a18 = (A.a18)/A.a11;
+        A.a28 = (A.a28-A.a12*A.a18)/A.a22;
+        A.a38 = (A.a38-A.a13*A.a18-A.a23*A.a28)/A.a33;
+        A.a48 = (A.a48-A.a14*A.a18-A.a24*A.a28-A.a34*A.a38)/A.a44;
+        A.a58 = (A.a58-A.a15*A.a18-A.a25*A.a28-A.a35*A.a38-A.a45*A.a48)/A.a55;
+        A.a68 = (A.a68-A.a16*A.a18-A.a26*A.a28-A.a36*A.a38-A.a46*A.a48-A.a56*A.a58)/A.a66;
+        A.a78 = (A.a78-A.a17*A.a18-A.a27*A.a28-A.a37*A.a38-A.a47*A.a48-A.a57*A.a58-A.a67*A.a68)/A.a77;
+        A.a88 = Math.sqrt(A.a88-A.a18*A.a18-A.a28*A.a28-A.a38*A.a38-A.a48*A.a48-A.a58*A.a58-A.a68*A.a68-A.a78*A.a78);
+        A.a98 = 0;
+        A.a19 = (A.a19)/A.a11;
+        A.a29 = (A.a29-A.a12*A.a19)/A.a22;
+        A.a39 = (A.a39-A.a13*A.a19-A.a23*A.a29)/A.a33;
+        A.a49 = (A.a49-A.a14*A.a19-A.a24*A.a29-A.a34*A.a39)/A.a44;
+        A.a59 = (A.a59-A.a15*A.a19-A.a25*A.a29-A.a35*A.a39-A.a45*A.a49)/A.a55;
+        A.a69 = (A.a69-A.a16*A.a19-A.a26*A.a29-A.a36*A.a39-A.a46*A.a49-A.a56*A.a59)/A.a66;
+        A.a79 = (A.a79-A.a17*A.a19-A.a27*A.a29-A.a37*A.a39-A.a47*A.a49-A.a57*A.a59-A.a67*A.a69)/A.a77;
+        A.a89 = (A.a89-A.a18*A.a19-A.a28*A.a29-A.a38*A.a39-A.a48*A.a49-A.a58*A.a59-A.a68*A.a69-A.a78*A.a79)/A.a88;
+        A.a99 = Math.sqrt(A.a99-A.a19*A.a19-A.a29*A.a29-A.a39*A.a39-A.a49*A.a49-A.a59*A.a59-A.a69*A.a69-A.a79*A.a79-A.a89*A.a89);
+        return !UtilEjml.isUncountable(A.a99);
+    }
+
+    /**
+     * <p>
+     * This computes the trace of the matrix:<br>
+     * <br>
+     * trace = &sum;<sub>i=1:n</sub> { a<sub>ii</sub> }
+     * </p>
+     * <p>
+     * The trace is only defined for square matrices.
+     * </p>
+     *
+     * @param a A square matrix. Not modified.
+     */
+    public static double trace( DMatrix9x9 a ) {
+        return a.a11 + a.a22 + a.a33 + a.a44 + a.a55 + a.a66 + a.a77 + a.a88 + a.a99;
+    }
+
+    /**
+     * <p>
+     * Extracts all diagonal elements from 'input' and places them inside the 'out' vector. Elements
+     * are in sequential order.
+     * </p>
+     *
+     *
+     * @param input Matrix. Not modified.
+     * @param out Vector containing diagonal elements. Modified.
+     */
+    public static void diag( DMatrix9x9 input , DMatrix9 out ) {
+        out.a1 = input.a11;
+        out.a2 = input.a22;
+        out.a3 = input.a33;
+        out.a4 = input.a44;
+        out.a5 = input.a55;
+        out.a6 = input.a66;
+        out.a7 = input.a77;
+        out.a8 = input.a88;
+        out.a9 = input.a99;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the largest value.<br>
+     * <br>
+     * Max{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMax( DMatrix9x9 a ) {
+        double max = a.a11;
+        if( a.a12 > max ) max = a.a12;
+        if( a.a13 > max ) max = a.a13;
+        if( a.a14 > max ) max = a.a14;
+        if( a.a15 > max ) max = a.a15;
+        if( a.a16 > max ) max = a.a16;
+        if( a.a17 > max ) max = a.a17;
+        if( a.a18 > max ) max = a.a18;
+        if( a.a19 > max ) max = a.a19;
+        if( a.a21 > max ) max = a.a21;
+        if( a.a22 > max ) max = a.a22;
+        if( a.a23 > max ) max = a.a23;
+        if( a.a24 > max ) max = a.a24;
+        if( a.a25 > max ) max = a.a25;
+        if( a.a26 > max ) max = a.a26;
+        if( a.a27 > max ) max = a.a27;
+        if( a.a28 > max ) max = a.a28;
+        if( a.a29 > max ) max = a.a29;
+        if( a.a31 > max ) max = a.a31;
+        if( a.a32 > max ) max = a.a32;
+        if( a.a33 > max ) max = a.a33;
+        if( a.a34 > max ) max = a.a34;
+        if( a.a35 > max ) max = a.a35;
+        if( a.a36 > max ) max = a.a36;
+        if( a.a37 > max ) max = a.a37;
+        if( a.a38 > max ) max = a.a38;
+        if( a.a39 > max ) max = a.a39;
+        if( a.a41 > max ) max = a.a41;
+        if( a.a42 > max ) max = a.a42;
+        if( a.a43 > max ) max = a.a43;
+        if( a.a44 > max ) max = a.a44;
+        if( a.a45 > max ) max = a.a45;
+        if( a.a46 > max ) max = a.a46;
+        if( a.a47 > max ) max = a.a47;
+        if( a.a48 > max ) max = a.a48;
+        if( a.a49 > max ) max = a.a49;
+        if( a.a51 > max ) max = a.a51;
+        if( a.a52 > max ) max = a.a52;
+        if( a.a53 > max ) max = a.a53;
+        if( a.a54 > max ) max = a.a54;
+        if( a.a55 > max ) max = a.a55;
+        if( a.a56 > max ) max = a.a56;
+        if( a.a57 > max ) max = a.a57;
+        if( a.a58 > max ) max = a.a58;
+        if( a.a59 > max ) max = a.a59;
+        if( a.a61 > max ) max = a.a61;
+        if( a.a62 > max ) max = a.a62;
+        if( a.a63 > max ) max = a.a63;
+        if( a.a64 > max ) max = a.a64;
+        if( a.a65 > max ) max = a.a65;
+        if( a.a66 > max ) max = a.a66;
+        if( a.a67 > max ) max = a.a67;
+        if( a.a68 > max ) max = a.a68;
+        if( a.a69 > max ) max = a.a69;
+        if( a.a71 > max ) max = a.a71;
+        if( a.a72 > max ) max = a.a72;
+        if( a.a73 > max ) max = a.a73;
+        if( a.a74 > max ) max = a.a74;
+        if( a.a75 > max ) max = a.a75;
+        if( a.a76 > max ) max = a.a76;
+        if( a.a77 > max ) max = a.a77;
+        if( a.a78 > max ) max = a.a78;
+        if( a.a79 > max ) max = a.a79;
+        if( a.a81 > max ) max = a.a81;
+        if( a.a82 > max ) max = a.a82;
+        if( a.a83 > max ) max = a.a83;
+        if( a.a84 > max ) max = a.a84;
+        if( a.a85 > max ) max = a.a85;
+        if( a.a86 > max ) max = a.a86;
+        if( a.a87 > max ) max = a.a87;
+        if( a.a88 > max ) max = a.a88;
+        if( a.a89 > max ) max = a.a89;
+        if( a.a91 > max ) max = a.a91;
+        if( a.a92 > max ) max = a.a92;
+        if( a.a93 > max ) max = a.a93;
+        if( a.a94 > max ) max = a.a94;
+        if( a.a95 > max ) max = a.a95;
+        if( a.a96 > max ) max = a.a96;
+        if( a.a97 > max ) max = a.a97;
+        if( a.a98 > max ) max = a.a98;
+        if( a.a99 > max ) max = a.a99;
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the vector that has the largest value.<br>
+     * <br>
+     * Max{ a<sub>i</sub> } for all i<br>
+     * </p>
+     *
+     * @param a A vector. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMax( DMatrix9 a ) {
+        double max = a.a1;
+        if( a.a2 > max ) max = a.a2;
+        if( a.a3 > max ) max = a.a3;
+        if( a.a4 > max ) max = a.a4;
+        if( a.a5 > max ) max = a.a5;
+        if( a.a6 > max ) max = a.a6;
+        if( a.a7 > max ) max = a.a7;
+        if( a.a8 > max ) max = a.a8;
+        if( a.a9 > max ) max = a.a9;
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the largest absolute value.<br>
+     * <br>
+     * Max{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max abs element value of the matrix.
+     */
+    public static double elementMaxAbs( DMatrix9x9 a ) {
+        double max = Math.abs(a.a11);
+        double tmp = Math.abs(a.a12); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a13); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a14); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a15); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a16); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a17); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a18); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a19); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a21); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a22); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a23); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a24); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a25); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a26); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a27); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a28); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a29); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a31); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a32); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a33); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a34); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a35); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a36); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a37); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a38); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a39); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a41); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a42); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a43); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a44); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a45); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a46); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a47); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a48); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a49); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a51); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a52); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a53); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a54); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a55); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a56); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a57); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a58); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a59); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a61); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a62); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a63); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a64); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a65); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a66); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a67); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a68); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a69); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a71); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a72); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a73); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a74); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a75); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a76); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a77); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a78); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a79); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a81); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a82); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a83); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a84); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a85); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a86); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a87); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a88); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a89); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a91); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a92); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a93); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a94); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a95); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a96); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a97); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a98); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a99); if( tmp > max ) max = tmp;
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the vector that has the largest absolute value.<br>
+     * <br>
+     * Max{ |a<sub>i</sub>| } for all i<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max abs element value of the vector.
+     */
+    public static double elementMaxAbs( DMatrix9 a ) {
+        double max = Math.abs(a.a1);
+        double tmp = Math.abs(a.a2); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a2); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a3); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a4); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a5); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a6); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a7); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a8); if( tmp > max ) max = tmp;
+        tmp = Math.abs(a.a9); if( tmp > max ) max = tmp;
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the minimum value.<br>
+     * <br>
+     * Min{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The value of element in the matrix with the minimum value.
+     */
+    public static double elementMin( DMatrix9x9 a ) {
+        double min = a.a11;
+        if( a.a12 < min ) min = a.a12;
+        if( a.a13 < min ) min = a.a13;
+        if( a.a14 < min ) min = a.a14;
+        if( a.a15 < min ) min = a.a15;
+        if( a.a16 < min ) min = a.a16;
+        if( a.a17 < min ) min = a.a17;
+        if( a.a18 < min ) min = a.a18;
+        if( a.a19 < min ) min = a.a19;
+        if( a.a21 < min ) min = a.a21;
+        if( a.a22 < min ) min = a.a22;
+        if( a.a23 < min ) min = a.a23;
+        if( a.a24 < min ) min = a.a24;
+        if( a.a25 < min ) min = a.a25;
+        if( a.a26 < min ) min = a.a26;
+        if( a.a27 < min ) min = a.a27;
+        if( a.a28 < min ) min = a.a28;
+        if( a.a29 < min ) min = a.a29;
+        if( a.a31 < min ) min = a.a31;
+        if( a.a32 < min ) min = a.a32;
+        if( a.a33 < min ) min = a.a33;
+        if( a.a34 < min ) min = a.a34;
+        if( a.a35 < min ) min = a.a35;
+        if( a.a36 < min ) min = a.a36;
+        if( a.a37 < min ) min = a.a37;
+        if( a.a38 < min ) min = a.a38;
+        if( a.a39 < min ) min = a.a39;
+        if( a.a41 < min ) min = a.a41;
+        if( a.a42 < min ) min = a.a42;
+        if( a.a43 < min ) min = a.a43;
+        if( a.a44 < min ) min = a.a44;
+        if( a.a45 < min ) min = a.a45;
+        if( a.a46 < min ) min = a.a46;
+        if( a.a47 < min ) min = a.a47;
+        if( a.a48 < min ) min = a.a48;
+        if( a.a49 < min ) min = a.a49;
+        if( a.a51 < min ) min = a.a51;
+        if( a.a52 < min ) min = a.a52;
+        if( a.a53 < min ) min = a.a53;
+        if( a.a54 < min ) min = a.a54;
+        if( a.a55 < min ) min = a.a55;
+        if( a.a56 < min ) min = a.a56;
+        if( a.a57 < min ) min = a.a57;
+        if( a.a58 < min ) min = a.a58;
+        if( a.a59 < min ) min = a.a59;
+        if( a.a61 < min ) min = a.a61;
+        if( a.a62 < min ) min = a.a62;
+        if( a.a63 < min ) min = a.a63;
+        if( a.a64 < min ) min = a.a64;
+        if( a.a65 < min ) min = a.a65;
+        if( a.a66 < min ) min = a.a66;
+        if( a.a67 < min ) min = a.a67;
+        if( a.a68 < min ) min = a.a68;
+        if( a.a69 < min ) min = a.a69;
+        if( a.a71 < min ) min = a.a71;
+        if( a.a72 < min ) min = a.a72;
+        if( a.a73 < min ) min = a.a73;
+        if( a.a74 < min ) min = a.a74;
+        if( a.a75 < min ) min = a.a75;
+        if( a.a76 < min ) min = a.a76;
+        if( a.a77 < min ) min = a.a77;
+        if( a.a78 < min ) min = a.a78;
+        if( a.a79 < min ) min = a.a79;
+        if( a.a81 < min ) min = a.a81;
+        if( a.a82 < min ) min = a.a82;
+        if( a.a83 < min ) min = a.a83;
+        if( a.a84 < min ) min = a.a84;
+        if( a.a85 < min ) min = a.a85;
+        if( a.a86 < min ) min = a.a86;
+        if( a.a87 < min ) min = a.a87;
+        if( a.a88 < min ) min = a.a88;
+        if( a.a89 < min ) min = a.a89;
+        if( a.a91 < min ) min = a.a91;
+        if( a.a92 < min ) min = a.a92;
+        if( a.a93 < min ) min = a.a93;
+        if( a.a94 < min ) min = a.a94;
+        if( a.a95 < min ) min = a.a95;
+        if( a.a96 < min ) min = a.a96;
+        if( a.a97 < min ) min = a.a97;
+        if( a.a98 < min ) min = a.a98;
+        if( a.a99 < min ) min = a.a99;
+
+        return min;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the vector that has the minimum value.<br>
+     * <br>
+     * Min{ a<sub>i</sub> } for all<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The value of element in the vector with the minimum value.
+     */
+    public static double elementMin( DMatrix9 a ) {
+        double min = a.a1;
+        if( a.a2 < min ) min = a.a2;
+        if( a.a3 < min ) min = a.a3;
+        if( a.a4 < min ) min = a.a4;
+        if( a.a5 < min ) min = a.a5;
+        if( a.a6 < min ) min = a.a6;
+        if( a.a7 < min ) min = a.a7;
+        if( a.a8 < min ) min = a.a8;
+        if( a.a9 < min ) min = a.a9;
+
+        return min;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the smallest absolute value.<br>
+     * <br>
+     * Min{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMinAbs( DMatrix9x9 a ) {
+        double min = Math.abs(a.a11);
+        double tmp = Math.abs(a.a12); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a13); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a14); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a15); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a16); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a17); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a18); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a19); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a21); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a22); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a23); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a24); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a25); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a26); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a27); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a28); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a29); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a31); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a32); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a33); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a34); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a35); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a36); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a37); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a38); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a39); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a41); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a42); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a43); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a44); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a45); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a46); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a47); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a48); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a49); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a51); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a52); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a53); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a54); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a55); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a56); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a57); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a58); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a59); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a61); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a62); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a63); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a64); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a65); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a66); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a67); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a68); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a69); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a71); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a72); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a73); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a74); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a75); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a76); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a77); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a78); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a79); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a81); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a82); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a83); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a84); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a85); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a86); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a87); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a88); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a89); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a91); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a92); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a93); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a94); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a95); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a96); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a97); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a98); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a99); if( tmp < min ) min = tmp;
+
+        return min;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the vector that has the smallest absolute value.<br>
+     * <br>
+     * Min{ |a<sub>i</sub>| } for all i<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the vector.
+     */
+    public static double elementMinAbs( DMatrix9 a ) {
+        double min = Math.abs(a.a1);
+        double tmp = Math.abs(a.a1); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a2); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a3); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a4); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a5); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a6); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a7); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a8); if( tmp < min ) min = tmp;
+        tmp = Math.abs(a.a9); if( tmp < min ) min = tmp;
+
+        return min;
+    }
+
+    /**
+     * <p>Performs an element by element multiplication operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     */
+    public static void elementMult( DMatrix9x9 a , DMatrix9x9 b) {
+        a.a11 *= b.a11; a.a12 *= b.a12; a.a13 *= b.a13; a.a14 *= b.a14; a.a15 *= b.a15; a.a16 *= b.a16; a.a17 *= b.a17; a.a18 *= b.a18; a.a19 *= b.a19;
+        a.a21 *= b.a21; a.a22 *= b.a22; a.a23 *= b.a23; a.a24 *= b.a24; a.a25 *= b.a25; a.a26 *= b.a26; a.a27 *= b.a27; a.a28 *= b.a28; a.a29 *= b.a29;
+        a.a31 *= b.a31; a.a32 *= b.a32; a.a33 *= b.a33; a.a34 *= b.a34; a.a35 *= b.a35; a.a36 *= b.a36; a.a37 *= b.a37; a.a38 *= b.a38; a.a39 *= b.a39;
+        a.a41 *= b.a41; a.a42 *= b.a42; a.a43 *= b.a43; a.a44 *= b.a44; a.a45 *= b.a45; a.a46 *= b.a46; a.a47 *= b.a47; a.a48 *= b.a48; a.a49 *= b.a49;
+        a.a51 *= b.a51; a.a52 *= b.a52; a.a53 *= b.a53; a.a54 *= b.a54; a.a55 *= b.a55; a.a56 *= b.a56; a.a57 *= b.a57; a.a58 *= b.a58; a.a59 *= b.a59;
+        a.a61 *= b.a61; a.a62 *= b.a62; a.a63 *= b.a63; a.a64 *= b.a64; a.a65 *= b.a65; a.a66 *= b.a66; a.a67 *= b.a67; a.a68 *= b.a68; a.a69 *= b.a69;
+        a.a71 *= b.a71; a.a72 *= b.a72; a.a73 *= b.a73; a.a74 *= b.a74; a.a75 *= b.a75; a.a76 *= b.a76; a.a77 *= b.a77; a.a78 *= b.a78; a.a79 *= b.a79;
+        a.a81 *= b.a81; a.a82 *= b.a82; a.a83 *= b.a83; a.a84 *= b.a84; a.a85 *= b.a85; a.a86 *= b.a86; a.a87 *= b.a87; a.a88 *= b.a88; a.a89 *= b.a89;
+        a.a91 *= b.a91; a.a92 *= b.a92; a.a93 *= b.a93; a.a94 *= b.a94; a.a95 *= b.a95; a.a96 *= b.a96; a.a97 *= b.a97; a.a98 *= b.a98; a.a99 *= b.a99;
+    }
+
+    /**
+     * <p>Performs an element by element multiplication operation:<br>
+     * <br>
+     * a<sub>i</sub> = a<sub>i</sub> * b<sub>i</sub> <br>
+     * </p>
+     * @param a The left vector in the multiplication operation. Modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     */
+    public static void elementMult( DMatrix9 a , DMatrix9 b) {
+        a.a1 *= b.a1;
+        a.a2 *= b.a2;
+        a.a3 *= b.a3;
+        a.a4 *= b.a4;
+        a.a5 *= b.a5;
+        a.a6 *= b.a6;
+        a.a7 *= b.a7;
+        a.a8 *= b.a8;
+        a.a9 *= b.a9;
+    }
+
+    /**
+     * <p>Performs an element by element multiplication operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementMult( DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c ) {
+        c.a11 = a.a11*b.a11; c.a12 = a.a12*b.a12; c.a13 = a.a13*b.a13; c.a14 = a.a14*b.a14; c.a15 = a.a15*b.a15; c.a16 = a.a16*b.a16; c.a17 = a.a17*b.a17; c.a18 = a.a18*b.a18; c.a19 = a.a19*b.a19;
+        c.a21 = a.a21*b.a21; c.a22 = a.a22*b.a22; c.a23 = a.a23*b.a23; c.a24 = a.a24*b.a24; c.a25 = a.a25*b.a25; c.a26 = a.a26*b.a26; c.a27 = a.a27*b.a27; c.a28 = a.a28*b.a28; c.a29 = a.a29*b.a29;
+        c.a31 = a.a31*b.a31; c.a32 = a.a32*b.a32; c.a33 = a.a33*b.a33; c.a34 = a.a34*b.a34; c.a35 = a.a35*b.a35; c.a36 = a.a36*b.a36; c.a37 = a.a37*b.a37; c.a38 = a.a38*b.a38; c.a39 = a.a39*b.a39;
+        c.a41 = a.a41*b.a41; c.a42 = a.a42*b.a42; c.a43 = a.a43*b.a43; c.a44 = a.a44*b.a44; c.a45 = a.a45*b.a45; c.a46 = a.a46*b.a46; c.a47 = a.a47*b.a47; c.a48 = a.a48*b.a48; c.a49 = a.a49*b.a49;
+        c.a51 = a.a51*b.a51; c.a52 = a.a52*b.a52; c.a53 = a.a53*b.a53; c.a54 = a.a54*b.a54; c.a55 = a.a55*b.a55; c.a56 = a.a56*b.a56; c.a57 = a.a57*b.a57; c.a58 = a.a58*b.a58; c.a59 = a.a59*b.a59;
+        c.a61 = a.a61*b.a61; c.a62 = a.a62*b.a62; c.a63 = a.a63*b.a63; c.a64 = a.a64*b.a64; c.a65 = a.a65*b.a65; c.a66 = a.a66*b.a66; c.a67 = a.a67*b.a67; c.a68 = a.a68*b.a68; c.a69 = a.a69*b.a69;
+        c.a71 = a.a71*b.a71; c.a72 = a.a72*b.a72; c.a73 = a.a73*b.a73; c.a74 = a.a74*b.a74; c.a75 = a.a75*b.a75; c.a76 = a.a76*b.a76; c.a77 = a.a77*b.a77; c.a78 = a.a78*b.a78; c.a79 = a.a79*b.a79;
+        c.a81 = a.a81*b.a81; c.a82 = a.a82*b.a82; c.a83 = a.a83*b.a83; c.a84 = a.a84*b.a84; c.a85 = a.a85*b.a85; c.a86 = a.a86*b.a86; c.a87 = a.a87*b.a87; c.a88 = a.a88*b.a88; c.a89 = a.a89*b.a89;
+        c.a91 = a.a91*b.a91; c.a92 = a.a92*b.a92; c.a93 = a.a93*b.a93; c.a94 = a.a94*b.a94; c.a95 = a.a95*b.a95; c.a96 = a.a96*b.a96; c.a97 = a.a97*b.a97; c.a98 = a.a98*b.a98; c.a99 = a.a99*b.a99;
+    }
+
+    /**
+     * <p>Performs an element by element multiplication operation:<br>
+     * <br>
+     * c<sub>i</sub> = a<sub>i</sub> * b<sub>j</sub> <br>
+     * </p>
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementMult( DMatrix9 a , DMatrix9 b , DMatrix9 c ) {
+        c.a1 = a.a1*b.a1;
+        c.a2 = a.a2*b.a2;
+        c.a3 = a.a3*b.a3;
+        c.a4 = a.a4*b.a4;
+        c.a5 = a.a5*b.a5;
+        c.a6 = a.a6*b.a6;
+        c.a7 = a.a7*b.a7;
+        c.a8 = a.a8*b.a8;
+        c.a9 = a.a9*b.a9;
+    }
+
+    /**
+     * <p>Performs an element by element division operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Modified.
+     * @param b The right matrix in the division operation. Not modified.
+     */
+    public static void elementDiv( DMatrix9x9 a , DMatrix9x9 b) {
+        a.a11 /= b.a11; a.a12 /= b.a12; a.a13 /= b.a13; a.a14 /= b.a14; a.a15 /= b.a15; a.a16 /= b.a16; a.a17 /= b.a17; a.a18 /= b.a18; a.a19 /= b.a19;
+        a.a21 /= b.a21; a.a22 /= b.a22; a.a23 /= b.a23; a.a24 /= b.a24; a.a25 /= b.a25; a.a26 /= b.a26; a.a27 /= b.a27; a.a28 /= b.a28; a.a29 /= b.a29;
+        a.a31 /= b.a31; a.a32 /= b.a32; a.a33 /= b.a33; a.a34 /= b.a34; a.a35 /= b.a35; a.a36 /= b.a36; a.a37 /= b.a37; a.a38 /= b.a38; a.a39 /= b.a39;
+        a.a41 /= b.a41; a.a42 /= b.a42; a.a43 /= b.a43; a.a44 /= b.a44; a.a45 /= b.a45; a.a46 /= b.a46; a.a47 /= b.a47; a.a48 /= b.a48; a.a49 /= b.a49;
+        a.a51 /= b.a51; a.a52 /= b.a52; a.a53 /= b.a53; a.a54 /= b.a54; a.a55 /= b.a55; a.a56 /= b.a56; a.a57 /= b.a57; a.a58 /= b.a58; a.a59 /= b.a59;
+        a.a61 /= b.a61; a.a62 /= b.a62; a.a63 /= b.a63; a.a64 /= b.a64; a.a65 /= b.a65; a.a66 /= b.a66; a.a67 /= b.a67; a.a68 /= b.a68; a.a69 /= b.a69;
+        a.a71 /= b.a71; a.a72 /= b.a72; a.a73 /= b.a73; a.a74 /= b.a74; a.a75 /= b.a75; a.a76 /= b.a76; a.a77 /= b.a77; a.a78 /= b.a78; a.a79 /= b.a79;
+        a.a81 /= b.a81; a.a82 /= b.a82; a.a83 /= b.a83; a.a84 /= b.a84; a.a85 /= b.a85; a.a86 /= b.a86; a.a87 /= b.a87; a.a88 /= b.a88; a.a89 /= b.a89;
+        a.a91 /= b.a91; a.a92 /= b.a92; a.a93 /= b.a93; a.a94 /= b.a94; a.a95 /= b.a95; a.a96 /= b.a96; a.a97 /= b.a97; a.a98 /= b.a98; a.a99 /= b.a99;
+    }
+
+    /**
+     * <p>Performs an element by element division operation:<br>
+     * <br>
+     * a<sub>i</sub> = a<sub>i</sub> / b<sub>i</sub> <br>
+     * </p>
+     * @param a The left vector in the division operation. Modified.
+     * @param b The right vector in the division operation. Not modified.
+     */
+    public static void elementDiv( DMatrix9 a , DMatrix9 b) {
+        a.a1 /= b.a1;
+        a.a2 /= b.a2;
+        a.a3 /= b.a3;
+        a.a4 /= b.a4;
+        a.a5 /= b.a5;
+        a.a6 /= b.a6;
+        a.a7 /= b.a7;
+        a.a8 /= b.a8;
+        a.a9 /= b.a9;
+    }
+
+    /**
+     * <p>Performs an element by element division operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Not modified.
+     * @param b The right matrix in the division operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementDiv( DMatrix9x9 a , DMatrix9x9 b , DMatrix9x9 c ) {
+        c.a11 = a.a11/b.a11; c.a12 = a.a12/b.a12; c.a13 = a.a13/b.a13; c.a14 = a.a14/b.a14; c.a15 = a.a15/b.a15; c.a16 = a.a16/b.a16; c.a17 = a.a17/b.a17; c.a18 = a.a18/b.a18; c.a19 = a.a19/b.a19;
+        c.a21 = a.a21/b.a21; c.a22 = a.a22/b.a22; c.a23 = a.a23/b.a23; c.a24 = a.a24/b.a24; c.a25 = a.a25/b.a25; c.a26 = a.a26/b.a26; c.a27 = a.a27/b.a27; c.a28 = a.a28/b.a28; c.a29 = a.a29/b.a29;
+        c.a31 = a.a31/b.a31; c.a32 = a.a32/b.a32; c.a33 = a.a33/b.a33; c.a34 = a.a34/b.a34; c.a35 = a.a35/b.a35; c.a36 = a.a36/b.a36; c.a37 = a.a37/b.a37; c.a38 = a.a38/b.a38; c.a39 = a.a39/b.a39;
+        c.a41 = a.a41/b.a41; c.a42 = a.a42/b.a42; c.a43 = a.a43/b.a43; c.a44 = a.a44/b.a44; c.a45 = a.a45/b.a45; c.a46 = a.a46/b.a46; c.a47 = a.a47/b.a47; c.a48 = a.a48/b.a48; c.a49 = a.a49/b.a49;
+        c.a51 = a.a51/b.a51; c.a52 = a.a52/b.a52; c.a53 = a.a53/b.a53; c.a54 = a.a54/b.a54; c.a55 = a.a55/b.a55; c.a56 = a.a56/b.a56; c.a57 = a.a57/b.a57; c.a58 = a.a58/b.a58; c.a59 = a.a59/b.a59;
+        c.a61 = a.a61/b.a61; c.a62 = a.a62/b.a62; c.a63 = a.a63/b.a63; c.a64 = a.a64/b.a64; c.a65 = a.a65/b.a65; c.a66 = a.a66/b.a66; c.a67 = a.a67/b.a67; c.a68 = a.a68/b.a68; c.a69 = a.a69/b.a69;
+        c.a71 = a.a71/b.a71; c.a72 = a.a72/b.a72; c.a73 = a.a73/b.a73; c.a74 = a.a74/b.a74; c.a75 = a.a75/b.a75; c.a76 = a.a76/b.a76; c.a77 = a.a77/b.a77; c.a78 = a.a78/b.a78; c.a79 = a.a79/b.a79;
+        c.a81 = a.a81/b.a81; c.a82 = a.a82/b.a82; c.a83 = a.a83/b.a83; c.a84 = a.a84/b.a84; c.a85 = a.a85/b.a85; c.a86 = a.a86/b.a86; c.a87 = a.a87/b.a87; c.a88 = a.a88/b.a88; c.a89 = a.a89/b.a89;
+        c.a91 = a.a91/b.a91; c.a92 = a.a92/b.a92; c.a93 = a.a93/b.a93; c.a94 = a.a94/b.a94; c.a95 = a.a95/b.a95; c.a96 = a.a96/b.a96; c.a97 = a.a97/b.a97; c.a98 = a.a98/b.a98; c.a99 = a.a99/b.a99;
+    }
+
+    /**
+     * <p>Performs an element by element division operation:<br>
+     * <br>
+     * c<sub>i</sub> = a<sub>i</sub> / b<sub>i</sub> <br>
+     * </p>
+     * @param a The left vector in the division operation. Not modified.
+     * @param b The right vector in the division operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementDiv( DMatrix9 a , DMatrix9 b , DMatrix9 c ) {
+        c.a1 = a.a1/b.a1;
+        c.a2 = a.a2/b.a2;
+        c.a3 = a.a3/b.a3;
+        c.a4 = a.a4/b.a4;
+        c.a5 = a.a5/b.a5;
+        c.a6 = a.a6/b.a6;
+        c.a7 = a.a7/b.a7;
+        c.a8 = a.a8/b.a8;
+        c.a9 = a.a9/b.a9;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled. Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , DMatrix9x9 a ) {
+        a.a11 *= alpha; a.a12 *= alpha; a.a13 *= alpha; a.a14 *= alpha; a.a15 *= alpha; a.a16 *= alpha; a.a17 *= alpha; a.a18 *= alpha; a.a19 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha; a.a23 *= alpha; a.a24 *= alpha; a.a25 *= alpha; a.a26 *= alpha; a.a27 *= alpha; a.a28 *= alpha; a.a29 *= alpha;
+        a.a31 *= alpha; a.a32 *= alpha; a.a33 *= alpha; a.a34 *= alpha; a.a35 *= alpha; a.a36 *= alpha; a.a37 *= alpha; a.a38 *= alpha; a.a39 *= alpha;
+        a.a41 *= alpha; a.a42 *= alpha; a.a43 *= alpha; a.a44 *= alpha; a.a45 *= alpha; a.a46 *= alpha; a.a47 *= alpha; a.a48 *= alpha; a.a49 *= alpha;
+        a.a51 *= alpha; a.a52 *= alpha; a.a53 *= alpha; a.a54 *= alpha; a.a55 *= alpha; a.a56 *= alpha; a.a57 *= alpha; a.a58 *= alpha; a.a59 *= alpha;
+        a.a61 *= alpha; a.a62 *= alpha; a.a63 *= alpha; a.a64 *= alpha; a.a65 *= alpha; a.a66 *= alpha; a.a67 *= alpha; a.a68 *= alpha; a.a69 *= alpha;
+        a.a71 *= alpha; a.a72 *= alpha; a.a73 *= alpha; a.a74 *= alpha; a.a75 *= alpha; a.a76 *= alpha; a.a77 *= alpha; a.a78 *= alpha; a.a79 *= alpha;
+        a.a81 *= alpha; a.a82 *= alpha; a.a83 *= alpha; a.a84 *= alpha; a.a85 *= alpha; a.a86 *= alpha; a.a87 *= alpha; a.a88 *= alpha; a.a89 *= alpha;
+        a.a91 *= alpha; a.a92 *= alpha; a.a93 *= alpha; a.a94 *= alpha; a.a95 *= alpha; a.a96 *= alpha; a.a97 *= alpha; a.a98 *= alpha; a.a99 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The vector that is to be scaled. Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , DMatrix9 a ) {
+        a.a1 *= alpha;
+        a.a2 *= alpha;
+        a.a3 *= alpha;
+        a.a4 *= alpha;
+        a.a5 *= alpha;
+        a.a6 *= alpha;
+        a.a7 *= alpha;
+        a.a8 *= alpha;
+        a.a9 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , DMatrix9x9 a , DMatrix9x9 b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha; b.a13 = a.a13*alpha; b.a14 = a.a14*alpha; b.a15 = a.a15*alpha; b.a16 = a.a16*alpha; b.a17 = a.a17*alpha; b.a18 = a.a18*alpha; b.a19 = a.a19*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha; b.a23 = a.a23*alpha; b.a24 = a.a24*alpha; b.a25 = a.a25*alpha; b.a26 = a.a26*alpha; b.a27 = a.a27*alpha; b.a28 = a.a28*alpha; b.a29 = a.a29*alpha;
+        b.a31 = a.a31*alpha; b.a32 = a.a32*alpha; b.a33 = a.a33*alpha; b.a34 = a.a34*alpha; b.a35 = a.a35*alpha; b.a36 = a.a36*alpha; b.a37 = a.a37*alpha; b.a38 = a.a38*alpha; b.a39 = a.a39*alpha;
+        b.a41 = a.a41*alpha; b.a42 = a.a42*alpha; b.a43 = a.a43*alpha; b.a44 = a.a44*alpha; b.a45 = a.a45*alpha; b.a46 = a.a46*alpha; b.a47 = a.a47*alpha; b.a48 = a.a48*alpha; b.a49 = a.a49*alpha;
+        b.a51 = a.a51*alpha; b.a52 = a.a52*alpha; b.a53 = a.a53*alpha; b.a54 = a.a54*alpha; b.a55 = a.a55*alpha; b.a56 = a.a56*alpha; b.a57 = a.a57*alpha; b.a58 = a.a58*alpha; b.a59 = a.a59*alpha;
+        b.a61 = a.a61*alpha; b.a62 = a.a62*alpha; b.a63 = a.a63*alpha; b.a64 = a.a64*alpha; b.a65 = a.a65*alpha; b.a66 = a.a66*alpha; b.a67 = a.a67*alpha; b.a68 = a.a68*alpha; b.a69 = a.a69*alpha;
+        b.a71 = a.a71*alpha; b.a72 = a.a72*alpha; b.a73 = a.a73*alpha; b.a74 = a.a74*alpha; b.a75 = a.a75*alpha; b.a76 = a.a76*alpha; b.a77 = a.a77*alpha; b.a78 = a.a78*alpha; b.a79 = a.a79*alpha;
+        b.a81 = a.a81*alpha; b.a82 = a.a82*alpha; b.a83 = a.a83*alpha; b.a84 = a.a84*alpha; b.a85 = a.a85*alpha; b.a86 = a.a86*alpha; b.a87 = a.a87*alpha; b.a88 = a.a88*alpha; b.a89 = a.a89*alpha;
+        b.a91 = a.a91*alpha; b.a92 = a.a92*alpha; b.a93 = a.a93*alpha; b.a94 = a.a94*alpha; b.a95 = a.a95*alpha; b.a96 = a.a96*alpha; b.a97 = a.a97*alpha; b.a98 = a.a98*alpha; b.a99 = a.a99*alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>i</sub> = &alpha;*a<sub>i</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The vector that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , DMatrix9 a , DMatrix9 b ) {
+        b.a1 = a.a1*alpha;
+        b.a2 = a.a2*alpha;
+        b.a3 = a.a3*alpha;
+        b.a4 = a.a4*alpha;
+        b.a5 = a.a5*alpha;
+        b.a6 = a.a6*alpha;
+        b.a7 = a.a7*alpha;
+        b.a8 = a.a8*alpha;
+        b.a9 = a.a9*alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar division. Scalar denominator.<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub>/&alpha;
+     * </p>
+     *
+     * @param a The matrix whose elements are to be divided. Modified.
+     * @param alpha the amount each element is divided by.
+     */
+    public static void divide( DMatrix9x9 a , double alpha ) {
+        a.a11 /= alpha; a.a12 /= alpha; a.a13 /= alpha; a.a14 /= alpha; a.a15 /= alpha; a.a16 /= alpha; a.a17 /= alpha; a.a18 /= alpha; a.a19 /= alpha;
+        a.a21 /= alpha; a.a22 /= alpha; a.a23 /= alpha; a.a24 /= alpha; a.a25 /= alpha; a.a26 /= alpha; a.a27 /= alpha; a.a28 /= alpha; a.a29 /= alpha;
+        a.a31 /= alpha; a.a32 /= alpha; a.a33 /= alpha; a.a34 /= alpha; a.a35 /= alpha; a.a36 /= alpha; a.a37 /= alpha; a.a38 /= alpha; a.a39 /= alpha;
+        a.a41 /= alpha; a.a42 /= alpha; a.a43 /= alpha; a.a44 /= alpha; a.a45 /= alpha; a.a46 /= alpha; a.a47 /= alpha; a.a48 /= alpha; a.a49 /= alpha;
+        a.a51 /= alpha; a.a52 /= alpha; a.a53 /= alpha; a.a54 /= alpha; a.a55 /= alpha; a.a56 /= alpha; a.a57 /= alpha; a.a58 /= alpha; a.a59 /= alpha;
+        a.a61 /= alpha; a.a62 /= alpha; a.a63 /= alpha; a.a64 /= alpha; a.a65 /= alpha; a.a66 /= alpha; a.a67 /= alpha; a.a68 /= alpha; a.a69 /= alpha;
+        a.a71 /= alpha; a.a72 /= alpha; a.a73 /= alpha; a.a74 /= alpha; a.a75 /= alpha; a.a76 /= alpha; a.a77 /= alpha; a.a78 /= alpha; a.a79 /= alpha;
+        a.a81 /= alpha; a.a82 /= alpha; a.a83 /= alpha; a.a84 /= alpha; a.a85 /= alpha; a.a86 /= alpha; a.a87 /= alpha; a.a88 /= alpha; a.a89 /= alpha;
+        a.a91 /= alpha; a.a92 /= alpha; a.a93 /= alpha; a.a94 /= alpha; a.a95 /= alpha; a.a96 /= alpha; a.a97 /= alpha; a.a98 /= alpha; a.a99 /= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar division. Scalar denominator.<br>
+     * <br>
+     * a<sub>i</sub> = a<sub>i</sub>/&alpha;
+     * </p>
+     *
+     * @param a The vector whose elements are to be divided. Modified.
+     * @param alpha the amount each element is divided by.
+     */
+    public static void divide( DMatrix9 a , double alpha ) {
+        a.a1 /= alpha;
+        a.a2 /= alpha;
+        a.a3 /= alpha;
+        a.a4 /= alpha;
+        a.a5 /= alpha;
+        a.a6 /= alpha;
+        a.a7 /= alpha;
+        a.a8 /= alpha;
+        a.a9 /= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar division. Scalar denominator.<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ij</sub> /&alpha;
+     * </p>
+     *
+     * @param alpha the amount each element is divided by.
+     * @param a The matrix whose elements are to be divided. Not modified.
+     * @param b Where the results are stored. Modified.
+     */
+    public static void divide( DMatrix9x9 a , double alpha , DMatrix9x9 b ) {
+        b.a11 = a.a11/alpha; b.a12 = a.a12/alpha; b.a13 = a.a13/alpha; b.a14 = a.a14/alpha; b.a15 = a.a15/alpha; b.a16 = a.a16/alpha; b.a17 = a.a17/alpha; b.a18 = a.a18/alpha; b.a19 = a.a19/alpha;
+        b.a21 = a.a21/alpha; b.a22 = a.a22/alpha; b.a23 = a.a23/alpha; b.a24 = a.a24/alpha; b.a25 = a.a25/alpha; b.a26 = a.a26/alpha; b.a27 = a.a27/alpha; b.a28 = a.a28/alpha; b.a29 = a.a29/alpha;
+        b.a31 = a.a31/alpha; b.a32 = a.a32/alpha; b.a33 = a.a33/alpha; b.a34 = a.a34/alpha; b.a35 = a.a35/alpha; b.a36 = a.a36/alpha; b.a37 = a.a37/alpha; b.a38 = a.a38/alpha; b.a39 = a.a39/alpha;
+        b.a41 = a.a41/alpha; b.a42 = a.a42/alpha; b.a43 = a.a43/alpha; b.a44 = a.a44/alpha; b.a45 = a.a45/alpha; b.a46 = a.a46/alpha; b.a47 = a.a47/alpha; b.a48 = a.a48/alpha; b.a49 = a.a49/alpha;
+        b.a51 = a.a51/alpha; b.a52 = a.a52/alpha; b.a53 = a.a53/alpha; b.a54 = a.a54/alpha; b.a55 = a.a55/alpha; b.a56 = a.a56/alpha; b.a57 = a.a57/alpha; b.a58 = a.a58/alpha; b.a59 = a.a59/alpha;
+        b.a61 = a.a61/alpha; b.a62 = a.a62/alpha; b.a63 = a.a63/alpha; b.a64 = a.a64/alpha; b.a65 = a.a65/alpha; b.a66 = a.a66/alpha; b.a67 = a.a67/alpha; b.a68 = a.a68/alpha; b.a69 = a.a69/alpha;
+        b.a71 = a.a71/alpha; b.a72 = a.a72/alpha; b.a73 = a.a73/alpha; b.a74 = a.a74/alpha; b.a75 = a.a75/alpha; b.a76 = a.a76/alpha; b.a77 = a.a77/alpha; b.a78 = a.a78/alpha; b.a79 = a.a79/alpha;
+        b.a81 = a.a81/alpha; b.a82 = a.a82/alpha; b.a83 = a.a83/alpha; b.a84 = a.a84/alpha; b.a85 = a.a85/alpha; b.a86 = a.a86/alpha; b.a87 = a.a87/alpha; b.a88 = a.a88/alpha; b.a89 = a.a89/alpha;
+        b.a91 = a.a91/alpha; b.a92 = a.a92/alpha; b.a93 = a.a93/alpha; b.a94 = a.a94/alpha; b.a95 = a.a95/alpha; b.a96 = a.a96/alpha; b.a97 = a.a97/alpha; b.a98 = a.a98/alpha; b.a99 = a.a99/alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar division. Scalar denominator.<br>
+     * <br>
+     * b<sub>i</sub> = a<sub>i</sub> /&alpha;
+     * </p>
+     *
+     * @param alpha the amount each element is divided by.
+     * @param a The vector whose elements are to be divided. Not modified.
+     * @param b Where the results are stored. Modified.
+     */
+    public static void divide( DMatrix9 a , double alpha , DMatrix9 b ) {
+        b.a1 = a.a1/alpha;
+        b.a2 = a.a2/alpha;
+        b.a3 = a.a3/alpha;
+        b.a4 = a.a4/alpha;
+        b.a5 = a.a5/alpha;
+        b.a6 = a.a6/alpha;
+        b.a7 = a.a7/alpha;
+        b.a8 = a.a8/alpha;
+        b.a9 = a.a9/alpha;
+    }
+
+    /**
+     * <p>
+     * Changes the sign of every element in the matrix.<br>
+     * <br>
+     * a<sub>ij</sub> = -a<sub>ij</sub>
+     * </p>
+     *
+     * @param a A matrix. Modified.
+     */
+    public static void changeSign( DMatrix9x9 a )
+    {
+        a.a11 = -a.a11; a.a12 = -a.a12; a.a13 = -a.a13; a.a14 = -a.a14; a.a15 = -a.a15; a.a16 = -a.a16; a.a17 = -a.a17; a.a18 = -a.a18; a.a19 = -a.a19;
+        a.a21 = -a.a21; a.a22 = -a.a22; a.a23 = -a.a23; a.a24 = -a.a24; a.a25 = -a.a25; a.a26 = -a.a26; a.a27 = -a.a27; a.a28 = -a.a28; a.a29 = -a.a29;
+        a.a31 = -a.a31; a.a32 = -a.a32; a.a33 = -a.a33; a.a34 = -a.a34; a.a35 = -a.a35; a.a36 = -a.a36; a.a37 = -a.a37; a.a38 = -a.a38; a.a39 = -a.a39;
+        a.a41 = -a.a41; a.a42 = -a.a42; a.a43 = -a.a43; a.a44 = -a.a44; a.a45 = -a.a45; a.a46 = -a.a46; a.a47 = -a.a47; a.a48 = -a.a48; a.a49 = -a.a49;
+        a.a51 = -a.a51; a.a52 = -a.a52; a.a53 = -a.a53; a.a54 = -a.a54; a.a55 = -a.a55; a.a56 = -a.a56; a.a57 = -a.a57; a.a58 = -a.a58; a.a59 = -a.a59;
+        a.a61 = -a.a61; a.a62 = -a.a62; a.a63 = -a.a63; a.a64 = -a.a64; a.a65 = -a.a65; a.a66 = -a.a66; a.a67 = -a.a67; a.a68 = -a.a68; a.a69 = -a.a69;
+        a.a71 = -a.a71; a.a72 = -a.a72; a.a73 = -a.a73; a.a74 = -a.a74; a.a75 = -a.a75; a.a76 = -a.a76; a.a77 = -a.a77; a.a78 = -a.a78; a.a79 = -a.a79;
+        a.a81 = -a.a81; a.a82 = -a.a82; a.a83 = -a.a83; a.a84 = -a.a84; a.a85 = -a.a85; a.a86 = -a.a86; a.a87 = -a.a87; a.a88 = -a.a88; a.a89 = -a.a89;
+        a.a91 = -a.a91; a.a92 = -a.a92; a.a93 = -a.a93; a.a94 = -a.a94; a.a95 = -a.a95; a.a96 = -a.a96; a.a97 = -a.a97; a.a98 = -a.a98; a.a99 = -a.a99;
+    }
+
+    /**
+     * <p>
+     * Changes the sign of every element in the vector.<br>
+     * <br>
+     * a<sub>i</sub> = -a<sub>i</sub>
+     * </p>
+     *
+     * @param a A vector. Modified.
+     */
+    public static void changeSign( DMatrix9 a )
+    {
+        a.a1 = -a.a1;
+        a.a2 = -a.a2;
+        a.a3 = -a.a3;
+        a.a4 = -a.a4;
+        a.a5 = -a.a5;
+        a.a6 = -a.a6;
+        a.a7 = -a.a7;
+        a.a8 = -a.a8;
+        a.a9 = -a.a9;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( DMatrix9x9 a , double v  ) {
+        a.a11 = v; a.a12 = v; a.a13 = v; a.a14 = v; a.a15 = v; a.a16 = v; a.a17 = v; a.a18 = v; a.a19 = v;
+        a.a21 = v; a.a22 = v; a.a23 = v; a.a24 = v; a.a25 = v; a.a26 = v; a.a27 = v; a.a28 = v; a.a29 = v;
+        a.a31 = v; a.a32 = v; a.a33 = v; a.a34 = v; a.a35 = v; a.a36 = v; a.a37 = v; a.a38 = v; a.a39 = v;
+        a.a41 = v; a.a42 = v; a.a43 = v; a.a44 = v; a.a45 = v; a.a46 = v; a.a47 = v; a.a48 = v; a.a49 = v;
+        a.a51 = v; a.a52 = v; a.a53 = v; a.a54 = v; a.a55 = v; a.a56 = v; a.a57 = v; a.a58 = v; a.a59 = v;
+        a.a61 = v; a.a62 = v; a.a63 = v; a.a64 = v; a.a65 = v; a.a66 = v; a.a67 = v; a.a68 = v; a.a69 = v;
+        a.a71 = v; a.a72 = v; a.a73 = v; a.a74 = v; a.a75 = v; a.a76 = v; a.a77 = v; a.a78 = v; a.a79 = v;
+        a.a81 = v; a.a82 = v; a.a83 = v; a.a84 = v; a.a85 = v; a.a86 = v; a.a87 = v; a.a88 = v; a.a89 = v;
+        a.a91 = v; a.a92 = v; a.a93 = v; a.a94 = v; a.a95 = v; a.a96 = v; a.a97 = v; a.a98 = v; a.a99 = v;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the vector to the specified value.<br>
+     * <br>
+     * a<sub>i</sub> = value
+     * <p>
+     *
+     * @param a A vector whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( DMatrix9 a , double v  ) {
+        a.a1 = v;
+        a.a2 = v;
+        a.a3 = v;
+        a.a4 = v;
+        a.a5 = v;
+        a.a6 = v;
+        a.a7 = v;
+        a.a8 = v;
+        a.a9 = v;
+    }
+
+    /**
+     * Extracts the row from the matrix a.
+     * @param a Input matrix
+     * @param row Which row is to be extracted
+     * @param out output. Storage for the extracted row. If null then a new vector will be returned.
+     * @return The extracted row.
+     */
+    public static DMatrix9 extractRow( DMatrix9x9 a , int row , DMatrix9 out ) {
+        if( out == null) out = new DMatrix9();
+        switch( row ) {
+            case 0:
+                out.a1 = a.a11;
+                out.a2 = a.a12;
+                out.a3 = a.a13;
+                out.a4 = a.a14;
+                out.a5 = a.a15;
+                out.a6 = a.a16;
+                out.a7 = a.a17;
+                out.a8 = a.a18;
+                out.a9 = a.a19;
+            break;
+            case 1:
+                out.a1 = a.a21;
+                out.a2 = a.a22;
+                out.a3 = a.a23;
+                out.a4 = a.a24;
+                out.a5 = a.a25;
+                out.a6 = a.a26;
+                out.a7 = a.a27;
+                out.a8 = a.a28;
+                out.a9 = a.a29;
+            break;
+            case 2:
+                out.a1 = a.a31;
+                out.a2 = a.a32;
+                out.a3 = a.a33;
+                out.a4 = a.a34;
+                out.a5 = a.a35;
+                out.a6 = a.a36;
+                out.a7 = a.a37;
+                out.a8 = a.a38;
+                out.a9 = a.a39;
+            break;
+            case 3:
+                out.a1 = a.a41;
+                out.a2 = a.a42;
+                out.a3 = a.a43;
+                out.a4 = a.a44;
+                out.a5 = a.a45;
+                out.a6 = a.a46;
+                out.a7 = a.a47;
+                out.a8 = a.a48;
+                out.a9 = a.a49;
+            break;
+            case 4:
+                out.a1 = a.a51;
+                out.a2 = a.a52;
+                out.a3 = a.a53;
+                out.a4 = a.a54;
+                out.a5 = a.a55;
+                out.a6 = a.a56;
+                out.a7 = a.a57;
+                out.a8 = a.a58;
+                out.a9 = a.a59;
+            break;
+            case 5:
+                out.a1 = a.a61;
+                out.a2 = a.a62;
+                out.a3 = a.a63;
+                out.a4 = a.a64;
+                out.a5 = a.a65;
+                out.a6 = a.a66;
+                out.a7 = a.a67;
+                out.a8 = a.a68;
+                out.a9 = a.a69;
+            break;
+            case 6:
+                out.a1 = a.a71;
+                out.a2 = a.a72;
+                out.a3 = a.a73;
+                out.a4 = a.a74;
+                out.a5 = a.a75;
+                out.a6 = a.a76;
+                out.a7 = a.a77;
+                out.a8 = a.a78;
+                out.a9 = a.a79;
+            break;
+            case 7:
+                out.a1 = a.a81;
+                out.a2 = a.a82;
+                out.a3 = a.a83;
+                out.a4 = a.a84;
+                out.a5 = a.a85;
+                out.a6 = a.a86;
+                out.a7 = a.a87;
+                out.a8 = a.a88;
+                out.a9 = a.a89;
+            break;
+            case 8:
+                out.a1 = a.a91;
+                out.a2 = a.a92;
+                out.a3 = a.a93;
+                out.a4 = a.a94;
+                out.a5 = a.a95;
+                out.a6 = a.a96;
+                out.a7 = a.a97;
+                out.a8 = a.a98;
+                out.a9 = a.a99;
+            break;
+            default:
+                throw new IllegalArgumentException("Out of bounds row. row = "+row);
+        }
+        return out;
+    }
+
+    /**
+     * Extracts the column from the matrix a.
+     * @param a Input matrix
+     * @param column Which column is to be extracted
+     * @param out output. Storage for the extracted column. If null then a new vector will be returned.
+     * @return The extracted column.
+     */
+    public static DMatrix9 extractColumn( DMatrix9x9 a , int column , DMatrix9 out ) {
+        if( out == null) out = new DMatrix9();
+        switch( column ) {
+            case 0:
+                out.a1 = a.a11;
+                out.a2 = a.a21;
+                out.a3 = a.a31;
+                out.a4 = a.a41;
+                out.a5 = a.a51;
+                out.a6 = a.a61;
+                out.a7 = a.a71;
+                out.a8 = a.a81;
+                out.a9 = a.a91;
+            break;
+            case 1:
+                out.a1 = a.a12;
+                out.a2 = a.a22;
+                out.a3 = a.a32;
+                out.a4 = a.a42;
+                out.a5 = a.a52;
+                out.a6 = a.a62;
+                out.a7 = a.a72;
+                out.a8 = a.a82;
+                out.a9 = a.a92;
+            break;
+            case 2:
+                out.a1 = a.a13;
+                out.a2 = a.a23;
+                out.a3 = a.a33;
+                out.a4 = a.a43;
+                out.a5 = a.a53;
+                out.a6 = a.a63;
+                out.a7 = a.a73;
+                out.a8 = a.a83;
+                out.a9 = a.a93;
+            break;
+            case 3:
+                out.a1 = a.a14;
+                out.a2 = a.a24;
+                out.a3 = a.a34;
+                out.a4 = a.a44;
+                out.a5 = a.a54;
+                out.a6 = a.a64;
+                out.a7 = a.a74;
+                out.a8 = a.a84;
+                out.a9 = a.a94;
+            break;
+            case 4:
+                out.a1 = a.a15;
+                out.a2 = a.a25;
+                out.a3 = a.a35;
+                out.a4 = a.a45;
+                out.a5 = a.a55;
+                out.a6 = a.a65;
+                out.a7 = a.a75;
+                out.a8 = a.a85;
+                out.a9 = a.a95;
+            break;
+            case 5:
+                out.a1 = a.a16;
+                out.a2 = a.a26;
+                out.a3 = a.a36;
+                out.a4 = a.a46;
+                out.a5 = a.a56;
+                out.a6 = a.a66;
+                out.a7 = a.a76;
+                out.a8 = a.a86;
+                out.a9 = a.a96;
+            break;
+            case 6:
+                out.a1 = a.a17;
+                out.a2 = a.a27;
+                out.a3 = a.a37;
+                out.a4 = a.a47;
+                out.a5 = a.a57;
+                out.a6 = a.a67;
+                out.a7 = a.a77;
+                out.a8 = a.a87;
+                out.a9 = a.a97;
+            break;
+            case 7:
+                out.a1 = a.a18;
+                out.a2 = a.a28;
+                out.a3 = a.a38;
+                out.a4 = a.a48;
+                out.a5 = a.a58;
+                out.a6 = a.a68;
+                out.a7 = a.a78;
+                out.a8 = a.a88;
+                out.a9 = a.a98;
+            break;
+            case 8:
+                out.a1 = a.a19;
+                out.a2 = a.a29;
+                out.a3 = a.a39;
+                out.a4 = a.a49;
+                out.a5 = a.a59;
+                out.a6 = a.a69;
+                out.a7 = a.a79;
+                out.a8 = a.a89;
+                out.a9 = a.a99;
+            break;
+            default:
+                throw new IllegalArgumentException("Out of bounds column. column = "+column);
+        }
+        return out;
+    }
+
+}
+
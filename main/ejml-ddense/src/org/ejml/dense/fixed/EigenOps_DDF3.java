@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix3;
+import org.ejml.data.DMatrix3x3;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>Eigenvalue decomposition of fixed sized 3 x 3 symmetric matrices. Only the upper triangle of the input matrix
+ * is read. All the work is done on local variables and no memory is allocated.</p>
+ *
+ * <p>Eigenvalues are returned in descending order and the eigenvectors are stored in the columns of the
+ * output matrix in the same order.</p>
+ *
+ * @author Peter Abeles
+ */
+public class EigenOps_DDF3 {
+    /**
+     * Maximum number of Jacobi sweeps. Convergence is quadratic and typically only a handful are needed.
+     */
+    public static final int MAX_SWEEPS = 50;
+
+    /**
+     * Computes the eigenvalues and optionally the eigenvectors of a symmetric matrix using cyclic Jacobi rotations.
+     *
+     * @param A (Input) Symmetric matrix. Only the upper triangle is read. Not modified.
+     * @param values (Output) Eigenvalues in descending order.
+     * @param vectors (Output) Orthonormal eigenvectors stored in the columns. Can be the same instance as A. If null
+     * then the eigenvectors are not saved.
+     * @return true if it converged
+     */
+    public static boolean symmetric( DMatrix3x3 A, DMatrix3 values, @Nullable DMatrix3x3 vectors ) {
+        double a11 = A.a11, a12 = A.a12, a13 = A.a13;
+        double a22 = A.a22, a23 = A.a23;
+        double a33 = A.a33;
+
+        double v11 = 1, v12 = 0, v13 = 0;
+        double v21 = 0, v22 = 1, v23 = 0;
+        double v31 = 0, v32 = 0, v33 = 1;
+
+        double theta, t, c, s, tmp;
+        boolean converged = false;
+
+        for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+            double off = a12*a12 + a13*a13 + a23*a23;
+            double diag = a11*a11 + a22*a22 + a33*a33;
+            if (off <= UtilEjml.EPS*UtilEjml.EPS*diag) {
+                converged = true;
+                break;
+            }
+
+            // rotation in the (1,2) plane
+            if (a12 != 0.0) {
+                theta = (a22 - a11)/(2.0*a12);
+                t = 1.0/(Math.abs(theta) + Math.sqrt(theta*theta + 1.0));
+                if (theta < 0.0) t = -t;
+                c = 1.0/Math.sqrt(t*t + 1.0);
+                s = t*c;
+
+                a11 -= t*a12;
+                a22 += t*a12;
+                a12 = 0.0;
+                tmp = c*a13 - s*a23; a23 = s*a13 + c*a23; a13 = tmp;
+                tmp = c*v11 - s*v12; v12 = s*v11 + c*v12; v11 = tmp;
+                tmp = c*v21 - s*v22; v22 = s*v21 + c*v22; v21 = tmp;
+                tmp = c*v31 - s*v32; v32 = s*v31 + c*v32; v31 = tmp;
+            }
+
+            // rotation in the (1,3) plane
+            if (a13 != 0.0) {
+                theta = (a33 - a11)/(2.0*a13);
+                t = 1.0/(Math.abs(theta) + Math.sqrt(theta*theta + 1.0));
+                if (theta < 0.0) t = -t;
+                c = 1.0/Math.sqrt(t*t + 1.0);
+                s = t*c;
+
+                a11 -= t*a13;
+                a33 += t*a13;
+                a13 = 0.0;
+                tmp = c*a12 - s*a23; a23 = s*a12 + c*a23; a12 = tmp;
+                tmp = c*v11 - s*v13; v13 = s*v11 + c*v13; v11 = tmp;
+                tmp = c*v21 - s*v23; v23 = s*v21 + c*v23; v21 = tmp;
+                tmp = c*v31 - s*v33; v33 = s*v31 + c*v33; v31 = tmp;
+            }
+
+            // rotation in the (2,3) plane
+            if (a23 != 0.0) {
+                theta = (a33 - a22)/(2.0*a23);
+                t = 1.0/(Math.abs(theta) + Math.sqrt(theta*theta + 1.0));
+                if (theta < 0.0) t = -t;
+                c = 1.0/Math.sqrt(t*t + 1.0);
+                s = t*c;
+
+                a22 -= t*a23;
+                a33 += t*a23;
+                a23 = 0.0;
+                tmp = c*a12 - s*a13; a13 = s*a12 + c*a13; a12 = tmp;
+                tmp = c*v12 - s*v13; v13 = s*v12 + c*v13; v12 = tmp;
+                tmp = c*v22 - s*v23; v23 = s*v22 + c*v23; v22 = tmp;
+                tmp = c*v32 - s*v33; v33 = s*v32 + c*v33; v32 = tmp;
+            }
+        }
+
+        // sort into descending order
+        if (a11 < a22) {
+            tmp = a11; a11 = a22; a22 = tmp;
+            tmp = v11; v11 = v12; v12 = tmp;
+            tmp = v21; v21 = v22; v22 = tmp;
+            tmp = v31; v31 = v32; v32 = tmp;
+        }
+        if (a11 < a33) {
+            tmp = a11; a11 = a33; a33 = tmp;
+            tmp = v11; v11 = v13; v13 = tmp;
+            tmp = v21; v21 = v23; v23 = tmp;
+            tmp = v31; v31 = v33; v33 = tmp;
+        }
+        if (a22 < a33) {
+            tmp = a22; a22 = a33; a33 = tmp;
+            tmp = v12; v12 = v13; v13 = tmp;
+            tmp = v22; v22 = v23; v23 = tmp;
+            tmp = v32; v32 = v33; v33 = tmp;
+        }
+
+        values.a1 = a11; values.a2 = a22; values.a3 = a33;
+        if (vectors != null) {
+            vectors.a11 = v11; vectors.a12 = v12; vectors.a13 = v13;
+            vectors.a21 = v21; vectors.a22 = v22; vectors.a23 = v23;
+            vectors.a31 = v31; vectors.a32 = v32; vectors.a33 = v33;
+        }
+
+        return converged;
+    }
+
+    /**
+     * Computes the eigenvalues of a symmetric matrix using the closed form trigonometric solution to the
+     * characteristic polynomial. The number of operations is fixed, but the trigonometric functions make it no
+     * faster than {@link #symmetric} on most JVMs and it is less accurate when eigenvalues are nearly repeated.
+     *
+     * @param A (Input) Symmetric matrix. Only the upper triangle is read. Not modified.
+     * @param values (Output) Eigenvalues in descending order.
+     */
+    public static void symmetricValues( DMatrix3x3 A, DMatrix3 values ) {
+        double a11 = A.a11, a12 = A.a12, a13 = A.a13;
+        double a22 = A.a22, a23 = A.a23;
+        double a33 = A.a33;
+
+        double p1 = a12*a12 + a13*a13 + a23*a23;
+        if (p1 == 0.0) {
+            // the matrix is diagonal
+            values.a1 = a11;
+            values.a2 = a22;
+            values.a3 = a33;
+            sortDescending(values);
+            return;
+        }
+
+        double q = (a11 + a22 + a33)/3.0;
+        double b11 = a11 - q, b22 = a22 - q, b33 = a33 - q;
+        double p = Math.sqrt((b11*b11 + b22*b22 + b33*b33 + 2.0*p1)/6.0);
+
+        // r = det((A - q*I)/p)/2
+        double det = b11*(b22*b33 - a23*a23) - a12*(a12*b33 - a23*a13) + a13*(a12*a23 - b22*a13);
+        double r = det/(2.0*p*p*p);
+
+        // round off errors can push r slightly outside of [-1,1]
+        double phi;
+        if (r <= -1.0)
+            phi = UtilEjml.PI/3.0;
+        else if (r >= 1.0)
+            phi = 0.0;
+        else
+            phi = (double)Math.acos(r)/3.0;
+
+        double e1 = q + 2.0*p*Math.cos(phi);
+        double e3 = q + 2.0*p*Math.cos(phi + 2.0*UtilEjml.PI/3.0);
+
+        values.a1 = e1;
+        values.a2 = 3.0*q - e1 - e3;
+        values.a3 = e3;
+    }
+
+    private static void sortDescending( DMatrix3 v ) {
+        double tmp;
+        if (v.a1 < v.a2) { tmp = v.a1; v.a1 = v.a2; v.a2 = tmp; }
+        if (v.a1 < v.a3) { tmp = v.a1; v.a1 = v.a3; v.a3 = tmp; }
+        if (v.a2 < v.a3) { tmp = v.a2; v.a2 = v.a3; v.a3 = tmp; }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix3;
+import org.ejml.data.DMatrix3x3;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>LU decomposition with partial pivoting and related operations for fixed sized 3 x 3 matrices.
+ * P*A = L*U where L is unit lower triangular and U is upper triangular. Both are stored in a single matrix
+ * with the unit diagonal of L being implicit.</p>
+ *
+ * <p>The pivots are encoded the same way as LAPACK, at step k row k was swapped with row pivot[k]. Indexes
+ * start at zero.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateLUOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateLUOps_DDF")
+public class LUOps_DDF3 {
+    /**
+     * Computes the LU decomposition of 'A' using partial pivoting.
+     *
+     * @param A (Input) Matrix. Not modified.
+     * @param LU (Output) L and U stored in a single matrix. Can be the same instance as A.
+     * @param pivot (Output) Row swapped at each step. Must have at least 3 elements.
+     * @return true if it was successful or false if the matrix is singular. Not always reliable.
+     */
+    public static boolean decompose( DMatrix3x3 A, DMatrix3x3 LU, int[] pivot ) {
+        double a11 = A.a11, a12 = A.a12, a13 = A.a13;
+        double a21 = A.a21, a22 = A.a22, a23 = A.a23;
+        double a31 = A.a31, a32 = A.a32, a33 = A.a33;
+
+        double max, t;
+        int p;
+
+        // select the pivot in column 1
+        p = 0;
+        max = Math.abs(a11);
+        t = Math.abs(a21); if (t > max) { max = t; p = 1; }
+        t = Math.abs(a31); if (t > max) { max = t; p = 2; }
+        pivot[0] = p;
+        switch (p) {
+            case 1:
+                t = a11; a11 = a21; a21 = t;
+                t = a12; a12 = a22; a22 = t;
+                t = a13; a13 = a23; a23 = t;
+                break;
+            case 2:
+                t = a11; a11 = a31; a31 = t;
+                t = a12; a12 = a32; a32 = t;
+                t = a13; a13 = a33; a33 = t;
+                break;
+        }
+
+        // eliminate below the pivot
+        a21 /= a11;
+        a31 /= a11;
+        a22 -= a21*a12; a23 -= a21*a13;
+        a32 -= a31*a12; a33 -= a31*a13;
+
+        // select the pivot in column 2
+        p = 1;
+        max = Math.abs(a22);
+        t = Math.abs(a32); if (t > max) { max = t; p = 2; }
+        pivot[1] = p;
+        switch (p) {
+            case 2:
+                t = a21; a21 = a31; a31 = t;
+                t = a22; a22 = a32; a32 = t;
+                t = a23; a23 = a33; a33 = t;
+                break;
+        }
+
+        // eliminate below the pivot
+        a32 /= a22;
+        a33 -= a32*a23;
+        pivot[2] = 2;
+
+        LU.a11 = a11; LU.a12 = a12; LU.a13 = a13;
+        LU.a21 = a21; LU.a22 = a22; LU.a23 = a23;
+        LU.a31 = a31; LU.a32 = a32; LU.a33 = a33;
+
+        return a11 != 0.0 && a22 != 0.0 && a33 != 0.0 && !UtilEjml.isUncountable(a33);
+    }
+
+    /**
+     * Solves for 'x' in the linear system A*x = b using the LU decomposition of A.
+     *
+     * @param LU (Input) LU decomposition of A. Not modified.
+     * @param pivot (Input) Pivots from the decomposition. Not modified.
+     * @param b (Input) Vector. Not modified.
+     * @param x (Output) Solution. Can be the same instance as b.
+     */
+    public static void solve( DMatrix3x3 LU, int[] pivot, DMatrix3 b, DMatrix3 x ) {
+        double b1 = b.a1, b2 = b.a2, b3 = b.a3;
+        double t;
+
+        // apply the row swaps
+        switch (pivot[0]) {
+            case 1: t = b1; b1 = b2; b2 = t; break;
+            case 2: t = b1; b1 = b3; b3 = t; break;
+        }
+        switch (pivot[1]) {
+            case 2: t = b2; b2 = b3; b3 = t; break;
+        }
+
+        // solve L*y = P*b
+        b2 -= LU.a21*b1;
+        b3 -= LU.a31*b1 + LU.a32*b2;
+
+        // solve U*x = y
+        b3 /= LU.a33;
+        b2 = (b2 - LU.a23*b3)/LU.a22;
+        b1 = (b1 - LU.a12*b2 - LU.a13*b3)/LU.a11;
+
+        x.a1 = b1; x.a2 = b2; x.a3 = b3;
+    }
+
+    /**
+     * Computes the determinant of A from its LU decomposition.
+     *
+     * @param LU (Input) LU decomposition of A. Not modified.
+     * @param pivot (Input) Pivots from the decomposition. Not modified.
+     * @return The determinant of A.
+     */
+    public static double det( DMatrix3x3 LU, int[] pivot ) {
+        double ret = LU.a11*LU.a22*LU.a33;
+        if (pivot[0] != 0) ret = -ret;
+        if (pivot[1] != 1) ret = -ret;
+        return ret;
+    }
+
+}
+
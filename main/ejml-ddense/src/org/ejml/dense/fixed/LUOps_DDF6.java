@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix6;
+import org.ejml.data.DMatrix6x6;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>LU decomposition with partial pivoting and related operations for fixed sized 6 x 6 matrices.
+ * P*A = L*U where L is unit lower triangular and U is upper triangular. Both are stored in a single matrix
+ * with the unit diagonal of L being implicit.</p>
+ *
+ * <p>The pivots are encoded the same way as LAPACK, at step k row k was swapped with row pivot[k]. Indexes
+ * start at zero.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateLUOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateLUOps_DDF")
+public class LUOps_DDF6 {
+    /**
+     * Computes the LU decomposition of 'A' using partial pivoting.
+     *
+     * @param A (Input) Matrix. Not modified.
+     * @param LU (Output) L and U stored in a single matrix. Can be the same instance as A.
+     * @param pivot (Output) Row swapped at each step. Must have at least 6 elements.
+     * @return true if it was successful or false if the matrix is singular. Not always reliable.
+     */
+    public static boolean decompose( DMatrix6x6 A, DMatrix6x6 LU, int[] pivot ) {
+        double a11 = A.a11, a12 = A.a12, a13 = A.a13, a14 = A.a14, a15 = A.a15, a16 = A.a16;
+        double a21 = A.a21, a22 = A.a22, a23 = A.a23, a24 = A.a24, a25 = A.a25, a26 = A.a26;
+        double a31 = A.a31, a32 = A.a32, a33 = A.a33, a34 = A.a34, a35 = A.a35, a36 = A.a36;
+        double a41 = A.a41, a42 = A.a42, a43 = A.a43, a44 = A.a44, a45 = A.a45, a46 = A.a46;
+        double a51 = A.a51, a52 = A.a52, a53 = A.a53, a54 = A.a54, a55 = A.a55, a56 = A.a56;
+        double a61 = A.a61, a62 = A.a62, a63 = A.a63, a64 = A.a64, a65 = A.a65, a66 = A.a66;
+
+        double max, t;
+        int p;
+
+        // select the pivot in column 1
+        p = 0;
+        max = Math.abs(a11);
+        t = Math.abs(a21); if (t > max) { max = t; p = 1; }
+        t = Math.abs(a31); if (t > max) { max = t; p = 2; }
+        t = Math.abs(a41); if (t > max) { max = t; p = 3; }
+        t = Math.abs(a51); if (t > max) { max = t; p = 4; }
+        t = Math.abs(a61); if (t > max) { max = t; p = 5; }
+        pivot[0] = p;
+        switch (p) {
+            case 1:
+                t = a11; a11 = a21; a21 = t;
+                t = a12; a12 = a22; a22 = t;
+                t = a13; a13 = a23; a23 = t;
+                t = a14; a14 = a24; a24 = t;
+                t = a15; a15 = a25; a25 = t;
+                t = a16; a16 = a26; a26 = t;
+                break;
+            case 2:
+                t = a11; a11 = a31; a31 = t;
+                t = a12; a12 = a32; a32 = t;
+                t = a13; a13 = a33; a33 = t;
+                t = a14; a14 = a34; a34 = t;
+                t = a15; a15 = a35; a35 = t;
+                t = a16; a16 = a36; a36 = t;
+                break;
+            case 3:
+                t = a11; a11 = a41; a41 = t;
+                t = a12; a12 = a42; a42 = t;
+                t = a13; a13 = a43; a43 = t;
+                t = a14; a14 = a44; a44 = t;
+                t = a15; a15 = a45; a45 = t;
+                t = a16; a16 = a46; a46 = t;
+                break;
+            case 4:
+                t = a11; a11 = a51; a51 = t;
+                t = a12; a12 = a52; a52 = t;
+                t = a13; a13 = a53; a53 = t;
+                t = a14; a14 = a54; a54 = t;
+                t = a15; a15 = a55; a55 = t;
+                t = a16; a16 = a56; a56 = t;
+                break;
+            case 5:
+                t = a11; a11 = a61; a61 = t;
+                t = a12; a12 = a62; a62 = t;
+                t = a13; a13 = a63; a63 = t;
+                t = a14; a14 = a64; a64 = t;
+                t = a15; a15 = a65; a65 = t;
+                t = a16; a16 = a66; a66 = t;
+                break;
+        }
+
+        // eliminate below the pivot
+        a21 /= a11;
+        a31 /= a11;
+        a41 /= a11;
+        a51 /= a11;
+        a61 /= a11;
+        a22 -= a21*a12; a23 -= a21*a13; a24 -= a21*a14; a25 -= a21*a15; a26 -= a21*a16;
+        a32 -= a31*a12; a33 -= a31*a13; a34 -= a31*a14; a35 -= a31*a15; a36 -= a31*a16;
+        a42 -= a41*a12; a43 -= a41*a13; a44 -= a41*a14; a45 -= a41*a15; a46 -= a41*a16;
+        a52 -= a51*a12; a53 -= a51*a13; a54 -= a51*a14; a55 -= a51*a15; a56 -= a51*a16;
+        a62 -= a61*a12; a63 -= a61*a13; a64 -= a61*a14; a65 -= a61*a15; a66 -= a61*a16;
+
+        // select the pivot in column 2
+        p = 1;
+        max = Math.abs(a22);
+        t = Math.abs(a32); if (t > max) { max = t; p = 2; }
+        t = Math.abs(a42); if (t > max) { max = t; p = 3; }
+        t = Math.abs(a52); if (t > max) { max = t; p = 4; }
+        t = Math.abs(a62); if (t > max) { max = t; p = 5; }
+        pivot[1] = p;
+        switch (p) {
+            case 2:
+                t = a21; a21 = a31; a31 = t;
+                t = a22; a22 = a32; a32 = t;
+                t = a23; a23 = a33; a33 = t;
+                t = a24; a24 = a34; a34 = t;
+                t = a25; a25 = a35; a35 = t;
+                t = a26; a26 = a36; a36 = t;
+                break;
+            case 3:
+                t = a21; a21 = a41; a41 = t;
+                t = a22; a22 = a42; a42 = t;
+                t = a23; a23 = a43; a43 = t;
+                t = a24; a24 = a44; a44 = t;
+                t = a25; a25 = a45; a45 = t;
+                t = a26; a26 = a46; a46 = t;
+                break;
+            case 4:
+                t = a21; a21 = a51; a51 = t;
+                t = a22; a22 = a52; a52 = t;
+                t = a23; a23 = a53; a53 = t;
+                t = a24; a24 = a54; a54 = t;
+                t = a25; a25 = a55; a55 = t;
+                t = a26; a26 = a56; a56 = t;
+                break;
+            case 5:
+                t = a21; a21 = a61; a61 = t;
+                t = a22; a22 = a62; a62 = t;
+                t = a23; a23 = a63; a63 = t;
+                t = a24; a24 = a64; a64 = t;
+                t = a25; a25 = a65; a65 = t;
+                t = a26; a26 = a66; a66 = t;
+                break;
+        }
+
+        // eliminate below the pivot
+        a32 /= a22;
+        a42 /= a22;
+        a52 /= a22;
+        a62 /= a22;
+        a33 -= a32*a23; a34 -= a32*a24; a35 -= a32*a25; a36 -= a32*a26;
+        a43 -= a42*a23; a44 -= a42*a24; a45 -= a42*a25; a46 -= a42*a26;
+        a53 -= a52*a23; a54 -= a52*a24; a55 -= a52*a25; a56 -= a52*a26;
+        a63 -= a62*a23; a64 -= a62*a24; a65 -= a62*a25; a66 -= a62*a26;
+
+        // select the pivot in column 3
+        p = 2;
+        max = Math.abs(a33);
+        t = Math.abs(a43); if (t > max) { max = t; p = 3; }
+        t = Math.abs(a53); if (t > max) { max = t; p = 4; }
+        t = Math.abs(a63); if (t > max) { max = t; p = 5; }
+        pivot[2] = p;
+        switch (p) {
+            case 3:
+                t = a31; a31 = a41; a41 = t;
+                t = a32; a32 = a42; a42 = t;
+                t = a33; a33 = a43; a43 = t;
+                t = a34; a34 = a44; a44 = t;
+                t = a35; a35 = a45; a45 = t;
+                t = a36; a36 = a46; a46 = t;
+                break;
+            case 4:
+                t = a31; a31 = a51; a51 = t;
+                t = a32; a32 = a52; a52 = t;
+                t = a33; a33 = a53; a53 = t;
+                t = a34; a34 = a54; a54 = t;
+                t = a35; a35 = a55; a55 = t;
+                t = a36; a36 = a56; a56 = t;
+                break;
+            case 5:
+                t = a31; a31 = a61; a61 = t;
+                t = a32; a32 = a62; a62 = t;
+                t = a33; a33 = a63; a63 = t;
+                t = a34; a34 = a64; a64 = t;
+                t = a35; a35 = a65; a65 = t;
+                t = a36; a36 = a66; a66 = t;
+                break;
+        }
+
+        // eliminate below the pivot
+        a43 /= a33;
+        a53 /= a33;
+        a63 /= a33;
+        a44 -= a43*a34; a45 -= a43*a35; a46 -= a43*a36;
+        a54 -= a53*a34; a55 -= a53*a35; a56 -= a53*a36;
+        a64 -= a63*a34; a65 -= a63*a35; a66 -= a63*a36;
+
+        // select the pivot in column 4
+        p = 3;
+        max = Math.abs(a44);
+        t = Math.abs(a54); if (t > max) { max = t; p = 4; }
+        t = Math.abs(a64); if (t > max) { max = t; p = 5; }
+        pivot[3] = p;
+        switch (p) {
+            case 4:
+                t = a41; a41 = a51; a51 = t;
+                t = a42; a42 = a52; a52 = t;
+                t = a43; a43 = a53; a53 = t;
+                t = a44; a44 = a54; a54 = t;
+                t = a45; a45 = a55; a55 = t;
+                t = a46; a46 = a56; a56 = t;
+                break;
+            case 5:
+                t = a41; a41 = a61; a61 = t;
+                t = a42; a42 = a62; a62 = t;
+                t = a43; a43 = a63; a63 = t;
+                t = a44; a44 = a64; a64 = t;
+                t = a45; a45 = a65; a65 = t;
+                t = a46; a46 = a66; a66 = t;
+                break;
+        }
+
+        // eliminate below the pivot
+        a54 /= a44;
+        a64 /= a44;
+        a55 -= a54*a45; a56 -= a54*a46;
+        a65 -= a64*a45; a66 -= a64*a46;
+
+        // select the pivot in column 5
+        p = 4;
+        max = Math.abs(a55);
+        t = Math.abs(a65); if (t > max) { max = t; p = 5; }
+        pivot[4] = p;
+        switch (p) {
+            case 5:
+                t = a51; a51 = a61; a61 = t;
+                t = a52; a52 = a62; a62 = t;
+                t = a53; a53 = a63; a63 = t;
+                t = a54; a54 = a64; a64 = t;
+                t = a55; a55 = a65; a65 = t;
+                t = a56; a56 = a66; a66 = t;
+                break;
+        }
+
+        // eliminate below the pivot
+        a65 /= a55;
+        a66 -= a65*a56;
+        pivot[5] = 5;
+
+        LU.a11 = a11; LU.a12 = a12; LU.a13 = a13; LU.a14 = a14; LU.a15 = a15; LU.a16 = a16;
+        LU.a21 = a21; LU.a22 = a22; LU.a23 = a23; LU.a24 = a24; LU.a25 = a25; LU.a26 = a26;
+        LU.a31 = a31; LU.a32 = a32; LU.a33 = a33; LU.a34 = a34; LU.a35 = a35; LU.a36 = a36;
+        LU.a41 = a41; LU.a42 = a42; LU.a43 = a43; LU.a44 = a44; LU.a45 = a45; LU.a46 = a46;
+        LU.a51 = a51; LU.a52 = a52; LU.a53 = a53; LU.a54 = a54; LU.a55 = a55; LU.a56 = a56;
+        LU.a61 = a61; LU.a62 = a62; LU.a63 = a63; LU.a64 = a64; LU.a65 = a65; LU.a66 = a66;
+
+        return a11 != 0.0 && a22 != 0.0 && a33 != 0.0 && a44 != 0.0 && a55 != 0.0 && a66 != 0.0 && !UtilEjml.isUncountable(a66);
+    }
+
+    /**
+     * Solves for 'x' in the linear system A*x = b using the LU decomposition of A.
+     *
+     * @param LU (Input) LU decomposition of A. Not modified.
+     * @param pivot (Input) Pivots from the decomposition. Not modified.
+     * @param b (Input) Vector. Not modified.
+     * @param x (Output) Solution. Can be the same instance as b.
+     */
+    public static void solve( DMatrix6x6 LU, int[] pivot, DMatrix6 b, DMatrix6 x ) {
+        double b1 = b.a1, b2 = b.a2, b3 = b.a3, b4 = b.a4, b5 = b.a5, b6 = b.a6;
+        double t;
+
+        // apply the row swaps
+        switch (pivot[0]) {
+            case 1: t = b1; b1 = b2; b2 = t; break;
+            case 2: t = b1; b1 = b3; b3 = t; break;
+            case 3: t = b1; b1 = b4; b4 = t; break;
+            case 4: t = b1; b1 = b5; b5 = t; break;
+            case 5: t = b1; b1 = b6; b6 = t; break;
+        }
+        switch (pivot[1]) {
+            case 2: t = b2; b2 = b3; b3 = t; break;
+            case 3: t = b2; b2 = b4; b4 = t; break;
+            case 4: t = b2; b2 = b5; b5 = t; break;
+            case 5: t = b2; b2 = b6; b6 = t; break;
+        }
+        switch (pivot[2]) {
+            case 3: t = b3; b3 = b4; b4 = t; break;
+            case 4: t = b3; b3 = b5; b5 = t; break;
+            case 5: t = b3; b3 = b6; b6 = t; break;
+        }
+        switch (pivot[3]) {
+            case 4: t = b4; b4 = b5; b5 = t; break;
+            case 5: t = b4; b4 = b6; b6 = t; break;
+        }
+        switch (pivot[4]) {
+            case 5: t = b5; b5 = b6; b6 = t; break;
+        }
+
+        // solve L*y = P*b
+        b2 -= LU.a21*b1;
+        b3 -= LU.a31*b1 + LU.a32*b2;
+        b4 -= LU.a41*b1 + LU.a42*b2 + LU.a43*b3;
+        b5 -= LU.a51*b1 + LU.a52*b2 + LU.a53*b3 + LU.a54*b4;
+        b6 -= LU.a61*b1 + LU.a62*b2 + LU.a63*b3 + LU.a64*b4 + LU.a65*b5;
+
+        // solve U*x = y
+        b6 /= LU.a66;
+        b5 = (b5 - LU.a56*b6)/LU.a55;
+        b4 = (b4 - LU.a45*b5 - LU.a46*b6)/LU.a44;
+        b3 = (b3 - LU.a34*b4 - LU.a35*b5 - LU.a36*b6)/LU.a33;
+        b2 = (b2 - LU.a23*b3 - LU.a24*b4 - LU.a25*b5 - LU.a26*b6)/LU.a22;
+        b1 = (b1 - LU.a12*b2 - LU.a13*b3 - LU.a14*b4 - LU.a15*b5 - LU.a16*b6)/LU.a11;
+
+        x.a1 = b1; x.a2 = b2; x.a3 = b3; x.a4 = b4; x.a5 = b5; x.a6 = b6;
+    }
+
+    /**
+     * Computes the determinant of A from its LU decomposition.
+     *
+     * @param LU (Input) LU decomposition of A. Not modified.
+     * @param pivot (Input) Pivots from the decomposition. Not modified.
+     * @return The determinant of A.
+     */
+    public static double det( DMatrix6x6 LU, int[] pivot ) {
+        double ret = LU.a11*LU.a22*LU.a33*LU.a44*LU.a55*LU.a66;
+        if (pivot[0] != 0) ret = -ret;
+        if (pivot[1] != 1) ret = -ret;
+        if (pivot[2] != 2) ret = -ret;
+        if (pivot[3] != 3) ret = -ret;
+        if (pivot[4] != 4) ret = -ret;
+        return ret;
+    }
+
+}
+
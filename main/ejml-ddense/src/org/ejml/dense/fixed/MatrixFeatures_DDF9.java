@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import javax.annotation.Generated;
+import org.ejml.data.DMatrix9;
+import org.ejml.data.DMatrix9x9;
+import org.ejml.UtilEjml;
+
+/**
+ * <p>Matrix features for fixed sized matrices which are 9 x 9 or 9 element vectors.</p>
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateFixedFeatures</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateFixedFeatures")
+public class MatrixFeatures_DDF9 {
+    public static boolean isIdentical(DMatrix9x9 a , DMatrix9x9 b , double tol ) {
+        if( !UtilEjml.isIdentical(a.a11,b.a11,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a12,b.a12,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a13,b.a13,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a14,b.a14,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a15,b.a15,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a16,b.a16,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a17,b.a17,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a18,b.a18,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a19,b.a19,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a21,b.a21,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a22,b.a22,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a23,b.a23,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a24,b.a24,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a25,b.a25,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a26,b.a26,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a27,b.a27,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a28,b.a28,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a29,b.a29,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a31,b.a31,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a32,b.a32,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a33,b.a33,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a34,b.a34,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a35,b.a35,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a36,b.a36,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a37,b.a37,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a38,b.a38,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a39,b.a39,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a41,b.a41,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a42,b.a42,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a43,b.a43,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a44,b.a44,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a45,b.a45,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a46,b.a46,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a47,b.a47,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a48,b.a48,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a49,b.a49,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a51,b.a51,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a52,b.a52,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a53,b.a53,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a54,b.a54,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a55,b.a55,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a56,b.a56,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a57,b.a57,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a58,b.a58,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a59,b.a59,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a61,b.a61,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a62,b.a62,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a63,b.a63,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a64,b.a64,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a65,b.a65,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a66,b.a66,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a67,b.a67,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a68,b.a68,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a69,b.a69,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a71,b.a71,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a72,b.a72,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a73,b.a73,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a74,b.a74,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a75,b.a75,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a76,b.a76,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a77,b.a77,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a78,b.a78,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a79,b.a79,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a81,b.a81,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a82,b.a82,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a83,b.a83,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a84,b.a84,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a85,b.a85,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a86,b.a86,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a87,b.a87,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a88,b.a88,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a89,b.a89,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a91,b.a91,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a92,b.a92,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a93,b.a93,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a94,b.a94,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a95,b.a95,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a96,b.a96,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a97,b.a97,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a98,b.a98,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a99,b.a99,tol))
+            return false;
+        return true;
+    }
+
+    public static boolean isIdentical(DMatrix9 a , DMatrix9 b , double tol ) {
+        if( !UtilEjml.isIdentical(a.a1,b.a1,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a2,b.a2,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a3,b.a3,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a4,b.a4,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a5,b.a5,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a6,b.a6,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a7,b.a7,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a8,b.a8,tol))
+            return false;
+        if( !UtilEjml.isIdentical(a.a9,b.a9,tol))
+            return false;
+        return true;
+    }
+
+    public static boolean hasUncountable(DMatrix9x9 a ) {
+        if( UtilEjml.isUncountable(a.a11+ a.a12+ a.a13+ a.a14+ a.a15+ a.a16+ a.a17+ a.a18+ a.a19))
+            return true;
+        if( UtilEjml.isUncountable(a.a21+ a.a22+ a.a23+ a.a24+ a.a25+ a.a26+ a.a27+ a.a28+ a.a29))
+            return true;
+        if( UtilEjml.isUncountable(a.a31+ a.a32+ a.a33+ a.a34+ a.a35+ a.a36+ a.a37+ a.a38+ a.a39))
+            return true;
+        if( UtilEjml.isUncountable(a.a41+ a.a42+ a.a43+ a.a44+ a.a45+ a.a46+ a.a47+ a.a48+ a.a49))
+            return true;
+        if( UtilEjml.isUncountable(a.a51+ a.a52+ a.a53+ a.a54+ a.a55+ a.a56+ a.a57+ a.a58+ a.a59))
+            return true;
+        if( UtilEjml.isUncountable(a.a61+ a.a62+ a.a63+ a.a64+ a.a65+ a.a66+ a.a67+ a.a68+ a.a69))
+            return true;
+        if( UtilEjml.isUncountable(a.a71+ a.a72+ a.a73+ a.a74+ a.a75+ a.a76+ a.a77+ a.a78+ a.a79))
+            return true;
+        if( UtilEjml.isUncountable(a.a81+ a.a82+ a.a83+ a.a84+ a.a85+ a.a86+ a.a87+ a.a88+ a.a89))
+            return true;
+        if( UtilEjml.isUncountable(a.a91+ a.a92+ a.a93+ a.a94+ a.a95+ a.a96+ a.a97+ a.a98+ a.a99))
+            return true;
+        return false;
+    }
+
+    public static boolean hasUncountable(DMatrix9 a ) {
+        if( UtilEjml.isUncountable(a.a1))
+            return true;
+        if( UtilEjml.isUncountable(a.a2))
+            return true;
+        if( UtilEjml.isUncountable(a.a3))
+            return true;
+        if( UtilEjml.isUncountable(a.a4))
+            return true;
+        if( UtilEjml.isUncountable(a.a5))
+            return true;
+        if( UtilEjml.isUncountable(a.a6))
+            return true;
+        if( UtilEjml.isUncountable(a.a7))
+            return true;
+        if( UtilEjml.isUncountable(a.a8))
+            return true;
+        if( UtilEjml.isUncountable(a.a9))
+            return true;
+        return false;
+    }
+
+}
+
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import javax.annotation.Generated;
+import org.ejml.data.DMatrix9;
+import org.ejml.data.DMatrix9x9;
+
+/**
+ * <p>Matrix norm related operations for fixed sized matrices of size 9.</p>
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateNormOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateNormOps_DDF")
+public class NormOps_DDF9 {
+    public static void normalizeF( DMatrix9x9 M ) {
+        double val = normF(M);
+        CommonOps_DDF9.divide(M,val);
+    }
+
+    public static void normalizeF( DMatrix9 M ) {
+        double val = normF(M);
+        CommonOps_DDF9.divide(M,val);
+    }
+
+    public static double fastNormF( DMatrix9x9 M ) {
+        double sum = 0;
+
+        sum += M.a11*M.a11 + M.a12*M.a12 + M.a13*M.a13 + M.a14*M.a14 + M.a15*M.a15 + M.a16*M.a16 + M.a17*M.a17 + M.a18*M.a18 + M.a19*M.a19;
+        sum += M.a21*M.a21 + M.a22*M.a22 + M.a23*M.a23 + M.a24*M.a24 + M.a25*M.a25 + M.a26*M.a26 + M.a27*M.a27 + M.a28*M.a28 + M.a29*M.a29;
+        sum += M.a31*M.a31 + M.a32*M.a32 + M.a33*M.a33 + M.a34*M.a34 + M.a35*M.a35 + M.a36*M.a36 + M.a37*M.a37 + M.a38*M.a38 + M.a39*M.a39;
+        sum += M.a41*M.a41 + M.a42*M.a42 + M.a43*M.a43 + M.a44*M.a44 + M.a45*M.a45 + M.a46*M.a46 + M.a47*M.a47 + M.a48*M.a48 + M.a49*M.a49;
+        sum += M.a51*M.a51 + M.a52*M.a52 + M.a53*M.a53 + M.a54*M.a54 + M.a55*M.a55 + M.a56*M.a56 + M.a57*M.a57 + M.a58*M.a58 + M.a59*M.a59;
+        sum += M.a61*M.a61 + M.a62*M.a62 + M.a63*M.a63 + M.a64*M.a64 + M.a65*M.a65 + M.a66*M.a66 + M.a67*M.a67 + M.a68*M.a68 + M.a69*M.a69;
+        sum += M.a71*M.a71 + M.a72*M.a72 + M.a73*M.a73 + M.a74*M.a74 + M.a75*M.a75 + M.a76*M.a76 + M.a77*M.a77 + M.a78*M.a78 + M.a79*M.a79;
+        sum += M.a81*M.a81 + M.a82*M.a82 + M.a83*M.a83 + M.a84*M.a84 + M.a85*M.a85 + M.a86*M.a86 + M.a87*M.a87 + M.a88*M.a88 + M.a89*M.a89;
+        sum += M.a91*M.a91 + M.a92*M.a92 + M.a93*M.a93 + M.a94*M.a94 + M.a95*M.a95 + M.a96*M.a96 + M.a97*M.a97 + M.a98*M.a98 + M.a99*M.a99;
+
+        return Math.sqrt(sum);
+    }
+
+    public static double fastNormF( DMatrix9 M ) {
+        double sum = M.a1*M.a1 + M.a2*M.a2 + M.a3*M.a3 + M.a4*M.a4 + M.a5*M.a5 + M.a6*M.a6 + M.a7*M.a7 + M.a8*M.a8 + M.a9*M.a9;
+        return Math.sqrt(sum);
+    }
+
+    public static double normF( DMatrix9x9 M ) {
+        double scale = CommonOps_DDF9.elementMaxAbs(M);
+
+        if( scale == 0.0 )
+            return 0.0;
+
+        double a11 = M.a11/scale, a12 = M.a12/scale, a13 = M.a13/scale, a14 = M.a14/scale, a15 = M.a15/scale, a16 = M.a16/scale, a17 = M.a17/scale, a18 = M.a18/scale, a19 = M.a19/scale;
+        double a21 = M.a21/scale, a22 = M.a22/scale, a23 = M.a23/scale, a24 = M.a24/scale, a25 = M.a25/scale, a26 = M.a26/scale, a27 = M.a27/scale, a28 = M.a28/scale, a29 = M.a29/scale;
+        double a31 = M.a31/scale, a32 = M.a32/scale, a33 = M.a33/scale, a34 = M.a34/scale, a35 = M.a35/scale, a36 = M.a36/scale, a37 = M.a37/scale, a38 = M.a38/scale, a39 = M.a39/scale;
+        double a41 = M.a41/scale, a42 = M.a42/scale, a43 = M.a43/scale, a44 = M.a44/scale, a45 = M.a45/scale, a46 = M.a46/scale, a47 = M.a47/scale, a48 = M.a48/scale, a49 = M.a49/scale;
+        double a51 = M.a51/scale, a52 = M.a52/scale, a53 = M.a53/scale, a54 = M.a54/scale, a55 = M.a55/scale, a56 = M.a56/scale, a57 = M.a57/scale, a58 = M.a58/scale, a59 = M.a59/scale;
+        double a61 = M.a61/scale, a62 = M.a62/scale, a63 = M.a63/scale, a64 = M.a64/scale, a65 = M.a65/scale, a66 = M.a66/scale, a67 = M.a67/scale, a68 = M.a68/scale, a69 = M.a69/scale;
+        double a71 = M.a71/scale, a72 = M.a72/scale, a73 = M.a73/scale, a74 = M.a74/scale, a75 = M.a75/scale, a76 = M.a76/scale, a77 = M.a77/scale, a78 = M.a78/scale, a79 = M.a79/scale;
+        double a81 = M.a81/scale, a82 = M.a82/scale, a83 = M.a83/scale, a84 = M.a84/scale, a85 = M.a85/scale, a86 = M.a86/scale, a87 = M.a87/scale, a88 = M.a88/scale, a89 = M.a89/scale;
+        double a91 = M.a91/scale, a92 = M.a92/scale, a93 = M.a93/scale, a94 = M.a94/scale, a95 = M.a95/scale, a96 = M.a96/scale, a97 = M.a97/scale, a98 = M.a98/scale, a99 = M.a99/scale;
+
+        double sum = 0;
+        sum += a11*a11 + a12*a12 + a13*a13 + a14*a14 + a15*a15 + a16*a16 + a17*a17 + a18*a18 + a19*a19;
+        sum += a21*a21 + a22*a22 + a23*a23 + a24*a24 + a25*a25 + a26*a26 + a27*a27 + a28*a28 + a29*a29;
+        sum += a31*a31 + a32*a32 + a33*a33 + a34*a34 + a35*a35 + a36*a36 + a37*a37 + a38*a38 + a39*a39;
+        sum += a41*a41 + a42*a42 + a43*a43 + a44*a44 + a45*a45 + a46*a46 + a47*a47 + a48*a48 + a49*a49;
+        sum += a51*a51 + a52*a52 + a53*a53 + a54*a54 + a55*a55 + a56*a56 + a57*a57 + a58*a58 + a59*a59;
+        sum += a61*a61 + a62*a62 + a63*a63 + a64*a64 + a65*a65 + a66*a66 + a67*a67 + a68*a68 + a69*a69;
+        sum += a71*a71 + a72*a72 + a73*a73 + a74*a74 + a75*a75 + a76*a76 + a77*a77 + a78*a78 + a79*a79;
+        sum += a81*a81 + a82*a82 + a83*a83 + a84*a84 + a85*a85 + a86*a86 + a87*a87 + a88*a88 + a89*a89;
+        sum += a91*a91 + a92*a92 + a93*a93 + a94*a94 + a95*a95 + a96*a96 + a97*a97 + a98*a98 + a99*a99;
+
+        return scale * Math.sqrt(sum);
+    }
+
+    public static double normF( DMatrix9 M ) {
+        double scale = CommonOps_DDF9.elementMaxAbs(M);
+
+        if( scale == 0.0 )
+            return 0.0;
+
+        double a1 = M.a1/scale, a2 = M.a2/scale, a3 = M.a3/scale, a4 = M.a4/scale, a5 = M.a5/scale, a6 = M.a6/scale, a7 = M.a7/scale, a8 = M.a8/scale, a9 = M.a9/scale;
+        double sum = a1*a1 + a2*a2 + a3*a3 + a4*a4 + a5*a5 + a6*a6 + a7*a7 + a8*a8 + a9*a9;
+
+        return scale * Math.sqrt(sum);
+    }
+
+}
+
@@ -30,10 +30,7 @@ import org.ejml.dense.row.linsol.chol.LinearSolverChol_DDRM;
 import org.ejml.dense.row.linsol.lu.LinearSolverLu_DDRM;
 import org.ejml.dense.row.linsol.svd.SolvePseudoInverseSvd_DDRM;
 import org.ejml.dense.row.misc.*;
-import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
-import org.ejml.dense.row.mult.MatrixMultProduct_DDRM;
-import org.ejml.dense.row.mult.MatrixVectorMult_DDRM;
-import org.ejml.dense.row.mult.VectorVectorMult_DDRM;
+import org.ejml.dense.row.mult.*;
 import org.ejml.interfaces.linsol.LinearSolverDense;
 import org.ejml.interfaces.linsol.ReducedRowEchelonForm_F64;
 import org.ejml.ops.DOperatorUnary;
@@ -79,8 +76,19 @@ public class CommonOps_DDRM {
         UtilEjml.checkSameInstance(a, output);
         UtilEjml.checkSameInstance(b, output);
 
+        DenseKernels_DDRM kernels = DenseKernelsLoader_DDRM.get();
         if (b.numCols == 1) {
-            MatrixVectorMult_DDRM.mult(a, b, output);
+            if (kernels != null && a.numCols >= EjmlParameters.MULT_INNER_SWITCH) {
+                kernels.multVector(a, b, output);
+            } else {
+                MatrixVectorMult_DDRM.mult(a, b, output);
+            }
+        } else if (isPackedMult(a, b)) {
+            if (kernels != null) {
+                kernels.mult(1.0, a, b, output);
+            } else {
+                MatrixMatrixMultPacked_DDRM.mult(a, b, output);
+            }
         } else if (b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
             MatrixMatrixMult_DDRM.mult_reorder(a, b, output);
         } else {
@@ -109,7 +117,14 @@ public class CommonOps_DDRM {
         UtilEjml.checkSameInstance(b, output);
 
         // TODO add a matrix vectory multiply here
-        if (b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
+        if (isPackedMult(a, b)) {
+            DenseKernels_DDRM kernels = DenseKernelsLoader_DDRM.get();
+            if (kernels != null) {
+                kernels.mult(alpha, a, b, output);
+            } else {
+                MatrixMatrixMultPacked_DDRM.mult(alpha, a, b, output);
+            }
+        } else if (b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
             MatrixMatrixMult_DDRM.mult_reorder(alpha, a, b, output);
         } else {
             MatrixMatrixMult_DDRM.mult_small(alpha, a, b, output);
@@ -118,6 +133,15 @@ public class CommonOps_DDRM {
         return output;
     }
 
+    /**
+     * Returns true if the matrices are large enough that {@link MatrixMatrixMultPacked_DDRM} should be used.
+     * See {@link EjmlParameters#MULT_PACKED_SWITCH}.
+     */
+    static boolean isPackedMult( DMatrix1Row a, DMatrix1Row b ) {
+        int switchSize = EjmlParameters.MULT_PACKED_SWITCH;
+        return a.numRows >= switchSize && a.numCols >= switchSize && b.numCols >= switchSize;
+    }
+
     /**
      * <p>Performs the following operation:<br>
      * <br>
@@ -309,6 +333,11 @@ public class CommonOps_DDRM {
         if (!MatrixFeatures_DDRM.isVector(a) || !MatrixFeatures_DDRM.isVector(b))
             throw new RuntimeException("Both inputs must be vectors");
 
+        DenseKernels_DDRM kernels = DenseKernelsLoader_DDRM.get();
+        if (kernels != null && a.getNumElements() >= EjmlParameters.MULT_INNER_SWITCH) {
+            return kernels.dot(a.data, 0, b.data, 0, a.getNumElements());
+        }
+
         return VectorVectorMult_DDRM.innerProd(a, b);
     }
 
@@ -895,7 +924,7 @@ public class CommonOps_DDRM {
             ret = v;
         }
 
-        for (int i = 0; i < ret.length; i++) {
+        for (int i = 0; i < A.numCols; i++) {
             if (ret[i] == null) {
                 ret[i] = new DMatrixRMaj(A.numRows, 1);
             } else {
@@ -927,7 +956,7 @@ public class CommonOps_DDRM {
         }
 
 
-        for (int i = 0; i < ret.length; i++) {
+        for (int i = 0; i < A.numRows; i++) {
             if (ret[i] == null) {
                 ret[i] = new DMatrixRMaj(A.numCols, 1);
             } else {
@@ -1991,6 +2020,12 @@ public class CommonOps_DDRM {
 
         final int length = a.getNumElements();
 
+        DenseKernels_DDRM kernels = DenseKernelsLoader_DDRM.get();
+        if (kernels != null && length >= EjmlParameters.MULT_INNER_SWITCH) {
+            kernels.axpy(length, beta, b.data, 0, a.data, 0);
+            return;
+        }
+
         for (int i = 0; i < length; i++) {
             a.plus(i, beta*b.get(i));
         }
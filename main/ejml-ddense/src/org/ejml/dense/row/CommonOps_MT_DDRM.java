@@ -19,11 +19,20 @@
 package org.ejml.dense.row;
 
 import org.ejml.EjmlParameters;
+import org.ejml.LinearSolverSafe;
+import org.ejml.MatrixDimensionException;
 import org.ejml.UtilEjml;
 import org.ejml.data.DMatrix1Row;
 import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionBlock_MT_DDRM;
+import org.ejml.dense.row.factory.LinearSolverFactory_MT_DDRM;
+import org.ejml.dense.row.linsol.lu.LinearSolverLu_MT_DDRM;
 import org.ejml.dense.row.misc.TransposeAlgs_MT_DDRM;
+import org.ejml.dense.row.misc.UnrolledDeterminantFromMinor_DDRM;
+import org.ejml.dense.row.misc.UnrolledInverseFromMinor_DDRM;
+import org.ejml.dense.row.mult.MatrixMatrixMultPacked_MT_DDRM;
 import org.ejml.dense.row.mult.MatrixMatrixMult_MT_DDRM;
+import org.ejml.interfaces.linsol.LinearSolverDense;
 import org.jetbrains.annotations.Nullable;
 
 import static org.ejml.UtilEjml.reshapeOrDeclare;
@@ -51,7 +60,11 @@ public class CommonOps_MT_DDRM {
         UtilEjml.checkSameInstance(a, output);
         UtilEjml.checkSameInstance(b, output);
 
-        MatrixMatrixMult_MT_DDRM.mult_reorder(a, b, output);
+        if (CommonOps_DDRM.isPackedMult(a, b)) {
+            MatrixMatrixMultPacked_MT_DDRM.mult(a, b, output);
+        } else {
+            MatrixMatrixMult_MT_DDRM.mult_reorder(a, b, output);
+        }
 
         return output;
     }
@@ -74,7 +87,11 @@ public class CommonOps_MT_DDRM {
         UtilEjml.checkSameInstance(a, output);
         UtilEjml.checkSameInstance(b, output);
 
-        MatrixMatrixMult_MT_DDRM.mult_reorder(alpha, a, b, output);
+        if (CommonOps_DDRM.isPackedMult(a, b)) {
+            MatrixMatrixMultPacked_MT_DDRM.mult(alpha, a, b, output);
+        } else {
+            MatrixMatrixMult_MT_DDRM.mult_reorder(alpha, a, b, output);
+        }
 
         return output;
     }
@@ -390,4 +407,127 @@ public class CommonOps_MT_DDRM {
 
         return A_tran;
     }
+
+    /**
+     * <p>
+     * Solves for x in the following equation:<br>
+     * <br>
+     * A*x = b
+     * </p>
+     *
+     * <p>
+     * If the system could not be solved then false is returned.  If it returns true
+     * that just means the algorithm finished operating, but the results could still be bad
+     * because 'A' is singular or nearly singular.
+     * </p>
+     *
+     * <p>
+     * It is ok for 'b' and 'x' to be the same matrix.
+     * </p>
+     *
+     * @param a A matrix that is m by n. Not modified.
+     * @param b A matrix that is n by k. Not modified.
+     * @param x A matrix that is m by k. Modified.
+     * @return true if it could invert the matrix false if it could not.
+     * @see CommonOps_DDRM#solve(DMatrixRMaj, DMatrixRMaj, DMatrixRMaj)
+     */
+    public static boolean solve( DMatrixRMaj a, DMatrixRMaj b, DMatrixRMaj x ) {
+        x.reshape(a.numCols, b.numCols);
+
+        LinearSolverDense<DMatrixRMaj> solver = LinearSolverFactory_MT_DDRM.general(a.numRows, a.numCols);
+
+        // make sure the inputs 'a' and 'b' are not modified
+        solver = new LinearSolverSafe<>(solver);
+
+        if (!solver.setA(a))
+            return false;
+
+        solver.solve(b, x);
+        return true;
+    }
+
+    /**
+     * Returns the determinant of the matrix.
+     *
+     * @param mat The matrix whose determinant is to be computed.  Not modified.
+     * @return The determinant.
+     * @see CommonOps_DDRM#det(DMatrixRMaj)
+     */
+    public static double det( DMatrixRMaj mat ) {
+        int numCol = mat.getNumCols();
+        int numRow = mat.getNumRows();
+
+        if (numCol != numRow) {
+            throw new MatrixDimensionException("Must be a square matrix.");
+        } else if (numCol <= UnrolledDeterminantFromMinor_DDRM.MAX) {
+            if (numCol >= 2) {
+                return UnrolledDeterminantFromMinor_DDRM.det(mat);
+            } else {
+                return mat.get(0);
+            }
+        } else if (numCol < EjmlParameters.SWITCH_BLOCK_LU) {
+            return CommonOps_DDRM.det(mat);
+        } else {
+            LUDecompositionBlock_MT_DDRM alg = new LUDecompositionBlock_MT_DDRM(EjmlParameters.BLOCK_WIDTH);
+
+            if (!alg.decompose(mat))
+                return 0.0;
+            return alg.computeDeterminant().real;
+        }
+    }
+
+    /**
+     * <p>
+     * Performs a matrix inversion operation on the specified matrix and stores the results
+     * in the same matrix.<br>
+     * <br>
+     * a = a<sup>-1</sup>
+     * </p>
+     *
+     * @param mat The matrix that is to be inverted.  Results are stored here.  Modified.
+     * @return true if it could invert the matrix false if it could not.
+     * @see CommonOps_DDRM#invert(DMatrixRMaj)
+     */
+    public static boolean invert( DMatrixRMaj mat ) {
+        return invert(mat, mat);
+    }
+
+    /**
+     * <p>
+     * Performs a matrix inversion operation that does not modify the original
+     * and stores the results in another matrix.  The two matrices must have the
+     * same dimension.<br>
+     * <br>
+     * b = a<sup>-1</sup>
+     * </p>
+     *
+     * @param mat The matrix that is to be inverted. Not modified.
+     * @param result Where the inverse matrix is stored.  Modified.
+     * @return true if it could invert the matrix false if it could not.
+     * @see CommonOps_DDRM#invert(DMatrixRMaj, DMatrixRMaj)
+     */
+    public static boolean invert( DMatrixRMaj mat, DMatrixRMaj result ) {
+        if (mat.numCols != mat.numRows) {
+            throw new MatrixDimensionException("Must be a square matrix.");
+        }
+        result.reshape(mat.numRows, mat.numCols);
+
+        if (mat.numCols <= UnrolledInverseFromMinor_DDRM.MAX) {
+            if (result.numCols >= 2) {
+                UnrolledInverseFromMinor_DDRM.inv(mat, result);
+            } else {
+                result.set(0, 1.0/mat.get(0));
+            }
+        } else if (mat.numCols < EjmlParameters.SWITCH_BLOCK_LU) {
+            return CommonOps_DDRM.invert(mat, result);
+        } else {
+            LinearSolverLu_MT_DDRM solver = new LinearSolverLu_MT_DDRM(
+                    new LUDecompositionBlock_MT_DDRM(EjmlParameters.BLOCK_WIDTH));
+
+            if (!solver.setA(mat))
+                return false;
+            solver.invert(result);
+        }
+        return true;
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.row.decomposition.bidiagonal;
+
+import org.ejml.EjmlParameters;
+import org.ejml.data.DMatrixRBlock;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.block.MatrixOps_DDRB;
+import org.ejml.dense.block.decomposition.bidiagonal.BidiagonalDecompositionHouseholder_DDRB;
+import org.ejml.dense.row.decomposition.BaseDecomposition_DDRB_to_DDRM;
+import org.ejml.interfaces.decomposition.BidiagonalDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Wrapper around {@link BidiagonalDecompositionHouseholder_DDRB} that allows it to process DMatrixRMaj.
+ *
+ * @author Peter Abeles
+ */
+public class BidiagonalDecomposition_DDRB_to_DDRM
+        extends BaseDecomposition_DDRB_to_DDRM implements BidiagonalDecomposition_F64<DMatrixRMaj> {
+
+    BidiagonalDecomposition_F64<DMatrixRBlock> bidiag;
+
+    public BidiagonalDecomposition_DDRB_to_DDRM() {
+        this(new BidiagonalDecompositionHouseholder_DDRB(), EjmlParameters.BLOCK_WIDTH);
+    }
+
+    public BidiagonalDecomposition_DDRB_to_DDRM( BidiagonalDecomposition_F64<DMatrixRBlock> alg, int blockLength ) {
+        super(alg, blockLength);
+        this.bidiag = alg;
+    }
+
+    @Override
+    public DMatrixRMaj getB( @Nullable DMatrixRMaj B, boolean compact ) {
+        return convert(bidiag.getB(null, compact), B);
+    }
+
+    @Override
+    public DMatrixRMaj getU( @Nullable DMatrixRMaj U, boolean transpose, boolean compact ) {
+        return convert(bidiag.getU(null, transpose, compact), U);
+    }
+
+    @Override
+    public DMatrixRMaj getV( @Nullable DMatrixRMaj V, boolean transpose, boolean compact ) {
+        return convert(bidiag.getV(null, transpose, compact), V);
+    }
+
+    @Override
+    public void getDiagonal( double[] diag, double[] off ) {
+        bidiag.getDiagonal(diag, off);
+    }
+
+    private static DMatrixRMaj convert( DMatrixRBlock src, @Nullable DMatrixRMaj dst ) {
+        if (dst == null) {
+            dst = new DMatrixRMaj(src.numRows, src.numCols);
+        } else {
+            dst.reshape(src.numRows, src.numCols);
+        }
+        MatrixOps_DDRB.convert(src, dst);
+        return dst;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.row.decomposition.eig;
+
+import org.ejml.data.Complex_F64;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.decomposition.eig.symm.SymmetricDivideConquer_DDRM;
+import org.ejml.dense.row.decomposition.eig.symm.SymmetricQREigenHelper_DDRM;
+import org.ejml.dense.row.decomposition.eig.symm.SymmetricQrAlgorithm_DDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.ejml.interfaces.decomposition.TridiagonalSimilarDecomposition_F64;
+
+/**
+ * <p>
+ * Computes the eigenvalues and eigenvectors of a real symmetric matrix by first reducing it to a tridiagonal
+ * matrix and then using the divide and conquer algorithm in {@link SymmetricDivideConquer_DDRM}. The eigenvectors
+ * of the original matrix are found by multiplying the eigenvectors of the tridiagonal matrix against the orthogonal
+ * matrix from the tridiagonal decomposition. For large matrices this is faster than
+ * {@link SymmetricQRAlgorithmDecomposition_DDRM}, since most of the work is in matrix multiplications instead of
+ * applying Givens rotations, and the sub-problems can be solved in parallel. See
+ * {@link org.ejml.EjmlParameters#SWITCH_EIG_DIVIDE_CONQUER}.
+ * </p>
+ *
+ * <p>
+ * If eigenvectors are not requested then the eigenvalues are computed using the symmetric QR algorithm, which
+ * is faster in that situation. Eigenvalues are returned in ascending order when vectors are computed.
+ * </p>
+ *
+ * @author Peter Abeles
+ * @see SymmetricDivideConquer_DDRM
+ * @see org.ejml.dense.row.decomposition.hessenberg.TridiagonalDecompositionHouseholder_DDRM
+ */
+@SuppressWarnings("NullAway.Init")
+public class SymmetricDivideConquerDecomposition_DDRM
+        implements EigenDecomposition_F64<DMatrixRMaj> {
+
+    // computes a tridiagonal matrix whose eigenvalues are the same as the original
+    private final TridiagonalSimilarDecomposition_F64<DMatrixRMaj> decomp;
+    // computes the eigenvalues and eigenvectors of the tridiagonal matrix
+    private final SymmetricDivideConquer_DDRM divide;
+    // used to compute just the eigenvalues
+    private final SymmetricQREigenHelper_DDRM helper = new SymmetricQREigenHelper_DDRM();
+    private final SymmetricQrAlgorithm_DDRM valueAlg = new SymmetricQrAlgorithm_DDRM(helper);
+
+    // should it compute eigenvectors or just eigenvalues
+    boolean computeVectors;
+
+    // number of rows and columns in the input matrix
+    private int N;
+
+    // where the tridiagonal matrix is stored
+    private double[] diag;
+    private double[] off;
+
+    // where the found eigenvalues are stored
+    private double[] values;
+
+    // orthogonal matrix from the tridiagonal decomposition
+    private DMatrixRMaj Q;
+    // eigenvectors stored in the columns
+    private DMatrixRMaj V = new DMatrixRMaj(1, 1);
+    // the extracted eigenvectors
+    private DMatrixRMaj[] eigenvectors;
+
+    public SymmetricDivideConquerDecomposition_DDRM( TridiagonalSimilarDecomposition_F64<DMatrixRMaj> decomp,
+                                                     SymmetricDivideConquer_DDRM divide,
+                                                     boolean computeVectors ) {
+        this.decomp = decomp;
+        this.divide = divide;
+        this.computeVectors = computeVectors;
+    }
+
+    public SymmetricDivideConquerDecomposition_DDRM( boolean computeVectors ) {
+        this(DecompositionFactory_DDRM.tridiagonal(0), new SymmetricDivideConquer_DDRM(), computeVectors);
+    }
+
+    @Override
+    public int getNumberOfEigenvalues() {
+        return N;
+    }
+
+    @Override
+    public Complex_F64 getEigenvalue( int index ) {
+        return new Complex_F64(values[index], 0);
+    }
+
+    @Override
+    public DMatrixRMaj getEigenVector( int index ) {
+        return eigenvectors[index];
+    }
+
+    /**
+     * Decomposes the matrix using the divide and conquer algorithm.
+     *
+     * @param orig The matrix which is being decomposed.  Not modified.
+     * @return true if it decomposed the matrix or false if an error was detected.  This will not catch all errors.
+     */
+    @Override
+    public boolean decompose( DMatrixRMaj orig ) {
+        if (orig.numCols != orig.numRows)
+            throw new IllegalArgumentException("Matrix must be square.");
+        if (orig.numCols <= 0)
+            return false;
+
+        N = orig.numRows;
+
+        // compute a similar tridiagonal matrix
+        if (!decomp.decompose(orig))
+            return false;
+
+        if (diag == null || diag.length < N) {
+            diag = new double[N];
+            off = new double[N - 1];
+        }
+        decomp.getDiagonal(diag, off);
+
+        if (!computeVectors)
+            return computeEigenValues();
+
+        if (!divide.process(diag, off, N))
+            return false;
+
+        if (values == null || values.length < N)
+            values = new double[N];
+        System.arraycopy(divide.getEigenvalues(), 0, values, 0, N);
+
+        // The eigenvectors of the original matrix are Q*V
+        Q = decomp.getQ(Q, false);
+        divide.backTransform(Q, V);
+
+        eigenvectors = CommonOps_DDRM.columnsToVector(V, eigenvectors);
+
+        return true;
+    }
+
+    /**
+     * Computes eigenvalues only
+     */
+    private boolean computeEigenValues() {
+        helper.init(diag, off, N);
+        valueAlg.setQ(null);
+        valueAlg.setFastEigenvalues(true);
+
+        if (!valueAlg.process(-1, null, null))
+            return false;
+
+        values = helper.copyEigenvalues(values);
+        return true;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return decomp.inputModified();
+    }
+}
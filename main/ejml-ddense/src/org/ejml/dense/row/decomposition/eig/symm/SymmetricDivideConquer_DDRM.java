@@ -0,0 +1,645 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.row.decomposition.eig.symm;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>
+ * Computes the eigenvalues and eigenvectors of a symmetric tridiagonal matrix using Cuppen's divide and conquer
+ * algorithm. The matrix is recursively split in half by removing a rank-one term. Small sub-problems are solved
+ * with the implicit QR algorithm and then neighboring solutions are merged by solving the secular equation. The
+ * eigenvectors of the merged problem are found by multiplying the sub-problem eigenvectors against the
+ * eigenvectors of the rank-one update, which is where most of the time is spent for large matrices.
+ * </p>
+ *
+ * <p>
+ * Eigenvalues which are already known, because their component in the rank-one update is small or because they
+ * are nearly identical to another eigenvalue, are deflated out of the secular equation. The eigenvectors of the
+ * rank-one update are computed using the approach of Gu and Eisenstat so that they are numerically orthogonal
+ * even when eigenvalues are close together.
+ * </p>
+ *
+ * <p>
+ * Eigenvalues are sorted in ascending order and the eigenvectors are stored in the columns of
+ * {@link #getEigenvectors()}.
+ * </p>
+ *
+ * <p>
+ * [1] Cuppen, J. J. M. "A divide and conquer method for the symmetric tridiagonal eigenproblem."
+ * Numerische Mathematik 36.2 (1980): 177-195.<br>
+ * [2] Gu, Ming, and Stanley C. Eisenstat. "A divide-and-conquer algorithm for the symmetric tridiagonal
+ * eigenproblem." SIAM Journal on Matrix Analysis and Applications 16.1 (1995): 172-191.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SymmetricDivideConquer_DDRM {
+    // maximum number of iterations when solving for a root of the secular equation
+    private static final int MAX_SECULAR_ITERATIONS = 100;
+
+    // sub-problems which are this size or smaller are solved using the QR algorithm
+    protected int leafSize = 25;
+
+    // number of rows and columns in the tridiagonal matrix
+    protected int N;
+
+    // Initially the diagonal elements with the rank-one terms removed. Then the eigenvalues
+    protected double[] values = UtilEjml.ZERO_LENGTH_F64;
+    // the off diagonal elements
+    protected double[] off = UtilEjml.ZERO_LENGTH_F64;
+
+    // eigenvectors of the tridiagonal matrix are stored in the columns
+    protected DMatrixRMaj vectors = new DMatrixRMaj(1, 1);
+
+    // set to true if a sub-problem failed
+    protected volatile boolean failed;
+
+    /**
+     * Computes the eigenvalues and eigenvectors of the tridiagonal matrix.
+     *
+     * @param diag Diagonal elements. Not modified.
+     * @param off Off diagonal elements. Not modified.
+     * @param N Number of rows and columns in the matrix.
+     * @return true if successful
+     */
+    public boolean process( double[] diag, double[] off, int N ) {
+        this.N = N;
+        if (values.length < N) {
+            values = new double[N];
+            this.off = new double[N];
+        }
+        System.arraycopy(diag, 0, values, 0, N);
+        System.arraycopy(off, 0, this.off, 0, Math.max(0, N - 1));
+
+        // Scale the matrix so that the secular equation doesn't overflow or underflow
+        double scale = 0;
+        for (int i = 0; i < N; i++) {
+            scale = Math.max(scale, Math.abs(values[i]));
+        }
+        for (int i = 0; i < N - 1; i++) {
+            scale = Math.max(scale, Math.abs(this.off[i]));
+        }
+        if (scale == 0)
+            scale = 1;
+        for (int i = 0; i < N; i++) {
+            values[i] /= scale;
+        }
+        for (int i = 0; i < N - 1; i++) {
+            this.off[i] /= scale;
+        }
+
+        vectors.reshape(N, N);
+        vectors.zero();
+        failed = false;
+
+        // Recursively split the matrix up and record where the pieces need to be merged at each depth
+        List<int[]> leaves = new ArrayList<>();
+        List<List<int[]>> levels = new ArrayList<>();
+        split(0, N, 0, leaves, levels);
+
+        loopFor(0, leaves.size(), i -> solveLeaf(leaves.get(i)[0], leaves.get(i)[1]));
+        if (failed)
+            return false;
+
+        // Merge the deepest levels first. If there are enough merges to keep all the threads busy then they
+        // are processed in parallel, otherwise the work inside each merge is done in parallel.
+        for (int depth = levels.size() - 1; depth >= 0; depth--) {
+            List<int[]> merges = levels.get(depth);
+            if (merges.size() >= getMaxThreads()) {
+                loopFor(0, merges.size(), i -> merge(merges.get(i), false));
+            } else {
+                for (int i = 0; i < merges.size(); i++) {
+                    merge(merges.get(i), true);
+                }
+            }
+        }
+
+        for (int i = 0; i < N; i++) {
+            values[i] *= scale;
+        }
+
+        return !failed;
+    }
+
+    private void split( int start, int end, int depth, List<int[]> leaves, List<List<int[]>> levels ) {
+        if (end - start <= leafSize) {
+            leaves.add(new int[]{start, end});
+            return;
+        }
+
+        // Remove the coupling between the two halves. It's added back in as a rank-one term when merging
+        int middle = (start + end)/2;
+        double beta = off[middle - 1];
+        values[middle - 1] -= beta;
+        values[middle] -= beta;
+
+        while (levels.size() <= depth) {
+            levels.add(new ArrayList<>());
+        }
+        levels.get(depth).add(new int[]{start, middle, end});
+
+        split(start, middle, depth + 1, leaves, levels);
+        split(middle, end, depth + 1, leaves, levels);
+    }
+
+    /**
+     * Solves a small sub-problem using the symmetric QR algorithm
+     */
+    private void solveLeaf( int start, int end ) {
+        int n = end - start;
+
+        SymmetricQREigenHelper_DDRM helper = new SymmetricQREigenHelper_DDRM();
+        SymmetricQrAlgorithm_DDRM qr = new SymmetricQrAlgorithm_DDRM(helper);
+
+        // eigenvectors will be stored in the rows
+        DMatrixRMaj Qt = CommonOps_DDRM.identity(n);
+        helper.init(Arrays.copyOfRange(values, start, end), Arrays.copyOfRange(off, start, end - 1), n);
+        helper.setQ(Qt);
+        qr.setFastEigenvalues(false);
+
+        if (!qr.process(-1, null, null)) {
+            failed = true;
+            return;
+        }
+
+        double[] found = helper.copyEigenvalues(null);
+        int[] order = new int[n];
+        sortIndexes(found, order, n);
+
+        for (int i = 0; i < n; i++) {
+            values[start + i] = found[order[i]];
+            for (int row = 0; row < n; row++) {
+                vectors.unsafe_set(start + row, start + i, Qt.unsafe_get(order[i], row));
+            }
+        }
+    }
+
+    /**
+     * Merges two neighboring sub-problems by solving for the eigen decomposition of D + &rho;zz<sup>T</sup>,
+     * where D are the eigenvalues of the sub-problems and z is the rank-one term in the sub-problem's basis.
+     */
+    private void merge( int[] node, boolean concurrent ) {
+        final int start = node[0];
+        final int middle = node[1];
+        final int end = node[2];
+        final int n = end - start;
+        final int n1 = middle - start;
+
+        // z = Q<sup>T</sup>u where u = [e_n1; e_1], i.e. the last row of Q1 and the first row of Q2
+        double[] d = new double[n];
+        double[] z = new double[n];
+        double normZ = 0;
+        for (int i = 0; i < n; i++) {
+            d[i] = values[start + i];
+            z[i] = vectors.unsafe_get(i < n1 ? middle - 1 : middle, start + i);
+            normZ += z[i]*z[i];
+        }
+        normZ = Math.sqrt(normZ);
+        double rho = off[middle - 1]*normZ*normZ;
+        for (int i = 0; i < n; i++) {
+            z[i] /= normZ;
+        }
+
+        // The secular equation is solved with rho > 0. The problem is negated if needed, which only changes
+        // the sign of the eigenvalues
+        final double sign = rho < 0 ? -1 : 1;
+        if (rho < 0) {
+            rho = -rho;
+            for (int i = 0; i < n; i++) {
+                d[i] = -d[i];
+            }
+        }
+
+        // Copy the sub-problem eigenvectors since the merged eigenvectors will be written on top of them
+        DMatrixRMaj W = new DMatrixRMaj(n, n);
+        CommonOps_DDRM.extract(vectors, start, middle, start, middle, W, 0, 0);
+        CommonOps_DDRM.extract(vectors, middle, end, middle, end, W, n1, n1);
+        // which rows are non-zero in each column. 1 = top half, 2 = bottom half
+        int[] type = new int[n];
+        for (int i = 0; i < n; i++) {
+            type[i] = i < n1 ? 1 : 2;
+        }
+
+        int[] order = new int[n];
+        sortIndexes(d, order, n);
+
+        double dmax = 0;
+        for (int i = 0; i < n; i++) {
+            dmax = Math.max(dmax, Math.abs(d[i]));
+        }
+        double tol = 8.0*UtilEjml.EPS*Math.max(dmax, rho);
+
+        // ---------- Deflation
+        // Indexes of elements in the secular equation and elements whose eigenvalue is already known
+        int[] active = new int[n];
+        int[] deflated = new int[n];
+        int numActive = 0;
+        int numDeflated = 0;
+        int prev = -1;
+        for (int t = 0; t < n; t++) {
+            int i = order[t];
+            if (rho*Math.abs(z[i]) <= tol) {
+                deflated[numDeflated++] = i;
+                continue;
+            }
+            if (prev == -1) {
+                prev = i;
+                continue;
+            }
+
+            // If the two values are close then a rotation will zero z[prev] and allow it to be deflated
+            double tau = Math.sqrt(z[prev]*z[prev] + z[i]*z[i]);
+            double c = z[i]/tau;
+            double s = z[prev]/tau;
+            if (Math.abs((d[i] - d[prev])*c*s) <= tol) {
+                z[i] = tau;
+                z[prev] = 0;
+                double dp = d[prev]*c*c + d[i]*s*s;
+                d[i] = d[prev]*s*s + d[i]*c*c;
+                d[prev] = dp;
+                for (int row = 0; row < n; row++) {
+                    double wp = W.data[row*n + prev];
+                    double wi = W.data[row*n + i];
+                    W.data[row*n + prev] = c*wp - s*wi;
+                    W.data[row*n + i] = s*wp + c*wi;
+                }
+                type[i] |= type[prev];
+                type[prev] = type[i];
+                deflated[numDeflated++] = prev;
+            } else {
+                active[numActive++] = prev;
+            }
+            prev = i;
+        }
+        if (prev != -1)
+            active[numActive++] = prev;
+
+        // ---------- Solve the secular equation for the remaining values
+        final int k = numActive;
+        final double[] dk = new double[k];
+        final double[] zk = new double[k];
+        for (int i = 0; i < k; i++) {
+            dk[i] = d[active[i]];
+            zk[i] = z[active[i]];
+        }
+        final int[] origin = new int[k];
+        final double[] tau = new double[k];
+        final double rho_ = rho;
+        loopFor(0, k, concurrent, j -> {
+            if (!solveSecular(j, dk, zk, rho_, k, origin, tau))
+                failed = true;
+        });
+
+        // Eigenvectors of D + rho*z*z' are (D - lambda*I)^-1*z. Recomputing z from the eigenvalues found
+        // ensures the vectors are orthogonal even if the eigenvalues are not exact
+        final double[] zhat = new double[k];
+        loopFor(0, k, concurrent, i -> {
+            double prod = ((dk[origin[k - 1]] - dk[i]) + tau[k - 1])/rho_;
+            for (int j = 0; j < i; j++) {
+                prod *= ((dk[origin[j]] - dk[i]) + tau[j])/(dk[j] - dk[i]);
+            }
+            for (int j = i; j < k - 1; j++) {
+                prod *= ((dk[origin[j]] - dk[i]) + tau[j])/(dk[j + 1] - dk[i]);
+            }
+            zhat[i] = Math.copySign(Math.sqrt(Math.abs(prod)), zk[i]);
+        });
+
+        // Order the rows so that ones which are only non-zero in the top or bottom half of W can be skipped
+        int[] rows = new int[k];
+        int numTop = 0, numBoth = 0;
+        for (int i = 0; i < k; i++) {
+            if (type[active[i]] == 1)
+                rows[numTop++] = i;
+        }
+        for (int i = 0; i < k; i++) {
+            if (type[active[i]] == 3)
+                rows[numTop + numBoth++] = i;
+        }
+        for (int i = 0, idx = numTop + numBoth; i < k; i++) {
+            if (type[active[i]] == 2)
+                rows[idx++] = i;
+        }
+
+        final DMatrixRMaj U = new DMatrixRMaj(k, k);
+        loopFor(0, k, concurrent, j -> {
+            double norm = 0;
+            for (int r = 0; r < k; r++) {
+                int i = rows[r];
+                double v = zhat[i]/((dk[i] - dk[origin[j]]) - tau[j]);
+                U.data[r*k + j] = v;
+                norm += v*v;
+            }
+            norm = Math.sqrt(norm);
+            for (int r = 0; r < k; r++) {
+                U.data[r*k + j] /= norm;
+            }
+        });
+
+        // ---------- Multiply to find the eigenvectors of the merged problem
+        int numTopCols = numTop + numBoth;
+        DMatrixRMaj top = new DMatrixRMaj(n1, k);
+        DMatrixRMaj bottom = new DMatrixRMaj(n - n1, k);
+        if (numTopCols > 0) {
+            DMatrixRMaj Wtop = new DMatrixRMaj(n1, numTopCols);
+            for (int r = 0; r < numTopCols; r++) {
+                int col = active[rows[r]];
+                for (int row = 0; row < n1; row++) {
+                    Wtop.data[row*numTopCols + r] = W.data[row*n + col];
+                }
+            }
+            DMatrixRMaj Utop = CommonOps_DDRM.extract(U, 0, numTopCols, 0, k);
+            mult(Wtop, Utop, top, concurrent);
+        }
+        int numBottomCols = k - numTop;
+        if (numBottomCols > 0) {
+            DMatrixRMaj Wbottom = new DMatrixRMaj(n - n1, numBottomCols);
+            for (int r = 0; r < numBottomCols; r++) {
+                int col = active[rows[numTop + r]];
+                for (int row = n1; row < n; row++) {
+                    Wbottom.data[(row - n1)*numBottomCols + r] = W.data[row*n + col];
+                }
+            }
+            DMatrixRMaj Ubottom = CommonOps_DDRM.extract(U, numTop, k, 0, k);
+            mult(Wbottom, Ubottom, bottom, concurrent);
+        }
+
+        // ---------- Write the results in ascending order
+        double[] found = new double[n];
+        for (int j = 0; j < k; j++) {
+            found[j] = sign*(dk[origin[j]] + tau[j]);
+        }
+        for (int i = 0; i < numDeflated; i++) {
+            found[k + i] = sign*d[deflated[i]];
+        }
+        int[] sorted = new int[n];
+        sortIndexes(found, sorted, n);
+
+        for (int t = 0; t < n; t++) {
+            int src = sorted[t];
+            int col = start + t;
+            values[col] = found[src];
+            if (src < k) {
+                for (int row = 0; row < n1; row++) {
+                    vectors.unsafe_set(start + row, col, top.data[row*k + src]);
+                }
+                for (int row = n1; row < n; row++) {
+                    vectors.unsafe_set(start + row, col, bottom.data[(row - n1)*k + src]);
+                }
+            } else {
+                int w = deflated[src - k];
+                for (int row = 0; row < n; row++) {
+                    vectors.unsafe_set(start + row, col, W.data[row*n + w]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the j-th root of the secular equation f(x) = 1 + &rho;&sum;<sub>i</sub>z<sub>i</sub><sup>2</sup>/(d<sub>i</sub>-x)
+     * with &rho; &gt; 0 and d sorted in ascending order. The j-th root lies between d[j] and d[j+1]. To avoid
+     * cancellation the root is found relative to the closest pole and saved as d[origin[j]] + tau[j].
+     *
+     * Each iteration fits a model with the two closest poles to f(x), where the weight of the closest pole is exact
+     * and the other terms are chosen to match the value and derivative. Bisection is used if the model's solution
+     * is outside the interval known to contain the root.
+     *
+     * @return true if it converged
+     */
+    static boolean solveSecular( int j, double[] d, double[] z, double rho, int k, int[] origin, double[] tau ) {
+        int o, other;
+        double lower, upper;
+        if (j == k - 1) {
+            double sumZ2 = 0;
+            for (int i = 0; i < k; i++) {
+                sumZ2 += z[i]*z[i];
+            }
+            o = j;
+            other = -1;
+            lower = 0;
+            upper = rho*sumZ2;
+        } else {
+            // Find which pole is closer by evaluating f at the middle of the interval
+            double half = (d[j + 1] - d[j])/2;
+            double f = 1;
+            for (int i = 0; i < k; i++) {
+                f += rho*z[i]*z[i]/((d[i] - d[j]) - half);
+            }
+            if (f >= 0) {
+                o = j;
+                other = j + 1;
+                lower = 0;
+                upper = half;
+            } else {
+                o = j + 1;
+                other = j;
+                lower = -half;
+                upper = 0;
+            }
+        }
+        origin[j] = o;
+
+        boolean converged = false;
+        double t = (lower + upper)/2;
+        for (int iteration = 0; iteration < MAX_SECULAR_ITERATIONS; iteration++) {
+            double f = 1, df = 0, magnitude = 1;
+            for (int i = 0; i < k; i++) {
+                double delta = (d[i] - d[o]) - t;
+                double q = rho*z[i]*z[i]/delta;
+                f += q;
+                df += q/delta;
+                magnitude += Math.abs(q);
+            }
+
+            // f is increasing inside the interval
+            if (f < 0)
+                lower = t;
+            else
+                upper = t;
+
+            if (Math.abs(f) <= k*UtilEjml.EPS*magnitude) {
+                converged = true;
+                break;
+            }
+
+            double near = -t;
+            double a = rho*z[o]*z[o];
+            double eta;
+            if (other < 0) {
+                // model: c + s/(near - eta)
+                double s = df*near*near;
+                double c = f - s/near;
+                eta = near + s/c;
+            } else {
+                // model: c + a/(near - eta) + s/(far - eta)
+                double far = (d[other] - d[o]) - t;
+                double s = (df - a/(near*near))*far*far;
+                double c = f - a/near - s/far;
+                eta = solveModel(c, near, far, a, s, lower - t, upper - t);
+            }
+
+            double next = t + eta;
+            if (!(next > lower && next < upper))
+                next = (lower + upper)/2;
+            if (next == t || upper - lower <= 2*UtilEjml.EPS*Math.max(Math.abs(lower), Math.abs(upper))) {
+                t = next;
+                converged = true;
+                break;
+            }
+            t = next;
+        }
+        tau[j] = t;
+        return converged;
+    }
+
+    /**
+     * Solves c*(near-x)*(far-x) + a*(far-x) + s*(near-x) = 0 for a root inside of (lower, upper). Returns NaN
+     * if there is no such root.
+     */
+    private static double solveModel( double c, double near, double far, double a, double s,
+                                      double lower, double upper ) {
+        double B = -(c*(near + far) + a + s);
+        double C = c*near*far + a*far + s*near;
+        if (c == 0)
+            return -C/B;
+
+        double disc = B*B - 4*c*C;
+        if (disc < 0)
+            return Double.NaN;
+        double q = -0.5*(B + Math.copySign(Math.sqrt(disc), B));
+        double r0 = q/c;
+        double r1 = C/q;
+        boolean inside0 = r0 > lower && r0 < upper;
+        boolean inside1 = r1 > lower && r1 < upper;
+        if (inside0 && inside1)
+            return Math.abs(r0) < Math.abs(r1) ? r0 : r1;
+        return inside0 ? r0 : r1;
+    }
+
+    /**
+     * Sorts the values in ascending order and returns the order as a list of indexes. Values is not modified.
+     */
+    static void sortIndexes( double[] values, int[] indexes, int length ) {
+        for (int i = 0; i < length; i++) {
+            indexes[i] = i;
+        }
+        int[] work = new int[length];
+        mergeSort(values, indexes, work, 0, length);
+    }
+
+    private static void mergeSort( double[] values, int[] indexes, int[] work, int start, int end ) {
+        if (end - start < 2)
+            return;
+        int middle = (start + end)/2;
+        mergeSort(values, indexes, work, start, middle);
+        mergeSort(values, indexes, work, middle, end);
+        // already in order
+        if (values[indexes[middle - 1]] <= values[indexes[middle]])
+            return;
+
+        int a = start, b = middle;
+        for (int i = start; i < end; i++) {
+            if (b >= end || (a < middle && values[indexes[a]] <= values[indexes[b]]))
+                work[i] = indexes[a++];
+            else
+                work[i] = indexes[b++];
+        }
+        System.arraycopy(work, start, indexes, start, end - start);
+    }
+
+    /**
+     * Computes the eigenvectors of a matrix which was reduced to the processed tridiagonal matrix by an orthogonal
+     * transform Q. The eigenvectors are written to the columns of the output, i.e. output = Q*V.
+     *
+     * @param Q (Input) The orthogonal matrix. Not modified.
+     * @param output (Output) Eigenvectors stored in the columns. Reshaped.
+     */
+    public void backTransform( DMatrixRMaj Q, DMatrixRMaj output ) {
+        output.reshape(Q.numRows, N);
+        CommonOps_DDRM.mult(Q, vectors, output);
+    }
+
+    /**
+     * Loop which processes independent sub-problems. Overridden by concurrent implementations.
+     */
+    protected void loopFor( int start, int end, IntConsumer op ) {
+        for (int i = start; i < end; i++) {
+            op.accept(i);
+        }
+    }
+
+    private void loopFor( int start, int end, boolean concurrent, IntConsumer op ) {
+        if (concurrent) {
+            loopFor(start, end, op);
+        } else {
+            for (int i = start; i < end; i++) {
+                op.accept(i);
+            }
+        }
+    }
+
+    /**
+     * Matrix multiplication used to compute eigenvectors. Overridden by concurrent implementations.
+     */
+    protected void mult( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj C, boolean concurrent ) {
+        CommonOps_DDRM.mult(A, B, C);
+    }
+
+    /**
+     * Maximum number of threads which sub-problems can be processed with
+     */
+    protected int getMaxThreads() {
+        return 1;
+    }
+
+    /**
+     * Sub-problems which are this size or smaller are solved using the QR algorithm
+     */
+    public void setLeafSize( int leafSize ) {
+        if (leafSize < 1)
+            throw new IllegalArgumentException("Leaf size must be at least 1");
+        this.leafSize = leafSize;
+    }
+
+    public int getLeafSize() {
+        return leafSize;
+    }
+
+    /**
+     * Returns the eigenvalues in ascending order. The array can be longer than the number of eigenvalues.
+     */
+    public double[] getEigenvalues() {
+        return values;
+    }
+
+    /**
+     * Returns a matrix with the eigenvectors in the columns
+     */
+    public DMatrixRMaj getEigenvectors() {
+        return vectors;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.lu;
+
+import org.ejml.data.DMatrixRMaj;
+
+/**
+ * <p>
+ * Blocked right-looking LU decomposition with partial pivoting. The matrix is processed one block of columns
+ * at a time. First the panel, i.e. the block of columns on and below the diagonal, is decomposed using
+ * partial pivoting. Then the rows to the right of the diagonal block are solved for, U<sub>12</sub> =
+ * L<sub>11</sub><sup>-1</sup>A<sub>12</sub>, and finally the trailing matrix is updated,
+ * A<sub>22</sub> = A<sub>22</sub> - L<sub>21</sub>U<sub>12</sub>. Most of the work is in the update of the
+ * trailing matrix, which is a matrix multiplication.
+ * </p>
+ *
+ * <p>
+ * Rows are swapped in the same way as {@link LUDecompositionAlt_DDRM}, so the results can be used with
+ * the same solvers.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LUDecompositionBlock_DDRM extends LUDecompositionBase_DDRM {
+
+    /** Number of columns in a block */
+    protected final int blockWidth;
+
+    /** Number of columns in the trailing matrix which are updated at once. Reduces cache misses in wide matrices */
+    protected int tileWidth = 256;
+
+    /**
+     * @param blockWidth Number of columns which are processed together.
+     */
+    public LUDecompositionBlock_DDRM( int blockWidth ) {
+        if (blockWidth <= 0)
+            throw new IllegalArgumentException("Block width must be at least one");
+        this.blockWidth = blockWidth;
+    }
+
+    @Override
+    public boolean decompose( DMatrixRMaj a ) {
+        decomposeCommonInit(a);
+
+        final int minLength = Math.min(m, n);
+
+        for (int j0 = 0; j0 < minLength; j0 += blockWidth) {
+            int j1 = Math.min(j0 + blockWidth, minLength);
+
+            decomposePanel(j0, j1);
+
+            if (j1 < n) {
+                solveBlockRow(j0, j1);
+                if (j1 < m)
+                    updateTrailing(j0, j1);
+            }
+        }
+
+        // Columns which are past the last row aren't pivoted
+        for (int j = minLength; j < n; j++) {
+            indx[j] = j;
+        }
+
+        return true;
+    }
+
+    /**
+     * Decomposes the columns [j0,j1) in all the rows below j0 using partial pivoting. Entire rows are swapped.
+     */
+    protected void decomposePanel( int j0, int j1 ) {
+        for (int j = j0; j < j1; j++) {
+            // Find pivot and exchange if necessary.
+            int p = j;
+            double max = Math.abs(dataLU[j*n + j]);
+            for (int i = j + 1; i < m; i++) {
+                double v = Math.abs(dataLU[i*n + j]);
+                if (v > max) {
+                    p = i;
+                    max = v;
+                }
+            }
+
+            if (p != j) {
+                int rowP = p*n;
+                int rowJ = j*n;
+                int endP = rowP + n;
+                for (; rowP < endP; rowP++, rowJ++) {
+                    double t = dataLU[rowP];
+                    dataLU[rowP] = dataLU[rowJ];
+                    dataLU[rowJ] = t;
+                }
+                int k = pivot[p];
+                pivot[p] = pivot[j];
+                pivot[j] = k;
+                pivsign = -pivsign;
+            }
+            indx[j] = p;
+
+            // Compute multipliers.
+            double lujj = dataLU[j*n + j];
+            if (lujj != 0) {
+                for (int i = j + 1; i < m; i++) {
+                    dataLU[i*n + j] /= lujj;
+                }
+            }
+
+            // Update the remainder of the panel
+            int rowJ = j*n;
+            for (int i = j + 1; i < m; i++) {
+                int rowI = i*n;
+                double lij = dataLU[rowI + j];
+                if (lij == 0)
+                    continue;
+                for (int k = j + 1; k < j1; k++) {
+                    dataLU[rowI + k] -= lij*dataLU[rowJ + k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes U<sub>12</sub> = L<sub>11</sub><sup>-1</sup>A<sub>12</sub>, where U<sub>12</sub> is rows [j0,j1)
+     * and columns [j1,n).
+     */
+    protected void solveBlockRow( int j0, int j1 ) {
+        solveBlockRow(j0, j1, j1, n);
+    }
+
+    /**
+     * Updates the trailing matrix A<sub>22</sub> = A<sub>22</sub> - L<sub>21</sub>U<sub>12</sub>, which is rows
+     * [j1,m) and columns [j1,n).
+     */
+    protected void updateTrailing( int j0, int j1 ) {
+        updateTrailing(j0, j1, j1, m);
+    }
+
+    /**
+     * Solves for U<sub>12</sub> inside of columns [col0,col1) using forward substitution. L<sub>11</sub> has
+     * ones along its diagonal.
+     */
+    protected void solveBlockRow( int j0, int j1, int col0, int col1 ) {
+        for (int i = j0 + 1; i < j1; i++) {
+            int rowI = i*n;
+            for (int k = j0; k < i; k++) {
+                double lik = dataLU[rowI + k];
+                if (lik == 0)
+                    continue;
+                int indexK = k*n + col0;
+                int indexI = rowI + col0;
+                int end = rowI + col1;
+                while (indexI < end) {
+                    dataLU[indexI++] -= lik*dataLU[indexK++];
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates rows [row0,row1) in the trailing matrix. The columns are processed in tiles so that the
+     * part of U<sub>12</sub> being read stays in the cache.
+     */
+    protected void updateTrailing( int j0, int j1, int row0, int row1 ) {
+        for (int col0 = j1; col0 < n; col0 += tileWidth) {
+            int col1 = Math.min(col0 + tileWidth, n);
+            for (int i = row0; i < row1; i++) {
+                int rowI = i*n;
+                for (int k = j0; k < j1; k++) {
+                    double lik = dataLU[rowI + k];
+                    if (lik == 0)
+                        continue;
+                    int indexK = k*n + col0;
+                    int indexI = rowI + col0;
+                    int end = rowI + col1;
+                    while (indexI < end) {
+                        dataLU[indexI++] -= lik*dataLU[indexK++];
+                    }
+                }
+            }
+        }
+    }
+}
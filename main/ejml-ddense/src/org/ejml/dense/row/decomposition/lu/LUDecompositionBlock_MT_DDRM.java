@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.lu;
+
+import org.ejml.concurrency.EjmlConcurrency;
+
+/**
+ * Concurrent implementation of {@link LUDecompositionBlock_DDRM}. Rows in the trailing matrix are updated in
+ * parallel and the block row of U is solved in parallel by splitting up its columns. Each element is computed
+ * using the same operations as the single thread version, so the results are identical.
+ *
+ * @author Peter Abeles
+ */
+public class LUDecompositionBlock_MT_DDRM extends LUDecompositionBlock_DDRM {
+    /**
+     * @param blockWidth Number of columns which are processed together.
+     */
+    public LUDecompositionBlock_MT_DDRM( int blockWidth ) {
+        super(blockWidth);
+    }
+
+    @Override
+    protected void solveBlockRow( int j0, int j1 ) {
+        EjmlConcurrency.loopBlocks(j1, n, tileWidth/4, ( col0, col1 ) -> solveBlockRow(j0, j1, col0, col1));
+    }
+
+    @Override
+    protected void updateTrailing( int j0, int j1 ) {
+        EjmlConcurrency.loopBlocks(j1, m, ( row0, row1 ) -> updateTrailing(j0, j1, row0, row1));
+    }
+}
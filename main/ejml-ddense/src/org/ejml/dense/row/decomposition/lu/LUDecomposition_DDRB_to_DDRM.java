@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.row.decomposition.lu;
+
+import org.ejml.EjmlParameters;
+import org.ejml.data.Complex_F64;
+import org.ejml.data.DMatrixRBlock;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.IGrowArray;
+import org.ejml.dense.block.MatrixOps_DDRB;
+import org.ejml.dense.block.decomposition.lu.LUDecompositionPivot_DDRB;
+import org.ejml.dense.row.SpecializedOps_DDRM;
+import org.ejml.dense.row.decomposition.BaseDecomposition_DDRB_to_DDRM;
+import org.ejml.interfaces.decomposition.LUDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Wrapper around {@link LUDecompositionPivot_DDRB} that allows it to process DMatrixRMaj. Unlike the other
+ * block wrappers the input is copied instead of being converted in place, which matches the behavior of
+ * the other LU decompositions.
+ *
+ * @author Peter Abeles
+ */
+public class LUDecomposition_DDRB_to_DDRM
+        extends BaseDecomposition_DDRB_to_DDRM implements LUDecomposition_F64<DMatrixRMaj> {
+
+    LUDecomposition_F64<DMatrixRBlock> lu;
+
+    public LUDecomposition_DDRB_to_DDRM() {
+        this(new LUDecompositionPivot_DDRB(), EjmlParameters.BLOCK_WIDTH);
+    }
+
+    public LUDecomposition_DDRB_to_DDRM( LUDecomposition_F64<DMatrixRBlock> alg, int blockLength ) {
+        super(alg, blockLength);
+        this.lu = alg;
+    }
+
+    @Override
+    public boolean decompose( DMatrixRMaj A ) {
+        Ablock.reshape(A.numRows, A.numCols, blockLength, false);
+        MatrixOps_DDRB.convert(A, Ablock);
+
+        return alg.decompose(Ablock);
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+
+    @Override
+    public DMatrixRMaj getLower( @Nullable DMatrixRMaj lower ) {
+        return convert(lu.getLower(null), lower);
+    }
+
+    @Override
+    public DMatrixRMaj getUpper( @Nullable DMatrixRMaj upper ) {
+        return convert(lu.getUpper(null), upper);
+    }
+
+    @Override
+    public DMatrixRMaj getRowPivot( @Nullable DMatrixRMaj pivot ) {
+        return SpecializedOps_DDRM.pivotMatrix(pivot, lu.getRowPivotV(null), Ablock.numRows, false);
+    }
+
+    @Override
+    public int[] getRowPivotV( @Nullable IGrowArray pivot ) {
+        return lu.getRowPivotV(pivot);
+    }
+
+    @Override
+    public boolean isSingular() {
+        return lu.isSingular();
+    }
+
+    @Override
+    public Complex_F64 computeDeterminant() {
+        return lu.computeDeterminant();
+    }
+
+    private static DMatrixRMaj convert( DMatrixRBlock src, @Nullable DMatrixRMaj dst ) {
+        if (dst == null) {
+            dst = new DMatrixRMaj(src.numRows, src.numCols);
+        } else {
+            dst.reshape(src.numRows, src.numCols);
+        }
+        MatrixOps_DDRB.convert(src, dst);
+        return dst;
+    }
+}
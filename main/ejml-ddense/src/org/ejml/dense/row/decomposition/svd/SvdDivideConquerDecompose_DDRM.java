@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd;
+
+import org.ejml.EjmlParameters;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecompositionRow_DDRM;
+import org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecompositionTall_DDRM;
+import org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecomposition_DDRB_to_DDRM;
+import org.ejml.dense.row.decomposition.svd.divconq.SvdDivideConquerAlgorithm_DDRM;
+import org.ejml.dense.row.decomposition.svd.implicitqr.SvdImplicitQrAlgorithm_DDRM;
+import org.ejml.interfaces.decomposition.BidiagonalDecomposition_F64;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Computes the Singular value decomposition of a matrix using the divide and conquer algorithm. First the matrix
+ * is transformed into bidiagonal form A=U*B*V<sup>T</sup>, then the singular values and vectors of B are found
+ * using {@link SvdDivideConquerAlgorithm_DDRM}. Finally the singular vectors of B are multiplied against U and V.
+ * For large matrices this is faster than {@link SvdImplicitQrDecompose_DDRM}, since most of the work is done in
+ * matrix multiplications instead of applying Givens rotations to U and V.
+ * </p>
+ *
+ * <p>
+ * If neither U or V are requested then the singular values are computed using the implicit QR algorithm, which
+ * is faster in that situation. Singular values are returned in ascending order when U or V are computed.
+ * </p>
+ *
+ * @author Peter Abeles
+ * @see SvdDivideConquerAlgorithm_DDRM
+ */
+@SuppressWarnings("NullAway.Init")
+public class SvdDivideConquerDecompose_DDRM implements SingularValueDecomposition_F64<DMatrixRMaj> {
+
+    protected int numRows;
+    protected int numCols;
+
+    // dimensions of transposed matrix
+    protected int numRowsT;
+    protected int numColsT;
+
+    // if true then it can use the special Bidiagonal decomposition
+    protected boolean canUseTallBidiagonal;
+
+    protected BidiagonalDecomposition_F64<DMatrixRMaj> bidiag;
+    // computes singular values and vectors of the bidiagonal matrix
+    protected SvdDivideConquerAlgorithm_DDRM divide;
+    // used when only singular values are needed
+    protected SvdImplicitQrAlgorithm_DDRM qralg = new SvdImplicitQrAlgorithm_DDRM();
+
+    double[] diag;
+    double[] off;
+
+    // orthogonal matrices from the bidiagonal decomposition
+    private DMatrixRMaj Ub;
+    private DMatrixRMaj Vb;
+
+    // singular vectors stored in the columns
+    private DMatrixRMaj U = new DMatrixRMaj(1, 1);
+    private DMatrixRMaj V = new DMatrixRMaj(1, 1);
+
+    private double[] singularValues = UtilEjml.ZERO_LENGTH_F64;
+    private int numSingular;
+
+    // compute a compact SVD
+    protected boolean compact;
+    // What is actually computed
+    protected boolean computeU;
+    protected boolean computeV;
+
+    // What the user requested to be computed
+    // If the transpose is computed instead then what is actually computed is swapped
+    protected boolean prefComputeU;
+    protected boolean prefComputeV;
+
+    // Should it compute the transpose instead
+    protected boolean transposed;
+
+    // Either a copy of the input matrix or a copy of it transposed
+    private DMatrixRMaj A_mod = new DMatrixRMaj(1, 1);
+
+    /**
+     * Configures the class
+     *
+     * @param compact Compute a compact SVD
+     * @param computeU If true it will compute the U matrix
+     * @param computeV If true it will compute the V matrix
+     * @param canUseTallBidiagonal If true then it can choose to use a tall Bidiagonal decomposition to improve runtime performance.
+     * @param divide Algorithm used to decompose the bidiagonal matrix
+     */
+    public SvdDivideConquerDecompose_DDRM( boolean compact, boolean computeU, boolean computeV,
+                                           boolean canUseTallBidiagonal, SvdDivideConquerAlgorithm_DDRM divide ) {
+        this.compact = compact;
+        this.prefComputeU = computeU;
+        this.prefComputeV = computeV;
+        this.canUseTallBidiagonal = canUseTallBidiagonal;
+        this.divide = divide;
+    }
+
+    public SvdDivideConquerDecompose_DDRM( boolean compact, boolean computeU, boolean computeV,
+                                           boolean canUseTallBidiagonal ) {
+        this(compact, computeU, computeV, canUseTallBidiagonal, new SvdDivideConquerAlgorithm_DDRM());
+    }
+
+    @Override
+    public double[] getSingularValues() {
+        return singularValues;
+    }
+
+    @Override
+    public int numberOfSingularValues() {
+        return numSingular;
+    }
+
+    @Override
+    public boolean isCompact() {
+        return compact;
+    }
+
+    @Override
+    public DMatrixRMaj getU( @Nullable DMatrixRMaj U, boolean transpose ) {
+        if (!prefComputeU)
+            throw new IllegalArgumentException("As requested U was not computed.");
+        if (transpose) {
+            U = UtilEjml.reshapeOrDeclare(U, this.U.numCols, this.U.numRows);
+            transpose(U, this.U);
+        } else {
+            if (U == null)
+                return this.U;
+            U.set(this.U);
+        }
+
+        return U;
+    }
+
+    @Override
+    public DMatrixRMaj getV( @Nullable DMatrixRMaj V, boolean transpose ) {
+        if (!prefComputeV)
+            throw new IllegalArgumentException("As requested V was not computed.");
+        if (transpose) {
+            V = UtilEjml.reshapeOrDeclare(V, this.V.numCols, this.V.numRows);
+            transpose(V, this.V);
+        } else {
+            if (V == null)
+                return this.V;
+            V.set(this.V);
+        }
+
+        return V;
+    }
+
+    /**
+     * Large matrices are decomposed using a block algorithm
+     */
+    protected boolean useBlockBidiagonal() {
+        return numColsT >= EjmlParameters.SWITCH_BLOCK64_BIDIAGONAL &&
+                EjmlParameters.MEMORY == EjmlParameters.MemoryUsage.FASTER;
+    }
+
+    protected void transpose( @NotNull DMatrixRMaj output, DMatrixRMaj input ) {
+        CommonOps_DDRM.transpose(input, output);
+    }
+
+    @Override
+    public DMatrixRMaj getW( @Nullable DMatrixRMaj W ) {
+        int m = compact ? numSingular : numRows;
+        int n = compact ? numSingular : numCols;
+
+        if (W == null)
+            W = new DMatrixRMaj(m, n);
+        else {
+            W.reshape(m, n, false);
+            W.zero();
+        }
+
+        for (int i = 0; i < numSingular; i++) {
+            W.unsafe_set(i, i, singularValues[i]);
+        }
+
+        return W;
+    }
+
+    @Override
+    public boolean decompose( DMatrixRMaj orig ) {
+        if (!setup(orig))
+            return false;
+
+        if (bidiagonalization(orig))
+            return false;
+
+        if (computeUWV())
+            return false;
+
+        // if transposed undo the transposition
+        undoTranspose();
+
+        return true;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+
+    private boolean bidiagonalization( DMatrixRMaj orig ) {
+        // change the matrix to bidiagonal form
+        if (transposed) {
+            A_mod.reshape(orig.numCols, orig.numRows, false);
+            transpose(A_mod, orig);
+        } else {
+            A_mod.reshape(orig.numRows, orig.numCols, false);
+            A_mod.set(orig);
+        }
+        return !bidiag.decompose(A_mod);
+    }
+
+    /**
+     * If the transpose was computed instead do some additional computations
+     */
+    private void undoTranspose() {
+        if (transposed) {
+            DMatrixRMaj temp = V;
+            V = U;
+            U = temp;
+        }
+    }
+
+    /**
+     * Compute singular values and U and V at the same time
+     */
+    private boolean computeUWV() {
+        bidiag.getDiagonal(diag, off);
+        numSingular = numColsT;
+
+        if (!computeU && !computeV) {
+            qralg.setMatrix(numRowsT, numColsT, diag, off);
+            qralg.setFastValues(true);
+            qralg.setUt(null);
+            qralg.setVt(null);
+            if (!qralg.process())
+                return true;
+
+            singularValues = qralg.getSingularValues();
+            for (int i = 0; i < numSingular; i++) {
+                singularValues[i] = Math.abs(singularValues[i]);
+            }
+            return false;
+        }
+
+        if (!divide.process(diag, off, numColsT))
+            return true;
+
+        if (singularValues.length < numSingular)
+            singularValues = new double[numSingular];
+        System.arraycopy(divide.getSingularValues(), 0, singularValues, 0, numSingular);
+
+        // The singular vectors of the original matrix are the bidiagonal decomposition's vectors multiplied
+        // by the singular vectors of the bidiagonal matrix
+        if (computeU) {
+            Ub = bidiag.getU(Ub, false, compact);
+            divide.backTransformU(Ub, U);
+        }
+        if (computeV) {
+            Vb = bidiag.getV(Vb, false, compact);
+            divide.backTransformV(Vb, V);
+        }
+
+        return false;
+    }
+
+    private boolean setup( DMatrixRMaj orig ) {
+        transposed = orig.numCols > orig.numRows;
+
+        // flag what should be computed and what should not be computed
+        if (transposed) {
+            computeU = prefComputeV;
+            computeV = prefComputeU;
+            numRowsT = orig.numCols;
+            numColsT = orig.numRows;
+        } else {
+            computeU = prefComputeU;
+            computeV = prefComputeV;
+            numRowsT = orig.numRows;
+            numColsT = orig.numCols;
+        }
+
+        numRows = orig.numRows;
+        numCols = orig.numCols;
+
+        if (numRows == 0 || numCols == 0)
+            return false;
+
+        if (diag == null || diag.length < numColsT) {
+            diag = new double[numColsT];
+            off = new double[numColsT - 1];
+        }
+
+        // if it is a tall matrix and U is not needed then there is faster decomposition algorithm
+        declareBidiagonalDecomposition();
+
+        return true;
+    }
+
+    protected void declareBidiagonalDecomposition() {
+        if (canUseTallBidiagonal && numRows > numCols*2 && !computeU) {
+            if (bidiag == null || !(bidiag instanceof BidiagonalDecompositionTall_DDRM)) {
+                bidiag = new BidiagonalDecompositionTall_DDRM();
+            }
+        } else if (useBlockBidiagonal()) {
+            if (bidiag == null || !(bidiag instanceof BidiagonalDecomposition_DDRB_to_DDRM)) {
+                bidiag = new BidiagonalDecomposition_DDRB_to_DDRM();
+            }
+        } else if (bidiag == null || !(bidiag instanceof BidiagonalDecompositionRow_DDRM)) {
+            bidiag = new BidiagonalDecompositionRow_DDRM();
+        }
+    }
+
+    @Override
+    public int numRows() {
+        return numRows;
+    }
+
+    @Override
+    public int numCols() {
+        return numCols;
+    }
+}
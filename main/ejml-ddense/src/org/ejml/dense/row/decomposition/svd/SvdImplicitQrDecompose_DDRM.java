@@ -18,11 +18,13 @@
 
 package org.ejml.dense.row.decomposition.svd;
 
+import org.ejml.EjmlParameters;
 import org.ejml.UtilEjml;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.CommonOps_DDRM;
 import org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecompositionRow_DDRM;
 import org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecompositionTall_DDRM;
+import org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecomposition_DDRB_to_DDRM;
 import org.ejml.dense.row.decomposition.svd.implicitqr.SvdImplicitQrAlgorithm_DDRM;
 import org.ejml.interfaces.decomposition.BidiagonalDecomposition_F64;
 import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
@@ -153,6 +155,14 @@ public class SvdImplicitQrDecompose_DDRM implements SingularValueDecomposition_F
         return V;
     }
 
+    /**
+     * Large matrices are decomposed using a block algorithm
+     */
+    protected boolean useBlockBidiagonal() {
+        return numColsT >= EjmlParameters.SWITCH_BLOCK64_BIDIAGONAL &&
+                EjmlParameters.MEMORY == EjmlParameters.MemoryUsage.FASTER;
+    }
+
     protected void transpose( @NotNull DMatrixRMaj V, DMatrixRMaj Vt ) {
         CommonOps_DDRM.transpose(Vt, V);
     }
@@ -296,6 +306,10 @@ public class SvdImplicitQrDecompose_DDRM implements SingularValueDecomposition_F
             if (bidiag == null || !(bidiag instanceof BidiagonalDecompositionTall_DDRM)) {
                 bidiag = new BidiagonalDecompositionTall_DDRM();
             }
+        } else if (useBlockBidiagonal()) {
+            if (bidiag == null || !(bidiag instanceof BidiagonalDecomposition_DDRB_to_DDRM)) {
+                bidiag = new BidiagonalDecomposition_DDRB_to_DDRM();
+            }
         } else if (bidiag == null || !(bidiag instanceof BidiagonalDecompositionRow_DDRM)) {
             bidiag = new BidiagonalDecompositionRow_DDRM();
         }
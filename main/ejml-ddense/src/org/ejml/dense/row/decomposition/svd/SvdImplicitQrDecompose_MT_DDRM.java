@@ -18,10 +18,13 @@
 
 package org.ejml.dense.row.decomposition.svd;
 
+import org.ejml.EjmlParameters;
 import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.block.decomposition.bidiagonal.BidiagonalDecompositionHouseholder_MT_DDRB;
 import org.ejml.dense.row.CommonOps_MT_DDRM;
 import org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecompositionRow_MT_DDRM;
 import org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecompositionTall_MT_DDRM;
+import org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecomposition_DDRB_to_DDRM;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -48,6 +51,11 @@ public class SvdImplicitQrDecompose_MT_DDRM extends SvdImplicitQrDecompose_DDRM
             if (bidiag == null || !(bidiag instanceof BidiagonalDecompositionTall_MT_DDRM)) {
                 bidiag = new BidiagonalDecompositionTall_MT_DDRM();
             }
+        } else if (useBlockBidiagonal()) {
+            if (bidiag == null || !(bidiag instanceof BidiagonalDecomposition_DDRB_to_DDRM)) {
+                bidiag = new BidiagonalDecomposition_DDRB_to_DDRM(
+                        new BidiagonalDecompositionHouseholder_MT_DDRB(), EjmlParameters.BLOCK_WIDTH);
+            }
         } else if (bidiag == null || !(bidiag instanceof BidiagonalDecompositionRow_MT_DDRM)) {
             bidiag = new BidiagonalDecompositionRow_MT_DDRM();
         }
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.decomposition.qr.QRDecompositionHouseholderColumn_DDRM;
+import org.ejml.interfaces.decomposition.QRDecomposition;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Random;
+
+/**
+ * <p>
+ * Computes a truncated singular value decomposition with the largest singular values using a randomized
+ * range finder. The matrix is multiplied by a random Gaussian matrix to sample its range, which is then improved
+ * with a few power iterations. After projecting the matrix onto the found basis the SVD of the much smaller
+ * projected matrix is computed. The matrix is only accessed through multiplications against dense matrices with
+ * (rank + oversampling) columns, see {@link #decompose(int, int, Operator)}, which makes it suitable for very large
+ * or sparse matrices when only a few singular vectors are needed.
+ * </p>
+ *
+ * <p>
+ * The accuracy depends on how quickly the singular values decay. Oversampling and power iterations improve
+ * accuracy at the cost of additional matrix multiplications. Between power iterations the basis is
+ * orthogonalized with a QR decomposition to avoid loss of precision. The decomposition is always compact and
+ * singular values are returned in descending order.
+ * </p>
+ *
+ * <p>
+ * Halko, Nathan, Per-Gunnar Martinsson, and Joel A. Tropp. "Finding structure with randomness: Probabilistic
+ * algorithms for constructing approximate matrix decompositions." SIAM review 53.2 (2011): 217-288.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public class SvdRandomized_DDRM implements SingularValueDecomposition_F64<DMatrixRMaj> {
+
+    /**
+     * Multiplies the matrix being decomposed against a dense matrix
+     */
+    public interface Operator {
+        /** output = A*B */
+        void mult( DMatrixRMaj B, DMatrixRMaj output );
+
+        /** output = A<sup>T</sup>*B */
+        void multTransA( DMatrixRMaj B, DMatrixRMaj output );
+    }
+
+    // number of singular values which are requested
+    protected int rank;
+    // number of additional samples of the range
+    protected int oversampling;
+    // number of power iterations
+    protected int powerIterations;
+    protected Random rand;
+
+    // used to orthogonalize the basis
+    protected QRDecomposition<DMatrixRMaj> qr;
+    // decomposes the projected matrix
+    protected SingularValueDecomposition_F64<DMatrixRMaj> svd = new SvdImplicitQrDecompose_DDRM(true, true, true, false);
+
+    protected int numRows;
+    protected int numCols;
+
+    private double[] singularValues = UtilEjml.ZERO_LENGTH_F64;
+    private int numSingular;
+
+    // singular vectors stored in the columns
+    private DMatrixRMaj U = new DMatrixRMaj(1, 1);
+    private DMatrixRMaj V = new DMatrixRMaj(1, 1);
+
+    // workspace
+    private DMatrixRMaj omega = new DMatrixRMaj(1, 1);
+    private DMatrixRMaj sampled = new DMatrixRMaj(1, 1);
+    private DMatrixRMaj Q = new DMatrixRMaj(1, 1);
+    private DMatrixRMaj P = new DMatrixRMaj(1, 1);
+    private DMatrixRMaj Bt = new DMatrixRMaj(1, 1);
+    private DMatrixRMaj selected = new DMatrixRMaj(1, 1);
+
+    // The matrix being decomposed when it is dense
+    private DMatrixRMaj A;
+    private final Operator denseOperator = new Operator() {
+        @Override
+        public void mult( DMatrixRMaj B, DMatrixRMaj output ) {
+            SvdRandomized_DDRM.this.mult(A, B, output);
+        }
+
+        @Override
+        public void multTransA( DMatrixRMaj B, DMatrixRMaj output ) {
+            SvdRandomized_DDRM.this.multTransA(A, B, output);
+        }
+    };
+
+    /**
+     * Configures the decomposition
+     *
+     * @param rank Number of singular values and vectors which are computed
+     * @param oversampling Number of additional samples of the matrix's range. Typically 5 to 10.
+     * @param powerIterations Number of power iterations. Typically 1 or 2. Increase if singular values decay slowly.
+     * @param rand Used to create the random samples
+     */
+    public SvdRandomized_DDRM( int rank, int oversampling, int powerIterations, Random rand ) {
+        this(rank, oversampling, powerIterations, rand, new QRDecompositionHouseholderColumn_DDRM());
+    }
+
+    protected SvdRandomized_DDRM( int rank, int oversampling, int powerIterations, Random rand,
+                                  QRDecomposition<DMatrixRMaj> qr ) {
+        if (rank <= 0)
+            throw new IllegalArgumentException("Rank must be positive");
+        if (oversampling < 0 || powerIterations < 0)
+            throw new IllegalArgumentException("Oversampling and power iterations can't be negative");
+        this.rank = rank;
+        this.oversampling = oversampling;
+        this.powerIterations = powerIterations;
+        this.rand = rand;
+        this.qr = qr;
+    }
+
+    @Override
+    public boolean decompose( DMatrixRMaj orig ) {
+        this.A = orig;
+        return decompose(orig.numRows, orig.numCols, denseOperator);
+    }
+
+    /**
+     * Decomposes a matrix which is only accessed through multiplication.
+     *
+     * @param numRows Number of rows in the matrix
+     * @param numCols Number of columns in the matrix
+     * @param A Multiplies the matrix against dense matrices
+     * @return true if successful
+     */
+    public boolean decompose( int numRows, int numCols, Operator A ) {
+        this.numRows = numRows;
+        this.numCols = numCols;
+        int maxRank = Math.min(numRows, numCols);
+        if (maxRank == 0)
+            return false;
+
+        numSingular = Math.min(rank, maxRank);
+        int samples = Math.min(rank + oversampling, maxRank);
+
+        // Sample the range of A
+        omega.reshape(numCols, samples);
+        RandomMatrices_DDRM.fillGaussian(omega, 0, 1, rand);
+        A.mult(omega, sampled);
+        if (!orthogonalize(sampled, Q))
+            return false;
+
+        // Power iterations amplify the gap between singular values which are kept and the rest
+        for (int i = 0; i < powerIterations; i++) {
+            A.multTransA(Q, sampled);
+            if (!orthogonalize(sampled, P))
+                return false;
+            A.mult(P, sampled);
+            if (!orthogonalize(sampled, Q))
+                return false;
+        }
+
+        // Project A onto the basis, B = Q'*A. The transpose is computed so that A is only multiplied on the left
+        A.multTransA(Q, Bt);
+        if (!svd.decompose(Bt))
+            return false;
+
+        // Bt = Ub*S*Vb' which means A = (Q*Vb)*S*Ub'. Keep the largest singular values
+        double[] found = svd.getSingularValues();
+        int[] order = new int[samples];
+        for (int i = 0; i < samples; i++) {
+            order[i] = i;
+        }
+        for (int i = 0; i < numSingular; i++) {
+            int best = i;
+            for (int j = i + 1; j < samples; j++) {
+                if (found[order[j]] > found[order[best]])
+                    best = j;
+            }
+            int tmp = order[i];
+            order[i] = order[best];
+            order[best] = tmp;
+        }
+
+        if (singularValues.length < numSingular)
+            singularValues = new double[numSingular];
+        DMatrixRMaj Ub = svd.getU(null, false);
+        DMatrixRMaj Vb = svd.getV(null, false);
+        selected.reshape(samples, numSingular);
+        V.reshape(numCols, numSingular);
+        for (int i = 0; i < numSingular; i++) {
+            int src = order[i];
+            singularValues[i] = found[src];
+            for (int row = 0; row < samples; row++) {
+                selected.data[row*numSingular + i] = Vb.unsafe_get(row, src);
+            }
+            for (int row = 0; row < numCols; row++) {
+                V.data[row*numSingular + i] = Ub.unsafe_get(row, src);
+            }
+        }
+        U.reshape(numRows, numSingular);
+        mult(Q, selected, U);
+
+        return true;
+    }
+
+    /**
+     * Computes an orthonormal basis for the columns in the input using a QR decomposition
+     */
+    private boolean orthogonalize( DMatrixRMaj input, DMatrixRMaj output ) {
+        if (!qr.decompose(input))
+            return false;
+        qr.getQ(output, true);
+        return true;
+    }
+
+    /**
+     * output = A*B. Overridden by concurrent implementations.
+     */
+    protected void mult( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj output ) {
+        CommonOps_DDRM.mult(A, B, output);
+    }
+
+    /**
+     * output = A<sup>T</sup>*B. Overridden by concurrent implementations.
+     */
+    protected void multTransA( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj output ) {
+        CommonOps_DDRM.multTransA(A, B, output);
+    }
+
+    @Override
+    public double[] getSingularValues() {
+        return singularValues;
+    }
+
+    @Override
+    public int numberOfSingularValues() {
+        return numSingular;
+    }
+
+    @Override
+    public boolean isCompact() {
+        return true;
+    }
+
+    @Override
+    public DMatrixRMaj getU( @Nullable DMatrixRMaj U, boolean transpose ) {
+        return copy(this.U, U, transpose);
+    }
+
+    @Override
+    public DMatrixRMaj getV( @Nullable DMatrixRMaj V, boolean transpose ) {
+        return copy(this.V, V, transpose);
+    }
+
+    private DMatrixRMaj copy( DMatrixRMaj src, @Nullable DMatrixRMaj dst, boolean transpose ) {
+        if (transpose) {
+            dst = UtilEjml.reshapeOrDeclare(dst, src.numCols, src.numRows);
+            CommonOps_DDRM.transpose(src, dst);
+        } else {
+            if (dst == null)
+                return src;
+            dst.set(src);
+        }
+        return dst;
+    }
+
+    @Override
+    public DMatrixRMaj getW( @Nullable DMatrixRMaj W ) {
+        W = UtilEjml.reshapeOrDeclare(W, numSingular, numSingular);
+        W.zero();
+        for (int i = 0; i < numSingular; i++) {
+            W.unsafe_set(i, i, singularValues[i]);
+        }
+        return W;
+    }
+
+    @Override
+    public int numRows() {
+        return numRows;
+    }
+
+    @Override
+    public int numCols() {
+        return numCols;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public int getOversampling() {
+        return oversampling;
+    }
+
+    public int getPowerIterations() {
+        return powerIterations;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_MT_DDRM;
+import org.ejml.dense.row.decomposition.qr.QRDecompositionHouseholderColumn_MT_DDRM;
+
+import java.util.Random;
+
+/**
+ * <p>Concurrent version of {@link SvdRandomized_DDRM}</p>
+ *
+ * @author Peter Abeles
+ */
+public class SvdRandomized_MT_DDRM extends SvdRandomized_DDRM {
+    public SvdRandomized_MT_DDRM( int rank, int oversampling, int powerIterations, Random rand ) {
+        super(rank, oversampling, powerIterations, rand, new QRDecompositionHouseholderColumn_MT_DDRM());
+    }
+
+    @Override
+    protected void mult( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj output ) {
+        CommonOps_MT_DDRM.mult(A, B, output);
+    }
+
+    @Override
+    protected void multTransA( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj output ) {
+        CommonOps_MT_DDRM.multTransA(A, B, output);
+    }
+}
@@ -0,0 +1,877 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd.divconq;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.decomposition.svd.implicitqr.SvdImplicitQrAlgorithm_DDRM;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>
+ * Computes the singular value decomposition of a square upper bidiagonal matrix B = U*&Sigma;*V<sup>T</sup> using
+ * the divide and conquer algorithm. A row is removed from the middle of B, which splits it into an upper block
+ * with one more column than rows and a lower block. After each block has been decomposed the removed row is added
+ * back in. In the basis of the sub-problems the merged matrix is diagonal except for one dense row z, and its
+ * singular values are the roots of the secular equation 1 + &sum;<sub>i</sub>z<sub>i</sub><sup>2</sup>/(d<sub>i</sub><sup>2</sup>-&sigma;<sup>2</sup>).
+ * Small sub-problems are solved with {@link SvdImplicitQrAlgorithm_DDRM}. Most of the time for large matrices is
+ * spent multiplying the singular vectors of the sub-problems against the singular vectors of the merged problem.
+ * </p>
+ *
+ * <p>
+ * Singular values which are already known, because their component in z is small or because they are nearly
+ * identical to another singular value, are deflated out of the secular equation. The singular vectors are computed
+ * using the approach of Gu and Eisenstat so that they are numerically orthogonal even when singular values are close
+ * together.
+ * </p>
+ *
+ * <p>
+ * Singular values are sorted in ascending order. The left and right singular vectors are stored in the columns
+ * of {@link #getU()} and {@link #getV()}.
+ * </p>
+ *
+ * <p>
+ * [1] Gu, Ming, and Stanley C. Eisenstat. "A divide-and-conquer algorithm for the bidiagonal SVD."
+ * SIAM Journal on Matrix Analysis and Applications 16.1 (1995): 79-92.<br>
+ * [2] LAPACK routines DBDSDC, DLASD1, DLASD2 and DLASD4
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SvdDivideConquerAlgorithm_DDRM {
+    // maximum number of iterations when solving for a root of the secular equation
+    private static final int MAX_SECULAR_ITERATIONS = 100;
+
+    // sub-problems which are this size or smaller are solved using the QR algorithm
+    protected int leafSize = 25;
+
+    // number of rows and columns in the bidiagonal matrix
+    protected int N;
+
+    // scaled copy of the bidiagonal matrix
+    protected double[] diag = UtilEjml.ZERO_LENGTH_F64;
+    protected double[] off = UtilEjml.ZERO_LENGTH_F64;
+
+    // the found singular values
+    protected double[] values = UtilEjml.ZERO_LENGTH_F64;
+
+    // left and right singular vectors stored in the columns
+    protected DMatrixRMaj U = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj V = new DMatrixRMaj(1, 1);
+
+    // set to true if a sub-problem failed
+    protected volatile boolean failed;
+
+    /**
+     * Computes the singular values and vectors of the upper bidiagonal matrix.
+     *
+     * @param diag Diagonal elements. Not modified.
+     * @param off Elements above the diagonal. Not modified.
+     * @param N Number of rows and columns in the matrix.
+     * @return true if successful
+     */
+    public boolean process( double[] diag, double[] off, int N ) {
+        this.N = N;
+        if (values.length < N) {
+            values = new double[N];
+            this.diag = new double[N];
+            this.off = new double[N];
+        }
+        System.arraycopy(diag, 0, this.diag, 0, N);
+        System.arraycopy(off, 0, this.off, 0, Math.max(0, N - 1));
+        if (N > 0)
+            this.off[N - 1] = 0;
+
+        // Scale the matrix so that the secular equation doesn't overflow or underflow
+        double scale = 0;
+        for (int i = 0; i < N; i++) {
+            scale = Math.max(scale, Math.abs(this.diag[i]));
+            scale = Math.max(scale, Math.abs(this.off[i]));
+        }
+        if (scale == 0)
+            scale = 1;
+        for (int i = 0; i < N; i++) {
+            this.diag[i] /= scale;
+            this.off[i] /= scale;
+        }
+
+        U.reshape(N, N);
+        U.zero();
+        V.reshape(N, N);
+        V.zero();
+        failed = false;
+
+        // Recursively split the matrix up and record where the pieces need to be merged at each depth
+        List<int[]> leaves = new ArrayList<>();
+        List<List<int[]>> levels = new ArrayList<>();
+        split(0, N, 0, 0, leaves, levels);
+
+        loopFor(0, leaves.size(), i -> solveLeaf(leaves.get(i)[0], leaves.get(i)[1], leaves.get(i)[2]));
+        if (failed)
+            return false;
+
+        // Merge the deepest levels first. If there are enough merges to keep all the threads busy then they
+        // are processed in parallel, otherwise the work inside each merge is done in parallel.
+        for (int depth = levels.size() - 1; depth >= 0; depth--) {
+            List<int[]> merges = levels.get(depth);
+            if (merges.size() >= getMaxThreads()) {
+                loopFor(0, merges.size(), i -> merge(merges.get(i), false));
+            } else {
+                for (int i = 0; i < merges.size(); i++) {
+                    merge(merges.get(i), true);
+                }
+            }
+        }
+
+        for (int i = 0; i < N; i++) {
+            values[i] *= scale;
+        }
+
+        return !failed;
+    }
+
+    /**
+     * Splits the rows from start to end. If sqre is 1 then the sub-problem has an extra column to the right,
+     * which has the element off[end-1] in its last row.
+     */
+    private void split( int start, int end, int sqre, int depth, List<int[]> leaves, List<List<int[]>> levels ) {
+        if (end - start <= leafSize) {
+            leaves.add(new int[]{start, end, sqre});
+            return;
+        }
+
+        // The middle row is removed. Above it is a block with one more column than rows
+        int middle = (start + end)/2;
+
+        while (levels.size() <= depth) {
+            levels.add(new ArrayList<>());
+        }
+        levels.get(depth).add(new int[]{start, middle, end, sqre});
+
+        split(start, middle, 1, depth + 1, leaves, levels);
+        split(middle + 1, end, sqre, depth + 1, leaves, levels);
+    }
+
+    /**
+     * Solves a small sub-problem using the implicit QR algorithm. If the sub-problem has an extra column
+     * then it's rotated out first and becomes the null vector, which is stored in the last column of V.
+     */
+    private void solveLeaf( int start, int end, int sqre ) {
+        int n = end - start;
+        int cols = n + sqre;
+        if (n == 0) {
+            if (sqre == 1)
+                V.unsafe_set(start, start, 1);
+            return;
+        }
+
+        double[] d = Arrays.copyOfRange(diag, start, end);
+        double[] e = Arrays.copyOfRange(off, start, end);
+
+        // Chase the element in the extra column up with rotations from the right until it's gone
+        double[] rotC = new double[n];
+        double[] rotS = new double[n];
+        if (sqre == 1) {
+            double x = e[n - 1];
+            e[n - 1] = 0;
+            for (int i = n - 1; i >= 0; i--) {
+                double h = Math.sqrt(d[i]*d[i] + x*x);
+                double c = 1, s = 0;
+                if (h != 0) {
+                    c = d[i]/h;
+                    s = x/h;
+                }
+                rotC[i] = c;
+                rotS[i] = s;
+                d[i] = h;
+                if (i > 0) {
+                    x = -s*e[i - 1];
+                    e[i - 1] *= c;
+                }
+            }
+        }
+
+        DMatrixRMaj Ut = CommonOps_DDRM.identity(n);
+        DMatrixRMaj Vt = CommonOps_DDRM.identity(n);
+        SvdImplicitQrAlgorithm_DDRM qr = new SvdImplicitQrAlgorithm_DDRM();
+        qr.setMatrix(n, n, d, e);
+        qr.setFastValues(false);
+        qr.setUt(Ut);
+        qr.setVt(Vt);
+        if (!qr.process()) {
+            failed = true;
+            return;
+        }
+
+        double[] found = new double[n];
+        for (int i = 0; i < n; i++) {
+            found[i] = qr.getSingularValue(i);
+            if (found[i] < 0) {
+                found[i] = -found[i];
+                for (int j = 0; j < n; j++) {
+                    Ut.data[i*n + j] = -Ut.data[i*n + j];
+                }
+            }
+        }
+
+        // Undo the rotations applied to the extra column
+        DMatrixRMaj W = new DMatrixRMaj(cols, cols);
+        CommonOps_DDRM.insert(CommonOps_DDRM.transpose(Vt, null), W, 0, 0);
+        if (sqre == 1) {
+            W.data[n*cols + n] = 1;
+            for (int i = 0; i < n; i++) {
+                double c = rotC[i], s = rotS[i];
+                for (int col = 0; col < cols; col++) {
+                    double a = W.data[i*cols + col];
+                    double b = W.data[n*cols + col];
+                    W.data[i*cols + col] = c*a - s*b;
+                    W.data[n*cols + col] = s*a + c*b;
+                }
+            }
+            for (int row = 0; row < cols; row++) {
+                V.unsafe_set(start + row, start + n, W.data[row*cols + n]);
+            }
+        }
+
+        int[] order = new int[n];
+        sortIndexes(found, order, n);
+        for (int t = 0; t < n; t++) {
+            int src = order[t];
+            values[start + t] = found[src];
+            for (int row = 0; row < n; row++) {
+                U.unsafe_set(start + row, start + t, Ut.data[src*n + row]);
+            }
+            for (int row = 0; row < cols; row++) {
+                V.unsafe_set(start + row, start + t, W.data[row*cols + src]);
+            }
+        }
+    }
+
+    /**
+     * Adds the row which was removed back in and merges the two neighboring sub-problems
+     */
+    private void merge( int[] node, boolean concurrent ) {
+        final int start = node[0];
+        final int middle = node[1];
+        final int end = node[2];
+        final int sqre = node[3];
+        // number of rows and columns in the merged problem. Local row and column k is the removed row
+        final int n = end - start;
+        final int cols = n + sqre;
+        final int k = middle - start;
+
+        final double alpha = diag[middle];
+        final double beta = k + 1 < cols ? off[middle] : 0;
+
+        // Copy the sub-problem singular vectors since the merged vectors will be written on top of them
+        DMatrixRMaj Wu = new DMatrixRMaj(n, n);
+        DMatrixRMaj Wv = new DMatrixRMaj(cols, cols);
+        if (k > 0)
+            CommonOps_DDRM.extract(U, start, middle, start, middle, Wu, 0, 0);
+        if (middle + 1 < end)
+            CommonOps_DDRM.extract(U, middle + 1, end, middle + 1, end, Wu, k + 1, k + 1);
+        Wu.data[k*n + k] = 1;
+        CommonOps_DDRM.extract(V, start, middle + 1, start, middle + 1, Wv, 0, 0);
+        if (k + 1 < cols)
+            CommonOps_DDRM.extract(V, middle + 1, start + cols, middle + 1, start + cols, Wv, k + 1, k + 1);
+
+        // The removed row in the sub-problem's basis. Its the last row of V1 and the first row of V2
+        double[] z = new double[cols];
+        for (int i = 0; i <= k; i++) {
+            z[i] = alpha*Wv.data[k*cols + i];
+        }
+        for (int i = k + 1; i < cols; i++) {
+            z[i] = beta*Wv.data[(k + 1)*cols + i];
+        }
+
+        // which rows are non-zero in each column. 1 = top half, 2 = bottom half
+        int[] typeU = new int[n];
+        int[] typeV = new int[n];
+        for (int i = 0; i < n; i++) {
+            typeU[i] = typeV[i] = i <= k ? 1 : 2;
+        }
+
+        // Column k is the null vector of the upper block and only has an element in the removed row. If there is
+        // an extra column then both sub-problems have a null vector. A rotation makes one of them the null vector
+        // of the merged problem.
+        if (sqre == 1) {
+            double h = Math.sqrt(z[k]*z[k] + z[n]*z[n]);
+            double c = 1, s = 0;
+            if (h != 0) {
+                c = z[k]/h;
+                s = z[n]/h;
+            }
+            rotateColumns(Wv, k, n, c, s);
+            z[k] = h;
+            z[n] = 0;
+            typeV[k] = 3;
+        }
+
+        double[] d = new double[n];
+        double dmax = 0;
+        for (int i = 0; i < n; i++) {
+            d[i] = i == k ? 0 : values[start + i];
+            dmax = Math.max(dmax, d[i]);
+        }
+        double tol = 8.0*UtilEjml.EPS*Math.max(dmax, Math.max(Math.abs(alpha), Math.abs(beta)));
+
+        // ---------- Deflation
+        // Indexes of elements in the secular equation and elements whose singular value is already known
+        int[] active = new int[n];
+        int[] deflated = new int[n];
+        int numActive = 0;
+        int numDeflated = 0;
+        int[] candidates = new int[n];
+        int numCandidates = 0;
+
+        // The removed row's element can't be deflated since it's the only non-zero element in its column
+        if (Math.abs(z[k]) <= tol)
+            z[k] = tol;
+
+        for (int i = 0; i < n; i++) {
+            if (i == k)
+                continue;
+            if (Math.abs(z[i]) <= tol) {
+                deflated[numDeflated++] = i;
+            } else if (d[i] <= tol) {
+                // Treat the singular value as zero and rotate its element in z into column k
+                double h = Math.sqrt(z[k]*z[k] + z[i]*z[i]);
+                double c = z[k]/h;
+                double s = z[i]/h;
+                rotateColumns(Wv, k, i, c, s);
+                z[k] = h;
+                z[i] = 0;
+                d[i] *= c;
+                if (d[i] < 0) {
+                    d[i] = -d[i];
+                    for (int row = 0; row < n; row++) {
+                        Wu.data[row*n + i] = -Wu.data[row*n + i];
+                    }
+                }
+                typeV[i] |= typeV[k];
+                typeV[k] = typeV[i];
+                deflated[numDeflated++] = i;
+            } else {
+                candidates[numCandidates++] = i;
+            }
+        }
+
+        int[] order = new int[numCandidates];
+        double[] candidateD = new double[numCandidates];
+        for (int i = 0; i < numCandidates; i++) {
+            candidateD[i] = d[candidates[i]];
+        }
+        sortIndexes(candidateD, order, numCandidates);
+
+        active[numActive++] = k;
+        int prev = -1;
+        for (int t = 0; t < numCandidates; t++) {
+            int i = candidates[order[t]];
+            if (prev == -1) {
+                prev = i;
+                continue;
+            }
+
+            // If the two values are close then a rotation will zero z[prev] and allow it to be deflated
+            double tau = Math.sqrt(z[prev]*z[prev] + z[i]*z[i]);
+            double c = z[i]/tau;
+            double s = z[prev]/tau;
+            if (Math.abs((d[i] - d[prev])*c*s) <= tol) {
+                z[i] = tau;
+                z[prev] = 0;
+                double dp = d[prev]*c*c + d[i]*s*s;
+                d[i] = d[prev]*s*s + d[i]*c*c;
+                d[prev] = dp;
+                rotateColumns(Wu, prev, i, c, -s);
+                rotateColumns(Wv, prev, i, c, -s);
+                typeU[i] |= typeU[prev];
+                typeU[prev] = typeU[i];
+                typeV[i] |= typeV[prev];
+                typeV[prev] = typeV[i];
+                deflated[numDeflated++] = prev;
+            } else {
+                active[numActive++] = prev;
+            }
+            prev = i;
+        }
+        if (prev != -1)
+            active[numActive++] = prev;
+
+        // ---------- Solve the secular equation for the remaining values
+        final int K = numActive;
+        final double[] dk = new double[K];
+        final double[] zk = new double[K];
+        for (int i = 0; i < K; i++) {
+            dk[i] = d[active[i]];
+            zk[i] = z[active[i]];
+        }
+        final int[] origin = new int[K];
+        final double[] mu = new double[K];
+        final DMatrixRMaj Yu = new DMatrixRMaj(K, K);
+        final DMatrixRMaj Yv = new DMatrixRMaj(K, K);
+        if (K == 1) {
+            // Only the removed row is left and its singular value is the magnitude of its element
+            mu[0] = zk[0]*zk[0];
+            Yu.data[0] = zk[0] < 0 ? -1 : 1;
+            Yv.data[0] = 1;
+        } else {
+            solveMerged(dk, zk, origin, mu, Yu, Yv, concurrent);
+        }
+
+        // ---------- Multiply to find the singular vectors of the merged problem
+        DMatrixRMaj resultU = multiplyHalves(Wu, k + 1, active, typeU, Yu, concurrent);
+        DMatrixRMaj resultV = multiplyHalves(Wv, k + 1, active, typeV, Yv, concurrent);
+
+        // ---------- Write the results in ascending order
+        double[] found = new double[n];
+        for (int j = 0; j < K; j++) {
+            double o = dk[origin[j]];
+            found[j] = Math.sqrt(o*o + mu[j]);
+        }
+        for (int i = 0; i < numDeflated; i++) {
+            found[K + i] = d[deflated[i]];
+        }
+        int[] sorted = new int[n];
+        sortIndexes(found, sorted, n);
+
+        for (int t = 0; t < n; t++) {
+            int src = sorted[t];
+            int col = start + t;
+            values[col] = found[src];
+            if (src < K) {
+                for (int row = 0; row < n; row++) {
+                    U.unsafe_set(start + row, col, resultU.data[row*K + src]);
+                }
+                for (int row = 0; row < cols; row++) {
+                    V.unsafe_set(start + row, col, resultV.data[row*K + src]);
+                }
+            } else {
+                int w = deflated[src - K];
+                for (int row = 0; row < n; row++) {
+                    U.unsafe_set(start + row, col, Wu.data[row*n + w]);
+                }
+                for (int row = 0; row < cols; row++) {
+                    V.unsafe_set(start + row, col, Wv.data[row*cols + w]);
+                }
+            }
+        }
+        if (sqre == 1) {
+            for (int row = 0; row < cols; row++) {
+                V.unsafe_set(start + row, start + n, Wv.data[row*cols + n]);
+            }
+        }
+    }
+
+    /**
+     * Solves the secular equation for each singular value of the merged problem then computes the singular
+     * vectors in the sub-problem's basis.
+     */
+    private void solveMerged( double[] dk, double[] zk, int[] origin, double[] mu,
+                              DMatrixRMaj Yu, DMatrixRMaj Yv, boolean concurrent ) {
+        final int K = dk.length;
+        loopFor(0, K, concurrent, j -> {
+            if (!solveSecular(j, dk, zk, K, origin, mu))
+                failed = true;
+        });
+
+        // Recomputing z from the singular values found ensures the vectors are orthogonal even if the
+        // singular values are not exact
+        final double[] zhat = new double[K];
+        loopFor(0, K, concurrent, i -> {
+            double prod = diffSquared(dk, i, origin[K - 1], mu[K - 1]);
+            for (int j = 0; j < i; j++) {
+                prod *= diffSquared(dk, i, origin[j], mu[j])/((dk[j] - dk[i])*(dk[j] + dk[i]));
+            }
+            for (int j = i; j < K - 1; j++) {
+                prod *= diffSquared(dk, i, origin[j], mu[j])/((dk[j + 1] - dk[i])*(dk[j + 1] + dk[i]));
+            }
+            zhat[i] = Math.copySign(Math.sqrt(Math.abs(prod)), zk[i]);
+        });
+
+        // Singular vectors of the merged problem in the sub-problem's basis. The right vectors are
+        // (D^2 - sigma^2*I)^-1*z and the left vectors are found by multiplying the right vectors by the matrix
+        loopFor(0, K, concurrent, j -> {
+            double normU = 1, normV = 0;
+            Yu.data[j] = -1;
+            for (int i = 0; i < K; i++) {
+                double v = zhat[i]/diffSquared(dk, i, origin[j], mu[j]);
+                Yv.data[i*K + j] = v;
+                normV += v*v;
+                if (i > 0) {
+                    double u = dk[i]*v;
+                    Yu.data[i*K + j] = u;
+                    normU += u*u;
+                }
+            }
+            normU = Math.sqrt(normU);
+            normV = Math.sqrt(normV);
+            for (int i = 0; i < K; i++) {
+                Yu.data[i*K + j] /= normU;
+                Yv.data[i*K + j] /= normV;
+            }
+        });
+    }
+
+    /**
+     * Computes d[i]<sup>2</sup> - &sigma;<sup>2</sup> where &sigma;<sup>2</sup> = d[o]<sup>2</sup> + mu without
+     * cancellation when d[i] and d[o] are close.
+     */
+    private static double diffSquared( double[] d, int i, int o, double mu ) {
+        return (d[i] - d[o])*(d[i] + d[o]) - mu;
+    }
+
+    /**
+     * Applies a rotation to columns a and b: a = c*a + s*b and b = c*b - s*a
+     */
+    private static void rotateColumns( DMatrixRMaj W, int a, int b, double c, double s ) {
+        final int cols = W.numCols;
+        for (int row = 0; row < W.numRows; row++) {
+            double wa = W.data[row*cols + a];
+            double wb = W.data[row*cols + b];
+            W.data[row*cols + a] = c*wa + s*wb;
+            W.data[row*cols + b] = c*wb - s*wa;
+        }
+    }
+
+    /**
+     * Computes W*Y, where only the active columns of W are used. Columns which are zero in the top or bottom
+     * rows are skipped in the corresponding half of the multiplication.
+     *
+     * @param W Sub-problem vectors
+     * @param split The first row in the bottom half
+     * @param active Which column in W each row in Y corresponds to
+     * @param type Which halves of each column in W are non-zero
+     * @param Y Vectors in the sub-problem's basis
+     * @return The product
+     */
+    private DMatrixRMaj multiplyHalves( DMatrixRMaj W, int split, int[] active, int[] type, DMatrixRMaj Y,
+                                        boolean concurrent ) {
+        final int K = Y.numRows;
+        final int rowsW = W.numRows;
+        final int colsW = W.numCols;
+
+        // Order the rows in Y so that ones which are only non-zero in the top or bottom half of W can be skipped
+        int[] rows = new int[K];
+        int numTop = 0, numBoth = 0;
+        for (int i = 0; i < K; i++) {
+            if (type[active[i]] == 1)
+                rows[numTop++] = i;
+        }
+        for (int i = 0; i < K; i++) {
+            if (type[active[i]] == 3)
+                rows[numTop + numBoth++] = i;
+        }
+        for (int i = 0, idx = numTop + numBoth; i < K; i++) {
+            if (type[active[i]] == 2)
+                rows[idx++] = i;
+        }
+
+        DMatrixRMaj result = new DMatrixRMaj(rowsW, K);
+        int numTopCols = numTop + numBoth;
+        if (numTopCols > 0 && split > 0) {
+            DMatrixRMaj Wtop = new DMatrixRMaj(split, numTopCols);
+            DMatrixRMaj Ytop = new DMatrixRMaj(numTopCols, K);
+            for (int r = 0; r < numTopCols; r++) {
+                int col = active[rows[r]];
+                for (int row = 0; row < split; row++) {
+                    Wtop.data[row*numTopCols + r] = W.data[row*colsW + col];
+                }
+                System.arraycopy(Y.data, rows[r]*K, Ytop.data, r*K, K);
+            }
+            DMatrixRMaj top = new DMatrixRMaj(split, K);
+            mult(Wtop, Ytop, top, concurrent);
+            System.arraycopy(top.data, 0, result.data, 0, split*K);
+        }
+        int numBottomCols = K - numTop;
+        if (numBottomCols > 0 && split < rowsW) {
+            DMatrixRMaj Wbottom = new DMatrixRMaj(rowsW - split, numBottomCols);
+            DMatrixRMaj Ybottom = new DMatrixRMaj(numBottomCols, K);
+            for (int r = 0; r < numBottomCols; r++) {
+                int col = active[rows[numTop + r]];
+                for (int row = split; row < rowsW; row++) {
+                    Wbottom.data[(row - split)*numBottomCols + r] = W.data[row*colsW + col];
+                }
+                System.arraycopy(Y.data, rows[numTop + r]*K, Ybottom.data, r*K, K);
+            }
+            DMatrixRMaj bottom = new DMatrixRMaj(rowsW - split, K);
+            mult(Wbottom, Ybottom, bottom, concurrent);
+            System.arraycopy(bottom.data, 0, result.data, split*K, (rowsW - split)*K);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the j-th root of the secular equation f(&sigma;) = 1 + &sum;<sub>i</sub>z<sub>i</sub><sup>2</sup>/(d<sub>i</sub><sup>2</sup>-&sigma;<sup>2</sup>)
+     * with d sorted in ascending order. The j-th root lies between d[j] and d[j+1]. To avoid cancellation
+     * the root is found relative to the closest pole and saved as &sigma;<sup>2</sup> = d[origin[j]]<sup>2</sup> + mu[j].
+     *
+     * Each iteration fits a model with the two closest poles to f, where the weight of the closest pole is exact
+     * and the other terms are chosen to match the value and derivative. Bisection is used if the model's solution
+     * is outside the interval known to contain the root.
+     *
+     * @return true if it converged
+     */
+    static boolean solveSecular( int j, double[] d, double[] z, int k, int[] origin, double[] mu ) {
+        int o, other;
+        double lower, upper;
+        if (j == k - 1) {
+            double sumZ2 = 0;
+            for (int i = 0; i < k; i++) {
+                sumZ2 += z[i]*z[i];
+            }
+            o = j;
+            other = -1;
+            lower = 0;
+            upper = sumZ2;
+        } else {
+            // Find which pole is closer by evaluating f at the middle of the interval
+            double half = (d[j + 1] - d[j])*(d[j + 1] + d[j])/2;
+            double f = 1;
+            for (int i = 0; i < k; i++) {
+                f += z[i]*z[i]/diffSquared(d, i, j, half);
+            }
+            if (f >= 0) {
+                o = j;
+                other = j + 1;
+                lower = 0;
+                upper = half;
+            } else {
+                o = j + 1;
+                other = j;
+                lower = -half;
+                upper = 0;
+            }
+        }
+        origin[j] = o;
+
+        boolean converged = false;
+        double t = (lower + upper)/2;
+        for (int iteration = 0; iteration < MAX_SECULAR_ITERATIONS; iteration++) {
+            double f = 1, df = 0, magnitude = 1;
+            for (int i = 0; i < k; i++) {
+                double delta = diffSquared(d, i, o, t);
+                double q = z[i]*z[i]/delta;
+                f += q;
+                df += q/delta;
+                magnitude += Math.abs(q);
+            }
+
+            // f is increasing inside the interval
+            if (f < 0)
+                lower = t;
+            else
+                upper = t;
+
+            if (Math.abs(f) <= k*UtilEjml.EPS*magnitude) {
+                converged = true;
+                break;
+            }
+
+            double near = -t;
+            double a = z[o]*z[o];
+            double eta;
+            if (other < 0) {
+                // model: c + s/(near - eta)
+                double s = df*near*near;
+                double c = f - s/near;
+                eta = near + s/c;
+            } else {
+                // model: c + a/(near - eta) + s/(far - eta)
+                double far = diffSquared(d, other, o, t);
+                double s = (df - a/(near*near))*far*far;
+                double c = f - a/near - s/far;
+                eta = solveModel(c, near, far, a, s, lower - t, upper - t);
+            }
+
+            double next = t + eta;
+            if (!(next > lower && next < upper))
+                next = (lower + upper)/2;
+            if (next == t || upper - lower <= 2*UtilEjml.EPS*Math.max(Math.abs(lower), Math.abs(upper))) {
+                t = next;
+                converged = true;
+                break;
+            }
+            t = next;
+        }
+        mu[j] = t;
+        return converged;
+    }
+
+    /**
+     * Solves c*(near-x)*(far-x) + a*(far-x) + s*(near-x) = 0 for a root inside of (lower, upper). Returns NaN
+     * if there is no such root.
+     */
+    private static double solveModel( double c, double near, double far, double a, double s,
+                                      double lower, double upper ) {
+        double B = -(c*(near + far) + a + s);
+        double C = c*near*far + a*far + s*near;
+        if (c == 0)
+            return -C/B;
+
+        double disc = B*B - 4*c*C;
+        if (disc < 0)
+            return Double.NaN;
+        double q = -0.5*(B + Math.copySign(Math.sqrt(disc), B));
+        double r0 = q/c;
+        double r1 = C/q;
+        boolean inside0 = r0 > lower && r0 < upper;
+        boolean inside1 = r1 > lower && r1 < upper;
+        if (inside0 && inside1)
+            return Math.abs(r0) < Math.abs(r1) ? r0 : r1;
+        return inside0 ? r0 : r1;
+    }
+
+    /**
+     * Sorts the values in ascending order and returns the order as a list of indexes. Values is not modified.
+     */
+    static void sortIndexes( double[] values, int[] indexes, int length ) {
+        for (int i = 0; i < length; i++) {
+            indexes[i] = i;
+        }
+        int[] work = new int[length];
+        mergeSort(values, indexes, work, 0, length);
+    }
+
+    private static void mergeSort( double[] values, int[] indexes, int[] work, int start, int end ) {
+        if (end - start < 2)
+            return;
+        int middle = (start + end)/2;
+        mergeSort(values, indexes, work, start, middle);
+        mergeSort(values, indexes, work, middle, end);
+        // already in order
+        if (values[indexes[middle - 1]] <= values[indexes[middle]])
+            return;
+
+        int a = start, b = middle;
+        for (int i = start; i < end; i++) {
+            if (b >= end || (a < middle && values[indexes[a]] <= values[indexes[b]]))
+                work[i] = indexes[a++];
+            else
+                work[i] = indexes[b++];
+        }
+        System.arraycopy(work, start, indexes, start, end - start);
+    }
+
+    /**
+     * Computes the left singular vectors of a matrix which was reduced to the processed bidiagonal matrix,
+     * A = Q*B*P<sup>T</sup>. The first N columns of the output are Q*U and the remaining are copied from Q.
+     *
+     * @param Q (Input) Orthogonal matrix with at least N columns. Not modified.
+     * @param output (Output) Left singular vectors stored in the columns. Reshaped.
+     */
+    public void backTransformU( DMatrixRMaj Q, DMatrixRMaj output ) {
+        backTransform(Q, U, output);
+    }
+
+    /**
+     * Computes the right singular vectors of a matrix which was reduced to the processed bidiagonal matrix,
+     * A = Q*B*P<sup>T</sup>. The output is P*V.
+     *
+     * @param P (Input) Orthogonal matrix with N columns. Not modified.
+     * @param output (Output) Right singular vectors stored in the columns. Reshaped.
+     */
+    public void backTransformV( DMatrixRMaj P, DMatrixRMaj output ) {
+        backTransform(P, V, output);
+    }
+
+    private void backTransform( DMatrixRMaj Q, DMatrixRMaj vectors, DMatrixRMaj output ) {
+        output.reshape(Q.numRows, Q.numCols);
+        if (Q.numCols == N) {
+            mult(Q, vectors, output, true);
+            return;
+        }
+        DMatrixRMaj first = CommonOps_DDRM.extract(Q, 0, Q.numRows, 0, N);
+        DMatrixRMaj product = new DMatrixRMaj(Q.numRows, N);
+        mult(first, vectors, product, true);
+        CommonOps_DDRM.insert(product, output, 0, 0);
+        CommonOps_DDRM.extract(Q, 0, Q.numRows, N, Q.numCols, output, 0, N);
+    }
+
+    /**
+     * Loop which processes independent sub-problems. Overridden by concurrent implementations.
+     */
+    protected void loopFor( int start, int end, IntConsumer op ) {
+        for (int i = start; i < end; i++) {
+            op.accept(i);
+        }
+    }
+
+    private void loopFor( int start, int end, boolean concurrent, IntConsumer op ) {
+        if (concurrent) {
+            loopFor(start, end, op);
+        } else {
+            for (int i = start; i < end; i++) {
+                op.accept(i);
+            }
+        }
+    }
+
+    /**
+     * Matrix multiplication used to compute singular vectors. Overridden by concurrent implementations.
+     */
+    protected void mult( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj C, boolean concurrent ) {
+        CommonOps_DDRM.mult(A, B, C);
+    }
+
+    /**
+     * Maximum number of threads which sub-problems can be processed with
+     */
+    protected int getMaxThreads() {
+        return 1;
+    }
+
+    /**
+     * Sub-problems which are this size or smaller are solved using the QR algorithm
+     */
+    public void setLeafSize( int leafSize ) {
+        if (leafSize < 1)
+            throw new IllegalArgumentException("Leaf size must be at least 1");
+        this.leafSize = leafSize;
+    }
+
+    public int getLeafSize() {
+        return leafSize;
+    }
+
+    /**
+     * Returns the singular values in ascending order. The array can be longer than the number of singular values.
+     */
+    public double[] getSingularValues() {
+        return values;
+    }
+
+    /**
+     * Returns a matrix with the left singular vectors in the columns
+     */
+    public DMatrixRMaj getU() {
+        return U;
+    }
+
+    /**
+     * Returns a matrix with the right singular vectors in the columns
+     */
+    public DMatrixRMaj getV() {
+        return V;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd.divconq;
+
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.CommonOps_MT_DDRM;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Concurrent implementation of {@link SvdDivideConquerAlgorithm_DDRM}. Independent sub-problems are solved and merged
+ * in parallel. Near the top of the tree, where there are fewer merges than threads, the secular equation and the
+ * matrix multiplications inside each merge are run in parallel instead.
+ *
+ * @author Peter Abeles
+ */
+public class SvdDivideConquerAlgorithm_MT_DDRM extends SvdDivideConquerAlgorithm_DDRM {
+    @Override
+    protected void loopFor( int start, int end, IntConsumer op ) {
+        EjmlConcurrency.loopFor(start, end, op);
+    }
+
+    @Override
+    protected void mult( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj C, boolean concurrent ) {
+        if (concurrent)
+            CommonOps_MT_DDRM.mult(A, B, C);
+        else
+            CommonOps_DDRM.mult(A, B, C);
+    }
+
+    @Override
+    protected int getMaxThreads() {
+        return EjmlConcurrency.getMaxThreads();
+    }
+}
@@ -31,16 +31,23 @@ import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionInner_DDRM;
 import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionLDL_DDRM;
 import org.ejml.dense.row.decomposition.chol.CholeskyDecomposition_DDRB_to_DDRM;
 import org.ejml.dense.row.decomposition.eig.SwitchingEigenDecomposition_DDRM;
+import org.ejml.dense.row.decomposition.eig.SymmetricDivideConquerDecomposition_DDRM;
 import org.ejml.dense.row.decomposition.eig.SymmetricQRAlgorithmDecomposition_DDRM;
 import org.ejml.dense.row.decomposition.eig.WatchedDoubleStepQRDecomposition_DDRM;
+import org.ejml.dense.row.decomposition.eig.symm.SymmetricDivideConquer_DDRM;
 import org.ejml.dense.row.decomposition.hessenberg.TridiagonalDecompositionHouseholder_DDRM;
 import org.ejml.dense.row.decomposition.hessenberg.TridiagonalDecomposition_DDRB_to_DDRM;
 import org.ejml.dense.row.decomposition.lu.LUDecompositionAlt_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecomposition_DDRB_to_DDRM;
 import org.ejml.dense.row.decomposition.qr.QRColPivDecompositionHouseholderColumn_DDRM;
 import org.ejml.dense.row.decomposition.qr.QRDecompositionHouseholderColumn_DDRM;
+import org.ejml.dense.row.decomposition.svd.SvdDivideConquerDecompose_DDRM;
 import org.ejml.dense.row.decomposition.svd.SvdImplicitQrDecompose_DDRM;
+import org.ejml.dense.row.decomposition.svd.SvdRandomized_DDRM;
 import org.ejml.interfaces.decomposition.*;
 
+import java.util.Random;
+
 /**
  * <p>
  * Contains operations related to creating and evaluating the quality of common matrix decompositions. Except
@@ -115,7 +122,11 @@ public class DecompositionFactory_DDRM {
      * @return LUDecomposition
      */
     public static LUDecomposition_F64<DMatrixRMaj> lu( int numRows, int numCol ) {
-        return new LUDecompositionAlt_DDRM();
+        if (numCol >= EjmlParameters.SWITCH_BLOCK64_LU && EjmlParameters.MEMORY == EjmlParameters.MemoryUsage.FASTER) {
+            return new LUDecomposition_DDRB_to_DDRM();
+        } else {
+            return new LUDecompositionAlt_DDRM();
+        }
     }
 
     public static LUDecomposition_F64<DMatrixRMaj> lu() {
@@ -138,6 +149,8 @@ public class DecompositionFactory_DDRM {
     public static SingularValueDecomposition_F64<DMatrixRMaj> svd( int numRows, int numCols,
                                                                    boolean needU, boolean needV, boolean compact ) {
         // Don't allow the tall decomposition by default since it *might* be less stable
+        if ((needU || needV) && Math.min(numRows, numCols) >= EjmlParameters.SWITCH_SVD_DIVIDE_CONQUER)
+            return new SvdDivideConquerDecompose_DDRM(compact, needU, needV, false);
         return new SvdImplicitQrDecompose_DDRM(compact, needU, needV, false);
     }
 
@@ -153,6 +166,21 @@ public class DecompositionFactory_DDRM {
         return svd(100, 100, needU, needV, compact);
     }
 
+    /**
+     * Returns a truncated {@link SingularValueDecomposition} which only computes the largest singular values
+     * using a randomized algorithm. Much faster than a full SVD when the rank is small relative to the matrix.
+     * See {@link SvdRandomized_DDRM}.
+     *
+     * @param rank Number of singular values that are computed
+     * @param oversampling Number of additional samples of the range. Typically 5 to 10.
+     * @param powerIterations Number of power iterations. Typically 1 or 2.
+     * @return SVD
+     */
+    public static SingularValueDecomposition_F64<DMatrixRMaj> svdRandomized( int rank, int oversampling,
+                                                                             int powerIterations ) {
+        return new SvdRandomized_DDRM(rank, oversampling, powerIterations, new Random(0xBEEF));
+    }
+
     /**
      * <p>
      * Returns a {@link org.ejml.interfaces.decomposition.QRDecomposition} that has been optimized for the specified matrix size.
@@ -221,6 +249,8 @@ public class DecompositionFactory_DDRM {
                                                            boolean isSymmetric ) {
         if (isSymmetric) {
             TridiagonalSimilarDecomposition_F64<DMatrixRMaj> decomp = DecompositionFactory_DDRM.tridiagonal(matrixSize);
+            if (computeVectors && matrixSize >= EjmlParameters.SWITCH_EIG_DIVIDE_CONQUER)
+                return new SymmetricDivideConquerDecomposition_DDRM(decomp, new SymmetricDivideConquer_DDRM(), true);
             return new SymmetricQRAlgorithmDecomposition_DDRM(decomp, computeVectors);
         } else
             return new WatchedDoubleStepQRDecomposition_DDRM(computeVectors);
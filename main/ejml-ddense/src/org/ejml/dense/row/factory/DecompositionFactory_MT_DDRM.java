@@ -22,19 +22,29 @@ import org.ejml.EjmlParameters;
 import org.ejml.UtilEjml;
 import org.ejml.data.DMatrix;
 import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.block.decomposition.lu.LUDecompositionPivot_MT_DDRB;
 import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionBlock_MT_DDRM;
 import org.ejml.dense.row.decomposition.eig.SwitchingEigenDecomposition_DDRM;
+import org.ejml.dense.row.decomposition.eig.SymmetricDivideConquerDecomposition_DDRM;
 import org.ejml.dense.row.decomposition.eig.SymmetricQRAlgorithmDecomposition_DDRM;
 import org.ejml.dense.row.decomposition.eig.WatchedDoubleStepQRDecomposition_DDRM;
+import org.ejml.dense.row.decomposition.eig.symm.SymmetricDivideConquer_MT_DDRM;
 import org.ejml.dense.row.decomposition.eig.watched.WatchedDoubleStepQREigen_DDRM;
 import org.ejml.dense.row.decomposition.eig.watched.WatchedDoubleStepQREigen_MT_DDRM;
 import org.ejml.dense.row.decomposition.hessenberg.HessenbergSimilarDecomposition_DDRM;
 import org.ejml.dense.row.decomposition.hessenberg.HessenbergSimilarDecomposition_MT_DDRM;
 import org.ejml.dense.row.decomposition.hessenberg.TridiagonalDecompositionHouseholder_MT_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionAlt_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionBlock_MT_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecomposition_DDRB_to_DDRM;
 import org.ejml.dense.row.decomposition.qr.QRDecompositionHouseholderColumn_MT_DDRM;
+import org.ejml.dense.row.decomposition.svd.SvdDivideConquerDecompose_MT_DDRM;
 import org.ejml.dense.row.decomposition.svd.SvdImplicitQrDecompose_MT_DDRM;
+import org.ejml.dense.row.decomposition.svd.SvdRandomized_MT_DDRM;
 import org.ejml.interfaces.decomposition.*;
 
+import java.util.Random;
+
 /**
  * <p>
  * Contains concurrent implementations of different decompositions.
@@ -87,6 +97,8 @@ public class DecompositionFactory_MT_DDRM {
     public static SingularValueDecomposition_F64<DMatrixRMaj> svd( int numRows, int numCols,
                                                                    boolean needU, boolean needV, boolean compact ) {
         // Don't allow the tall decomposition by default since it *might* be less stable
+        if ((needU || needV) && Math.min(numRows, numCols) >= EjmlParameters.SWITCH_SVD_DIVIDE_CONQUER)
+            return new SvdDivideConquerDecompose_MT_DDRM(compact, needU, needV, false);
         return new SvdImplicitQrDecompose_MT_DDRM(compact, needU, needV, false);
     }
 
@@ -102,6 +114,37 @@ public class DecompositionFactory_MT_DDRM {
         return svd(100, 100, needU, needV, compact);
     }
 
+    /**
+     * Concurrent truncated SVD using a randomized algorithm. See {@link SvdRandomized_MT_DDRM}.
+     */
+    public static SingularValueDecomposition_F64<DMatrixRMaj> svdRandomized( int rank, int oversampling,
+                                                                             int powerIterations ) {
+        return new SvdRandomized_MT_DDRM(rank, oversampling, powerIterations, new Random(0xBEEF));
+    }
+
+    /**
+     * <p>
+     * Returns a {@link LUDecomposition} that has been optimized for the specified matrix size.
+     * </p>
+     *
+     * @param numRows Shape of the matrix that the code should be targeted towards. Does not need to be exact.
+     * @param numCol Shape of the matrix that the code should be targeted towards. Does not need to be exact.
+     * @return LUDecomposition
+     */
+    public static LUDecomposition_F64<DMatrixRMaj> lu( int numRows, int numCol ) {
+        if (numCol >= EjmlParameters.SWITCH_BLOCK64_LU && EjmlParameters.MEMORY == EjmlParameters.MemoryUsage.FASTER) {
+            return new LUDecomposition_DDRB_to_DDRM(new LUDecompositionPivot_MT_DDRB(), EjmlParameters.BLOCK_WIDTH);
+        } else if (numCol >= EjmlParameters.SWITCH_BLOCK_LU) {
+            return lu();
+        } else {
+            return new LUDecompositionAlt_DDRM();
+        }
+    }
+
+    public static LUDecomposition_F64<DMatrixRMaj> lu() {
+        return new LUDecompositionBlock_MT_DDRM(EjmlParameters.BLOCK_WIDTH);
+    }
+
     /**
      * <p>
      * Returns a {@link QRDecomposition} that has been optimized for the specified matrix size.
@@ -156,6 +199,8 @@ public class DecompositionFactory_MT_DDRM {
                                                            boolean isSymmetric ) {
         if (isSymmetric) {
             TridiagonalSimilarDecomposition_F64<DMatrixRMaj> decomp = DecompositionFactory_MT_DDRM.tridiagonal(matrixSize);
+            if (computeVectors && matrixSize >= EjmlParameters.SWITCH_EIG_DIVIDE_CONQUER)
+                return new SymmetricDivideConquerDecomposition_DDRM(decomp, new SymmetricDivideConquer_MT_DDRM(), true);
             return new SymmetricQRAlgorithmDecomposition_DDRM(decomp, computeVectors);
         } else {
             HessenbergSimilarDecomposition_DDRM hessenberg = new HessenbergSimilarDecomposition_MT_DDRM();
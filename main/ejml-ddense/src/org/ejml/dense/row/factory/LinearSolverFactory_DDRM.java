@@ -27,6 +27,7 @@ import org.ejml.dense.row.decomposition.qr.QRColPivDecompositionHouseholderColum
 import org.ejml.dense.row.linsol.AdjustableLinearSolver_DDRM;
 import org.ejml.dense.row.linsol.chol.LinearSolverChol_DDRB;
 import org.ejml.dense.row.linsol.chol.LinearSolverChol_DDRM;
+import org.ejml.dense.row.linsol.lu.LinearSolverLu_DDRB;
 import org.ejml.dense.row.linsol.lu.LinearSolverLu_DDRM;
 import org.ejml.dense.row.linsol.qr.*;
 import org.ejml.dense.row.linsol.svd.SolvePseudoInverseSvd_DDRM;
@@ -86,7 +87,11 @@ public class LinearSolverFactory_DDRM {
      * @return A new linear solver.
      */
     public static LinearSolverDense<DMatrixRMaj> linear( int matrixSize ) {
-        return new LinearSolverLu_DDRM(new LUDecompositionAlt_DDRM());
+        if (matrixSize >= EjmlParameters.SWITCH_BLOCK64_LU && EjmlParameters.MEMORY == EjmlParameters.MemoryUsage.FASTER) {
+            return new LinearSolverLu_DDRB();
+        } else {
+            return new LinearSolverLu_DDRM(new LUDecompositionAlt_DDRM());
+        }
     }
 
     /**
@@ -21,8 +21,14 @@ package org.ejml.dense.row.factory;
 import org.ejml.EjmlParameters;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.block.linsol.chol.CholeskyOuterSolver_MT_DDRB;
+import org.ejml.dense.block.linsol.lu.LuPivotSolver_MT_DDRB;
 import org.ejml.dense.block.linsol.qr.QrHouseHolderSolver_MT_DDRB;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionAlt_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionBlock_MT_DDRM;
 import org.ejml.dense.row.linsol.chol.LinearSolverChol_DDRB;
+import org.ejml.dense.row.linsol.lu.LinearSolverLu_DDRB;
+import org.ejml.dense.row.linsol.lu.LinearSolverLu_DDRM;
+import org.ejml.dense.row.linsol.lu.LinearSolverLu_MT_DDRM;
 import org.ejml.dense.row.linsol.qr.LinearSolverQrBlock64_DDRM;
 import org.ejml.dense.row.linsol.qr.LinearSolverQrHouseCol_MT_DDRM;
 import org.ejml.interfaces.linsol.LinearSolverDense;
@@ -34,6 +40,13 @@ import org.ejml.interfaces.linsol.LinearSolverDense;
  */
 public class LinearSolverFactory_MT_DDRM {
 
+    /**
+     * Creates a linear solver using LU decomposition
+     */
+    public static LinearSolverDense<DMatrixRMaj> lu( int numRows ) {
+        return linear(numRows);
+    }
+
     /**
      * Creates a linear solver using Cholesky decomposition
      */
@@ -48,6 +61,34 @@ public class LinearSolverFactory_MT_DDRM {
         return leastSquares(numRows, numCols);
     }
 
+    /**
+     * Creates a general purpose solver. Use this if you are not sure what you need.
+     *
+     * @param numRows The number of rows that the decomposition is optimized for.
+     * @param numCols The number of columns that the decomposition is optimized for.
+     */
+    public static LinearSolverDense<DMatrixRMaj> general( int numRows, int numCols ) {
+        if (numRows == numCols)
+            return linear(numRows);
+        else
+            return leastSquares(numRows, numCols);
+    }
+
+    /**
+     * Creates a solver for linear systems. The A matrix will have dimensions (m,m).
+     *
+     * @return A new linear solver.
+     */
+    public static LinearSolverDense<DMatrixRMaj> linear( int matrixSize ) {
+        if (matrixSize >= EjmlParameters.SWITCH_BLOCK64_LU && EjmlParameters.MEMORY == EjmlParameters.MemoryUsage.FASTER) {
+            return new LinearSolverLu_DDRB(new LuPivotSolver_MT_DDRB());
+        } else if (matrixSize >= EjmlParameters.SWITCH_BLOCK_LU) {
+            return new LinearSolverLu_MT_DDRM(new LUDecompositionBlock_MT_DDRM(EjmlParameters.BLOCK_WIDTH));
+        } else {
+            return new LinearSolverLu_DDRM(new LUDecompositionAlt_DDRM());
+        }
+    }
+
     /**
      * Creates a good general purpose solver for over determined systems and returns the optimal least-squares
      * solution. The A matrix will have dimensions (m,n) where m &ge; n.
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.linsol.lu;
+
+import org.ejml.UtilEjml;
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionBase_DDRM;
+import pabeles.concurrency.GrowArray;
+
+/**
+ * <p>
+ * Concurrent extension of {@link LinearSolverLu_DDRM}. Each column in B is solved for independently, so the
+ * columns are split up between threads and each thread has its own copy of the work vector.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverLu_MT_DDRM extends LinearSolverLu_DDRM {
+
+    GrowArray<DGrowArray> workArrays = new GrowArray<>(DGrowArray::new);
+
+    public LinearSolverLu_MT_DDRM( LUDecompositionBase_DDRM decomp ) {
+        super(decomp);
+    }
+
+    public LinearSolverLu_MT_DDRM( LUDecompositionBase_DDRM decomp, boolean doImprove ) {
+        super(decomp, doImprove);
+    }
+
+    @Override
+    public void solve( DMatrixRMaj B, DMatrixRMaj X ) {
+        UtilEjml.checkReshapeSolve(numRows, numCols, B, X);
+
+        final int numColsB = B.numCols;
+        final int n = this.numCols;
+
+        double[] dataB = B.data;
+        double[] dataX = X.data;
+
+        EjmlConcurrency.loopBlocks(0, numColsB, workArrays, ( work, idx0, idx1 ) -> {
+            double[] vv = work.reshape(n).data;
+            for (int j = idx0; j < idx1; j++) {
+                int index = j;
+                for (int i = 0; i < n; i++, index += numColsB) vv[i] = dataB[index];
+                decomp._solveVectorInternal(vv);
+                index = j;
+                for (int i = 0; i < n; i++, index += numColsB) dataX[index] = vv[i];
+            }
+        });
+
+        if (doImprove) {
+            improveSol(B, X);
+        }
+    }
+
+    @Override
+    public void invert( DMatrixRMaj A_inv ) {
+        if (A == null)
+            throw new RuntimeException("Must call setA() first");
+
+        DMatrixRMaj LU = decomp.getLU();
+
+        if (A_inv.numCols != LU.numCols || A_inv.numRows != LU.numRows)
+            throw new IllegalArgumentException("Unexpected matrix dimension");
+
+        final int n = A.numCols;
+
+        double[] dataInv = A_inv.data;
+
+        EjmlConcurrency.loopBlocks(0, n, workArrays, ( work, idx0, idx1 ) -> {
+            double[] vv = work.reshape(n).data;
+            for (int j = idx0; j < idx1; j++) {
+                for (int i = 0; i < n; i++) vv[i] = i == j ? 1 : 0;
+                decomp._solveVectorInternal(vv);
+                int index = j;
+                for (int i = 0; i < n; i++, index += n) dataInv[index] = vv[i];
+            }
+        });
+    }
+}
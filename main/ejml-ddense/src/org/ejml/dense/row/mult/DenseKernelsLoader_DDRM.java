@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.mult;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Selects which {@link DenseKernels_DDRM} is used. The first implementation found by {@link ServiceLoader} is
+ * used by default, which will be the SIMD kernels if the ejml-simd module is on the class path and the JVM
+ * supports them. If none are found then the regular Java implementations are used.
+ *
+ * @author Peter Abeles
+ */
+public class DenseKernelsLoader_DDRM {
+    private static @Nullable DenseKernels_DDRM kernels = load();
+
+    /**
+     * Returns the kernels which are being used or null if the regular Java implementations should be used.
+     */
+    public static @Nullable DenseKernels_DDRM get() {
+        return kernels;
+    }
+
+    /**
+     * Changes which kernels are used. Pass in null to use the regular Java implementations.
+     */
+    public static void set( @Nullable DenseKernels_DDRM kernels ) {
+        DenseKernelsLoader_DDRM.kernels = kernels;
+    }
+
+    /**
+     * Searches for an implementation using {@link ServiceLoader}. If it can't be loaded, e.g. the JVM doesn't
+     * support the instructions it uses, then null is returned.
+     */
+    public static @Nullable DenseKernels_DDRM load() {
+        try {
+            Iterator<DenseKernels_DDRM> iterator = ServiceLoader.load(DenseKernels_DDRM.class).iterator();
+            if (iterator.hasNext())
+                return iterator.next();
+        } catch (ServiceConfigurationError | LinkageError e) {
+            return null;
+        }
+        return null;
+    }
+}
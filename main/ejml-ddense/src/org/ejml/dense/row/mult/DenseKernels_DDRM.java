@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.mult;
+
+import org.ejml.data.DMatrix1Row;
+import org.ejml.data.DMatrixD1;
+
+/**
+ * <p>
+ * Alternative implementations of the inner loops which dominate the cost of dense operations, e.g. ones that
+ * use SIMD instructions. An implementation is found at runtime by {@link DenseKernelsLoader_DDRM} and, when one
+ * is available, {@link org.ejml.dense.row.CommonOps_DDRM} will use it for large enough inputs.
+ * </p>
+ *
+ * <p>
+ * Implementations must check the shape of their inputs in the same way as the functions they replace.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface DenseKernels_DDRM {
+    /**
+     * C = &alpha;*A*B
+     *
+     * @see MatrixMatrixMult_DDRM#mult_reorder(double, DMatrix1Row, DMatrix1Row, DMatrix1Row)
+     */
+    void mult( double alpha, DMatrix1Row A, DMatrix1Row B, DMatrix1Row C );
+
+    /**
+     * c = A*b, where b and c are vectors
+     *
+     * @see MatrixVectorMult_DDRM#mult(DMatrix1Row, DMatrixD1, DMatrixD1)
+     */
+    void multVector( DMatrix1Row A, DMatrixD1 b, DMatrixD1 c );
+
+    /**
+     * Computes the dot product: sum x[offsetX + i]*y[offsetY + i] for i = 0 to length-1
+     */
+    double dot( double[] x, int offsetX, double[] y, int offsetY, int length );
+
+    /**
+     * y[offsetY + i] = y[offsetY + i] + &alpha;*x[offsetX + i] for i = 0 to length-1
+     */
+    void axpy( int length, double alpha, double[] x, int offsetX, double[] y, int offsetY );
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.mult;
+
+import org.ejml.EjmlParameters;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix1Row;
+import org.ejml.dense.row.CommonOps_DDRM;
+//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;
+//CONCURRENT_INLINE import org.ejml.data.DGrowArray;
+//CONCURRENT_INLINE import pabeles.concurrency.GrowArray;
+
+/**
+ * <p>
+ * Matrix multiplication for large dense matrices which is designed to make efficient use of the memory caches.
+ * Blocks of A and B are copied ("packed") into contiguous arrays in the same order that they will be read by an
+ * inner kernel. The outer loops go through the column and inner blocks, packing each block of B once. The packed
+ * block is then used with every row tile in C, which are independent of each other and can be computed in parallel.
+ * The inner kernel computes a {@link #MR} by {@link #NR} block of C using local variables, which the JVM can keep
+ * in registers.
+ * </p>
+ *
+ * <p>
+ * The block sizes are specified in {@link EjmlParameters}. A packed block of A should fit inside the L2 cache
+ * and a {@link #NR} column wide slice of the packed B block inside the L1 cache. Packing adds overhead, which is
+ * why this is only used for large matrices. See {@link EjmlParameters#MULT_PACKED_SWITCH}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MatrixMatrixMultPacked_DDRM {
+    /** Number of rows in C computed by the inner kernel */
+    public static final int MR = 4;
+    /** Number of columns in C computed by the inner kernel */
+    public static final int NR = 4;
+
+    /**
+     * @see CommonOps_DDRM#mult(org.ejml.data.DMatrix1Row, org.ejml.data.DMatrix1Row, org.ejml.data.DMatrix1Row)
+     */
+    public static void mult( DMatrix1Row A, DMatrix1Row B, DMatrix1Row C ) {
+        mult(1.0, A, B, C);
+    }
+
+    /**
+     * @see CommonOps_DDRM#mult(double, org.ejml.data.DMatrix1Row, org.ejml.data.DMatrix1Row, org.ejml.data.DMatrix1Row)
+     */
+    public static void mult( double alpha, DMatrix1Row A, DMatrix1Row B, DMatrix1Row C ) {
+        UtilEjml.assertTrue(A != C && B != C, "Neither 'A' or 'B' can be the same matrix as 'C'");
+        UtilEjml.assertShape(A.numCols, B.numRows, "The 'A' and 'B' matrices do not have compatible dimensions");
+        C.reshape(A.numRows, B.numCols);
+
+        if (A.numCols == 0 || A.numRows == 0) {
+            CommonOps_DDRM.fill(C, 0);
+            return;
+        }
+
+        // Blocks need to be a multiple of the kernel's size
+        final int blockM = roundUp(EjmlParameters.MULT_PACKED_BLOCK_M, MR);
+        final int blockN = roundUp(EjmlParameters.MULT_PACKED_BLOCK_N, NR);
+        final int blockK = Math.max(1, EjmlParameters.MULT_PACKED_BLOCK_K);
+
+        final int tileRows = (C.numRows + blockM - 1)/blockM;
+
+        double[] packB = new double[Math.min(blockN, roundUp(C.numCols, NR))*blockK];
+        //CONCURRENT_REMOVE_BELOW
+        double[] packA = new double[Math.min(blockM, roundUp(C.numRows, MR))*blockK];
+        //CONCURRENT_INLINE GrowArray<DGrowArray> workspace = new GrowArray<>(DGrowArray::new);
+
+        // A block of B is packed once and then used with all the row tiles in C
+        for (int col0 = 0; col0 < C.numCols; col0 += blockN) {
+            final int _col0 = col0; // Needed for concurrent lambdas
+            final int col1 = Math.min(col0 + blockN, C.numCols);
+            for (int k0 = 0; k0 < A.numCols; k0 += blockK) {
+                final int _k0 = k0; // Needed for concurrent lambdas
+                final int k1 = Math.min(k0 + blockK, A.numCols);
+                packB(B, k0, k1, col0, col1, packB);
+
+                //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, tileRows, 1, workspace, ( work, tile ) -> {
+                for (int tile = 0; tile < tileRows; tile++) {
+                    //CONCURRENT_INLINE double[] packA = work.reshape(blockM*blockK).data;
+                    int row0 = tile*blockM;
+                    int row1 = Math.min(row0 + blockM, C.numRows);
+                    packA(A, row0, row1, _k0, k1, packA);
+                    // The first block writes over the old value in C and the others add to it
+                    multBlock(alpha, packA, packB, k1 - _k0, C, row0, row1, _col0, col1, _k0 == 0);
+                }
+                //CONCURRENT_ABOVE });
+            }
+        }
+    }
+
+    /**
+     * Copies rows [row0,row1) and columns [k0,k1) of A into panels which are {@link #MR} rows tall. Inside a panel
+     * elements are ordered by column then row. Rows past the end of A are filled with zeros.
+     */
+    static void packA( DMatrix1Row A, int row0, int row1, int k0, int k1, double[] packed ) {
+        final int kc = k1 - k0;
+        int indexPanel = 0;
+        for (int i0 = row0; i0 < row1; i0 += MR) {
+            int rows = Math.min(MR, row1 - i0);
+            for (int r = 0; r < MR; r++) {
+                int indexP = indexPanel + r;
+                if (r < rows) {
+                    int indexA = (i0 + r)*A.numCols + k0;
+                    for (int k = 0; k < kc; k++, indexP += MR) {
+                        packed[indexP] = A.data[indexA + k];
+                    }
+                } else {
+                    for (int k = 0; k < kc; k++, indexP += MR) {
+                        packed[indexP] = 0;
+                    }
+                }
+            }
+            indexPanel += MR*kc;
+        }
+    }
+
+    /**
+     * Copies rows [k0,k1) and columns [col0,col1) of B into panels which are {@link #NR} columns wide. Inside a
+     * panel elements are ordered by row then column. Columns past the end of B are filled with zeros.
+     */
+    static void packB( DMatrix1Row B, int k0, int k1, int col0, int col1, double[] packed ) {
+        final int kc = k1 - k0;
+        final int n = col1 - col0;
+        for (int k = 0; k < kc; k++) {
+            int indexB = (k0 + k)*B.numCols + col0;
+            for (int j = 0; j < n; j += NR) {
+                int indexP = j*kc + k*NR;
+                int cols = Math.min(NR, n - j);
+                for (int c = 0; c < cols; c++) {
+                    packed[indexP + c] = B.data[indexB++];
+                }
+                for (int c = cols; c < NR; c++) {
+                    packed[indexP + c] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiplies the packed blocks together and writes the results into C
+     */
+    static void multBlock( double alpha, double[] packA, double[] packB, int kc,
+                           DMatrix1Row C, int row0, int row1, int col0, int col1, boolean overwrite ) {
+        for (int j = col0; j < col1; j += NR) {
+            int offB = (j - col0)*kc;
+            int cols = Math.min(NR, col1 - j);
+            for (int i = row0; i < row1; i += MR) {
+                int offA = (i - row0)*kc;
+                int rows = Math.min(MR, row1 - i);
+                kernel(alpha, kc, packA, offA, packB, offB, C, i, j, rows, cols, overwrite);
+            }
+        }
+    }
+
+    /**
+     * Computes a {@link #MR} by {@link #NR} block in C. Only the first 'rows' and 'cols' are written to C.
+     */
+    static void kernel( double alpha, int kc, double[] packA, int offA, double[] packB, int offB,
+                        DMatrix1Row C, int row, int col, int rows, int cols, boolean overwrite ) {
+        double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+        for (int k = 0; k < kc; k++) {
+            double a0 = packA[offA], a1 = packA[offA + 1], a2 = packA[offA + 2], a3 = packA[offA + 3];
+            double b0 = packB[offB], b1 = packB[offB + 1], b2 = packB[offB + 2], b3 = packB[offB + 3];
+            offA += MR;
+            offB += NR;
+
+            c00 += a0*b0; c01 += a0*b1; c02 += a0*b2; c03 += a0*b3;
+            c10 += a1*b0; c11 += a1*b1; c12 += a1*b2; c13 += a1*b3;
+            c20 += a2*b0; c21 += a2*b1; c22 += a2*b2; c23 += a2*b3;
+            c30 += a3*b0; c31 += a3*b1; c32 += a3*b2; c33 += a3*b3;
+        }
+
+        double[] dataC = C.data;
+        int indexC = row*C.numCols + col;
+        storeRow(dataC, indexC, cols, overwrite, alpha*c00, alpha*c01, alpha*c02, alpha*c03);
+        if (rows > 1)
+            storeRow(dataC, indexC + C.numCols, cols, overwrite, alpha*c10, alpha*c11, alpha*c12, alpha*c13);
+        if (rows > 2)
+            storeRow(dataC, indexC + 2*C.numCols, cols, overwrite, alpha*c20, alpha*c21, alpha*c22, alpha*c23);
+        if (rows > 3)
+            storeRow(dataC, indexC + 3*C.numCols, cols, overwrite, alpha*c30, alpha*c31, alpha*c32, alpha*c33);
+    }
+
+    private static void storeRow( double[] data, int index, int cols, boolean overwrite,
+                                  double v0, double v1, double v2, double v3 ) {
+        if (overwrite) {
+            data[index] = v0;
+            if (cols > 1) data[index + 1] = v1;
+            if (cols > 2) data[index + 2] = v2;
+            if (cols > 3) data[index + 3] = v3;
+        } else {
+            data[index] += v0;
+            if (cols > 1) data[index + 1] += v1;
+            if (cols > 2) data[index + 2] += v2;
+            if (cols > 3) data[index + 3] += v3;
+        }
+    }
+
+    private static int roundUp( int value, int multiple ) {
+        return Math.max(multiple, (value + multiple - 1)/multiple*multiple);
+    }
+}
@@ -74,7 +74,7 @@ public class TestMatrixMult_DDRB {
         }
 
         // make sure all the functions were in fact tested
-        assertEquals(7,numFound);
+        assertEquals(8,numFound);
     }
 
     private static void checkMult_submatrix( Method func , int operationType , boolean transA , boolean transB )
@@ -31,7 +31,7 @@ class TestMatrixMult_MT_DDRB extends CheckMultiThreadAgainstSingleThread {
 	int blockLength = 21;
 
 	public TestMatrixMult_MT_DDRB() {
-		super(MatrixMult_DDRB.class, MatrixMult_MT_DDRB.class, 7);
+		super(MatrixMult_DDRB.class, MatrixMult_MT_DDRB.class, 8);
 		size = 121;
 	}
 
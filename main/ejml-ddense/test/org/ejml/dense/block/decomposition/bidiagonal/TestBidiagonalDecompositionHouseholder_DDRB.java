@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.block.decomposition.bidiagonal;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRBlock;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.block.MatrixOps_DDRB;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecompositionRow_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestBidiagonalDecompositionHouseholder_DDRB {
+    Random rand = new Random(234);
+
+    int r = 3;
+
+    /**
+     * The same reflectors are computed as the row major algorithm, so the decomposition should be identical
+     * up to round off error
+     */
+    @Test
+    void compareToRow() {
+        for (int rows = 1; rows <= r*4; rows++) {
+            for (int cols = 1; cols <= r*4; cols++) {
+                DMatrixRBlock A = MatrixOps_DDRB.createRandom(rows, cols, -1, 1, rand, r);
+                DMatrixRMaj A_row = MatrixOps_DDRB.convert(A, new DMatrixRMaj(1, 1));
+
+                var expected = new BidiagonalDecompositionRow_DDRM();
+                var found = new BidiagonalDecompositionHouseholder_DDRB();
+
+                assertTrue(expected.decompose(A_row));
+                assertTrue(found.decompose(A));
+
+                DMatrixRMaj UBV = MatrixOps_DDRB.convert(found.getUBV(), new DMatrixRMaj(1, 1));
+                assertTrue(MatrixFeatures_DDRM.isIdentical(expected.getUBV(), UBV, UtilEjml.TEST_F64));
+                for (int i = 0; i < Math.min(rows, cols); i++) {
+                    assertEquals(expected.getGammasU()[i], found.getGammasU()[i], UtilEjml.TEST_F64);
+                    assertEquals(expected.getGammasV()[i], found.getGammasV()[i], UtilEjml.TEST_F64);
+                }
+
+                for (boolean compact : new boolean[]{false, true}) {
+                    assertTrue(isIdentical(expected.getB(null, compact), found.getB(null, compact)));
+                    for (boolean transpose : new boolean[]{false, true}) {
+                        assertTrue(isIdentical(expected.getU(null, transpose, compact),
+                                found.getU(null, transpose, compact)));
+                        assertTrue(isIdentical(expected.getV(null, transpose, compact),
+                                found.getV(null, transpose, compact)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void getDiagonal() {
+        DMatrixRBlock A = MatrixOps_DDRB.createRandom(11, 8, -1, 1, rand, r);
+
+        var alg = new BidiagonalDecompositionHouseholder_DDRB();
+        assertTrue(alg.decompose(A));
+
+        DMatrixRBlock B = alg.getB(null, true);
+        double[] diag = new double[8];
+        double[] off = new double[7];
+        alg.getDiagonal(diag, off);
+
+        for (int i = 0; i < 8; i++) {
+            assertEquals(B.get(i, i), diag[i], UtilEjml.TEST_F64);
+            if (i < 7)
+                assertEquals(B.get(i, i + 1), off[i], UtilEjml.TEST_F64);
+        }
+    }
+
+    private static boolean isIdentical( DMatrixRMaj expected, DMatrixRBlock found ) {
+        return MatrixFeatures_DDRM.isIdentical(expected,
+                MatrixOps_DDRB.convert(found, new DMatrixRMaj(1, 1)), UtilEjml.TEST_F64);
+    }
+}
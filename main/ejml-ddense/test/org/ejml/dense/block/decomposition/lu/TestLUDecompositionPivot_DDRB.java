@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.block.decomposition.lu;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRBlock;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.block.MatrixOps_DDRB;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionAlt_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestLUDecompositionPivot_DDRB {
+    Random rand = new Random(234);
+
+    int r = 3;
+
+    /**
+     * Pivots are selected the same way as the row major algorithm, so the results should be the same up to
+     * round off error
+     */
+    @Test
+    void compareToAlt() {
+        for (int rows = 1; rows <= r*4; rows++) {
+            for (int cols = 1; cols <= r*4; cols++) {
+                DMatrixRBlock A = MatrixOps_DDRB.createRandom(rows, cols, -1, 1, rand, r);
+                DMatrixRMaj A_row = MatrixOps_DDRB.convert(A, new DMatrixRMaj(1, 1));
+
+                var expected = new LUDecompositionAlt_DDRM();
+                var found = new LUDecompositionPivot_DDRB();
+
+                assertTrue(expected.decompose(A_row));
+                assertTrue(found.decompose(A));
+
+                DMatrixRMaj LU = MatrixOps_DDRB.convert(found.getLU(), new DMatrixRMaj(1, 1));
+                assertTrue(MatrixFeatures_DDRM.isIdentical(expected.getLU(), LU, UtilEjml.TEST_F64));
+                assertArrayEquals(expected.getRowPivotV(null), found.getRowPivotV(null));
+                for (int i = 0; i < Math.min(rows, cols); i++) {
+                    assertEquals(expected.getIndx()[i], found.getIndx()[i]);
+                }
+                if (rows == cols)
+                    assertEquals(expected.computeDeterminant().real, found.computeDeterminant().real,
+                            UtilEjml.TEST_F64*Math.abs(expected.computeDeterminant().real));
+            }
+        }
+    }
+
+    /**
+     * Reconstruct the original matrix from L, U, and the pivot matrix
+     */
+    @Test
+    void getLower_getUpper_getRowPivot() {
+        for (int[] shape : new int[][]{{10, 10}, {11, 7}, {7, 11}}) {
+            DMatrixRBlock A = MatrixOps_DDRB.createRandom(shape[0], shape[1], -1, 1, rand, r);
+            DMatrixRMaj A_row = MatrixOps_DDRB.convert(A, new DMatrixRMaj(1, 1));
+
+            var alg = new LUDecompositionPivot_DDRB();
+            assertTrue(alg.decompose(A));
+
+            DMatrixRMaj L = MatrixOps_DDRB.convert(alg.getLower(null), new DMatrixRMaj(1, 1));
+            DMatrixRMaj U = MatrixOps_DDRB.convert(alg.getUpper(null), new DMatrixRMaj(1, 1));
+            DMatrixRMaj P = MatrixOps_DDRB.convert(alg.getRowPivot(null), new DMatrixRMaj(1, 1));
+
+            assertTrue(MatrixFeatures_DDRM.isLowerTriangle(L, 0, 0.0));
+            assertTrue(MatrixFeatures_DDRM.isUpperTriangle(U, 0, 0.0));
+
+            DMatrixRMaj found = new DMatrixRMaj(1, 1);
+            DMatrixRMaj LU = new DMatrixRMaj(1, 1);
+            CommonOps_DDRM.mult(L, U, LU);
+            CommonOps_DDRM.multTransA(P, LU, found);
+
+            assertTrue(MatrixFeatures_DDRM.isIdentical(A_row, found, UtilEjml.TEST_F64));
+        }
+    }
+
+    @Test
+    void isSingular() {
+        DMatrixRBlock A = MatrixOps_DDRB.createRandom(7, 7, -1, 1, rand, r);
+        for (int i = 0; i < A.numRows; i++) {
+            A.set(i, 4, 2*A.get(i, 1));
+        }
+
+        var alg = new LUDecompositionPivot_DDRB();
+        assertTrue(alg.decompose(A));
+        assertTrue(alg.isSingular());
+
+        A = MatrixOps_DDRB.createRandom(7, 7, -1, 1, rand, r);
+        assertTrue(alg.decompose(A));
+        assertTrue(!alg.isSingular());
+    }
+}
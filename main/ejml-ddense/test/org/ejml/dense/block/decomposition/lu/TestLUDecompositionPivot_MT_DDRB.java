@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.block.decomposition.lu;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRBlock;
+import org.ejml.dense.block.MatrixOps_DDRB;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestLUDecompositionPivot_MT_DDRB {
+    Random rand = new Random(324);
+
+    int r = 3;
+
+    @Test
+    void compareToSingle() {
+        var single = new LUDecompositionPivot_DDRB();
+        var concurrent = new LUDecompositionPivot_MT_DDRB();
+
+        for (int rows = 1; rows < 27; rows += 4) {
+            for (int cols : new int[]{rows/2 + 1, rows, rows + 5}) {
+                DMatrixRBlock A = MatrixOps_DDRB.createRandom(rows, cols, -1, 1, rand, r);
+                DMatrixRBlock B = A.copy();
+
+                assertTrue(single.decompose(A));
+                assertTrue(concurrent.decompose(B));
+
+                assertTrue(MatrixOps_DDRB.isEquals(A, B, UtilEjml.TEST_F64));
+                assertArrayEquals(single.getRowPivotV(null), concurrent.getRowPivotV(null));
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.direct;
+
+import org.ejml.EjmlParameters;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixDirect;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCommonOps_DDRD {
+    Random rand = new Random(234);
+
+    int originalWidth;
+
+    // Use small tiles so that the matrices are split into several tiles
+    @BeforeEach
+    void setTileWidth() {
+        originalWidth = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        EjmlParameters.BLOCK_WIDTH_DIRECT = 3;
+    }
+
+    @AfterEach
+    void restoreTileWidth() {
+        EjmlParameters.BLOCK_WIDTH_DIRECT = originalWidth;
+    }
+
+    @Test
+    void extract_insert() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(7, 9, -1, 1, rand);
+        DMatrixDirect A_d = direct(A);
+
+        DMatrixRMaj found = new DMatrixRMaj(1, 1);
+        CommonOps_DDRD.extract(A_d, 2, 6, 1, 8, found);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(CommonOps_DDRM.extract(A, 2, 6, 1, 8), found, 0.0));
+
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(3, 4, -1, 1, rand);
+        CommonOps_DDRD.insert(B, A_d, 4, 5);
+        CommonOps_DDRM.insert(B, A, 4, 5);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, heap(A_d), 0.0));
+    }
+
+    @Test
+    void setIdentity() {
+        DMatrixDirect A = direct(RandomMatrices_DDRM.rectangle(4, 6, -1, 1, rand));
+        CommonOps_DDRD.setIdentity(A);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(CommonOps_DDRM.identity(4, 6), heap(A), 0.0));
+    }
+
+    @Test
+    void add_subtract() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(70, 90, -1, 1, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(70, 90, -1, 1, rand);
+
+        DMatrixDirect C = new DMatrixDirect(1, 1, 5);
+        DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+
+        CommonOps_DDRD.add(direct(A), direct(B), C);
+        CommonOps_DDRM.add(A, B, expected);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, heap(C), UtilEjml.TEST_F64));
+
+        CommonOps_DDRD.subtract(direct(A), direct(B), C);
+        CommonOps_DDRM.subtract(A, B, expected);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, heap(C), UtilEjml.TEST_F64));
+
+        CommonOps_DDRD.add(2.0, direct(A), -0.5, direct(B), C);
+        CommonOps_DDRM.add(2.0, A, -0.5, B, expected);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, heap(C), UtilEjml.TEST_F64));
+    }
+
+    @Test
+    void scale() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(5, 8, -1, 1, rand);
+        DMatrixDirect A_d = direct(A);
+
+        CommonOps_DDRD.scale(2.5, A_d);
+        CommonOps_DDRM.scale(2.5, A);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, heap(A_d), UtilEjml.TEST_F64));
+    }
+
+    @Test
+    void transpose() {
+        for (int[] shape : new int[][]{{1, 1}, {7, 7}, {5, 11}, {11, 4}}) {
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(shape[0], shape[1], -1, 1, rand);
+            DMatrixDirect found = new DMatrixDirect(1, 1);
+            CommonOps_DDRD.transpose(direct(A), found);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(CommonOps_DDRM.transpose(A, null), heap(found), 0.0));
+        }
+    }
+
+    @Test
+    void mult() {
+        for (int[] shape : new int[][]{{1, 1, 1}, {7, 5, 8}, {3, 10, 2}, {9, 9, 9}}) {
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(shape[0], shape[1], -1, 1, rand);
+            DMatrixRMaj B = RandomMatrices_DDRM.rectangle(shape[1], shape[2], -1, 1, rand);
+
+            DMatrixDirect found = new DMatrixDirect(1, 1);
+            CommonOps_DDRD.mult(direct(A), direct(B), found);
+
+            DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+            CommonOps_DDRM.mult(A, B, expected);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, heap(found), UtilEjml.TEST_F64));
+        }
+    }
+
+    @Test
+    void solve() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(10, 10, -1, 1, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(10, 4, -1, 1, rand);
+        DMatrixDirect A_d = direct(A);
+        DMatrixDirect B_d = direct(B);
+
+        DMatrixDirect found = new DMatrixDirect(1, 1);
+        assertTrue(CommonOps_DDRD.solve(A_d, B_d, found));
+
+        DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+        CommonOps_DDRM.solve(A, B, expected);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, heap(found), UtilEjml.TEST_F64));
+
+        // inputs should not be modified
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, heap(A_d), 0.0));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(B, heap(B_d), 0.0));
+    }
+
+    @Test
+    void solveSPD() {
+        DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(10, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(10, 4, -1, 1, rand);
+        DMatrixDirect A_d = direct(A);
+
+        DMatrixDirect found = new DMatrixDirect(1, 1);
+        assertTrue(CommonOps_DDRD.solveSPD(A_d, direct(B), found));
+
+        DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+        CommonOps_DDRM.solve(A, B, expected);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, heap(found), UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, heap(A_d), 0.0));
+
+        // not positive definite
+        CommonOps_DDRM.scale(-1, A);
+        assertTrue(!CommonOps_DDRD.solveSPD(direct(A), direct(B), found));
+    }
+
+    @Test
+    void convert() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(6, 4, -1, 1, rand);
+        DMatrixDirect A_d = new DMatrixDirect(1, 1, 2);
+        CommonOps_DDRD.convert(A, A_d);
+        assertEquals(6, A_d.numRows);
+        assertEquals(4, A_d.numCols);
+        for (int i = 0; i < A.data.length; i++) {
+            assertEquals(A.data[i], A_d.get(i));
+        }
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, heap(A_d), 0.0));
+    }
+
+    public static DMatrixDirect direct( DMatrixRMaj A ) {
+        // small chunks to make sure rows cross chunk boundaries
+        DMatrixDirect out = new DMatrixDirect(A.numRows, A.numCols, 4);
+        CommonOps_DDRD.convert(A, out);
+        return out;
+    }
+
+    public static DMatrixRMaj heap( DMatrixDirect A ) {
+        DMatrixRMaj out = new DMatrixRMaj(1, 1);
+        CommonOps_DDRD.convert(A, out);
+        return out;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.direct.decomposition;
+
+import org.ejml.EjmlParameters;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionInner_DDRM;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.ejml.dense.direct.TestCommonOps_DDRD.direct;
+import static org.ejml.dense.direct.TestCommonOps_DDRD.heap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestCholeskyOuterForm_DDRD {
+    Random rand = new Random(234);
+
+    int originalWidth;
+
+    // Use small tiles so that the matrices are split into several tiles
+    @BeforeEach
+    void setTileWidth() {
+        originalWidth = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        EjmlParameters.BLOCK_WIDTH_DIRECT = 3;
+    }
+
+    @AfterEach
+    void restoreTileWidth() {
+        EjmlParameters.BLOCK_WIDTH_DIRECT = originalWidth;
+    }
+
+    @Test
+    void compareToRowMajor() {
+        for (int N = 1; N <= 12; N++) {
+            DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(N, rand);
+
+            var expected = new CholeskyDecompositionInner_DDRM(true);
+            var found = new CholeskyOuterForm_DDRD();
+
+            assertTrue(expected.decompose(A.copy()));
+            assertTrue(found.decompose(direct(A)));
+            assertTrue(found.isLower());
+
+            DMatrixRMaj L = heap(found.getT(null));
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected.getT(null), L, UtilEjml.TEST_F64));
+
+            // L*L' = A
+            DMatrixRMaj LL = new DMatrixRMaj(1, 1);
+            CommonOps_DDRM.multTransB(L, L, LL);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(A, LL, UtilEjml.TEST_F64));
+
+            double det = CommonOps_DDRM.det(A);
+            assertEquals(det, found.computeDeterminant().real, UtilEjml.TEST_F64*Math.abs(det));
+        }
+    }
+
+    /**
+     * Only the lower triangle should be read
+     */
+    @Test
+    void ignoresUpperTriangle() {
+        DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(10, rand);
+        DMatrixRMaj A_mod = A.copy();
+        for (int i = 0; i < 10; i++) {
+            for (int j = i + 1; j < 10; j++) {
+                A_mod.set(i, j, 100 + i);
+            }
+        }
+
+        var expected = new CholeskyOuterForm_DDRD();
+        var found = new CholeskyOuterForm_DDRD();
+        assertTrue(expected.decompose(direct(A)));
+        assertTrue(found.decompose(direct(A_mod)));
+
+        assertTrue(MatrixFeatures_DDRM.isIdentical(heap(expected.getT(null)), heap(found.getT(null)), UtilEjml.TEST_F64));
+    }
+
+    @Test
+    void notPositiveDefinite() {
+        DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(10, rand);
+        A.set(7, 7, -1);
+
+        assertFalse(new CholeskyOuterForm_DDRD().decompose(direct(A)));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.direct.decomposition;
+
+import org.ejml.EjmlParameters;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixDirect;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionAlt_DDRM;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.ejml.dense.direct.TestCommonOps_DDRD.direct;
+import static org.ejml.dense.direct.TestCommonOps_DDRD.heap;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestLUDecompositionPivot_DDRD {
+    Random rand = new Random(234);
+
+    int originalWidth;
+
+    // Use small tiles so that the matrices are split into several tiles
+    @BeforeEach
+    void setTileWidth() {
+        originalWidth = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        EjmlParameters.BLOCK_WIDTH_DIRECT = 3;
+    }
+
+    @AfterEach
+    void restoreTileWidth() {
+        EjmlParameters.BLOCK_WIDTH_DIRECT = originalWidth;
+    }
+
+    /**
+     * Pivots are selected the same way as the row major algorithm, so the results should be the same up to
+     * round off error
+     */
+    @Test
+    void compareToAlt() {
+        for (int rows = 1; rows <= 12; rows++) {
+            for (int cols = 1; cols <= 12; cols++) {
+                DMatrixRMaj A_row = RandomMatrices_DDRM.rectangle(rows, cols, -1, 1, rand);
+                DMatrixDirect A = direct(A_row);
+
+                var expected = new LUDecompositionAlt_DDRM();
+                var found = new LUDecompositionPivot_DDRD();
+
+                assertTrue(expected.decompose(A_row));
+                assertTrue(found.decompose(A));
+
+                assertTrue(MatrixFeatures_DDRM.isIdentical(expected.getLU(), heap(found.getLU()), UtilEjml.TEST_F64));
+                assertArrayEquals(expected.getRowPivotV(null), found.getRowPivotV(null));
+                for (int i = 0; i < Math.min(rows, cols); i++) {
+                    assertEquals(expected.getIndx()[i], found.getIndx()[i]);
+                }
+                if (rows == cols)
+                    assertEquals(expected.computeDeterminant().real, found.computeDeterminant().real,
+                            UtilEjml.TEST_F64*Math.abs(expected.computeDeterminant().real));
+            }
+        }
+    }
+
+    /**
+     * Reconstruct the original matrix from L, U, and the pivot matrix
+     */
+    @Test
+    void getLower_getUpper_getRowPivot() {
+        for (int[] shape : new int[][]{{10, 10}, {11, 7}, {7, 11}}) {
+            DMatrixRMaj A_row = RandomMatrices_DDRM.rectangle(shape[0], shape[1], -1, 1, rand);
+
+            var alg = new LUDecompositionPivot_DDRD();
+            assertTrue(alg.decompose(direct(A_row)));
+
+            DMatrixRMaj L = heap(alg.getLower(null));
+            DMatrixRMaj U = heap(alg.getUpper(null));
+            DMatrixRMaj P = heap(alg.getRowPivot(null));
+
+            assertTrue(MatrixFeatures_DDRM.isLowerTriangle(L, 0, 0.0));
+            assertTrue(MatrixFeatures_DDRM.isUpperTriangle(U, 0, 0.0));
+
+            DMatrixRMaj found = new DMatrixRMaj(1, 1);
+            DMatrixRMaj LU = new DMatrixRMaj(1, 1);
+            CommonOps_DDRM.mult(L, U, LU);
+            CommonOps_DDRM.multTransA(P, LU, found);
+
+            assertTrue(MatrixFeatures_DDRM.isIdentical(A_row, found, UtilEjml.TEST_F64));
+        }
+    }
+
+    @Test
+    void isSingular() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(7, 7, -1, 1, rand);
+        for (int i = 0; i < A.numRows; i++) {
+            A.set(i, 4, 0);
+        }
+
+        var alg = new LUDecompositionPivot_DDRD();
+        assertTrue(alg.decompose(direct(A)));
+        assertTrue(alg.isSingular());
+
+        A = RandomMatrices_DDRM.rectangle(7, 7, -1, 1, rand);
+        assertTrue(alg.decompose(direct(A)));
+        assertTrue(!alg.isSingular());
+    }
+}
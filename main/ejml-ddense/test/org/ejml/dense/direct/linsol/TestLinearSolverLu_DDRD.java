@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.direct.linsol;
+
+import org.ejml.EjmlParameters;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixDirect;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.ejml.dense.direct.TestCommonOps_DDRD.direct;
+import static org.ejml.dense.direct.TestCommonOps_DDRD.heap;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestLinearSolverLu_DDRD {
+    Random rand = new Random(234);
+
+    int originalWidth;
+
+    // Use small tiles so that the matrices are split into several tiles
+    @BeforeEach
+    void setTileWidth() {
+        originalWidth = EjmlParameters.BLOCK_WIDTH_DIRECT;
+        EjmlParameters.BLOCK_WIDTH_DIRECT = 3;
+    }
+
+    @AfterEach
+    void restoreTileWidth() {
+        EjmlParameters.BLOCK_WIDTH_DIRECT = originalWidth;
+    }
+
+    @Test
+    void solve() {
+        for (int N = 1; N <= 11; N++) {
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(N, N, -1, 1, rand);
+            DMatrixRMaj B = RandomMatrices_DDRM.rectangle(N, 7, -1, 1, rand);
+
+            var alg = new LinearSolverLu_DDRD();
+            assertTrue(alg.setA(direct(A)));
+
+            DMatrixDirect B_d = direct(B);
+            DMatrixDirect X = new DMatrixDirect(1, 1);
+            alg.solve(B_d, X);
+
+            DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+            CommonOps_DDRM.solve(A, B, expected);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, heap(X), UtilEjml.TEST_F64_SQ));
+            assertTrue(MatrixFeatures_DDRM.isIdentical(B, heap(B_d), 0.0));
+
+            // B and X are the same instance
+            alg.solve(B_d, B_d);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, heap(B_d), UtilEjml.TEST_F64_SQ));
+        }
+    }
+
+    @Test
+    void invert() {
+        for (int N = 1; N <= 11; N++) {
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(N, N, -1, 1, rand);
+
+            var alg = new LinearSolverLu_DDRD();
+            assertTrue(alg.setA(direct(A)));
+
+            DMatrixDirect found = new DMatrixDirect(1, 1);
+            alg.invert(found);
+
+            DMatrixRMaj expected = A.copy();
+            CommonOps_DDRM.invert(expected);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, heap(found), UtilEjml.TEST_F64_SQ));
+        }
+    }
+
+    @Test
+    void quality() {
+        DMatrixRMaj A = CommonOps_DDRM.diag(4, 3, 2, 1);
+        DMatrixRMaj A_small = A.copy();
+        CommonOps_DDRM.scale(0.001, A_small);
+        A_small.set(0, 0, 4);
+
+        var alg = new LinearSolverLu_DDRD();
+        assertTrue(alg.setA(direct(A)));
+        /**/double q0 = alg.quality();
+        assertTrue(alg.setA(direct(A_small)));
+        /**/double q1 = alg.quality();
+
+        assertTrue(q1 < q0);
+    }
+}
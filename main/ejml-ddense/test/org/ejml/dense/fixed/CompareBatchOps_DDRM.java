@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.BatchLayout;
+import org.ejml.data.DMatrixBatch;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.CholeskyDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the batch operations against applying the equivalent operation in CommonOps_DDRM to each matrix
+ *
+ * @author Peter Abeles
+ */
+public abstract class CompareBatchOps_DDRM {
+    Random rand = new Random(234);
+
+    Class<?> classBatch;
+    int N;
+
+    // number of matrices in each batch
+    int size = 7;
+
+    protected CompareBatchOps_DDRM( Class<?> classBatch ) {
+        this.classBatch = classBatch;
+
+        String name = classBatch.getName();
+        N = Integer.parseInt(name.charAt(name.length() - 1) + "");
+    }
+
+    @Test
+    void transpose() {
+        for (BatchLayout layout : BatchLayout.values()) {
+            DMatrixBatch a = createBatch(N, N, layout);
+            DMatrixBatch found = new DMatrixBatch(1, 1, 1, other(layout));
+
+            invoke("transpose", a, found);
+
+            for (int k = 0; k < size; k++) {
+                DMatrixRMaj expected = CommonOps_DDRM.transpose(get(a, k), null);
+                EjmlUnitTests.assertEquals(expected, get(found, k), UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    @Test
+    void mult() {
+        for (String name : new String[]{"mult", "multTransA", "multTransB"}) {
+            for (BatchLayout layout : BatchLayout.values()) {
+                DMatrixBatch a = createBatch(N, N, layout);
+                DMatrixBatch b = createBatch(N, N, other(layout));
+                DMatrixBatch found = new DMatrixBatch(N, N, size, layout);
+
+                invoke(name, a, b, found);
+
+                for (int k = 0; k < size; k++) {
+                    DMatrixRMaj expected = new DMatrixRMaj(N, N);
+                    DMatrixRMaj A = get(a, k), B = get(b, k);
+                    if (name.equals("mult"))
+                        CommonOps_DDRM.mult(A, B, expected);
+                    else if (name.equals("multTransA"))
+                        CommonOps_DDRM.multTransA(A, B, expected);
+                    else
+                        CommonOps_DDRM.multTransB(A, B, expected);
+                    EjmlUnitTests.assertEquals(expected, get(found, k), UtilEjml.TEST_F64);
+                }
+
+                // the output is allowed to be the same instance as an input
+                DMatrixBatch copyA = new DMatrixBatch(a);
+                invoke(name, a, b, a);
+                for (int k = 0; k < size; k++) {
+                    EjmlUnitTests.assertEquals(get(found, k), get(a, k), UtilEjml.TEST_F64);
+                }
+                invoke(name, copyA, b, b);
+                for (int k = 0; k < size; k++) {
+                    EjmlUnitTests.assertEquals(get(found, k), get(b, k), UtilEjml.TEST_F64);
+                }
+            }
+        }
+    }
+
+    @Test
+    void invert() {
+        if (!hasInverse())
+            return;
+
+        for (BatchLayout layout : BatchLayout.values()) {
+            DMatrixBatch a = createBatch(N, N, layout);
+            DMatrixBatch found = new DMatrixBatch(N, N, size, other(layout));
+
+            assertTrue((Boolean)invoke("invert", a, found));
+
+            for (int k = 0; k < size; k++) {
+                DMatrixRMaj expected = new DMatrixRMaj(N, N);
+                assertTrue(CommonOps_DDRM.invert(get(a, k), expected));
+                EjmlUnitTests.assertEquals(expected, get(found, k), UtilEjml.TEST_F64);
+            }
+
+            // one singular matrix should cause it to fail
+            a.set(2, new DMatrixRMaj(N, N));
+            assertFalse((Boolean)invoke("invert", a, found));
+        }
+    }
+
+    @Test
+    void solve() {
+        if (!hasInverse())
+            return;
+
+        for (BatchLayout layout : BatchLayout.values()) {
+            DMatrixBatch a = createBatch(N, N, layout);
+            DMatrixBatch b = createBatch(N, 1, other(layout));
+            DMatrixBatch found = new DMatrixBatch(N, 1, size, layout);
+
+            assertTrue((Boolean)invoke("solve", a, b, found));
+
+            for (int k = 0; k < size; k++) {
+                DMatrixRMaj expected = new DMatrixRMaj(N, 1);
+                assertTrue(CommonOps_DDRM.solve(get(a, k), get(b, k), expected));
+                EjmlUnitTests.assertEquals(expected, get(found, k), UtilEjml.TEST_F64);
+            }
+
+            // the solution can be written on top of b
+            invoke("solve", a, b, b);
+            for (int k = 0; k < size; k++) {
+                EjmlUnitTests.assertEquals(get(found, k), get(b, k), UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    @Test
+    void det() {
+        if (!hasInverse())
+            return;
+
+        for (BatchLayout layout : BatchLayout.values()) {
+            DMatrixBatch a = createBatch(N, N, layout);
+
+            double[] found = (double[])invoke("det", a, null);
+            assertEquals(size, found.length);
+
+            for (int k = 0; k < size; k++) {
+                assertEquals(CommonOps_DDRM.det(get(a, k)), found[k], UtilEjml.TEST_F64);
+            }
+
+            // should use the provided storage
+            double[] storage = new double[size + 2];
+            assertSame(storage, invoke("det", a, storage));
+            assertEquals(found[size - 1], storage[size - 1], UtilEjml.TEST_F64);
+        }
+    }
+
+    @Test
+    void cholL() {
+        CholeskyDecomposition_F64<DMatrixRMaj> chol = DecompositionFactory_DDRM.chol(N, true);
+
+        for (BatchLayout layout : BatchLayout.values()) {
+            DMatrixBatch a = new DMatrixBatch(N, N, size, layout);
+            for (int k = 0; k < size; k++) {
+                a.set(k, RandomMatrices_DDRM.symmetricPosDef(N, rand));
+            }
+            DMatrixBatch original = new DMatrixBatch(a);
+
+            assertTrue((Boolean)invoke("cholL", a));
+
+            for (int k = 0; k < size; k++) {
+                assertTrue(chol.decompose(get(original, k)));
+                EjmlUnitTests.assertEquals(chol.getT(null), get(a, k), UtilEjml.TEST_F64);
+            }
+
+            // not positive definite
+            DMatrixRMaj negative = RandomMatrices_DDRM.symmetricPosDef(N, rand);
+            CommonOps_DDRM.scale(-1, negative);
+            original.set(3, negative);
+            assertFalse((Boolean)invoke("cholL", original));
+        }
+    }
+
+    @Test
+    void checkShape() {
+        DMatrixBatch a = createBatch(N + 1, N, BatchLayout.AOS);
+        DMatrixBatch b = createBatch(N, N, BatchLayout.AOS);
+
+        try {
+            invoke("mult", a, b, b);
+            fail("Exception should have been thrown");
+        } catch (RuntimeException ignore) {}
+
+        // different number of matrices
+        a = new DMatrixBatch(N, N, size + 1);
+        try {
+            invoke("mult", a, b, b);
+            fail("Exception should have been thrown");
+        } catch (RuntimeException ignore) {}
+    }
+
+    /**
+     * Inverse, solve, and determinant are only provided for the same sizes as in CommonOps_DDF
+     */
+    private boolean hasInverse() {
+        boolean found = false;
+        for (Method m : classBatch.getMethods()) {
+            if (m.getName().equals("invert")) {
+                found = true;
+                break;
+            }
+        }
+        assertEquals(N <= UtilEjml.maxInverseSize, found);
+        return found;
+    }
+
+    private DMatrixBatch createBatch( int numRows, int numCols, BatchLayout layout ) {
+        DMatrixBatch batch = new DMatrixBatch(numRows, numCols, size, layout);
+        for (int k = 0; k < size; k++) {
+            batch.set(k, RandomMatrices_DDRM.rectangle(numRows, numCols, -1, 1, rand));
+        }
+        return batch;
+    }
+
+    private static DMatrixRMaj get( DMatrixBatch batch, int k ) {
+        DMatrixRMaj m = new DMatrixRMaj(batch.numRows, batch.numCols);
+        batch.get(k, m);
+        return m;
+    }
+
+    private static BatchLayout other( BatchLayout layout ) {
+        return layout == BatchLayout.AOS ? BatchLayout.SOA : BatchLayout.AOS;
+    }
+
+    private Object invoke( String name, Object... args ) {
+        for (Method m : classBatch.getMethods()) {
+            if (!m.getName().equals(name) || m.getParameterCount() != args.length)
+                continue;
+            try {
+                return m.invoke(null, args);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            } catch (InvocationTargetException e) {
+                throw (RuntimeException)e.getCause();
+            }
+        }
+        throw new RuntimeException("Can't find " + name);
+    }
+}
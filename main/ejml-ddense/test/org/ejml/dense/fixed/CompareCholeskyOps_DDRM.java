@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.dense.fixed;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixFixed;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.CholeskyDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the fixed sized Cholesky operations against the equivalent DDRM results
+ *
+ * @author Peter Abeles
+ */
+public abstract class CompareCholeskyOps_DDRM {
+    Random rand = new Random(234);
+
+    Class<?> classOps;
+    int N;
+
+    protected CompareCholeskyOps_DDRM( Class<?> classOps ) {
+        this.classOps = classOps;
+
+        String name = classOps.getName();
+        N = Integer.parseInt(name.charAt(name.length() - 1) + "");
+    }
+
+    @Test
+    void decompose() {
+        CholeskyDecomposition_F64<DMatrixRMaj> chol = DecompositionFactory_DDRM.chol(N, true);
+
+        DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(N, rand);
+        DMatrixFixed a = fixed(A);
+        DMatrixFixed L = matrix();
+
+        assertTrue((Boolean)invoke("decompose", a, L));
+        assertTrue(chol.decompose(A.copy()));
+        EjmlUnitTests.assertEquals(chol.getT(null), L, UtilEjml.TEST_F64);
+        // input should not be modified
+        EjmlUnitTests.assertEquals(A, a, 0.0);
+
+        // the output can be the same instance as the input
+        assertTrue((Boolean)invoke("decompose", a, a));
+        EjmlUnitTests.assertEquals(L, a, 0.0);
+
+        // not positive definite
+        CommonOps_DDRM.scale(-1, A);
+        assertFalse((Boolean)invoke("decompose", fixed(A), L));
+    }
+
+    @Test
+    void solve() {
+        DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(N, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(N, 1, -1, 1, rand);
+        DMatrixRMaj expected = new DMatrixRMaj(N, 1);
+        assertTrue(CommonOps_DDRM.solve(A, B, expected));
+
+        DMatrixFixed L = matrix();
+        DMatrixFixed b = fixed(B);
+        DMatrixFixed x = vector();
+        assertTrue((Boolean)invoke("decompose", fixed(A), L));
+
+        invoke("solve", L, b, x);
+        EjmlUnitTests.assertEquals(expected, x, UtilEjml.TEST_F64);
+
+        // the solution can be written on top of b
+        invoke("solve", L, b, b);
+        EjmlUnitTests.assertEquals(x, b, 0.0);
+    }
+
+    @Test
+    void invert() {
+        DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(N, rand);
+        DMatrixRMaj expected = new DMatrixRMaj(N, N);
+        assertTrue(CommonOps_DDRM.invert(A, expected));
+
+        DMatrixFixed L = matrix();
+        DMatrixFixed inv = matrix();
+        assertTrue((Boolean)invoke("decompose", fixed(A), L));
+
+        invoke("invert", L, inv);
+        EjmlUnitTests.assertEquals(expected, inv, UtilEjml.TEST_F64);
+
+        // the inverse can be written on top of L
+        invoke("invert", L, L);
+        EjmlUnitTests.assertEquals(inv, L, 0.0);
+    }
+
+    @Test
+    void det() {
+        DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(N, rand);
+
+        DMatrixFixed L = matrix();
+        assertTrue((Boolean)invoke("decompose", fixed(A), L));
+
+        double expected = CommonOps_DDRM.det(A);
+        assertEquals(expected, (Double)invoke("det", L), Math.abs(expected)*UtilEjml.TEST_F64);
+    }
+
+    private DMatrixFixed matrix() {
+        return create("org.ejml.data.DMatrix" + N + "x" + N);
+    }
+
+    private DMatrixFixed vector() {
+        return create("org.ejml.data.DMatrix" + N);
+    }
+
+    private DMatrixFixed fixed( DMatrixRMaj src ) {
+        DMatrixFixed dst = src.numCols == 1 ? vector() : matrix();
+        dst.set(src);
+        return dst;
+    }
+
+    private static DMatrixFixed create( String name ) {
+        try {
+            return (DMatrixFixed)Class.forName(name).getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Object invoke( String name, Object... args ) {
+        for (Method m : classOps.getMethods()) {
+            if (!m.getName().equals(name) || m.getParameterCount() != args.length)
+                continue;
+            try {
+                return m.invoke(null, args);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            } catch (InvocationTargetException e) {
+                throw (RuntimeException)e.getCause();
+            }
+        }
+        throw new RuntimeException("Can't find " + name);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.dense.fixed;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixFixed;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the fixed sized LU operations against the equivalent DDRM results
+ *
+ * @author Peter Abeles
+ */
+public abstract class CompareLUOps_DDRM {
+    Random rand = new Random(234);
+
+    Class<?> classOps;
+    int N;
+
+    protected CompareLUOps_DDRM( Class<?> classOps ) {
+        this.classOps = classOps;
+
+        String name = classOps.getName();
+        N = Integer.parseInt(name.charAt(name.length() - 1) + "");
+    }
+
+    @Test
+    void decompose() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(N, N, -1, 1, rand);
+        DMatrixFixed a = fixed(A);
+        DMatrixFixed LU = matrix();
+        int[] pivot = new int[N];
+
+        assertTrue((Boolean)invoke("decompose", a, LU, pivot));
+        // input should not be modified
+        EjmlUnitTests.assertEquals(A, a, 0.0);
+
+        // P*A = L*U
+        DMatrixRMaj L = new DMatrixRMaj(N, N);
+        DMatrixRMaj U = new DMatrixRMaj(N, N);
+        for (int i = 0; i < N; i++) {
+            for (int j = 0; j < N; j++) {
+                if (i > j)
+                    L.set(i, j, LU.get(i, j));
+                else
+                    U.set(i, j, LU.get(i, j));
+            }
+            L.set(i, i, 1.0);
+        }
+        DMatrixRMaj PA = A.copy();
+        for (int k = 0; k < N; k++) {
+            assertTrue(pivot[k] >= k && pivot[k] < N);
+            for (int j = 0; j < N; j++) {
+                double tmp = PA.get(k, j);
+                PA.set(k, j, PA.get(pivot[k], j));
+                PA.set(pivot[k], j, tmp);
+            }
+        }
+        EjmlUnitTests.assertEquals(PA, CommonOps_DDRM.mult(L, U, null), UtilEjml.TEST_F64);
+
+        // partial pivoting will ensure that all elements in L have a magnitude less than or equal to one
+        for (int i = 0; i < N; i++) {
+            for (int j = 0; j < i; j++) {
+                assertTrue(Math.abs(L.get(i, j)) <= 1.0);
+            }
+        }
+
+        // the output can be the same instance as the input
+        assertTrue((Boolean)invoke("decompose", a, a, pivot));
+        EjmlUnitTests.assertEquals(LU, a, 0.0);
+
+        // singular matrix
+        for (int j = 0; j < N; j++) {
+            A.set(1, j, 2.0*A.get(0, j));
+        }
+        assertFalse((Boolean)invoke("decompose", fixed(A), LU, pivot));
+    }
+
+    @Test
+    void solve() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(N, N, -1, 1, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(N, 1, -1, 1, rand);
+        DMatrixRMaj expected = new DMatrixRMaj(N, 1);
+        assertTrue(CommonOps_DDRM.solve(A, B, expected));
+
+        DMatrixFixed LU = matrix();
+        DMatrixFixed b = fixed(B);
+        DMatrixFixed x = vector();
+        int[] pivot = new int[N];
+        assertTrue((Boolean)invoke("decompose", fixed(A), LU, pivot));
+
+        invoke("solve", LU, pivot, b, x);
+        EjmlUnitTests.assertEquals(expected, x, UtilEjml.TEST_F64);
+
+        // the solution can be written on top of b
+        invoke("solve", LU, pivot, b, b);
+        EjmlUnitTests.assertEquals(x, b, 0.0);
+    }
+
+    @Test
+    void det() {
+        for (int trial = 0; trial < 10; trial++) {
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(N, N, -1, 1, rand);
+
+            DMatrixFixed LU = matrix();
+            int[] pivot = new int[N];
+            assertTrue((Boolean)invoke("decompose", fixed(A), LU, pivot));
+
+            double expected = CommonOps_DDRM.det(A);
+            assertEquals(expected, (Double)invoke("det", LU, pivot), UtilEjml.TEST_F64);
+        }
+    }
+
+    private DMatrixFixed matrix() {
+        return create("org.ejml.data.DMatrix" + N + "x" + N);
+    }
+
+    private DMatrixFixed vector() {
+        return create("org.ejml.data.DMatrix" + N);
+    }
+
+    private DMatrixFixed fixed( DMatrixRMaj src ) {
+        DMatrixFixed dst = src.numCols == 1 ? vector() : matrix();
+        dst.set(src);
+        return dst;
+    }
+
+    private static DMatrixFixed create( String name ) {
+        try {
+            return (DMatrixFixed)Class.forName(name).getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Object invoke( String name, Object... args ) {
+        for (Method m : classOps.getMethods()) {
+            if (!m.getName().equals(name) || m.getParameterCount() != args.length)
+                continue;
+            try {
+                return m.invoke(null, args);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            } catch (InvocationTargetException e) {
+                throw (RuntimeException)e.getCause();
+            }
+        }
+        throw new RuntimeException("Can't find " + name);
+    }
+}
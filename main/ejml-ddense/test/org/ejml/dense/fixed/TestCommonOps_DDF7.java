@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix7;
+import org.ejml.data.DMatrix7x7;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCommonOps_DDF7 extends CompareFixedToCommonOps_DDRM {
+
+    public TestCommonOps_DDF7() {
+        super(CommonOps_DDF7.class);
+    }
+
+    @Test
+    public void diag() {
+        DMatrix7x7 m = new DMatrix7x7();
+        for( int i = 0; i < 49; i++ )
+            m.set(i/7,i%7,i+1);
+        DMatrix7 found = new DMatrix7();
+
+        CommonOps_DDF7.diag(m,found);
+
+        assertEquals(1,found.a1, UtilEjml.TEST_F64);
+        assertEquals(9,found.a2,UtilEjml.TEST_F64);
+        assertEquals(17,found.a3,UtilEjml.TEST_F64);
+        assertEquals(25,found.a4,UtilEjml.TEST_F64);
+        assertEquals(33,found.a5,UtilEjml.TEST_F64);
+        assertEquals(41,found.a6,UtilEjml.TEST_F64);
+        assertEquals(49,found.a7,UtilEjml.TEST_F64);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix8;
+import org.ejml.data.DMatrix8x8;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCommonOps_DDF8 extends CompareFixedToCommonOps_DDRM {
+
+    public TestCommonOps_DDF8() {
+        super(CommonOps_DDF8.class);
+    }
+
+    @Test
+    public void diag() {
+        DMatrix8x8 m = new DMatrix8x8();
+        for( int i = 0; i < 64; i++ )
+            m.set(i/8,i%8,i+1);
+        DMatrix8 found = new DMatrix8();
+
+        CommonOps_DDF8.diag(m,found);
+
+        assertEquals(1,found.a1, UtilEjml.TEST_F64);
+        assertEquals(10,found.a2,UtilEjml.TEST_F64);
+        assertEquals(19,found.a3,UtilEjml.TEST_F64);
+        assertEquals(28,found.a4,UtilEjml.TEST_F64);
+        assertEquals(37,found.a5,UtilEjml.TEST_F64);
+        assertEquals(46,found.a6,UtilEjml.TEST_F64);
+        assertEquals(55,found.a7,UtilEjml.TEST_F64);
+        assertEquals(64,found.a8,UtilEjml.TEST_F64);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix9;
+import org.ejml.data.DMatrix9x9;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCommonOps_DDF9 extends CompareFixedToCommonOps_DDRM {
+
+    public TestCommonOps_DDF9() {
+        super(CommonOps_DDF9.class);
+    }
+
+    @Test
+    public void diag() {
+        DMatrix9x9 m = new DMatrix9x9();
+        for( int i = 0; i < 81; i++ )
+            m.set(i/9,i%9,i+1);
+        DMatrix9 found = new DMatrix9();
+
+        CommonOps_DDF9.diag(m,found);
+
+        assertEquals(1,found.a1, UtilEjml.TEST_F64);
+        assertEquals(11,found.a2,UtilEjml.TEST_F64);
+        assertEquals(21,found.a3,UtilEjml.TEST_F64);
+        assertEquals(31,found.a4,UtilEjml.TEST_F64);
+        assertEquals(41,found.a5,UtilEjml.TEST_F64);
+        assertEquals(51,found.a6,UtilEjml.TEST_F64);
+        assertEquals(61,found.a7,UtilEjml.TEST_F64);
+        assertEquals(71,found.a8,UtilEjml.TEST_F64);
+        assertEquals(81,found.a9,UtilEjml.TEST_F64);
+    }
+}
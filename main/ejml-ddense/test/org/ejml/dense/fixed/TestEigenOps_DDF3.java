@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.fixed;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix3;
+import org.ejml.data.DMatrix3x3;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestEigenOps_DDF3 {
+    Random rand = new Random(234);
+
+    @Test
+    void symmetric_random() {
+        for (int trial = 0; trial < 20; trial++) {
+            DMatrix3x3 A = randomSymmetric();
+
+            DMatrix3 values = new DMatrix3();
+            DMatrix3x3 vectors = new DMatrix3x3();
+            assertTrue(EigenOps_DDF3.symmetric(A, values, vectors));
+
+            checkDecomposition(A, values, vectors);
+            checkValues(A, values);
+        }
+    }
+
+    @Test
+    void symmetric_noVectors() {
+        DMatrix3x3 A = randomSymmetric();
+
+        DMatrix3 expected = new DMatrix3();
+        DMatrix3 found = new DMatrix3();
+        assertTrue(EigenOps_DDF3.symmetric(A, expected, new DMatrix3x3()));
+        assertTrue(EigenOps_DDF3.symmetric(A, found, null));
+
+        EjmlUnitTests.assertEquals(expected, found, 0.0);
+    }
+
+    /**
+     * Only the upper triangle should be read
+     */
+    @Test
+    void symmetric_upperOnly() {
+        DMatrix3x3 A = randomSymmetric();
+        DMatrix3x3 B = A.copy();
+        B.a21 = 100; B.a31 = -20; B.a32 = 5;
+
+        DMatrix3 expected = new DMatrix3();
+        DMatrix3 found = new DMatrix3();
+        EigenOps_DDF3.symmetric(A, expected, null);
+        EigenOps_DDF3.symmetric(B, found, null);
+        EjmlUnitTests.assertEquals(expected, found, 0.0);
+
+        EigenOps_DDF3.symmetricValues(A, expected);
+        EigenOps_DDF3.symmetricValues(B, found);
+        EjmlUnitTests.assertEquals(expected, found, 0.0);
+    }
+
+    @Test
+    void symmetric_repeated() {
+        // diagonal with repeated values
+        DMatrix3x3 A = new DMatrix3x3(2, 0, 0, 0, 5, 0, 0, 0, 2);
+        DMatrix3 values = new DMatrix3();
+        DMatrix3x3 vectors = new DMatrix3x3();
+        assertTrue(EigenOps_DDF3.symmetric(A, values, vectors));
+        checkDecomposition(A, values, vectors);
+        EjmlUnitTests.assertEquals(new DMatrix3(5, 2, 2), values, UtilEjml.TEST_F64);
+
+        EigenOps_DDF3.symmetricValues(A, values);
+        EjmlUnitTests.assertEquals(new DMatrix3(5, 2, 2), values, UtilEjml.TEST_F64);
+
+        // rotated matrix with a repeated eigenvalue
+        DMatrixRMaj Q = RandomMatrices_DDRM.orthogonal(3, 3, rand);
+        DMatrixRMaj D = CommonOps_DDRM.diag(3, 3, -1);
+        DMatrixRMaj R = new DMatrixRMaj(3, 3);
+        CommonOps_DDRM.multTransB(D, Q, R);
+        CommonOps_DDRM.mult(Q, R, D);
+        A.set(D);
+
+        assertTrue(EigenOps_DDF3.symmetric(A, values, vectors));
+        checkDecomposition(A, values, vectors);
+        EjmlUnitTests.assertEquals(new DMatrix3(3, 3, -1), values, UtilEjml.TEST_F64);
+
+        // the closed form solution loses precision when eigenvalues are repeated
+        EigenOps_DDF3.symmetricValues(A, values);
+        EjmlUnitTests.assertEquals(new DMatrix3(3, 3, -1), values, UtilEjml.TEST_F64_SQ);
+    }
+
+    @Test
+    void symmetricValues_random() {
+        for (int trial = 0; trial < 20; trial++) {
+            DMatrix3x3 A = randomSymmetric();
+
+            DMatrix3 values = new DMatrix3();
+            EigenOps_DDF3.symmetricValues(A, values);
+
+            checkValues(A, values);
+        }
+    }
+
+    private DMatrix3x3 randomSymmetric() {
+        DMatrix3x3 A = new DMatrix3x3();
+        A.set(RandomMatrices_DDRM.symmetric(3, -2, 2, rand));
+        return A;
+    }
+
+    /**
+     * Checks A*V = V*D and V'*V = I
+     */
+    private static void checkDecomposition( DMatrix3x3 A, DMatrix3 values, DMatrix3x3 vectors ) {
+        DMatrix3x3 AV = new DMatrix3x3();
+        DMatrix3x3 VD = new DMatrix3x3();
+        DMatrix3x3 D = new DMatrix3x3();
+        D.a11 = values.a1; D.a22 = values.a2; D.a33 = values.a3;
+        CommonOps_DDF3.mult(A, vectors, AV);
+        CommonOps_DDF3.mult(vectors, D, VD);
+        EjmlUnitTests.assertEquals(AV, VD, UtilEjml.TEST_F64);
+
+        DMatrix3x3 I = new DMatrix3x3();
+        CommonOps_DDF3.multTransA(vectors, vectors, I);
+        DMatrix3x3 expected = new DMatrix3x3();
+        CommonOps_DDF3.setIdentity(expected);
+        EjmlUnitTests.assertEquals(expected, I, UtilEjml.TEST_F64);
+
+        assertTrue(values.a1 >= values.a2 && values.a2 >= values.a3);
+    }
+
+    /**
+     * Compares the eigenvalues against the general purpose symmetric decomposition
+     */
+    private static void checkValues( DMatrix3x3 A, DMatrix3 values ) {
+        DMatrixRMaj M = new DMatrixRMaj(3, 3);
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                M.set(i, j, A.get(i, j));
+            }
+        }
+        assertTrue(MatrixFeatures_DDRM.isSymmetric(M));
+
+        EigenDecomposition_F64<DMatrixRMaj> eig = DecompositionFactory_DDRM.eig(3, false, true);
+        assertTrue(eig.decompose(M));
+        double[] expected = new double[3];
+        for (int i = 0; i < 3; i++) {
+            expected[i] = eig.getEigenvalue(i).real;
+        }
+        Arrays.sort(expected);
+
+        assertEquals(expected[2], values.a1, UtilEjml.TEST_F64);
+        assertEquals(expected[1], values.a2, UtilEjml.TEST_F64);
+        assertEquals(expected[0], values.a3, UtilEjml.TEST_F64);
+    }
+}
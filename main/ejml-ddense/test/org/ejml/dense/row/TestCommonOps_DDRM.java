@@ -632,6 +632,30 @@ public class TestCommonOps_DDRM {
         }
     }
 
+    /**
+     * The provided array is larger than the number of vectors
+     */
+    @Test
+    public void columnsToVectors_largerArray() {
+        DMatrixRMaj M = RandomMatrices_DDRM.rectangle(4, 5, rand);
+        DMatrixRMaj[] v = CommonOps_DDRM.columnsToVector(RandomMatrices_DDRM.rectangle(6, 7, rand), null);
+
+        assertTrue(v == CommonOps_DDRM.columnsToVector(M, v));
+        for (int i = 0; i < M.numCols; i++) {
+            for (int j = 0; j < M.numRows; j++) {
+                assertEquals(v[i].get(j), M.get(j, i), UtilEjml.TEST_F64);
+            }
+        }
+
+        v = CommonOps_DDRM.rowsToVector(RandomMatrices_DDRM.rectangle(7, 6, rand), null);
+        assertTrue(v == CommonOps_DDRM.rowsToVector(M, v));
+        for (int i = 0; i < M.numRows; i++) {
+            for (int j = 0; j < M.numCols; j++) {
+                assertEquals(v[i].get(j), M.get(i, j), UtilEjml.TEST_F64);
+            }
+        }
+    }
+
     @Test
     public void identity() {
         DMatrixRMaj A = CommonOps_DDRM.identity(4);
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.row.decomposition.bidiagonal;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.block.decomposition.bidiagonal.BidiagonalDecompositionHouseholder_DDRB;
+import org.ejml.interfaces.decomposition.BidiagonalDecomposition_F64;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBidiagonalDecomposition_DDRB_to_DDRM extends GenericBidiagonalCheck_DDRM {
+    @Override
+    protected BidiagonalDecomposition_F64<DMatrixRMaj> createQRDecomposition() {
+        // small block so that the test matrices are split into several blocks
+        return new BidiagonalDecomposition_DDRB_to_DDRM(new BidiagonalDecompositionHouseholder_DDRB(), 3);
+    }
+}
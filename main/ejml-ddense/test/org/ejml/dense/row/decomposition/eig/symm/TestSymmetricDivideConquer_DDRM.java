@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.row.decomposition.eig.symm;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.NormOps_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSymmetricDivideConquer_DDRM {
+    Random rand = new Random(234);
+
+    @Test
+    void random() {
+        for (int N : new int[]{1, 2, 3, 7, 20, 64, 150}) {
+            double[] diag = new double[N];
+            double[] off = new double[N];
+            for (int i = 0; i < N; i++) {
+                diag[i] = (double)rand.nextGaussian();
+                off[i] = (double)rand.nextGaussian();
+            }
+            check(createAlg(4), diag, off, N);
+        }
+    }
+
+    /**
+     * Wilkinson's matrix has pairs of eigenvalues which are very close together and will cause values to
+     * be deflated
+     */
+    @Test
+    void wilkinson() {
+        int N = 41;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = Math.abs(i - N/2);
+            off[i] = 1;
+        }
+        check(createAlg(3), diag, off, N);
+    }
+
+    /**
+     * Clusters of repeated eigenvalues and off diagonal elements which are zero
+     */
+    @Test
+    void repeatedAndDecoupled() {
+        int N = 60;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = i%3 == 0 ? 1.0 : 2.0;
+            off[i] = i%7 == 0 ? 0.0 : 1e-9*i;
+        }
+        check(createAlg(2), diag, off, N);
+
+        // All zeros and a diagonal matrix
+        check(createAlg(2), new double[N], new double[N], N);
+        for (int i = 0; i < N; i++) {
+            diag[i] = N - i;
+        }
+        check(createAlg(2), diag, new double[N], N);
+    }
+
+    /**
+     * Negative off diagonal elements results in the problem being negated when merging
+     */
+    @Test
+    void negativeCoupling() {
+        int N = 30;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = rand.nextDouble();
+            off[i] = -1 - rand.nextDouble();
+        }
+        check(createAlg(3), diag, off, N);
+    }
+
+    /**
+     * A wide range of magnitudes
+     */
+    @Test
+    void graded() {
+        int N = 40;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = Math.pow(10, -i/4.0);
+            off[i] = 0.5*Math.pow(10, -i/4.0 - 0.1);
+        }
+        check(createAlg(4), diag, off, N);
+    }
+
+    @Test
+    void sortIndexes() {
+        double[] values = new double[50];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rand.nextInt(10);
+        }
+        int[] indexes = new int[values.length];
+        SymmetricDivideConquer_DDRM.sortIndexes(values, indexes, values.length);
+        for (int i = 1; i < values.length; i++) {
+            assertTrue(values[indexes[i - 1]] <= values[indexes[i]]);
+        }
+    }
+
+    protected SymmetricDivideConquer_DDRM createAlg( int leafSize ) {
+        var alg = new SymmetricDivideConquer_DDRM();
+        alg.setLeafSize(leafSize);
+        return alg;
+    }
+
+    /**
+     * Checks that the eigenvalues are sorted, eigenvectors are orthogonal, and T*V = V*D
+     */
+    void check( SymmetricDivideConquer_DDRM alg, double[] diag, double[] off, int N ) {
+        double[] diagOrig = diag.clone();
+        double[] offOrig = off.clone();
+        assertTrue(alg.process(diag, off, N));
+        assertArrayEquals(diagOrig, diag, 0.0);
+        assertArrayEquals(offOrig, off, 0.0);
+
+        var T = new DMatrixRMaj(N, N);
+        for (int i = 0; i < N; i++) {
+            T.set(i, i, diag[i]);
+            if (i + 1 < N) {
+                T.set(i, i + 1, off[i]);
+                T.set(i + 1, i, off[i]);
+            }
+        }
+
+        double[] values = alg.getEigenvalues();
+        DMatrixRMaj V = alg.getEigenvectors();
+        for (int i = 1; i < N; i++) {
+            assertTrue(values[i - 1] <= values[i]);
+        }
+
+        DMatrixRMaj VtV = CommonOps_DDRM.multTransA(V, V, null);
+        assertTrue(MatrixFeatures_DDRM.isIdentity(VtV, UtilEjml.TEST_F64*N));
+
+        DMatrixRMaj TV = CommonOps_DDRM.mult(T, V, null);
+        DMatrixRMaj VD = V.copy();
+        for (int col = 0; col < N; col++) {
+            for (int row = 0; row < N; row++) {
+                VD.data[row*N + col] *= values[col];
+            }
+        }
+        double scale = Math.max(1.0, NormOps_DDRM.normF(T));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(TV, VD, UtilEjml.TEST_F64*N*scale));
+    }
+}
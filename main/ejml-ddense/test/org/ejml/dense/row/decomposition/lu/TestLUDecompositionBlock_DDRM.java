@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.lu;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLUDecompositionBlock_DDRM extends GeneralLuDecompositionChecks_DDRM {
+    Random rand = new Random(234);
+
+    @Override
+    public LUDecompositionBase_DDRM create( int numRows, int numCols ) {
+        // small block so that the test matrices are split into several blocks
+        return new LUDecompositionBlock_DDRM(2);
+    }
+
+    /**
+     * Pivots are selected the same way as the unblocked algorithm, so the results should be the same up to
+     * round off error
+     */
+    @Test
+    void compareToAlt() {
+        int[][] shapes = {{40, 40}, {45, 30}, {30, 45}, {7, 7}};
+        for (int[] shape : shapes) {
+            for (int blockWidth : new int[]{1, 5, 16, 100}) {
+                DMatrixRMaj A = RandomMatrices_DDRM.rectangle(shape[0], shape[1], -1, 1, rand);
+
+                var expected = new LUDecompositionAlt_DDRM();
+                var found = new LUDecompositionBlock_DDRM(blockWidth);
+                // the tile width is made small to ensure the trailing matrix is split up
+                found.tileWidth = 7;
+
+                assertTrue(expected.decompose(A));
+                assertTrue(found.decompose(A));
+
+                assertTrue(MatrixFeatures_DDRM.isIdentical(expected.getLU(), found.getLU(), UtilEjml.TEST_F64));
+                assertArrayEquals(expected.getRowPivotV(null), found.getRowPivotV(null));
+                assertArrayEquals(expected.getIndx(), found.getIndx());
+                if (shape[0] == shape[1])
+                    assertEquals(expected.computeDeterminant().real, found.computeDeterminant().real,
+                            UtilEjml.TEST_F64*Math.abs(expected.computeDeterminant().real));
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.lu;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLUDecompositionBlock_MT_DDRM extends GeneralLuDecompositionChecks_DDRM {
+    @Override
+    public LUDecompositionBase_DDRM create( int numRows, int numCols ) {
+        return new LUDecompositionBlock_MT_DDRM(2);
+    }
+
+    /**
+     * Each element is computed with the same operations so the results should be identical
+     */
+    @Test
+    void compare() {
+        int blockLength = 13;
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(150, 140, -1, 1, new Random(234));
+
+        var single = new LUDecompositionBlock_DDRM(blockLength);
+        var concurrent = new LUDecompositionBlock_MT_DDRM(blockLength);
+
+        assertTrue(single.decompose(A));
+        assertTrue(concurrent.decompose(A));
+
+        assertTrue(MatrixFeatures_DDRM.isIdentical(single.getLU(), concurrent.getLU(), 0.0));
+        assertArrayEquals(single.getRowPivotV(null), concurrent.getRowPivotV(null));
+    }
+}
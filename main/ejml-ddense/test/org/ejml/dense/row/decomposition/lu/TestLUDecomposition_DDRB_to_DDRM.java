@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.row.decomposition.lu;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.block.decomposition.lu.LUDecompositionPivot_DDRB;
+import org.ejml.interfaces.decomposition.LUDecomposition;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLUDecomposition_DDRB_to_DDRM extends GeneralLuDecompositionChecks_DDRM {
+    @Override
+    public LUDecomposition<DMatrixRMaj> create( int numRows, int numCols ) {
+        // small block so that the test matrices are split into several blocks
+        return new LUDecomposition_DDRB_to_DDRM(new LUDecompositionPivot_DDRB(), 2);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.UtilTestMatrix;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.decomposition.svd.divconq.SvdDivideConquerAlgorithm_DDRM;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSvdDivideConquerDecompose_DDRM extends StandardSvdChecks_DDRM {
+
+    boolean compact;
+    boolean needU = true;
+    boolean needV = true;
+    // small leaves so that the standard tests exercise merging
+    int leafSize = 2;
+
+    @Override
+    public SingularValueDecomposition_F64 createSvd() {
+        var divide = new SvdDivideConquerAlgorithm_DDRM();
+        divide.setLeafSize(leafSize);
+        return new SvdDivideConquerDecompose_DDRM(compact, needU, needV, false, divide);
+    }
+
+    @Test
+    public void checkCompact() {
+        compact = true;
+        allTests();
+    }
+
+    @Test
+    public void checkNotCompact() {
+        compact = false;
+        allTests();
+    }
+
+    @Test
+    public void checkDefaultLeafSize() {
+        leafSize = new SvdDivideConquerAlgorithm_DDRM().getLeafSize();
+        compact = false;
+        allTests();
+    }
+
+    /**
+     * Only compute some of the components and see if the singular values are the same
+     */
+    @Test
+    public void checkPartial() {
+        for (int[] shape : new int[][]{{5, 5}, {7, 5}, {5, 7}, {30, 5}, {5, 30}}) {
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(shape[0], shape[1], -1, 1, rand);
+
+            needU = true;
+            needV = true;
+            SingularValueDecomposition_F64<DMatrixRMaj> alg = createSvd();
+            assertTrue(alg.decompose(A.copy()));
+            double[] expected = alg.getSingularValues().clone();
+
+            for (int i = 0; i < 3; i++) {
+                needU = i != 1;
+                needV = i != 0;
+                if (i == 2)
+                    needU = needV = false;
+                alg = createSvd();
+                assertTrue(alg.decompose(A.copy()));
+                UtilTestMatrix.checkSameElements(UtilEjml.TEST_F64, alg.numberOfSingularValues(), expected,
+                        alg.getSingularValues());
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSvdDivideConquerDecompose_MT_DDRM extends StandardSvdChecks_DDRM {
+
+    boolean compact;
+
+    @Override
+    public SingularValueDecomposition_F64 createSvd() {
+        return new SvdDivideConquerDecompose_MT_DDRM(compact, true, true, false);
+    }
+
+    @Test
+    public void checkCompact() {
+        compact = true;
+        allTests();
+    }
+
+    @Test
+    public void checkNotCompact() {
+        compact = false;
+        allTests();
+    }
+
+    @Test
+    public void compareToSingle() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(150, 120, -1, 1, rand);
+
+        var single = new SvdDivideConquerDecompose_DDRM(false, true, true, false);
+        var concurrent = new SvdDivideConquerDecompose_MT_DDRM(false, true, true, false);
+        assertTrue(single.decompose(A.copy()));
+        assertTrue(concurrent.decompose(A.copy()));
+
+        assertTrue(MatrixFeatures_DDRM.isIdentical(single.getU(null, false), concurrent.getU(null, false), UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(single.getV(null, false), concurrent.getV(null, false), UtilEjml.TEST_F64));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.SingularOps_DDRM;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSvdRandomized_DDRM {
+    Random rand = new Random(234);
+
+    protected SvdRandomized_DDRM createSvd( int rank, int oversampling, int powerIterations ) {
+        return new SvdRandomized_DDRM(rank, oversampling, powerIterations, new Random(234));
+    }
+
+    /**
+     * If the matrix has the same rank as what's requested the decomposition should be exact
+     */
+    @Test
+    public void exactLowRank() {
+        for (int[] shape : new int[][]{{40, 30}, {30, 40}, {25, 25}}) {
+            DMatrixRMaj A = RandomMatrices_DDRM.singular(shape[0], shape[1], rand, 5.0, 4.0, 3.0, 2.0, 1.0);
+
+            SvdRandomized_DDRM alg = createSvd(5, 5, 0);
+            assertTrue(alg.decompose(A));
+            assertEquals(5, alg.numberOfSingularValues());
+
+            double[] sv = alg.getSingularValues();
+            for (int i = 0; i < 5; i++) {
+                assertEquals(5.0 - i, sv[i], UtilEjml.TEST_F64);
+            }
+            checkComponents(alg, A, shape[0], shape[1], UtilEjml.TEST_F64);
+        }
+    }
+
+    /**
+     * Compare against a full SVD when the singular values decay
+     */
+    @Test
+    public void compareToFullSvd() {
+        int rows = 60, cols = 45;
+        double[] values = new double[cols];
+        for (int i = 0; i < cols; i++) {
+            values[i] = Math.pow(0.5, i);
+        }
+        DMatrixRMaj A = RandomMatrices_DDRM.singular(rows, cols, rand, values);
+
+        SvdRandomized_DDRM alg = createSvd(6, 10, 2);
+        assertTrue(alg.decompose(A));
+        double[] found = alg.getSingularValues();
+        for (int i = 0; i < 6; i++) {
+            assertEquals(values[i], found[i], UtilEjml.TEST_F64);
+        }
+
+        // Singular vectors should match up to their sign
+        SingularValueDecomposition_F64<DMatrixRMaj> full = new SvdImplicitQrDecompose_DDRM(true, true, true, false);
+        assertTrue(full.decompose(A.copy()));
+        DMatrixRMaj U = full.getU(null, false);
+        DMatrixRMaj W = full.getW(null);
+        SingularOps_DDRM.descendingOrder(U, false, W, null, false);
+        DMatrixRMaj foundU = alg.getU(null, false);
+        for (int col = 0; col < 6; col++) {
+            double dot = 0;
+            for (int row = 0; row < rows; row++) {
+                dot += U.get(row, col)*foundU.get(row, col);
+            }
+            assertEquals(1.0, Math.abs(dot), 100*UtilEjml.TEST_F64);
+        }
+    }
+
+    /**
+     * Request more singular values than the matrix can have
+     */
+    @Test
+    public void rankLargerThanMatrix() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(12, 7, -1, 1, rand);
+
+        SvdRandomized_DDRM alg = createSvd(10, 5, 1);
+        assertTrue(alg.decompose(A));
+        assertEquals(7, alg.numberOfSingularValues());
+        checkComponents(alg, A, 12, 7, UtilEjml.TEST_F64);
+
+        for (int i = 1; i < 7; i++) {
+            assertTrue(alg.getSingularValues()[i - 1] >= alg.getSingularValues()[i]);
+        }
+    }
+
+    /**
+     * The input matrix should not be modified
+     */
+    @Test
+    public void inputNotModified() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(20, 15, -1, 1, rand);
+        DMatrixRMaj original = A.copy();
+
+        SvdRandomized_DDRM alg = createSvd(3, 4, 1);
+        assertTrue(alg.decompose(A));
+        assertFalse(alg.inputModified());
+        assertTrue(MatrixFeatures_DDRM.isIdentical(original, A, 0));
+    }
+
+    /**
+     * Use an operator instead of a matrix
+     */
+    @Test
+    public void decompose_operator() {
+        DMatrixRMaj A = RandomMatrices_DDRM.singular(30, 20, rand, 3.0, 2.0, 1.0);
+
+        var operator = new SvdRandomized_DDRM.Operator() {
+            @Override public void mult( DMatrixRMaj B, DMatrixRMaj output ) {CommonOps_DDRM.mult(A, B, output);}
+
+            @Override public void multTransA( DMatrixRMaj B, DMatrixRMaj output ) {CommonOps_DDRM.multTransA(A, B, output);}
+        };
+
+        SvdRandomized_DDRM alg = createSvd(3, 2, 0);
+        assertTrue(alg.decompose(30, 20, operator));
+        checkComponents(alg, A, 30, 20, UtilEjml.TEST_F64);
+    }
+
+    /**
+     * Checks the shape of each component, orthogonality, and that it reconstructs the input
+     */
+    public static void checkComponents( SingularValueDecomposition_F64<DMatrixRMaj> alg, DMatrixRMaj A,
+                                        int rows, int cols, double tol ) {
+        int N = alg.numberOfSingularValues();
+        DMatrixRMaj U = alg.getU(null, false);
+        DMatrixRMaj V = alg.getV(null, false);
+        DMatrixRMaj W = alg.getW(null);
+
+        assertEquals(rows, U.numRows);
+        assertEquals(N, U.numCols);
+        assertEquals(cols, V.numRows);
+        assertEquals(N, V.numCols);
+        assertTrue(MatrixFeatures_DDRM.isOrthogonal(U, tol));
+        assertTrue(MatrixFeatures_DDRM.isOrthogonal(V, tol));
+
+        DMatrixRMaj Vt = alg.getV(null, true);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(CommonOps_DDRM.transpose(V, null), Vt, 0));
+
+        DMatrixRMaj found = new DMatrixRMaj(rows, cols);
+        DMatrixRMaj UW = CommonOps_DDRM.mult(U, W, null);
+        CommonOps_DDRM.mult(UW, Vt, found);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, found, tol));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSvdRandomized_MT_DDRM extends TestSvdRandomized_DDRM {
+    @Override
+    protected SvdRandomized_DDRM createSvd( int rank, int oversampling, int powerIterations ) {
+        return new SvdRandomized_MT_DDRM(rank, oversampling, powerIterations, new Random(234));
+    }
+
+    @Test
+    public void compareToSingle() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(150, 120, -1, 1, rand);
+
+        var single = new SvdRandomized_DDRM(10, 5, 2, new Random(3));
+        var concurrent = new SvdRandomized_MT_DDRM(10, 5, 2, new Random(3));
+        assertTrue(single.decompose(A));
+        assertTrue(concurrent.decompose(A));
+
+        assertTrue(MatrixFeatures_DDRM.isIdentical(single.getU(null, false), concurrent.getU(null, false), UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(single.getV(null, false), concurrent.getV(null, false), UtilEjml.TEST_F64));
+    }
+}
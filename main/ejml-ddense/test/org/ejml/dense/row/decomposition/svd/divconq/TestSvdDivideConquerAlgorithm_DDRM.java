@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd.divconq;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.NormOps_DDRM;
+import org.ejml.dense.row.decomposition.svd.implicitqr.SvdImplicitQrAlgorithm_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSvdDivideConquerAlgorithm_DDRM {
+    Random rand = new Random(234);
+
+    @Test
+    void random() {
+        for (int N : new int[]{1, 2, 3, 4, 7, 20, 64, 150}) {
+            double[] diag = new double[N];
+            double[] off = new double[N];
+            for (int i = 0; i < N; i++) {
+                diag[i] = (double)rand.nextGaussian();
+                off[i] = (double)rand.nextGaussian();
+            }
+            for (int leafSize : new int[]{1, 2, 4}) {
+                check(createAlg(leafSize), diag, off, N);
+            }
+        }
+    }
+
+    /**
+     * Every leaf is given a single row, which makes every merge have an extra column
+     */
+    @Test
+    void allLeavesSizeOne() {
+        int N = 31;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = 1 + rand.nextDouble();
+            off[i] = 1 + rand.nextDouble();
+        }
+        check(createAlg(1), diag, off, N);
+    }
+
+    /**
+     * Clusters of repeated singular values, elements which are zero, and a singular matrix
+     */
+    @Test
+    void repeatedAndDecoupled() {
+        int N = 60;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = i%3 == 0 ? 1.0 : 2.0;
+            off[i] = i%7 == 0 ? 0.0 : 1e-9*i;
+        }
+        check(createAlg(2), diag, off, N);
+
+        // All zeros and a diagonal matrix
+        check(createAlg(2), new double[N], new double[N], N);
+        for (int i = 0; i < N; i++) {
+            diag[i] = N - i;
+        }
+        check(createAlg(2), diag, new double[N], N);
+
+        // Zeros along the diagonal make it singular
+        for (int i = 0; i < N; i++) {
+            diag[i] = i%5 == 0 ? 0.0 : (double)rand.nextGaussian();
+            off[i] = (double)rand.nextGaussian();
+        }
+        check(createAlg(3), diag, off, N);
+    }
+
+    /**
+     * A wide range of magnitudes
+     */
+    @Test
+    void graded() {
+        int N = 40;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = Math.pow(10, -i/4.0);
+            off[i] = 0.5*Math.pow(10, -i/4.0 - 0.1);
+        }
+        check(createAlg(4), diag, off, N);
+    }
+
+    /**
+     * Compare the found singular values against the implicit QR algorithm
+     */
+    @Test
+    void compareToQR() {
+        int N = 80;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = (double)rand.nextGaussian();
+            off[i] = (double)rand.nextGaussian();
+        }
+        SvdDivideConquerAlgorithm_DDRM alg = createAlg(5);
+        assertTrue(alg.process(diag, off, N));
+
+        var qr = new SvdImplicitQrAlgorithm_DDRM();
+        qr.setMatrix(N, N, diag.clone(), off.clone());
+        assertTrue(qr.process());
+        double[] expected = new double[N];
+        for (int i = 0; i < N; i++) {
+            expected[i] = Math.abs(qr.getSingularValue(i));
+        }
+        Arrays.sort(expected);
+
+        for (int i = 0; i < N; i++) {
+            assertEquals(expected[i], alg.getSingularValues()[i], UtilEjml.TEST_F64);
+        }
+    }
+
+    @Test
+    void backTransform() {
+        int N = 20;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = (double)rand.nextGaussian();
+            off[i] = (double)rand.nextGaussian();
+        }
+        SvdDivideConquerAlgorithm_DDRM alg = createAlg(4);
+        assertTrue(alg.process(diag, off, N));
+
+        // Q has more columns than the bidiagonal matrix. The extra columns should be copied
+        var Q = new DMatrixRMaj(30, 30);
+        for (int i = 0; i < Q.data.length; i++) {
+            Q.data[i] = (double)rand.nextGaussian();
+        }
+        var found = new DMatrixRMaj(1, 1);
+        alg.backTransformU(Q, found);
+
+        DMatrixRMaj expected = CommonOps_DDRM.mult(CommonOps_DDRM.extract(Q, 0, 30, 0, N), alg.getU(), null);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, CommonOps_DDRM.extract(found, 0, 30, 0, N),
+                UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(CommonOps_DDRM.extract(Q, 0, 30, N, 30),
+                CommonOps_DDRM.extract(found, 0, 30, N, 30), 0.0));
+
+        alg.backTransformV(CommonOps_DDRM.extract(Q, 0, 30, 0, N), found);
+        expected = CommonOps_DDRM.mult(CommonOps_DDRM.extract(Q, 0, 30, 0, N), alg.getV(), null);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+    }
+
+    @Test
+    void sortIndexes() {
+        double[] values = new double[50];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rand.nextInt(10);
+        }
+        int[] indexes = new int[values.length];
+        SvdDivideConquerAlgorithm_DDRM.sortIndexes(values, indexes, values.length);
+        for (int i = 1; i < values.length; i++) {
+            assertTrue(values[indexes[i - 1]] <= values[indexes[i]]);
+        }
+    }
+
+    protected SvdDivideConquerAlgorithm_DDRM createAlg( int leafSize ) {
+        var alg = new SvdDivideConquerAlgorithm_DDRM();
+        alg.setLeafSize(leafSize);
+        return alg;
+    }
+
+    /**
+     * Checks that the singular values are sorted and not negative, singular vectors are orthogonal,
+     * and B = U*S*V<sup>T</sup>
+     */
+    void check( SvdDivideConquerAlgorithm_DDRM alg, double[] diag, double[] off, int N ) {
+        double[] diagOrig = diag.clone();
+        double[] offOrig = off.clone();
+        assertTrue(alg.process(diag, off, N));
+        assertArrayEquals(diagOrig, diag, 0.0);
+        assertArrayEquals(offOrig, off, 0.0);
+
+        var B = new DMatrixRMaj(N, N);
+        for (int i = 0; i < N; i++) {
+            B.set(i, i, diag[i]);
+            if (i + 1 < N)
+                B.set(i, i + 1, off[i]);
+        }
+
+        double[] values = alg.getSingularValues();
+        DMatrixRMaj U = alg.getU();
+        DMatrixRMaj V = alg.getV();
+        assertTrue(values[0] >= 0);
+        for (int i = 1; i < N; i++) {
+            assertTrue(values[i - 1] <= values[i]);
+        }
+
+        assertTrue(MatrixFeatures_DDRM.isIdentity(CommonOps_DDRM.multTransA(U, U, null), UtilEjml.TEST_F64*N));
+        assertTrue(MatrixFeatures_DDRM.isIdentity(CommonOps_DDRM.multTransA(V, V, null), UtilEjml.TEST_F64*N));
+
+        DMatrixRMaj US = U.copy();
+        for (int col = 0; col < N; col++) {
+            for (int row = 0; row < N; row++) {
+                US.data[row*N + col] *= values[col];
+            }
+        }
+        DMatrixRMaj found = CommonOps_DDRM.multTransB(US, V, null);
+        double scale = Math.max(1.0, NormOps_DDRM.normF(B));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(B, found, UtilEjml.TEST_F64*N*scale));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd.divconq;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSvdDivideConquerAlgorithm_MT_DDRM extends TestSvdDivideConquerAlgorithm_DDRM {
+    @Override
+    protected SvdDivideConquerAlgorithm_DDRM createAlg( int leafSize ) {
+        var alg = new SvdDivideConquerAlgorithm_MT_DDRM();
+        alg.setLeafSize(leafSize);
+        return alg;
+    }
+
+    @Test
+    void compareToSingle() {
+        int N = 200;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = (double)rand.nextGaussian();
+            off[i] = (double)rand.nextGaussian();
+        }
+
+        var single = new SvdDivideConquerAlgorithm_DDRM();
+        var concurrent = new SvdDivideConquerAlgorithm_MT_DDRM();
+        assertTrue(single.process(diag, off, N));
+        assertTrue(concurrent.process(diag, off, N));
+
+        for (int i = 0; i < N; i++) {
+            assertEquals(single.getSingularValues()[i], concurrent.getSingularValues()[i], UtilEjml.TEST_F64);
+        }
+        assertTrue(MatrixFeatures_DDRM.isIdentical(single.getU(), concurrent.getU(), UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(single.getV(), concurrent.getV(), UtilEjml.TEST_F64));
+    }
+}
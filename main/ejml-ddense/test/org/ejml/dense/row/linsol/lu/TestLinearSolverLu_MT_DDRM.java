@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.linsol.lu;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionAlt_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionBlock_MT_DDRM;
+import org.ejml.dense.row.linsol.GenericLinearSolverChecks_DDRM;
+import org.ejml.interfaces.linsol.LinearSolverDense;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearSolverLu_MT_DDRM extends GenericLinearSolverChecks_DDRM {
+
+    public TestLinearSolverLu_MT_DDRM() {
+        shouldWorkRectangle = true;
+        shouldFailSingular = false;
+    }
+
+    @Override
+    protected LinearSolverDense<DMatrixRMaj> createSolver( DMatrixRMaj A ) {
+        return new LinearSolverLu_MT_DDRM(new LUDecompositionBlock_MT_DDRM(3));
+    }
+
+    @Override
+    public void rectangular() {
+        // it kinda works on rectangular matrices. skip this test
+    }
+
+    @Test
+    void compareToSingleThread() {
+        var rand = new Random(234);
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(80, 80, -1, 1, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(80, 35, -1, 1, rand);
+
+        var single = new LinearSolverLu_DDRM(new LUDecompositionAlt_DDRM());
+        var concurrent = new LinearSolverLu_MT_DDRM(new LUDecompositionBlock_MT_DDRM(16));
+
+        assertTrue(single.setA(A));
+        assertTrue(concurrent.setA(A));
+
+        DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+        DMatrixRMaj found = new DMatrixRMaj(1, 1);
+        single.solve(B, expected);
+        concurrent.solve(B, found);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+
+        expected.reshape(80, 80);
+        found.reshape(80, 80);
+        single.invert(expected);
+        concurrent.invert(found);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.mult;
+
+import org.ejml.EjmlParameters;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMatrixMatrixMultPacked_DDRM {
+    Random rand = new Random(234);
+
+    int blockM, blockK, blockN;
+
+    /**
+     * Use small blocks so that the edge cases are tested with small matrices
+     */
+    @BeforeEach void setBlocks() {
+        blockM = EjmlParameters.MULT_PACKED_BLOCK_M;
+        blockK = EjmlParameters.MULT_PACKED_BLOCK_K;
+        blockN = EjmlParameters.MULT_PACKED_BLOCK_N;
+        EjmlParameters.MULT_PACKED_BLOCK_M = 8;
+        EjmlParameters.MULT_PACKED_BLOCK_K = 5;
+        EjmlParameters.MULT_PACKED_BLOCK_N = 12;
+    }
+
+    @AfterEach void restoreBlocks() {
+        EjmlParameters.MULT_PACKED_BLOCK_M = blockM;
+        EjmlParameters.MULT_PACKED_BLOCK_K = blockK;
+        EjmlParameters.MULT_PACKED_BLOCK_N = blockN;
+    }
+
+    /**
+     * Compare against a simple algorithm for a variety of shapes which are and are not a multiple of the block size
+     */
+    @Test void mult() {
+        int[] sizes = {1, 3, 4, 5, 8, 11, 12, 13, 25};
+        for (int numRows : sizes) {
+            for (int numInner : sizes) {
+                for (int numCols : sizes) {
+                    DMatrixRMaj A = RandomMatrices_DDRM.rectangle(numRows, numInner, -1, 1, rand);
+                    DMatrixRMaj B = RandomMatrices_DDRM.rectangle(numInner, numCols, -1, 1, rand);
+
+                    DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+                    MatrixMatrixMult_DDRM.mult_small(A, B, expected);
+
+                    // fill with garbage to make sure the old values are ignored
+                    DMatrixRMaj found = RandomMatrices_DDRM.rectangle(numRows, numCols, -1, 1, rand);
+                    MatrixMatrixMultPacked_DDRM.mult(A, B, found);
+                    assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+
+                    MatrixMatrixMult_DDRM.mult_small(1.5, A, B, expected);
+                    MatrixMatrixMultPacked_DDRM.mult(1.5, A, B, found);
+                    assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+                }
+            }
+        }
+    }
+
+    /**
+     * The result is independent of the block size
+     */
+    @Test void blockSizeNotMultipleOfKernel() {
+        EjmlParameters.MULT_PACKED_BLOCK_M = 3;
+        EjmlParameters.MULT_PACKED_BLOCK_K = 1;
+        EjmlParameters.MULT_PACKED_BLOCK_N = 7;
+
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(17, 9, -1, 1, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(9, 22, -1, 1, rand);
+
+        DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+        MatrixMatrixMult_DDRM.mult_reorder(A, B, expected);
+        DMatrixRMaj found = new DMatrixRMaj(1, 1);
+        MatrixMatrixMultPacked_DDRM.mult(A, B, found);
+
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+    }
+
+    @Test void zeroRowsColumns() {
+        DMatrixRMaj A = new DMatrixRMaj(5, 0);
+        DMatrixRMaj B = new DMatrixRMaj(0, 6);
+        DMatrixRMaj C = RandomMatrices_DDRM.rectangle(5, 6, -1, 1, rand);
+        MatrixMatrixMultPacked_DDRM.mult(A, B, C);
+        assertTrue(MatrixFeatures_DDRM.isZeros(C, 0.0));
+
+        A = new DMatrixRMaj(0, 5);
+        B = new DMatrixRMaj(5, 0);
+        MatrixMatrixMultPacked_DDRM.mult(A, B, C);
+        assertTrue(C.numRows == 0 && C.numCols == 0);
+    }
+
+    @Test void checkInputInstance() {
+        DMatrixRMaj A = new DMatrixRMaj(2, 2);
+        DMatrixRMaj B = new DMatrixRMaj(2, 2);
+        assertThrows(IllegalArgumentException.class, () -> MatrixMatrixMultPacked_DDRM.mult(A, B, A));
+        assertThrows(IllegalArgumentException.class, () -> MatrixMatrixMultPacked_DDRM.mult(A, B, B));
+    }
+
+    /**
+     * Make sure CommonOps_DDRM switches to the packed algorithm for large matrices
+     */
+    @Test void commonOpsSwitch() {
+        int original = EjmlParameters.MULT_PACKED_SWITCH;
+        try {
+            EjmlParameters.MULT_PACKED_SWITCH = 10;
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(20, 15, -1, 1, rand);
+            DMatrixRMaj B = RandomMatrices_DDRM.rectangle(15, 30, -1, 1, rand);
+
+            DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+            MatrixMatrixMult_DDRM.mult_small(A, B, expected);
+            DMatrixRMaj found = CommonOps_DDRM.mult(A, B, null);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+        } finally {
+            EjmlParameters.MULT_PACKED_SWITCH = original;
+        }
+    }
+}
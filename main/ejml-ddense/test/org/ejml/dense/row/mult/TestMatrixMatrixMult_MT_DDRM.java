@@ -19,6 +19,15 @@
 package org.ejml.dense.row.mult;
 
 import org.ejml.CheckMultiThreadAgainstSingleThread;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -28,4 +37,48 @@ public class TestMatrixMatrixMult_MT_DDRM extends CheckMultiThreadAgainstSingleT
     public TestMatrixMatrixMult_MT_DDRM() {
         super(MatrixMatrixMult_DDRM.class, MatrixMatrixMult_MT_DDRM.class, 24);
     }
+
+    /**
+     * The inputs in {@link #compareToSingle()} are square. When A is transposed the concurrent loop needs to go
+     * through the columns of A, which can only be seen with non-square inputs.
+     */
+    @Test
+    void multTransA_notSquare() {
+        multTransA_notSquare(7, 3, 5);
+        multTransA_notSquare(3, 7, 5);
+    }
+
+    void multTransA_notSquare( int rowsA, int colsA, int colsB ) {
+        Random rand = new Random(234);
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(rowsA, colsA, -1, 1, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(rowsA, colsB, -1, 1, rand);
+        DMatrixRMaj C = RandomMatrices_DDRM.rectangle(colsA, colsB, -1, 1, rand);
+
+        DMatrixRMaj expected = C.copy();
+        DMatrixRMaj found = C.copy();
+
+        MatrixMatrixMult_DDRM.multTransA_reorder(A, B, expected);
+        MatrixMatrixMult_MT_DDRM.multTransA_reorder(A, B, found);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+
+        MatrixMatrixMult_DDRM.multTransA_reorder(1.5, A, B, expected);
+        MatrixMatrixMult_MT_DDRM.multTransA_reorder(1.5, A, B, found);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+
+        MatrixMatrixMult_DDRM.multAddTransA_reorder(A, B, expected);
+        MatrixMatrixMult_MT_DDRM.multAddTransA_reorder(A, B, found);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+
+        MatrixMatrixMult_DDRM.multAddTransA_reorder(1.5, A, B, expected);
+        MatrixMatrixMult_MT_DDRM.multAddTransA_reorder(1.5, A, B, found);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+
+        MatrixMatrixMult_DDRM.multTransA_small(A, B, expected);
+        MatrixMatrixMult_MT_DDRM.multTransA_small(A, B, found);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+
+        MatrixMatrixMult_DDRM.multAddTransA_small(1.5, A, B, expected);
+        MatrixMatrixMult_MT_DDRM.multAddTransA_small(1.5, A, B, found);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+    }
 }
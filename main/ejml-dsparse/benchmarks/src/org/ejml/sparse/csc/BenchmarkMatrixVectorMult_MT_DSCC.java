@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.sparse.csc.mult.MatrixVectorMult_DSCC;
+import org.ejml.sparse.csc.mult.MatrixVectorMult_MT_DSCC;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import pabeles.concurrency.GrowArray;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares single and multi-threaded sparse matrix-vector multiplication as the number of non-zero elements in
+ * each column changes.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkMatrixVectorMult_MT_DSCC {
+
+    @Param({"100000"})
+    private int dimension;
+
+    @Param({"2", "10", "50"})
+    private int countPerColumn;
+
+    DMatrixSparseCSC A;
+    double[] x, y;
+
+    GrowArray<DGrowArray> work = new GrowArray<>(DGrowArray::new);
+
+    @Setup
+    public void setup() {
+        Random rand = new Random(2345);
+        A = RandomMatrices_DSCC.rectangle(dimension, dimension, dimension*countPerColumn, rand);
+        x = new double[dimension];
+        y = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            x[i] = rand.nextDouble();
+        }
+    }
+
+    @Benchmark public void mult() { MatrixVectorMult_DSCC.mult(A, x, 0, y, 0); }
+    @Benchmark public void mult_MT() { MatrixVectorMult_MT_DSCC.mult(A, x, 0, y, 0, work); }
+    @Benchmark public void multTran() { MatrixVectorMult_DSCC.mult(x, 0, A, y, 0); }
+    @Benchmark public void multTran_MT() { MatrixVectorMult_MT_DSCC.mult(x, 0, A, y, 0); }
+
+    public static void main( String[] args ) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BenchmarkMatrixVectorMult_MT_DSCC.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
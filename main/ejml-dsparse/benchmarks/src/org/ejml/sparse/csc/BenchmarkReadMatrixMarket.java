@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.sparse.csc;
+
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.ops.MatrixIO;
+import org.ejml.ops.ReadMatrixMarket;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a Matrix Market file into a triplet and converting it against streaming it directly into CSC
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 2)
+public class BenchmarkReadMatrixMarket {
+
+    @Param({"10000", "100000"})
+    private int dimension;
+
+    @Param({"10"})
+    private int avgEntriesPerColumn;
+
+    File file;
+
+    @Setup
+    public void setup() throws IOException {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.generateUniform(dimension, dimension,
+                avgEntriesPerColumn, -1, 1, new Random(345));
+        file = File.createTempFile("ejml", ".mtx");
+        try (Writer writer = new BufferedWriter(new FileWriter(file))) {
+            MatrixIO.saveMatrixMarketD(A, "%.17g", writer);
+        }
+    }
+
+    @TearDown
+    public void teardown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public DMatrixSparseCSC triplet_convert() throws IOException {
+        DMatrixSparseTriplet triplet;
+        try (Reader reader = new FileReader(file)) {
+            triplet = MatrixIO.loadMatrixMarketD(reader);
+        }
+        return DConvertMatrixStruct.convert(triplet, (DMatrixSparseCSC)null);
+    }
+
+    @Benchmark
+    public DMatrixSparseCSC streaming() throws IOException {
+        return ReadMatrixMarket.loadDSCC(file.getPath());
+    }
+
+    public static void main( String[] args ) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BenchmarkReadMatrixMarket.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
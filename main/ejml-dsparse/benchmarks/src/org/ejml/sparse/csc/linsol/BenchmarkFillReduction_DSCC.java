@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
+import org.ejml.interfaces.linsol.LinearSolverSparse;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.decomposition.chol.CholeskyUpLooking_DSCC;
+import org.ejml.sparse.csc.decomposition.lu.LuUpLooking_DSCC;
+import org.ejml.sparse.csc.factory.LinearSolverFactory_DSCC;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares factorization time with different fill reducing orderings on a 2D grid Laplacian. The number of
+ * non-zero elements in the factors is printed by main() before the benchmark is run.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 2)
+public class BenchmarkFillReduction_DSCC {
+
+    @Param({"100"})
+    private int gridWidth;
+
+    @Param({"NONE", "AMD", "COLAMD"})
+    private FillReducing ordering;
+
+    DMatrixSparseCSC A;
+
+    LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> cholesky;
+    LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> supernodal;
+    LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> lu;
+
+    @Setup
+    public void setup() {
+        A = createGridLaplacian(gridWidth);
+        // the symmetric ordering is only valid for Cholesky and the column ordering is intended for LU
+        cholesky = LinearSolverFactory_DSCC.cholesky(ordering == FillReducing.COLAMD ? FillReducing.AMD : ordering);
+        supernodal = LinearSolverFactory_DSCC.choleskySupernodal(ordering == FillReducing.COLAMD ? FillReducing.AMD : ordering);
+        lu = LinearSolverFactory_DSCC.lu(ordering == FillReducing.AMD ? FillReducing.COLAMD : ordering);
+    }
+
+    @Benchmark public void cholesky() {
+        if (!cholesky.setA(A))
+            throw new RuntimeException("Failed");
+    }
+
+    @Benchmark public void choleskySupernodal() {
+        if (!supernodal.setA(A))
+            throw new RuntimeException("Failed");
+    }
+
+    @Benchmark public void lu() {
+        if (!lu.setA(A))
+            throw new RuntimeException("Failed");
+    }
+
+    /**
+     * Creates the 5-point finite difference Laplacian on a width by width grid
+     */
+    public static DMatrixSparseCSC createGridLaplacian( int width ) {
+        int N = width*width;
+        DMatrixSparseTriplet T = new DMatrixSparseTriplet(N, N, 5*N);
+        for (int y = 0; y < width; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y*width + x;
+                T.addItem(i, i, 4);
+                if (x > 0) T.addItem(i, i - 1, -1);
+                if (x + 1 < width) T.addItem(i, i + 1, -1);
+                if (y > 0) T.addItem(i, i - width, -1);
+                if (y + 1 < width) T.addItem(i, i + width, -1);
+            }
+        }
+        return DConvertMatrixStruct.convert(T, (DMatrixSparseCSC)null);
+    }
+
+    public static void main( String[] args ) throws RunnerException {
+        DMatrixSparseCSC A = createGridLaplacian(100);
+        for (FillReducing ordering : new FillReducing[]{FillReducing.NONE, FillReducing.AMD, FillReducing.COLAMD}) {
+            LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> solver = LinearSolverFactory_DSCC.lu(ordering);
+            if (!solver.setA(A))
+                throw new RuntimeException("Failed");
+            LuUpLooking_DSCC decomposition = solver.getDecomposition();
+            int nnzLU = decomposition.getL().nz_length + decomposition.getU().nz_length;
+
+            int nnzL = -1;
+            if (ordering != FillReducing.COLAMD) {
+                solver = LinearSolverFactory_DSCC.cholesky(ordering);
+                if (!solver.setA(A))
+                    throw new RuntimeException("Failed");
+                nnzL = ((CholeskyUpLooking_DSCC)solver.getDecomposition()).getL().nz_length;
+            }
+            System.out.printf("%-7s nnz(A) = %7d  Cholesky nnz(L) = %8d  LU nnz(L+U) = %8d\n",
+                    ordering, A.nz_length, nnzL, nnzLU);
+        }
+
+        Options opt = new OptionsBuilder()
+                .include(BenchmarkFillReduction_DSCC.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
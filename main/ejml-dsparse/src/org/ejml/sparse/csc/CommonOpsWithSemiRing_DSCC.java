@@ -23,6 +23,7 @@ import org.ejml.data.DGrowArray;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.data.DMatrixSparseCSC;
 import org.ejml.data.IGrowArray;
+import org.ejml.ops.DMonoid;
 import org.ejml.ops.DSemiRing;
 import org.ejml.sparse.csc.misc.ImplCommonOpsWithSemiRing_DSCC;
 import org.ejml.sparse.csc.mult.ImplMultiplicationWithSemiRing_DSCC;
@@ -59,6 +60,45 @@ public class CommonOpsWithSemiRing_DSCC {
         return output;
     }
 
+    /**
+     * Performs masked matrix multiplication.  output&lt;mask&gt; = accum(output, A*B)
+     *
+     * <p>Only elements which are allowed by the structure of the mask are computed, which is much faster than
+     * computing the full product and filtering it afterwards. When an accumulator is provided the product is combined
+     * with the original values in output, otherwise the original values are discarded.</p>
+     *
+     * @param A              (Input) Matrix. Not modified.
+     * @param B              (Input) Matrix. Not modified.
+     * @param output         (Input/Output) Storage for results.  Data length is increased if insufficient.
+     * @param semiRing       Semi-Ring to define + and *
+     * @param mask           (Optional) Only the structure is used. Must have the same shape as the output. If null then no mask is applied.
+     * @param complementMask If true then only elements which are not in the mask are computed
+     * @param accum          (Optional) Monoid used to combine the original output and the product. Can be null.
+     * @param gw             (Optional) Storage for internal workspace.  Can be null.
+     * @param gx             (Optional) Storage for internal workspace.  Can be null.
+     */
+    public static DMatrixSparseCSC mult(DMatrixSparseCSC A, DMatrixSparseCSC B, @Nullable DMatrixSparseCSC output, DSemiRing semiRing,
+                                        @Nullable DMatrixSparseCSC mask, boolean complementMask, @Nullable DMonoid accum,
+                                        @Nullable IGrowArray gw, @Nullable DGrowArray gx) {
+        if (A.numCols != B.numRows)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        if (mask != null && (mask.numRows != A.numRows || mask.numCols != B.numCols))
+            throw new MatrixDimensionException("Mask has an unexpected shape. " + stringShapes(A, B, mask));
+
+        // The original values are needed since the output is written to one column at a time
+        DMatrixSparseCSC initial = null;
+        if (accum != null && output != null) {
+            if (output.numRows != A.numRows || output.numCols != B.numCols)
+                throw new MatrixDimensionException("Output must have the correct shape when accumulating. " + stringShapes(A, B, output));
+            initial = output.copy();
+        }
+        output = reshapeOrDeclare(output, A, A.numRows, B.numCols);
+
+        ImplMultiplicationWithSemiRing_DSCC.mult(A, B, output, semiRing, mask, complementMask, initial, accum, gw, gx);
+
+        return output;
+    }
+
     /**
      * Performs matrix multiplication.  output = A*B
      *
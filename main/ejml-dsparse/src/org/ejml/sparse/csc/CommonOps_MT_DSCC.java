@@ -19,11 +19,15 @@
 package org.ejml.sparse.csc;
 
 import org.ejml.MatrixDimensionException;
+import org.ejml.concurrency.EjmlConcurrency;
 import org.ejml.data.DGrowArray;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
+import org.ejml.data.IGrowArray;
 import org.ejml.sparse.csc.misc.ImplCommonOps_MT_DSCC;
 import org.ejml.sparse.csc.mult.ImplMultiplication_MT_DSCC;
+import org.ejml.sparse.csc.mult.MatrixVectorMult_MT_DSCC;
 import org.ejml.sparse.csc.mult.Workspace_MT_DSCC;
 import org.jetbrains.annotations.Nullable;
 import pabeles.concurrency.GrowArray;
@@ -32,11 +36,18 @@ import static org.ejml.UtilEjml.reshapeOrDeclare;
 import static org.ejml.UtilEjml.stringShapes;
 
 /**
- * Concurrent implementations of functions found in {@link CommonOps_DSCC}.
+ * Concurrent implementations of functions found in {@link CommonOps_DSCC}. When the dense matrix is a column
+ * vector the multiplication functions use {@link MatrixVectorMult_MT_DSCC}, since splitting up the work by
+ * columns in B would leave only a single thread with work.
  *
  * @author Peter Abeles
  */
 public class CommonOps_MT_DSCC {
+    /**
+     * Minimum number of triplets processed by each thread when converting from a triplet matrix
+     */
+    public static int CONVERT_MIN_BLOCK = 20_000;
+
     public static DMatrixSparseCSC mult( DMatrixSparseCSC A, DMatrixSparseCSC B, @Nullable DMatrixSparseCSC outputC ) {
         return mult(A, B, outputC, null);
     }
@@ -106,7 +117,10 @@ public class CommonOps_MT_DSCC {
         if (workArrays == null)
             workArrays = new GrowArray<>(DGrowArray::new);
 
-        ImplMultiplication_MT_DSCC.mult(A, B, outputC, workArrays);
+        if (B.numCols == 1)
+            MatrixVectorMult_MT_DSCC.mult(A, B.data, 0, outputC.data, 0, workArrays);
+        else
+            ImplMultiplication_MT_DSCC.mult(A, B, outputC, workArrays);
 
         return outputC;
     }
@@ -124,7 +138,10 @@ public class CommonOps_MT_DSCC {
         if (workArrays == null)
             workArrays = new GrowArray<>(DGrowArray::new);
 
-        ImplMultiplication_MT_DSCC.multAdd(A, B, outputC, workArrays);
+        if (B.numCols == 1)
+            MatrixVectorMult_MT_DSCC.multAdd(A, B.data, 0, outputC.data, 0, workArrays);
+        else
+            ImplMultiplication_MT_DSCC.multAdd(A, B, outputC, workArrays);
     }
 
     /**
@@ -144,7 +161,10 @@ public class CommonOps_MT_DSCC {
         if (workArray == null)
             workArray = new GrowArray<>(DGrowArray::new);
 
-        ImplMultiplication_MT_DSCC.multTransA(A, B, outputC, workArray);
+        if (B.numCols == 1)
+            MatrixVectorMult_MT_DSCC.mult(B.data, 0, A, outputC.data, 0);
+        else
+            ImplMultiplication_MT_DSCC.multTransA(A, B, outputC, workArray);
 
         return outputC;
     }
@@ -162,7 +182,10 @@ public class CommonOps_MT_DSCC {
         if (workArray == null)
             workArray = new GrowArray<>(DGrowArray::new);
 
-        ImplMultiplication_MT_DSCC.multAddTransA(A, B, outputC, workArray);
+        if (B.numCols == 1)
+            MatrixVectorMult_MT_DSCC.multAdd(B.data, 0, A, outputC.data, 0);
+        else
+            ImplMultiplication_MT_DSCC.multAddTransA(A, B, outputC, workArray);
     }
 
     /**
@@ -230,4 +253,28 @@ public class CommonOps_MT_DSCC {
 
         ImplMultiplication_MT_DSCC.multAddTransAB(A, B, outputC);
     }
+
+    /**
+     * Converts a triplet matrix into a CSC matrix. Each thread computes a histogram of the columns in its block of
+     * triplets, the histograms are merged with a prefix sum, and then each thread writes its triplets into its own
+     * part of each column. The row indexes will be in the same order as
+     * {@link org.ejml.ops.DConvertMatrixStruct#convert(DMatrixSparseTriplet, DMatrixSparseCSC, IGrowArray)}.
+     *
+     * @param src (Input) Triplet matrix. Not modified.
+     * @param dst (Output) Storage for the CSC matrix. If null a new instance will be returned.
+     * @param sumDuplicates If true then elements which have the same coordinate are added together
+     * @param listWork (Optional) Storage for internal workspace.  Can be null.
+     * @return The converted matrix
+     */
+    public static DMatrixSparseCSC convert( DMatrixSparseTriplet src, @Nullable DMatrixSparseCSC dst,
+                                            boolean sumDuplicates, @Nullable GrowArray<IGrowArray> listWork ) {
+        dst = reshapeOrDeclare(dst, src.numRows, src.numCols, src.nz_length);
+        if (listWork == null)
+            listWork = new GrowArray<>(IGrowArray::new);
+
+        int numBlocks = Math.min(EjmlConcurrency.getMaxThreads(), src.nz_length/CONVERT_MIN_BLOCK);
+        ImplCommonOps_MT_DSCC.convert(src, dst, sumDuplicates, Math.max(1, numBlocks), listWork);
+
+        return dst;
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.chol;
+
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.interfaces.decomposition.CholeskySparseDecomposition_F64;
+
+/**
+ * Sparse Cholesky decomposition which provides direct access to the lower triangular factor L. Rows in
+ * each column of L are sorted and the diagonal element is the first element in each column.
+ *
+ * @author Peter Abeles
+ */
+public interface CholeskySparseLower_DSCC extends CholeskySparseDecomposition_F64<DMatrixSparseCSC> {
+    /**
+     * Returns the internal lower triangular matrix L. Do not modify.
+     */
+    DMatrixSparseCSC getL();
+
+    /**
+     * Internal workspace which can be shared with other algorithms, e.g. a linear solver, to reduce memory usage
+     */
+    IGrowArray getGw();
+}
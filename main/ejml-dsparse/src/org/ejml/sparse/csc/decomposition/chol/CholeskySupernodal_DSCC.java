@@ -0,0 +1,542 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.chol;
+
+import org.ejml.EjmlParameters;
+import org.ejml.data.Complex_F64;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.dense.block.InnerMultiplication_DDRB;
+import org.ejml.dense.block.InnerTriangularSolver_DDRB;
+import org.ejml.dense.block.MatrixOps_DDRB;
+import org.ejml.dense.block.decomposition.chol.InnerCholesky_DDRB;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.misc.ColumnCounts_DSCC;
+import org.ejml.sparse.csc.misc.TriangularSolver_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>
+ * Left looking supernodal Cholesky decomposition of a {@link DMatrixSparseCSC}. Adjacent columns in L which
+ * share the same non-zero pattern below the diagonal are grouped into supernodes. Each supernode is stored
+ * as a dense row-major block and is factored using the dense inner block kernels, {@link InnerCholesky_DDRB}
+ * and {@link InnerTriangularSolver_DDRB}. Wide supernodes are converted into a block format first and
+ * {@link InnerMultiplication_DDRB} is used to update the trailing columns. Updates between supernodes are
+ * dot products between rows of two dense blocks followed by a scatter. This is much faster than
+ * {@link CholeskyUpLooking_DSCC} when the factor contains large dense column blocks, which
+ * is typical of matrices from 3D meshes after a fill reducing ordering has been applied.
+ * </p>
+ *
+ * <p>
+ * Supernodes are found using the elimination tree and column counts. Column j and j+1 can be merged when
+ * j+1 is the parent of j. If their structures differ then explicit zeros are added to L, which is allowed
+ * when the fraction of zeros is small. Only columns which are adjacent can be merged so an ordering where the
+ * elimination tree is postordered, such as AMD, works best.
+ * </p>
+ *
+ * <p>Only the upper triangular portion of the input matrix is read.</p>
+ *
+ * @author Peter Abeles
+ */
+public class CholeskySupernodal_DSCC implements CholeskySparseLower_DSCC {
+    private int N;
+
+    // storage for decomposition
+    DMatrixSparseCSC L = new DMatrixSparseCSC(1, 1, 0);
+
+    //------------- Symbolic structure
+    // Number of supernodes
+    int numSuper;
+    // First column in each supernode. Length numSuper+1
+    int[] superCol = new int[2];
+    // Which supernode each column belongs to
+    int[] colToSuper = new int[1];
+    // Start of the row indexes for each supernode in superRows. Length numSuper+1
+    int[] superRowIdx = new int[2];
+    // Sorted row indexes of the first column in each supernode
+    int[] superRows = new int[1];
+    // Start of the dense block for each supernode in superValues. Length numSuper+1
+    int[] superValIdx = new int[2];
+
+    // Block size used when factoring wide supernodes
+    int blockLength = EjmlParameters.BLOCK_WIDTH;
+    // Supernodes at least this wide are converted into a block format before being factored
+    int blockedWidth = 2*EjmlParameters.BLOCK_WIDTH;
+
+    // Maximum supernode widths for different thresholds on the fraction of explicit zeros. See isMergeAllowed()
+    public int relaxSmall = 4;
+    public int relaxMedium = 16;
+    public int relaxLarge = 48;
+
+    //------------- Numerical values
+    // Dense row-major block for each supernode. Rows are specified by superRows and there are one column
+    // for each column in the supernode.
+    DGrowArray superValues = new DGrowArray();
+
+    // workspace storage
+    IGrowArray gw = new IGrowArray(1);
+    DGrowArray gblock = new DGrowArray(1);
+    DGrowArray gconvert = new DGrowArray(1);
+    int[] parent = new int[1];
+    int[] post = new int[1];
+    int[] counts = new int[1];
+    // linked list of supernodes which will update a supernode
+    int[] head = new int[1];
+    int[] next = new int[1];
+    // index of the next row in a supernode which has yet to update another supernode
+    int[] nextRow = new int[1];
+    // Location of each row in the supernode currently being processed
+    int[] relativeRow = new int[1];
+    ColumnCounts_DSCC columnCounter = new ColumnCounts_DSCC(false);
+    DMatrixSparseCSC At = new DMatrixSparseCSC(1, 1, 0);
+
+    // true if it has successfully decomposed a matrix
+    private boolean decomposed = false;
+    // if true then the structure is locked and won't be computed again
+    private boolean locked = false;
+
+    @Override
+    public boolean decompose( DMatrixSparseCSC orig ) {
+        if (orig.numCols != orig.numRows)
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        if (!locked || !decomposed)
+            performSymbolic(orig);
+
+        if (performDecomposition(orig)) {
+            decomposed = true;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Computes the elimination tree, column counts, supernodes, and the row structure of each supernode.
+     */
+    public void performSymbolic( DMatrixSparseCSC A ) {
+        init(A.numCols);
+
+        TriangularSolver_DSCC.eliminationTree(A, false, parent, gw);
+        TriangularSolver_DSCC.postorder(parent, N, post, gw);
+        columnCounter.process(A, parent, post, counts);
+
+        findSupernodes();
+        computeSupernodeRows(A);
+        constructStructureL();
+    }
+
+    private void init( int N ) {
+        this.N = N;
+        if (parent.length < N) {
+            parent = new int[N];
+            post = new int[N];
+            counts = new int[N];
+            colToSuper = new int[N];
+            relativeRow = new int[N];
+            superCol = new int[N + 1];
+            superRowIdx = new int[N + 1];
+            superValIdx = new int[N + 1];
+            head = new int[N];
+            next = new int[N];
+            nextRow = new int[N];
+            gw.reshape(3*N);
+        }
+    }
+
+    /**
+     * Groups adjacent columns into supernodes. Column j is added to the supernode containing j-1 if j is the parent
+     * of j-1 in the elimination tree. If the structures are not identical then the supernode will contain explicit
+     * zeros, which is allowed when the number of added zeros is small relative to the supernode's size.
+     */
+    private void findSupernodes() {
+        numSuper = 0;
+        // number of true non-zero elements in the current supernode
+        long nonzero = 0;
+        for (int j = 0; j < N; j++) {
+            if (j == 0 || parent[j - 1] != j || !isMergeAllowed(superCol[numSuper - 1], j, nonzero + counts[j])) {
+                superCol[numSuper++] = j;
+                nonzero = 0;
+            }
+            nonzero += counts[j];
+            colToSuper[j] = numSuper - 1;
+        }
+        superCol[numSuper] = N;
+
+        // Allocate storage for the row indexes and values of each supernode
+        int totalRows = 0;
+        long totalValues = 0;
+        for (int s = 0; s < numSuper; s++) {
+            superRowIdx[s] = totalRows;
+            superValIdx[s] = (int)totalValues;
+            int width = superCol[s + 1] - superCol[s];
+            int height = width + counts[superCol[s + 1] - 1] - 1;
+            totalRows += height;
+            totalValues += (long)width*height;
+        }
+        if (totalValues > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Supernodes are too large to be stored in an array");
+        superRowIdx[numSuper] = totalRows;
+        superValIdx[numSuper] = (int)totalValues;
+
+        if (superRows.length < totalRows)
+            superRows = new int[totalRows];
+        superValues.reshape((int)totalValues);
+    }
+
+    /**
+     * Decides if the supernode which starts at column 'col0' can be extended to include column 'col1'. Small
+     * supernodes are allowed to have a larger fraction of zeros since the overhead of processing them
+     * individually is large.
+     *
+     * @param nonzero Number of true non-zero elements in columns col0 to col1, inclusive
+     */
+    private boolean isMergeAllowed( int col0, int col1, long nonzero ) {
+        long width = col1 - col0 + 1;
+        long height = width + counts[col1] - 1;
+        long stored = width*height - width*(width - 1)/2;
+        if (stored == nonzero)
+            return true;
+        double fractionZeros = (stored - nonzero)/(double)stored;
+        if (width <= relaxSmall)
+            return true;
+        else if (width <= relaxMedium)
+            return fractionZeros < 0.8;
+        else if (width <= relaxLarge)
+            return fractionZeros < 0.1;
+        else
+            return fractionZeros < 0.05;
+    }
+
+    /**
+     * Finds the row structure of each supernode by computing the pattern of each row in L. Since
+     * a column's structure is a subset of its parent's structure, the supernode's structure is the same as its last
+     * column plus the rows inside the supernode.
+     */
+    private void computeSupernodeRows( DMatrixSparseCSC A ) {
+        int[] s = adjust(gw, N);
+        int[] w = next; // used as workspace and must be non-negative
+        int[] insert = nextRow;
+        Arrays.fill(w, 0, N, 0);
+        System.arraycopy(superRowIdx, 0, insert, 0, numSuper);
+
+        for (int k = 0; k < N; k++) {
+            int top = TriangularSolver_DSCC.searchNzRowsElim(A, k, parent, s, w);
+            for (; top < N; top++) {
+                addSupernodeRow(colToSuper[s[top]], k, insert);
+            }
+            // the block along the diagonal is dense
+            addSupernodeRow(colToSuper[k], k, insert);
+        }
+
+        // rows are added in increasing order so they are already sorted
+        for (int sn = 0; sn < numSuper; sn++) {
+            if (insert[sn] != superRowIdx[sn + 1])
+                throw new RuntimeException("BUG! Column counts and row structure do not agree");
+        }
+    }
+
+    private void addSupernodeRow( int sn, int row, int[] insert ) {
+        int idx = insert[sn];
+        if (idx > superRowIdx[sn] && superRows[idx - 1] == row)
+            return;
+        superRows[idx] = row;
+        insert[sn] = idx + 1;
+    }
+
+    /**
+     * Creates the structure of L from the supernodes
+     */
+    private void constructStructureL() {
+        int nz_length = 0;
+        for (int sn = 0; sn < numSuper; sn++) {
+            int height = superRowIdx[sn + 1] - superRowIdx[sn];
+            int width = superCol[sn + 1] - superCol[sn];
+            nz_length += width*height - width*(width - 1)/2;
+        }
+
+        L.reshape(N, N, nz_length);
+        L.nz_length = nz_length;
+        L.indicesSorted = true;
+
+        int index = 0;
+        for (int sn = 0; sn < numSuper; sn++) {
+            int col0 = superCol[sn];
+            int col1 = superCol[sn + 1];
+            int rowIdx0 = superRowIdx[sn];
+            int rowIdx1 = superRowIdx[sn + 1];
+            for (int col = col0; col < col1; col++) {
+                L.col_idx[col] = index;
+                for (int i = rowIdx0 + col - col0; i < rowIdx1; i++) {
+                    L.nz_rows[index++] = superRows[i];
+                }
+            }
+        }
+        L.col_idx[N] = index;
+    }
+
+    private boolean performDecomposition( DMatrixSparseCSC A ) {
+        // the upper triangular portion of column j in A is the lower portion of row j. Row j is needed
+        CommonOps_DSCC.transpose(A, At, gw);
+
+        double[] values = superValues.data;
+        Arrays.fill(values, 0, superValIdx[numSuper], 0);
+        Arrays.fill(head, 0, numSuper, -1);
+
+        for (int sn = 0; sn < numSuper; sn++) {
+            int col0 = superCol[sn];
+            int col1 = superCol[sn + 1];
+            int width = col1 - col0;
+            int rowIdx0 = superRowIdx[sn];
+            int height = superRowIdx[sn + 1] - rowIdx0;
+            int indexS = superValIdx[sn];
+
+            for (int i = 0; i < height; i++) {
+                relativeRow[superRows[rowIdx0 + i]] = i;
+            }
+
+            // copy the lower triangular portion of A into the supernode
+            for (int col = col0; col < col1; col++) {
+                int idx0 = At.col_idx[col];
+                int idx1 = At.col_idx[col + 1];
+                for (int p = idx0; p < idx1; p++) {
+                    int row = At.nz_rows[p];
+                    if (row < col)
+                        continue;
+                    values[indexS + relativeRow[row]*width + col - col0] = At.nz_values[p];
+                }
+            }
+
+            // Subtract the contribution from all the supernodes which have a non-zero in these columns
+            int descendant = head[sn];
+            while (descendant != -1) {
+                int nextDescendant = next[descendant];
+                updateFromDescendant(descendant, col0, col1, width, indexS);
+                descendant = nextDescendant;
+            }
+
+            // Decompose the diagonal block then solve for the block below the diagonal
+            if (width >= blockedWidth) {
+                if (!factorBlocked(values, indexS, width, height))
+                    return false;
+            } else {
+                if (!InnerCholesky_DDRB.lower(values, indexS, width))
+                    return false;
+                InnerTriangularSolver_DDRB.solveLTransB(values, values, width, height - width, width,
+                        indexS, indexS + width*width);
+            }
+
+            // this supernode will update the supernode which contains its first row below the diagonal
+            nextRow[sn] = rowIdx0 + width;
+            addToUpdateList(sn);
+        }
+
+        copySupernodesIntoL();
+        return true;
+    }
+
+    /**
+     * Factors a wide supernode after converting it into a block format. This is the same algorithm as
+     * {@link org.ejml.dense.block.decomposition.chol.CholeskyOuterForm_DDRB} but the matrix is rectangular
+     * and only the first 'width' columns are decomposed. The block rows are aligned with the block columns so
+     * the last block in the diagonal can have more rows than columns.
+     */
+    private boolean factorBlocked( double[] values, int indexS, int width, int height ) {
+        final int bl = blockLength;
+        double[] B = adjust(gblock, width*height);
+        System.arraycopy(values, indexS, B, 0, width*height);
+        MatrixOps_DDRB.convertRowToBlock(height, width, bl, B, gconvert);
+
+        for (int i = 0; i < width; i += bl) {
+            int widthA = Math.min(bl, width - i);
+            int heightA = Math.min(bl, height - i);
+            int indexA = i*width + heightA*i;
+
+            if (!InnerCholesky_DDRB.lower(B, indexA, widthA))
+                return false;
+            // rows inside the diagonal block which are below the decomposed columns
+            if (heightA > widthA)
+                InnerTriangularSolver_DDRB.solveLTransB(B, B, widthA, heightA - widthA, widthA,
+                        indexA, indexA + widthA*widthA);
+            for (int row = i + bl; row < height; row += bl) {
+                int heightB = Math.min(bl, height - row);
+                InnerTriangularSolver_DDRB.solveLTransB(B, B, widthA, heightB, widthA, indexA, row*width + heightB*i);
+            }
+
+            // Update the lower triangular portion of the remaining columns
+            for (int col = i + bl; col < width; col += bl) {
+                int widthC = Math.min(bl, width - col);
+                int indexB = col*width + Math.min(bl, height - col)*i;
+                for (int row = col; row < height; row += bl) {
+                    int heightC = Math.min(bl, height - row);
+                    InnerMultiplication_DDRB.blockMultMinusTransB(B, B, B,
+                            row*width + heightC*i, indexB, row*width + heightC*col, heightC, widthA, widthC);
+                }
+            }
+        }
+
+        MatrixOps_DDRB.convertBlockToRow(height, width, bl, B, gconvert);
+        System.arraycopy(B, 0, values, indexS, width*height);
+        return true;
+    }
+
+    /**
+     * Computes the update from the descendant supernode and subtracts it from the target supernode.
+     * C = L(rows,cols)*L(rows,cols)<sup>T</sup>, where rows are all the descendant's rows &ge; col0 and cols
+     * are rows which lie inside the target supernode's columns.
+     */
+    private void updateFromDescendant( int descendant, int col0, int col1, int width, int indexS ) {
+        double[] values = superValues.data;
+
+        int widthD = superCol[descendant + 1] - superCol[descendant];
+        int rowIdx0 = superRowIdx[descendant];
+        int rowIdx1 = superRowIdx[descendant + 1];
+
+        int p1 = nextRow[descendant];
+        int p2 = p1;
+        while (p2 < rowIdx1 && superRows[p2] < col1)
+            p2++;
+
+        int heightC = rowIdx1 - p1;
+        int widthC = p2 - p1;
+        int indexD = superValIdx[descendant] + (p1 - rowIdx0)*widthD;
+
+        for (int i = 0; i < heightC; i++) {
+            int indexA = indexD + i*widthD;
+            int indexTarget = indexS + relativeRow[superRows[p1 + i]]*width - col0;
+            int end = Math.min(i + 1, widthC);
+            int j = 0;
+            // compute four elements at once to reduce the dependency between operations
+            for (; j + 3 < end; j += 4) {
+                int indexB = indexD + j*widthD;
+                double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+                for (int k = 0; k < widthD; k++) {
+                    double valA = values[indexA + k];
+                    sum0 += valA*values[indexB + k];
+                    sum1 += valA*values[indexB + widthD + k];
+                    sum2 += valA*values[indexB + 2*widthD + k];
+                    sum3 += valA*values[indexB + 3*widthD + k];
+                }
+                values[indexTarget + superRows[p1 + j]] -= sum0;
+                values[indexTarget + superRows[p1 + j + 1]] -= sum1;
+                values[indexTarget + superRows[p1 + j + 2]] -= sum2;
+                values[indexTarget + superRows[p1 + j + 3]] -= sum3;
+            }
+            for (; j < end; j++) {
+                int indexB = indexD + j*widthD;
+                double sum = 0;
+                for (int k = 0; k < widthD; k++) {
+                    sum += values[indexA + k]*values[indexB + k];
+                }
+                values[indexTarget + superRows[p1 + j]] -= sum;
+            }
+        }
+
+        nextRow[descendant] = p2;
+        addToUpdateList(descendant);
+    }
+
+    /**
+     * Adds the supernode to the update list of the supernode which contains its next row
+     */
+    private void addToUpdateList( int sn ) {
+        if (nextRow[sn] >= superRowIdx[sn + 1])
+            return;
+        int target = colToSuper[superRows[nextRow[sn]]];
+        next[sn] = head[target];
+        head[target] = sn;
+    }
+
+    private void copySupernodesIntoL() {
+        double[] values = superValues.data;
+        int index = 0;
+        for (int sn = 0; sn < numSuper; sn++) {
+            int col0 = superCol[sn];
+            int col1 = superCol[sn + 1];
+            int width = col1 - col0;
+            int height = superRowIdx[sn + 1] - superRowIdx[sn];
+            int indexS = superValIdx[sn];
+            for (int j = 0; j < width; j++) {
+                for (int i = j; i < height; i++) {
+                    L.nz_values[index++] = values[indexS + i*width + j];
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+
+    @Override
+    public boolean isLower() {
+        return true;
+    }
+
+    @Override
+    public DMatrixSparseCSC getT( @Nullable DMatrixSparseCSC T ) {
+        if (T == null) {
+            T = new DMatrixSparseCSC(L.numRows, L.numCols, L.nz_length);
+        }
+        T.set(L);
+        return T;
+    }
+
+    @Override
+    public Complex_F64 computeDeterminant() {
+        double value = 1;
+        for (int i = 0; i < N; i++) {
+            value *= L.nz_values[L.col_idx[i]];
+        }
+        return new Complex_F64(value*value, 0);
+    }
+
+    /**
+     * Number of supernodes found in the most recently processed matrix
+     */
+    public int getNumberOfSupernodes() {
+        return numSuper;
+    }
+
+    @Override
+    public DMatrixSparseCSC getL() {
+        return L;
+    }
+
+    @Override
+    public IGrowArray getGw() {
+        return gw;
+    }
+
+    @Override
+    public void setStructureLocked( boolean locked ) {
+        this.locked = locked;
+    }
+
+    @Override
+    public boolean isStructureLocked() {
+        return locked;
+    }
+}
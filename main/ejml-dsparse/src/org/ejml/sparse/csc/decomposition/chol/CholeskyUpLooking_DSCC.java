@@ -22,7 +22,6 @@ import org.ejml.data.Complex_F64;
 import org.ejml.data.DGrowArray;
 import org.ejml.data.DMatrixSparseCSC;
 import org.ejml.data.IGrowArray;
-import org.ejml.interfaces.decomposition.CholeskySparseDecomposition_F64;
 import org.ejml.sparse.csc.misc.ColumnCounts_DSCC;
 import org.ejml.sparse.csc.misc.TriangularSolver_DSCC;
 import org.jetbrains.annotations.Nullable;
@@ -36,9 +35,8 @@ import static org.ejml.UtilEjml.adjust;
  *
  * @author Peter Abeles
  */
-public class CholeskyUpLooking_DSCC implements
-        CholeskySparseDecomposition_F64<DMatrixSparseCSC> {
-    private int N;
+public class CholeskyUpLooking_DSCC implements CholeskySparseLower_DSCC {
+    int N;
 
     // storage for decomposition
     DMatrixSparseCSC L = new DMatrixSparseCSC(1, 1, 0);
@@ -93,7 +91,7 @@ public class CholeskyUpLooking_DSCC implements
         }
     }
 
-    private boolean performDecomposition( DMatrixSparseCSC A ) {
+    protected boolean performDecomposition( DMatrixSparseCSC A ) {
         int[] c = adjust(gw, N);
         int[] s = adjust(gs, N);
         double[] x = adjust(gx, N);
@@ -101,47 +99,62 @@ public class CholeskyUpLooking_DSCC implements
         System.arraycopy(L.col_idx, 0, c, 0, N);
 
         for (int k = 0; k < N; k++) {
-            //----  Nonzero pattern of L(k,:)
-            int top = TriangularSolver_DSCC.searchNzRowsElim(A, k, parent, s, c);
-
-            // x(0:k) is now zero
-            x[k] = 0;
-            int idx0 = A.col_idx[k];
-            int idx1 = A.col_idx[k + 1];
-
-            // x = full(triu(C(:,k)))
-            for (int p = idx0; p < idx1; p++) {
-                if (A.nz_rows[p] <= k) {
-                    x[A.nz_rows[p]] = A.nz_values[p];
-                }
-            }
-            double d = x[k]; // d = C(k,k)
-            x[k] = 0; // clear x for k+1 iteration
-
-            //---- Triangular Solve
-            for (; top < N; top++) {
-                int i = s[top];
-                double lki = x[i]/L.nz_values[L.col_idx[i]]; // L(k,i) = x(i) / L(i,i)
-                x[i] = 0;
-                for (int p = L.col_idx[i] + 1; p < c[i]; p++) {
-                    x[L.nz_rows[p]] -= L.nz_values[p]*lki;
-                }
-                d -= lki*lki; // d = d - L(k,i)**L(k,i)
-                int p = c[i]++;
-                L.nz_rows[p] = k;     // store L(k,i) in column i
-                L.nz_values[p] = lki;
-            }
-
-            //----- Compute L(k,k)
-            if (d <= 0) {
-                // it's not positive definite
+            if (!computeRow(A, k, c, s, x))
                 return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes row k in L. All the rows it depends on, which are its descendants in the elimination tree, must
+     * have already been computed.
+     *
+     * @param c Index in L that the next element in each column is written to
+     * @param s Workspace for the row's non-zero pattern. Must be of size N
+     * @param x Dense workspace. Must be all zeros on input and will be all zeros on output
+     * @return true if successful or false if the matrix is not positive definite
+     */
+    protected boolean computeRow( DMatrixSparseCSC A, int k, int[] c, int[] s, double[] x ) {
+        //----  Nonzero pattern of L(k,:)
+        int top = TriangularSolver_DSCC.searchNzRowsElim(A, k, parent, s, c);
+
+        // x(0:k) is now zero
+        x[k] = 0;
+        int idx0 = A.col_idx[k];
+        int idx1 = A.col_idx[k + 1];
+
+        // x = full(triu(C(:,k)))
+        for (int p = idx0; p < idx1; p++) {
+            if (A.nz_rows[p] <= k) {
+                x[A.nz_rows[p]] = A.nz_values[p];
+            }
+        }
+        double d = x[k]; // d = C(k,k)
+        x[k] = 0; // clear x for k+1 iteration
+
+        //---- Triangular Solve
+        for (; top < N; top++) {
+            int i = s[top];
+            double lki = x[i]/L.nz_values[L.col_idx[i]]; // L(k,i) = x(i) / L(i,i)
+            x[i] = 0;
+            for (int p = L.col_idx[i] + 1; p < c[i]; p++) {
+                x[L.nz_rows[p]] -= L.nz_values[p]*lki;
             }
-            int p = c[k]++;
-            L.nz_rows[p] = k;
-            L.nz_values[p] = Math.sqrt(d);
+            d -= lki*lki; // d = d - L(k,i)**L(k,i)
+            int p = c[i]++;
+            L.nz_rows[p] = k;     // store L(k,i) in column i
+            L.nz_values[p] = lki;
         }
 
+        //----- Compute L(k,k)
+        if (d <= 0) {
+            // it's not positive definite
+            return false;
+        }
+        int p = c[k]++;
+        L.nz_rows[p] = k;
+        L.nz_values[p] = Math.sqrt(d);
         return true;
     }
 
@@ -177,10 +190,12 @@ public class CholeskyUpLooking_DSCC implements
         return gx;
     }
 
+    @Override
     public DMatrixSparseCSC getL() {
         return L;
     }
 
+    @Override
     public IGrowArray getGw() {
         return gw;
     }
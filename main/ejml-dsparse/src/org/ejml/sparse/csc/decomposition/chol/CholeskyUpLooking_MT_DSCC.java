@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.chol;
+
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.sparse.csc.mult.Workspace_MT_DSCC;
+import pabeles.concurrency.GrowArray;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link CholeskyUpLooking_DSCC}. Row k in L only depends on the rows which are
+ * its descendants in the elimination tree, so rows in disjoint subtrees can be computed independently. The
+ * elimination tree is split into independent subtrees which are assigned to threads so that the estimated
+ * amount of work in each thread is about the same. The remaining nodes at the top of the tree are then processed
+ * one level at a time, where all the nodes in a level are independent of each other.
+ * </p>
+ *
+ * <p>Each row is computed with exactly the same operations as the single thread version, so the results
+ * are identical.</p>
+ *
+ * @author Peter Abeles
+ */
+public class CholeskyUpLooking_MT_DSCC extends CholeskyUpLooking_DSCC {
+    /**
+     * Subtrees are split until they have at most this fraction of work assigned to each thread
+     */
+    public double splitFraction = 0.25;
+
+    // Workspace for each thread
+    GrowArray<Workspace_MT_DSCC> workspace = new GrowArray<>(Workspace_MT_DSCC::new);
+
+    //------------- Schedule
+    // Number of groups of subtrees which are processed in parallel
+    int numBins;
+    // Start of each bin in binNodes. Length numBins+1
+    int[] binIdx = new int[2];
+    // Nodes in the subtrees assigned to each bin. Children are always before their parent.
+    int[] binNodes = new int[1];
+    // Number of levels for nodes which are not inside a subtree
+    int numLevels;
+    // Start of each level in levelNodes. Length numLevels+1
+    int[] levelIdx = new int[2];
+    // Nodes at the top of the tree which are not in any subtree, sorted by level
+    int[] levelNodes = new int[1];
+
+    // workspace for computing the schedule
+    double[] subtreeWork = new double[1];
+    int[] postIndex = new int[1];
+    int[] childHead = new int[1];
+    int[] childNext = new int[1];
+    int[] first = new int[1];
+    int[] level = new int[1];
+
+    // Set to true if any thread finds that the matrix is not positive definite
+    volatile boolean failed;
+
+    @Override
+    public void performSymbolic( DMatrixSparseCSC A ) {
+        super.performSymbolic(A);
+        computeSchedule(EjmlConcurrency.getMaxThreads());
+    }
+
+    /**
+     * Splits the elimination tree into subtrees which can be processed independently and assigns the subtrees to
+     * bins. Nodes which aren't in a subtree are assigned to levels.
+     *
+     * @param numThreads Number of threads the work is divided between
+     */
+    void computeSchedule( int numThreads ) {
+        if (subtreeWork.length < N) {
+            subtreeWork = new double[N];
+            postIndex = new int[N];
+            childHead = new int[N];
+            childNext = new int[N];
+            first = new int[N];
+            level = new int[N];
+            binNodes = new int[N];
+            levelNodes = new int[N];
+        }
+        if (binIdx.length < numThreads + 1)
+            binIdx = new int[numThreads + 1];
+
+        // Estimate the amount of work in each subtree. The cost of using a column is about the number of
+        // elements in it and it's used by each row in it
+        Arrays.fill(subtreeWork, 0, N, 0);
+        Arrays.fill(childHead, 0, N, -1);
+        Arrays.fill(first, 0, N, -1);
+        double totalWork = 0;
+        for (int i = 0; i < N; i++) {
+            int k = post[i];
+            postIndex[k] = i;
+            subtreeWork[k] += counts[k]*(double)counts[k];
+            if (first[k] == -1)
+                first[k] = i;
+            int p = parent[k];
+            if (p == -1) {
+                totalWork += subtreeWork[k];
+            } else {
+                subtreeWork[p] += subtreeWork[k];
+                if (first[p] == -1)
+                    first[p] = first[k];
+            }
+        }
+        // children are added in reverse postorder so that they are traversed in postorder
+        for (int i = N - 1; i >= 0; i--) {
+            int k = post[i];
+            int p = parent[k];
+            if (p != -1) {
+                childNext[k] = childHead[p];
+                childHead[p] = k;
+            }
+        }
+
+        // Split the largest subtree until they are all small enough. Nodes which are removed go into the top set,
+        // which is marked by setting level to zero
+        Arrays.fill(level, 0, N, -1);
+        PriorityQueue<Integer> subtrees = new PriorityQueue<>(( a, b ) -> Double.compare(subtreeWork[b], subtreeWork[a]));
+        for (int k = 0; k < N; k++) {
+            if (parent[k] == -1)
+                subtrees.add(k);
+        }
+        double maxWork = numThreads <= 1 ? Double.MAX_VALUE : splitFraction*totalWork/numThreads;
+        while (!subtrees.isEmpty() && subtreeWork[subtrees.peek()] > maxWork) {
+            int k = subtrees.poll();
+            level[k] = 0;
+            for (int child = childHead[k]; child != -1; child = childNext[child]) {
+                subtrees.add(child);
+            }
+        }
+
+        assignSubtreesToBins(subtrees, numThreads);
+        assignLevels();
+    }
+
+    /**
+     * Largest subtrees are assigned first to the bin with the least amount of work
+     */
+    private void assignSubtreesToBins( PriorityQueue<Integer> subtrees, int numThreads ) {
+        numBins = Math.min(numThreads, subtrees.size());
+        double[] binWork = new double[numBins];
+        int[] binRoots = new int[subtrees.size()];
+        int[] binOfRoot = new int[subtrees.size()];
+        int[] binCounts = new int[numBins];
+
+        int numRoots = 0;
+        while (!subtrees.isEmpty()) {
+            int k = subtrees.poll();
+            int best = 0;
+            for (int bin = 1; bin < numBins; bin++) {
+                if (binWork[bin] < binWork[best])
+                    best = bin;
+            }
+            binWork[best] += subtreeWork[k];
+            binCounts[best] += postIndex[k] - first[k] + 1;
+            binRoots[numRoots] = k;
+            binOfRoot[numRoots++] = best;
+        }
+
+        binIdx[0] = 0;
+        for (int bin = 0; bin < numBins; bin++) {
+            binIdx[bin + 1] = binIdx[bin] + binCounts[bin];
+        }
+        Arrays.fill(binCounts, 0);
+        for (int i = 0; i < numRoots; i++) {
+            int k = binRoots[i];
+            int bin = binOfRoot[i];
+            int insert = binIdx[bin] + binCounts[bin];
+            // the subtree is a continuous block in the postorder which ends with its root
+            for (int j = first[k]; j <= postIndex[k]; j++) {
+                binNodes[insert++] = post[j];
+            }
+            binCounts[bin] = insert - binIdx[bin];
+        }
+    }
+
+    /**
+     * Nodes in the top set are assigned to a level which is one greater than any of their children. Nodes in
+     * the same level are independent of each other.
+     */
+    private void assignLevels() {
+        numLevels = 0;
+        for (int i = 0; i < N; i++) {
+            int k = post[i];
+            if (level[k] < 0)
+                continue;
+            int p = parent[k];
+            if (p != -1)
+                level[p] = Math.max(level[p], level[k] + 1);
+            numLevels = Math.max(numLevels, level[k] + 1);
+        }
+
+        if (levelIdx.length < numLevels + 1)
+            levelIdx = new int[numLevels + 1];
+        Arrays.fill(levelIdx, 0, numLevels + 1, 0);
+        for (int k = 0; k < N; k++) {
+            if (level[k] >= 0)
+                levelIdx[level[k] + 1]++;
+        }
+        for (int i = 0; i < numLevels; i++) {
+            levelIdx[i + 1] += levelIdx[i];
+        }
+        int[] insert = adjust(gs, numLevels);
+        System.arraycopy(levelIdx, 0, insert, 0, numLevels);
+        for (int k = 0; k < N; k++) {
+            if (level[k] >= 0)
+                levelNodes[insert[level[k]]++] = k;
+        }
+    }
+
+    @Override
+    protected boolean performDecomposition( DMatrixSparseCSC A ) {
+        int[] c = adjust(gw, N);
+        System.arraycopy(L.col_idx, 0, c, 0, N);
+        failed = false;
+
+        // Each bin is processed by its own thread
+        EjmlConcurrency.loopFor(0, numBins, 1, workspace, ( work, bin ) -> {
+            int[] s = adjust(work.gw, N);
+            double[] x = adjust(work.gx, N);
+            for (int i = binIdx[bin]; i < binIdx[bin + 1] && !failed; i++) {
+                if (!computeRow(A, binNodes[i], c, s, x))
+                    failed = true;
+            }
+        });
+
+        // Nodes in each level only depend on nodes in lower levels
+        int[] s = adjust(gs, N);
+        double[] x = adjust(gx, N);
+        for (int lvl = 0; lvl < numLevels && !failed; lvl++) {
+            int idx0 = levelIdx[lvl];
+            int idx1 = levelIdx[lvl + 1];
+            if (idx1 - idx0 == 1) {
+                if (!computeRow(A, levelNodes[idx0], c, s, x))
+                    return false;
+                continue;
+            }
+            EjmlConcurrency.loopFor(idx0, idx1, 1, workspace, ( work, i ) -> {
+                if (failed)
+                    return;
+                if (!computeRow(A, levelNodes[i], c, adjust(work.gw, N), adjust(work.gx, N)))
+                    failed = true;
+            });
+        }
+
+        return !failed;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Thick-restart Lanczos for finding the largest or smallest eigenpairs of a symmetric matrix. A Krylov basis
+ * with up to m vectors is built using the Lanczos recurrence, then the eigenpairs of the projected matrix
+ * (Ritz pairs) are computed. If the requested Ritz pairs have not converged, the best Ritz vectors are kept and
+ * the basis is expanded again from the last Lanczos vector. This keeps memory bounded at m+1 vectors while
+ * retaining the information that has already been found. After a restart the projected matrix is no longer
+ * tridiagonal but has an arrowhead shape.
+ * </p>
+ *
+ * <p>
+ * Each new vector is fully reorthogonalized against the basis. This costs O(N*m) per iteration but avoids
+ * the ghost eigenvalues plain Lanczos suffers from. If the operator is cheap, e.g. a graph Laplacian, then
+ * reorthogonalization dominates the cost. The projected matrix is built from the reorthogonalization
+ * coefficients, so it is exactly the Rayleigh quotient V<sup>T</sup>AV of the basis.
+ * </p>
+ *
+ * <p>
+ * Wu, Kesheng, and Horst Simon. "Thick-restart Lanczos method for large symmetric eigenvalue problems."
+ * SIAM Journal on Matrix Analysis and Applications 22.2 (2000): 602-616.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LanczosThickRestart_DSCC extends PartialEigenSolver_DSCC {
+    // An invariant subspace has been found when the next Lanczos vector is this small relative to the operator.
+    // Larger than 1e-12 only if the precision can't reach it
+    private static final double BREAKDOWN_TOL = Math.max(1e-12, 100*UtilEjml.EPS);
+
+    // Maximum number of vectors in the basis. If <= 0 then it's selected automatically
+    private int basisSize;
+
+    // Lanczos vectors. Has one more vector than the basis size
+    private double[][] basis = new double[0][];
+    // projected matrix, V'*A*V
+    private final DMatrixRMaj T = new DMatrixRMaj(1, 1);
+    private final DMatrixRMaj H = new DMatrixRMaj(1, 1);
+
+    // workspace
+    private double[] coefs = new double[0];
+    private double[] work = new double[0];
+
+    /**
+     * @param numEigen Number of eigenpairs that are found
+     * @param which Which end of the spectrum is searched
+     * @param basisSize Maximum number of basis vectors. Must be more than numEigen. If &le; 0 then
+     * max(2*numEigen+1, numEigen+20) is used.
+     */
+    public LanczosThickRestart_DSCC( int numEigen, Which which, int basisSize ) {
+        super(numEigen, which, 500);
+        this.basisSize = basisSize;
+    }
+
+    public LanczosThickRestart_DSCC( int numEigen, Which which ) {
+        this(numEigen, which, 0);
+    }
+
+    @Override
+    protected boolean solve( MatrixVectorOperator_F64 A ) {
+        final int N = A.size();
+        final int m = selectBasisSize(N);
+
+        declareBasis(m, N);
+        T.reshape(m, m);
+        T.zero();
+
+        randomize(basis[0], N);
+        scale(basis[0], 1.0/norm(basis[0], N), N);
+
+        int kept = 0;
+        boolean converged = false;
+        for (iterations = 1; ; iterations++) {
+            // Beta for the last Lanczos vector, which couples the basis to the remainder of the Krylov space
+            double beta = expandBasis(A, kept, m, N);
+
+            H.set(T);
+            if (!decomposeProjected(H))
+                return false;
+
+            // residual of a Ritz pair is |beta*y[m-1]|
+            converged = true;
+            for (int i = 0; i < numEigen; i++) {
+                if (!isConverged(Math.abs(beta*projectedVector(i).data[m - 1]))) {
+                    converged = false;
+                    break;
+                }
+            }
+
+            if (converged || iterations >= maxIterations || m == N)
+                break;
+
+            // Keep the best Ritz vectors plus some extra to speed up convergence
+            kept = Math.min(m - 1, numEigen + (m - numEigen)/2);
+            computeRitzVectors(kept, m, N);
+
+            // The residual vector becomes the next vector in the basis
+            double[] tmp = basis[kept];
+            basis[kept] = basis[m];
+            basis[m] = tmp;
+
+            // Projected matrix is now an arrowhead
+            T.zero();
+            for (int i = 0; i < kept; i++) {
+                double s = beta*projectedVector(i).data[m - 1];
+                T.unsafe_set(i, i, projectedValue(i));
+                T.unsafe_set(i, kept, s);
+                T.unsafe_set(kept, i, s);
+            }
+        }
+
+        computeRitzVectors(numEigen, m, N);
+        for (int i = 0; i < numEigen; i++) {
+            addEigenpair(A, projectedValue(i), basis[i]);
+        }
+        return converged;
+    }
+
+    private int selectBasisSize( int N ) {
+        int m = basisSize > 0 ? basisSize : Math.max(2*numEigen + 1, numEigen + 20);
+        if (m <= numEigen)
+            throw new IllegalArgumentException("Basis size must be more than the number of eigenvalues");
+        return Math.min(m, N);
+    }
+
+    private void declareBasis( int m, int N ) {
+        if (basis.length != m + 1 || basis[0].length != N) {
+            basis = new double[m + 1][N];
+        }
+        if (coefs.length < m + 1)
+            coefs = new double[m + 1];
+    }
+
+    /**
+     * Adds Lanczos vectors to the basis until it has m vectors. The next vector is saved in basis[m].
+     *
+     * @param start Index of the first vector whose product with A has not been computed
+     * @return Norm of the residual vector after the last Lanczos vector
+     */
+    private double expandBasis( MatrixVectorOperator_F64 A, int start, int m, int N ) {
+        double beta = 0;
+        for (int j = start; j < m; j++) {
+            double[] w = basis[j + 1];
+            A.mult(basis[j], 0, w, 0);
+
+            // Full reorthogonalization. The coefficients are the elements in column j of V'*A*V
+            double normW = norm(w, N);
+            Arrays.fill(coefs, 0, j + 1, 0);
+            orthogonalize(basis, j + 1, w, N, coefs);
+            for (int i = 0; i <= j; i++) {
+                T.unsafe_set(i, j, coefs[i]);
+                T.unsafe_set(j, i, coefs[i]);
+            }
+
+            beta = norm(w, N);
+            if (beta <= BREAKDOWN_TOL*Math.max(normW, normEstimate)) {
+                // Found an invariant subspace. Continue with a random vector orthogonal to the basis
+                beta = 0;
+                if (j + 1 == N) {
+                    Arrays.fill(w, 0);
+                    break;
+                }
+                randomize(w, N);
+                orthogonalize(basis, j + 1, w, N, null);
+                scale(w, 1.0/norm(w, N), N);
+            } else {
+                scale(w, 1.0/beta, N);
+            }
+
+            if (j + 1 < m) {
+                T.unsafe_set(j + 1, j, beta);
+                T.unsafe_set(j, j + 1, beta);
+            }
+        }
+        return beta;
+    }
+
+    /**
+     * Replaces the first 'count' basis vectors with the best Ritz vectors, V(:,0:count) = V*Y. This is done in
+     * place by processing a block of rows at a time.
+     */
+    private void computeRitzVectors( int count, int m, int N ) {
+        final int block = 512;
+        if (work.length < block*m)
+            work = new double[block*m];
+
+        for (int row0 = 0; row0 < N; row0 += block) {
+            int length = Math.min(block, N - row0);
+            for (int j = 0; j < m; j++) {
+                System.arraycopy(basis[j], row0, work, j*block, length);
+            }
+            for (int i = 0; i < count; i++) {
+                double[] y = projectedVector(i).data;
+                double[] v = basis[i];
+                for (int r = 0; r < length; r++) {
+                    double sum = 0;
+                    for (int j = 0; j < m; j++) {
+                        sum += y[j]*work[j*block + r];
+                    }
+                    v[row0 + r] = sum;
+                }
+            }
+        }
+    }
+
+    public int getBasisSize() {
+        return basisSize;
+    }
+
+    /**
+     * Specifies the maximum number of vectors in the basis. If &le; 0 then it's selected automatically.
+     */
+    public void setBasisSize( int basisSize ) {
+        this.basisSize = basisSize;
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.sparse.csc.linsol.iterative.Preconditioner_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Locally Optimal Block Preconditioned Conjugate Gradient (LOBPCG) for finding the largest or smallest eigenpairs
+ * of a symmetric matrix. A block of approximate eigenvectors X is improved each iteration using the Rayleigh-Ritz
+ * method on the subspace spanned by X, the preconditioned residuals W, and the previous search directions P.
+ * Only one matrix-vector product is needed per unconverged vector per iteration and memory usage is a small
+ * multiple of the block size, independent of the number of iterations.
+ * </p>
+ *
+ * <p>
+ * The subspace [X W P] is orthonormalized before Rayleigh-Ritz and vectors which are nearly linearly dependent are
+ * discarded, which keeps the projected problem well conditioned. Residuals are only computed for eigenpairs which
+ * have not yet converged (soft locking). A*X and A*P are updated implicitly and not recomputed.
+ * </p>
+ *
+ * <p>
+ * A preconditioner which approximates A<sup>-1</sup>, e.g. {@link org.ejml.sparse.csc.linsol.iterative.PreconditionerJacobi_DSCC}
+ * or incomplete Cholesky, can greatly speed up convergence when searching for the smallest eigenvalues.
+ * The block size includes a few extra vectors beyond what's requested, which improves the rate of convergence.
+ * </p>
+ *
+ * <p>
+ * Knyazev, Andrew V. "Toward the optimal preconditioned eigensolver: Locally optimal block preconditioned
+ * conjugate gradient method." SIAM journal on scientific computing 23.2 (2001): 517-541.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class Lobpcg_DSCC extends PartialEigenSolver_DSCC {
+    // A vector is discarded when orthogonalization leaves less than this fraction of its norm.
+    // Larger than 1e-10 only if the precision can't reach it
+    private static final double BREAKDOWN_TOL = Math.max(1e-10, 100*UtilEjml.EPS);
+
+    // (Optional) preconditioner applied to the residuals
+    protected @Nullable Preconditioner_DSCC preconditioner;
+
+    // Number of vectors in the block. If <= 0 then it's selected automatically
+    private int blockSize;
+
+    // Approximate eigenvectors, the next search directions, and their products with A
+    private double[][] X = new double[0][], AX = new double[0][];
+    private double[][] P = new double[0][], AP = new double[0][];
+    private double[][] nextX = new double[0][], nextAX = new double[0][];
+    private double[][] nextP = new double[0][], nextAP = new double[0][];
+    // preconditioned residuals and their products with A
+    private double[][] W = new double[0][], AW = new double[0][];
+    // Subspace for Rayleigh-Ritz. References the vectors above
+    private double[][] S = new double[0][], AS = new double[0][];
+    // residual
+    private double[] r = new double[0];
+
+    // Number of search directions
+    private int numP;
+
+    private final DMatrixRMaj H = new DMatrixRMaj(1, 1);
+
+    /**
+     * @param numEigen Number of eigenpairs that are found
+     * @param which Which end of the spectrum is searched
+     * @param blockSize Number of vectors in the block. Must be at least numEigen. If &le; 0 then
+     * numEigen + max(2, numEigen/4) is used.
+     * @param preconditioner (Optional) preconditioner. If null then no preconditioner is used.
+     */
+    public Lobpcg_DSCC( int numEigen, Which which, int blockSize, @Nullable Preconditioner_DSCC preconditioner ) {
+        super(numEigen, which, 1000);
+        if (blockSize > 0 && blockSize < numEigen)
+            throw new IllegalArgumentException("Block size must be at least the number of eigenvalues");
+        this.blockSize = blockSize;
+        this.preconditioner = preconditioner;
+    }
+
+    public Lobpcg_DSCC( int numEigen, Which which ) {
+        this(numEigen, which, 0, null);
+    }
+
+    /**
+     * Computes the preconditioner, if there is one, then finds the eigenpairs. The preconditioner is computed
+     * from the sparse matrix, which means that the operator must be a {@link MatrixVectorOperator_DSCC} when there
+     * is a preconditioner.
+     *
+     * @throws IllegalArgumentException If there's a preconditioner and the operator doesn't have a sparse matrix
+     */
+    @Override
+    public boolean process( MatrixVectorOperator_F64 A ) {
+        if (preconditioner != null) {
+            if (!(A instanceof MatrixVectorOperator_DSCC))
+                throw new IllegalArgumentException("A preconditioner can only be computed for a sparse matrix operator");
+            if (!preconditioner.decompose(((MatrixVectorOperator_DSCC)A).getMatrix()))
+                throw new IllegalArgumentException("Failed to compute the preconditioner");
+        }
+        return super.process(A);
+    }
+
+    @Override
+    protected boolean solve( MatrixVectorOperator_F64 A ) {
+        final int N = A.size();
+        final int B = Math.min(N, blockSize > 0 ? blockSize : numEigen + Math.max(2, numEigen/4));
+        declareWorkspace(B, N);
+
+        // Initial block of random orthonormal vectors
+        for (int i = 0; i < B; i++) {
+            randomize(X[i], N);
+            orthogonalize(X, i, X[i], N, null);
+            scale(X[i], 1.0/norm(X[i], N), N);
+            A.mult(X[i], 0, AX[i], 0);
+            S[i] = X[i];
+            AS[i] = AX[i];
+        }
+        numP = 0;
+        if (!rayleighRitz(B, B, N))
+            return false;
+
+        boolean converged = false;
+        for (iterations = 1; ; iterations++) {
+            // Residuals of unconverged eigenpairs become the next expansion of the subspace
+            converged = true;
+            int numW = 0;
+            for (int i = 0; i < B; i++) {
+                double theta = projectedValue(i);
+                double[] x = X[i], ax = AX[i];
+                for (int k = 0; k < N; k++) {
+                    r[k] = ax[k] - theta*x[k];
+                }
+                if (isConverged(norm(r, N)))
+                    continue;
+                if (i < numEigen)
+                    converged = false;
+                if (preconditioner == null)
+                    System.arraycopy(r, 0, W[numW], 0, N);
+                else
+                    preconditioner.solve(r, W[numW]);
+                numW++;
+            }
+
+            if (converged || iterations >= maxIterations)
+                break;
+
+            // Orthonormal basis for [X W P]
+            int count = B;
+            for (int i = 0; i < B; i++) {
+                S[i] = X[i];
+                AS[i] = AX[i];
+            }
+            for (int i = 0; i < numW; i++) {
+                if (!orthonormalize(W[i], null, count, N))
+                    continue;
+                A.mult(W[i], 0, AW[i], 0);
+                S[count] = W[i];
+                AS[count++] = AW[i];
+            }
+            for (int i = 0; i < numP; i++) {
+                if (!orthonormalize(P[i], AP[i], count, N))
+                    continue;
+                S[count] = P[i];
+                AS[count++] = AP[i];
+            }
+
+            if (!rayleighRitz(count, B, N))
+                return false;
+        }
+
+        for (int i = 0; i < numEigen; i++) {
+            addEigenpair(A, projectedValue(i), X[i]);
+        }
+        return converged;
+    }
+
+    private void declareWorkspace( int B, int N ) {
+        if (X.length != B || X[0].length != N) {
+            X = new double[B][N];
+            AX = new double[B][N];
+            P = new double[B][N];
+            AP = new double[B][N];
+            nextX = new double[B][N];
+            nextAX = new double[B][N];
+            nextP = new double[B][N];
+            nextAP = new double[B][N];
+            W = new double[B][N];
+            AW = new double[B][N];
+            S = new double[3*B][];
+            AS = new double[3*B][];
+            r = new double[N];
+        }
+    }
+
+    /**
+     * Orthogonalizes the vector against the first 'count' vectors in S and normalizes it. If 'ax' is not null
+     * then it's updated so that it's still the product of A and x.
+     *
+     * @return false if the vector is nearly in the span of S and should be discarded
+     */
+    private boolean orthonormalize( double[] x, @Nullable double[] ax, int count, int N ) {
+        double before = norm(x, N);
+        if (before == 0.0)
+            return false;
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < count; i++) {
+                double c = dot(S[i], x, N);
+                addScaled(x, -c, S[i], N);
+                if (ax != null)
+                    addScaled(ax, -c, AS[i], N);
+            }
+        }
+        double after = norm(x, N);
+        if (after <= BREAKDOWN_TOL*before)
+            return false;
+        scale(x, 1.0/after, N);
+        if (ax != null)
+            scale(ax, 1.0/after, N);
+        return true;
+    }
+
+    /**
+     * Solves the projected eigenvalue problem on the subspace S and updates X and P.
+     *
+     * @param count Number of vectors in S
+     * @param B Block size
+     */
+    private boolean rayleighRitz( int count, int B, int N ) {
+        H.reshape(count, count);
+        for (int i = 0; i < count; i++) {
+            for (int j = i; j < count; j++) {
+                double value = dot(S[i], AS[j], N);
+                H.unsafe_set(i, j, value);
+                H.unsafe_set(j, i, value);
+            }
+        }
+        if (!decomposeProjected(H))
+            return false;
+
+        // The search direction is the component from W and P. Then X = X*Y + P
+        for (int i = 0; i < B; i++) {
+            double[] y = projectedVector(i).data;
+            combine(S, y, B, count, nextP[i], N);
+            combine(AS, y, B, count, nextAP[i], N);
+            System.arraycopy(nextP[i], 0, nextX[i], 0, N);
+            System.arraycopy(nextAP[i], 0, nextAX[i], 0, N);
+            for (int j = 0; j < B; j++) {
+                addScaled(nextX[i], y[j], S[j], N);
+                addScaled(nextAX[i], y[j], AS[j], N);
+            }
+        }
+        numP = count > B ? B : 0;
+
+        double[][] tmp;
+        tmp = X; X = nextX; nextX = tmp;
+        tmp = AX; AX = nextAX; nextAX = tmp;
+        tmp = P; P = nextP; nextP = tmp;
+        tmp = AP; AP = nextAP; nextAP = tmp;
+        return true;
+    }
+
+    /**
+     * output = sum vectors[j]*y[j] for j in [start, end)
+     */
+    private static void combine( double[][] vectors, double[] y, int start, int end, double[] output, int N ) {
+        Arrays.fill(output, 0, N, 0);
+        for (int j = start; j < end; j++) {
+            addScaled(output, y[j], vectors[j], N);
+        }
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Specifies the number of vectors in the block. If &le; 0 then it's selected automatically.
+     */
+    public void setBlockSize( int blockSize ) {
+        this.blockSize = blockSize;
+    }
+
+    public @Nullable Preconditioner_DSCC getPreconditioner() {
+        return preconditioner;
+    }
+
+    public void setPreconditioner( @Nullable Preconditioner_DSCC preconditioner ) {
+        this.preconditioner = preconditioner;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.eig;
+
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.sparse.csc.mult.MatrixVectorMult_DSCC;
+
+/**
+ * Matrix-vector operator for a symmetric {@link DMatrixSparseCSC}. Since A = A<sup>T</sup> the product is
+ * computed as an inner product with each column, y[i] = A(:,i)<sup>T</sup>*x, which is more cache friendly than
+ * scattering each column into y. A reference to A is saved and it must not be modified.
+ *
+ * @author Peter Abeles
+ */
+public class MatrixVectorOperator_DSCC implements MatrixVectorOperator_F64 {
+    protected DMatrixSparseCSC A;
+
+    public MatrixVectorOperator_DSCC( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+        this.A = A;
+    }
+
+    @Override
+    public int size() {
+        return A.numCols;
+    }
+
+    @Override
+    public void mult( double[] x, int offsetX, double[] y, int offsetY ) {
+        MatrixVectorMult_DSCC.mult(x, offsetX, A, y, offsetY);
+    }
+
+    public DMatrixSparseCSC getMatrix() {
+        return A;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.eig;
+
+/**
+ * A square symmetric linear operator which is only accessed through matrix-vector products. Used by iterative
+ * eigen solvers so that the matrix never needs to be explicitly formed or modified, e.g. a sparse matrix or
+ * the inverse of a shifted matrix.
+ *
+ * @author Peter Abeles
+ */
+public interface MatrixVectorOperator_F64 {
+    /**
+     * Number of rows and columns in the operator
+     */
+    int size();
+
+    /**
+     * y = A*x
+     *
+     * @param x (Input) vector. Not modified.
+     * @param offsetX (Input) first index in vector x
+     * @param y (Output) vector. Must not be the same array as 'x'.
+     * @param offsetY (Output) first index in vector y
+     */
+    void mult( double[] x, int offsetX, double[] y, int offsetY );
+
+    /**
+     * Converts an eigenvalue of the operator into an eigenvalue of the matrix it represents. Operators which
+     * transform the spectrum, e.g. shift-invert, need to override this function.
+     *
+     * @param value Eigenvalue of the operator
+     * @return Eigenvalue of the original matrix
+     */
+    default double toEigenvalue( double value ) {
+        return value;
+    }
+}
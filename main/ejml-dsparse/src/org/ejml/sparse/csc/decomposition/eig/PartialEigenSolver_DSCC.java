@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DEigenpair;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <p>
+ * Base class for iterative solvers which compute a few eigenpairs of a large sparse symmetric matrix. The matrix is
+ * only accessed through a {@link MatrixVectorOperator_F64}, which can be a sparse matrix, its concurrent version,
+ * or a shift-invert operator. Eigenpairs are returned in order, starting with the largest or smallest eigenvalue
+ * of the operator, and eigenvalues are converted back into eigenvalues of the original matrix using
+ * {@link MatrixVectorOperator_F64#toEigenvalue}.
+ * </p>
+ *
+ * <p>
+ * An eigenpair (&lambda;,x) has converged when ||A*x - &lambda;*x|| &le; tol*||A||, where ||A|| is estimated from
+ * the largest magnitude Ritz value found so far. If it fails to converge then the best estimates are still returned.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public abstract class PartialEigenSolver_DSCC {
+    /**
+     * Which end of the spectrum the eigenvalues are found at
+     */
+    public enum Which {
+        LARGEST, SMALLEST
+    }
+
+    // Number of eigenpairs that are requested
+    protected int numEigen;
+    protected Which which;
+
+    // Convergence tolerance for the residual relative to the norm of the operator.
+    // Larger than 1e-8 only if the precision can't reach it
+    protected double tolerance = Math.max(1e-8, 1000*UtilEjml.EPS);
+    // Maximum number of iterations
+    protected int maxIterations;
+
+    protected Random rand = new Random(0xBEEF);
+
+    // Results from the most recent call to process
+    protected final List<DEigenpair> eigenpairs = new ArrayList<>();
+    protected boolean converged;
+    protected int iterations;
+    // Estimate of ||A|| from the largest Ritz value
+    protected double normEstimate;
+
+    // Used to decompose the projected matrix
+    protected EigenDecomposition_F64<DMatrixRMaj> eig = DecompositionFactory_DDRM.eig(10, true, true);
+    // Ordering of eigenvalues from the projected matrix
+    protected int[] order = new int[0];
+
+    protected PartialEigenSolver_DSCC( int numEigen, Which which, int maxIterations ) {
+        if (numEigen <= 0)
+            throw new IllegalArgumentException("Number of eigenvalues must be positive");
+        this.numEigen = numEigen;
+        this.which = which;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Finds the eigenpairs of a symmetric sparse matrix. A reference to A is saved and it must not be modified.
+     *
+     * @param A (Input) Symmetric matrix. Not modified.
+     * @return true if all the eigenpairs converged
+     */
+    public boolean process( DMatrixSparseCSC A ) {
+        return process(new MatrixVectorOperator_DSCC(A));
+    }
+
+    /**
+     * Finds the eigenpairs of the matrix represented by the operator.
+     *
+     * @param A (Input) Symmetric operator.
+     * @return true if all the eigenpairs converged
+     */
+    public boolean process( MatrixVectorOperator_F64 A ) {
+        if (numEigen > A.size())
+            throw new IllegalArgumentException("Requested more eigenvalues than there are rows");
+        eigenpairs.clear();
+        iterations = 0;
+        normEstimate = 0;
+        converged = solve(A);
+        return converged;
+    }
+
+    /**
+     * Computes the eigenpairs and adds them to {@link #eigenpairs}
+     *
+     * @return true if it converged
+     */
+    protected abstract boolean solve( MatrixVectorOperator_F64 A );
+
+    /**
+     * Decomposes the symmetric matrix H and sorts the eigenvalues so that the ones being searched for are first.
+     * Results are available in {@link #eig} and {@link #order}.
+     *
+     * @return false if the decomposition failed
+     */
+    protected boolean decomposeProjected( DMatrixRMaj H ) {
+        if (!eig.decompose(H))
+            return false;
+
+        int N = H.numRows;
+        if (order.length < N)
+            order = new int[N];
+        for (int i = 0; i < N; i++) {
+            order[i] = i;
+            normEstimate = Math.max(normEstimate, Math.abs(eig.getEigenvalue(i).real));
+        }
+
+        // insertion sort since the projected problem is small
+        for (int i = 1; i < N; i++) {
+            int value = order[i];
+            int j = i - 1;
+            while (j >= 0 && isBetter(eig.getEigenvalue(value).real, eig.getEigenvalue(order[j]).real)) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = value;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the eigenvector of the projected problem for the i-th best eigenvalue
+     */
+    protected DMatrixRMaj projectedVector( int i ) {
+        DMatrixRMaj v = eig.getEigenVector(order[i]);
+        if (v == null)
+            throw new RuntimeException("Eigenvector of the projected matrix is missing");
+        return v;
+    }
+
+    protected double projectedValue( int i ) {
+        return eig.getEigenvalue(order[i]).real;
+    }
+
+    /**
+     * Returns true if eigenvalue 'a' should be found before 'b'
+     */
+    protected boolean isBetter( double a, double b ) {
+        return which == Which.LARGEST ? a > b : a < b;
+    }
+
+    /**
+     * Returns true if the residual norm is small enough for the eigenpair to have converged
+     */
+    protected boolean isConverged( double residual ) {
+        return residual <= tolerance*normEstimate;
+    }
+
+    /**
+     * Saves an eigenpair of the operator
+     */
+    protected void addEigenpair( MatrixVectorOperator_F64 A, double value, double[] vector ) {
+        var v = new DMatrixRMaj(vector.length, 1);
+        System.arraycopy(vector, 0, v.data, 0, vector.length);
+        eigenpairs.add(new DEigenpair(A.toEigenvalue(value), v));
+    }
+
+    /**
+     * Fills the vector with random values sampled from a normal distribution
+     */
+    protected void randomize( double[] x, int N ) {
+        for (int i = 0; i < N; i++) {
+            x[i] = (double)rand.nextGaussian();
+        }
+    }
+
+    /**
+     * Removes the components of x which are in the span of the first 'count' orthonormal vectors. Two passes are
+     * made to ensure orthogonality is maintained in the presence of rounding errors.
+     *
+     * @param coefs (Output) If not null, the sum of the projection coefficients are added to it
+     */
+    protected static void orthogonalize( double[][] basis, int count, double[] x, int N, @Nullable double[] coefs ) {
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < count; i++) {
+                double c = dot(basis[i], x, N);
+                if (coefs != null)
+                    coefs[i] += c;
+                addScaled(x, -c, basis[i], N);
+            }
+        }
+    }
+
+    /**
+     * x = x + alpha*y
+     */
+    protected static void addScaled( double[] x, double alpha, double[] y, int N ) {
+        for (int i = 0; i < N; i++) {
+            x[i] += alpha*y[i];
+        }
+    }
+
+    protected static void scale( double[] x, double alpha, int N ) {
+        for (int i = 0; i < N; i++) {
+            x[i] *= alpha;
+        }
+    }
+
+    protected static double dot( double[] a, double[] b, int N ) {
+        double sum = 0;
+        for (int i = 0; i < N; i++) {
+            sum += a[i]*b[i];
+        }
+        return sum;
+    }
+
+    protected static double norm( double[] a, int N ) {
+        return Math.sqrt(dot(a, a, N));
+    }
+
+    /**
+     * Returns the list of eigenpairs found in the most recent call to process
+     */
+    public List<DEigenpair> getEigenpairs() {
+        return eigenpairs;
+    }
+
+    public DEigenpair getEigenpair( int index ) {
+        return eigenpairs.get(index);
+    }
+
+    /**
+     * True if all the eigenpairs converged in the most recent call to process
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    /**
+     * Number of iterations in the most recent call to process
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getNumEigen() {
+        return numEigen;
+    }
+
+    public Which getWhich() {
+        return which;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Specifies the convergence tolerance for the residual relative to ||A||
+     */
+    public void setTolerance( double tolerance ) {
+        this.tolerance = tolerance;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    public void setMaxIterations( int maxIterations ) {
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Specifies the seed used to generate the initial random vectors
+     */
+    public void setSeed( long seed ) {
+        rand = new Random(seed);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.eig;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.interfaces.linsol.LinearSolverSparse;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+
+/**
+ * <p>
+ * Shift-invert operator, (A - &sigma;I)<sup>-1</sup>, for finding the eigenvalues of A which are closest to
+ * &sigma;. If &lambda; is an eigenvalue of A then &theta; = 1/(&lambda; - &sigma;) is an eigenvalue of the operator
+ * with the same eigenvector. Eigenvalues of A close to &sigma; become the largest magnitude eigenvalues of the
+ * operator, which is where iterative eigen solvers converge quickly. Use the largest eigenvalues of the
+ * operator to find the eigenvalues of A just above &sigma;. For example, setting &sigma; to a small negative
+ * number finds the smallest eigenvalues of a graph Laplacian.
+ * </p>
+ *
+ * <p>
+ * A - &sigma;I is decomposed once, when the operator is created, using the provided sparse solver. Cholesky
+ * can be used when &sigma; is below the smallest eigenvalue, since then A - &sigma;I is positive definite,
+ * otherwise use LU.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ShiftInvertOperator_DSCC implements MatrixVectorOperator_F64 {
+    // the shift
+    private final double sigma;
+
+    private final LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> solver;
+
+    // workspace
+    private final DMatrixRMaj B;
+    private final DMatrixRMaj X;
+
+    /**
+     * Computes A - &sigma;I and decomposes it.
+     *
+     * @param A (Input) Symmetric matrix. Not modified.
+     * @param sigma The shift
+     * @param solver Sparse solver used to decompose A - &sigma;I, e.g. Cholesky or LU.
+     * @throws IllegalArgumentException if A - &sigma;I could not be decomposed, e.g. &sigma; is an eigenvalue
+     */
+    public ShiftInvertOperator_DSCC( DMatrixSparseCSC A, double sigma,
+                                     LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> solver ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+        this.sigma = sigma;
+        this.solver = solver;
+
+        DMatrixSparseCSC shifted = CommonOps_DSCC.add(1.0, A, -sigma,
+                CommonOps_DSCC.identity(A.numCols), null, null, null);
+        if (!solver.setA(shifted))
+            throw new IllegalArgumentException("Failed to decompose A - sigma*I. Try a different shift.");
+
+        B = new DMatrixRMaj(A.numCols, 1);
+        X = new DMatrixRMaj(A.numCols, 1);
+    }
+
+    @Override
+    public int size() {
+        return B.numRows;
+    }
+
+    @Override
+    public void mult( double[] x, int offsetX, double[] y, int offsetY ) {
+        System.arraycopy(x, offsetX, B.data, 0, B.numRows);
+        solver.solve(B, X);
+        System.arraycopy(X.data, 0, y, offsetY, X.numRows);
+    }
+
+    /**
+     * &lambda; = &sigma; + 1/&theta;
+     */
+    @Override
+    public double toEigenvalue( double value ) {
+        return sigma + 1.0/value;
+    }
+
+    public double getSigma() {
+        return sigma;
+    }
+}
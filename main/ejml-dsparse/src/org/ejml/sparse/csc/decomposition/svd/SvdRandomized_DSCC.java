@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.svd;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.decomposition.svd.SvdRandomized_DDRM;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Random;
+
+/**
+ * Truncated singular value decomposition of a {@link DMatrixSparseCSC} using a randomized range finder.
+ * The sparse matrix is only multiplied against thin dense matrices, see {@link SvdRandomized_DDRM} for
+ * a description of the algorithm. Singular vectors are dense and are also available without conversion
+ * through {@link #getDenseU} and {@link #getDenseV}.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public class SvdRandomized_DSCC implements SingularValueDecomposition_F64<DMatrixSparseCSC> {
+    // performs the decomposition using the sparse matrix as an operator
+    protected SvdRandomized_DDRM alg;
+
+    // the matrix being decomposed
+    private DMatrixSparseCSC A;
+
+    // workspace
+    private final DGrowArray work = new DGrowArray();
+
+    private final SvdRandomized_DDRM.Operator operator = new SvdRandomized_DDRM.Operator() {
+        @Override
+        public void mult( DMatrixRMaj B, DMatrixRMaj output ) {
+            SvdRandomized_DSCC.this.mult(A, B, output);
+        }
+
+        @Override
+        public void multTransA( DMatrixRMaj B, DMatrixRMaj output ) {
+            SvdRandomized_DSCC.this.multTransA(A, B, output);
+        }
+    };
+
+    /**
+     * Configures the decomposition. See {@link SvdRandomized_DDRM#SvdRandomized_DDRM(int, int, int, Random)}
+     */
+    public SvdRandomized_DSCC( int rank, int oversampling, int powerIterations, Random rand ) {
+        this(new SvdRandomized_DDRM(rank, oversampling, powerIterations, rand));
+    }
+
+    protected SvdRandomized_DSCC( SvdRandomized_DDRM alg ) {
+        this.alg = alg;
+    }
+
+    @Override
+    public boolean decompose( DMatrixSparseCSC orig ) {
+        this.A = orig;
+        return alg.decompose(orig.numRows, orig.numCols, operator);
+    }
+
+    /**
+     * output = A*B. Overridden by concurrent implementations.
+     */
+    protected void mult( DMatrixSparseCSC A, DMatrixRMaj B, DMatrixRMaj output ) {
+        CommonOps_DSCC.mult(A, B, output);
+    }
+
+    /**
+     * output = A<sup>T</sup>*B. Overridden by concurrent implementations.
+     */
+    protected void multTransA( DMatrixSparseCSC A, DMatrixRMaj B, DMatrixRMaj output ) {
+        CommonOps_DSCC.multTransA(A, B, output, work);
+    }
+
+    /**
+     * Left singular vectors as a dense matrix
+     */
+    public DMatrixRMaj getDenseU( @Nullable DMatrixRMaj U, boolean transposed ) {
+        return alg.getU(U, transposed);
+    }
+
+    /**
+     * Right singular vectors as a dense matrix
+     */
+    public DMatrixRMaj getDenseV( @Nullable DMatrixRMaj V, boolean transposed ) {
+        return alg.getV(V, transposed);
+    }
+
+    @Override
+    public double[] getSingularValues() {
+        return alg.getSingularValues();
+    }
+
+    @Override
+    public int numberOfSingularValues() {
+        return alg.numberOfSingularValues();
+    }
+
+    @Override
+    public boolean isCompact() {
+        return true;
+    }
+
+    @Override
+    public DMatrixSparseCSC getU( @Nullable DMatrixSparseCSC U, boolean transposed ) {
+        return DConvertMatrixStruct.convert(alg.getU(null, transposed), U, 0.0);
+    }
+
+    @Override
+    public DMatrixSparseCSC getV( @Nullable DMatrixSparseCSC V, boolean transposed ) {
+        return DConvertMatrixStruct.convert(alg.getV(null, transposed), V, 0.0);
+    }
+
+    @Override
+    public DMatrixSparseCSC getW( @Nullable DMatrixSparseCSC W ) {
+        int N = alg.numberOfSingularValues();
+        if (W == null)
+            W = new DMatrixSparseCSC(N, N, N);
+        else
+            W.reshape(N, N, N);
+        double[] values = alg.getSingularValues();
+        for (int i = 0; i < N; i++) {
+            W.set(i, i, values[i]);
+        }
+        return W;
+    }
+
+    @Override
+    public int numRows() {
+        return alg.numRows();
+    }
+
+    @Override
+    public int numCols() {
+        return alg.numCols();
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+}
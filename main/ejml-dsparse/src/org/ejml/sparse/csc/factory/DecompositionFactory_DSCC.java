@@ -22,11 +22,21 @@ import org.ejml.data.DMatrixSparseCSC;
 import org.ejml.interfaces.decomposition.CholeskySparseDecomposition_F64;
 import org.ejml.interfaces.decomposition.LUSparseDecomposition_F64;
 import org.ejml.interfaces.decomposition.QRSparseDecomposition;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
 import org.ejml.sparse.ComputePermutation;
 import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.decomposition.chol.CholeskySupernodal_DSCC;
 import org.ejml.sparse.csc.decomposition.chol.CholeskyUpLooking_DSCC;
+import org.ejml.sparse.csc.decomposition.eig.LanczosThickRestart_DSCC;
+import org.ejml.sparse.csc.decomposition.eig.Lobpcg_DSCC;
+import org.ejml.sparse.csc.decomposition.eig.PartialEigenSolver_DSCC;
 import org.ejml.sparse.csc.decomposition.lu.LuUpLooking_DSCC;
 import org.ejml.sparse.csc.decomposition.qr.QrLeftLookingDecomposition_DSCC;
+import org.ejml.sparse.csc.decomposition.svd.SvdRandomized_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.Preconditioner_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Random;
 
 /**
  * Factory for sparse matrix decompositions
@@ -38,6 +48,14 @@ public class DecompositionFactory_DSCC {
         return new CholeskyUpLooking_DSCC();
     }
 
+    /**
+     * Supernodal Cholesky decomposition. Faster than {@link #cholesky()} when L has large dense blocks, which is
+     * common after a fill reducing permutation has been applied to matrices from 2D and 3D problems.
+     */
+    public static CholeskySparseDecomposition_F64<DMatrixSparseCSC> choleskySupernodal() {
+        return new CholeskySupernodal_DSCC();
+    }
+
     public static QRSparseDecomposition<DMatrixSparseCSC> qr(FillReducing permutation) {
         ComputePermutation<DMatrixSparseCSC> cp = FillReductionFactory_DSCC.create(permutation);
         return new QrLeftLookingDecomposition_DSCC(cp);
@@ -47,4 +65,36 @@ public class DecompositionFactory_DSCC {
         ComputePermutation<DMatrixSparseCSC> cp = FillReductionFactory_DSCC.create(permutation);
         return new LuUpLooking_DSCC(cp);
     }
+
+    /**
+     * Truncated SVD which computes the largest singular values using a randomized algorithm.
+     * See {@link SvdRandomized_DSCC}.
+     *
+     * @param rank Number of singular values that are computed
+     * @param oversampling Number of additional samples of the range. Typically 5 to 10.
+     * @param powerIterations Number of power iterations. Typically 1 or 2.
+     */
+    public static SingularValueDecomposition_F64<DMatrixSparseCSC> svdRandomized( int rank, int oversampling,
+                                                                                  int powerIterations ) {
+        return new SvdRandomized_DSCC(rank, oversampling, powerIterations, new Random(0xBEEF));
+    }
+
+    /**
+     * Finds a few of the largest or smallest eigenpairs of a symmetric matrix using thick-restart Lanczos.
+     * See {@link LanczosThickRestart_DSCC}.
+     */
+    public static PartialEigenSolver_DSCC lanczos( int numEigen, PartialEigenSolver_DSCC.Which which ) {
+        return new LanczosThickRestart_DSCC(numEigen, which);
+    }
+
+    /**
+     * Finds a few of the largest or smallest eigenpairs of a symmetric matrix using LOBPCG.
+     * See {@link Lobpcg_DSCC}.
+     *
+     * @param preconditioner (Optional) preconditioner. If null then no preconditioner is used.
+     */
+    public static PartialEigenSolver_DSCC lobpcg( int numEigen, PartialEigenSolver_DSCC.Which which,
+                                                  @Nullable Preconditioner_DSCC preconditioner ) {
+        return new Lobpcg_DSCC(numEigen, which, 0, preconditioner);
+    }
 }
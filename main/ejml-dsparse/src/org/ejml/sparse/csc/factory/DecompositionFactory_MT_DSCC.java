@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.factory;
+
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.interfaces.decomposition.CholeskySparseDecomposition_F64;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.ejml.sparse.csc.decomposition.chol.CholeskyUpLooking_MT_DSCC;
+import org.ejml.sparse.csc.decomposition.svd.SvdRandomized_MT_DSCC;
+
+import java.util.Random;
+
+/**
+ * Factory for concurrent sparse matrix decompositions
+ *
+ * @author Peter Abeles
+ */
+public class DecompositionFactory_MT_DSCC {
+    /**
+     * Cholesky decomposition where independent subtrees of the elimination tree are processed in parallel.
+     * See {@link CholeskyUpLooking_MT_DSCC}.
+     */
+    public static CholeskySparseDecomposition_F64<DMatrixSparseCSC> cholesky() {
+        return new CholeskyUpLooking_MT_DSCC();
+    }
+
+    /**
+     * Concurrent truncated SVD using a randomized algorithm. See {@link SvdRandomized_MT_DSCC}.
+     */
+    public static SingularValueDecomposition_F64<DMatrixSparseCSC> svdRandomized( int rank, int oversampling,
+                                                                                  int powerIterations ) {
+        return new SvdRandomized_MT_DSCC(rank, oversampling, powerIterations, new Random(0xBEEF));
+    }
+}
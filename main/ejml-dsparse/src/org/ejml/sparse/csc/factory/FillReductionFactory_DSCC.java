@@ -23,6 +23,7 @@ import org.ejml.data.DMatrixSparseCSC;
 import org.ejml.data.IGrowArray;
 import org.ejml.sparse.ComputePermutation;
 import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.misc.ApproximateMinimumDegree_DSCC;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Random;
@@ -44,6 +45,12 @@ public class FillReductionFactory_DSCC {
             case NONE:
                 return null;
 
+            case AMD:
+                return new ApproximateMinimumDegree_DSCC(false);
+
+            case COLAMD:
+                return new ApproximateMinimumDegree_DSCC(true);
+
             case RANDOM:
                 return new ComputePermutation<>(true, true) {
                     @Override
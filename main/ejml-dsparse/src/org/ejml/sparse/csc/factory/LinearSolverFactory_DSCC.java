@@ -23,12 +23,19 @@ import org.ejml.data.DMatrixSparseCSC;
 import org.ejml.interfaces.linsol.LinearSolverSparse;
 import org.ejml.sparse.ComputePermutation;
 import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.decomposition.chol.CholeskySupernodal_DSCC;
 import org.ejml.sparse.csc.decomposition.chol.CholeskyUpLooking_DSCC;
 import org.ejml.sparse.csc.decomposition.lu.LuUpLooking_DSCC;
 import org.ejml.sparse.csc.decomposition.qr.QrLeftLookingDecomposition_DSCC;
 import org.ejml.sparse.csc.linsol.chol.LinearSolverCholesky_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.LinearSolverBiCGStab_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.LinearSolverGmres_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.LinearSolverIterative_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.LinearSolverPcg_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.Preconditioner_DSCC;
 import org.ejml.sparse.csc.linsol.lu.LinearSolverLu_DSCC;
 import org.ejml.sparse.csc.linsol.qr.LinearSolverQrLeftLooking_DSCC;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Factory for sparse linear solvers
@@ -42,6 +49,15 @@ public class LinearSolverFactory_DSCC {
         return new LinearSolverCholesky_DSCC(chol,cp);
     }
 
+    /**
+     * Cholesky solver which uses a supernodal decomposition. See {@link CholeskySupernodal_DSCC}.
+     */
+    public static LinearSolverSparse<DMatrixSparseCSC,DMatrixRMaj> choleskySupernodal(FillReducing permutation) {
+        ComputePermutation<DMatrixSparseCSC> cp = FillReductionFactory_DSCC.create(permutation);
+        CholeskySupernodal_DSCC chol = (CholeskySupernodal_DSCC)DecompositionFactory_DSCC.choleskySupernodal();
+        return new LinearSolverCholesky_DSCC(chol,cp);
+    }
+
     public static LinearSolverSparse<DMatrixSparseCSC,DMatrixRMaj> qr(FillReducing permutation) {
         ComputePermutation<DMatrixSparseCSC> cp = FillReductionFactory_DSCC.create(permutation);
         QrLeftLookingDecomposition_DSCC qr = new QrLeftLookingDecomposition_DSCC(cp);
@@ -53,4 +69,34 @@ public class LinearSolverFactory_DSCC {
         LuUpLooking_DSCC lu = new LuUpLooking_DSCC(cp);
         return new LinearSolverLu_DSCC(lu);
     }
+
+    /**
+     * Iterative solver for symmetric positive definite matrices using preconditioned conjugate gradient. Requires
+     * much less memory than {@link #cholesky} for large systems. See {@link LinearSolverPcg_DSCC}.
+     *
+     * @param preconditioner (Optional) Preconditioner, e.g. PreconditionerIncompleteCholesky_DSCC. Can be null.
+     */
+    public static LinearSolverIterative_DSCC conjugateGradient( @Nullable Preconditioner_DSCC preconditioner ) {
+        return new LinearSolverPcg_DSCC(preconditioner);
+    }
+
+    /**
+     * Iterative solver for general square matrices using restarted GMRES. See {@link LinearSolverGmres_DSCC}.
+     *
+     * @param restart Number of iterations before it restarts. Try 30.
+     * @param preconditioner (Optional) Preconditioner, e.g. PreconditionerIlu0_DSCC. Can be null.
+     */
+    public static LinearSolverIterative_DSCC gmres( int restart, @Nullable Preconditioner_DSCC preconditioner ) {
+        return new LinearSolverGmres_DSCC(restart, preconditioner);
+    }
+
+    /**
+     * Iterative solver for general square matrices using BiCGSTAB. Uses less memory than {@link #gmres} but
+     * convergence can be erratic. See {@link LinearSolverBiCGStab_DSCC}.
+     *
+     * @param preconditioner (Optional) Preconditioner, e.g. PreconditionerIlut_DSCC. Can be null.
+     */
+    public static LinearSolverIterative_DSCC biCGStab( @Nullable Preconditioner_DSCC preconditioner ) {
+        return new LinearSolverBiCGStab_DSCC(preconditioner);
+    }
 }
@@ -27,7 +27,7 @@ import org.ejml.interfaces.decomposition.DecompositionInterface;
 import org.ejml.interfaces.linsol.LinearSolverSparse;
 import org.ejml.sparse.ComputePermutation;
 import org.ejml.sparse.csc.CommonOps_DSCC;
-import org.ejml.sparse.csc.decomposition.chol.CholeskyUpLooking_DSCC;
+import org.ejml.sparse.csc.decomposition.chol.CholeskySparseLower_DSCC;
 import org.ejml.sparse.csc.misc.ApplyFillReductionPermutation_DSCC;
 import org.ejml.sparse.csc.misc.TriangularSolver_DSCC;
 import org.jetbrains.annotations.Nullable;
@@ -41,7 +41,7 @@ import static org.ejml.UtilEjml.adjust;
  */
 public class LinearSolverCholesky_DSCC implements LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> {
 
-    CholeskyUpLooking_DSCC cholesky;
+    CholeskySparseLower_DSCC cholesky;
 
     ApplyFillReductionPermutation_DSCC reduce;
 
@@ -50,11 +50,13 @@ public class LinearSolverCholesky_DSCC implements LinearSolverSparse<DMatrixSpar
     IGrowArray gw = new IGrowArray();
 
     DMatrixSparseCSC tmp = new DMatrixSparseCSC(1, 1, 1);
+    DMatrixSparseCSC Bp = new DMatrixSparseCSC(1, 1, 1);
+    DMatrixSparseCSC Xp = new DMatrixSparseCSC(1, 1, 1);
 
     // Number of rows in A
     int AnumRows, AnumCols;
 
-    public LinearSolverCholesky_DSCC( CholeskyUpLooking_DSCC cholesky, @Nullable ComputePermutation<DMatrixSparseCSC> fillReduce ) {
+    public LinearSolverCholesky_DSCC( CholeskySparseLower_DSCC cholesky, @Nullable ComputePermutation<DMatrixSparseCSC> fillReduce ) {
         this.cholesky = cholesky;
         this.reduce = new ApplyFillReductionPermutation_DSCC(fillReduce, true);
     }
@@ -80,11 +82,26 @@ public class LinearSolverCholesky_DSCC implements LinearSolverSparse<DMatrixSpar
 
         DMatrixSparseCSC L = cholesky.getL();
 
-        tmp.reshape(L.numRows, B.numCols, 1);
+        int[] P = reduce.getArrayP();
         int[] Pinv = reduce.getArrayPinv();
 
-        TriangularSolver_DSCC.solve(L, true, B, tmp, Pinv, gx, gw, gw1);
-        TriangularSolver_DSCC.solveTran(L, true, tmp, X, null, gx, gw, gw1);
+        if (P != null && Pinv != null) {
+            // P*A*P' = L*L'  ->  L*L'*(P*x) = P*b
+            CommonOps_DSCC.permuteRowInv(Pinv, B, Bp);
+            B = Bp;
+        }
+
+        tmp.reshape(L.numRows, B.numCols, 1);
+        TriangularSolver_DSCC.solve(L, true, B, tmp, null, gx, gw, gw1);
+
+        if (P != null) {
+            // undo the fill reduction permutation
+            Xp.reshape(X.numRows, X.numCols, 1);
+            TriangularSolver_DSCC.solveTran(L, true, tmp, Xp, null, gx, gw, gw1);
+            CommonOps_DSCC.permuteRowInv(P, Xp, X);
+        } else {
+            TriangularSolver_DSCC.solveTran(L, true, tmp, X, null, gx, gw, gw1);
+        }
     }
 
     @Override
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.sparse.csc.mult.MatrixVectorMult_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>
+ * Biconjugate gradient stabilized method (BiCGSTAB) for general square matrices. Unlike GMRES memory usage is a
+ * fixed number of vectors and does not grow with the number of iterations, but convergence is not monotonic and
+ * it can break down. If it breaks down then the solver stops and reports that it did not converge. Right
+ * preconditioning is used.
+ * </p>
+ *
+ * <p>See Algorithm 7.7 in "Iterative Methods for Sparse Linear Systems" by Yousef Saad, 2nd ed.</p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverBiCGStab_DSCC extends LinearSolverIterative_DSCC {
+
+    // residual, shadow residual, search direction, and preconditioned vectors
+    DGrowArray gr = new DGrowArray();
+    DGrowArray grhat = new DGrowArray();
+    DGrowArray gp = new DGrowArray();
+    DGrowArray gv = new DGrowArray();
+    DGrowArray gphat = new DGrowArray();
+    DGrowArray gshat = new DGrowArray();
+    DGrowArray gt = new DGrowArray();
+
+    /**
+     * @param preconditioner (Optional) preconditioner. If null then no preconditioner is used.
+     */
+    public LinearSolverBiCGStab_DSCC( @Nullable Preconditioner_DSCC preconditioner ) {
+        super(preconditioner);
+    }
+
+    public LinearSolverBiCGStab_DSCC() {
+        this(null);
+    }
+
+    @Override
+    protected boolean solveColumn( double[] b, double[] x ) {
+        final int N = A.numCols;
+        double[] r = adjust(gr, N);
+        double[] rhat = adjust(grhat, N);
+        double[] p = adjust(gp, N);
+        double[] v = adjust(gv, N);
+        double[] phat = adjust(gphat, N);
+        double[] shat = adjust(gshat, N);
+        double[] t = adjust(gt, N);
+
+        double normB = norm(b, N);
+        if (normB == 0.0) {
+            for (int i = 0; i < N; i++) x[i] = 0;
+            updateStatistics(0, 0);
+            return true;
+        }
+
+        // r = b - A*x
+        MatrixVectorMult_DSCC.mult(A, x, 0, r, 0);
+        for (int i = 0; i < N; i++) r[i] = b[i] - r[i];
+
+        double residual = norm(r, N)/normB;
+        if (residual <= tolerance) {
+            updateStatistics(0, residual);
+            return true;
+        }
+
+        System.arraycopy(r, 0, rhat, 0, N);
+        System.arraycopy(r, 0, p, 0, N);
+        double rho = dot(rhat, r, N);
+
+        int maxIterations = getMaxIterations(N);
+        int iteration = 0;
+        while (iteration < maxIterations) {
+            iteration++;
+            applyPreconditioner(p, phat, N);
+            MatrixVectorMult_DSCC.mult(A, phat, 0, v, 0);
+            double rhatV = dot(rhat, v, N);
+            if (rhatV == 0.0)
+                break;
+            double alpha = rho/rhatV;
+
+            // s = r - alpha*v. r is used to store s
+            for (int i = 0; i < N; i++) {
+                x[i] += alpha*phat[i];
+                r[i] -= alpha*v[i];
+            }
+            residual = norm(r, N)/normB;
+            if (residual <= tolerance)
+                break;
+
+            applyPreconditioner(r, shat, N);
+            MatrixVectorMult_DSCC.mult(A, shat, 0, t, 0);
+            double tt = dot(t, t, N);
+            if (tt == 0.0)
+                break;
+            double omega = dot(t, r, N)/tt;
+            for (int i = 0; i < N; i++) {
+                x[i] += omega*shat[i];
+                r[i] -= omega*t[i];
+            }
+            residual = norm(r, N)/normB;
+            if (residual <= tolerance || omega == 0.0)
+                break;
+
+            double rhoNext = dot(rhat, r, N);
+            // breakdown
+            if (rhoNext == 0.0)
+                break;
+            double beta = (rhoNext/rho)*(alpha/omega);
+            rho = rhoNext;
+            for (int i = 0; i < N; i++) {
+                p[i] = r[i] + beta*(p[i] - omega*v[i]);
+            }
+        }
+
+        updateStatistics(iteration, residual);
+        return residual <= tolerance;
+    }
+
+    private void applyPreconditioner( double[] r, double[] z, int N ) {
+        if (preconditioner == null)
+            System.arraycopy(r, 0, z, 0, N);
+        else
+            preconditioner.solve(r, z);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.sparse.csc.mult.MatrixVectorMult_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>
+ * Restarted generalized minimal residual method, GMRES(m), for general square matrices. Each cycle builds an
+ * orthonormal basis of the Krylov subspace with modified Gram-Schmidt and finds the solution in that subspace
+ * which minimizes the residual. After m iterations the basis is discarded and a new cycle is started from the current
+ * solution. Memory usage is about (m+2)*N. Right preconditioning is used, so the residual being minimized is the
+ * true residual and not the preconditioned residual.
+ * </p>
+ *
+ * <p>See Algorithms 6.9 and 9.5 in "Iterative Methods for Sparse Linear Systems" by Yousef Saad, 2nd ed.</p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverGmres_DSCC extends LinearSolverIterative_DSCC {
+    // Number of iterations before it restarts
+    int restart;
+
+    // Krylov basis. Each row is a vector.
+    DGrowArray gv = new DGrowArray();
+    // Upper Hessenberg matrix. (restart+1) x restart, row major
+    DGrowArray gh = new DGrowArray();
+    // Givens rotations and the right hand side of the least squares problem
+    DGrowArray gc = new DGrowArray();
+    DGrowArray gs = new DGrowArray();
+    DGrowArray gg = new DGrowArray();
+    // workspace vectors
+    DGrowArray gr = new DGrowArray();
+    DGrowArray gz = new DGrowArray();
+    DGrowArray gw = new DGrowArray();
+
+    /**
+     * @param restart Number of iterations in each cycle before it restarts. Larger values converge in fewer
+     * iterations but use more memory. Typical values are 20 to 50.
+     * @param preconditioner (Optional) preconditioner. If null then no preconditioner is used.
+     */
+    public LinearSolverGmres_DSCC( int restart, @Nullable Preconditioner_DSCC preconditioner ) {
+        super(preconditioner);
+        if (restart <= 0)
+            throw new IllegalArgumentException("restart must be > 0");
+        this.restart = restart;
+    }
+
+    public LinearSolverGmres_DSCC() {
+        this(30, null);
+    }
+
+    @Override
+    protected boolean solveColumn( double[] b, double[] x ) {
+        final int N = A.numCols;
+        final int m = Math.min(restart, N);
+        double[] V = adjust(gv, (m + 1)*N);
+        double[] H = adjust(gh, (m + 1)*m);
+        double[] c = adjust(gc, m);
+        double[] s = adjust(gs, m);
+        double[] g = adjust(gg, m + 1);
+        double[] r = adjust(gr, N);
+        double[] z = adjust(gz, N);
+
+        double normB = norm(b, N);
+        if (normB == 0.0) {
+            for (int i = 0; i < N; i++) x[i] = 0;
+            updateStatistics(0, 0);
+            return true;
+        }
+
+        int maxIterations = getMaxIterations(N);
+        int iteration = 0;
+        double residual;
+        while (true) {
+            // r = b - A*x
+            MatrixVectorMult_DSCC.mult(A, x, 0, r, 0);
+            for (int i = 0; i < N; i++) r[i] = b[i] - r[i];
+            double beta = norm(r, N);
+            residual = beta/normB;
+            if (residual <= tolerance || iteration >= maxIterations)
+                break;
+
+            for (int i = 0; i < N; i++) V[i] = r[i]/beta;
+            g[0] = beta;
+
+            // Arnoldi process
+            int j = 0;
+            while (j < m && iteration < maxIterations) {
+                iteration++;
+                applyPreconditioner(V, j*N, z, N);
+                MatrixVectorMult_DSCC.mult(A, z, 0, V, (j + 1)*N);
+                int offsetW = (j + 1)*N;
+
+                // modified Gram-Schmidt
+                for (int i = 0; i <= j; i++) {
+                    int offsetV = i*N;
+                    double h = 0;
+                    for (int k = 0; k < N; k++) h += V[offsetW + k]*V[offsetV + k];
+                    for (int k = 0; k < N; k++) V[offsetW + k] -= h*V[offsetV + k];
+                    H[i*m + j] = h;
+                }
+                double h = 0;
+                for (int k = 0; k < N; k++) h += V[offsetW + k]*V[offsetW + k];
+                h = Math.sqrt(h);
+                H[(j + 1)*m + j] = h;
+                // if h is zero the exact solution is in the subspace and this is the last iteration
+                if (h != 0.0) {
+                    for (int k = 0; k < N; k++) V[offsetW + k] /= h;
+                }
+
+                // apply the previous rotations to the new column
+                for (int i = 0; i < j; i++) {
+                    double a0 = H[i*m + j];
+                    double a1 = H[(i + 1)*m + j];
+                    H[i*m + j] = c[i]*a0 + s[i]*a1;
+                    H[(i + 1)*m + j] = -s[i]*a0 + c[i]*a1;
+                }
+                // compute a rotation which eliminates the sub diagonal element
+                double a0 = H[j*m + j];
+                double a1 = H[(j + 1)*m + j];
+                double denom = Math.sqrt(a0*a0 + a1*a1);
+                if (denom == 0.0) {
+                    c[j] = 1;
+                    s[j] = 0;
+                } else {
+                    c[j] = a0/denom;
+                    s[j] = a1/denom;
+                }
+                H[j*m + j] = denom;
+                H[(j + 1)*m + j] = 0;
+                g[j + 1] = -s[j]*g[j];
+                g[j] = c[j]*g[j];
+                j++;
+
+                if (h == 0.0 || Math.abs(g[j])/normB <= tolerance)
+                    break;
+            }
+
+            // Solve the upper triangular system for y, which is saved in g
+            for (int i = j - 1; i >= 0; i--) {
+                double sum = g[i];
+                for (int k = i + 1; k < j; k++) sum -= H[i*m + k]*g[k];
+                // singular system. Nothing more can be done
+                if (H[i*m + i] == 0.0)
+                    return finish(iteration, residual);
+                g[i] = sum/H[i*m + i];
+            }
+
+            // x = x + M^-1 * V*y
+            for (int k = 0; k < N; k++) r[k] = 0;
+            for (int i = 0; i < j; i++) {
+                double y = g[i];
+                int offsetV = i*N;
+                for (int k = 0; k < N; k++) r[k] += y*V[offsetV + k];
+            }
+            applyPreconditioner(r, 0, z, N);
+            for (int k = 0; k < N; k++) x[k] += z[k];
+        }
+
+        return finish(iteration, residual);
+    }
+
+    private boolean finish( int iteration, double residual ) {
+        updateStatistics(iteration, residual);
+        return residual <= tolerance;
+    }
+
+    private void applyPreconditioner( double[] V, int offset, double[] z, int N ) {
+        if (preconditioner == null) {
+            System.arraycopy(V, offset, z, 0, N);
+        } else if (offset == 0) {
+            preconditioner.solve(V, z);
+        } else {
+            // the preconditioner doesn't take an offset
+            double[] w = adjust(gw, N);
+            System.arraycopy(V, offset, w, 0, N);
+            preconditioner.solve(w, z);
+        }
+    }
+
+    public int getRestart() {
+        return restart;
+    }
+
+    public void setRestart( int restart ) {
+        if (restart <= 0)
+            throw new IllegalArgumentException("restart must be > 0");
+        this.restart = restart;
+    }
+}
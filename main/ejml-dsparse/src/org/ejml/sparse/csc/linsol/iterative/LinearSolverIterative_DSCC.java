@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.interfaces.decomposition.DecompositionInterface;
+import org.ejml.interfaces.linsol.LinearSolverSparse;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>
+ * Base class for iterative linear solvers. Each column in B is solved for independently. Iterations stop when
+ * the relative residual, ||b - A*x||/||b||, drops below the tolerance or the maximum number of iterations
+ * has been exceeded. Call {@link #isConverged()} after solving to see if it converged. A reference to A is saved
+ * and it must not be modified until the solver is no longer being used.
+ * </p>
+ *
+ * <p>
+ * If warm start is enabled and X has the expected shape then the values in X are used as the initial estimate,
+ * e.g. the solution from the previous call. Otherwise the initial estimate is zero.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class LinearSolverIterative_DSCC implements LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> {
+    // (Optional) preconditioner
+    protected @Nullable Preconditioner_DSCC preconditioner;
+
+    protected DMatrixSparseCSC A;
+
+    // Maximum number of iterations for each column. If <= 0 then it's the number of rows in A.
+    protected int maxIterations = 0;
+    // Convergence tolerance for the relative residual. Larger than 1e-10 only if the precision can't reach it
+    protected double tolerance = Math.max(1e-10, 1000*UtilEjml.EPS);
+    // If true then the initial value of X is used as the initial estimate
+    protected boolean warmStart = false;
+
+    // Results from the most recent call to solve. Worst case across all the columns
+    protected int iterations;
+    protected double residualNorm;
+    protected boolean converged;
+
+    protected boolean locked = false;
+
+    // workspace
+    protected DGrowArray gb = new DGrowArray();
+    protected DGrowArray gx = new DGrowArray();
+    protected DMatrixRMaj denseB = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj denseX = new DMatrixRMaj(1, 1);
+
+    protected LinearSolverIterative_DSCC( @Nullable Preconditioner_DSCC preconditioner ) {
+        this.preconditioner = preconditioner;
+    }
+
+    /**
+     * Saves a reference to A and computes the preconditioner
+     *
+     * @return false if the preconditioner could not be computed
+     */
+    @Override
+    public boolean setA( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+        this.A = A;
+        return preconditioner == null || preconditioner.decompose(A);
+    }
+
+    /**
+     * Not supported by iterative solvers
+     */
+    @Override
+    public /**/double quality() {
+        throw new IllegalArgumentException("Not supported by iterative solvers");
+    }
+
+    @Override
+    public void solve( DMatrixRMaj B, DMatrixRMaj X ) {
+        boolean initialize = !warmStart || X.numRows != A.numCols || X.numCols != B.numCols;
+        UtilEjml.checkReshapeSolve(A.numRows, A.numCols, B, X);
+
+        final int N = A.numCols;
+        double[] b = adjust(gb, N);
+        double[] x = adjust(gx, N);
+
+        iterations = 0;
+        residualNorm = 0;
+        converged = true;
+
+        for (int col = 0; col < B.numCols; col++) {
+            int index = col;
+            for (int i = 0; i < N; i++, index += B.numCols) b[i] = B.data[index];
+
+            if (initialize) {
+                Arrays.fill(x, 0, N, 0);
+            } else {
+                index = col;
+                for (int i = 0; i < N; i++, index += X.numCols) x[i] = X.data[index];
+            }
+
+            converged &= solveColumn(b, x);
+
+            index = col;
+            for (int i = 0; i < N; i++, index += X.numCols) X.data[index] = x[i];
+        }
+    }
+
+    /**
+     * Solves A*x = b for a single column
+     *
+     * @param b (Input) Not modified.
+     * @param x (Input) Initial estimate. (Output) solution.
+     * @return true if it converged
+     */
+    protected abstract boolean solveColumn( double[] b, double[] x );
+
+    /**
+     * Called by the implementation after each column has been solved
+     */
+    protected void updateStatistics( int columnIterations, double columnResidual ) {
+        iterations = Math.max(iterations, columnIterations);
+        residualNorm = Math.max(residualNorm, columnResidual);
+    }
+
+    /**
+     * The maximum number of iterations for a system of this size
+     */
+    protected int getMaxIterations( int N ) {
+        return maxIterations <= 0 ? N : maxIterations;
+    }
+
+    /**
+     * The solution is dense so this converts B into a dense matrix and X into a sparse matrix
+     */
+    @Override
+    public void solveSparse( DMatrixSparseCSC B, DMatrixSparseCSC X ) {
+        DConvertMatrixStruct.convert(B, denseB);
+        if (warmStart && X.numRows == A.numCols && X.numCols == B.numCols)
+            DConvertMatrixStruct.convert(X, denseX);
+        solve(denseB, denseX);
+        DConvertMatrixStruct.convert(denseX, X, 0.0);
+    }
+
+    /**
+     * Nothing is computed from the structure of A so this flag has no effect
+     */
+    @Override
+    public void setStructureLocked( boolean locked ) {
+        this.locked = locked;
+    }
+
+    @Override
+    public boolean isStructureLocked() {
+        return locked;
+    }
+
+    @Override
+    public boolean modifiesA() {
+        return false;
+    }
+
+    @Override
+    public boolean modifiesB() {
+        return false;
+    }
+
+    /**
+     * Returns the preconditioner, which can be null.
+     */
+    @Override
+    public <D extends DecompositionInterface> D getDecomposition() {
+        return (D)preconditioner;
+    }
+
+    static double dot( double[] a, double[] b, int N ) {
+        double sum = 0;
+        for (int i = 0; i < N; i++) {
+            sum += a[i]*b[i];
+        }
+        return sum;
+    }
+
+    static double norm( double[] a, int N ) {
+        return Math.sqrt(dot(a, a, N));
+    }
+
+    /**
+     * Number of iterations in the most recent call to solve. If multiple columns were solved then it's the
+     * largest number of iterations for any column.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Relative residual, ||b - A*x||/||b||, after the most recent call to solve. If multiple columns were solved
+     * then it's the largest residual for any column.
+     */
+    public double getResidualNorm() {
+        return residualNorm;
+    }
+
+    /**
+     * True if all the columns converged in the most recent call to solve
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Specifies the maximum number of iterations used to solve each column. If &le; 0 then the number of rows in A is
+     * used.
+     */
+    public void setMaxIterations( int maxIterations ) {
+        this.maxIterations = maxIterations;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Specifies the tolerance for the relative residual, ||b - A*x||/||b||
+     */
+    public void setTolerance( double tolerance ) {
+        this.tolerance = tolerance;
+    }
+
+    public boolean isWarmStart() {
+        return warmStart;
+    }
+
+    /**
+     * If true then the values in X are used as the initial estimate when X has the correct shape
+     */
+    public void setWarmStart( boolean warmStart ) {
+        this.warmStart = warmStart;
+    }
+
+    public @Nullable Preconditioner_DSCC getPreconditioner() {
+        return preconditioner;
+    }
+}
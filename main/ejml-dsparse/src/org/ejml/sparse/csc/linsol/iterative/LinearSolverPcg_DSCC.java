@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.sparse.csc.mult.MatrixVectorMult_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>
+ * Preconditioned conjugate gradient (PCG) for symmetric positive definite matrices. The preconditioner must also
+ * be symmetric positive definite. In exact arithmetic it converges in at most N iterations. Memory usage is only
+ * a few vectors and no memory is allocated while iterating.
+ * </p>
+ *
+ * <p>See Algorithm 9.1 in "Iterative Methods for Sparse Linear Systems" by Yousef Saad, 2nd ed.</p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverPcg_DSCC extends LinearSolverIterative_DSCC {
+
+    // residual, preconditioned residual, search direction, and A*p
+    DGrowArray gr = new DGrowArray();
+    DGrowArray gz = new DGrowArray();
+    DGrowArray gp = new DGrowArray();
+    DGrowArray gq = new DGrowArray();
+
+    /**
+     * @param preconditioner (Optional) preconditioner. If null then no preconditioner is used.
+     */
+    public LinearSolverPcg_DSCC( @Nullable Preconditioner_DSCC preconditioner ) {
+        super(preconditioner);
+    }
+
+    public LinearSolverPcg_DSCC() {
+        this(null);
+    }
+
+    @Override
+    protected boolean solveColumn( double[] b, double[] x ) {
+        final int N = A.numCols;
+        double[] r = adjust(gr, N);
+        double[] z = adjust(gz, N);
+        double[] p = adjust(gp, N);
+        double[] q = adjust(gq, N);
+
+        double normB = norm(b, N);
+        if (normB == 0.0) {
+            for (int i = 0; i < N; i++) x[i] = 0;
+            updateStatistics(0, 0);
+            return true;
+        }
+
+        // r = b - A*x
+        MatrixVectorMult_DSCC.mult(A, x, 0, r, 0);
+        for (int i = 0; i < N; i++) r[i] = b[i] - r[i];
+
+        double residual = norm(r, N)/normB;
+        if (residual <= tolerance) {
+            updateStatistics(0, residual);
+            return true;
+        }
+
+        applyPreconditioner(r, z, N);
+        System.arraycopy(z, 0, p, 0, N);
+        double rz = dot(r, z, N);
+
+        int maxIterations = getMaxIterations(N);
+        int iteration = 0;
+        while (iteration < maxIterations) {
+            iteration++;
+            MatrixVectorMult_DSCC.mult(A, p, 0, q, 0);
+            double pq = dot(p, q, N);
+            // A is not positive definite or the search direction has vanished
+            if (pq <= 0.0)
+                break;
+            double alpha = rz/pq;
+            for (int i = 0; i < N; i++) {
+                x[i] += alpha*p[i];
+                r[i] -= alpha*q[i];
+            }
+
+            residual = norm(r, N)/normB;
+            if (residual <= tolerance)
+                break;
+
+            applyPreconditioner(r, z, N);
+            double rzNext = dot(r, z, N);
+            double beta = rzNext/rz;
+            rz = rzNext;
+            for (int i = 0; i < N; i++) {
+                p[i] = z[i] + beta*p[i];
+            }
+        }
+
+        updateStatistics(iteration, residual);
+        return residual <= tolerance;
+    }
+
+    private void applyPreconditioner( double[] r, double[] z, int N ) {
+        if (preconditioner == null)
+            System.arraycopy(r, 0, z, 0, N);
+        else
+            preconditioner.solve(r, z);
+    }
+}
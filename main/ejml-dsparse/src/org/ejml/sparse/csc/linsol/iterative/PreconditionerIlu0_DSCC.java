@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.sparse.csc.misc.TriangularSolver_DSCC;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>
+ * Incomplete LU preconditioner with no fill in, ILU(0). M = L*U, where L is unit lower triangular and U is upper
+ * triangular and together they have the same non-zero pattern as A. Fill in which a complete LU would
+ * create is discarded. No pivoting is done, so A must have a non-zero diagonal.
+ * </p>
+ *
+ * <p>
+ * The factors are stored so that M<sup>-1</sup> can be applied using {@link TriangularSolver_DSCC#solveL} and
+ * {@link TriangularSolver_DSCC#solveU}. The diagonal in L is explicitly saved.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerIlu0_DSCC implements Preconditioner_DSCC {
+    // Lower and upper triangular factors
+    DMatrixSparseCSC L = new DMatrixSparseCSC(1, 1, 0);
+    DMatrixSparseCSC U = new DMatrixSparseCSC(1, 1, 0);
+
+    // workspace
+    DMatrixSparseCSC sorted = new DMatrixSparseCSC(1, 1, 0);
+    DGrowArray gx = new DGrowArray();
+    IGrowArray gw = new IGrowArray();
+
+    @Override
+    public boolean decompose( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        // Rows need to be processed in order
+        if (!A.indicesSorted) {
+            sorted.set(A);
+            sorted.sortIndices(null);
+            A = sorted;
+        }
+
+        if (!initializeStructure(A))
+            return false;
+
+        return performDecomposition(A);
+    }
+
+    /**
+     * Splits the non-zero pattern of A into L and U
+     *
+     * @return false if a diagonal element is missing
+     */
+    private boolean initializeStructure( DMatrixSparseCSC A ) {
+        final int N = A.numCols;
+        int countL = 0, countU = 0;
+        for (int col = 0; col < N; col++) {
+            boolean diagonal = false;
+            for (int p = A.col_idx[col]; p < A.col_idx[col + 1]; p++) {
+                int row = A.nz_rows[p];
+                if (row == col)
+                    diagonal = true;
+                else if (row > col)
+                    countL++;
+                else
+                    countU++;
+            }
+            if (!diagonal)
+                return false;
+        }
+
+        L.reshape(N, N, countL + N);
+        U.reshape(N, N, countU + N);
+        int indexL = 0, indexU = 0;
+        for (int col = 0; col < N; col++) {
+            L.col_idx[col] = indexL;
+            U.col_idx[col] = indexU;
+            // diagonal is the first element in L and last in U
+            L.nz_rows[indexL++] = col;
+            for (int p = A.col_idx[col]; p < A.col_idx[col + 1]; p++) {
+                int row = A.nz_rows[p];
+                if (row > col)
+                    L.nz_rows[indexL++] = row;
+                else if (row < col)
+                    U.nz_rows[indexU++] = row;
+            }
+            U.nz_rows[indexU++] = col;
+        }
+        L.col_idx[N] = L.nz_length = indexL;
+        U.col_idx[N] = U.nz_length = indexU;
+        L.indicesSorted = U.indicesSorted = true;
+        return true;
+    }
+
+    /**
+     * Left looking decomposition. Column j is computed by applying previous columns of L to column j in A,
+     * in increasing order of row, and only updating elements in column j's pattern.
+     *
+     * @return false if a zero pivot is encountered
+     */
+    private boolean performDecomposition( DMatrixSparseCSC A ) {
+        final int N = A.numCols;
+        double[] x = adjust(gx, N);
+        int[] mark = adjust(gw, N);
+        Arrays.fill(mark, 0, N, -1);
+
+        for (int j = 0; j < N; j++) {
+            int idx0 = A.col_idx[j];
+            int idx1 = A.col_idx[j + 1];
+            for (int p = idx0; p < idx1; p++) {
+                x[A.nz_rows[p]] = A.nz_values[p];
+                mark[A.nz_rows[p]] = j;
+            }
+
+            // U(k,j) for k < j. Row indexes in U are sorted
+            int idxU0 = U.col_idx[j];
+            int idxU1 = U.col_idx[j + 1] - 1;
+            for (int p = idxU0; p < idxU1; p++) {
+                int k = U.nz_rows[p];
+                double ukj = x[k];
+                U.nz_values[p] = ukj;
+                for (int q = L.col_idx[k] + 1; q < L.col_idx[k + 1]; q++) {
+                    int row = L.nz_rows[q];
+                    if (mark[row] == j)
+                        x[row] -= L.nz_values[q]*ukj;
+                }
+            }
+
+            double ujj = x[j];
+            if (ujj == 0.0)
+                return false;
+            U.nz_values[idxU1] = ujj;
+
+            int idxL0 = L.col_idx[j];
+            int idxL1 = L.col_idx[j + 1];
+            L.nz_values[idxL0] = 1.0;
+            for (int p = idxL0 + 1; p < idxL1; p++) {
+                L.nz_values[p] = x[L.nz_rows[p]]/ujj;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void solve( double[] b, double[] x ) {
+        System.arraycopy(b, 0, x, 0, L.numCols);
+        TriangularSolver_DSCC.solveL(L, x);
+        TriangularSolver_DSCC.solveU(U, x);
+    }
+
+    /**
+     * Returns the unit lower triangular factor
+     */
+    public DMatrixSparseCSC getL() {
+        return L;
+    }
+
+    /**
+     * Returns the upper triangular factor
+     */
+    public DMatrixSparseCSC getU() {
+        return U;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+}
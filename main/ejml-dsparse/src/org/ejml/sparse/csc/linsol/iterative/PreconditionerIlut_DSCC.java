@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.sparse.csc.misc.TriangularSolver_DSCC;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>
+ * Incomplete LU preconditioner with threshold dropping, ILUT(&tau;,p). M = L*U where L is unit lower triangular and
+ * U is upper triangular. Unlike {@link PreconditionerIlu0_DSCC} fill in is allowed, but two dropping rules limit
+ * how much. Elements with a magnitude less than &tau; times the norm of the column in A are dropped, then only the
+ * p largest elements in each column of L and U are kept, not counting the diagonal.
+ * </p>
+ *
+ * <p>
+ * This is a column oriented version of the algorithm described in Section 10.4 of "Iterative Methods for Sparse
+ * Linear Systems" by Yousef Saad, 2nd ed. No pivoting is done. If a zero pivot is encountered it is replaced by
+ * (&tau; + 1e-4) times the column's norm.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerIlut_DSCC implements Preconditioner_DSCC {
+    // Relative drop tolerance
+    double dropTolerance;
+    // Maximum number of off diagonal elements in each column of L and U
+    int maxFill;
+
+    // Lower and upper triangular factors
+    DMatrixSparseCSC L = new DMatrixSparseCSC(1, 1, 0);
+    DMatrixSparseCSC U = new DMatrixSparseCSC(1, 1, 0);
+
+    // workspace
+    DGrowArray gx = new DGrowArray();
+    IGrowArray gw = new IGrowArray();
+
+    /**
+     * @param dropTolerance Elements smaller than this times the norm of the column in A are dropped. &ge; 0
+     * @param maxFill Maximum number of off diagonal elements in each column of L and U. &ge; 0
+     */
+    public PreconditionerIlut_DSCC( double dropTolerance, int maxFill ) {
+        if (dropTolerance < 0.0)
+            throw new IllegalArgumentException("dropTolerance must be >= 0");
+        if (maxFill < 0)
+            throw new IllegalArgumentException("maxFill must be >= 0");
+        this.dropTolerance = dropTolerance;
+        this.maxFill = maxFill;
+    }
+
+    public PreconditionerIlut_DSCC() {
+        this(1e-3, 10);
+    }
+
+    @Override
+    public boolean decompose( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        final int N = A.numCols;
+        L.reshape(N, N, A.nz_length + N);
+        U.reshape(N, N, A.nz_length + N);
+
+        double[] x = adjust(gx, N);
+        // mark = last column a row was used in, pattern = rows in the current column, heap = rows above the diagonal
+        int[] w = adjust(gw, 3*N);
+        Arrays.fill(w, 0, N, -1);
+        final int pattern = N, heap = 2*N;
+
+        for (int j = 0; j < N; j++) {
+            L.col_idx[j] = L.nz_length;
+            U.col_idx[j] = U.nz_length;
+
+            // scatter the column into x
+            double norm = 0;
+            int patternSize = 0, heapSize = 0;
+            for (int p = A.col_idx[j]; p < A.col_idx[j + 1]; p++) {
+                int row = A.nz_rows[p];
+                double value = A.nz_values[p];
+                norm += value*value;
+                x[row] = value;
+                w[row] = j;
+                w[pattern + patternSize++] = row;
+                if (row < j)
+                    heapSize = heapPush(w, heap, heapSize, row);
+            }
+            norm = Math.sqrt(norm);
+            if (norm == 0.0)
+                return false;
+            double tol = dropTolerance*norm;
+
+            growMaxLength(U, j + 1);
+
+            // Apply previous columns in increasing order of row. New non-zero elements can be added to the heap
+            while (heapSize > 0) {
+                int k = w[heap];
+                heapSize = heapPop(w, heap, heapSize);
+                double ukj = x[k];
+                if (Math.abs(ukj) < tol)
+                    continue;
+                U.nz_rows[U.nz_length] = k;
+                U.nz_values[U.nz_length++] = ukj;
+
+                for (int q = L.col_idx[k] + 1; q < L.col_idx[k + 1]; q++) {
+                    int row = L.nz_rows[q];
+                    if (w[row] != j) {
+                        w[row] = j;
+                        x[row] = 0;
+                        w[pattern + patternSize++] = row;
+                        if (row < j)
+                            heapSize = heapPush(w, heap, heapSize, row);
+                    }
+                    x[row] -= L.nz_values[q]*ukj;
+                }
+            }
+            U.nz_length = U.col_idx[j] + keepLargest(U, U.col_idx[j], U.nz_length - U.col_idx[j]);
+
+            // diagonal element
+            double ujj = w[j] == j ? x[j] : 0.0;
+            if (ujj == 0.0)
+                ujj = (dropTolerance + 1e-4)*norm;
+            U.nz_rows[U.nz_length] = j;
+            U.nz_values[U.nz_length++] = ujj;
+
+            // lower triangular portion
+            growMaxLength(L, patternSize + 1);
+            int idxL0 = L.nz_length;
+            L.nz_rows[L.nz_length] = j;
+            L.nz_values[L.nz_length++] = 1.0;
+            for (int i = 0; i < patternSize; i++) {
+                int row = w[pattern + i];
+                if (row > j && Math.abs(x[row]) >= tol) {
+                    L.nz_rows[L.nz_length] = row;
+                    L.nz_values[L.nz_length++] = x[row]/ujj;
+                }
+            }
+            L.nz_length = idxL0 + 1 + keepLargest(L, idxL0 + 1, L.nz_length - idxL0 - 1);
+        }
+        L.col_idx[N] = L.nz_length;
+        U.col_idx[N] = U.nz_length;
+
+        // The triangular solvers only need the diagonal to be first in L and last in U
+        L.indicesSorted = U.indicesSorted = false;
+        return true;
+    }
+
+    /**
+     * Makes sure there's enough space for 'extra' elements to be added
+     */
+    private static void growMaxLength( DMatrixSparseCSC M, int extra ) {
+        if (M.nz_length + extra > M.nz_values.length)
+            M.growMaxLength(M.nz_values.length*2 + extra, true);
+    }
+
+    /**
+     * Moves the maxFill largest elements, by magnitude, to the start of the range
+     *
+     * @return number of elements kept
+     */
+    private int keepLargest( DMatrixSparseCSC M, int start, int length ) {
+        if (length <= maxFill)
+            return length;
+        final int[] rows = M.nz_rows;
+        final double[] values = M.nz_values;
+        for (int i = 0; i < maxFill; i++) {
+            int best = start + i;
+            for (int k = best + 1; k < start + length; k++) {
+                if (Math.abs(values[k]) > Math.abs(values[best]))
+                    best = k;
+            }
+            int tmpRow = rows[start + i];
+            double tmpValue = values[start + i];
+            rows[start + i] = rows[best];
+            values[start + i] = values[best];
+            rows[best] = tmpRow;
+            values[best] = tmpValue;
+        }
+        return maxFill;
+    }
+
+    /**
+     * Adds a value to a min heap stored in w starting at offset
+     */
+    private static int heapPush( int[] w, int offset, int size, int value ) {
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1)/2;
+            if (w[offset + parent] <= value)
+                break;
+            w[offset + i] = w[offset + parent];
+            i = parent;
+        }
+        w[offset + i] = value;
+        return size;
+    }
+
+    /**
+     * Removes the smallest value from the min heap
+     */
+    private static int heapPop( int[] w, int offset, int size ) {
+        int value = w[offset + --size];
+        int i = 0;
+        while (true) {
+            int child = 2*i + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && w[offset + child + 1] < w[offset + child])
+                child++;
+            if (value <= w[offset + child])
+                break;
+            w[offset + i] = w[offset + child];
+            i = child;
+        }
+        w[offset + i] = value;
+        return size;
+    }
+
+    @Override
+    public void solve( double[] b, double[] x ) {
+        System.arraycopy(b, 0, x, 0, L.numCols);
+        TriangularSolver_DSCC.solveL(L, x);
+        TriangularSolver_DSCC.solveU(U, x);
+    }
+
+    /**
+     * Returns the unit lower triangular factor
+     */
+    public DMatrixSparseCSC getL() {
+        return L;
+    }
+
+    /**
+     * Returns the upper triangular factor
+     */
+    public DMatrixSparseCSC getU() {
+        return U;
+    }
+
+    public double getDropTolerance() {
+        return dropTolerance;
+    }
+
+    public int getMaxFill() {
+        return maxFill;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+}
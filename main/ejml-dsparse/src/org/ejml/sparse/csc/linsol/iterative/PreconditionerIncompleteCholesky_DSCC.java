@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.sparse.csc.misc.TriangularSolver_DSCC;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>
+ * Incomplete Cholesky preconditioner with no fill in, IC(0). M = L*L<sup>T</sup>, where L has the same non-zero
+ * pattern as the lower triangular portion of A. Any fill in that a complete Cholesky decomposition would
+ * create is discarded. The lower triangular portion of A is read.
+ * </p>
+ *
+ * <p>
+ * IC(0) can break down with a non-positive pivot even when A is positive definite. When that happens
+ * the diagonal of A is shifted, A + &alpha;*diag(A), and it's tried again with a larger &alpha; each time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerIncompleteCholesky_DSCC implements Preconditioner_DSCC {
+    /** The first shift that's tried after it has broken down */
+    public double initialShift = 1e-3;
+    /** Maximum number of times the shift is increased before it gives up */
+    public int maxShiftAttempts = 10;
+
+    // The shift used in the most recent decomposition
+    double shift;
+
+    // Lower triangular factor
+    DMatrixSparseCSC L = new DMatrixSparseCSC(1, 1, 0);
+    // The lower triangular portion of A
+    DGrowArray valuesA = new DGrowArray();
+
+    // workspace
+    DGrowArray gx = new DGrowArray();
+    IGrowArray gw = new IGrowArray();
+
+    @Override
+    public boolean decompose( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        if (!initializeStructure(A))
+            return false;
+
+        shift = 0;
+        for (int attempt = 0; attempt <= maxShiftAttempts; attempt++) {
+            if (performDecomposition())
+                return true;
+            shift = shift == 0 ? initialShift : shift*2;
+        }
+        return false;
+    }
+
+    /**
+     * Copies the lower triangular portion of A into L with sorted row indexes.
+     *
+     * @return false if a diagonal element is missing
+     */
+    private boolean initializeStructure( DMatrixSparseCSC A ) {
+        final int N = A.numCols;
+
+        int nz_length = 0;
+        for (int col = 0; col < N; col++) {
+            for (int p = A.col_idx[col]; p < A.col_idx[col + 1]; p++) {
+                if (A.nz_rows[p] >= col)
+                    nz_length++;
+            }
+        }
+
+        L.reshape(N, N, nz_length);
+        int index = 0;
+        for (int col = 0; col < N; col++) {
+            L.col_idx[col] = index;
+            for (int p = A.col_idx[col]; p < A.col_idx[col + 1]; p++) {
+                if (A.nz_rows[p] >= col) {
+                    L.nz_rows[index] = A.nz_rows[p];
+                    L.nz_values[index++] = A.nz_values[p];
+                }
+            }
+        }
+        L.col_idx[N] = index;
+        L.nz_length = index;
+        L.indicesSorted = false;
+        L.sortIndices(null);
+
+        for (int col = 0; col < N; col++) {
+            int idx0 = L.col_idx[col];
+            if (idx0 == L.col_idx[col + 1] || L.nz_rows[idx0] != col)
+                return false;
+        }
+
+        double[] values = adjust(valuesA, nz_length);
+        System.arraycopy(L.nz_values, 0, values, 0, nz_length);
+        return true;
+    }
+
+    /**
+     * Left looking decomposition. For column j, every column k with a non-zero L(j,k) is subtracted but only the
+     * elements which are already in column j's pattern are updated.
+     *
+     * @return false if a non-positive pivot is encountered
+     */
+    private boolean performDecomposition() {
+        final int N = L.numCols;
+        final int[] rows = L.nz_rows;
+        final double[] values = L.nz_values;
+
+        double[] x = adjust(gx, N);
+        // head = first column which will update column j, next = linked list, pos = next unused element in column k,
+        // mark = last column that row i was marked in
+        int[] w = adjust(gw, 4*N);
+        Arrays.fill(w, 0, 2*N, -1);
+        Arrays.fill(w, 3*N, 4*N, -1);
+        final int head = 0, next = N, pos = 2*N, mark = 3*N;
+
+        System.arraycopy(valuesA.data, 0, values, 0, L.nz_length);
+
+        for (int j = 0; j < N; j++) {
+            int idx0 = L.col_idx[j];
+            int idx1 = L.col_idx[j + 1];
+
+            for (int p = idx0; p < idx1; p++) {
+                x[rows[p]] = values[p];
+                w[mark + rows[p]] = j;
+            }
+            x[j] += shift*values[idx0];
+
+            int k = w[head + j];
+            while (k != -1) {
+                int nextK = w[next + k];
+                int p = w[pos + k];
+                int end = L.col_idx[k + 1];
+                double ljk = values[p];
+                for (int q = p; q < end; q++) {
+                    int row = rows[q];
+                    if (w[mark + row] == j)
+                        x[row] -= values[q]*ljk;
+                }
+                addToList(w, k, p + 1, end);
+                k = nextK;
+            }
+
+            double d = x[j];
+            if (d <= 0.0)
+                return false;
+            double ljj = Math.sqrt(d);
+            values[idx0] = ljj;
+            for (int p = idx0 + 1; p < idx1; p++) {
+                values[p] = x[rows[p]]/ljj;
+            }
+            addToList(w, j, idx0 + 1, idx1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Column k will next update the column which is the row at index p
+     */
+    private void addToList( int[] w, int k, int p, int end ) {
+        final int N = L.numCols;
+        w[2*N + k] = p;
+        if (p < end) {
+            int row = L.nz_rows[p];
+            w[N + k] = w[row];
+            w[row] = k;
+        }
+    }
+
+    @Override
+    public void solve( double[] b, double[] x ) {
+        System.arraycopy(b, 0, x, 0, L.numCols);
+        TriangularSolver_DSCC.solveL(L, x);
+        TriangularSolver_DSCC.solveTranL(L, x);
+    }
+
+    /**
+     * Returns the lower triangular factor
+     */
+    public DMatrixSparseCSC getL() {
+        return L;
+    }
+
+    /**
+     * The shift which was added to the diagonal in the most recent decomposition. Zero if no shift was needed.
+     */
+    public double getShift() {
+        return shift;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * Jacobi preconditioner, where M is the diagonal of A. Very cheap to compute and apply but it is only effective
+ * when A is diagonally dominant or its rows have very different scales.
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerJacobi_DSCC implements Preconditioner_DSCC {
+    // inverse of the diagonal elements in A
+    DGrowArray inverseDiagonal = new DGrowArray();
+
+    /**
+     * Extracts the diagonal of A
+     *
+     * @return false if any of the diagonal elements are zero
+     */
+    @Override
+    public boolean decompose( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        double[] inv = adjust(inverseDiagonal, A.numCols);
+        if (!extractDiagonal(A, inv))
+            return false;
+        for (int i = 0; i < A.numCols; i++) {
+            inv[i] = 1.0/inv[i];
+        }
+        return true;
+    }
+
+    /**
+     * Copies the diagonal elements of A into 'diag'
+     *
+     * @return false if any of the diagonal elements are zero
+     */
+    static boolean extractDiagonal( DMatrixSparseCSC A, double[] diag ) {
+        for (int col = 0; col < A.numCols; col++) {
+            diag[col] = 0;
+            int idx0 = A.col_idx[col];
+            int idx1 = A.col_idx[col + 1];
+            for (int p = idx0; p < idx1; p++) {
+                if (A.nz_rows[p] == col) {
+                    diag[col] = A.nz_values[p];
+                    break;
+                }
+            }
+            if (diag[col] == 0.0)
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void solve( double[] b, double[] x ) {
+        final double[] inv = inverseDiagonal.data;
+        final int N = inverseDiagonal.length;
+        for (int i = 0; i < N; i++) {
+            x[i] = b[i]*inv[i];
+        }
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+}
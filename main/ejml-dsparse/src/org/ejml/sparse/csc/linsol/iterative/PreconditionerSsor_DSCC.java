@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>
+ * Symmetric successive over-relaxation (SSOR) preconditioner. A = L + D + U, where L and U are the strictly lower
+ * and upper triangular parts of A and D is its diagonal.
+ * </p>
+ *
+ * M = &omega;/(2-&omega;) (D/&omega; + L) (D/&omega;)<sup>-1</sup> (D/&omega; + U)
+ *
+ * <p>
+ * M is symmetric positive definite when A is and 0 &lt; &omega; &lt; 2. No new matrices are created, instead
+ * a reference to A is saved and it must not be modified while the preconditioner is in use.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerSsor_DSCC implements Preconditioner_DSCC {
+    // relaxation parameter
+    double omega;
+
+    // reference to the matrix being approximated
+    DMatrixSparseCSC A;
+    // diagonal elements of A divided by omega
+    DGrowArray diagonal = new DGrowArray();
+
+    /**
+     * @param omega Relaxation parameter. 0 &lt; omega &lt; 2. A value of 1 is symmetric Gauss-Seidel.
+     */
+    public PreconditionerSsor_DSCC( double omega ) {
+        if (omega <= 0.0 || omega >= 2.0)
+            throw new IllegalArgumentException("omega must be between 0 and 2");
+        this.omega = omega;
+    }
+
+    public PreconditionerSsor_DSCC() {
+        this(1.0);
+    }
+
+    /**
+     * Saves a reference to A and extracts its diagonal
+     *
+     * @return false if any of the diagonal elements are zero
+     */
+    @Override
+    public boolean decompose( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        this.A = A;
+        double[] diag = adjust(diagonal, A.numCols);
+        if (!PreconditionerJacobi_DSCC.extractDiagonal(A, diag))
+            return false;
+        for (int i = 0; i < A.numCols; i++) {
+            diag[i] /= omega;
+        }
+        return true;
+    }
+
+    @Override
+    public void solve( double[] b, double[] x ) {
+        final int N = A.numCols;
+        final double[] diag = diagonal.data;
+        System.arraycopy(b, 0, x, 0, N);
+
+        // (D/w + L)*y = b
+        for (int col = 0; col < N; col++) {
+            double x_j = x[col] /= diag[col];
+            int idx0 = A.col_idx[col];
+            int idx1 = A.col_idx[col + 1];
+            for (int p = idx0; p < idx1; p++) {
+                int row = A.nz_rows[p];
+                if (row > col)
+                    x[row] -= A.nz_values[p]*x_j;
+            }
+        }
+
+        // y = (D/w)*y
+        for (int i = 0; i < N; i++) {
+            x[i] *= diag[i];
+        }
+
+        // (D/w + U)*x = y
+        double scale = (2.0 - omega)/omega;
+        for (int col = N - 1; col >= 0; col--) {
+            double x_j = x[col] /= diag[col];
+            int idx0 = A.col_idx[col];
+            int idx1 = A.col_idx[col + 1];
+            for (int p = idx0; p < idx1; p++) {
+                int row = A.nz_rows[p];
+                if (row < col)
+                    x[row] -= A.nz_values[p]*x_j;
+            }
+            x[col] = x_j*scale;
+        }
+    }
+
+    public double getOmega() {
+        return omega;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+}
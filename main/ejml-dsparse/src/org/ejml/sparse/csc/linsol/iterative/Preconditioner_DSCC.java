@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.interfaces.decomposition.DecompositionInterface;
+
+/**
+ * Preconditioner for iterative linear solvers. The preconditioner M is an approximation of A for which
+ * M<sup>-1</sup>*b can be computed quickly. It is computed from A by calling {@link #decompose}.
+ *
+ * @author Peter Abeles
+ */
+public interface Preconditioner_DSCC extends DecompositionInterface<DMatrixSparseCSC> {
+    /**
+     * Applies the preconditioner to a vector. x = M<sup>-1</sup>*b
+     *
+     * @param b (Input) vector. Not modified.
+     * @param x (Output) vector. Must not be the same array as 'b'.
+     */
+    void solve( double[] b, double[] x );
+}
@@ -45,6 +45,7 @@ public class LinearSolverLu_DSCC implements LinearSolverSparse<DMatrixSparseCSC,
 
     DMatrixSparseCSC Bp = new DMatrixSparseCSC(1, 1, 1);
     DMatrixSparseCSC tmp = new DMatrixSparseCSC(1, 1, 1);
+    DMatrixSparseCSC Xp = new DMatrixSparseCSC(1, 1, 1);
 
     // Number of rows in A
     int AnumRows,AnumCols;
@@ -72,6 +73,14 @@ public class LinearSolverLu_DSCC implements LinearSolverSparse<DMatrixSparseCSC,
         DMatrixSparseCSC L = decomposition.getL();
         DMatrixSparseCSC U = decomposition.getU();
 
+        final boolean reduceFill = decomposition.isReduceFill();
+
+        // apply the fill reduction row permutation
+        if (reduceFill) {
+            CommonOps_DSCC.permuteRowInv(decomposition.getReducePermutationInv(), B, tmp);
+            B = tmp;
+        }
+
         // these are row pivots
         Bp.reshape(B.numRows, B.numCols, B.nz_length);
         int[] Pinv = decomposition.getPinv();
@@ -83,7 +92,16 @@ public class LinearSolverLu_DSCC implements LinearSolverSparse<DMatrixSparseCSC,
         tmp.reshape(L.numRows, B.numCols, 1);
 
         TriangularSolver_DSCC.solve(L, true, Bp, tmp, null, gx, gw, gw1);
-        TriangularSolver_DSCC.solve(U, false, tmp, X, null, gx, gw, gw1);
+
+        // undo the fill reduction column permutation
+        int[] q = reduceFill ? decomposition.getReducePermutationCol() : null;
+        if (q != null) {
+            Xp.reshape(X.numRows, X.numCols, 1);
+            TriangularSolver_DSCC.solve(U, false, tmp, Xp, null, gx, gw, gw1);
+            CommonOps_DSCC.permuteRowInv(q, Xp, X);
+        } else {
+            TriangularSolver_DSCC.solve(U, false, tmp, X, null, gx, gw, gw1);
+        }
     }
 
     @Override
@@ -109,25 +127,31 @@ public class LinearSolverLu_DSCC implements LinearSolverSparse<DMatrixSparseCSC,
         DMatrixSparseCSC U = decomposition.getU();
 
         final boolean reduceFill = decomposition.isReduceFill();
-        final int[] q = reduceFill ? decomposition.getReducePermutation() : null;
+        final int[] p = reduceFill ? decomposition.getReducePermutation() : null;
+        final int[] q = reduceFill ? decomposition.getReducePermutationCol() : null;
 
         // process each column in X and B individually
         for (int colX = 0; colX < X.numCols; colX++) {
             int index = colX;
             for (int i = 0; i < B.numRows; i++, index += X.numCols) b[i] = B.data[index];
 
-            CommonOps_DSCC.permuteInv(pinv, b, x, X.numRows);
-            TriangularSolver_DSCC.solveL(L, x);
-            TriangularSolver_DSCC.solveU(U, x);
-            double[] d;
             if (reduceFill) {
-                CommonOps_DSCC.permute(q, x, b, X.numRows);
-                d = b;
+                // P*A*Q = L*U  ->  L*U*(Q'*x) = P*b
+                CommonOps_DSCC.permute(p, b, x, B.numRows);
+                CommonOps_DSCC.permuteInv(pinv, x, b, X.numRows);
+                TriangularSolver_DSCC.solveL(L, b);
+                TriangularSolver_DSCC.solveU(U, b);
+                if (q != null)
+                    CommonOps_DSCC.permuteInv(q, b, x, X.numRows);
+                else
+                    System.arraycopy(b, 0, x, 0, X.numRows);
             } else {
-                d = x;
+                CommonOps_DSCC.permuteInv(pinv, b, x, X.numRows);
+                TriangularSolver_DSCC.solveL(L, x);
+                TriangularSolver_DSCC.solveU(U, x);
             }
             index = colX;
-            for (int i = 0; i < X.numRows; i++, index += X.numCols) X.data[index] = d[i];
+            for (int i = 0; i < X.numRows; i++, index += X.numCols) X.data[index] = x[i];
         }
     }
 
@@ -27,7 +27,7 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Applies the fill reduction row pivots to the input matrix to reduce fill in during decomposition/solve.
  *
- * P*A*Q where P are row pivots and Q are column pivots.
+ * P*A*Q where P are row pivots and Q are column pivots. If symmetric then P*A*P<sup>T</sup> is computed instead.
  *
  * @author Peter Abeles
  */
@@ -68,10 +68,12 @@ public class ApplyFillReductionPermutation_DSCC {
         if (pinv.length < gp.length)
             pinv = new int[gp.length];
         CommonOps_DSCC.permutationInverse(gp.data, pinv, gp.length);
-        if (symmetric)
+        if (symmetric) {
             CommonOps_DSCC.permuteSymmetric(A, pinv, Aperm, gw);
-        else
-            CommonOps_DSCC.permuteRowInv(pinv, A, Aperm);
+        } else {
+            IGrowArray gq = fillReduce.getColumn();
+            CommonOps_DSCC.permute(pinv, A, gq == null ? null : gq.data, Aperm);
+        }
         return Aperm;
     }
 
@@ -84,9 +86,11 @@ public class ApplyFillReductionPermutation_DSCC {
         return fillReduce == null ? null : fillReduce.getRow().data;
     }
 
-    @SuppressWarnings("NullAway")
     public @Nullable int[] getArrayQ() {
-        return fillReduce == null ? null : fillReduce.getColumn().data;
+        if (fillReduce == null)
+            return null;
+        IGrowArray gq = fillReduce.getColumn();
+        return gq == null ? null : gq.data;
     }
 
     public IGrowArray getGw() {
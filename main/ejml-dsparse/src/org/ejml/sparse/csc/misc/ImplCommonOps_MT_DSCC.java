@@ -18,8 +18,11 @@
 
 package org.ejml.sparse.csc.misc;
 
+import org.ejml.UtilEjml;
 import org.ejml.concurrency.EjmlConcurrency;
 import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
+import org.ejml.data.IGrowArray;
 import org.ejml.sparse.csc.mult.Workspace_MT_DSCC;
 import pabeles.concurrency.GrowArray;
 
@@ -76,4 +79,140 @@ public class ImplCommonOps_MT_DSCC {
         // Stitch the output back together
         stitchMatrix(C, A.numRows, A.numCols, listWork);
     }
+
+    /**
+     * Converts a triplet matrix into a CSC matrix. The triplets are split into blocks and each block computes
+     * a histogram of its columns. The histograms are merged with a prefix sum which gives each block its own
+     * range inside every column, so the blocks can be written without synchronization and the ordering is
+     * the same as the single threaded conversion. Optionally, duplicate elements are then summed together with
+     * each block of columns processed independently.
+     *
+     * @param src (Input) Triplet matrix. Not modified.
+     * @param dst (Output) CSC matrix. Must have the same shape as src.
+     * @param sumDuplicates If true then elements with the same coordinate are added together
+     * @param numBlocks Number of blocks the triplets are split into
+     * @param listWork Storage for internal workspace.
+     */
+    public static void convert( DMatrixSparseTriplet src, DMatrixSparseCSC dst, boolean sumDuplicates,
+                                int numBlocks, GrowArray<IGrowArray> listWork ) {
+        final int N = src.nz_length;
+        final int numCols = src.numCols;
+        final int[] rowcol = src.nz_rowcol.data;
+        final double[] values = src.nz_value.data;
+
+        dst.growMaxLength(N, false);
+        listWork.resize(numBlocks);
+
+        // Count the number of elements in each column for each block
+        EjmlConcurrency.loopFor(0, numBlocks, block -> {
+            int[] hist = UtilEjml.adjustClear(listWork.get(block), numCols);
+            int idx1 = blockEnd(N, numBlocks, block);
+            for (int i = blockEnd(N, numBlocks, block - 1); i < idx1; i++) {
+                hist[rowcol[i*2 + 1]]++;
+            }
+        });
+
+        // Convert the histograms into the location each block will write to next in each column
+        int[] col_idx = dst.col_idx;
+        int total = 0;
+        for (int col = 0; col < numCols; col++) {
+            col_idx[col] = total;
+            for (int block = 0; block < numBlocks; block++) {
+                int[] hist = listWork.get(block).data;
+                int count = hist[col];
+                hist[col] = total;
+                total += count;
+            }
+        }
+        col_idx[numCols] = total;
+        dst.nz_length = N;
+
+        // Write the row indexes and values
+        final int[] nz_rows = dst.nz_rows;
+        final double[] nz_values = dst.nz_values;
+        EjmlConcurrency.loopFor(0, numBlocks, block -> {
+            int[] next = listWork.get(block).data;
+            int idx1 = blockEnd(N, numBlocks, block);
+            for (int i = blockEnd(N, numBlocks, block - 1); i < idx1; i++) {
+                int index = next[rowcol[i*2 + 1]]++;
+                nz_rows[index] = rowcol[i*2];
+                nz_values[index] = values[i];
+            }
+        });
+        dst.indicesSorted = false;
+
+        if (sumDuplicates)
+            duplicatesAdd(dst, numBlocks, listWork);
+    }
+
+    /**
+     * Adds duplicate elements together. Each block of columns is compacted in place at the start of the region
+     * it originally occupied and then the blocks are shifted so that they are contiguous.
+     */
+    static void duplicatesAdd( DMatrixSparseCSC A, int numBlocks, GrowArray<IGrowArray> listWork ) {
+        final int[] col_idx = A.col_idx;
+        final int[] nz_rows = A.nz_rows;
+        final double[] nz_values = A.nz_values;
+
+        // Neighboring blocks modify the start/end of each others columns, so save them first
+        final int[] blockStart = new int[numBlocks];
+        final int[] blockLength = new int[numBlocks];
+        for (int block = 0; block < numBlocks; block++) {
+            blockStart[block] = col_idx[blockEnd(A.numCols, numBlocks, block - 1)];
+        }
+
+        listWork.resize(numBlocks);
+        EjmlConcurrency.loopFor(0, numBlocks, block -> {
+            // Location of each row in the output. Anything before the current column is from a previous column
+            int[] table = UtilEjml.adjustFill(listWork.get(block), A.numRows, -1);
+
+            int col0 = blockEnd(A.numCols, numBlocks, block - 1);
+            int col1 = blockEnd(A.numCols, numBlocks, block);
+            int start = blockStart[block];
+            int write = start;
+            int idx0 = start;
+            for (int col = col0; col < col1; col++) {
+                int idx1 = col_idx[col + 1];
+                int colStart = write;
+                for (int i = idx0; i < idx1; i++) {
+                    int row = nz_rows[i];
+                    int where = table[row];
+                    if (where < colStart) {
+                        table[row] = write;
+                        nz_rows[write] = row;
+                        nz_values[write] = nz_values[i];
+                        write++;
+                    } else {
+                        nz_values[where] += nz_values[i];
+                    }
+                }
+                // column end relative to the start of the block
+                col_idx[col + 1] = write - start;
+                idx0 = idx1;
+            }
+            blockLength[block] = write - start;
+        });
+
+        // Shift the blocks so that there are no gaps between them. Only moves elements towards the front
+        int offset = 0;
+        for (int block = 0; block < numBlocks; block++) {
+            int col0 = blockEnd(A.numCols, numBlocks, block - 1);
+            int col1 = blockEnd(A.numCols, numBlocks, block);
+            int length = blockLength[block];
+            System.arraycopy(nz_rows, blockStart[block], nz_rows, offset, length);
+            System.arraycopy(nz_values, blockStart[block], nz_values, offset, length);
+            for (int col = col0 + 1; col <= col1; col++) {
+                col_idx[col] += offset;
+            }
+            offset += length;
+        }
+        A.nz_length = offset;
+    }
+
+    /**
+     * Returns the exclusive end of a block when the range 0 to length is split into numBlocks blocks
+     */
+    private static int blockEnd( int length, int numBlocks, int block ) {
+        return (int)((long)length*(block + 1)/numBlocks);
+    }
 }
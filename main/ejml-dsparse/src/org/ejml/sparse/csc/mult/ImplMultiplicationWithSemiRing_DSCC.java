@@ -22,6 +22,7 @@ import org.ejml.data.DGrowArray;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.data.DMatrixSparseCSC;
 import org.ejml.data.IGrowArray;
+import org.ejml.ops.DMonoid;
 import org.ejml.ops.DSemiRing;
 import org.jetbrains.annotations.Nullable;
 
@@ -113,6 +114,135 @@ public class ImplMultiplicationWithSemiRing_DSCC {
         }
     }
 
+    /**
+     * Performs masked matrix multiplication.  C&lt;M&gt; = accum(C, A*B)
+     *
+     * <p>Only elements in C which are allowed by the structure of the mask are computed. Elements which are masked out
+     * are skipped inside the inner loop instead of being computed and filtered out later. If the mask is complemented
+     * then the elements which are not in the mask are computed. If an accumulator is provided the product is combined
+     * with the elements in 'initial', otherwise 'initial' is ignored.</p>
+     *
+     * @param A              Matrix
+     * @param B              Matrix
+     * @param C              Storage for results.  Data length is increased if increased if insufficient.
+     * @param mask           (Optional) Mask with the same shape as C. Only the structure is used. If null all elements are computed.
+     * @param complementMask If true then elements not in the mask are computed.
+     * @param initial        (Optional) Values which the product is accumulated into. Must not be C.
+     * @param accum          (Optional) Monoid used to combine 'initial' and the product. If null there is no accumulation.
+     * @param gw             (Optional) Storage for internal workspace.  Can be null.
+     * @param gx             (Optional) Storage for internal workspace.  Can be null.
+     */
+    public static void mult(DMatrixSparseCSC A, DMatrixSparseCSC B, DMatrixSparseCSC C, DSemiRing semiRing,
+                            @Nullable DMatrixSparseCSC mask, boolean complementMask,
+                            @Nullable DMatrixSparseCSC initial, @Nullable DMonoid accum,
+                            @Nullable IGrowArray gw, @Nullable DGrowArray gx) {
+        double[] x = adjust(gx, A.numRows);
+        int[] w = adjust(gw, 2 * A.numRows, 2 * A.numRows);
+
+        C.growMaxLength(A.nz_length + B.nz_length, false);
+        C.indicesSorted = false;
+        C.nz_length = 0;
+        C.col_idx[0] = 0;
+
+        for (int colB = 0; colB < B.numCols; colB++) {
+            multColumnMasked(A, B, colB, C, colB, semiRing, mask, complementMask, initial, accum, x, w);
+        }
+    }
+
+    /**
+     * Computes a single column in the masked product C&lt;M&gt; = accum(C, A*B) and appends it to C. Column 'colB' in
+     * B, the mask, and 'initial' is used to compute column 'colC' in C, which allows C to be a block of columns.
+     * C.col_idx[colC] must already be set.
+     *
+     * @param x Dense storage for a column. Length A.numRows
+     * @param w Marks for the column structure and the mask. Length 2*A.numRows. Must be zero before the first column.
+     */
+    public static void multColumnMasked(DMatrixSparseCSC A, DMatrixSparseCSC B, int colB,
+                                        DMatrixSparseCSC C, int colC, DSemiRing semiRing,
+                                        @Nullable DMatrixSparseCSC mask, boolean complementMask,
+                                        @Nullable DMatrixSparseCSC initial, @Nullable DMonoid accum,
+                                        double[] x, int[] w) {
+        final int N = A.numRows;
+        final int mark = colC + 1;
+        C.col_idx[mark] = C.nz_length;
+
+        boolean useInitial = accum != null && initial != null;
+        if (mask != null) {
+            int idxM0 = mask.col_idx[colB];
+            int idxM1 = mask.col_idx[colB + 1];
+
+            // nothing in this column can be computed
+            if (idxM0 == idxM1 && !complementMask && !useInitial)
+                return;
+
+            for (int i = idxM0; i < idxM1; i++) {
+                w[N + mask.nz_rows[i]] = mark;
+            }
+        }
+
+        // C(:,j) = sum_k A(:,k)*B(k,j) for rows which are allowed by the mask
+        int idx0 = B.col_idx[colB];
+        int idx1 = B.col_idx[colB + 1];
+        for (int bi = idx0; bi < idx1; bi++) {
+            int colA = B.nz_rows[bi];
+            double valB = B.nz_values[bi];
+
+            int idxA0 = A.col_idx[colA];
+            int idxA1 = A.col_idx[colA + 1];
+
+            for (int j = idxA0; j < idxA1; j++) {
+                int row = A.nz_rows[j];
+
+                if (mask != null && (w[N + row] == mark) == complementMask)
+                    continue;
+
+                if (w[row] < mark) {
+                    if (C.nz_length >= C.nz_rows.length) {
+                        C.growMaxLength(C.nz_length * 2 + 1, true);
+                    }
+
+                    w[row] = mark;
+                    C.nz_rows[C.nz_length] = row;
+                    C.col_idx[mark] = ++C.nz_length;
+                    x[row] = semiRing.mult.func.apply(A.nz_values[j], valB);
+                } else {
+                    x[row] = semiRing.add.func.apply(x[row], semiRing.mult.func.apply(A.nz_values[j], valB));
+                }
+            }
+        }
+
+        // Combine with the initial values. Elements which are only in 'initial' are copied over as is
+        if (useInitial) {
+            int idxI0 = initial.col_idx[colB];
+            int idxI1 = initial.col_idx[colB + 1];
+            for (int i = idxI0; i < idxI1; i++) {
+                int row = initial.nz_rows[i];
+                double value = initial.nz_values[i];
+
+                if (w[row] == mark) {
+                    x[row] = accum.func.apply(value, x[row]);
+                } else {
+                    if (C.nz_length >= C.nz_rows.length) {
+                        C.growMaxLength(C.nz_length * 2 + 1, true);
+                    }
+
+                    w[row] = mark;
+                    C.nz_rows[C.nz_length] = row;
+                    C.col_idx[mark] = ++C.nz_length;
+                    x[row] = value;
+                }
+            }
+        }
+
+        // take the values in the dense vector 'x' and put them into 'C'
+        int idxC0 = C.col_idx[colC];
+        int idxC1 = C.col_idx[mark];
+
+        for (int i = idxC0; i < idxC1; i++) {
+            C.nz_values[i] = x[C.nz_rows[i]];
+        }
+    }
+
     public static void mult(DMatrixSparseCSC A, DMatrixRMaj B, DMatrixRMaj C, DSemiRing semiRing) {
         C.fill(semiRing.add.id);
         multAdd(A, B, C, semiRing);
@@ -134,7 +264,8 @@ public class ImplMultiplicationWithSemiRing_DSCC {
 
 //                for (int j = 0; j < B.numCols; j++) {
                 while (indexB < end) {
-                    C.data[indexC++] = semiRing.add.func.apply(C.data[indexC++], semiRing.mult.func.apply(valueA, B.data[indexB++]));
+                    C.data[indexC] = semiRing.add.func.apply(C.data[indexC], semiRing.mult.func.apply(valueA, B.data[indexB++]));
+                    indexC++;
                 }
             }
         }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.mult;
+
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.ops.DMonoid;
+import org.ejml.ops.DSemiRing;
+import org.jetbrains.annotations.Nullable;
+import pabeles.concurrency.GrowArray;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * Concurrent implementation of {@link ImplMultiplicationWithSemiRing_DSCC}. Columns in the output are split
+ * into blocks which are computed independently and then stitched back together, just like
+ * {@link ImplMultiplication_MT_DSCC}.
+ *
+ * @author Peter Abeles
+ */
+public class ImplMultiplicationWithSemiRing_MT_DSCC {
+    /**
+     * Performs masked matrix multiplication.  C&lt;M&gt; = accum(C, A*B)
+     *
+     * @see ImplMultiplicationWithSemiRing_DSCC#mult(DMatrixSparseCSC, DMatrixSparseCSC, DMatrixSparseCSC, DSemiRing, DMatrixSparseCSC, boolean, DMatrixSparseCSC, DMonoid, org.ejml.data.IGrowArray, org.ejml.data.DGrowArray)
+     */
+    public static void mult( DMatrixSparseCSC A, DMatrixSparseCSC B, DMatrixSparseCSC C, DSemiRing semiRing,
+                             @Nullable DMatrixSparseCSC mask, boolean complementMask,
+                             @Nullable DMatrixSparseCSC initial, @Nullable DMonoid accum,
+                             GrowArray<Workspace_MT_DSCC> listWork ) {
+        // loopBlocks() doesn't reset the workspace if there are no columns
+        listWork.reset();
+
+        // Break the problem up into blocks of columns and process them independently
+        EjmlConcurrency.loopBlocks(0, B.numCols, listWork, ( workspace, bj0, bj1 ) -> {
+            DMatrixSparseCSC workC = workspace.mat;
+            workC.reshape(A.numRows, bj1 - bj0, bj1 - bj0);
+            workC.col_idx[0] = 0;
+
+            double[] x = adjust(workspace.gx, A.numRows);
+            int[] w = adjust(workspace.gw, 2*A.numRows, 2*A.numRows);
+
+            for (int bj = bj0; bj < bj1; bj++) {
+                ImplMultiplicationWithSemiRing_DSCC.multColumnMasked(A, B, bj, workC, bj - bj0,
+                        semiRing, mask, complementMask, initial, accum, x, w);
+            }
+        });
+
+        // Stitch the output back together
+        ImplMultiplication_MT_DSCC.stitchMatrix(C, A.numRows, B.numCols, listWork);
+    }
+
+    public static void mult( DMatrixSparseCSC A, DMatrixRMaj B, DMatrixRMaj C, DSemiRing semiRing ) {
+        C.fill(semiRing.add.id);
+        multAdd(A, B, C, semiRing);
+    }
+
+    public static void multAdd( DMatrixSparseCSC A, DMatrixRMaj B, DMatrixRMaj C, DSemiRing semiRing ) {
+        // Each thread processes a block of columns in B and C. Elements in C are updated in the same order as the
+        // single threaded version
+        EjmlConcurrency.loopBlocks(0, B.numCols, ( j0, j1 ) -> {
+            // C(i,j) = sum_k A(i,k) * B(k,j)
+            for (int k = 0; k < A.numCols; k++) {
+                int idx0 = A.col_idx[k];
+                int idx1 = A.col_idx[k + 1];
+
+                for (int indexA = idx0; indexA < idx1; indexA++) {
+                    int i = A.nz_rows[indexA];
+                    double valueA = A.nz_values[indexA];
+
+                    int indexB = k*B.numCols + j0;
+                    int indexC = i*C.numCols + j0;
+                    int end = indexB + j1 - j0;
+
+                    while (indexB < end) {
+                        C.data[indexC] = semiRing.add.func.apply(C.data[indexC], semiRing.mult.func.apply(valueA, B.data[indexB++]));
+                        indexC++;
+                    }
+                }
+            }
+        });
+    }
+
+    public static void multTransA( DMatrixSparseCSC A, DMatrixRMaj B, DMatrixRMaj C, DSemiRing semiRing ) {
+        multTransA(A, B, C, semiRing, false);
+    }
+
+    public static void multAddTransA( DMatrixSparseCSC A, DMatrixRMaj B, DMatrixRMaj C, DSemiRing semiRing ) {
+        multTransA(A, B, C, semiRing, true);
+    }
+
+    private static void multTransA( DMatrixSparseCSC A, DMatrixRMaj B, DMatrixRMaj C, DSemiRing semiRing, boolean add ) {
+        // C(i,j) = sum_k A(k,i) * B(k,j)
+        EjmlConcurrency.loopBlocks(0, B.numCols, ( j0, j1 ) -> {
+            for (int j = j0; j < j1; j++) {
+                for (int i = 0; i < A.numCols; i++) {
+                    int idx0 = A.col_idx[i];
+                    int idx1 = A.col_idx[i + 1];
+
+                    double sum = semiRing.add.id;
+                    for (int indexA = idx0; indexA < idx1; indexA++) {
+                        int rowK = A.nz_rows[indexA];
+                        sum = semiRing.add.func.apply(sum, semiRing.mult.func.apply(A.nz_values[indexA], B.data[rowK*B.numCols + j]));
+                    }
+
+                    if (add)
+                        C.data[i*C.numCols + j] = semiRing.add.func.apply(C.data[i*C.numCols + j], sum);
+                    else
+                        C.data[i*C.numCols + j] = sum;
+                }
+            }
+        });
+    }
+}
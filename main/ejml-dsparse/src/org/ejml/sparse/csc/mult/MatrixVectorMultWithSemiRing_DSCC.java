@@ -18,11 +18,18 @@
 
 package org.ejml.sparse.csc.mult;
 
+import org.ejml.MatrixDimensionException;
+import org.ejml.data.DGrowArray;
 import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DVectorSparse;
+import org.ejml.data.IGrowArray;
 import org.ejml.ops.DSemiRing;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 
+import static org.ejml.UtilEjml.adjust;
+
 /**
  * based on MartrixVectorMult_DSCC
  */
@@ -145,4 +152,235 @@ public class MatrixVectorMultWithSemiRing_DSCC {
 
         return output;
     }
+
+    /**
+     * <p>c&lt;mask&gt; = A*b, where b and c are sparse vectors. (SpMSpV)</p>
+     *
+     * <p>"Push" direction. Only the columns in A which correspond to non-zero elements in b are traversed and
+     * scattered into c, so the cost is proportional to the number of non-zero elements in those columns. This is
+     * efficient when b has few non-zero elements, e.g. a small frontier in breadth first search.</p>
+     *
+     * @param A (Input) Matrix
+     * @param b (Input) sparse vector. Length A.numCols
+     * @param c (Output) sparse vector. Indices are not sorted.
+     * @param semiRing Semi-Ring to define + and *
+     * @param mask (Optional) Only the structure is used. Length A.numRows. If null then no mask is applied.
+     * @param complementMask If true then only elements which are not in the mask are computed
+     * @param gw (Optional) Storage for internal workspace.  Can be null. Must be filled with zeros, which is how
+     * it's left by this function, so it can be reused across calls without being cleared.
+     * @param gx (Optional) Storage for internal workspace.  Can be null.
+     */
+    public static void mxv( DMatrixSparseCSC A, DVectorSparse b, DVectorSparse c, DSemiRing semiRing,
+                            @Nullable DVectorSparse mask, boolean complementMask,
+                            @Nullable IGrowArray gw, @Nullable DGrowArray gx ) {
+        if (b.size != A.numCols)
+            throw new MatrixDimensionException("Length of 'b' doesn't match the number of columns in A");
+        if (mask != null && mask.size != A.numRows)
+            throw new MatrixDimensionException("Length of 'mask' doesn't match the number of rows in A");
+
+        final int N = A.numRows;
+        double[] x = adjust(gx, N);
+        // first half marks elements in 'c' and the second marks elements in 'mask'. Only the marked elements are
+        // cleared when done, so that the cost doesn't depend on the size of the vectors
+        int[] w = adjust(gw, 2*N);
+
+        if (mask != null) {
+            for (int i = 0; i < mask.nz_length; i++) {
+                w[N + mask.nz_indices[i]] = 1;
+            }
+        }
+
+        c.reshape(N);
+
+        for (int i = 0; i < b.nz_length; i++) {
+            int k = b.nz_indices[i];
+            double valB = b.nz_values[i];
+
+            int idx0 = A.col_idx[k];
+            int idx1 = A.col_idx[k + 1];
+
+            for (int indexA = idx0; indexA < idx1; indexA++) {
+                int row = A.nz_rows[indexA];
+
+                if (mask != null && (w[N + row] == 1) == complementMask)
+                    continue;
+
+                double value = semiRing.mult.func.apply(A.nz_values[indexA], valB);
+                if (w[row] == 0) {
+                    w[row] = 1;
+                    c.append(row, value);
+                    x[row] = value;
+                } else {
+                    x[row] = semiRing.add.func.apply(x[row], value);
+                }
+            }
+        }
+
+        for (int i = 0; i < c.nz_length; i++) {
+            int row = c.nz_indices[i];
+            c.nz_values[i] = x[row];
+            w[row] = 0;
+        }
+        if (mask != null) {
+            for (int i = 0; i < mask.nz_length; i++) {
+                w[N + mask.nz_indices[i]] = 0;
+            }
+        }
+    }
+
+    /**
+     * <p>c&lt;mask&gt; = a<sup>T</sup>*B, where a and c are sparse vectors. (SpMSpV)</p>
+     *
+     * <p>"Pull" direction. Each column in B, which isn't masked out, is traversed and the elements which
+     * match non-zero elements in 'a' are summed up. Only the columns in the mask are traversed when the mask
+     * isn't complemented, which makes this efficient when there are many non-zero elements in 'a' but few
+     * elements in the output need to be computed.</p>
+     *
+     * @param a (Input) sparse vector. Length B.numRows
+     * @param B (Input) Matrix
+     * @param c (Output) sparse vector. Indices are sorted.
+     * @param semiRing Semi-Ring to define + and *
+     * @param mask (Optional) Only the structure is used. Length B.numCols. If null then no mask is applied.
+     * @param complementMask If true then only elements which are not in the mask are computed
+     * @param gw (Optional) Storage for internal workspace.  Can be null. Must be filled with zeros, which is how
+     * it's left by this function, so it can be reused across calls without being cleared.
+     * @param gx (Optional) Storage for internal workspace.  Can be null.
+     */
+    public static void vxm( DVectorSparse a, DMatrixSparseCSC B, DVectorSparse c, DSemiRing semiRing,
+                            @Nullable DVectorSparse mask, boolean complementMask,
+                            @Nullable IGrowArray gw, @Nullable DGrowArray gx ) {
+        if (a.size != B.numRows)
+            throw new MatrixDimensionException("Length of 'a' doesn't match the number of rows in B");
+        if (mask != null && mask.size != B.numCols)
+            throw new MatrixDimensionException("Length of 'mask' doesn't match the number of columns in B");
+
+        final int N = B.numRows;
+        double[] x = adjust(gx, N);
+        // first half marks elements in 'a' and the second marks elements in 'mask'. Only the marked elements are
+        // cleared when done, so that the cost doesn't depend on the size of the vectors
+        int[] w = adjust(gw, N + B.numCols);
+
+        for (int i = 0; i < a.nz_length; i++) {
+            w[a.nz_indices[i]] = 1;
+            x[a.nz_indices[i]] = a.nz_values[i];
+        }
+
+        c.reshape(B.numCols);
+
+        if (mask != null && !complementMask) {
+            // Only need to look at columns in the mask. They need to be sorted so that the output is sorted
+            int[] columns = mask.nz_indices;
+            if (!mask.indicesSorted) {
+                columns = Arrays.copyOf(mask.nz_indices, mask.nz_length);
+                Arrays.sort(columns);
+            }
+            for (int i = 0; i < mask.nz_length; i++) {
+                pullColumn(B, columns[i], x, w, c, semiRing);
+            }
+        } else {
+            if (mask != null) {
+                for (int i = 0; i < mask.nz_length; i++) {
+                    w[N + mask.nz_indices[i]] = 1;
+                }
+            }
+            for (int col = 0; col < B.numCols; col++) {
+                if (mask != null && w[N + col] == 1)
+                    continue;
+                pullColumn(B, col, x, w, c, semiRing);
+            }
+            if (mask != null) {
+                for (int i = 0; i < mask.nz_length; i++) {
+                    w[N + mask.nz_indices[i]] = 0;
+                }
+            }
+        }
+        c.indicesSorted = true;
+
+        for (int i = 0; i < a.nz_length; i++) {
+            w[a.nz_indices[i]] = 0;
+        }
+    }
+
+    /**
+     * Computes the inner product of column 'col' in B and the vector which has been scattered into x and w. If
+     * the product has any terms the result is added to c.
+     */
+    private static void pullColumn( DMatrixSparseCSC B, int col, double[] x, int[] w,
+                                    DVectorSparse c, DSemiRing semiRing ) {
+        int idx0 = B.col_idx[col];
+        int idx1 = B.col_idx[col + 1];
+
+        boolean found = false;
+        double sum = semiRing.add.id;
+        for (int indexB = idx0; indexB < idx1; indexB++) {
+            int row = B.nz_rows[indexB];
+            if (w[row] == 0)
+                continue;
+
+            double value = semiRing.mult.func.apply(x[row], B.nz_values[indexB]);
+            sum = found ? semiRing.add.func.apply(sum, value) : value;
+            found = true;
+        }
+
+        if (found)
+            c.append(col, sum);
+    }
+
+    /**
+     * <p>c&lt;mask&gt; = a<sup>T</sup>*B, where a and c are sparse vectors. (SpMSpV)</p>
+     *
+     * <p>Switches between the push and pull direction depending on which one requires traversing fewer elements in
+     * the matrix. Pushing requires the transpose of B, which is typically computed once and reused. If the semi-ring
+     * isn't commutative the two directions can give different results.</p>
+     *
+     * @param a (Input) sparse vector. Length B.numRows
+     * @param B (Input) Matrix
+     * @param B_t (Optional) Transpose of B. If null then the pull direction is always used.
+     * @param c (Output) sparse vector.
+     * @param semiRing Semi-Ring to define + and *
+     * @param mask (Optional) Only the structure is used. Length B.numCols. If null then no mask is applied.
+     * @param complementMask If true then only elements which are not in the mask are computed
+     * @param gw (Optional) Storage for internal workspace.  Can be null. Must be filled with zeros, which is how
+     * it's left by this function, so it can be reused across calls without being cleared.
+     * @param gx (Optional) Storage for internal workspace.  Can be null.
+     * @return true if the push direction was used or false if pull was used
+     */
+    public static boolean vxm( DVectorSparse a, DMatrixSparseCSC B, @Nullable DMatrixSparseCSC B_t,
+                               DVectorSparse c, DSemiRing semiRing,
+                               @Nullable DVectorSparse mask, boolean complementMask,
+                               @Nullable IGrowArray gw, @Nullable DGrowArray gx ) {
+        if (B_t == null || selectPull(a, B, B_t, mask, complementMask)) {
+            vxm(a, B, c, semiRing, mask, complementMask, gw, gx);
+            return false;
+        } else {
+            mxv(B_t, a, c, semiRing, mask, complementMask, gw, gx);
+            return true;
+        }
+    }
+
+    /**
+     * Estimates the number of matrix elements which are traversed in each direction and returns true if pull
+     * requires fewer.
+     */
+    static boolean selectPull( DVectorSparse a, DMatrixSparseCSC B, DMatrixSparseCSC B_t,
+                               @Nullable DVectorSparse mask, boolean complementMask ) {
+        long pushWork = 0;
+        for (int i = 0; i < a.nz_length; i++) {
+            int k = a.nz_indices[i];
+            pushWork += B_t.col_idx[k + 1] - B_t.col_idx[k];
+        }
+
+        long pullWork;
+        if (mask != null && !complementMask) {
+            pullWork = 0;
+            for (int i = 0; i < mask.nz_length; i++) {
+                int col = mask.nz_indices[i];
+                pullWork += B.col_idx[col + 1] - B.col_idx[col];
+            }
+        } else {
+            pullWork = B.nz_length;
+        }
+
+        return pullWork < pushWork;
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.mult;
+
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import pabeles.concurrency.GrowArray;
+
+import java.util.Arrays;
+
+/**
+ * Concurrent implementations of {@link MatrixVectorMult_DSCC}.
+ *
+ * <p>In A*b each column in A is scattered into the output, so two threads working on different columns can
+ * write to the same element. To avoid contention the columns are split into blocks and each thread accumulates
+ * its block into its own partial vector. The partial vectors are then summed in a reduction which is split
+ * up by rows. A<sup>T</sup>*b computes each output element from a single column and can be split up by column
+ * without any additional memory.</p>
+ *
+ * @author Peter Abeles
+ */
+public class MatrixVectorMult_MT_DSCC {
+    /**
+     * c = A*b
+     *
+     * @param A (Input) Matrix
+     * @param b (Input) vector
+     * @param offsetB (Input) first index in vector b
+     * @param c (Output) vector
+     * @param offsetC (Output) first index in vector c
+     * @param listWork (Input) Storage for the partial sum computed by each thread
+     */
+    public static void mult( DMatrixSparseCSC A,
+                             double[] b, int offsetB,
+                             double[] c, int offsetC,
+                             GrowArray<DGrowArray> listWork ) {
+        checkLengths(A, b, offsetB, c, offsetC);
+        Arrays.fill(c, offsetC, offsetC + A.numRows, 0);
+        multAdd(A, b, offsetB, c, offsetC, listWork);
+    }
+
+    /**
+     * c = c + A*b
+     *
+     * @param A (Input) Matrix
+     * @param b (Input) vector
+     * @param offsetB (Input) first index in vector b
+     * @param c (Output) vector
+     * @param offsetC (Output) first index in vector c
+     * @param listWork (Input) Storage for the partial sum computed by each thread
+     */
+    public static void multAdd( DMatrixSparseCSC A,
+                                double[] b, int offsetB,
+                                double[] c, int offsetC,
+                                GrowArray<DGrowArray> listWork ) {
+        checkLengths(A, b, offsetB, c, offsetC);
+
+        // loopBlocks() doesn't reset the workspace when there is nothing to do
+        listWork.reset();
+        if (A.numCols == 0)
+            return;
+
+        // Each thread computes the contribution from its block of columns
+        EjmlConcurrency.loopBlocks(0, A.numCols, listWork, ( work, col0, col1 ) -> {
+            double[] partial = work.reshape(A.numRows).data;
+            Arrays.fill(partial, 0, A.numRows, 0);
+
+            for (int k = col0; k < col1; k++) {
+                int idx0 = A.col_idx[k];
+                int idx1 = A.col_idx[k + 1];
+                double valB = b[offsetB + k];
+
+                for (int indexA = idx0; indexA < idx1; indexA++) {
+                    partial[A.nz_rows[indexA]] += A.nz_values[indexA]*valB;
+                }
+            }
+        });
+
+        // Sum up the partial results. Each thread works on a different set of rows
+        int numPartial = listWork.size();
+        EjmlConcurrency.loopBlocks(0, A.numRows, ( row0, row1 ) -> {
+            for (int i = 0; i < numPartial; i++) {
+                double[] partial = listWork.get(i).data;
+                for (int row = row0; row < row1; row++) {
+                    c[offsetC + row] += partial[row];
+                }
+            }
+        });
+    }
+
+    /**
+     * c = a<sup>T</sup>*B
+     *
+     * @param a (Input) vector
+     * @param offsetA Input) first index in vector a
+     * @param B (Input) Matrix
+     * @param c (Output) vector
+     * @param offsetC (Output) first index in vector c
+     */
+    public static void mult( double[] a, int offsetA,
+                             DMatrixSparseCSC B,
+                             double[] c, int offsetC ) {
+        mult(a, offsetA, B, c, offsetC, false);
+    }
+
+    /**
+     * c = c + a<sup>T</sup>*B
+     *
+     * @param a (Input) vector
+     * @param offsetA Input) first index in vector a
+     * @param B (Input) Matrix
+     * @param c (Output) vector
+     * @param offsetC (Output) first index in vector c
+     */
+    public static void multAdd( double[] a, int offsetA,
+                                DMatrixSparseCSC B,
+                                double[] c, int offsetC ) {
+        mult(a, offsetA, B, c, offsetC, true);
+    }
+
+    private static void mult( double[] a, int offsetA,
+                              DMatrixSparseCSC B,
+                              double[] c, int offsetC, boolean add ) {
+        if (a.length - offsetA < B.numRows)
+            throw new IllegalArgumentException("Length of 'a' isn't long enough");
+        if (c.length - offsetC < B.numCols)
+            throw new IllegalArgumentException("Length of 'c' isn't long enough");
+
+        EjmlConcurrency.loopBlocks(0, B.numCols, ( col0, col1 ) -> {
+            for (int k = col0; k < col1; k++) {
+                int idx0 = B.col_idx[k];
+                int idx1 = B.col_idx[k + 1];
+
+                double sum = 0;
+                for (int indexB = idx0; indexB < idx1; indexB++) {
+                    sum += a[offsetA + B.nz_rows[indexB]]*B.nz_values[indexB];
+                }
+                if (add)
+                    c[offsetC + k] += sum;
+                else
+                    c[offsetC + k] = sum;
+            }
+        });
+    }
+
+    private static void checkLengths( DMatrixSparseCSC A, double[] b, int offsetB, double[] c, int offsetC ) {
+        if (b.length - offsetB < A.numCols)
+            throw new IllegalArgumentException("Length of 'b' isn't long enough");
+        if (c.length - offsetC < A.numRows)
+            throw new IllegalArgumentException("Length of 'c' isn't long enough");
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csr;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSR;
+import org.ejml.data.IGrowArray;
+import org.ejml.sparse.csr.misc.ImplCommonOps_DSCR;
+import org.ejml.sparse.csr.mult.ImplMultiplication_DSCR;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.reshapeOrDeclare;
+import static org.ejml.UtilEjml.stringShapes;
+
+/**
+ * Common operations on {@link DMatrixSparseCSR}. These mirror the functions in
+ * {@link org.ejml.sparse.csc.CommonOps_DSCC} but traverse the matrix one row at a time.
+ *
+ * @author Peter Abeles
+ */
+public class CommonOps_DSCR {
+
+    /**
+     * Checks to see if column indicies are sorted into ascending order.  O(N)
+     *
+     * @return true if sorted and false if not
+     */
+    public static boolean checkIndicesSorted( DMatrixSparseCSR A ) {
+        for (int j = 0; j < A.numRows; j++) {
+            int idx0 = A.row_idx[j];
+            int idx1 = A.row_idx[j + 1];
+
+            if (idx0 != idx1 && A.nz_cols[idx0] >= A.numCols)
+                return false;
+
+            for (int i = idx0 + 1; i < idx1; i++) {
+                int col = A.nz_cols[i];
+                if (A.nz_cols[i - 1] >= col)
+                    return false;
+                if (col >= A.numCols)
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean checkStructure( DMatrixSparseCSR A ) {
+        if (A.row_idx.length < A.numRows + 1)
+            return false;
+        if (A.row_idx[A.numRows] != A.nz_length)
+            return false;
+        if (A.nz_cols.length < A.nz_length)
+            return false;
+        if (A.nz_values.length < A.nz_length)
+            return false;
+        if (A.row_idx[0] != 0)
+            return false;
+        for (int i = 0; i < A.numRows; i++) {
+            if (A.row_idx[i] > A.row_idx[i + 1]) {
+                return false;
+            }
+            if (A.row_idx[i + 1] - A.row_idx[i] > A.numCols)
+                return false;
+        }
+        if (!checkSortedFlag(A))
+            return false;
+        if (checkDuplicateElements(A))
+            return false;
+        return true;
+    }
+
+    public static boolean checkSortedFlag( DMatrixSparseCSR A ) {
+        if (A.indicesSorted)
+            return checkIndicesSorted(A);
+        return true;
+    }
+
+    /**
+     * Checks for duplicate elements. A is sorted
+     *
+     * @param A Matrix to be tested.
+     * @return true if duplicates or false if false duplicates
+     */
+    public static boolean checkDuplicateElements( DMatrixSparseCSR A ) {
+        A = A.copy(); // create a copy so that it doesn't modify A
+        A.sortIndices(null);
+        return !checkSortedFlag(A);
+    }
+
+    /**
+     * Perform matrix transpose
+     *
+     * @param A Input matrix.  Not modified
+     * @param A_t Storage for transpose of 'a'.  Must be correct shape.  data length might be adjusted.
+     * @param gw (Optional) Storage for internal workspace.  Can be null.
+     * @return The transposed matrix
+     */
+    public static DMatrixSparseCSR transpose( DMatrixSparseCSR A, @Nullable DMatrixSparseCSR A_t, @Nullable IGrowArray gw ) {
+        A_t = reshapeOrDeclare(A_t, A.numCols, A.numRows, A.nz_length);
+        ImplCommonOps_DSCR.transpose(A, A_t, gw);
+        return A_t;
+    }
+
+    public static DMatrixSparseCSR mult( DMatrixSparseCSR A, DMatrixSparseCSR B,
+                                         @Nullable DMatrixSparseCSR outputC ) {
+        return mult(A, B, outputC, null, null);
+    }
+
+    /**
+     * Performs matrix multiplication.  C = A*B
+     *
+     * @param A (Input) Matrix. Not modified.
+     * @param B (Input) Matrix. Not modified.
+     * @param outputC (Output) Storage for results.  Data length is increased if insufficient.
+     * @param gw (Optional) Storage for internal workspace.  Can be null.
+     * @param gx (Optional) Storage for internal workspace.  Can be null.
+     */
+    public static DMatrixSparseCSR mult( DMatrixSparseCSR A, DMatrixSparseCSR B,
+                                         @Nullable DMatrixSparseCSR outputC,
+                                         @Nullable IGrowArray gw, @Nullable DGrowArray gx ) {
+        if (A.numCols != B.numRows)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        outputC = reshapeOrDeclare(outputC, A, A.numRows, B.numCols);
+
+        ImplMultiplication_DSCR.mult(A, B, outputC, gw, gx);
+
+        return outputC;
+    }
+
+    /**
+     * Performs matrix multiplication.  C = A*B
+     *
+     * @param A Matrix
+     * @param B Dense Matrix
+     * @param outputC Dense Matrix
+     */
+    public static DMatrixRMaj mult( DMatrixSparseCSR A, DMatrixRMaj B, @Nullable DMatrixRMaj outputC ) {
+        if (A.numCols != B.numRows)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        outputC = reshapeOrDeclare(outputC, A.numRows, B.numCols);
+
+        ImplMultiplication_DSCR.mult(A, B, outputC);
+
+        return outputC;
+    }
+
+    /**
+     * <p>C = C + A*B</p>
+     */
+    public static void multAdd( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj outputC ) {
+        if (A.numCols != B.numRows)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        if (A.numRows != outputC.numRows || B.numCols != outputC.numCols)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B, outputC));
+
+        ImplMultiplication_DSCR.multAdd(A, B, outputC);
+    }
+
+    /**
+     * Performs matrix multiplication.  C = A<sup>T</sup>*B
+     *
+     * @param A Matrix
+     * @param B Dense Matrix
+     * @param outputC Dense Matrix
+     */
+    public static DMatrixRMaj multTransA( DMatrixSparseCSR A, DMatrixRMaj B, @Nullable DMatrixRMaj outputC ) {
+        if (A.numRows != B.numRows)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        outputC = reshapeOrDeclare(outputC, A.numCols, B.numCols);
+
+        ImplMultiplication_DSCR.multTransA(A, B, outputC);
+
+        return outputC;
+    }
+
+    /**
+     * <p>C = C + A<sup>T</sup>*B</p>
+     */
+    public static void multAddTransA( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj outputC ) {
+        if (A.numRows != B.numRows)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        if (A.numCols != outputC.numRows || B.numCols != outputC.numCols)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B, outputC));
+
+        ImplMultiplication_DSCR.multAddTransA(A, B, outputC);
+    }
+
+    /**
+     * Performs matrix addition:<br>
+     * C = &alpha;A + &beta;B
+     *
+     * @param alpha scalar value multiplied against A
+     * @param A Matrix
+     * @param beta scalar value multiplied against B
+     * @param B Matrix
+     * @param outputC Output matrix.
+     * @param gw (Optional) Storage for internal workspace.  Can be null.
+     * @param gx (Optional) Storage for internal workspace.  Can be null.
+     */
+    public static DMatrixSparseCSR add( double alpha, DMatrixSparseCSR A, double beta, DMatrixSparseCSR B,
+                                        @Nullable DMatrixSparseCSR outputC,
+                                        @Nullable IGrowArray gw, @Nullable DGrowArray gx ) {
+        if (A.numRows != B.numRows || A.numCols != B.numCols)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        outputC = reshapeOrDeclare(outputC, A, A.numRows, A.numCols);
+
+        ImplCommonOps_DSCR.add(alpha, A, beta, B, outputC, gw, gx);
+
+        return outputC;
+    }
+
+    public static DMatrixSparseCSR identity( int length ) {
+        return identity(length, length);
+    }
+
+    public static DMatrixSparseCSR identity( int numRows, int numCols ) {
+        int min = Math.min(numRows, numCols);
+        DMatrixSparseCSR A = new DMatrixSparseCSR(numRows, numCols, min);
+        setIdentity(A);
+        return A;
+    }
+
+    public static void setIdentity( DMatrixSparseCSR A ) {
+        int min = Math.min(A.numRows, A.numCols);
+        A.growMaxLength(min, false);
+        A.nz_length = min;
+
+        Arrays.fill(A.nz_values, 0, min, 1);
+        for (int i = 1; i <= min; i++) {
+            A.row_idx[i] = i;
+            A.nz_cols[i - 1] = i - 1;
+        }
+        for (int i = min + 1; i <= A.numRows; i++) {
+            A.row_idx[i] = min;
+        }
+        A.indicesSorted = true;
+    }
+
+    /**
+     * B = scalar*A.   A and B can be the same instance.
+     *
+     * @param scalar (Input) Scalar value
+     * @param A (Input) Matrix. Not modified.
+     * @param outputB (Output) Matrix. Modified.
+     */
+    public static void scale( double scalar, DMatrixSparseCSR A, DMatrixSparseCSR outputB ) {
+        if (A != outputB) {
+            outputB.copyStructure(A);
+        }
+        for (int i = 0; i < A.nz_length; i++) {
+            outputB.nz_values[i] = A.nz_values[i]*scalar;
+        }
+    }
+
+    /**
+     * B = A/scalar.   A and B can be the same instance.
+     *
+     * @param scalar (Input) Scalar value
+     * @param A (Input) Matrix. Not modified.
+     * @param outputB (Output) Matrix. Modified.
+     */
+    public static void divide( DMatrixSparseCSR A, double scalar, DMatrixSparseCSR outputB ) {
+        if (A != outputB) {
+            outputB.copyStructure(A);
+        }
+        for (int i = 0; i < A.nz_length; i++) {
+            outputB.nz_values[i] = A.nz_values[i]/scalar;
+        }
+    }
+
+    /**
+     * B = -A.   Changes the sign of elements in A and stores it in B. A and B can be the same instance.
+     *
+     * @param A (Input) Matrix. Not modified.
+     * @param outputB (Output) Matrix. Modified.
+     */
+    public static void changeSign( DMatrixSparseCSR A, DMatrixSparseCSR outputB ) {
+        if (A != outputB) {
+            outputB.copyStructure(A);
+        }
+        for (int i = 0; i < A.nz_length; i++) {
+            outputB.nz_values[i] = -A.nz_values[i];
+        }
+    }
+
+    /**
+     * Returns the value of the element with the largest abs()
+     *
+     * @param A (Input) Matrix. Not modified.
+     * @return scalar
+     */
+    public static double elementMaxAbs( DMatrixSparseCSR A ) {
+        double max = 0;
+        for (int i = 0; i < A.nz_length; i++) {
+            double val = Math.abs(A.nz_values[i]);
+            if (val > max) {
+                max = val;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the value of the element with the minimum value
+     *
+     * @param A (Input) Matrix. Not modified.
+     * @return scalar
+     */
+    public static double elementMin( DMatrixSparseCSR A ) {
+        if (A.nz_length == 0)
+            return 0;
+
+        // if every element is assigned a value then the first element can be a minimum.
+        // Otherwise zero needs to be considered
+        double min = A.isFull() ? A.nz_values[0] : 0;
+        for (int i = 0; i < A.nz_length; i++) {
+            double val = A.nz_values[i];
+            if (val < min) {
+                min = val;
+            }
+        }
+
+        return min;
+    }
+
+    /**
+     * Returns the value of the element with the largest value
+     *
+     * @param A (Input) Matrix. Not modified.
+     * @return scalar
+     */
+    public static double elementMax( DMatrixSparseCSR A ) {
+        if (A.nz_length == 0)
+            return 0;
+
+        // if every element is assigned a value then the first element can be a max.
+        // Otherwise zero needs to be considered
+        double max = A.isFull() ? A.nz_values[0] : 0;
+        for (int i = 0; i < A.nz_length; i++) {
+            double val = A.nz_values[i];
+            if (val > max) {
+                max = val;
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Sum of all elements
+     *
+     * @param A (Input) Matrix. Not modified.
+     * @return scalar
+     */
+    public static double elementSum( DMatrixSparseCSR A ) {
+        double sum = 0;
+        for (int i = 0; i < A.nz_length; i++) {
+            sum += A.nz_values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Performs an element-wise multiplication.<br>
+     * output[i,j] = A[i,j]*B[i,j]<br>
+     * All matrices must have the same shape.
+     *
+     * @param A (Input) Matrix.
+     * @param B (Input) Matrix
+     * @param output (Output) Matrix. data array is grown to min(A.nz_length,B.nz_length), resulting a in a large speed boost.
+     * @param gw (Optional) Storage for internal workspace.  Can be null.
+     * @param gx (Optional) Storage for internal workspace.  Can be null.
+     */
+    public static DMatrixSparseCSR elementMult( DMatrixSparseCSR A, DMatrixSparseCSR B, @Nullable DMatrixSparseCSR output,
+                                                @Nullable IGrowArray gw, @Nullable DGrowArray gx ) {
+        if (A.numCols != B.numCols || A.numRows != B.numRows)
+            throw new MatrixDimensionException("All inputs must have the same number of rows and columns. " + stringShapes(A, B));
+        output = reshapeOrDeclare(output, A, A.numRows, A.numCols);
+
+        ImplCommonOps_DSCR.elementMult(A, B, output, gw, gx);
+
+        return output;
+    }
+}
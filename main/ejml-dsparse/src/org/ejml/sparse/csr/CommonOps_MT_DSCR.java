@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csr;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSR;
+import org.ejml.sparse.csr.misc.ImplCommonOps_MT_DSCR;
+import org.ejml.sparse.csr.mult.ImplMultiplication_MT_DSCR;
+import org.ejml.sparse.csr.mult.Workspace_MT_DSCR;
+import org.jetbrains.annotations.Nullable;
+import pabeles.concurrency.GrowArray;
+
+import static org.ejml.UtilEjml.reshapeOrDeclare;
+import static org.ejml.UtilEjml.stringShapes;
+
+/**
+ * Concurrent implementations of functions found in {@link CommonOps_DSCR}. Work is divided up by rows, so
+ * threads write to different parts of the output and don't need their own copy of it.
+ *
+ * @author Peter Abeles
+ */
+public class CommonOps_MT_DSCR {
+    public static DMatrixSparseCSR mult( DMatrixSparseCSR A, DMatrixSparseCSR B, @Nullable DMatrixSparseCSR outputC ) {
+        return mult(A, B, outputC, null);
+    }
+
+    /**
+     * Performs matrix multiplication.  C = A*B. Concurrency workspace is about the same size as the resulting "output"
+     * matrix.
+     *
+     * @param A (Input) Matrix. Not modified.
+     * @param B (Input) Matrix. Not modified.
+     * @param outputC (Output) Storage for results.  Data length is increased if insufficient.
+     * @param listWork (Optional) Storage for internal workspace.  Can be null.
+     */
+    public static DMatrixSparseCSR mult( DMatrixSparseCSR A, DMatrixSparseCSR B, @Nullable DMatrixSparseCSR outputC,
+                                         @Nullable GrowArray<Workspace_MT_DSCR> listWork ) {
+        if (A.numCols != B.numRows)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        outputC = reshapeOrDeclare(outputC, A, A.numRows, B.numCols);
+
+        if (listWork == null)
+            listWork = new GrowArray<>(Workspace_MT_DSCR::new);
+
+        ImplMultiplication_MT_DSCR.mult(A, B, outputC, listWork);
+
+        return outputC;
+    }
+
+    /**
+     * Performs matrix addition:<br>
+     *
+     * C = &alpha;A + &beta;B
+     *
+     * @param alpha scalar value multiplied against A
+     * @param A Matrix
+     * @param beta scalar value multiplied against B
+     * @param B Matrix
+     * @param outputC Output matrix.
+     * @param listWork (Optional) Storage for internal workspace.  Can be null.
+     */
+    public static DMatrixSparseCSR add( double alpha, DMatrixSparseCSR A, double beta, DMatrixSparseCSR B,
+                                        @Nullable DMatrixSparseCSR outputC,
+                                        @Nullable GrowArray<Workspace_MT_DSCR> listWork ) {
+        if (A.numRows != B.numRows || A.numCols != B.numCols)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        outputC = reshapeOrDeclare(outputC, A, A.numRows, A.numCols);
+
+        if (listWork == null)
+            listWork = new GrowArray<>(Workspace_MT_DSCR::new);
+
+        ImplCommonOps_MT_DSCR.add(alpha, A, beta, B, outputC, listWork);
+
+        return outputC;
+    }
+
+    /**
+     * Performs matrix multiplication.  C = A*B
+     *
+     * @param A Matrix
+     * @param B Dense Matrix
+     * @param outputC Dense Matrix
+     */
+    public static DMatrixRMaj mult( DMatrixSparseCSR A, DMatrixRMaj B, @Nullable DMatrixRMaj outputC ) {
+        if (A.numCols != B.numRows)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        outputC = reshapeOrDeclare(outputC, A.numRows, B.numCols);
+
+        ImplMultiplication_MT_DSCR.mult(A, B, outputC);
+
+        return outputC;
+    }
+
+    /**
+     * <p>C = C + A*B</p>
+     */
+    public static void multAdd( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj outputC ) {
+        if (A.numCols != B.numRows)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        if (A.numRows != outputC.numRows || B.numCols != outputC.numCols)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B, outputC));
+
+        ImplMultiplication_MT_DSCR.multAdd(A, B, outputC);
+    }
+
+    /**
+     * Performs matrix multiplication.  C = A<sup>T</sup>*B
+     *
+     * @param A Matrix
+     * @param B Dense Matrix
+     * @param outputC Dense Matrix
+     */
+    public static DMatrixRMaj multTransA( DMatrixSparseCSR A, DMatrixRMaj B, @Nullable DMatrixRMaj outputC ) {
+        if (A.numRows != B.numRows)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        outputC = reshapeOrDeclare(outputC, A.numCols, B.numCols);
+
+        ImplMultiplication_MT_DSCR.multTransA(A, B, outputC);
+
+        return outputC;
+    }
+
+    /**
+     * <p>C = C + A<sup>T</sup>*B</p>
+     */
+    public static void multAddTransA( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj outputC ) {
+        if (A.numRows != B.numRows)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B));
+        if (A.numCols != outputC.numRows || B.numCols != outputC.numCols)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " + stringShapes(A, B, outputC));
+
+        ImplMultiplication_MT_DSCR.multAddTransA(A, B, outputC);
+    }
+}
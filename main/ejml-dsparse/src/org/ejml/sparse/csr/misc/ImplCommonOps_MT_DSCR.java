@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csr.misc;
+
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DMatrixSparseCSR;
+import org.ejml.sparse.csr.mult.Workspace_MT_DSCR;
+import pabeles.concurrency.GrowArray;
+
+import static org.ejml.UtilEjml.adjust;
+import static org.ejml.sparse.csr.mult.ImplMultiplication_MT_DSCR.stitchMatrix;
+
+/**
+ * Concurrent implementations of {@link ImplCommonOps_DSCR}.
+ *
+ * @author Peter Abeles
+ */
+public class ImplCommonOps_MT_DSCR {
+    /**
+     * Performs matrix addition:<br>
+     * C = &alpha;A + &beta;B
+     *
+     * @param alpha scalar value multiplied against A
+     * @param A Matrix
+     * @param beta scalar value multiplied against B
+     * @param B Matrix
+     * @param C Output matrix.
+     * @param listWork Storage for internal workspace.
+     */
+    public static void add( double alpha, DMatrixSparseCSR A, double beta, DMatrixSparseCSR B, DMatrixSparseCSR C,
+                            GrowArray<Workspace_MT_DSCR> listWork ) {
+        // loopBlocks won't reset the workspace if there are no rows
+        listWork.reset();
+
+        // Break the problem up into blocks of rows and process them independently
+        EjmlConcurrency.loopBlocks(0, A.numRows, listWork, ( workspace, row0, row1 ) -> {
+            DMatrixSparseCSR workC = workspace.mat;
+            workC.reshape(row1 - row0, A.numCols, row1 - row0);
+
+            double[] x = adjust(workspace.gx, A.numCols);
+            int[] w = adjust(workspace.gw, A.numCols, A.numCols);
+
+            for (int row = row0; row < row1; row++) {
+                ImplCommonOps_DSCR.addRow(alpha, A, beta, B, workC, row, row - row0, x, w);
+            }
+            workC.row_idx[row1 - row0] = workC.nz_length;
+        });
+
+        // Stitch the output back together
+        stitchMatrix(C, A.numRows, A.numCols, listWork);
+    }
+}
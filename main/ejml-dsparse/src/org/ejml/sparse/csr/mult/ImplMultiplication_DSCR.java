@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csr.mult;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSR;
+import org.ejml.data.IGrowArray;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * Implementations of matrix multiplication for {@link DMatrixSparseCSR}. Rows in the output only depend on a
+ * single row in the left matrix, so each row is computed independently.
+ *
+ * @author Peter Abeles
+ */
+public class ImplMultiplication_DSCR {
+
+    /**
+     * Performs matrix multiplication.  C = A*B
+     *
+     * @param A Matrix
+     * @param B Matrix
+     * @param C Storage for results.  Data length is increased if increased if insufficient.
+     * @param gw (Optional) Storage for internal workspace.  Can be null.
+     * @param gx (Optional) Storage for internal workspace.  Can be null.
+     */
+    public static void mult( DMatrixSparseCSR A, DMatrixSparseCSR B, DMatrixSparseCSR C,
+                             @Nullable IGrowArray gw, @Nullable DGrowArray gx ) {
+        double[] x = adjust(gx, B.numCols);
+        int[] w = adjust(gw, B.numCols, B.numCols);
+
+        C.growMaxLength(A.nz_length + B.nz_length, false);
+        C.indicesSorted = false;
+        C.nz_length = 0;
+
+        // C(i,:) = sum_k A(i,k)*B(k,:)
+        for (int row = 0; row < A.numRows; row++) {
+            multRow(A, row, B, C, row, x, w);
+        }
+    }
+
+    /**
+     * Computes a single row in C = A*B and appends it to C. All the previous rows in C must have already been
+     * computed.
+     *
+     * @param rowC Row in C that is being computed. Also used to mark elements in w.
+     */
+    public static void multRow( DMatrixSparseCSR A, int rowA, DMatrixSparseCSR B,
+                                DMatrixSparseCSR C, int rowC,
+                                double[] x, int[] w ) {
+        int idx0 = A.row_idx[rowA];
+        int idx1 = A.row_idx[rowA + 1];
+        C.row_idx[rowC + 1] = C.nz_length;
+
+        for (int i = idx0; i < idx1; i++) {
+            multAddRowA(B, A.nz_cols[i], A.nz_values[i], C, rowC + 1, x, w);
+        }
+
+        // take the values in the dense vector 'x' and put them into 'C'
+        int idxC0 = C.row_idx[rowC];
+        int idxC1 = C.row_idx[rowC + 1];
+
+        for (int i = idxC0; i < idxC1; i++) {
+            C.nz_values[i] = x[C.nz_cols[i]];
+        }
+    }
+
+    /**
+     * Performs the operation x = x + A(i,:)*alpha and adds new elements to the last row in C
+     *
+     * <p>NOTE: This is the row equivalent of cs_scatter() in csparse.</p>
+     */
+    public static void multAddRowA( DMatrixSparseCSR A, int rowA,
+                                    double alpha,
+                                    DMatrixSparseCSR C, int mark,
+                                    double[] x, int[] w ) {
+        int idxA0 = A.row_idx[rowA];
+        int idxA1 = A.row_idx[rowA + 1];
+
+        for (int j = idxA0; j < idxA1; j++) {
+            int col = A.nz_cols[j];
+
+            if (w[col] < mark) {
+                if (C.nz_length >= C.nz_cols.length) {
+                    C.growMaxLength(C.nz_length*2 + 1, true);
+                }
+
+                w[col] = mark;
+                C.nz_cols[C.nz_length] = col;
+                C.row_idx[mark] = ++C.nz_length;
+                x[col] = A.nz_values[j]*alpha;
+            } else {
+                x[col] += A.nz_values[j]*alpha;
+            }
+        }
+    }
+
+    /**
+     * Performs matrix multiplication.  C = A*B
+     *
+     * @param A Sparse matrix
+     * @param B Dense Matrix
+     * @param C Dense Matrix
+     */
+    public static void mult( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj C ) {
+        C.zero();
+        multAdd(A, B, C, 0, A.numRows);
+    }
+
+    /**
+     * Performs matrix multiplication.  C = C + A*B
+     *
+     * @param A Sparse matrix
+     * @param B Dense Matrix
+     * @param C Dense Matrix
+     */
+    public static void multAdd( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj C ) {
+        multAdd(A, B, C, 0, A.numRows);
+    }
+
+    /**
+     * C(i,:) = C(i,:) + A(i,:)*B for rows row0 to row1-1. Both B and C are traversed along their rows.
+     */
+    public static void multAdd( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj C, int row0, int row1 ) {
+        final int N = B.numCols;
+        for (int row = row0; row < row1; row++) {
+            int idx0 = A.row_idx[row];
+            int idx1 = A.row_idx[row + 1];
+            int indexC = row*N;
+
+            for (int i = idx0; i < idx1; i++) {
+                double valA = A.nz_values[i];
+                int indexB = A.nz_cols[i]*N;
+                for (int j = 0; j < N; j++) {
+                    C.data[indexC + j] += valA*B.data[indexB + j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Performs matrix multiplication.  C = A<sup>T</sup>*B
+     *
+     * @param A Sparse matrix
+     * @param B Dense Matrix
+     * @param C Dense Matrix
+     */
+    public static void multTransA( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj C ) {
+        C.zero();
+        multAddTransA(A, B, C, 0, B.numCols);
+    }
+
+    /**
+     * Performs matrix multiplication.  C = C + A<sup>T</sup>*B
+     *
+     * @param A Sparse matrix
+     * @param B Dense Matrix
+     * @param C Dense Matrix
+     */
+    public static void multAddTransA( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj C ) {
+        multAddTransA(A, B, C, 0, B.numCols);
+    }
+
+    /**
+     * C(:,j0:j1) = C(:,j0:j1) + A<sup>T</sup>*B(:,j0:j1). Row k in A is scattered into C, scaled by B(k,j).
+     */
+    public static void multAddTransA( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj C, int col0, int col1 ) {
+        for (int k = 0; k < A.numRows; k++) {
+            int idx0 = A.row_idx[k];
+            int idx1 = A.row_idx[k + 1];
+            int indexB = k*B.numCols;
+
+            for (int i = idx0; i < idx1; i++) {
+                double valA = A.nz_values[i];
+                int indexC = A.nz_cols[i]*C.numCols;
+                for (int j = col0; j < col1; j++) {
+                    C.data[indexC + j] += valA*B.data[indexB + j];
+                }
+            }
+        }
+    }
+}
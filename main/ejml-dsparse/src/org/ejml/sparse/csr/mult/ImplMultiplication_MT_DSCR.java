@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csr.mult;
+
+import org.ejml.UtilEjml;
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSR;
+import pabeles.concurrency.GrowArray;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * Concurrent matrix multiplication for DSCR matrices.
+ *
+ * @author Peter Abeles
+ */
+public class ImplMultiplication_MT_DSCR {
+    /**
+     * Performs matrix multiplication.  C = A*B. The problem is broken up into as many "blocks" as there are threads
+     * available. Each block will process a set of rows independently. After running results from independent
+     * blocks are stitched together in the main thread. Extra storage requirements is about the same size as
+     * 'C'.
+     *
+     * @param A Matrix
+     * @param B Matrix
+     * @param C Storage for results.  Data length is increased if increased if insufficient.
+     * @param listWork Storage for internal workspace.
+     */
+    public static void mult( DMatrixSparseCSR A, DMatrixSparseCSR B, DMatrixSparseCSR C,
+                             GrowArray<Workspace_MT_DSCR> listWork ) {
+        // loopBlocks won't reset the workspace if there are no rows
+        listWork.reset();
+
+        // Break the problem up into blocks of rows and process them independently
+        EjmlConcurrency.loopBlocks(0, A.numRows, listWork, ( workspace, row0, row1 ) -> {
+            DMatrixSparseCSR workC = workspace.mat;
+            workC.reshape(row1 - row0, B.numCols, row1 - row0);
+
+            double[] x = adjust(workspace.gx, B.numCols);
+            int[] w = adjust(workspace.gw, B.numCols, B.numCols);
+
+            for (int row = row0; row < row1; row++) {
+                ImplMultiplication_DSCR.multRow(A, row, B, workC, row - row0, x, w);
+            }
+        });
+
+        // Stitch the output back together
+        stitchMatrix(C, A.numRows, B.numCols, listWork);
+    }
+
+    /**
+     * Combines results from independent blocks of rows into a single matrix
+     */
+    public static void stitchMatrix( DMatrixSparseCSR out, int numRows, int numCols,
+                                     GrowArray<Workspace_MT_DSCR> listWork ) {
+        out.reshape(numRows, numCols);
+        out.indicesSorted = false;
+        out.nz_length = 0;
+
+        for (int i = 0; i < listWork.size(); i++) {
+            out.nz_length += listWork.get(i).mat.nz_length;
+        }
+        out.growMaxLength(out.nz_length, false);
+
+        out.nz_length = 0;
+        out.numRows = 0;
+        out.row_idx[0] = 0;
+        for (int i = 0; i < listWork.size(); i++) {
+            Workspace_MT_DSCR workspace = listWork.get(i);
+
+            System.arraycopy(workspace.mat.nz_cols, 0, out.nz_cols, out.nz_length, workspace.mat.nz_length);
+            System.arraycopy(workspace.mat.nz_values, 0, out.nz_values, out.nz_length, workspace.mat.nz_length);
+
+            for (int row = 1; row <= workspace.mat.numRows; row++) {
+                out.row_idx[++out.numRows] = out.nz_length + workspace.mat.row_idx[row];
+            }
+
+            out.nz_length += workspace.mat.nz_length;
+        }
+
+        // Sanity check the stitching
+        UtilEjml.assertEq(out.numRows, numRows);
+        UtilEjml.assertEq(out.row_idx[numRows], out.nz_length);
+    }
+
+    /**
+     * Performs matrix multiplication.  C = A*B. Each thread computes a block of rows in C.
+     */
+    public static void mult( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj C ) {
+        C.zero();
+        multAdd(A, B, C);
+    }
+
+    /**
+     * Performs matrix multiplication.  C = C + A*B. Each thread computes a block of rows in C.
+     */
+    public static void multAdd( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj C ) {
+        EjmlConcurrency.loopBlocks(0, A.numRows, ( row0, row1 ) ->
+                ImplMultiplication_DSCR.multAdd(A, B, C, row0, row1));
+    }
+
+    /**
+     * Performs matrix multiplication.  C = A<sup>T</sup>*B. Rows in A are scattered into C so to avoid
+     * writing to the same element in C each thread processes a block of columns in B and C.
+     */
+    public static void multTransA( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj C ) {
+        C.zero();
+        multAddTransA(A, B, C);
+    }
+
+    /**
+     * Performs matrix multiplication.  C = C + A<sup>T</sup>*B. See {@link #multTransA}.
+     */
+    public static void multAddTransA( DMatrixSparseCSR A, DMatrixRMaj B, DMatrixRMaj C ) {
+        EjmlConcurrency.loopBlocks(0, B.numCols, ( col0, col1 ) ->
+                ImplMultiplication_DSCR.multAddTransA(A, B, C, col0, col1));
+    }
+}
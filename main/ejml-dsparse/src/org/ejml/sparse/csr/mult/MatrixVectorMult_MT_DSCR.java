@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csr.mult;
+
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DMatrixSparseCSR;
+
+import static org.ejml.sparse.csr.mult.MatrixVectorMult_DSCR.checkLengths;
+
+/**
+ * Concurrent implementations of {@link MatrixVectorMult_DSCR}. Rows are divided into blocks and each thread
+ * writes to a different part of the output, so no additional memory or synchronization is required.
+ *
+ * @author Peter Abeles
+ */
+public class MatrixVectorMult_MT_DSCR {
+    /**
+     * c = A*b
+     *
+     * @param A (Input) Matrix
+     * @param b (Input) vector
+     * @param offsetB (Input) first index in vector b
+     * @param c (Output) vector
+     * @param offsetC (Output) first index in vector c
+     */
+    public static void mult( DMatrixSparseCSR A,
+                             double[] b, int offsetB,
+                             double[] c, int offsetC ) {
+        checkLengths(A, b, offsetB, c, offsetC);
+        EjmlConcurrency.loopBlocks(0, A.numRows, ( row0, row1 ) ->
+                MatrixVectorMult_DSCR.mult(A, b, offsetB, c, offsetC, row0, row1, false));
+    }
+
+    /**
+     * c = c + A*b
+     *
+     * @param A (Input) Matrix
+     * @param b (Input) vector
+     * @param offsetB (Input) first index in vector b
+     * @param c (Output) vector
+     * @param offsetC (Output) first index in vector c
+     */
+    public static void multAdd( DMatrixSparseCSR A,
+                                double[] b, int offsetB,
+                                double[] c, int offsetC ) {
+        checkLengths(A, b, offsetB, c, offsetC);
+        EjmlConcurrency.loopBlocks(0, A.numRows, ( row0, row1 ) ->
+                MatrixVectorMult_DSCR.mult(A, b, offsetB, c, offsetC, row0, row1, true));
+    }
+}
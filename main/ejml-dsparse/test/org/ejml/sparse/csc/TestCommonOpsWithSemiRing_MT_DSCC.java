@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.ops.DMonoids;
+import org.ejml.ops.DSemiRing;
+import org.ejml.ops.DSemiRings;
+import org.ejml.sparse.csc.mult.Workspace_MT_DSCC;
+import org.junit.jupiter.api.Test;
+import pabeles.concurrency.GrowArray;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestCommonOpsWithSemiRing_MT_DSCC {
+
+    private final Random rand = new Random(234);
+
+    private final GrowArray<Workspace_MT_DSCC> listWork = new GrowArray<>(Workspace_MT_DSCC::new);
+
+    private final DSemiRing[] semiRings = {DSemiRings.PLUS_TIMES, DSemiRings.MIN_PLUS, DSemiRings.OR_AND};
+
+    /**
+     * Results should be identical to the single threaded version
+     */
+    @Test void mult() {
+        for (DSemiRing semiRing : semiRings) {
+            for (int trial = 0; trial < 10; trial++) {
+                DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(30, 25, 10 + trial*20, rand);
+                DMatrixSparseCSC B = RandomMatrices_DSCC.rectangle(25, 20, 10 + trial*15, rand);
+
+                DMatrixSparseCSC expected = CommonOpsWithSemiRing_DSCC.mult(A, B, null, semiRing);
+                DMatrixSparseCSC found = CommonOpsWithSemiRing_MT_DSCC.mult(A, B, null, semiRing);
+
+                checkIdentical(expected, found);
+            }
+        }
+    }
+
+    @Test void mult_masked() {
+        for (DSemiRing semiRing : semiRings) {
+            for (int trial = 0; trial < 10; trial++) {
+                DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(30, 25, 10 + trial*20, rand);
+                DMatrixSparseCSC B = RandomMatrices_DSCC.rectangle(25, 20, 10 + trial*15, rand);
+                DMatrixSparseCSC mask = RandomMatrices_DSCC.rectangle(30, 20, 150, rand);
+                DMatrixSparseCSC initial = RandomMatrices_DSCC.rectangle(30, 20, 100, rand);
+                boolean complement = trial%2 == 0;
+
+                DMatrixSparseCSC expected = initial.copy();
+                DMatrixSparseCSC found = initial.copy();
+                CommonOpsWithSemiRing_DSCC.mult(A, B, expected, semiRing, mask, complement, DMonoids.PLUS, null, null);
+                CommonOpsWithSemiRing_MT_DSCC.mult(A, B, found, semiRing, mask, complement, DMonoids.PLUS, listWork);
+
+                checkIdentical(expected, found);
+            }
+        }
+    }
+
+    @Test void mult_dense() {
+        for (DSemiRing semiRing : semiRings) {
+            DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(30, 25, 200, rand);
+            DMatrixRMaj B = RandomMatrices_DDRM.rectangle(25, 20, rand);
+
+            DMatrixRMaj expected = CommonOpsWithSemiRing_DSCC.mult(A, B, null, semiRing);
+            DMatrixRMaj found = CommonOpsWithSemiRing_MT_DSCC.mult(A, B, null, semiRing);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, 0.0));
+
+            CommonOpsWithSemiRing_DSCC.multAdd(A, B, expected, semiRing);
+            CommonOpsWithSemiRing_MT_DSCC.multAdd(A, B, found, semiRing);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, 0.0));
+        }
+    }
+
+    @Test void multTransA_dense() {
+        for (DSemiRing semiRing : semiRings) {
+            DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(25, 30, 200, rand);
+            DMatrixRMaj B = RandomMatrices_DDRM.rectangle(25, 20, rand);
+
+            DMatrixRMaj expected = CommonOpsWithSemiRing_DSCC.multTransA(A, B, null, semiRing);
+            DMatrixRMaj found = CommonOpsWithSemiRing_MT_DSCC.multTransA(A, B, null, semiRing);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, 0.0));
+
+            CommonOpsWithSemiRing_DSCC.multAddTransA(A, B, expected, semiRing);
+            CommonOpsWithSemiRing_MT_DSCC.multAddTransA(A, B, found, semiRing);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, 0.0));
+        }
+    }
+
+    @Test void add() {
+        for (DSemiRing semiRing : semiRings) {
+            for (int trial = 0; trial < 10; trial++) {
+                DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(30, 25, 10 + trial*30, rand);
+                DMatrixSparseCSC B = RandomMatrices_DSCC.rectangle(30, 25, 10 + trial*25, rand);
+
+                DMatrixSparseCSC expected = CommonOpsWithSemiRing_DSCC.add(1.5, A, 0.5, B, null, semiRing, null, null);
+                DMatrixSparseCSC found = CommonOpsWithSemiRing_MT_DSCC.add(1.5, A, 0.5, B, null, semiRing, listWork);
+
+                checkIdentical(expected, found);
+            }
+        }
+    }
+
+    @Test void elementMult() {
+        for (DSemiRing semiRing : semiRings) {
+            for (int trial = 0; trial < 10; trial++) {
+                DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(30, 25, 10 + trial*30, rand);
+                DMatrixSparseCSC B = RandomMatrices_DSCC.rectangle(30, 25, 10 + trial*25, rand);
+
+                DMatrixSparseCSC expected = CommonOpsWithSemiRing_DSCC.elementMult(A, B, null, semiRing, null, null);
+                DMatrixSparseCSC found = CommonOpsWithSemiRing_MT_DSCC.elementMult(A, B, null, semiRing, listWork);
+
+                checkIdentical(expected, found);
+            }
+        }
+    }
+
+    /**
+     * Empty matrices should be handled correctly and not leave behind old results in the workspace
+     */
+    @Test void add_empty() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(30, 25, 100, rand);
+        CommonOpsWithSemiRing_MT_DSCC.add(1.0, A, 1.0, A, null, DSemiRings.PLUS_TIMES, listWork);
+
+        DMatrixSparseCSC E = new DMatrixSparseCSC(30, 0, 0);
+        DMatrixSparseCSC found = CommonOpsWithSemiRing_MT_DSCC.add(1.0, E, 1.0, E, null, DSemiRings.PLUS_TIMES, listWork);
+        assertEquals(0, found.numCols);
+        assertEquals(0, found.nz_length);
+    }
+
+    private static void checkIdentical( DMatrixSparseCSC expected, DMatrixSparseCSC found ) {
+        assertTrue(CommonOps_DSCC.checkStructure(found));
+        assertEquals(expected.nz_length, found.nz_length);
+        EjmlUnitTests.assertEquals(expected, found);
+    }
+}
@@ -22,10 +22,12 @@ import org.ejml.UtilEjml;
 import org.ejml.data.DGrowArray;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
 import org.ejml.dense.row.CommonOps_DDRM;
 import org.ejml.dense.row.MatrixFeatures_DDRM;
 import org.ejml.dense.row.RandomMatrices_DDRM;
 import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.triplet.RandomMatrices_DSTL;
 import org.junit.jupiter.api.Test;
 import pabeles.concurrency.GrowArray;
 
@@ -169,6 +171,16 @@ class TestCommonOps_MT_DSCC {
                 RandomMatrices_DSCC.rectangle(5, 6, 5, rand),
                 RandomMatrices_DDRM.rectangle(6, 4, rand),
                 RandomMatrices_DDRM.rectangle(6, 4, rand), false);
+
+        // B is a vector
+        check_s_d_mult(
+                RandomMatrices_DSCC.rectangle(5, 6, 12, rand),
+                RandomMatrices_DDRM.rectangle(6, 1, rand),
+                RandomMatrices_DDRM.rectangle(5, 1, rand), false);
+        check_s_d_mult(
+                RandomMatrices_DSCC.rectangle(5, 6, 12, rand),
+                RandomMatrices_DDRM.rectangle(6, 1, rand),
+                RandomMatrices_DDRM.rectangle(5, 3, rand), false);
     }
 
     private void check_s_d_mult( DMatrixSparseCSC A, DMatrixRMaj B, DMatrixRMaj C, boolean exception ) {
@@ -234,4 +246,20 @@ class TestCommonOps_MT_DSCC {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test void convert_triplet() {
+        DMatrixSparseTriplet src = RandomMatrices_DSTL.uniform(30, 20, 200, -1, 1, rand);
+        src.addItem(2, 3, 1.5);
+        src.addItem(2, 3, 2.0);
+        DMatrixSparseCSC expected = DConvertMatrixStruct.convert(src, (DMatrixSparseCSC)null, null);
+
+        // The output should be reshaped to match
+        DMatrixSparseCSC found = CommonOps_MT_DSCC.convert(src, new DMatrixSparseCSC(2, 3, 4), false, null);
+        assertTrue(MatrixFeatures_DSCC.isEqualsSort(expected, found, UtilEjml.TEST_F64));
+
+        CommonOps_DSCC.duplicatesAdd(expected, null);
+        found = CommonOps_MT_DSCC.convert(src, null, true, null);
+        assertTrue(CommonOps_DSCC.checkStructure(found));
+        assertTrue(MatrixFeatures_DSCC.isEqualsSort(expected, found, UtilEjml.TEST_F64));
+    }
+}
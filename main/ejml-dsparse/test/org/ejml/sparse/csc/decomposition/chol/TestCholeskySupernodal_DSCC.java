@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.chol;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
+import org.ejml.interfaces.decomposition.CholeskySparseDecomposition_F64;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csc.misc.ApproximateMinimumDegree_DSCC;
+import org.ejml.sparse.csc.misc.TestApproximateMinimumDegree_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestCholeskySupernodal_DSCC extends GenericCholeskyTests_DSCC {
+
+    public TestCholeskySupernodal_DSCC() {
+        canR = false;
+    }
+
+    @Override
+    public CholeskySparseDecomposition_F64<DMatrixSparseCSC> create( boolean lower ) {
+        return new CholeskySupernodal_DSCC();
+    }
+
+    /**
+     * Compare against the up looking decomposition on matrices with and without large supernodes
+     */
+    @Test
+    public void compareToUpLooking() {
+        for (int trial = 0; trial < 20; trial++) {
+            int N = 5 + rand.nextInt(60);
+            double probZero = 0.5 + rand.nextDouble()*0.5;
+            checkSameAsUpLooking(RandomMatrices_DSCC.symmetricPosDef(N, probZero, rand), false);
+        }
+
+        // after a fill reducing ordering the factor of a grid Laplacian has several large supernodes
+        DMatrixSparseCSC A = TestApproximateMinimumDegree_DSCC.createGridLaplacian(15);
+        ApproximateMinimumDegree_DSCC amd = new ApproximateMinimumDegree_DSCC(false);
+        amd.process(A);
+        int[] pinv = CommonOps_DSCC.permutationInverse(amd.getColumn().data, A.numCols);
+        DMatrixSparseCSC Ap = new DMatrixSparseCSC(1, 1, 0);
+        CommonOps_DSCC.permuteSymmetric(A, pinv, Ap, null);
+        checkSameAsUpLooking(Ap, true);
+    }
+
+    /**
+     * Use a small block size so that wide supernodes are factored in a block format
+     */
+    @Test
+    public void blockedFactorization() {
+        for (int trial = 0; trial < 20; trial++) {
+            int N = 5 + rand.nextInt(60);
+            double probZero = rand.nextDouble()*0.5;
+            checkSameAsUpLooking(RandomMatrices_DSCC.symmetricPosDef(N, probZero, rand), 2 + trial%4, false);
+        }
+    }
+
+    private void checkSameAsUpLooking( DMatrixSparseCSC A, boolean expectSupernodes ) {
+        checkSameAsUpLooking(A, -1, expectSupernodes);
+    }
+
+    private void checkSameAsUpLooking( DMatrixSparseCSC A, int blockLength, boolean expectSupernodes ) {
+        CholeskyUpLooking_DSCC expected = new CholeskyUpLooking_DSCC();
+        CholeskySupernodal_DSCC alg = new CholeskySupernodal_DSCC();
+        if (blockLength > 0) {
+            alg.blockLength = blockLength;
+            alg.blockedWidth = blockLength + 1;
+        }
+
+        assertTrue(expected.decompose(A));
+        assertTrue(alg.decompose(A));
+
+        if (expectSupernodes)
+            assertTrue(alg.getNumberOfSupernodes() < A.numCols/2);
+
+        DMatrixSparseCSC L = alg.getL();
+        assertTrue(CommonOps_DSCC.checkStructure(L));
+        EjmlUnitTests.assertEquals(expected.getL(), L, UtilEjml.TEST_F64);
+    }
+
+    /**
+     * Only the upper triangle should be read
+     */
+    @Test
+    public void upperTriangleOnly() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.symmetricPosDef(30, 0.7, rand);
+        DMatrixSparseTriplet T = new DMatrixSparseTriplet(30, 30, A.nz_length);
+        for (int col = 0; col < A.numCols; col++) {
+            for (int p = A.col_idx[col]; p < A.col_idx[col + 1]; p++) {
+                if (A.nz_rows[p] <= col)
+                    T.addItem(A.nz_rows[p], col, A.nz_values[p]);
+            }
+        }
+        DMatrixSparseCSC U = DConvertMatrixStruct.convert(T, (DMatrixSparseCSC)null);
+
+        CholeskySupernodal_DSCC expected = new CholeskySupernodal_DSCC();
+        CholeskySupernodal_DSCC alg = new CholeskySupernodal_DSCC();
+        assertTrue(expected.decompose(A));
+        assertTrue(alg.decompose(U));
+
+        EjmlUnitTests.assertEquals(expected.getL(), alg.getL(), UtilEjml.TEST_F64);
+    }
+}
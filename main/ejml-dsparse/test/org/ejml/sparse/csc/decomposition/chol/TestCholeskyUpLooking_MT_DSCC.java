@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2009-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.chol;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.interfaces.decomposition.CholeskySparseDecomposition_F64;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csc.misc.ApproximateMinimumDegree_DSCC;
+import org.ejml.sparse.csc.misc.TestApproximateMinimumDegree_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestCholeskyUpLooking_MT_DSCC extends GenericCholeskyTests_DSCC {
+
+    public TestCholeskyUpLooking_MT_DSCC() {
+        canR = false;
+    }
+
+    @Override
+    public CholeskySparseDecomposition_F64<DMatrixSparseCSC> create( boolean lower ) {
+        return new CholeskyUpLooking_MT_DSCC();
+    }
+
+    /**
+     * The results should be identical to the single thread version for any number of threads
+     */
+    @Test
+    public void compareToSingleThread() {
+        for (int trial = 0; trial < 20; trial++) {
+            int N = 5 + rand.nextInt(80);
+            double probZero = 0.5 + rand.nextDouble()*0.5;
+            DMatrixSparseCSC A = RandomMatrices_DSCC.symmetricPosDef(N, probZero, rand);
+            for (int numThreads = 1; numThreads <= 5; numThreads++) {
+                checkSameAsSingleThread(A, numThreads);
+            }
+        }
+
+        // a matrix with a bushy elimination tree
+        DMatrixSparseCSC A = TestApproximateMinimumDegree_DSCC.createGridLaplacian(20);
+        ApproximateMinimumDegree_DSCC amd = new ApproximateMinimumDegree_DSCC(false);
+        amd.process(A);
+        int[] pinv = CommonOps_DSCC.permutationInverse(amd.getColumn().data, A.numCols);
+        DMatrixSparseCSC Ap = new DMatrixSparseCSC(1, 1, 0);
+        CommonOps_DSCC.permuteSymmetric(A, pinv, Ap, null);
+        for (int numThreads = 1; numThreads <= 8; numThreads++) {
+            checkSameAsSingleThread(Ap, numThreads);
+        }
+    }
+
+    private void checkSameAsSingleThread( DMatrixSparseCSC A, int numThreads ) {
+        CholeskyUpLooking_DSCC expected = new CholeskyUpLooking_DSCC();
+        CholeskyUpLooking_MT_DSCC alg = new CholeskyUpLooking_MT_DSCC();
+
+        assertTrue(expected.decompose(A));
+        alg.performSymbolic(A);
+        alg.computeSchedule(numThreads);
+        checkSchedule(alg);
+        assertTrue(alg.performDecomposition(A));
+
+        assertTrue(CommonOps_DSCC.checkStructure(alg.getL()));
+        EjmlUnitTests.assertEquals(expected.getL(), alg.getL(), 0.0);
+    }
+
+    /**
+     * Every node must be processed exactly once and after all of its children
+     */
+    private void checkSchedule( CholeskyUpLooking_MT_DSCC alg ) {
+        int N = alg.N;
+        // the order in which each node is processed. All nodes in a level have the same order
+        int[] order = new int[N];
+        int[] bin = new int[N];
+        java.util.Arrays.fill(order, -1);
+        for (int b = 0; b < alg.numBins; b++) {
+            for (int i = alg.binIdx[b]; i < alg.binIdx[b + 1]; i++) {
+                int k = alg.binNodes[i];
+                assertEquals(-1, order[k]);
+                order[k] = i;
+                bin[k] = b;
+            }
+        }
+        for (int lvl = 0; lvl < alg.numLevels; lvl++) {
+            for (int i = alg.levelIdx[lvl]; i < alg.levelIdx[lvl + 1]; i++) {
+                int k = alg.levelNodes[i];
+                assertEquals(-1, order[k]);
+                order[k] = N + lvl;
+                bin[k] = -1;
+            }
+        }
+        for (int k = 0; k < N; k++) {
+            assertTrue(order[k] >= 0);
+            int p = alg.parent[k];
+            if (p == -1)
+                continue;
+            assertTrue(order[k] < order[p]);
+            // a child in a subtree must be processed by the same thread as its parent
+            if (bin[p] >= 0)
+                assertEquals(bin[k], bin[p]);
+        }
+    }
+
+    /**
+     * Should fail when the matrix isn't positive definite and still work with the next matrix
+     */
+    @Test
+    public void notPositiveDefinite() {
+        DMatrixSparseCSC A = TestApproximateMinimumDegree_DSCC.createGridLaplacian(10);
+        DMatrixSparseCSC B = A.copy();
+        B.set(50, 50, -4);
+
+        CholeskyUpLooking_MT_DSCC alg = new CholeskyUpLooking_MT_DSCC();
+        assertFalse(alg.decompose(B));
+        assertTrue(alg.decompose(A));
+
+        CholeskyUpLooking_DSCC expected = new CholeskyUpLooking_DSCC();
+        assertTrue(expected.decompose(A));
+        EjmlUnitTests.assertEquals(expected.getL(), alg.getL(), 0.0);
+    }
+}
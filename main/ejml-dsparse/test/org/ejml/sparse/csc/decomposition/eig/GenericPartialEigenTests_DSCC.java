@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DEigenpair;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csc.decomposition.eig.PartialEigenSolver_DSCC.Which;
+import org.ejml.sparse.csc.factory.LinearSolverFactory_DSCC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public abstract class GenericPartialEigenTests_DSCC {
+    protected Random rand = new Random(234);
+
+    public abstract PartialEigenSolver_DSCC create( int numEigen, Which which );
+
+    /**
+     * Compare against the eigenvalues found by a dense decomposition
+     */
+    @Test
+    public void compareToDense() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.symmetric(80, 400, -1, 1, rand);
+        double[] expected = denseEigenvalues(A);
+
+        for (Which which : Which.values()) {
+            PartialEigenSolver_DSCC alg = create(4, which);
+            assertTrue(alg.process(A));
+            List<DEigenpair> found = alg.getEigenpairs();
+            assertEquals(4, found.size());
+            for (int i = 0; i < 4; i++) {
+                double value = which == Which.SMALLEST ? expected[i] : expected[expected.length - 1 - i];
+                assertEquals(value, found.get(i).value, 100*UtilEjml.TEST_F64);
+            }
+            checkEigenpairs(A, found, 100*UtilEjml.TEST_F64);
+        }
+    }
+
+    /**
+     * Smallest eigenvalues of the Laplacian of a path graph are known analytically
+     */
+    @Test
+    public void laplacian_smallest() {
+        int N = 150;
+        DMatrixSparseCSC L = pathLaplacian(N);
+
+        PartialEigenSolver_DSCC alg = create(3, Which.SMALLEST);
+        alg.setTolerance(100*UtilEjml.TESTP_F64);
+        alg.setMaxIterations(5000);
+        assertTrue(alg.process(L));
+        for (int k = 0; k < 3; k++) {
+            assertEquals(pathEigenvalue(k, N), alg.getEigenpair(k).value, 10*UtilEjml.TEST_F64);
+        }
+        checkEigenpairs(L, alg.getEigenpairs(), 100*UtilEjml.TEST_F64);
+    }
+
+    /**
+     * Finds the smallest eigenvalues of a Laplacian using the largest eigenvalues of the shift-invert operator
+     */
+    @Test
+    public void laplacian_shiftInvert() {
+        int N = 300;
+        DMatrixSparseCSC L = pathLaplacian(N);
+
+        var operator = new ShiftInvertOperator_DSCC(L, -0.01, LinearSolverFactory_DSCC.cholesky(FillReducing.NONE));
+        PartialEigenSolver_DSCC alg = create(4, Which.LARGEST);
+        assertTrue(alg.process(operator));
+        for (int k = 0; k < 4; k++) {
+            assertEquals(pathEigenvalue(k, N), alg.getEigenpair(k).value, UtilEjml.TEST_F64);
+        }
+        checkEigenpairs(L, alg.getEigenpairs(), 100*UtilEjml.TEST_F64);
+    }
+
+    /**
+     * The concurrent operator should produce the same results
+     */
+    @Test
+    public void concurrentOperator() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.symmetric(60, 300, -1, 1, rand);
+
+        PartialEigenSolver_DSCC single = create(3, Which.LARGEST);
+        PartialEigenSolver_DSCC concurrent = create(3, Which.LARGEST);
+        assertTrue(single.process(new MatrixVectorOperator_DSCC(A)));
+        assertTrue(concurrent.process(new MatrixVectorOperator_MT_DSCC(A)));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(single.getEigenpair(i).value, concurrent.getEigenpair(i).value, UtilEjml.TEST_F64);
+        }
+    }
+
+    /**
+     * Request every eigenvalue in a small matrix
+     */
+    @Test
+    public void allEigenvalues() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.symmetric(6, 15, -1, 1, rand);
+        double[] expected = denseEigenvalues(A);
+
+        PartialEigenSolver_DSCC alg = create(6, Which.SMALLEST);
+        assertTrue(alg.process(A));
+        for (int i = 0; i < 6; i++) {
+            assertEquals(expected[i], alg.getEigenpair(i).value, UtilEjml.TEST_F64);
+        }
+        checkEigenpairs(A, alg.getEigenpairs(), 100*UtilEjml.TEST_F64);
+    }
+
+    @Test
+    public void tooManyEigenvalues() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.symmetric(5, 10, -1, 1, rand);
+        assertThrows(IllegalArgumentException.class, () -> create(6, Which.LARGEST).process(A));
+    }
+
+    /**
+     * Checks that A*x = lambda*x and that the eigenvectors are orthonormal
+     */
+    public static void checkEigenpairs( DMatrixSparseCSC A, List<DEigenpair> pairs, double tol ) {
+        double normA = CommonOps_DSCC.elementMaxAbs(A);
+        for (int i = 0; i < pairs.size(); i++) {
+            DEigenpair p = pairs.get(i);
+            DMatrixRMaj Ax = CommonOps_DSCC.mult(A, p.vector, null);
+            for (int j = 0; j < Ax.numRows; j++) {
+                assertEquals(p.value*p.vector.data[j], Ax.data[j], tol*normA);
+            }
+            for (int j = 0; j <= i; j++) {
+                double dot = 0;
+                for (int k = 0; k < Ax.numRows; k++) {
+                    dot += p.vector.data[k]*pairs.get(j).vector.data[k];
+                }
+                assertEquals(i == j ? 1.0 : 0.0, dot, tol);
+            }
+        }
+    }
+
+    /**
+     * Eigenvalues in ascending order
+     */
+    public static double[] denseEigenvalues( DMatrixSparseCSC A ) {
+        EigenDecomposition_F64<DMatrixRMaj> eig = DecompositionFactory_DDRM.eig(A.numCols, false, true);
+        assertTrue(eig.decompose(DConvertMatrixStruct.convert(A, (DMatrixRMaj)null)));
+        double[] values = new double[A.numCols];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = eig.getEigenvalue(i).real;
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    /**
+     * Laplacian of a graph where the nodes are connected in a line
+     */
+    public static DMatrixSparseCSC pathLaplacian( int N ) {
+        var L = new DMatrixSparseCSC(N, N, 3*N);
+        for (int i = 0; i < N; i++) {
+            int degree = 0;
+            if (i > 0) {
+                L.set(i - 1, i, -1);
+                degree++;
+            }
+            if (i + 1 < N) {
+                L.set(i + 1, i, -1);
+                degree++;
+            }
+            L.set(i, i, degree);
+        }
+        return L;
+    }
+
+    /**
+     * The k-th smallest eigenvalue of a path graph's Laplacian
+     */
+    public static double pathEigenvalue( int k, int N ) {
+        return 2.0 - 2.0*Math.cos(Math.PI*k/N);
+    }
+}
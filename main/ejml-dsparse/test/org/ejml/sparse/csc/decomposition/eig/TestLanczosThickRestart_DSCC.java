@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.sparse.csc.decomposition.eig.PartialEigenSolver_DSCC.Which;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLanczosThickRestart_DSCC extends GenericPartialEigenTests_DSCC {
+    @Override
+    public PartialEigenSolver_DSCC create( int numEigen, Which which ) {
+        return new LanczosThickRestart_DSCC(numEigen, which);
+    }
+
+    /**
+     * A small basis forces it to restart many times
+     */
+    @Test
+    public void smallBasis() {
+        int N = 200;
+        DMatrixSparseCSC L = pathLaplacian(N);
+
+        var alg = new LanczosThickRestart_DSCC(2, Which.LARGEST, 6);
+        alg.setMaxIterations(10_000);
+        alg.setTolerance(100*UtilEjml.TESTP_F64);
+        assertTrue(alg.process(L));
+        assertTrue(alg.getIterations() > 1);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(pathEigenvalue(N - 1 - i, N), alg.getEigenpair(i).value, UtilEjml.TEST_F64);
+        }
+        checkEigenpairs(L, alg.getEigenpairs(), 100*UtilEjml.TEST_F64);
+    }
+
+    @Test
+    public void basisTooSmall() {
+        DMatrixSparseCSC L = pathLaplacian(20);
+        var alg = new LanczosThickRestart_DSCC(3, Which.LARGEST, 3);
+        assertThrows(IllegalArgumentException.class, () -> alg.process(L));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.decomposition.eig.PartialEigenSolver_DSCC.Which;
+import org.ejml.sparse.csc.factory.LinearSolverFactory_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.PreconditionerJacobi_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLobpcg_DSCC extends GenericPartialEigenTests_DSCC {
+    @Override
+    public PartialEigenSolver_DSCC create( int numEigen, Which which ) {
+        return new Lobpcg_DSCC(numEigen, which);
+    }
+
+    /**
+     * Use a preconditioner on a matrix where the diagonal varies in scale
+     */
+    @Test
+    public void preconditioner() {
+        int N = 200;
+        DMatrixSparseCSC A = pathLaplacian(N);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, A.get(i, i) + 1.0 + i);
+        }
+        double[] expected = denseEigenvalues(A);
+
+        var alg = new Lobpcg_DSCC(3, Which.SMALLEST, 0, new PreconditionerJacobi_DSCC());
+        assertTrue(alg.process(A));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected[i], alg.getEigenpair(i).value, 10*UtilEjml.TEST_F64);
+        }
+        checkEigenpairs(A, alg.getEigenpairs(), 100*UtilEjml.TEST_F64);
+        int preconditioned = alg.getIterations();
+
+        var plain = new Lobpcg_DSCC(3, Which.SMALLEST);
+        assertTrue(plain.process(A));
+        assertTrue(preconditioned < plain.getIterations());
+    }
+
+    /**
+     * The preconditioner is computed from the operator's sparse matrix. Other operators can't be preconditioned.
+     */
+    @Test
+    public void preconditioner_operator() {
+        int N = 50;
+        DMatrixSparseCSC A = pathLaplacian(N);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, A.get(i, i) + 1.0 + i);
+        }
+        double[] expected = denseEigenvalues(A);
+
+        var alg = new Lobpcg_DSCC(2, Which.SMALLEST, 0, new PreconditionerJacobi_DSCC());
+        assertTrue(alg.process(new MatrixVectorOperator_MT_DSCC(A)));
+        for (int i = 0; i < 2; i++) {
+            assertEquals(expected[i], alg.getEigenpair(i).value, 10*UtilEjml.TEST_F64);
+        }
+
+        var shiftInvert = new ShiftInvertOperator_DSCC(A, 0.5, LinearSolverFactory_DSCC.cholesky(FillReducing.NONE));
+        assertThrows(IllegalArgumentException.class, () -> alg.process(shiftInvert));
+    }
+
+    @Test
+    public void blockTooSmall() {
+        assertThrows(IllegalArgumentException.class, () -> new Lobpcg_DSCC(3, Which.LARGEST, 2, null));
+    }
+}
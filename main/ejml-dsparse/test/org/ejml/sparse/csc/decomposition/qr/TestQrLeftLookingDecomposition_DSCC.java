@@ -42,7 +42,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 public class TestQrLeftLookingDecomposition_DSCC extends GenericDecompositionTests_DSCC {
 
     protected FillReducing permutationTests[] =
-            new FillReducing[]{FillReducing.NONE, FillReducing.IDENTITY};
+            new FillReducing[]{FillReducing.NONE, FillReducing.IDENTITY, FillReducing.COLAMD};
 
     @Override
     public DMatrixSparseCSC createMatrix(int N) {
@@ -106,6 +106,10 @@ public class TestQrLeftLookingDecomposition_DSCC extends GenericDecompositionTes
         ComputePermutation<DMatrixSparseCSC> reducePerm = FillReductionFactory_DSCC.create(reduce);
         QrLeftLookingDecomposition_DSCC alg = new QrLeftLookingDecomposition_DSCC(reducePerm);
 
+        // with more columns than rows a column ordering can move the non-singular block out of the leading columns
+        if (numRows < numCols && reduce != FillReducing.NONE && reduce != FillReducing.IDENTITY)
+            alwaysHasSolution = false;
+
         if (alwaysHasSolution)
             assertTrue(alg.decompose(A));
         else if (!alg.decompose(A))
@@ -122,7 +126,14 @@ public class TestQrLeftLookingDecomposition_DSCC extends GenericDecompositionTes
         DMatrixSparseCSC found = new DMatrixSparseCSC(Q.numRows, R.numCols, 0);
         CommonOps_DSCC.mult(Q, R, found, null, null);
 
-        EjmlUnitTests.assertEquals(A_cpy, found, UtilEjml.TEST_F64);
+        // the decomposition is of the fill reduced matrix
+        DMatrixSparseCSC expected = A_cpy;
+        if (alg.isFillPermutated()) {
+            expected = new DMatrixSparseCSC(1, 1, 0);
+            CommonOps_DSCC.permute(alg.getFillPermutationRowInv(), A_cpy, alg.getFillPermutation(), expected);
+        }
+
+        EjmlUnitTests.assertEquals(expected, found, UtilEjml.TEST_F64);
     }
 
     /**
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.decomposition.svd.SvdRandomized_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSvdRandomized_DSCC {
+    Random rand = new Random(234);
+
+    protected SvdRandomized_DSCC createSvd( int rank, int oversampling, int powerIterations ) {
+        return new SvdRandomized_DSCC(rank, oversampling, powerIterations, new Random(234));
+    }
+
+    /**
+     * Results should be the same as decomposing the dense matrix
+     */
+    @Test
+    public void compareToDense() {
+        for (int[] shape : new int[][]{{50, 30}, {30, 50}}) {
+            DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(shape[0], shape[1], 200, -1, 1, rand);
+            DMatrixRMaj denseA = DConvertMatrixStruct.convert(A, (DMatrixRMaj)null);
+
+            SvdRandomized_DSCC alg = createSvd(4, 6, 2);
+            var dense = new SvdRandomized_DDRM(4, 6, 2, new Random(234));
+            assertTrue(alg.decompose(A));
+            assertTrue(dense.decompose(denseA));
+
+            assertEquals(4, alg.numberOfSingularValues());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(dense.getSingularValues()[i], alg.getSingularValues()[i], UtilEjml.TEST_F64);
+            }
+            assertTrue(MatrixFeatures_DDRM.isIdentical(dense.getU(null, false), alg.getDenseU(null, false), UtilEjml.TEST_F64));
+            assertTrue(MatrixFeatures_DDRM.isIdentical(dense.getV(null, true), alg.getDenseV(null, true), UtilEjml.TEST_F64));
+        }
+    }
+
+    /**
+     * A sparse matrix with a low rank should be reconstructed exactly
+     */
+    @Test
+    public void reconstructLowRank() {
+        // diagonal matrix with only a few non-zero elements
+        DMatrixSparseCSC A = new DMatrixSparseCSC(40, 35, 3);
+        A.set(3, 7, 4.0);
+        A.set(10, 2, -3.0);
+        A.set(31, 30, 1.5);
+
+        SvdRandomized_DSCC alg = createSvd(3, 2, 1);
+        assertTrue(alg.decompose(A));
+        assertEquals(4.0, alg.getSingularValues()[0], UtilEjml.TEST_F64);
+        assertEquals(3.0, alg.getSingularValues()[1], UtilEjml.TEST_F64);
+        assertEquals(1.5, alg.getSingularValues()[2], UtilEjml.TEST_F64);
+
+        DMatrixSparseCSC U = alg.getU(null, false);
+        DMatrixSparseCSC W = alg.getW(null);
+        DMatrixSparseCSC Vt = alg.getV(null, true);
+        assertEquals(40, U.numRows);
+        assertEquals(3, U.numCols);
+        assertEquals(3, Vt.numRows);
+        assertEquals(35, Vt.numCols);
+
+        DMatrixSparseCSC found = CommonOps_DSCC.mult(CommonOps_DSCC.mult(U, W, null), Vt, null);
+        DMatrixRMaj expected = DConvertMatrixStruct.convert(A, (DMatrixRMaj)null);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected,
+                DConvertMatrixStruct.convert(found, (DMatrixRMaj)null), UtilEjml.TEST_F64));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Generic tests for preconditioners
+ *
+ * @author Peter Abeles
+ */
+public abstract class GenericPreconditionerTests_DSCC {
+    protected Random rand = new Random(234);
+
+    // If true then M is expected to be symmetric when A is symmetric
+    protected boolean symmetric = true;
+
+    public abstract Preconditioner_DSCC create();
+
+    /**
+     * Computes the preconditioner M as a dense matrix
+     */
+    public abstract DMatrixRMaj computeM( Preconditioner_DSCC alg, DMatrixSparseCSC A );
+
+    /**
+     * Compare the solution against explicitly inverting M
+     */
+    @Test
+    public void compareToDense() {
+        for (int N : new int[]{1, 5, 20}) {
+            DMatrixSparseCSC A = RandomMatrices_DSCC.symmetricPosDef(N, 0.3, rand);
+            DMatrixSparseCSC A_cpy = A.copy();
+
+            Preconditioner_DSCC alg = create();
+            assertTrue(alg.decompose(A));
+            assertTrue(isIdentical(A_cpy, A));
+
+            DMatrixRMaj M = computeM(alg, A);
+            DMatrixRMaj b = RandomMatrices_DDRM.rectangle(N, 1, rand);
+            DMatrixRMaj expected = new DMatrixRMaj(N, 1);
+            CommonOps_DDRM.solve(M, b, expected);
+
+            DMatrixRMaj b_cpy = b.copy();
+            DMatrixRMaj found = new DMatrixRMaj(N, 1);
+            alg.solve(b.data, found.data);
+
+            assertTrue(MatrixFeatures_DDRM.isIdentical(b_cpy, b, 0.0));
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+        }
+    }
+
+    /**
+     * The preconditioner needs to be symmetric for it to be used with conjugate gradient
+     */
+    @Test
+    public void symmetric() {
+        if (!symmetric)
+            return;
+        DMatrixSparseCSC A = RandomMatrices_DSCC.symmetricPosDef(15, 0.3, rand);
+        Preconditioner_DSCC alg = create();
+        assertTrue(alg.decompose(A));
+
+        DMatrixRMaj M = computeM(alg, A);
+        assertTrue(MatrixFeatures_DDRM.isSymmetric(M, UtilEjml.TEST_F64));
+    }
+
+    /**
+     * A matrix of all zeros should fail
+     */
+    @Test
+    public void allZeros() {
+        assertFalse(create().decompose(new DMatrixSparseCSC(5, 5, 0)));
+    }
+
+    @Test
+    public void notSquare() {
+        assertThrows(IllegalArgumentException.class, () -> create().decompose(new DMatrixSparseCSC(5, 4, 0)));
+    }
+
+    private static boolean isIdentical( DMatrixSparseCSC a, DMatrixSparseCSC b ) {
+        return MatrixFeatures_DDRM.isIdentical(DConvertMatrixStruct.convert(a, (DMatrixRMaj)null),
+                DConvertMatrixStruct.convert(b, (DMatrixRMaj)null), 0.0);
+    }
+}
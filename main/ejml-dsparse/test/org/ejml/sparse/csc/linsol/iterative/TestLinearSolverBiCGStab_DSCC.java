@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.interfaces.linsol.LinearSolverSparse;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.linsol.GenericLinearSolverSparseTests_DSCC;
+import org.ejml.sparse.csc.misc.TestApproximateMinimumDegree_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearSolverBiCGStab_DSCC extends GenericLinearSolverSparseTests_DSCC {
+
+    public TestLinearSolverBiCGStab_DSCC() {
+        equalityTolerance = 100*UtilEjml.TEST_F64;
+        canHandleWide = false;
+        canHandleTall = false;
+        canDecomposeZeros = false;
+
+        // there is no fill reduction so only test one
+        permutationTests = new FillReducing[]{FillReducing.NONE};
+    }
+
+    @Override
+    public LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> createSolver( FillReducing permutation ) {
+        LinearSolverBiCGStab_DSCC solver = new LinearSolverBiCGStab_DSCC(new PreconditionerIlut_DSCC());
+        solver.setTolerance(UtilEjml.TESTP_F64);
+        solver.setMaxIterations(500);
+        return solver;
+    }
+
+    @Override
+    public DMatrixSparseCSC createA( int N ) {
+        return TestLinearSolverGmres_DSCC.createDiagonallyDominant(N, rand);
+    }
+
+    /**
+     * Solve an unsymmetric system using different preconditioners
+     */
+    @Test
+    public void unsymmetric() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.createConvectionDiffusion(15);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 2, rand);
+
+        Preconditioner_DSCC[] preconditioners = new Preconditioner_DSCC[]{null,
+                new PreconditionerIlu0_DSCC(), new PreconditionerIlut_DSCC()};
+
+        int iterationsNone = 0;
+        for (Preconditioner_DSCC p : preconditioners) {
+            LinearSolverBiCGStab_DSCC solver = new LinearSolverBiCGStab_DSCC(p);
+            assertTrue(solver.setA(A));
+
+            DMatrixRMaj X = new DMatrixRMaj(1, 1);
+            solver.solve(B, X);
+
+            assertTrue(solver.isConverged());
+            TestLinearSolverPcg_DSCC.checkResidual(A, X, B, solver.getResidualNorm());
+            if (p == null)
+                iterationsNone = solver.getIterations();
+            else
+                assertTrue(solver.getIterations() < iterationsNone);
+        }
+    }
+
+    /**
+     * It should report a failure if it can't converge in the allowed number of iterations
+     */
+    @Test
+    public void maxIterations() {
+        DMatrixSparseCSC A = TestApproximateMinimumDegree_DSCC.createGridLaplacian(20);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+
+        LinearSolverBiCGStab_DSCC solver = new LinearSolverBiCGStab_DSCC();
+        solver.setMaxIterations(3);
+        assertTrue(solver.setA(A));
+        DMatrixRMaj X = new DMatrixRMaj(1, 1);
+        solver.solve(B, X);
+
+        assertFalse(solver.isConverged());
+        assertEquals(3, solver.getIterations());
+    }
+
+    /**
+     * B is all zeros so the solution is all zeros
+     */
+    @Test
+    public void zeroB() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.createConvectionDiffusion(5);
+        LinearSolverBiCGStab_DSCC solver = new LinearSolverBiCGStab_DSCC();
+        assertTrue(solver.setA(A));
+
+        DMatrixRMaj X = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+        solver.solve(new DMatrixRMaj(A.numRows, 1), X);
+        assertTrue(solver.isConverged());
+        EjmlUnitTests.assertEquals(new DMatrixRMaj(A.numRows, 1), X, 0.0);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.interfaces.linsol.LinearSolverSparse;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csc.linsol.GenericLinearSolverSparseTests_DSCC;
+import org.ejml.sparse.csc.misc.TestApproximateMinimumDegree_DSCC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearSolverGmres_DSCC extends GenericLinearSolverSparseTests_DSCC {
+
+    public TestLinearSolverGmres_DSCC() {
+        equalityTolerance = 100*UtilEjml.TEST_F64;
+        canHandleWide = false;
+        canHandleTall = false;
+        canDecomposeZeros = false;
+
+        // there is no fill reduction so only test one
+        permutationTests = new FillReducing[]{FillReducing.NONE};
+    }
+
+    @Override
+    public LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> createSolver( FillReducing permutation ) {
+        LinearSolverGmres_DSCC solver = new LinearSolverGmres_DSCC(10, new PreconditionerIlu0_DSCC());
+        solver.setTolerance(UtilEjml.TESTP_F64);
+        solver.setMaxIterations(500);
+        return solver;
+    }
+
+    @Override
+    public DMatrixSparseCSC createA( int N ) {
+        return createDiagonallyDominant(N, rand);
+    }
+
+    /**
+     * Solve an unsymmetric system using different preconditioners and restart lengths
+     */
+    @Test
+    public void unsymmetric() {
+        DMatrixSparseCSC A = createConvectionDiffusion(15);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 2, rand);
+
+        Preconditioner_DSCC[] preconditioners = new Preconditioner_DSCC[]{null,
+                new PreconditionerIlu0_DSCC(), new PreconditionerIlut_DSCC()};
+
+        for (int restart : new int[]{5, 30}) {
+            int iterationsNone = 0;
+            for (Preconditioner_DSCC p : preconditioners) {
+                LinearSolverGmres_DSCC solver = new LinearSolverGmres_DSCC(restart, p);
+                solver.setMaxIterations(2000);
+                assertTrue(solver.setA(A));
+
+                DMatrixRMaj X = new DMatrixRMaj(1, 1);
+                solver.solve(B, X);
+
+                assertTrue(solver.isConverged());
+                TestLinearSolverPcg_DSCC.checkResidual(A, X, B, solver.getResidualNorm());
+                if (p == null)
+                    iterationsNone = solver.getIterations();
+                else
+                    assertTrue(solver.getIterations() < iterationsNone);
+            }
+        }
+    }
+
+    /**
+     * Without restarts GMRES will find the exact solution in at most N iterations
+     */
+    @Test
+    public void fullOrthogonalization() {
+        DMatrixSparseCSC A = createDiagonallyDominant(20, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+
+        LinearSolverGmres_DSCC solver = new LinearSolverGmres_DSCC(20, null);
+        assertTrue(solver.setA(A));
+        DMatrixRMaj X = new DMatrixRMaj(1, 1);
+        solver.solve(B, X);
+
+        assertTrue(solver.isConverged());
+        assertTrue(solver.getIterations() <= 20);
+        TestLinearSolverPcg_DSCC.checkResidual(A, X, B, solver.getResidualNorm());
+    }
+
+    /**
+     * It should report a failure if it can't converge in the allowed number of iterations
+     */
+    @Test
+    public void maxIterations() {
+        DMatrixSparseCSC A = TestApproximateMinimumDegree_DSCC.createGridLaplacian(20);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+
+        LinearSolverGmres_DSCC solver = new LinearSolverGmres_DSCC(4, null);
+        solver.setMaxIterations(7);
+        assertTrue(solver.setA(A));
+        DMatrixRMaj X = new DMatrixRMaj(1, 1);
+        solver.solve(B, X);
+
+        assertFalse(solver.isConverged());
+        assertEquals(7, solver.getIterations());
+        assertTrue(solver.getResidualNorm() > solver.getTolerance());
+    }
+
+    @Test
+    public void badRestart() {
+        assertThrows(IllegalArgumentException.class, () -> new LinearSolverGmres_DSCC(0, null));
+    }
+
+    /**
+     * Random unsymmetric matrix which is strictly diagonally dominant
+     */
+    public static DMatrixSparseCSC createDiagonallyDominant( int N, Random rand ) {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(N, N, N*N/4, -1, 1, rand);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, 0);
+        }
+        for (int col = 0; col < N; col++) {
+            double sum = 0;
+            for (int p = A.col_idx[col]; p < A.col_idx[col + 1]; p++) {
+                sum += Math.abs(A.nz_values[p]);
+            }
+            A.set(col, col, sum + 1 + rand.nextDouble());
+        }
+        return A;
+    }
+
+    /**
+     * Upwind finite difference discretization of a 2D convection diffusion equation. A common unsymmetric test problem.
+     */
+    public static DMatrixSparseCSC createConvectionDiffusion( int width ) {
+        DMatrixSparseCSC A = TestApproximateMinimumDegree_DSCC.createGridLaplacian(width);
+        for (int i = 0; i < A.numRows; i++) {
+            A.set(i, i, A.get(i, i) + 1.0);
+            if (i%width > 0)
+                A.set(i, i - 1, A.get(i, i - 1) - 1.0);
+        }
+        return A;
+    }
+}
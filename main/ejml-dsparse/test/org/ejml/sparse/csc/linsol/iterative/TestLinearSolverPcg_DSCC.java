@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.interfaces.linsol.LinearSolverSparse;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csc.linsol.GenericLinearSolverSparseTests_DSCC;
+import org.ejml.sparse.csc.misc.TestApproximateMinimumDegree_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearSolverPcg_DSCC extends GenericLinearSolverSparseTests_DSCC {
+
+    public TestLinearSolverPcg_DSCC() {
+        equalityTolerance = 100*UtilEjml.TEST_F64;
+        canHandleWide = false;
+        canHandleTall = false;
+        canDecomposeZeros = false;
+
+        // there is no fill reduction so only test one
+        permutationTests = new FillReducing[]{FillReducing.NONE};
+    }
+
+    @Override
+    public LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> createSolver( FillReducing permutation ) {
+        LinearSolverPcg_DSCC solver = new LinearSolverPcg_DSCC(new PreconditionerIncompleteCholesky_DSCC());
+        solver.setTolerance(UtilEjml.TESTP_F64);
+        solver.setMaxIterations(200);
+        return solver;
+    }
+
+    @Override
+    public DMatrixSparseCSC createA( int N ) {
+        return RandomMatrices_DSCC.symmetricPosDef(N, 0.25, rand);
+    }
+
+    /**
+     * Solve using all the preconditioners and check the convergence information
+     */
+    @Test
+    public void allPreconditioners() {
+        DMatrixSparseCSC A = TestApproximateMinimumDegree_DSCC.createGridLaplacian(20);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 2, rand);
+
+        Preconditioner_DSCC[] preconditioners = new Preconditioner_DSCC[]{null,
+                new PreconditionerJacobi_DSCC(), new PreconditionerSsor_DSCC(1.5),
+                new PreconditionerIncompleteCholesky_DSCC()};
+
+        int iterationsNone = 0;
+        for (Preconditioner_DSCC p : preconditioners) {
+            LinearSolverPcg_DSCC solver = new LinearSolverPcg_DSCC(p);
+            assertTrue(solver.setA(A));
+            assertSame(p, solver.getDecomposition());
+
+            DMatrixRMaj X = new DMatrixRMaj(1, 1);
+            solver.solve(B, X);
+
+            assertTrue(solver.isConverged());
+            assertTrue(solver.getResidualNorm() <= solver.getTolerance());
+            assertTrue(solver.getIterations() > 0);
+            checkResidual(A, X, B, solver.getResidualNorm());
+
+            if (p == null)
+                iterationsNone = solver.getIterations();
+            else if (!(p instanceof PreconditionerJacobi_DSCC)) {
+                // The Laplacian has a constant diagonal so Jacobi won't help. The others should
+                assertTrue(solver.getIterations() < iterationsNone);
+            }
+        }
+    }
+
+    /**
+     * If the previous solution is used then it should converge immediately
+     */
+    @Test
+    public void warmStart() {
+        DMatrixSparseCSC A = TestApproximateMinimumDegree_DSCC.createGridLaplacian(10);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+
+        LinearSolverPcg_DSCC solver = new LinearSolverPcg_DSCC(new PreconditionerJacobi_DSCC());
+        assertTrue(solver.setA(A));
+
+        DMatrixRMaj X = new DMatrixRMaj(1, 1);
+        solver.solve(B, X);
+        int coldIterations = solver.getIterations();
+
+        // without a warm start the same number of iterations should be required
+        solver.solve(B, X);
+        assertEquals(coldIterations, solver.getIterations());
+
+        // with a warm start it's already converged
+        solver.setWarmStart(true);
+        solver.solve(B, X);
+        assertEquals(0, solver.getIterations());
+        assertTrue(solver.isConverged());
+
+        // a slightly different B should require fewer iterations
+        B.data[3] += 1e-4;
+        solver.solve(B, X);
+        assertTrue(solver.isConverged());
+        assertTrue(solver.getIterations() < coldIterations);
+        checkResidual(A, X, B, solver.getResidualNorm());
+    }
+
+    /**
+     * It should report a failure if it can't converge in the allowed number of iterations
+     */
+    @Test
+    public void maxIterations() {
+        DMatrixSparseCSC A = TestApproximateMinimumDegree_DSCC.createGridLaplacian(20);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+
+        LinearSolverPcg_DSCC solver = new LinearSolverPcg_DSCC();
+        solver.setMaxIterations(3);
+        assertTrue(solver.setA(A));
+        DMatrixRMaj X = new DMatrixRMaj(1, 1);
+        solver.solve(B, X);
+
+        assertFalse(solver.isConverged());
+        assertEquals(3, solver.getIterations());
+        assertTrue(solver.getResidualNorm() > solver.getTolerance());
+    }
+
+    /**
+     * B is all zeros so the solution is all zeros
+     */
+    @Test
+    public void zeroB() {
+        DMatrixSparseCSC A = TestApproximateMinimumDegree_DSCC.createGridLaplacian(5);
+        LinearSolverPcg_DSCC solver = new LinearSolverPcg_DSCC();
+        assertTrue(solver.setA(A));
+
+        DMatrixRMaj X = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+        solver.solve(new DMatrixRMaj(A.numRows, 1), X);
+        assertTrue(solver.isConverged());
+        EjmlUnitTests.assertEquals(new DMatrixRMaj(A.numRows, 1), X, 0.0);
+    }
+
+    static void checkResidual( DMatrixSparseCSC A, DMatrixRMaj X, DMatrixRMaj B, double tol ) {
+        DMatrixRMaj found = new DMatrixRMaj(1, 1);
+        CommonOps_DSCC.mult(A, X, found);
+        for (int col = 0; col < B.numCols; col++) {
+            double normB = 0, normR = 0;
+            for (int i = 0; i < B.numRows; i++) {
+                normB += B.get(i, col)*B.get(i, col);
+                double r = B.get(i, col) - found.get(i, col);
+                normR += r*r;
+            }
+            // the recursively computed residual drifts a little from the true residual
+            assertEquals(0.0, Math.sqrt(normR/normB), Math.max(tol*10, UtilEjml.TEST_F64));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionAlt_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPreconditionerIlu0_DSCC extends GenericPreconditionerTests_DSCC {
+    public TestPreconditionerIlu0_DSCC() {
+        symmetric = false;
+    }
+
+    @Override
+    public Preconditioner_DSCC create() {
+        return new PreconditionerIlu0_DSCC();
+    }
+
+    @Override
+    public DMatrixRMaj computeM( Preconditioner_DSCC alg, DMatrixSparseCSC A ) {
+        PreconditionerIlu0_DSCC ilu = (PreconditionerIlu0_DSCC)alg;
+        return multiplyLU(ilu.getL(), ilu.getU());
+    }
+
+    /**
+     * L*U must be equal to A for every element in the pattern of A and L+U must have the same pattern as A
+     */
+    @Test
+    public void matchesPatternOfA() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.createDiagonallyDominant(30, rand);
+        PreconditionerIlu0_DSCC alg = new PreconditionerIlu0_DSCC();
+        assertTrue(alg.decompose(A));
+
+        assertEquals(A.nz_length + A.numCols, alg.getL().nz_length + alg.getU().nz_length);
+        DMatrixRMaj LU = multiplyLU(alg.getL(), alg.getU());
+        for (int col = 0; col < A.numCols; col++) {
+            for (int p = A.col_idx[col]; p < A.col_idx[col + 1]; p++) {
+                assertEquals(A.nz_values[p], LU.get(A.nz_rows[p], col), UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    /**
+     * A tridiagonal matrix has no fill in so ILU(0) is the same as LU
+     */
+    @Test
+    public void tridiagonalIsExact() {
+        int N = 15;
+        DMatrixSparseTriplet T = new DMatrixSparseTriplet(N, N, 3*N);
+        for (int i = 0; i < N; i++) {
+            T.addItem(i, i, 3 + rand.nextDouble());
+            if (i > 0) T.addItem(i, i - 1, rand.nextDouble() - 0.5);
+            if (i + 1 < N) T.addItem(i, i + 1, rand.nextDouble() - 0.5);
+        }
+        DMatrixSparseCSC A = DConvertMatrixStruct.convert(T, (DMatrixSparseCSC)null);
+
+        PreconditionerIlu0_DSCC alg = new PreconditionerIlu0_DSCC();
+        assertTrue(alg.decompose(A));
+
+        LUDecompositionAlt_DDRM lu = new LUDecompositionAlt_DDRM();
+        assertTrue(lu.decompose(DConvertMatrixStruct.convert(A, (DMatrixRMaj)null)));
+        EjmlUnitTests.assertEquals(lu.getUpper(null), DConvertMatrixStruct.convert(alg.getU(), (DMatrixRMaj)null), UtilEjml.TEST_F64);
+        EjmlUnitTests.assertEquals(lu.getLower(null), DConvertMatrixStruct.convert(alg.getL(), (DMatrixRMaj)null), UtilEjml.TEST_F64);
+    }
+
+    /**
+     * Unsorted row indexes should produce the same result
+     */
+    @Test
+    public void unsortedInput() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.createDiagonallyDominant(20, rand);
+        DMatrixSparseCSC shuffled = A.copy();
+        // reverse the order of rows in each column
+        for (int col = 0; col < A.numCols; col++) {
+            int idx0 = A.col_idx[col], idx1 = A.col_idx[col + 1];
+            for (int p = idx0; p < idx1; p++) {
+                shuffled.nz_rows[p] = A.nz_rows[idx1 - 1 - (p - idx0)];
+                shuffled.nz_values[p] = A.nz_values[idx1 - 1 - (p - idx0)];
+            }
+        }
+        shuffled.indicesSorted = false;
+
+        PreconditionerIlu0_DSCC expected = new PreconditionerIlu0_DSCC();
+        PreconditionerIlu0_DSCC found = new PreconditionerIlu0_DSCC();
+        assertTrue(expected.decompose(A));
+        assertTrue(found.decompose(shuffled));
+
+        EjmlUnitTests.assertEquals(expected.getL(), found.getL());
+        EjmlUnitTests.assertEquals(expected.getU(), found.getU());
+    }
+
+    /**
+     * It should fail if there's no diagonal element
+     */
+    @Test
+    public void missingDiagonal() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.createDiagonallyDominant(10, rand);
+        A.remove(4, 4);
+        assertFalse(new PreconditionerIlu0_DSCC().decompose(A));
+    }
+
+    static DMatrixRMaj multiplyLU( DMatrixSparseCSC L, DMatrixSparseCSC U ) {
+        DMatrixRMaj M = new DMatrixRMaj(L.numRows, L.numCols);
+        CommonOps_DDRM.mult(DConvertMatrixStruct.convert(L, (DMatrixRMaj)null),
+                DConvertMatrixStruct.convert(U, (DMatrixRMaj)null), M);
+        return M;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPreconditionerIlut_DSCC extends GenericPreconditionerTests_DSCC {
+    public TestPreconditionerIlut_DSCC() {
+        symmetric = false;
+    }
+
+    @Override
+    public Preconditioner_DSCC create() {
+        return new PreconditionerIlut_DSCC(1e-2, 5);
+    }
+
+    @Override
+    public DMatrixRMaj computeM( Preconditioner_DSCC alg, DMatrixSparseCSC A ) {
+        PreconditionerIlut_DSCC ilu = (PreconditionerIlut_DSCC)alg;
+        return TestPreconditionerIlu0_DSCC.multiplyLU(ilu.getL(), ilu.getU());
+    }
+
+    /**
+     * If nothing is dropped then it's a complete LU decomposition
+     */
+    @Test
+    public void noDroppingIsExact() {
+        int N = 25;
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.createDiagonallyDominant(N, rand);
+        PreconditionerIlut_DSCC alg = new PreconditionerIlut_DSCC(0.0, N);
+        assertTrue(alg.decompose(A));
+
+        DMatrixRMaj LU = TestPreconditionerIlu0_DSCC.multiplyLU(alg.getL(), alg.getU());
+        EjmlUnitTests.assertEquals(DConvertMatrixStruct.convert(A, (DMatrixRMaj)null), LU, UtilEjml.TEST_F64);
+    }
+
+    /**
+     * Increasing the drop tolerance or reducing the fill should reduce the number of elements
+     */
+    @Test
+    public void dropping() {
+        int N = 40;
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.createDiagonallyDominant(N, rand);
+
+        PreconditionerIlut_DSCC exact = new PreconditionerIlut_DSCC(0.0, N);
+        PreconditionerIlut_DSCC dropTol = new PreconditionerIlut_DSCC(0.05, N);
+        PreconditionerIlut_DSCC fill = new PreconditionerIlut_DSCC(0.0, 2);
+        assertTrue(exact.decompose(A));
+        assertTrue(dropTol.decompose(A));
+        assertTrue(fill.decompose(A));
+
+        int nzExact = exact.getL().nz_length + exact.getU().nz_length;
+        assertTrue(dropTol.getL().nz_length + dropTol.getU().nz_length < nzExact);
+        assertTrue(fill.getL().nz_length + fill.getU().nz_length < nzExact);
+
+        // diagonal plus at most 2 elements in each column
+        for (int col = 0; col < N; col++) {
+            assertTrue(fill.getL().col_idx[col + 1] - fill.getL().col_idx[col] <= 3);
+            assertTrue(fill.getU().col_idx[col + 1] - fill.getU().col_idx[col] <= 3);
+        }
+    }
+
+    @Test
+    public void badArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PreconditionerIlut_DSCC(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> new PreconditionerIlut_DSCC(0.1, -1));
+    }
+}
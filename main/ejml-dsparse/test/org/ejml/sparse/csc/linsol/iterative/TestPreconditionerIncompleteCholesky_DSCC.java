@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.decomposition.chol.CholeskyUpLooking_DSCC;
+import org.ejml.sparse.csc.misc.TestApproximateMinimumDegree_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPreconditionerIncompleteCholesky_DSCC extends GenericPreconditionerTests_DSCC {
+    @Override
+    public Preconditioner_DSCC create() {
+        return new PreconditionerIncompleteCholesky_DSCC();
+    }
+
+    @Override
+    public DMatrixRMaj computeM( Preconditioner_DSCC alg, DMatrixSparseCSC A ) {
+        DMatrixRMaj L = DConvertMatrixStruct.convert(((PreconditionerIncompleteCholesky_DSCC)alg).getL(), (DMatrixRMaj)null);
+        DMatrixRMaj M = new DMatrixRMaj(1, 1);
+        CommonOps_DDRM.multTransB(L, L, M);
+        return M;
+    }
+
+    /**
+     * L must have the same structure as the lower triangle of A
+     */
+    @Test
+    public void noFillIn() {
+        DMatrixSparseCSC A = TestApproximateMinimumDegree_DSCC.createGridLaplacian(6);
+        PreconditionerIncompleteCholesky_DSCC alg = new PreconditionerIncompleteCholesky_DSCC();
+        assertTrue(alg.decompose(A));
+
+        DMatrixSparseCSC L = alg.getL();
+        assertTrue(CommonOps_DSCC.checkStructure(L));
+        for (int col = 0; col < A.numCols; col++) {
+            for (int row = 0; row < A.numRows; row++) {
+                boolean expected = row >= col && A.isAssigned(row, col);
+                assertEquals(expected, L.isAssigned(row, col));
+            }
+        }
+        assertEquals(0.0, alg.getShift());
+    }
+
+    /**
+     * If there would be no fill in then it's the same as a complete decomposition
+     */
+    @Test
+    public void tridiagonal_sameAsComplete() {
+        int N = 10;
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N, 3*N);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, 4 + i);
+            if (i > 0) {
+                A.set(i, i - 1, -1 - 0.1*i);
+                A.set(i - 1, i, -1 - 0.1*i);
+            }
+        }
+
+        PreconditionerIncompleteCholesky_DSCC alg = new PreconditionerIncompleteCholesky_DSCC();
+        assertTrue(alg.decompose(A));
+
+        CholeskyUpLooking_DSCC chol = new CholeskyUpLooking_DSCC();
+        assertTrue(chol.decompose(A));
+
+        EjmlUnitTests.assertEquals(chol.getL(), alg.getL(), UtilEjml.TEST_F64);
+    }
+
+    /**
+     * Kershaw's matrix is positive definite but IC(0) breaks down. A shift should be added to the diagonal
+     */
+    @Test
+    public void breakDown_shift() {
+        DMatrixRMaj K = new DMatrixRMaj(4, 4, true, 3, -2, 0, 2, -2, 3, -2, 0, 0, -2, 3, -2, 2, 0, -2, 3);
+        DMatrixSparseCSC A = DConvertMatrixStruct.convert(K, (DMatrixSparseCSC)null, 0.0);
+
+        PreconditionerIncompleteCholesky_DSCC alg = new PreconditionerIncompleteCholesky_DSCC();
+        alg.maxShiftAttempts = 0;
+        assertFalse(alg.decompose(A));
+
+        alg.maxShiftAttempts = 10;
+        assertTrue(alg.decompose(A));
+        assertTrue(alg.getShift() > 0.0);
+
+        // the factor should be of the shifted matrix
+        DMatrixRMaj found = computeM(alg, A);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(K.get(i, i)*(1.0 + alg.getShift()), found.get(i, i), UtilEjml.TEST_F64);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPreconditionerJacobi_DSCC extends GenericPreconditionerTests_DSCC {
+    @Override
+    public Preconditioner_DSCC create() {
+        return new PreconditionerJacobi_DSCC();
+    }
+
+    @Override
+    public DMatrixRMaj computeM( Preconditioner_DSCC alg, DMatrixSparseCSC A ) {
+        DMatrixRMaj M = new DMatrixRMaj(A.numRows, A.numCols);
+        for (int i = 0; i < A.numRows; i++) {
+            M.set(i, i, A.get(i, i));
+        }
+        return M;
+    }
+}
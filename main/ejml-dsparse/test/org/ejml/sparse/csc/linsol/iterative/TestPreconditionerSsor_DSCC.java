@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPreconditionerSsor_DSCC extends GenericPreconditionerTests_DSCC {
+    @Override
+    public Preconditioner_DSCC create() {
+        return new PreconditionerSsor_DSCC(1.3);
+    }
+
+    @Override
+    public DMatrixRMaj computeM( Preconditioner_DSCC alg, DMatrixSparseCSC A ) {
+        double w = ((PreconditionerSsor_DSCC)alg).getOmega();
+        DMatrixRMaj dense = DConvertMatrixStruct.convert(A, (DMatrixRMaj)null);
+        int N = A.numRows;
+
+        // M = w/(2-w) (D/w + L) (D/w)^-1 (D/w + U)
+        DMatrixRMaj lower = new DMatrixRMaj(N, N);
+        DMatrixRMaj diagInv = new DMatrixRMaj(N, N);
+        DMatrixRMaj upper = new DMatrixRMaj(N, N);
+        for (int i = 0; i < N; i++) {
+            for (int j = 0; j < N; j++) {
+                if (i > j)
+                    lower.set(i, j, dense.get(i, j));
+                else if (i < j)
+                    upper.set(i, j, dense.get(i, j));
+            }
+            lower.set(i, i, dense.get(i, i)/w);
+            upper.set(i, i, dense.get(i, i)/w);
+            diagInv.set(i, i, w/dense.get(i, i));
+        }
+        DMatrixRMaj tmp = new DMatrixRMaj(N, N);
+        DMatrixRMaj M = new DMatrixRMaj(N, N);
+        CommonOps_DDRM.mult(lower, diagInv, tmp);
+        CommonOps_DDRM.mult(w/(2.0 - w), tmp, upper, M);
+        return M;
+    }
+
+    @Test
+    public void badOmega() {
+        assertThrows(IllegalArgumentException.class, () -> new PreconditionerSsor_DSCC(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new PreconditionerSsor_DSCC(2.0));
+    }
+}
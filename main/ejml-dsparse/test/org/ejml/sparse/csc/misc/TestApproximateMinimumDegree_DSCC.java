@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.misc;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.ComputePermutation;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csc.decomposition.chol.CholeskyUpLooking_DSCC;
+import org.ejml.sparse.csc.factory.FillReductionFactory_DSCC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestApproximateMinimumDegree_DSCC {
+    private Random rand = new Random(234);
+
+    /**
+     * The output must be a valid permutation for a variety of matrix shapes and densities
+     */
+    @Test
+    public void validPermutation() {
+        for (int trial = 0; trial < 200; trial++) {
+            int n = 1 + rand.nextInt(40);
+            int m = n + rand.nextInt(10);
+            boolean ata = rand.nextBoolean();
+
+            DMatrixSparseCSC A = ata ? RandomMatrices_DSCC.rectangle(m, n, rand.nextInt(m*n + 1), rand) :
+                    RandomMatrices_DSCC.rectangle(n, n, rand.nextInt(n*n + 1), rand);
+
+            // add a dense row some of the time
+            if (trial%4 == 0) {
+                for (int col = 0; col < A.numCols; col++) {
+                    A.set(0, col, 1.0);
+                }
+            }
+
+            ApproximateMinimumDegree_DSCC alg = new ApproximateMinimumDegree_DSCC(ata);
+            alg.process(A);
+
+            checkPermutation(alg.getColumn().data, A.numCols);
+            checkPermutation(alg.getRow().data, A.numRows);
+        }
+    }
+
+    /**
+     * Input matrix should not be modified
+     */
+    @Test
+    public void inputNotModified() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.symmetricPosDef(30, 0.8, rand);
+        DMatrixSparseCSC A_orig = A.copy();
+
+        new ApproximateMinimumDegree_DSCC(false).process(A);
+
+        EjmlUnitTests.assertEquals(A_orig, A);
+    }
+
+    /**
+     * A square matrix is required when not working with A'A
+     */
+    @Test
+    public void notSquare() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(10, 8, 20, rand);
+        assertThrows(IllegalArgumentException.class, () -> new ApproximateMinimumDegree_DSCC(false).process(A));
+        new ApproximateMinimumDegree_DSCC(true).process(A);
+    }
+
+    /**
+     * For the symmetric ordering the same permutation is applied to rows and columns
+     */
+    @Test
+    public void symmetricRowEqualsColumn() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.symmetricPosDef(40, 0.9, rand);
+
+        ApproximateMinimumDegree_DSCC alg = new ApproximateMinimumDegree_DSCC(false);
+        alg.process(A);
+
+        int[] row = alg.getRow().data;
+        int[] col = alg.getColumn().data;
+        for (int i = 0; i < A.numCols; i++) {
+            assertEquals(row[i], col[i]);
+        }
+    }
+
+    /**
+     * An arrow matrix with the dense row/column first produces a completely dense factor unless it is ordered last.
+     * A minimum degree ordering should find a zero fill in ordering.
+     */
+    @Test
+    public void arrowMatrix() {
+        int n = 20;
+        DMatrixSparseTriplet T = new DMatrixSparseTriplet(n, n, 3*n);
+        for (int i = 0; i < n; i++) {
+            T.addItem(i, i, n);
+            if (i > 0) {
+                T.addItem(0, i, 1);
+                T.addItem(i, 0, 1);
+            }
+        }
+        DMatrixSparseCSC A = DConvertMatrixStruct.convert(T, (DMatrixSparseCSC)null);
+
+        // number of non-zero elements in the lower triangle. no fill in means L has the same structure
+        int nonzeroLower = 2*n - 1;
+
+        assertEquals(n*(n + 1)/2, countFactor(A, FillReducing.NONE));
+        assertEquals(nonzeroLower, countFactor(A, FillReducing.AMD));
+    }
+
+    /**
+     * On a 2D grid Laplacian the ordering should significantly reduce the fill in
+     */
+    @Test
+    public void gridLaplacian() {
+        DMatrixSparseCSC A = createGridLaplacian(20);
+
+        int nnzNone = countFactor(A, FillReducing.NONE);
+        int nnzAmd = countFactor(A, FillReducing.AMD);
+
+        assertTrue(nnzAmd*2 < nnzNone);
+    }
+
+    /**
+     * Computing the ordering from A'A should give the same result as explicitly computing A'A and ordering it
+     * when there are no dense rows
+     */
+    @Test
+    public void ata_compareToExplicit() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(30, 20, 50, rand);
+        DMatrixSparseCSC ATA = CommonOps_DSCC.mult(CommonOps_DSCC.transpose(A, null, null), A, null);
+
+        ApproximateMinimumDegree_DSCC algATA = new ApproximateMinimumDegree_DSCC(true);
+        ApproximateMinimumDegree_DSCC alg = new ApproximateMinimumDegree_DSCC(false);
+
+        algATA.process(A);
+        alg.process(ATA);
+
+        int[] expected = alg.getColumn().data;
+        int[] found = algATA.getColumn().data;
+        for (int i = 0; i < A.numCols; i++) {
+            assertEquals(expected[i], found[i]);
+        }
+    }
+
+    private static int countFactor( DMatrixSparseCSC A, FillReducing type ) {
+        ComputePermutation<DMatrixSparseCSC> perm = FillReductionFactory_DSCC.create(type);
+        CholeskyUpLooking_DSCC chol = new CholeskyUpLooking_DSCC();
+
+        DMatrixSparseCSC C = A;
+        if (perm != null) {
+            perm.process(A);
+            int[] p = perm.getColumn().data;
+            int[] pinv = new int[p.length];
+            CommonOps_DSCC.permutationInverse(p, pinv, p.length);
+            C = new DMatrixSparseCSC(1, 1, 0);
+            CommonOps_DSCC.permuteSymmetric(A, pinv, C, null);
+        }
+        assertTrue(chol.decompose(C));
+        return chol.getL().nz_length;
+    }
+
+    public static DMatrixSparseCSC createGridLaplacian( int width ) {
+        int N = width*width;
+        DMatrixSparseTriplet T = new DMatrixSparseTriplet(N, N, 5*N);
+        for (int y = 0; y < width; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y*width + x;
+                T.addItem(i, i, 4);
+                if (x > 0) T.addItem(i, i - 1, -1);
+                if (x + 1 < width) T.addItem(i, i + 1, -1);
+                if (y > 0) T.addItem(i, i - width, -1);
+                if (y + 1 < width) T.addItem(i, i + width, -1);
+            }
+        }
+        return DConvertMatrixStruct.convert(T, (DMatrixSparseCSC)null);
+    }
+
+    private static void checkPermutation( int[] p, int N ) {
+        boolean[] seen = new boolean[N];
+        for (int i = 0; i < N; i++) {
+            assertTrue(p[i] >= 0 && p[i] < N);
+            assertFalse(seen[p[i]]);
+            seen[p[i]] = true;
+        }
+    }
+}
@@ -20,6 +20,9 @@ package org.ejml.sparse.csc.misc;
 
 import org.ejml.UtilEjml;
 import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
+import org.ejml.data.IGrowArray;
+import org.ejml.ops.DConvertMatrixStruct;
 import org.ejml.sparse.csc.CommonOps_DSCC;
 import org.ejml.sparse.csc.MatrixFeatures_DSCC;
 import org.ejml.sparse.csc.RandomMatrices_DSCC;
@@ -29,7 +32,7 @@ import pabeles.concurrency.GrowArray;
 
 import java.util.Random;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Peter Abeles
@@ -59,4 +62,58 @@ class TestImplCommonOps_MT_DSCC {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * The output should be identical to the single threaded conversion, including the order of elements
+     */
+    @Test
+    void convert() {
+        GrowArray<IGrowArray> work = new GrowArray<>(IGrowArray::new);
+        for (int numBlocks : new int[]{1, 2, 3, 7}) {
+            for (int numCols : new int[]{1, 2, 5, 20}) {
+                DMatrixSparseTriplet src = randomTriplet(15, numCols, 100);
+                DMatrixSparseCSC expected = DConvertMatrixStruct.convert(src, (DMatrixSparseCSC)null, null);
+
+                DMatrixSparseCSC found = new DMatrixSparseCSC(15, numCols, 0);
+                ImplCommonOps_MT_DSCC.convert(src, found, false, numBlocks, work);
+
+                assertEquals(expected.nz_length, found.nz_length);
+                assertArrayEquals(expected.col_idx, found.col_idx);
+                for (int i = 0; i < expected.nz_length; i++) {
+                    assertEquals(expected.nz_rows[i], found.nz_rows[i]);
+                    assertEquals(expected.nz_values[i], found.nz_values[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void convert_sumDuplicates() {
+        GrowArray<IGrowArray> work = new GrowArray<>(IGrowArray::new);
+        for (int numBlocks : new int[]{1, 2, 3, 7}) {
+            for (int numCols : new int[]{1, 2, 5, 20}) {
+                DMatrixSparseTriplet src = randomTriplet(6, numCols, 150);
+                DMatrixSparseCSC expected = DConvertMatrixStruct.convert(src, (DMatrixSparseCSC)null, null);
+                CommonOps_DSCC.duplicatesAdd(expected, null);
+
+                DMatrixSparseCSC found = new DMatrixSparseCSC(6, numCols, 0);
+                ImplCommonOps_MT_DSCC.convert(src, found, true, numBlocks, work);
+
+                assertTrue(CommonOps_DSCC.checkStructure(found));
+                assertFalse(CommonOps_DSCC.checkDuplicateElements(found));
+                assertTrue(MatrixFeatures_DSCC.isEqualsSort(expected, found, UtilEjml.TEST_F64));
+            }
+        }
+    }
+
+    /**
+     * Creates a triplet matrix which will almost certainly have duplicate elements
+     */
+    private DMatrixSparseTriplet randomTriplet( int numRows, int numCols, int length ) {
+        DMatrixSparseTriplet src = new DMatrixSparseTriplet(numRows, numCols, length);
+        for (int i = 0; i < length; i++) {
+            src.addItem(rand.nextInt(numRows), rand.nextInt(numCols), rand.nextDouble() - 0.5);
+        }
+        return src;
+    }
+}
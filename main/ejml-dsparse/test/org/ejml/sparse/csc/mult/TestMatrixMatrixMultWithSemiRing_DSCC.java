@@ -19,13 +19,18 @@
 package org.ejml.sparse.csc.mult;
 
 import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
 import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.ops.DMonoids;
 import org.ejml.ops.DSemiRing;
 import org.ejml.ops.DSemiRings;
 import org.ejml.sparse.csc.CommonOpsWithSemiRing_DSCC;
 import org.ejml.sparse.csc.CommonOps_DSCC;
 import org.ejml.sparse.csc.RandomMatrices_DSCC;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -34,6 +39,7 @@ import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings({"UnusedMethod"})
 public class TestMatrixMatrixMultWithSemiRing_DSCC {
@@ -95,6 +101,103 @@ public class TestMatrixMatrixMultWithSemiRing_DSCC {
         EjmlUnitTests.assertEquals(expected, found);
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("sparseMatrixSources")
+    void mult_masked(String desc, DMatrixSparseCSC matrix, DMatrixSparseCSC otherMatrix) {
+        Random rand = new Random(234);
+        DMatrixSparseCSC mask = RandomMatrices_DSCC.rectangle(10, 10, 30, rand);
+
+        for (DSemiRing semiRing : new DSemiRing[]{DSemiRings.PLUS_TIMES, DSemiRings.MIN_PLUS}) {
+            DMatrixSparseCSC full = CommonOpsWithSemiRing_DSCC.mult(matrix, otherMatrix, null, semiRing);
+
+            for (boolean complement : new boolean[]{false, true}) {
+                DMatrixSparseCSC found = CommonOpsWithSemiRing_DSCC.mult(matrix, otherMatrix, null, semiRing,
+                        mask, complement, null, null, null);
+                assertTrue(CommonOps_DSCC.checkStructure(found));
+
+                for (int row = 0; row < 10; row++) {
+                    for (int col = 0; col < 10; col++) {
+                        boolean expected = full.isAssigned(row, col) && mask.isAssigned(row, col) != complement;
+                        assertEquals(expected, found.isAssigned(row, col));
+                        if (expected)
+                            assertEquals(full.get(row, col), found.get(row, col), UtilEjml.TEST_F64);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("sparseMatrixSources")
+    void mult_masked_accumulate(String desc, DMatrixSparseCSC matrix, DMatrixSparseCSC otherMatrix) {
+        Random rand = new Random(234);
+        DMatrixSparseCSC mask = RandomMatrices_DSCC.rectangle(10, 10, 30, rand);
+        DMatrixSparseCSC initial = RandomMatrices_DSCC.rectangle(10, 10, 20, rand);
+
+        DSemiRing semiRing = DSemiRings.MIN_PLUS;
+        DMatrixSparseCSC full = CommonOpsWithSemiRing_DSCC.mult(matrix, otherMatrix, null, semiRing);
+
+        DMatrixSparseCSC found = initial.copy();
+        CommonOpsWithSemiRing_DSCC.mult(matrix, otherMatrix, found, semiRing, mask, false, DMonoids.MIN, null, null);
+        assertTrue(CommonOps_DSCC.checkStructure(found));
+
+        for (int row = 0; row < 10; row++) {
+            for (int col = 0; col < 10; col++) {
+                boolean inProduct = full.isAssigned(row, col) && mask.isAssigned(row, col);
+                boolean inInitial = initial.isAssigned(row, col);
+                assertEquals(inProduct || inInitial, found.isAssigned(row, col));
+
+                if (inProduct && inInitial)
+                    assertEquals(Math.min(full.get(row, col), initial.get(row, col)), found.get(row, col), UtilEjml.TEST_F64);
+                else if (inProduct)
+                    assertEquals(full.get(row, col), found.get(row, col), UtilEjml.TEST_F64);
+                else if (inInitial)
+                    assertEquals(initial.get(row, col), found.get(row, col), UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    /**
+     * Without a mask the results should be the same as the regular multiplication
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("sparseMatrixSources")
+    void mult_masked_noMask(String desc, DMatrixSparseCSC matrix, DMatrixSparseCSC otherMatrix) {
+        DMatrixSparseCSC expected = CommonOpsWithSemiRing_DSCC.mult(matrix, otherMatrix, null, DSemiRings.PLUS_TIMES);
+        DMatrixSparseCSC found = CommonOpsWithSemiRing_DSCC.mult(matrix, otherMatrix, null, DSemiRings.PLUS_TIMES,
+                null, false, null, null, null);
+
+        assertEquals(expected.nz_length, found.nz_length);
+        EjmlUnitTests.assertEquals(expected, found);
+    }
+
+    /**
+     * Compares sparse-dense multAdd against a dense reference with non-square inputs and a non-zero output
+     */
+    @Test
+    void multAdd_dense() {
+        Random rand = new Random(234);
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(6, 4, 12, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(4, 5, rand);
+        DMatrixRMaj C = RandomMatrices_DDRM.rectangle(6, 5, rand);
+
+        for (DSemiRing semiRing : new DSemiRing[]{DSemiRings.PLUS_TIMES, DSemiRings.MIN_PLUS}) {
+            DMatrixRMaj found = C.copy();
+            CommonOpsWithSemiRing_DSCC.multAdd(A, B, found, semiRing);
+
+            for (int i = 0; i < A.numRows; i++) {
+                for (int j = 0; j < B.numCols; j++) {
+                    double expected = C.get(i, j);
+                    for (int k = 0; k < A.numCols; k++) {
+                        if (A.isAssigned(i, k))
+                            expected = semiRing.add.func.apply(expected, semiRing.mult.func.apply(A.get(i, k), B.get(k, j)));
+                    }
+                    assertEquals(expected, found.get(i, j), UtilEjml.TEST_F64);
+                }
+            }
+        }
+    }
+
     private static Stream<Arguments> sparseVectorMatrixMultSources() {
         return Stream.of(
                 // expected entries for (0, 0) and (0, 2)
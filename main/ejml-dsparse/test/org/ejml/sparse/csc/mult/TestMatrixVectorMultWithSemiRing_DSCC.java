@@ -18,18 +18,27 @@
 
 package org.ejml.sparse.csc.mult;
 
+import org.ejml.UtilEjml;
+import org.ejml.data.DGrowArray;
 import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DVectorSparse;
+import org.ejml.data.IGrowArray;
 import org.ejml.ops.DSemiRing;
 import org.ejml.ops.DSemiRings;
+import org.ejml.sparse.csc.CommonOpsWithSemiRing_DSCC;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 @SuppressWarnings("UnusedMethod")
 public class TestMatrixVectorMultWithSemiRing_DSCC {
@@ -86,6 +95,159 @@ public class TestMatrixVectorMultWithSemiRing_DSCC {
         assertTrue(Arrays.equals(found, expected));
     }
 
+    @Test
+    void vxm_example() {
+        DVectorSparse v = new DVectorSparse(7);
+        v.set(3, 0.5);
+        v.set(5, 0.6);
+
+        DVectorSparse found = new DVectorSparse(1);
+        MatrixVectorMultWithSemiRing_DSCC.vxm(v, inputMatrix, found, DSemiRings.MIN_PLUS, null, false, null, null);
+
+        assertEquals(2, found.nz_length);
+        assertEquals(0.7, found.get(0), UtilEjml.TEST_F64);
+        assertEquals(0.9, found.get(2), UtilEjml.TEST_F64);
+    }
+
+    @Test
+    void mxv_example() {
+        DVectorSparse v = new DVectorSparse(7);
+        v.set(3, 0.5);
+        v.set(4, 0.6);
+
+        DVectorSparse found = new DVectorSparse(1);
+        MatrixVectorMultWithSemiRing_DSCC.mxv(inputMatrix, v, found, DSemiRings.MIN_PLUS, null, false, null, null);
+
+        assertEquals(3, found.nz_length);
+        assertEquals(1.5, found.get(0), UtilEjml.TEST_F64);
+        assertEquals(1.6, found.get(1), UtilEjml.TEST_F64);
+        assertEquals(1.5, found.get(6), UtilEjml.TEST_F64);
+    }
+
+    /**
+     * Compare push and pull against sparse matrix multiplication with the vector encoded as a matrix
+     */
+    @Test
+    void vxm_pushPull_compareToMatrix() {
+        Random rand = new Random(234);
+        IGrowArray gw = new IGrowArray();
+        DGrowArray gx = new DGrowArray();
+
+        for (DSemiRing semiRing : new DSemiRing[]{DSemiRings.PLUS_TIMES, DSemiRings.MIN_PLUS, DSemiRings.OR_AND}) {
+            for (int trial = 0; trial < 20; trial++) {
+                DMatrixSparseCSC B = RandomMatrices_DSCC.rectangle(40, 30, 50 + trial*20, rand);
+                DMatrixSparseCSC B_t = CommonOps_DSCC.transpose(B, null, null);
+                DVectorSparse a = randomVector(40, 1 + trial, rand);
+                DVectorSparse mask = trial%3 == 0 ? null : randomVector(30, 12, rand);
+                boolean complement = trial%3 == 2;
+
+                DMatrixSparseCSC expected = CommonOpsWithSemiRing_DSCC.mult(toRowMatrix(a), B, null, semiRing,
+                        mask == null ? null : toRowMatrix(mask), complement, null, null, null);
+
+                DVectorSparse pull = new DVectorSparse(1);
+                DVectorSparse push = new DVectorSparse(1);
+                MatrixVectorMultWithSemiRing_DSCC.vxm(a, B, pull, semiRing, mask, complement, gw, gx);
+                MatrixVectorMultWithSemiRing_DSCC.mxv(B_t, a, push, semiRing, mask, complement, gw, gx);
+
+                assertTrue(pull.indicesSorted);
+                checkEquals(expected, pull);
+                checkEquals(expected, push);
+            }
+        }
+    }
+
+    /**
+     * Reuses the same workspace across calls with different frontiers and masks. Marks from a previous call must
+     * not change the result of the next one and the workspace should be left cleared.
+     */
+    @Test
+    void vxm_pushPull_reuseWorkspace() {
+        Random rand = new Random(234);
+        IGrowArray gw = new IGrowArray();
+        DGrowArray gx = new DGrowArray();
+
+        DMatrixSparseCSC B = RandomMatrices_DSCC.rectangle(40, 30, 300, rand);
+        DMatrixSparseCSC B_t = CommonOps_DSCC.transpose(B, null, null);
+
+        for (int trial = 0; trial < 30; trial++) {
+            DVectorSparse a = randomVector(40, 1 + rand.nextInt(40), rand);
+            DVectorSparse mask = trial%3 == 0 ? null : randomVector(30, 1 + rand.nextInt(30), rand);
+            boolean complement = trial%2 == 0;
+
+            DVectorSparse expectedPull = new DVectorSparse(1);
+            DVectorSparse expectedPush = new DVectorSparse(1);
+            MatrixVectorMultWithSemiRing_DSCC.vxm(a, B, expectedPull, DSemiRings.PLUS_TIMES, mask, complement, null, null);
+            MatrixVectorMultWithSemiRing_DSCC.mxv(B_t, a, expectedPush, DSemiRings.PLUS_TIMES, mask, complement, null, null);
+
+            DVectorSparse pull = new DVectorSparse(1);
+            DVectorSparse push = new DVectorSparse(1);
+            MatrixVectorMultWithSemiRing_DSCC.vxm(a, B, pull, DSemiRings.PLUS_TIMES, mask, complement, gw, gx);
+            MatrixVectorMultWithSemiRing_DSCC.mxv(B_t, a, push, DSemiRings.PLUS_TIMES, mask, complement, gw, gx);
+
+            checkEquals(expectedPull, pull);
+            checkEquals(expectedPush, push);
+            for (int i = 0; i < gw.length; i++) {
+                assertEquals(0, gw.data[i]);
+            }
+        }
+    }
+
+    /**
+     * A small frontier should be pushed. A large frontier with only a few elements to compute should be pulled.
+     */
+    @Test
+    void vxm_selectDirection() {
+        Random rand = new Random(234);
+        DMatrixSparseCSC B = RandomMatrices_DSCC.rectangle(100, 100, 1000, rand);
+        DMatrixSparseCSC B_t = CommonOps_DSCC.transpose(B, null, null);
+        DVectorSparse c = new DVectorSparse(1);
+
+        DVectorSparse a = randomVector(100, 2, rand);
+        assertTrue(MatrixVectorMultWithSemiRing_DSCC.vxm(a, B, B_t, c, DSemiRings.OR_AND, null, false, null, null));
+
+        a = randomVector(100, 200, rand);
+        DVectorSparse mask = randomVector(100, 5, rand);
+        assertFalse(MatrixVectorMultWithSemiRing_DSCC.vxm(a, B, B_t, c, DSemiRings.OR_AND, mask, false, null, null));
+
+        // Without the transpose it has to pull
+        a = randomVector(100, 2, rand);
+        assertFalse(MatrixVectorMultWithSemiRing_DSCC.vxm(a, B, null, c, DSemiRings.OR_AND, null, false, null, null));
+    }
+
+    private static DVectorSparse randomVector( int size, int count, Random rand ) {
+        DVectorSparse v = new DVectorSparse(size);
+        for (int i = 0; i < count; i++) {
+            v.set(rand.nextInt(size), rand.nextDouble() + 0.1);
+        }
+        return v;
+    }
+
+    private static DMatrixSparseCSC toRowMatrix( DVectorSparse v ) {
+        DMatrixSparseCSC M = new DMatrixSparseCSC(1, v.size, v.nz_length);
+        for (int i = 0; i < v.nz_length; i++) {
+            M.set(0, v.nz_indices[i], v.nz_values[i]);
+        }
+        return M;
+    }
+
+    private static void checkEquals( DVectorSparse expected, DVectorSparse found ) {
+        assertEquals(expected.size, found.size);
+        assertEquals(expected.nz_length, found.nz_length);
+        for (int i = 0; i < found.size; i++) {
+            assertEquals(expected.isAssigned(i), found.isAssigned(i));
+            assertEquals(expected.get(i), found.get(i), UtilEjml.TEST_F64);
+        }
+    }
+
+    private static void checkEquals( DMatrixSparseCSC expected, DVectorSparse found ) {
+        assertEquals(expected.numCols, found.size);
+        assertEquals(expected.nz_length, found.nz_length);
+        for (int i = 0; i < found.size; i++) {
+            assertEquals(expected.isAssigned(0, i), found.isAssigned(i));
+            assertEquals(expected.get(0, i), found.get(i), UtilEjml.TEST_F64);
+        }
+    }
+
     private static Stream<Arguments> vectorMatrixMultSources() {
         return Stream.of(
                 Arguments.of("Plus, Times", DSemiRings.PLUS_TIMES, new double[]{0.1, 0, 0.5, 0, 0, 0, 0}),
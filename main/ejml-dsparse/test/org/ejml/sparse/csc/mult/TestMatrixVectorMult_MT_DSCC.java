@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.mult;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.junit.jupiter.api.Test;
+import pabeles.concurrency.GrowArray;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestMatrixVectorMult_MT_DSCC {
+    private final Random rand = new Random(234);
+
+    private final GrowArray<DGrowArray> listWork = new GrowArray<>(DGrowArray::new);
+
+    /**
+     * Compare against the single threaded implementation for a variety of shapes
+     */
+    @Test void mult_A_b() {
+        for (int trial = 0; trial < 20; trial++) {
+            int rows = 1 + rand.nextInt(60);
+            int cols = 1 + rand.nextInt(60);
+            DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(rows, cols, rand.nextInt(rows*cols + 1), rand);
+
+            double[] b = randomArray(cols + 2);
+            double[] expected = randomArray(rows + 1);
+            double[] found = expected.clone();
+
+            MatrixVectorMult_DSCC.mult(A, b, 2, expected, 1);
+            MatrixVectorMult_MT_DSCC.mult(A, b, 2, found, 1, listWork);
+            assertArrayEquals(expected, found);
+
+            MatrixVectorMult_DSCC.multAdd(A, b, 2, expected, 1);
+            MatrixVectorMult_MT_DSCC.multAdd(A, b, 2, found, 1, listWork);
+            assertArrayEquals(expected, found);
+        }
+    }
+
+    /**
+     * The workspace from a larger matrix should not change the results
+     */
+    @Test void mult_A_b_reuseWorkspace() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(50, 60, 400, rand);
+        MatrixVectorMult_MT_DSCC.mult(A, randomArray(60), 0, new double[50], 0, listWork);
+
+        A = RandomMatrices_DSCC.rectangle(5, 0, 0, rand);
+        double[] found = randomArray(5);
+        MatrixVectorMult_MT_DSCC.mult(A, new double[0], 0, found, 0, listWork);
+        assertArrayEquals(new double[5], found);
+    }
+
+    @Test void mult_a_B() {
+        for (int trial = 0; trial < 20; trial++) {
+            int rows = 1 + rand.nextInt(60);
+            int cols = 1 + rand.nextInt(60);
+            DMatrixSparseCSC B = RandomMatrices_DSCC.rectangle(rows, cols, rand.nextInt(rows*cols + 1), rand);
+
+            double[] a = randomArray(rows + 2);
+            double[] expected = randomArray(cols + 1);
+            double[] found = expected.clone();
+
+            MatrixVectorMult_DSCC.mult(a, 2, B, expected, 1);
+            MatrixVectorMult_MT_DSCC.mult(a, 2, B, found, 1);
+            assertArrayEquals(expected, found);
+
+            double[] before = found.clone();
+            MatrixVectorMult_MT_DSCC.multAdd(a, 2, B, found, 1);
+            for (int i = 1; i < found.length; i++) {
+                assertEquals(2*before[i], found[i], UtilEjml.TEST_F64);
+            }
+            assertEquals(before[0], found[0]);
+        }
+    }
+
+    private double[] randomArray( int length ) {
+        double[] a = new double[length];
+        for (int i = 0; i < length; i++) {
+            a[i] = rand.nextDouble() - 0.5;
+        }
+        return a;
+    }
+
+    private static void assertArrayEquals( double[] expected, double[] found ) {
+        assertEquals(expected.length, found.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], found[i], UtilEjml.TEST_F64);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csr;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseCSR;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestCommonOps_DSCR {
+
+    private final Random rand = new Random(234);
+
+    /**
+     * Creates a random CSR matrix by converting a random CSC matrix
+     */
+    static DMatrixSparseCSR rectangle( int numRows, int numCols, int nz_total, Random rand ) {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(numRows, numCols, nz_total, rand);
+        return DConvertMatrixStruct.convert(A, (DMatrixSparseCSR)null);
+    }
+
+    static DMatrixRMaj dense( DMatrixSparseCSR A ) {
+        return DConvertMatrixStruct.convert(A, (DMatrixRMaj)null);
+    }
+
+    @Test void checkStructure() {
+        DMatrixSparseCSR A = rectangle(5, 6, 12, rand);
+        assertTrue(CommonOps_DSCR.checkStructure(A));
+
+        // duplicate column in a row
+        for (int row = 0; row < A.numRows; row++) {
+            if (A.row_idx[row + 1] - A.row_idx[row] >= 2) {
+                int idx = A.row_idx[row];
+                A.nz_cols[idx + 1] = A.nz_cols[idx];
+                break;
+            }
+        }
+        assertFalse(CommonOps_DSCR.checkStructure(A));
+    }
+
+    @Test void transpose() {
+        for (int trial = 0; trial < 20; trial++) {
+            DMatrixSparseCSR A = rectangle(5, 7, 5 + trial%20, rand);
+            DMatrixSparseCSR A_t = CommonOps_DSCR.transpose(A, new DMatrixSparseCSR(1, 1, 0), null);
+
+            assertTrue(CommonOps_DSCR.checkStructure(A_t));
+            assertTrue(A_t.indicesSorted);
+            EjmlUnitTests.assertEquals(CommonOps_DDRM.transpose(dense(A), null), dense(A_t), UtilEjml.TEST_F64);
+        }
+    }
+
+    @Test void mult_s_s() {
+        for (int trial = 0; trial < 50; trial++) {
+            DMatrixSparseCSR A = rectangle(5, 6, 2 + trial%25, rand);
+            DMatrixSparseCSR B = rectangle(6, 4, 2 + trial%20, rand);
+
+            DMatrixSparseCSR C = CommonOps_DSCR.mult(A, B, new DMatrixSparseCSR(1, 1, 0));
+            assertTrue(CommonOps_DSCR.checkStructure(C));
+
+            DMatrixRMaj expected = CommonOps_DDRM.mult(dense(A), dense(B), null);
+            EjmlUnitTests.assertEquals(expected, dense(C), UtilEjml.TEST_F64);
+
+            // compare against the column compressed implementation
+            DMatrixSparseCSC Ccsc = CommonOps_DSCC.mult(
+                    DConvertMatrixStruct.convert(A, (DMatrixSparseCSC)null),
+                    DConvertMatrixStruct.convert(B, (DMatrixSparseCSC)null), null);
+            assertEquals(Ccsc.nz_length, C.nz_length);
+        }
+
+        assertThrows(MatrixDimensionException.class, () ->
+                CommonOps_DSCR.mult(rectangle(5, 6, 5, rand), rectangle(5, 4, 5, rand), null));
+    }
+
+    @Test void mult_s_d() {
+        DMatrixSparseCSR A = rectangle(5, 6, 12, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(6, 3, rand);
+
+        DMatrixRMaj found = CommonOps_DSCR.mult(A, B, null);
+        DMatrixRMaj expected = CommonOps_DDRM.mult(dense(A), B, null);
+        EjmlUnitTests.assertEquals(expected, found, UtilEjml.TEST_F64);
+
+        CommonOps_DSCR.multAdd(A, B, found);
+        CommonOps_DDRM.scale(2, expected);
+        EjmlUnitTests.assertEquals(expected, found, UtilEjml.TEST_F64);
+
+        assertThrows(MatrixDimensionException.class, () -> CommonOps_DSCR.multAdd(A, B, new DMatrixRMaj(4, 3)));
+    }
+
+    @Test void multTransA_s_d() {
+        DMatrixSparseCSR A = rectangle(6, 5, 12, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(6, 3, rand);
+
+        DMatrixRMaj found = CommonOps_DSCR.multTransA(A, B, null);
+        DMatrixRMaj expected = CommonOps_DDRM.multTransA(dense(A), B, null);
+        EjmlUnitTests.assertEquals(expected, found, UtilEjml.TEST_F64);
+
+        CommonOps_DSCR.multAddTransA(A, B, found);
+        CommonOps_DDRM.scale(2, expected);
+        EjmlUnitTests.assertEquals(expected, found, UtilEjml.TEST_F64);
+    }
+
+    @Test void add() {
+        for (int trial = 0; trial < 20; trial++) {
+            DMatrixSparseCSR A = rectangle(5, 6, 1 + trial, rand);
+            DMatrixSparseCSR B = rectangle(5, 6, 10 - trial/2, rand);
+
+            DMatrixSparseCSR C = CommonOps_DSCR.add(1.5, A, -0.5, B, null, null, null);
+            assertTrue(CommonOps_DSCR.checkStructure(C));
+
+            DMatrixRMaj expected = new DMatrixRMaj(5, 6);
+            CommonOps_DDRM.add(1.5, dense(A), -0.5, dense(B), expected);
+            EjmlUnitTests.assertEquals(expected, dense(C), UtilEjml.TEST_F64);
+        }
+    }
+
+    @Test void elementMult() {
+        for (int trial = 0; trial < 20; trial++) {
+            DMatrixSparseCSR A = rectangle(5, 6, 5 + trial, rand);
+            DMatrixSparseCSR B = rectangle(5, 6, 20 - trial/2, rand);
+
+            DMatrixSparseCSR C = CommonOps_DSCR.elementMult(A, B, null, null, null);
+            assertTrue(CommonOps_DSCR.checkStructure(C));
+
+            DMatrixRMaj expected = new DMatrixRMaj(5, 6);
+            CommonOps_DDRM.elementMult(dense(A), dense(B), expected);
+            EjmlUnitTests.assertEquals(expected, dense(C), UtilEjml.TEST_F64);
+        }
+    }
+
+    @Test void scale_divide_changeSign() {
+        DMatrixSparseCSR A = rectangle(5, 6, 12, rand);
+        DMatrixSparseCSR B = new DMatrixSparseCSR(1, 1, 0);
+
+        CommonOps_DSCR.scale(2.5, A, B);
+        DMatrixRMaj expected = new DMatrixRMaj(5, 6);
+        CommonOps_DDRM.scale(2.5, dense(A), expected);
+        EjmlUnitTests.assertEquals(expected, dense(B), UtilEjml.TEST_F64);
+
+        CommonOps_DSCR.divide(A, 2.5, B);
+        CommonOps_DDRM.divide(dense(A), 2.5, expected);
+        EjmlUnitTests.assertEquals(expected, dense(B), UtilEjml.TEST_F64);
+
+        CommonOps_DSCR.changeSign(A, B);
+        expected = dense(A);
+        CommonOps_DDRM.changeSign(expected);
+        EjmlUnitTests.assertEquals(expected, dense(B), UtilEjml.TEST_F64);
+    }
+
+    @Test void elementOps() {
+        DMatrixSparseCSR A = rectangle(5, 6, 12, rand);
+        DMatrixRMaj D = dense(A);
+
+        assertEquals(CommonOps_DDRM.elementMin(D), CommonOps_DSCR.elementMin(A), UtilEjml.TEST_F64);
+        assertEquals(CommonOps_DDRM.elementMax(D), CommonOps_DSCR.elementMax(A), UtilEjml.TEST_F64);
+        assertEquals(CommonOps_DDRM.elementMaxAbs(D), CommonOps_DSCR.elementMaxAbs(A), UtilEjml.TEST_F64);
+        assertEquals(CommonOps_DDRM.elementSum(D), CommonOps_DSCR.elementSum(A), UtilEjml.TEST_F64);
+    }
+
+    @Test void identity() {
+        DMatrixSparseCSR A = CommonOps_DSCR.identity(4, 6);
+        assertTrue(CommonOps_DSCR.checkStructure(A));
+        EjmlUnitTests.assertEquals(CommonOps_DDRM.identity(4, 6), dense(A), UtilEjml.TEST_F64);
+
+        A = CommonOps_DSCR.identity(6, 4);
+        assertTrue(CommonOps_DSCR.checkStructure(A));
+        EjmlUnitTests.assertEquals(CommonOps_DDRM.identity(6, 4), dense(A), UtilEjml.TEST_F64);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csr;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSR;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.sparse.csr.mult.Workspace_MT_DSCR;
+import org.junit.jupiter.api.Test;
+import pabeles.concurrency.GrowArray;
+
+import java.util.Random;
+
+import static org.ejml.sparse.csr.TestCommonOps_DSCR.rectangle;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestCommonOps_MT_DSCR {
+
+    private final Random rand = new Random(234);
+
+    private final GrowArray<Workspace_MT_DSCR> listWork = new GrowArray<>(Workspace_MT_DSCR::new);
+
+    /**
+     * Results should be identical to the single threaded version
+     */
+    @Test void mult_s_s() {
+        for (int trial = 0; trial < 50; trial++) {
+            DMatrixSparseCSR A = rectangle(30, 25, 10 + trial*5, rand);
+            DMatrixSparseCSR B = rectangle(25, 20, 10 + trial*4, rand);
+
+            DMatrixSparseCSR expected = CommonOps_DSCR.mult(A, B, null);
+            DMatrixSparseCSR found = CommonOps_MT_DSCR.mult(A, B, new DMatrixSparseCSR(1, 1, 0), listWork);
+
+            assertTrue(CommonOps_DSCR.checkStructure(found));
+            assertEquals(expected.nz_length, found.nz_length);
+            EjmlUnitTests.assertEquals(expected, found, UtilEjml.TEST_F64);
+        }
+    }
+
+    @Test void add() {
+        for (int trial = 0; trial < 20; trial++) {
+            DMatrixSparseCSR A = rectangle(30, 20, 10 + trial*10, rand);
+            DMatrixSparseCSR B = rectangle(30, 20, 200 - trial*5, rand);
+
+            DMatrixSparseCSR expected = CommonOps_DSCR.add(0.5, A, 2.0, B, null, null, null);
+            DMatrixSparseCSR found = CommonOps_MT_DSCR.add(0.5, A, 2.0, B, null, listWork);
+
+            assertTrue(CommonOps_DSCR.checkStructure(found));
+            assertEquals(expected.nz_length, found.nz_length);
+            EjmlUnitTests.assertEquals(expected, found, UtilEjml.TEST_F64);
+        }
+    }
+
+    @Test void mult_s_d() {
+        DMatrixSparseCSR A = rectangle(30, 25, 200, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(25, 4, rand);
+
+        DMatrixRMaj expected = CommonOps_DSCR.mult(A, B, null);
+        DMatrixRMaj found = CommonOps_MT_DSCR.mult(A, B, null);
+        EjmlUnitTests.assertEquals(expected, found, UtilEjml.TEST_F64);
+
+        CommonOps_DSCR.multAdd(A, B, expected);
+        CommonOps_MT_DSCR.multAdd(A, B, found);
+        EjmlUnitTests.assertEquals(expected, found, UtilEjml.TEST_F64);
+    }
+
+    @Test void multTransA_s_d() {
+        DMatrixSparseCSR A = rectangle(30, 25, 200, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(30, 4, rand);
+
+        DMatrixRMaj expected = CommonOps_DSCR.multTransA(A, B, null);
+        DMatrixRMaj found = CommonOps_MT_DSCR.multTransA(A, B, null);
+        EjmlUnitTests.assertEquals(expected, found, UtilEjml.TEST_F64);
+
+        CommonOps_DSCR.multAddTransA(A, B, expected);
+        CommonOps_MT_DSCR.multAddTransA(A, B, found);
+        EjmlUnitTests.assertEquals(expected, found, UtilEjml.TEST_F64);
+    }
+}
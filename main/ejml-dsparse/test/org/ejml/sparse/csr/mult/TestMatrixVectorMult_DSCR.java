@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csr.mult;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseCSR;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestMatrixVectorMult_DSCR {
+    private final Random rand = new Random(234);
+
+    DMatrixSparseCSC Acsc = RandomMatrices_DSCC.rectangle(40, 30, 300, rand);
+    DMatrixSparseCSR A = DConvertMatrixStruct.convert(Acsc, (DMatrixSparseCSR)null);
+    DMatrixRMaj Ad = DConvertMatrixStruct.convert(Acsc, (DMatrixRMaj)null);
+
+    @Test void mult_A_b() {
+        DMatrixRMaj b = RandomMatrices_DDRM.rectangle(30, 1, rand);
+        DMatrixRMaj expected = CommonOps_DDRM.mult(Ad, b, null);
+
+        // add an offset to make sure it's handled
+        double[] c = new double[42];
+        MatrixVectorMult_DSCR.mult(A, b.data, 0, c, 2);
+        for (int i = 0; i < 40; i++) {
+            assertEquals(expected.data[i], c[i + 2], UtilEjml.TEST_F64);
+        }
+
+        MatrixVectorMult_DSCR.multAdd(A, b.data, 0, c, 2);
+        for (int i = 0; i < 40; i++) {
+            assertEquals(2*expected.data[i], c[i + 2], UtilEjml.TEST_F64);
+        }
+    }
+
+    /**
+     * The concurrent version should produce identical results since each row is computed the same way
+     */
+    @Test void mult_A_b_MT() {
+        DMatrixRMaj b = RandomMatrices_DDRM.rectangle(30, 1, rand);
+
+        double[] expected = new double[40];
+        double[] found = new double[40];
+        MatrixVectorMult_DSCR.mult(A, b.data, 0, expected, 0);
+        MatrixVectorMult_MT_DSCR.mult(A, b.data, 0, found, 0);
+        assertArrayEquals(expected, found, 0.0);
+
+        MatrixVectorMult_DSCR.multAdd(A, b.data, 0, expected, 0);
+        MatrixVectorMult_MT_DSCR.multAdd(A, b.data, 0, found, 0);
+        assertArrayEquals(expected, found, 0.0);
+    }
+
+    @Test void mult_a_B() {
+        DMatrixRMaj a = RandomMatrices_DDRM.rectangle(1, 40, rand);
+        DMatrixRMaj expected = CommonOps_DDRM.mult(a, Ad, null);
+
+        double[] c = new double[30];
+        MatrixVectorMult_DSCR.mult(a.data, 0, A, c, 0);
+        assertArrayEquals(expected.data, c, UtilEjml.TEST_F64);
+    }
+
+    @Test void innerProduct() {
+        DMatrixRMaj a = RandomMatrices_DDRM.rectangle(40, 1, rand);
+        DMatrixRMaj c = RandomMatrices_DDRM.rectangle(30, 1, rand);
+
+        double expected = CommonOps_DDRM.dot(a, CommonOps_DDRM.mult(Ad, c, null));
+        double found = MatrixVectorMult_DSCR.innerProduct(a.data, 0, A, c.data, 0);
+        assertEquals(expected, found, UtilEjml.TEST_F64);
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.dense.fixed;
+
+import org.ejml.data.*;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.dense.row.factory.LinearSolverFactory_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.ejml.interfaces.linsol.LinearSolverDense;
+import org.ejml.ops.DConvertMatrixStruct;
+
+import java.util.Random;
+
+/**
+ * Compares the speed of the unrolled fixed sized decompositions against the general purpose row-major
+ * implementations. Each trial decomposes the matrix and solves a linear system or computes the eigenvalues.
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkDecompositionFixed {
+    private static Random rand = new Random(234);
+
+    private static DMatrixRMaj dm3x3_spd = RandomMatrices_DDRM.symmetricPosDef(3, rand);
+    private static DMatrixRMaj dm6x6_spd = RandomMatrices_DDRM.symmetricPosDef(6, rand);
+    private static DMatrixRMaj dm9x9_spd = RandomMatrices_DDRM.symmetricPosDef(9, rand);
+
+    private static DMatrixRMaj dm3x1 = RandomMatrices_DDRM.rectangle(3, 1, rand);
+    private static DMatrixRMaj dm6x1 = RandomMatrices_DDRM.rectangle(6, 1, rand);
+    private static DMatrixRMaj dm9x1 = RandomMatrices_DDRM.rectangle(9, 1, rand);
+
+    public static long cholesky( DMatrixRMaj a, DMatrixRMaj b, int numTrials ) {
+        LinearSolverDense<DMatrixRMaj> solver = LinearSolverFactory_DDRM.chol(a.numRows);
+        DMatrixRMaj x = b.createLike();
+
+        long prev = System.currentTimeMillis();
+
+        for (long i = 0; i < numTrials; i++) {
+            solver.setA(a);
+            solver.solve(b, x);
+        }
+
+        return System.currentTimeMillis() - prev;
+    }
+
+    public static long lu( DMatrixRMaj a, DMatrixRMaj b, int numTrials ) {
+        LinearSolverDense<DMatrixRMaj> solver = LinearSolverFactory_DDRM.lu(a.numRows);
+        DMatrixRMaj x = b.createLike();
+
+        long prev = System.currentTimeMillis();
+
+        for (long i = 0; i < numTrials; i++) {
+            solver.setA(a);
+            solver.solve(b, x);
+        }
+
+        return System.currentTimeMillis() - prev;
+    }
+
+    public static long cholesky( DMatrix3x3 a, DMatrix3 b, int numTrials ) {
+        DMatrix3x3 L = new DMatrix3x3();
+        DMatrix3 x = new DMatrix3();
+
+        long prev = System.currentTimeMillis();
+
+        for (long i = 0; i < numTrials; i++) {
+            CholeskyOps_DDF3.decompose(a, L);
+            CholeskyOps_DDF3.solve(L, b, x);
+        }
+
+        return System.currentTimeMillis() - prev;
+    }
+
+    public static long cholesky( DMatrix6x6 a, DMatrix6 b, int numTrials ) {
+        DMatrix6x6 L = new DMatrix6x6();
+        DMatrix6 x = new DMatrix6();
+
+        long prev = System.currentTimeMillis();
+
+        for (long i = 0; i < numTrials; i++) {
+            CholeskyOps_DDF6.decompose(a, L);
+            CholeskyOps_DDF6.solve(L, b, x);
+        }
+
+        return System.currentTimeMillis() - prev;
+    }
+
+    public static long cholesky( DMatrix9x9 a, DMatrix9 b, int numTrials ) {
+        DMatrix9x9 L = new DMatrix9x9();
+        DMatrix9 x = new DMatrix9();
+
+        long prev = System.currentTimeMillis();
+
+        for (long i = 0; i < numTrials; i++) {
+            CholeskyOps_DDF9.decompose(a, L);
+            CholeskyOps_DDF9.solve(L, b, x);
+        }
+
+        return System.currentTimeMillis() - prev;
+    }
+
+    public static long lu( DMatrix3x3 a, DMatrix3 b, int numTrials ) {
+        DMatrix3x3 LU = new DMatrix3x3();
+        DMatrix3 x = new DMatrix3();
+        int[] pivot = new int[3];
+
+        long prev = System.currentTimeMillis();
+
+        for (long i = 0; i < numTrials; i++) {
+            LUOps_DDF3.decompose(a, LU, pivot);
+            LUOps_DDF3.solve(LU, pivot, b, x);
+        }
+
+        return System.currentTimeMillis() - prev;
+    }
+
+    public static long lu( DMatrix6x6 a, DMatrix6 b, int numTrials ) {
+        DMatrix6x6 LU = new DMatrix6x6();
+        DMatrix6 x = new DMatrix6();
+        int[] pivot = new int[6];
+
+        long prev = System.currentTimeMillis();
+
+        for (long i = 0; i < numTrials; i++) {
+            LUOps_DDF6.decompose(a, LU, pivot);
+            LUOps_DDF6.solve(LU, pivot, b, x);
+        }
+
+        return System.currentTimeMillis() - prev;
+    }
+
+    public static long lu( DMatrix9x9 a, DMatrix9 b, int numTrials ) {
+        DMatrix9x9 LU = new DMatrix9x9();
+        DMatrix9 x = new DMatrix9();
+        int[] pivot = new int[9];
+
+        long prev = System.currentTimeMillis();
+
+        for (long i = 0; i < numTrials; i++) {
+            LUOps_DDF9.decompose(a, LU, pivot);
+            LUOps_DDF9.solve(LU, pivot, b, x);
+        }
+
+        return System.currentTimeMillis() - prev;
+    }
+
+    public static long eigen( DMatrixRMaj a, int numTrials ) {
+        EigenDecomposition_F64<DMatrixRMaj> eig = DecompositionFactory_DDRM.eig(a.numRows, true, true);
+
+        long prev = System.currentTimeMillis();
+
+        for (long i = 0; i < numTrials; i++) {
+            eig.decompose(a.copy());
+        }
+
+        return System.currentTimeMillis() - prev;
+    }
+
+    public static long eigen( DMatrix3x3 a, boolean vectors, int numTrials ) {
+        DMatrix3 values = new DMatrix3();
+        DMatrix3x3 V = new DMatrix3x3();
+
+        long prev = System.currentTimeMillis();
+
+        for (long i = 0; i < numTrials; i++) {
+            EigenOps_DDF3.symmetric(a, values, vectors ? V : null);
+        }
+
+        return System.currentTimeMillis() - prev;
+    }
+
+    public static long eigenClosedForm( DMatrix3x3 a, int numTrials ) {
+        DMatrix3 values = new DMatrix3();
+
+        long prev = System.currentTimeMillis();
+
+        for (long i = 0; i < numTrials; i++) {
+            EigenOps_DDF3.symmetricValues(a, values);
+        }
+
+        return System.currentTimeMillis() - prev;
+    }
+
+    public static void main( String[] args ) {
+        DMatrix3x3 fixed3x3 = DConvertMatrixStruct.convert(dm3x3_spd, (DMatrix3x3)null);
+        DMatrix6x6 fixed6x6 = DConvertMatrixStruct.convert(dm6x6_spd, (DMatrix6x6)null);
+        DMatrix9x9 fixed9x9 = DConvertMatrixStruct.convert(dm9x9_spd, (DMatrix9x9)null);
+        DMatrix3 fixed3 = DConvertMatrixStruct.convert(dm3x1, (DMatrix3)null);
+        DMatrix6 fixed6 = DConvertMatrixStruct.convert(dm6x1, (DMatrix6)null);
+        DMatrix9 fixed9 = DConvertMatrixStruct.convert(dm9x1, (DMatrix9)null);
+
+        int numTrials = 10000000;
+
+        System.out.println("Cholesky");
+        System.out.println("  Fixed 3x3 = " + cholesky(fixed3x3, fixed3, numTrials));
+        System.out.println("  Dense 3x3 = " + cholesky(dm3x3_spd, dm3x1, numTrials));
+        System.out.println("  Fixed 6x6 = " + cholesky(fixed6x6, fixed6, numTrials));
+        System.out.println("  Dense 6x6 = " + cholesky(dm6x6_spd, dm6x1, numTrials));
+        System.out.println("  Fixed 9x9 = " + cholesky(fixed9x9, fixed9, numTrials));
+        System.out.println("  Dense 9x9 = " + cholesky(dm9x9_spd, dm9x1, numTrials));
+
+        System.out.println("LU");
+        System.out.println("  Fixed 3x3 = " + lu(fixed3x3, fixed3, numTrials));
+        System.out.println("  Dense 3x3 = " + lu(dm3x3_spd, dm3x1, numTrials));
+        System.out.println("  Fixed 6x6 = " + lu(fixed6x6, fixed6, numTrials));
+        System.out.println("  Dense 6x6 = " + lu(dm6x6_spd, dm6x1, numTrials));
+        System.out.println("  Fixed 9x9 = " + lu(fixed9x9, fixed9, numTrials));
+        System.out.println("  Dense 9x9 = " + lu(dm9x9_spd, dm9x1, numTrials));
+
+        System.out.println("Symmetric Eigen 3x3");
+        System.out.println("  Fixed Jacobi       = " + eigen(fixed3x3, true, numTrials));
+        System.out.println("  Fixed Jacobi value = " + eigen(fixed3x3, false, numTrials));
+        System.out.println("  Fixed closed form  = " + eigenClosedForm(fixed3x3, numTrials));
+        System.out.println("  Dense              = " + eigen(dm3x3_spd, numTrials));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simd;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.mult.MatrixMatrixMultPacked_DDRM;
+import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
+import org.ejml.dense.row.mult.MatrixVectorMult_DDRM;
+import org.ejml.dense.row.mult.VectorVectorMult_DDRM;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the vectorized operations against the regular scalar implementations
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class BenchmarkSimdOps_DDRM {
+    @Param({"100", "500", "1000"})
+    public int size;
+
+    public DMatrixRMaj A = new DMatrixRMaj(1, 1);
+    public DMatrixRMaj B = new DMatrixRMaj(1, 1);
+    public DMatrixRMaj C = new DMatrixRMaj(1, 1);
+    public DMatrixRMaj x = new DMatrixRMaj(1, 1);
+    public DMatrixRMaj y = new DMatrixRMaj(1, 1);
+
+    @Setup
+    public void setup() {
+        Random rand = new Random(234);
+
+        A.reshape(size, size);
+        B.reshape(size, size);
+        C.reshape(size, size);
+        x.reshape(size, 1);
+        y.reshape(size, 1);
+
+        RandomMatrices_DDRM.fillUniform(A, -1, 1, rand);
+        RandomMatrices_DDRM.fillUniform(B, -1, 1, rand);
+        RandomMatrices_DDRM.fillUniform(x, -1, 1, rand);
+        RandomMatrices_DDRM.fillUniform(y, -1, 1, rand);
+    }
+
+    @Benchmark public void mult_reorder() { MatrixMatrixMult_DDRM.mult_reorder(A, B, C); }
+
+    @Benchmark public void mult_packed() { MatrixMatrixMultPacked_DDRM.mult(A, B, C); }
+
+    @Benchmark public void mult_simd() { SimdOps_DDRM.mult(A, B, C); }
+
+    @Benchmark public void multVector() { MatrixVectorMult_DDRM.mult(A, x, y); }
+
+    @Benchmark public void multVector_simd() { SimdOps_DDRM.multVector(A, x, y); }
+
+    @Benchmark public double dot() { return VectorVectorMult_DDRM.innerProd(x, y); }
+
+    @Benchmark public double dot_simd() { return SimdOps_DDRM.dot(x.data, 0, y.data, 0, size); }
+
+    @Benchmark public void axpy() {
+        for (int i = 0; i < size; i++) {
+            y.data[i] += 0.5*x.data[i];
+        }
+    }
+
+    @Benchmark public void axpy_simd() { SimdOps_DDRM.axpy(size, 0.5, x.data, 0, y.data, 0); }
+
+    public static void main( String[] args ) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BenchmarkSimdOps_DDRM.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vectorized versions of the inner block kernels in {@link org.ejml.dense.block.InnerMultiplication_DDRB}. The
+ * blocks are stored in row-major format. A is heightA by widthA, B is widthA by widthC, and C is heightA by widthC.
+ *
+ * @author Peter Abeles
+ */
+public class SimdInnerMultiplication_DDRB {
+    static final VectorSpecies<Double> SPECIES = SimdOps_DDRM.SPECIES;
+    static final int LANES = SimdOps_DDRM.LANES;
+
+    /**
+     * <p>
+     * Performs the follow operation on individual inner blocks:<br>
+     * <br>
+     * C = C + A * B
+     * </p>
+     */
+    public static void blockMultPlus( final double[] dataA, final double[] dataB, final double[] dataC,
+                                      int indexA, int indexB, int indexC,
+                                      final int heightA, final int widthA, final int widthC ) {
+        blockMult(1.0, dataA, dataB, dataC, indexA, indexB, indexC, heightA, widthA, widthC);
+    }
+
+    /**
+     * <p>
+     * Performs the follow operation on individual inner blocks:<br>
+     * <br>
+     * C = C - A * B
+     * </p>
+     */
+    public static void blockMultMinus( final double[] dataA, final double[] dataB, final double[] dataC,
+                                       int indexA, int indexB, int indexC,
+                                       final int heightA, final int widthA, final int widthC ) {
+        blockMult(-1.0, dataA, dataB, dataC, indexA, indexB, indexC, heightA, widthA, widthC);
+    }
+
+    /**
+     * <p>
+     * Performs the follow operation on individual inner blocks:<br>
+     * <br>
+     * C = A * B
+     * </p>
+     */
+    public static void blockMultSet( final double[] dataA, final double[] dataB, final double[] dataC,
+                                     int indexA, int indexB, int indexC,
+                                     final int heightA, final int widthA, final int widthC ) {
+        for (int i = 0; i < heightA; i++) {
+            int rowC = indexC + i*widthC;
+            for (int j = 0; j < widthC; j++) {
+                dataC[rowC + j] = 0;
+            }
+        }
+        blockMult(1.0, dataA, dataB, dataC, indexA, indexB, indexC, heightA, widthA, widthC);
+    }
+
+    /**
+     * <p>
+     * Performs the follow operation on individual inner blocks:<br>
+     * <br>
+     * C = C + &alpha; A * B
+     * </p>
+     */
+    public static void blockMultPlus( double alpha, final double[] dataA, final double[] dataB, final double[] dataC,
+                                      int indexA, int indexB, int indexC,
+                                      final int heightA, final int widthA, final int widthC ) {
+        blockMult(alpha, dataA, dataB, dataC, indexA, indexB, indexC, heightA, widthA, widthC);
+    }
+
+    /**
+     * C = C + &alpha; A * B. Each row in C is updated using a vectorized axpy for each element in the row of A.
+     */
+    private static void blockMult( double alpha, final double[] dataA, final double[] dataB, final double[] dataC,
+                                   int indexA, int indexB, int indexC,
+                                   final int heightA, final int widthA, final int widthC ) {
+        final int bound = SPECIES.loopBound(widthC);
+
+        for (int i = 0; i < heightA; i++) {
+            int rowA = indexA + i*widthA;
+            int rowC = indexC + i*widthC;
+
+            for (int k = 0; k < widthA; k++) {
+                double valA = alpha*dataA[rowA + k];
+                DoubleVector va = DoubleVector.broadcast(SPECIES, valA);
+                int rowB = indexB + k*widthC;
+
+                int j = 0;
+                for (; j < bound; j += LANES) {
+                    DoubleVector vb = DoubleVector.fromArray(SPECIES, dataB, rowB + j);
+                    DoubleVector vc = DoubleVector.fromArray(SPECIES, dataC, rowC + j);
+                    vb.fma(va, vc).intoArray(dataC, rowC + j);
+                }
+                for (; j < widthC; j++) {
+                    dataC[rowC + j] += valA*dataB[rowB + j];
+                }
+            }
+        }
+    }
+}
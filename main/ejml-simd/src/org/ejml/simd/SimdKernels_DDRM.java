@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simd;
+
+import org.ejml.data.DMatrix1Row;
+import org.ejml.data.DMatrixD1;
+import org.ejml.dense.row.mult.DenseKernels_DDRM;
+
+/**
+ * Provides the vectorized operations in {@link SimdOps_DDRM} to {@link org.ejml.dense.row.CommonOps_DDRM}. This
+ * is registered as a service and found by {@link org.ejml.dense.row.mult.DenseKernelsLoader_DDRM}.
+ *
+ * @author Peter Abeles
+ */
+public class SimdKernels_DDRM implements DenseKernels_DDRM {
+    @Override public void mult( double alpha, DMatrix1Row A, DMatrix1Row B, DMatrix1Row C ) {
+        SimdOps_DDRM.mult(alpha, A, B, C);
+    }
+
+    @Override public void multVector( DMatrix1Row A, DMatrixD1 b, DMatrixD1 c ) {
+        SimdOps_DDRM.multVector(A, b, c);
+    }
+
+    @Override public double dot( double[] x, int offsetX, double[] y, int offsetY, int length ) {
+        return SimdOps_DDRM.dot(x, offsetX, y, offsetY, length);
+    }
+
+    @Override public void axpy( int length, double alpha, double[] x, int offsetX, double[] y, int offsetY ) {
+        SimdOps_DDRM.axpy(length, alpha, x, offsetX, y, offsetY);
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.ejml.EjmlParameters;
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix1Row;
+import org.ejml.data.DMatrixD1;
+import org.ejml.dense.row.CommonOps_DDRM;
+
+/**
+ * <p>
+ * Dense matrix operations which are explicitly vectorized using the Java Vector API. The JVM must be started
+ * with "--add-modules jdk.incubator.vector".
+ * </p>
+ *
+ * <p>
+ * Matrix multiplication uses the same packed blocks as {@link org.ejml.dense.row.mult.MatrixMatrixMultPacked_DDRM}
+ * but its inner kernel computes a {@link #MR} by {@link #NR} block of C using vector registers. {@link #NR} is
+ * two times the number of lanes in the preferred vector size.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SimdOps_DDRM {
+    static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /** Number of lanes in a vector */
+    static final int LANES = SPECIES.length();
+
+    /** Number of rows in C computed by the inner kernel */
+    public static final int MR = 4;
+    /** Number of columns in C computed by the inner kernel */
+    public static final int NR = 2*LANES;
+
+    /**
+     * Computes the dot product: sum x[offsetX + i]*y[offsetY + i] for i = 0 to length-1
+     */
+    public static double dot( double[] x, int offsetX, double[] y, int offsetY, int length ) {
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, offsetX + i);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, offsetY + i);
+            sum = vx.fma(vy, sum);
+        }
+        double total = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            total += x[offsetX + i]*y[offsetY + i];
+        }
+        return total;
+    }
+
+    /**
+     * y[offsetY + i] = y[offsetY + i] + &alpha;*x[offsetX + i] for i = 0 to length-1
+     */
+    public static void axpy( int length, double alpha, double[] x, int offsetX, double[] y, int offsetY ) {
+        final DoubleVector valpha = DoubleVector.broadcast(SPECIES, alpha);
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, offsetX + i);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, offsetY + i);
+            vx.fma(valpha, vy).intoArray(y, offsetY + i);
+        }
+        for (; i < length; i++) {
+            y[offsetY + i] += alpha*x[offsetX + i];
+        }
+    }
+
+    /**
+     * c = A*b, where b is a row or column vector and c is a column vector
+     *
+     * @see org.ejml.dense.row.mult.MatrixVectorMult_DDRM#mult(DMatrix1Row, DMatrixD1, DMatrixD1)
+     */
+    public static void multVector( DMatrix1Row A, DMatrixD1 b, DMatrixD1 c ) {
+        if (b.numRows == 1) {
+            if (A.numCols != b.numCols) {
+                throw new MatrixDimensionException("A and B are not compatible");
+            }
+        } else if (b.numCols == 1) {
+            if (A.numCols != b.numRows) {
+                throw new MatrixDimensionException("A and B are not compatible");
+            }
+        } else {
+            throw new MatrixDimensionException("B is not a vector");
+        }
+        c.reshape(A.numRows, 1);
+
+        for (int i = 0; i < A.numRows; i++) {
+            c.data[i] = dot(A.data, i*A.numCols, b.data, 0, A.numCols);
+        }
+    }
+
+    /**
+     * C = A*B
+     *
+     * @see CommonOps_DDRM#mult(DMatrix1Row, DMatrix1Row, DMatrix1Row)
+     */
+    public static void mult( DMatrix1Row A, DMatrix1Row B, DMatrix1Row C ) {
+        mult(1.0, A, B, C);
+    }
+
+    /**
+     * C = &alpha;*A*B
+     *
+     * @see CommonOps_DDRM#mult(double, DMatrix1Row, DMatrix1Row, DMatrix1Row)
+     */
+    public static void mult( double alpha, DMatrix1Row A, DMatrix1Row B, DMatrix1Row C ) {
+        UtilEjml.assertTrue(A != C && B != C, "Neither 'A' or 'B' can be the same matrix as 'C'");
+        UtilEjml.assertShape(A.numCols, B.numRows, "The 'A' and 'B' matrices do not have compatible dimensions");
+        C.reshape(A.numRows, B.numCols);
+
+        if (A.numCols == 0 || A.numRows == 0) {
+            CommonOps_DDRM.fill(C, 0);
+            return;
+        }
+
+        // Blocks need to be a multiple of the kernel's size
+        final int blockM = roundUp(EjmlParameters.MULT_PACKED_BLOCK_M, MR);
+        final int blockN = roundUp(EjmlParameters.MULT_PACKED_BLOCK_N, NR);
+        final int blockK = Math.max(1, EjmlParameters.MULT_PACKED_BLOCK_K);
+
+        double[] packA = new double[Math.min(blockM, roundUp(C.numRows, MR))*blockK];
+        double[] packB = new double[Math.min(blockN, roundUp(C.numCols, NR))*blockK];
+        double[] edge = new double[MR*NR];
+
+        // A block of B is packed once and then used with all the blocks of A
+        for (int col0 = 0; col0 < C.numCols; col0 += blockN) {
+            int col1 = Math.min(col0 + blockN, C.numCols);
+            for (int k0 = 0; k0 < A.numCols; k0 += blockK) {
+                int k1 = Math.min(k0 + blockK, A.numCols);
+                packB(B, k0, k1, col0, col1, packB);
+                for (int row0 = 0; row0 < C.numRows; row0 += blockM) {
+                    int row1 = Math.min(row0 + blockM, C.numRows);
+                    packA(A, row0, row1, k0, k1, packA);
+                    // The first block writes over the old value in C and the others add to it
+                    multBlock(alpha, packA, packB, edge, k1 - k0, C, row0, row1, col0, col1, k0 == 0);
+                }
+            }
+        }
+    }
+
+    static void packA( DMatrix1Row A, int row0, int row1, int k0, int k1, double[] packed ) {
+        final int kc = k1 - k0;
+        int indexPanel = 0;
+        for (int i0 = row0; i0 < row1; i0 += MR) {
+            int rows = Math.min(MR, row1 - i0);
+            for (int r = 0; r < MR; r++) {
+                int indexP = indexPanel + r;
+                if (r < rows) {
+                    int indexA = (i0 + r)*A.numCols + k0;
+                    for (int k = 0; k < kc; k++, indexP += MR) {
+                        packed[indexP] = A.data[indexA + k];
+                    }
+                } else {
+                    for (int k = 0; k < kc; k++, indexP += MR) {
+                        packed[indexP] = 0;
+                    }
+                }
+            }
+            indexPanel += MR*kc;
+        }
+    }
+
+    static void packB( DMatrix1Row B, int k0, int k1, int col0, int col1, double[] packed ) {
+        final int kc = k1 - k0;
+        final int n = col1 - col0;
+        for (int k = 0; k < kc; k++) {
+            int indexB = (k0 + k)*B.numCols + col0;
+            for (int j = 0; j < n; j += NR) {
+                int indexP = j*kc + k*NR;
+                int cols = Math.min(NR, n - j);
+                System.arraycopy(B.data, indexB, packed, indexP, cols);
+                indexB += cols;
+                for (int c = cols; c < NR; c++) {
+                    packed[indexP + c] = 0;
+                }
+            }
+        }
+    }
+
+    static void multBlock( double alpha, double[] packA, double[] packB, double[] edge, int kc,
+                           DMatrix1Row C, int row0, int row1, int col0, int col1, boolean overwrite ) {
+        for (int j = col0; j < col1; j += NR) {
+            int offB = (j - col0)*kc;
+            int cols = Math.min(NR, col1 - j);
+            for (int i = row0; i < row1; i += MR) {
+                int offA = (i - row0)*kc;
+                int rows = Math.min(MR, row1 - i);
+                kernel(alpha, kc, packA, offA, packB, offB, edge, C, i, j, rows, cols, overwrite);
+            }
+        }
+    }
+
+    /**
+     * Computes a {@link #MR} by {@link #NR} block in C. Only the first 'rows' and 'cols' are written to C.
+     */
+    static void kernel( double alpha, int kc, double[] packA, int offA, double[] packB, int offB, double[] edge,
+                        DMatrix1Row C, int row, int col, int rows, int cols, boolean overwrite ) {
+        DoubleVector c00 = DoubleVector.zero(SPECIES), c01 = DoubleVector.zero(SPECIES);
+        DoubleVector c10 = DoubleVector.zero(SPECIES), c11 = DoubleVector.zero(SPECIES);
+        DoubleVector c20 = DoubleVector.zero(SPECIES), c21 = DoubleVector.zero(SPECIES);
+        DoubleVector c30 = DoubleVector.zero(SPECIES), c31 = DoubleVector.zero(SPECIES);
+
+        for (int k = 0; k < kc; k++) {
+            DoubleVector b0 = DoubleVector.fromArray(SPECIES, packB, offB);
+            DoubleVector b1 = DoubleVector.fromArray(SPECIES, packB, offB + LANES);
+
+            DoubleVector a = DoubleVector.broadcast(SPECIES, packA[offA]);
+            c00 = b0.fma(a, c00);
+            c01 = b1.fma(a, c01);
+            a = DoubleVector.broadcast(SPECIES, packA[offA + 1]);
+            c10 = b0.fma(a, c10);
+            c11 = b1.fma(a, c11);
+            a = DoubleVector.broadcast(SPECIES, packA[offA + 2]);
+            c20 = b0.fma(a, c20);
+            c21 = b1.fma(a, c21);
+            a = DoubleVector.broadcast(SPECIES, packA[offA + 3]);
+            c30 = b0.fma(a, c30);
+            c31 = b1.fma(a, c31);
+
+            offA += MR;
+            offB += NR;
+        }
+
+        double[] dataC = C.data;
+        int indexC = row*C.numCols + col;
+
+        if (rows == MR && cols == NR) {
+            store(dataC, indexC, c00, c01, alpha, overwrite);
+            store(dataC, indexC + C.numCols, c10, c11, alpha, overwrite);
+            store(dataC, indexC + 2*C.numCols, c20, c21, alpha, overwrite);
+            store(dataC, indexC + 3*C.numCols, c30, c31, alpha, overwrite);
+            return;
+        }
+
+        // Only part of the block is inside of C
+        c00.intoArray(edge, 0);
+        c01.intoArray(edge, LANES);
+        c10.intoArray(edge, NR);
+        c11.intoArray(edge, NR + LANES);
+        c20.intoArray(edge, 2*NR);
+        c21.intoArray(edge, 2*NR + LANES);
+        c30.intoArray(edge, 3*NR);
+        c31.intoArray(edge, 3*NR + LANES);
+
+        for (int r = 0; r < rows; r++) {
+            int index = indexC + r*C.numCols;
+            for (int j = 0; j < cols; j++) {
+                if (overwrite)
+                    dataC[index + j] = alpha*edge[r*NR + j];
+                else
+                    dataC[index + j] += alpha*edge[r*NR + j];
+            }
+        }
+    }
+
+    private static void store( double[] data, int index, DoubleVector v0, DoubleVector v1,
+                               double alpha, boolean overwrite ) {
+        if (overwrite) {
+            v0.mul(alpha).intoArray(data, index);
+            v1.mul(alpha).intoArray(data, index + LANES);
+        } else {
+            v0.mul(alpha).add(DoubleVector.fromArray(SPECIES, data, index)).intoArray(data, index);
+            v1.mul(alpha).add(DoubleVector.fromArray(SPECIES, data, index + LANES)).intoArray(data, index + LANES);
+        }
+    }
+
+    private static int roundUp( int value, int multiple ) {
+        return Math.max(multiple, (value + multiple - 1)/multiple*multiple);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simd;
+
+import org.ejml.UtilEjml;
+import org.ejml.dense.block.InnerMultiplication_DDRB;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSimdInnerMultiplication_DDRB {
+    Random rand = new Random(234);
+
+    @Test void blockMult() {
+        int[] sizes = {1, 3, 8, 11};
+        for (int heightA : sizes) {
+            for (int widthA : sizes) {
+                for (int widthC : sizes) {
+                    check(heightA, widthA, widthC, 0);
+                    check(heightA, widthA, widthC, 1);
+                    check(heightA, widthA, widthC, 2);
+                    check(heightA, widthA, widthC, 3);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compares against the regular implementation using blocks which don't start at the beginning of the array
+     */
+    private void check( int heightA, int widthA, int widthC, int type ) {
+        int offset = 3;
+        double[] dataA = RandomMatrices_DDRM.rectangle(1, offset + heightA*widthA, -1, 1, rand).data;
+        double[] dataB = RandomMatrices_DDRM.rectangle(1, offset + widthA*widthC, -1, 1, rand).data;
+        double[] expected = RandomMatrices_DDRM.rectangle(1, offset + heightA*widthC, -1, 1, rand).data;
+        double[] found = expected.clone();
+
+        switch (type) {
+            case 0:
+                InnerMultiplication_DDRB.blockMultPlus(dataA, dataB, expected, offset, offset, offset, heightA, widthA, widthC);
+                SimdInnerMultiplication_DDRB.blockMultPlus(dataA, dataB, found, offset, offset, offset, heightA, widthA, widthC);
+                break;
+            case 1:
+                InnerMultiplication_DDRB.blockMultMinus(dataA, dataB, expected, offset, offset, offset, heightA, widthA, widthC);
+                SimdInnerMultiplication_DDRB.blockMultMinus(dataA, dataB, found, offset, offset, offset, heightA, widthA, widthC);
+                break;
+            case 2:
+                InnerMultiplication_DDRB.blockMultSet(dataA, dataB, expected, offset, offset, offset, heightA, widthA, widthC);
+                SimdInnerMultiplication_DDRB.blockMultSet(dataA, dataB, found, offset, offset, offset, heightA, widthA, widthC);
+                break;
+            default:
+                InnerMultiplication_DDRB.blockMultPlus(1.5, dataA, dataB, expected, offset, offset, offset, heightA, widthA, widthC);
+                SimdInnerMultiplication_DDRB.blockMultPlus(1.5, dataA, dataB, found, offset, offset, offset, heightA, widthA, widthC);
+        }
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], found[i], UtilEjml.TEST_F64);
+        }
+    }
+}
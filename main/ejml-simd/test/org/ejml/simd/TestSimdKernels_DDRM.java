@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simd;
+
+import org.ejml.EjmlParameters;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.mult.DenseKernelsLoader_DDRM;
+import org.ejml.dense.row.mult.DenseKernels_DDRM;
+import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSimdKernels_DDRM {
+    Random rand = new Random(234);
+
+    /**
+     * The service file should allow it to be found automatically
+     */
+    @Test void foundByLoader() {
+        assertTrue(DenseKernelsLoader_DDRM.load() instanceof SimdKernels_DDRM);
+    }
+
+    /**
+     * CommonOps_DDRM should produce the same results when it uses these kernels
+     */
+    @Test void commonOps() {
+        DenseKernels_DDRM original = DenseKernelsLoader_DDRM.get();
+        int originalSwitch = EjmlParameters.MULT_PACKED_SWITCH;
+        try {
+            DenseKernelsLoader_DDRM.set(new SimdKernels_DDRM());
+            EjmlParameters.MULT_PACKED_SWITCH = 10;
+
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(30, 120, -1, 1, rand);
+            DMatrixRMaj B = RandomMatrices_DDRM.rectangle(120, 25, -1, 1, rand);
+            DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+
+            MatrixMatrixMult_DDRM.mult_small(A, B, expected);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, CommonOps_DDRM.mult(A, B, null), UtilEjml.TEST_F64));
+
+            B.reshape(120, 1);
+            MatrixMatrixMult_DDRM.mult_small(A, B, expected);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, CommonOps_DDRM.mult(A, B, null), UtilEjml.TEST_F64));
+        } finally {
+            DenseKernelsLoader_DDRM.set(original);
+            EjmlParameters.MULT_PACKED_SWITCH = originalSwitch;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simd;
+
+import org.ejml.EjmlParameters;
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
+import org.ejml.dense.row.mult.MatrixVectorMult_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSimdOps_DDRM {
+    Random rand = new Random(234);
+
+    // Lengths which are and are not a multiple of the number of lanes
+    int[] lengths = {0, 1, 3, 4, 7, 8, 9, 17, 33};
+
+    @Test void dot() {
+        for (int length : lengths) {
+            double[] x = RandomMatrices_DDRM.rectangle(1, length + 2, -1, 1, rand).data;
+            double[] y = RandomMatrices_DDRM.rectangle(1, length + 3, -1, 1, rand).data;
+
+            double expected = 0;
+            for (int i = 0; i < length; i++) {
+                expected += x[i + 2]*y[i + 3];
+            }
+            assertEquals(expected, SimdOps_DDRM.dot(x, 2, y, 3, length), UtilEjml.TEST_F64);
+        }
+    }
+
+    @Test void axpy() {
+        for (int length : lengths) {
+            double[] x = RandomMatrices_DDRM.rectangle(1, length + 2, -1, 1, rand).data;
+            double[] y = RandomMatrices_DDRM.rectangle(1, length + 3, -1, 1, rand).data;
+            double[] expected = y.clone();
+            for (int i = 0; i < length; i++) {
+                expected[i + 3] += 1.5*x[i + 2];
+            }
+
+            SimdOps_DDRM.axpy(length, 1.5, x, 2, y, 3);
+            for (int i = 0; i < y.length; i++) {
+                assertEquals(expected[i], y[i], UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    @Test void multVector() {
+        for (int length : lengths) {
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(6, length, -1, 1, rand);
+            DMatrixRMaj b = RandomMatrices_DDRM.rectangle(length, 1, -1, 1, rand);
+
+            DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+            DMatrixRMaj found = new DMatrixRMaj(1, 1);
+            MatrixVectorMult_DDRM.mult(A, b, expected);
+            SimdOps_DDRM.multVector(A, b, found);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+
+            // row vector
+            b.reshape(1, length);
+            SimdOps_DDRM.multVector(A, b, found);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+        }
+
+        assertThrows(MatrixDimensionException.class, () ->
+                SimdOps_DDRM.multVector(new DMatrixRMaj(3, 4), new DMatrixRMaj(3, 1), new DMatrixRMaj(3, 1)));
+    }
+
+    @Test void mult() {
+        int blockM = EjmlParameters.MULT_PACKED_BLOCK_M;
+        int blockK = EjmlParameters.MULT_PACKED_BLOCK_K;
+        int blockN = EjmlParameters.MULT_PACKED_BLOCK_N;
+        try {
+            // Small blocks so that all the edge cases are tested with small matrices
+            EjmlParameters.MULT_PACKED_BLOCK_M = 8;
+            EjmlParameters.MULT_PACKED_BLOCK_K = 5;
+            EjmlParameters.MULT_PACKED_BLOCK_N = 20;
+
+            int[] sizes = {1, 4, 5, 9, 17, 41};
+            for (int numRows : sizes) {
+                for (int numInner : sizes) {
+                    for (int numCols : sizes) {
+                        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(numRows, numInner, -1, 1, rand);
+                        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(numInner, numCols, -1, 1, rand);
+
+                        DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+                        DMatrixRMaj found = RandomMatrices_DDRM.rectangle(numRows, numCols, -1, 1, rand);
+
+                        MatrixMatrixMult_DDRM.mult_small(A, B, expected);
+                        SimdOps_DDRM.mult(A, B, found);
+                        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+
+                        MatrixMatrixMult_DDRM.mult_small(-0.5, A, B, expected);
+                        SimdOps_DDRM.mult(-0.5, A, B, found);
+                        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+                    }
+                }
+            }
+        } finally {
+            EjmlParameters.MULT_PACKED_BLOCK_M = blockM;
+            EjmlParameters.MULT_PACKED_BLOCK_K = blockK;
+            EjmlParameters.MULT_PACKED_BLOCK_N = blockN;
+        }
+    }
+
+    @Test void mult_zeros() {
+        DMatrixRMaj C = RandomMatrices_DDRM.rectangle(5, 6, -1, 1, rand);
+        SimdOps_DDRM.mult(new DMatrixRMaj(5, 0), new DMatrixRMaj(0, 6), C);
+        assertTrue(MatrixFeatures_DDRM.isZeros(C, 0.0));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.dense.row.decompose.eig;
+
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_ZDRM;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 2)
+public class BenchmarkDecompositionEvd_ZDRM {
+    //    @Param({"100", "500", "1000", "2000"})
+    @Param({"300"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean vectors;
+
+    public ZMatrixRMaj H, A;
+
+    HermitianQRAlgorithmDecomposition_ZDRM hermitian;
+    HermitianQRAlgorithmDecomposition_MT_ZDRM hermitian_mt;
+    SingleShiftQRDecomposition_ZDRM general;
+    SingleShiftQRDecomposition_MT_ZDRM general_mt;
+
+    @Setup
+    public void setup() {
+        hermitian = new HermitianQRAlgorithmDecomposition_ZDRM(vectors);
+        hermitian_mt = new HermitianQRAlgorithmDecomposition_MT_ZDRM(vectors);
+        general = new SingleShiftQRDecomposition_ZDRM(vectors);
+        general_mt = new SingleShiftQRDecomposition_MT_ZDRM(vectors);
+
+        Random rand = new Random(234);
+
+        H = RandomMatrices_ZDRM.hermitian(size, -1, 1, rand);
+        A = RandomMatrices_ZDRM.rectangle(size, size, -1, 1, rand);
+    }
+
+    @Benchmark
+    public void hermitian() {
+        hermitian.decompose(H);
+    }
+
+    @Benchmark
+    public void hermitian_mt() {
+        hermitian_mt.decompose(H);
+    }
+
+    @Benchmark
+    public void general() {
+        general.decompose(A);
+    }
+
+    @Benchmark
+    public void general_mt() {
+        general_mt.decompose(A);
+    }
+
+    public static void main( String[] args ) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BenchmarkDecompositionEvd_ZDRM.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.dense.row.decompose.svd;
+
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_ZDRM;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 2)
+public class BenchmarkDecompositionSvd_ZDRM {
+    //    @Param({"100", "500", "1000", "2000"})
+    @Param({"500"})
+    public int size;
+
+    public ZMatrixRMaj A, U, V;
+
+    SvdImplicitQrDecompose_ZDRM svd = new SvdImplicitQrDecompose_ZDRM(true, true, true);
+    SvdImplicitQrDecompose_MT_ZDRM svd_mt = new SvdImplicitQrDecompose_MT_ZDRM(true, true, true);
+
+    @Setup
+    public void setup() {
+        Random rand = new Random(234);
+
+        A = RandomMatrices_ZDRM.rectangle(size*2, size/2, -1, 1, rand);
+        U = new ZMatrixRMaj(size, size);
+        V = new ZMatrixRMaj(size, size);
+    }
+
+    @Benchmark
+    public void implicit_uv() {
+        svd.decompose(A);
+        svd.getU(U, false);
+        svd.getV(V, true);
+    }
+
+    @Benchmark
+    public void implicit() {
+        svd.decompose(A);
+    }
+
+    @Benchmark
+    public void implicit_uv_mt() {
+        svd_mt.decompose(A);
+        svd_mt.getU(U, false);
+        svd_mt.getV(V, true);
+    }
+
+    @Benchmark
+    public void implicit_mt() {
+        svd_mt.decompose(A);
+    }
+
+    public static void main( String[] args ) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BenchmarkDecompositionSvd_ZDRM.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decompose;
+
+import org.ejml.data.ZMatrixRMaj;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * A sequence of Givens rotations which is recorded while an iterative algorithm is running and then applied
+ * to the rows of a complex matrix all at once. Each rotation modifies two rows, a and b, using
+ * a real cosine c and a complex sine s:<br>
+ * <br>
+ * row<sub>a</sub> = c*row<sub>a</sub> + s*row<sub>b</sub><br>
+ * row<sub>b</sub> = -conj(s)*row<sub>a</sub> + c*row<sub>b</sub><br>
+ * </p>
+ *
+ * <p>
+ * Rotations are applied to one block of columns at a time. The columns are independent of each other
+ * which allows the work to be split up between threads.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class GivensRotationSequence_ZDRM {
+    // the two rows each rotation modifies
+    private int[] rowA = new int[0];
+    private int[] rowB = new int[0];
+    // cosine and sine of each rotation
+    private double[] cosine = new double[0];
+    private double[] sineReal = new double[0];
+    private double[] sineImag = new double[0];
+
+    // number of rotations in the sequence
+    private int size;
+
+    /**
+     * Removes all the rotations
+     */
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * Adds a rotation with a real sine to the end of the sequence
+     */
+    public void add( int a, int b, double c, double s ) {
+        add(a, b, c, s, 0);
+    }
+
+    /**
+     * Adds a rotation with a complex sine to the end of the sequence
+     */
+    public void add( int a, int b, double c, double realS, double imagS ) {
+        if (size == rowA.length) {
+            int length = Math.max(16, size*2);
+            rowA = Arrays.copyOf(rowA, length);
+            rowB = Arrays.copyOf(rowB, length);
+            cosine = Arrays.copyOf(cosine, length);
+            sineReal = Arrays.copyOf(sineReal, length);
+            sineImag = Arrays.copyOf(sineImag, length);
+        }
+        rowA[size] = a;
+        rowB[size] = b;
+        cosine[size] = c;
+        sineReal[size] = realS;
+        sineImag[size] = imagS;
+        size++;
+    }
+
+    /**
+     * Applies all the rotations, in the order they were added, to the specified columns in Z.
+     *
+     * @param Z Matrix whose rows are rotated. Modified.
+     * @param col0 First column which is modified.
+     * @param col1 Last column which is modified, exclusive.
+     */
+    public void apply( ZMatrixRMaj Z, int col0, int col1 ) {
+        final double[] data = Z.data;
+        final int stride = Z.numCols*2;
+
+        for (int r = 0; r < size; r++) {
+            final double c = cosine[r];
+            final double realS = sineReal[r];
+            final double imagS = sineImag[r];
+
+            int indexA = rowA[r]*stride + col0*2;
+            int indexB = rowB[r]*stride + col0*2;
+
+            if (imagS == 0) {
+                for (int j = col0; j < col1; j++) {
+                    double realA = data[indexA];
+                    double imagA = data[indexA + 1];
+                    double realB = data[indexB];
+                    double imagB = data[indexB + 1];
+
+                    data[indexA++] = c*realA + realS*realB;
+                    data[indexA++] = c*imagA + realS*imagB;
+                    data[indexB++] = c*realB - realS*realA;
+                    data[indexB++] = c*imagB - realS*imagA;
+                }
+            } else {
+                for (int j = col0; j < col1; j++) {
+                    double realA = data[indexA];
+                    double imagA = data[indexA + 1];
+                    double realB = data[indexB];
+                    double imagB = data[indexB + 1];
+
+                    data[indexA++] = c*realA + realS*realB - imagS*imagB;
+                    data[indexA++] = c*imagA + realS*imagB + imagS*realB;
+                    data[indexB++] = c*realB - realS*realA - imagS*imagA;
+                    data[indexB++] = c*imagB - realS*imagA + imagS*realA;
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of rotations in the sequence
+     */
+    public int size() {
+        return size;
+    }
+}
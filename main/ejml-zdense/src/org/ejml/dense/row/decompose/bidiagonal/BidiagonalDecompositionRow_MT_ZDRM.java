@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decompose.bidiagonal;
+
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.decompose.qr.QrHelperFunctions_MT_ZDRM;
+
+/**
+ * <p>Concurrent version of {@link BidiagonalDecompositionRow_ZDRM}</p>
+ *
+ * @author Peter Abeles
+ */
+public class BidiagonalDecompositionRow_MT_ZDRM extends BidiagonalDecompositionRow_ZDRM {
+
+    public BidiagonalDecompositionRow_MT_ZDRM( int numElements ) {
+        super(numElements);
+    }
+
+    public BidiagonalDecompositionRow_MT_ZDRM() {}
+
+    @Override
+    protected void rank1UpdateMultL( ZMatrixRMaj A, double gamma, int colA0, int w0, int w1 ) {
+        QrHelperFunctions_MT_ZDRM.rank1UpdateMultL(A, u, 0, gamma, colA0, w0, w1);
+    }
+
+    @Override
+    protected void rank1UpdateMultR( ZMatrixRMaj A, double gamma, int colA0, int w0, int w1 ) {
+        QrHelperFunctions_MT_ZDRM.rank1UpdateMultR(A, u, 0, gamma, colA0, w0, w1, this.b);
+    }
+}
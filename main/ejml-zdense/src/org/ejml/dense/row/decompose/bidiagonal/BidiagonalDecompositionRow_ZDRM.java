@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decompose.bidiagonal;
+
+import org.ejml.data.Complex_F64;
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.decompose.UtilDecompositons_ZDRM;
+import org.ejml.dense.row.decompose.qr.QrHelperFunctions_ZDRM;
+import org.ejml.interfaces.decomposition.BidiagonalDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Performs a complex {@link BidiagonalDecomposition_F64} using householder reflectors.
+ * </p>
+ *
+ * <p>
+ * A = U*B*V<sup>H</sup>
+ * </p>
+ *
+ * <p>
+ * where U and V are unitary and B is a complex upper bidiagonal matrix. The diagonal and off diagonal
+ * elements returned by {@link #getDiagonal(double[], double[])} are interleaved complex numbers. The reflectors
+ * for U are stored below the diagonal and the reflectors for V are stored in each row above the super diagonal.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public class BidiagonalDecompositionRow_ZDRM
+        implements BidiagonalDecomposition_F64<ZMatrixRMaj> {
+    // A combined matrix that stores te upper Hessenberg matrix and the orthogonal matrix.
+    private ZMatrixRMaj UBV;
+
+    // number of rows
+    private int m;
+    // number of columns
+    private int n;
+    // the smaller of m or n
+    private int min;
+
+    // the first element in the orthogonal vectors
+    private double[] gammasU;
+    private double[] gammasV;
+    // temporary storage
+    protected double[] b;
+    protected double[] u;
+
+    private final Complex_F64 tau = new Complex_F64();
+
+    /**
+     * Creates a decompose that defines the specified amount of memory.
+     *
+     * @param numElements number of elements in the matrix.
+     */
+    public BidiagonalDecompositionRow_ZDRM( int numElements ) {
+        gammasU = new double[numElements];
+        gammasV = new double[numElements];
+        b = new double[numElements*2];
+        u = new double[numElements*2];
+    }
+
+    public BidiagonalDecompositionRow_ZDRM() {
+        this(1);
+    }
+
+    /**
+     * Computes the decomposition of the provided matrix. If no errors are detected then true is returned,
+     * false otherwise.
+     *
+     * @param A The matrix that is being decomposed. Modified.
+     * @return If it detects any errors or not.
+     */
+    @Override
+    public boolean decompose( ZMatrixRMaj A ) {
+        init(A);
+        return _decompose();
+    }
+
+    /**
+     * Sets up internal data structures.
+     *
+     * @param A The input matrix. Used internally as storage and is modified.
+     */
+    protected void init( ZMatrixRMaj A ) {
+        UBV = A;
+
+        m = UBV.numRows;
+        n = UBV.numCols;
+
+        min = Math.min(m, n);
+        int max = Math.max(m, n);
+
+        if (b.length < (max + 1)*2) {
+            b = new double[(max + 1)*2];
+            u = new double[(max + 1)*2];
+        }
+        if (gammasU.length < m) {
+            gammasU = new double[m];
+        }
+        if (gammasV.length < n) {
+            gammasV = new double[n];
+        }
+    }
+
+    /**
+     * The raw UBV matrix that is stored internally.
+     *
+     * @return UBV matrix.
+     */
+    public ZMatrixRMaj getUBV() {
+        return UBV;
+    }
+
+    /**
+     * Extracts the diagonal and off diagonal elements of B as interleaved complex numbers.
+     *
+     * @param diag Storage for the diagonal elements. Must have 2*min(m,n) elements.
+     * @param off Storage for the super diagonal elements. Must have 2*min(m,n) elements if the matrix is wide.
+     */
+    @Override
+    public void getDiagonal( double[] diag, double[] off ) {
+        // the last off diagonal element only exists if the matrix is wide
+        int numOff = n > m ? min : min - 1;
+
+        for (int i = 0; i < min; i++) {
+            int index = (i*n + i)*2;
+            diag[i*2] = UBV.data[index];
+            diag[i*2 + 1] = UBV.data[index + 1];
+
+            if (i < numOff) {
+                off[i*2] = UBV.data[index + 2];
+                off[i*2 + 1] = UBV.data[index + 3];
+            }
+        }
+    }
+
+    /**
+     * Returns the bidiagonal matrix.
+     *
+     * @param B If not null the results are stored here, if null a new matrix is created.
+     * @return The bidiagonal matrix.
+     */
+    @Override
+    public ZMatrixRMaj getB( @Nullable ZMatrixRMaj B, boolean compact ) {
+        int w = n > m ? min + 1 : min;
+
+        if (compact) {
+            B = UtilDecompositons_ZDRM.checkZeros(B, min, w);
+        } else {
+            B = UtilDecompositons_ZDRM.checkZeros(B, m, n);
+        }
+
+        for (int i = 0; i < min; i++) {
+            B.set(i, i, UBV.getReal(i, i), UBV.getImag(i, i));
+            if (i > 0)
+                B.set(i - 1, i, UBV.getReal(i - 1, i), UBV.getImag(i - 1, i));
+        }
+        if (n > m)
+            B.set(min - 1, min, UBV.getReal(min - 1, min), UBV.getImag(min - 1, min));
+
+        return B;
+    }
+
+    /**
+     * Returns the unitary U matrix.
+     *
+     * @param U If not null then the results will be stored here. Otherwise a new matrix will be created.
+     * @return The extracted U matrix.
+     */
+    @Override
+    public ZMatrixRMaj getU( @Nullable ZMatrixRMaj U, boolean transpose, boolean compact ) {
+        if (compact) {
+            if (transpose)
+                U = UtilDecompositons_ZDRM.checkIdentity(U, min, m);
+            else
+                U = UtilDecompositons_ZDRM.checkIdentity(U, m, min);
+        } else {
+            U = UtilDecompositons_ZDRM.checkIdentity(U, m, m);
+        }
+
+        for (int j = min - 1; j >= 0; j--) {
+            QrHelperFunctions_ZDRM.extractHouseholderColumn(UBV, j, m, j, u, 0);
+
+            if (transpose) {
+                rank1UpdateMultL(U, gammasU[j], j, j, m);
+            } else {
+                rank1UpdateMultR(U, gammasU[j], j, j, m);
+            }
+        }
+
+        return U;
+    }
+
+    /**
+     * Returns the unitary V matrix.
+     *
+     * @param V If not null then the results will be stored here. Otherwise a new matrix will be created.
+     * @return The extracted V matrix.
+     */
+    @Override
+    public ZMatrixRMaj getV( @Nullable ZMatrixRMaj V, boolean transpose, boolean compact ) {
+        int w = n > m ? min + 1 : min;
+
+        if (compact) {
+            if (transpose)
+                V = UtilDecompositons_ZDRM.checkIdentity(V, w, n);
+            else
+                V = UtilDecompositons_ZDRM.checkIdentity(V, n, w);
+        } else {
+            V = UtilDecompositons_ZDRM.checkIdentity(V, n, n);
+        }
+
+        for (int j = Math.min(min, n - 1) - 1; j >= 0; j--) {
+            QrHelperFunctions_ZDRM.extractHouseholderRow(UBV, j, j + 1, n, u, 0);
+
+            if (transpose) {
+                rank1UpdateMultL(V, gammasV[j], j + 1, j + 1, n);
+            } else {
+                rank1UpdateMultR(V, gammasV[j], j + 1, j + 1, n);
+            }
+        }
+
+        return V;
+    }
+
+    /**
+     * Internal function for computing the decomposition.
+     */
+    private boolean _decompose() {
+        for (int k = 0; k < min; k++) {
+            computeU(k);
+            computeV(k);
+        }
+
+        return true;
+    }
+
+    protected void computeU( int k ) {
+        double[] b = UBV.data;
+
+        // find the largest value in this column
+        // this is used to normalize the column and mitigate overflow/underflow
+        double max = QrHelperFunctions_ZDRM.extractColumnAndMax(UBV, k, m, k, u, 0);
+
+        if (max > 0) {
+            // -------- set up the reflector Q_k
+            double gamma = QrHelperFunctions_ZDRM.computeTauGammaAndDivide(k, m, u, max, tau);
+            gammasU[k] = gamma;
+
+            // divide u by u_0
+            double real_u_0 = u[k*2] + tau.real;
+            double imag_u_0 = u[k*2 + 1] + tau.imaginary;
+            QrHelperFunctions_ZDRM.divideElements(k + 1, m, u, 0, real_u_0, imag_u_0);
+
+            // write the reflector into the lower left column of the matrix
+            for (int i = k + 1; i < m; i++) {
+                b[(i*n + k)*2] = u[i*2];
+                b[(i*n + k)*2 + 1] = u[i*2 + 1];
+            }
+
+            u[k*2] = 1;
+            u[k*2 + 1] = 0;
+
+            // ---------- multiply on the left by Q_k
+            rank1UpdateMultR(UBV, gamma, k + 1, k, m);
+
+            b[(k*n + k)*2] = -tau.real*max;
+            b[(k*n + k)*2 + 1] = -tau.imaginary*max;
+        } else {
+            gammasU[k] = 0;
+        }
+    }
+
+    protected void rank1UpdateMultL( ZMatrixRMaj A, double gamma, int colA0, int w0, int w1 ) {
+        QrHelperFunctions_ZDRM.rank1UpdateMultL(A, u, 0, gamma, colA0, w0, w1);
+    }
+
+    protected void rank1UpdateMultR( ZMatrixRMaj A, double gamma, int colA0, int w0, int w1 ) {
+        QrHelperFunctions_ZDRM.rank1UpdateMultR(A, u, 0, gamma, colA0, w0, w1, this.b);
+    }
+
+    protected void computeV( int k ) {
+        if (k + 1 >= n) {
+            gammasV[k] = 0;
+            return;
+        }
+
+        double[] b = UBV.data;
+
+        int row = k*n;
+
+        // The row is multiplied on the right by the reflector. The reflector which zeros the conjugate
+        // of the row is used since (x*H)^H = H*x^H
+        double max = 0;
+        for (int i = k + 1; i < n; i++) {
+            double real = u[i*2] = b[(row + i)*2];
+            double imag = u[i*2 + 1] = -b[(row + i)*2 + 1];
+
+            double mag = real*real + imag*imag;
+            if (mag > max)
+                max = mag;
+        }
+        max = Math.sqrt(max);
+
+        if (max > 0) {
+            // -------- set up the reflector Q_k
+            double gamma = QrHelperFunctions_ZDRM.computeTauGammaAndDivide(k + 1, n, u, max, tau);
+            gammasV[k] = gamma;
+
+            // divide u by u_0
+            double real_u_0 = u[(k + 1)*2] + tau.real;
+            double imag_u_0 = u[(k + 1)*2 + 1] + tau.imaginary;
+            QrHelperFunctions_ZDRM.divideElements(k + 2, n, u, 0, real_u_0, imag_u_0);
+
+            // write the reflector into the row
+            for (int i = k + 2; i < n; i++) {
+                b[(row + i)*2] = u[i*2];
+                b[(row + i)*2 + 1] = u[i*2 + 1];
+            }
+
+            u[(k + 1)*2] = 1;
+            u[(k + 1)*2 + 1] = 0;
+
+            // ---------- multiply on the right by Q_k
+            rank1UpdateMultL(UBV, gamma, k + 1, k + 1, n);
+
+            // conjugate since the reflector was computed from the conjugate of the row
+            b[(row + k + 1)*2] = -tau.real*max;
+            b[(row + k + 1)*2 + 1] = tau.imaginary*max;
+        } else {
+            gammasV[k] = 0;
+        }
+    }
+
+    /**
+     * Returns gammas from the householder operations for the U matrix.
+     */
+    public double[] getGammasU() {
+        return gammasU;
+    }
+
+    /**
+     * Returns gammas from the householder operations for the V matrix.
+     */
+    public double[] getGammasV() {
+        return gammasV;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return true;
+    }
+}
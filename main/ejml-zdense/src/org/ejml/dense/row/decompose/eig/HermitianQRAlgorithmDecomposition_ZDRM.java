@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decompose.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.Complex_F64;
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.decompose.GivensRotationSequence_ZDRM;
+import org.ejml.dense.row.decompose.hessenberg.TridiagonalDecompositionHouseholder_ZDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Computes the eigenvalues and eigenvectors of a complex Hermitian matrix using the symmetric implicit QR algorithm.
+ * The matrix is first reduced to a Hermitian tridiagonal matrix, A = Q*T*Q<sup>H</sup>. T is then converted
+ * into a real symmetric tridiagonal matrix by scaling each row and column by a unit complex number. The
+ * eigenvalues of the real tridiagonal matrix are found using implicitly shifted QR steps with a Wilkinson shift.
+ * </p>
+ *
+ * <p>
+ * The eigenvalues are all real. The Givens rotations used in each QR step are recorded and applied to the
+ * eigenvectors in batches, see {@link #applyRotations}.
+ * </p>
+ *
+ * <p>
+ * This implementation is based on the algorithm is sketched out in:<br>
+ * David S. Watkins, "Fundamentals of Matrix Computations," Second Edition. page 377-385
+ * </p>
+ *
+ * @author Peter Abeles
+ * @see TridiagonalDecompositionHouseholder_ZDRM
+ */
+@SuppressWarnings("NullAway.Init")
+public class HermitianQRAlgorithmDecomposition_ZDRM
+        implements EigenDecomposition_F64<ZMatrixRMaj> {
+
+    // computes a tridiagonal matrix whose eigenvalues are the same as the original
+    private final TridiagonalDecompositionHouseholder_ZDRM tridiag = new TridiagonalDecompositionHouseholder_ZDRM();
+
+    // should it compute eigenvectors or just eigenvalues
+    private final boolean computeVectors;
+
+    // size of the matrix
+    private int N;
+
+    // complex diagonal and off diagonal elements of the tridiagonal matrix
+    private double[] cdiag = new double[0];
+    private double[] coff = new double[0];
+    // real tridiagonal matrix which the QR algorithm is applied to. Eigenvalues are stored in diag.
+    private double[] diag = new double[0];
+    private double[] off = new double[0];
+
+    // copy of the input matrix since the tridiagonal decomposition modifies it
+    private final ZMatrixRMaj A_mod = new ZMatrixRMaj(1, 1);
+    // eigenvectors, conjugated and stored in rows
+    private ZMatrixRMaj Wt;
+    // the extracted eigenvectors
+    private ZMatrixRMaj[] eigenvectors = new ZMatrixRMaj[0];
+
+    // rotations which have yet to be applied to the eigenvectors
+    protected final GivensRotationSequence_ZDRM rotations = new GivensRotationSequence_ZDRM();
+
+    // maximum number of QR steps per eigenvalue
+    protected int maxIterations = 30;
+
+    public HermitianQRAlgorithmDecomposition_ZDRM( boolean computeVectors ) {
+        this.computeVectors = computeVectors;
+    }
+
+    /**
+     * Used to limit the number of internal QR iterations that the QR algorithm performs.
+     *
+     * @param max The maximum number of QR iterations it will perform for each eigenvalue.
+     */
+    public void setMaxIterations( int max ) {
+        this.maxIterations = max;
+    }
+
+    @Override
+    public int getNumberOfEigenvalues() {
+        return N;
+    }
+
+    @Override
+    public Complex_F64 getEigenvalue( int index ) {
+        return new Complex_F64(diag[index], 0);
+    }
+
+    @Override
+    public @Nullable ZMatrixRMaj getEigenVector( int index ) {
+        if (!computeVectors)
+            return null;
+        return eigenvectors[index];
+    }
+
+    /**
+     * Decomposes the matrix using the QR algorithm. Care was taken to minimize unnecessary memory copying
+     * and cache skipping.
+     *
+     * @param orig The matrix which is being decomposed. Not modified.
+     * @return true if it decomposed the matrix or false if an error was detected. This will not catch all errors.
+     */
+    @Override
+    public boolean decompose( ZMatrixRMaj orig ) {
+        if (orig.numCols != orig.numRows)
+            throw new IllegalArgumentException("Matrix must be square.");
+        if (orig.numCols <= 0)
+            return false;
+
+        N = orig.numRows;
+        if (diag.length < N) {
+            diag = new double[N];
+            off = new double[N];
+            cdiag = new double[N*2];
+            coff = new double[N*2];
+        }
+
+        // compute a similar tridiagonal matrix
+        A_mod.set(orig);
+        if (!tridiag.decompose(A_mod))
+            return false;
+
+        tridiag.getDiagonal(cdiag, coff);
+        if (computeVectors) {
+            if (Wt != null)
+                Wt.reshape(N, N);
+            Wt = tridiag.getQ(Wt, true);
+        }
+
+        makeTridiagonalReal();
+
+        if (!tridiagonalQR())
+            return false;
+
+        if (computeVectors)
+            extractVectors();
+
+        return true;
+    }
+
+    /**
+     * Finds a diagonal matrix D with unit complex numbers along its diagonal that makes D<sup>H</sup>*T*D
+     * real and updates the eigenvectors to match.
+     */
+    private void makeTridiagonalReal() {
+        // d_0 = 1
+        double realD = 1, imagD = 0;
+
+        for (int i = 0; i < N; i++) {
+            // the diagonal elements of a Hermitian matrix are real
+            diag[i] = cdiag[i*2];
+
+            if (computeVectors)
+                scaleRowConjugate(Wt, i, realD, imagD);
+
+            if (i + 1 < N) {
+                double realE = coff[i*2];
+                double imagE = coff[i*2 + 1];
+                double mag = Math.sqrt(realE*realE + imagE*imagE);
+
+                // d_(i+1) = d_i*conj(e_i)/|e_i|
+                if (mag != 0) {
+                    double r = (realD*realE + imagD*imagE)/mag;
+                    imagD = (imagD*realE - realD*imagE)/mag;
+                    realD = r;
+                }
+                off[i] = mag;
+            }
+        }
+    }
+
+    /**
+     * Multiplies a row in the matrix by the conjugate of a complex number
+     */
+    private static void scaleRowConjugate( ZMatrixRMaj A, int row, double real, double imag ) {
+        int index = row*A.numCols*2;
+        int end = index + A.numCols*2;
+        for (; index < end; index += 2) {
+            double r = A.data[index];
+            double i = A.data[index + 1];
+            A.data[index] = r*real + i*imag;
+            A.data[index + 1] = i*real - r*imag;
+        }
+    }
+
+    /**
+     * Finds the eigenvalues of the real symmetric tridiagonal matrix using implicitly shifted QR steps
+     * with deflation.
+     *
+     * @return true if it converged
+     */
+    private boolean tridiagonalQR() {
+        rotations.reset();
+
+        // scale the matrix to avoid overflow and underflow
+        double scale = 0;
+        for (int i = 0; i < N; i++) {
+            scale = Math.max(scale, Math.abs(diag[i]));
+            if (i + 1 < N)
+                scale = Math.max(scale, Math.abs(off[i]));
+        }
+        if (scale == 0)
+            scale = 1;
+        for (int i = 0; i < N; i++) {
+            diag[i] /= scale;
+            off[i] /= scale;
+        }
+
+        int iterations = 0;
+        int hi = N - 1;
+        while (hi > 0) {
+            if (isNegligible(hi - 1)) {
+                off[hi - 1] = 0;
+                hi--;
+                continue;
+            }
+
+            // find the start of the unreduced block
+            int lo = hi - 1;
+            while (lo > 0 && !isNegligible(lo - 1))
+                lo--;
+            if (lo > 0)
+                off[lo - 1] = 0;
+
+            if (++iterations > maxIterations*N)
+                return false;
+
+            shiftedStep(lo, hi);
+
+            // apply the rotations in large batches to reduce overhead
+            if (computeVectors && rotations.size() >= N)
+                flushRotations();
+        }
+        flushRotations();
+
+        for (int i = 0; i < N; i++) {
+            diag[i] *= scale;
+        }
+
+        return true;
+    }
+
+    private boolean isNegligible( int i ) {
+        return Math.abs(off[i]) <= UtilEjml.EPS*(Math.abs(diag[i]) + Math.abs(diag[i + 1]));
+    }
+
+    /**
+     * Performs an implicit QR step using a Wilkinson shift on the block from lo to hi, inclusive.
+     */
+    private void shiftedStep( int lo, int hi ) {
+        double delta = (diag[hi - 1] - diag[hi])/2.0;
+        double e = off[hi - 1];
+        double root = Math.sqrt(delta*delta + e*e);
+        double denom = delta >= 0 ? delta + root : delta - root;
+        double mu = denom == 0 ? diag[hi] : diag[hi] - e*e/denom;
+
+        double x = diag[lo] - mu;
+        double z = off[lo];
+
+        for (int k = lo; k < hi; k++) {
+            double r = Math.sqrt(x*x + z*z);
+            double c = r == 0 ? 1 : x/r;
+            double s = r == 0 ? 0 : z/r;
+
+            if (k > lo)
+                off[k - 1] = r;
+
+            double a = diag[k];
+            double b = off[k];
+            double d = diag[k + 1];
+
+            diag[k] = c*c*a + 2.0*c*s*b + s*s*d;
+            diag[k + 1] = s*s*a - 2.0*c*s*b + c*c*d;
+            off[k] = c*s*(d - a) + (c*c - s*s)*b;
+
+            // chase the bulge
+            if (k < hi - 1) {
+                z = s*off[k + 1];
+                off[k + 1] = c*off[k + 1];
+                x = off[k];
+            }
+
+            if (computeVectors)
+                rotations.add(k, k + 1, c, s);
+        }
+    }
+
+    private void flushRotations() {
+        if (computeVectors && rotations.size() > 0)
+            applyRotations(rotations, Wt);
+        rotations.reset();
+    }
+
+    /**
+     * Applies the recorded rotations to the rows of the conjugated eigenvector matrix
+     */
+    protected void applyRotations( GivensRotationSequence_ZDRM rotations, ZMatrixRMaj Z ) {
+        rotations.apply(Z, 0, Z.numCols);
+    }
+
+    private void extractVectors() {
+        if (eigenvectors.length < N)
+            eigenvectors = new ZMatrixRMaj[N];
+
+        for (int i = 0; i < N; i++) {
+            ZMatrixRMaj v = eigenvectors[i];
+            if (v == null || v.numRows != N) {
+                v = eigenvectors[i] = new ZMatrixRMaj(N, 1);
+            }
+            int index = i*N*2;
+            for (int j = 0; j < N; j++) {
+                v.data[j*2] = Wt.data[index++];
+                v.data[j*2 + 1] = -Wt.data[index++];
+            }
+        }
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decompose.eig;
+
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.decompose.GivensRotationSequence_ZDRM;
+
+/**
+ * <p>Concurrent version of {@link SingleShiftQRDecomposition_ZDRM}. Rotations are applied to the Schur vectors
+ * by splitting up the columns between threads and each eigenvector is computed in parallel.</p>
+ *
+ * @author Peter Abeles
+ */
+public class SingleShiftQRDecomposition_MT_ZDRM extends SingleShiftQRDecomposition_ZDRM {
+
+    public SingleShiftQRDecomposition_MT_ZDRM( boolean computeVectors ) {
+        super(computeVectors);
+    }
+
+    @Override
+    protected void applyRotations( GivensRotationSequence_ZDRM rotations, ZMatrixRMaj Z ) {
+        EjmlConcurrency.loopBlocks(0, Z.numCols, ( col0, col1 ) -> rotations.apply(Z, col0, col1));
+    }
+
+    @Override
+    protected void computeEigenvectors() {
+        EjmlConcurrency.loopFor(0, N, this::computeEigenvector);
+    }
+}
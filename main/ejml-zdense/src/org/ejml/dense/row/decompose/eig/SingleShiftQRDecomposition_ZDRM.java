@@ -0,0 +1,472 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decompose.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.Complex_F64;
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.CommonOps_ZDRM;
+import org.ejml.dense.row.decompose.GivensRotationSequence_ZDRM;
+import org.ejml.dense.row.decompose.hessenberg.HessenbergSimilarDecomposition_ZDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.ejml.ops.ComplexMath_F64;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Computes the eigenvalues and eigenvectors of a general square complex matrix. The matrix is first reduced
+ * to an upper Hessenberg matrix, A = Q*H*Q<sup>H</sup>. H is then reduced to upper triangular Schur form
+ * T = Z<sup>H</sup>*H*Z using single shift implicit QR steps with a Wilkinson shift. Since complex arithmetic is
+ * used there is no need for the double step used with real matrices. The eigenvalues are the diagonal elements of T.
+ * </p>
+ *
+ * <p>
+ * Eigenvectors are found by solving the upper triangular system (T - &lambda;I)x = 0 for each eigenvalue using
+ * back substitution, then multiplying the solution by Q*Z. The returned eigenvectors have a length of one.
+ * </p>
+ *
+ * <p>
+ * This implementation is based on the description in:<br>
+ * David S. Watkins, "Fundamentals of Matrix Computations," Second Edition. page 356-372
+ * </p>
+ *
+ * @author Peter Abeles
+ * @see HessenbergSimilarDecomposition_ZDRM
+ */
+@SuppressWarnings("NullAway.Init")
+public class SingleShiftQRDecomposition_ZDRM
+        implements EigenDecomposition_F64<ZMatrixRMaj> {
+
+    // computes a Hessenberg matrix whose eigenvalues are the same as the original
+    private final HessenbergSimilarDecomposition_ZDRM hessenberg = new HessenbergSimilarDecomposition_ZDRM();
+
+    // should it compute eigenvectors or just eigenvalues
+    private final boolean computeVectors;
+
+    // size of the matrix
+    protected int N;
+
+    // copy of the input matrix since the Hessenberg decomposition modifies it
+    private final ZMatrixRMaj A_mod = new ZMatrixRMaj(1, 1);
+    // Hessenberg matrix which is reduced to the upper triangular Schur form
+    protected ZMatrixRMaj T;
+    // unitary matrix from the Hessenberg decomposition
+    private ZMatrixRMaj Q;
+    // Schur vectors, conjugated and stored in rows
+    protected ZMatrixRMaj Zt;
+    // eigenvectors of T. The vector for each eigenvalue is stored in a row.
+    protected ZMatrixRMaj Xt = new ZMatrixRMaj(1, 1);
+
+    // found eigenvalues and eigenvectors
+    private Complex_F64[] eigenvalues = new Complex_F64[0];
+    protected ZMatrixRMaj[] eigenvectors = new ZMatrixRMaj[0];
+
+    // rotations which have yet to be applied to the Schur vectors
+    protected final GivensRotationSequence_ZDRM rotations = new GivensRotationSequence_ZDRM();
+
+    // maximum number of QR steps per eigenvalue
+    protected int maxIterations = 30;
+
+    // The magnitude of the smallest denominator allowed when solving for eigenvectors
+    protected double smallNum;
+
+    // storage for computing the shift
+    private final Complex_F64 a = new Complex_F64();
+    private final Complex_F64 b = new Complex_F64();
+    private final Complex_F64 c = new Complex_F64();
+    private final Complex_F64 p = new Complex_F64();
+    private final Complex_F64 q = new Complex_F64();
+    private final Complex_F64 tmp = new Complex_F64();
+    private final Complex_F64 shift = new Complex_F64();
+
+    public SingleShiftQRDecomposition_ZDRM( boolean computeVectors ) {
+        this.computeVectors = computeVectors;
+    }
+
+    /**
+     * Used to limit the number of internal QR iterations that the QR algorithm performs.
+     *
+     * @param max The maximum number of QR iterations it will perform for each eigenvalue.
+     */
+    public void setMaxIterations( int max ) {
+        this.maxIterations = max;
+    }
+
+    @Override
+    public int getNumberOfEigenvalues() {
+        return N;
+    }
+
+    @Override
+    public Complex_F64 getEigenvalue( int index ) {
+        return eigenvalues[index];
+    }
+
+    @Override
+    public @Nullable ZMatrixRMaj getEigenVector( int index ) {
+        if (!computeVectors)
+            return null;
+        return eigenvectors[index];
+    }
+
+    /**
+     * Returns the upper triangular matrix in the Schur decomposition.
+     */
+    public ZMatrixRMaj getT() {
+        return T;
+    }
+
+    @Override
+    public boolean decompose( ZMatrixRMaj orig ) {
+        if (orig.numCols != orig.numRows)
+            throw new IllegalArgumentException("Matrix must be square.");
+        if (orig.numCols <= 0)
+            return false;
+
+        N = orig.numRows;
+
+        // compute a similar Hessenberg matrix
+        A_mod.set(orig);
+        if (!hessenberg.decompose(A_mod))
+            return false;
+
+        // the storage is resized since its shape depends on the previous input
+        if (T != null)
+            T.reshape(N, N);
+        T = hessenberg.getH(T);
+        if (computeVectors) {
+            if (Q != null)
+                Q.reshape(N, N);
+            Q = hessenberg.getQ(Q);
+            Zt = UtilEjml.reshapeOrDeclare(Zt, N, N);
+            CommonOps_ZDRM.transposeConjugate(Q, Zt);
+        }
+
+        if (!schurQR())
+            return false;
+
+        if (eigenvalues.length < N) {
+            eigenvalues = new Complex_F64[N];
+            for (int i = 0; i < N; i++) {
+                eigenvalues[i] = new Complex_F64();
+            }
+        }
+        for (int i = 0; i < N; i++) {
+            eigenvalues[i].set(T.getReal(i, i), T.getImag(i, i));
+        }
+
+        if (computeVectors) {
+            declareEigenvectors();
+            computeEigenvectors();
+        }
+
+        return true;
+    }
+
+    /**
+     * Reduces the Hessenberg matrix to upper triangular Schur form.
+     *
+     * @return true if it converged
+     */
+    private boolean schurQR() {
+        rotations.reset();
+
+        double norm = 0;
+        for (int i = 0; i < N*N*2; i++) {
+            norm = Math.max(norm, Math.abs(T.data[i]));
+        }
+        if (norm == 0)
+            norm = 1;
+
+        int iterations = 0;
+        int stepsSinceDeflation = 0;
+        int hi = N - 1;
+        while (hi > 0) {
+            // find the start of the unreduced block
+            int lo = hi;
+            while (lo > 0) {
+                double s = mag1(lo - 1, lo - 1) + mag1(lo, lo);
+                if (s == 0)
+                    s = norm;
+                if (mag1(lo, lo - 1) <= UtilEjml.EPS*s) {
+                    T.set(lo, lo - 1, 0, 0);
+                    break;
+                }
+                lo--;
+            }
+
+            if (lo == hi) {
+                hi--;
+                stepsSinceDeflation = 0;
+                continue;
+            }
+
+            if (++iterations > maxIterations*N)
+                return false;
+
+            if (++stepsSinceDeflation%10 == 0) {
+                // exceptional shift in case it gets stuck
+                shift.real = T.getReal(hi, hi) + mag1(hi, hi - 1);
+                shift.imaginary = T.getImag(hi, hi);
+            } else {
+                computeWilkinsonShift(hi);
+            }
+
+            implicitStep(lo, hi);
+
+            // apply the rotations in large batches to reduce overhead
+            if (computeVectors && rotations.size() >= N)
+                flushRotations();
+        }
+        flushRotations();
+
+        return true;
+    }
+
+    private double mag1( int row, int col ) {
+        int index = (row*N + col)*2;
+        return Math.abs(T.data[index]) + Math.abs(T.data[index + 1]);
+    }
+
+    /**
+     * Selects the eigenvalue of the lower 2x2 block [a b; c d] which is closest to d.
+     */
+    private void computeWilkinsonShift( int hi ) {
+        T.get(hi - 1, hi - 1, a);
+        T.get(hi - 1, hi, b);
+        T.get(hi, hi - 1, c);
+        T.get(hi, hi, shift);
+
+        // p = (a-d)/2, q = sqrt(p^2 + b*c)
+        p.real = (a.real - shift.real)/2.0;
+        p.imaginary = (a.imaginary - shift.imaginary)/2.0;
+        ComplexMath_F64.multiply(b, c, b);
+        ComplexMath_F64.multiply(p, p, tmp);
+        ComplexMath_F64.plus(tmp, b, tmp);
+        ComplexMath_F64.sqrt(tmp, q);
+
+        // eigenvalue = d - b*c/(p+q), where the sign of q is selected to maximize |p+q|
+        if (p.real*q.real + p.imaginary*q.imaginary < 0) {
+            q.real = -q.real;
+            q.imaginary = -q.imaginary;
+        }
+        ComplexMath_F64.plus(p, q, p);
+        if (p.real != 0 || p.imaginary != 0) {
+            ComplexMath_F64.divide(b, p, tmp);
+            shift.real -= tmp.real;
+            shift.imaginary -= tmp.imaginary;
+        }
+    }
+
+    /**
+     * Performs an implicit single shift QR step on the block from lo to hi, inclusive.
+     */
+    private void implicitStep( int lo, int hi ) {
+        final double[] t = T.data;
+
+        // if only eigenvalues are needed then elements outside the active block can be ignored
+        final int row0 = computeVectors ? 0 : lo;
+        final int col1 = computeVectors ? N : hi + 1;
+
+        double realX = T.getReal(lo, lo) - shift.real;
+        double imagX = T.getImag(lo, lo) - shift.imaginary;
+        double realY = T.getReal(lo + 1, lo);
+        double imagY = T.getImag(lo + 1, lo);
+
+        for (int k = lo; k < hi; k++) {
+            if (k > lo) {
+                realX = T.getReal(k, k - 1);
+                imagX = T.getImag(k, k - 1);
+                realY = T.getReal(k + 1, k - 1);
+                imagY = T.getImag(k + 1, k - 1);
+            }
+
+            // Givens rotation G = [c s; -conj(s) c] which zeros y
+            double magX = Math.sqrt(realX*realX + imagX*imagX);
+            double magY = Math.sqrt(realY*realY + imagY*imagY);
+            double cs, realS, imagS;
+            if (magX == 0) {
+                cs = 0;
+                realS = 1;
+                imagS = 0;
+            } else {
+                double r = Math.sqrt(magX*magX + magY*magY);
+                cs = magX/r;
+                // s = (x/|x|)*conj(y)/r
+                realS = (realX*realY + imagX*imagY)/(magX*r);
+                imagS = (imagX*realY - realX*imagY)/(magX*r);
+            }
+
+            // T = G*T
+            int col0 = k > lo ? k - 1 : lo;
+            int indexA = (k*N + col0)*2;
+            int indexB = ((k + 1)*N + col0)*2;
+            for (int j = col0; j < col1; j++) {
+                double realA = t[indexA];
+                double imagA = t[indexA + 1];
+                double realB = t[indexB];
+                double imagB = t[indexB + 1];
+
+                t[indexA++] = cs*realA + realS*realB - imagS*imagB;
+                t[indexA++] = cs*imagA + realS*imagB + imagS*realB;
+                t[indexB++] = cs*realB - realS*realA - imagS*imagA;
+                t[indexB++] = cs*imagB - realS*imagA + imagS*realA;
+            }
+            if (k > lo)
+                T.set(k + 1, k - 1, 0, 0);
+
+            // T = T*G^H
+            int row1 = Math.min(k + 2, hi);
+            for (int i = row0; i <= row1; i++) {
+                int index = (i*N + k)*2;
+                double realA = t[index];
+                double imagA = t[index + 1];
+                double realB = t[index + 2];
+                double imagB = t[index + 3];
+
+                t[index] = cs*realA + realS*realB + imagS*imagB;
+                t[index + 1] = cs*imagA + realS*imagB - imagS*realB;
+                t[index + 2] = cs*realB - realS*realA + imagS*imagA;
+                t[index + 3] = cs*imagB - realS*imagA - imagS*realA;
+            }
+
+            if (computeVectors)
+                rotations.add(k, k + 1, cs, realS, imagS);
+        }
+    }
+
+    private void flushRotations() {
+        if (computeVectors && rotations.size() > 0)
+            applyRotations(rotations, Zt);
+        rotations.reset();
+    }
+
+    /**
+     * Applies the recorded rotations to the rows of the conjugated Schur vectors
+     */
+    protected void applyRotations( GivensRotationSequence_ZDRM rotations, ZMatrixRMaj Z ) {
+        rotations.apply(Z, 0, Z.numCols);
+    }
+
+    private void declareEigenvectors() {
+        Xt.reshape(N, N);
+        if (eigenvectors.length < N)
+            eigenvectors = new ZMatrixRMaj[N];
+        for (int i = 0; i < N; i++) {
+            if (eigenvectors[i] == null || eigenvectors[i].numRows != N)
+                eigenvectors[i] = new ZMatrixRMaj(N, 1);
+        }
+
+        double norm = 0;
+        for (int i = 0; i < N; i++) {
+            for (int j = i; j < N; j++) {
+                norm = Math.max(norm, mag1(i, j));
+            }
+        }
+        smallNum = Math.max(norm, UtilEjml.EPS)*UtilEjml.EPS;
+    }
+
+    /**
+     * Computes all the eigenvectors. Each eigenvector is independent of the others.
+     */
+    protected void computeEigenvectors() {
+        for (int k = 0; k < N; k++) {
+            computeEigenvector(k);
+        }
+    }
+
+    /**
+     * Solves (T - &lambda;<sub>k</sub>I)x = 0 using back substitution with x<sub>k</sub> = 1 and
+     * x<sub>j</sub> = 0 for j &gt; k, then computes the eigenvector Q*Z*x and normalizes it.
+     */
+    protected void computeEigenvector( int k ) {
+        final double[] t = T.data;
+        final double[] x = Xt.data;
+        final int rowX = k*N*2;
+
+        final double realL = t[(k*N + k)*2];
+        final double imagL = t[(k*N + k)*2 + 1];
+
+        x[rowX + k*2] = 1;
+        x[rowX + k*2 + 1] = 0;
+
+        for (int i = k - 1; i >= 0; i--) {
+            double realSum = 0, imagSum = 0;
+            int indexT = (i*N + i + 1)*2;
+            int indexX = rowX + (i + 1)*2;
+            for (int j = i + 1; j <= k; j++) {
+                double realT = t[indexT++];
+                double imagT = t[indexT++];
+                double realV = x[indexX++];
+                double imagV = x[indexX++];
+
+                realSum += realT*realV - imagT*imagV;
+                imagSum += realT*imagV + imagT*realV;
+            }
+
+            // avoid dividing by zero when eigenvalues are repeated
+            double realD = t[(i*N + i)*2] - realL;
+            double imagD = t[(i*N + i)*2 + 1] - imagL;
+            if (Math.abs(realD) + Math.abs(imagD) < smallNum) {
+                realD = smallNum;
+                imagD = 0;
+            }
+
+            // x_i = -sum/d
+            double mag2 = realD*realD + imagD*imagD;
+            x[rowX + i*2] = -(realSum*realD + imagSum*imagD)/mag2;
+            x[rowX + i*2 + 1] = -(imagSum*realD - realSum*imagD)/mag2;
+        }
+
+        // v = sum x_j * conj(row j of Zt)
+        final double[] zt = Zt.data;
+        final ZMatrixRMaj v = eigenvectors[k];
+        final double[] vd = v.data;
+        Arrays.fill(vd, 0, N*2, 0);
+
+        for (int j = 0; j <= k; j++) {
+            double realV = x[rowX + j*2];
+            double imagV = x[rowX + j*2 + 1];
+            int indexZ = j*N*2;
+            for (int i = 0; i < N*2; i += 2) {
+                double realZ = zt[indexZ + i];
+                double imagZ = -zt[indexZ + i + 1];
+
+                vd[i] += realV*realZ - imagV*imagZ;
+                vd[i + 1] += realV*imagZ + imagV*realZ;
+            }
+        }
+
+        double total = 0;
+        for (int i = 0; i < N*2; i++) {
+            total += vd[i]*vd[i];
+        }
+        total = Math.sqrt(total);
+        for (int i = 0; i < N*2; i++) {
+            vd[i] /= total;
+        }
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+}
@@ -149,7 +149,8 @@ public class HessenbergSimilarDecomposition_ZDRM
         Q = UtilDecompositons_ZDRM.checkIdentity(Q, N, N);
 
         Arrays.fill(u, 0, N*2, 0);
-        for (int j = N - 2; j >= 0; j--) {
+        // no reflector is computed for the last two columns
+        for (int j = N - 3; j >= 0; j--) {
             QrHelperFunctions_ZDRM.extractHouseholderColumn(QH, j + 1, N, j, u, 0);
             QrHelperFunctions_ZDRM.rank1UpdateMultR(Q, u, 0, gammas[j], j + 1, j + 1, N, b);
         }
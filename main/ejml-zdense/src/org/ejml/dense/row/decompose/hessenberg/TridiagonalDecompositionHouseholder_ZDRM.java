@@ -312,7 +312,7 @@ public class TridiagonalDecompositionHouseholder_ZDRM
         if (A.numCols != N) {
             N = A.numCols;
 
-            if (w.length < N) {
+            if (w.length < N*2) {
                 w = new double[N*2];
                 gammas = new double[N*2];
                 b = new double[N*2];
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decompose.qr;
+
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.ZMatrixRMaj;
+
+/**
+ * <p>
+ * Concurrent versions of the householder updates found in {@link QrHelperFunctions_ZDRM}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class QrHelperFunctions_MT_ZDRM {
+
+    /**
+     * Concurrent version of {@link QrHelperFunctions_ZDRM#rank1UpdateMultR}. The columns
+     * in A are split up between the threads.
+     */
+    public static void rank1UpdateMultR( ZMatrixRMaj A,
+                                         double[] u, int offsetU,
+                                         double gamma,
+                                         int colA0,
+                                         int w0, int w1,
+                                         double[] _temp ) {
+        EjmlConcurrency.loopBlocks(colA0, A.numCols, ( col0, col1 ) -> {
+            int indexU = (w0 + offsetU)*2;
+            double realU = u[indexU];
+            double imagU = -u[indexU + 1];
+
+            int indexA = (w0*A.numCols + col0)*2;
+            int indexTmp = col0*2;
+
+            for (int i = col0; i < col1; i++) {
+                double realA = A.data[indexA++];
+                double imagA = A.data[indexA++];
+
+                _temp[indexTmp++] = realU*realA - imagU*imagA;
+                _temp[indexTmp++] = realU*imagA + imagU*realA;
+            }
+
+            for (int k = w0 + 1; k < w1; k++) {
+                indexA = (k*A.numCols + col0)*2;
+                indexU = (k + offsetU)*2;
+                indexTmp = col0*2;
+
+                realU = u[indexU];
+                imagU = -u[indexU + 1];
+
+                for (int i = col0; i < col1; i++) {
+                    double realA = A.data[indexA++];
+                    double imagA = A.data[indexA++];
+
+                    _temp[indexTmp++] += realU*realA - imagU*imagA;
+                    _temp[indexTmp++] += realU*imagA + imagU*realA;
+                }
+            }
+
+            indexTmp = col0*2;
+            for (int i = col0; i < col1; i++) {
+                _temp[indexTmp++] *= gamma;
+                _temp[indexTmp++] *= gamma;
+            }
+
+            for (int i = w0; i < w1; i++) {
+                indexA = (i*A.numCols + col0)*2;
+                indexU = (i + offsetU)*2;
+                indexTmp = col0*2;
+
+                realU = u[indexU];
+                imagU = u[indexU + 1];
+
+                for (int j = col0; j < col1; j++) {
+                    double realTmp = _temp[indexTmp++];
+                    double imagTmp = _temp[indexTmp++];
+
+                    A.data[indexA++] -= realU*realTmp - imagU*imagTmp;
+                    A.data[indexA++] -= realU*imagTmp + imagU*realTmp;
+                }
+            }
+        });
+    }
+
+    /**
+     * Concurrent version of {@link QrHelperFunctions_ZDRM#rank1UpdateMultL}. The rows
+     * in A are split up between the threads.
+     */
+    public static void rank1UpdateMultL( ZMatrixRMaj A, double[] u, int offsetU,
+                                         double gammaR,
+                                         int colA0,
+                                         int w0, int w1 ) {
+        EjmlConcurrency.loopFor(colA0, A.numRows, i -> {
+            int startIndex = (i*A.numCols + w0)*2;
+            double realSum = 0, imagSum = 0;
+            int rowIndex = startIndex;
+            int indexU = (offsetU + w0)*2;
+            for (int j = w0; j < w1; j++) {
+                double realA = A.data[rowIndex++];
+                double imajA = A.data[rowIndex++];
+
+                double realU = u[indexU++];
+                double imajU = u[indexU++];
+
+                realSum += realA*realU - imajA*imajU;
+                imagSum += realA*imajU + imajA*realU;
+            }
+            double realTmp = -gammaR*realSum;
+            double imagTmp = -gammaR*imagSum;
+
+            rowIndex = startIndex;
+            indexU = (offsetU + w0)*2;
+            for (int j = w0; j < w1; j++) {
+                double realU = u[indexU++];
+                double imagU = -u[indexU++];
+
+                A.data[rowIndex++] += realTmp*realU - imagTmp*imagU;
+                A.data[rowIndex++] += realTmp*imagU + imagTmp*realU;
+            }
+        });
+    }
+}
@@ -0,0 +1,573 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decompose.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.CommonOps_ZDRM;
+import org.ejml.dense.row.decompose.GivensRotationSequence_ZDRM;
+import org.ejml.dense.row.decompose.bidiagonal.BidiagonalDecompositionRow_ZDRM;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Computes the Singular value decomposition of a complex matrix using the implicit QR algorithm
+ * for singular value decomposition. The matrix is first reduced to a complex bidiagonal matrix
+ * A=U*B*V<sup>H</sup>. Each row and column of B is then scaled by a unit complex number, which results in
+ * a real bidiagonal matrix with the same singular values. The singular values of the real bidiagonal matrix
+ * are found using implicitly shifted QR steps.
+ * </p>
+ *
+ * <p>
+ * The Givens rotations from each QR step are real and are recorded then applied to the rows of U<sup>H</sup>
+ * and V<sup>H</sup> in batches, see {@link #applyRotations}.
+ * </p>
+ *
+ * <p>
+ * Based off of the description provided in:<br>
+ * <br>
+ * David S. Watkins, "Fundamentals of Matrix Computations," Second Edition. Page 404-411
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public class SvdImplicitQrDecompose_ZDRM implements SingularValueDecomposition_F64<ZMatrixRMaj> {
+
+    protected int numRows;
+    protected int numCols;
+
+    // dimensions of transposed matrix
+    protected int numRowsT;
+    protected int numColsT;
+
+    protected BidiagonalDecompositionRow_ZDRM bidiag = new BidiagonalDecompositionRow_ZDRM();
+
+    // complex diagonal and off diagonal elements of the bidiagonal matrix
+    double[] cdiag;
+    double[] coff;
+    // real bidiagonal matrix which the QR algorithm is applied to
+    double[] diag;
+    double[] off;
+
+    private ZMatrixRMaj Ut;
+    private ZMatrixRMaj Vt;
+
+    private double[] singularValues;
+    private int numSingular;
+
+    // compute a compact SVD
+    protected boolean compact;
+    // What is actually computed
+    protected boolean computeU;
+    protected boolean computeV;
+
+    // What the user requested to be computed
+    // If the transpose is computed instead then what is actually computed is swapped
+    protected boolean prefComputeU;
+    protected boolean prefComputeV;
+
+    // Should it compute the transpose instead
+    protected boolean transposed;
+
+    // Either a copy of the input matrix or a copy of it transposed
+    private ZMatrixRMaj A_mod = new ZMatrixRMaj(1, 1);
+
+    // rotations which have yet to be applied to U and V
+    protected final GivensRotationSequence_ZDRM rotationsU = new GivensRotationSequence_ZDRM();
+    protected final GivensRotationSequence_ZDRM rotationsV = new GivensRotationSequence_ZDRM();
+
+    // maximum number of QR steps per singular value
+    protected int maxIterations = 30;
+
+    /**
+     * Configures the class
+     *
+     * @param compact Compute a compact SVD
+     * @param computeU If true it will compute the U matrix
+     * @param computeV If true it will compute the V matrix
+     */
+    public SvdImplicitQrDecompose_ZDRM( boolean compact, boolean computeU, boolean computeV ) {
+        this.compact = compact;
+        this.prefComputeU = computeU;
+        this.prefComputeV = computeV;
+    }
+
+    @Override
+    public double[] getSingularValues() {
+        return singularValues;
+    }
+
+    @Override
+    public int numberOfSingularValues() {
+        return numSingular;
+    }
+
+    @Override
+    public boolean isCompact() {
+        return compact;
+    }
+
+    @Override
+    public ZMatrixRMaj getU( @Nullable ZMatrixRMaj U, boolean transpose ) {
+        if (!prefComputeU)
+            throw new IllegalArgumentException("As requested U was not computed.");
+        if (transpose) {
+            if (U == null)
+                return Ut;
+            U.set(Ut);
+        } else {
+            U = UtilEjml.reshapeOrDeclare(U, Ut.numCols, Ut.numRows);
+            CommonOps_ZDRM.transposeConjugate(Ut, U);
+        }
+
+        return U;
+    }
+
+    @Override
+    public ZMatrixRMaj getV( @Nullable ZMatrixRMaj V, boolean transpose ) {
+        if (!prefComputeV)
+            throw new IllegalArgumentException("As requested V was not computed.");
+        if (transpose) {
+            if (V == null)
+                return Vt;
+            V.set(Vt);
+        } else {
+            V = UtilEjml.reshapeOrDeclare(V, Vt.numCols, Vt.numRows);
+            CommonOps_ZDRM.transposeConjugate(Vt, V);
+        }
+
+        return V;
+    }
+
+    @Override
+    public ZMatrixRMaj getW( @Nullable ZMatrixRMaj W ) {
+        int m = compact ? numSingular : numRows;
+        int n = compact ? numSingular : numCols;
+
+        if (W == null)
+            W = new ZMatrixRMaj(m, n);
+        else {
+            W.reshape(m, n);
+            W.zero();
+        }
+
+        for (int i = 0; i < numSingular; i++) {
+            W.set(i, i, singularValues[i], 0);
+        }
+
+        return W;
+    }
+
+    @Override
+    public boolean decompose( ZMatrixRMaj orig ) {
+        if (!setup(orig))
+            return false;
+
+        if (bidiagonalization(orig))
+            return false;
+
+        if (computeUWV())
+            return false;
+
+        // make sure all the singular values or positive
+        makeSingularPositive();
+
+        // if transposed undo the transposition
+        undoTranspose();
+
+        return true;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+
+    private boolean setup( ZMatrixRMaj orig ) {
+        transposed = orig.numCols > orig.numRows;
+
+        // flag what should be computed and what should not be computed
+        if (transposed) {
+            computeU = prefComputeV;
+            computeV = prefComputeU;
+            numRowsT = orig.numCols;
+            numColsT = orig.numRows;
+        } else {
+            computeU = prefComputeU;
+            computeV = prefComputeV;
+            numRowsT = orig.numRows;
+            numColsT = orig.numCols;
+        }
+
+        numRows = orig.numRows;
+        numCols = orig.numCols;
+
+        if (numRows == 0 || numCols == 0)
+            return false;
+
+        if (diag == null || diag.length < numColsT) {
+            diag = new double[numColsT];
+            off = new double[numColsT];
+            cdiag = new double[numColsT*2];
+            coff = new double[numColsT*2];
+        }
+
+        return true;
+    }
+
+    private boolean bidiagonalization( ZMatrixRMaj orig ) {
+        // change the matrix to bidiagonal form
+        if (transposed) {
+            A_mod.reshape(orig.numCols, orig.numRows);
+            CommonOps_ZDRM.transposeConjugate(orig, A_mod);
+        } else {
+            A_mod.reshape(orig.numRows, orig.numCols);
+            A_mod.set(orig);
+        }
+        return !bidiag.decompose(A_mod);
+    }
+
+    /**
+     * If the transpose was computed instead do some additional computations
+     */
+    private void undoTranspose() {
+        if (transposed) {
+            ZMatrixRMaj temp = Vt;
+            Vt = Ut;
+            Ut = temp;
+        }
+    }
+
+    /**
+     * Compute singular values and U and V at the same time
+     */
+    private boolean computeUWV() {
+        bidiag.getDiagonal(cdiag, coff);
+
+        // compute U and V matrices. The storage is resized since its shape depends on the previous input
+        if (computeU) {
+            if (Ut != null)
+                Ut.reshape(compact ? numColsT : numRowsT, numRowsT);
+            Ut = bidiag.getU(Ut, true, compact);
+        }
+        if (computeV) {
+            if (Vt != null)
+                Vt.reshape(numColsT, numColsT);
+            Vt = bidiag.getV(Vt, true, compact);
+        }
+
+        makeBidiagonalReal();
+
+        return !bidiagonalQR();
+    }
+
+    /**
+     * Finds unit complex numbers l<sub>i</sub> and r<sub>i</sub> such that conj(l<sub>i</sub>)*B(i,j)*r<sub>j</sub>
+     * is real and non-negative. U and V are then multiplied by the diagonal matrices L and R so that the
+     * decomposition is still valid.
+     */
+    private void makeBidiagonalReal() {
+        final int n = numColsT;
+
+        // r_0 = 1
+        double realR = 1, imagR = 0;
+
+        for (int i = 0; i < n; i++) {
+            double realD = cdiag[i*2];
+            double imagD = cdiag[i*2 + 1];
+            double mag = Math.sqrt(realD*realD + imagD*imagD);
+
+            // l_i = d_i*r_i/|d_i|
+            double realL, imagL;
+            if (mag == 0) {
+                realL = realR;
+                imagL = imagR;
+            } else {
+                realL = (realD*realR - imagD*imagR)/mag;
+                imagL = (realD*imagR + imagD*realR)/mag;
+            }
+            diag[i] = mag;
+
+            if (computeU)
+                scaleRowConjugate(Ut, i, realL, imagL);
+            if (computeV)
+                scaleRowConjugate(Vt, i, realR, imagR);
+
+            if (i + 1 < n) {
+                double realE = coff[i*2];
+                double imagE = coff[i*2 + 1];
+                mag = Math.sqrt(realE*realE + imagE*imagE);
+
+                // r_(i+1) = l_i*conj(e_i)/|e_i|
+                if (mag == 0) {
+                    realR = realL;
+                    imagR = imagL;
+                } else {
+                    realR = (realL*realE + imagL*imagE)/mag;
+                    imagR = (imagL*realE - realL*imagE)/mag;
+                }
+                off[i] = mag;
+            }
+        }
+    }
+
+    /**
+     * Multiplies a row in the matrix by the conjugate of a complex number
+     */
+    private static void scaleRowConjugate( ZMatrixRMaj A, int row, double real, double imag ) {
+        int index = row*A.numCols*2;
+        int end = index + A.numCols*2;
+        for (; index < end; index += 2) {
+            double r = A.data[index];
+            double i = A.data[index + 1];
+            A.data[index] = r*real + i*imag;
+            A.data[index + 1] = i*real - r*imag;
+        }
+    }
+
+    /**
+     * Finds the singular values of the real bidiagonal matrix using implicitly shifted QR steps
+     * with deflation.
+     *
+     * @return true if it converged
+     */
+    private boolean bidiagonalQR() {
+        final int n = numColsT;
+
+        rotationsU.reset();
+        rotationsV.reset();
+
+        // scale the matrix to avoid overflow and underflow
+        double scale = 0;
+        for (int i = 0; i < n; i++) {
+            scale = Math.max(scale, Math.abs(diag[i]));
+            if (i + 1 < n)
+                scale = Math.max(scale, Math.abs(off[i]));
+        }
+        if (scale == 0)
+            scale = 1;
+        for (int i = 0; i < n; i++) {
+            diag[i] /= scale;
+            off[i] /= scale;
+        }
+
+        int iterations = 0;
+        int hi = n - 1;
+        while (hi > 0) {
+            if (isNegligible(hi - 1)) {
+                off[hi - 1] = 0;
+                hi--;
+                continue;
+            }
+
+            // find the start of the unreduced block
+            int lo = hi - 1;
+            while (lo > 0 && !isNegligible(lo - 1))
+                lo--;
+            if (lo > 0)
+                off[lo - 1] = 0;
+
+            if (++iterations > maxIterations*n)
+                return false;
+
+            if (!zeroDiagonal(lo, hi))
+                shiftedStep(lo, hi);
+
+            // apply the rotations in large batches to reduce overhead
+            if (rotationsU.size() >= n || rotationsV.size() >= n)
+                flushRotations();
+        }
+        flushRotations();
+
+        for (int i = 0; i < n; i++) {
+            diag[i] *= scale;
+        }
+
+        return true;
+    }
+
+    private boolean isNegligible( int i ) {
+        return Math.abs(off[i]) <= UtilEjml.EPS*(Math.abs(diag[i]) + Math.abs(diag[i + 1]));
+    }
+
+    /**
+     * If an element along the diagonal is zero then the off diagonal element in the same row or column
+     * is chased out of the matrix using Givens rotations, splitting the problem.
+     *
+     * @return true if a zero was found
+     */
+    private boolean zeroDiagonal( int lo, int hi ) {
+        for (int i = lo; i <= hi; i++) {
+            if (Math.abs(diag[i]) > UtilEjml.EPS)
+                continue;
+            diag[i] = 0;
+
+            if (i < hi) {
+                // rotate rows i and j to zero the element in row i
+                double f = off[i];
+                off[i] = 0;
+                for (int j = i + 1; j <= hi; j++) {
+                    double r = Math.sqrt(diag[j]*diag[j] + f*f);
+                    double c = r == 0 ? 1 : diag[j]/r;
+                    double s = r == 0 ? 0 : f/r;
+                    diag[j] = r;
+                    if (j < hi) {
+                        f = -s*off[j];
+                        off[j] = c*off[j];
+                    }
+                    if (computeU)
+                        rotationsU.add(j, i, c, s);
+                }
+            } else {
+                // rotate columns j and hi to zero the element in column hi
+                double f = off[hi - 1];
+                off[hi - 1] = 0;
+                for (int j = hi - 1; j >= lo; j--) {
+                    double r = Math.sqrt(diag[j]*diag[j] + f*f);
+                    double c = r == 0 ? 1 : diag[j]/r;
+                    double s = r == 0 ? 0 : f/r;
+                    diag[j] = r;
+                    if (j > lo) {
+                        f = -s*off[j - 1];
+                        off[j - 1] = c*off[j - 1];
+                    }
+                    if (computeV)
+                        rotationsV.add(j, hi, c, s);
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Performs an implicit QR step using a Wilkinson shift on the block from lo to hi, inclusive. The shift
+     * is computed from the lower 2x2 block in B<sup>T</sup>B.
+     */
+    private void shiftedStep( int lo, int hi ) {
+        double a = diag[hi - 1];
+        double b = off[hi - 1];
+        double p = hi - 1 > lo ? off[hi - 2] : 0;
+        double t11 = a*a + p*p;
+        double t12 = a*b;
+        double t22 = b*b + diag[hi]*diag[hi];
+
+        double delta = (t11 - t22)/2.0;
+        double root = Math.sqrt(delta*delta + t12*t12);
+        double denom = delta >= 0 ? delta + root : delta - root;
+        double mu = denom == 0 ? t22 : t22 - t12*t12/denom;
+
+        double f = diag[lo]*diag[lo] - mu;
+        double g = diag[lo]*off[lo];
+
+        for (int k = lo; k < hi; k++) {
+            // rotation on the right which zeros g
+            double r = Math.sqrt(f*f + g*g);
+            double c = r == 0 ? 1 : f/r;
+            double s = r == 0 ? 0 : g/r;
+            if (k > lo)
+                off[k - 1] = r;
+            f = c*diag[k] + s*off[k];
+            off[k] = c*off[k] - s*diag[k];
+            g = s*diag[k + 1];
+            diag[k + 1] = c*diag[k + 1];
+            if (computeV)
+                rotationsV.add(k, k + 1, c, s);
+
+            // rotation on the left which zeros the bulge below the diagonal
+            r = Math.sqrt(f*f + g*g);
+            c = r == 0 ? 1 : f/r;
+            s = r == 0 ? 0 : g/r;
+            diag[k] = r;
+            f = c*off[k] + s*diag[k + 1];
+            diag[k + 1] = c*diag[k + 1] - s*off[k];
+            if (k < hi - 1) {
+                g = s*off[k + 1];
+                off[k + 1] = c*off[k + 1];
+            }
+            if (computeU)
+                rotationsU.add(k, k + 1, c, s);
+        }
+        off[hi - 1] = f;
+    }
+
+    private void flushRotations() {
+        if (computeU && rotationsU.size() > 0)
+            applyRotations(rotationsU, Ut);
+        if (computeV && rotationsV.size() > 0)
+            applyRotations(rotationsV, Vt);
+        rotationsU.reset();
+        rotationsV.reset();
+    }
+
+    /**
+     * Applies the recorded rotations to the rows of U<sup>H</sup> or V<sup>H</sup>
+     */
+    protected void applyRotations( GivensRotationSequence_ZDRM rotations, ZMatrixRMaj Z ) {
+        rotations.apply(Z, 0, Z.numCols);
+    }
+
+    /**
+     * With the QR algorithm it is possible for the found singular values to be negative. This
+     * makes them all positive by multiplying U by a diagonal matrix that has -1 where the
+     * singular value is negative.
+     */
+    private void makeSingularPositive() {
+        numSingular = numColsT;
+        if (singularValues == null || singularValues.length < numSingular)
+            singularValues = new double[numSingular];
+
+        for (int i = 0; i < numSingular; i++) {
+            double val = diag[i];
+
+            if (val < 0) {
+                singularValues[i] = 0.0 - val;
+
+                if (computeU) {
+                    // compute the results of multiplying it by an element of -1 at this location in
+                    // a diagonal matrix.
+                    int start = i*Ut.numCols*2;
+                    int stop = start + Ut.numCols*2;
+
+                    for (int j = start; j < stop; j++) {
+                        Ut.data[j] = 0.0 - Ut.data[j];
+                    }
+                }
+            } else {
+                singularValues[i] = val;
+            }
+        }
+    }
+
+    public void setMaxIterations( int maxIterations ) {
+        this.maxIterations = maxIterations;
+    }
+
+    @Override
+    public int numRows() {
+        return numRows;
+    }
+
+    @Override
+    public int numCols() {
+        return numCols;
+    }
+}
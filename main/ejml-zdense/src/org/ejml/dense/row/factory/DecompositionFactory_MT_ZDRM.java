@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.factory;
+
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.decompose.eig.HermitianQRAlgorithmDecomposition_MT_ZDRM;
+import org.ejml.dense.row.decompose.eig.SingleShiftQRDecomposition_MT_ZDRM;
+import org.ejml.dense.row.decompose.svd.SvdImplicitQrDecompose_MT_ZDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+
+/**
+ * <p>
+ * Contains concurrent implementations of different complex decompositions.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DecompositionFactory_MT_ZDRM {
+
+    /**
+     * <p>
+     * Returns a {@link SingularValueDecomposition} that has been optimized for the specified matrix size.
+     * For improved performance only the portion of the decomposition that the user requests will be computed.
+     * </p>
+     *
+     * @param numRows Number of rows the returned decomposition is optimized for.
+     * @param numCols Number of columns that the returned decomposition is optimized for.
+     * @param needU Should it compute the U matrix. If not sure set to true.
+     * @param needV Should it compute the V matrix. If not sure set to true.
+     * @param compact Should it compute the SVD in compact form. If not sure set to false.
+     * @return SVD
+     */
+    public static SingularValueDecomposition_F64<ZMatrixRMaj> svd( int numRows, int numCols,
+                                                                   boolean needU, boolean needV, boolean compact ) {
+        return new SvdImplicitQrDecompose_MT_ZDRM(compact, needU, needV);
+    }
+
+    /**
+     * Returns a {@link SingularValueDecomposition} that is NOT optimized for any specified matrix size.
+     *
+     * @param needU Should it compute the U matrix. If not sure set to true.
+     * @param needV Should it compute the V matrix. If not sure set to true.
+     * @param compact Should it compute the SVD in compact form. If not sure set to false.
+     * @return SVD
+     */
+    public static SingularValueDecomposition_F64<ZMatrixRMaj> svd( boolean needU, boolean needV, boolean compact ) {
+        return svd(100, 100, needU, needV, compact);
+    }
+
+    /**
+     * <p>
+     * Returns an {@link EigenDecomposition} which can decompose any square complex matrix.
+     * </p>
+     *
+     * @param matrixSize Number of rows and columns that the returned decomposition is optimized for.
+     * @param needVectors Should eigenvectors be computed or not. If not sure set to true.
+     * @return A new EigenDecomposition
+     */
+    public static EigenDecomposition_F64<ZMatrixRMaj> eig( int matrixSize, boolean needVectors ) {
+        return eig(matrixSize, needVectors, false);
+    }
+
+    /**
+     * <p>
+     * Returns an {@link EigenDecomposition} which is specialized for Hermitian matrices or the general problem.
+     * </p>
+     *
+     * @param matrixSize Number of rows and columns that the returned decomposition is optimized for.
+     * @param computeVectors Should it compute the eigenvectors or just eigenvalues.
+     * @param isHermitian If true then the returned algorithm is specialized only for Hermitian matrices, if false
+     * then a general purpose algorithm is returned.
+     * @return EVD for any matrix.
+     */
+    public static EigenDecomposition_F64<ZMatrixRMaj> eig( int matrixSize, boolean computeVectors,
+                                                           boolean isHermitian ) {
+        if (isHermitian) {
+            return new HermitianQRAlgorithmDecomposition_MT_ZDRM(computeVectors);
+        } else {
+            return new SingleShiftQRDecomposition_MT_ZDRM(computeVectors);
+        }
+    }
+}
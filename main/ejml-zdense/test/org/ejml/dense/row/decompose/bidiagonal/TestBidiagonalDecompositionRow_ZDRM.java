@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decompose.bidiagonal;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.CommonOps_ZDRM;
+import org.ejml.dense.row.MatrixFeatures_ZDRM;
+import org.ejml.dense.row.RandomMatrices_ZDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.ejml.dense.row.decompose.CheckDecompositionInterface_ZDRM.safeDecomposition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestBidiagonalDecompositionRow_ZDRM {
+    Random rand = new Random(0xff);
+
+    /**
+     * Reconstructs the original matrix using the full decomposition
+     */
+    @Test
+    public void testFull() {
+        for (int numRows = 1; numRows <= 8; numRows += 2) {
+            for (int numCols = 1; numCols <= 8; numCols += 2) {
+                checkFull(new BidiagonalDecompositionRow_ZDRM(), RandomMatrices_ZDRM.rectangle(numRows, numCols, -1, 1, rand));
+            }
+        }
+    }
+
+    /**
+     * Reconstructs the original matrix using the compact decomposition
+     */
+    @Test
+    public void testCompact() {
+        var alg = new BidiagonalDecompositionRow_ZDRM();
+        for (int numRows = 2; numRows <= 8; numRows += 3) {
+            for (int numCols = 2; numCols <= 8; numCols += 3) {
+                ZMatrixRMaj A = RandomMatrices_ZDRM.rectangle(numRows, numCols, -1, 1, rand);
+                assertTrue(safeDecomposition(alg, A));
+
+                ZMatrixRMaj U = alg.getU(null, false, true);
+                ZMatrixRMaj B = alg.getB(null, true);
+                ZMatrixRMaj V = alg.getV(null, false, true);
+
+                ZMatrixRMaj UB = new ZMatrixRMaj(U.numRows, B.numCols);
+                ZMatrixRMaj found = new ZMatrixRMaj(A.numRows, A.numCols);
+                CommonOps_ZDRM.mult(U, B, UB);
+                CommonOps_ZDRM.multTransB(UB, V, found);
+
+                assertTrue(MatrixFeatures_ZDRM.isIdentical(A, found, UtilEjml.TEST_F64));
+
+                // transposed should be the conjugate transpose
+                ZMatrixRMaj Ut = alg.getU(null, true, true);
+                ZMatrixRMaj Vt = alg.getV(null, true, true);
+                assertTrue(MatrixFeatures_ZDRM.isIdentical(Ut, CommonOps_ZDRM.transposeConjugate(U, null), UtilEjml.TEST_F64));
+                assertTrue(MatrixFeatures_ZDRM.isIdentical(Vt, CommonOps_ZDRM.transposeConjugate(V, null), UtilEjml.TEST_F64));
+            }
+        }
+    }
+
+    /**
+     * Sees if getDiagonal() returns the same elements as getB()
+     */
+    @Test
+    public void testGetDiagonal() {
+        for (int[] shape : new int[][]{{6, 4}, {4, 6}, {5, 5}}) {
+            var alg = new BidiagonalDecompositionRow_ZDRM();
+            assertTrue(safeDecomposition(alg, RandomMatrices_ZDRM.rectangle(shape[0], shape[1], -1, 1, rand)));
+
+            int min = Math.min(shape[0], shape[1]);
+            double[] diag = new double[min*2];
+            double[] off = new double[min*2];
+            alg.getDiagonal(diag, off);
+
+            ZMatrixRMaj B = alg.getB(null, false);
+            for (int i = 0; i < min; i++) {
+                assertEquals(B.getReal(i, i), diag[i*2], UtilEjml.TEST_F64);
+                assertEquals(B.getImag(i, i), diag[i*2 + 1], UtilEjml.TEST_F64);
+                if (i + 1 < shape[1]) {
+                    assertEquals(B.getReal(i, i + 1), off[i*2], UtilEjml.TEST_F64);
+                    assertEquals(B.getImag(i, i + 1), off[i*2 + 1], UtilEjml.TEST_F64);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrent() {
+        ZMatrixRMaj A = RandomMatrices_ZDRM.rectangle(20, 15, -1, 1, rand);
+
+        var single = new BidiagonalDecompositionRow_ZDRM();
+        var concurrent = new BidiagonalDecompositionRow_MT_ZDRM();
+        assertTrue(safeDecomposition(single, A));
+        assertTrue(safeDecomposition(concurrent, A));
+
+        assertTrue(MatrixFeatures_ZDRM.isIdentical(single.getB(null, false), concurrent.getB(null, false), UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_ZDRM.isIdentical(single.getU(null, false, false), concurrent.getU(null, false, false), UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_ZDRM.isIdentical(single.getV(null, true, false), concurrent.getV(null, true, false), UtilEjml.TEST_F64));
+
+        checkFull(concurrent, A);
+    }
+
+    private void checkFull( BidiagonalDecompositionRow_ZDRM alg, ZMatrixRMaj A ) {
+        assertTrue(safeDecomposition(alg, A));
+
+        ZMatrixRMaj U = alg.getU(null, false, false);
+        ZMatrixRMaj B = alg.getB(null, false);
+        ZMatrixRMaj V = alg.getV(null, false, false);
+
+        assertTrue(MatrixFeatures_ZDRM.isUnitary(U, UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_ZDRM.isUnitary(V, UtilEjml.TEST_F64));
+
+        // B should be upper bidiagonal
+        for (int i = 0; i < B.numRows; i++) {
+            for (int j = 0; j < B.numCols; j++) {
+                if (j == i || j == i + 1)
+                    continue;
+                assertEquals(0, B.getReal(i, j), UtilEjml.TEST_F64);
+                assertEquals(0, B.getImag(i, j), UtilEjml.TEST_F64);
+            }
+        }
+
+        ZMatrixRMaj UB = new ZMatrixRMaj(A.numRows, A.numCols);
+        ZMatrixRMaj found = new ZMatrixRMaj(A.numRows, A.numCols);
+        CommonOps_ZDRM.mult(U, B, UB);
+        CommonOps_ZDRM.multTransB(UB, V, found);
+
+        assertTrue(MatrixFeatures_ZDRM.isIdentical(A, found, UtilEjml.TEST_F64));
+    }
+}
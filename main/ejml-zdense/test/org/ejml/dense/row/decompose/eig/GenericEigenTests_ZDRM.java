@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decompose.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.Complex_F64;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.CommonOps_ZDRM;
+import org.ejml.dense.row.NormOps_ZDRM;
+import org.ejml.dense.row.RandomMatrices_ZDRM;
+import org.ejml.dense.row.decompose.CheckDecompositionInterface_ZDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Standard tests for complex eigen decompositions
+ *
+ * @author Peter Abeles
+ */
+public abstract class GenericEigenTests_ZDRM {
+    Random rand = new Random(0x3478);
+
+    // if true then only Hermitian matrices can be decomposed
+    boolean hermitianOnly;
+
+    protected GenericEigenTests_ZDRM( boolean hermitianOnly ) {
+        this.hermitianOnly = hermitianOnly;
+    }
+
+    public abstract EigenDecomposition_F64<ZMatrixRMaj> createEig( boolean computeVectors );
+
+    @Test
+    public void checkModifyInput() {
+        CheckDecompositionInterface_ZDRM.checkModifiedInput(createEig(true));
+    }
+
+    /**
+     * See if A*v = lambda*v for each eigen pair in random matrices of different sizes
+     */
+    @Test
+    public void checkRandom() {
+        for (int size = 1; size <= 12; size++) {
+            checkEigenPairs(createEig(true), createMatrix(size));
+        }
+    }
+
+    /**
+     * Decompose matrices of different sizes with the same instance
+     */
+    @Test
+    public void checkReuse() {
+        EigenDecomposition_F64<ZMatrixRMaj> alg = createEig(true);
+        checkEigenPairs(alg, createMatrix(6));
+        checkEigenPairs(alg, createMatrix(11));
+        checkEigenPairs(alg, createMatrix(3));
+    }
+
+    /**
+     * Repeated eigenvalues
+     */
+    @Test
+    public void checkIdentity() {
+        ZMatrixRMaj A = CommonOps_ZDRM.identity(5);
+        CommonOps_ZDRM.elementMultiply(A, 2.5, 0, A);
+
+        EigenDecomposition_F64<ZMatrixRMaj> alg = createEig(true);
+        checkEigenPairs(alg, A);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(2.5, alg.getEigenvalue(i).real, UtilEjml.TEST_F64);
+            assertEquals(0, alg.getEigenvalue(i).imaginary, UtilEjml.TEST_F64);
+        }
+    }
+
+    @Test
+    public void checkZeroMatrix() {
+        ZMatrixRMaj A = new ZMatrixRMaj(4, 4);
+
+        EigenDecomposition_F64<ZMatrixRMaj> alg = createEig(true);
+        checkEigenPairs(alg, A);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, alg.getEigenvalue(i).getMagnitude(), UtilEjml.TEST_F64);
+        }
+    }
+
+    /**
+     * The same eigenvalues should be found when eigenvectors are not computed
+     */
+    @Test
+    public void checkOnlyValues() {
+        ZMatrixRMaj A = createMatrix(9);
+
+        EigenDecomposition_F64<ZMatrixRMaj> full = createEig(true);
+        EigenDecomposition_F64<ZMatrixRMaj> values = createEig(false);
+        assertTrue(full.decompose(A));
+        assertTrue(values.decompose(A));
+        assertNull(values.getEigenVector(0));
+
+        compareValues(sorted(full), sorted(values));
+    }
+
+    /**
+     * A real symmetric matrix should have the same eigenvalues as found by the real decomposition
+     */
+    @Test
+    public void compareToRealSymmetric() {
+        DMatrixRMaj A_real = new DMatrixRMaj(8, 8);
+        for (int i = 0; i < 8; i++) {
+            for (int j = i; j < 8; j++) {
+                double value = rand.nextDouble() - 0.5;
+                A_real.set(i, j, value);
+                A_real.set(j, i, value);
+            }
+        }
+        ZMatrixRMaj A = new ZMatrixRMaj(8, 8);
+        for (int i = 0; i < A_real.getNumElements(); i++) {
+            A.data[i*2] = A_real.data[i];
+        }
+
+        EigenDecomposition_F64<ZMatrixRMaj> alg = createEig(true);
+        checkEigenPairs(alg, A);
+        var real = DecompositionFactory_DDRM.eig(8, false, true);
+        assertTrue(real.decompose(A_real));
+
+        List<Complex_F64> expected = new ArrayList<>();
+        for (int i = 0; i < real.getNumberOfEigenvalues(); i++) {
+            expected.add(real.getEigenvalue(i));
+        }
+        expected.sort(ORDER);
+
+        compareValues(expected, sorted(alg));
+    }
+
+    protected ZMatrixRMaj createMatrix( int size ) {
+        if (hermitianOnly)
+            return RandomMatrices_ZDRM.hermitian(size, -1, 1, rand);
+        else
+            return RandomMatrices_ZDRM.rectangle(size, size, -1, 1, rand);
+    }
+
+    protected void checkEigenPairs( EigenDecomposition_F64<ZMatrixRMaj> alg, ZMatrixRMaj A ) {
+        assertTrue(alg.decompose(A));
+        assertEquals(A.numRows, alg.getNumberOfEigenvalues());
+
+        ZMatrixRMaj Av = new ZMatrixRMaj(A.numRows, 1);
+        ZMatrixRMaj lv = new ZMatrixRMaj(A.numRows, 1);
+
+        for (int i = 0; i < A.numRows; i++) {
+            Complex_F64 value = alg.getEigenvalue(i);
+            ZMatrixRMaj v = alg.getEigenVector(i);
+
+            assertEquals(1.0, NormOps_ZDRM.normF(v), UtilEjml.TEST_F64);
+
+            CommonOps_ZDRM.mult(A, v, Av);
+            CommonOps_ZDRM.elementMultiply(v, value.real, value.imaginary, lv);
+
+            for (int j = 0; j < A.numRows*2; j++) {
+                assertEquals(lv.data[j], Av.data[j], UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    protected static final Comparator<Complex_F64> ORDER = ( a, b ) -> {
+        if (Math.abs(a.real - b.real) > UtilEjml.TEST_F64)
+            return Double.compare(a.real, b.real);
+        return Double.compare(a.imaginary, b.imaginary);
+    };
+
+    protected static List<Complex_F64> sorted( EigenDecomposition_F64<ZMatrixRMaj> alg ) {
+        List<Complex_F64> values = new ArrayList<>();
+        for (int i = 0; i < alg.getNumberOfEigenvalues(); i++) {
+            Complex_F64 value = alg.getEigenvalue(i);
+            values.add(new Complex_F64(value.real, value.imaginary));
+        }
+        values.sort(ORDER);
+        return values;
+    }
+
+    protected static void compareValues( List<Complex_F64> expected, List<Complex_F64> found ) {
+        assertEquals(expected.size(), found.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).real, found.get(i).real, UtilEjml.TEST_F64);
+            assertEquals(expected.get(i).imaginary, found.get(i).imaginary, UtilEjml.TEST_F64);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.dense.row.decompose.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.CommonOps_ZDRM;
+import org.ejml.dense.row.MatrixFeatures_ZDRM;
+import org.ejml.dense.row.RandomMatrices_ZDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestHermitianQRAlgorithmDecomposition_ZDRM extends GenericEigenTests_ZDRM {
+    public TestHermitianQRAlgorithmDecomposition_ZDRM() {
+        super(true);
+    }
+
+    @Override
+    public EigenDecomposition_F64<ZMatrixRMaj> createEig( boolean computeVectors ) {
+        return new HermitianQRAlgorithmDecomposition_ZDRM(computeVectors);
+    }
+
+    /**
+     * Eigenvalues of a Hermitian matrix are real and the eigenvectors are orthonormal
+     */
+    @Test
+    public void realValuesAndUnitaryVectors() {
+        int N = 10;
+        ZMatrixRMaj A = RandomMatrices_ZDRM.hermitian(N, -1, 1, rand);
+
+        EigenDecomposition_F64<ZMatrixRMaj> alg = createEig(true);
+        assertTrue(alg.decompose(A));
+
+        ZMatrixRMaj V = new ZMatrixRMaj(N, N);
+        for (int i = 0; i < N; i++) {
+            assertEquals(0, alg.getEigenvalue(i).imaginary);
+            CommonOps_ZDRM.extract(alg.getEigenVector(i), 0, N, 0, 1, V, 0, i);
+        }
+        assertTrue(MatrixFeatures_ZDRM.isUnitary(V, UtilEjml.TEST_F64));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.dense.row.decompose.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_ZDRM;
+import org.ejml.dense.row.RandomMatrices_ZDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestSingleShiftQRDecomposition_MT_ZDRM extends GenericEigenTests_ZDRM {
+    public TestSingleShiftQRDecomposition_MT_ZDRM() {
+        super(false);
+    }
+
+    @Override
+    public EigenDecomposition_F64<ZMatrixRMaj> createEig( boolean computeVectors ) {
+        return new SingleShiftQRDecomposition_MT_ZDRM(computeVectors);
+    }
+
+    /**
+     * Should produce the same results as the single threaded version
+     */
+    @Test
+    public void compareToSingle() {
+        ZMatrixRMaj A = RandomMatrices_ZDRM.rectangle(40, 40, -1, 1, rand);
+
+        var single = new SingleShiftQRDecomposition_ZDRM(true);
+        var concurrent = new SingleShiftQRDecomposition_MT_ZDRM(true);
+
+        assertTrue(single.decompose(A));
+        assertTrue(concurrent.decompose(A));
+
+        for (int i = 0; i < A.numRows; i++) {
+            assertEquals(single.getEigenvalue(i).real, concurrent.getEigenvalue(i).real, UtilEjml.TEST_F64);
+            assertEquals(single.getEigenvalue(i).imaginary, concurrent.getEigenvalue(i).imaginary, UtilEjml.TEST_F64);
+            assertTrue(MatrixFeatures_ZDRM.isIdentical(single.getEigenVector(i), concurrent.getEigenVector(i), UtilEjml.TEST_F64));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.dense.row.decompose.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.Complex_F64;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_ZDRM;
+import org.ejml.dense.row.RandomMatrices_ZDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestSingleShiftQRDecomposition_ZDRM extends GenericEigenTests_ZDRM {
+    public TestSingleShiftQRDecomposition_ZDRM() {
+        super(false);
+    }
+
+    @Override
+    public EigenDecomposition_F64<ZMatrixRMaj> createEig( boolean computeVectors ) {
+        return new SingleShiftQRDecomposition_ZDRM(computeVectors);
+    }
+
+    /**
+     * The eigenvalues of a triangular matrix are its diagonal elements
+     */
+    @Test
+    public void checkTriangular() {
+        int N = 7;
+        ZMatrixRMaj A = RandomMatrices_ZDRM.rectangle(N, N, -1, 1, rand);
+        for (int i = 0; i < N; i++) {
+            for (int j = 0; j < i; j++) {
+                A.set(i, j, 0, 0);
+            }
+        }
+
+        EigenDecomposition_F64<ZMatrixRMaj> alg = createEig(true);
+        checkEigenPairs(alg, A);
+
+        List<Complex_F64> expected = new ArrayList<>();
+        for (int i = 0; i < N; i++) {
+            expected.add(new Complex_F64(A.getReal(i, i), A.getImag(i, i)));
+        }
+        expected.sort(ORDER);
+        compareValues(expected, sorted(alg));
+    }
+
+    /**
+     * A real non-symmetric matrix has complex conjugate eigenvalues, which should match the real decomposition
+     */
+    @Test
+    public void compareToRealGeneral() {
+        int N = 9;
+        DMatrixRMaj A_real = new DMatrixRMaj(N, N);
+        ZMatrixRMaj A = new ZMatrixRMaj(N, N);
+        for (int i = 0; i < A_real.getNumElements(); i++) {
+            A_real.data[i] = rand.nextDouble() - 0.5;
+            A.data[i*2] = A_real.data[i];
+        }
+
+        EigenDecomposition_F64<ZMatrixRMaj> alg = createEig(true);
+        checkEigenPairs(alg, A);
+        var real = DecompositionFactory_DDRM.eig(N, false, false);
+        assertTrue(real.decompose(A_real));
+
+        List<Complex_F64> expected = new ArrayList<>();
+        for (int i = 0; i < real.getNumberOfEigenvalues(); i++) {
+            expected.add(real.getEigenvalue(i));
+        }
+        expected.sort(ORDER);
+
+        compareValues(expected, sorted(alg));
+    }
+
+    /**
+     * The Schur matrix should be upper triangular
+     */
+    @Test
+    public void checkSchurTriangular() {
+        var alg = new SingleShiftQRDecomposition_ZDRM(true);
+        assertTrue(alg.decompose(RandomMatrices_ZDRM.rectangle(10, 10, -1, 1, rand)));
+        assertTrue(MatrixFeatures_ZDRM.isUpperTriangle(alg.getT(), 0, UtilEjml.TEST_F64));
+    }
+}
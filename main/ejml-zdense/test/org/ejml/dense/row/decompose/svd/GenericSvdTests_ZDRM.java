@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decompose.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.CommonOps_ZDRM;
+import org.ejml.dense.row.MatrixFeatures_ZDRM;
+import org.ejml.dense.row.RandomMatrices_ZDRM;
+import org.ejml.dense.row.decompose.CheckDecompositionInterface_ZDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Standard tests for complex SVD implementations
+ *
+ * @author Peter Abeles
+ */
+public abstract class GenericSvdTests_ZDRM {
+    Random rand = new Random(0x34671e);
+
+    public abstract SingularValueDecomposition_F64<ZMatrixRMaj> createSvd( boolean needU, boolean needV, boolean compact );
+
+    @Test
+    public void checkModifyInput() {
+        CheckDecompositionInterface_ZDRM.checkModifiedInput(createSvd(true, true, false));
+    }
+
+    /**
+     * Reconstruct the original matrix from the decomposition for tall, wide, and square matrices
+     */
+    @Test
+    public void checkDefinition() {
+        for (boolean compact : new boolean[]{true, false}) {
+            for (int numRows = 1; numRows <= 10; numRows += 3) {
+                for (int numCols = 1; numCols <= 10; numCols += 3) {
+                    ZMatrixRMaj A = RandomMatrices_ZDRM.rectangle(numRows, numCols, -1, 1, rand);
+                    checkDefinition(createSvd(true, true, compact), A);
+                }
+            }
+        }
+    }
+
+    /**
+     * Several singular values are zero
+     */
+    @Test
+    public void checkRankDeficient() {
+        ZMatrixRMaj B = RandomMatrices_ZDRM.rectangle(8, 3, -1, 1, rand);
+        ZMatrixRMaj C = RandomMatrices_ZDRM.rectangle(3, 6, -1, 1, rand);
+        ZMatrixRMaj A = new ZMatrixRMaj(8, 6);
+        CommonOps_ZDRM.mult(B, C, A);
+
+        SingularValueDecomposition_F64<ZMatrixRMaj> alg = createSvd(true, true, false);
+        checkDefinition(alg, A);
+
+        int numZero = 0;
+        for (int i = 0; i < alg.numberOfSingularValues(); i++) {
+            if (alg.getSingularValues()[i] < UtilEjml.TEST_F64)
+                numZero++;
+        }
+        assertEquals(3, numZero);
+    }
+
+    @Test
+    public void checkZeroMatrix() {
+        ZMatrixRMaj A = new ZMatrixRMaj(5, 4);
+
+        SingularValueDecomposition_F64<ZMatrixRMaj> alg = createSvd(true, true, false);
+        checkDefinition(alg, A);
+
+        for (int i = 0; i < alg.numberOfSingularValues(); i++) {
+            assertEquals(0, alg.getSingularValues()[i], UtilEjml.TEST_F64);
+        }
+    }
+
+    /**
+     * A purely real matrix should have the same singular values as the real SVD
+     */
+    @Test
+    public void compareToRealSvd() {
+        for (int[] shape : new int[][]{{7, 4}, {4, 7}, {6, 6}}) {
+            ZMatrixRMaj A = new ZMatrixRMaj(shape[0], shape[1]);
+            DMatrixRMaj A_real = new DMatrixRMaj(shape[0], shape[1]);
+            for (int i = 0; i < A_real.getNumElements(); i++) {
+                A_real.data[i] = rand.nextDouble() - 0.5;
+                A.data[i*2] = A_real.data[i];
+            }
+
+            SingularValueDecomposition_F64<ZMatrixRMaj> alg = createSvd(false, false, true);
+            assertTrue(alg.decompose(A));
+            var real = DecompositionFactory_DDRM.svd(true, true, true);
+            assertTrue(real.decompose(A_real));
+
+            double[] found = sorted(alg.getSingularValues(), alg.numberOfSingularValues());
+            double[] expected = sorted(real.getSingularValues(), real.numberOfSingularValues());
+            assertEquals(expected.length, found.length);
+            for (int i = 0; i < found.length; i++) {
+                assertEquals(expected[i], found[i], UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    /**
+     * The same singular values should be found no matter which matrices are computed
+     */
+    @Test
+    public void checkOnlyValues() {
+        ZMatrixRMaj A = RandomMatrices_ZDRM.rectangle(7, 5, -1, 1, rand);
+
+        SingularValueDecomposition_F64<ZMatrixRMaj> full = createSvd(true, true, false);
+        assertTrue(full.decompose(A));
+        double[] expected = sorted(full.getSingularValues(), full.numberOfSingularValues());
+
+        for (int i = 0; i < 3; i++) {
+            SingularValueDecomposition_F64<ZMatrixRMaj> alg = createSvd(i == 1, i == 2, false);
+            assertTrue(alg.decompose(A));
+            double[] found = sorted(alg.getSingularValues(), alg.numberOfSingularValues());
+            for (int j = 0; j < found.length; j++) {
+                assertEquals(expected[j], found[j], UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    /**
+     * Decompose matrices of different sizes with the same instance
+     */
+    @Test
+    public void checkReuse() {
+        SingularValueDecomposition_F64<ZMatrixRMaj> alg = createSvd(true, true, false);
+
+        checkDefinition(alg, RandomMatrices_ZDRM.rectangle(4, 3, -1, 1, rand));
+        checkDefinition(alg, RandomMatrices_ZDRM.rectangle(9, 12, -1, 1, rand));
+        checkDefinition(alg, RandomMatrices_ZDRM.rectangle(2, 2, -1, 1, rand));
+    }
+
+    private void checkDefinition( SingularValueDecomposition_F64<ZMatrixRMaj> alg, ZMatrixRMaj A ) {
+        assertTrue(alg.decompose(A));
+        assertEquals(Math.min(A.numRows, A.numCols), alg.numberOfSingularValues());
+
+        ZMatrixRMaj U = alg.getU(null, false);
+        ZMatrixRMaj W = alg.getW(null);
+        ZMatrixRMaj V = alg.getV(null, false);
+
+        for (int i = 0; i < alg.numberOfSingularValues(); i++) {
+            assertTrue(alg.getSingularValues()[i] >= 0);
+        }
+
+        // the columns should be orthonormal
+        ZMatrixRMaj UU = new ZMatrixRMaj(U.numCols, U.numCols);
+        CommonOps_ZDRM.multTransA(U, U, UU);
+        assertTrue(MatrixFeatures_ZDRM.isIdentity(UU, UtilEjml.TEST_F64));
+        ZMatrixRMaj VV = new ZMatrixRMaj(V.numCols, V.numCols);
+        CommonOps_ZDRM.multTransA(V, V, VV);
+        assertTrue(MatrixFeatures_ZDRM.isIdentity(VV, UtilEjml.TEST_F64));
+
+        // the transposed matrices should be the conjugate transpose
+        ZMatrixRMaj Ut = alg.getU(null, true);
+        ZMatrixRMaj Vt = alg.getV(null, true);
+        assertTrue(MatrixFeatures_ZDRM.isIdentical(Ut, CommonOps_ZDRM.transposeConjugate(U, null), 0));
+        assertTrue(MatrixFeatures_ZDRM.isIdentical(Vt, CommonOps_ZDRM.transposeConjugate(V, null), 0));
+
+        ZMatrixRMaj UW = new ZMatrixRMaj(U.numRows, W.numCols);
+        CommonOps_ZDRM.mult(U, W, UW);
+        ZMatrixRMaj found = new ZMatrixRMaj(A.numRows, A.numCols);
+        CommonOps_ZDRM.mult(UW, Vt, found);
+
+        assertTrue(MatrixFeatures_ZDRM.isIdentical(A, found, UtilEjml.TEST_F64));
+    }
+
+    private static double[] sorted( double[] values, int length ) {
+        double[] ret = Arrays.copyOf(values, length);
+        Arrays.sort(ret);
+        return ret;
+    }
+}
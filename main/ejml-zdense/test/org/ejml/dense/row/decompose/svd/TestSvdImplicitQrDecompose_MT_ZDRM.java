@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.dense.row.decompose.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_ZDRM;
+import org.ejml.dense.row.RandomMatrices_ZDRM;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestSvdImplicitQrDecompose_MT_ZDRM extends GenericSvdTests_ZDRM {
+    @Override
+    public SingularValueDecomposition_F64<ZMatrixRMaj> createSvd( boolean needU, boolean needV, boolean compact ) {
+        return new SvdImplicitQrDecompose_MT_ZDRM(compact, needU, needV);
+    }
+
+    /**
+     * Should produce the same results as the single threaded version
+     */
+    @Test
+    public void compareToSingle() {
+        ZMatrixRMaj A = RandomMatrices_ZDRM.rectangle(30, 25, -1, 1, rand);
+
+        var single = new SvdImplicitQrDecompose_ZDRM(false, true, true);
+        var concurrent = new SvdImplicitQrDecompose_MT_ZDRM(false, true, true);
+
+        assertTrue(single.decompose(A));
+        assertTrue(concurrent.decompose(A));
+
+        for (int i = 0; i < single.numberOfSingularValues(); i++) {
+            assertEquals(single.getSingularValues()[i], concurrent.getSingularValues()[i], UtilEjml.TEST_F64);
+        }
+        assertTrue(MatrixFeatures_ZDRM.isIdentical(single.getU(null, false), concurrent.getU(null, false), UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_ZDRM.isIdentical(single.getV(null, false), concurrent.getV(null, false), UtilEjml.TEST_F64));
+    }
+}
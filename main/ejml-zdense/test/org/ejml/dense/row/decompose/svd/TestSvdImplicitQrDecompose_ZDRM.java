@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2009-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.dense.row.decompose.svd;
+
+import org.ejml.data.ZMatrixRMaj;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+
+public class TestSvdImplicitQrDecompose_ZDRM extends GenericSvdTests_ZDRM {
+    @Override
+    public SingularValueDecomposition_F64<ZMatrixRMaj> createSvd( boolean needU, boolean needV, boolean compact ) {
+        return new SvdImplicitQrDecompose_ZDRM(compact, needU, needV);
+    }
+}